@@ -0,0 +1,113 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.bitboard.AttackMap;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * King safety style workload: all the squares around both kings
+ * of a position are tested, directly and through an AttackMap.
+ * The hit/miss counters of the map are printed after each iteration
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AttackMapBenchmark {
+	private Board board;
+	private AttackMap attackMap;
+	private byte[] whiteZone;
+	private byte[] blackZone;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode(BitboardAttacks.SLIDER_MAGIC);
+		board = new Board();
+		board.setFen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+		attackMap = new AttackMap();
+		whiteZone = zone(board.kings & board.whites);
+		blackZone = zone(board.kings & board.blacks);
+	}
+
+	@TearDown(Level.Iteration)
+	public void stats() {
+		System.out.println(attackMap);
+		attackMap.resetStats();
+	}
+
+	private static byte[] zone(long king) {
+		long squares = king | BitboardAttacks.getKingAttacks(Long.numberOfTrailingZeros(king));
+		byte[] zone = new byte[Long.bitCount(squares)];
+		for (int i = 0; squares != 0; squares &= squares - 1) {
+			zone[i++] = (byte) Long.numberOfTrailingZeros(squares);
+		}
+		return zone;
+	}
+
+	@Benchmark
+	public int direct() {
+		int count = 0;
+		for (byte index : whiteZone) {
+			if (BitboardAttacks.isIndexAttacked(board, index, true)) count++;
+		}
+		for (byte index : blackZone) {
+			if (BitboardAttacks.isIndexAttacked(board, index, false)) count++;
+		}
+		return count;
+	}
+
+	@Benchmark
+	public int cached() {
+		int count = 0;
+		for (byte index : whiteZone) {
+			if (BitboardAttacks.isIndexAttacked(board, index, true, attackMap)) count++;
+		}
+		for (byte index : blackZone) {
+			if (BitboardAttacks.isIndexAttacked(board, index, false, attackMap)) count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Worst case for the map: a new position on every call
+	 */
+	@Benchmark
+	public int cachedCold() {
+		attackMap.clear();
+		return cached();
+	}
+}
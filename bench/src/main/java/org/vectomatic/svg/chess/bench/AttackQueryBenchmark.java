@@ -0,0 +1,104 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * ns/op of each per square attack query of BitboardAttacks. Every call
+ * moves to the next (position, square) pair of the corpus, so that the
+ * branch predictors do not learn a single position.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AttackQueryBenchmark {
+	@Param({"shift", "magic", "compact"})
+	public String mode;
+
+	private Board[] boards;
+	private long[] occupancies;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode("magic".equals(mode) ? BitboardAttacks.SLIDER_MAGIC
+				: "compact".equals(mode) ? BitboardAttacks.SLIDER_COMPACT : BitboardAttacks.SLIDER_SHIFT);
+		boards = FenCorpus.getBoards();
+		occupancies = new long[boards.length];
+		for (int i = 0; i < boards.length; i++) {
+			occupancies[i] = boards[i].getAll();
+		}
+	}
+
+	private int next() {
+		if (++cursor == boards.length * 64) {
+			cursor = 0;
+		}
+		return cursor;
+	}
+
+	@Benchmark
+	public boolean isIndexAttacked() {
+		int i = next();
+		Board board = boards[i >> 6];
+		return BitboardAttacks.isIndexAttacked(board, (byte) (i & 63), board.getTurn());
+	}
+
+	@Benchmark
+	public long getIndexAttacks() {
+		int i = next();
+		return BitboardAttacks.getIndexAttacks(boards[i >> 6], i & 63);
+	}
+
+	@Benchmark
+	public long getXrayAttacks() {
+		int i = next();
+		return BitboardAttacks.getXrayAttacks(boards[i >> 6], i & 63, occupancies[i >> 6]);
+	}
+
+	@Benchmark
+	public long getRookAttacks() {
+		int i = next();
+		return BitboardAttacks.getRookAttacks(i & 63, occupancies[i >> 6]);
+	}
+
+	@Benchmark
+	public long getBishopAttacks() {
+		int i = next();
+		return BitboardAttacks.getBishopAttacks(i & 63, occupancies[i >> 6]);
+	}
+}
@@ -0,0 +1,151 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.vectomatic.svg.chess.book.CompactBook;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Cost of one probe of the opening book, averaged over a few opening
+ * positions. Run with -prof gc: gc.alloc.rate.norm gives the bytes
+ * allocated per probe. generateMovesAsLists adds the copy of the
+ * result in lists, which is what every probe used to allocate.
+ * containsHit and containsMiss time the key lookup alone, for book
+ * positions and for random keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookProbeBenchmark {
+	private static final String[] POSITIONS = {
+		"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+		"rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1",
+		"rnbqkbnr/pppppppp/8/8/3P4/8/PPP1PPPP/RNBQKBNR b KQkq d3 0 1",
+		"rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2",
+		"rnbqkbnr/pp1ppppp/8/2p5/4P3/8/PPPP1PPP/RNBQKBNR w KQkq c6 0 2",
+		"rnbqkb1r/pppppppp/5n2/8/3P4/8/PPP1PPPP/RNBQKBNR w KQkq - 1 2",
+		"rnbqkbnr/pppppppp/8/8/2P5/8/PP1PPPPP/RNBQKBNR b KQkq c3 0 1",
+		"r1bqkbnr/pppp1ppp/2n5/4p3/4P3/5N2/PPPP1PPP/RNBQKB1R w KQkq - 2 3"
+	};
+	private CompactBook book;
+	private Board[] boards;
+	private long[] keys;
+	private long[] randomKeys;
+
+	@Setup
+	public void setup() throws IOException {
+		book = new CompactBook(readBook());
+		boards = new Board[POSITIONS.length];
+		for (int i = 0; i < boards.length; i++) {
+			boards[i] = new Board();
+			boards[i].setFen(POSITIONS[i]);
+		}
+		keys = new long[boards.length];
+		randomKeys = new long[boards.length];
+		Random random = new Random(0);
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = boards[i].getKey();
+			randomKeys[i] = random.nextLong();
+		}
+	}
+
+	private static String readBook() throws IOException {
+		InputStream stream = CompactBook.class.getResourceAsStream("/book.txt");
+		if (stream == null) {
+			throw new IllegalStateException("book.txt not found");
+		}
+		StringBuilder builder = new StringBuilder();
+		Reader reader = new InputStreamReader(stream, "US-ASCII");
+		try {
+			char[] buffer = new char[8192];
+			int count;
+			while ((count = reader.read(buffer)) > 0) {
+				builder.append(buffer, 0, count);
+			}
+		} finally {
+			reader.close();
+		}
+		return builder.toString();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(8)
+	public void generateMoves(Blackhole blackhole) {
+		for (int i = 0; i < boards.length; i++) {
+			book.generateMoves(boards[i]);
+			blackhole.consume(book.getMoveCount());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(8)
+	public void generateMovesAsLists(Blackhole blackhole) {
+		for (int i = 0; i < boards.length; i++) {
+			book.generateMoves(boards[i]);
+			blackhole.consume(book.getMoves());
+			blackhole.consume(book.getWeights());
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(8)
+	public void getMove(Blackhole blackhole) {
+		for (int i = 0; i < boards.length; i++) {
+			blackhole.consume(book.getMove(boards[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(8)
+	public void containsHit(Blackhole blackhole) {
+		for (int i = 0; i < keys.length; i++) {
+			blackhole.consume(book.contains(keys[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(8)
+	public void containsMiss(Blackhole blackhole) {
+		for (int i = 0; i < randomKeys.length; i++) {
+			blackhole.consume(book.contains(randomKeys[i]));
+		}
+	}
+}
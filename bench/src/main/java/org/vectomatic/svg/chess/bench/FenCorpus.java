@@ -0,0 +1,69 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * The fixed set of positions the benchmarks run on (positions.fen)
+ */
+public class FenCorpus {
+	private static final String RESOURCE = "positions.fen";
+
+	public static List<String> getFens() {
+		List<String> fens = new ArrayList<String>();
+		InputStream stream = FenCorpus.class.getResourceAsStream(RESOURCE);
+		if (stream == null) {
+			throw new IllegalStateException(RESOURCE + " not found");
+		}
+		try {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(stream, "UTF-8"));
+			try {
+				String line;
+				while ((line = reader.readLine()) != null) {
+					line = line.trim();
+					if (line.length() > 0 && !line.startsWith("#")) {
+						fens.add(line);
+					}
+				}
+			} finally {
+				reader.close();
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException("Cannot read " + RESOURCE, e);
+		}
+		return fens;
+	}
+
+	public static Board[] getBoards() {
+		List<String> fens = getFens();
+		Board[] boards = new Board[fens.size()];
+		for (int i = 0; i < boards.length; i++) {
+			boards[i] = new Board();
+			boards[i].setFen(fens.get(i));
+		}
+		return boards;
+	}
+}
@@ -0,0 +1,60 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * Cost of building the attack tables: the runtime generation replaced
+ * by AttackTables, and the magic and compact tables built on the first
+ * switch to SLIDER_MAGIC and SLIDER_COMPACT
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class InitBenchmark {
+	@Benchmark
+	public long[][] generateAttacks() {
+		return BitboardAttacks.computeAttackTables();
+	}
+
+	@Benchmark
+	public long[][][] generateMagics() {
+		return BitboardAttacks.generateMagics();
+	}
+
+	@Benchmark
+	public long[] generateCompactMagics() {
+		return BitboardAttacks.generateCompactMagics(new char[BitboardAttacks.COMPACT_TABLE_SIZE]);
+	}
+}
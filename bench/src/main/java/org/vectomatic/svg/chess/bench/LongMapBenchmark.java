@@ -0,0 +1,117 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.vectomatic.svg.chess.util.LongIntMap;
+
+/**
+ * LongIntMap against the boxed maps it replaces, on random (zobrist
+ * like) keys: lookups of keys in the map, and puts of a stream of keys
+ * four times larger than the capacity, which evict (a LinkedHashMap in
+ * LRU order for the boxed side). Run with -prof gc to see the
+ * allocation of the boxed maps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LongMapBenchmark {
+	private static final int CAPACITY = 4096;
+	private long[] keys;
+	private long[] stream;
+	private LongIntMap map;
+	private Map<Long, Integer> hashMap;
+	private LongIntMap boundedMap;
+	private Map<Long, Integer> boundedHashMap;
+
+	@Setup
+	public void setup() {
+		Random random = new Random(0);
+		keys = new long[CAPACITY];
+		map = new LongIntMap(CAPACITY);
+		hashMap = new HashMap<Long, Integer>();
+		for (int i = 0; i < keys.length; i++) {
+			keys[i] = random.nextLong();
+			map.put(keys[i], i);
+			hashMap.put(keys[i], i);
+		}
+		stream = new long[4 * CAPACITY];
+		for (int i = 0; i < stream.length; i++) {
+			stream[i] = random.nextLong();
+		}
+		boundedMap = new LongIntMap(CAPACITY);
+		boundedHashMap = new LinkedHashMap<Long, Integer>(2 * CAPACITY, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Integer> eldest) {
+				return size() > CAPACITY;
+			}
+		};
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CAPACITY)
+	public void longIntMapGet(Blackhole blackhole) {
+		for (int i = 0; i < keys.length; i++) {
+			blackhole.consume(map.get(keys[i], -1));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(CAPACITY)
+	public void hashMapGet(Blackhole blackhole) {
+		for (int i = 0; i < keys.length; i++) {
+			blackhole.consume(hashMap.get(keys[i]));
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(4 * CAPACITY)
+	public void longIntMapPut() {
+		for (int i = 0; i < stream.length; i++) {
+			boundedMap.put(stream[i], i);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(4 * CAPACITY)
+	public void linkedHashMapPut() {
+		for (int i = 0; i < stream.length; i++) {
+			boundedHashMap.put(stream[i], i);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.vectomatic.svg.chess.movegen.PinLegalMoveGenerator;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+import com.alonsoruibal.chess.movegen.LegalMoveGenerator;
+import com.alonsoruibal.chess.movegen.MoveGenerator;
+
+/**
+ * Legal move generation throughput (one operation = one position of
+ * the corpus): make/unmake legality test compared with the pin and
+ * checker masks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoveGenBenchmark {
+	@Param({"legal", "pin"})
+	public String generator;
+
+	private Board[] boards;
+	private int cursor;
+	private MoveGenerator moveGenerator;
+	private final int[] moves = new int[256];
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode(BitboardAttacks.SLIDER_MAGIC);
+		boards = FenCorpus.getBoards();
+		moveGenerator = "pin".equals(generator) ? new PinLegalMoveGenerator() : new LegalMoveGenerator();
+	}
+
+	@Benchmark
+	public int generateMoves() {
+		if (++cursor == boards.length) {
+			cursor = 0;
+		}
+		return moveGenerator.generateMoves(boards[cursor], moves, 0);
+	}
+}
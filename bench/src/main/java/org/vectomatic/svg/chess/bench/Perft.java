@@ -0,0 +1,413 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.vectomatic.svg.chess.movegen.PinLegalMoveGenerator;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+import com.alonsoruibal.chess.movegen.LegalMoveGenerator;
+import com.alonsoruibal.chess.movegen.MoveGenerator;
+
+/**
+ * Perft harness: counts the leaf nodes of the legal move tree, to check
+ * move generation (and the BitboardAttacks code under it) against known
+ * counts, and to measure its speed in nodes per second.
+ * <p>
+ * The subtrees below the first two plies are counted in parallel by a
+ * fork/join pool, each task on its own Board. Counts of positions
+ * reached by several move orders are shared through a PerftTable.
+ * <pre>
+ * java -cp target/benchmarks.jar org.vectomatic.svg.chess.bench.Perft [options]
+ *   -fen &lt;fen&gt;        position (default: all the built-in positions)
+ *   -position &lt;name&gt;  one of the built-in positions
+ *   -depth &lt;n&gt;        depth (default: the one of each built-in position)
+ *   -divide           print the count of each root move
+ *   -threads &lt;n&gt;      worker threads (default: number of cores, 1 = no fork/join)
+ *   -hash &lt;MB&gt;        transposition table size (default 64, 0 = none)
+ *   -generator legal|pin|both   move generator (default both)
+ *   -sliders shift|magic|compact  slider mode of BitboardAttacks (default magic)
+ *   -compare          compare the moves of both generators in every position
+ *                     of the tree instead of counting
+ * </pre>
+ * With the built-in positions the counts are checked, and the run fails
+ * on any mismatch. With -compare the built-in positions also include
+ * edited positions without king, which have no known counts.
+ */
+public class Perft {
+	/**
+	 * Name, FEN, depth, expected node count
+	 */
+	static final String[][] POSITIONS = {
+		{"start", "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1", "5", "4865609"},
+		{"kiwipete", "r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1", "4", "4085603"},
+		{"position3", "8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1", "6", "11030083"},
+		{"position4", "r3k2r/Pppp1ppp/1b3nbN/nP6/BBP1P3/q4N2/Pp1P2PP/R2Q1RK1 w kq - 0 1", "5", "15833292"},
+		{"position4mirrored", "r2q1rk1/pP1p2pp/Q4n2/bbp1p3/Np6/1B3NBn/pPPP1PPP/R3K2R b KQ - 0 1", "5", "15833292"},
+		{"position5", "rnbq1k1r/pp1Pbppp/2p5/8/2B5/8/PPP1NnPP/RNBQK2R w KQ - 1 8", "4", "2103487"},
+		{"position6", "r4rk1/1pp1qppp/p1np1n2/2b1p1B1/2B1P1b1/P1NP1N2/1PP1QPPP/R4RK1 w - - 0 10", "4", "3894594"},
+		{"epPin", "3k4/3p4/8/K1P4r/8/8/8/8 b - - 0 1", "6", "1134888"},
+		{"epPinDiagonal", "8/8/4k3/8/2p5/8/B2P2K1/8 w - - 0 1", "6", "1015133"},
+		{"epCheck", "8/8/1k6/2b5/2pP4/8/5K2/8 b - d3 0 1", "6", "1440467"},
+		{"promotionOutOfCheck", "2K2r2/4P3/8/8/8/8/8/3k4 w - - 0 1", "6", "3821001"},
+		{"promotionCheck", "4k3/1P6/8/8/8/8/K7/8 w - - 0 1", "6", "217342"},
+		{"underpromotionCheck", "8/P1k5/K7/8/8/8/8/8 w - - 0 1", "6", "92683"}
+	};
+
+	/**
+	 * Positions only used by -compare: name, FEN, depth
+	 */
+	static final String[][] COMPARE_POSITIONS = {
+		{"noWhiteKing", "r3k2r/pppq1ppp/2n2n2/3pp3/3PP3/2N2N2/PPPQ1PPP/R6R w kq e6 0 1", "4"},
+		{"noBlackKing", "r6r/pppq1ppp/2n2n2/3pP3/8/2N2N2/PPPQ1PPP/R3K2R b KQ - 0 1", "4"},
+		{"noKings", "8/1p2q3/8/2P5/8/5B2/PP3N2/R7 w - - 0 1", "4"}
+	};
+
+	/**
+	 * Below this depth a subtree is not worth a fork/join task
+	 */
+	private static final int MIN_TASK_DEPTH = 3;
+	/**
+	 * Number of plies split in tasks
+	 */
+	private static final int SPLIT_PLIES = 2;
+
+	private final Class<? extends MoveGenerator> generatorClass;
+	private final PerftTable table;
+	private final ForkJoinPool pool;
+
+	/**
+	 * @param table
+	 * may be null
+	 * @param pool
+	 * null to count on the calling thread
+	 */
+	public Perft(Class<? extends MoveGenerator> generatorClass, PerftTable table, ForkJoinPool pool) {
+		this.generatorClass = generatorClass;
+		this.table = table;
+		this.pool = pool;
+	}
+
+	private MoveGenerator newGenerator() {
+		try {
+			return generatorClass.getDeclaredConstructor().newInstance();
+		} catch (Exception e) {
+			throw new IllegalStateException("Cannot create " + generatorClass, e);
+		}
+	}
+
+	public long perft(Board board, int depth) {
+		return new Counter(newGenerator(), table, depth).count(board, depth);
+	}
+
+	/**
+	 * Counts the nodes below each legal move of a position
+	 * @return
+	 * the moves and their counts, moves in the order of the generator
+	 */
+	public long[][] divide(String fen, int depth) {
+		Board board = new Board();
+		board.setFen(fen);
+		int[] moves = new int[256];
+		int count = newGenerator().generateMoves(board, moves, 0);
+		long[][] result = new long[count][2];
+		List<PerftTask> tasks = new ArrayList<PerftTask>();
+		for (int i = 0; i < count; i++) {
+			result[i][0] = moves[i];
+			if (depth <= 1) {
+				result[i][1] = 1;
+			} else {
+				tasks.add(new PerftTask(fen, new int[] {moves[i]}, depth - 1));
+			}
+		}
+		if (depth > 1) {
+			if (pool != null) {
+				for (PerftTask task : tasks) {
+					pool.execute(task);
+				}
+			}
+			for (int i = 0; i < count; i++) {
+				PerftTask task = tasks.get(i);
+				result[i][1] = pool != null ? task.join() : task.compute();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Walks the tree of a position and checks that a generator returns
+	 * the same moves as a reference one in every position
+	 * @return
+	 * the number of positions compared
+	 * @throws IllegalStateException
+	 * on the first position where the moves differ
+	 */
+	public static long compare(Board board, int depth, MoveGenerator reference, MoveGenerator tested) {
+		return compare(board, depth, reference, tested, new int[depth + 1][256], new int[depth + 1][256], new int[depth]);
+	}
+
+	private static long compare(Board board, int depth, MoveGenerator reference, MoveGenerator tested, int[][] expected, int[][] actual, int[] line) {
+		int[] expectedMoves = expected[depth];
+		int[] actualMoves = actual[depth];
+		int expectedCount = reference.generateMoves(board, expectedMoves, 0);
+		int actualCount = tested.generateMoves(board, actualMoves, 0);
+		Arrays.sort(expectedMoves, 0, expectedCount);
+		Arrays.sort(actualMoves, 0, actualCount);
+		boolean same = expectedCount == actualCount;
+		for (int i = 0; same && i < expectedCount; i++) {
+			same = expectedMoves[i] == actualMoves[i];
+		}
+		if (!same) {
+			StringBuilder path = new StringBuilder();
+			for (int i = 0; i < line.length - depth; i++) {
+				path.append(Move.toStringExt(line[i])).append(' ');
+			}
+			throw new IllegalStateException(tested.getClass().getSimpleName() + " differs from "
+					+ reference.getClass().getSimpleName() + " after [" + path.toString().trim() + "]: "
+					+ toString(expectedMoves, expectedCount) + " / " + toString(actualMoves, actualCount));
+		}
+		long positions = 1;
+		if (depth > 1) {
+			for (int i = 0; i < expectedCount; i++) {
+				line[line.length - depth] = expectedMoves[i];
+				board.doMove(expectedMoves[i]);
+				positions += compare(board, depth - 1, reference, tested, expected, actual, line);
+				board.undoMove();
+			}
+		}
+		return positions;
+	}
+
+	private static String toString(int[] moves, int count) {
+		StringBuilder buffer = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			buffer.append(i == 0 ? "" : " ").append(Move.toStringExt(moves[i]));
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Sequential counter, one per thread
+	 */
+	private static class Counter {
+		private final MoveGenerator generator;
+		private final PerftTable table;
+		private final int[][] moves;
+
+		Counter(MoveGenerator generator, PerftTable table, int maxDepth) {
+			this.generator = generator;
+			this.table = table;
+			this.moves = new int[maxDepth + 1][256];
+		}
+
+		long count(Board board, int depth) {
+			int[] buffer = moves[depth];
+			int count = generator.generateMoves(board, buffer, 0);
+			if (depth <= 1) {
+				// Bulk counting: the leaves are not played
+				return depth == 1 ? count : 1;
+			}
+			long key = board.getKey();
+			if (table != null) {
+				long nodes = table.get(key, depth);
+				if (nodes >= 0) {
+					return nodes;
+				}
+			}
+			long nodes = 0;
+			for (int i = 0; i < count; i++) {
+				board.doMove(buffer[i]);
+				nodes += count(board, depth - 1);
+				board.undoMove();
+			}
+			if (table != null) {
+				table.put(key, depth, nodes);
+			}
+			return nodes;
+		}
+	}
+
+	/**
+	 * Counts the subtree reached by playing a line of moves from a position
+	 */
+	private class PerftTask extends RecursiveTask<Long> {
+		private static final long serialVersionUID = 1L;
+		private final String fen;
+		private final int[] line;
+		private final int depth;
+
+		PerftTask(String fen, int[] line, int depth) {
+			this.fen = fen;
+			this.line = line;
+			this.depth = depth;
+		}
+
+		@Override
+		protected Long compute() {
+			Board board = new Board();
+			board.setFen(fen);
+			for (int i = 0; i < line.length; i++) {
+				board.doMove(line[i]);
+			}
+			MoveGenerator generator = newGenerator();
+			if (pool == null || line.length >= SPLIT_PLIES || depth < MIN_TASK_DEPTH) {
+				return new Counter(generator, table, depth).count(board, depth);
+			}
+			int[] moves = new int[256];
+			int count = generator.generateMoves(board, moves, 0);
+			List<PerftTask> tasks = new ArrayList<PerftTask>(count);
+			for (int i = 0; i < count; i++) {
+				int[] childLine = new int[line.length + 1];
+				System.arraycopy(line, 0, childLine, 0, line.length);
+				childLine[line.length] = moves[i];
+				tasks.add(new PerftTask(fen, childLine, depth - 1));
+			}
+			invokeAll(tasks);
+			long nodes = 0;
+			for (PerftTask task : tasks) {
+				nodes += task.join();
+			}
+			return nodes;
+		}
+	}
+
+	public static void main(String[] args) {
+		String[][] positions = POSITIONS;
+		int depth = -1;
+		boolean divide = false;
+		boolean compare = false;
+		int threads = Runtime.getRuntime().availableProcessors();
+		int hash = 64;
+		String generator = "both";
+		String sliders = "magic";
+		for (int i = 0; i < args.length; i++) {
+			String arg = args[i];
+			if ("-divide".equals(arg)) {
+				divide = true;
+			} else if ("-compare".equals(arg)) {
+				compare = true;
+			} else if (i + 1 < args.length) {
+				String value = args[++i];
+				if ("-fen".equals(arg)) {
+					positions = new String[][] {{"fen", value, null, null}};
+				} else if ("-position".equals(arg)) {
+					positions = new String[][] {getPosition(value)};
+				} else if ("-depth".equals(arg)) {
+					depth = Integer.parseInt(value);
+				} else if ("-threads".equals(arg)) {
+					threads = Integer.parseInt(value);
+				} else if ("-hash".equals(arg)) {
+					hash = Integer.parseInt(value);
+				} else if ("-generator".equals(arg)) {
+					generator = value;
+				} else if ("-sliders".equals(arg)) {
+					sliders = value;
+				} else {
+					throw new IllegalArgumentException("Unknown option " + arg);
+				}
+			} else {
+				throw new IllegalArgumentException("Missing value for " + arg);
+			}
+		}
+
+		List<Class<? extends MoveGenerator>> generators = new ArrayList<Class<? extends MoveGenerator>>();
+		if (!"pin".equals(generator)) {
+			generators.add(LegalMoveGenerator.class);
+		}
+		if (!"legal".equals(generator)) {
+			generators.add(PinLegalMoveGenerator.class);
+		}
+		BitboardAttacks.setSliderMode("magic".equals(sliders) ? BitboardAttacks.SLIDER_MAGIC
+				: "compact".equals(sliders) ? BitboardAttacks.SLIDER_COMPACT : BitboardAttacks.SLIDER_SHIFT);
+		if (compare) {
+			if (positions == POSITIONS) {
+				positions = new String[POSITIONS.length + COMPARE_POSITIONS.length][];
+				System.arraycopy(POSITIONS, 0, positions, 0, POSITIONS.length);
+				System.arraycopy(COMPARE_POSITIONS, 0, positions, POSITIONS.length, COMPARE_POSITIONS.length);
+			}
+			for (String[] position : positions) {
+				int positionDepth = depth > 0 ? depth : position[2] != null ? Integer.parseInt(position[2]) : 4;
+				Board board = new Board();
+				board.setFen(position[1]);
+				long start = System.nanoTime();
+				long compared = compare(board, positionDepth, new LegalMoveGenerator(), new PinLegalMoveGenerator());
+				System.out.println(position[0] + " depth " + positionDepth + ": " + compared + " positions, same moves, "
+						+ (System.nanoTime() - start) / 1000000 + " ms");
+			}
+			return;
+		}
+		ForkJoinPool pool = threads > 1 ? new ForkJoinPool(threads) : null;
+		System.out.println("threads=" + threads + " hash=" + hash + "MB sliders=" + sliders);
+
+		boolean ok = true;
+		for (Class<? extends MoveGenerator> generatorClass : generators) {
+			long totalNodes = 0;
+			long totalTime = 0;
+			for (String[] position : positions) {
+				int positionDepth = depth > 0 ? depth : position[2] != null ? Integer.parseInt(position[2]) : 4;
+				// A fresh table per run, or the second generator would only read the first one's counts
+				Perft perft = new Perft(generatorClass, hash > 0 ? new PerftTable(hash) : null, pool);
+				long start = System.nanoTime();
+				long[][] counts = perft.divide(position[1], positionDepth);
+				long time = System.nanoTime() - start;
+				long nodes = 0;
+				for (long[] count : counts) {
+					nodes += count[1];
+				}
+				if (divide) {
+					for (long[] count : counts) {
+						System.out.println(Move.toStringExt((int) count[0]) + ": " + count[1]);
+					}
+				}
+				totalNodes += nodes;
+				totalTime += time;
+				String status = "";
+				if (position[3] != null && positionDepth == Integer.parseInt(position[2])) {
+					boolean match = nodes == Long.parseLong(position[3]);
+					status = match ? " OK" : " FAILED, expected " + position[3];
+					ok &= match;
+				}
+				System.out.println(generatorClass.getSimpleName() + " " + position[0] + " depth " + positionDepth + ": " + nodes
+						+ " nodes in " + time / 1000000 + " ms, " + nodes * 1000000000L / Math.max(1, time) + " nps" + status);
+			}
+			System.out.println(generatorClass.getSimpleName() + ": " + totalNodes * 1000000000L / Math.max(1, totalTime) + " nps");
+		}
+		if (pool != null) {
+			pool.shutdown();
+		}
+		if (!ok) {
+			throw new IllegalStateException("perft mismatch");
+		}
+	}
+
+	private static String[] getPosition(String name) {
+		for (String[] position : POSITIONS) {
+			if (position[0].equals(name)) {
+				return position;
+			}
+		}
+		throw new IllegalArgumentException("Unknown position " + name);
+	}
+}
@@ -0,0 +1,69 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Perft transposition table: node counts keyed by zobrist key and depth.
+ * Shared by the perft threads without locks: each slot holds the key
+ * xored with the data, so a slot torn by two concurrent writes fails
+ * the key check instead of returning a wrong count.
+ */
+public class PerftTable {
+	private final AtomicLongArray keys;
+	private final AtomicLongArray data;
+	private final int mask;
+
+	/**
+	 * @param megabytes
+	 * table size, rounded down to a power of 2 entries (16 bytes each)
+	 */
+	public PerftTable(int megabytes) {
+		long entries = Math.max(1, (long) megabytes << 20 >> 4);
+		int size = Integer.highestOneBit((int) Math.min(entries, 1 << 30));
+		keys = new AtomicLongArray(size);
+		data = new AtomicLongArray(size);
+		mask = size - 1;
+	}
+
+	private static long hash(long key, int depth) {
+		return key ^ (depth * 0x9E3779B97F4A7C15L);
+	}
+
+	/**
+	 * @return
+	 * the node count, or -1 if the position is not in the table
+	 */
+	public long get(long key, int depth) {
+		long hash = hash(key, depth);
+		int slot = (int) hash & mask;
+		long value = data.get(slot);
+		if ((keys.get(slot) ^ value) != hash) {
+			return -1;
+		}
+		return value;
+	}
+
+	public void put(long key, int depth, long nodes) {
+		long hash = hash(key, depth);
+		int slot = (int) hash & mask;
+		keys.set(slot, hash ^ nodes);
+		data.set(slot, nodes);
+	}
+}
@@ -0,0 +1,89 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.vectomatic.svg.chess.bitboard.StaticExchange;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * Cost of one static exchange evaluation, averaged over the positions
+ * of SeeSuite, and of the hanging piece test over a whole board
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SeeBenchmark {
+	private final StaticExchange see = new StaticExchange();
+	private Board[] boards;
+	private int[] moves;
+	private Board middleGame;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode(BitboardAttacks.SLIDER_MAGIC);
+		boards = new Board[SeeSuite.POSITIONS.length];
+		moves = new int[SeeSuite.POSITIONS.length];
+		for (int i = 0; i < boards.length; i++) {
+			boards[i] = new Board();
+			boards[i].setFen(SeeSuite.POSITIONS[i][0]);
+			moves[i] = Move.getFromString(boards[i], SeeSuite.POSITIONS[i][1]);
+		}
+		middleGame = new Board();
+		middleGame.setFen("r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1");
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(15)
+	public void see(Blackhole blackhole) {
+		for (int i = 0; i < boards.length; i++) {
+			blackhole.consume(see.see(boards[i], moves[i]));
+		}
+	}
+
+	@Benchmark
+	public int hangingPieces() {
+		int count = 0;
+		for (long pieces = middleGame.getAll(); pieces != 0; pieces &= pieces - 1) {
+			if (see.isHanging(middleGame, Long.numberOfTrailingZeros(pieces))) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
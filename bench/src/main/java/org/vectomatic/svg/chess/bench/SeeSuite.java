@@ -0,0 +1,78 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import org.vectomatic.svg.chess.bitboard.StaticExchange;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+
+/**
+ * Known static exchange values (with the piece values of StaticExchange).
+ * <pre>
+ * java -cp target/benchmarks.jar org.vectomatic.svg.chess.bench.SeeSuite
+ * </pre>
+ */
+public class SeeSuite {
+	/**
+	 * FEN, move, expected value
+	 */
+	static final String[][] POSITIONS = {
+		// Undefended pawn
+		{"1k1r4/1pp4p/p7/4p3/8/P5P1/1PP4P/2K1R3 w - - 0 1", "e1e5", "100"},
+		// Long exchange with batteries on both sides
+		{"1k1r3q/1ppn3p/p4b2/4p3/8/P2N2P1/1PP1R1BP/2K1Q3 w - - 0 1", "d3e5", "-225"},
+		{"4k3/8/3n4/4P3/8/8/8/4K3 w - - 0 1", "e5d6", "325"},
+		{"4k3/5p2/4p3/8/8/8/4Q3/4K3 w - - 0 1", "e2e6", "-875"},
+		// Rook x-ray behind the capturing rook
+		{"4k3/4r3/8/8/4p3/8/4R3/4R1K1 w - - 0 1", "e2e4", "100"},
+		// En passant
+		{"4k3/8/8/3pP3/8/8/8/4K3 w - d6 0 1", "e5d6", "100"},
+		{"4k3/8/8/8/8/8/3p4/4K3 w - - 0 1", "e1d2", "100"},
+		{"4k3/8/8/8/8/4p3/3p4/3QK3 w - - 0 1", "d1d2", "-775"},
+		{"4k3/8/4p3/3r4/8/4N3/8/4K3 w - - 0 1", "e3d5", "175"},
+		// Queen x-ray behind the bishop: black does not recapture
+		{"4k3/8/2b5/3p4/4B3/5Q2/8/4K3 w - - 0 1", "e4d5", "100"},
+		{"3r2k1/3q4/8/3p4/8/3R4/3R4/3QK3 w - - 0 1", "d3d5", "100"},
+		{"4k3/8/5n2/3p4/8/1B6/8/4K3 w - - 0 1", "b3d5", "-225"},
+		{"4k3/8/8/3n4/8/8/8/3RK3 w - - 0 1", "d1d5", "325"},
+		// Quiet move to an attacked square
+		{"rnbqkbnr/pppp1ppp/8/4p3/8/5N2/PPPPPPPP/RNBQKB1R w KQkq - 0 2", "f3d4", "-325"},
+		{"4k3/8/8/8/8/8/8/4K3 w - - 0 1", "e1d1", "0"}
+	};
+
+	public static void main(String[] args) {
+		StaticExchange see = new StaticExchange();
+		int errors = 0;
+		for (String[] position : POSITIONS) {
+			Board board = new Board();
+			board.setFen(position[0]);
+			int move = Move.getFromString(board, position[1]);
+			int expected = Integer.parseInt(position[2]);
+			int value = move == 0 ? Integer.MIN_VALUE : see.see(board, move);
+			if (value != expected) {
+				System.out.println("FAIL " + position[0] + " " + position[1] + ": " + value + " expected " + expected);
+				errors++;
+			}
+		}
+		System.out.println((POSITIONS.length - errors) + "/" + POSITIONS.length + " SEE positions passed");
+		if (errors != 0) {
+			throw new IllegalStateException(errors + " SEE positions failed");
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * "Squares attacked by one side": set-wise fills compared
+ * with a loop over the pieces using the per square tables
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SideAttacksBenchmark {
+	@Param({
+		"rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1",
+		"r3k2r/p1ppqpb1/bn2pnp1/3PN3/1p2P3/2N2Q1p/PPPBBPPP/R3K2R w KQkq - 0 1",
+		"8/2p5/3p4/KP5r/1R3p1k/8/4P1P1/8 w - - 0 1"
+	})
+	public String fen;
+
+	private Board board;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode(BitboardAttacks.SLIDER_MAGIC);
+		board = new Board();
+		board.setFen(fen);
+	}
+
+	@Benchmark
+	public long setWise() {
+		return BitboardAttacks.getSideAttacks(board, true) ^ BitboardAttacks.getSideAttacks(board, false);
+	}
+
+	@Benchmark
+	public long perPiece() {
+		return perPiece(board, true) ^ perPiece(board, false);
+	}
+
+	private static long perPiece(Board board, boolean white) {
+		long mines = white ? board.whites : board.blacks;
+		long all = board.getAll();
+		long attacks = 0;
+		for (long pieces = mines; pieces != 0; pieces &= pieces - 1) {
+			long square = pieces & -pieces;
+			int index = Long.numberOfTrailingZeros(square);
+			if ((square & board.pawns) != 0) {
+				attacks |= BitboardAttacks.getPawnAttacks(index, white);
+			} else if ((square & board.knights) != 0) {
+				attacks |= BitboardAttacks.getKnightAttacks(index);
+			} else if ((square & board.kings) != 0) {
+				attacks |= BitboardAttacks.getKingAttacks(index);
+			} else {
+				if ((square & (board.rooks | board.queens)) != 0) {
+					attacks |= BitboardAttacks.getRookAttacks(index, all);
+				}
+				if ((square & (board.bishops | board.queens)) != 0) {
+					attacks |= BitboardAttacks.getBishopAttacks(index, all);
+				}
+			}
+		}
+		return attacks;
+	}
+}
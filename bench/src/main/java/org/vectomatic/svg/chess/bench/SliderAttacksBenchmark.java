@@ -0,0 +1,90 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * Slider attack throughput of BitboardAttacks, with
+ * the shift loops, the magic bitboard tables and the compact tables
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SliderAttacksBenchmark {
+	private static final int SAMPLES = 1024;
+
+	@Param({"shift", "magic", "compact"})
+	public String mode;
+
+	/**
+	 * Random occupancies with a density close to a middle game
+	 */
+	private long[] occupancies;
+	private int[] indices;
+	private int cursor;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode("magic".equals(mode) ? BitboardAttacks.SLIDER_MAGIC
+				: "compact".equals(mode) ? BitboardAttacks.SLIDER_COMPACT : BitboardAttacks.SLIDER_SHIFT);
+		Random random = new Random(20091);
+		occupancies = new long[SAMPLES];
+		indices = new int[SAMPLES];
+		for (int i = 0; i < SAMPLES; i++) {
+			occupancies[i] = random.nextLong() & random.nextLong();
+			indices[i] = random.nextInt(64);
+		}
+	}
+
+	@Benchmark
+	public long rookAttacks() {
+		int i = cursor++ & (SAMPLES - 1);
+		return BitboardAttacks.getRookAttacks(indices[i], occupancies[i]);
+	}
+
+	@Benchmark
+	public long bishopAttacks() {
+		int i = cursor++ & (SAMPLES - 1);
+		return BitboardAttacks.getBishopAttacks(indices[i], occupancies[i]);
+	}
+
+	@Benchmark
+	public long queenAttacks() {
+		int i = cursor++ & (SAMPLES - 1);
+		return BitboardAttacks.getRookAttacks(indices[i], occupancies[i]) | BitboardAttacks.getBishopAttacks(indices[i], occupancies[i]);
+	}
+}
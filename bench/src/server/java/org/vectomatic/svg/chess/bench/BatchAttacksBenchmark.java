@@ -0,0 +1,127 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bench;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.vectomatic.svg.chess.server.BatchAttacks;
+import org.vectomatic.svg.chess.server.PositionBatch;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * ns per position of the batch attack queries against one call of
+ * BitboardAttacks per position (magic sliders). The batch cycles over
+ * the corpus with a random square and side for each position.
+ * Only built with -Pserver (see pom.xml).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+@OperationsPerInvocation(BatchAttacksBenchmark.SIZE)
+public class BatchAttacksBenchmark {
+	static final int SIZE = 4096;
+
+	private Board[] boards;
+	private PositionBatch batch;
+	private int[] indices;
+	private boolean[] white;
+	private long[] attackers;
+	private boolean[] attacked;
+	private BatchAttacks scalar;
+	private BatchAttacks vector;
+
+	@Setup
+	public void setup() {
+		BitboardAttacks.setSliderMode(BitboardAttacks.SLIDER_MAGIC);
+		Board[] corpus = FenCorpus.getBoards();
+		Random random = new Random(1);
+		boards = new Board[SIZE];
+		batch = new PositionBatch(SIZE);
+		indices = new int[SIZE];
+		white = new boolean[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			boards[i] = corpus[i % corpus.length];
+			batch.add(boards[i]);
+			indices[i] = random.nextInt(64);
+			white[i] = random.nextBoolean();
+		}
+		attackers = new long[SIZE];
+		attacked = new boolean[SIZE];
+		scalar = BatchAttacks.getScalar();
+		vector = BatchAttacks.getVector();
+		if (vector == null) {
+			throw new IllegalStateException("jdk.incubator.vector is not available");
+		}
+	}
+
+	@Benchmark
+	public void getIndexAttacksPerCall(Blackhole blackhole) {
+		for (int i = 0; i < SIZE; i++) {
+			blackhole.consume(BitboardAttacks.getIndexAttacks(boards[i], indices[i]));
+		}
+	}
+
+	@Benchmark
+	public long[] getIndexAttacksScalar() {
+		scalar.getIndexAttacks(batch, indices, attackers);
+		return attackers;
+	}
+
+	@Benchmark
+	public long[] getIndexAttacksVector() {
+		vector.getIndexAttacks(batch, indices, attackers);
+		return attackers;
+	}
+
+	@Benchmark
+	public void isIndexAttackedPerCall(Blackhole blackhole) {
+		for (int i = 0; i < SIZE; i++) {
+			blackhole.consume(BitboardAttacks.isIndexAttacked(boards[i], (byte) indices[i], white[i]));
+		}
+	}
+
+	@Benchmark
+	public boolean[] isIndexAttackedScalar() {
+		scalar.isIndexAttacked(batch, indices, white, attacked);
+		return attacked;
+	}
+
+	@Benchmark
+	public boolean[] isIndexAttackedVector() {
+		vector.isIndexAttacked(batch, indices, white, attacked);
+		return attacked;
+	}
+}
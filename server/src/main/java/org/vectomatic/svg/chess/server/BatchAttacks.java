@@ -0,0 +1,86 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.server;
+
+/**
+ * Attack queries of BitboardAttacks evaluated for all the positions of
+ * a PositionBatch in one call: entry i of each array is the query on
+ * position i. Squares are indices in 0..63 (Carballo's layout, 0 = h1).
+ * <p>
+ * getInstance returns the Vector API implementation when the
+ * jdk.incubator.vector module is present, the scalar one otherwise.
+ * Implementations are thread safe.
+ */
+public abstract class BatchAttacks {
+	private static final String VECTOR_IMPL = "org.vectomatic.svg.chess.server.VectorBatchAttacks";
+	private static final BatchAttacks instance = load();
+
+	public static BatchAttacks getInstance() {
+		return instance;
+	}
+
+	public static BatchAttacks getScalar() {
+		return ScalarBatchAttacks.INSTANCE;
+	}
+
+	/**
+	 * Returns the Vector API implementation, or null when the
+	 * jdk.incubator.vector module is not available
+	 */
+	public static BatchAttacks getVector() {
+		return instance instanceof ScalarBatchAttacks ? null : instance;
+	}
+
+	private static BatchAttacks load() {
+		// Only reference the vector classes when the module is there
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+			try {
+				return (BatchAttacks) Class.forName(VECTOR_IMPL).getDeclaredConstructor().newInstance();
+			} catch (ReflectiveOperationException e) {
+				// Fall back to the scalar code
+			} catch (LinkageError e) {
+				// Fall back to the scalar code
+			}
+		}
+		return ScalarBatchAttacks.INSTANCE;
+	}
+
+	/**
+	 * Same contract as BitboardAttacks.getIndexAttacks: the pieces of both
+	 * sides attacking indices[i] in position i
+	 * @param attackers
+	 * receives the result, at least batch.size() long
+	 */
+	public abstract void getIndexAttacks(PositionBatch batch, int[] indices, long[] attackers);
+
+	/**
+	 * Same contract as BitboardAttacks.isIndexAttacked
+	 * @param white
+	 * white[i] true to test for attacks by the blacks in position i
+	 * @param attacked
+	 * receives the result, at least batch.size() long
+	 */
+	public abstract void isIndexAttacked(PositionBatch batch, int[] indices, boolean[] white, boolean[] attacked);
+
+	public abstract String getName();
+
+	@Override
+	public String toString() {
+		return getName();
+	}
+}
@@ -0,0 +1,170 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.server;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.vectomatic.svg.chess.book.PolyglotMoves;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.book.Book;
+
+/**
+ * Polyglot .bin opening book read in place from a memory-mapped file:
+ * the 16-byte big-endian entries (key, move, weight, learn), sorted by
+ * unsigned key, are binary searched without being copied, so the heap
+ * used does not depend on the size of the book. Files over 1 GB are
+ * mapped in several segments.
+ * <p>
+ * Thread safe without locks: the mappings are only read with absolute
+ * gets, which leave the buffer positions alone, so one instance can
+ * serve all the games of a server.
+ */
+public class PolyglotBook implements Book {
+	private static final int ENTRY_SIZE = 16;
+	/**
+	 * 2^26 entries (1 GB) per mapping, below the 2 GB limit of a buffer
+	 */
+	private static final int SEGMENT_SHIFT = 26;
+	private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+	/**
+	 * Upper bound of the moves of a position
+	 */
+	private static final int MAX_MOVES = 256;
+
+	private final ByteBuffer[] segments;
+	private final long size;
+
+	public PolyglotBook(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length % ENTRY_SIZE != 0) {
+				throw new IOException(path + " is not a polyglot book: " + length + " bytes");
+			}
+			size = length / ENTRY_SIZE;
+			segments = new ByteBuffer[(int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT)];
+			for (int i = 0; i < segments.length; i++) {
+				long offset = ((long) i << SEGMENT_SHIFT) * ENTRY_SIZE;
+				// The mapping stays valid once the channel is closed
+				segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(length - offset, (SEGMENT_MASK + 1) * ENTRY_SIZE));
+			}
+		}
+	}
+
+	/**
+	 * Number of entries
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Gets a random legal move of the book, chosen by weight, or 0 if
+	 * there is none
+	 */
+	@Override
+	public int getMove(Board board) {
+		int[] moves = new int[MAX_MOVES];
+		int[] weights = new int[MAX_MOVES];
+		int count = generateMoves(board, moves, weights);
+		long totalWeight = 0;
+		for (int i = 0; i < count; i++) {
+			totalWeight += weights[i];
+		}
+		if (totalWeight == 0) {
+			return 0;
+		}
+		long randomWeight = ThreadLocalRandom.current().nextLong(totalWeight);
+		for (int i = 0; i < count; i++) {
+			randomWeight -= weights[i];
+			if (randomWeight < 0) {
+				return moves[i];
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * Finds the legal book moves of the position, in book order
+	 * @return
+	 * the number of moves written in moves and weights
+	 */
+	public int generateMoves(Board board, int[] moves, int[] weights) {
+		long key = board.getKey();
+		int count = 0;
+		for (long entry = find(key); entry < size && getKey(entry) == key && count < moves.length; entry++) {
+			int move = PolyglotMoves.toMove(board, getPolyglotMove(entry));
+			if (move != 0 && board.isMoveLegal(move)) {
+				moves[count] = move;
+				weights[count++] = getWeight(entry);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * True if the book has entries for the position key (legal or not)
+	 */
+	public boolean contains(long key) {
+		long entry = find(key);
+		return entry < size && getKey(entry) == key;
+	}
+
+	/**
+	 * Index of the first entry whose key is not lower than key
+	 * (unsigned), size if there is none
+	 */
+	private long find(long key) {
+		long from = 0;
+		long to = size;
+		while (from < to) {
+			long middle = (from + to) >>> 1;
+			if (Long.compareUnsigned(getKey(middle), key) < 0) {
+				from = middle + 1;
+			} else {
+				to = middle;
+			}
+		}
+		return from;
+	}
+
+	private long getKey(long entry) {
+		return getSegment(entry).getLong(getOffset(entry));
+	}
+
+	private int getPolyglotMove(long entry) {
+		return getSegment(entry).getShort(getOffset(entry) + 8) & 0xffff;
+	}
+
+	private int getWeight(long entry) {
+		return getSegment(entry).getShort(getOffset(entry) + 10) & 0xffff;
+	}
+
+	private ByteBuffer getSegment(long entry) {
+		return segments[(int) (entry >>> SEGMENT_SHIFT)];
+	}
+
+	private static int getOffset(long entry) {
+		return (int) (entry & SEGMENT_MASK) * ENTRY_SIZE;
+	}
+}
@@ -0,0 +1,106 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.server;
+
+import java.util.Arrays;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Bitboards of many positions packed in parallel arrays (one array per
+ * bitboard, one entry per position), the layout the batch attack
+ * queries of BatchAttacks read lane by lane.
+ */
+public class PositionBatch {
+	long[] whites;
+	long[] blacks;
+	long[] pawns;
+	long[] knights;
+	long[] bishops;
+	long[] rooks;
+	long[] queens;
+	long[] kings;
+	private int size;
+
+	public PositionBatch() {
+		this(1024);
+	}
+
+	/**
+	 * @param capacity
+	 * initial number of positions, the arrays grow when it is reached
+	 */
+	public PositionBatch(int capacity) {
+		allocate(Math.max(capacity, 1));
+	}
+
+	/**
+	 * Appends a position and returns its index in the batch
+	 */
+	public int add(Board board) {
+		return add(board.whites, board.blacks, board.pawns, board.knights, board.bishops, board.rooks, board.queens, board.kings);
+	}
+
+	public int add(long whites, long blacks, long pawns, long knights, long bishops, long rooks, long queens, long kings) {
+		if (size == this.whites.length) {
+			allocate(size * 2);
+		}
+		this.whites[size] = whites;
+		this.blacks[size] = blacks;
+		this.pawns[size] = pawns;
+		this.knights[size] = knights;
+		this.bishops[size] = bishops;
+		this.rooks[size] = rooks;
+		this.queens[size] = queens;
+		this.kings[size] = kings;
+		return size++;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Empties the batch and keeps the arrays for the next one
+	 */
+	public void clear() {
+		size = 0;
+	}
+
+	private void allocate(int capacity) {
+		if (whites == null) {
+			whites = new long[capacity];
+			blacks = new long[capacity];
+			pawns = new long[capacity];
+			knights = new long[capacity];
+			bishops = new long[capacity];
+			rooks = new long[capacity];
+			queens = new long[capacity];
+			kings = new long[capacity];
+		} else {
+			whites = Arrays.copyOf(whites, capacity);
+			blacks = Arrays.copyOf(blacks, capacity);
+			pawns = Arrays.copyOf(pawns, capacity);
+			knights = Arrays.copyOf(knights, capacity);
+			bishops = Arrays.copyOf(bishops, capacity);
+			rooks = Arrays.copyOf(rooks, capacity);
+			queens = Arrays.copyOf(queens, capacity);
+			kings = Arrays.copyOf(kings, capacity);
+		}
+	}
+}
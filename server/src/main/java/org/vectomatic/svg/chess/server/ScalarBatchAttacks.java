@@ -0,0 +1,70 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.server;
+
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * One position at a time with the table lookups of BitboardAttacks (in
+ * its current slider mode). Also handles the positions left over by
+ * VectorBatchAttacks at the end of a batch
+ */
+class ScalarBatchAttacks extends BatchAttacks {
+	static final ScalarBatchAttacks INSTANCE = new ScalarBatchAttacks();
+
+	@Override
+	public void getIndexAttacks(PositionBatch batch, int[] indices, long[] attackers) {
+		getIndexAttacks(batch, indices, attackers, 0);
+	}
+
+	@Override
+	public void isIndexAttacked(PositionBatch batch, int[] indices, boolean[] white, boolean[] attacked) {
+		isIndexAttacked(batch, indices, white, attacked, 0);
+	}
+
+	@Override
+	public String getName() {
+		return "scalar";
+	}
+
+	static void getIndexAttacks(PositionBatch batch, int[] indices, long[] attackers, int start) {
+		for (int i = start, size = batch.size(); i < size; i++) {
+			attackers[i] = getIndexAttacks(batch, i, indices[i]);
+		}
+	}
+
+	static void isIndexAttacked(PositionBatch batch, int[] indices, boolean[] white, boolean[] attacked, int start) {
+		for (int i = start, size = batch.size(); i < size; i++) {
+			long others = white[i] ? batch.blacks[i] : batch.whites[i];
+			attacked[i] = (getIndexAttacks(batch, i, indices[i]) & others) != 0;
+		}
+	}
+
+	private static long getIndexAttacks(PositionBatch batch, int i, int index) {
+		long whites = batch.whites[i];
+		long blacks = batch.blacks[i];
+		long all = whites | blacks;
+		long rooks = batch.rooks[i] | batch.queens[i];
+		long bishops = batch.bishops[i] | batch.queens[i];
+		return ((blacks & BitboardAttacks.getPawnAttacks(index, true) | whites & BitboardAttacks.getPawnAttacks(index, false)) & batch.pawns[i]) |
+			(BitboardAttacks.getKingAttacks(index) & batch.kings[i]) |
+			(BitboardAttacks.getKnightAttacks(index) & batch.knights[i]) |
+			(BitboardAttacks.getRookAttacks(index, all) & rooks) |
+			(BitboardAttacks.getBishopAttacks(index, all) & bishops);
+	}
+}
@@ -0,0 +1,173 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ *
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.server;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+import com.alonsoruibal.chess.bitboard.BitboardUtils;
+
+/**
+ * One position per lane of the widest long vectors of the CPU. Leaper
+ * attacks are gathered from the tables of BitboardAttacks; slider
+ * attacks are computed from the square with the Kogge-Stone fills of
+ * the set-wise methods of BitboardAttacks, which only need lane-wise
+ * shifts. The positions which do not fill a whole vector go through
+ * ScalarBatchAttacks.
+ * <p>
+ * The work is split in one loop per piece group and slider direction:
+ * a loop computing all the attacks at once exceeds what C2 inlines in
+ * one method, and the vector operations left out of line fall back to
+ * (very slow) Java code.
+ */
+class VectorBatchAttacks extends BatchAttacks {
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+	/**
+	 * Same number of lanes as LONGS, to load the square indices
+	 */
+	private static final VectorSpecies<Integer> INTS = VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+	private static final long[] KNIGHT = new long[64];
+	private static final long[] KING = new long[64];
+	private static final long[] PAWN_UPWARDS = new long[64];
+	private static final long[] PAWN_DOWNWARDS = new long[64];
+
+	static {
+		for (int i = 0; i < 64; i++) {
+			KNIGHT[i] = BitboardAttacks.getKnightAttacks(i);
+			KING[i] = BitboardAttacks.getKingAttacks(i);
+			PAWN_UPWARDS[i] = BitboardAttacks.getPawnAttacks(i, true);
+			PAWN_DOWNWARDS[i] = BitboardAttacks.getPawnAttacks(i, false);
+		}
+	}
+
+	/**
+	 * Per thread arrays for the squares of the positions and the attackers
+	 * computed by isIndexAttacked
+	 */
+	private final ThreadLocal<long[][]> scratch = new ThreadLocal<long[][]>() {
+		@Override
+		protected long[][] initialValue() {
+			return new long[2][0];
+		}
+	};
+
+	@Override
+	public void getIndexAttacks(PositionBatch batch, int[] indices, long[] attackers) {
+		int bound = LONGS.loopBound(batch.size());
+		addAttacks(batch, indices, attackers, getScratch(batch.size())[0], bound);
+		ScalarBatchAttacks.getIndexAttacks(batch, indices, attackers, bound);
+	}
+
+	@Override
+	public void isIndexAttacked(PositionBatch batch, int[] indices, boolean[] white, boolean[] attacked) {
+		int bound = LONGS.loopBound(batch.size());
+		long[][] arrays = getScratch(batch.size());
+		long[] attackers = arrays[1];
+		addAttacks(batch, indices, attackers, arrays[0], bound);
+		for (int i = 0; i < bound; i += LONGS.length()) {
+			VectorMask<Long> whiteMask = VectorMask.fromArray(LONGS, white, i);
+			LongVector others = LongVector.fromArray(LONGS, batch.whites, i).blend(LongVector.fromArray(LONGS, batch.blacks, i), whiteMask);
+			LongVector.fromArray(LONGS, attackers, i).and(others).compare(VectorOperators.NE, 0).intoArray(attacked, i);
+		}
+		ScalarBatchAttacks.isIndexAttacked(batch, indices, white, attacked, bound);
+	}
+
+	@Override
+	public String getName() {
+		return "vector" + LONGS.length();
+	}
+
+	private long[][] getScratch(int size) {
+		long[][] arrays = scratch.get();
+		if (arrays[0].length < size) {
+			arrays[0] = new long[size];
+			arrays[1] = new long[size];
+		}
+		return arrays;
+	}
+
+	private static void addAttacks(PositionBatch batch, int[] indices, long[] attackers, long[] squares, int bound) {
+		addLeaperAttacks(batch, indices, attackers, squares, bound);
+		addSlideAttacksUp(batch, attackers, squares, bound, 8, -1L, batch.rooks);
+		addSlideAttacksDown(batch, attackers, squares, bound, 8, -1L, batch.rooks);
+		addSlideAttacksUp(batch, attackers, squares, bound, 1, ~BitboardUtils.b_r, batch.rooks);
+		addSlideAttacksDown(batch, attackers, squares, bound, 1, ~BitboardUtils.b_l, batch.rooks);
+		addSlideAttacksUp(batch, attackers, squares, bound, 9, ~BitboardUtils.b_r, batch.bishops);
+		addSlideAttacksUp(batch, attackers, squares, bound, 7, ~BitboardUtils.b_l, batch.bishops);
+		addSlideAttacksDown(batch, attackers, squares, bound, 7, ~BitboardUtils.b_r, batch.bishops);
+		addSlideAttacksDown(batch, attackers, squares, bound, 9, ~BitboardUtils.b_l, batch.bishops);
+	}
+
+	/**
+	 * Stores the pawns, knights and kings attacking each square in
+	 * attackers, and the square bitboards in squares for the sliders
+	 */
+	private static void addLeaperAttacks(PositionBatch batch, int[] indices, long[] attackers, long[] squares, int bound) {
+		LongVector one = LongVector.broadcast(LONGS, 1L);
+		for (int i = 0; i < bound; i += LONGS.length()) {
+			LongVector index = (LongVector) IntVector.fromArray(INTS, indices, i).convertShape(VectorOperators.I2L, LONGS, 0);
+			one.lanewise(VectorOperators.LSHL, index).intoArray(squares, i);
+			// A white pawn on the square would attack the black pawns which attack it
+			LongVector pawns = LongVector.fromArray(LONGS, batch.blacks, i).and(LongVector.fromArray(LONGS, PAWN_UPWARDS, 0, indices, i))
+					.or(LongVector.fromArray(LONGS, batch.whites, i).and(LongVector.fromArray(LONGS, PAWN_DOWNWARDS, 0, indices, i)))
+					.and(LongVector.fromArray(LONGS, batch.pawns, i));
+			LongVector knights = LongVector.fromArray(LONGS, KNIGHT, 0, indices, i).and(LongVector.fromArray(LONGS, batch.knights, i));
+			LongVector kings = LongVector.fromArray(LONGS, KING, 0, indices, i).and(LongVector.fromArray(LONGS, batch.kings, i));
+			pawns.or(knights).or(kings).intoArray(attackers, i);
+		}
+	}
+
+	/**
+	 * Lane-wise copy of BitboardAttacks.slideAttacks for a positive shift,
+	 * adding the sliders (or queens) hit to attackers
+	 */
+	private static void addSlideAttacksUp(PositionBatch batch, long[] attackers, long[] squares, int bound, int shift, long destMask, long[] sliders) {
+		for (int i = 0; i < bound; i += LONGS.length()) {
+			LongVector gen = LongVector.fromArray(LONGS, squares, i);
+			LongVector pro = LongVector.fromArray(LONGS, batch.whites, i).or(LongVector.fromArray(LONGS, batch.blacks, i)).not().and(destMask);
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHL, shift)));
+			pro = pro.and(pro.lanewise(VectorOperators.LSHL, shift));
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHL, 2 * shift)));
+			pro = pro.and(pro.lanewise(VectorOperators.LSHL, 2 * shift));
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHL, 4 * shift)));
+			LongVector pieces = LongVector.fromArray(LONGS, sliders, i).or(LongVector.fromArray(LONGS, batch.queens, i));
+			gen.lanewise(VectorOperators.LSHL, shift).and(destMask).and(pieces)
+				.or(LongVector.fromArray(LONGS, attackers, i)).intoArray(attackers, i);
+		}
+	}
+
+	private static void addSlideAttacksDown(PositionBatch batch, long[] attackers, long[] squares, int bound, int shift, long destMask, long[] sliders) {
+		for (int i = 0; i < bound; i += LONGS.length()) {
+			LongVector gen = LongVector.fromArray(LONGS, squares, i);
+			LongVector pro = LongVector.fromArray(LONGS, batch.whites, i).or(LongVector.fromArray(LONGS, batch.blacks, i)).not().and(destMask);
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHR, shift)));
+			pro = pro.and(pro.lanewise(VectorOperators.LSHR, shift));
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHR, 2 * shift)));
+			pro = pro.and(pro.lanewise(VectorOperators.LSHR, 2 * shift));
+			gen = gen.or(pro.and(gen.lanewise(VectorOperators.LSHR, 4 * shift)));
+			LongVector pieces = LongVector.fromArray(LONGS, sliders, i).or(LongVector.fromArray(LONGS, batch.queens, i));
+			gen.lanewise(VectorOperators.LSHR, shift).and(destMask).and(pieces)
+				.or(LongVector.fromArray(LONGS, attackers, i)).intoArray(attackers, i);
+		}
+	}
+}
@@ -0,0 +1,124 @@
+package com.alonsoruibal.chess.bitboard;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Squares attacked by each side, computed once per position with the
+ * set-wise fills of BitboardAttacks and then answered with a mask test.
+ * <p>
+ * Entries live in a small direct-mapped table indexed by the zobrist
+ * key, so nothing has to be invalidated on doMove/undoMove: a new
+ * position maps to another tag, and going back to a previous position
+ * finds its entry again. The tag also holds the colour and pawn
+ * bitboards, which protects against a board queried in the middle of
+ * doMove, before its key is updated.
+ * <p>
+ * Not thread safe: use one instance per board, kept by the owner of the
+ * board and passed to the queries (see BitboardAttacks.isIndexAttacked).
+ */
+public class AttackMap {
+	private static final int WHITE_VALID = 1;
+	private static final int BLACK_VALID = 2;
+
+	private final int mask;
+	private final long[] keys;
+	private final long[] whites;
+	private final long[] blacks;
+	private final long[] pawns;
+	private final long[] attackedByWhite;
+	private final long[] attackedByBlack;
+	private final byte[] flags;
+	private int hits;
+	private int misses;
+
+	public AttackMap() {
+		this(64);
+	}
+
+	/**
+	 * @param size
+	 * number of positions kept, rounded up to a power of 2
+	 */
+	public AttackMap(int size) {
+		int capacity = 1;
+		while (capacity < size) {
+			capacity <<= 1;
+		}
+		mask = capacity - 1;
+		keys = new long[capacity];
+		whites = new long[capacity];
+		blacks = new long[capacity];
+		pawns = new long[capacity];
+		attackedByWhite = new long[capacity];
+		attackedByBlack = new long[capacity];
+		flags = new byte[capacity];
+	}
+
+	/**
+	 * Returns the squares attacked by one side
+	 * @param white
+	 * true for the squares attacked by the whites
+	 */
+	public long getAttackedBy(Board board, boolean white) {
+		long key = board.getKey();
+		int slot = (int) key & mask;
+		if (keys[slot] != key || whites[slot] != board.whites || blacks[slot] != board.blacks || pawns[slot] != board.pawns) {
+			keys[slot] = key;
+			whites[slot] = board.whites;
+			blacks[slot] = board.blacks;
+			pawns[slot] = board.pawns;
+			flags[slot] = 0;
+		}
+		int flag = white ? WHITE_VALID : BLACK_VALID;
+		if ((flags[slot] & flag) != 0) {
+			hits++;
+		} else {
+			misses++;
+			long attacks = BitboardAttacks.getSideAttacks(board, white);
+			if (white) {
+				attackedByWhite[slot] = attacks;
+			} else {
+				attackedByBlack[slot] = attacks;
+			}
+			flags[slot] |= flag;
+		}
+		return white ? attackedByWhite[slot] : attackedByBlack[slot];
+	}
+
+	/**
+	 * Same contract as BitboardAttacks.isIndexAttacked
+	 * @param white
+	 * true to test for attacks by the blacks
+	 */
+	public boolean isIndexAttacked(Board board, int index, boolean white) {
+		if (index < 0 || index > 63) return false;
+		return (getAttackedBy(board, !white) & (1L << index)) != 0;
+	}
+
+	/**
+	 * Drops all the cached positions
+	 */
+	public void clear() {
+		for (int i = 0; i <= mask; i++) {
+			flags[i] = 0;
+		}
+	}
+
+	public int getHits() {
+		return hits;
+	}
+
+	public int getMisses() {
+		return misses;
+	}
+
+	public void resetStats() {
+		hits = 0;
+		misses = 0;
+	}
+
+	@Override
+	public String toString() {
+		return "AttackMap hits=" + hits + " misses=" + misses;
+	}
+}
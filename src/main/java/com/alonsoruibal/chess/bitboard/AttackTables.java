@@ -0,0 +1,168 @@
+package com.alonsoruibal.chess.bitboard;
+
+/**
+ * Attack tables precomputed at build time.
+ * Generated by AttackTablesGen (mvn -Pgenerate-tables process-classes), do not edit.
+ */
+final class AttackTables {
+	static final long[] KNIGHT = {
+		0x20400L, 0x50800L, 0xa1100L, 0x142200L, 0x284400L, 0x508800L, 0xa01000L, 0x402000L,
+		0x2040004L, 0x5080008L, 0xa110011L, 0x14220022L, 0x28440044L, 0x50880088L, 0xa0100010L, 0x40200020L,
+		0x204000402L, 0x508000805L, 0xa1100110aL, 0x1422002214L, 0x2844004428L, 0x5088008850L, 0xa0100010a0L, 0x4020002040L,
+		0x20400040200L, 0x50800080500L, 0xa1100110a00L, 0x142200221400L, 0x284400442800L, 0x508800885000L, 0xa0100010a000L, 0x402000204000L,
+		0x2040004020000L, 0x5080008050000L, 0xa1100110a0000L, 0x14220022140000L, 0x28440044280000L, 0x50880088500000L, 0xa0100010a00000L, 0x40200020400000L,
+		0x204000402000000L, 0x508000805000000L, 0xa1100110a000000L, 0x1422002214000000L, 0x2844004428000000L, 0x5088008850000000L, 0xa0100010a0000000L, 0x4020002040000000L,
+		0x400040200000000L, 0x800080500000000L, 0x1100110a00000000L, 0x2200221400000000L, 0x4400442800000000L, 0x8800885000000000L, 0x100010a000000000L, 0x2000204000000000L,
+		0x4020000000000L, 0x8050000000000L, 0x110a0000000000L, 0x22140000000000L, 0x44280000000000L, 0x88500000000000L, 0x10a00000000000L, 0x20400000000000L
+	};
+	static final long[] KING = {
+		0x302L, 0x705L, 0xe0aL, 0x1c14L, 0x3828L, 0x7050L, 0xe0a0L, 0xc040L,
+		0x30203L, 0x70507L, 0xe0a0eL, 0x1c141cL, 0x382838L, 0x705070L, 0xe0a0e0L, 0xc040c0L,
+		0x3020300L, 0x7050700L, 0xe0a0e00L, 0x1c141c00L, 0x38283800L, 0x70507000L, 0xe0a0e000L, 0xc040c000L,
+		0x302030000L, 0x705070000L, 0xe0a0e0000L, 0x1c141c0000L, 0x3828380000L, 0x7050700000L, 0xe0a0e00000L, 0xc040c00000L,
+		0x30203000000L, 0x70507000000L, 0xe0a0e000000L, 0x1c141c000000L, 0x382838000000L, 0x705070000000L, 0xe0a0e0000000L, 0xc040c0000000L,
+		0x3020300000000L, 0x7050700000000L, 0xe0a0e00000000L, 0x1c141c00000000L, 0x38283800000000L, 0x70507000000000L, 0xe0a0e000000000L, 0xc040c000000000L,
+		0x302030000000000L, 0x705070000000000L, 0xe0a0e0000000000L, 0x1c141c0000000000L, 0x3828380000000000L, 0x7050700000000000L, 0xe0a0e00000000000L, 0xc040c00000000000L,
+		0x203000000000000L, 0x507000000000000L, 0xa0e000000000000L, 0x141c000000000000L, 0x2838000000000000L, 0x5070000000000000L, 0xa0e0000000000000L, 0x40c0000000000000L
+	};
+	static final long[] PAWN_UPWARDS = {
+		0x200L, 0x500L, 0xa00L, 0x1400L, 0x2800L, 0x5000L, 0xa000L, 0x4000L,
+		0x20000L, 0x50000L, 0xa0000L, 0x140000L, 0x280000L, 0x500000L, 0xa00000L, 0x400000L,
+		0x2000000L, 0x5000000L, 0xa000000L, 0x14000000L, 0x28000000L, 0x50000000L, 0xa0000000L, 0x40000000L,
+		0x200000000L, 0x500000000L, 0xa00000000L, 0x1400000000L, 0x2800000000L, 0x5000000000L, 0xa000000000L, 0x4000000000L,
+		0x20000000000L, 0x50000000000L, 0xa0000000000L, 0x140000000000L, 0x280000000000L, 0x500000000000L, 0xa00000000000L, 0x400000000000L,
+		0x2000000000000L, 0x5000000000000L, 0xa000000000000L, 0x14000000000000L, 0x28000000000000L, 0x50000000000000L, 0xa0000000000000L, 0x40000000000000L,
+		0x200000000000000L, 0x500000000000000L, 0xa00000000000000L, 0x1400000000000000L, 0x2800000000000000L, 0x5000000000000000L, 0xa000000000000000L, 0x4000000000000000L,
+		0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L
+	};
+	static final long[] PAWN_DOWNWARDS = {
+		0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L, 0x0L,
+		0x2L, 0x5L, 0xaL, 0x14L, 0x28L, 0x50L, 0xa0L, 0x40L,
+		0x200L, 0x500L, 0xa00L, 0x1400L, 0x2800L, 0x5000L, 0xa000L, 0x4000L,
+		0x20000L, 0x50000L, 0xa0000L, 0x140000L, 0x280000L, 0x500000L, 0xa00000L, 0x400000L,
+		0x2000000L, 0x5000000L, 0xa000000L, 0x14000000L, 0x28000000L, 0x50000000L, 0xa0000000L, 0x40000000L,
+		0x200000000L, 0x500000000L, 0xa00000000L, 0x1400000000L, 0x2800000000L, 0x5000000000L, 0xa000000000L, 0x4000000000L,
+		0x20000000000L, 0x50000000000L, 0xa0000000000L, 0x140000000000L, 0x280000000000L, 0x500000000000L, 0xa00000000000L, 0x400000000000L,
+		0x2000000000000L, 0x5000000000000L, 0xa000000000000L, 0x14000000000000L, 0x28000000000000L, 0x50000000000000L, 0xa0000000000000L, 0x40000000000000L
+	};
+	static final long[] ROOK = {
+		0x1010101010101feL, 0x2020202020202fdL, 0x4040404040404fbL, 0x8080808080808f7L, 0x10101010101010efL, 0x20202020202020dfL, 0x40404040404040bfL, 0x808080808080807fL,
+		0x10101010101fe01L, 0x20202020202fd02L, 0x40404040404fb04L, 0x80808080808f708L, 0x101010101010ef10L, 0x202020202020df20L, 0x404040404040bf40L, 0x8080808080807f80L,
+		0x101010101fe0101L, 0x202020202fd0202L, 0x404040404fb0404L, 0x808080808f70808L, 0x1010101010ef1010L, 0x2020202020df2020L, 0x4040404040bf4040L, 0x80808080807f8080L,
+		0x1010101fe010101L, 0x2020202fd020202L, 0x4040404fb040404L, 0x8080808f7080808L, 0x10101010ef101010L, 0x20202020df202020L, 0x40404040bf404040L, 0x808080807f808080L,
+		0x10101fe01010101L, 0x20202fd02020202L, 0x40404fb04040404L, 0x80808f708080808L, 0x101010ef10101010L, 0x202020df20202020L, 0x404040bf40404040L, 0x8080807f80808080L,
+		0x101fe0101010101L, 0x202fd0202020202L, 0x404fb0404040404L, 0x808f70808080808L, 0x1010ef1010101010L, 0x2020df2020202020L, 0x4040bf4040404040L, 0x80807f8080808080L,
+		0x1fe010101010101L, 0x2fd020202020202L, 0x4fb040404040404L, 0x8f7080808080808L, 0x10ef101010101010L, 0x20df202020202020L, 0x40bf404040404040L, 0x807f808080808080L,
+		0xfe01010101010101L, 0xfd02020202020202L, 0xfb04040404040404L, 0xf708080808080808L, 0xef10101010101010L, 0xdf20202020202020L, 0xbf40404040404040L, 0x7f80808080808080L
+	};
+	static final long[] ROOK_MASK = {
+		0x101010101017eL, 0x202020202027cL, 0x404040404047aL, 0x8080808080876L, 0x1010101010106eL, 0x2020202020205eL, 0x4040404040403eL, 0x8080808080807eL,
+		0x1010101017e00L, 0x2020202027c00L, 0x4040404047a00L, 0x8080808087600L, 0x10101010106e00L, 0x20202020205e00L, 0x40404040403e00L, 0x80808080807e00L,
+		0x10101017e0100L, 0x20202027c0200L, 0x40404047a0400L, 0x8080808760800L, 0x101010106e1000L, 0x202020205e2000L, 0x404040403e4000L, 0x808080807e8000L,
+		0x101017e010100L, 0x202027c020200L, 0x404047a040400L, 0x8080876080800L, 0x1010106e101000L, 0x2020205e202000L, 0x4040403e404000L, 0x8080807e808000L,
+		0x1017e01010100L, 0x2027c02020200L, 0x4047a04040400L, 0x8087608080800L, 0x10106e10101000L, 0x20205e20202000L, 0x40403e40404000L, 0x80807e80808000L,
+		0x17e0101010100L, 0x27c0202020200L, 0x47a0404040400L, 0x8760808080800L, 0x106e1010101000L, 0x205e2020202000L, 0x403e4040404000L, 0x807e8080808000L,
+		0x7e010101010100L, 0x7c020202020200L, 0x7a040404040400L, 0x76080808080800L, 0x6e101010101000L, 0x5e202020202000L, 0x3e404040404000L, 0x7e808080808000L,
+		0x7e01010101010100L, 0x7c02020202020200L, 0x7a04040404040400L, 0x7608080808080800L, 0x6e10101010101000L, 0x5e20202020202000L, 0x3e40404040404000L, 0x7e80808080808000L
+	};
+	static final long[] BISHOP = {
+		0x8040201008040200L, 0x80402010080500L, 0x804020110a00L, 0x8041221400L, 0x182442800L, 0x10204885000L, 0x102040810a000L, 0x102040810204000L,
+		0x4020100804020002L, 0x8040201008050005L, 0x804020110a000aL, 0x804122140014L, 0x18244280028L, 0x1020488500050L, 0x102040810a000a0L, 0x204081020400040L,
+		0x2010080402000204L, 0x4020100805000508L, 0x804020110a000a11L, 0x80412214001422L, 0x1824428002844L, 0x102048850005088L, 0x2040810a000a010L, 0x408102040004020L,
+		0x1008040200020408L, 0x2010080500050810L, 0x4020110a000a1120L, 0x8041221400142241L, 0x182442800284482L, 0x204885000508804L, 0x40810a000a01008L, 0x810204000402010L,
+		0x804020002040810L, 0x1008050005081020L, 0x20110a000a112040L, 0x4122140014224180L, 0x8244280028448201L, 0x488500050880402L, 0x810a000a0100804L, 0x1020400040201008L,
+		0x402000204081020L, 0x805000508102040L, 0x110a000a11204080L, 0x2214001422418000L, 0x4428002844820100L, 0x8850005088040201L, 0x10a000a010080402L, 0x2040004020100804L,
+		0x200020408102040L, 0x500050810204080L, 0xa000a1120408000L, 0x1400142241800000L, 0x2800284482010000L, 0x5000508804020100L, 0xa000a01008040201L, 0x4000402010080402L,
+		0x2040810204080L, 0x5081020408000L, 0xa112040800000L, 0x14224180000000L, 0x28448201000000L, 0x50880402010000L, 0xa0100804020100L, 0x40201008040201L
+	};
+	static final long[] BISHOP_MASK = {
+		0x40201008040200L, 0x402010080400L, 0x4020100a00L, 0x40221400L, 0x2442800L, 0x204085000L, 0x20408102000L, 0x2040810204000L,
+		0x20100804020000L, 0x40201008040000L, 0x4020100a0000L, 0x4022140000L, 0x244280000L, 0x20408500000L, 0x2040810200000L, 0x4081020400000L,
+		0x10080402000200L, 0x20100804000400L, 0x4020100a000a00L, 0x402214001400L, 0x24428002800L, 0x2040850005000L, 0x4081020002000L, 0x8102040004000L,
+		0x8040200020400L, 0x10080400040800L, 0x20100a000a1000L, 0x40221400142200L, 0x2442800284400L, 0x4085000500800L, 0x8102000201000L, 0x10204000402000L,
+		0x4020002040800L, 0x8040004081000L, 0x100a000a102000L, 0x22140014224000L, 0x44280028440200L, 0x8500050080400L, 0x10200020100800L, 0x20400040201000L,
+		0x2000204081000L, 0x4000408102000L, 0xa000a10204000L, 0x14001422400000L, 0x28002844020000L, 0x50005008040200L, 0x20002010080400L, 0x40004020100800L,
+		0x20408102000L, 0x40810204000L, 0xa1020400000L, 0x142240000000L, 0x284402000000L, 0x500804020000L, 0x201008040200L, 0x402010080400L,
+		0x2040810204000L, 0x4081020400000L, 0xa102040000000L, 0x14224000000000L, 0x28440200000000L, 0x50080402000000L, 0x20100804020000L, 0x40201008040200L
+	};
+	static final int[] KNIGHT_HI = {
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x2, 0x5, 0xa, 0x14, 0x28, 0x50, 0xa0, 0x40,
+		0x204, 0x508, 0xa11, 0x1422, 0x2844, 0x5088, 0xa010, 0x4020,
+		0x20400, 0x50800, 0xa1100, 0x142200, 0x284400, 0x508800, 0xa01000, 0x402000,
+		0x2040004, 0x5080008, 0xa110011, 0x14220022, 0x28440044, 0x50880088, 0xa0100010, 0x40200020,
+		0x4000402, 0x8000805, 0x1100110a, 0x22002214, 0x44004428, 0x88008850, 0x100010a0, 0x20002040,
+		0x40200, 0x80500, 0x110a00, 0x221400, 0x442800, 0x885000, 0x10a000, 0x204000
+	};
+	static final int[] KNIGHT_LO = {
+		0x20400, 0x50800, 0xa1100, 0x142200, 0x284400, 0x508800, 0xa01000, 0x402000,
+		0x2040004, 0x5080008, 0xa110011, 0x14220022, 0x28440044, 0x50880088, 0xa0100010, 0x40200020,
+		0x4000402, 0x8000805, 0x1100110a, 0x22002214, 0x44004428, 0x88008850, 0x100010a0, 0x20002040,
+		0x40200, 0x80500, 0x110a00, 0x221400, 0x442800, 0x885000, 0x10a000, 0x204000,
+		0x4020000, 0x8050000, 0x110a0000, 0x22140000, 0x44280000, 0x88500000, 0x10a00000, 0x20400000,
+		0x2000000, 0x5000000, 0xa000000, 0x14000000, 0x28000000, 0x50000000, 0xa0000000, 0x40000000,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0
+	};
+	static final int[] KING_HI = {
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x3, 0x7, 0xe, 0x1c, 0x38, 0x70, 0xe0, 0xc0,
+		0x302, 0x705, 0xe0a, 0x1c14, 0x3828, 0x7050, 0xe0a0, 0xc040,
+		0x30203, 0x70507, 0xe0a0e, 0x1c141c, 0x382838, 0x705070, 0xe0a0e0, 0xc040c0,
+		0x3020300, 0x7050700, 0xe0a0e00, 0x1c141c00, 0x38283800, 0x70507000, 0xe0a0e000, 0xc040c000,
+		0x2030000, 0x5070000, 0xa0e0000, 0x141c0000, 0x28380000, 0x50700000, 0xa0e00000, 0x40c00000
+	};
+	static final int[] KING_LO = {
+		0x302, 0x705, 0xe0a, 0x1c14, 0x3828, 0x7050, 0xe0a0, 0xc040,
+		0x30203, 0x70507, 0xe0a0e, 0x1c141c, 0x382838, 0x705070, 0xe0a0e0, 0xc040c0,
+		0x3020300, 0x7050700, 0xe0a0e00, 0x1c141c00, 0x38283800, 0x70507000, 0xe0a0e000, 0xc040c000,
+		0x2030000, 0x5070000, 0xa0e0000, 0x141c0000, 0x28380000, 0x50700000, 0xa0e00000, 0x40c00000,
+		0x3000000, 0x7000000, 0xe000000, 0x1c000000, 0x38000000, 0x70000000, 0xe0000000, 0xc0000000,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0
+	};
+	static final int[] PAWN_UPWARDS_HI = {
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x2, 0x5, 0xa, 0x14, 0x28, 0x50, 0xa0, 0x40,
+		0x200, 0x500, 0xa00, 0x1400, 0x2800, 0x5000, 0xa000, 0x4000,
+		0x20000, 0x50000, 0xa0000, 0x140000, 0x280000, 0x500000, 0xa00000, 0x400000,
+		0x2000000, 0x5000000, 0xa000000, 0x14000000, 0x28000000, 0x50000000, 0xa0000000, 0x40000000,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0
+	};
+	static final int[] PAWN_UPWARDS_LO = {
+		0x200, 0x500, 0xa00, 0x1400, 0x2800, 0x5000, 0xa000, 0x4000,
+		0x20000, 0x50000, 0xa0000, 0x140000, 0x280000, 0x500000, 0xa00000, 0x400000,
+		0x2000000, 0x5000000, 0xa000000, 0x14000000, 0x28000000, 0x50000000, 0xa0000000, 0x40000000,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0
+	};
+	static final int[] PAWN_DOWNWARDS_HI = {
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x2, 0x5, 0xa, 0x14, 0x28, 0x50, 0xa0, 0x40,
+		0x200, 0x500, 0xa00, 0x1400, 0x2800, 0x5000, 0xa000, 0x4000,
+		0x20000, 0x50000, 0xa0000, 0x140000, 0x280000, 0x500000, 0xa00000, 0x400000
+	};
+	static final int[] PAWN_DOWNWARDS_LO = {
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x2, 0x5, 0xa, 0x14, 0x28, 0x50, 0xa0, 0x40,
+		0x200, 0x500, 0xa00, 0x1400, 0x2800, 0x5000, 0xa000, 0x4000,
+		0x20000, 0x50000, 0xa0000, 0x140000, 0x280000, 0x500000, 0xa00000, 0x400000,
+		0x2000000, 0x5000000, 0xa000000, 0x14000000, 0x28000000, 0x50000000, 0xa0000000, 0x40000000,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0,
+		0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0, 0x0
+	};
+}
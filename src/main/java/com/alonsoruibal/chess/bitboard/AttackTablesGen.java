@@ -0,0 +1,145 @@
+package com.alonsoruibal.chess.bitboard;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Build time generator for AttackTables. Runs the attack
+ * generator of BitboardAttacks and writes the result as java
+ * constants, so that the tables do not have to be computed
+ * when the module starts. JVM only: excluded from the GWT module.
+ * <p>
+ * Usage:
+ * <pre>
+ * AttackTablesGen &lt;source directory&gt;   regenerates AttackTables.java
+ * AttackTablesGen -verify              checks AttackTables against the runtime generator
+ * </pre>
+ * Both are wired in the pom as the generate-tables and verify-tables profiles.
+ */
+public class AttackTablesGen {
+	private static final String[] NAMES = {
+		"KNIGHT", "KING", "PAWN_UPWARDS", "PAWN_DOWNWARDS", "ROOK", "ROOK_MASK", "BISHOP", "BISHOP_MASK"
+	};
+	/**
+	 * Number of leading tables of NAMES also written as hi/lo int
+	 * pairs for BitboardAttacksImplIntPair
+	 */
+	private static final int INT_PAIR_TABLES = 4;
+
+	public static void main(String[] args) throws IOException {
+		// No System.exit: the generator runs inside the maven JVM
+		if (args.length != 1) {
+			throw new IllegalArgumentException("Usage: AttackTablesGen <source directory> | -verify");
+		}
+		if ("-verify".equals(args[0])) {
+			int errors = verify();
+			if (errors != 0) {
+				throw new IllegalStateException(errors + " attack table entries differ from the runtime generator");
+			}
+			System.out.println("Attack tables are up to date");
+			return;
+		}
+		File file = new File(args[0], AttackTablesGen.class.getPackage().getName().replace('.', File.separatorChar) + File.separator + "AttackTables.java");
+		write(file);
+		System.out.println("Wrote " + file);
+	}
+
+	private static long[][] generate() {
+		// Same order as NAMES
+		return BitboardAttacks.computeAttackTables();
+	}
+
+	/**
+	 * Compares the generated constants with the tables computed at runtime
+	 * @return
+	 * The number of entries which differ
+	 */
+	public static int verify() {
+		long[][] expected = generate();
+		long[][] actual = {
+			AttackTables.KNIGHT,
+			AttackTables.KING,
+			AttackTables.PAWN_UPWARDS,
+			AttackTables.PAWN_DOWNWARDS,
+			AttackTables.ROOK,
+			AttackTables.ROOK_MASK,
+			AttackTables.BISHOP,
+			AttackTables.BISHOP_MASK
+		};
+		int[][] actualHi = {
+			AttackTables.KNIGHT_HI,
+			AttackTables.KING_HI,
+			AttackTables.PAWN_UPWARDS_HI,
+			AttackTables.PAWN_DOWNWARDS_HI
+		};
+		int[][] actualLo = {
+			AttackTables.KNIGHT_LO,
+			AttackTables.KING_LO,
+			AttackTables.PAWN_UPWARDS_LO,
+			AttackTables.PAWN_DOWNWARDS_LO
+		};
+		int errors = 0;
+		for (int i = 0; i < NAMES.length; i++) {
+			for (int j = 0; j < 64; j++) {
+				if (actual[i].length != 64 || actual[i][j] != expected[i][j]) {
+					System.err.println(NAMES[i] + "[" + j + "] differs");
+					errors++;
+				}
+				if (i < INT_PAIR_TABLES && (actualHi[i][j] != (int) (expected[i][j] >>> 32) || actualLo[i][j] != (int) expected[i][j])) {
+					System.err.println(NAMES[i] + "_HI/LO[" + j + "] differs");
+					errors++;
+				}
+			}
+		}
+		return errors;
+	}
+
+	private static void write(File file) throws IOException {
+		long[][] tables = generate();
+		PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+		try {
+			writer.println("package " + AttackTablesGen.class.getPackage().getName() + ";");
+			writer.println();
+			writer.println("/**");
+			writer.println(" * Attack tables precomputed at build time.");
+			writer.println(" * Generated by AttackTablesGen (mvn -Pgenerate-tables process-classes), do not edit.");
+			writer.println(" */");
+			writer.println("final class AttackTables {");
+			for (int i = 0; i < NAMES.length; i++) {
+				writer.print("\tstatic final long[] " + NAMES[i] + " = {");
+				for (int j = 0; j < 64; j++) {
+					writer.print(j % 8 == 0 ? "\n\t\t" : " ");
+					writer.print("0x" + Long.toHexString(tables[i][j]) + "L");
+					if (j < 63) {
+						writer.print(",");
+					}
+				}
+				writer.println();
+				writer.println("\t};");
+			}
+			for (int i = 0; i < INT_PAIR_TABLES; i++) {
+				writeInts(writer, NAMES[i] + "_HI", tables[i], 32);
+				writeInts(writer, NAMES[i] + "_LO", tables[i], 0);
+			}
+			writer.println("}");
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static void writeInts(PrintWriter writer, String name, long[] table, int shift) {
+		writer.print("\tstatic final int[] " + name + " = {");
+		for (int j = 0; j < 64; j++) {
+			writer.print(j % 8 == 0 ? "\n\t\t" : " ");
+			writer.print("0x" + Integer.toHexString((int) (table[j] >>> shift)));
+			if (j < 63) {
+				writer.print(",");
+			}
+		}
+		writer.println();
+		writer.println("\t};");
+	}
+}
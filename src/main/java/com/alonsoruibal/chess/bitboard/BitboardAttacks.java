@@ -5,10 +5,19 @@ import com.alonsoruibal.chess.log.Logger;
 
 /**
  * Discover attacks to squares
+ * <p>
+ * All the tables are built once, by class initializers, and never
+ * written afterwards: the JVM makes the writes of a class initializer
+ * visible to every thread which uses the class, so several engines can
+ * share the tables from parallel threads without any lock.
  */
 public class BitboardAttacks {
 	private static final Logger logger = Logger.getLogger("BitboardAttacksGwt");
-	public static boolean initialized = false;
+	/**
+	 * The tables are built when the class is initialized. Kept for the
+	 * Carballo classes which test it
+	 */
+	public static final boolean initialized = true;
 	
 	public final static byte rookShiftBits[] = {
 		  12, 11, 11, 11, 11, 11, 11, 12,
@@ -33,23 +42,102 @@ public class BitboardAttacks {
 		};
 	
 	// Magic numbers generated with MagicNumbersGen
-//	public final static long rookMagicNumber[] = {0x1080108000400020L, 0x40200010004000L, 0x100082000441100L, 0x480041000080080L, 0x100080005000210L, 0x100020801000400L, 0x280010000800200L, 0x100008020420100L, 0x400800080400020L, 0x401000402000L, 0x100801000200080L, 0x801000800800L, 0x800400080080L, 0x800200800400L, 0x1000200040100L, 0x4840800041000080L, 0x20008080004000L, 0x404010002000L, 0x808010002000L, 0x828010000800L, 0x808004000800L, 0x14008002000480L, 0x40002100801L, 0x20001004084L, 0x802080004000L, 0x200080400080L, 0x810001080200080L, 0x10008080080010L, 0x4000080080040080L, 0x40080020080L, 0x1000100040200L, 0x80008200004124L, 0x804000800020L, 0x804000802000L, 0x801000802000L, 0x2000801000800804L, 0x80080800400L, 0x80040080800200L, 0x800100800200L, 0x8042000104L, 0x208040008008L, 0x10500020004000L, 0x100020008080L, 0x2000100008008080L, 0x200040008008080L, 0x8020004008080L, 0x1000200010004L, 0x100040080420001L, 0x80004000200040L, 0x200040100140L, 0x20004800100040L, 0x100080080280L, 0x8100800400080080L, 0x8004020080040080L, 0x9001000402000100L, 0x40080410200L, 0x208040110202L, 0x800810022004012L, 0x1000820004011L, 0x1002004100009L, 0x41001002480005L, 0x81000208040001L, 0x4000008201100804L, 0x2841008402L};
-//	public final static long bishopMagicNumber[] = {0x1020041000484080L, 0x20204010a0000L, 0x8020420240000L, 0x404040085006400L, 0x804242000000108L, 0x8901008800000L, 0x1010110400080L, 0x402401084004L, 0x1000200810208082L, 0x20802208200L, 0x4200100102082000L, 0x1024081040020L, 0x20210000000L, 0x8210400100L, 0x10110022000L, 0x80090088010820L, 0x8001002480800L, 0x8102082008200L, 0x41001000408100L, 0x88000082004000L, 0x204000200940000L, 0x410201100100L, 0x2000101012000L, 0x40201008200c200L, 0x10100004204200L, 0x2080020010440L, 0x480004002400L, 0x2008008008202L, 0x1010080104000L, 0x1020001004106L, 0x1040200520800L, 0x8410000840101L, 0x1201000200400L, 0x2029000021000L, 0x4002400080840L, 0x5000020080080080L, 0x1080200002200L, 0x4008202028800L, 0x2080210010080L, 0x800809200008200L, 0x1082004001000L, 0x1080202411080L, 0x840048010101L, 0x40004010400200L, 0x500811020800400L, 0x20200040800040L, 0x1008012800830a00L, 0x1041102001040L, 0x11010120200000L, 0x2020222020c00L, 0x400002402080800L, 0x20880000L, 0x1122020400L, 0x11100248084000L, 0x210111000908000L, 0x2048102020080L, 0x1000108208024000L, 0x1004100882000L, 0x41044100L, 0x840400L, 0x4208204L, 0x80000200282020cL, 0x8a001240100L, 0x2040104040080L};
-	
-//	public static long[] rook;
-	// The same but with border removed for magic bitboards
-//	public static long[] rookMask;
-//	public static long[][] rookMagic;
-//	public static long[] bishop;
-//	public static long[] bishopMask;
+	public final static long rookMagicNumber[] = {0x1080108000400020L, 0x40200010004000L, 0x100082000441100L, 0x480041000080080L, 0x100080005000210L, 0x100020801000400L, 0x280010000800200L, 0x100008020420100L, 0x400800080400020L, 0x401000402000L, 0x100801000200080L, 0x801000800800L, 0x800400080080L, 0x800200800400L, 0x1000200040100L, 0x4840800041000080L, 0x20008080004000L, 0x404010002000L, 0x808010002000L, 0x828010000800L, 0x808004000800L, 0x14008002000480L, 0x40002100801L, 0x20001004084L, 0x802080004000L, 0x200080400080L, 0x810001080200080L, 0x10008080080010L, 0x4000080080040080L, 0x40080020080L, 0x1000100040200L, 0x80008200004124L, 0x804000800020L, 0x804000802000L, 0x801000802000L, 0x2000801000800804L, 0x80080800400L, 0x80040080800200L, 0x800100800200L, 0x8042000104L, 0x208040008008L, 0x10500020004000L, 0x100020008080L, 0x2000100008008080L, 0x200040008008080L, 0x8020004008080L, 0x1000200010004L, 0x100040080420001L, 0x80004000200040L, 0x200040100140L, 0x20004800100040L, 0x100080080280L, 0x8100800400080080L, 0x8004020080040080L, 0x9001000402000100L, 0x40080410200L, 0x208040110202L, 0x800810022004012L, 0x1000820004011L, 0x1002004100009L, 0x41001002480005L, 0x81000208040001L, 0x4000008201100804L, 0x2841008402L};
+	public final static long bishopMagicNumber[] = {0x1020041000484080L, 0x20204010a0000L, 0x8020420240000L, 0x404040085006400L, 0x804242000000108L, 0x8901008800000L, 0x1010110400080L, 0x402401084004L, 0x1000200810208082L, 0x20802208200L, 0x4200100102082000L, 0x1024081040020L, 0x20210000000L, 0x8210400100L, 0x10110022000L, 0x80090088010820L, 0x8001002480800L, 0x8102082008200L, 0x41001000408100L, 0x88000082004000L, 0x204000200940000L, 0x410201100100L, 0x2000101012000L, 0x40201008200c200L, 0x10100004204200L, 0x2080020010440L, 0x480004002400L, 0x2008008008202L, 0x1010080104000L, 0x1020001004106L, 0x1040200520800L, 0x8410000840101L, 0x1201000200400L, 0x2029000021000L, 0x4002400080840L, 0x5000020080080080L, 0x1080200002200L, 0x4008202028800L, 0x2080210010080L, 0x800809200008200L, 0x1082004001000L, 0x1080202411080L, 0x840048010101L, 0x40004010400200L, 0x500811020800400L, 0x20200040800040L, 0x1008012800830a00L, 0x1041102001040L, 0x11010120200000L, 0x2020222020c00L, 0x400002402080800L, 0x20880000L, 0x1122020400L, 0x11100248084000L, 0x210111000908000L, 0x2048102020080L, 0x1000108208024000L, 0x1004100882000L, 0x41044100L, 0x840400L, 0x4208204L, 0x80000200282020cL, 0x8a001240100L, 0x2040104040080L};
+
+	/**
+	 * Slider attacks are computed by walking each ray with shifts.
+	 * Needs no tables, which makes it the best choice for the
+	 * javascript build where 64 bits multiplications are emulated
+	 */
+	public static final int SLIDER_SHIFT = 0;
+	/**
+	 * Slider attacks are read from magic bitboard tables. Much faster
+	 * on the JVM, but tables have to be generated first (about 850 KB)
+	 */
+	public static final int SLIDER_MAGIC = 1;
+	/**
+	 * Slider attacks are read from the compact tables: fixed shift magics
+	 * (see MagicNumbersGen) indexing one shared table of attack set
+	 * numbers. The table has more entries than the magic tables (110,128
+	 * against 107,648), but entries are 16-bit numbers of the 6,326
+	 * distinct attack sets: about 270 KB instead of 860 KB
+	 */
+	public static final int SLIDER_COMPACT = 2;
+	static final int COMPACT_ROOK_BITS = 12;
+	static final int COMPACT_BISHOP_BITS = 9;
+	public static final int COMPACT_TABLE_SIZE = CompactMagics.TABLE_SIZE;
+	private static volatile int sliderMode = SLIDER_SHIFT;
+
+	/*
+	 * Copies of the tables of AttackTables, kept for the Carballo classes
+	 * compiled against these fields. The lookups only read AttackTables,
+	 * so writes to the copies are not seen by them.
+	 */
+	/** @deprecated use getRookEmptyAttacks */
+	@Deprecated
+	public static final long[] rook = copy(AttackTables.ROOK);
+	/** @deprecated use getRookMask */
+	@Deprecated
+	public static final long[] rookMask = copy(AttackTables.ROOK_MASK);
+	/** @deprecated use getBishopEmptyAttacks */
+	@Deprecated
+	public static final long[] bishop = copy(AttackTables.BISHOP);
+	/** @deprecated use getBishopMask */
+	@Deprecated
+	public static final long[] bishopMask = copy(AttackTables.BISHOP_MASK);
+	/** @deprecated use getKnightAttacks */
+	@Deprecated
+	public static final long[] knight = copy(AttackTables.KNIGHT);
+	/** @deprecated use getKingAttacks */
+	@Deprecated
+	public static final long[] king = copy(AttackTables.KING);
+	/** @deprecated use getPawnAttacks(index, false) */
+	@Deprecated
+	public static final long[] pawnDownwards = copy(AttackTables.PAWN_DOWNWARDS);
+	/** @deprecated use getPawnAttacks(index, true) */
+	@Deprecated
+	public static final long[] pawnUpwards = copy(AttackTables.PAWN_UPWARDS);
+	/**
+	 * Never assigned, as in Carballo: the magic tables are private.
+	 * @deprecated use getBishopAttacks or getBishopMagicAttacks
+	 */
+	@Deprecated
 	public static long[][] bishopMagic;
-	public static long[] knight;
-	public static long[] king;
-	public static long[] pawnDownwards;
-	public static long[] pawnUpwards;
 
-	static {
-		init();
+	/**
+	 * Magic bitboard tables, built by the first switch to SLIDER_MAGIC
+	 */
+	private static class MagicTables {
+		static final long[][][] tables = generateMagics();
+		static final long[][] rook = tables[0];
+		static final long[][] bishop = tables[1];
+
+		static void load() {
+		}
+	}
+
+	/**
+	 * Compact tables, built by the first switch to SLIDER_COMPACT
+	 */
+	private static class CompactTables {
+		static final char[] index = new char[COMPACT_TABLE_SIZE];
+		static final long[] attacks = generateCompactMagics(index);
+
+		static void load() {
+		}
+	}
+
+	/**
+	 * Implementation of the per square queries. The javascript build
+	 * gets a 32 bits one through deferred binding (see carballo.gwt.xml)
+	 */
+	private static final BitboardAttacksImpl impl = BitboardAttacksImplFactory.create();
+
+	private static long[] copy(long[] table) {
+		long[] result = new long[table.length];
+		System.arraycopy(table, 0, result, 0, table.length);
+		return result;
 	}
 
 	static long squareAttackedAux(long square, int shift, long border) {
@@ -78,42 +166,55 @@ public class BitboardAttacks {
 		return ret;
 	}
 	
+	/**
+	 * Computes the attack tables, as Carballo does. The lookups read
+	 * AttackTables, so the result is dropped: kept with its original
+	 * signature for the classes compiled against it
+	 */
 	public static void generateAttacks() {
+		computeAttackTables();
+	}
+
+	/**
+	 * Computes the attack tables (the source of AttackTables)
+	 * @return
+	 * knight, king, pawnUpwards, pawnDownwards, rook, rookMask, bishop
+	 * and bishopMask attacks, in that order
+	 */
+	public static long[][] computeAttackTables() {
 		logger.debug("Generating attack tables...");
 		long time1 = System.currentTimeMillis();
-//		rook = new long[64];
-//		rookMask = new long[64];
-//		rookMagic = new long[64][];
-//		bishop = new long[64];
-//		bishopMask = new long[64];
-		bishopMagic = new long[64][];
-		knight = new long[64];
-		king = new long[64];
-		pawnDownwards = new long[64];
-		pawnUpwards = new long[64];
+		long[] rook = new long[64];
+		long[] rookMask = new long[64];
+		long[] bishop = new long[64];
+		long[] bishopMask = new long[64];
+		long[] knight = new long[64];
+		long[] king = new long[64];
+		long[] pawnDownwards = new long[64];
+		long[] pawnUpwards = new long[64];
 
 		long square = 1;
 		byte i = 0;
 		while (square != 0) {
-//			rook[i] = squareAttackedAuxSlider(square, +8, BitboardUtils.b_u)
-//					| squareAttackedAuxSlider(square, -8, BitboardUtils.b_d)
-//					| squareAttackedAuxSlider(square, -1, BitboardUtils.b_r)
-//					| squareAttackedAuxSlider(square, +1, BitboardUtils.b_l);
-//
-//			rookMask[i] = squareAttackedAuxSliderMask(square, +8, BitboardUtils.b_u)
-//					| squareAttackedAuxSliderMask(square, -8, BitboardUtils.b_d)
-//					| squareAttackedAuxSliderMask(square, -1, BitboardUtils.b_r)
-//					| squareAttackedAuxSliderMask(square, +1, BitboardUtils.b_l);
-//
-//			bishop[i] = squareAttackedAuxSlider(square, +9, BitboardUtils.b_u | BitboardUtils.b_l) 
-//					| squareAttackedAuxSlider(square, +7, BitboardUtils.b_u | BitboardUtils.b_r)
-//					| squareAttackedAuxSlider(square, -7, BitboardUtils.b_d | BitboardUtils.b_l)
-//					| squareAttackedAuxSlider(square, -9, BitboardUtils.b_d | BitboardUtils.b_r);
-//			
-//			bishopMask[i] = squareAttackedAuxSliderMask(square, +9, BitboardUtils.b_u | BitboardUtils.b_l) 
-//					| squareAttackedAuxSliderMask(square, +7, BitboardUtils.b_u | BitboardUtils.b_r)
-//					| squareAttackedAuxSliderMask(square, -7, BitboardUtils.b_d | BitboardUtils.b_l)
-//					| squareAttackedAuxSliderMask(square, -9, BitboardUtils.b_d | BitboardUtils.b_r);
+			rook[i] = squareAttackedAuxSlider(square, +8, BitboardUtils.b_u)
+					| squareAttackedAuxSlider(square, -8, BitboardUtils.b_d)
+					| squareAttackedAuxSlider(square, -1, BitboardUtils.b_r)
+					| squareAttackedAuxSlider(square, +1, BitboardUtils.b_l);
+
+			rookMask[i] = squareAttackedAuxSliderMask(square, +8, BitboardUtils.b_u)
+					| squareAttackedAuxSliderMask(square, -8, BitboardUtils.b_d)
+					| squareAttackedAuxSliderMask(square, -1, BitboardUtils.b_r)
+					| squareAttackedAuxSliderMask(square, +1, BitboardUtils.b_l);
+
+			bishop[i] = squareAttackedAuxSlider(square, +9, BitboardUtils.b_u | BitboardUtils.b_l) 
+					| squareAttackedAuxSlider(square, +7, BitboardUtils.b_u | BitboardUtils.b_r)
+					| squareAttackedAuxSlider(square, -7, BitboardUtils.b_d | BitboardUtils.b_l)
+					| squareAttackedAuxSlider(square, -9, BitboardUtils.b_d | BitboardUtils.b_r);
+			
+			bishopMask[i] = squareAttackedAuxSliderMask(square, +9, BitboardUtils.b_u | BitboardUtils.b_l) 
+					| squareAttackedAuxSliderMask(square, +7, BitboardUtils.b_u | BitboardUtils.b_r)
+					| squareAttackedAuxSliderMask(square, -7, BitboardUtils.b_d | BitboardUtils.b_l)
+					| squareAttackedAuxSliderMask(square, -9, BitboardUtils.b_d | BitboardUtils.b_r);
 
 			knight[i] = squareAttackedAux(square, +17, BitboardUtils.b2_u | BitboardUtils.b_l)
 					| squareAttackedAux(square, +15, BitboardUtils.b2_u | BitboardUtils.b_r)
@@ -139,67 +240,138 @@ public class BitboardAttacks {
 					| squareAttackedAux(square, -7, BitboardUtils.b_d | BitboardUtils.b_l)
 					| squareAttackedAux(square, -9, BitboardUtils.b_d | BitboardUtils.b_r);
 
-//			// And now generate magics			
-//			int rookPositions = (1 << rookShiftBits[i]);
-//			rookMagic[i] = new long[rookPositions];
-//		    for (int j = 0; j < rookPositions; j++) {
-//		      long pieces = BitboardAttacks.generatePieces(j, rookShiftBits[i], rookMask[i]);
-//		      int magicIndex = magicTransform(pieces, rookMagicNumber[i], rookShiftBits[i]);
-//		      rookMagic[i][magicIndex] = getRookShiftAttacks(square, pieces);
-//		    }
-			
-//			int bishopPositions = (1 << bishopShiftBits[i]);
-//			bishopMagic[i] = new long[bishopPositions];
-//		    for (int j = 0; j < bishopPositions; j++) {
-//		      long pieces = BitboardAttacks.generatePieces(j, bishopShiftBits[i], bishopMask[i]);
-//		      int magicIndex = magicTransform(pieces, bishopMagicNumber[i], bishopShiftBits[i]);
-//		      bishopMagic[i][magicIndex] = getBishopShiftAttacks(square, pieces);
-//		    }
-		    
 			square <<= 1;
 			i++;
 		}
 		long time2 = System.currentTimeMillis();
-		initialized = true;
 		logger.debug("Generated attack tables in " + (time2-time1) + "ms");
+		return new long[][] {knight, king, pawnUpwards, pawnDownwards, rook, rookMask, bishop, bishopMask};
+	}
+
+	/**
+	 * Computes the magic bitboard lookup tables for rooks and bishops
+	 * from the shift attacks
+	 * @return
+	 * the rook and the bishop tables
+	 */
+	public static long[][][] generateMagics() {
+		logger.debug("Generating magic tables...");
+		long time1 = System.currentTimeMillis();
+		long[][] rookTables = new long[64][];
+		long[][] bishopTables = new long[64][];
+		long square = 1;
+		byte i = 0;
+		while (square != 0) {
+			int rookPositions = (1 << rookShiftBits[i]);
+			rookTables[i] = new long[rookPositions];
+			for (int j = 0; j < rookPositions; j++) {
+				long pieces = generatePieces(j, rookShiftBits[i], AttackTables.ROOK_MASK[i]);
+				int magicIndex = magicTransform(pieces, rookMagicNumber[i], rookShiftBits[i]);
+				rookTables[i][magicIndex] = getRookShiftAttacks(square, pieces);
+			}
+
+			int bishopPositions = (1 << bishopShiftBits[i]);
+			bishopTables[i] = new long[bishopPositions];
+			for (int j = 0; j < bishopPositions; j++) {
+				long pieces = generatePieces(j, bishopShiftBits[i], AttackTables.BISHOP_MASK[i]);
+				int magicIndex = magicTransform(pieces, bishopMagicNumber[i], bishopShiftBits[i]);
+				bishopTables[i][magicIndex] = getBishopShiftAttacks(square, pieces);
+			}
+			square <<= 1;
+			i++;
+		}
+		long time2 = System.currentTimeMillis();
+		logger.debug("Generated magic tables in " + (time2-time1) + "ms");
+		return new long[][][] {rookTables, bishopTables};
 	}
-	
-//	public static void loadAttacks() throws IOException, ClassNotFoundException {
-//		logger.debug("Loading attack tables...");
-//		long time1 = System.currentTimeMillis();
-//		ObjectInputStream oo = new ObjectInputStream(BitboardAttacks.class.getResourceAsStream("/attacks.bin"));
-//		rook = (long[]) oo.readObject();
-//		rookMask = (long[]) oo.readObject();
-//		rookMagic = (long[][]) oo.readObject();
-//		bishop = (long[]) oo.readObject();
-//		bishopMask = (long[]) oo.readObject();
-//		bishopMagic = (long[][]) oo.readObject();
-//		knight = (long[]) oo.readObject();
-//		king = (long[]) oo.readObject();
-//		pawnDownwards = (long[]) oo.readObject();
-//		pawnUpwards = (long[]) oo.readObject();
-//		long time2 = System.currentTimeMillis();
-//		logger.debug("Loaded attacks table from file in " + (time2-time1) + "ms");
-//	}
 	
 	/**
-	 * Build/load attack tables
+	 * Computes the compact slider tables from the magics of CompactMagics.
+	 * Each distinct attack set is stored once and numbered in the order
+	 * it is met
+	 * @param index
+	 * filled with the attack set numbers, COMPACT_TABLE_SIZE entries
+	 * @return
+	 * the attack sets
+	 */
+	public static long[] generateCompactMagics(char[] index) {
+		logger.debug("Generating compact magic tables...");
+		long time1 = System.currentTimeMillis();
+		long[] attacks = new long[8192];
+		// Open addressing set of the attack sets found so far (attack sets are never empty)
+		long[] hashKeys = new long[16384];
+		char[] hashIds = new char[16384];
+		int count = 0;
+		for (int i = 0; i < 128; i++) {
+			boolean rook = i < 64;
+			int sq = i & 63;
+			long mask = rook ? AttackTables.ROOK_MASK[sq] : AttackTables.BISHOP_MASK[sq];
+			long magic = rook ? CompactMagics.ROOK_MAGIC[sq] : CompactMagics.BISHOP_MAGIC[sq];
+			int offset = rook ? CompactMagics.ROOK_OFFSET[sq] : CompactMagics.BISHOP_OFFSET[sq];
+			int shift = 64 - (rook ? COMPACT_ROOK_BITS : COMPACT_BISHOP_BITS);
+			int bits = Long.bitCount(mask);
+			for (int j = 0; j < (1 << bits); j++) {
+				long pieces = generatePieces(j, bits, mask);
+				long attack = rook ? getRookShiftAttacks(1L << sq, pieces) : getBishopShiftAttacks(1L << sq, pieces);
+				int h = (int) ((attack * 0x9E3779B97F4A7C15L) >>> 50);
+				while (hashKeys[h] != 0 && hashKeys[h] != attack) {
+					h = (h + 1) & 16383;
+				}
+				if (hashKeys[h] == 0) {
+					hashKeys[h] = attack;
+					hashIds[h] = (char) count;
+					attacks[count++] = attack;
+				}
+				int position = offset + (int) (((pieces | ~mask) * magic) >>> shift);
+				// Offsets may be negative (ROOK_OFFSET[0] is), but not below the lowest index of the square
+				if (position < 0) {
+					throw new IllegalStateException("Negative compact index for " + (rook ? "rook" : "bishop") + " square " + sq);
+				}
+				index[position] = hashIds[h];
+			}
+		}
+		long[] compact = new long[count];
+		System.arraycopy(attacks, 0, compact, 0, count);
+		long time2 = System.currentTimeMillis();
+		logger.debug("Generated compact magic tables (" + (index.length * 2 + count * 8) + " bytes) in " + (time2-time1) + "ms");
+		return compact;
+	}
+
+	/**
+	 * The attack tables are ready once the class is initialized: nothing
+	 * to do. Kept for the Carballo classes which call it
 	 */
 	public static void init() {
-//		boolean loaded = false;
-		// It's slower to load attacks from file in many devices (like Android) but may be necesary on GWT
-//		try {
-//			loadAttacks();
-//			loaded = true;
-//		} catch (IOException e) {
-//			e.printStackTrace();
-//		} catch (ClassNotFoundException e) {
-//			e.printStackTrace();
-//		}
-		if (initialized) return;
-		generateAttacks();
+	}
+
+	/**
+	 * Nothing to load: the tables are compiled in AttackTables
+	 * @deprecated the tables are ready once the class is initialized
+	 */
+	@Deprecated
+	public static void loadAttacks() {
 	}
 	
+	/**
+	 * Selects how slider attacks are computed. Switching to SLIDER_MAGIC
+	 * or SLIDER_COMPACT generates the tables on first use
+	 * @param mode
+	 * SLIDER_SHIFT, SLIDER_MAGIC or SLIDER_COMPACT
+	 */
+	public static void setSliderMode(int mode) {
+		// The tables are built before the mode is published
+		if (mode == SLIDER_MAGIC) {
+			MagicTables.load();
+		} else if (mode == SLIDER_COMPACT) {
+			CompactTables.load();
+		}
+		sliderMode = mode;
+	}
+
+	public static int getSliderMode() {
+		return sliderMode;
+	}
+
 	/**
 	 * Discover attacks to squares using magics: expensive version
 	 */
@@ -211,54 +383,106 @@ public class BitboardAttacks {
 	 * Discover attacks to squares using magics: cheap version
 	 */
 	public static boolean isIndexAttacked(Board board, byte index, boolean white) {
-		if (index < 0 || index > 63) return false;
-		long others = (white ? board.blacks : board.whites);
-		long all = board.getAll();
-		
-		if (((white ? BitboardAttacks.pawnUpwards[index] : BitboardAttacks.pawnDownwards[index]) & board.pawns & others) != 0) return true;
-		if ((BitboardAttacks.king[index] & board.kings & others) != 0) return true; 
-		if ((BitboardAttacks.knight[index] & board.knights & others) != 0) return true; 
-		if ((getRookAttacks(index, all) & (board.rooks | board.queens) & others) != 0) return true;
-		if ((getBishopAttacks(index, all) & (board.bishops | board.queens) & others) != 0) return true;
-		return false;
+		return impl.isIndexAttacked(board, index, white);
+	}
+
+	/**
+	 * Same as isIndexAttacked, answered from the AttackMap of the caller,
+	 * which pays off when many squares of the same position are tested
+	 * @param map
+	 * the cache owned with the board, or null to compute the query
+	 */
+	public static boolean isIndexAttacked(Board board, byte index, boolean white, AttackMap map) {
+		return map != null ? map.isIndexAttacked(board, index, white) : impl.isIndexAttacked(board, index, white);
 	}
 
 	/**
 	 * Discover attacks to squares using magics: cheap version
 	 */
 	public static long getIndexAttacks(Board board, int index) {
-		if (index < 0 || index > 63) return 0;
-		long all = board.getAll();
-		
-		return ((board.blacks & BitboardAttacks.pawnUpwards[index] | board.whites & BitboardAttacks.pawnDownwards[index]) & board.pawns) |
-		(BitboardAttacks.king[index] & board.kings) |
-		(BitboardAttacks.knight[index] & board.knights) |
-		(getRookAttacks(index, all) & (board.rooks | board.queens)) |
-		(getBishopAttacks(index, all) & (board.bishops | board.queens));
+		return impl.getIndexAttacks(board, index);
 	}
 
 	public static long getXrayAttacks(Board board, int index, long all) {
-		if (index < 0 || index > 63) return 0;
-	
-		return ((getRookAttacks(index, all) & (board.rooks | board.queens)) |
-		(getBishopAttacks(index, all) & (board.bishops | board.queens))) & all;
+		return impl.getXrayAttacks(board, index, all);
 	}
 	
 	/**
 	 * Magic! attacks, very fast method
 	 */
 	public static long getRookAttacks(int index, long all) {
-		return getRookShiftAttacks(BitboardUtils.index2Square((byte) index), all);
-//		int i = magicTransform(all & rookMask[index], rookMagicNumber[index], rookShiftBits[index]);
-//		return rookMagic[index][i];
+		return impl.getRookAttacks(index, all);
 	}
 	
 	public static long getBishopAttacks(int index, long all) {
-		return getBishopShiftAttacks(BitboardUtils.index2Square((byte) index), all);
-//		int i = magicTransform(all & bishopMask[index], bishopMagicNumber[index], bishopShiftBits[index]);
-//		return bishopMagic[index][i];
+		return impl.getBishopAttacks(index, all);
+	}
+
+	public static long getKnightAttacks(int index) {
+		return AttackTables.KNIGHT[index];
+	}
+
+	public static long getKingAttacks(int index) {
+		return AttackTables.KING[index];
+	}
+
+	/**
+	 * @param white
+	 * true for the squares attacked by a white pawn
+	 */
+	public static long getPawnAttacks(int index, boolean white) {
+		return white ? AttackTables.PAWN_UPWARDS[index] : AttackTables.PAWN_DOWNWARDS[index];
+	}
+
+	/**
+	 * Rook attacks on an empty board
+	 */
+	public static long getRookEmptyAttacks(int index) {
+		return AttackTables.ROOK[index];
+	}
+
+	public static long getBishopEmptyAttacks(int index) {
+		return AttackTables.BISHOP[index];
+	}
+
+	/**
+	 * Relevant occupancy of the rook magics: the empty board attacks
+	 * without the last square of each ray
+	 */
+	public static long getRookMask(int index) {
+		return AttackTables.ROOK_MASK[index];
+	}
+
+	public static long getBishopMask(int index) {
+		return AttackTables.BISHOP_MASK[index];
+	}
+
+	/**
+	 * Magic bitboard lookups. Only valid in SLIDER_MAGIC mode
+	 */
+	public static long getRookMagicAttacks(int index, long all) {
+		int i = magicTransform(all & AttackTables.ROOK_MASK[index], rookMagicNumber[index], rookShiftBits[index]);
+		return MagicTables.rook[index][i];
+	}
+
+	public static long getBishopMagicAttacks(int index, long all) {
+		int i = magicTransform(all & AttackTables.BISHOP_MASK[index], bishopMagicNumber[index], bishopShiftBits[index]);
+		return MagicTables.bishop[index][i];
 	}
 	
+	/**
+	 * Compact table lookups. Only valid in SLIDER_COMPACT mode
+	 */
+	public static long getRookCompactAttacks(int index, long all) {
+		return CompactTables.attacks[CompactTables.index[CompactMagics.ROOK_OFFSET[index]
+				+ (int) (((all | ~AttackTables.ROOK_MASK[index]) * CompactMagics.ROOK_MAGIC[index]) >>> (64 - COMPACT_ROOK_BITS))]];
+	}
+
+	public static long getBishopCompactAttacks(int index, long all) {
+		return CompactTables.attacks[CompactTables.index[CompactMagics.BISHOP_OFFSET[index]
+				+ (int) (((all | ~AttackTables.BISHOP_MASK[index]) * CompactMagics.BISHOP_MAGIC[index]) >>> (64 - COMPACT_BISHOP_BITS))]];
+	}
+
 	public static int magicTransform(long b, long magic, byte bits) {
 		  return (int)((b * magic) >>> (64 - bits));
 	}
@@ -280,6 +504,201 @@ public class BitboardAttacks {
 		  return result;
 	}
 	
+	/**
+	 * between[a][b]: squares strictly between a and b, line[a][b]: the whole
+	 * line through a and b (edge to edge). Both are 0 when a and b are not
+	 * on the same rank, file or diagonal. Built on first use (64 KB).
+	 */
+	private static class Lines {
+		static final long[][] between = new long[64][64];
+		static final long[][] line = new long[64][64];
+		static {
+			int[] shifts = {+8, -8, +1, -1, +9, -9, +7, -7};
+			long[] borders = {
+				BitboardUtils.b_u, BitboardUtils.b_d, BitboardUtils.b_l, BitboardUtils.b_r,
+				BitboardUtils.b_u | BitboardUtils.b_l, BitboardUtils.b_d | BitboardUtils.b_r,
+				BitboardUtils.b_u | BitboardUtils.b_r, BitboardUtils.b_d | BitboardUtils.b_l
+			};
+			for (int a = 0; a < 64; a++) {
+				long origin = 1L << a;
+				for (int d = 0; d < 8; d++) {
+					// Directions come in opposite pairs
+					long full = origin | squareAttackedAuxSlider(origin, shifts[d], borders[d]) | squareAttackedAuxSlider(origin, shifts[d ^ 1], borders[d ^ 1]);
+					long square = origin;
+					long ray = 0;
+					while ((square & borders[d]) == 0) {
+						if (shifts[d] > 0) square <<= shifts[d]; else square >>>= -shifts[d];
+						int b = Long.numberOfTrailingZeros(square);
+						between[a][b] = ray;
+						line[a][b] = full;
+						ray |= square;
+					}
+				}
+			}
+		}
+	}
+
+	public static long getBetween(int a, int b) {
+		return Lines.between[a][b];
+	}
+
+	public static long getLine(int a, int b) {
+		return Lines.line[a][b];
+	}
+
+	/**
+	 * Pieces giving check to the king of one side (none without king)
+	 * @param white
+	 * true for the checkers of the white king
+	 */
+	public static long getCheckers(Board board, boolean white) {
+		long mines = white ? board.whites : board.blacks;
+		long kingSquare = board.kings & mines;
+		if (kingSquare == 0) {
+			return 0;
+		}
+		int kingIndex = Long.numberOfTrailingZeros(kingSquare);
+		return impl.getIndexAttacks(board, kingIndex) & ~mines;
+	}
+
+	/**
+	 * Pieces of one side which cannot leave the line between their
+	 * king and an enemy slider (none without king)
+	 * @param white
+	 * true for the pinned white pieces
+	 */
+	public static long getPinned(Board board, boolean white) {
+		long mines = white ? board.whites : board.blacks;
+		long others = white ? board.blacks : board.whites;
+		long all = mines | others;
+		long kingSquare = board.kings & mines;
+		if (kingSquare == 0) {
+			return 0;
+		}
+		int kingIndex = Long.numberOfTrailingZeros(kingSquare);
+		long snipers = ((AttackTables.ROOK[kingIndex] & (board.rooks | board.queens)) | (AttackTables.BISHOP[kingIndex] & (board.bishops | board.queens))) & others;
+		long pinned = 0;
+		while (snipers != 0) {
+			int sniperIndex = Long.numberOfTrailingZeros(snipers);
+			long blockers = Lines.between[kingIndex][sniperIndex] & all;
+			if (blockers != 0 && (blockers & (blockers - 1)) == 0) {
+				pinned |= blockers & mines;
+			}
+			snipers &= snipers - 1;
+		}
+		return pinned;
+	}
+
+	/**
+	 * The squares a pinned piece may move to
+	 */
+	public static long getPinRay(int kingIndex, int pinnedIndex) {
+		return Lines.line[kingIndex][pinnedIndex];
+	}
+
+	/**
+	 * The squares where a non king piece has to move to get out of check:
+	 * all the squares when not in check, the checker and the squares between
+	 * it and the king when in single check, none in double check
+	 * @param checkers
+	 * as returned by getCheckers
+	 */
+	public static long getEvasionMask(int kingIndex, long checkers) {
+		if (checkers == 0) {
+			return -1L;
+		}
+		if ((checkers & (checkers - 1)) != 0) {
+			return 0;
+		}
+		return checkers | Lines.between[kingIndex][Long.numberOfTrailingZeros(checkers)];
+	}
+
+	/**
+	 * Set-wise attacks: the squares attacked by all the pieces of a bitboard
+	 * at once, computed with Kogge-Stone occluded fills. The cost does not
+	 * depend on the number of pieces
+	 */
+	public static long getRookSetAttacks(long rooks, long all) {
+		long empty = ~all;
+		return slideAttacks(rooks, empty, +8, -1L) |
+			slideAttacks(rooks, empty, -8, -1L) |
+			slideAttacks(rooks, empty, +1, ~BitboardUtils.b_r) |
+			slideAttacks(rooks, empty, -1, ~BitboardUtils.b_l);
+	}
+
+	public static long getBishopSetAttacks(long bishops, long all) {
+		long empty = ~all;
+		return slideAttacks(bishops, empty, +9, ~BitboardUtils.b_r) |
+			slideAttacks(bishops, empty, +7, ~BitboardUtils.b_l) |
+			slideAttacks(bishops, empty, -7, ~BitboardUtils.b_r) |
+			slideAttacks(bishops, empty, -9, ~BitboardUtils.b_l);
+	}
+
+	public static long getQueenSetAttacks(long queens, long all) {
+		return getRookSetAttacks(queens, all) | getBishopSetAttacks(queens, all);
+	}
+
+	public static long getKnightSetAttacks(long knights) {
+		return (knights << 17 & ~BitboardUtils.b_r) |
+			(knights << 15 & ~BitboardUtils.b_l) |
+			(knights << 10 & ~BitboardUtils.b2_r) |
+			(knights << 6 & ~BitboardUtils.b2_l) |
+			(knights >>> 6 & ~BitboardUtils.b2_r) |
+			(knights >>> 10 & ~BitboardUtils.b2_l) |
+			(knights >>> 15 & ~BitboardUtils.b_r) |
+			(knights >>> 17 & ~BitboardUtils.b_l);
+	}
+
+	public static long getKingSetAttacks(long kings) {
+		long sides = (kings << 1 & ~BitboardUtils.b_r) | (kings >>> 1 & ~BitboardUtils.b_l);
+		long row = kings | sides;
+		return sides | row << 8 | row >>> 8;
+	}
+
+	/**
+	 * @param white
+	 * true for white pawns (attacking upwards)
+	 */
+	public static long getPawnSetAttacks(long pawns, boolean white) {
+		return white ? (pawns << 9 & ~BitboardUtils.b_r) | (pawns << 7 & ~BitboardUtils.b_l)
+				: (pawns >>> 7 & ~BitboardUtils.b_r) | (pawns >>> 9 & ~BitboardUtils.b_l);
+	}
+
+	/**
+	 * All the squares attacked by one side
+	 * @param white
+	 * true for the squares attacked by the whites
+	 */
+	public static long getSideAttacks(Board board, boolean white) {
+		long mines = white ? board.whites : board.blacks;
+		long all = board.getAll();
+		return getPawnSetAttacks(board.pawns & mines, white) |
+			getKnightSetAttacks(board.knights & mines) |
+			getKingSetAttacks(board.kings & mines) |
+			getRookSetAttacks((board.rooks | board.queens) & mines, all) |
+			getBishopSetAttacks((board.bishops | board.queens) & mines, all);
+	}
+
+	/**
+	 * Kogge-Stone occluded fill of the sliders in gen along one direction,
+	 * shifted once more to get the attacked squares (blockers included)
+	 * @param destMask
+	 * squares which can be reached with this shift without wrapping around the board
+	 */
+	private static long slideAttacks(long gen, long empty, int shift, long destMask) {
+		long pro = empty & destMask;
+		gen |= pro & shiftBits(gen, shift);
+		pro &= shiftBits(pro, shift);
+		gen |= pro & shiftBits(gen, 2 * shift);
+		pro &= shiftBits(pro, 2 * shift);
+		gen |= pro & shiftBits(gen, 4 * shift);
+		return shiftBits(gen, shift) & destMask;
+	}
+
+	private static long shiftBits(long b, int shift) {
+		return shift > 0 ? b << shift : b >>> -shift;
+	}
+
 	/** 
 	 * without magic bitboards, too expensive, but neccesary for magic generation
 	 */
@@ -0,0 +1,65 @@
+package com.alonsoruibal.chess.bitboard;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Per square attack queries behind the static methods of BitboardAttacks.
+ * This default implementation works on 64 bits bitboards and is the one
+ * used on the JVM. The javascript build replaces it through deferred
+ * binding (see carballo.gwt.xml)
+ */
+public class BitboardAttacksImpl {
+
+	public boolean isIndexAttacked(Board board, int index, boolean white) {
+		if (index < 0 || index > 63) return false;
+		long others = (white ? board.blacks : board.whites);
+		long all = board.getAll();
+
+		if (((white ? AttackTables.PAWN_UPWARDS[index] : AttackTables.PAWN_DOWNWARDS[index]) & board.pawns & others) != 0) return true;
+		if ((AttackTables.KING[index] & board.kings & others) != 0) return true;
+		if ((AttackTables.KNIGHT[index] & board.knights & others) != 0) return true;
+		if ((getRookAttacks(index, all) & (board.rooks | board.queens) & others) != 0) return true;
+		if ((getBishopAttacks(index, all) & (board.bishops | board.queens) & others) != 0) return true;
+		return false;
+	}
+
+	public long getIndexAttacks(Board board, int index) {
+		if (index < 0 || index > 63) return 0;
+		long all = board.getAll();
+
+		return ((board.blacks & AttackTables.PAWN_UPWARDS[index] | board.whites & AttackTables.PAWN_DOWNWARDS[index]) & board.pawns) |
+		(AttackTables.KING[index] & board.kings) |
+		(AttackTables.KNIGHT[index] & board.knights) |
+		(getRookAttacks(index, all) & (board.rooks | board.queens)) |
+		(getBishopAttacks(index, all) & (board.bishops | board.queens));
+	}
+
+	public long getXrayAttacks(Board board, int index, long all) {
+		if (index < 0 || index > 63) return 0;
+
+		return ((getRookAttacks(index, all) & (board.rooks | board.queens)) |
+		(getBishopAttacks(index, all) & (board.bishops | board.queens))) & all;
+	}
+
+	public long getRookAttacks(int index, long all) {
+		int mode = BitboardAttacks.getSliderMode();
+		if (mode == BitboardAttacks.SLIDER_MAGIC) {
+			return BitboardAttacks.getRookMagicAttacks(index, all);
+		}
+		if (mode == BitboardAttacks.SLIDER_COMPACT) {
+			return BitboardAttacks.getRookCompactAttacks(index, all);
+		}
+		return BitboardAttacks.getRookShiftAttacks(BitboardUtils.index2Square((byte) index), all);
+	}
+
+	public long getBishopAttacks(int index, long all) {
+		int mode = BitboardAttacks.getSliderMode();
+		if (mode == BitboardAttacks.SLIDER_MAGIC) {
+			return BitboardAttacks.getBishopMagicAttacks(index, all);
+		}
+		if (mode == BitboardAttacks.SLIDER_COMPACT) {
+			return BitboardAttacks.getBishopCompactAttacks(index, all);
+		}
+		return BitboardAttacks.getBishopShiftAttacks(BitboardUtils.index2Square((byte) index), all);
+	}
+}
@@ -0,0 +1,16 @@
+package com.alonsoruibal.chess.bitboard;
+
+/**
+ * Creates the BitboardAttacksImpl used by BitboardAttacks. This is the
+ * JVM version, which does not depend on GWT. The javascript build
+ * replaces this class with the super-source version of carballo.gwt.xml,
+ * which lets deferred binding choose the implementation.
+ */
+final class BitboardAttacksImplFactory {
+	private BitboardAttacksImplFactory() {
+	}
+
+	static BitboardAttacksImpl create() {
+		return new BitboardAttacksImpl();
+	}
+}
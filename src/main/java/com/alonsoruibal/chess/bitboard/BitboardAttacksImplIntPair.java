@@ -0,0 +1,188 @@
+package com.alonsoruibal.chess.bitboard;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Attack queries for the javascript build. GWT emulates java longs
+ * with objects, so every operation on a bitboard is a function call.
+ * This implementation splits each bitboard once into two 32 bits
+ * halves (hi: ranks 5-8, lo: ranks 1-4) and does all the remaining
+ * work, including the walks along the slider rays, with native ints.
+ * The slider mode of BitboardAttacks is ignored: magic lookups need
+ * 64 bits multiplications.
+ */
+public class BitboardAttacksImplIntPair extends BitboardAttacksImpl {
+	/**
+	 * Rank and file steps of the rook and bishop rays. File 0 is the
+	 * h-file, like the bit order of the bitboards
+	 */
+	private static final int[] ROOK_FILE_STEPS = {0, 0, 1, -1};
+	private static final int[] ROOK_RANK_STEPS = {1, -1, 0, 0};
+	private static final int[] BISHOP_FILE_STEPS = {1, -1, 1, -1};
+	private static final int[] BISHOP_RANK_STEPS = {1, 1, -1, -1};
+
+	/**
+	 * Ray walk accumulators of the last call to walk()
+	 */
+	private int rayHi;
+	private int rayLo;
+
+	private static int hi(long bitboard) {
+		return (int) (bitboard >>> 32);
+	}
+
+	private static int lo(long bitboard) {
+		return (int) bitboard;
+	}
+
+	private static long toLong(int hi, int lo) {
+		return ((long) hi << 32) | (lo & 0xffffffffL);
+	}
+
+	private static boolean test(int hi, int lo, int index) {
+		return index < 32 ? ((lo >>> index) & 1) != 0 : ((hi >>> (index - 32)) & 1) != 0;
+	}
+
+	/**
+	 * Returns the index of the first occupied square along a ray, or -1
+	 */
+	private static int firstBlocker(int index, int fileStep, int rankStep, int allHi, int allLo) {
+		int file = (index & 7) + fileStep;
+		int rank = (index >> 3) + rankStep;
+		while (file >= 0 && file <= 7 && rank >= 0 && rank <= 7) {
+			int i = (rank << 3) | file;
+			if (test(allHi, allLo, i)) {
+				return i;
+			}
+			file += fileStep;
+			rank += rankStep;
+		}
+		return -1;
+	}
+
+	/**
+	 * Sets rayHi/rayLo to the squares attacked by a slider along the
+	 * given rays, up to and including the first blocker
+	 */
+	private void walk(int index, int[] fileSteps, int[] rankSteps, int allHi, int allLo) {
+		int resultHi = 0;
+		int resultLo = 0;
+		for (int d = 0; d < 4; d++) {
+			int file = (index & 7) + fileSteps[d];
+			int rank = (index >> 3) + rankSteps[d];
+			while (file >= 0 && file <= 7 && rank >= 0 && rank <= 7) {
+				int i = (rank << 3) | file;
+				if (i < 32) {
+					resultLo |= 1 << i;
+				} else {
+					resultHi |= 1 << (i - 32);
+				}
+				if (test(allHi, allLo, i)) {
+					break;
+				}
+				file += fileSteps[d];
+				rank += rankSteps[d];
+			}
+		}
+		rayHi = resultHi;
+		rayLo = resultLo;
+	}
+
+	@Override
+	public boolean isIndexAttacked(Board board, int index, boolean white) {
+		if (index < 0 || index > 63) return false;
+		long others = white ? board.blacks : board.whites;
+		int othersHi = hi(others);
+		int othersLo = lo(others);
+
+		int[] pawnHi = white ? AttackTables.PAWN_UPWARDS_HI : AttackTables.PAWN_DOWNWARDS_HI;
+		int[] pawnLo = white ? AttackTables.PAWN_UPWARDS_LO : AttackTables.PAWN_DOWNWARDS_LO;
+		long pawns = board.pawns;
+		if (((pawnHi[index] & hi(pawns) & othersHi) | (pawnLo[index] & lo(pawns) & othersLo)) != 0) return true;
+		long kings = board.kings;
+		if (((AttackTables.KING_HI[index] & hi(kings) & othersHi) | (AttackTables.KING_LO[index] & lo(kings) & othersLo)) != 0) return true;
+		long knights = board.knights;
+		if (((AttackTables.KNIGHT_HI[index] & hi(knights) & othersHi) | (AttackTables.KNIGHT_LO[index] & lo(knights) & othersLo)) != 0) return true;
+
+		// Sliders: only the first piece met on each ray matters
+		long all = board.getAll();
+		int allHi = hi(all);
+		int allLo = lo(all);
+		long queens = board.queens;
+		long rooks = board.rooks | queens;
+		int rooksHi = hi(rooks) & othersHi;
+		int rooksLo = lo(rooks) & othersLo;
+		if ((rooksHi | rooksLo) != 0) {
+			for (int d = 0; d < 4; d++) {
+				int blocker = firstBlocker(index, ROOK_FILE_STEPS[d], ROOK_RANK_STEPS[d], allHi, allLo);
+				if (blocker >= 0 && test(rooksHi, rooksLo, blocker)) return true;
+			}
+		}
+		long bishops = board.bishops | queens;
+		int bishopsHi = hi(bishops) & othersHi;
+		int bishopsLo = lo(bishops) & othersLo;
+		if ((bishopsHi | bishopsLo) != 0) {
+			for (int d = 0; d < 4; d++) {
+				int blocker = firstBlocker(index, BISHOP_FILE_STEPS[d], BISHOP_RANK_STEPS[d], allHi, allLo);
+				if (blocker >= 0 && test(bishopsHi, bishopsLo, blocker)) return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public long getIndexAttacks(Board board, int index) {
+		if (index < 0 || index > 63) return 0;
+		int whitesHi = hi(board.whites);
+		int whitesLo = lo(board.whites);
+		int blacksHi = hi(board.blacks);
+		int blacksLo = lo(board.blacks);
+		int allHi = whitesHi | blacksHi;
+		int allLo = whitesLo | blacksLo;
+		int queensHi = hi(board.queens);
+		int queensLo = lo(board.queens);
+
+		int resultHi = (blacksHi & AttackTables.PAWN_UPWARDS_HI[index] | whitesHi & AttackTables.PAWN_DOWNWARDS_HI[index]) & hi(board.pawns)
+			| AttackTables.KING_HI[index] & hi(board.kings)
+			| AttackTables.KNIGHT_HI[index] & hi(board.knights);
+		int resultLo = (blacksLo & AttackTables.PAWN_UPWARDS_LO[index] | whitesLo & AttackTables.PAWN_DOWNWARDS_LO[index]) & lo(board.pawns)
+			| AttackTables.KING_LO[index] & lo(board.kings)
+			| AttackTables.KNIGHT_LO[index] & lo(board.knights);
+		walk(index, ROOK_FILE_STEPS, ROOK_RANK_STEPS, allHi, allLo);
+		resultHi |= rayHi & (hi(board.rooks) | queensHi);
+		resultLo |= rayLo & (lo(board.rooks) | queensLo);
+		walk(index, BISHOP_FILE_STEPS, BISHOP_RANK_STEPS, allHi, allLo);
+		resultHi |= rayHi & (hi(board.bishops) | queensHi);
+		resultLo |= rayLo & (lo(board.bishops) | queensLo);
+		return toLong(resultHi, resultLo);
+	}
+
+	@Override
+	public long getXrayAttacks(Board board, int index, long all) {
+		if (index < 0 || index > 63) return 0;
+		int allHi = hi(all);
+		int allLo = lo(all);
+		int queensHi = hi(board.queens);
+		int queensLo = lo(board.queens);
+
+		walk(index, ROOK_FILE_STEPS, ROOK_RANK_STEPS, allHi, allLo);
+		int resultHi = rayHi & (hi(board.rooks) | queensHi);
+		int resultLo = rayLo & (lo(board.rooks) | queensLo);
+		walk(index, BISHOP_FILE_STEPS, BISHOP_RANK_STEPS, allHi, allLo);
+		resultHi |= rayHi & (hi(board.bishops) | queensHi);
+		resultLo |= rayLo & (lo(board.bishops) | queensLo);
+		return toLong(resultHi & allHi, resultLo & allLo);
+	}
+
+	@Override
+	public long getRookAttacks(int index, long all) {
+		walk(index, ROOK_FILE_STEPS, ROOK_RANK_STEPS, hi(all), lo(all));
+		return toLong(rayHi, rayLo);
+	}
+
+	@Override
+	public long getBishopAttacks(int index, long all) {
+		walk(index, BISHOP_FILE_STEPS, BISHOP_RANK_STEPS, hi(all), lo(all));
+		return toLong(rayHi, rayLo);
+	}
+}
@@ -0,0 +1,49 @@
+package com.alonsoruibal.chess.bitboard;
+
+/**
+ * Fixed shift magics and offsets of the SLIDER_COMPACT tables.
+ * Generated by MagicNumbersGen, do not edit.
+ */
+final class CompactMagics {
+	static final int TABLE_SIZE = 110128;
+	static final long[] ROOK_MAGIC = {
+		0x2210011015080002L, 0x4020001000080020L, 0x40108040480004L, 0x40082044004022L, 0x40040040020003L, 0x20008020210210L, 0x40004000800100L, 0x52000040926c0002L,
+		0x104208210010L, 0x1100100008040010L, 0x400408004010L, 0x200202004000200L, 0x800200200200100L, 0x8100200080200100L, 0x180078400020L, 0x5800200820840041L,
+		0x40002000100020L, 0x4001000080010L, 0x808200040020L, 0x100100100802040L, 0x1012002001002002L, 0x4048004001000200L, 0x8030004040008001L, 0x280802000400020L,
+		0x40200010080008L, 0x2000080010040010L, 0x8304010008020008L, 0x2120020020040020L, 0x840020020200100L, 0x20010020200080L, 0x14400040008001L, 0x6040840020004020L,
+		0x40001000200024L, 0x88000400100010L, 0x410900400410L, 0x4080200200200400L, 0x200200200100L, 0x9d0200080200100L, 0x800008000404001L, 0x608802000200040L,
+		0x2000010b14002800L, 0x1190080201000400L, 0x400408004011L, 0x4000040002002020L, 0x200010002002020L, 0x8001002020L, 0x280400080004001L, 0x40080204010810L,
+		0x40200010080010L, 0x2000100008040010L, 0x2010008040008L, 0x8000200200040020L, 0x210010020020020L, 0x10020008020L, 0x10200040008020L, 0x3180001004048068L,
+		0x5500003024810446L, 0x810410a141L, 0x860401008802006L, 0x2330080440201002L, 0x2028841042L, 0x84000004083004c2L, 0x800000820885402L, 0x400000024400902aL
+	};
+	static final int[] ROOK_OFFSET = {
+		-2, 60293, 44894, 40694, 49025, 38612, 61319, 4089,
+		42794, 78079, 73708, 78863, 79983, 82943, 104368, 37870,
+		63367, 81903, 70316, 18277, 83184, 15321, 86002, 55210,
+		51075, 85487, 76829, 86529, 87155, 88049, 89072, 48511,
+		65415, 90103, 71468, 92151, 92143, 93324, 94319, 57315,
+		69424, 76039, 72684, 96239, 96271, 97263, 98327, 34342,
+		53125, 99823, 76783, 102383, 101392, 102383, 103408, 68247,
+		12261, 23813, 16283, 20104, 26374, 29773, 32362, 8178
+	};
+	static final long[] BISHOP_MAGIC = {
+		0x8802008101000802L, 0x401040102004L, 0x2081001020021008L, 0x40802004c01008L, 0x4220440195880000L, 0x4060200400800a00L, 0x60208040048001L, 0x4440108021000480L,
+		0x10004040802040L, 0x21004080084008L, 0x8608010008081100L, 0x9040008020040000L, 0x6070408004040410L, 0x560802004008411L, 0x9060201041000480L, 0x1040002011008009L,
+		0x4002200040410020L, 0x8400248200202021L, 0x2200480082008020L, 0x140100101002002L, 0x4060200100080440L, 0x1040400020080084L, 0x2048022010410040L, 0x2000024008208028L,
+		0x3002005002008020L, 0x404001001080L, 0x42010000204080L, 0x1040112440080L, 0x80100110100c001L, 0x2010801040404cL, 0x10c01040d0104008L, 0xc00040400104024L,
+		0x2040020218010040L, 0x8220410020808021L, 0x4800020108020010L, 0x2a0820080480280L, 0x4010090040040L, 0x401080204040L, 0x80801040b01008L, 0x8000400802802010L,
+		0x210400200720100L, 0x4c8004100280080L, 0x2110008082830140L, 0x200440802040040L, 0x820040100100L, 0x9010004100090040L, 0x4000802040040040L, 0x400820210404L,
+		0x80000210100b0c1L, 0xa000208040d000L, 0x80000000f808082L, 0x8701000080040a0L, 0x8044120100202004L, 0xd040010200101000L, 0x4010010101008L, 0x2501001080100483L,
+		0x100201000840169L, 0x50202000108080d0L, 0x9000002010108060L, 0x1800c288008084L, 0x804000001002020L, 0x104000401002008L, 0x451c020041002004L, 0x4801002200404004L
+	};
+	static final int[] BISHOP_OFFSET = {
+		23653, 28006, 28103, 28070, 23978, 24033, 23964, 23453,
+		28102, 28134, 28434, 28486, 23965, 24030, 24362, 24152,
+		29094, 29262, 18201, 18391, 18773, 18933, 29094, 29126,
+		29190, 29126, 19157, 31757, 108464, 19413, 29191, 29214,
+		24332, 29482, 19813, 108976, 109488, 22229, 31790, 107375,
+		27881, 27918, 23316, 22361, 22741, 23157, 107375, 107375,
+		24332, 24375, 11825, 24186, 107856, 108144, 107856, 109594,
+		23711, 24598, 31502, 24227, 109568, 109586, 109754, 28118
+	};
+}
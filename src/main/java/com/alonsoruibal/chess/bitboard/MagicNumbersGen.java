@@ -0,0 +1,376 @@
+package com.alonsoruibal.chess.bitboard;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Magic number finder for the SLIDER_COMPACT mode of BitboardAttacks.
+ * JVM only: excluded from the GWT module.
+ * <p>
+ * All the squares use the same shift (12 bits for rooks, 9 for bishops)
+ * and "black" magics: the index is ((occupancy | ~mask) * magic) &gt;&gt;&gt; shift.
+ * The magics are chosen so that each square only uses a narrow range of
+ * indices, and the ranges of the 128 rook and bishop squares are packed
+ * into one shared table, overlapping wherever the entries agree. The
+ * table stores attack set numbers (chars) instead of the attack sets,
+ * which are deduplicated in a separate long table.
+ * <p>
+ * The fixed shifts do not make the table smaller than the variable
+ * shift tables: the best packing found so far has 110,128 entries
+ * against 107,648. The memory is saved by the 16-bit entries.
+ * <p>
+ * The search runs on all the cores, for a number of rounds, and keeps the
+ * smallest packing found.
+ * <pre>
+ * MagicNumbersGen &lt;source directory&gt; [seconds]   writes CompactMagics.java
+ * MagicNumbersGen -verify                        checks CompactMagics
+ * </pre>
+ */
+public class MagicNumbersGen {
+	private static final int ROOK_BITS = BitboardAttacks.COMPACT_ROOK_BITS;
+	private static final int BISHOP_BITS = BitboardAttacks.COMPACT_BISHOP_BITS;
+	/**
+	 * Magics kept per square for the packing
+	 */
+	private static final int CANDIDATES = 16;
+	/**
+	 * Magics tried per square and round
+	 */
+	private static final int TRIES = 20000;
+
+	/**
+	 * A magic of one square, with the table slots it fills relative
+	 * to its lowest index
+	 */
+	static class Candidate {
+		long magic;
+		int min;
+		int span;
+		int[] slots;
+		int[] ids;
+	}
+
+	/**
+	 * One of the 128 (piece, square) tables to pack
+	 */
+	static class Square {
+		final int index;
+		final boolean rook;
+		final long mask;
+		final long[] occupancies;
+		final int[] ids;
+		final List<Candidate> candidates = new ArrayList<Candidate>();
+
+		Square(int index, boolean rook, Map<Long, Integer> attackIds) {
+			this.index = index;
+			this.rook = rook;
+			mask = rook ? AttackTables.ROOK_MASK[index] : AttackTables.BISHOP_MASK[index];
+			int bits = Long.bitCount(mask);
+			occupancies = new long[1 << bits];
+			ids = new int[1 << bits];
+			for (int j = 0; j < occupancies.length; j++) {
+				occupancies[j] = BitboardAttacks.generatePieces(j, bits, mask);
+				long attacks = rook ? BitboardAttacks.getRookShiftAttacks(1L << index, occupancies[j])
+						: BitboardAttacks.getBishopShiftAttacks(1L << index, occupancies[j]);
+				Integer id = attackIds.get(attacks);
+				if (id == null) {
+					id = attackIds.size();
+					attackIds.put(attacks, id);
+				}
+				ids[j] = id;
+			}
+		}
+
+		int shift() {
+			return 64 - (rook ? ROOK_BITS : BISHOP_BITS);
+		}
+
+		/**
+		 * @return
+		 * the candidate, or null if two different attack sets collide
+		 */
+		Candidate tryMagic(long magic, int[] table, int[] stamps, int stamp) {
+			int shift = shift();
+			int min = Integer.MAX_VALUE;
+			int max = -1;
+			for (int j = 0; j < occupancies.length; j++) {
+				int i = (int) (((occupancies[j] | ~mask) * magic) >>> shift);
+				if (stamps[i] == stamp) {
+					if (table[i] != ids[j]) {
+						return null;
+					}
+				} else {
+					stamps[i] = stamp;
+					table[i] = ids[j];
+					if (i < min) min = i;
+					if (i > max) max = i;
+				}
+			}
+			Candidate candidate = new Candidate();
+			candidate.magic = magic;
+			candidate.min = min;
+			candidate.span = max - min + 1;
+			int count = 0;
+			for (int i = min; i <= max; i++) {
+				if (stamps[i] == stamp) count++;
+			}
+			candidate.slots = new int[count];
+			candidate.ids = new int[count];
+			count = 0;
+			for (int i = min; i <= max; i++) {
+				if (stamps[i] == stamp) {
+					candidate.slots[count] = i - min;
+					candidate.ids[count++] = table[i];
+				}
+			}
+			return candidate;
+		}
+
+		/**
+		 * Tries random sparse magics, keeps the ones with the narrowest span
+		 */
+		void search(long seed, int tries) {
+			Random random = new Random(seed);
+			int size = 1 << (64 - shift());
+			int[] table = new int[size];
+			int[] stamps = new int[size];
+			// Squares with a full width mask need a perfect hash, keep on until one is found
+			for (int t = 1; t <= tries || candidates.isEmpty(); t++) {
+				long magic = random.nextLong() & random.nextLong() & random.nextLong();
+				Candidate candidate = tryMagic(magic, table, stamps, t);
+				if (candidate != null) {
+					add(candidate);
+				}
+			}
+		}
+
+		private void add(Candidate candidate) {
+			if (candidates.size() == CANDIDATES && candidate.span >= candidates.get(CANDIDATES - 1).span) {
+				return;
+			}
+			for (Candidate c : candidates) {
+				if (c.magic == candidate.magic) return;
+			}
+			candidates.add(candidate);
+			sortCandidates(candidates);
+			if (candidates.size() > CANDIDATES) {
+				candidates.remove(CANDIDATES);
+			}
+		}
+	}
+
+	private static void sortCandidates(List<Candidate> candidates) {
+		Collections.sort(candidates, new Comparator<Candidate>() {
+			public int compare(Candidate a, Candidate b) {
+				return a.span - b.span;
+			}
+		});
+	}
+
+	/**
+	 * Result of a packing: for each square the chosen magic and offset
+	 */
+	static class Packing {
+		long[] magics = new long[128];
+		int[] offsets = new int[128];
+		int size;
+	}
+
+	/**
+	 * Greedy packing: widest squares first, each at the lowest position
+	 * where its slots are free or hold the same attack set
+	 */
+	static Packing pack(Square[] squares) {
+		Square[] order = squares.clone();
+		Arrays.sort(order, new Comparator<Square>() {
+			public int compare(Square a, Square b) {
+				return b.candidates.get(0).span - a.candidates.get(0).span;
+			}
+		});
+		int capacity = 64 * (1 << ROOK_BITS) + 64 * (1 << BISHOP_BITS);
+		int[] table = new int[capacity];
+		Arrays.fill(table, -1);
+		Packing packing = new Packing();
+		for (Square square : order) {
+			Candidate best = null;
+			int bestPosition = 0;
+			for (Candidate candidate : square.candidates) {
+				int position = 0;
+				while (!fits(table, position, candidate)) {
+					position++;
+				}
+				if (best == null || position + candidate.span < bestPosition + best.span) {
+					best = candidate;
+					bestPosition = position;
+				}
+			}
+			for (int k = 0; k < best.slots.length; k++) {
+				table[bestPosition + best.slots[k]] = best.ids[k];
+			}
+			int n = (square.rook ? 0 : 64) + square.index;
+			packing.magics[n] = best.magic;
+			packing.offsets[n] = bestPosition - best.min;
+			packing.size = Math.max(packing.size, bestPosition + best.span);
+		}
+		return packing;
+	}
+
+	private static boolean fits(int[] table, int position, Candidate candidate) {
+		for (int k = 0; k < candidate.slots.length; k++) {
+			int value = table[position + candidate.slots[k]];
+			if (value != -1 && value != candidate.ids[k]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public static void main(String[] args) throws Exception {
+		if (args.length < 1) {
+			throw new IllegalArgumentException("Usage: MagicNumbersGen <source directory> [seconds] | -verify");
+		}
+		if ("-verify".equals(args[0])) {
+			int errors = verify();
+			if (errors != 0) {
+				throw new IllegalStateException(errors + " compact slider attacks are wrong");
+			}
+			System.out.println("Compact magics are valid");
+			return;
+		}
+		long seconds = args.length > 1 ? Long.parseLong(args[1]) : 60;
+
+		Map<Long, Integer> attackIds = new HashMap<Long, Integer>();
+		final Square[] squares = new Square[128];
+		for (int i = 0; i < 64; i++) {
+			squares[i] = new Square(i, true, attackIds);
+			squares[64 + i] = new Square(i, false, attackIds);
+		}
+		int threads = Runtime.getRuntime().availableProcessors();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		System.out.println(attackIds.size() + " distinct attack sets, searching on " + threads + " threads for " + seconds + "s");
+
+		Packing best = null;
+		long end = System.currentTimeMillis() + seconds * 1000;
+		int round = 0;
+		try {
+			do {
+				final int seed = round++;
+				List<Future<?>> futures = new ArrayList<Future<?>>();
+				for (final Square square : squares) {
+					futures.add(executor.submit(new Callable<Void>() {
+						public Void call() {
+							square.search(seed * 1000003L + (square.rook ? 0 : 64) + square.index, TRIES);
+							return null;
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+				Packing packing = pack(squares);
+				if (best == null || packing.size < best.size) {
+					best = packing;
+				}
+				System.out.println("Round " + round + ": table of " + packing.size + " entries, best " + best.size);
+			} while (System.currentTimeMillis() < end);
+		} finally {
+			executor.shutdown();
+		}
+
+		int variable = 0;
+		for (int i = 0; i < 64; i++) {
+			variable += (1 << BitboardAttacks.rookShiftBits[i]) + (1 << BitboardAttacks.bishopShiftBits[i]);
+		}
+		System.out.println("Compact tables: " + best.size + " entries, " + (best.size * 2 + attackIds.size() * 8) + " bytes");
+		System.out.println("Variable shift magic tables: " + variable + " entries, " + variable * 8 + " bytes");
+
+		File file = new File(args[0], MagicNumbersGen.class.getPackage().getName().replace('.', File.separatorChar) + File.separator + "CompactMagics.java");
+		write(file, best);
+		System.out.println("Wrote " + file);
+	}
+
+	private static void write(File file, Packing packing) throws IOException {
+		PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), "UTF-8"));
+		try {
+			writer.println("package " + MagicNumbersGen.class.getPackage().getName() + ";");
+			writer.println();
+			writer.println("/**");
+			writer.println(" * Fixed shift magics and offsets of the SLIDER_COMPACT tables.");
+			writer.println(" * Generated by MagicNumbersGen, do not edit.");
+			writer.println(" */");
+			writer.println("final class CompactMagics {");
+			writer.println("\tstatic final int TABLE_SIZE = " + packing.size + ";");
+			writeLongs(writer, "ROOK_MAGIC", packing.magics, 0);
+			writeInts(writer, "ROOK_OFFSET", packing.offsets, 0);
+			writeLongs(writer, "BISHOP_MAGIC", packing.magics, 64);
+			writeInts(writer, "BISHOP_OFFSET", packing.offsets, 64);
+			writer.println("}");
+		} finally {
+			writer.close();
+		}
+	}
+
+	private static void writeLongs(PrintWriter writer, String name, long[] values, int from) {
+		writer.print("\tstatic final long[] " + name + " = {");
+		for (int j = 0; j < 64; j++) {
+			writer.print(j % 8 == 0 ? "\n\t\t" : " ");
+			writer.print("0x" + Long.toHexString(values[from + j]) + "L");
+			if (j < 63) writer.print(",");
+		}
+		writer.println();
+		writer.println("\t};");
+	}
+
+	private static void writeInts(PrintWriter writer, String name, int[] values, int from) {
+		writer.print("\tstatic final int[] " + name + " = {");
+		for (int j = 0; j < 64; j++) {
+			writer.print(j % 8 == 0 ? "\n\t\t" : " ");
+			writer.print(values[from + j]);
+			if (j < 63) writer.print(",");
+		}
+		writer.println();
+		writer.println("\t};");
+	}
+
+	/**
+	 * Checks the compact lookups against the shift attacks for every occupancy
+	 * @return
+	 * the number of wrong lookups
+	 */
+	public static int verify() {
+		int errors = 0;
+		for (int i = 0; i < 64; i++) {
+			long square = 1L << i;
+			int rookBits = Long.bitCount(AttackTables.ROOK_MASK[i]);
+			for (int j = 0; j < (1 << rookBits); j++) {
+				long pieces = BitboardAttacks.generatePieces(j, rookBits, AttackTables.ROOK_MASK[i]);
+				if (BitboardAttacks.getRookCompactAttacks(i, pieces) != BitboardAttacks.getRookShiftAttacks(square, pieces)) {
+					errors++;
+				}
+			}
+			int bishopBits = Long.bitCount(AttackTables.BISHOP_MASK[i]);
+			for (int j = 0; j < (1 << bishopBits); j++) {
+				long pieces = BitboardAttacks.generatePieces(j, bishopBits, AttackTables.BISHOP_MASK[i]);
+				if (BitboardAttacks.getBishopCompactAttacks(i, pieces) != BitboardAttacks.getBishopShiftAttacks(square, pieces)) {
+					errors++;
+				}
+			}
+		}
+		return errors;
+	}
+}
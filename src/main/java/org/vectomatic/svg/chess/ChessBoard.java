@@ -17,17 +17,9 @@
  **********************************************/
 package org.vectomatic.svg.chess;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
-import org.vectomatic.dom.svg.OMSVGAnimatedString;
 import org.vectomatic.dom.svg.OMSVGDocument;
 import org.vectomatic.dom.svg.OMSVGGElement;
 import org.vectomatic.dom.svg.OMSVGMatrix;
-import org.vectomatic.dom.svg.OMSVGPoint;
 import org.vectomatic.dom.svg.OMSVGRectElement;
 import org.vectomatic.dom.svg.OMSVGSVGElement;
 import org.vectomatic.dom.svg.OMSVGUseElement;
@@ -37,17 +29,29 @@ import com.alonsoruibal.chess.Move;
 import com.alonsoruibal.chess.bitboard.BitboardUtils;
 import com.alonsoruibal.chess.movegen.LegalMoveGenerator;
 import com.alonsoruibal.chess.movegen.MoveGenerator;
+import com.google.gwt.animation.client.AnimationScheduler;
+import com.google.gwt.animation.client.AnimationScheduler.AnimationCallback;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.core.client.Scheduler;
+import com.google.gwt.dom.client.EventTarget;
+import com.google.gwt.dom.client.Node;
 import com.google.gwt.dom.client.Style.Cursor;
+import com.google.gwt.dom.client.Style.Visibility;
 import com.google.gwt.event.dom.client.MouseDownEvent;
 import com.google.gwt.event.dom.client.MouseDownHandler;
 import com.google.gwt.event.dom.client.MouseEvent;
 import com.google.gwt.event.dom.client.MouseMoveEvent;
 import com.google.gwt.event.dom.client.MouseMoveHandler;
+import com.google.gwt.event.dom.client.MouseOverEvent;
+import com.google.gwt.event.dom.client.MouseOverHandler;
 import com.google.gwt.event.dom.client.MouseUpEvent;
 import com.google.gwt.event.dom.client.MouseUpHandler;
+import com.google.gwt.event.logical.shared.ResizeEvent;
+import com.google.gwt.event.logical.shared.ResizeHandler;
 import com.google.gwt.user.client.Command;
+import com.google.gwt.user.client.Window;
+import com.google.gwt.user.client.Window.ScrollEvent;
+import com.google.gwt.user.client.Window.ScrollHandler;
 
 /**
  * Class to update the SVG chess board
@@ -60,7 +64,11 @@ import com.google.gwt.user.client.Command;
  * </dl>
  * @author Lukas Laag (laaglu@gmail.com)
  */
-public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHandler {
+public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHandler, MouseOverHandler {
+	/**
+	 * Piece characters, in the order of the piece pools
+	 */
+	private static final String PIECES = "PNBRQKpnbrqk";
 
 	private ChessCss css;
 	private OMSVGSVGElement svgElt;
@@ -82,10 +90,14 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	 */
 	private int moveNumber;
 	/**
-	 * Returns the legal destination index
-	 * from a source index;
+	 * Returns the legal destination squares
+	 * from a source index
 	 */
-	private Map<Integer, Set<Integer>> srcToDestIndex;
+	private long[] srcToDestSquares;
+	/**
+	 * Buffer for the legal moves of the current position
+	 */
+	private int[] moves;
 	/**
 	 * Source index of the current move
 	 */
@@ -97,19 +109,78 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	/**
 	 * Coordinates of the mousedown origin point
 	 */
-	private OMSVGPoint mouseDownCoords;
+	private float mouseDownX;
+	private float mouseDownY;
+	/**
+	 * Board coordinates of the last mouse event
+	 */
+	private float localX;
+	private float localY;
+	/**
+	 * Inverse of the screen CTM of the board, which maps client
+	 * coordinates to board coordinates. Only valid when
+	 * screenMatrixValid is true: it is recomputed after a resize,
+	 * a scroll, or when the mouse enters the board or grabs a piece.
+	 */
+	private boolean screenMatrixValid;
+	private float screenA, screenB, screenC, screenD, screenE, screenF;
+	/**
+	 * Client coordinates of the last mousemove, applied at the
+	 * next animation frame
+	 */
+	private int pendingClientX;
+	private int pendingClientY;
+	/**
+	 * True if a mousemove is waiting for the next animation frame
+	 */
+	private boolean movePending;
+	/**
+	 * True if an animation frame has been requested and not run yet
+	 */
+	private boolean frameRequested;
+	private AnimationCallback frameCallback;
+	private FrameStats frameStats;
 	/**
 	 * Current UI mode: select either source or dest index
 	 */
 	private BoardMode mode;
 	/**
-	 * Maps algebraic coordinates to board squares
+	 * Maps indices to board squares
+	 */
+	private OMSVGRectElement[] indexToRects;
+	/**
+	 * Class name last set on each board square
+	 */
+	private String[] rectClassNames;
+	/**
+	 * Squares last rendered with a highlight class
+	 */
+	private long highlightedSquares;
+	/**
+	 * Maps indices to chess pieces
+	 */
+	private OMSVGUseElement[] indexToPieces;
+	/**
+	 * Maps indices to the characters of the pieces rendered there
+	 */
+	private char[] indexToPieceChars;
+	/**
+	 * Piece elements not on the board, per piece type. The elements
+	 * below hiddenCounts are hidden, the ones above have just been
+	 * released and are still visible.
+	 */
+	private OMSVGUseElement[][] freePieces;
+	private int[] freeCounts;
+	private int[] hiddenCounts;
+	/**
+	 * Number of piece elements created so far
 	 */
-	private Map<String, OMSVGRectElement> algebraicToRects;
+	private int createdPieceCount;
 	/**
-	 * Maps algebraic coordinates to chess pieces
+	 * Bitboards of the last rendered position, in the order
+	 * whites, blacks, pawns, knights, bishops, rooks, queens, kings
 	 */
-	private Map<String, OMSVGUseElement> algebraicToPieces;
+	private long[] renderedBitboards;
 
 	private Main main;
 	
@@ -120,24 +191,29 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 		this.boardDoc = (OMSVGDocument) svgElt.getOwnerDocument();
 		this.boardElt = (OMSVGGElement) boardDoc.getElementById("board");
 		this.css = Resources.INSTANCE.getCss();
-		this.srcToDestIndex = new HashMap<Integer, Set<Integer>>();
+		this.srcToDestSquares = new long[64];
+		this.moves = new int[256];
 		this.mode = BoardMode.SRC_MODE;
 		this.srcIndex = -1;
 		this.destIndex = -1;
-		this.algebraicToRects = new HashMap<String, OMSVGRectElement>();
-		for (int i = 0; i < 8; i++) {
-			for (int j = 0; j < 8; j++) {
-				int index = j + 8 * i;
-				
-				String squareId = BitboardUtils.index2Algebraic(index);
-				OMSVGRectElement squareElt = (OMSVGRectElement) boardDoc.getElementById(squareId);
-				algebraicToRects.put(squareId, squareElt);
-			}
+		this.indexToRects = new OMSVGRectElement[64];
+		for (int index = 0; index < 64; index++) {
+			indexToRects[index] = (OMSVGRectElement) boardDoc.getElementById(BitboardUtils.index2Algebraic(index));
 		}
-		OMSVGRectElement sqElement = algebraicToRects.get("a1");
+		OMSVGRectElement sqElement = indexToRects[BitboardUtils.algebraic2Index("a1")];
 		this.sqWidth = (int)sqElement.getWidth().getBaseVal().getValue();
 		this.sqHeight = (int)sqElement.getHeight().getBaseVal().getValue();
-		this.algebraicToPieces = new HashMap<String, OMSVGUseElement>(); 
+		this.rectClassNames = new String[64];
+		// The first update sets the class of every square
+		this.highlightedSquares = -1L;
+		this.indexToPieces = new OMSVGUseElement[64];
+		this.indexToPieceChars = new char[64];
+		this.freePieces = new OMSVGUseElement[PIECES.length()][64];
+		this.freeCounts = new int[PIECES.length()];
+		this.hiddenCounts = new int[PIECES.length()];
+		this.renderedBitboards = new long[8];
+		this.frameStats = new FrameStats();
+		frameStats.publish();
 
 		// Legal moves logic
 		legalMoveGenerator = new LegalMoveGenerator();
@@ -147,22 +223,57 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 		// Wire events
 		boardElt.addMouseMoveHandler(this);
 		boardElt.addMouseUpHandler(this);
+		boardElt.addMouseOverHandler(this);
+		frameCallback = new AnimationCallback() {
+			@Override
+			public void execute(double timestamp) {
+				frameRequested = false;
+				frameStats.recordCallback(timestamp);
+				applyPendingMove();
+			}
+		};
+		Window.addResizeHandler(new ResizeHandler() {
+			@Override
+			public void onResize(ResizeEvent event) {
+				invalidateScreenMatrix();
+			}
+		});
+		Window.addWindowScrollHandler(new ScrollHandler() {
+			@Override
+			public void onWindowScroll(ScrollEvent event) {
+				invalidateScreenMatrix();
+			}
+		});
 	}
 	
 	/**
-	 * Adds a new piece to the chessboard. Pieces are represented
-	 * by svg &lt;use&gt; elements
+	 * Puts a piece on the chessboard. Pieces are represented
+	 * by svg &lt;use&gt; elements, which are taken from the pool
+	 * of their type and only created when the pool is empty
 	 * @param piece
 	 * The piece to add
-	 * @param algebraic
+	 * @param index
 	 * The position
 	 */
-	public void addPiece(char piece, String algebraic) {
-		if (piece != '.') {
-			OMSVGRectElement squareElt = (OMSVGRectElement) boardDoc.getElementById(algebraic);
-			OMSVGUseElement useElt = boardDoc.createSVGUseElement();
-			useElt.getX().getBaseVal().setValue(squareElt.getX().getBaseVal().getValue());
-			useElt.getY().getBaseVal().setValue(squareElt.getY().getBaseVal().getValue());
+	private void addPiece(char piece, int index) {
+		int type = PIECES.indexOf(piece);
+		if (type < 0) {
+			return;
+		}
+		OMSVGUseElement useElt;
+		if (freeCounts[type] > 0) {
+			useElt = freePieces[type][--freeCounts[type]];
+			if (freeCounts[type] < hiddenCounts[type]) {
+				hiddenCounts[type] = freeCounts[type];
+				useElt.getStyle().setVisibility(Visibility.VISIBLE);
+			}
+			useElt.getX().getBaseVal().setValue(getX(index));
+			useElt.getY().getBaseVal().setValue(getY(index));
+			frameStats.recordPieceMove();
+		} else {
+			useElt = boardDoc.createSVGUseElement();
+			useElt.getX().getBaseVal().setValue(getX(index));
+			useElt.getY().getBaseVal().setValue(getY(index));
 			useElt.getWidth().getBaseVal().setValue(sqWidth);
 			useElt.getHeight().getBaseVal().setValue(sqHeight);
 			useElt.getHref().setBaseVal("#" + Character.toString(piece));
@@ -170,40 +281,49 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 			useElt.addMouseDownHandler(this);
 			useElt.addMouseUpHandler(this);
 			boardElt.appendChild(useElt);
-			algebraicToPieces.put(algebraic, useElt);
+			createdPieceCount++;
+			frameStats.recordPieceCreation();
 		}
+		indexToPieces[index] = useElt;
+		indexToPieceChars[index] = piece;
 	}
 	
 	/**
-	 * Removes a piece from the chessboard at the specified position
-	 * @param algebraic
+	 * Returns the piece at the specified position to the pool
+	 * of its type. It stays visible until hideFreePieces is called.
+	 * @param index
 	 * The position
 	 */
-	public void removePiece(String algebraic) {
-		OMSVGUseElement useElt = algebraicToPieces.remove(algebraic);
+	private void removePiece(int index) {
+		OMSVGUseElement useElt = indexToPieces[index];
 		if (useElt != null) {
-			boardElt.removeChild(useElt);
+			int type = PIECES.indexOf(indexToPieceChars[index]);
+			freePieces[type][freeCounts[type]++] = useElt;
+			indexToPieces[index] = null;
+			indexToPieceChars[index] = 0;
 		}
 	}
-	
+
 	/**
-	 * Returns the piece at the specified position
-	 * @param algebraic
-	 * The position
-	 * @return
+	 * Hides the pieces released and not reused since the last call
 	 */
-	public char getPiece(String algebraic) {
-		OMSVGUseElement useElt = algebraicToPieces.get(algebraic);
-		if (useElt != null) {
-			OMSVGAnimatedString href = useElt.getHref();
-			if (href != null) {
-				String baseVal = href.getBaseVal();
-				if (baseVal != null) {
-					return baseVal.charAt(1);
-				}
+	private void hideFreePieces() {
+		int pooled = 0;
+		for (int type = 0; type < freeCounts.length; type++) {
+			for (int i = hiddenCounts[type]; i < freeCounts[type]; i++) {
+				freePieces[type][i].getStyle().setVisibility(Visibility.HIDDEN);
 			}
+			hiddenCounts[type] = freeCounts[type];
+			pooled += freeCounts[type];
 		}
-		return '.';
+		frameStats.recordPooledPieces(pooled);
+	}
+
+	/**
+	 * Returns the number of piece elements created so far
+	 */
+	public int getCreatedPieceCount() {
+		return createdPieceCount;
 	}
 	
 	/**
@@ -212,58 +332,111 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	 * Force the recomputation of possible moves
 	 */
 	public void update(boolean force) {
+		double start = StartupTimeline.now();
 		// If the move number has changed, update the possible
 		// legal moves
 		if (force || board.getMoveNumber() != moveNumber) {
-			srcToDestIndex.clear();
+			for (int i = 0; i < 64; i++) {
+				srcToDestSquares[i] = 0;
+			}
 			moveNumber = board.getMoveNumber();
-			int[] moves = new int[64];
 			int moveCount = legalMoveGenerator.generateMoves(board, moves, 0);
 			for (int i = 0; i < moveCount; i++) {
-				int srcIndex = Move.getFromIndex(moves[i]);
-				Set<Integer> destIndices = srcToDestIndex.get(srcIndex);
-				if (destIndices == null) {
-					destIndices = new HashSet<Integer>();
-					srcToDestIndex.put(srcIndex, destIndices);
-				}
-				destIndices.add(Move.getToIndex(moves[i]));
+				srcToDestSquares[Move.getFromIndex(moves[i])] |= 1L << Move.getToIndex(moves[i]);
 			}
 		}
-		
-		Set<Integer> destIndices = srcToDestIndex.containsKey(srcIndex) ? srcToDestIndex.get(srcIndex) : Collections.<Integer>emptySet();
-		for (int i = 0; i < 8; i++) {
-			for (int j = 0; j < 8; j++) {
-				int index = j + 8 * i;
-				
-				String squareId = BitboardUtils.index2Algebraic(index);
-				OMSVGRectElement squareElt = algebraicToRects.get(squareId);
-				
-				// Change the colors of the squares to highlight possible moves
-				String className = ((j + i ) % 2) == 0 ? css.whiteSquare() : css.blackSquare();
-				if (destIndices.contains(index)) {
-					className = css.blueSquare();
-				}
-				if (mode == BoardMode.DEST_MODE && index == destIndex) {
-					className = destIndices.contains(index) ? css.greenSquare() : css.redSquare();
-				}
-				if (index == srcIndex) {
-					className = css.yellowSquare();
-				}
-				if (!className.equals(squareElt.getClassName().getBaseVal())) {
-					squareElt.setClassNameBaseVal(className);
-					//GWT.log("Setting: " + className, null);
-				}
+		updateSquares();
+		updatePieces();
+		frameStats.recordUpdate(StartupTimeline.now() - start);
+	}
 
-				// Update the piece on this square, if any
-				char piece = board.getPieceAt(BitboardUtils.index2Square((byte)index));
-				if (getPiece(squareId) != piece) {
-					removePiece(squareId);
-					addPiece(piece, squareId);
-				}
+	/**
+	 * Changes the colors of the squares to highlight possible moves.
+	 * Only the squares highlighted now or at the previous update
+	 * can have changed.
+	 */
+	private void updateSquares() {
+		long destSquares = getDestSquares(srcIndex);
+		long highlighted = destSquares;
+		if (srcIndex >= 0) {
+			highlighted |= 1L << srcIndex;
+		}
+		if (mode == BoardMode.DEST_MODE && destIndex >= 0) {
+			highlighted |= 1L << destIndex;
+		}
+		long dirty = highlighted | highlightedSquares;
+		highlightedSquares = highlighted;
+		while (dirty != 0) {
+			int index = Long.numberOfTrailingZeros(dirty);
+			dirty &= dirty - 1;
+			long square = 1L << index;
+			String className = (((index & 7) + (index >> 3)) % 2) == 0 ? css.whiteSquare() : css.blackSquare();
+			if ((destSquares & square) != 0) {
+				className = css.blueSquare();
+			}
+			if (mode == BoardMode.DEST_MODE && index == destIndex) {
+				className = (destSquares & square) != 0 ? css.greenSquare() : css.redSquare();
+			}
+			if (index == srcIndex) {
+				className = css.yellowSquare();
+			}
+			if (!className.equals(rectClassNames[index])) {
+				indexToRects[index].setClassNameBaseVal(className);
+				rectClassNames[index] = className;
 			}
 		}
 	}
 
+	/**
+	 * Replaces the pieces on the squares where one of the bitboards
+	 * differs from the last rendered position. Piece elements are
+	 * moved rather than recreated.
+	 */
+	private void updatePieces() {
+		long[] bitboards = renderedBitboards;
+		long changed = (bitboards[0] ^ board.whites)
+			| (bitboards[1] ^ board.blacks)
+			| (bitboards[2] ^ board.pawns)
+			| (bitboards[3] ^ board.knights)
+			| (bitboards[4] ^ board.bishops)
+			| (bitboards[5] ^ board.rooks)
+			| (bitboards[6] ^ board.queens)
+			| (bitboards[7] ^ board.kings);
+		if (changed == 0) {
+			return;
+		}
+		frameStats.recordChangedSquares(Long.bitCount(changed));
+		bitboards[0] = board.whites;
+		bitboards[1] = board.blacks;
+		bitboards[2] = board.pawns;
+		bitboards[3] = board.knights;
+		bitboards[4] = board.bishops;
+		bitboards[5] = board.rooks;
+		bitboards[6] = board.queens;
+		bitboards[7] = board.kings;
+		// Release all the pieces first, so that a piece which has
+		// moved can be reused on its new square
+		long squares = changed;
+		while (squares != 0) {
+			removePiece(Long.numberOfTrailingZeros(squares));
+			squares &= squares - 1;
+		}
+		squares = changed & (board.whites | board.blacks);
+		while (squares != 0) {
+			long square = squares & -squares;
+			addPiece(board.getPieceAt(square), Long.numberOfTrailingZeros(square));
+			squares &= squares - 1;
+		}
+		hideFreePieces();
+	}
+
+	/**
+	 * Returns the legal destination squares from a source index
+	 */
+	private long getDestSquares(int index) {
+		return index >= 0 ? srcToDestSquares[index] : 0;
+	}
+
 	@Override
 	public void onMouseDown(MouseDownEvent event) {
 //		GWT.log("onMouseDown(" + toString(event) + "))", null);
@@ -273,17 +446,22 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	}
 	
 	private void onMouseDown_(MouseEvent<?> event) {
-		String algebraic = getAlgebraic(event);
+		applyPendingMove();
 		if (targetPiece == null) {
-			targetPiece = algebraicToPieces.get(algebraic);
+			// Layout changes seldom notify the board: start each
+			// drag with a fresh matrix
+			invalidateScreenMatrix();
+			int index = getIndex(event);
+			targetPiece = index != -1 ? indexToPieces[index] : null;
 			if (targetPiece != null) {
-				this.destIndex = BitboardUtils.algebraic2Index(algebraic);
+				this.destIndex = index;
 				mode = BoardMode.DEST_MODE;
-				mouseDownCoords = getLocalCoordinates(event);
+				mouseDownX = localX;
+				mouseDownY = localY;
 				update(false);
 			}
 		} else {
-			int index = algebraic != null ? BitboardUtils.algebraic2Index(algebraic) : -1;
+			int index = getIndex(event);
 			if (index == srcIndex) {
 				targetPiece = null;
 			}
@@ -296,10 +474,10 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	public void onMouseUp(MouseUpEvent event) {
 //		GWT.log("onMouseUp(" + toString(event) + "))", null);
 
+		applyPendingMove();
 		if (targetPiece != null) {
 			mode = BoardMode.SRC_MODE;
-			Set<Integer> destIndices = srcToDestIndex.containsKey(srcIndex) ? srcToDestIndex.get(srcIndex) : Collections.<Integer>emptySet();
-			if (destIndices.contains(destIndex)) {
+			if (destIndex >= 0 && (getDestSquares(srcIndex) & (1L << destIndex)) != 0) {
 				final int move = Move.getFromString(board, BitboardUtils.index2Algebraic(srcIndex) + BitboardUtils.index2Algebraic(destIndex));
 				board.doMove(move);
 				GWT.log("newItem(" + board.getMoveNumber() +  ")", null);
@@ -324,11 +502,38 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 		event.preventDefault();
 	}
 
+	/**
+	 * Records the position of the mouse. Several mousemoves can
+	 * occur between two frames: only the last one is applied, at
+	 * the next animation frame.
+	 */
 	@Override
 	public void onMouseMove(MouseMoveEvent event) {
-		String algebraic = getAlgebraic(event);
-		//GWT.log("onMouseMove(" + algebraic + "))", null);
-		int index = algebraic != null ? BitboardUtils.algebraic2Index(algebraic) : -1;
+		pendingClientX = event.getClientX();
+		pendingClientY = event.getClientY();
+		frameStats.recordEvent();
+		movePending = true;
+		// A button may have applied the move without cancelling the frame
+		if (!frameRequested) {
+			frameRequested = true;
+			AnimationScheduler.get().requestAnimationFrame(frameCallback);
+		}
+		event.stopPropagation();
+		event.preventDefault();
+	}
+
+	/**
+	 * Applies the last recorded mousemove, if any. Mouse buttons
+	 * call it first so that they see the latest position.
+	 */
+	private void applyPendingMove() {
+		if (!movePending) {
+			return;
+		}
+		movePending = false;
+		double start = StartupTimeline.now();
+		int index = getIndex(pendingClientX, pendingClientY);
+		//GWT.log("onMouseMove(" + index + "))", null);
 		if (mode == BoardMode.SRC_MODE) {
 			if (srcIndex != index) {
 				srcIndex = index;
@@ -336,22 +541,58 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 			}
 		} else {
 			// Compute the delta from the mousedown point.
-			OMSVGPoint p = getLocalCoordinates(event);
-			targetPiece.getX().getBaseVal().setValue(getX(srcIndex) + p.getX() - mouseDownCoords.getX());
-			targetPiece.getY().getBaseVal().setValue(getY(srcIndex) + p.getY() - mouseDownCoords.getY());
+			targetPiece.getX().getBaseVal().setValue(getX(srcIndex) + localX - mouseDownX);
+			targetPiece.getY().getBaseVal().setValue(getY(srcIndex) + localY - mouseDownY);
 			if (destIndex != index) {
 				destIndex = index;
 				update(false);
 			}
 		}
-		event.stopPropagation();
-		event.preventDefault();
+		frameStats.recordFrame(StartupTimeline.now() - start);
 	}
-	
-	public OMSVGPoint getLocalCoordinates(MouseEvent<?> e) {
-		OMSVGPoint p = svgElt.createSVGPoint(e.getClientX(), e.getClientY());
-		OMSVGMatrix m = boardElt.getScreenCTM().inverse();
-		return p.matrixTransform(m);
+
+	/**
+	 * Returns the statistics of the mousemoves applied per frame
+	 */
+	public FrameStats getFrameStats() {
+		return frameStats;
+	}
+
+	@Override
+	public void onMouseOver(MouseOverEvent event) {
+		// mouseover bubbles up from every square and piece: only
+		// the events coming from outside the board matter
+		EventTarget related = event.getRelatedTarget();
+		if (related == null || !Node.is(related) || !boardElt.getElement().isOrHasChild(Node.as(related))) {
+			invalidateScreenMatrix();
+		}
+	}
+
+	/**
+	 * Forces the recomputation of the screen matrix at the next
+	 * mouse event. To be called when the board moves or is resized
+	 * in a way the board cannot observe.
+	 */
+	public void invalidateScreenMatrix() {
+		screenMatrixValid = false;
+	}
+
+	/**
+	 * Converts client coordinates to board coordinates, stored in localX and localY
+	 */
+	private void setLocalCoordinates(int clientX, int clientY) {
+		if (!screenMatrixValid) {
+			OMSVGMatrix m = boardElt.getScreenCTM().inverse();
+			screenA = m.getA();
+			screenB = m.getB();
+			screenC = m.getC();
+			screenD = m.getD();
+			screenE = m.getE();
+			screenF = m.getF();
+			screenMatrixValid = true;
+		}
+		localX = screenA * clientX + screenC * clientY + screenE;
+		localY = screenB * clientX + screenD * clientY + screenF;
 	}
 
 	public int getX(int index) {
@@ -362,25 +603,27 @@ public class ChessBoard implements MouseDownHandler, MouseUpHandler, MouseMoveHa
 	}
 
 	/**
-	 * Returns the algebraic corresponding to a mouse event, or null if
+	 * Returns the index corresponding to a mouse event, or -1 if
 	 * there is no square
 	 * @param event
 	 * The mouse event
 	 * @return
-	 * The algebraic corresponding to a mouse event
+	 * The index corresponding to a mouse event
 	 */
-	public String getAlgebraic(MouseEvent<?> event) {
+	public int getIndex(MouseEvent<?> event) {
+		return getIndex(event.getClientX(), event.getClientY());
+	}
 
-		OMSVGPoint p = getLocalCoordinates(event);
-		int x = (int)(p.getX() / sqWidth);
-		int y = (int)(p.getY() / sqHeight);
-		if (x >= 0 && x <= 7 && y >= 0 && y <= 7) {
-			char algebraic[] = new char[2];
-			algebraic[0] = (char)('a' + x);
-			algebraic[1] = (char)('8' - y);
-			return new String(algebraic);
+	private int getIndex(int clientX, int clientY) {
+		setLocalCoordinates(clientX, clientY);
+		if (localX >= 0 && localY >= 0) {
+			int x = (int)(localX / sqWidth);
+			int y = (int)(localY / sqHeight);
+			if (x <= 7 && y <= 7) {
+				return (7 - x) + 8 * (7 - y);
+			}
 		}
-		return null;
+		return -1;
 	}
 //
 //	public String toString(MouseEvent e) {
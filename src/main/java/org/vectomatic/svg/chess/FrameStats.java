@@ -0,0 +1,257 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess;
+
+/**
+ * Counters of the mouse events coalesced into animation frames by
+ * ChessBoard, of the interval between the animation frame callbacks,
+ * of the time spent applying the events in each frame, and of
+ * the board updates: their time, the squares they re-render and the
+ * piece elements they create or move.
+ * Once published, the statistics can be read from the console of
+ * the browser with chessFrameStats(), and reset with
+ * chessFrameStats(true).
+ */
+public class FrameStats {
+	/**
+	 * Longer gaps between two callbacks mean the pointer rested: they
+	 * are not counted as frame intervals (ms)
+	 */
+	private static final double IDLE_INTERVAL = 250;
+	private int events;
+	private int pendingEvents;
+	private int maxEventsPerFrame;
+	private int frames;
+	private double lastTimestamp = -1;
+	private int intervals;
+	private double totalInterval;
+	private double maxInterval;
+	private double totalFrameTime;
+	private double maxFrameTime;
+	private int updates;
+	private double totalUpdateTime;
+	private double maxUpdateTime;
+	private int changedSquares;
+	private int createdPieces;
+	private int movedPieces;
+	private int pooledPieces;
+
+	/**
+	 * Records a mouse event waiting for the next frame
+	 */
+	public void recordEvent() {
+		events++;
+		pendingEvents++;
+	}
+
+	/**
+	 * Records an animation frame callback
+	 * @param timestamp
+	 * the timestamp passed by AnimationScheduler, in ms
+	 */
+	public void recordCallback(double timestamp) {
+		if (lastTimestamp >= 0 && timestamp - lastTimestamp <= IDLE_INTERVAL) {
+			double interval = timestamp - lastTimestamp;
+			intervals++;
+			totalInterval += interval;
+			maxInterval = Math.max(maxInterval, interval);
+		}
+		lastTimestamp = timestamp;
+	}
+
+	/**
+	 * Records a frame
+	 * @param time
+	 * time spent applying the events of the frame, in ms
+	 */
+	public void recordFrame(double time) {
+		frames++;
+		maxEventsPerFrame = Math.max(maxEventsPerFrame, pendingEvents);
+		pendingEvents = 0;
+		totalFrameTime += time;
+		maxFrameTime = Math.max(maxFrameTime, time);
+	}
+
+	/**
+	 * Records a call to ChessBoard.update
+	 * @param time
+	 * time spent in the update, in ms
+	 */
+	public void recordUpdate(double time) {
+		updates++;
+		totalUpdateTime += time;
+		maxUpdateTime = Math.max(maxUpdateTime, time);
+	}
+
+	/**
+	 * Records the squares whose piece was re-rendered by an update
+	 */
+	public void recordChangedSquares(int count) {
+		changedSquares += count;
+	}
+
+	/**
+	 * Records a piece element created because its pool was empty
+	 */
+	public void recordPieceCreation() {
+		createdPieces++;
+	}
+
+	/**
+	 * Records a piece element taken from its pool and moved
+	 */
+	public void recordPieceMove() {
+		movedPieces++;
+	}
+
+	/**
+	 * Records the number of piece elements left in the pools
+	 * after an update
+	 */
+	public void recordPooledPieces(int count) {
+		pooledPieces = count;
+	}
+
+	public int getEvents() {
+		return events;
+	}
+
+	public int getFrames() {
+		return frames;
+	}
+
+	/**
+	 * Returns the number of events which did not get a frame of their own
+	 */
+	public int getCoalesced() {
+		return events - frames;
+	}
+
+	/**
+	 * Returns the largest number of events applied by one frame
+	 */
+	public int getMaxEventsPerFrame() {
+		return maxEventsPerFrame;
+	}
+
+	/**
+	 * Returns the average interval between two animation frame
+	 * callbacks, in ms
+	 */
+	public double getAverageInterval() {
+		return intervals == 0 ? 0 : totalInterval / intervals;
+	}
+
+	public double getMaxInterval() {
+		return maxInterval;
+	}
+
+	public double getAverageFrameTime() {
+		return frames == 0 ? 0 : totalFrameTime / frames;
+	}
+
+	public double getMaxFrameTime() {
+		return maxFrameTime;
+	}
+
+	public int getUpdates() {
+		return updates;
+	}
+
+	public double getAverageUpdateTime() {
+		return updates == 0 ? 0 : totalUpdateTime / updates;
+	}
+
+	public double getMaxUpdateTime() {
+		return maxUpdateTime;
+	}
+
+	/**
+	 * Returns the number of squares re-rendered, over all the updates
+	 */
+	public int getChangedSquares() {
+		return changedSquares;
+	}
+
+	public int getCreatedPieces() {
+		return createdPieces;
+	}
+
+	public int getMovedPieces() {
+		return movedPieces;
+	}
+
+	/**
+	 * Returns the number of piece elements in the pools. Not
+	 * cleared by reset
+	 */
+	public int getPooledPieces() {
+		return pooledPieces;
+	}
+
+	public void reset() {
+		events = 0;
+		pendingEvents = 0;
+		maxEventsPerFrame = 0;
+		frames = 0;
+		lastTimestamp = -1;
+		intervals = 0;
+		totalInterval = 0;
+		maxInterval = 0;
+		totalFrameTime = 0;
+		maxFrameTime = 0;
+		updates = 0;
+		totalUpdateTime = 0;
+		maxUpdateTime = 0;
+		changedSquares = 0;
+		createdPieces = 0;
+		movedPieces = 0;
+	}
+
+	/**
+	 * Makes the statistics available to the console as chessFrameStats()
+	 */
+	public native void publish() /*-{
+		var stats = this;
+		$wnd.chessFrameStats = $entry(function(reset) {
+			var s = stats.@org.vectomatic.svg.chess.FrameStats::toString()();
+			if (reset) {
+				stats.@org.vectomatic.svg.chess.FrameStats::reset()();
+			}
+			return s;
+		});
+	}-*/;
+
+	@Override
+	public String toString() {
+		return "FrameStats events=" + events + " frames=" + frames + " coalesced=" + getCoalesced()
+			+ " maxEventsPerFrame=" + maxEventsPerFrame
+			+ " intervalAvg=" + round(getAverageInterval()) + "ms intervalMax=" + round(maxInterval) + "ms"
+			+ " applyAvg=" + round(getAverageFrameTime()) + "ms"
+			+ " applyMax=" + round(maxFrameTime) + "ms"
+			+ " updates=" + updates + " updateAvg=" + round(getAverageUpdateTime()) + "ms"
+			+ " updateMax=" + round(maxUpdateTime) + "ms squares=" + changedSquares
+			+ " created=" + createdPieces + " moved=" + movedPieces
+			+ " movedPerUpdate=" + round(updates == 0 ? 0 : (double) movedPieces / updates)
+			+ " pooled=" + pooledPieces;
+	}
+
+	private static double round(double value) {
+		return Math.round(value * 1000) / 1000.0;
+	}
+}
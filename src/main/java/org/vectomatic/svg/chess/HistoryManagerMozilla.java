@@ -79,6 +79,7 @@ public class HistoryManagerMozilla extends HistoryManager {
 						}
 						assert targetMoveNumber >= -1;
 						assert targetMoveNumber <= main.lastMoveNumber;
+						main.book.resetOutOfBook();
 						if (moveNumber == -1) {
 							main.board.startPosition();
 						} else {
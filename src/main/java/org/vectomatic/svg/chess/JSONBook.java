@@ -1,26295 +0,0 @@
-/**********************************************
- * Copyright (C) 2009 Lukas Laag
- * This file is part of carballo-gwt.
- * 
- * carballo-gwt is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 3 of the License, or
- * (at your option) any later version.
- * 
- * carballo-gwt is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- * 
- * You should have received a copy of the GNU General Public License
- * along with carballo-gwt.  If not, see http://www.gnu.org/licenses/
- **********************************************/
-package org.vectomatic.svg.chess;
-
-import java.util.ArrayList;
-import java.util.List;
-
-import com.alonsoruibal.chess.Board;
-import com.alonsoruibal.chess.Move;
-import com.alonsoruibal.chess.book.Book;
-import com.google.gwt.core.client.GWT;
-import com.google.gwt.core.client.JsArray;
-import com.google.gwt.core.client.JsArrayInteger;
-import com.google.gwt.user.client.Random;
-
-
-/**
- * Polyglot opening book support
- * @author rui
- */
-public class JSONBook implements Book {
-	/**
-	 * Logger for this class
-	 */
-	static {
-		init();
-	}
-	
-	List<Integer> moves = new ArrayList<Integer>(); 
-	List<Integer> weights = new ArrayList<Integer>();
-	long totalWeight;
-	
-	public List<Integer> getMoves() {
-		return moves;
-	}
-
-	public List<Integer> getWeights() {
-		return weights;
-	}
-
-
-	
-	/**
-	 * "move" is a bit field with the following meaning (bit 0 is the least significant bit)
-	 *
-	 * 		bits                meaning
-	 * ===================================
-     * 0,1,2               to file
-     * 3,4,5               to row
-     * 6,7,8               from file
-	 * 9,10,11             from row
-	 * 12,13,14            promotion piece
-     * "promotion piece" is encoded as follows
-     * none       0
-     * knight     1
-     * bishop     2
-     * rook       3
-     * queen      4
-	 * @param move
-	 * @return
-	 */
-	private String int2MoveString(int move) {
-		StringBuffer sb = new StringBuffer();
-		sb.append((char)('a' + ((move >> 6) & 0x7)));
-		sb.append(((move >> 9) & 0x7) +1);
-		sb.append((char)('a' + (move & 0x7)));
-		sb.append(((move >> 3) & 0x7) +1);
-		if (((move >> 12) & 0x7) != 0) sb.append("nbrq".charAt(((move >> 12) & 0x7) - 1));
-		return sb.toString();
-	}
-
-	
-	public void generateMoves(Board board) {
-		String key2Find = "x" + Long.toHexString(board.getKey());
-		totalWeight = 0;
-		moves = new ArrayList<Integer>();
-		weights = new ArrayList<Integer>();
-		JsArray<JsArrayInteger> array = getData(key2Find);
-		if (array != null) {
-			JsArrayInteger moveArray = array.get(0);
-			JsArrayInteger weightArray = array.get(1);
-			for (int i = 0, size = moveArray.length(); i < size; i++) {
-				int moveInt = moveArray.get(i);
-				int weight = weightArray.get(i);
-				int move = Move.getFromString(board, int2MoveString(moveInt));
-				// Add only if it is legal
-				if (board.isMoveLegal(move)) {
-					GWT.log("JSONBook addMove(" + move + ", " + weight + ")", null);
-					moves.add(move);
-					weights.add(weight);
-					totalWeight += weight;
-				}
-			}
-		}
-	}
-	
-	/**
-	 * Gets a random move from the book taking care of weights 
-	 * @param board
-	 * @return
-	 */
-	public int getMove(Board board) {
-		generateMoves(board);
-		long randomWeight = (new Double(Random.nextDouble() * totalWeight)).longValue();
-		for (int i = 0; i < moves.size(); i++) {
-			randomWeight -= weights.get(i);
-			if (randomWeight<=0) return moves.get(i);
-		}
-		return 0;
-	}
-	
-	private static final native JsArray<JsArrayInteger> getData(String key) /*-{
-		return $wnd.__book[key];
-	}-*/;  
-	
-	private static final native void init() /*-{
-$wnd.__book={"x851c6cbc1831bf29":[[332],[4]],
-"x82a7ddedf29f25a":[[80,983],[9,6]],
-"x818b0685bea641a9":[[660],[4]],
-"x1447cdd701941c77":[[3779],[4]],
-"x4d1f07db2ea49b06":[[1763],[6]],
-"xfc6a3f9bbdd6de42":[[983],[8]],
-"x8e4031a8a9322ae":[[2867],[3]],
-"x303f62d1bb426dc5":[[1682],[3]],
-"x758e1991b9572c78":[[3899],[3]],
-"x41f83c098ab9cac3":[[3902],[10]],
-"xc67d6b08f466f355":[[219],[3]],
-"x18bb151a87d89912":[[3956],[13]],
-"xc54ba18134d49516":[[2331],[2]],
-"xd4cc062e52b2ecda":[[1380,262],[63,7]],
-"x626277c13a153c13":[[3938],[3]],
-"x7b8c9bd69bdffcdd":[[1382],[3]],
-"x8b941aab20c2da5a":[[3642],[10]],
-"xe8c88fdcb9dcaadc":[[2227],[6]],
-"xdbf7c6d85da5becd":[[146],[25]],
-"x948c46ac5f309756":[[2088],[3]],
-"x7baaadae503c7868":[[3690],[4]],
-"xa59eb65e9fc9f709":[[2657],[3]],
-"x3bfd05d91dc4af35":[[1763],[3]],
-"x95d9e6e70cc05cb5":[[3902],[7]],
-"x3a7f5f84672189eb":[[1308,353],[10,7]],
-"x2821147356e10f4d":[[2609,3299,3929,3234],[36,22,17,2]],
-"xe2d264ce3a544ce0":[[3761],[5]],
-"x22071caf7d36c0fb":[[262],[8]],
-"x87130656a2468395":[[334],[10]],
-"xe3634d689c234e3a":[[3956],[9]],
-"xd4d4513c0054d3c6":[[3826],[30]],
-"xa2d697c482f2740":[[3362],[4]],
-"xb0b0e6fbbe3fef76":[[3902],[7]],
-"x4a1e021c99ae952c":[[2745],[6]],
-"xb76fd47ae024dea3":[[1380],[5]],
-"x846ef354f6c2fbe":[[3242],[7]],
-"x50a80166ebb3996a":[[3956],[3]],
-"xc710184ac7999b13":[[2],[7]],
-"x129d1dc6ac0f56a4":[[334,82],[20,6]],
-"xc0f0f82d867e2a50":[[3690],[5]],
-"x5fda6b69dd404ec4":[[3242,3690],[6,1]],
-"xc8179b6267f06528":[[2592],[19]],
-"x8b2e7b877aa6150c":[[3372],[11]],
-"x545fd5433095c2b2":[[3820],[13]],
-"x7dc27d123c771767":[[178],[6]],
-"xe2e1e4333c8ff7c9":[[3826],[6]],
-"x1b82b9ddd76d8318":[[593],[6]],
-"xff21779e2589cbb3":[[3299],[4]],
-"x1390506c760bea9f":[[203],[9]],
-"x5123d4c2d9dcc570":[[3364],[9]],
-"x9d3835319fa280c1":[[3779],[2]],
-"x874de26c66f1b7bc":[[3964,2202],[3,3]],
-"xecad874f3c23b71b":[[3364],[5]],
-"x14821ebb1119c827":[[796,166,918],[24,6,5]],
-"xedfbee76884ff37c":[[983],[7]],
-"x9976fc8d40e3d205":[[3112],[87]],
-"x61bc08acd555a685":[[983],[6]],
-"x5e8405f5a0cd0de4":[[991],[3]],
-"x22f89d63d22734e0":[[3299],[7]],
-"x65489ab9cbc8c651":[[157],[3]],
-"xe122729d40f41a7a":[[405,2],[11,10]],
-"xe730573dce83bbbc":[[24],[4]],
-"x649b2f094e6a5831":[[1123],[4]],
-"xccbe8ad2addf2e61":[[1176],[6]],
-"xb92a380e86be9911":[[139],[2]],
-"x8de02816204abc08":[[3643],[2]],
-"xc953a14de015f2ca":[[3307],[2]],
-"x2db7492ddb32902b":[[2852],[3]],
-"x4875fbb39ee203ed":[[528],[7]],
-"x599ee79921517d62":[[1049],[3]],
-"xde7fa5efd16e717":[[3817],[9]],
-"x121230c2c30b42cb":[[1561],[3]],
-"xccd4b00152d7e7f0":[[3325],[3]],
-"x9199ab0ebbb2c4c6":[[339],[5]],
-"xa1df8189ce54b8ff":[[166],[7]],
-"xa7550d588876aa8f":[[2722],[6]],
-"x56ccd7fbf2f5cd78":[[405],[4]],
-"x495c7e47ffd24249":[[3699,2202],[3,2]],
-"x551a4a1dcbd54c37":[[1314],[2]],
-"x474367e9a31c9463":[[262],[2]],
-"xdd88c7273d33fbbb":[[1179],[14]],
-"x891b3852d7964d1c":[[1699],[3]],
-"x2bb65533ddad5517":[[3299],[3]],
-"xb3194d06be5b369a":[[2724,3902],[9,5]],
-"x3ee7e7caf1454fa":[[3902],[7]],
-"x4bd0385afb123d92":[[3567],[7]],
-"xaf62b73dc605f944":[[454,139],[5,1]],
-"xd16798f97443762b":[[658],[5]],
-"x684e964cda60a4dc":[[2788],[7]],
-"x207247ff0dff7cf2":[[2788],[4]],
-"x9fc34556d3aa8d6a":[[3642],[1]],
-"x39ade62bb41dcb34":[[3567],[3]],
-"x6ac6f6928cc335fc":[[2203],[1]],
-"x8d037a8227b9bdf1":[[3690],[2]],
-"xf7d9ca8acee6e844":[[1698],[3]],
-"x7ac56cd1dee7f82a":[[3902],[6]],
-"xcc09e1a039dacc2e":[[346],[7]],
-"x1c1fb83bb9b2d5f8":[[2594],[1]],
-"x40cd957f480271b2":[[139],[4]],
-"x3dae699ee9780c1":[[788],[1]],
-"x9293e8de78e9e240":[[2852],[5]],
-"xbd9ca1addca06ca9":[[796,1762],[63,9]],
-"x77d65b63df4757fc":[[3699],[3]],
-"x13b9f6bd3ef1171a":[[1234],[6]],
-"x28569c3d0c14533f":[[406],[1]],
-"xc14178ba00f3fb1a":[[982],[3]],
-"x38fde3dd5e8b6d05":[[918],[3]],
-"x35ba4a8310d51468":[[1878],[3]],
-"xfcc0a3a0f4e8fd2a":[[3324],[6]],
-"x80a0d5211b8d6620":[[323],[6]],
-"x1ff40d27db51854e":[[722,262],[165,31]],
-"x2a8c7412fd888397":[[3964],[3]],
-"x74b2b6867b694cb1":[[339,528,202],[83,14,4]],
-"x8c4783d6521e8d17":[[3902],[2]],
-"x5aaf1d861d2a73be":[[82,334],[5,1]],
-"xa1d530ceda0559f9":[[3437],[3]],
-"x2de50d132309fb9c":[[213],[5]],
-"xeccd911b6d43ea93":[[3761],[3]],
-"xbc245378c91273f1":[[2347],[5]],
-"xe2f577df7a7d27":[[3372],[18]],
-"x6aa8adee290eccd":[[262],[3]],
-"x6d803687e0ee4e86":[[2625],[3]],
-"x5f83ec5afecd3678":[[594],[17]],
-"x6a95477a63af0d4d":[[2852,3898],[2,1]],
-"xc9b041af60a047fa":[[1219],[3]],
-"x5810f5bf23a271f6":[[262],[3]],
-"xeaf31102e4baf667":[[721],[7]],
-"xe3989649a089df7f":[[3502],[4]],
-"x660f54be777d99ac":[[262],[6]],
-"xcf181abb87b66fb8":[[2915],[16]],
-"xd97acfaafcd37f0e":[[1878],[5]],
-"xded7b8b57bcab915":[[3242],[9]],
-"x781f04be94c61446":[[2154],[4]],
-"x67032006fb245c95":[[2542],[4]],
-"x7405b46d80aba743":[[788],[6]],
-"x21bf172442e98ec2":[[2266,2939,3947,3502],[53,7,5,5]],
-"x573063f764de55c6":[[3299],[2]],
-"x2d49ae649a71845b":[[722],[4]],
-"x597d8ce243272fd9":[[3756,3742],[8,2]],
-"xcab0cb43c7df72b":[[2124],[13]],
-"xaaa73ce37ee9c8a4":[[407,405],[10,9]],
-"xa6d9a0630340e5a9":[[1132,1382],[22,17]],
-"x91e986030b620064":[[991],[1]],
-"x657c080ee0c52f2f":[[2462],[6]],
-"x3e563005697ec58a":[[332],[5]],
-"xb125035bd48a91d7":[[3902],[3]],
-"xe0e6d4e0cb92e50f":[[2715],[1]],
-"x588e56e4c3decb59":[[1155],[6]],
-"x9cd6586af206735c":[[75,658],[43,3]],
-"x1642c6063bf6120a":[[3299,3938],[9,5]],
-"x3417f6425cbdeb04":[[2851],[3]],
-"x9225dd990257905f":[[262],[3]],
-"xcf5fa48f198c9cb9":[[3827],[4]],
-"x149eaedb57b1701b":[[324],[6]],
-"x9faf8e5cdb846cf2":[[1814],[3]],
-"xefc1c1bbc3b0df0d":[[593],[3]],
-"xea4accfdb1c3a445":[[2279],[20]],
-"xcf7dcc5766535dc7":[[2203],[5]],
-"xcc53e15aa8e2b2bb":[[528,339],[8,2]],
-"x9a3d3d8aafd05efb":[[334],[43]],
-"x4b726c94419b853c":[[3234],[51]],
-"x49bbd50699654a48":[[1282],[6]],
-"x6b4edfd04dba36ce":[[796],[10]],
-"xd76174b77f9f53c6":[[3494],[5]],
-"x69e654a267e8344":[[139],[6]],
-"xcee6871749b4ee56":[[405,788,1699,528],[13,12,7,5]],
-"x4570f7092fd4386c":[[1104],[6]],
-"x5b4033b5dc782f8a":[[2332],[4]],
-"x594a7a00e060b586":[[262],[6]],
-"x9a686811a4cdae7a":[[1708],[3]],
-"xdf3f22ad1919b76c":[[1164],[3]],
-"xc9bef373c1efcf84":[[148],[7]],
-"x5e5443cbd649b620":[[723],[6]],
-"xe3ce76647d2468cf":[[3827],[3]],
-"x701b2378310e06df":[[2851],[3]],
-"xbaee598d5c34dc50":[[1770,666],[32,9]],
-"xb9ed467efe9aeec5":[[1762],[3]],
-"x65f5596c9eb5d95":[[1184],[3]],
-"xc537808bd23a2463":[[3690],[87]],
-"x7c093c2285440964":[[3742],[3]],
-"x11d08f5f5ae679ac":[[1745],[9]],
-"xa56ae530cdf4d124":[[3699],[8]],
-"x43548c7743962e2e":[[3252],[2]],
-"xc2332e6a99c2366e":[[2477],[4]],
-"x15eee9fdd4903add":[[82],[7]],
-"x37e27d4000a6fb44":[[3808],[2]],
-"xf4a22a2200283354":[[1803],[4]],
-"xd37c3b2ee6bcd91c":[[3761],[86]],
-"x2856691a0c677a07":[[528,1380,139],[13,6,5]],
-"xfdfd206aaf39925c":[[2931],[3]],
-"x8347d1575840d3ce":[[3836,2420,3763,3567,3756,3956],[27,21,18,10,4,3]],
-"x72f29e0b6a36c4c8":[[323],[4]],
-"xae3b43ca7f6a250f":[[3963],[3]],
-"x105d2f4113ed731f":[[3820],[3]],
-"x4065d0d41846781c":[[3437],[3]],
-"x45e5409cad6ad43e":[[3902,1618],[12,9]],
-"xa92d8179bcf5fc25":[[3169],[9]],
-"x1345b6da4b736254":[[3956],[3]],
-"xe502cacbf2db848a":[[1554],[3]],
-"x55a5369fc1dd859e":[[2331],[11]],
-"xc86c76db88db2bcc":[[918,666],[7,3]],
-"x9be634c9156cf352":[[3051],[3]],
-"xffbe0ba1d169116c":[[334],[4]],
-"xe8635d29d54c1ddf":[[2919],[4]],
-"x9299d4feb7cd438b":[[2919],[5]],
-"xf0425803eeaaf068":[[1569],[6]],
-"x19635c26df9a8e5d":[[3690],[6]],
-"x9c84db9c2fd4e22a":[[666],[3]],
-"x5ba79f7922448620":[[3947],[5]],
-"x7a759ac0c06d2655":[[3808],[2]],
-"xe567d62c4ea646a7":[[1764],[3]],
-"x2cfd73cde84ff96":[[3902],[1]],
-"xe06581ee40704b2e":[[3902],[2]],
-"x932018b78cd7614f":[[82],[6]],
-"xf776a8d622c8afdf":[[3929],[10]],
-"x9369ebd6c17564dc":[[1568],[9]],
-"xaa0ff1c6e5f9c175":[[1553],[6]],
-"x47650ecd6b693c2d":[[918],[2]],
-"x7d9f035c30b8a620":[[405],[3]],
-"x982cd417dc346571":[[2260],[5]],
-"x295cc5acd9e4b43":[[3902],[6]],
-"xb08f8fa955eba652":[[3836],[22]],
-"x22255d3cfefc78e9":[[731],[22]],
-"x2234775dd6a4f09b":[[3902],[7]],
-"x7cda89e06f00b12d":[[2434],[6]],
-"xa1f85b3dc429d0f1":[[3699,2982],[4,3]],
-"x55f561a8be5f7d2":[[617],[3]],
-"x66ccfcde564232c9":[[75],[13]],
-"x6da1da882efaa336":[[3389],[29]],
-"x1bdf83720465b01b":[[2932],[3]],
-"xd1e39369cd118586":[[3363],[4]],
-"xd03049b47793f48c":[[1355],[4]],
-"xdb56ef0249ccdac3":[[3690],[4]],
-"xac57eeea262af398":[[528],[3]],
-"xaa22deab73b6e1de":[[3958],[4]],
-"x5878110da419e532":[[3817],[4]],
-"xd644faa1654ed045":[[75],[5]],
-"xe4ceb7857fc8ede9":[[3372],[26]],
-"x949b84e3ae67241d":[[3502],[13]],
-"x1897b9d39d5c53ed":[[3902],[8]],
-"x44082d2ac1e1a7c4":[[2284],[3]],
-"xd438a8daecac7b63":[[3690],[15]],
-"x57986df8f41e8930":[[339,405],[6,6]],
-"x960d8e8094692b82":[[3177],[3]],
-"x4b3e236fb85f1ef":[[2356],[3]],
-"x706c4ecb172fe806":[[536],[2]],
-"xdc29d0f283269926":[[1241],[4]],
-"xb1eeb82ece6856e7":[[3699],[3]],
-"x4147d4417133440d":[[3902],[2]],
-"x4632bdc2a4915a8":[[2852],[7]],
-"x8f5f2379d7ab57c6":[[4013],[20]],
-"x6a9d1d3ce1a7e4f8":[[1841],[4]],
-"xa3dfd7c4d2d416dc":[[82],[11]],
-"x523cfba827708e61":[[148,284],[19,16]],
-"xe009188555962644":[[3690],[10]],
-"x969913a34b8928b5":[[146],[9]],
-"x2a8c0dda3110526c":[[3374],[6]],
-"x5ff87f1a6f7b7679":[[3947],[4]],
-"xb7c2b9cb81a66a90":[[324],[7]],
-"x37ea1e8b3a93afe3":[[3963],[3]],
-"x94fc93529a8d8a3a":[[82],[7]],
-"x55daac2c6623c39f":[[2527],[3]],
-"x209ede6caa86f2":[[2299],[5]],
-"xa94fbdd3b9cfa573":[[1876],[4]],
-"x6e6608fe007f2e8e":[[3827],[3]],
-"xc51e7841a63a2c67":[[3690],[8]],
-"x1786b04fd065da2":[[2602],[4]],
-"xe2e1d3148e577aa4":[[2260],[1]],
-"xfdbd8f9891d461e3":[[732],[5]],
-"xabe507d6d61ff5c9":[[1176],[34]],
-"x18ee9778a4f204c6":[[3958],[187]],
-"x7cf609e4471137b3":[[2163],[2]],
-"xa0d23168348ac7d9":[[3749,2908],[7,5]],
-"x30179b18a154b3bd":[[3902],[1]],
-"x949f462d17100d1a":[[723],[4]],
-"xeec9f92a7a1aaabf":[[3307,3902,3690],[49,9,8]],
-"xc14a52e7c916aa32":[[1763],[4]],
-"x42f24d34edb7d927":[[3902],[16]],
-"x44da675a1eaf286a":[[1098],[4]],
-"x87e53bf982e12559":[[3177],[2]],
-"x429ef897f801361c":[[1371],[2]],
-"x7f55cd6640f23e9a":[[3699],[5]],
-"xe63d774f5d45138e":[[2720],[3]],
-"x2a191279b4fb08b":[[405],[13]],
-"x67ca84998bd13433":[[2787],[2]],
-"xed515d98db501a3a":[[853],[4]],
-"x4db034e28a48e698":[[3956],[4]],
-"xc90c1fc1e271a6ad":[[2396],[4]],
-"xe86ba2d1cbfce646":[[3169],[4]],
-"xf2b824a7a717839f":[[4013,3372,3364],[15,5,2]],
-"xec7436e75db62131":[[981],[6]],
-"xb271a1c7cb9e6f9f":[[2919],[3]],
-"x4050207f83f81c9d":[[1242],[5]],
-"xb66cad483bcdb228":[[332,148,1770,918],[35,34,13,11]],
-"xcb1d3b5af1fe936":[[3958],[26]],
-"x700e9f6fdceb75a9":[[991],[4]],
-"xed86d75b75a0fb78":[[861],[16]],
-"xf70ea5f9a3d683f5":[[2915],[6]],
-"xd9a05ec37ecbfe88":[[3300],[3]],
-"x2569f456c4df1de1":[[1880],[6]],
-"x15006fe10b7342e6":[[1347],[3]],
-"x402cb26e3d8f65c5":[[1764],[186]],
-"x1264efa6b193f0e1":[[321],[4]],
-"x41e26fe202dfb636":[[1770],[4]],
-"xfcb5b0422ef2ad3a":[[658,666],[24,23]],
-"x380ef8dafadfb6d9":[[991,129],[10,5]],
-"xb46393b24dcd5235":[[203],[8]],
-"xb42b6cd867de2a0f":[[1180],[5]],
-"x4e50e83c54d1429c":[[269],[4]],
-"xe4347c70c70628de":[[2029],[3]],
-"x8326d94ac22e1a2f":[[1699],[3]],
-"xc5ab14752d59ad1c":[[658],[9]],
-"xd723032c597a55a6":[[3902],[4]],
-"x6d5eb6c669d443b0":[[3828,3763],[14,2]],
-"x5a8eda6125420652":[[3962],[5]],
-"x569ad4fb49aa50ba":[[1308,601],[3,2]],
-"x34af3dfbdd5053a2":[[139],[6]],
-"xbd206b92b3b7da0f":[[323],[5]],
-"x144944cb6825e67a":[[3104],[4]],
-"x5f21a491c7efd261":[[1819],[4]],
-"xa9563c27d09fdf11":[[3567],[3]],
-"x41a2391198ed0cab":[[3958],[3]],
-"x6892124e38cd04b8":[[129],[3]],
-"xdd7f9a314f074bdf":[[1179],[4]],
-"x8cd8bbb08d07ef07":[[2657],[3]],
-"x8a384355e82f561a":[[1179],[6]],
-"x7913207b7b60de1a":[[3902],[8]],
-"xa30ad7e9ded608ff":[[82],[5]],
-"x841c2e1cb14fd0f2":[[3177],[3]],
-"x75b22a5ab98f93a1":[[3761],[11]],
-"x5fdab67e71ca49b":[[1544],[3]],
-"xb491cf2649c8d7aa":[[323],[1]],
-"x6d31de153239efc6":[[594],[6]],
-"xff665dda36ddd66c":[[3956],[13]],
-"x169b21a9acf51db2":[[861],[4]],
-"xb7fc78cc7a448638":[[2908],[7]],
-"x8d11e2e35aab88a5":[[3742],[5]],
-"x25f043b43b2aaac0":[[732],[29]],
-"xcdef48f48f5b027c":[[2478],[6]],
-"xb65353b5905758a3":[[137],[4]],
-"x6c16089b43fca270":[[536],[4]],
-"x8cec7a573ead6133":[[4013,3958],[52,6]],
-"xc31d06c31efbb6f6":[[3307,3104,3808],[26,9,2]],
-"x881b734d69a410ae":[[148],[7]],
-"x9dcd5315060cf43c":[[593],[3]],
-"x989297b6a6c044":[[1867],[3]],
-"x182060c3eb9d1716":[[82,731],[11,8]],
-"xa7f97cd1ed3b3411":[[3242],[6]],
-"xec3ca2895ff24035":[[1941],[2]],
-"xf0aae53df103337d":[[3372,3699],[18,2]],
-"x4fd44c775b2d769a":[[339],[6]],
-"xf8f5ecda6bf1cf5":[[3502],[5]],
-"x4bd5091f469008d7":[[2788],[3]],
-"x4cfa9c415b6f89d4":[[2267],[4]],
-"x877c3830ac3c22a1":[[3956,2592],[6,2]],
-"x4de189c06be8453f":[[3752],[2]],
-"xe90b7e5cd41aab20":[[3817],[2]],
-"xae78589d70bbc1f5":[[4020],[5]],
-"x1ad9edd562adb4e9":[[3699],[4]],
-"xd3d422f0fb70876a":[[1187],[4]],
-"x2fca5d5384ec764e":[[2281,3690],[19,3]],
-"x38f1d722999f492f":[[2203],[15]],
-"xb8334dd222ea41e7":[[1308],[6]],
-"xf4ee13ac0fed7b2d":[[399],[5]],
-"x39c92fc8696a0da6":[[2204],[6]],
-"x32de210c386451d7":[[262],[5]],
-"xd9d3928198330a61":[[82],[4]],
-"xfbd29065dd3df5a5":[[2917,3958],[47,45]],
-"xfa47e35847c3d2fb":[[3583],[6]],
-"x36ffbe0cdde47ff3":[[2867],[4]],
-"x9ea26ee0fc135fc3":[[2916],[10]],
-"xb1ebcefd44fc29d2":[[918],[9]],
-"x6cf62285f223bae1":[[1899],[5]],
-"xdd44c303de88a148":[[202,82],[44,20]],
-"x6209574884739e21":[[3699,3177],[11,2]],
-"x258b2310ae3f1f9":[[262],[6]],
-"x5d02cb87c9ebe33":[[2908,3958],[12,5]],
-"xa14a80c275e6934b":[[1902],[5]],
-"xafc4ebab2aa1bcc7":[[3177],[4]],
-"x92b84ba23f1d3a7b":[[721,262],[6,2]],
-"x66d31feefd1b3404":[[3299],[19]],
-"x14160be58d91d7b":[[3364],[3]],
-"x16ea454dc7292b6f":[[536],[14]],
-"x2ea149230fb0493a":[[3112,4013],[5,3]],
-"x682d7616b91ab415":[[3817],[6]],
-"x133a696158afe1ac":[[2089],[3]],
-"x352386a8eff8e370":[[3242],[3]],
-"x2c3d0dd1edf2a5df":[[594],[7]],
-"xbe7c435a1a68dcaf":[[334],[8]],
-"xc208a43135aa5600":[[3902],[22]],
-"x98900e6ad7d30a11":[[666,82],[24,5]],
-"xb2f2d6c2479a3f5c":[[2908],[2]],
-"x8c0652e4886b1aa2":[[731],[5]],
-"xd37b3413ac4e8455":[[1652,1618],[4,4]],
-"x13a3c9f996d6ba46":[[3567],[3]],
-"xb9125da4b774187a":[[2592],[5]],
-"x1304373eee8d8e72":[[3502],[8]],
-"xbba4c03a46232ca":[[4023],[3]],
-"xc474e0095ae2c74e":[[3958],[4]],
-"x3b87646a59072438":[[4013,3502],[76,2]],
-"xf3ac42c81b9b2638":[[1307],[9]],
-"xb550f9fa0841bbc6":[[2585],[2]],
-"x61b0cde7cfd9dde4":[[3956],[2]],
-"x9ee68b5e6138c5ba":[[3567],[5]],
-"x5b3e64029f006f31":[[3817,3307,3372],[6,4,4]],
-"x8ae9465e01122f5b":[[324],[6]],
-"x970505930c2a9473":[[332,339],[37,23]],
-"x5d4880ee9eb67e20":[[2477],[14]],
-"x8c4724c13aa36965":[[2276],[3]],
-"xd07724063faa4dec":[[3902],[5]],
-"xf373dc8a2cc8220c":[[213],[2]],
-"xcc5dd11e4f3aac2":[[3,323],[11,3]],
-"xefd1ee5fe184fb66":[[209],[12]],
-"xa4a3758f57a09a46":[[1321],[3]],
-"xe8e1b464ce8d64d":[[3309],[2]],
-"x3d672662ab45a056":[[861,334],[27,5]],
-"xa9e4d9dccaa8d808":[[1171],[3]],
-"x36f68266afa27697":[[3947,2915,3112],[4,3,3]],
-"xa976f06ea433f61b":[[2137],[3]],
-"xffe461823220a415":[[3964],[6]],
-"x18137fd250fad8d":[[262,204,1762],[224,33,4]],
-"x741c2d0e563d78f0":[[262],[5]],
-"xc3cc4a3b60ec8c95":[[2333,3808],[3,2]],
-"x3b328b926c2a1e3a":[[3699],[3]],
-"xfb09f80ab2555eca":[[3956],[6]],
-"xa9708091280c42a":[[2265],[5]],
-"xc1dd5492cd1a40f":[[1894],[2]],
-"xce07be9c81f6f1d8":[[203],[6]],
-"x90207f016bc96ddb":[[658],[5]],
-"x1789b387624097c0":[[2673],[6]],
-"x4b1050d125b1855b":[[528],[7]],
-"x735911b04f5e9a88":[[137],[7]],
-"x5c5eb75f5b9a0a65":[[3502],[6]],
-"xd5931be92e14307b":[[3169],[4]],
-"x494dbdf308e068bc":[[3964],[6]],
-"xf816342a20e1e38f":[[3964,3642],[3,2]],
-"x26f05ef1ea475681":[[82],[4]],
-"x34af59a603eac99e":[[137],[15]],
-"x9f86856ae0aed1ed":[[398],[4]],
-"x1f38c1aaeacef1e0":[[3690],[12]],
-"x969d9383a6fe5f00":[[3699],[2]],
-"xaef7a42bcac80865":[[3567],[5]],
-"xef8b454a600084ca":[[262],[6]],
-"x69d62f3b7e0c510f":[[2203,3372],[37,5]],
-"x1bf9d42af38c1bda":[[593],[11]],
-"xb5579c27e1a23d97":[[3177],[7]],
-"x6a9fe653db4ff2ae":[[2975],[2]],
-"xb1f0dd7e7e658597":[[3641],[8]],
-"xb6dc76d37c0e8aec":[[2203],[3]],
-"xd1ac5496aab17aa1":[[166],[5]],
-"x3ca3761d6dd0e5cb":[[3938],[6]],
-"xc2e6d71771f77563":[[202],[5]],
-"xd977f6895fba4057":[[3177],[6]],
-"xba9b74377a5080c5":[[1642],[18]],
-"x2c0e3f072deee8f7":[[3502],[3]],
-"xd343a9b7b9f8a148":[[3808],[7]],
-"x6e883960a31e749b":[[2908,3938,3956],[113,20,7]],
-"x4280bfc5f06a40ad":[[3948],[2]],
-"x22ddead9c72065fc":[[2527],[5]],
-"x527fb08b9f07cc1f":[[788],[3]],
-"x76e55833e49af70b":[[82],[5]],
-"xb29d5f78e8cd0fc1":[[262],[28]],
-"x1caf9825c591517c":[[262],[5]],
-"x21b42eac05e6c696":[[3309],[4]],
-"xa624b647efcc3144":[[2787],[4]],
-"x954fce8dbe4e4c42":[[3958],[5]],
-"x2e90af859a64e021":[[593],[4]],
-"x6d51d6588670cabb":[[16896],[5]],
-"xcb35f33b8e4c8d7c":[[3567,3699],[4,4]],
-"x4497997425fbff24":[[1827],[10]],
-"x20f75e28155ba7f7":[[1090,1099],[6,4]],
-"xe90958408cdfadcb":[[1302],[6]],
-"xc8479faa00af2c9":[[3104,2722],[16,13]],
-"xbcc09f62645d3c1d":[[4020],[4]],
-"x4cbf38630d9a7cb8":[[2931,3754],[3,1]],
-"xd299218871539bd8":[[334],[5]],
-"x547fbdd4e7cb0f90":[[1611],[6]],
-"x8b817dbf0742d6d":[[1249],[6]],
-"xe7935d8b0a6839cc":[[209],[3]],
-"xd928f6dfa4f42fe7":[[3902,2919,3325],[12,6,6]],
-"xb4d895438203cd89":[[211],[3]],
-"x74dc51ec4ea1ed09":[[3763],[2]],
-"xf66d7107f827a72e":[[788],[3]],
-"x46479342c6f67823":[[536],[5]],
-"x238068b4946e113":[[4021],[6]],
-"x63cbc5a56deb66f2":[[4013,3234],[4,2]],
-"x50eccac3f0f4c4e":[[3,2139],[6,4]],
-"x967a8d41fccb3a43":[[1085],[6]],
-"x5692f2ff6a2620ca":[[75],[3]],
-"xecdfb0dce29566e6":[[773],[6]],
-"x8e21348ff75fc51b":[[3],[3]],
-"xa7794faa35da9383":[[3690,3372,2258],[10,9,8]],
-"x1a00cbc7416205c":[[2131],[6]],
-"x8bb3b3b500a4cca5":[[3366],[4]],
-"xb837d29988bb3deb":[[261],[4]],
-"x384badf2136d10d2":[[3288],[5]],
-"x80ed2f13521f068e":[[991],[4]],
-"x23f590f2414a554c":[[2720,3827,2745],[21,12,11]],
-"xf65c642cab87e077":[[796,405,918,166],[695,25,4,1]],
-"x8597fa034a5ed9bf":[[1397],[4]],
-"xbfa59b448c520160":[[1748],[8]],
-"x51d2bf21d3e37c06":[[4013],[3]],
-"x503a78350752046d":[[3567],[8]],
-"x418fef19f2b2de26":[[324,138],[6,3]],
-"x4d22195da97b8502":[[794],[5]],
-"x10bd50e963cdf39e":[[658],[3]],
-"xe73fdd886bd9f4b":[[3307],[5]],
-"xc435f1bb44acc452":[[3309],[4]],
-"x1cc0a3dcd2c4d2c5":[[276],[3]],
-"x7a720f5807c8774b":[[137],[6]],
-"xf83b418e2490ad77":[[3690,3234],[6,3]],
-"x6bd7b490a8af2960":[[2043],[3]],
-"x7c9e745a63fe58c7":[[2281],[7]],
-"x60a720cb47b20dda":[[3234],[3]],
-"x679cd17bebe7c12f":[[991],[2]],
-"xb4d3c10da6915d85":[[1635],[3]],
-"x1bdc2dfea2bcaf4":[[3742],[10]],
-"x867ca78caeaf8ba":[[3299],[4]],
-"x17da542f25a8893e":[[166,1697],[7,4]],
-"x281d068bf94b1db1":[[3474],[6]],
-"xab11d521916e4f90":[[396],[4]],
-"x5eaf0adf1c383509":[[1827],[7]],
-"x449baf763270dad1":[[3958],[5]],
-"xa421d85126a70f0f":[[2200],[6]],
-"xc200aa4031a12cbd":[[709,593],[7,4]],
-"xffec00859da010af":[[2308],[4]],
-"x8b3879078d8c3d03":[[334,405],[142,48]],
-"x92d2550d34902fa1":[[983],[4]],
-"xfd53a2f12c96a753":[[262],[6]],
-"xa361adaa68fb5576":[[2851],[7]],
-"x6db4dac3ba690452":[[2269],[3]],
-"x953774fd3acb0142":[[983],[4]],
-"x243b68c9d9274fb":[[1112,322],[6,5]],
-"x64b3dd34e7428b5c":[[3300],[4]],
-"x6d6e2d96fac71f78":[[2266],[22]],
-"xb19417a793a6930":[[334],[3]],
-"x7d7b32c6614edf60":[[3938],[6]],
-"x7e95b11b4b1feb2":[[2715],[3]],
-"x6122674860ef300c":[[2323],[7]],
-"xfa6dc7baeee68b6":[[796],[3]],
-"xcc83b4163f609943":[[1307],[3]],
-"x6331d7be6a1bba27":[[2281],[7]],
-"xb8b83be335c66476":[[3307],[1]],
-"xdc76140e2a695d03":[[536],[3]],
-"x96af7ebad9937271":[[3779],[4]],
-"x8efb90e3789db7e":[[729,334],[6,1]],
-"xd032966a7e5ded98":[[1762],[4]],
-"x66655f0f00a90759":[[204],[3]],
-"xb388c033f0f9469a":[[2916],[3]],
-"x91584f650e3534b4":[[1371,219],[11,6]],
-"x65413469ac84a368":[[4013],[2]],
-"x184fdecdfda50ac2":[[3641],[4]],
-"x4aa8837da6fe7e6d":[[1308],[6]],
-"x3fb0467878b8e38d":[[2203,3567],[15,5]],
-"xe4d8f948bec7c406":[[3299],[3]],
-"xe0ea76abae6bc080":[[3046],[4]],
-"x885f6dfaaabfaf24":[[658],[1]],
-"xca382b1b4dbd122":[[2666],[4]],
-"x65f232a6f0144c87":[[991,332,528],[10,7,3]],
-"x1420960c4e2bc458":[[2],[3]],
-"xa1cbc50379d66eb2":[[3502],[2]],
-"xd148ca14ad18dfd3":[[3902],[31]],
-"x28ab74122a7fbb4a":[[1643,1652],[5,4]],
-"x313862f216689dc2":[[3],[3]],
-"xc8b953b1a7785c3f":[[1675],[6]],
-"xd1247e90a11b81c0":[[137],[3]],
-"xe4564e6d3b661479":[[794],[4]],
-"xce61993c75619d1":[[2332],[3]],
-"x245fe0af3e480ddf":[[3309],[5]],
-"xffd1309576f246c9":[[3643],[4]],
-"xe5e42aea5aeec703":[[3762],[4]],
-"xc927a821fd69c9c":[[1242],[309]],
-"xe03783a7e27638a3":[[148,262],[37,23]],
-"xa0226ab03846ea69":[[4031],[3]],
-"xc832e4836e5d1fb6":[[262],[10]],
-"xc17db198557d76d4":[[262],[111]],
-"x4cbb7007916f86b8":[[1763],[3]],
-"xaebcf6ee1ecb1a":[[789],[7]],
-"xca1f822370873134":[[3307,3929],[62,17]],
-"xabfd2e75f4e2db9":[[3503],[3]],
-"xf3ad85cd0e6f1e2f":[[3826],[7]],
-"xf97c1272cfa47c94":[[3958],[3]],
-"x72cf9d3526515815":[[398],[3]],
-"x2b88204c0bd23b6":[[204,1681],[18,6]],
-"x4c931e4b475ddf23":[[593],[1]],
-"x3ea0eeb80e2e24d5":[[2852],[4]],
-"x8a4262a5b801ca48":[[2204],[3]],
-"x927ac9f3c024e920":[[3389],[15]],
-"x40cee93620eec5fd":[[202],[6]],
-"xec63e12f16da4fb7":[[2227],[2]],
-"xd8e3c79753352d18":[[1293],[8]],
-"xfb58fdd1bf4048ed":[[3958],[56]],
-"x2567a57e3824d949":[[1762],[4]],
-"x8e3f30b34f72b492":[[1745,1761,861],[6,4,4]],
-"x1129387d18e8381a":[[3112],[7]],
-"xbd6c657e703ff0d2":[[2203],[3]],
-"xbbb03b616f218fc2":[[1773],[4]],
-"xcaac5938d3cd05b8":[[807],[3]],
-"xd5fa9c7db842d30c":[[1050],[5]],
-"x7926607bea1b7622":[[334],[4]],
-"xb96bd0e60eff672a":[[360],[3]],
-"x716fb823d5628d90":[[2137],[8]],
-"x8c10f4c5c5c19fa9":[[405,918],[62,37]],
-"x3db5047663b68d9b":[[324],[1]],
-"x3217a25fc5fe72c7":[[2266],[2]],
-"x85ebf35c17e97190":[[1745],[7]],
-"xdb054bc199332a4a":[[1611],[6]],
-"x4286c224908eb690":[[2477,213],[8,2]],
-"x4a67056485167a6":[[1371],[6]],
-"x9c69a94b1bd83178":[[3313],[3]],
-"xa14bf8f0b30d2b0d":[[3288],[7]],
-"x50fb4e952b22abcb":[[3699,3169,3826],[22,13,6]],
-"x1cc3fa9cea37de43":[[788],[3]],
-"xfd7c26cb6554fc49":[[1762],[11]],
-"x77973160f333e51b":[[139],[3]],
-"xff41312564b97d74":[[1697],[11]],
-"x64e0c62687451d57":[[204,1828],[7,4]],
-"x793aa811c7f191a":[[2331,3742],[11,1]],
-"x8325c6f5ac8116a6":[[714],[3]],
-"x23ba7d095ade12fa":[[157],[7]],
-"x4d6257dfad42eb8d":[[1902],[10]],
-"x7446cd7480dde39f":[[3956],[7]],
-"x55cb5144db29c273":[[3169],[5]],
-"xc4ed1a5347f8c085":[[82],[3]],
-"x43fe57539f015a48":[[1],[3]],
-"x1d9fb5c16a256e67":[[332],[2]],
-"xfbca8ec227e07a2b":[[292],[96]],
-"x9d2c669c4b9255a8":[[861],[3]],
-"x19e028720b13c940":[[861],[4]],
-"xde9da1615902da7":[[731,658],[8,5]],
-"x7473ac064076835a":[[3642],[3]],
-"x9100bceec6e9d892":[[3306],[4]],
-"xd293a6263bd9fffc":[[3699],[3]],
-"x23198a2e91402f6d":[[3763],[16]],
-"x324e05c834174644":[[258],[5]],
-"xac8f7b94a62e80c6":[[1971],[8]],
-"x67ded13be9a5e24e":[[2572],[3]],
-"x87a8f38a47b09603":[[3178],[3]],
-"x9d076de6cbb37075":[[1177],[3]],
-"x767badb06d935267":[[918,601,788],[12,5,2]],
-"xf97aacdcab11b6d1":[[739],[6]],
-"xd17682efd8db9d8c":[[1959],[3]],
-"xe9d4b81d200997b1":[[3956,3241],[10,4]],
-"x3e8722db3b37193a":[[2869],[3]],
-"x24877bc32edfeba5":[[1309],[9]],
-"x827c7079ca97d0c4":[[204,1762],[16,10]],
-"xcba3c499f84121c8":[[1371],[20]],
-"xdd24d3506f1dbd79":[[3956,3763,2715,3826],[130,29,29,13]],
-"x10b7fce60fac9640":[[658],[9]],
-"x82da04857368b7f5":[[3307],[4]],
-"x2e64fd5e4133b030":[[730],[6]],
-"x541f1afaead8a6e2":[[202],[5]],
-"x2d2c50ecc8df2fba":[[1828],[4]],
-"xf0c7fc282d56d881":[[333],[10]],
-"x17e036e145c9879f":[[3690],[52]],
-"x4f82150e43a4fff0":[[794],[4]],
-"xcd2fbec1cf55ce10":[[3690,3177],[38,6]],
-"x1403616263eb32e1":[[262],[5]],
-"xef6e8024de574e70":[[3819],[3]],
-"x8758ef0ab58f201c":[[1812],[3]],
-"x41d73f88b04c41e9":[[262],[67]],
-"xba9c1bfd94b26d2b":[[1179],[7]],
-"xbcce5c44e7ac5d0f":[[991],[6]],
-"x17d4aa9aa7a0aed0":[[204],[8]],
-"xd90145eeae99fe63":[[2021,983,853,209],[9,9,6,3]],
-"x868d3641542bfe84":[[139],[3]],
-"xbfb2c3b089a09647":[[3690],[30]],
-"xe46359be5fa972f5":[[3892],[4]],
-"x2d9e89f573f00cfe":[[3699],[3]],
-"x7c8e79761b1c6edd":[[983],[3]],
-"xa13d4f4b6fd439fa":[[148],[4]],
-"xc5d3715612f826f4":[[1741],[4]],
-"x9eea354bdc00269a":[[222],[3]],
-"x2971c0a13b3535d4":[[1380],[4]],
-"xdb9649e0ba3322f6":[[3517],[3]],
-"xe82cc9e72e5514de":[[2715],[1]],
-"xde1dbad92bc24532":[[4013],[3]],
-"x5fd93779edff9bac":[[3234],[4]],
-"xdf124cf601f19614":[[3242],[7]],
-"x48b47794f83180b8":[[3899],[3]],
-"xa6d112f0c8d900e4":[[2915],[60]],
-"xe4b782b47f353c9":[[262],[14]],
-"x85e5014037a639e1":[[258],[4]],
-"xce04a02b2b75f11d":[[203],[6]],
-"x738b7b7e95289a9f":[[1373],[6]],
-"xf160c563622c28d6":[[3902,2266],[166,2]],
-"x954da04894878d67":[[593,2346],[3,3]],
-"x58732a28222ad7ba":[[1763],[7]],
-"x31552e3f11f99679":[[3169],[7]],
-"x69723aa88f1af3e9":[[3234],[3]],
-"xa4a562236238307c":[[82,405],[77,5]],
-"x771e97f3ccca6da1":[[139],[25]],
-"xf15f39f78340a365":[[709],[3]],
-"x4090319380cc952a":[[1878],[4]],
-"xb4fafa8e14dd775e":[[3365],[3]],
-"xe35428071997d063":[[3902],[8]],
-"x9c0bdc10949e2f93":[[3306],[3]],
-"x2e6a29b80290943a":[[1290],[6]],
-"x2a20e873d7a6b316":[[3690],[22]],
-"x40acfc6bc3ba12e8":[[166],[2]],
-"x952ead50fc04ae37":[[2479],[6]],
-"x97bd9f03d47b0f9a":[[3690],[11]],
-"xcf18c712829a76f1":[[3567,3827,2720],[41,14,1]],
-"x6eddf498a90b97a6":[[2131],[6]],
-"xaee5ab641b219372":[[3902],[6]],
-"x819b803584e4de34":[[733,536],[8,5]],
-"xaf5e3801659a8e86":[[991],[3]],
-"xc003224de1ae98c6":[[3502],[5]],
-"x609ae16c58cd877b":[[405],[8]],
-"x2bd04f547d36db74":[[1179],[5]],
-"x85dd46229971094e":[[339],[3]],
-"x99e164ff3c4d1d80":[[2346],[6]],
-"xed813bd38bfa7588":[[2997],[4]],
-"xfc848d6b2fb36c5f":[[391,148],[8,4]],
-"x58ea918f744a3cee":[[3690],[5]],
-"x6942765db3fea2c3":[[3902],[10]],
-"xe9c54254aa1c10ad":[[3567],[6]],
-"x4faf20b77d96df71":[[2722],[5]],
-"x5c1339468b20d426":[[75],[5]],
-"xe8f013948f5fa73d":[[2266,3177],[15,9]],
-"xabb9508488598090":[[2549],[1]],
-"xb7d0c78da9249e05":[[3370],[3]],
-"x921f9ee1333e68ef":[[983],[6]],
-"x9f81c6f8c36c5f26":[[3306,3178],[49,7]],
-"xd8bbb2dde526bf46":[[3501],[12]],
-"x9b0cf1cac00c1c04":[[4031],[4]],
-"xef7892f50e99a952":[[3169,3956],[5,2]],
-"x7630966b977a4e30":[[3902],[12]],
-"xc3ade3d4ae7ecba8":[[666],[4]],
-"xc61ddc5c265e9f38":[[1828],[4]],
-"x6c675340f9b72076":[[262,983],[3,2]],
-"x3e976ea8ea5aa19a":[[789],[3]],
-"x6b72ffda6ac6c959":[[3902],[5]],
-"x39f9df703fecc44b":[[332],[12]],
-"x3e0353a30976a5c9":[[213,211],[5,3]],
-"xd0d0e780a0f1cb3d":[[2387],[3]],
-"x91cad0a6dea7637d":[[1249],[4]],
-"xbaa6c6f68c918b0e":[[3821],[13]],
-"x399833860bf52ee5":[[1308],[3]],
-"x4cb0e3232678354d":[[861],[12]],
-"xd50b278c2d515e00":[[2476,1185],[5,4]],
-"xe41993dac152c015":[[82,194],[9,1]],
-"x7cf2e101d6e2d152":[[3690],[3]],
-"xb3edc7e63e35be52":[[2724,3947,3169,3559,2715],[25,6,5,5,1]],
-"x3c4fd7ff8a7e60b0":[[339],[10]],
-"xcf5b388de620ce26":[[1941],[4]],
-"xf029c67ea7beb93c":[[536],[4]],
-"x14704db9b47f1ff4":[[3902],[1]],
-"xe60c8285bda1e665":[[2082],[4]],
-"x98fdb264618360f":[[2915],[9]],
-"xfb3f874522d5a7a4":[[4013],[13]],
-"x88892658ea4e916b":[[2203],[5]],
-"x473d1c73d1b56971":[[148],[2]],
-"x30f3572442ebb5d6":[[222],[3]],
-"x92be77910b26d115":[[3307],[3]],
-"x30edefa55de6f9df":[[3297],[6]],
-"x92def57d318a94c4":[[1569],[4]],
-"xb41464df682eb2a0":[[82,75,1828,1827],[906,419,132,80]],
-"x5abb44740d21fccc":[[1616],[3]],
-"x793c7751fd6496aa":[[339,1828],[6,5]],
-"xf88a3d0438245edd":[[139,202],[10,6]],
-"xdd2c5a95c0c903c8":[[1114],[6]],
-"xf004b14a7f663b8b":[[3749],[6]],
-"x9392ab8831b6322b":[[3938],[3]],
-"x924016bc5ee2536":[[262],[2]],
-"x87f6f728ee3a5da9":[[3963],[1]],
-"xf6c2cd859a2c5799":[[2720],[4]],
-"x3f5dcce8772a92c1":[[3963],[5]],
-"xf3cdd82a823b3bd4":[[405],[7]],
-"x92ac0f46483916d3":[[75],[10]],
-"x192898d95a1dddbe":[[324,1308],[7,4]],
-"xd48d6b32fe38dab3":[[2851],[4]],
-"x53027d4751c0f95c":[[1699],[3]],
-"x5119366dd21cce57":[[1438],[6]],
-"x1e82b57e1a27e340":[[332],[4]],
-"x206109ae188602ea":[[2200,3642],[12,11]],
-"x53de2da996856e0":[[3964],[2]],
-"x6dde57fb8d90d30a":[[658,666],[8,4]],
-"x2c31d6f3c4e454d9":[[3234],[2]],
-"x85919e4590eb8d8d":[[278],[2]],
-"x4560c775605f3010":[[3177],[4]],
-"x70f3ece01c809aec":[[3567],[2]],
-"x41b1275b1447a0e1":[[3177],[6]],
-"xd6af350d53330d30":[[262],[6]],
-"xdf7c1038cc9fc3c3":[[82],[22]],
-"x349abd205da4d1cf":[[405],[2]],
-"x9ddf45b7a421f699":[[3828],[5]],
-"x6d487036b909638c":[[983],[2]],
-"x64831271afff41ac":[[3307],[9]],
-"x7aaf610769959f30":[[1837,1814],[54,18]],
-"x3a48d6441398c396":[[1308,139],[3,3]],
-"x6a8ef9eb7d31483":[[1176],[3]],
-"xc7553456979a022c":[[323],[10]],
-"xf139ef78997552b4":[[3502,3763],[4,1]],
-"x7e35779eab58e9c0":[[3299],[17]],
-"x22cc180b3cfc87c0":[[75],[15]],
-"x7737ed30f133d88":[[3817,3307],[8,2]],
-"xba134eb717fa6a04":[[3483],[5]],
-"x7c3cdfbda05e3049":[[3242],[6]],
-"x220cb6f5c7339664":[[1502],[3]],
-"xc77c96973fb287e5":[[1282],[13]],
-"x9559bc424bd764fc":[[3],[3]],
-"x82a69d3657f940e3":[[1067],[2]],
-"x642cbd3a848e2180":[[262],[3]],
-"xedb81a2060cde5cf":[[2048],[4]],
-"x78066286c85efa62":[[3242],[8]],
-"x68beea8b14611b52":[[1697,405,75],[105,26,7]],
-"x85a90ed151c3f9ab":[[137,1828],[4,3]],
-"xf301f7529de7da26":[[157],[4]],
-"x614a988cf8cb9908":[[528],[8]],
-"xdf4e73786d400f40":[[3169],[7]],
-"xa10ed69faf14a385":[[3898],[4]],
-"x23ff0e954ab4da6a":[[262],[3]],
-"xc45973059ca59565":[[1762],[5]],
-"x60a4598bd11d555":[[770],[3]],
-"x896a31c210d5a7d3":[[4013,3826],[6,6]],
-"x8b448a11f91ecc56":[[861],[3]],
-"xb25d797b810dd94c":[[3047],[4]],
-"xb288cef40ca36bb0":[[157],[4]],
-"x549c089dcde20874":[[2915],[8]],
-"xa0d73e0dc22d249f":[[405,731,723],[10,7,6]],
-"x526b96a36b2eea55":[[1776],[9]],
-"x3fba8749d622f2":[[262],[13]],
-"xa03633a25281e125":[[3307],[3]],
-"xd6a52ba22c274313":[[788,1355],[34,6]],
-"x1a574710bcb1327b":[[251],[2]],
-"x1031e011a54639c":[[852],[3]],
-"x267ac3d2c835bb99":[[1307],[2]],
-"xc10f68d15fdd82bc":[[211,528],[7,3]],
-"x72ef4a9da8e0c92d":[[1826],[5]],
-"x6b2bb7c6681047af":[[2527],[4]],
-"xe848419ec14350d1":[[139],[7]],
-"xad717a9506d02b82":[[2128],[21]],
-"xf39a7d1498a072ba":[[1371],[5]],
-"xd5c67cb58c62bc4a":[[2868],[3]],
-"xab003047c29b5a9":[[2651],[3]],
-"x9364718bd3a86087":[[4020,3307],[8,2]],
-"xf5794f75bfe11c2d":[[334],[7]],
-"x2ed3045a13cb5107":[[2056],[5]],
-"x5f13ff7c6827986d":[[788,2,1699],[215,6,4]],
-"x20f2433fbdddbe41":[[3956],[5]],
-"xd123dec626132d23":[[213],[5]],
-"xc6d400c5c436cdb6":[[1180],[3]],
-"x5da17ecd19020504":[[983],[10]],
-"xbca071d8d8bac8a2":[[3833],[3]],
-"x5375e086213ada74":[[2202],[1]],
-"xc489e64ee0659d57":[[1762],[2]],
-"x7132d1655cfa303e":[[853],[8]],
-"x9724fe3f9d6abfb":[[3828],[3]],
-"x473eb1ed992264a8":[[3826],[6]],
-"x3c721558741fd9e5":[[528],[7]],
-"xfc848f8a4aaaf588":[[1698],[3]],
-"x617ab17060a6dbaf":[[3242],[4]],
-"x6a603759bd8c92b8":[[1382,1698],[33,3]],
-"xf85f8b415ac582a4":[[3958],[2]],
-"x55155984c0b5cd89":[[731,1699],[36,28]],
-"x387f5dd3610a2809":[[1242],[38]],
-"xfa47b2454903ed55":[[3300],[2]],
-"x5f32a25da7c33717":[[3749],[2]],
-"xa8e87e2976ef2511":[[1958],[7]],
-"x76e2ba07ec76f746":[[1096],[19]],
-"x4934796f559b0c7c":[[1810],[3]],
-"x52e217d309ce67ed":[[1763,1762],[6,4]],
-"xe519d2a1adcecdae":[[3234],[4]],
-"x46c25bc9616cbb5f":[[2924],[3]],
-"x12edeca528db7da4":[[204],[3]],
-"x50194b153f794a":[[731],[12]],
-"xee6b838995260fdd":[[3567],[3]],
-"x945f64932a937b7b":[[3902],[8]],
-"xe9b53c165cf45c60":[[82],[241]],
-"xa86739cd70c9c77c":[[1827],[6]],
-"xc9e6e5f3d3536daf":[[82],[3]],
-"x43da185ee7e56053":[[3826,3309,2722],[33,25,4]],
-"xed68aa8bfe9781f4":[[339],[6]],
-"x2891bcc5499584ea":[[1763],[5]],
-"x542b1d15c3ee3d0b":[[658],[3]],
-"xb2847a112e08ec06":[[405],[3]],
-"xf8064d92b13e6098":[[3112,3234],[27,9]],
-"xb9943bd7d7507680":[[139],[3]],
-"xf8a7583d6ba5c4e3":[[3112],[3]],
-"xd0dca907f407ceff":[[528],[7]],
-"x8ce33363e03dc351":[[3690],[3]],
-"xc776212d3565f1fa":[[843],[3]],
-"xfdc2c5d141cc59f8":[[3749],[3]],
-"x8df17e1654ac45f3":[[2461],[5]],
-"x338030f4d8eb1283":[[3112],[14]],
-"xdf9752564933ba30":[[3708],[6]],
-"x6aaddfaed43e8fd9":[[3958],[3]],
-"xa6545f70efea104f":[[3567],[8]],
-"xc8d4778bde03d279":[[3690],[18]],
-"xfbad01d48341a61":[[203],[8]],
-"x15f3800db3a2e16e":[[3811],[4]],
-"x339f30836ed7a7df":[[796],[3]],
-"xa42eb7ac17530665":[[1569],[10]],
-"x2d94693a7a0c92b":[[3902],[5]],
-"xc2b6b027fec947b5":[[593],[5]],
-"xb0147303944e0fdd":[[339,203],[6,3]],
-"xfc2fd2c0f743749e":[[262],[8]],
-"xe8925b48ba351f76":[[796,918],[14,3]],
-"xaefc0369740418ab":[[1356],[3]],
-"x3519bec3cb5dbf1":[[594],[14]],
-"x536119ea63fcca19":[[139,528],[8,5]],
-"x4b00a318b2edd0bd":[[1749],[6]],
-"xf338e3a34e904a8d":[[3184],[3]],
-"x64f4f0050767bba1":[[2331],[1]],
-"x5e9b9f4749fc46ef":[[405],[87]],
-"xa14a591c14b97378":[[3964],[13]],
-"xafb328752dcc987d":[[262],[19]],
-"x5d019592d83b877b":[[324],[5]],
-"xc98d0685f560fd81":[[3892],[3]],
-"x7c2b3a6f3b0da88":[[334],[2]],
-"xddbdc041e98aa327":[[938,82],[6,4]],
-"x6d8ffa566ced309":[[353],[2]],
-"x3397925a7fa897e2":[[1371],[4]],
-"x7431246ff2475f29":[[1834],[3]],
-"x99cee9f77c0cef5c":[[853],[14]],
-"x9fda525cc0b4c832":[[3690,3307,3372,3502,3112],[117,61,44,10,3]],
-"x12f5a5a3fc51b2e7":[[2898],[5]],
-"x5702fc7ce3d180e4":[[3779],[4]],
-"xe48b64074a07e5e5":[[1185],[3]],
-"xb4367e9b28b50842":[[3898],[3]],
-"x7d851fbfb1f1aa16":[[339],[25]],
-"x5889a47a02b5e6a1":[[2915],[11]],
-"x37f1613c1a0bc211":[[157],[2]],
-"x4b6497252184917e":[[789],[3]],
-"x3e4c2fd8621c127b":[[983],[6]],
-"xb1c588bf11bc56f6":[[3177],[7]],
-"x1d3b38e00373d673":[[2282],[6]],
-"x4f31a48b24dd66fe":[[2724],[6]],
-"x9984675040dd113b":[[3958],[3]],
-"xe8337251ee690b35":[[346],[12]],
-"x19ae5cab08fab587":[[1699,407],[33,5]],
-"xec5db12ca9d605c4":[[2917],[6]],
-"x3dc3f3c0dd3958c4":[[3389],[3]],
-"x889541213ec615f2":[[4013,3372],[114,2]],
-"x19fbe01e02abe5b8":[[3902],[7]],
-"x6ecdbdd24039dccd":[[3902],[6]],
-"x28078825c9b700bd":[[3642],[2]],
-"x707aad096b836d5a":[[3305],[37]],
-"x4be4b148edfdc404":[[3325,3309],[11,2]],
-"xf9ac2c9b1ec82e89":[[2601],[4]],
-"x70fcb52d9fa59539":[[1243],[4]],
-"x5b268b2e74c3ca51":[[3177],[3]],
-"x2888be1d88716865":[[3817],[17]],
-"x35cc59a9c021eab4":[[339],[4]],
-"x994b934d40ac7a8c":[[3112],[4]],
-"x4b0a2b0ffeab89eb":[[3929],[2]],
-"x1761df2bb9d0fc00":[[918,666,405,82,166],[122,25,20,18,8]],
-"xde9241bfde728bf0":[[1236],[6]],
-"x51ca75c61f3c5e49":[[3956],[10]],
-"xb2d40edb7c654174":[[148,332],[15,5]],
-"xb888f244326b3d1e":[[666],[5]],
-"xca7264f534b3f547":[[3567,3299,3234,3307],[44,7,5,2]],
-"x3a74ba446eb246df":[[3808],[3]],
-"xb3b0801ea6a5b728":[[3902],[5]],
-"xe27932c1d3a12339":[[3112,3964,3688,3699],[12,9,7,5]],
-"x372522c8e1565c72":[[1577],[6]],
-"xecef58a13aa4db89":[[3690],[2]],
-"xa3ffee596be61775":[[324],[6]],
-"x3f4a46e741dfa503":[[3372],[5]],
-"x169ad72574898407":[[3827],[3]],
-"x70b80c1ebb4dd25d":[[166,346,332,918,853,983,861,148],[424,79,43,18,18,5,4,3]],
-"x94f3d1e3f685db7":[[262],[5]],
-"xa5d6f922708a106f":[[2787,3956,3177],[11,9,3]],
-"xa1dbcbcfbf207d08":[[1828],[2]],
-"x8ca98734337f1495":[[3699],[2]],
-"xe0377d831132d56c":[[2940],[7]],
-"xdeb9d02d1c1b4915":[[2],[3]],
-"x9d4a1520cc1c92bb":[[1371],[3]],
-"x4fdcac13d1a2dd18":[[262],[9]],
-"x1b116268f78618d":[[733],[8]],
-"xc6c4ff72f6a51847":[[1187],[3]],
-"xbae07986b5375fce":[[3956,3567,3929,2266],[24,16,12,8]],
-"x3d40779124f4dde4":[[2931],[3]],
-"x7ef21b12889344b2":[[3690],[2]],
-"x55fa1d1c9c44c3b0":[[2851],[4]],
-"xa38c2dd6a47adec8":[[292],[11]],
-"xd752bd74c3aa9e69":[[3817],[3]],
-"x740a8d5bb97c0e0c":[[3234],[3]],
-"x5cf14d2d5dbf2bc2":[[3891],[4]],
-"xb5bee9c382167012":[[353],[10]],
-"x6e04d4a8cdb25edd":[[1132],[1]],
-"xe52325f7fb32ee0e":[[3502],[9]],
-"x39311e3c1d4d4f3b":[[2844],[6]],
-"xabac9687b24ef82b":[[788],[12]],
-"xb17a9065a3b808b1":[[2203],[31]],
-"x33f0fd87eac8531f":[[262],[7]],
-"xcbea22540e16c18":[[204,324],[12,4]],
-"x14e22543ec48b287":[[2323],[13]],
-"x6ee966be5869319c":[[4015],[2]],
-"xc1da665ad042de77":[[1375],[3]],
-"x9497dc50476383d6":[[3307,3502],[24,1]],
-"x4a0b5329f88079cf":[[983],[3]],
-"x9e258598d2f976b7":[[2137],[6]],
-"x3c4561786a95f4c7":[[4013],[3]],
-"x443fdc6689c1fca":[[1380,1762,216],[27,10,3]],
-"x72e2e900c769b397":[[788],[12]],
-"xcf01e19d4139652b":[[1932],[5]],
-"x4e7ce7522c397322":[[399],[3]],
-"xc9d38a0fc68d2c86":[[1683],[3]],
-"xed7f2e66a52396c8":[[1569],[16]],
-"x857ee812ed076d4e":[[3373],[1]],
-"x9d521372a7251e7e":[[3902],[38]],
-"x81b77711a4bf91f2":[[3902],[4]],
-"xcd67131ffacad61d":[[3753],[2]],
-"x38276f28f0335295":[[3902],[2]],
-"x1f7828210ed4ba61":[[199],[3]],
-"x9416c7dea1ac7880":[[3372,3242,2266,2267],[41,32,17,10]],
-"x8635c48390e15698":[[2204],[2]],
-"x4c9c0e4b13b21a84":[[3307],[5]],
-"xd09d5f042828097f":[[204],[4]],
-"x7d571e5950493160":[[3372],[3]],
-"xe7776f391f454844":[[8],[4]],
-"x741ff1db3ad47b5d":[[3763],[17]],
-"x1218cb418e8305fe":[[1421],[3]],
-"x3ee94e3a8b3c4b96":[[1762],[8]],
-"x33f5047b53d43748":[[1244],[6]],
-"xc51422042f067187":[[796,1764,918],[7,6,1]],
-"x4054d4dc0e4aa7d6":[[3307],[10]],
-"xccb660cc7d02fd19":[[1371],[8]],
-"xbdb071325fdf8d47":[[2768],[6]],
-"x421819b8d6962b9d":[[731],[145]],
-"xea77a624ab75d289":[[1763],[49]],
-"x844790ee7f7840e5":[[129,1380],[10,7]],
-"xe596c2b5aef2b7ec":[[3307,3242],[22,19]],
-"xfca5ca4d6db5717c":[[3234],[3]],
-"xa10e1295e2f7544":[[3567],[3]],
-"x2eef1e7ab0027288":[[2785],[3]],
-"xa39636bfa0313b85":[[1643],[5]],
-"xcebaa426deff6e7c":[[334],[11]],
-"x79b16e99649a4d7e":[[2932],[2]],
-"x8931f633c1e4cdc5":[[3373],[5]],
-"xb1a5368412ef8b46":[[2723],[7]],
-"xeec004ec80d6cbd4":[[3938],[5]],
-"x311c6bde81a52102":[[261],[1]],
-"x909992e38828741b":[[3572],[6]],
-"x93febba5117691c1":[[853],[4]],
-"x7a34ee957bd34e1a":[[2851],[1]],
-"x7f700526aa4a4ed0":[[2657],[3]],
-"xf8980ae8f3f79a03":[[536],[3]],
-"x4fae202560ed4648":[[334],[3]],
-"x34ec218438949b6d":[[926],[3]],
-"x3fdbfe2eab5093cc":[[3309],[4]],
-"x74d9ecf13700b378":[[3308],[4]],
-"xd9a509e575f7ff64":[[1307],[9]],
-"xbc0f1dfc6a691c11":[[3164],[3]],
-"x8573f2bfe4210c15":[[983],[6]],
-"x3f7c0493f09df6e9":[[334,731],[112,6]],
-"xbf357518ef032e":[[262],[13]],
-"xfd46815d20bddc49":[[3779],[3]],
-"x9b6881958e4ee52e":[[853],[4]],
-"x54b3ad7ddc4cb663":[[3567],[3]],
-"x4511e5f379e0ea39":[[3307,3242,3299,3234],[107,40,24,5]],
-"x43e0e078dca015b8":[[2136],[1]],
-"xdb3bcc30da099590":[[3306],[18]],
-"xd47ddd62d9e873d0":[[3112,4020],[7,3]],
-"x57de89a5deb29ce5":[[2006],[6]],
-"xed10cf4c723a4fe6":[[1371],[9]],
-"x3aee8eb53e36fa24":[[1827,1828],[25,6]],
-"x43bcabbfc5c8f520":[[334],[24]],
-"x88116bb8ed006d89":[[3962,2355],[4,3]],
-"xdfc386458954e460":[[2787],[3]],
-"xe51192118961dcf8":[[658],[5]],
-"x145021f9aa5bc0dc":[[396],[4]],
-"x11d95f7ed3d75fea":[[3708],[2]],
-"xdfc12ba3297d16ef":[[2931,2940],[37,20]],
-"x3c219bf3fd8ba984":[[1164],[8]],
-"x70e7f20d31d824b8":[[3761],[3]],
-"x7a2a925f769b2640":[[262],[9]],
-"x3d5b212865a6d68c":[[3902],[5]],
-"xcc037c2b6deb89bb":[[1699],[7]],
-"x1aea00b4290257a4":[[3429],[9]],
-"xc35496805ef2ea48":[[788,262],[4,4]],
-"x26f97ceb6d5c9fb2":[[137],[4]],
-"x240dc3bcc85c483a":[[2476],[5]],
-"xce5febb3e11bf493":[[323],[7]],
-"x21c201697f903977":[[1959],[3]],
-"xa3b97c425f6ca1f9":[[3112],[5]],
-"x541cbabf7c194b5c":[[660],[6]],
-"xd9bffe7cfcbadf41":[[788],[6]],
-"xfbd0684d2fbfc2cb":[[203,346,658],[27,14,7]],
-"xf87c0f34c7d7205e":[[3299],[2]],
-"x70fc3fa49581b662":[[3364,4013,3742],[5,3,3]],
-"x45317761a9cd752e":[[3390,3309],[9,8]],
-"x6e0f91eded86b816":[[139,213],[53,5]],
-"x1bcea1eb81af296":[[3826],[1]],
-"x35ca8496c9b97de2":[[2203],[3]],
-"x99a534070d4da7de":[[2740],[4]],
-"xebc404a024cf8bc4":[[723],[5]],
-"xc46e456edc4e9b78":[[3902],[2]],
-"x7815e4016098b3f6":[[1632,144],[6,5]],
-"x6c202fdbed20c33":[[1308],[5]],
-"xd8358ef2caed89b2":[[262],[8]],
-"x8233213bec66304":[[1565],[3]],
-"xe677c8f7f84edf3c":[[137],[3]],
-"xfa1f027ae7931735":[[1048],[6]],
-"x7d6e48dbdc31a835":[[2740,2745],[5,2]],
-"x523dd44688f86f23":[[528],[2]],
-"x540028160788d9ed":[[1828],[4]],
-"xa0f64f8425164791":[[3299,3372,3502,3690],[13,8,3,3]],
-"x347ad4ef328f0002":[[3891],[7]],
-"x9d85079113144419":[[3371],[2]],
-"xe9f254939a30b2fa":[[262],[5]],
-"x1a5666d5a5b80a78":[[2802],[4]],
-"xa6c01a6cf1a2d699":[[901],[5]],
-"xd6c737e302f1b96e":[[3080],[3]],
-"x69ad022e04d18909":[[3373],[3]],
-"xa158e0a67667d530":[[3112,3763],[33,9]],
-"x9df2a453cfa14e4e":[[1618],[1]],
-"xf61adcca82693459":[[790],[4]],
-"xc63f878776fbe301":[[731],[4]],
-"xac004cca449aae45":[[3112,2908],[12,4]],
-"xd7f87df979add3e2":[[1098],[3]],
-"x703295b6c96cf4f7":[[1366],[2]],
-"x5015e2a1d3db3e61":[[3234],[4]],
-"x439866c05e9124d7":[[3706],[4]],
-"xc3faec8c670fac8e":[[262],[3]],
-"xae3cbfc493bf6fcd":[[918,796],[4,3]],
-"x332301fdb899f98e":[[1805],[6]],
-"x79a2174ecc615af6":[[3826,3305,2915],[15,14,6]],
-"xde38f3bda648ee96":[[3811],[6]],
-"x5a9d16f18d448a5f":[[3690],[1]],
-"x652e302a73656916":[[788],[16]],
-"xe32f2e7a058cc2e8":[[1681],[5]],
-"xbc277a8dc81fb2f2":[[1876],[3]],
-"x69807653fbdbdccd":[[389],[6]],
-"x5ed613177bc469c7":[[788],[5]],
-"xbdaf96a2fc8da5e1":[[3501],[4]],
-"xfd8ad2a0887d6e72":[[1307],[2]],
-"x6b3441952aff3ab1":[[1380],[4]],
-"x1e08f3f3f76b6a3d":[[926],[11]],
-"x24c2563d53a8268f":[[166,786],[10,3]],
-"x185388fc5cc09550":[[3962],[2]],
-"x868487070e5ca231":[[2609],[2]],
-"x8bf9535d0e82dd77":[[911],[3]],
-"xbb918bd3ec138438":[[528],[8]],
-"x8457e6d706557b6a":[[2915],[4]],
-"x32c5589e99e04e4b":[[262],[6]],
-"x767240ee0d313d92":[[3699],[6]],
-"x6e3d307d1ed73844":[[2348],[4]],
-"x8cd90b648bb47c51":[[651],[5]],
-"x52741ec35b6d2d3a":[[3690],[3]],
-"x63744c0cac383682":[[2715],[1]],
-"x75968a770eff0fe3":[[796],[16]],
-"xb8c5b16957aa9c0b":[[2932],[2]],
-"x9a08780b79581121":[[3902],[4]],
-"x4d16528fd176d09a":[[2281],[4]],
-"xbde06cc9e63467f1":[[284],[8]],
-"x8a48afa2bb3979ac":[[3827,3902],[11,3]],
-"x78619c1b10fd84a2":[[2412],[14]],
-"x82a41b1c5be2adfd":[[3902],[4]],
-"x3d73cac40c55cb2d":[[262,1],[7,7]],
-"x8af7bab210dc7853":[[3307],[7]],
-"x55b6b7ac895bb2ed":[[231],[3]],
-"x4aaac2c3a7174f4f":[[1173],[6]],
-"x443bd5816c36bd15":[[3958],[2]],
-"xb6110408549b65c7":[[262,166],[30,2]],
-"x6e138100ac77f5f5":[[332,396],[12,3]],
-"xe0018634cf804288":[[326],[4]],
-"x7df3bbe7dbd45bab":[[3956],[25]],
-"xf34525b85773d5b2":[[3763],[6]],
-"x9a86727fdfc6ec93":[[1899,1906],[8,5]],
-"xc020a513ef53a786":[[1699],[9]],
-"x88b57ee39cae434":[[1699],[12]],
-"xf2ed5b3b71c9fa13":[[1699],[4]],
-"x35eb0ce479f66b47":[[139],[4]],
-"x3a9e0b3495193534":[[2908],[3]],
-"x909cc90ab8a6e51":[[1099],[35]],
-"x1386685927bbb7e8":[[2228],[24]],
-"x89daa932200d598d":[[3372],[4]],
-"x9146fa95ca68afcd":[[2720],[3]],
-"x89876423374a6ba8":[[262],[19]],
-"x13e1c62ce220a534":[[3902],[6]],
-"xfd48b086fee9d62e":[[593],[10]],
-"xb50f3b6e11f7bcfd":[[3],[1]],
-"xf224067250c105c7":[[788],[4]],
-"xcf06325de7184ce7":[[1899],[6]],
-"x2fcb85421fa3eb51":[[3299],[2]],
-"xc9ba6d35e8368e77":[[3938],[4]],
-"xd8c3be15112987c0":[[2810],[5]],
-"x741becab2e499277":[[2333],[4]],
-"x256453861092b302":[[2804],[3]],
-"x62b87c8935f269d6":[[209],[4]],
-"x7b8869100878cbb7":[[3567,1618],[30,1]],
-"x82ba5f608da21808":[[339],[5]],
-"x5b3ed61ff6794a0d":[[658,339,353,1829],[25,16,6,3]],
-"x978a9d0fb7324077":[[138,733],[17,5]],
-"x8d48b7a8ed6891d2":[[1759],[2]],
-"x3e600bbc3663b2f1":[[1828],[12]],
-"x49ae6b5322df4070":[[594],[3]],
-"x24b4510b223ac78d":[[3567],[3]],
-"xd598d035cca83bd2":[[841],[6]],
-"x2177811b18909111":[[3567],[6]],
-"x54db273dc04e9d5d":[[1762],[21]],
-"xf23ebdce4c7810c9":[[3567,3699],[128,50]],
-"xbbca7cccc0f71c68":[[4013],[3]],
-"x84ae0efd5a8b31cd":[[3699],[4]],
-"x50564448f58e92a7":[[2137],[6]],
-"xac5edf5d12e77340":[[2851,2915],[9,5]],
-"xe340d4ef7133a7a4":[[2203],[2]],
-"x16c70f8139a429fc":[[3892],[3]],
-"x8de56f5f9346ea86":[[1803],[1]],
-"x56d81676a0a3d132":[[332],[6]],
-"x495840c0ac22b6a5":[[3436],[6]],
-"x7b090c80c7f66723":[[3958,3112],[25,8]],
-"x98a362c5912d3a9":[[2258],[4]],
-"xe52e7f9d7b522d49":[[3958],[5]],
-"x7abff08f80c5e47c":[[334],[100]],
-"xcb07659475c84bcf":[[593],[11]],
-"x62327d0295cfc832":[[3771],[5]],
-"x77e45c623017bdf3":[[211],[3]],
-"x646efec46a7e31d4":[[983],[13]],
-"x69e426a3c8902a90":[[3234],[5]],
-"xe86ed5da4159e1ec":[[3690],[3]],
-"xe8bb641573dce8dd":[[2901],[6]],
-"x5d2517fffa4d8ce0":[[2460],[2]],
-"xc9f231efebf9945e":[[262],[21]],
-"x43b9a7c54950439f":[[3735],[6]],
-"xd777af0268de3003":[[3902],[6]],
-"x3cd373eba3cee974":[[556],[2]],
-"xe3377bdcff9887e":[[3756],[14]],
-"xb44f7e4ae7061e0f":[[2610],[4]],
-"xeffcb31eb76e6831":[[3210],[18]],
-"xef17df98709c044f":[[75],[4]],
-"xa55408b264a42cc7":[[2137],[3]],
-"x5352d87bb5dbcb44":[[731],[2]],
-"x18d513626253a317":[[80,216],[9,3]],
-"x58a7dfed03eca45":[[525],[6]],
-"x5e23c9078f8cb0a9":[[332],[4]],
-"xae14516ef5ebb63f":[[536],[7]],
-"x6d90805701fe1923":[[74],[3]],
-"x125a9ecf18a24a26":[[3690],[2]],
-"xb6e1c28f19125f97":[[3307],[11]],
-"x993d9eb9171e9175":[[3234],[5]],
-"xa2da424154f8a060":[[82],[13]],
-"xd1853e466da73494":[[2059],[1]],
-"x328aa099cf2da517":[[2331],[3]],
-"xedb5c60e742f4d31":[[1652,1643],[20,15]],
-"xc3d6ddfb393ce2a3":[[3308],[6]],
-"x55d6bfaa1ea4852d":[[3699],[4]],
-"x2efcf94b677d36c9":[[3699],[9]],
-"x552b0f209561e83c":[[796,788,216],[88,42,22]],
-"xf0f0801e92d90df4":[[1841],[4]],
-"x6c7deff9da46edc8":[[82],[5]],
-"x779d3d20f1f946e9":[[3958],[5]],
-"x44742a6eae209882":[[2281,2265],[9,8]],
-"x8510e56fbf161595":[[714],[6]],
-"x73064c4fc6d5250f":[[3902,3234],[32,7]],
-"xaff4042183ff418f":[[788],[4]],
-"x7679ffb102ddcf32":[[1179],[4]],
-"x8f414e4f18df69a1":[[1380],[6]],
-"xc4435f1519bf7d41":[[3688],[23]],
-"xf5bfa5bc034ed450":[[918],[3]],
-"xfb259a89b835cde8":[[3902],[9]],
-"x47efac07246aab3c":[[3891],[3]],
-"x3e789cb27d97cadf":[[203],[3]],
-"x3e4ceca9b1cfbd81":[[3309],[50]],
-"x6ba4cb9964f95eb2":[[771],[6]],
-"x587ffe393b5ab7ab":[[1546],[2]],
-"xe48acd9a680cf3f4":[[4013],[4]],
-"x63f61967fe13db43":[[3956],[3]],
-"x8325d146e25bbb21":[[4013,3112,3372,3234],[99,49,41,8]],
-"xeaf77b15a6f3b39b":[[3242],[8]],
-"x6e1c69ff916af9e4":[[853,391],[6,5]],
-"xafe3d2a65fba15a3":[[1228],[5]],
-"x7d0428cb7a2ae062":[[4013,3112,3690,3364],[12,8,5,3]],
-"x397226210eccf3df":[[788],[5]],
-"x712b595bb2116622":[[732],[6]],
-"x9bb73e7f76de5e28":[[262],[7]],
-"x95078406c795ff3d":[[601],[10]],
-"x3151928eea232acf":[[144],[5]],
-"xf21fe0ef839cbfb3":[[788],[10]],
-"xd410ccf3b93565ab":[[2203],[4]],
-"x88f42f9c7cbfad95":[[2722],[4]],
-"xffc70004cacaad66":[[2659],[4]],
-"x5431ba490eec2d48":[[166],[3]],
-"xf756d59fec2d3fe1":[[1308],[51]],
-"x91cf7bca56d884ea":[[213],[1]],
-"xa29c3589b957b25d":[[346],[4]],
-"xeabf6c7b8a4339c6":[[2331],[6]],
-"x828f46d6d12a30b4":[[262],[7]],
-"xfcded37d2e9732c6":[[1244],[4]],
-"x7ce112fc863e169f":[[1899],[4]],
-"x120a26c77ece4e3a":[[1763],[8]],
-"x326e01b389687047":[[1314],[6]],
-"xe5fe9019d8cb4193":[[3501],[3]],
-"x15f2a1140c12ed0c":[[332],[3]],
-"x49b957a9e891200f":[[2],[3]],
-"x258e687b98eb87ad":[[3958],[3]],
-"x6a84818e3fdf85a7":[[3372,2281],[8,5]],
-"x3223c688f4648778":[[3177],[4]],
-"x78a3fad3bab54684":[[1179],[6]],
-"x33bb7372e994b331":[[405],[15]],
-"x65b0e14fa1845dad":[[3938],[6]],
-"xc7eac621c7d8689":[[3642,3641],[5,4]],
-"x44b4ca0dcf7fcf4e":[[2267,3956,2846],[19,9,4]],
-"xd1ca621876ec87d8":[[3446],[3]],
-"xc6c8e1ade207ec92":[[3193],[2]],
-"xfec0805df5cecf3a":[[2747],[3]],
-"x82d58204aa0b7f92":[[3690],[3]],
-"xb241549328aa1560":[[202],[16]],
-"xce41aa5d5274df07":[[82],[3]],
-"xc36e05b2a5988e14":[[353],[7]],
-"xeb304762f20a13fc":[[2268],[6]],
-"x93d276568dfd2edf":[[1123],[1]],
-"x12544d1c0e203669":[[2720],[7]],
-"x36f0af7368e47739":[[1179],[23]],
-"x5cb0b2cdb77250a2":[[3234],[3]],
-"x152edbed658321fc":[[3299],[3]],
-"x6b919cc41f6ae26c":[[536,861],[9,8]],
-"x2573eb5b70b7254c":[[796],[3]],
-"xeb951161e0c27bb6":[[751],[6]],
-"x1787663a97c77691":[[2282],[4]],
-"x82a17632192638ab":[[82],[3]],
-"x806ee4d7d6b08795":[[3437,3819,4020,3742,3947],[29,25,10,8,1]],
-"x5fb75a55718c5bab":[[2972],[2]],
-"x627bc96eee92dcce":[[262],[3]],
-"x4c3be29eec5b90ea":[[731],[37]],
-"x3057bf5db38e3fa8":[[789],[6]],
-"xfedd3447931b234":[[3690],[2]],
-"x59d17726c0dcd45":[[1308],[2]],
-"x21e696b5b08d6fcf":[[594],[5]],
-"xb8b7c88e7458ff7c":[[3699],[7]],
-"xc07c94f25e720927":[[640],[8]],
-"xed390f35281fa6e4":[[1699],[5]],
-"x4d0b45cd82b7d9e4":[[2594],[6]],
-"xd0534d5020a7020b":[[1827],[2]],
-"x6bcbe27b73addcfa":[[3742],[4]],
-"x44ce67578f76f7d1":[[2138],[3]],
-"x82dd09cf1ff6bd02":[[262],[9]],
-"x1acc5e8e40fbb597":[[3178],[2]],
-"x2922b772b1fcecda":[[3902,3699],[8,7]],
-"x8ff271c158a37be0":[[3644],[6]],
-"x8c5c5eb696b78f34":[[666,723],[13,3]],
-"x77e4b80a7cfad4be":[[3222],[6]],
-"xa963b097bdd7881":[[405],[8]],
-"x3684e1ce52b2cf15":[[2852],[8]],
-"x1dbdab2dcaf3635c":[[203],[5]],
-"x6649ba69b8c9ff8":[[666,405,166,82,157],[2807,368,35,6,5]],
-"x8417c89efbf2d709":[[3958],[4]],
-"x5fb9db2b7e7f0dda":[[536,731],[9,8]],
-"xe99d66c3c4a21be1":[[1941],[2]],
-"x4209449a78b30ccf":[[262,731],[14,6]],
-"xd4b037c9c450ebfe":[[861,262],[8,5]],
-"xbad049606b71c32e":[[1164],[7]],
-"xdfcfabb2e3363b33":[[4013],[12]],
-"x8484aab51f48c46b":[[75],[27]],
-"xe9a970d2cfd505f6":[[4013],[5]],
-"x3864a5faf1ce101f":[[3902],[3]],
-"xcfa55d0662fd02f3":[[2852],[1]],
-"x8ea7a33776e8acab":[[334],[6]],
-"x430556406b726eae":[[1371],[8]],
-"x3ff0a504bb34b11b":[[3061],[4]],
-"xe8d3c4897d4ba85d":[[1967],[2]],
-"xc31c46c3f0b49b47":[[722],[3]],
-"xe39b324d8726b98e":[[2723],[3]],
-"x681d4359611708f":[[3364],[10]],
-"xc56c12369f97a8cf":[[334],[4]],
-"x2ae68e3e7a03b5f":[[3104],[5]],
-"xf5733c6511365f70":[[666],[10]],
-"x141b589cbe5cb53d":[[3763],[3]],
-"xf42fdd8f07cdeb2d":[[666],[5]],
-"x39b131618b89475c":[[1380],[3]],
-"x62e137e9f2b116ae":[[1176],[3]],
-"xbe4104f72a3ce41b":[[983],[12]],
-"xc450712d453df0fd":[[3964],[3]],
-"xe507759bdbc72bda":[[528],[12]],
-"x4c715383dd429c81":[[262],[3]],
-"x2686a1275bc0e516":[[2915],[3]],
-"x91cf423506aa29af":[[1],[5]],
-"xeb3c738927f47b00":[[584],[3]],
-"x19e76d8b38381369":[[853],[6]],
-"xebed6df09333cac6":[[1828],[3]],
-"xb6366bb19456a9da":[[3827],[5]],
-"x6ee4c6ccab968d79":[[3641],[2]],
-"x11eb3ddce7f65a02":[[853],[14]],
-"xd1383670ca18df25":[[3307],[3]],
-"x5c3297439d695156":[[1371],[3]],
-"x5cf5253e1926a3e3":[[1941],[14]],
-"xd256d9c1bd1c7bc7":[[332],[3]],
-"x9072a0f719e1b389":[[75],[2]],
-"x7e1df027b5d2f22b":[[2355],[4]],
-"xd1be0a547a614744":[[529],[3]],
-"x907a1de988f65dad":[[2397],[11]],
-"x3265dc968f63ce2e":[[3779],[2]],
-"x33840620182806a9":[[666],[10]],
-"x2e1ce33df09762ff":[[139],[2]],
-"xa1c0d3ee23d04eff":[[75,593,1380,528,1676],[18,5,4,3,1]],
-"x7e3dbbffc9b6c6d0":[[1828],[5]],
-"xa240f6420c3157f0":[[3826],[3]],
-"xc03fa205075cfa36":[[4013,3372],[14,2]],
-"xe444c7943c6811ee":[[339],[9]],
-"xf02f3c51f5d9e8da":[[2675],[2]],
-"x62e62f1cc868cfef":[[3364,3502],[15,2]],
-"xf3878da67e2f15e0":[[3299],[4]],
-"x8071f35e6ec4d313":[[3807],[5]],
-"x63f1ecfc2b441849":[[262],[4]],
-"x94b86a977ed8f36e":[[1699],[9]],
-"x340569d26b5ece65":[[3372],[3]],
-"x52b9ef32e79496d8":[[334],[12]],
-"x4e312dc2f61729cb":[[2674],[12]],
-"x124c4916ca41ca90":[[861],[6]],
-"x83e3fd10a509caf6":[[755],[6]],
-"xb582cd00c63a7816":[[528],[67]],
-"x69b0df505cf03a78":[[2347],[15]],
-"xf890dd5d2eacc88b":[[3699],[6]],
-"xc3afb481b160507":[[665],[6]],
-"x51399fb59f3ed06f":[[3902],[6]],
-"xbb9ca9c55cba076e":[[3929,3956],[22,7]],
-"x7bd6b5532d39a3a3":[[2331],[5]],
-"xd3c5ac604e3ebdbc":[[3947],[3]],
-"xea0ea82d16497c15":[[1163],[3]],
-"xbf7cf779d07f5040":[[3902],[4]],
-"xad432d1f13703577":[[1762],[6]],
-"xbaed871e2cb55dae":[[601],[4]],
-"x660492abbf3b42ef":[[2852],[1]],
-"xd232fb831771c511":[[642],[4]],
-"xb149663605e8d39d":[[2266],[7]],
-"x74e8a16c891e1bf3":[[1971],[3]],
-"x1ee3417703f8034e":[[262],[4]],
-"xcf53a4f4cf45e32a":[[2715,2931],[8,4]],
-"x345215def3d3a8e5":[[529],[6]],
-"x6aa87068f0724423":[[3956],[4]],
-"x2fe518a4e8922f99":[[3763],[3]],
-"x4d6df381210bf0fe":[[3814],[3]],
-"xe86cc2f0a27d14f5":[[3808],[3]],
-"xd45eb31e0dcfdf89":[[2851],[6]],
-"x8f8b3e5d9d544538":[[3742],[3]],
-"xa0b1c558ee529536":[[3699],[3]],
-"xf9e460a576c55ba8":[[788],[3]],
-"x85467489123773ff":[[157,1757],[3,3]],
-"xf1339953749755e7":[[2006],[6]],
-"xa3eb115e0c225506":[[2609,3234,3956],[63,9,5]],
-"xd7528efb5aaab809":[[3232],[4]],
-"xcd35e8b3bfd8bc1e":[[1176],[5]],
-"xf60a7fab6833fdf9":[[405],[3]],
-"xd4f0572a1238fc93":[[1380],[2]],
-"xe029b08a2ef5f4c3":[[1302],[4]],
-"x2dde0ed5c0b015d7":[[262],[10]],
-"x6fb0ac5293dbea4b":[[3902],[116]],
-"xe4db437a9883c578":[[203],[4]],
-"x937eeeee4e8b4582":[[219],[83]],
-"x912f0d46864d8c06":[[601],[1]],
-"x5acbb6eaf493da22":[[2786],[3]],
-"x6bb66d216b2a9c00":[[3699],[1]],
-"x982507e160f5c135":[[2453],[3]],
-"x119f4c62f165e0d0":[[323],[5]],
-"x2bb6f65d1b0c1daa":[[2915],[13]],
-"x5f9454d2b35a112b":[[1244],[5]],
-"xe1e909dad921ac8e":[[2592],[10]],
-"x4911a3d66444a883":[[2851],[3]],
-"x8a71a051e5894a9a":[[788],[4]],
-"x7c6796cc4c797fe4":[[2972],[4]],
-"xaddfe95df4f8120f":[[3929],[6]],
-"xdc4c5e7c11d4eb45":[[918,82],[18,8]],
-"x60bc6d01e6122f6e":[[1837],[13]],
-"xec404fc8457abe1b":[[4013,3429],[8,4]],
-"xa9b2221458d9b4e1":[[2065],[4]],
-"xa762e1600cbf8acd":[[3364],[1]],
-"xce3af132169263f5":[[3828],[2]],
-"x7492bcced8e557e5":[[3699],[2]],
-"x9438d22880ed77c5":[[991,148],[21,9]],
-"x9c449c7e32aebb3c":[[1],[15]],
-"x270707cf053bbc0a":[[166],[5]],
-"x2c477e1cc9c4e1b3":[[332],[4]],
-"xe1c0f5b972dbc749":[[2072],[4]],
-"xd0c155af18369ac8":[[3836],[2]],
-"x5c6db93c8af0f1d5":[[203],[3]],
-"x730f345d0620b3ba":[[262],[5]],
-"x494d12eb720b7dc9":[[3503],[3]],
-"xc39cd6ed4064005f":[[3938],[4]],
-"x3a935ed8c753eb72":[[1699],[10]],
-"xbe2faddb8ce1c242":[[139],[13]],
-"xf2a500af4b857e5b":[[3756],[3]],
-"x1485f23342d211cc":[[2852],[3]],
-"x9d0d75bca42bf1ea":[[3690],[3]],
-"xfbaaa72126222327":[[3690],[2]],
-"x81d46915ba113b1b":[[2],[4]],
-"x2a791a6c35e363c6":[[2852],[3]],
-"x2bdfba68b55ceb34":[[1672],[3]],
-"xd79c0decef2553d4":[[3300],[3]],
-"x9e27f68305e1250b":[[3288],[6]],
-"x23f921b50b5ebcc4":[[4020],[5]],
-"xeea4a1d14006936a":[[1098],[3]],
-"x8513835383f01b78":[[4013],[8]],
-"x8e4e20f847dd78ed":[[262],[18]],
-"xfa614846af0c4037":[[82],[17]],
-"xa5ba59fdae812e3c":[[536],[5]],
-"xd7b3d4652efbb079":[[398],[7]],
-"xacdfb756a8e4306d":[[405,339],[61,17]],
-"xc8037298573ae1b2":[[3929],[8]],
-"x89a9437a0a6a5c99":[[1634],[10]],
-"x77fb7c1a7481006":[[2048],[4]],
-"xfd0528282dc65dbe":[[918],[4]],
-"xadd34941e04b6d71":[[2342],[6]],
-"xbfe768146c057875":[[731],[25]],
-"x2038309e924596cc":[[2915],[4]],
-"x29e2e1b82d004b4c":[[983],[3]],
-"xce515c2a47fab002":[[2915],[14]],
-"x417641c130fc9675":[[36],[4]],
-"xdb4bb65f50e5254b":[[1813],[10]],
-"x381e6a9c9f3dd248":[[1106],[3]],
-"xc41e1ffb83a4fbbd":[[1764],[5]],
-"xf1468f82ebbb15c0":[[3372],[2]],
-"x512731264e228313":[[1307],[2]],
-"x323545a0b74471a6":[[2713],[3]],
-"xbe930dacd67ddffa":[[3169],[3]],
-"x71c397abb941ee08":[[3641],[6]],
-"xabeec6a3b5e6a3ad":[[3242],[5]],
-"xdc96a4951dd3b133":[[1503],[3]],
-"x7dde2ca616f8d377":[[2443],[14]],
-"x586d6b6e35169d14":[[166],[85]],
-"x5afcb0cb102de203":[[3372],[2]],
-"x733c68f30b6f0224":[[3372],[7]],
-"xde88bd0b16aec66e":[[3826],[3]],
-"x9808df713cd23cac":[[2919],[6]],
-"x821a9da43aacb3c1":[[657],[10]],
-"x922245332f1f9e32":[[3307,3690],[29,4]],
-"xa9a96a5ce26e61f9":[[1180],[4]],
-"x87b170e278205906":[[3964],[2]],
-"x7ba1dd84fa335fe0":[[1763,148],[9,7]],
-"x4e917de3898d2d99":[[731],[6]],
-"xb14a4724de37fb09":[[262],[7]],
-"xf9d216f49164f21e":[[3947,4013],[11,3]],
-"x86d389ce5d52e72f":[[2136],[3]],
-"x8500af6b829b56e7":[[1745,148],[5,4]],
-"x5862e4d3225e8420":[[796,731,405,82],[48,47,45,9]],
-"x1f08d289b2748577":[[2281],[3]],
-"x3aaab7112e205cc7":[[609],[3]],
-"x4fe65792c31b2f53":[[3958],[9]],
-"xd7f96ff42d2110ec":[[3902,2919],[5,2]],
-"x1c3f47662b557be8":[[332],[7]],
-"x2a93ab2d83d12b18":[[3826],[2]],
-"xb32a5dbaf079b184":[[1091],[4]],
-"x6c1500bcdbc13336":[[324],[6]],
-"xe8fa17f83c4eb370":[[3372],[10]],
-"x8428ce0f7580e9b8":[[723],[3]],
-"xd532db20fb916bae":[[324],[4]],
-"x528aaa6e3fe3593c":[[3372],[2]],
-"xb58b1d36a8e0b60a":[[211],[3]],
-"x846cb13bfd17154b":[[3299],[4]],
-"xa037b7d717043e10":[[4013],[4]],
-"x2bfcfb825f3a25a0":[[592],[2]],
-"xbd8d6beafc84b708":[[334,731],[59,6]],
-"x8e64546f8a3e0b6e":[[157],[4]],
-"x91e05f5530de63c2":[[3902],[17]],
-"x4601dc1e91df3dc7":[[3763],[4]],
-"xd3c27c93657b537b":[[405],[4]],
-"x98d1175e6857940a":[[3169],[3]],
-"x64bbc9873fcad738":[[3902],[4]],
-"x6d5235a71388bc92":[[3690],[5]],
-"xe6b193a7fe6c6f92":[[3902],[5]],
-"xecb27ce08dc859f0":[[1318],[5]],
-"xe7cdb29b627e25bd":[[1049],[6]],
-"x748b822146c9fbc":[[4013,3742,3112],[9,3,2]],
-"xefb75148b80e928d":[[3749],[2]],
-"x8fb9ea7d08e02011":[[3817],[4]],
-"xebb3d459eaac0976":[[2407],[4]],
-"x9b62ed8c8c98de89":[[3902],[3]],
-"xdec30ab43e70a1a4":[[2477],[2]],
-"xf75b5e650030a9f1":[[2155],[6]],
-"x5f0944c0749e8d63":[[2852],[2]],
-"x3aa8ba31fb4313f1":[[2908],[5]],
-"xdcd87126f1bd1ec3":[[3372],[3]],
-"x260f153b3300b914":[[3821],[3]],
-"x7c8e62275366e2c9":[[3827],[2]],
-"x995b37f31bc77762":[[3502,3299,3372],[5,3,2]],
-"x4994b27f5cb2d3ae":[[1380],[9]],
-"xff2e4da42ce3fa92":[[75,82],[6,3]],
-"x9eb1c566eb2c084f":[[731],[50]],
-"xc5cee552b9b402b8":[[2851],[4]],
-"x14069af4bedbe050":[[2397],[6]],
-"x20cb74422738de41":[[2073],[3]],
-"x763c1ab00e0ae4bb":[[213],[6]],
-"xf6458b61d667c0ae":[[1762],[6]],
-"x37253ab95d079985":[[788,528],[14,1]],
-"x46f33a1eb2df094e":[[1763],[7]],
-"xb5662e4af2421390":[[528],[4]],
-"x461897a4d13292a5":[[334],[4]],
-"x166aad7d4626a1b0":[[3699],[8]],
-"x3b6edf89a06bbda0":[[3902],[5]],
-"x59977955f5b9b6c3":[[528],[3]],
-"x5a4fef220f0086bc":[[2682],[2]],
-"xa19f4451e852d111":[[2931,2609],[10,2]],
-"x8f5bf6922d628380":[[137],[7]],
-"x9a8a1609db1a6a10":[[3826,3307,4020],[5,4,2]],
-"x8d1be920f002e0f0":[[3177,3902],[9,8]],
-"x56c19e75a78c252a":[[3567],[5]],
-"xa4838d9d19f20fdd":[[3567],[6]],
-"xffa8ec9e27f6f519":[[2137],[4]],
-"x26946738dea756fb":[[405],[4]],
-"x94a57aec02379a45":[[1245],[3]],
-"xcbd1d3659afe31d5":[[202],[3]],
-"x408242f553062bcb":[[1218],[4]],
-"x425b698e8b8cf108":[[3305,2331],[4,4]],
-"x8cb50a6084fbfa4f":[[788],[9]],
-"x9f199b93497f9f5e":[[2915],[29]],
-"xb470a20fb8b3dd45":[[3300],[2]],
-"x351ac32e15f8df0":[[262],[5]],
-"x5c1ce772e387384b":[[723,731],[24,12]],
-"x9633ae32027e2967":[[1699],[5]],
-"xe9cf50c01dd56c15":[[3828],[5]],
-"xe40d38eadd4d1cd0":[[723],[3]],
-"xf63188f759d013c1":[[1057],[6]],
-"x4d2950790564dd18":[[3964],[4]],
-"x198a0551d2747010":[[3762],[3]],
-"x38be7bca3dfbf61d":[[2724],[3]],
-"xabeb5f253be615b6":[[3242],[3]],
-"x63000c9ed7a39e8a":[[594],[4]],
-"xdaeb76817e798028":[[2981],[15]],
-"x160e66510f9ec0a4":[[334],[4]],
-"x85283cdbcaa32e5f":[[1699],[5]],
-"x1a4b3f40a7b89321":[[2609],[3]],
-"xf5437b41a5cff23d":[[450],[3]],
-"xf3fdf2ce26484be3":[[1179],[6]],
-"xb8aa611a8d755189":[[2720],[32]],
-"x3bf2436b7637104b":[[3234,3902],[8,7]],
-"xda2cb57dcc0157d6":[[1681],[3]],
-"xba031a7d2fe463ea":[[3502,3947],[48,5]],
-"x28c6332748a8770a":[[788],[15]],
-"x12d7a818936cf912":[[339],[1]],
-"xf8bfda8bfb01640a":[[353,1375],[4,2]],
-"xd03a9e0e485b680":[[334],[8]],
-"x39761c8824935339":[[139],[8]],
-"xb01a71aee122d749":[[1569],[3]],
-"x43a73fdad2a65b7":[[391,148,536],[38,13,7]],
-"x98eec903957a6fbc":[[3299],[5]],
-"x2ee3a06b3c43cd85":[[82],[3]],
-"xf80d78b73391feb1":[[1049],[5]],
-"xf61a330011207539":[[332],[7]],
-"xa4c0224c4b85edf6":[[353],[4]],
-"xac6bf08a5b4b39f1":[[3],[3]],
-"x14f6a466875ed115":[[1242],[21]],
-"x8c16ba77b72ed065":[[3372,3749,2910],[17,3,3]],
-"x5464fe41b0cbfc29":[[2908,3902],[47,17]],
-"x9a53c01e58b58089":[[3817],[4]],
-"x76f397282860229f":[[2404],[3]],
-"x47da09baaaec3b61":[[3836],[6]],
-"xf456f62dd3de2330":[[3502],[12]],
-"x9b579b1088780fab":[[723,731,601],[53,8,8]],
-"x89d6e071ab110999":[[1098],[2]],
-"x6dcf799649d591db":[[1699],[3]],
-"x3a80900f66be8c68":[[3947,3177],[260,16]],
-"x130e38b3024ea65f":[[1546],[1]],
-"x8618f502220a15dd":[[216,1762],[6,3]],
-"x3af4e070874280cd":[[2267],[6]],
-"x12b0d1da3f0720c6":[[334,1187],[4,3]],
-"xa82d121f0a19be4c":[[82],[5]],
-"x2cfa6618352e1f32":[[730],[5]],
-"x1c51b8eb4b5c44a0":[[1226],[4]],
-"xd04c91caa7427ca7":[[2915],[5]],
-"xbaf493f5b53b16f8":[[2996],[1]],
-"x81904e1234400f7b":[[3242],[6]],
-"x3222a0602111c3b5":[[1568],[2]],
-"x894087ad298d60c8":[[1749,1745],[22,3]],
-"xa94719a5a763e2c8":[[771],[4]],
-"x8e5c8732b6b211a8":[[3752],[3]],
-"x5afa7cb7bba4dd1f":[[1516],[6]],
-"xb3fd240ce5831598":[[1307],[5]],
-"x8dbcc62f7c4ffc78":[[334],[5]],
-"x4f4c775d9dd16076":[[4013],[3]],
-"x483d55e229bc233d":[[2397],[4]],
-"x3b314ecd98a79aa8":[[3761],[3]],
-"x68c6a34cc48ed300":[[389],[6]],
-"xff4d2de59a671b0":[[353,346],[11,8]],
-"x60468e5268443979":[[3169],[13]],
-"xc11c7bc0c4440ce1":[[1837],[7]],
-"x3296b180a166ea1":[[3234,3177],[4,3]],
-"xa6c9842784627279":[[203],[3]],
-"x9de51e309779507a":[[536,391,148],[8,7,6]],
-"x1832367be11ecb7f":[[324],[8]],
-"xcc35d524efb1948f":[[2331],[4]],
-"x5d49905e25d3ea45":[[917],[6]],
-"x947e89e8375d6f14":[[3690],[3]],
-"x32a3ca86cd8b1bc1":[[2090],[4]],
-"xc74ad2653c653a73":[[658,731],[4,4]],
-"x94ed70689ca920ef":[[2203],[2]],
-"x9b284f7bc12ece00":[[1516],[4]],
-"xc3957d3b692c9e18":[[658,1380],[20,5]],
-"x3cfc7a77f5df504f":[[3502,3429],[43,3]],
-"x7d8729377a314f7c":[[262],[4]],
-"xf4714f32104c40bb":[[666],[6]],
-"x561b0a93ae4529f4":[[1098,1380],[5,1]],
-"xcd10162d605c3a3b":[[2325],[6]],
-"x601bdaa9d0613bc2":[[2851],[2]],
-"x669bd118eba2f36":[[202],[7]],
-"x3305815fcb737ccd":[[991],[5]],
-"x87354d776ae0896a":[[1318],[8]],
-"x2f2b385a161af9ab":[[536],[4]],
-"xd3704b90e4e74e51":[[346],[4]],
-"x246ec8432c69202a":[[3699],[10]],
-"x1c77fdddd50367f":[[3902],[4]],
-"x6994daec94c8da0":[[339],[3]],
-"x89a036db2f4b9dbc":[[3947],[3]],
-"x1d3184f8e459b822":[[2851,3811],[14,5]],
-"x5d63478c5b085072":[[3373],[3]],
-"x4ed82dd56e9cd980":[[2729],[3]],
-"x1c73e32fa7db3205":[[723],[6]],
-"xe1cc98e8c5c9b27f":[[3690],[3]],
-"x3c9fe5ea25991c91":[[3742],[7]],
-"xb64850341f7e6a64":[[82],[4]],
-"x7c662cbe30e2f1e7":[[219],[3]],
-"x4d357ac9e171dedd":[[3699,3826],[6,2]],
-"x338ded3eb3190b24":[[166],[4]],
-"x9b86d5b21ab73261":[[3371],[3]],
-"x7aaf00b87e767cf6":[[3956],[5]],
-"xd0852cd18aa5813f":[[3699,2266],[4,3]],
-"xd28b82c47b3ca3be":[[1569,1763],[12,2]],
-"xee68f5cdb7d2fd4c":[[3699],[6]],
-"xab2da1f053e4d0d2":[[1375],[6]],
-"x227305924a064e74":[[334],[5]],
-"x77e9601f98e6832":[[601],[4]],
-"x7263eca0e923431e":[[1568],[9]],
-"xa1660799fb004c07":[[262],[3]],
-"x42b3df6c4d6f4d7e":[[2203],[10]],
-"xe31e6f091345922f":[[3956],[7]],
-"xa96a1040de950f74":[[261],[3]],
-"x931a83624d60ef59":[[3169],[9]],
-"xdb1602c66a896e27":[[3808,3752],[6,5]],
-"x808ee66c6fb24bec":[[3699],[5]],
-"xd34757022280456b":[[787],[3]],
-"x126337d1f7cc2493":[[3699],[2]],
-"x9942170aa056ceeb":[[3373],[27]],
-"x5f054cb6745fd8c1":[[2915],[32]],
-"xc974046281b67f09":[[258],[2]],
-"x7c57f59e53c42f11":[[1867],[3]],
-"x4c4595724944c61d":[[2740],[215]],
-"xd6b3a73fb125ea7d":[[2794],[8]],
-"x75265e03f97d1da2":[[3372],[5]],
-"x8846730faaa0d26":[[461],[6]],
-"xa3a37d14728f2511":[[137],[3]],
-"xac4e2d9a779ff235":[[3902],[5]],
-"x30b692d6164be19e":[[2212],[5]],
-"xc71e7bcfb56b82b6":[[3956],[6]],
-"xcb9f663c787a7cdd":[[2261],[1]],
-"xdd088588f432faa8":[[219],[4]],
-"x69ece34aba1fdcb3":[[1176],[30]],
-"x3943c7907f485285":[[2452],[2]],
-"xcd24e6f632c8ffa8":[[2154],[3]],
-"xbfd8af62b93a3a5d":[[3795],[2]],
-"xf6e6a5115b861a0d":[[1633],[4]],
-"x14f2501fff71317a":[[262],[3]],
-"x35eeb253b70f916":[[528],[17]],
-"x6e5a7e14a94d9c98":[[1700],[3]],
-"xfe2a70bb4be5f2aa":[[262],[1]],
-"xf23c35d742f49e80":[[262],[6]],
-"xa862a7fa85c574b2":[[1307],[4]],
-"xda0a08f5f66c5d25":[[2202],[3]],
-"x89e270403210b03c":[[262],[2]],
-"xd82bae2bcf518a27":[[262,731],[7,7]],
-"xa81e29c46ca30b98":[[262],[3]],
-"x7820b5077783b52":[[3372,3688],[4,2]],
-"xcbd0586f276dde9f":[[68],[4]],
-"x74ee460419f30e9b":[[129],[3]],
-"xe4ae86d62fa00cd9":[[219],[2]],
-"x106caf22f87fd57e":[[1098],[5]],
-"x3e1602b89cbe50b8":[[2,219],[7,5]],
-"xaaaf8317e99f8e91":[[332],[5]],
-"xa2aab877fd5bf1a5":[[2593],[10]],
-"xcba47a316538c155":[[2593],[3]],
-"xceaefc1e653a8f1d":[[2154,262,658],[78,50,3]],
-"x813012aef11ec878":[[2203],[5]],
-"xaf68b2f74ed8ba9":[[3964],[4]],
-"x80ccbc9a107a292a":[[3902,2258],[10,6]],
-"x8565af5220979d17":[[2203],[11]],
-"xc2f3943ad072ada2":[[1098],[4]],
-"x3ed7dfa299f65e28":[[1838],[15]],
-"xb3e03197c3b4bdae":[[3177,3307,3299,3902],[7,6,4,3]],
-"xf1597cf9c0842bab":[[258],[3]],
-"xe338ad9c53722816":[[3902],[7]],
-"xce9763b6766d0b1d":[[2933],[8]],
-"x849eeb72778a4a5e":[[1282],[4]],
-"xc901645a04f904c5":[[2852],[8]],
-"xf7d0df6f1284818b":[[3112],[4]],
-"x24fd585f27c1c96e":[[262],[4]],
-"xad2bcd366821eb3a":[[528],[4]],
-"x359140574dccc7f8":[[3177,3826,3690,3169],[11,5,4,3]],
-"x9a954dc73a8e6782":[[262],[5]],
-"x9e8de5c9246c2322":[[593,731],[7,6]],
-"x2bb8a1f68fd76fca":[[3690],[7]],
-"x1ad4e91d2c9da977":[[594],[4]],
-"x837a30fe128d2bf1":[[2266],[1]],
-"x1c82b5161cd31870":[[3902],[31]],
-"xa4b89a4fc914ac9f":[[544],[3]],
-"x36c50db24b63974a":[[918],[10]],
-"x420d44ba8bd3489a":[[3502,3956],[7,3]],
-"xbe5ffef5873da583":[[3752,3761,3929],[554,195,19]],
-"xa5922fb9bf54620e":[[2609],[5]],
-"xdd4abf2b48cb6647":[[139],[4]],
-"x415107a5194b50a9":[[528],[4]],
-"x86081282e1706e03":[[2916],[10]],
-"x325b696440075d7d":[[3307,3902],[570,27]],
-"xf8cf61089abdf398":[[3699],[3]],
-"xc49eb80fca091a75":[[209,1683],[5,1]],
-"x661940c628f93bd2":[[3435],[3]],
-"x1983fb3a5b9f74e7":[[3177],[1]],
-"xf21a5dfade243e74":[[2934],[4]],
-"xc8e575c09f95a737":[[262],[6]],
-"x6b146f203fc19c31":[[1187],[5]],
-"xf68620a9243222":[[3828],[3]],
-"xb3057a50070a6d5f":[[3362],[3]],
-"x7de68bb3745ab249":[[3949],[5]],
-"x23e024fdf553c627":[[324],[4]],
-"xe6b1bac9fbd0b0a0":[[3298],[3]],
-"x87317db3f3998592":[[731],[6]],
-"x7cfef098f06f8873":[[593,1699,1698],[52,21,3]],
-"x9f078c1e7db63ea1":[[3964],[3]],
-"x2cd68b8a716dd17d":[[3958],[2]],
-"xc89713bb09924ea":[[2658],[3]],
-"x2d8f2e5372c86087":[[2072],[3]],
-"x2d2209ed41169c2b":[[3898],[10]],
-"xa9d79a24497738ef":[[1568],[3]],
-"x45d73c1e8a7b9e2d":[[2593],[2]],
-"xda7c2b1f22aa997c":[[56],[7]],
-"x6cc51bbb0791354b":[[2266],[1]],
-"x862dcd6a5022960d":[[144],[5]],
-"x10df9c3428c4b405":[[262],[17]],
-"x8ab50c370f1d0af3":[[3929,3947],[4,3]],
-"x17c2b0de9e098893":[[262],[2]],
-"x54b9ac2134d9276":[[405],[3]],
-"x9bfef7bc12e74f13":[[3808],[2]],
-"x2c8b42fa080f7251":[[82],[11]],
-"x4dc048b412ed70ff":[[405],[5]],
-"xe768c92907230645":[[2915],[46]],
-"x156f62da6a33859b":[[3157],[1]],
-"x9e218875fd499455":[[82],[4]],
-"x111b4cbdff8a7be6":[[1699],[2]],
-"x8c535dd3aee45e7e":[[861,1164],[120,30]],
-"xa255c793403f7d14":[[3309],[4]],
-"x1569903b6e7f0492":[[3305],[56]],
-"xf5522377fa792b73":[[788,796,216],[98,9,9]],
-"xae22654e151205de":[[3938],[5]],
-"x5a8d248c626e7776":[[2657],[6]],
-"xf217f745cdf7e1c1":[[2788],[1]],
-"x3dd1a85632c25dcb":[[346],[5]],
-"xf47a0297ef7cd927":[[1765],[6]],
-"xe10ec3a286de6a7b":[[339],[3]],
-"x89d3fd64fe43cb2f":[[1356],[3]],
-"x674d7cbf8321cc60":[[3893],[3]],
-"x511e181dbeaa26ab":[[138],[6]],
-"xb73dafa62087030":[[731,918],[17,3]],
-"x2714615a2e1f4fdc":[[658,983,536,723,731,528],[180,93,90,35,19,4]],
-"xdf802f25c48c4a83":[[1746],[4]],
-"x3ac4526d88be91ff":[[334],[4]],
-"x75eb584439ae1164":[[666,166],[5,4]],
-"xc4a461fcc5b667ad":[[991],[3]],
-"xc8a2d53551349558":[[2931,3690],[11,4]],
-"xe340069a33b03f67":[[3938],[5]],
-"x84f49afb330b5e20":[[3761],[5]],
-"x8770bd201621815c":[[203],[12]],
-"x2235aa3f0e708f6d":[[3756],[4]],
-"xcc02a41c1154699a":[[3112],[3]],
-"xbf3848f429a98105":[[3699],[5]],
-"xdf5cbbaf0ac2eb00":[[2724],[3]],
-"x235cfd118d43786e":[[3242,3112,3372],[22,11,2]],
-"x2328677af894b7f0":[[666,593,601],[25,7,5]],
-"xe66df155f2576bd6":[[8],[3]],
-"xf27810ed7433d3f4":[[2996],[1]],
-"x1a232fd2bf68f8d4":[[1104],[3]],
-"x111349c7afce7d14":[[3892],[3]],
-"xb4036200bf5ea808":[[3309],[3]],
-"x3ef5e9285ba4cc2":[[3756],[12]],
-"xe83369d055a999ae":[[3699],[4]],
-"x16eb90986edc61bf":[[3112],[1]],
-"x882c19fc81931692":[[1699],[9]],
-"x19a024315701c229":[[3306],[66]],
-"xd89a8dccaa6806c9":[[3113],[3]],
-"xa82754d7f6d42838":[[2934],[2]],
-"x566cd72b4216c00b":[[3177],[3]],
-"x3ec36bf83d6ce7bf":[[3738],[3]],
-"x8c8c5fdd85a8d603":[[4013],[15]],
-"xfaa1bd6fbd713035":[[204],[3]],
-"x4cf0c1a4cd2b5948":[[1633],[6]],
-"x55bc698f054bb968":[[82],[6]],
-"x5ea1569bafb90099":[[2346],[4]],
-"xa79508b38bb5b91c":[[3567],[3]],
-"x1602f20347526b9":[[3699],[4]],
-"x9d056f80fe40cad":[[3761],[3]],
-"xf952ef3ecef49e24":[[3690],[7]],
-"x65ad5b58a8d49be":[[3817],[5]],
-"x87c59b76f1320fc4":[[3104],[2]],
-"x5b85db34f6158799":[[3821,1959],[3,2]],
-"xc0ac74fa57251691":[[82,918],[15,15]],
-"x44b095ed38c3e5e8":[[346],[6]],
-"xf6daa6ce6406650c":[[1546],[3]],
-"x656b852440248e7b":[[2455],[2]],
-"xbaa98f03cb3052ac":[[3690],[8]],
-"x1bb3509bafefdf27":[[3958],[3]],
-"x800198c09cd5882":[[82],[21]],
-"x297cd0cd5f67532b":[[3958],[3]],
-"x3334913b14aa0f95":[[3817],[2]],
-"x3a4f614956e43db3":[[2201],[5]],
-"xbd160b4acad78064":[[3828],[5]],
-"xbbebb042ea33d76f":[[528],[5]],
-"x38db61a7d7bff96b":[[3690],[4]],
-"xa072e7a73bdf4ff6":[[3300],[6]],
-"xf39b582a4837199":[[262],[6]],
-"xbf132af565906e02":[[2999],[3]],
-"xd603d514ebc183a7":[[3501],[2]],
-"x16a2aa9c201f458c":[[4013],[13]],
-"x48b472fbe2e6fdef":[[2852],[10]],
-"x202ba95c19a29f0f":[[1380],[106]],
-"x74b1085029959bd9":[[2407],[3]],
-"xc5ed3031292eaf7f":[[771],[6]],
-"x5cddf75a3664cede":[[339],[5]],
-"x3e66d524b8ec8003":[[82],[13]],
-"xdf93c542f761b43e":[[3690],[5]],
-"xfbfa6f0d9fabed22":[[2915],[6]],
-"x3976e9dcc7d49cd5":[[3964],[4]],
-"xb112b1e78132d2ec":[[3234],[4]],
-"xde8f1980663e52df":[[3559,1967],[6,2]],
-"xe9e656a94e93368e":[[666],[3]],
-"x45a8a313d1b85165":[[3242],[3]],
-"xe0b5d2c00d0a61bb":[[3567],[4]],
-"x77771b3ad95add4f":[[1903],[6]],
-"x1e1fe0028f0f423b":[[3052],[6]],
-"x152737060ff623b2":[[2787,3112],[8,2]],
-"x44ebf5502da743f3":[[3169],[7]],
-"x75ba7de756bc100b":[[3947],[10]],
-"xb294acfb378ff1a3":[[1373],[6]],
-"x45eca02f9ce21a6c":[[1900],[3]],
-"x391e83566e5d03e3":[[2367],[3]],
-"xebb825e9f2fd67fc":[[2724],[3]],
-"x3182d090d9ccc172":[[659],[2]],
-"x357600906e780a4a":[[262],[5]],
-"x1742b0de16c2bacc":[[2851],[16]],
-"xa61db7f1f4945cb7":[[166,853],[9,4]],
-"xe8b5044a169bac80":[[3828],[6]],
-"x44dc86756789718e":[[3699,3234],[6,3]],
-"x5795851f17c8b692":[[3761],[5]],
-"x7e8ac9ce45dd8a9d":[[396,405,202],[13,12,4]],
-"x4554d82145e792a5":[[3364],[7]],
-"x8bd59daa8f5f79f4":[[1229],[3]],
-"x981d89ad9ed6d350":[[3234],[6]],
-"x5f0820a2f5e704d7":[[3902,2918,3761,2740,3641],[46,8,3,2,2]],
-"xeea980b81b1d0da7":[[137],[6]],
-"xba1a57028e704634":[[3372],[4]],
-"xf6954c308c4bd400":[[2778],[4]],
-"xb443fa45ea1d0e1b":[[1355],[4]],
-"x1ddd137af68b89c9":[[3299],[39]],
-"xdd621caaac6d47e":[[3763],[4]],
-"x685e17e0b742c893":[[2915],[3]],
-"xe4c2dac04796aea8":[[3234],[2]],
-"x4c0e6b8471006d05":[[3309],[3]],
-"x572cdd3f71d1ac37":[[3699,3902],[6,2]],
-"xaa752207e1ab9c6b":[[2650],[3]],
-"x9a4e06e0ce4d3ba9":[[262],[9]],
-"xbe69ec2ec3bf9c20":[[262],[3]],
-"xfa2bac878e951f66":[[3372,3234],[20,4]],
-"x6120e79691a32608":[[2919],[1]],
-"x2c2d4704629fb65a":[[724,1773,1828],[8,3,3]],
-"xd0c21cf41a3385d0":[[642],[6]],
-"x6b33fdeb62492926":[[3808,3749,3817],[23,7,3]],
-"x968b3f090996bb4f":[[1691],[6]],
-"x6241e8470fac42db":[[723,82],[50,7]],
-"x578cb7529d120408":[[2898],[2]],
-"xbaa75f3a354f7650":[[3749],[6]],
-"xd594c74b738804f":[[732],[3]],
-"xa682c6eaab4f46cf":[[2908],[5]],
-"xf0880eab073bdaf2":[[1569],[9]],
-"xc48201f4e345bb54":[[3177],[5]],
-"xea3261df6261f86d":[[731],[3]],
-"x997cf018b05b6914":[[3958],[9]],
-"x5d63f3fdce6f872f":[[262],[6]],
-"x99b655e7a941e88d":[[983],[3]],
-"xfe43a72442d4816b":[[1746],[3]],
-"x68f6834b0349c17f":[[1226],[28]],
-"xb1cf7b627e166cdb":[[339],[6]],
-"x722ff596d204b888":[[332],[3]],
-"x127e9dd963293621":[[3902],[22]],
-"x50dbc83358f38437":[[2723],[4]],
-"xbce1501731084a7c":[[722],[3]],
-"xe9c80fc031e8110b":[[3749],[7]],
-"x6844f0be102803b7":[[3690],[3]],
-"x681ad387583665d8":[[3502],[8]],
-"x8594c2fba232a0f2":[[594],[52]],
-"x1401e03be4e48035":[[2477],[2]],
-"x86e7853bc81f471f":[[2186],[6]],
-"x211a1d52132b6f60":[[3242],[2]],
-"xec2245dcdf77a0a2":[[1106,1112],[4,4]],
-"xc7854dc27bb44fac":[[3902],[2]],
-"x1b9775640f8249d7":[[3298],[9]],
-"x9d33183088965938":[[1764],[3]],
-"x3a5083f00c38bc3":[[3699],[2]],
-"x54801f4968fcc729":[[3902],[2]],
-"xb032f8646182bcf":[[3],[5]],
-"xd0b0a4cd506d472b":[[3902],[5]],
-"xd95382666e7126c4":[[339],[9]],
-"x5f4b7a4a8c3a690a":[[2153],[6]],
-"x23dc2c0b4dd42a05":[[334],[5]],
-"x86188570f4825cc5":[[3305],[9]],
-"x718c410570568b2":[[3307],[8]],
-"xcc00022071bba659":[[3643],[6]],
-"xaedd0ec50689ca91":[[996],[5]],
-"x212e449d1b40f9d6":[[788],[5]],
-"x24fe9e5dfbbf2866":[[2851],[8]],
-"x7c4e2a9a26dddcab":[[3834],[4]],
-"xb7b820b9f0e9b7c2":[[1327],[2]],
-"xa8cde377740e4b76":[[1164],[4]],
-"x77fbcb2387b23188":[[4013],[1]],
-"xa32c760f4040b759":[[4013],[59]],
-"x13c134f28a839f8b":[[202],[4]],
-"xb75008f3ac19be37":[[3307],[3]],
-"xfe9de7e7abf5ac56":[[3,528],[5,2]],
-"xfc3e5e4fa01bcfcf":[[2266],[4]],
-"x8c5e23c457f1e4b7":[[1803],[3]],
-"xcc3cf65817155336":[[1762],[4]],
-"xf66eb11bab56d4c8":[[854],[5]],
-"x7dfe0c4ad7c18e2d":[[3826],[6]],
-"xbdc7a6d95887951e":[[2006],[2]],
-"x501cb6be013349d5":[[1176],[6]],
-"xb79009b3e8ffe20":[[3827],[10]],
-"x1cf373bf27fd15f5":[[1137],[8]],
-"x53f720bdb1d7a878":[[3122],[3]],
-"xcc32fd69c121293d":[[3567],[7]],
-"x53ba924b3ffbb290":[[796],[4]],
-"xe99b912f4db804de":[[1763],[2]],
-"xc3ec49a3b28cfe73":[[3373],[2]],
-"xe527ee0ecb2c9513":[[3502],[4]],
-"x91dfbd592556ca50":[[1364],[3]],
-"xd983ff2ac57b4716":[[3828],[1]],
-"xe2ad4e97b809a45e":[[1745],[2]],
-"xf641f7dbc9d883b1":[[3892],[1]],
-"x28bb24f5d8de4c8f":[[1568],[4]],
-"x98b8130537b491bf":[[2915],[14]],
-"xbc06643249c64dc8":[[594],[6]],
-"xb8c91402d8998e2":[[3690,4013],[40,6]],
-"x1e9e7dd921914f43":[[3169],[5]],
-"xa3dbd21b556f6866":[[1414],[4]],
-"x18394dd1da8eb4d4":[[658],[5]],
-"x8dafa21307820691":[[733],[6]],
-"x2a95c8d79c951b4e":[[3316],[6]],
-"x17aa576ea287352a":[[1332],[6]],
-"xa49bcfaf50c9fca0":[[2982],[3]],
-"xf72af4db457528da":[[148],[5]],
-"xe72676224ccf2f11":[[1226],[3]],
-"x691828493428d210":[[75],[8]],
-"x820bf55c87a05392":[[1371],[11]],
-"x66a4d87b3b244f81":[[339],[14]],
-"x799bace53720d1a3":[[2203],[65]],
-"x432d97646fe31173":[[3947],[3]],
-"xd21dfa477a803749":[[2323],[4]],
-"xeb8397f66b09a428":[[178],[3]],
-"x4414064b87e144fb":[[601],[4]],
-"x68355a1ce5d3a67f":[[3582],[4]],
-"xe288242da7be26c4":[[730],[3]],
-"x9b9347173c09cf8":[[3309],[1]],
-"x59b748efb6e5d974":[[2413],[8]],
-"x18cf91bbd37bcd1c":[[3299],[4]],
-"x47f5d1e1eee6f6cf":[[3104],[1]],
-"x1cdb720b81686d93":[[2073],[4]],
-"x7d37d9a199790fba":[[1509],[4]],
-"xfda84177d79a9361":[[1114],[2]],
-"x429bd3b520b60b3f":[[3372],[5]],
-"xe384565dfabf097b":[[2785],[3]],
-"x10b3f9c236e74a43":[[2658],[4]],
-"x232f5cf926082648":[[334],[2]],
-"x33a979d902a48df2":[[3690,3429],[6,3]],
-"x85eb71956cf7ffae":[[3307],[4]],
-"xcf7f339af027d690":[[1180],[3]],
-"x26dcbc8b3b5e455f":[[3902],[4]],
-"x43991ef4ac3d0501":[[658],[9]],
-"xd5cf8be0fc47ba73":[[3517],[6]],
-"xff2ffcb4add80af4":[[3956],[4]],
-"xd08513f3fa99752d":[[3902,3742],[320,7]],
-"x8d6247ff4f037260":[[267],[9]],
-"x7e2e0a5a9c016456":[[917],[2]],
-"x6c2b5c82631acfd0":[[731,82],[17,4]],
-"xf8d15149417de8b7":[[772],[6]],
-"x1beb6410add6157e":[[262],[4]],
-"xaaa6e6fd5e9052d1":[[2137],[6]],
-"x1d633f9306baa5e8":[[4013],[5]],
-"x7bead3ebf868486c":[[3112],[2]],
-"xfdf34e00b8e72c76":[[797],[10]],
-"xc8433affc2830adb":[[592],[6]],
-"x82205132d41ddc61":[[1282],[4]],
-"xf903079d58a0cd22":[[528],[4]],
-"xc2a7a8fb1de70a8c":[[723],[6]],
-"x74cdefdbadae5e14":[[861],[16]],
-"x39a4520a2d29da99":[[3690],[4]],
-"x239a180737179097":[[3364],[1]],
-"x1184dbea8d290583":[[203],[3]],
-"x9335daeba17ba6b5":[[2203],[1]],
-"x23ceaf7678cc766c":[[3902],[4]],
-"x6a40c03b12715d99":[[334],[6]],
-"xb7ea2a09fad430e4":[[2274],[6]],
-"xe3dd1b24fd4ff151":[[2455,918],[6,2]],
-"x3549f4b64680a1b7":[[2610],[4]],
-"x5f41529924f97c0d":[[398],[5]],
-"x6a0b2c9edccf40e":[[4013,3112],[28,6]],
-"x8802a04458d5a096":[[3169,2852],[11,2]],
-"xbe21586a6d390c28":[[1380],[4]],
-"x7d7881de4fcbdaba":[[3150],[13]],
-"x40fd01fc1dd54044":[[166],[4]],
-"x5ac1bcc138709bfc":[[262],[6]],
-"xd52117d10f1bdb0":[[1226],[5]],
-"x29218d46a7bb7d8a":[[918],[6]],
-"x7e57900b3a74fe18":[[1382],[3]],
-"xe06d8241c57cd390":[[339],[5]],
-"x3d7736ffb9d59b02":[[75],[7]],
-"x9b08dc57bd01069a":[[3372],[8]],
-"x452ce328e84d4a9c":[[731],[7]],
-"x6199bb1674494a03":[[796],[3]],
-"xb9eeb241e2070577":[[991],[6]],
-"x79ba2dd5cae38b00":[[3309],[3]],
-"x20a0a007d37592b1":[[2224],[4]],
-"xa43afabed970721d":[[2908],[2]],
-"xe26135efb98ee8d2":[[731,918,593,788],[56,16,11,4]],
-"xe3eb5fd295030f0d":[[652],[4]],
-"x3bc1ecdd731c5069":[[139],[2]],
-"xd9afac91ebbad350":[[3761,3502,3429],[8,8,2]],
-"xf6d220cf97caf250":[[3177,3112,3699],[43,8,8]],
-"x916db58c048da46":[[732],[3]],
-"x13b2cc599171d9d6":[[1770],[5]],
-"x73400dd00dc6e4d9":[[3366],[3]],
-"xc92eefe28e3bbe2a":[[3643],[2]],
-"xf4386f9950c2d0cf":[[796],[6]],
-"x6f50c8a9f3f849a4":[[148],[6]],
-"x82bd2ee59135897f":[[983],[11]],
-"x31bf46050fbe965d":[[1681],[3]],
-"xf8b7a4b1ece9bfa8":[[405],[3]],
-"x5202c73d372a3065":[[209],[4]],
-"x10fb6010b9ec0beb":[[723],[6]],
-"xb2a3defe552f9a03":[[1652,1634,3104],[35,5,2]],
-"x11020f2421be94f3":[[536],[4]],
-"xeb99b2f6e49d1a78":[[1380],[5]],
-"xb1db8e21943f616a":[[1941],[1]],
-"x97cbd5a82dba3ccb":[[4023],[3]],
-"xc01c2367a65171bf":[[1578],[6]],
-"xfb9f46c9c8b4bf45":[[3752],[3]],
-"xc6b7b93635b96c6":[[2203],[539]],
-"x7a31220176cabba3":[[1371,1307],[5,3]],
-"x172f52ef364bf5f8":[[2477],[7]],
-"xbb5f825df1c4f889":[[1717],[1]],
-"x888dad8ab5c99e87":[[3899],[8]],
-"xda0ea0284c6ad1c2":[[528],[5]],
-"xfa6a5de51d6e893f":[[1180],[5]],
-"x15f1360aaf05886c":[[2137],[5]],
-"x5c287a782c02e8aa":[[4013],[8]],
-"x895718729b7227d5":[[2908],[3]],
-"xb94c551d134a3f74":[[3567],[2]],
-"x3f7dd461b02f288d":[[3749,2915,3808],[5,2,1]],
-"x988713cdb6b0dff9":[[1187,528,202,1226,1244],[6,5,5,5,2]],
-"x3cbe49d450babd32":[[2852],[3]],
-"x2a9d6b078ffd8cb":[[3689],[3]],
-"x7cf91b727960ff3a":[[3826],[1]],
-"xa4278f23816ddca3":[[1837],[2]],
-"xb66653aecc678a21":[[901],[1]],
-"x6d1549688e26c176":[[3956],[1]],
-"x210db2f883086d06":[[3177],[5]],
-"xb07fbe443eb38be0":[[3956,3699],[103,72]],
-"x6ff927ed1cabf508":[[3749],[3]],
-"xfe7c1a58b8c18cb5":[[1699],[3]],
-"x144a9f442a42c5f7":[[4023],[3]],
-"x21b256dd7a6a96dd":[[3902],[3]],
-"xef39bb0c9eb0426b":[[3690],[5]],
-"x1ce2c6c86d201f16":[[1187,202],[11,9]],
-"x641b0b8a51805e9":[[2610],[2]],
-"xf7d3bbe8613e4966":[[2203],[30]],
-"x3e37c1d0693f67fd":[[788],[7]],
-"xd0c0555b004a3da9":[[82],[4]],
-"x471d42ea6c3fa28d":[[593],[54]],
-"x3efc456dea0b42d6":[[3828],[10]],
-"x8848724d876af64f":[[2713],[6]],
-"x908b8f2669728e47":[[2331],[1]],
-"x20dd5107ed3af766":[[1698],[3]],
-"xa73accad256434f7":[[332],[3]],
-"x69b3e876693a7f41":[[339],[6]],
-"x37d71d3a61d04a0a":[[1187,717],[5,1]],
-"x30ac5d29cf7203cb":[[1829],[6]],
-"x838645cfbeb1ab9c":[[2282],[4]],
-"x96de0f89e08eab6c":[[1828,2163],[15,6]],
-"xf0be4b93bbea4596":[[1164],[6]],
-"x5d56554491b97b15":[[1098],[2]],
-"x1d95b5dcdf281a":[[2284],[5]],
-"xc066f6394cb9f595":[[3372],[24]],
-"x1774be32e6f45ceb":[[3826],[3]],
-"xa4fb11c1f8601907":[[2527],[4]],
-"x10805a62f16e933a":[[1058],[3]],
-"xaf49d298a63a8bc4":[[3364],[8]],
-"xaee58ea481df15d":[[3171],[4]],
-"x76a2ff0779c97d73":[[3362],[145]],
-"xd82b15ca8b84c4ae":[[24],[6]],
-"x8f63d34a0e84de":[[3502,3690,4013],[24,12,2]],
-"x5f92c6ada88af7a5":[[405],[1]],
-"x15edf97d6f0df005":[[790,853],[4,3]],
-"xf0ae069c165c48e1":[[3902,3756],[20,7]],
-"x3eb0d4f740bd99af":[[1552],[5]],
-"x1510f252371b4f9d":[[3429],[5]],
-"x357faaf2d3696be0":[[3772],[5]],
-"x3247739781e7bf25":[[3699,3956],[3,3]],
-"xa8f8d6740e692e21":[[405,1762],[52,3]],
-"xeef62ebd6b061ab5":[[666],[3]],
-"x9603ff4ca39a2db1":[[2824],[3]],
-"x99200b937c91cd63":[[2934],[4]],
-"x93d1bceaf0e5dddf":[[2203],[2]],
-"x6fa2c8592a4a66f":[[405,396],[8,4]],
-"x52a4c8e604185f9e":[[3112,3364,3749,3641],[52,7,6,3]],
-"xa06b4dd8c2274cf1":[[324,1699],[22,8]],
-"x244a267790daff71":[[3372],[8]],
-"x69864251809073d9":[[1769],[1]],
-"x37cdc0aa76a7506":[[609],[6]],
-"x78790850683dcf78":[[3371],[4]],
-"x7942d00ab98a01fc":[[536,203,528],[10,9,4]],
-"x6ddf3d6b3e5d6db5":[[2200],[3]],
-"x49fe950798cf2de9":[[3761],[2]],
-"xe533186e3b42ddf8":[[982],[3]],
-"xdd76bc98e7349528":[[137],[7]],
-"x4bbf3348647630d":[[2723],[6]],
-"x40e058df568d3276":[[3690,3234],[10,3]],
-"xda93188266e4fb46":[[2932],[3]],
-"x4c0a17c59df90cba":[[1178,204],[6,6]],
-"x7cc3ed2c23b6e41d":[[2720,2724],[4,2]],
-"x777a86581c6d145d":[[213,204],[21,1]],
-"x5b0c28139958269c":[[3502,3299,3307],[24,5,5]],
-"xc52d5d2d41c6f710":[[202],[8]],
-"x895360b8b01bc711":[[2006,323,3],[9,3,3]],
-"xd681bdb53d34d7c3":[[405],[10]],
-"xed6bcb747ed398c5":[[1745],[30]],
-"x894ad458609d737a":[[2484],[3]],
-"x9d3d42741af3478":[[787],[3]],
-"x45f94fe959b4c31c":[[3112],[5]],
-"x3dd4be0066bb6a17":[[2477],[15]],
-"x2bb419ff0bc08d68":[[334],[4]],
-"x17ce113aae0be936":[[2266],[5]],
-"x440f89f4f5af6528":[[1309],[3]],
-"x4535360eea72926f":[[4013],[3]],
-"x385a379c11ab6497":[[332],[2]],
-"x93e8ba89cca10211":[[3958],[14]],
-"xd1b6b81bc719711d":[[1373],[3]],
-"xbccdcb0490d4932f":[[3956,2715,3938],[11,10,6]],
-"x26a24415ed6f79b8":[[3643],[2]],
-"x628414c7b23870e6":[[1380,658],[6,6]],
-"x5364d7eb2a8b0c20":[[2128],[5]],
-"xf8d662c351743952":[[3938],[14]],
-"xc60e125988005f99":[[1618],[5]],
-"x8e204cb8635f7ef0":[[1113],[1]],
-"xe02257e2eb06faca":[[3808],[3]],
-"x76586f00f7e22b7f":[[3699],[3]],
-"x425e29dbf69b02c8":[[794],[5]],
-"xe404f77f0d10e314":[[3948],[3]],
-"x74e432fd1b75815b":[[1745,658],[9,5]],
-"x5df4020e3e711e1d":[[3501],[3]],
-"x69f1b7e74f8766e1":[[1048],[3]],
-"xa5a4b1ae756c719e":[[3437],[3]],
-"x1079c39e974f3b87":[[3129],[3]],
-"x36cdfa533e4929a4":[[262],[4]],
-"x49f41527ec690acd":[[3249],[2]],
-"x7a7ee1102432674":[[4013,3956,3242,3234,3929],[181,167,113,38,27]],
-"x4c4dba2c83da92":[[2804],[9]],
-"x7e6e2b6f3aa043c5":[[796],[17]],
-"xcfbfc151ba141b8b":[[3242,3567],[21,3]],
-"xf7a0663e4631ffd2":[[788],[4]],
-"xb3cad1517a57627e":[[3364],[6]],
-"x5e56b3188e555bf9":[[398],[3]],
-"x13f8aadc09aecb84":[[3299],[14]],
-"x587f61c5de26a3d7":[[4013,3112,3234],[41,20,17]],
-"x89a186a6c79fae9a":[[788],[2]],
-"x71f44f95113d3a56":[[82],[2]],
-"x8b81d510c8883146":[[1827,1828],[16,10]],
-"x77e0010ac74a407f":[[1371],[3]],
-"xd19709950846f11f":[[3761],[1]],
-"xdced9cb63bb17dce":[[2153],[6]],
-"x126de6e54224ad1a":[[157,148],[12,3]],
-"x5010c3a8db6884b6":[[1041],[3]],
-"x3ba032e9f96c8cba":[[917],[3]],
-"xf218f9d85661792b":[[3567],[3]],
-"x20199f9c46f947f3":[[3808],[3]],
-"x5a98b7372c43b5c9":[[2204],[6]],
-"xd1a9307775797569":[[1699,82],[8,6]],
-"xa69c4030e8dc722a":[[334],[6]],
-"xaf24ef38fdb0e50f":[[3112,3242],[17,8]],
-"x47113961ec3fda9":[[2349],[3]],
-"x8987ae105da89499":[[262],[4]],
-"x260fc6e7a52f3775":[[2347],[3]],
-"x969daaa3c891d3f2":[[2723],[75]],
-"x36995d7fc0246e96":[[3958],[9]],
-"xee3e04df1baf95ed":[[594],[4]],
-"x8c329edf83a4389d":[[3690],[4]],
-"x2a1203de8ebf6925":[[262],[3]],
-"xa68d26bb257e44d9":[[3826],[8]],
-"xaf5b89f48aeed8f7":[[3752,2281],[23,20]],
-"xde75def661d2a8a9":[[3761],[3]],
-"x78dac3fe828c5e87":[[3902],[29]],
-"x414285cae7b4ccf8":[[3176],[12]],
-"x6714123eb977d190":[[3177,3690],[3,2]],
-"xba6772b2ce096205":[[4020],[7]],
-"xd16834be80c4f3f6":[[2637],[6]],
-"x58720dfb3f2c5acf":[[2908],[6]],
-"x4d716d2999d0adaa":[[1757],[6]],
-"x6259dd55a588d7c0":[[2901],[4]],
-"x322d23f7dac8d408":[[666,75,1380,157,148,658],[39,7,6,5,3,3]],
-"x94d40a9c019dc93a":[[1699],[2]],
-"x861c1c8899fb53db":[[2137],[10]],
-"xc4226c8018de4551":[[3519],[1]],
-"x6e2b020605a06c12":[[2901],[3]],
-"x9c02090728d8e0f7":[[3234,3299,1618],[9,6,2]],
-"x8c4b6e7a5c2f3449":[[3104],[11]],
-"xfaba7079c8e8f91a":[[3112],[3]],
-"xf7cd18a051fdbe6b":[[3307],[5]],
-"x80fa1ec181ad819":[[3373],[4]],
-"x34eb1e570decd661":[[258],[6]],
-"x797217b6bdb6510a":[[3742],[4]],
-"x5592808c8dbd7a98":[[4013,3826],[5,2]],
-"x30d9de1184353839":[[2006],[7]],
-"x6967beae075068d":[[2908],[5]],
-"xeffc7c9d7a662cb4":[[2833],[3]],
-"xd4f95f68bd7a8931":[[713],[3]],
-"xffd8b05ead1f211e":[[2404],[3]],
-"xbc8e4a1a786b5956":[[3902],[3]],
-"x8061e6133ecf0b25":[[2656],[5]],
-"xa99b81a2c20a72bc":[[1185,536],[7,4]],
-"xc2d2e17fa910e9f":[[3690,2203],[28,3]],
-"x4011e126ad04a6f9":[[2155],[6]],
-"x1fff3ab5b6a260c3":[[1683],[5]],
-"xa1f86a5721e63c05":[[3958],[6]],
-"xdf97ddf3bdbf58f2":[[4013],[12]],
-"x126d3377dec93e24":[[405],[6]],
-"xb393ed5151697804":[[3956],[1]],
-"xd4e6daff4e51fbe0":[[216],[5]],
-"x5fedada448e4535a":[[2917],[9]],
-"xb090a6423cfcff18":[[1652],[35]],
-"xd8fa8e1fd8b4e7f4":[[398],[3]],
-"xfbef09c12b5633ef":[[209],[6]],
-"x87bd33d69f2c8f69":[[3761],[2]],
-"x8cdd65e4b0a5f54a":[[4031],[3]],
-"xcbade94dc1e99e37":[[3169],[6]],
-"xca2d6fee0d21491":[[536],[4]],
-"x29303e583290c47d":[[3306],[2]],
-"x6acc53d78dcaa331":[[3956],[2]],
-"x69aa6b7439623ada":[[2201],[4]],
-"xd6478890cc7ce4e8":[[991],[3]],
-"xb40010f4969fc8e4":[[3963],[3]],
-"xfcf6da6a721ff425":[[796,262],[11,4]],
-"xc74707c66d4ac2b6":[[3947],[3]],
-"xd0c12049d4551112":[[82,666],[18,4]],
-"xe93bedf3959c72eb":[[1902],[6]],
-"x69c6d49ebc8a01f4":[[528],[26]],
-"x2b360804f1c86634":[[82],[3]],
-"xee69bc44b3acfa2a":[[1958],[7]],
-"xb5e5657210dc7948":[[262],[6]],
-"x371cd1c374b64f27":[[781],[6]],
-"xec205b70ba0ec3c5":[[3567],[3]],
-"xec22674682b1e3c7":[[1618],[2]],
-"x3347664b86f91965":[[2203],[20]],
-"x2f51cb94b07d3d55":[[1187],[15]],
-"xf38cd12983bba588":[[3642],[8]],
-"x1db69d08b0d73779":[[3958],[3]],
-"xf1f4ac3fa875110":[[3294],[3]],
-"x29b72210b7357857":[[1161],[3]],
-"x85a93679b2a5b21b":[[1180],[4]],
-"xc4a3fcea6447d126":[[3372],[8]],
-"xcfb2799c63b744d6":[[722],[3]],
-"x85f9e45a4c31a794":[[3112],[4]],
-"x9c75746e725e95bd":[[334],[3]],
-"xe3d39f9f6ed3c9f2":[[3902],[1]],
-"x493db4d659fd3551":[[262],[7]],
-"x4206ee5d56e9887c":[[1941],[4]],
-"x34b582768d499678":[[166],[13]],
-"x6d49a13c46e3d345":[[926,203],[57,27]],
-"xcb1b442bac914ae":[[1828],[3]],
-"xbe4bb2b899cd92ee":[[1561],[6]],
-"x44bfd0efd57123de":[[3964],[3]],
-"x1a0f6e6eecf5a8e6":[[3828],[3]],
-"x7517e990ba0d4af1":[[666,262],[52,48]],
-"x362e142b9893fcf5":[[3779],[7]],
-"x173715b0aa2fce90":[[788],[4]],
-"xc68bf0d04de1b385":[[3169],[4]],
-"xadc9f7580edf2ca2":[[666],[4]],
-"x1278ae814679b1ad":[[3902],[2]],
-"xa681708bba3b67fb":[[339,129],[8,4]],
-"xbbbe82998c65d93e":[[3371],[3]],
-"x71222727c6f71e12":[[1451],[6]],
-"x331f7d2d6a006381":[[1965,1956],[7,5]],
-"x289de64bcfc23305":[[2107],[4]],
-"xe1607d751d16c76f":[[202],[21]],
-"x7c6349b0f1bb2133":[[3817,3690],[4,2]],
-"x8ae8ba157a78699d":[[2348],[6]],
-"x5c56fe97985bb7d1":[[731],[3]],
-"x48eb771fd52ddc39":[[796],[17]],
-"x2652c325d383de84":[[2282],[4]],
-"x80f95e58b16482f8":[[129,991],[11,7]],
-"xa1b0f1daa007e3a3":[[3902,3234],[27,24]],
-"xa64281eae6972693":[[3364],[3]],
-"x34185ad44aec7eb4":[[129,926],[5,1]],
-"x79ac08ed1aeaa5e0":[[157],[2]],
-"xc339e4a0aebb60d6":[[1371],[70]],
-"xabf4554811471d2f":[[601],[3]],
-"x62ebab5944627ac1":[[2715],[8]],
-"xfffdd50e25d8b07c":[[3161],[6]],
-"x41e9ec343680b4a9":[[82],[15]],
-"xc2b52a50b4965119":[[137],[5]],
-"xb042d8f73025ec95":[[1619],[3]],
-"xe88e8691c56fb4ac":[[3176],[5]],
-"xfb6632fa0fdc597b":[[3958],[6]],
-"xd5a497a20fa0a76f":[[721],[4]],
-"x5bc3545c5cd137cd":[[3169],[11]],
-"x4c09659af05ce4bb":[[3169],[2]],
-"x28ec6d7651ded6bd":[[3372,3690,3502],[78,41,8]],
-"x67c4124bd2e4b4cf":[[3902],[5]],
-"x5ac975c2bd2c73bb":[[3234,3242,3902],[88,16,15]],
-"x887f46a53f7e021":[[528],[1]],
-"xddcf68ef1b0d6542":[[3821],[1]],
-"x146ca2f487c80410":[[334],[12]],
-"x888240e5d395e6c8":[[576],[4]],
-"xae703fdddcc45698":[[3699],[5]],
-"x62495262d50d53bd":[[2981],[9]],
-"xe9ada06dd8965860":[[405,918,861,396],[39,9,5,3]],
-"x76a276c3b49e293f":[[3690],[5]],
-"x31119475da8a48e4":[[1380],[5]],
-"xb718f37cd6c83f4f":[[166],[3]],
-"x4a29807bacb5f520":[[3322],[5]],
-"x83e41b544f20dc5c":[[316],[3]],
-"x475f79cfe9a0351b":[[2292],[3]],
-"x5b8c6ba3d12e2ad7":[[3502],[4]],
-"xe4951fcf476b90c5":[[2268],[5]],
-"xb4482f42efdad173":[[2787],[12]],
-"x3cdc5507e8532f35":[[2931],[2]],
-"xffa29ff1ceba1b35":[[2931],[4]],
-"x59b5f4c6fced3f69":[[320],[4]],
-"x8399d6dbfebb0118":[[3956],[3]],
-"x67ddce739ab3d0aa":[[3756],[22]],
-"x2840b0d185ba9308":[[258],[6]],
-"x61dfc3ce79779e25":[[148],[3]],
-"x7e3893c38dd229d1":[[334],[18]],
-"x7edaf610c2c1078e":[[137],[5]],
-"xd038f7f1b17b2a9b":[[139,1803],[8,6]],
-"x8cf2002dc35851fa":[[1635],[2]],
-"x4afac5adb1ddbd8d":[[1899],[2]],
-"x14ae44d81ae7bb1c":[[1380],[2]],
-"xbb2d6ee9cd6de4f3":[[918],[3]],
-"x3b691ce5a473ea7c":[[1941],[2]],
-"x229ec32629e2560e":[[853],[6]],
-"x3b4220bd09cbac09":[[3958],[5]],
-"x8dee1c748c21715d":[[2463],[3]],
-"x1421b9e1ccd2990":[[346],[12]],
-"x6c73633fbcf9061d":[[3234],[5]],
-"xb4d1cca501d8a8a7":[[1371,219],[18,5]],
-"x611d27f1aac03786":[[2],[4]],
-"xb5e5684145e2e666":[[2715,2910,3307],[27,7,6]],
-"x29d4c7d98e8a4617":[[216],[6]],
-"xf5f4e9404e65deff":[[203],[4]],
-"x3cd709162c688e77":[[3641],[2]],
-"x5d5489fa29ec5bbb":[[222],[2]],
-"x7f6b60a16ee9555b":[[4013,3299,3242],[8,2,1]],
-"xd34bcae61f9a7ed1":[[983],[4]],
-"x768a1ae8aa465885":[[3756],[5]],
-"x551e5d6924dae376":[[3642],[4]],
-"x8073272645a02588":[[796,405],[9,8]],
-"xafa03f93003fa84e":[[3178],[10]],
-"x8162494491ee9e87":[[262],[3]],
-"x5e2c9f8291a3474e":[[3177],[6]],
-"x276ba8baeb06a505":[[528],[4]],
-"xfb18b03285a0c2eb":[[513],[6]],
-"x912c02687ee15536":[[3929],[58]],
-"xcec523a80fb409af":[[1828],[6]],
-"xca067c47e10c4f32":[[1371],[3]],
-"xe49df46a0b648a90":[[641],[6]],
-"xf4e3b09a7ad7f0a5":[[1176],[2]],
-"x76cd323b218c9f55":[[1244],[13]],
-"x1993d424ce92647e":[[926,258],[33,7]],
-"xb5c1f39414bc61c4":[[137],[5]],
-"xb20489fd540afeae":[[3956],[13]],
-"x2599457b317fa7a2":[[1372],[6]],
-"x11e9ea0c5266629f":[[262],[34]],
-"x6a66ae741f9ff27b":[[3307],[31]],
-"x41ae97c7b9f29a70":[[2023],[97]],
-"xd2522f08f30f73c":[[3690,3902],[15,5]],
-"x2a86dc6cf8f7d4b2":[[594],[11]],
-"xf2d09c8aa5844d69":[[3567,3902,3826],[9,9,4]],
-"x5e0ac54952ccf335":[[528,1,723],[47,15,10]],
-"x346682e098fa10c0":[[3567],[2]],
-"x40b041d9f49a46d9":[[2202],[3]],
-"xd9969616269c2f33":[[1697],[13]],
-"xd30dbc44a2bf80ac":[[82],[4]],
-"x9b62da1d6ac72c35":[[723],[3]],
-"x96a0462faa9733a":[[2089],[3]],
-"xe859e88d9f858d63":[[2525],[1]],
-"x48f141e6f708658b":[[1178],[6]],
-"xbbf43d9c931ab152":[[2798],[6]],
-"x52f2c0478caac586":[[82],[11]],
-"x94866e288a67559c":[[2056],[3]],
-"xae3328e56245abf5":[[262],[2]],
-"x7a554c3b6dc51c37":[[1244],[3]],
-"x2c69d892aad95ce6":[[405,82,918],[230,70,37]],
-"x7df763c0bb2dda96":[[926],[2]],
-"x8aeb4e8efd518a06":[[1112],[3]],
-"x9811b8511cd79e31":[[2715],[1]],
-"xae42204deee760cd":[[4029],[3]],
-"x59747c0626277064":[[3689],[7]],
-"xf759253e9fbb3599":[[3817],[3]],
-"xcd8d3b64b2926ea3":[[796],[6]],
-"x4520375161768ed1":[[1187],[5]],
-"x1c1170a1dbcca0e3":[[3902],[28]],
-"xbf0e01c82c76da29":[[796,157,918,1355,983],[42,10,10,9,8]],
-"xa46ae8e6d6b82f25":[[3388],[8]],
-"xc9d94bb2ca117f57":[[211],[6]],
-"x2b6d4543d8dc37f":[[3307],[7]],
-"xd4bae87ce5b0691d":[[405],[6]],
-"x3c44883c2e8535f1":[[594],[7]],
-"x3f94070643b5f51f":[[3761],[75]],
-"x2f886b7eac485702":[[2201],[3]],
-"xf5556e616ead3d1d":[[258,926],[7,1]],
-"xb82671130cc64ded":[[983],[4]],
-"x92ab09766a8e678a":[[2266,3242],[117,1]],
-"x8b755ea3f882908a":[[658],[12]],
-"x8417fb13c85d91f":[[2720],[6]],
-"x12db58bc94447b65":[[2292],[7]],
-"x1d8bc870c54e41de":[[1971],[2]],
-"x2a0a654c73360758":[[3951],[3]],
-"x821197f40e91d6c9":[[3956],[2]],
-"x4babc5b22f2bf8c2":[[1340],[4]],
-"xcca945d67b6197c3":[[3299],[6]],
-"x1df1f096a562d1a0":[[789],[3]],
-"x446584d55995bf66":[[3899],[3]],
-"xe855b02f2c5531d2":[[1539],[3]],
-"x76f08710fc579981":[[3642],[6]],
-"x3d926cad514bf49f":[[3811],[4]],
-"x82e023081454f924":[[3964],[7]],
-"xcc0b2424b642e503":[[3642],[2]],
-"x25758f7649e2690e":[[3372],[8]],
-"xc1d8747c4b1aff5c":[[82],[18]],
-"xef282444cfcafd96":[[3763,3742],[11,7]],
-"x716e5ba5a9012305":[[2203],[5]],
-"xee3d9b47b6958fc8":[[2658],[1]],
-"x2a5fcdb0ff85577f":[[137,788],[9,4]],
-"xbf63fedca621cf6c":[[594],[3]],
-"xcdf982ff6b6c3ad8":[[2851],[6]],
-"xf98df6ffc30b1adc":[[3641],[4]],
-"xc8c2d64093fe9592":[[723],[4]],
-"xb73fc0db1709635c":[[1032],[5]],
-"xa3edfc2ca43f141b":[[262],[4]],
-"xc66e345d240e3b5f":[[3749],[4]],
-"x52c987f6bcd20d25":[[2463],[9]],
-"x77f52aa4677ac93b":[[926],[4]],
-"x3bcba8774769782":[[157],[4]],
-"x9557b7122b60106":[[731,324,593],[85,38,13]],
-"x9c752d99389411af":[[3902],[3]],
-"xe43deb87fb18082b":[[773],[9]],
-"x4f9e9ff163c56054":[[1758],[3]],
-"x146d4888073671ef":[[166,1828],[307,152]],
-"xb278dd6bd7db8214":[[1964],[3]],
-"xd852604c0aa63e33":[[2189],[3]],
-"x3fe52d02b5476d48":[[861,853],[24,19]],
-"x74180d697ded3a4e":[[3826],[1]],
-"x5f990c739c005c7a":[[3947],[3]],
-"x953d0c2580e65d3d":[[3902],[2]],
-"x17913398cbe58510":[[1763],[4]],
-"x1994a9b366c1ce28":[[2203],[5]],
-"x9eb3a7a5283371ba":[[731],[3]],
-"xd65533c847783861":[[2453],[4]],
-"xa3f054e624e3bab8":[[2453],[43]],
-"xdb72797a8050ebb0":[[983,730],[4,2]],
-"x6cfecee1952864a3":[[3902,3763],[10,6]],
-"xac2c72705b5a7617":[[3690],[8]],
-"x98cfb9af3c669065":[[3234],[6]],
-"x90f7d5c24121db3d":[[3761],[4]],
-"x6c83d205e17ae194":[[3234,3177],[13,2]],
-"x945779e28c5b2789":[[166],[9]],
-"x773cdf4728dcae6e":[[1762,262],[40,26]],
-"xf283ec86b932721f":[[796],[4]],
-"x6451b719e212e78e":[[2404],[10]],
-"x5a802c47eb03bf14":[[3112],[2]],
-"x72ddc0c3174dcf4c":[[139],[19]],
-"xa6a6d07371fb1bf4":[[1220],[3]],
-"xc5bbca0cfcf50bce":[[789],[6]],
-"x667700b64f52b5ee":[[594],[2]],
-"x20f3323f26685b3":[[3567],[2]],
-"x88aa73bc41525be0":[[139,203],[25,22]],
-"xd6d232916edded81":[[917],[4]],
-"x1de2dee364c048ed":[[651],[5]],
-"x94ac753a41bbaddf":[[3938],[3]],
-"xbc3526d867aa8ee8":[[2137],[6]],
-"x776ec4ddc7160a60":[[3929],[11]],
-"x6c036b2e5977b158":[[2332],[16]],
-"x6ba3675d47777166":[[2137],[2]],
-"x9110da4680e20670":[[2674,3690],[3,3]],
-"xe174e6139b379846":[[3112],[5]],
-"xb7e18f7c7fd4f5b0":[[861],[3]],
-"xcf3ba0651d982969":[[3956],[4]],
-"xf182cff55bffecdc":[[3828,3964,3699,3242,3234],[10,8,7,4,3]],
-"x3e4e51e0a7d7fb95":[[788],[3]],
-"xaf51a122c8bbd846":[[203],[6]],
-"x679e856c373168d0":[[3828,2740],[3,2]],
-"xd8cf6fd90ecb9142":[[3518],[6]],
-"xb2e8a25a8cea4a9b":[[983,262],[8,7]],
-"x749c3c8c0ff74eb":[[148],[3]],
-"x2453b95407785eb1":[[2657],[6]],
-"x4dd4ce44d4679cd5":[[3803],[4]],
-"xff09c70761154a08":[[2715],[5]],
-"x3a6c6c3731ba0802":[[1697],[5]],
-"xf9e62d06b4fe16af":[[1810],[3]],
-"xbf8046cac086ba3f":[[2203,3699],[13,4]],
-"x907c3308ac7dce83":[[2658],[1]],
-"x99c5c22f84a907ed":[[3902],[13]],
-"xf0a1c83f26133164":[[3699],[3]],
-"xc6ccf4caf46e9271":[[2648],[3]],
-"x88796827268d880f":[[1088],[6]],
-"xbd378384315700d3":[[4013],[8]],
-"xef75ee80cf72abd5":[[3811],[2]],
-"x5937d70c7b623aac":[[3104],[3]],
-"x9e0b0c39e0d90a01":[[4,391],[7,5]],
-"x470849bd2b6f4f02":[[2787],[5]],
-"x36a21bc5e1af7e33":[[2908,2266],[17,3]],
-"x3f94cb1245aed615":[[1355,261],[3,2]],
-"x820edb08a800bb7":[[3902],[52]],
-"x649e805bbf0fda2d":[[139],[10]],
-"xce878eae595930ea":[[4013,2266],[23,6]],
-"xb1ce747fe876536f":[[1291],[3]],
-"x964e78f160f61b9d":[[3956],[4]],
-"x6b8a48008f0416e0":[[3438],[6]],
-"x60b8e25c5d52a7b":[[731],[3]],
-"x8f1e809f395ed3be":[[2219],[2]],
-"xb2c61488b9accac5":[[3963,3234],[8,3]],
-"xaba52e676df07c95":[[1802],[4]],
-"x1fa1dd0a662ec15d":[[1763,788,918,82],[63,16,9,9]],
-"x2261b959f113963d":[[146],[4]],
-"x9037e420cb324a48":[[324],[8]],
-"x9844d493a7c26bca":[[1699],[13]],
-"x3bcb5c3b09b99f95":[[405],[4]],
-"x54aba654916ffce1":[[3641,3834,2833],[5,3,1]],
-"xef94e1ef1d5d3a3b":[[1366],[1]],
-"xe12d28d0139fb613":[[2220],[3]],
-"x710407c10c93e093":[[1],[3]],
-"xdef0dc969a39c1a5":[[3749],[2]],
-"x50e86492b5cab362":[[3178],[3]],
-"x993fd642ea7f0e3a":[[3902],[3]],
-"xd38e8ef22e6b3709":[[1763],[13]],
-"xe7b4a8720489ddac":[[3811],[7]],
-"xf6c99a286a59e88f":[[789],[4]],
-"x2c880df4b86817fe":[[2802],[3]],
-"xd30b670eb83ad6c3":[[4031],[3]],
-"x43eee6cd499c93ef":[[222],[3]],
-"x9d6ce58efaa7554":[[2724],[4]],
-"x329d0752dabf006a":[[1699],[15]],
-"x5c890603273035f0":[[1569],[6]],
-"x96da1af0ac5b8cdf":[[725],[8]],
-"xebf0ab185f04fa52":[[1828],[3]],
-"xda601cb4ac88427c":[[353],[8]],
-"x5e883c47085ba57":[[82,334],[42,11]],
-"x536dbbf7882a2ee7":[[4028],[3]],
-"x9917ef63e6ee1124":[[3827,1826,3902],[9,6,2]],
-"xfb790393f1ac4109":[[75],[3]],
-"x1d16791dc8e1614b":[[3690],[2]],
-"x9d7e0fa4d3dfe11b":[[2,601,1308,202],[14,10,5,4]],
-"x2418bd4717845fd6":[[1283,2022],[3,3]],
-"x2a29456e43b89a37":[[334],[10]],
-"xe4c1f1e1db501492":[[742],[4]],
-"x121f37bd4f915cd9":[[2330],[5]],
-"x52ee381577c0ada":[[3372],[3]],
-"xa0d84572a2142f26":[[3436],[8]],
-"x62e0526bc76f445f":[[2021],[6]],
-"xbd8f2853024bac66":[[3],[3]],
-"x6063a54a8d74c8ca":[[2867],[3]],
-"xf7cfd6115557ea18":[[2224],[4]],
-"x6c3f23d22b9b02c0":[[2021],[12]],
-"xa39a5bb7c3ed94c":[[3364,3902],[6,6]],
-"xe94b52c0d6ce6f9":[[3502],[4]],
-"x120fc220d0cfa49c":[[1553],[2]],
-"x961dafbe94fb3d38":[[1747],[6]],
-"x1fd81db87710f7fe":[[334],[4]],
-"xd41ac3f965c8ee87":[[2484],[4]],
-"xa488dee65fc2bd6":[[1301],[3]],
-"x4b932fa569dd4f0a":[[1299],[1]],
-"x1b9e4a8b4617582a":[[339,332,918],[32,16,5]],
-"x79835557077005f1":[[1829],[12]],
-"xd9c2cfd6363bb3fc":[[3373],[4]],
-"xa167546b65de3153":[[2030],[7]],
-"xebb5b33888fcf2d8":[[3177],[2]],
-"xfe667a706977a3d0":[[3742,3749],[32,9]],
-"x2d4da688be1e94e3":[[82,396],[11,3]],
-"xc4d81e1deac4368a":[[2161],[2]],
-"xc832f7aa7cb9af48":[[983],[5]],
-"x2d4996338722ff63":[[82],[8]],
-"x6d206c5f044266df":[[258],[2]],
-"x7f0a0a7b95886335":[[3501],[13]],
-"x29852bf8cffbb67a":[[3177],[1]],
-"xe32097c329b7a6d8":[[3437],[3]],
-"x2f75918a135cb1a7":[[861],[3]],
-"xbff3a1a0f432d4e5":[[3742],[3]],
-"x44390b4072b94e3c":[[4021],[3]],
-"x77f6c5cc3d2d3ddf":[[3372],[3]],
-"x4366ae563eeac7fd":[[129],[6]],
-"x8325783d01de9e8b":[[2266],[1]],
-"x641ba3deed591343":[[1115,324],[63,4]],
-"x8aabe70a0f3d7dae":[[3171],[5]],
-"x640dcc5e35fa0401":[[3958],[1]],
-"x4e93eb297f979a59":[[4013,3690],[12,6]],
-"x23443647df473613":[[2484],[3]],
-"x2b4f2759cf3f68bc":[[2323],[2]],
-"xedce4db7603cd0ba":[[2266],[6]],
-"xcb221be6d840cfca":[[148],[5]],
-"xb8abdf37c107b06b":[[1770],[4]],
-"xc54b1b2c38418058":[[3299,3690],[4,3]],
-"x4b333cdd99a58c34":[[1747],[11]],
-"xb64356402388b74f":[[3641],[4]],
-"xeec3ff4bc24dfac8":[[3749],[5]],
-"x5956c23e79f58685":[[3641],[11]],
-"x55c2f12f4b4ce2af":[[731,334],[4,4]],
-"x34fcf96c89c469f0":[[1180],[5]],
-"x325ad6c18225622e":[[3902,3756,2266],[73,11,3]],
-"x652e0e01c789b601":[[1697],[6]],
-"x57bbb8f56d5ae54b":[[3],[2]],
-"x701ddff68f0472ea":[[2284],[6]],
-"x59b50d5b2af2acf4":[[1837],[4]],
-"xfbe9a34b4ab46775":[[3947,3956],[41,4]],
-"xc6e9aa0134fe25f2":[[3234],[4]],
-"xd78089bbef0b8143":[[918],[2]],
-"x8fc228d11d2e864f":[[1763],[4]],
-"xbf897ebc44ecae11":[[3763,3699],[10,8]],
-"xa1e627dfc05c92b8":[[3902],[5]],
-"xc8c0ab04a9f39d5e":[[3177],[3]],
-"x71b070df265d4415":[[2851],[7]],
-"xa094933390436075":[[991,339,528],[76,17,8]],
-"xea6cf687c263a980":[[3249],[4]],
-"x4a8a698941825bbf":[[982],[6]],
-"xf069a310c9321cd0":[[3643],[3]],
-"xfe78cd815481a819":[[3902],[3]],
-"x7c0f385945719e4c":[[536],[4]],
-"xf4db3f5abb59b34c":[[2484],[7]],
-"x9ff5bb4f26c0ad51":[[991],[6]],
-"x2964a69823009bdd":[[2722],[23]],
-"x43c02651110c1728":[[592],[3]],
-"x45ecbbefc2fc62e4":[[3827,3242],[7,3]],
-"xec526a2e6ee08bb6":[[731],[4]],
-"xf95da6105743398c":[[137],[6]],
-"x1c6a4932a7f6bae4":[[3902,3234],[15,7]],
-"x2ffb1a2e3b307a6e":[[339],[4]],
-"x1ba52df300724a02":[[3956],[19]],
-"x6a1d278bbdc68c0a":[[593],[3]],
-"x315226ab4aaa8ab3":[[3828],[44]],
-"x1d25fff6cf076f36":[[1652,1611],[243,9]],
-"x2628ffcdaf3d994c":[[1828],[12]],
-"xca9df64ccc1c97f1":[[3364,3299,3177,4013,3234],[31,15,4,3,1]],
-"xff8ca5e0132bb4e6":[[2331],[8]],
-"xeb72e2ff61fa580b":[[405],[6]],
-"x9f6e95bb20fdc762":[[1380,262],[11,6]],
-"xf5993291a9c3a206":[[3300],[10]],
-"x5088f547e090f251":[[204,324],[8,7]],
-"xf9d36133f2b9be32":[[268],[3]],
-"xfb7733fe3797f26a":[[2463],[7]],
-"x11185bc68c6e9173":[[536],[3]],
-"x14f78b7816a71f4d":[[1242,1178],[24,4]],
-"x2dbffe9f1e3ef969":[[1643],[1]],
-"xebb58b5822fab57d":[[2852],[5]],
-"x7af6bb8c02b0b81d":[[3539],[2]],
-"x3f289b19f45099b7":[[1765,853],[10,7]],
-"x20d4ad4e0fe9c1fa":[[324],[4]],
-"x5834cf159ef0a4e1":[[3902],[10]],
-"xadacb9483767a91c":[[2592],[3]],
-"x4ae810401b9ec2c9":[[3761,2720],[1,1]],
-"x29f66cabe427ba8":[[1763],[2]],
-"x61e3f6504bddff46":[[2728],[4]],
-"xaccc85ce50bc59e3":[[3956,3299],[3,2]],
-"x28dbe4a32ef43930":[[2088],[3]],
-"x2d67ebd0e9f30e18":[[3373],[4]],
-"xd4d6d4fc4ab895c5":[[213],[4]],
-"x8f6f17fce4bf96a":[[983],[1]],
-"x90f801144ce39f65":[[2349],[3]],
-"xbfcff89720b912e7":[[1098],[3]],
-"x3a68d86032b9f707":[[3184],[6]],
-"xfaaf571bcc2f134e":[[343],[6]],
-"xc2459377d9c430d7":[[323],[5]],
-"x5ce412807fe63a9f":[[2908],[6]],
-"xf048a8eacab27a66":[[2477],[6]],
-"xfda5701bd2af00c0":[[2908],[5]],
-"xca6f05b8e3808954":[[262],[36]],
-"x984e02db0396688":[[2723],[6]],
-"xc1ddf87e96be3638":[[202],[3]],
-"x7505138f3f5325b2":[[3386],[2]],
-"x858f51aaa3ae5a18":[[75],[33]],
-"x873c126518462c1e":[[2139],[3]],
-"x9c65e99bc9de392a":[[3299,3364],[79,4]],
-"x4be36468e6ad65ac":[[2154],[4]],
-"x138a06439997c830":[[3817],[3]],
-"xd2d39bea9ad4300c":[[983],[4]],
-"x6b77cf2467637ab8":[[3902],[7]],
-"x5625487bc49f2338":[[82,796,405],[29,15,9]],
-"xb156107800fc602":[[219],[8]],
-"xa1659448d9b81132":[[262],[4]],
-"x5e191ede448ff748":[[666,157],[25,5]],
-"xcc6f15807558257e":[[3962],[2]],
-"xb034a2135744dcc5":[[3902],[14]],
-"xa9f914f16229c007":[[1763],[4]],
-"xcb7ab942900766f5":[[658],[8]],
-"x3d17863e9d486728":[[3902],[4]],
-"x1040fd4b079205b8":[[3322],[3]],
-"xee25750eb1ba0f87":[[3690],[14]],
-"x802c62c70366eb8e":[[166],[10]],
-"xb42d4b6bfbb005fe":[[3902],[4]],
-"xfafb45ffa2972b0":[[1048],[6]],
-"x39cc26617c6b13c2":[[2851],[5]],
-"x8b8b956c19d75752":[[1501],[2]],
-"x5d5f786ae2034eae":[[2926],[5]],
-"xebcc562b32d9124":[[3069],[6]],
-"xaf4037865362612":[[2331],[6]],
-"x9c5157f1eb2d7f85":[[1355],[6]],
-"xd10ebd9b2df803d1":[[731,346],[4,2]],
-"xc7195772b2894840":[[323],[3]],
-"xf856c6beef7d5549":[[3372],[3]],
-"x658f0ca7f70ae4d6":[[3690],[6]],
-"x7b555246b046319e":[[203,396],[11,3]],
-"x41cb29bb048cd8ce":[[3763],[5]],
-"x74197426b1619161":[[1681],[4]],
-"x5fa25f14fe6156f1":[[1835],[5]],
-"x1002cf6c7ae2dd16":[[1763],[4]],
-"x340bda1148cbfcda":[[2072],[1]],
-"x66ad2b8689384e3e":[[3761,3104,3307],[8,6,3]],
-"xf7983dcb85571ad5":[[3307],[3]],
-"x7bc8f10570d0e71f":[[82],[4]],
-"x86a50e8b507afe22":[[3690],[6]],
-"x97e4becf7d4e0fa8":[[2720],[8]],
-"x671888dd54fe3a73":[[209],[4]],
-"xf65d2a853ec4cf43":[[658],[11]],
-"x6a3e84882ac48f3b":[[1941],[6]],
-"x3200a9aabd9f1e57":[[332],[6]],
-"xadaea3c749af11bb":[[3817],[2]],
-"x8f45c6559258fd29":[[3958],[11]],
-"x9e8b815b0375dcec":[[601,731],[6,5]],
-"x4a66a98e6ce09218":[[203],[71]],
-"x68296e22e45fa1a7":[[2203],[3]],
-"x84cfd696bf3513cd":[[75],[3]],
-"x3090887963fce0bf":[[262],[12]],
-"x584560446743d146":[[193],[3]],
-"x20b8e66a9793c6b0":[[3811],[1]],
-"x138d584c5b90690d":[[1697],[11]],
-"x31f4267e340598d8":[[797],[10]],
-"x97dbea74429face3":[[709],[4]],
-"xe28b616382af1a68":[[3372],[5]],
-"x31a1e482c5583cab":[[722],[6]],
-"xc49ffd6bc89c176":[[262],[8]],
-"xc56fb14fb77df7c9":[[3836],[3]],
-"x97610a0db886792a":[[528],[11]],
-"xbd10b02af72020d0":[[3567],[2]],
-"xe7ebb03b3e97cbfc":[[203],[11]],
-"xe0e12ba8a3fdb926":[[3373],[5]],
-"x9b72d71da4a7f59b":[[593],[3]],
-"xcb3062777d27e358":[[3761],[2]],
-"xab7fec872be920fd":[[3299],[2]],
-"xfccacfebc4f0bf79":[[3373],[5]],
-"x706c45f5008df660":[[1669],[3]],
-"x6be0476bffca60ca":[[3234,3699],[4,2]],
-"x859f2b0894282009":[[196],[6]],
-"x8d36851d00209184":[[3902],[4]],
-"x51c513f05968071e":[[709],[4]],
-"x76057a127ee16848":[[601],[16]],
-"x8f9f4894b38e9381":[[1],[4]],
-"x6c363de1cb3905a0":[[528],[6]],
-"x2c87d41ddc7bbeb":[[736],[3]],
-"x5e1cb30957d530a5":[[3938],[7]],
-"x767836d96a0a37bb":[[3626],[3]],
-"xa1672e462a606ac8":[[1307],[3]],
-"x41c936a237d09d6e":[[129],[4]],
-"xf2c2f0687cf3ebfe":[[3567],[3]],
-"xd157d4ef62ac122e":[[2281,3242],[6,4]],
-"x6416ef90baddf05e":[[3902],[3]],
-"x3b126cd34269da50":[[3763],[4]],
-"x6b571f2ab57aa9b1":[[594],[5]],
-"x92b945b467ea7dbb":[[918,528,82,788,157],[901,359,207,77,13]],
-"xbe989166ce5877ec":[[2452],[4]],
-"xb9d9015a28704b71":[[1098],[8]],
-"x9707efbb3b984cc1":[[3699],[3]],
-"x1a23b6f3abb44f72":[[3902,3699],[4,2]],
-"x731a5eb27989fd19":[[3242],[7]],
-"x470a3245950bd6ff":[[1762],[94]],
-"xc83f7b7f51886086":[[4013],[8]],
-"xf84f9512795c1ea6":[[3353,3437],[3,2]],
-"x9edb9a75af566e03":[[3814],[4]],
-"x454fffa50d99e6c2":[[926,396],[6,4]],
-"x40354be73c56164b":[[262],[2]],
-"x2e5f675e33dd96da":[[3769],[4]],
-"x9f068ad623636596":[[918,82],[22,10]],
-"xc7492867742b4ecb":[[1941],[7]],
-"xf628d7fa4531f44b":[[157],[10]],
-"xe4f5319179c26204":[[536,593],[27,4]],
-"xde9afb79eb361aa0":[[292],[6]],
-"xe97505c38d7f8a99":[[3299,3234],[4,3]],
-"x4e64d08b2132984":[[148,658],[3,2]],
-"xdab99b5c19cba087":[[75],[3]],
-"x6f3dd74eaf8e4a29":[[334],[104]],
-"x1c97448d63ec9220":[[334],[3]],
-"x36268caed3418f4b":[[1132],[3]],
-"x66ca8aedac14bb47":[[2508],[3]],
-"xc0f5174da6bb79da":[[666],[5]],
-"x1b95313bc7c7aec6":[[1],[2]],
-"xcec4a6f087e17ad7":[[3381],[3]],
-"xbd6035738995e103":[[603],[3]],
-"x3c0d3a7b04d3c53f":[[3],[1]],
-"x828f23dfdfd4b7a0":[[1762],[6]],
-"xa125e12007f6bb0f":[[3567,2931,2137,3761],[64,39,9,4]],
-"xea91997b885bf3ab":[[3828],[46]],
-"xc9473b19cbf07e5":[[166],[3]],
-"x684b2850b9f64532":[[262],[3]],
-"x36e08edadaec41e":[[196],[13]],
-"x2f260f2eb8b39489":[[3902],[80]],
-"xa77dd7230d5726ea":[[991,405,346,396,407],[137,23,20,4,3]],
-"xa41e2e19831d524d":[[3494,3437],[9,4]],
-"x3a09019441c1cfe1":[[2224],[3]],
-"x7e283fc911835da0":[[2908],[5]],
-"x906ac5e5a7e6429c":[[1762],[4]],
-"xc1ae90b7c5256930":[[166],[12]],
-"x28625f1a06bcd3e1":[[1740],[10]],
-"x54bca23b6b06ab9b":[[2333],[2]],
-"xf60380d0c31f0d09":[[593],[7]],
-"x627c78cad742056b":[[1293],[5]],
-"x5dd07b5f96e8f279":[[405],[4]],
-"xd3afc2dd6a8625df":[[528],[5]],
-"x87295b850db5883f":[[3305],[2]],
-"x2162c8d4cdc3b5ff":[[339],[5]],
-"xa0b9b5e3ce14ac73":[[2852],[8]],
-"xae9a2cbb0fca3a3e":[[1763],[2]],
-"xececf7d604396e83":[[2908],[8]],
-"x5639dcd9be9ac787":[[2137],[9]],
-"x3dcc20d95513973a":[[3958],[4]],
-"x23d578cf9ead625f":[[2203],[10]],
-"x8e056eaea184bdac":[[1763],[4]],
-"x7b05cc5c2140f8fb":[[659],[2]],
-"x803de1e7054ee0ea":[[1252],[3]],
-"x67b4e07360b7b9cb":[[1249],[6]],
-"xe890c9e390175ad6":[[3567],[3]],
-"x573690c5ae51401d":[[3699],[2]],
-"x89403459247edb5f":[[334],[4]],
-"x9dd32b243cc90e35":[[203],[3]],
-"x73fb202022c1ad2a":[[262],[3]],
-"x2f340cdfb800cb7f":[[3749],[5]],
-"x6bd9190908163d2a":[[1705],[3]],
-"xa159e19e64d78fbc":[[3177],[5]],
-"x673e18e1d048509e":[[3902],[6]],
-"xbbd1167d0d6e40a9":[[1699],[6]],
-"x47e9fc0f457bcdf8":[[2915],[2]],
-"xbb9d0ee5202199c0":[[334],[12]],
-"xa925fa913f5b1ee8":[[227],[5]],
-"x5ec6879a27cbb2f3":[[1886],[3]],
-"x8515af4d77afae96":[[251],[3]],
-"x44cb3f627d598806":[[202],[5]],
-"x30c206603798bfe":[[2720],[10]],
-"x1d31f54f92f10c2d":[[3956],[4]],
-"x35f358c5cce8b47f":[[3307,3112],[30,19]],
-"xbb7c963b72c34e69":[[332],[5]],
-"x86dd170ce921a32f":[[334],[14]],
-"xc962670c9da9491c":[[3754],[4]],
-"x8214710372573bcb":[[1764],[6]],
-"x991991121b31e3e4":[[2722],[4]],
-"x9d9b4c2c45249648":[[1959],[8]],
-"x1e9f4a263cf9f3e4":[[1762],[6]],
-"x980149af18eee7ec":[[148],[13]],
-"x76806bbb46171365":[[2851],[5]],
-"xed6ccdb7b8b97a7":[[2074],[3]],
-"x683a0c42d61f4f78":[[3177],[3]],
-"xcc57c56dc520d844":[[137],[3]],
-"x4393498ed41c4efe":[[3186],[3]],
-"x13bfc04b615a1ed7":[[658],[10]],
-"x35cb6c74686ff8ba":[[3756,3964],[17,5]],
-"xf915cc29c39237dc":[[3234],[5]],
-"x909c19810a0f3993":[[3947],[4]],
-"xccb06d5ebe459051":[[709],[7]],
-"xcaf482ce20300b4e":[[3363],[3]],
-"x4a5ca3bfaedc0b4e":[[2219],[6]],
-"x101ac13615088877":[[918,405,788],[49,43,2]],
-"x6fb8b81580d4b735":[[731,204,82,339,723,666],[361,58,15,10,7,6]],
-"x8e688a5fb185548d":[[2224],[2]],
-"x5c6253d13fb4df18":[[2593],[6]],
-"x918b5751cbf2d2cb":[[1763],[2]],
-"xedbd4bef2049f383":[[1717,1683,1699],[24,6,4]],
-"x560fb632bb4680f7":[[405,219],[5,3]],
-"x54cb6fb490a19e0b":[[788],[3]],
-"xf2ec1d0ef5cc37d3":[[1959],[1]],
-"x863bdf8760ab7428":[[2931],[4]],
-"xb4e92279e8d40611":[[1876],[4]],
-"xefb815ed26ab5790":[[3699,3929],[3,2]],
-"xf9edd4b93c2abcfe":[[2931],[2]],
-"x88605f155abfee59":[[1226,2284],[16,5]],
-"x2e7e12b2b39ad3c1":[[3365],[2]],
-"x6d31beee2dbc25cc":[[3307],[3]],
-"x494948e3f0b445aa":[[731],[8]],
-"xfc01117613de46d5":[[211,1672],[7,3]],
-"x9bd750ba5ada4338":[[3902],[6]],
-"x6cd573567e3d064d":[[2720],[2]],
-"xeae16354b00bf892":[[323],[6]],
-"xaae1c5672fc62600":[[3817],[4]],
-"x9ab17482b92408b9":[[1187],[7]],
-"x34d38e62d9b9cb4e":[[82],[4]],
-"x5226c59748aba44a":[[324],[3]],
-"xa8149a6a3b3a805c":[[2747],[4]],
-"x60794514f79a5dba":[[75,593],[7,3]],
-"x3ab519b7b9547546":[[2787,1837],[7,5]],
-"x8188bf643e2ed1f5":[[1828],[4]],
-"x93cb6e92b241f0a6":[[2851],[78]],
-"x4bd383db760f0bca":[[2356],[3]],
-"xac186d8bfa12f5af":[[339,528],[7,3]],
-"x8ffa9ca4ad209c4b":[[3956],[3]],
-"xb2d720fae34b89d1":[[3947],[4]],
-"x8821838fd4680389":[[3112],[6]],
-"xa1aa897b85fe13db":[[2203],[4]],
-"xa7d408d365d0a035":[[4023],[5]],
-"x4c8964c6c5f544ca":[[1761],[4]],
-"x569df553113fb99d":[[731,658],[13,5]],
-"xdcc1ca84062dab93":[[2720],[4]],
-"x9e2f86e8d00d5288":[[2861],[4]],
-"x53efa284d59fa66d":[[3827],[3]],
-"x1c00c7fe5917999a":[[258],[3]],
-"x21a5f3e4f4d1d16a":[[3957],[3]],
-"x298f461adebd870e":[[1819],[6]],
-"x84b6fe866709a2ea":[[262],[6]],
-"xd5b0e45b203fafe3":[[203],[4]],
-"x6def4b85e66c7f1":[[80],[3]],
-"x9e37f7b69d4be782":[[3763],[4]],
-"xf6807f1d1be0844f":[[4021],[4]],
-"xa26fab6f813795a8":[[3902],[1]],
-"xcc12fb4055407d9b":[[2463],[4]],
-"x1ef342f274ff460b":[[3699],[1]],
-"x385b9ce6a8157dec":[[788],[3]],
-"xd9d6e8ef7cc36c55":[[3567],[6]],
-"x2c95560051b5a27c":[[3307,2715,3958],[48,7,4]],
-"x9363135283887331":[[3699],[4]],
-"xb6e56e9db9786e25":[[1179],[4]],
-"x349fafa2608ad5d0":[[3112],[3]],
-"xbc75682afbd411ce":[[1957],[6]],
-"xe80f03963d57b3ed":[[2658],[3]],
-"x418d20cee2fd5385":[[1763],[10]],
-"x4a4fb06bc36dcf49":[[322],[3]],
-"xec520b9dce7ca4be":[[2852],[17]],
-"x5d4dcae49be0e446":[[3892],[7]],
-"x3a2ea1a002e19c2":[[3761],[3]],
-"x48f97dd968ca1693":[[1244],[18]],
-"x900d3f4f760f9a2e":[[3902,3742],[6,2]],
-"x758263d071eb7c36":[[1106],[5]],
-"xb9356f29724b02a8":[[3299,2720],[16,10]],
-"x5c3e72afa9037175":[[3690],[3]],
-"xb4fb32ec7e010b68":[[82,918],[31,1]],
-"xece10a4087ca22a2":[[405],[3]],
-"x17255042f7c46311":[[2723],[15]],
-"x2c43b2c8a9169c36":[[3899],[35]],
-"xffec50784475f9f2":[[4013],[3]],
-"x1684dce40fb1402":[[3902],[3]],
-"xa171402cab1de000":[[731,82],[4,3]],
-"xcdc2081db63ccb26":[[1164],[3]],
-"x24f3a035752ad85a":[[528],[13]],
-"xceeffcaf5320d593":[[405],[5]],
-"xc3758873e0af3ff":[[3956],[1]],
-"x89af6e40a37294f7":[[3827,2609],[5,2]],
-"xc4238384cf8ea52d":[[3966],[4]],
-"xa714e709586151e8":[[788],[12]],
-"x4a687ddc6a119f1":[[593],[9]],
-"xde0c4ba342622f5e":[[3169],[2]],
-"x4f9fd65993bada4c":[[332],[5]],
-"x8ecb1d84913f765":[[1420],[6]],
-"x6e64a8e0baedbe9f":[[3364],[3]],
-"xcaaa6b59f5211751":[[3364],[70]],
-"x824b4209b55c41c9":[[261],[4]],
-"x45781f27160ddde7":[[723],[2]],
-"xcce52b924b3cf90f":[[1837],[46]],
-"x4013fde87293fc7b":[[3958],[2]],
-"xba5759c9dfd11877":[[3453],[4]],
-"xe765adba2218158d":[[717],[5]],
-"x333a041671feba6d":[[1308],[2]],
-"xdf135f7cd2b5b4ea":[[202],[11]],
-"x84911007246be51e":[[3947],[6]],
-"xef7425e7ed545c92":[[1828,1770],[4,3]],
-"xb59a4b59508cb12c":[[918],[5]],
-"x3da9542413862894":[[1553],[7]],
-"xb28c9fb8427149f9":[[3299,2203],[12,3]],
-"xb6373599535212cf":[[1894],[3]],
-"xbe159a4219954938":[[1763],[2]],
-"x5c447cc99bf5b560":[[1761],[6]],
-"x6f9bba04fe8c6d66":[[3742],[5]],
-"x81228d8ac9af95d8":[[1941],[2]],
-"x11a69aae81e2c636":[[3958],[4]],
-"xcc45610ceba82e9e":[[1176],[5]],
-"xdc4153c684e6a170":[[991],[6]],
-"x160298d280917bc2":[[396],[8]],
-"x35aebea5360572d6":[[1],[3]],
-"x4de9f2f145dc577b":[[202],[2]],
-"x28c57c4f0f33bd92":[[333],[3]],
-"xa327fa9c4b50085c":[[3826],[2]],
-"x1bf9a3185ed06959":[[3243],[6]],
-"xcfff77c32d7724a7":[[3104],[3]],
-"x8b01ea017be2ed2d":[[339],[4]],
-"x3172de87c47fb866":[[1675],[3]],
-"x61862f05821a03ff":[[593,323,983],[10,5,4]],
-"x233ac270aa01158d":[[262],[3]],
-"x73a11080fec097ec":[[82],[4]],
-"x7ecb9ae1ab28e949":[[991],[5]],
-"x5eb583211b6bd0a1":[[332],[7]],
-"x58e85414be83b191":[[213],[4]],
-"xb2c2ea6b70d22e9d":[[405],[10]],
-"x8535651eea9f1630":[[2898],[7]],
-"xdcca529798bff2e0":[[194],[3]],
-"xa40825a977c0dd8c":[[342],[3]],
-"x1d53798daa60e0bb":[[3761],[3]],
-"x50558eea366e5500":[[213],[32]],
-"x67607c315875d9ed":[[3699,2266],[5,4]],
-"xd11eb22e85ea1b69":[[1317],[1]],
-"xfd5989b66284855e":[[166,1699],[6,1]],
-"xb3985233341ce996":[[324],[6]],
-"x2591fc6f367ff053":[[2740],[7]],
-"x7abb5f4b84ac1472":[[324,1698,918],[61,6,2]],
-"xa9bc07c51395d366":[[723,731],[12,6]],
-"xfbb150c2e2b95571":[[3364],[8]],
-"xc28bca7f0c3754f1":[[1699],[5]],
-"x287e8a467a2295ee":[[391],[4]],
-"x1132f4cc486cc8d":[[2331,3742,3699],[14,4,3]],
-"xebd16e1d483310f4":[[3299],[24]],
-"xee68896d1ee963ad":[[3232,3241],[5,4]],
-"x4a6436ec2cae1e50":[[389],[8]],
-"x3852b0fdf1da77aa":[[713],[6]],
-"x1f0eec3dccb4da71":[[2258],[3]],
-"xc9dc5914174c477a":[[262],[10]],
-"xc3b7927e3c4ef861":[[1187],[3]],
-"x60dd5902b28f2412":[[3826],[3]],
-"xe0a44d45f72f9531":[[75],[2]],
-"x147c15aaa91356bd":[[396],[18]],
-"x561a92553c1c2e7":[[2463],[4]],
-"xcd571674d1a377ba":[[3307],[3]],
-"x3972e619cdf56ad":[[3494],[2]],
-"x8ea65d2cddb35412":[[2593],[4]],
-"xb0d81ec8e71ce25a":[[3749],[8]],
-"xed8017e963070993":[[213],[14]],
-"x934a06990842b38b":[[353,332],[36,3]],
-"x2bd3aa3deb7bbb19":[[204],[4]],
-"xdec07b0cfff56abb":[[594],[37]],
-"x9e2186b5aea292bd":[[3178],[13]],
-"xeb6f98084e960908":[[594],[156]],
-"x291923a942e7f3b8":[[1185],[7]],
-"xf122090a87f81105":[[918],[2]],
-"x61d25654fefae423":[[2781],[6]],
-"x8a11fc26934845a7":[[2869],[6]],
-"xe40f025bfb7e054d":[[2908],[6]],
-"x2af56b6f68e53eb5":[[3169],[7]],
-"x279561bb82dfa808":[[3690],[3]],
-"xac7726d87a28dd40":[[983,1,528,2477,1380,4],[26,10,5,4,4,3]],
-"x6cd371379e207427":[[405],[5]],
-"x1fe442a467d08b31":[[3567,3956],[11,7]],
-"xe6002c68d562d9ec":[[2081],[11]],
-"x23636785563c18bc":[[166],[5]],
-"xf27a97485fa78c06":[[1763],[1]],
-"x95fa9839e4bb7638":[[157],[8]],
-"x89b0a28f6a8ff408":[[3307],[23]],
-"x4b4d75a8209a6864":[[353],[6]],
-"x552baae030379d5":[[2452],[3]],
-"xab1fc59131a253e4":[[3643],[6]],
-"x6407ad1835fadea5":[[3690,3169,2203,3699,3956],[21,21,16,6,5]],
-"xdfc818dd7eee8e66":[[3699],[11]],
-"x6846fc65142a4344":[[3372],[3]],
-"x5ce69762304899d0":[[1187],[4]],
-"x2b85da26c83dfdac":[[3752],[31]],
-"x43a543b2528bebb4":[[1308],[4]],
-"xae3c264b674af2ed":[[213],[4]],
-"x17173b7f2799e981":[[3956,3699],[20,4]],
-"x1ed8a7cd04901e2f":[[536],[4]],
-"x652024df559cb58b":[[3964],[5]],
-"x7923127cf4a257f3":[[3956],[22]],
-"xcf3ecc1bac88890d":[[1371],[15]],
-"xb597c5aabb88f992":[[157,788],[141,3]],
-"x989d63ee1a5f6e6a":[[196],[2]],
-"x99d383775153cd8b":[[2981],[3]],
-"x9ed98305eb7bdb62":[[1740],[3]],
-"x6b75bb6a589ecd87":[[2331],[13]],
-"x8dab11ef9e7fc7ac":[[3779],[3]],
-"xb35147e7332fd3c4":[[262],[4]],
-"xb120b36d9950e176":[[1371],[2]],
-"xc71b72c980b3d52":[[2931],[4]],
-"x51766aa85269865d":[[148],[6]],
-"x4ff0cec3901dee2c":[[3517],[3]],
-"x4d56e75183d0a3c3":[[787],[1]],
-"xb191873fe57fb2e9":[[2258],[2]],
-"x63489339ff94bd22":[[2331],[11]],
-"x4174720c677064ea":[[1180],[3]],
-"x9f6fc49b19b8f500":[[346],[7]],
-"xb1470b8083a93240":[[788,1699,209],[24,3,3]],
-"xe6b2c7a92cbe7573":[[2942],[3]],
-"x4ba4aca070bbf6dd":[[1355],[2]],
-"xb334edb441ca2ff6":[[3956],[5]],
-"xef63bb0e4354cd55":[[82],[6]],
-"x8748d61b8687bc1d":[[1123],[5]],
-"x3fe499d81a870d4b":[[3761],[2]],
-"x56130bafc7734cfe":[[3308],[6]],
-"xfdc6cafe5e4b9fd9":[[3690],[19]],
-"x53b5b3149c643045":[[3444],[3]],
-"xcbff70542f78a367":[[3178],[12]],
-"x4ea12e15763a005f":[[789],[5]],
-"x69a1c31ca79a2dd9":[[3169],[12]],
-"xea7282b9aa7e0090":[[3377],[7]],
-"x67365d28e54162d4":[[1098],[5]],
-"x5ac517993e58c9b0":[[405],[3]],
-"x7d46339451c28d3b":[[3177],[2]],
-"x4220ceb97844c124":[[3309],[2]],
-"x2c263d38c20aada9":[[3836],[6]],
-"xbb70716979497965":[[991],[4]],
-"x5a6fbbe4b2b3ab3a":[[82],[22]],
-"xa747550efe41eb99":[[137],[9]],
-"xe77e39692e45a7d5":[[3828],[2]],
-"xfccab9be09d3b13a":[[3808],[4]],
-"xd2e232209dda6940":[[1699],[7]],
-"x6c63892a6510dad5":[[3690],[6]],
-"x266ceb2c49150aff":[[204],[5]],
-"xb496eb19d93e9f01":[[262],[9]],
-"x9481541d296c3863":[[2203],[3]],
-"xe31222bb50dcdde2":[[3902,3699],[22,4]],
-"xc0711c0900f1d2a5":[[3104],[3]],
-"x2bba101c45affeb8":[[3699],[2]],
-"x8f8ae533eb2201b9":[[211],[4]],
-"x30222213243f8a49":[[3699],[9]],
-"x9815d229c59ee3cf":[[3902],[9]],
-"xec4acfbbb7f2cea9":[[3502,3307,3372],[6,3,1]],
-"x32a9b0365cad6ec8":[[3902],[7]],
-"x6da763e46e65ee24":[[3901],[3]],
-"x7d0a2bd9042a9d91":[[2136],[6]],
-"x2a65776cd524e9b4":[[1244,983],[5,3]],
-"x54060b35bfa17f0":[[1098],[8]],
-"xe051a82b10ede10c":[[3964],[4]],
-"xca014b0daf1c8d0b":[[3956],[9]],
-"xb8050306dfe2bb31":[[2723],[3]],
-"x520271ce3c392ba1":[[3642,3249],[6,2]],
-"xda857ebdd88ccbcd":[[166],[3]],
-"x6a3bb28c783fd2c7":[[2565],[3]],
-"xdcd31b1602a2d442":[[262],[2]],
-"xbefae9991bd5b4d4":[[339,203],[18,2]],
-"xa2d9036fb4277d08":[[917],[6]],
-"x7c39545f99ef2a28":[[1699,1380],[11,1]],
-"xa0ac838630cabe6b":[[3642],[2]],
-"xc602b9712f985e61":[[3902],[3]],
-"xef766c84f97bc7c1":[[1115],[3]],
-"x882631e4c39e228d":[[1835],[7]],
-"xf943478f0d375329":[[3763],[5]],
-"xa469ecf07e543a26":[[82],[4]],
-"x76950746c758ed75":[[983,262],[12,2]],
-"xcff9673348fff3e8":[[405],[4]],
-"xab0b1e972fd6b1a6":[[1958],[3]],
-"x55eb577a1d551e20":[[2715],[8]],
-"xcf52c528a7a69be6":[[2919],[12]],
-"x46ba72343e4854fd":[[82],[10]],
-"x3e3bef0f44079e4c":[[1348],[3]],
-"x7cad18526978bdde":[[1906],[8]],
-"xcc34bef365a0e3ba":[[1244],[1]],
-"x6e2178a4665bb00c":[[334],[3]],
-"x5eeb4d90bb378dfc":[[3371],[1]],
-"x79700092c657770f":[[2074],[3]],
-"x5b87d96c4b85f34e":[[346],[4]],
-"x2e67078e3b80e1a4":[[3372],[3]],
-"xd5a255ca0355785c":[[1249],[7]],
-"x6d745dc881e2514":[[3559],[2]],
-"xcb05f45fe498d2e4":[[1932],[3]],
-"x162a4bce8e5334df":[[725],[6]],
-"x1bb9118546e6caf9":[[3641],[2]],
-"x995981c7ee80bc20":[[3169],[6]],
-"xebf7483b225576a7":[[2723],[12]],
-"xcdc94dadccc597b0":[[3749,3964],[7,7]],
-"xa7f5e099959349f5":[[137],[3]],
-"x69b1e88bf49d363e":[[334],[10]],
-"xa33252417cea48bb":[[2203],[5]],
-"x831b8d33b6c0c2ea":[[346],[17]],
-"x5555066e284e04eb":[[3299,4013],[4,3]],
-"x8ffc4f34cbc95ff0":[[4020],[4]],
-"x20757fe47045626c":[[3436],[8]],
-"x9e5b77d025d1f5bd":[[2594],[3]],
-"xe8fd9a4aec8bbc5":[[1810],[6]],
-"x237acc9eb8e9c28f":[[658],[7]],
-"x8cd5f935fb785caa":[[3502,3372,2724],[15,8,3]],
-"x7db6028290011850":[[2852],[6]],
-"xe3adfe3f77138121":[[4023],[3]],
-"xd48b82a40e962ecd":[[3962],[3]],
-"xa6b1f44d6b726e8a":[[1828],[6]],
-"xb2c35bcfcbde730c":[[2331],[1]],
-"xbccfd97d7ca44591":[[4013],[5]],
-"xeac4ea8486e71789":[[3763],[3]],
-"xda367e56f1968675":[[3177],[2]],
-"xf39a62edc62a4b6f":[[1776,2],[5,5]],
-"x1a1fc0b0376ffe21":[[983],[5]],
-"x4861e8b326eeaf48":[[353],[6]],
-"x3ea25271857d21df":[[262],[12]],
-"xdd2be028677ad8c":[[75],[2]],
-"x2c11a9e1618fca7c":[[3372],[5]],
-"xbe7902fbdcdb043d":[[1611],[15]],
-"x72aea16ddaaaa1d":[[593],[3]],
-"x5f7f2012af6208d4":[[3234],[6]],
-"xa715d773d0e3065":[[3249],[4]],
-"xacddc811d9f1454":[[3372,3242,2266],[295,225,105]],
-"x94a05532f239db5b":[[1699],[12]],
-"xd37eec2b8c45ac27":[[3902],[3]],
-"xf6009f4cb65c8ff9":[[983],[7]],
-"x1e92984c1672f9a4":[[3502],[13]],
-"x941ddd79ad52a1f":[[1762],[151]],
-"xd4b0d18eec4e571f":[[3305],[2]],
-"xc095a91913e599c7":[[203,353],[389,2]],
-"x93e512b4f41f7294":[[789],[3]],
-"x1b7267f20ec33a3":[[2059],[3]],
-"xdcd2944291f37b39":[[3242,2910],[3,1]],
-"x5da00ec3c1f3f543":[[3690,3688,3699,2331,3242],[228,29,17,11,4]],
-"x847969a211097179":[[2007],[3]],
-"x849c0b458966a784":[[3298],[3]],
-"xf2efd5403dc34db0":[[2541],[11]],
-"xd2c6d5193cf4a893":[[1502],[2]],
-"x86dfe7f2e90bf39":[[2331],[3]],
-"x2d13071ca891cbf5":[[1635],[2]],
-"xad7942ff01c97914":[[219],[6]],
-"x92a8fcb75b0afe12":[[3429,4013],[6,3]],
-"x7ebe931aba8e4c06":[[3761],[6]],
-"x981ea7dad22d3d9a":[[4020],[1]],
-"xd71bf4a4ed75794d":[[3938],[3]],
-"x7bd76bb6e4504a1b":[[1307],[2]],
-"x9bf79833d74de1d2":[[2851],[8]],
-"x9fedd1e15ba02107":[[2266,2268],[8,3]],
-"x117d1f493789d5d3":[[2089],[3]],
-"xc69cc2108100279b":[[202,209,733],[25,14,7]],
-"xc149eece2ee55aec":[[1763],[3]],
-"x798ead0d7112f03a":[[216],[3]],
-"xcaed453c238332fe":[[1308],[3]],
-"x51ae7dd8d91d17b7":[[262],[4]],
-"x9b9a177a9d13d6d7":[[1185],[4]],
-"xee69dbed65547b9c":[[3752],[6]],
-"x6cbcff5b86aca29e":[[204],[3]],
-"x94bb2376341c82f9":[[3582],[3]],
-"xe113ee8d564d15a":[[196],[5]],
-"x2467851b24f3c0a4":[[82],[7]],
-"xb3de31a22ee5898c":[[1683,137,1672,1697,1048],[10,10,9,6,5]],
-"x331e72bc5058ebab":[[3299],[9]],
-"x6bd3c643177021ef":[[1510],[3]],
-"xdad43776690536ff":[[1228],[3]],
-"x3eacb37af6e91b58":[[2268],[8]],
-"x338d496700ba7103":[[396],[6]],
-"xf04ebd9d0e515331":[[708],[16]],
-"x79f90376fad26ad9":[[796],[3]],
-"xdf2d1fb4f24a7bc7":[[1632],[11]],
-"x7142a44a6642e487":[[3299],[5]],
-"x48adbd2303c24d0c":[[601,1355,1348,139],[101,75,69,8]],
-"x1b86fbc3be7b1aa3":[[721],[3]],
-"x3b5f84cd59dbae28":[[3298],[3]],
-"x341bda65af200259":[[3298],[5]],
-"x201f77c75fee28cb":[[3242],[5]],
-"x6d78d06879c8cd24":[[2788],[2]],
-"xe1fd2540bc1f6826":[[3045],[7]],
-"x9a623c61d5d3d8de":[[1176],[3]],
-"xd7ab62700d7ed362":[[2137],[5]],
-"x7568919287875fba":[[983],[6]],
-"x222e54bb817b0359":[[2747],[6]],
-"xd55fa09e28e305a4":[[3641],[5]],
-"x85edd1b620054cb1":[[3104],[5]],
-"xc4ef6e3086a37d6a":[[3641],[4]],
-"xdd67b0e079fb99f4":[[334,666],[15,4]],
-"x3c30ee8dabbb9be7":[[3372],[14]],
-"xae55d33c4978999":[[203],[5]],
-"xcc0f1d6f6ac3bab5":[[1382],[6]],
-"x743c07d46e1cd12f":[[1176],[5]],
-"xe26274c61a03e058":[[322],[6]],
-"x58355b78d9e8342":[[2720],[6]],
-"x8db3c149d31204bb":[[2915],[8]],
-"x55c7c15eb9a60789":[[1812],[3]],
-"xf303beac4b1d6b76":[[666],[3]],
-"x268e1c73fc13b8fd":[[3956],[6]],
-"x543280c241a5b260":[[262],[4]],
-"x95910a43d77d57c6":[[262],[7]],
-"x63607087b77863f4":[[3503],[2]],
-"x1df5c9ba1fdf33f2":[[3771],[4]],
-"xe76b302a432443e":[[2056],[2]],
-"xf608148703a14d69":[[3690],[4]],
-"x80cf6d97c7250a5a":[[3234],[21]],
-"x2fbaf5d9b6888739":[[983],[7]],
-"xe73069c401d76c4b":[[3690],[12]],
-"x4f46382781633a84":[[398],[3]],
-"xbb1755e3c704de5d":[[3372,2266],[9,3]],
-"x59949ba79dfb0a12":[[3749],[4]],
-"x9e223670de64bad8":[[2724],[6]],
-"x6a7d10859ac342b6":[[209],[14]],
-"x28ed7595a6144dbd":[[139],[6]],
-"x77184a05c6ac35d":[[2484],[13]],
-"xc284fc6300aa931d":[[1562],[7]],
-"x3e9539e91eb9ac74":[[1848],[2]],
-"xb8302d9fb2b1b566":[[926],[3]],
-"xa3266f3ec9a5bdbf":[[219],[3]],
-"xa707a546995d400e":[[405],[12]],
-"x200e99e196af2184":[[2284],[3]],
-"xb592c86ab53190ec":[[1876],[5]],
-"xa64675ab61921489":[[2852,3902],[12,6]],
-"xd2d772380671ff13":[[2],[10]],
-"x36e21a864813cf3":[[1178],[3]],
-"x7b7d558454f42159":[[731],[16]],
-"xfc884fa0e07f277c":[[1187],[1]],
-"x6bf46bd86993da8a":[[601],[5]],
-"x5df213a817cb36ef":[[262],[7]],
-"x9dd2dbd57ac16221":[[82],[12]],
-"xb3092be5aeb13f99":[[658],[4]],
-"xbb87ab836870eb5c":[[658],[1]],
-"xcb7ae122f2f2a7a":[[593],[5]],
-"x3442aeeee6eba2e3":[[1098,536],[68,3]],
-"xce775e69e26f22f1":[[211],[4]],
-"xe2f9d4094b3f3cbc":[[3963,3567],[4,2]],
-"x11bbbcf4d168d4ed":[[204],[4]],
-"xf802d87a80f85b9e":[[2518],[2]],
-"x140d2dd3c1934d2a":[[3242],[2]],
-"xe7f161e1a80665f":[[2720],[2]],
-"xded7a1adc613d9a3":[[1618,3902],[5,1]],
-"x1e2931bc5a169e23":[[3370],[1]],
-"xb12e85627ea52b44":[[796,593],[4,4]],
-"xef123088825cd08d":[[2],[2]],
-"xf1594ffd40faa1a9":[[324],[16]],
-"x4cb7b7c354a05c26":[[1301],[6]],
-"xe8238abdee1f7858":[[1763,405],[17,11]],
-"x46404fe2592be88c":[[3902,3112],[17,5]],
-"xa3af140b41ec539a":[[3756],[2]],
-"xdc6ff302aba38f4b":[[709],[7]],
-"x52817947880574f3":[[323,157],[12,8]],
-"x14d04be46e854724":[[2809],[6]],
-"xa57b8eb2947ed476":[[3104],[3]],
-"xd2dabd2e3b92e735":[[262],[2]],
-"x628404ea88a708b9":[[2023],[3]],
-"xec8d02441aaa63c":[[3690],[3]],
-"x621e8672ab518153":[[4013,3299],[11,5]],
-"xd9916bd7b10c489a":[[3902],[5]],
-"xbd2fa76c4253a6a5":[[729,722],[8,7]],
-"x3ca53acfd82195":[[725],[4]],
-"x48c1efc8f0fa22bc":[[82],[3]],
-"x6f50db12d5fb1d2f":[[1762],[4]],
-"x3abfa0543e09c443":[[1827],[5]],
-"xd7c01e7efa0c98c6":[[2713],[19]],
-"x7399a9699f6f3cb8":[[396],[12]],
-"xb6b71c7e73f043b6":[[3899],[4]],
-"x985da2a9db6fba8a":[[2202],[2]],
-"xf691ee774baf2c41":[[2308],[22]],
-"x6fb8bf06541f2db9":[[157],[3]],
-"xd61ca1cd0a9c8010":[[521],[6]],
-"x5d65e3d859db1fce":[[3836],[4]],
-"x8985842889a93511":[[649],[5]],
-"x32c94c9bb070395d":[[3112,3690,3307],[50,41,11]],
-"x563c1899b2372aef":[[3699],[2]],
-"x6c0885e1cbf991ec":[[80],[34]],
-"xf1eb26d1a7027746":[[262],[8]],
-"xd5556a8a7c07e5a0":[[1761],[5]],
-"x99b7fa92f86e8892":[[2434],[4]],
-"xb3bf2287e2c15167":[[3690],[4]],
-"xb48493168813142c":[[731],[2]],
-"xba75eaec4011007c":[[258],[7]],
-"x5423a57ad19dd9a4":[[203,332],[7,3]],
-"x9c4cc35123b6e880":[[1502],[2]],
-"xaddee1e2177dbfb2":[[592],[7]],
-"x55e2fcdbc2859fed":[[3437],[6]],
-"x317f5fcc323de7c7":[[3902],[5]],
-"x1c136051213f37f1":[[3827],[12]],
-"xcd50030be2ef78f9":[[1974,339],[26,7]],
-"xa45cc1c91af747f4":[[2720],[2]],
-"x7ad41d2cc8e1829e":[[405],[59]],
-"x1fd2df7461e314fc":[[1291],[3]],
-"x797e87d7e7b0b194":[[1726,1903],[6,6]],
-"xe3e299664325f2f9":[[2203,3112],[10,5]],
-"xbf3088169c5e86f3":[[2788],[6]],
-"x4d85c3964d5eebd8":[[2461],[4]],
-"x10abdf17152ab7d5":[[3169],[2]],
-"xe3f0b8484966ce84":[[4013],[4]],
-"x5444dacc84c251ab":[[3112],[7]],
-"xba72c1ecc9140d6f":[[918],[10]],
-"xc1bbb8c95be8216b":[[262],[8]],
-"xd542d2d241f8e3ea":[[2931,2908,3902,2609],[65,7,5,3]],
-"x38647c84bc1b853e":[[3307],[6]],
-"x8a5aa7f611ccf4c3":[[334],[6]],
-"x7eb40f86f9ad6740":[[1308,1380],[16,8]],
-"x5825546161df8c85":[[3902],[3]],
-"x96a64fe20a898a3c":[[1107],[6]],
-"xa6a24bb76ec1cdc9":[[1764],[2]],
-"x952ed0cd211e73f3":[[3366],[3]],
-"xcf9bfcc06f7fe755":[[3502],[3]],
-"x5888146c4d6dea20":[[349],[7]],
-"xc296aad217872046":[[1964],[3]],
-"xbe1ff05927f1410":[[405,853,332,339,983,861,396,166],[304,214,155,24,20,12,8,2]],
-"x9a1e353d2ccf665b":[[2713],[31]],
-"x7ff01a1e22da4813":[[2739],[6]],
-"x29c7254bd3554638":[[262],[21]],
-"xebff4d032ce221bf":[[3902],[5]],
-"xf7f9bd3991bde27":[[3307],[3]],
-"x93f818bc24fbdb3d":[[723],[2]],
-"xf4c7e59edaaa0d43":[[2851],[2]],
-"xa003cb2a10b99e40":[[3902],[4]],
-"x3150a1268e203f04":[[1770,926],[14,4]],
-"x35bd54b52fc3dc7b":[[1745],[11]],
-"x5a2a0c9e30c6f754":[[861,148],[15,1]],
-"xd6087bba9929b6ab":[[3502],[3]],
-"x97fd90724ef20b4b":[[1827],[69]],
-"xaa46ba62b15e83e2":[[399],[6]],
-"x7855d8fb88b6e015":[[2908],[4]],
-"xc14a2f47ea1a354d":[[1814],[8]],
-"x2853095a0e603db8":[[3947],[4]],
-"xe2c5c71f632e09ce":[[2824],[5]],
-"xab7e4cddf737f0eb":[[2633],[35]],
-"xbcbf17e98de4120f":[[2527],[6]],
-"xc9907feb1a0e7c7a":[[1681],[4]],
-"x71267ca631493e8b":[[219],[4]],
-"xf24264c6f2bf63d2":[[3956],[5]],
-"x580f70c8807aad92":[[536,258],[6,4]],
-"x4461c432f763549b":[[3364,4013],[19,5]],
-"xa85d548bcb935f7a":[[1810],[4]],
-"x9cccf125a41cc165":[[658],[10]],
-"x11b09a31cf949adb":[[323,983],[8,6]],
-"x9e66daf805fb2487":[[1959],[14]],
-"xc8bcddd6fde4047":[[1763],[7]],
-"xf779dcd043d6b5d0":[[658,723],[6,3]],
-"x8898f2fb6fd514c7":[[262,204],[52,3]],
-"x29650a55fabcfd68":[[4013,3307],[29,12]],
-"x5eec5ea7abffd663":[[3902,3690],[13,2]],
-"x3d4924fcf518e155":[[262],[2]],
-"x833efca0831e9ed":[[2212],[2]],
-"xb3942ffac044e76f":[[731],[3]],
-"x9cdca2320455030d":[[536,2219],[5,1]],
-"x3644af91be2bb5fc":[[1964],[6]],
-"x8b5e59aba113b7b4":[[3],[10]],
-"x14f38d29d457772d":[[3819],[1]],
-"x22c4137329004a62":[[593],[3]],
-"x4f68d2d137add695":[[3902],[3]],
-"xa508d2a42206e078":[[1828],[78]],
-"xfb2be20dd3760fad":[[3957],[5]],
-"xe577bd984c483dd0":[[1683],[6]],
-"x77d5b81c8b6d4352":[[1699],[3]],
-"xaecec044a6c80a13":[[3309],[3]],
-"xf1dd39e82b31641c":[[262],[11]],
-"xb7dd541901ba0065":[[278],[14]],
-"x152b1ff9caaf4129":[[209],[12]],
-"xc597d1a7779dc9f2":[[324],[5]],
-"x9842decfdb1efcb6":[[339],[6]],
-"xd63775f7bfe9fd0c":[[2674],[3]],
-"x6aa5f1840b56781a":[[1554],[4]],
-"x5b3e0e0f6c0a412b":[[1633],[2]],
-"x30f10528dc453843":[[3836],[6]],
-"xbf84186dd8c87d2f":[[204],[3]],
-"xb0d388ab7a375f51":[[346],[10]],
-"x4484fb66b88b14b2":[[3502,3756],[13,11]],
-"x35bb26d92ae5b81b":[[262],[1]],
-"x83df82833e423879":[[2412],[6]],
-"xcb7186de1efb8aaa":[[1699],[5]],
-"xb4c38e985bb8e759":[[641],[1]],
-"xc84ff46630623b36":[[552,3177],[5,2]],
-"xe411b26761053d18":[[82],[3]],
-"x58e2e64ba6af823c":[[1568],[15]],
-"xd76edd3ea19c25e6":[[262],[5]],
-"x23d34847840fde95":[[3372,2203],[3,2]],
-"xc97519d08cf5292a":[[3581],[3]],
-"x23cb58e6836fce54":[[137],[7]],
-"xd75a629d79f68cf5":[[796],[3]],
-"xffaa63cd99980c89":[[75],[7]],
-"xa6bda48bbc10bf2a":[[1249],[6]],
-"x465a41d9ca08b9b8":[[3493],[6]],
-"x41563f3b3e6d59c9":[[3373],[2]],
-"xb53e4e0638c03c91":[[1233],[3]],
-"x36d52bd61f08de52":[[795],[5]],
-"x6cef07f01410d89c":[[3699],[7]],
-"xcc09765838a21bb6":[[1502],[7]],
-"x525ae76c7ac78f02":[[3389],[2]],
-"xfe14441b1d746328":[[3169,3699],[4,1]],
-"xcb3afe97c5af4a8e":[[731,262],[6,5]],
-"x4505a0ca0c3e9011":[[3699],[1]],
-"x4e9cfa4a71646416":[[2137],[9]],
-"x8df668427c08a40d":[[3124],[8]],
-"xef0b077fa652daf2":[[1699],[15]],
-"xf8fef4f15ff1f1aa":[[405],[5]],
-"xcd4f7f6de29e3ec5":[[3234],[3]],
-"xc790e6da999dbbc7":[[3307],[5]],
-"x3bc9787240a5896c":[[3929],[6]],
-"x61110e5183eabf00":[[1616],[6]],
-"x8a539f4fa8f7b932":[[334],[10]],
-"x90731f81146d3e96":[[1371],[4]],
-"xe613da09d133fa3f":[[3742,3749],[3,2]],
-"x5be008f3bf618fc6":[[2285],[6]],
-"xf6180fa38b275ee":[[2266],[4]],
-"xe0be704176864fad":[[721],[5]],
-"xe003e8fab2cef081":[[267],[6]],
-"x277a59c37aca9fae":[[1367],[3]],
-"x9764057c88320231":[[339],[5]],
-"x20e5ec132be317eb":[[788],[5]],
-"x9e9ad6c73cf2305f":[[2202,3826,3761],[15,10,2]],
-"xce4f2c4464969a":[[262,82],[10,5]],
-"x79662c12b49e7d65":[[2096],[3]],
-"x6298744906ac5099":[[3372,3242],[8,1]],
-"x532c9ebbef8c9772":[[405],[12]],
-"x4febff2ffeaeba6e":[[2292,2285],[40,18]],
-"x53c4c5b4e6450925":[[3956],[2]],
-"x159aa968e37dbcc2":[[2720],[14]],
-"x5cc691944270459b":[[3699],[4]],
-"x84589a2c6dd8df33":[[2266],[3]],
-"xe617b7aba1f54b8f":[[771],[4]],
-"x747f7e7e1daa5a14":[[1380],[1]],
-"x11222e4715dd4e7b":[[796],[6]],
-"x856dfb1f835ee5d":[[3306],[4]],
-"x546ec1627a71922":[[405],[3]],
-"xabc3556c9cf357f3":[[3958],[4]],
-"xa87352d39ff33dea":[[251],[2]],
-"x49e028082a2e229d":[[521],[6]],
-"x537917b8bb40a418":[[1707],[6]],
-"x64269bc45033b0bc":[[3372],[4]],
-"x55e2b89cce49109":[[2931],[7]],
-"x867667b3e15ca22a":[[2715,3763],[9,5]],
-"x8975f2bb40b9ca0d":[[3567],[4]],
-"x44c149488ef066c3":[[853],[13]],
-"xfef04404ee1d731e":[[3307],[6]],
-"xb5cf3bc9fb0f379a":[[3699],[4]],
-"xbba2b5b993ca6303":[[194],[6]],
-"xe7d12d5658e20a98":[[1828],[16]],
-"xa97b5b43fe6b7309":[[204],[20]],
-"x5b7d0ec247be4d8b":[[3642],[5]],
-"xfd1496891cc0b1b0":[[2606],[6]],
-"x65e8699d9ef6c7a8":[[3688],[8]],
-"x5e8fadda72183a58":[[1371],[23]],
-"x8d7d7aea40c8931":[[3373],[18]],
-"xc269a4deb1b2c042":[[3964],[5]],
-"x5660da565e180bd5":[[2284,1226],[29,8]],
-"x25561bdd75981739":[[2355],[4]],
-"xd70f97650bbdf7fb":[[405],[3]],
-"xecfa2e0edcc1f1a7":[[3956],[4]],
-"x1e4a173f5b9fd7cf":[[3690],[47]],
-"xffa911c3d1bbf162":[[210],[3]],
-"xaae084e1dbf7b47":[[3202],[3]],
-"xe1dd8958955fb874":[[3958,4013],[3,1]],
-"xacb757eb11ebb8e":[[3364],[1]],
-"x74d2d48d150ab703":[[340],[3]],
-"xab5aad4d23c98221":[[258],[8]],
-"x874c968e44e48997":[[405],[5]],
-"x5f456dde23ada931":[[3169],[5]],
-"xe7c7eb9e92be8799":[[789],[11]],
-"x1396760e27973252":[[1188],[3]],
-"xe8b0520385635c6a":[[2747],[3]],
-"x10accf3059a969c7":[[2851],[5]],
-"x4cd39ce1145bf734":[[1699],[2]],
-"x9ebda0e71046bc82":[[3811],[4]],
-"x41d95b9ede32669c":[[3299],[5]],
-"x3d95fc5b51d1b051":[[3567,2266,2910,2777],[8,7,5,4]],
-"xd927733c6cc67487":[[1827],[11]],
-"x8788168e949b0319":[[324],[5]],
-"x45dedab24e930174":[[513],[1]],
-"xf2f59abea6f5969":[[3761],[3]],
-"xcba161fa79d562bb":[[3362],[3]],
-"xff2eca81f83c9e4c":[[405],[6]],
-"x86a756caad5f9b8c":[[2713],[2]],
-"xde5514355d2b6fe":[[3177,3690,3299],[86,10,10]],
-"xb9347bba7bc00e8d":[[202,796],[5,4]],
-"x6a3ed7f4aa5231b5":[[82],[4]],
-"xbe7cdd990103a32e":[[275],[5]],
-"x9658656762a1812d":[[3242],[7]],
-"x6b035f0d4865cb82":[[3169],[10]],
-"x6e9d74fd2a029757":[[3567],[4]],
-"x94343e96d00218c1":[[3828],[11]],
-"xb47456ae716b3daa":[[1812],[9]],
-"x2f2da2e442d761aa":[[1902],[5]],
-"x488c567fa447632c":[[334],[4]],
-"x1ec9ea3de349fdd3":[[2131],[11]],
-"xbc5891efbc379a60":[[4020],[6]],
-"x5b6605bf295acdc":[[2658],[3]],
-"x814e09b3fce1290f":[[324],[12]],
-"xc1a2be63102bc65b":[[1811],[3]],
-"xe17c097a52294fd9":[[3826],[7]],
-"x71a085b363b29372":[[2723],[6]],
-"xdbd3d4522ed66e5":[[2201],[3]],
-"xa27c75500191d409":[[536],[4]],
-"xb9dfca69703a3fc0":[[3756],[3]],
-"x84f62a5bc06c9698":[[3947],[5]],
-"x87354013b2686e3e":[[1762,148],[9,5]],
-"x515766a56526ca76":[[3234],[5]],
-"xff7b87c64d937b92":[[723],[2]],
-"x6341892245cf16c5":[[796],[6]],
-"x5c0998d1c743b8f3":[[3958],[4]],
-"x948c52623e554a36":[[3902],[5]],
-"x5a13d26e1bb3e556":[[3299],[3]],
-"xdd9ec073fa42c752":[[2082,3690],[9,2]],
-"x79dccfb16ec16821":[[1699],[5]],
-"x739c3a82668f4f1c":[[2203],[50]],
-"x71870f5927140aa6":[[2908],[4]],
-"x94af1fc129ab0428":[[339],[6]],
-"xf5435b87855459bb":[[1676],[3]],
-"x736a53eb53857386":[[1762],[3]],
-"xbaaaba59854de0e9":[[3112],[5]],
-"x6fd8ba5b533b9cc0":[[786],[3]],
-"x5583727a3fead8ff":[[261],[6]],
-"x55ec9859de21dcd7":[[2713],[8]],
-"x8c3aa7ed27e4d124":[[1649],[4]],
-"x73bedf68e312e117":[[203],[5]],
-"xf6a0c3b38373585b":[[341],[3]],
-"xf642675e13a771a4":[[2722],[1]],
-"x5a1b7fe44e498369":[[1957],[4]],
-"xbba93ecde45d1e7c":[[3308],[3]],
-"x2874abe6df510aa9":[[324],[3]],
-"x2950720aaea054d7":[[2006],[3]],
-"x37b5eaba68fb199c":[[2924],[5]],
-"xb55cccec11231704":[[1242],[3]],
-"x30fefbb4e5925842":[[2525],[6]],
-"xca87397676ec1f41":[[2915],[4]],
-"xdd0b0e0d2877aa88":[[3763],[3]],
-"x217ca52fda5736b4":[[1282],[8]],
-"x7c2d60df9eef39b3":[[2138],[2]],
-"xce7c76458ef1d73a":[[3820],[3]],
-"x6047e0c7441e877f":[[3699],[11]],
-"xd023b26237b89e9b":[[3902],[3]],
-"xa654676e39d7426":[[1375],[4]],
-"x9a9abbb2cf5e5e56":[[2915],[8]],
-"x9ad4c0cd7c04dcea":[[113],[4]],
-"xbdfd8933243786d2":[[262],[8]],
-"x5737b125c6023f43":[[3234],[3]],
-"x96a4a4427a0b11c2":[[3902],[23]],
-"x27f4bf99423cb867":[[2680],[5]],
-"x3e6ade075261f9e2":[[3699,3763],[5,2]],
-"x47930ac3d3ce8790":[[2788],[3]],
-"x39ecb0cabafc1551":[[3178],[3]],
-"x2838cf9345e24d9b":[[3371],[4]],
-"xc2dca49bdda41016":[[334],[4]],
-"xd72278dac24c258e":[[262],[6]],
-"x72d886cdbcb853fa":[[3826],[4]],
-"x770455485cb1d51c":[[2137],[8]],
-"xf25262a08b3d8070":[[3],[5]],
-"xf38ea44696f28225":[[204],[3]],
-"x716e460b49675dc1":[[204],[66]],
-"x62eceb48b1cf4408":[[2789,3502],[2,2]],
-"x190f6754eee1eedf":[[3761],[7]],
-"x7b612d2fa66ef068":[[788],[3]],
-"x84ef0f2f97696952":[[166],[6]],
-"xcc620ee1290cbd49":[[3437],[2]],
-"x768234f98d1c9583":[[231],[6]],
-"xb77b77206dcf1a9b":[[1632,1618],[10,3]],
-"x836f1f19203b5f16":[[204],[58]],
-"x81b88bd81be6d341":[[3502],[6]],
-"x824196f6eebb420b":[[2724],[2]],
-"x16553ba45f09bffd":[[3964],[6]],
-"x3708a813e7aa36":[[594],[6]],
-"x21684adc500bfcb5":[[3429],[3]],
-"x88ced70cf3f0a805":[[3761],[1]],
-"x89448e00a843e58b":[[2347],[3]],
-"x9309c4475002a702":[[677],[6]],
-"xde7abb77e4fb104c":[[396],[14]],
-"x7b3209323dc859b8":[[2463],[2]],
-"x85161201b1c81611":[[262],[19]],
-"xba147dac96570763":[[166],[12]],
-"xc2df6eae2ba13e50":[[1923],[24]],
-"xcee472201cf49d33":[[3567],[1]],
-"x991dfcf7ae9d941c":[[139],[45]],
-"xff05079b67ca47b0":[[536,593],[6,4]],
-"x9794abd8c0a4c2eb":[[3242,3836],[8,5]],
-"x1f63ae67007bd16b":[[3761],[3]],
-"xf27f359a32b4e376":[[3169],[24]],
-"x163e49889d3a0322":[[2796],[3]],
-"x23f05d4a052f7875":[[3956],[21]],
-"xbc251156fc781646":[[3305],[3]],
-"xcbd11642dd097c6c":[[3817],[4]],
-"x6d26769dab01d743":[[3836,3242,3688,3690],[23,15,8,6]],
-"x5def8c74154e3fe4":[[1098,1763],[81,15]],
-"x4f729b49f87d503":[[405],[10]],
-"x7b34ffccafc786d8":[[3643],[3]],
-"x22c65ec22f5c3dc3":[[1835],[11]],
-"xd1fb9c3a113fabcf":[[332],[3]],
-"x20295864135ddcc7":[[3902],[2]],
-"x849b8d31a4dc7b1e":[[3177],[6]],
-"xbf93ba111d8fff72":[[3817],[5]],
-"xf22ffd56448f53ec":[[231],[2]],
-"x777e803708cd7095":[[1932],[3]],
-"xd4ad6c9009c50358":[[808],[6]],
-"xa7e9885a4869aaf6":[[75],[4]],
-"xe97bb628062d587f":[[4013,3372,3502,3826,3364,3817],[321,70,65,42,40,21]],
-"x81e1160e55333ab7":[[346],[4]],
-"x8b5fb225393cec25":[[113],[3]],
-"x821d2947b0685f0":[[2137],[50]],
-"xd19a12864fdcb1b3":[[324],[4]],
-"x9bdc68d1a105f575":[[3389],[3]],
-"xcf7c909d2727c9e3":[[213],[3]],
-"x6ccdcd2663f1aabf":[[666,324],[5,3]],
-"x1bc8980c3fc377ac":[[3502,3372],[6,3]],
-"x7ebb675b19a58cea":[[1371],[3]],
-"xd8b48b59789bbed1":[[353,731,918],[92,24,21]],
-"x457dcb1d319d1083":[[3690],[18]],
-"x6707561fc6a5bca0":[[1813],[3]],
-"xd05a435a60841c5":[[75],[3]],
-"xd742ff6050ec85b0":[[324],[4]],
-"x8406b36aab4e54f6":[[1965],[6]],
-"x2bc24bfcc6a7d541":[[1958,129],[5,3]],
-"xb88f8deaf7aecda":[[258],[10]],
-"xe56c428d2034da19":[[2907],[5]],
-"x6ca7324df3356bb1":[[2852],[3]],
-"x26878ae32700cd2f":[[262],[15]],
-"x1eb44b28091ab361":[[332],[3]],
-"xb3d479e51ac45846":[[3373],[11]],
-"x7d6aefc0bb69448d":[[209],[4]],
-"x5f0818176669403c":[[3381],[3]],
-"x4e4b5f9d1819cb94":[[3763],[4]],
-"x9c7a5d6cb6660873":[[2],[3]],
-"x3f75684e71170b62":[[1761,1770],[97,41]],
-"xf6fa56c0c48df73e":[[323],[7]],
-"x7001c4792194033":[[324],[4]],
-"x32743ddecd624c53":[[2851],[7]],
-"x46428f7b575f4fe6":[[203],[28]],
-"x231d594d52e125ef":[[2348,991,148],[13,9,2]],
-"x3381a4c442f32242":[[1959],[6]],
-"xe3bf8d51bf599856":[[216,405,723],[5,2,2]],
-"x4bb2ed78c32f3639":[[3584],[3]],
-"xbe1a1958ee49ffc1":[[262],[3]],
-"xb3b10f728924caac":[[3956,3808],[71,10]],
-"xc0acc60249e82087":[[3372],[5]],
-"x1a81c4f074070d46":[[3761],[5]],
-"xab778561eb486e97":[[666,918],[91,22]],
-"x80fdc9fd54160a18":[[3761,3234],[8,1]],
-"xb2e5b4f10da3223d":[[3642],[13]],
-"x1fb5508677577e18":[[2202,3299],[15,4]],
-"xb246d0346fe596f5":[[2],[6]],
-"xc762bfab2edd7863":[[2195],[3]],
-"xdb01a563cbee947":[[3817],[4]],
-"xf0e3849a14bb29d3":[[339,202],[13,2]],
-"x50b18d31952c8c4":[[1553],[10]],
-"x296b44e84e974bf3":[[1318],[3]],
-"x756a6fe1854182":[[3178],[1]],
-"xbb0b14d60c5a58d9":[[262],[5]],
-"x2cb2c06e91e23fd2":[[203],[3]],
-"x2cc3c0c753338979":[[3645],[5]],
-"x406e67d65f880b6e":[[588],[6]],
-"xfda27a28144a9ba":[[603],[3]],
-"x603ea6f500d490f7":[[789],[5]],
-"xe84aea217f240695":[[2592],[2]],
-"xeb03fa648b502af9":[[339],[3]],
-"xaa25f6d1cde67d57":[[796],[7]],
-"xaec296b200ff4735":[[788],[4]],
-"x1fb1baded65dc2b7":[[708],[6]],
-"xf7057775668f7484":[[3444],[3]],
-"x407289fe595c98e5":[[739],[6]],
-"x994a7947ec040fb8":[[1164],[6]],
-"xbd7ee1c60d105941":[[2843],[6]],
-"xce778ec18385f706":[[723],[6]],
-"xea54be9ba3d00528":[[1835],[2]],
-"x7d795b079c723d8a":[[3502],[1]],
-"x4355a881ec0b9740":[[2851],[6]],
-"x7c1fda391fdc119c":[[157,139],[47,7]],
-"xf8d88d469e25810c":[[2284],[5]],
-"x4e539ac4e49ccd02":[[148],[9]],
-"xc223061f779f6e12":[[3502],[5]],
-"x6646fbfa6061138":[[1841],[3]],
-"xc194f815a0757368":[[1763,1764],[11,7]],
-"xa5ee25382d3beba0":[[3964,3242],[12,5]],
-"x6cbcbfcb2b4094aa":[[708],[5]],
-"x7eb38b6858dff704":[[204],[8]],
-"xa623d29ce1e43166":[[3177,3819],[7,4]],
-"xb78f1648d45ed8ae":[[1104],[6]],
-"xbe0e5bc6b2d0e88a":[[2852],[5]],
-"xc6b9ff8c9e6de8f4":[[82,405,157],[48,29,4]],
-"x83d7f85ceb573be3":[[529],[6]],
-"xe5331fe0dc2e7a45":[[209],[2]],
-"x6a95c9578e4a1557":[[3176],[3]],
-"x57fddc76eed513db":[[3958,3112],[11,8]],
-"x3f7d90d1ecb665e6":[[2722],[2]],
-"xcdb4eeec7392a313":[[918],[36]],
-"xcf0a397dc6438818":[[601],[3]],
-"xad8a39ff0ae83710":[[3624],[6]],
-"x864930094c44a827":[[262],[9]],
-"x8ab0411525302a38":[[789],[5]],
-"xf9fbd7d2c11642b1":[[2658],[7]],
-"xbbbd4580f1b627f5":[[203],[4]],
-"x56aa286b51f9489":[[339],[5]],
-"xac9f27d5ef5450b5":[[339,861],[4,2]],
-"x9cb6212c639ce05d":[[3938],[1]],
-"xc42f2dc5651ded44":[[2228],[6]],
-"x71673af1172a5be6":[[2982,3242],[4,2]],
-"xb1881a3702e69240":[[2202],[3]],
-"x13a499b29f1944e5":[[2833],[1]],
-"x44ddeebdce5b9b12":[[3242],[1]],
-"xb5d2fe52f677b047":[[262],[17]],
-"x2bddad6201817481":[[2935],[3]],
-"x3a14c49cbe8c8098":[[3234],[2]],
-"xd52f40ced1411e40":[[1699],[1]],
-"x337b667fb5a29ce5":[[722],[5]],
-"xee5aa89e261f05f0":[[148],[56]],
-"xa1f2cf7e04aa6f4":[[4013],[2]],
-"xe84769133012f508":[[2098],[2]],
-"x8ae52901e890f5e8":[[129],[4]],
-"x5ba01f3d4f340d9f":[[262],[4]],
-"x94d96a2389c75e2f":[[3112],[3]],
-"xab208797ea4a8d24":[[203],[1]],
-"xd0e87db6456ff9df":[[405],[41]],
-"x2229c4f6b62b0797":[[3964],[4]],
-"x9f780112840a4a1a":[[3763],[4]],
-"xf9928677d6d492c6":[[4013],[2]],
-"xa53bb5aa4898c580":[[2346],[6]],
-"xe6d07a87f587a8a6":[[1306],[4]],
-"x1b9a5ecc57afcb12":[[788],[2]],
-"x5e3cde69562b2369":[[3956],[3]],
-"x26ef85f6bd80ba73":[[166],[2]],
-"x42d61a6bb298ace6":[[1827],[1]],
-"x80dbd358fd9dbd88":[[1749],[3]],
-"xa76f99b6c6a92daf":[[2326],[5]],
-"xc2c7fc2d5fb4549f":[[75],[6]],
-"x94f79de847329a53":[[666],[5]],
-"x5b536299a2c8bd68":[[2023],[3]],
-"xd79c610103bae0bf":[[3956],[8]],
-"x1eb625cf1f45c728":[[209],[7]],
-"xc8eefa4d5a54ac8b":[[1699,790,797],[19,5,3]],
-"x3bb81758dd39b723":[[1956],[2]],
-"xe28d48ca0c8f553b":[[2915],[17]],
-"x29a747afff93e357":[[148],[10]],
-"x491006cb8f7638cc":[[2789],[90]],
-"x795e24ef5222abab":[[2463],[4]],
-"xc5661e9d34eb08a5":[[3373],[2]],
-"xd0e63bb7170cc987":[[3372],[3]],
-"xc286906b26b89cad":[[204,593],[6,4]],
-"xccd944c34b78de0a":[[3756],[5]],
-"xf4f01c3dd5b90977":[[3827],[3]],
-"x7302f2f5ffbc1acb":[[725],[6]],
-"x80cfd47fc8680f79":[[258],[4]],
-"xf069e763d5ea8a14":[[1652,3964],[3,3]],
-"x1e67cda9b52ff839":[[1676],[9]],
-"xad470d1eef6caa98":[[139],[5]],
-"xb3dfd488f409045a":[[2658],[6]],
-"xbdf9d7d9d7fe4612":[[3112],[5]],
-"xf5921f88c7b26b49":[[2022],[5]],
-"x787ea30d0825faae":[[2217,2201],[4,2]],
-"x5e8f34de7b1c7ad9":[[730],[5]],
-"xac785a25000ac44d":[[3956,3112],[6,3]],
-"xbd6963f9bdf1f4b1":[[1642],[6]],
-"x291babbcf77e31df":[[1828],[6]],
-"x3f31365871bb0cf3":[[3826],[1]],
-"x86a5e89a6bc8ecc5":[[2915],[9]],
-"x4b051b817bc839a":[[186],[3]],
-"xd43960e74746ff5b":[[166,918],[5,4]],
-"x2acd651d02a683e6":[[837],[6]],
-"x392d7d51f4ad594c":[[262],[3]],
-"x4b2859d6596c8e5f":[[3372],[10]],
-"xde47a816c65c90f6":[[1699],[10]],
-"xc1dcb537fd5f5afa":[[3817],[2]],
-"xae946517642761c8":[[1683,1681],[4,4]],
-"xb126049e04cf9e05":[[2722],[3]],
-"xf0f5a50df5126b34":[[3309],[3]],
-"x4c1f5952a81020c5":[[216,796,209,918],[28,13,6,6]],
-"x9ffdd4a0a6cb59f9":[[1180],[5]],
-"x62b6be724b206ff1":[[788],[3]],
-"x324d8a4ba8c40f33":[[137],[1]],
-"x39239dd85a9f5c58":[[334],[2]],
-"x4618ce1d304a7cb0":[[324],[6]],
-"x3979ea3aef9e7c3":[[396],[3]],
-"x39e2885304e24aef":[[1184],[4]],
-"x6b7ff86f9b8ec1c2":[[2398],[3]],
-"x7e19aa87498ad6fb":[[1309],[4]],
-"x32448eae4cc16364":[[659],[5]],
-"xabc087567a538e6":[[3178],[4]],
-"xf5762a228c75d5ba":[[2117],[7]],
-"x7bf564c2c761419d":[[2203],[6]],
-"x5b0d85901eca4565":[[2659],[12]],
-"x91b5659ffa06c597":[[2875],[5]],
-"x7d3741728cded3ad":[[2845],[3]],
-"x3e14ce64274f6b54":[[2940],[3]],
-"x56229fa86a64aab1":[[1764,324],[4,3]],
-"x776dd1d000a6d30d":[[2332],[4]],
-"xfe2a2c31b9764aa8":[[3902],[6]],
-"x864851c1775b9d11":[[5],[3]],
-"x4fda88eeb62907f4":[[2593],[9]],
-"x6f60d2711e46b457":[[204],[3]],
-"x8e72ae7e63311e6f":[[3742],[3]],
-"x1d4106336a269ef8":[[2851],[30]],
-"xa27139fb145a3066":[[1367],[3]],
-"xfda388e7b3221fcd":[[918],[8]],
-"x30b81df53cd832ed":[[2154],[11]],
-"x1eead99e91c3362":[[1828],[4]],
-"xc4d20ce14cbc0121":[[1635],[2]],
-"xd657abf0e38fd7dc":[[3817],[8]],
-"xf6bd887aec36bb51":[[2007],[3]],
-"x5807694ad7143bc4":[[1829],[5]],
-"x394bda52c66dcc06":[[789,1828],[11,4]],
-"x8247c781d718a6ee":[[3836],[1]],
-"x59c2b85d1998c469":[[788],[4]],
-"x95bb6f4fe99541b0":[[3902],[4]],
-"x478061a3d8a422e":[[1828],[3]],
-"x98e605d3b6171686":[[1633],[1]],
-"x7568938f934a4b5e":[[3234],[2]],
-"xab713f4b6eef4a7d":[[3958],[3]],
-"xace818716347bb49":[[1308],[14]],
-"xe3df3394c6198cb6":[[2203],[52]],
-"x4cd2dbe131756647":[[3902],[6]],
-"xc57cc505a8b987fd":[[1185],[3]],
-"xe7bb0386e525de3f":[[3234,4020,3177,3827],[97,40,18,4]],
-"xd8abb726d2632ee2":[[262],[4]],
-"xbb0bc24ea0ce9eaf":[[2919],[3]],
-"xc99801e3cec609b1":[[1826],[2]],
-"x1359f128db30cddf":[[3902],[5]],
-"xc68e94801312d589":[[3],[16]],
-"xea8cdcbcc1e70ab5":[[262,148],[8,3]],
-"x8bc2d81d902a052d":[[1226],[6]],
-"x8b85a65d181d837d":[[324],[10]],
-"x5b9eab03cdd54d96":[[3902],[12]],
-"xc8a4b859c33c9f52":[[3642],[3]],
-"xd098daaade0835da":[[1373],[3]],
-"x12cede804bfb0a1a":[[732],[18]],
-"xc5383098d7bc624e":[[353],[12]],
-"xda97aeace0e8116":[[593],[5]],
-"x4ed5dd576737a85c":[[1178],[4]],
-"x30eb89d614a3dcf5":[[267],[10]],
-"xc2cd335390864d78":[[148],[4]],
-"x5e3c26829ed6a7e0":[[2972],[1]],
-"x4c9226b4271b5c5f":[[3566],[4]],
-"xc99f09ee6da8c49a":[[3956],[16]],
-"x3c00ef4d5d1c4170":[[2463],[1]],
-"x6494d3d9c302937":[[3690],[15]],
-"x976b2f88f82383bc":[[1899],[5]],
-"xe33270a52f9b8877":[[3177],[5]],
-"x8a50b17dcddb0967":[[1180],[4]],
-"xdea0a8a9af42069c":[[2731],[3]],
-"x89e0b78643bfa53d":[[3938],[10]],
-"x20c12a14be1a66ba":[[2332],[1]],
-"x92fb1cf503efc40b":[[2664],[13]],
-"xeac53aa94e7742a":[[1764,1380],[11,5]],
-"x9ce1177ef3950af8":[[3761],[8]],
-"xa11a9af05cb7082a":[[343],[3]],
-"x7e9f61242776c6bd":[[334],[7]],
-"x62356d781a753b21":[[2,1748],[6,2]],
-"x816ac403a84a1341":[[3882],[3]],
-"x4d0cdc5ce51fdb0b":[[3958],[3]],
-"xca74b30bd22f0762":[[3929],[2]],
-"x7c81e619ef7909bf":[[82],[4]],
-"x4d819f53dbf5fc83":[[1902],[4]],
-"x734ce674aa11f0f8":[[2852],[3]],
-"xb0b3d3ed75e4a983":[[3307],[2]],
-"xcc33f1c02c8f91da":[[666],[7]],
-"xd1005a82575207e1":[[209],[2]],
-"x94060464238f74fe":[[2152],[2]],
-"xfd09e3666e9498ed":[[2162],[6]],
-"x587e138d02e67f66":[[2203],[3]],
-"x3dc1755db659c35b":[[1684],[5]],
-"xb456dacb90fd7807":[[1355],[3]],
-"xf57be7a9665d5cb8":[[1291],[6]],
-"x431f421f6b99a1f6":[[3902,3826],[5,1]],
-"x5f09e211257e88a0":[[262],[19]],
-"x1a4265ca8b8ca598":[[3177,3244],[5,2]],
-"x6bdbef134145979f":[[918],[3]],
-"x124cb668e17d3b6d":[[3761],[4]],
-"x8dc8aea10fbc9f4f":[[3761],[2]],
-"x6547d4750f979b3b":[[3364],[3]],
-"x5182cdf8a75a58ee":[[2124],[3]],
-"x8bafe3d1ea9fdf6d":[[148],[3]],
-"xe8f59f2729c9c32d":[[3502],[8]],
-"xad2dba73b27ee619":[[3929],[2]],
-"x7b3b9379880e524d":[[1699,731],[8,2]],
-"x54682f168d844773":[[82],[4]],
-"x1beba2b4d655106c":[[3306],[2]],
-"x63022f500ee333a":[[983],[2]],
-"xa397925160583b46":[[3808],[1]],
-"xa3f0852f418c4055":[[1763],[6]],
-"xcc93588e252623f5":[[3177],[2]],
-"x600f2826becbee36":[[723],[5]],
-"x3489425fa7e0952d":[[3902],[7]],
-"x96a6bb853be23bc0":[[332],[6]],
-"x4a27c298ee45fe90":[[3963],[2]],
-"x98d983c4838d75a":[[3494],[6]],
-"x487e70d93e22318e":[[1227],[3]],
-"xc643bb5bb2be87e3":[[3811],[5]],
-"x44980c36c341e4ab":[[2],[3]],
-"x4d5efe703992b477":[[536],[4]],
-"x237f247225a02652":[[3299],[37]],
-"x8154829f0102f353":[[2463],[5]],
-"x747f6f8d315a4bef":[[918],[31]],
-"x41e17edaa22abf2b":[[853],[28]],
-"xf65058a72a543b3d":[[529,556],[8,2]],
-"x276e5a1e4d2e3ef0":[[1570],[5]],
-"x38abea9e66a9538c":[[1502],[5]],
-"xb4742d7bbe889c6b":[[3362],[7]],
-"x9de6f091361749f":[[324,2463],[6,4]],
-"x1b5153cab620e90d":[[1371],[3]],
-"x6bc067b716f19a08":[[203],[6]],
-"x61cb505dad4872d":[[3742],[2]],
-"xde2f76347babf34b":[[3956],[13]],
-"x8885d48f31f9fb45":[[3902],[2]],
-"xaf906d043c91e943":[[3567,2852,3559],[35,16,2]],
-"x6884dd61ab52dc93":[[334],[4]],
-"xa80d13c5909bc1d9":[[983],[4]],
-"xc527e474ee4b4a5e":[[1616],[3]],
-"xbc51e7f4be8fb6c3":[[593],[9]],
-"xd1c1479ef60e52b2":[[1762],[13]],
-"xf7bdad6acb8f3df7":[[536],[6]],
-"xf297bdcca1092b3d":[[593],[3]],
-"x626b5be3206f5a4c":[[3690,3502,3372,3364],[27,4,2,1]],
-"x25296263810caaa9":[[2137],[2]],
-"xf5d7ba080393d0ec":[[2268],[2]],
-"x7021b896d525c7b":[[2204],[6]],
-"x7dc9b3e2e2d8d429":[[1169,917],[4,3]],
-"xd7eaea9c351d8ab0":[[593],[9]],
-"xabca440550f2f2":[[3699],[30]],
-"x9ca3244ad0ac680b":[[1762],[13]],
-"x1dbe10967d1a5bc1":[[2260],[3]],
-"xb6573848c587f506":[[3642],[6]],
-"xb68f8409b0b9ce29":[[3756],[1]],
-"x517de2a8a7b66154":[[323],[12]],
-"x9e7e75a537126b31":[[2542],[2]],
-"x9d3f7c84dbb895f":[[3958],[9]],
-"xa9e2e0aedaa64a9d":[[3763],[3]],
-"xa133c20607fe71a6":[[3642],[4]],
-"xdb97a081acf12a3f":[[3902],[8]],
-"x9a4b045880322db":[[1763],[8]],
-"x3baa54f342d0c9f0":[[2228],[4]],
-"x4c3b77f7fd92217e":[[852],[4]],
-"xc11c038f6ec8caf":[[797],[5]],
-"x3e31429b1489166f":[[3690],[7]],
-"x1cd5c69b90124f92":[[148],[6]],
-"x7b553b416a0a5c7b":[[1372],[5]],
-"x87a2b31ed81434ee":[[3902],[2]],
-"x227c9c564ebeb99d":[[2715],[2]],
-"x4c345a007c56ab80":[[1837],[38]],
-"xfb1d0ec66bff43c8":[[2],[3]],
-"xc0f83213900fdb89":[[3763],[2]],
-"x4cbe1ab76aedeff0":[[1699,339],[26,19]],
-"x38193c9b1923f9d9":[[3690],[4]],
-"x41f1cf249cb9ea55":[[1318],[5]],
-"x239f0c9aa51ceb95":[[601],[6]],
-"xcf100dbfbda23287":[[658,788,796],[12,8,4]],
-"x8d287f69001e1a6d":[[926],[3]],
-"x55bb0261554bc89f":[[1894],[8]],
-"x36f28c7d507084b9":[[157,262],[12,8]],
-"xac1b72bcb4c1d220":[[796,918],[22,17]],
-"xd9be1592d75a50f9":[[528,166,157,788],[118,23,8,6]],
-"x602e0ccb8c0d69de":[[2932],[4]],
-"x87913e200b9fb6af":[[3234,4013],[8,7]],
-"xae5e94c705e203b7":[[3112],[5]],
-"xb101e7ebd3091940":[[2121],[6]],
-"x96884725f533f132":[[1763,396],[30,22]],
-"xef0fe751ea53e708":[[1113],[6]],
-"x35dfa7430fd69021":[[796],[3]],
-"x2e6b775384c0aa52":[[3518],[3]],
-"x6c1ecf31a10ecea3":[[3699],[8]],
-"xccc9ad509b8d6c4e":[[332],[4]],
-"x60d34d14c7154cd2":[[3567],[3]],
-"x5226df71a41438dc":[[717],[4]],
-"xb3b051b2f1972cac":[[1187],[3]],
-"xe15255ad93457b2b":[[2007],[24]],
-"x66e1c05f24d69e26":[[3373],[4]],
-"x48b0de56d9528311":[[2],[3]],
-"x19b3bb15536d2d83":[[2266],[23]],
-"x6f18a0cf5a4842ef":[[332],[9]],
-"x1d28429dfcd1effa":[[2281],[39]],
-"x778b7fe152928966":[[2787],[2]],
-"x15e4c0b5c9ec781c":[[1699],[4]],
-"xe92637e9d37c9b0a":[[788],[7]],
-"x575dd087c88683ad":[[1380],[4]],
-"x3785e6b6ef2c439f":[[3947],[4]],
-"x531c59140b60957e":[[3642,2333],[9,3]],
-"xdf07a0b4cad322a2":[[3112],[4]],
-"x158b10593bc6b4ae":[[3956],[3]],
-"x261966124d945f65":[[3688],[8]],
-"x6d67e74f94e0c28d":[[3902],[4]],
-"xd66042ce2164bafc":[[2203],[2]],
-"x80c563c60301205a":[[3169],[5]],
-"x517b48308cbd970c":[[3699],[10]],
-"x4673f9bf72230ba5":[[4023],[3]],
-"xea83b128dbf7194c":[[3902],[4]],
-"x55b8a1eef88ee069":[[262],[23]],
-"x8f8c3687ae8977d1":[[3690,3177],[6,2]],
-"x62735ed07e2ecfb8":[[203,262],[7,3]],
-"x2da993fe2620ec":[[2203],[5]],
-"x6a9b395223368d0":[[3947],[12]],
-"xda77c3baac60adb0":[[405],[7]],
-"xf445233d067a4333":[[4013],[3]],
-"x671ff442205f6b8a":[[2778],[3]],
-"x7e215e37c2e6ee88":[[3567],[2]],
-"x1f95a433f2a3adf5":[[3742],[3]],
-"xa94f6140149703a5":[[3929],[10]],
-"xbdd5251fa53fe09d":[[3901],[2]],
-"x81f65677b7598597":[[788],[8]],
-"xe4bac8497ebcaa08":[[2722],[6]],
-"xf32b190574167115":[[2675],[3]],
-"x4891dc4590706c21":[[2723],[6]],
-"x4854fe1392232f2b":[[2915],[1]],
-"x3ede83374b1d37db":[[4013],[2]],
-"x492f556f725a4e97":[[3699],[3]],
-"xdc2bcbd310263e9a":[[396],[9]],
-"x483ecaca16e664f3":[[1827],[3]],
-"x30cfa123c060ca5d":[[334],[4]],
-"x699a3556bc5a003a":[[3902],[10]],
-"x5928539f569ca898":[[148,983],[22,7]],
-"xf19e155f6a6ccb28":[[2541],[12]],
-"x34a8a5435d660432":[[139],[300]],
-"xe9ccdd2f48a379f1":[[1901],[2]],
-"x291ab5944a19f6ef":[[3958],[3]],
-"xc6244ced42d88220":[[1570],[2]],
-"x37f4ed077f839ec4":[[80],[7]],
-"x9fb565ce724f3dea":[[1652,3902,1643],[31,8,3]],
-"x5cb2579e35d17f15":[[3169],[3]],
-"x69a6069d18344fa0":[[3958],[12]],
-"xf3599b8ed24461e8":[[2350,2355],[8,5]],
-"x5d7bf80655f0f7aa":[[1828],[14]],
-"x8d715570cca092c5":[[3305],[3]],
-"x432a42a8c5f926d":[[139],[8]],
-"x8c2e4bf4dfa97a80":[[991],[5]],
-"x99edf3e745b9313b":[[991],[6]],
-"xb7dfee6ea386b3fd":[[3641],[3]],
-"xf2c975aead84bfab":[[3372],[3]],
-"x71d8651c92588bfd":[[3567,3902],[9,3]],
-"x7bf3be1a342b1278":[[3234],[3]],
-"xdff84ab7398a3226":[[528],[6]],
-"xb420964838555b09":[[1308],[3]],
-"x49bdac58322e56e0":[[334],[9]],
-"x82698e8e44f6d648":[[2908],[5]],
-"xbdcd024ae6f35539":[[4013],[2]],
-"xcf5750be98eb684":[[398],[3]],
-"x1e371d1074744342":[[83],[4]],
-"x87320f236b827483":[[1764],[3]],
-"x1c22f4cd4bda8ce4":[[339],[4]],
-"xf98f5e66fa94ca01":[[1828],[4]],
-"xce914a3e6d03e9fb":[[2258],[4]],
-"x38d7b530fffefa50":[[3963],[3]],
-"x2f06bd6d124d513d":[[1447],[7]],
-"xfd6c010f3cc8e0cc":[[2066],[2]],
-"x59253600663bb97":[[2139],[6]],
-"x321c8cb266f6c025":[[1179],[4]],
-"xfaa72f0c3607520c":[[3502,3901],[10,3]],
-"x188d4ca38cc5b014":[[8],[6]],
-"x483284e17a701295":[[2261],[2]],
-"x817f74da8db4b758":[[722],[5]],
-"xd88731372c764777":[[1],[8]],
-"x96664a0e6fcd633":[[528],[3]],
-"xc22db2851548b7a7":[[733,593],[6,5]],
-"xdaf5e62f28f63627":[[3566],[4]],
-"x553c9bf210010abd":[[154],[3]],
-"x970c28b84ab838e6":[[82],[4]],
-"x7f20787aaa79eccf":[[258,332],[3,2]],
-"xef89e73544fa15f0":[[3362],[4]],
-"x7b6787fc16500c20":[[731,353],[11,4]],
-"x7d1244e74d5b5fab":[[332],[5]],
-"x5289d69188c5cead":[[334],[11]],
-"xc0e8d0fec6efe24c":[[1164,1176],[6,5]],
-"xc644e61b4b98ff76":[[196],[3]],
-"xb08e5a8a47a5040f":[[3324],[3]],
-"x951005cba4d08db6":[[1681],[5]],
-"x226d7e4cd426fb9e":[[2023],[5]],
-"x3dba9f6c36712cb2":[[3774],[3]],
-"xd9db10e0203b36b":[[262,82],[22,10]],
-"x7305f37c6654d9a":[[2893],[6]],
-"x38bc400ca1a3bbdc":[[213],[3]],
-"xcd4605da008f28fa":[[731],[3]],
-"xce9192e59abd31aa":[[3956,3112],[9,4]],
-"x205c185f3167f96f":[[3322],[3]],
-"x6a4ef35b5396408d":[[3559],[7]],
-"xe3a168f47d7e187":[[4013],[6]],
-"x34ce9f5f018b000e":[[213],[2]],
-"xff00eab3be17c32c":[[346],[4]],
-"x8110f24218fba5b4":[[3177],[1]],
-"xf408a1bf0e17063e":[[3826],[1]],
-"x29198dd9038d4595":[[3242,3234],[4,3]],
-"x38e9109576178193":[[3902,3688,1634,3826,3690],[37,14,12,8,5]],
-"x6c340a28f0d4a0bb":[[2745],[3]],
-"x60899e9b8f67887c":[[1371],[9]],
-"x562a71044b6833f0":[[262,75],[8,3]],
-"x16b8b98b5f0e4d46":[[339],[3]],
-"xcc664d8b4a9bb1ed":[[1187],[3]],
-"xb7b79dc1f6c6151a":[[3690],[2]],
-"x563ecd3eaa65cb4c":[[2931,3699],[6,4]],
-"x167dfa418d689f90":[[3826],[6]],
-"xf878d5da75a080e4":[[262],[3]],
-"x652651df86641d2d":[[3373],[3]],
-"x1194aca7da1b0652":[[1291],[4]],
-"x851588f92d10c87a":[[3],[8]],
-"xda260114d23c3747":[[139],[4]],
-"xe7c200f239566615":[[3902,3373],[6,2]],
-"x30686f81b77aa1ae":[[594],[5]],
-"xe00600a2376fd1de":[[1764,1185],[4,4]],
-"x657f681cf81fdaa3":[[1763,788],[14,7]],
-"x9b09595068189c48":[[139],[3]],
-"x644c72b2b41c3d37":[[3643],[2]],
-"xa1e60ac8f64463af":[[138],[6]],
-"x58e52b0310abb7e4":[[1],[3]],
-"x2ba864a7af6e7058":[[3749],[3]],
-"x4c2faac6f191688d":[[3929],[1]],
-"x5e694c9d0ab36524":[[3826],[1]],
-"xc923d5474a3af6f4":[[2931],[4]],
-"x1fc044f96426081d":[[391],[3]],
-"x3b03de80d20e5e96":[[2266],[6]],
-"x33bac3e3c5cb9d1d":[[1034],[3]],
-"x2004077cf6c9c42d":[[3429,2137],[5,2]],
-"xd930f03d217dffa6":[[3699],[6]],
-"x2c7cbf7e3242f16f":[[3177],[3]],
-"xd392e7615077f0df":[[2931],[6]],
-"xf98bd11bca89da6d":[[2346],[3]],
-"x78a89a8b19cf7fcb":[[3902],[5]],
-"xfe34d0dda8b81da0":[[262],[6]],
-"x637a791acee6c96d":[[3177],[2]],
-"xd2c832c8290bf750":[[788],[4]],
-"xd65cfa2d1645a1e9":[[594],[3]],
-"x149d8bc5201992d5":[[3429],[2]],
-"x830946625657ab75":[[1501],[1]],
-"xb076f87f36c0246b":[[1437],[4]],
-"xfff7736eeeb4e2a6":[[202],[1]],
-"xfa863dbb2a5bbdc7":[[139],[3]],
-"xdcdb519bc6f9a8ab":[[1699],[2]],
-"x1989d2577a64a135":[[2804],[3]],
-"x76b7713d8ad3f33b":[[2006],[2]],
-"xc8b8808dee1b944c":[[148],[8]],
-"x89b6ab905f271237":[[2396],[3]],
-"x309efc024a00d0d2":[[3113],[2]],
-"x1b4ef6a99a6683a3":[[3958,2266],[4,3]],
-"x8c51e2140f858344":[[2851],[1]],
-"xb3f976e26e428777":[[82],[4]],
-"xffd3eef9cd1f8266":[[2851],[14]],
-"x54751cc35f074970":[[2036],[5]],
-"xd853dceb043fe283":[[1554],[6]],
-"x55b04a875793136":[[2023],[5]],
-"x3726d8e5dd84c77c":[[658],[2]],
-"x3692aefd9e6164f3":[[2788],[1]],
-"xb6d532b29c0064fb":[[3742],[14]],
-"xc4533d59dbbdc5e7":[[1803],[2]],
-"x966734fef7730cde":[[396],[2]],
-"x19a3fd487cfdb690":[[2154],[6]],
-"xbf6dd67df11dbdeb":[[353],[11]],
-"x38ec112fabbb5f4e":[[3305],[3]],
-"xf4523018984c66e9":[[3938,3299,2715,3929],[10,7,6,3]],
-"xdb2cc0219014ee5d":[[3233],[3]],
-"x4d1b4e84fbc92382":[[3364],[4]],
-"x98e7aa4fc9fb3c51":[[2477],[3]],
-"x671563e4ebd7bb08":[[339],[6]],
-"x777fcf51ab24edad":[[3956],[4]],
-"x809ee50eea7df488":[[1618],[4]],
-"xd75863f82cd7ffa4":[[324],[4]],
-"x114000e5be7feb19":[[2217],[3]],
-"x28d8baa90955696e":[[1567],[3]],
-"xa9d4782e0102a81e":[[3157],[3]],
-"x50072d9cf1dc606":[[2477],[10]],
-"x673bca3b29387f4e":[[723],[7]],
-"xfb9677efe5994cf2":[[202,1763,166],[11,9,7]],
-"x6761d0e176785271":[[593],[4]],
-"xb7c3382401864fe":[[3902],[3]],
-"x79076655ef5702b1":[[1870],[6]],
-"x9f568c2a3a531f3e":[[536],[6]],
-"x51fd6dc069e231f3":[[3192],[3]],
-"xa4c428b57c8a4c8":[[3761],[5]],
-"x88c5fd32a47ef1bc":[[3761],[6]],
-"x77ac1314a8e14b44":[[262],[2]],
-"xfc286e74273a39a7":[[137],[5]],
-"xe462b581b4759d45":[[262],[5]],
-"xb79f3f7a11badaa5":[[3437],[3]],
-"xd9b50f9596ba7ee8":[[2331],[13]],
-"x67426678f63ff330":[[3],[3]],
-"x25471a5b583dca0a":[[2851],[7]],
-"xf8623798af08402d":[[82],[3]],
-"xa272a38efa993fcb":[[1187,796],[18,14]],
-"xcac62f49eecfe8e5":[[2137],[3]],
-"xcaea305e288f5012":[[3699],[4]],
-"x58852f93a367bc52":[[2463],[50]],
-"x4b6f909053f0e0a2":[[594],[3]],
-"x4f0a99039c1a6849":[[137],[5]],
-"xedf4af666f3e0ca3":[[451],[3]],
-"x7f4c78175afb2f8":[[3307,3234],[5,3]],
-"x8e5b191dadacbcdd":[[3307],[4]],
-"xc5fd9b69655c5aa1":[[2931],[3]],
-"x933f384b634c232d":[[2203,4020,3699],[11,8,5]],
-"xcdec5f6433bcd722":[[3437],[4]],
-"x60addb3a1dd52d0f":[[3964],[1]],
-"x53c3ee00857a0d2":[[3387],[5]],
-"x5121a5d9ee7da1f0":[[1827],[3]],
-"xfc54b0db43e4a390":[[2203],[16]],
-"xf01201ad8442b9f8":[[82],[3]],
-"x1405734318048803":[[75],[5]],
-"xd69997224e001ddd":[[2204],[3]],
-"x7e0b33885bcbeaf3":[[334],[1]],
-"xd1511c31e079cc68":[[592],[3]],
-"x412d215beb8c4022":[[2203],[1]],
-"x4b1aea5fad3e54a2":[[836],[6]],
-"x1b126187defecf1":[[1827],[6]],
-"x57935d2101fb1cc7":[[861,324],[7,4]],
-"xc78cf17b3dcc1a3e":[[353,346,1380,658,332],[8,6,4,3,2]],
-"x4d13daee2d6eb129":[[3892],[4]],
-"x473d5452a1924fa7":[[3956],[3]],
-"x3ec669ea91e9c34":[[1153],[3]],
-"xcad3100ff79bcbe2":[[3177],[3]],
-"xd57359159b18bf6f":[[3299],[676]],
-"x56c7aedc1b85b562":[[1804],[5]],
-"x2c3aff20a3b778fb":[[1958],[1]],
-"xf6b3d8d87d9396a4":[[3826],[3]],
-"x5822a6647dfdbd7b":[[3807],[33]],
-"x14152e09a69d1031":[[3947],[3]],
-"x34976197a4dfc52":[[3372],[3]],
-"x3544b66a95742f1":[[82],[7]],
-"x9170509b49a5cbb5":[[1652],[1]],
-"x6d7d636bea368bbe":[[1892],[3]],
-"x48fa32747fc2a10b":[[3690],[4]],
-"xd5f585434b30153b":[[210],[3]],
-"x1d98b31d7f0da399":[[4013],[1]],
-"x281732e022e316db":[[2477],[11]],
-"xe9c5d4f334baef70":[[2131,2136],[4,2]],
-"xad18f22946c830ef":[[204],[3]],
-"xc3d35cc9e2c63cd9":[[1806],[1]],
-"xd2af7b2fcd67ac2b":[[2203],[2]],
-"x658f832d4b30e33d":[[3242],[4]],
-"x87d841f8c173a273":[[2722],[4]],
-"xfbdd6c6184606039":[[1763],[6]],
-"x633d4b75c1c6ba9f":[[3761],[6]],
-"x2c85ad59f3e02b42":[[3372],[5]],
-"x1faf6959c36cfba2":[[3699],[3]],
-"x5d33729cd23efdb3":[[3761],[5]],
-"xd20ff64c86031026":[[2908],[335]],
-"x763a81d747cc058c":[[4031],[4]],
-"xffc0eebf390d3cd9":[[2724],[7]],
-"x5899d4ccd18d93d7":[[2722],[23]],
-"x7c193bd565b147d7":[[3699,4013],[14,1]],
-"xe8d3db4d177b3bec":[[3956],[6]],
-"xb925f2dab8fdf466":[[3363],[1]],
-"x53b258c3b2450558":[[3752],[3]],
-"x48a5ba3cb09e3480":[[3817],[1]],
-"xef7465dd22733c80":[[391],[4]],
-"x84c33ad11651bd4b":[[3299],[4]],
-"xf06ae38dbe888602":[[2609],[8]],
-"xb3f4decd2a38b534":[[2931],[4]],
-"xacc03f1f9de3429c":[[332],[3]],
-"x22b855071ca3329":[[1348],[2]],
-"xd092fdd7ca559b9d":[[3502],[3]],
-"x1af8433031f2418b":[[2266],[3]],
-"xdbeca093a8a3aa73":[[983,332,203,346],[26,21,16,5]],
-"xc1475a05c3522e4f":[[334],[14]],
-"x2754f5cc9b063376":[[3364],[4]],
-"xf97761ac76c9b677":[[203],[6]],
-"xe4e2a73226378e13":[[3372],[6]],
-"x39889a24dea3d572":[[4013],[3]],
-"xf2414951022508dd":[[1828],[3]],
-"xcba2d71c0c669e16":[[2,209],[11,7]],
-"xd4a971926f466dc9":[[268],[4]],
-"x4e8b86ebd255b840":[[1098],[6]],
-"xa75753c5c0fbfd2c":[[4013],[10]],
-"xd6df297c7971f9fa":[[3956],[2]],
-"xbb163280a2e23434":[[334],[3]],
-"x58a22345d6eb7da6":[[203],[8]],
-"xfa8b733f84da785f":[[983],[4]],
-"xa80b14998d6a9091":[[157],[3]],
-"x69aa26888e0618e1":[[2851],[12]],
-"xef2023ff7a5ec335":[[262],[2]],
-"xa33cf4a198d7346d":[[1894],[6]],
-"xd158cf760e3e7c04":[[258],[5]],
-"x5aa697f24b5fd6cc":[[3749],[3]],
-"xf252f350b1f6a1ca":[[1764,1763],[3,2]],
-"x5b509a76852ca448":[[3104,1618],[16,3]],
-"x49a0cb921daa4783":[[166],[3]],
-"x8c2ea8b0915ae662":[[3299,3690],[7,6]],
-"x55b0431f3a8f7339":[[334,528],[6,5]],
-"x1f4c7588cc05a1db":[[2203],[6]],
-"x9c8021d002c2c03f":[[258],[6]],
-"x60f9e21348c7f8fd":[[3958],[2]],
-"x5dd23a399207c213":[[3699],[2]],
-"x7c9cc8ef02f246c8":[[157],[3]],
-"xb67d28ef4606aae7":[[1763,75],[16,7]],
-"xc3d84fc1259d283e":[[731],[131]],
-"xa2e2b831a429d927":[[1553],[3]],
-"xf15e9ec5cf5a2dca":[[3632],[4]],
-"xdc9e38199329bdd9":[[1546],[5]],
-"xf15239ad30f6da5e":[[3104],[1]],
-"xce922a0ffc47ec3d":[[2931],[5]],
-"x7a96eea8ee596132":[[202,593],[8,6]],
-"xd03408eb1a60bb83":[[1371],[4]],
-"x958022383f801fdd":[[204],[6]],
-"x53dc3815cde7bb16":[[666,157],[27,14]],
-"x7bb1939ff5b0d92a":[[1699],[5]],
-"xa8b64ea67f4508e6":[[2284],[3]],
-"x44d4ec56e07306be":[[3902],[3]],
-"x8ecd35aac98bc3fc":[[1810],[5]],
-"x9d1e45a63336e6c5":[[731],[3]],
-"xec4005284ef1c6db":[[1699],[1]],
-"x85bd53e0cb861a2d":[[2266,3699,3242,3234],[154,13,12,3]],
-"x9bf9c92a442b5a2a":[[1894],[6]],
-"xf08a593d4893fe97":[[3808],[2]],
-"x8582af742aea919e":[[324],[5]],
-"xbba6a2152efd5ac0":[[3828],[2]],
-"x4723bc0b03733308":[[2203],[5]],
-"x78c5757aa1a092b3":[[1371],[4]],
-"xf12ca86a7e2374d":[[1363],[4]],
-"x9f02192b31728cf4":[[3763],[3]],
-"xf718f485baa4fc0d":[[2919],[2]],
-"xf16e7794311d5bdf":[[3242],[2]],
-"x427c205a0447e97c":[[2412],[5]],
-"x3b0c4235eff58a12":[[658],[7]],
-"xa266b7e593023f15":[[594],[7]],
-"x34a31416783e595a":[[2463],[12]],
-"xd0d344954ca86a7d":[[3808],[2]],
-"x86b497a9fe0e9344":[[3958],[3]],
-"x6dbaea901f255733":[[3298],[7]],
-"x508eefe4fde6f17c":[[262],[4]],
-"xbd452d6d2cf282cd":[[3958],[7]],
-"x9e7403f349d80a35":[[3643],[3]],
-"x1684ad7a6e074730":[[1307],[3]],
-"x8d102f0986a1c8ba":[[3299],[122]],
-"x5a5cc8874401712":[[3688],[5]],
-"x980f61fa1ff922bf":[[1810],[7]],
-"xa20ac7e900eab9a5":[[1745],[6]],
-"xe787a7e863492900":[[3763,3429,3502],[18,6,2]],
-"x9dd68d1f303cbd99":[[658],[32]],
-"xc60f61b04b6ed02b":[[2851],[5]],
-"xd62004f16f9bdbc5":[[1307],[8]],
-"xc0a60224969fff2f":[[861],[7]],
-"x9629feba6bfa7a14":[[75],[6]],
-"xb967000248cd2777":[[3370],[3]],
-"xe1131ec8c1c2a64e":[[1380],[6]],
-"xad0214848dcf5b45":[[593],[6]],
-"x3723c1d036ab68b3":[[262],[11]],
-"x4f211f051a842d9f":[[1307],[7]],
-"x2affa595500aed3f":[[157],[6]],
-"xd3a9eae5b0f29c2d":[[1355],[8]],
-"x4f9da433bd06c5ca":[[1244],[6]],
-"xf83f29942de2fba5":[[202],[3]],
-"xf9b5ad44231a419f":[[2084],[6]],
-"xb97450f124c33f56":[[211],[6]],
-"xe618a184e1eb2db2":[[3763],[3]],
-"xfab110b103580fe4":[[82,918],[36,11]],
-"x5906d1f222e3aa1c":[[536],[11]],
-"xee0c99394e2e640c":[[262,82],[96,8]],
-"x1da85b74d85d4598":[[3947],[2]],
-"x10f280ec8691b50d":[[2852],[5]],
-"x734adb3ad7a702ea":[[262],[8]],
-"xd14533a653f5c7f5":[[3752],[1]],
-"x2fb7c87c4d79daf5":[[262],[2]],
-"xe7d594c774e30096":[[3567],[4]],
-"xfa74a5ca450bd3c5":[[1421],[7]],
-"x54c233c93ade6119":[[1154],[3]],
-"x32e45f1433fba444":[[3756,3169],[11,5]],
-"xd85155f4c84bf3bd":[[334],[12]],
-"x8a21f5cc75b971bb":[[788],[6]],
-"x3be77b775c79973d":[[3690],[1]],
-"x395ab6458080b18c":[[2801],[4]],
-"xcb7e2dc07deee94a":[[4013,3429],[25,11]],
-"x4104d1c9cfc37406":[[2153],[6]],
-"xc96e11192d395361":[[528],[2]],
-"x879f987b1c840d2e":[[3699],[2]],
-"x8c5ffe20979aaf0b":[[1770],[5]],
-"x8d6b5ac4d3a0e1ca":[[3690],[4]],
-"x80af1d2f2bd4750f":[[1802],[4]],
-"xfc55ec749f33387e":[[3177],[3]],
-"xd09cad5a74e0368":[[4079],[5]],
-"x55914ec6b9264f6b":[[2923],[6]],
-"xcace24872c35dc2d":[[3826],[3]],
-"x7514cba747b3c344":[[3063],[4]],
-"x5e63ae945b857ebb":[[3234],[2]],
-"xe631936577cd1cf3":[[339],[3]],
-"x8f715bd018861916":[[1827,1371],[31,7]],
-"x2cbfced774625cf9":[[4013],[5]],
-"x90be46b1ed28805b":[[3184],[3]],
-"xf9be3737ce90ecb1":[[3828],[54]],
-"x3d294e827de8b960":[[346],[14]],
-"xbffe4a9570e802c0":[[3821],[30]],
-"x103d50a52eef2fac":[[204],[4]],
-"xeedecb96a9f42278":[[3642],[3]],
-"xa5778de7670d711":[[334],[6]],
-"xdfce139842a72f21":[[82],[6]],
-"xd829e2d54cab2082":[[80],[4]],
-"x676a0424bf9fdfdf":[[479],[3]],
-"x8e274a251cce8e63":[[3956],[7]],
-"xed8bc68396d75c2e":[[3902],[18]],
-"x6a176f3b7295fd1b":[[1380],[11]],
-"xf86f01e2085eb72d":[[262],[8]],
-"x7a09f0e119866b34":[[3699],[4]],
-"x3959ae5cd67fa016":[[211],[12]],
-"x2470608594a04e46":[[1837],[3]],
-"x6850a617083fcea6":[[334],[3]],
-"xef9f11d84f6199ef":[[1762],[5]],
-"x301b3c500681d1f8":[[853,203,861,332],[125,31,9,2]],
-"xf7bc060ec187b667":[[2926],[2]],
-"xd74e00a1d298b2a5":[[2098],[6]],
-"xd9347b4648b08349":[[227],[4]],
-"x95ce74f59a209bf2":[[3958],[1]],
-"xf7159d2b4d35f34c":[[2722],[4]],
-"x15680e323b3a6c9d":[[3929],[2]],
-"x1248273d71ff4146":[[3494],[1]],
-"x2fe18daea3362caf":[[2268],[6]],
-"xfb13c8a1e89e0b20":[[4015],[1]],
-"xd5f059da658a87c4":[[334],[6]],
-"x1176460dfc290b24":[[3761],[4]],
-"xf14beb3cb7cbe5fe":[[1120],[6]],
-"x3fbe1b635c82d85b":[[1317],[3]],
-"xd6f693c65b927a0c":[[2333],[8]],
-"x267e387c55dc3010":[[1439],[3]],
-"x4c6b5fb98a43424":[[2851],[2]],
-"x1a386d1c467e3ef2":[[3],[8]],
-"x631d6ad197c2ad6a":[[334,1562],[16,3]],
-"xce12eec282b02075":[[3826],[5]],
-"x604f3f7af659ba29":[[1618],[205]],
-"x4124479a8bd4f11d":[[3641],[8]],
-"xe0afb0cd615ffea8":[[2908],[4]],
-"x7e17086d5ce7c29c":[[1371],[3]],
-"x6d38318f3c5cd25f":[[3811],[4]],
-"x7e1a7d03488c44f0":[[324],[4]],
-"xa3f93bd0f73112b4":[[1763],[3]],
-"xbc5ffe49d71da7d8":[[2910],[4]],
-"xf299240daa20368f":[[1697],[4]],
-"x6b0b0969d620ba1d":[[3641],[3]],
-"x1a30d2c6f63a7e29":[[3956],[2]],
-"xc436d51330586c3f":[[2463],[6]],
-"xa6e5683866e2825":[[1187],[4]],
-"x74935720f305d85d":[[3299,3929],[18,9]],
-"x623d4f0d99fdba23":[[3299,3307],[5,2]],
-"x68a4c683b9bae3e7":[[1355,157],[3,2]],
-"xb4045aa13c7d0744":[[346],[6]],
-"xd9f94e42317e6dda":[[1161],[6]],
-"x31d2857a6b94b631":[[3502],[3]],
-"xcbc001298ddfc56b":[[3307],[5]],
-"x4fa29b426e6022c3":[[853],[9]],
-"x3e4996b2bede7a41":[[3371],[9]],
-"xce1a583bd8d746dd":[[2332],[2]],
-"x28ba4b0d67c813b3":[[3817],[7]],
-"x4ea9657864c90496":[[219],[7]],
-"x3a60da7d320b12a5":[[3964],[4]],
-"x2aba1787da6f2e88":[[723],[3]],
-"x309eb9bc2a5ea0a0":[[1382],[3]],
-"xece46c18fd49c9d7":[[3364],[3]],
-"xa223cbea6ed751d0":[[227],[2]],
-"xec63c107a4d7064d":[[723],[4]],
-"xbf3695b5ad84c201":[[3300],[3]],
-"xcf8d76dd4703b2e8":[[139],[13]],
-"x564fc37679a544f5":[[203],[3]],
-"xdf5c43bb843a2601":[[3372],[4]],
-"xc1298d44d6648b94":[[262],[7]],
-"x703645090f3c5bb3":[[900],[4]],
-"xa9fc8f941912366f":[[3306],[2]],
-"xd3cd068df077ef14":[[3178],[7]],
-"x57fe3acabd2ffd5c":[[3828],[4]],
-"xe4f76e0e2e0220":[[3112],[2]],
-"xe008423e92ecbd25":[[2852],[7]],
-"xd6defca810749adc":[[788],[7]],
-"x8dffd97cbc0f902":[[3938,2658],[35,19]],
-"xcb8e0b6529afac49":[[3690],[7]],
-"xb00a34eeb8f7bd65":[[658,528],[30,5]],
-"x96947aad29c3d557":[[4013],[3]],
-"x7d2b32549a53e080":[[2266],[7]],
-"x8a25f9b360663325":[[2594],[3]],
-"x9e0c5592493345ed":[[3169],[3]],
-"xa0e860c8f0960ef2":[[2349],[4]],
-"x7d6f11d7f68562c5":[[666],[3]],
-"x7db60a2c6280c919":[[1380],[7]],
-"x9cdfc28124e04e6f":[[334],[13]],
-"xaafd696b500de95d":[[1308],[5]],
-"xf98d19cfa5a319cb":[[3817],[12]],
-"x467635f1b3ec3046":[[3836],[8]],
-"xa76315643903920f":[[3307],[3]],
-"xe274f9f7258d650":[[2722],[5]],
-"x12ea4e8a0165abd8":[[2268],[4]],
-"x7951b2d3b4aad9af":[[2153,202,2152],[6,3,2]],
-"xc4b777e49805889e":[[788],[16]],
-"x8bf64c8f68f6ae27":[[2908],[7]],
-"x5a3031106e1cfbd6":[[796],[8]],
-"x9529dddf300751c":[[796],[4]],
-"x74604ae9cca0c730":[[2541],[3]],
-"x1291f6e34f50c4b3":[[157],[7]],
-"xfdca31c30371d126":[[324],[4]],
-"xe32fa6139e0a3f3d":[[3306],[4]],
-"x2cdb14c593060d33":[[2674],[12]],
-"xae687456cfcb5db1":[[3307],[2]],
-"x36cf4e5e4c2d5b97":[[1],[12]],
-"xc7c4db8517f10461":[[2217],[5]],
-"xbdc9a1acfa447902":[[204],[4]],
-"x30160e09091c3936":[[3956,3242],[7,4]],
-"x953a6d017be62c4d":[[209,536],[3,3]],
-"xb125bee75eac1e4e":[[730],[4]],
-"xa3dbe2b0a524ac70":[[733],[3]],
-"x2796d05a7074308a":[[3902],[3]],
-"x367a19cadf83313b":[[3104],[3]],
-"x3976eb6532ba2cd":[[3690],[1]],
-"x492e90b966552ec4":[[4020],[7]],
-"xbd7be5c24a5d7801":[[3963],[3]],
-"x97169168e9322a8c":[[1819],[3]],
-"x6a61c821a4e48883":[[3241],[2]],
-"x86d8bb962b79ada8":[[3947],[2]],
-"x70b4b27da9b2adb2":[[2203],[3]],
-"xaafa45d6c4750fdd":[[4020,2715],[10,4]],
-"xf319e37159c4b93f":[[258],[5]],
-"x341003fce1a84349":[[262],[4]],
-"x262648f829e9f32c":[[2915],[6]],
-"xa9ac35c28d3f604e":[[4020],[2]],
-"xff4e6c9775f79592":[[3365],[1]],
-"xbde94ff537b253b1":[[3699],[4]],
-"xf73276fed71aa3aa":[[3761],[6]],
-"x6cadd2ac7f2c7c8":[[1375],[3]],
-"xe2173e27e9a4f9a9":[[235],[3]],
-"x749c43be0926110d":[[2434],[11]],
-"xc2788c9351befe04":[[1380],[8]],
-"x7a82cb29a8baf385":[[405],[3]],
-"xc40b22255b11e2c0":[[1745],[6]],
-"x1c91225569f863f2":[[1185,222],[16,14]],
-"xf6200850823565ef":[[731],[8]],
-"xc6e6c089ef8f1ba6":[[2675],[3]],
-"x8b84d0f0724af6fa":[[1177],[3]],
-"x3683b6885ed5b175":[[139],[3]],
-"x7cf49bb0b34f5cc0":[[2154,1828],[4,4]],
-"x8c54fcebb4caea":[[649],[3]],
-"xc56416a4baf7a9a6":[[4013,3826],[9,8]],
-"xbdb3b41041e46238":[[652,648],[8,5]],
-"x3d012e692c71eb88":[[2023],[1]],
-"x6ea576670337e868":[[3956],[3]],
-"x8f404cdfd0cd068c":[[658],[5]],
-"x95696b2dd5d1f924":[[2203],[9]],
-"xeb1aceb95a14a5cc":[[1371],[4]],
-"x31f620c3cdbb6bb9":[[1187],[3]],
-"x1b1569bc46e346c6":[[723],[2]],
-"x1f00f343a80ab453":[[1763],[4]],
-"x83135288c92b6838":[[3242],[4]],
-"xbbd77b4208cf7978":[[926,454],[5,4]],
-"x96b5f2cc685c9b5d":[[1293],[6]],
-"xf4bd0ec2710eb95d":[[3641,3763,3389,2720,2715],[50,9,6,4,3]],
-"x215b5b3943003b6b":[[3690],[20]],
-"x1e0ed18d3393e6e5":[[3364],[3]],
-"x50947f4220a22148":[[1098],[10]],
-"x42aaf5389bb996e8":[[2608],[3]],
-"xe4e41a1080d74957":[[1431],[4]],
-"xd9bccdcd17f2a542":[[2851],[3]],
-"x4d29a6c0fc96b3f9":[[3902],[6]],
-"x9f7fb2dbcd92e3fd":[[334],[3]],
-"x8d41a48dac794205":[[3307,4013],[17,12]],
-"xbaabf32793b1f5e9":[[2915],[3]],
-"x250b92c24699ecc3":[[2203],[29]],
-"xe57bb70fa442cac":[[1618],[2]],
-"x9da9783f3cd3a590":[[3372],[15]],
-"x37e1dfb3db9124a6":[[3438],[5]],
-"x297422d89505908f":[[1162],[2]],
-"xb6f6060807ee24f3":[[1226],[4]],
-"xf1cb110e7412d303":[[3964],[4]],
-"xe46209024d777e4a":[[3699],[3]],
-"xb66475e5f1d15075":[[690],[6]],
-"xb95471b8ee0c425e":[[194],[3]],
-"x8e8576d6e5463598":[[3306],[8]],
-"x41e77db4fd9b08fe":[[3177],[4]],
-"x2653c58f936400e2":[[3699],[5]],
-"x2eb9d92d98178c2d":[[1997],[3]],
-"x6db14f3619c92e1a":[[2657],[3]],
-"xe568471d03b8524f":[[3168],[3]],
-"xfe8d6519a7f837ec":[[3795],[3]],
-"x4c7770213f33d0f7":[[1048],[6]],
-"xbb7dcc74462b1992":[[334],[3]],
-"x3a8a9dd39f02c635":[[3112],[6]],
-"xe627ada3067922b4":[[3308],[3]],
-"x21344044a64a95ef":[[3742],[21]],
-"xee56f4747e04d159":[[3964],[4]],
-"x87c1a23238acd74a":[[3947],[2]],
-"xcc0d9dc5dc246d42":[[3742],[4]],
-"x85fe13a9b39bfed3":[[82],[12]],
-"x4ba7036df066aca5":[[3892],[3]],
-"x58e9ac35bcd58e4d":[[2390],[3]],
-"x3525aa8a2313f838":[[3964],[13]],
-"xca4a20adff201ccc":[[2657],[3]],
-"x5b01580d6b3568f8":[[1681,1683],[35,11]],
-"x7cc28946c475948a":[[3307],[3]],
-"xa3d4cde727a2b06b":[[3626],[4]],
-"xcd82f0f5e80e77e3":[[82],[4]],
-"xa7068183ff6d1260":[[593],[3]],
-"xc3b046b33865ce7a":[[528],[3]],
-"x6a8364a0a4873fef":[[3958],[3]],
-"x670554a2166819ec":[[202],[13]],
-"xec23514fd6fcac87":[[2720],[10]],
-"x71c301294854d968":[[658],[2]],
-"x395bbce8d32a373a":[[3501],[6]],
-"xa94f52329a4c4db0":[[262],[6]],
-"x5b17cbd02d4644b5":[[2281,3902],[22,8]],
-"x90e340019b8de55f":[[262],[6]],
-"xbffd43f2ed53a9f7":[[2723],[18]],
-"xc822281bb16eb3c9":[[3761],[2]],
-"x774e372daff48247":[[3112],[6]],
-"x4603b78f91ce632c":[[1],[6]],
-"xd2371fbeb7bcaa27":[[2268,3956,3929],[175,24,17]],
-"xa9995580772293b3":[[262],[71]],
-"xc461a6dc249e77a4":[[1307],[11]],
-"x14a7bd7b22aa00be":[[1828],[3]],
-"x31aa8e43f1531107":[[2932],[3]],
-"xaadcef218c6cea76":[[209],[4]],
-"x48e2cecd227023cf":[[2722,2266],[7,4]],
-"xe18bfe93aa1e5ebb":[[1487],[4]],
-"xbab6489f40d5d40a":[[3763],[7]],
-"x76f3eafae60e63fe":[[75],[3]],
-"x6f720fe5ebbd971d":[[1561],[2]],
-"xf36c18d2e7a65d94":[[794],[4]],
-"xfca522421876218c":[[3902],[5]],
-"xd669c814af062022":[[1299],[4]],
-"x3d6e24dd331be44":[[4013],[4]],
-"xb71d2f6f107d0c69":[[861,157],[14,5]],
-"xfdfb41acf382ee86":[[2281],[5]],
-"x14c6c642034d2dc6":[[2850],[3]],
-"xbe18e982f745745d":[[3902],[4]],
-"x99cafeceb9eab0f3":[[3899],[6]],
-"x4f5f8afafeb47ec4":[[1187],[2]],
-"x6a6be7ca5ea095d3":[[148],[2]],
-"x6cfdf640423725ed":[[262],[14]],
-"xc1b208a2523f59cc":[[3902],[3]],
-"xe44ae88c8468c8ec":[[3961],[5]],
-"x751c005194f95c12":[[3316],[4]],
-"x98101f1a57865ab6":[[3],[3]],
-"xab9ca9534ea18b8f":[[1187],[32]],
-"x5a28d8efb60ee4f3":[[853,82,323],[4,4,3]],
-"x33b31d30b670419d":[[334],[21]],
-"x55b7059f84f22126":[[3956,3938],[6,6]],
-"x520d2ed43cd1fc41":[[3761],[7]],
-"xab80d0bd7113887d":[[3298],[3]],
-"x1722ae219288b2c4":[[2073],[2]],
-"x784a2664f22c9bde":[[157,262],[5,3]],
-"x152fc06183cdeb11":[[332,853,1738],[64,11,10]],
-"x5ed9adc43c89638a":[[157],[9]],
-"x9c4630f8613d6716":[[3364,4013,3690,3234,3169],[67,64,19,18,2]],
-"xff700ef2c77d5381":[[262,209],[11,6]],
-"x3291c596749d7c2":[[1699,262],[25,4]],
-"xc3b6c42eaa45c10b":[[332,148],[3,2]],
-"xf9795e2f34c804ae":[[3756],[3]],
-"x268f8f307ca1ed28":[[262],[11]],
-"x408d839d4e411ec8":[[1098],[24]],
-"x6b3d8faea1fb3469":[[235],[6]],
-"x53a9e43bbca73638":[[698],[10]],
-"xff24568495a4be41":[[3644],[7]],
-"x17d6ebc5ddc3c3ef":[[3389],[2]],
-"x60e68a09c05aab1d":[[3756],[5]],
-"xbaa80525b5898c14":[[2378],[6]],
-"x199dfc96e29516c3":[[148],[19]],
-"x8c01dae8915d4ee2":[[2915],[1]],
-"xf2d3748c8c925882":[[1176],[3]],
-"xcbd24b987989e2ec":[[1380,658,346],[22,19,11]],
-"x324859c07e562c16":[[1],[3]],
-"xa71156f28cde8acf":[[346],[33]],
-"x86f638774ca28ef1":[[3501],[3]],
-"x5f52adcb1a43a99a":[[262],[4]],
-"xdfeee3378e85e329":[[1682],[3]],
-"x55ea7e31c3987eeb":[[1382],[8]],
-"x2103ea02b5056ec6":[[918,788,731,796],[130,16,8,8]],
-"x4c0de5542d5e2ee9":[[3372,3817],[4,2]],
-"x7fb4866c2cfbac83":[[139],[7]],
-"x8705ea729bc6a419":[[3567],[3]],
-"x3b17e06f37bfda6d":[[2006],[3]],
-"x5984cffe7cb29819":[[148,405],[3,3]],
-"x5f5537f2a631e2c8":[[3749,3742],[30,6]],
-"x5a9f1aca22f6887e":[[157],[4]],
-"x502662dce7a7830c":[[203],[11]],
-"xa701ef5c9a812d93":[[324],[3]],
-"xce63b476238bef33":[[3749],[4]],
-"xc455641542ec5e7b":[[166],[4]],
-"xe0a3cf1a188a40e9":[[2931],[4]],
-"x6a5c78acd0046406":[[3891],[3]],
-"xf01e302ef6617517":[[788],[7]],
-"xc49cea41e90fd12":[[1681,262,75],[16,7,3]],
-"x51df44130903c046":[[3956],[3]],
-"x8897a0e0737392d":[[3938],[3]],
-"x65184160d1e7445":[[262],[6]],
-"xb58a0a40a39c1d09":[[3641],[3]],
-"x412755ac2ad3091c":[[1618],[6]],
-"x28f5504570cb314c":[[262],[4]],
-"x5f04bedeeec3d89e":[[1114],[7]],
-"x714588596be2217f":[[2932],[3]],
-"x6663bee88fb17e17":[[3501],[6]],
-"xd0d7fe730ca73027":[[2908],[3]],
-"x37cfffdc0d4b0120":[[3234],[2]],
-"xbfc232dac765d796":[[514],[3]],
-"xf70d3464c23f3ddb":[[4013,3690,3502,3177],[194,133,47,5]],
-"x2d0466108a21975c":[[2272],[4]],
-"x6101489550907aa5":[[137],[11]],
-"xf391de97c7d9912e":[[3763],[6]],
-"x552e7f2155b4c61d":[[262],[7]],
-"x5d7d3c15f72149b":[[2723],[5]],
-"xfd281e25edf76799":[[1458],[6]],
-"xb4a54148cea5b3e5":[[3761],[2]],
-"x3e2d712310dd79a9":[[3177],[2]],
-"x888677ce13bbcb3f":[[389],[23]],
-"xe130857b084dea4c":[[513],[3]],
-"xccbdc56bd768b3b6":[[216],[11]],
-"x495b878732817c0c":[[3242],[5]],
-"xbe8ab50ea9f927c5":[[139],[3]],
-"x552d8c2085b08715":[[3309],[3]],
-"xb7e73ef3899c80a9":[[339,396,405,528],[292,44,18,5]],
-"x3629846139fca0f9":[[1708],[6]],
-"xc67e1d807c0deb10":[[2266],[5]],
-"x531e815c01c2a468":[[1098],[3]],
-"x3d5cdb69606b60e9":[[3307],[5]],
-"xabff54035ef64c13":[[2088],[3]],
-"x82fa38d44aafbce4":[[262],[4]],
-"xb376068a34b64e6b":[[983],[9]],
-"x594d766b97c0acf3":[[3177],[3]],
-"xa709c8b2ad36c122":[[593],[6]],
-"x9ce248cdb59eedcb":[[3902],[8]],
-"xb0219e9d3976648f":[[2396],[2]],
-"x783007fe227c897a":[[2737],[6]],
-"x58f4b0ec64a6e339":[[2908],[2]],
-"xd3df7edf73d006b0":[[861],[9]],
-"x4d18333929f24fa6":[[452],[5]],
-"x79ed1875c2911f96":[[333],[8]],
-"xd7e87b6e2e73aea9":[[1380],[3]],
-"xe2ea9f51b01c42da":[[3299,3234],[115,83]],
-"x68877f7317b48ca3":[[918,731],[17,7]],
-"x31447ac1eb12f980":[[1371],[6]],
-"xd5762e997c828b41":[[1772],[5]],
-"xf6d227e8c02e684f":[[157],[6]],
-"xd9dea2bc52745fbc":[[1810],[1]],
-"xac92b52108bba1f6":[[2982],[3]],
-"x5068bb7f6a4a60db":[[204],[6]],
-"xcfe7bce4ecbc862e":[[3761,3307],[65,7]],
-"xaaed310683c4654a":[[3194],[5]],
-"xa7a6c68101a63f79":[[3502],[5]],
-"xc0ad43aa0c5c85a4":[[148],[6]],
-"x654ef10bdbc17341":[[129],[3]],
-"x5f17bde75b400753":[[137],[4]],
-"xf5653d713e453ee4":[[213],[3]],
-"xb380ca7d8f44d804":[[2463],[3]],
-"x6cae38c60feb9b00":[[666],[12]],
-"x60c9f6a8dbac59dc":[[2463,2477],[129,30]],
-"x555140269140b24":[[1438],[3]],
-"xa2a690b62d88690d":[[3177],[4]],
-"x15e3625831bf51d7":[[334,405],[38,8]],
-"x1442c34f5257ba25":[[262],[5]],
-"xbd303db9f11846f1":[[2477,2],[10,3]],
-"x6d96c0207f3a9cf":[[3235],[3]],
-"xb6431a6db5ee8e98":[[148],[4]],
-"x60a482fc76197730":[[2740],[3]],
-"xeb1026449ba018b2":[[4013],[6]],
-"xfd9cbf64a8904c69":[[983],[5]],
-"xf13c49482f6301a0":[[3494],[2]],
-"x150c16856220845":[[4013],[2]],
-"x47ba0d8728c87216":[[75],[15]],
-"x90c01b5992bc2a46":[[3300],[8]],
-"xa731173ad10d9581":[[3177,3307,3234],[32,8,2]],
-"xe97f22769fac82a2":[[2463],[26]],
-"xfc544b33ea5c8c44":[[82],[16]],
-"xf2ab67233826fd0a":[[332,339,213],[9,8,5]],
-"x94b8176de9da79d5":[[3242],[3]],
-"x8029898df42102dd":[[2931],[7]],
-"x80c680e8626aebab":[[75],[4]],
-"xe434d52226759e3e":[[3374,3365],[5,3]],
-"xbb234c16fb330a7e":[[1828],[4]],
-"xb3f843c1074431de":[[666,148],[8,5]],
-"x48b719dc95a341eb":[[262,723,666,593],[61,7,4,4]],
-"x8c8f4a4c6502c459":[[204],[8]],
-"x12116a5dffe80032":[[75],[74]],
-"x8ac3338b3068fb30":[[2669],[3]],
-"x38716e1745b4375d":[[536],[8]],
-"x59cf14ca069957ec":[[2348],[7]],
-"xecd5b3ab1b05a680":[[2908],[3]],
-"xe867f0a2f9db6645":[[796],[4]],
-"xb2d2ba7c1d50fd67":[[1699],[21]],
-"xadd35ec6a7f0a0de":[[3817],[1]],
-"x599ce728c2e2e24d":[[2203,3763,2090],[37,4,4]],
-"x66f2b58d1fb3e884":[[139],[4]],
-"xd82a0f294dc906ed":[[709,536,593,601],[37,18,5,5]],
-"xce8151d41272bd91":[[2331],[6]],
-"x1c2a9eab6fa9dead":[[3373],[3]],
-"xcb0db8ea5ed8a0bf":[[148],[8]],
-"x766eda1689553ff7":[[3307],[9]],
-"xde94930e6f6f5bd9":[[1380],[3]],
-"xd5b65bbba2817a40":[[3298],[5]],
-"x147aff5b84d38b40":[[2203],[18]],
-"x8203f273118737b8":[[3305],[4]],
-"x1e14baa0827d8bf7":[[67],[3]],
-"x1698db191dc5311f":[[730],[5]],
-"xa5f2fb174eadcbd9":[[3],[4]],
-"xf0fd3f900cbd9e8":[[82],[5]],
-"xc51741374c5d41dd":[[3509],[3]],
-"xf45c06ac2b75c227":[[601],[6]],
-"x2f61de1e8d94c6ef":[[2],[8]],
-"x76feaf943412e3f6":[[2915],[5]],
-"x16ebb7d0601d213":[[983],[4]],
-"xd2ca7b26e6a2f05":[[3821],[8]],
-"x8ba7f709c1da0390":[[137],[5]],
-"x86f6ab5d7330c920":[[3567],[4]],
-"x928d909338ea0591":[[137],[4]],
-"x766fd853a06c74a4":[[3761],[7]],
-"x646cd375f9892e3b":[[139],[6]],
-"x266e2c55a780aef7":[[2915],[6]],
-"x296700083389b0b4":[[3372],[3]],
-"x56387bafa0580d33":[[4013],[2]],
-"x1aa25dc38f49d250":[[3177],[6]],
-"xa4fbe7ac7fa92617":[[4023],[6]],
-"x39c132e8a0db8e9d":[[666,262],[4,4]],
-"x376ebfe2dd7bace0":[[3902,3756],[9,9]],
-"x7cfdf5fd20a65fb1":[[227],[4]],
-"xfb04bbcd96baabf8":[[594,658],[46,13]],
-"xf68941fc7161c956":[[2023],[6]],
-"x20ab58baaa093375":[[3699],[9]],
-"x902478b02d988476":[[918],[4]],
-"xb9dbc6072a4a7fe0":[[2152],[4]],
-"xafba738aae11b376":[[129],[5]],
-"x29810168252880c":[[1827,1762],[15,6]],
-"xb406f880db856a11":[[983],[14]],
-"xfe163061942c35":[[3234],[7]],
-"x793bb8ffdd76358a":[[3964],[6]],
-"xe2c71963c681a99d":[[3169],[2]],
-"xfc0e454fa77b2b80":[[3956],[2]],
-"x79a9f6bb95749872":[[1371],[6]],
-"xbc27489c6571e50a":[[396,258],[10,6]],
-"xdd1c457f09fe1984":[[1611],[2]],
-"x6b21c9a0da334958":[[2136],[1]],
-"x5ec5b60f56f56028":[[1802,983],[5,3]],
-"xf6fc7462adb5ab28":[[204],[6]],
-"x50d76b19707158e7":[[3962],[1]],
-"x6b36e8631f83b7b":[[148],[2]],
-"xf2e64904c90146d3":[[2722],[6]],
-"x3a7a1765357cbebb":[[258],[271]],
-"x57741833ad27fe94":[[3372,3690,3299,3177,3502],[108,101,76,10,7]],
-"x94be0d268ef97832":[[3112,2715,3902],[7,4,2]],
-"xe1a03978c57a76fd":[[594],[5]],
-"x8bdcd40fc792101c":[[3429],[6]],
-"xb22296245acece29":[[3372],[2]],
-"x335da0d99d8cf40":[[339],[4]],
-"x3865a1824614f70e":[[3234],[4]],
-"x2a44f4f92fed5273":[[1932],[2]],
-"x98127bb2745a612d":[[3690],[4]],
-"x2922c5c3be13729a":[[166],[13]],
-"x2574e1f7db388548":[[2593],[6]],
-"x942586ef7d290db6":[[657],[6]],
-"x34e97d5b8d4a03a1":[[3242],[8]],
-"x93f75a853b33942e":[[2291],[3]],
-"x56b2d949e89f2de9":[[1941],[5]],
-"x95e82d6fc1e6f699":[[1308],[4]],
-"xdfd4f172df44e9c4":[[3191],[6]],
-"x6ea7393ce84bed5f":[[3958],[7]],
-"x7d922e3dd340c97d":[[1098],[3]],
-"x4e2556d3a1a12d32":[[3242],[2]],
-"xdfb86383d53719cb":[[1810],[4]],
-"x12663e3fa02e9eeb":[[3045],[2]],
-"x384e0e8a6b61f0d7":[[3699],[23]],
-"x69e0aa5506b833cd":[[918],[6]],
-"x2a0429950aca49eb":[[405],[65]],
-"xea8e6da79f1f4805":[[3112],[3]],
-"x619727139a8ee2d6":[[3178],[5]],
-"x50839d9e47eb9f72":[[3821],[4]],
-"x88ce17304a522342":[[1227],[3]],
-"xbb5d197a18b8327c":[[709],[4]],
-"xea663328aebca96":[[3828,2722],[4,1]],
-"xef5c3abf9493a326":[[2919],[8]],
-"x8907fcc3df5fc3d3":[[3372],[15]],
-"x7fc18ed50ade5141":[[3742],[1]],
-"x4ddfd180d3b39f44":[[2915],[7]],
-"x4116faf7c1c5ca41":[[3902],[2]],
-"xd2d87971900aa20e":[[3642],[6]],
-"xa6b63580f63a800a":[[717],[3]],
-"x27cfbfcb92f7871d":[[259],[3]],
-"x3395e95c8f5ad823":[[3309],[3]],
-"x54148d8dc6e93b9f":[[2724],[3]],
-"x2111e925cf32b552":[[717],[6]],
-"xcd302791427b54f2":[[1568],[11]],
-"xaf199172eae58ee9":[[3956],[3]],
-"x66fa5875915abb94":[[536],[5]],
-"x9265234ee1ac502b":[[3192],[4]],
-"xc69fcaed13d4437f":[[2713],[5]],
-"x30825fb8e5b7cc2a":[[2933],[6]],
-"x8ee852da8c2ae2fd":[[3956],[2]],
-"x6cbbbdb0e1f965d2":[[75],[8]],
-"x45e02269abfa909f":[[262],[7]],
-"x1b0748fc7e923329":[[2128,2477],[205,5]],
-"xfaa790a2cc83ff9b":[[853,983],[19,5]],
-"x700fee6eaa201062":[[4015],[4]],
-"x227ed144d3539dd3":[[3826,3964],[51,16]],
-"x88a017dce9dd7709":[[3929,3169],[18,2]],
-"x7dd934036c53b386":[[3374],[3]],
-"x2a40da7ca9d06226":[[3178],[2]],
-"x6ca85932cb230b5a":[[3699],[4]],
-"xad06246a6ccd2ef":[[2266],[5]],
-"xb8027513029512e7":[[2347],[2]],
-"xcbd33c5ac00fcd88":[[1699],[4]],
-"x81d225b8e9e4f554":[[3299],[2]],
-"x9a48c7d07935178a":[[333],[3]],
-"x5c3b37d2a596f3de":[[1179],[5]],
-"x24e1fccd1c42021c":[[901],[4]],
-"x841193c423125187":[[82],[21]],
-"xad547a9dff9c2f0d":[[405],[10]],
-"x9b7d07ed6f3e23bf":[[146],[3]],
-"x1d466e01b526a31f":[[1763],[7]],
-"xeebe279e5e0debe6":[[3688],[4]],
-"x41ee1888ae903ce7":[[3324],[3]],
-"x13a0cb4b08c808c4":[[3169,3756],[156,2]],
-"x65ad07222d6f5e2b":[[82],[4]],
-"xe1d06bfd9101922d":[[1827],[3]],
-"x943f2054a9de24a7":[[3112],[6]],
-"x6cf6872965ee9ebd":[[334],[8]],
-"x39a3a05df26c9efe":[[1698,324],[12,11]],
-"x22d53a03c72aa5fc":[[3642],[6]],
-"x9df2ecba6c58d0ee":[[593],[4]],
-"x356243d51c61f009":[[2460],[3]],
-"xd7736f4ba862e3d2":[[323,593,166,796],[33,20,11,3]],
-"xcfef41f7cdf7e8e2":[[2931],[3]],
-"x7849e5323515351e":[[262],[3]],
-"x15646417b3ee34bd":[[4013],[6]],
-"x548f9cd584d1e24":[[3642],[5]],
-"x60275eae74371dfa":[[1253,1699],[3,2]],
-"xaca08b675ae4f624":[[1762,262],[8,6]],
-"x43a53d55c94b0e4c":[[3690,3112],[12,5]],
-"xf49e62cbfe9fe30a":[[2292],[3]],
-"x5bfb99ad1119a672":[[3242,3742,3690,3234,3112],[33,26,9,8,2]],
-"x9f6f502d865da362":[[1187],[27]],
-"xfa2846501c830b70":[[528,222],[5,4]],
-"x65b1ca90db2086ed":[[2072],[6]],
-"x3d553e66b1fbe081":[[2163],[4]],
-"x2872783f85319688":[[1676],[4]],
-"xa6ca5676ad551ef9":[[2715],[4]],
-"x4ed49717e86bfd1a":[[3902,2224],[6,4]],
-"x10cb79131377c2a5":[[3169],[3]],
-"xf4ef8edea63c5555":[[322],[6]],
-"xb6dab19b147e15f6":[[3372],[2]],
-"x272fcb51915569ab":[[324],[6]],
-"x4d12c8dac870d77d":[[1876],[6]],
-"x61630b7dc5ee0295":[[2131],[2]],
-"x1c17e6f33ad35931":[[396],[2]],
-"xf014ac58f8323218":[[3643],[3]],
-"xe339773b2fac2976":[[3963],[3]],
-"xd902c1641af58298":[[2999],[8]],
-"x3128874f898156a8":[[1828],[11]],
-"x954c0a7bdebd33ab":[[203],[53]],
-"xbbfe0d9a302be646":[[3690],[9]],
-"x5877b6cd9a8f043b":[[262],[4]],
-"x31dc5ba0bca106e7":[[794],[5]],
-"x70018494cccc925c":[[991,853],[6,3]],
-"xe046bfdd5736b32e":[[2],[6]],
-"x90ece01652d91050":[[788],[7]],
-"x6182452ae809126":[[2349],[6]],
-"x9c1de85a17d933fd":[[1681],[3]],
-"xc247ae99171f302c":[[3642],[3]],
-"xadb949337b9bb1a5":[[3742],[3]],
-"x4a9a3d606b8b0bfb":[[3964],[3]],
-"x28a934dceadd5ae9":[[3169],[1]],
-"xd43f40c9a601bbcd":[[731],[13]],
-"xa8ae519dc2e95b10":[[3811],[25]],
-"xc76983f5a1069744":[[1956],[2]],
-"xfe789a9c97b6231e":[[216],[4]],
-"x22503fd521ac0938":[[3643],[5]],
-"x2e438436a858c86b":[[1828],[6]],
-"x5d8e8384940cd727":[[323],[2]],
-"xfd8c9249ac336673":[[709],[4]],
-"x7e62152dc613fae1":[[3779],[4]],
-"x98b6a72a3a164fbc":[[1347],[5]],
-"x237addfdf739dd2c":[[983],[5]],
-"xd08dff69e20bb988":[[268],[4]],
-"xae23396cea5f3f9b":[[1699],[3]],
-"xc79599e9c4baa6c":[[3929],[10]],
-"xdaac116c5ce199eb":[[601],[7]],
-"x2ce40528f66992a2":[[3964],[8]],
-"xeff99546a21f9663":[[1748],[7]],
-"xdeb6bc47389b93f5":[[1382],[8]],
-"x5838074734aa9464":[[211],[5]],
-"x2fb816f4430ca90c":[[332],[3]],
-"xc3c7b9374ad6bb88":[[1699],[2]],
-"xeffe51d63542b0f2":[[4013],[7]],
-"xbfe7fe87c7192091":[[405],[4]],
-"x72a0adb8a457ac96":[[166],[3]],
-"xa061b8c54614a1d5":[[658],[3]],
-"x6e22fb992666c05d":[[3307],[5]],
-"x451dcb836adcc2f":[[2852],[9]],
-"x32661fff264140fb":[[3374],[1]],
-"x315cf4802d30247":[[1753],[3]],
-"xad83928297ce7c3d":[[2915],[12]],
-"x24f1cddcb7dddf20":[[3699,3956],[4,1]],
-"x49c5c0f1b0609dec":[[323],[4]],
-"x14fd528ca79862f0":[[1697],[5]],
-"xcee807a38ab22dfc":[[1164],[6]],
-"x1cd3f9d7c83f5693":[[3821],[2]],
-"x57a6c874a6d6ec09":[[1747],[6]],
-"x8dae64804c6a577a":[[3902],[4]],
-"x92cd023a84ef2212":[[3902],[3]],
-"xcd608f82d3520c43":[[2934],[6]],
-"xe0725b6b9a310fb8":[[3808],[5]],
-"x1e09fc0efa6df547":[[3104],[5]],
-"x8ab8f0e9ac77e298":[[3828],[6]],
-"xa2aefcba26671058":[[1757],[7]],
-"x28623cfb43e864a4":[[1699,137],[25,4]],
-"x54dd11e1b7992e2a":[[407],[1]],
-"x14197e17d637b21":[[3826],[17]],
-"x9579705cae2e1388":[[3242],[1]],
-"x26ce42fdd68a089":[[1122],[4]],
-"x49d941453c74d42b":[[138],[6]],
-"x60f0c3a46165957d":[[2915],[7]],
-"x449112ed9f4796ef":[[1618,2266,1632],[48,5,2]],
-"xd53030eeacb79db4":[[649],[5]],
-"xf4c62c5338f33c7e":[[1830],[6]],
-"x8c9d237aa8ddf826":[[3112,3298],[6,4]],
-"x4301f8a8ad9a53a5":[[3242],[5]],
-"x8e4c2dc304518d3":[[1699,1380],[9,4]],
-"x4de9e483b02e176d":[[166],[6]],
-"xd80a13f9b11c9719":[[2107],[11]],
-"x6e2c7cd58b807bc1":[[1618,3902],[6,2]],
-"xa841cfc3690b417":[[3868],[6]],
-"xfe3596a6c227545e":[[3902],[6]],
-"xb49987a9ddd15f90":[[2227],[2]],
-"x9787b8df6b4bf609":[[3112,3690],[15,2]],
-"x654860d97f5c8c76":[[3958],[2]],
-"x88ee3e950b454c8d":[[1697],[1]],
-"x5c6d66af0c2eb505":[[1250],[4]],
-"xf8f9f615065dcbaf":[[853],[1]],
-"x387ec3b5e17c8e8c":[[334,82],[243,47]],
-"x7f256feceb22e54e":[[3372],[3]],
-"x987fcd70ff887911":[[3902],[5]],
-"x82fa65b06e8472e7":[[231],[1]],
-"x37c91d7dc23780ac":[[269],[4]],
-"x167cf090ab54696c":[[1745],[12]],
-"xce70e9df3177bfb9":[[3699],[5]],
-"x6bf7273246b76f06":[[4013],[46]],
-"xa285a86a1e0b0543":[[396],[3]],
-"xbe033a4d33dd1fa7":[[3749],[4]],
-"x366f23fc66132dd":[[4020],[6]],
-"xe20a799e53da58a1":[[3947],[2]],
-"xea308497131b206d":[[3608],[2]],
-"xdeba8244d86853f0":[[2910],[2]],
-"xed61bd9096938458":[[3306],[2]],
-"xa5da8dc7c7c714ea":[[983],[2]],
-"xdaf7f5287ee426af":[[787],[6]],
-"x1db33af9e061103":[[3699],[1]],
-"xd1800319952252f6":[[1652],[5]],
-"x584ff16bdcec6b67":[[262],[10]],
-"xa4e341f7cde82119":[[157],[7]],
-"xf16ff1d6cb0f9d3f":[[592],[1]],
-"xbdb7f31895fd5539":[[405,407],[25,6]],
-"x49bca0fb1fe1c23a":[[334],[11]],
-"xbacdb796f7e3aad5":[[3299],[3]],
-"x586becbe32a30cfb":[[1226],[2]],
-"x9b7d487d08f77dca":[[339],[1]],
-"xa4228b9206fc7afc":[[1228],[1]],
-"xf52df159148c715d":[[3761,3641],[21,3]],
-"xa92bb18a9c18b653":[[82],[8]],
-"x693d49ba56112c89":[[782],[3]],
-"x8d25f765783cd0b6":[[594],[24]],
-"xc9990a31a1fb1c8":[[2851],[2]],
-"xb5af130b387a9b9d":[[334],[13]],
-"x57388555723eaa35":[[82],[8]],
-"xabb48cf6e89c1b90":[[2851,3567],[7,4]],
-"x859ec5191b6a3a9c":[[3299,3307],[14,3]],
-"x145f9b72f171b2f1":[[3307],[5]],
-"xd3493410a14f31b1":[[3234],[6]],
-"x63158be7cf523ad3":[[3169,3307],[14,14]],
-"xdf8ba5f556d2b1ff":[[2332],[3]],
-"x976bdcd90c4df3e3":[[788,2,202],[251,27,3]],
-"xb2b2c3cd16ea3032":[[1763,405],[181,20]],
-"x50f5298c6919a9b9":[[166],[2]],
-"x301c637531f50af3":[[733],[2]],
-"xee055dbb7a2b1a53":[[1608],[3]],
-"xeaf6cb1d51f4ab6":[[1308],[4]],
-"x4ac495fc30918b28":[[1375],[2]],
-"xe32862f062685e30":[[3297],[3]],
-"xdd210cf5a411548":[[3169],[8]],
-"xc1113c06efa382be":[[4013],[1]],
-"x1edd0807484d289d":[[788],[5]],
-"xc63b0355439cc5b9":[[1049],[5]],
-"x68e41c9ff4613f4":[[194],[6]],
-"x77f29db4e6470c7e":[[590],[6]],
-"x891b5c7df7e1ad22":[[3690],[8]],
-"xb91fd651e536b0e4":[[2908],[2]],
-"x39476ea43460b06b":[[2931],[6]],
-"x3f8601f267498e59":[[528],[2]],
-"xdfae04b151a1a477":[[2331],[5]],
-"xad38e518b2bb0b4a":[[1632],[11]],
-"x1b32b7ae572554f6":[[148],[3]],
-"x8818541a43909dcf":[[2258],[11]],
-"xdae1b3321688dad8":[[2193],[4]],
-"x7793659fd47579d8":[[334],[23]],
-"x9c576f25152857b8":[[1153],[4]],
-"x3926044333358334":[[2396],[4]],
-"xeb90b00abdb97663":[[1437],[3]],
-"xb8a9819f5b2b52db":[[2723],[18]],
-"xeb33f4ff3a94287f":[[268],[4]],
-"x6e4c8d746f0b5845":[[3817,3951],[15,5]],
-"x686f187858fb789b":[[3902],[1]],
-"x9815b513f85fdb77":[[1562],[4]],
-"x5364440a3f618601":[[2218],[5]],
-"x9fe9c6a29dd475a3":[[2334],[4]],
-"x923843c1e002f7bf":[[129],[2]],
-"xeb09f24399d4fc62":[[3699],[11]],
-"x6b0bf2f780f9c8b":[[258,1355,3],[34,17,5]],
-"x60d93b6e15659d79":[[3811],[8]],
-"x2edd806eab19b8bb":[[796],[12]],
-"x383084c7d86b4a47":[[75],[3]],
-"x3eeff1b45de25b46":[[3373],[13]],
-"xff73bf94c797b7ef":[[1765],[9]],
-"xda215074fcfa2e79":[[137],[1]],
-"x13521106ffd2148c":[[2715],[2]],
-"xede38e994ba58c7a":[[3958],[1]],
-"xaf73539bbfead05b":[[3957],[3]],
-"x2f133fffb41fe840":[[3177],[4]],
-"x7b9e23b7056353":[[721],[5]],
-"x1e6c17fb1e865b07":[[398],[2]],
-"x81704760e84796bd":[[725],[5]],
-"x10cefbda2701e8bd":[[3811],[4]],
-"xb6565cfca59d660a":[[1699],[3]],
-"x9d579d572b3b74b0":[[1438],[3]],
-"x84a56231fe03a84b":[[204],[4]],
-"xfc7177a8c1fb94c":[[1180],[5]],
-"xa0dcd23d58dcf43":[[1764],[12]],
-"x2d3888dac361814a":[[3902,3299,3307],[77,63,8]],
-"x3d51adfa018f3fae":[[1180],[3]],
-"x502e0f4332be5808":[[3958],[7]],
-"xd5f99ecf265c618e":[[166],[5]],
-"x14dbc1f8bde54208":[[3699],[3]],
-"xdbf36766d4e829bc":[[2852],[3]],
-"x5741bb8bf5928ca9":[[2919,3902],[10,8]],
-"xd409dccb64de95fa":[[3756],[3]],
-"xa46d72a3b22bd70c":[[139],[6]],
-"xae77212009906fdd":[[166],[2]],
-"x1725e05a5f9fcb57":[[146],[3]],
-"x54906f45af668b41":[[262],[3]],
-"x458f6d5b7e830fa7":[[138],[4]],
-"x1cd9a9737d29056f":[[2331],[5]],
-"xae0400c8e9255d71":[[1618],[4]],
-"xbea6a7a0e84ba9bb":[[2334],[4]],
-"xd9f5609a2755f49":[[918],[3]],
-"x44881d88296c1e2b":[[137],[4]],
-"xc9c7617c91d58e88":[[67],[3]],
-"xcad1bab6a94a50ff":[[3827],[2]],
-"x8c3e57d85518114a":[[2867],[2]],
-"x54f9ed2d2624e28d":[[3828],[2]],
-"x1a2de47b85d4cd1f":[[3047],[11]],
-"xf4221d6a5f5a5970":[[2477],[2]],
-"x4e2b227bd6a82d7f":[[82,405],[8,7]],
-"xd8d3c1bcea10570e":[[1355],[5]],
-"xea4b427b57f7bd80":[[918],[8]],
-"x286f37c7c80d1678":[[3763],[2]],
-"x9eded05059fd3b36":[[594],[3]],
-"xbb96df5afefc821f":[[2724],[4]],
-"xc4641b50f8b74e70":[[3169],[6]],
-"x553c89f44b3b322c":[[788],[2]],
-"xe82a9465d5ac20ab":[[1348,1375,593],[6,5,3]],
-"x46ed7dccdbdc6927":[[1681],[1]],
-"x24c1a29cc124eda":[[339],[23]],
-"xe8fa71cad1cce8e6":[[725],[10]],
-"xed8ebe296aa49628":[[528],[3]],
-"xebde8a0e24f135c2":[[1699,262],[9,2]],
-"xf2eca1e7efa8928f":[[1308],[6]],
-"x84e8ad0f38cfc499":[[3893],[4]],
-"x4a7fef940fa81867":[[2202],[3]],
-"x94f74a35e9c9430f":[[2397,4031],[13,3]],
-"x234a303c8a5d7e4f":[[724],[6]],
-"x6ad1664e860d1886":[[1123],[9]],
-"x38cadad8ae49351c":[[235],[3]],
-"x6304fcaa0cd7c3c0":[[1180],[236]],
-"x24fdf3dd898d4fbe":[[658],[14]],
-"xda3d73680579b8f1":[[3761],[5]],
-"x8e6529feec35fb47":[[3756],[5]],
-"x3d3ef24a123e1696":[[773],[9]],
-"x20a475050d99ec9":[[3299],[40]],
-"x6971ce301cb40a82":[[3234],[2]],
-"x259124b8dfd3f153":[[262],[6]],
-"x7c1da35c5d3cf2be":[[405,731],[22,2]],
-"x80ee0cd294b8aa6f":[[641],[67]],
-"xebf72f1d8199eabc":[[3164],[80]],
-"x2e51604ca068ce6f":[[75],[11]],
-"xa416c5a5bd20882":[[3808],[2]],
-"xad7084f6d8c5a890":[[1762,666],[4,2]],
-"x999d5834d0161522":[[1307],[41]],
-"x3c73daec832b8ab3":[[339],[25]],
-"xef323f153ba9f2d":[[332,2323],[7,4]],
-"x740132e54c0f4687":[[1544],[3]],
-"xa0b6c69dae2bfac0":[[1058],[6]],
-"xd03b038ab2b7a30e":[[203],[10]],
-"xa1b1bd5937c2b273":[[3690],[4]],
-"xbe7c2e26b3b914ad":[[2349],[9]],
-"x49b9b593b8b97b97":[[917],[6]],
-"xdfdf0484da8467ce":[[1828],[6]],
-"xe03b80a282ca0f1e":[[1635],[5]],
-"xfd9f52a9298b87a8":[[3779],[7]],
-"xd1d67f0e6c90de09":[[1699],[5]],
-"xebcce60cd25e7d14":[[3690],[4]],
-"xf416588551328641":[[2006],[3]],
-"xd3e16a7edd2460d2":[[166],[4]],
-"x92ede28bac7791d8":[[262],[7]],
-"x58964433c6e09498":[[1380],[3]],
-"x587f555996267826":[[275],[6]],
-"x7c498cc6121aab19":[[2722],[2]],
-"x5f4ccdf86252caf1":[[339,129],[4,2]],
-"x5a8487aedb388e25":[[3298],[2]],
-"x95f2f9300217a718":[[3836],[5]],
-"xc86f7b69cc4f4d47":[[592],[3]],
-"xd69ebe2d192dfe35":[[917],[3]],
-"x505c95f1e56a5c3e":[[2266,3956,3929,3242,3234],[104,90,42,8,2]],
-"x6d795bfa70dad24c":[[3761],[7]],
-"x10a289fd147bd4d3":[[1164],[6]],
-"x9fed29d0118cb17e":[[1699,262],[9,3]],
-"x697e7b4ebaab48c0":[[1810],[13]],
-"xfa1e7e0c3100f7a8":[[2479],[1]],
-"x17f603a01a3ba169":[[3827],[3]],
-"xabb66574d452540a":[[3699],[6]],
-"xf8b15342c022cb1b":[[861,2325,2355],[49,14,4]],
-"x86f6c8fbe9803d2":[[4013],[2]],
-"xd33f7739a5c9d388":[[731,324],[146,6]],
-"x8a5ce33f6dc1b346":[[2097],[2]],
-"xaf20702f17ee110a":[[324],[5]],
-"x7f5277a1ede7e8d":[[3958,3742],[41,2]],
-"x829f041b8648ab25":[[3494],[4]],
-"xd6d9b27d2a2f26dd":[[3192],[2]],
-"xda9530d97d1d5493":[[2201],[3]],
-"x28f895a884f04950":[[716],[1]],
-"x6d876bb9418b6be2":[[1619],[3]],
-"x9d31eff056281f64":[[1293],[3]],
-"xaf7728b9c0b52721":[[334],[40]],
-"x16fd97873406ee0d":[[2594],[3]],
-"xb9dc54bf0128ee1e":[[789],[6]],
-"xc31417c14695fcbd":[[2266],[4]],
-"xe149d5e1b4f7776a":[[3300],[4]],
-"x614bbf40a6da18aa":[[3761],[3]],
-"x55dd918a3fb60c31":[[3763],[3]],
-"x929555033e151e41":[[1104],[4]],
-"x3f4eae57403efff4":[[2131],[9]],
-"xab04e1f0d95e9878":[[166],[3]],
-"x3faa5b73172e8cd4":[[405],[3]],
-"xbe7246d0dd0c3787":[[75],[3]],
-"x8cfc810e9cf8e80d":[[3902],[9]],
-"x8faf4c7b25a5d17d":[[2290],[3]],
-"x76a6c23d0f4d75bd":[[3902],[7]],
-"x993c62cd1cb5161e":[[2852],[3]],
-"x1c9622d153442d9f":[[2201,2217],[7,2]],
-"x7dc3e779eb285cc5":[[1577],[15]],
-"xe8cc986f92a717de":[[3373],[9]],
-"x230a6e66236cf831":[[3112],[4]],
-"x873a88e1a879d3bf":[[1764],[3]],
-"xd10767b1aa4535d9":[[1803],[8]],
-"xf99a4d4409b71542":[[2851],[12]],
-"x8000aff130fe2c45":[[658],[2]],
-"xa182801e9e0eadcf":[[82],[4]],
-"x54659bab913f931":[[731],[20]],
-"x1e673427785013a8":[[2107],[4]],
-"xdbdbb3d8e29002e6":[[139],[3]],
-"xe298caa1c2377646":[[2023],[6]],
-"xe9a485156014dfc9":[[3761,3929],[8,5]],
-"xa6fbefaa585ec71d":[[3641],[3]],
-"x6607b4003716f967":[[659],[3]],
-"xbdfe0e3e1152d7d3":[[4020],[3]],
-"xa2f88e973a23b03d":[[1959],[5]],
-"x2255dff770835e33":[[157],[44]],
-"x5ef677b38202e6e3":[[733],[6]],
-"x3b016d1828962a13":[[405],[11]],
-"xe466542bd1359efd":[[1828],[3]],
-"x23e78a76e1cf9b05":[[211],[17]],
-"x9d2dcee230801409":[[1763],[14]],
-"xdb4398a4ad0ab753":[[788,405],[9,4]],
-"x9785c70c2b674ca":[[731],[6]],
-"xc60e64ae1d86b9a9":[[3690],[3]],
-"x5c8ad4553acb71be":[[339],[6]],
-"x99083827e6cb3147":[[4031],[2]],
-"x5d3984107d8708c1":[[262,75],[9,4]],
-"x7fdfbbf4e96c36f4":[[3763],[9]],
-"xaee79b7716252996":[[192],[5]],
-"x4cf8314850ebc29b":[[3242],[5]],
-"xad41723b6f5f6cd5":[[2414],[13]],
-"x93807dad26faea0e":[[3826],[16]],
-"xe605039d623c0a6a":[[1503],[3]],
-"xe74180801436f8c3":[[593],[3]],
-"x444735c954e8bfa4":[[1355],[3]],
-"xb2b6a77f5c21bad":[[1681],[5]],
-"xe18c31e687af79a1":[[918,82],[21,8]],
-"xe42a4341e88be9c6":[[3902],[4]],
-"xd9c57dd1f3a9d1b6":[[3234],[7]],
-"xfa672f4b6ce938":[[3699],[6]],
-"x79cc23c2f9a2bda7":[[2331],[9]],
-"xbc2502f3cbe1ddd":[[2347],[8]],
-"x793145936182b813":[[2266,3112],[17,3]],
-"xef6f28528bc7e527":[[3749],[2]],
-"x7a8b4161aef38c76":[[790],[3]],
-"x33bf10c1b83e1c61":[[730],[6]],
-"x879093a4f4b6c685":[[3,788],[11,4]],
-"x6bcad6bedef1df5d":[[659],[17]],
-"xe8d7770ceff11c08":[[1746],[6]],
-"xeb08fd67426e4f91":[[1763],[8]],
-"x7167cb3ae62b57ea":[[139],[1]],
-"x753e8428626f6c00":[[82],[3]],
-"x338e0487166db16e":[[658],[10]],
-"x6409b489c3a2a448":[[3956],[5]],
-"x55ddc5212bcf691b":[[3307],[8]],
-"xe7a267bee3fe6aea":[[4013],[4]],
-"x55b074a314780689":[[202],[8]],
-"x94b5f96b7ffc8460":[[262],[8]],
-"xbfc0b2a0352ac80e":[[2788],[1]],
-"xc38a7b8ecc1465fb":[[1699,405,157,166,788],[313,223,39,21,5]],
-"x34f9a7eb06ab0edf":[[2006],[3]],
-"x77612c04dddca579":[[262,157],[4,3]],
-"xa1b9d7284ad686c2":[[2267],[6]],
-"xbec9d9259758620c":[[2203],[7]],
-"x2c3ce43158027a60":[[339],[33]],
-"x97e3897f36b6ebf3":[[1176],[4]],
-"x6feba0368512a0bf":[[931],[2]],
-"x54f7131013d02312":[[3808,2203,3902],[10,7,5]],
-"xe1e09aa6294c6fc6":[[3372],[2]],
-"x2fd9e84b05aa8604":[[3314],[3]],
-"x5963ce328fdab5d0":[[1643],[5]],
-"x4d95fd63bb1fd83":[[861],[3]],
-"x397d6b328438f81b":[[3372],[1]],
-"xd6bff266a0bfdb89":[[1959],[6]],
-"x2eb300d9176fe356":[[2268],[3]],
-"xaecffc1245f98836":[[137],[9]],
-"xc4e531fa3550ca62":[[1699],[5]],
-"xf4e7cef7b2ed6efb":[[593],[3]],
-"xd49831dfaaf1d92a":[[396],[3]],
-"xda2f951504002ee3":[[1244],[4]],
-"x6c6739432e49d3db":[[2919],[4]],
-"x3d56f7ad9fd9bc3e":[[1762],[2]],
-"x9c1f64c42ad868b5":[[3234],[24]],
-"x966df1bdb3c03a38":[[1826],[3]],
-"x24604281a76a6a27":[[448],[8]],
-"x56750e15324de998":[[405],[5]],
-"x3f806feb2aca283e":[[2],[6]],
-"x4865eb558c2b3a71":[[3169],[4]],
-"x58a2506072c33a80":[[593],[11]],
-"xcf861af5549362b1":[[82,729],[4,3]],
-"x9eb9bdd0c3e64ea4":[[3177],[11]],
-"xaf006cf4c64a9580":[[3902],[3]],
-"x6cfbae387d986453":[[2137],[6]],
-"x5adab18e3ea1ee9e":[[3045,3061],[3,3]],
-"x138bdd6f317e506a":[[3501],[4]],
-"xb552a373dba1ccf6":[[2087,3763],[6,5]],
-"x63fc9aeb5aae8294":[[1762],[5]],
-"xb6b1bf8eacf5fa9b":[[3772],[3]],
-"xbc64bdef07ca2100":[[323],[8]],
-"xc27f837d3fbc3bc5":[[2658],[3]],
-"x5ffbe393581e3986":[[2898],[3]],
-"xc148c746e30d27e2":[[3761],[9]],
-"x2116b700e8400dc1":[[3947,2266,3699],[13,6,2]],
-"xf1442b9b80269ee7":[[2086],[3]],
-"xbbb2343e88cb6763":[[4094],[5]],
-"x4f1ca1b6665610e3":[[1244],[12]],
-"xd6c57cea39982f4a":[[1219,1236],[4,4]],
-"x9ccce447ce4aca61":[[1698],[7]],
-"x2c0b08945ebd673e":[[1619],[6]],
-"x262f56c42500f77d":[[262],[10]],
-"xc295726372dce434":[[3502],[4]],
-"x83f27bab2f48ea02":[[2525],[3]],
-"xf8812d40b784fc99":[[3234],[2]],
-"x983a43472a2248d9":[[3761],[2]],
-"x9c244d9c1e3c7038":[[2787],[6]],
-"xfbe729172d7e15ab":[[262],[6]],
-"xcdaa11cdbd7bec3d":[[1827],[5]],
-"x44261718ca8e87c1":[[3832],[3]],
-"xb82aa00a597ad444":[[3902],[1]],
-"x5e93cd465eab06a5":[[1611,1652],[10,5]],
-"x36bf500631a7ad55":[[1546,1553,731],[24,12,5]],
-"xbd217e64d1c65ef5":[[2331],[5]],
-"x589ae45aef867c4":[[1098],[8]],
-"x7291d4e40bc1a27d":[[4013],[10]],
-"x75491066e24d9821":[[166],[3]],
-"x69cf54410e658e3a":[[2224],[8]],
-"x3f4246351d6084b":[[3112],[1]],
-"xb8e4e4fefddc37e8":[[3298],[4]],
-"xc138fec2ec48d49d":[[3902],[10]],
-"xde1cdec8d66361ce":[[3642],[1]],
-"x7529882a9525964e":[[3307],[7]],
-"xa893da664ceb207b":[[3363],[1]],
-"x828ca41dda69c51":[[148],[4]],
-"x98fd2115bb0de3b4":[[3437],[7]],
-"x30cb9adf6f7a7852":[[3956],[20]],
-"xd363aaa744547254":[[666],[3]],
-"x54a8275c81e6f4cb":[[2463],[3]],
-"x990efdc9fe3afeef":[[262],[7]],
-"x77e973b810023751":[[3902],[3]],
-"xf3a51442a2ff7859":[[157],[78]],
-"x212387b6a32478ae":[[203],[2]],
-"x94022ce60f54ecad":[[2260],[3]],
-"xf28811740b52414e":[[139],[4]],
-"x3b6e24f8ddaf1872":[[3828],[3]],
-"xbb305d91acc2cf7c":[[262],[7]],
-"x219991e4c5abf8b":[[48],[7]],
-"xd1bda168b3fd5613":[[593,1348],[5,4]],
-"x421ee0e3c92718ca":[[203],[6]],
-"x63b2d4a8a26a1432":[[853,918],[9,2]],
-"x3dc05b91371ad551":[[3827,3699],[108,20]],
-"xed1b7c43453b3853":[[2593],[15]],
-"xae807013e844a771":[[262],[32]],
-"xedd5a1b6279c2be":[[2720],[9]],
-"x2fd01ba32e59be41":[[166],[6]],
-"xbe2b6822cba0d5e9":[[227],[4]],
-"x94b0a08133cb17a7":[[3699],[3]],
-"x5002bd0283782706":[[2931],[24]],
-"xa957798f6eb8c5af":[[3567],[3]],
-"x9e054745922e5aa3":[[1562],[4]],
-"x60efb2bec1b5303e":[[2463],[3]],
-"xdc34a1ea933da4af":[[2915],[76]],
-"x7341661d42744c52":[[3763],[7]],
-"x6ba4ef07e2884b1b":[[1762,262],[6,5]],
-"x5045d27a45baa7e8":[[3299],[4]],
-"xef8852edb40767d0":[[3947],[2]],
-"xbb6092e4a110fe98":[[334],[4]],
-"x52abf15207bc97d3":[[1568],[6]],
-"x3051459454d62e53":[[918],[4]],
-"x79c4e38dcaf5239":[[396],[4]],
-"x5d488a372dc0529e":[[2463],[3]],
-"x93fb683205dea5d9":[[3947],[6]],
-"x662b5b6a18f4b4d2":[[2715],[4]],
-"x7abf65bcd5af3447":[[2915],[3]],
-"xd4f142fb8c7380c2":[[3808],[3]],
-"xea1f548f67d40aaa":[[148,75],[8,5]],
-"x7441782441c56f65":[[2331],[3]],
-"x6894c1041de16d34":[[3234],[6]],
-"x99ae9e5eb4d8dda2":[[3836],[3]],
-"xe0e1a4cb28cc4874":[[3],[3]],
-"x79b57fdd2e8fbb48":[[2203],[3]],
-"x55c52e42d7aecd9f":[[324],[5]],
-"x8ad29e12c633f3fc":[[3171],[6]],
-"xa05485c4913ee3a3":[[2203],[13]],
-"x138444241ad44f6e":[[3808],[8]],
-"x7b10cb3e11e49eff":[[3641,3761],[20,12]],
-"x262772c6d9d48ce1":[[203],[4]],
-"xc29de60deb3d295e":[[2412],[3]],
-"xff1e2f57aa79a238":[[1745,528],[10,6]],
-"x49ca10bd34e255d3":[[3234],[13]],
-"x162e6fd6a71702fc":[[2916],[6]],
-"x54c2d8ccebbe9c6":[[262],[8]],
-"x60e24b76894610e2":[[594],[4]],
-"xb219132e3a69de29":[[2137],[2]],
-"x11e56697a4167076":[[139],[7]],
-"x91356156a7a70f72":[[139],[7]],
-"xb48109fc53642c0a":[[3947],[9]],
-"x79f7951707c46e24":[[931],[5]],
-"x7f83a12be9244126":[[2048],[3]],
-"x1802587d899e2be":[[262],[12]],
-"x52853b8aa47a813b":[[24],[3]],
-"x8102ad82e7be2d1b":[[796],[7]],
-"xe95679381d428dd8":[[3429],[2]],
-"x7c10183a6c2d9da3":[[1164,129],[7,7]],
-"xbdfd4a8ffe9cdfa3":[[339,258],[15,7]],
-"x8479ddd502cb53d9":[[3169,2202],[13,4]],
-"x25363cb5829871c9":[[2390],[4]],
-"xa759468e057cfe99":[[2715],[16]],
-"x99ca730080d633b0":[[2331],[5]],
-"x38bf4f5998737a3":[[2463],[3]],
-"xee5f2555eeec4884":[[3699],[69]],
-"x9f24f53e9f462d19":[[3749],[6]],
-"x386fd2299e28c72e":[[391],[2]],
-"xe45a75100e18b79e":[[1420],[3]],
-"x3f3d1d9c0dd47695":[[742],[3]],
-"x5849b95e6c9a69a2":[[1098],[7]],
-"xaebbed0383bd4682":[[861],[2]],
-"x4578cabb0512c2f8":[[3699],[3]],
-"x9e8bad6edd7b788":[[3902],[7]],
-"x7c507a3c3e9c76bc":[[2203],[4]],
-"x8978e6987b05323b":[[2908],[6]],
-"xb65918c3b08e920d":[[2919],[3]],
-"x152998aed0fefaba":[[3699],[3]],
-"x78fef25b61d2d76d":[[3112],[1]],
-"xc45840e302aa0b1f":[[2072],[5]],
-"x4dc996932f0b4c0a":[[202,262],[11,5]],
-"x3bc573c25f118048":[[1941],[7]],
-"x7921f0a7236a1fb0":[[219],[3]],
-"xcb8ce76852d7c3c2":[[3958],[8]],
-"xe8f0eb2dc71c1dd0":[[2266,3828],[7,1]],
-"xc556fe8a915930ea":[[137],[4]],
-"x2f4443a1dc8221f":[[658],[4]],
-"xfed4fe81926373c7":[[731],[2]],
-"x2de587daa971051d":[[1699],[3]],
-"xbc5bd89a24c24fab":[[339],[4]],
-"x21772379ac3af5b":[[1681],[11]],
-"xecc3e3f390a3a3ae":[[204],[11]],
-"x8da83b0d9a13ac45":[[3325],[3]],
-"xb3d6449bc6386e7b":[[3899],[5]],
-"x2223201c18f67adf":[[1371],[4]],
-"x513888b0b4185746":[[3763,3947],[5,4]],
-"xb2923fa1e0a56cdb":[[2915],[89]],
-"x1aa028d5719c7038":[[3902],[18]],
-"xdfd271e4449ebc5":[[2982],[12]],
-"x35999daaf68d2f95":[[3763],[2]],
-"xb7e93965175727e8":[[1180,731],[8,3]],
-"xb658dea1ad3ffbd8":[[3241],[3]],
-"x7ffd0523148e314e":[[3307],[6]],
-"xa6783103fd7bdb71":[[2915],[51]],
-"xb1a5ccb873334081":[[3742],[5]],
-"xf432ec79c95c0672":[[3699],[8]],
-"x4acdb36727584e4d":[[332],[4]],
-"x34caf112348e057f":[[3234,3104],[10,2]],
-"xba4d553b24a66cf6":[[2203],[7]],
-"xbbbd764ab9666840":[[1179],[5]],
-"x1c2784b50b9f26b3":[[3947],[3]],
-"x8228881f4c1ac64b":[[1380],[6]],
-"x278381950d5f422c":[[2861],[5]],
-"xd53bb15c69f6a043":[[3742],[5]],
-"xe2c8871203a3020":[[2130],[6]],
-"x3a469e6b28127b47":[[3177,2908,3699],[299,46,7]],
-"xebe7c8b8e359e258":[[3112],[3]],
-"xd5d725783b084b7c":[[3557],[4]],
-"x52661ca7f9640b63":[[732],[4]],
-"x1cbbfff4c5a76737":[[2331],[4]],
-"xb696c17bdf3646b1":[[1242],[7]],
-"xe156c01b38c965dd":[[795],[14]],
-"xa721d5fb53930521":[[3178],[5]],
-"x47a243f4540923e":[[4020],[2]],
-"xbcb58469f1263759":[[3958],[3]],
-"xafc9e7a3cf78c0ab":[[3372],[23]],
-"xb338efdce3a21514":[[723],[3]],
-"x40857e4c485214eb":[[3372],[12]],
-"xda6c808dace34272":[[3761,3234],[23,3]],
-"x3bd6833cfaedb681":[[2720],[2]],
-"x3049ef7613859f12":[[3761],[1]],
-"xd11e58e301070f95":[[1752],[4]],
-"xd966b3f1f5383e08":[[334],[1]],
-"xe49c53e63438ae11":[[1892],[7]],
-"x96bf9f26eb673a83":[[3642],[6]],
-"x1ff6750d14127f2d":[[148,391],[22,4]],
-"xb3f04ab56c12a039":[[1618,3234,3494],[18,10,7]],
-"xff1f2d7857d8d03b":[[1314],[3]],
-"x76dbac496acc112b":[[3769],[6]],
-"x43c89939d5b03e26":[[3307],[4]],
-"x9fa55a1b8725f4a5":[[3567],[1]],
-"x71c3d015160fa999":[[3242,3956],[8,3]],
-"xe3db2f1e44f12721":[[1112],[12]],
-"x8c548f010c3834fb":[[405],[4]],
-"x9c317766962c07a6":[[3902],[7]],
-"xe55a4d47945b040b":[[732],[5]],
-"xa68ec692684b103f":[[853],[4]],
-"x48aa10715d6724a7":[[1763],[13]],
-"xa746846aae4fabcf":[[2268],[4]],
-"x507be87ff55a6d77":[[3429],[3]],
-"x2979b37a3bfce25e":[[2919],[3]],
-"x15826be121528f6b":[[4013],[7]],
-"xfd21b37487c5d6f1":[[3584],[2]],
-"x66812b5d36793d12":[[323],[3]],
-"x12ac282af363944c":[[3958],[20]],
-"x5d264b1ef3aaf750":[[3826],[1]],
-"x5cbd46f393fcc474":[[1871],[3]],
-"x1fa98e461d58695f":[[2203],[2]],
-"x2e5d46a7f4f4dd62":[[3902],[6]],
-"x2d1e96e342d26fa3":[[75],[2]],
-"x4f060b5afc404e18":[[2154],[7]],
-"x2239cc414a550bb8":[[1562],[4]],
-"xcb82afb447a9205b":[[3373],[3]],
-"xd20434414b223ecd":[[196],[6]],
-"xa13f70cd9f593329":[[334],[5]],
-"x5f6ae20474ae8b65":[[1714],[6]],
-"xd75d8ef17531315e":[[1185],[3]],
-"x2243424b21f452b7":[[3307],[11]],
-"xa7521f106f550a11":[[1673],[3]],
-"x25150e4417e91811":[[3307],[1]],
-"x4d0ae79c6d840dd7":[[1827],[4]],
-"xafcb5e2cf5588ee3":[[1699],[3]],
-"xca2836081706ac8a":[[2137],[28]],
-"x7d3376f29040b387":[[3242],[6]],
-"x52f1eb474a13a8d9":[[3699],[6]],
-"xbc10068fb3643c6":[[4013],[5]],
-"xd311fa097ce61308":[[2292],[3]],
-"x942e7c3e1dcac71d":[[3749],[4]],
-"x55159bb1386f455e":[[1763],[21]],
-"x11686a5b57c7d9d5":[[3690,3234],[4,3]],
-"x363b4775f944523f":[[1356],[3]],
-"xeffca4725fca3914":[[2851],[37]],
-"x2e7e7a710eda68d9":[[262],[3]],
-"x28180a8c4fe27cce":[[3641],[4]],
-"xfeb5b01d71ecc1d2":[[1841,3699],[22,7]],
-"x1ac743375c3f2746":[[658],[5]],
-"xadbea0b445de23ef":[[3502],[1]],
-"xef57b561bab3048b":[[262],[2]],
-"x87b49ccc8210faed":[[3242],[1]],
-"xef4b71dc75815cc5":[[3902],[5]],
-"x9d8cde2f4baa6cd2":[[2593],[7]],
-"x4a2c7bddd5f9c4c5":[[2258],[4]],
-"x8a867f7cf21b5967":[[3690,3502],[13,4]],
-"x25035b128f0af0a6":[[262],[12]],
-"xac4dbde8377ddee0":[[854],[4]],
-"xd7e598e465cb9e1e":[[3373],[2]],
-"x227c92ee37b6b83":[[56],[4]],
-"x7c417145f6ae578b":[[211],[2]],
-"x64427d4ec6e82db8":[[144],[27]],
-"x6b44a66c90044102":[[1841],[4]],
-"xdce899aee34d7a3d":[[3902],[4]],
-"x9b69032bd5f5605f":[[360],[3]],
-"x5d191cd845c1841a":[[991],[3]],
-"xf5fee723a7567f3c":[[3169,3956],[119,6]],
-"x8f9a3ebf86539412":[[796],[5]],
-"xfdf9789311cc4ab6":[[4020,3690],[14,1]],
-"xa7491323c4ca46f7":[[346],[17]],
-"x601d8ca25ab7de50":[[789],[2]],
-"xee02c9ecaaf12042":[[389],[6]],
-"x98ef05659f311545":[[1123],[3]],
-"xca95de28055ff96b":[[3902],[6]],
-"x55e0e00749be5afa":[[1308],[4]],
-"xae433ad828cf22c8":[[3742],[6]],
-"x71c83681108f8a90":[[796],[4]],
-"xe14ac8da82b69477":[[3956],[2]],
-"xe7a5ba1107aa931b":[[219],[3]],
-"x4767cd1b55b7f4b":[[129],[6]],
-"x9783d89868e98722":[[983],[5]],
-"x3125e5b445b2bd01":[[641],[4]],
-"x6284f2634d78265c":[[82],[10]],
-"xf816fbe9c9715b60":[[2576],[5]],
-"x795537b8c9d2d4d9":[[1957],[6]],
-"x59ad391dba0404ee":[[3299],[4]],
-"x9ea430d8c9ed28a8":[[2713],[6]],
-"xa49990913cc7857":[[3699],[3]],
-"x89295da5fc294756":[[3956],[4]],
-"x16537c79dc04e702":[[795],[3]],
-"xa753187187c105f2":[[1763],[8]],
-"x71255815615d0ede":[[262],[4]],
-"x8becf267152e0764":[[796],[73]],
-"x99cfad0c54078c51":[[1243],[3]],
-"xd4bd292f1581648a":[[1635],[6]],
-"x7bea433f1a212339":[[3372],[33]],
-"x2c8d7f31243adfde":[[3178,3808],[17,8]],
-"xee2d8d35fb14153c":[[1545],[3]],
-"x9f3a9f006109f54f":[[1763],[3]],
-"x6785d6bf7ede6337":[[2325],[1]],
-"x9d88e07eec2a423":[[92],[3]],
-"xf1910e57c8990b0b":[[3234],[2]],
-"x64181b8fb899317d":[[721,405],[6,4]],
-"x5b7b1d8d325a8f68":[[983],[3]],
-"x78ec318f787d322e":[[170],[3]],
-"x34b1601457595ce9":[[1683],[5]],
-"xc5158ea20b63d93":[[658],[6]],
-"x1b467ba1cb9d8152":[[1697],[3]],
-"x9e373c58859c46dc":[[3234],[60]],
-"xcd5590951880c816":[[2851],[4]],
-"xc01c2329c0bc572":[[3112],[3]],
-"x17ee2cdae8a61c9d":[[3817],[7]],
-"xff099950db11ce5":[[2852],[4]],
-"xf31fbfb65966f344":[[3429],[3]],
-"x3cbc259d1d24992d":[[262],[5]],
-"xe625358bfdbf39a7":[[1252],[6]],
-"xae3a75df7ad29fce":[[3299,3372],[8,4]],
-"xcae6eecef96f5013":[[853],[1]],
-"x6364182cd2832f05":[[796],[4]],
-"x574155a26ce3800b":[[3828],[7]],
-"x5dad7af6db372499":[[471],[5]],
-"x56beff4c94a3d82a":[[396],[16]],
-"x522e046605d221ba":[[2331],[6]],
-"xb34d2cd3c2a4313e":[[1],[17]],
-"x6a1fb59deeb78869":[[2484],[4]],
-"xef1ae1847e084da6":[[3313],[3]],
-"xf797d84d21845f43":[[594],[8]],
-"xc029f8e564e12a7f":[[593,536],[11,5]],
-"x174abd2d5f203b74":[[3817],[1]],
-"x7a2188b3f633e653":[[3902],[2]],
-"x47c4342dffdfa785":[[2526],[4]],
-"x32c063733a84fed":[[3112,3956,2137],[12,10,3]],
-"xc01aeed2dab1846d":[[3309],[4]],
-"xc2624f4cc1d0f72":[[334,666],[4,4]],
-"xd09437f00af5be13":[[2138],[3]],
-"xf1e7c4dab388bd49":[[3826],[9]],
-"x43a61fc3a9014ff9":[[2203,4013],[1737,48]],
-"xabf9d11b277b94e9":[[2851],[2]],
-"x9675cad06f3eafa4":[[3298],[3]],
-"x18be1e907c6ae3ca":[[2915],[7]],
-"xa02059c1fbad478e":[[334],[5]],
-"x1c665651eb970043":[[1618],[4]],
-"x3164d46b20ab895d":[[3958],[30]],
-"x17237e917e5adaf5":[[267],[14]],
-"x9749583c4e5f70b6":[[2203],[3]],
-"xd7c00fefe159c27a":[[1296],[3]],
-"xaf14c0eacf9f323a":[[398],[3]],
-"x54d307a8e2c795af":[[1436],[2]],
-"xb0229a3f949d494d":[[3811],[59]],
-"x5bca70eecf4560b4":[[1355],[7]],
-"xbbc324f38884edfd":[[3761],[4]],
-"x14cca9a753deaf41":[[148],[9]],
-"x978d21ebe361330a":[[1680],[6]],
-"xe8f678a7c7e3ebab":[[3827],[4]],
-"xbe43785b591272b5":[[3517],[2]],
-"x1fdf5881a4aca826":[[1618],[4]],
-"x6a7a3fafc7372aff":[[1618],[3]],
-"x2411c1fff69893a4":[[1699,528],[96,25]],
-"xb316584154359c8a":[[1307],[7]],
-"xee282323c12c8059":[[1380],[2]],
-"xb10068f6329b7565":[[594],[56]],
-"xff1c03c745c5137a":[[1307],[4]],
-"x4f546fe942bdcc0a":[[3372],[6]],
-"xf442d94f17bb45eb":[[2036],[3]],
-"xa002daa9dcf8015f":[[3828],[5]],
-"xecde73b57b039a9":[[2399],[6]],
-"xc956a81cb4b3a1bc":[[1763],[2]],
-"x8ec6f7a32fa3fc38":[[528],[3]],
-"x4a79b13887e9a937":[[2740],[5]],
-"x88f5012838fb6ed5":[[2137],[6]],
-"x2d693febf10d89d3":[[3742],[7]],
-"x70c1fb6935579940":[[3389],[2]],
-"x1887bdc52e3a7a46":[[3092],[8]],
-"xe4c3433647c0c9c9":[[2082],[3]],
-"xff8511e6a483aa6c":[[3902,3307,3234],[4,4,3]],
-"x955c3dca9ab68b2d":[[2349],[6]],
-"xb515fd1a495b97cc":[[666],[7]],
-"x3263d85507972960":[[3305],[3]],
-"xcdcea23704ba7516":[[1618],[12]],
-"xe11c6555ead2992b":[[1180],[4]],
-"xecedbb441b42b164":[[3502,3494],[11,2]],
-"x871ff468fd94b4e2":[[222],[1]],
-"xfad95334e9bdcd35":[[3642],[2]],
-"x5e776fa5eb167a45":[[405,918,731],[10,10,7]],
-"x1d2bbcd98088a5d":[[262],[5]],
-"x76b23155117a0bee":[[2150],[5]],
-"xc0761c045f0a695a":[[262],[3]],
-"x52ae8e6e1fe9d96a":[[1894],[6]],
-"x1cb7fed5b401f66b":[[3958],[4]],
-"x69807898a043bb7f":[[3567],[5]],
-"x36a2e17e7e5c00b5":[[594],[4]],
-"x40424fc0ea746f50":[[3902],[4]],
-"x75c745c322555981":[[332,861,346,203,853],[12,10,9,3,3]],
-"x8fcb8cd791e39bc7":[[82],[6]],
-"xdb8c4895a87982d2":[[2203,3958],[17,13]],
-"x6b7bd4999e2367eb":[[788,202],[14,13]],
-"x3d5fabe7414e1e0d":[[666,723],[7,3]],
-"xaefc5a8d14e91bf0":[[3112],[5]],
-"xfe6d89c97148cb76":[[3963],[4]],
-"x1a53c39f42980ac1":[[332,1762],[11,10]],
-"xa24e92d65f646f09":[[2266,3372],[14,8]],
-"xec5a854e1f1aed02":[[262,528],[17,2]],
-"x6b69808cf9b301ee":[[3566],[6]],
-"x6f65b17aa12adee5":[[1568],[3]],
-"xb8c9a58bc5f1cd9f":[[1763,983],[4,4]],
-"xf91a73d7ca084a68":[[2786],[4]],
-"xf4ec432ad09fc0b6":[[3749],[5]],
-"x1afceb8e7efa9771":[[1770,82],[70,9]],
-"x7efc98da720ae8f4":[[204,324],[14,2]],
-"x6eff73e4a2d2d0f4":[[157],[9]],
-"x4f1c7a5edab66292":[[262],[4]],
-"x141ca9d2384dca1e":[[332],[10]],
-"x1874652bbd032a11":[[339],[2]],
-"x820fb64c3e60c0ab":[[3902],[21]],
-"x830608254ab8e51d":[[3299,4013],[31,2]],
-"x35fbe02698897089":[[262],[3]],
-"x74970cc57bbd667":[[2846],[6]],
-"xdfdf11fadb4e532e":[[213],[30]],
-"x3037d2a16ea00084":[[593],[3]],
-"xc44416fb8af39001":[[1371],[3]],
-"xbb287f9dd9382a42":[[1371],[17]],
-"x73e1be63e5dee2ce":[[157],[3]],
-"xcac74569e1b07a24":[[3699],[36]],
-"x8a690650d9d3246":[[3325,3242],[13,2]],
-"xb05d1b9d13bf4093":[[398],[6]],
-"x7cab7392ab98a354":[[262,82],[106,23]],
-"x66b997c18dff06b2":[[2331],[4]],
-"xd1aa9772d3007d33":[[4047],[4]],
-"x259ee76d336e4fa6":[[2349],[8]],
-"x2a40acbf14c517e9":[[2484],[4]],
-"x3aee3188ed1b0ea5":[[4022],[4]],
-"xbd1a204f11416d51":[[407],[4]],
-"xd0fe94dd65587c4d":[[2658],[3]],
-"x77bb5ba0c0025150":[[4013,3690,3947,3742],[23,12,11,8]],
-"x5400b1675d76995e":[[1699,2461,2463],[21,14,6]],
-"xc0943abfb0ad289":[[129],[4]],
-"x9f9e160d41d8e102":[[3963],[6]],
-"x4d79c4898483e862":[[2203],[5]],
-"x6fe1c16562949c0a":[[4020,4013],[8,3]],
-"x7256f80819d61648":[[1634],[3]],
-"xf3695dffbff510ab":[[148],[10]],
-"x1b7676b8fc4b6205":[[1828],[42]],
-"xfb920192e10084f6":[[2932],[7]],
-"x8c85023c679dcfab":[[1318],[2]],
-"x73ee03df1800d4c9":[[262],[4]],
-"xe8a6ee1bb2c90430":[[3309],[4]],
-"x4a9c3cb7c6892a12":[[3958],[7]],
-"x7421d0ba21b7a17d":[[2852],[2]],
-"x5dab31c7341df035":[[339],[5]],
-"x4782cb587fe7d312":[[3803],[33]],
-"xfe5112b35af2a7fb":[[1554],[4]],
-"x9bc61115dfd6003b":[[3902],[2]],
-"xb3b3ff3ebea55cc5":[[2023],[3]],
-"xb6d906b4674fa777":[[2852],[5]],
-"x5062eae9f183a47d":[[1828],[8]],
-"x44899712e86f7048":[[3756],[2]],
-"xc499396ca5bd7584":[[1176],[3]],
-"xe15d50f9b5b167c2":[[3690],[11]],
-"x48377c5dc4ea77b7":[[203],[6]],
-"x84b0b8b9f7a0efd3":[[3902],[8]],
-"xfa08459ba581564a":[[1180],[1]],
-"x9efbb76dd3254160":[[3749],[3]],
-"xfdf08bceb64137c6":[[3699],[11]],
-"x3521104c3a72e3":[[2908],[4]],
-"xfbf0a23e206c1d7e":[[3307],[4]],
-"x67a2eedeca59fdfe":[[861],[8]],
-"xabf7e897f0b2ea81":[[3437,3902],[14,5]],
-"xd4105a0a2b74f905":[[2218],[17]],
-"x3b2d36eb7ec54fe6":[[1770],[8]],
-"x26ac77bf4310c87c":[[3756],[4]],
-"x530c3014aa04ec0a":[[2940],[3]],
-"x802401e62515a9ec":[[3364],[4]],
-"x18f6ca01cab0fd2b":[[731,262,82],[8,5,5]],
-"x96f0a063d72351a9":[[262],[4]],
-"xcd6a8aa76778a199":[[3299],[12]],
-"x7526982ac1ca53e9":[[731],[3]],
-"x63289d08c9a57c71":[[262],[3]],
-"x5f3431317be90ef3":[[2674],[3]],
-"xf91bb87451cb10e0":[[1699],[3]],
-"xabc3656300537042":[[1180],[5]],
-"xd493f7265ae53c6":[[3964],[3]],
-"x62db3d15e26ae91e":[[2228],[1]],
-"xdc2c54d47c8afe81":[[148,861,166,405],[40,34,8,6]],
-"xee6f6af5143c8571":[[2086],[6]],
-"x788ee065df573348":[[3234],[3]],
-"x36c88f1e43a85070":[[2268],[6]],
-"xb1b3f3897040d44d":[[262],[3]],
-"xf6d663df2e0a6169":[[1371],[4]],
-"x5c1800257b58e3fd":[[3947],[4]],
-"xe1a7f6a3c63d0dac":[[3690],[2]],
-"x41ceff5723886e93":[[1699,788],[6,6]],
-"x7b5764129a1d817d":[[262],[4]],
-"xafe56d5340524fd3":[[1618],[3]],
-"x79ee42bddc32eebb":[[796,3],[4,4]],
-"x6436652dffe5fee2":[[262],[3]],
-"x8f6171ab968dde71":[[3828],[3]],
-"x70a076b5c4d40e79":[[3958],[2]],
-"x2b3805ed2352ca31":[[3362],[17]],
-"xf4110341e29c843c":[[796,918],[10,4]],
-"x58dc7441b1116094":[[3947],[3]],
-"x30dbf47bdf23ba77":[[3567],[2]],
-"xe3d34691451672d3":[[2908],[5]],
-"x5de9b5182ddcc828":[[853],[8]],
-"x4399d922d522c29c":[[332],[6]],
-"xe518b3ad024ce408":[[3437],[3]],
-"x53678cc4f534fa37":[[339],[1]],
-"x294db5e438a7f377":[[2323],[5]],
-"x3e4a936b13b44c74":[[918],[24]],
-"x6ad02963d857e730":[[2788],[4]],
-"x5f14d7e206ca7003":[[3826],[8]],
-"x5daa8cf0ee1e910":[[2670],[6]],
-"x6e0ab3d37023b525":[[1835],[5]],
-"xf3c8f294e6cbbc2a":[[796],[8]],
-"xf8aa41c44ec0cba5":[[658],[1]],
-"x89a6a9b1357b97c2":[[3808],[4]],
-"x6dbf6a3d27e1e7fe":[[82],[5]],
-"xc349078538c1f019":[[3699],[3]],
-"x9e65dd40e6efac5a":[[1177],[4]],
-"x8ac9aca12ea132ce":[[3299],[8]],
-"x76a9759c288b962b":[[2851],[7]],
-"xf81961eb754dfaaf":[[3947],[7]],
-"x14077decb57e83a5":[[339],[4]],
-"x49029a7f69359b30":[[3307,3364,3372],[187,121,20]],
-"x66a2d66ccb43844":[[1837],[5]],
-"xdbdb0415f734fb30":[[3494],[3]],
-"x2eed0ebbeab94d44":[[82],[11]],
-"x85bbad887baaaa7e":[[1941],[4]],
-"xe72e281005549b41":[[3],[2]],
-"x71b28c03fb677c48":[[1],[3]],
-"x496e76317fbf08d":[[3821],[3]],
-"x7de460539f8fe36b":[[2268],[3]],
-"x89c972dbdb8211ac":[[1941],[3]],
-"x78cda70e17837d9e":[[353,731,346,82,658],[1960,191,164,106,4]],
-"xe504e74a5e85d3cc":[[3690],[8]],
-"x8f2e66dbfc4fc971":[[1764],[4]],
-"x32c5a1907c6cf566":[[334],[3]],
-"x7d3c80f51ccb5c1c":[[2330],[6]],
-"xdbee8ff3942cad64":[[262],[3]],
-"xaa36654377a332a5":[[2982],[5]],
-"xe96dba9fb8d063ce":[[3962],[2]],
-"xa957cf473adb9878":[[2787],[2]],
-"xad2d4a31951bcabb":[[82],[35]],
-"xfa136ded7076f02c":[[203,405,861,991],[11,5,4,3]],
-"xf1a339edcd890e62":[[1218],[1]],
-"x7c480912f2de01b6":[[3808],[6]],
-"x65cce503391d31a":[[3947],[3]],
-"x295a5138249e71f4":[[405,2],[17,9]],
-"x59fc880a8c4d5596":[[1179],[3]],
-"x410adc4e8cfe41d6":[[3929],[4]],
-"x9936659dc77bac0c":[[3761],[3]],
-"xf4310351fa7fa584":[[2851],[3]],
-"x9f0c44191e0fc82d":[[82,1761],[349,43]],
-"x2d8eaf60e7236759":[[1355],[4]],
-"xa06de076af10061e":[[861,405],[4,3]],
-"x48152568fa4601ba":[[398],[4]],
-"x3b6fbfc065010596":[[2915],[1]],
-"x82172d5207be11dd":[[340],[2]],
-"x3876010620d90517":[[2258],[4]],
-"x7d7f13fede92aa5d":[[666,75],[13,4]],
-"x9609be14ffb4d110":[[3307],[3]],
-"x3e989fccd5eb37f7":[[594],[6]],
-"x7aec435ff19da11d":[[2332],[4]],
-"xa5943e55cd05d3ae":[[1176],[5]],
-"xb6cc05ebe9cd852b":[[3699,3963,2720],[4,4,2]],
-"xcf3ebfd559f998fd":[[1371],[3]],
-"x6ab37ceb86d4cbc2":[[3956],[4]],
-"x58413db08abdda1c":[[405,796,788,82],[243,224,100,3]],
-"x9b4b97b0435f8bcc":[[1657],[3]],
-"x21b7fa4e86c3a3e5":[[3902],[1]],
-"xb9bf9fb978148dcb":[[2919],[3]],
-"xf021a249fbd3ed96":[[235],[5]],
-"x6786ca306be5cdf6":[[353],[4]],
-"xe40177320ce87a41":[[166],[4]],
-"x1a5c0e289bc9c3ba":[[2980],[3]],
-"xd4369c8be487ed5b":[[2219],[1]],
-"xc6bcad911ed534f":[[2463],[5]],
-"xc03ecc902b064430":[[3242,3567,3437],[14,7,1]],
-"x325f1a5ab459b9d4":[[3242],[6]],
-"xa660c43d12cc815f":[[861,918,405,396],[22,21,11,7]],
-"x792628935fc785da":[[3112],[5]],
-"xc8b7be2f0dc915da":[[3308,3364],[5,1]],
-"xdc28f713bfa55d39":[[797],[4]],
-"x259cb9e56b0b7a63":[[1163],[4]],
-"xd1976c0221e20ca2":[[3956,3234,3112,2266],[9,8,7,5]],
-"x54fc74ce7a8d7279":[[594],[6]],
-"xf95a0fab62df53f5":[[3828],[4]],
-"xf518ed283819cf44":[[3372],[57]],
-"xdb9c18086d45ca63":[[3502],[2]],
-"xf0c31b34be4a099f":[[3340],[3]],
-"xf1d5cf670d8dee8e":[[3761],[3]],
-"xfd009f78d718998a":[[1044],[3]],
-"x1c5cbc5e2c6111cc":[[2346],[3]],
-"xdcd37724853accae":[[1698,202,528,1699],[19,7,2,2]],
-"x9f6b11acd28c0a5a":[[3242],[3]],
-"xfb71e835de814553":[[3242],[4]],
-"x8e885d65ae5f9f87":[[1382],[9]],
-"x6cad663e0604562e":[[1291],[7]],
-"x6dda96c575a8f345":[[1699],[2]],
-"x81d246e2df0be8ad":[[324],[6]],
-"x2e1a791398b07609":[[2940],[4]],
-"x4e7263a59b1515e":[[2745],[6]],
-"x84948efe3b14e984":[[3234],[9]],
-"x43918572d3da1e64":[[2740],[3]],
-"x7db9ff405e509a2b":[[2714],[10]],
-"xa862a0b9ae334432":[[788,2],[24,15]],
-"x770d84ee65abab0a":[[3474],[4]],
-"x9829c9e4355a4999":[[788],[5]],
-"x71315b263629e148":[[731],[4]],
-"x83e9cce41fe03cac":[[788],[1]],
-"xb1d8267adbbb2dfc":[[1810],[8]],
-"xa46dff05ef9aa7c4":[[1115],[3]],
-"x5ece694c50fb8be2":[[3234],[3]],
-"xb3453bd01520438f":[[3],[5]],
-"x3b836d764a99a6a6":[[1601],[3]],
-"x83108e23f8578c90":[[3902],[4]],
-"xc0c7373dd7ba42ad":[[353],[2]],
-"xbc7ff43da3785733":[[1762],[2]],
-"x191e7de90d094d3e":[[3364],[5]],
-"xff3b0dd978ea50e":[[3958],[3]],
-"xbe07261d8df819ef":[[1609],[3]],
-"x1810460bfeb4e08a":[[1382],[6]],
-"x4388cab25fe70ae2":[[3373],[3]],
-"x31f298506c3a3791":[[3642,2414],[4,1]],
-"x2c60fdea125bdb4f":[[3761],[3]],
-"x97e5ec915c60eb3d":[[1745],[3]],
-"xdcab2055883b29d3":[[1562],[4]],
-"x641be8accb7a4c69":[[3307],[10]],
-"x947da4c8d9bfa72f":[[3902],[3]],
-"xf6829ee0503fd87e":[[853],[5]],
-"x676f5a81d4c27d3e":[[3112],[2]],
-"xe72dd62da81a4ad9":[[262],[12]],
-"x5dc825899c0e3a37":[[67],[3]],
-"xa691c9860f2e59d5":[[593],[6]],
-"x85dd5e4b00c40e2f":[[1699],[2]],
-"x9d4d1c5647cb2ccf":[[3],[2]],
-"x78f0b894533b3c64":[[3690,3902],[39,18]],
-"xbdd23e26b8f2107f":[[339],[15]],
-"x8834bc13d5ec3090":[[1530],[1]],
-"xd359dca12e26d365":[[3567],[10]],
-"x28b6542ec0418994":[[1187],[3]],
-"x6027d7ec3250047c":[[258,991],[15,10]],
-"xbf91d021977e6e20":[[2333],[4]],
-"x450e3a0bb4fd292b":[[3386,2396],[4,1]],
-"xe33e04b0a01868ca":[[166],[5]],
-"x1a4883c04108dc77":[[3299],[5]],
-"xf597f9031741068":[[973],[6]],
-"xace11846fea85c5a":[[4087],[3]],
-"x436c2b8e25aebcdf":[[3104],[1]],
-"x19274a0bbbc41040":[[1618],[3]],
-"x86c90782becef095":[[2217],[4]],
-"x4cd3dd7dec6982df":[[1355],[16]],
-"x98589d1c5c0893fe":[[1782],[3]],
-"xfeea848df00de690":[[405,861],[5,4]],
-"xad738e4e4db86292":[[2908],[4]],
-"x766ab41da25b70ac":[[334,666],[112,14]],
-"x5f81b1b51e60011a":[[1307],[4]],
-"xa84f8f7f8274fbcd":[[2722],[57]],
-"x1c58734572c2522a":[[3902],[2]],
-"x9564cfd3501e29d2":[[398],[3]],
-"x24cb750b64668c10":[[3902],[2]],
-"xd84166f6319e75fd":[[601],[17]],
-"x2a0acf7741091e2b":[[2934],[3]],
-"xed29f21f70288bff":[[1179],[9]],
-"xd78d18a3baadda5a":[[262,528],[35,5]],
-"x2ad13a759b1204f8":[[3567],[2]],
-"xb3e7c35f2c5f7c09":[[48],[3]],
-"x3365945e7890eb04":[[983],[3]],
-"x13e8f00fae194df9":[[262],[14]],
-"x885b0006000a9554":[[528],[6]],
-"x3fcaf05ff22d7ab9":[[1681],[3]],
-"xc90d57b68a895343":[[3104,3964,3819],[19,14,4]],
-"xb852716a97227513":[[3902],[3]],
-"x46f0b5747362e6f3":[[262,666],[43,10]],
-"xe8df9f848172d20c":[[3902,2908],[17,8]],
-"xeafc936f4a748f48":[[1770],[30]],
-"x6ec1a9c957d1148b":[[1672],[4]],
-"x4849cd6bc702e93":[[3699],[5]],
-"x3db3300d48a7493e":[[982],[3]],
-"xf6a169b6a8e8edda":[[324],[16]],
-"x1f1957121bf53848":[[3567],[5]],
-"x3ec9e8b2dd6b74e5":[[157],[4]],
-"xa68280807fe81ce":[[3372,4013,3826],[43,28,5]],
-"xc09fd5a93363072c":[[1762],[6]],
-"xa032eeaf268daa9c":[[2787],[3]],
-"x3531533a0820bdd2":[[339,346],[5,3]],
-"x253db8fc490905ac":[[2267],[6]],
-"xee40e1acc2b3e839":[[262],[10]],
-"x750e25400165454b":[[1641],[6]],
-"xf6589c6c10fd2944":[[339,346],[16,4]],
-"xd159c6f6501e8a9a":[[723],[8]],
-"x9371581625eb33f4":[[3929],[4]],
-"x53a16f279a160bb4":[[1867],[6]],
-"xe8a6ae7dd7f7ed01":[[593,166],[31,4]],
-"xf0f36b2294d11f99":[[2915],[6]],
-"x18f1bc16f14a289e":[[677],[6]],
-"x6d854849a0b2648d":[[3502],[6]],
-"x2b78d79847b501cd":[[1307,129,708],[9,5,4]],
-"x73cd827ba6f0dd2":[[332],[3]],
-"xb6db343351cab0d5":[[262],[5]],
-"xd1f2d7ff133b19bc":[[3307],[3]],
-"x27117678fd032f6":[[659],[19]],
-"x926bed7fbe66f680":[[2924],[3]],
-"x1e2b0bd629670ff":[[3699],[25]],
-"xcaa05bad1f06dde2":[[660],[25]],
-"xb905168998adcc75":[[3892],[4]],
-"x59a3d2242cb95977":[[204],[7]],
-"xf1a4df7169700f96":[[3690],[3]],
-"x9d4afb9745d01c95":[[853],[11]],
-"x51d7fed3f7ddac30":[[2625],[4]],
-"x603cf29831a07fa1":[[3234],[4]],
-"x87d02d1dfd824315":[[3902],[90]],
-"xdd007750f36afec5":[[4013,3242,3372,3749,3234,3690,3112],[454,82,72,15,15,7,1]],
-"x146010309fb1bdc3":[[1837],[2]],
-"xa3553dce297deb37":[[3956,2203],[7,3]],
-"xfe4bcec68e9e7145":[[1187],[7]],
-"x8298adbfc6bbee7a":[[3299,3690,3242],[31,14,13]],
-"xbd866aa42a506c9a":[[4013,3169],[70,4]],
-"xcb4cf81f5cdd0abb":[[722],[4]],
-"x40d0742660764cca":[[258],[5]],
-"xf5aa16e20453bb3a":[[3742],[5]],
-"x1d60aa19e4668645":[[2915],[3]],
-"x3714b6ec2e824d1f":[[3738],[3]],
-"x1d9c2c09a732aec0":[[3938],[3]],
-"x2f33faa0a7433ab9":[[1114],[16]],
-"x936a8bb3b78b0797":[[3690],[4]],
-"x1b92a6e156b42ab6":[[1057],[20]],
-"x5081fb3f62a2a6ea":[[3938],[2]],
-"xb0ccad6165d78194":[[203],[11]],
-"xcfe8ecd078210c9a":[[75],[4]],
-"x367a9a7664a1d449":[[3956],[2]],
-"x392ca071b9770c9b":[[2202,4015,4020],[7,7,3]],
-"xa046db37537b98db":[[852],[3]],
-"x8f61221a9ff302ea":[[1837],[5]],
-"x26c9789b7e06f97d":[[75],[5]],
-"xffe8b44613e02ff4":[[1049,1155],[6,4]],
-"xc4b5914bf72583be":[[3429],[1]],
-"xf73585ba147f4563":[[1764],[13]],
-"x9174e91fca3d3ace":[[2713],[3]],
-"xbc2d29e763d66167":[[2081],[8]],
-"xb586759bba10fb87":[[2907],[3]],
-"x92ba91132d031e5d":[[657],[4]],
-"x3799d59699abfdea":[[3372],[2]],
-"x7ba0df168b8048a6":[[3779],[6]],
-"xc757235fb4c55fc7":[[332,1749,536],[9,5,4]],
-"x24cb592c42beddad":[[2931],[4]],
-"xf67f16ebba6addb3":[[334],[3]],
-"x97396df2683e357c":[[82],[3]],
-"xe1fd38079922be92":[[730],[6]],
-"x9d1d038a31ecbb4d":[[724],[3]],
-"x42bd18dc743a0025":[[262],[60]],
-"xa709ceac37bc4104":[[2137],[3]],
-"x8a622c081b4798a2":[[3902],[1]],
-"xeb19101d21f887d1":[[1942],[4]],
-"xe298010be322fd47":[[3902],[2]],
-"xa33080680962237d":[[334],[4]],
-"xed49a7dc25b4e775":[[3699],[5]],
-"x70a45a5427e2a833":[[1171],[3]],
-"xb7ffc39b578fc83":[[2266],[1]],
-"x469bd026666c52fb":[[3761],[2]],
-"xd5ec18807b5f2b9e":[[3902],[3]],
-"xe22224980e47b306":[[1447],[4]],
-"xcaf0cb31177d21e7":[[528],[11]],
-"xaf76c9a19f4483e0":[[3437],[3]],
-"x9b0c572b88d9b32b":[[3294],[6]],
-"x85e5b24f84648687":[[251],[7]],
-"x6323cfe8a5af949f":[[2349],[5]],
-"xf5e9a03d174f67dc":[[3811],[2]],
-"x64b799e13b06721b":[[278],[1]],
-"x59ac5429ddbebe56":[[2203],[19]],
-"x51f4403b16d04d27":[[3178],[1]],
-"x97f8e2bd7b547bb9":[[731,405],[13,3]],
-"x2f9267d42d682616":[[1380],[6]],
-"xd7315188684d040a":[[3761],[3]],
-"x884e5029c24e8723":[[3956,3688],[9,6]],
-"xf4678a5c088132e7":[[658],[3]],
-"x272cc0bbd627acbe":[[536],[6]],
-"x86e1a354eb5eac7b":[[658],[4]],
-"x3068c644e7227079":[[219],[9]],
-"x704b533ee411be0f":[[2851],[4]],
-"x178842ea3207e0b2":[[1371],[4]],
-"x4ab8ae7d22b1f6bf":[[1228],[4]],
-"xcb274a76157e7ab6":[[3502],[5]],
-"x735f9dd3ded209a9":[[3902],[3]],
-"x59f3da5e49a06cba":[[1179],[6]],
-"xb04806b1d3b996ca":[[731],[2]],
-"xc0f08823ad93f5d4":[[1308],[4]],
-"x59aef5b93e300fda":[[2098],[4]],
-"x8d1309c2f004c224":[[2463],[11]],
-"xab98d352fd67d75f":[[82,405],[41,2]],
-"x675024748ce8a2b8":[[3899],[6]],
-"x669a0491f150f2db":[[1307],[3]],
-"xcb34349e1ac43176":[[137],[8]],
-"x53cee6a82909fbdc":[[2355],[6]],
-"x846b1fc74a2bf26":[[2723],[2]],
-"x20521cca0829c24c":[[1178],[3]],
-"x4a5cef2b6bec8986":[[1763],[56]],
-"x921809caedd5facc":[[3834],[3]],
-"x58c997c2bdaafa29":[[2917],[6]],
-"xa219010318ae2caf":[[262],[5]],
-"xc656962bba7cef4f":[[3749],[6]],
-"xb4fb8c793987cf2d":[[278],[4]],
-"x66698e7b5b088fef":[[323],[8]],
-"xb20a6efc19f661ee":[[3436],[11]],
-"xcf9887d719296cac":[[1250],[6]],
-"x3c4861cd748b26de":[[3234],[18]],
-"x681c7ff45f416f2a":[[3761],[9]],
-"x2d401dd965fe75de":[[861],[34]],
-"x7dc7763563ea3a79":[[2919,3956],[10,2]],
-"x9e3ae07e6ad00cc4":[[1106],[3]],
-"xde98a785b186d515":[[3902],[3]],
-"xe60bcbbfe618e28b":[[787],[3]],
-"xe669b659610750a8":[[1699],[6]],
-"x28e1deac00cdd788":[[536,262,1762],[12,4,2]],
-"xdd6468563fa51d58":[[3958],[4]],
-"x9e75090511068b04":[[82,405],[44,8]],
-"x7a26e39728eebb21":[[593],[5]],
-"x6d1687731f4de58b":[[1762],[7]],
-"x90dcb1edb785ff1d":[[3964],[9]],
-"xa35dba672903e9c1":[[3436],[5]],
-"x6f1f5e2bc658b1c5":[[594],[6]],
-"x8bdd50974d714d87":[[3902],[18]],
-"xa05caeaa7fc8cd4c":[[2258],[21]],
-"xb6dcf620b3bb2ab7":[[3902],[4]],
-"x7fbb225ef6f30953":[[212],[15]],
-"xb1716e9874b9c506":[[3298],[3]],
-"x6cd1d5a8b4c3a42a":[[3299],[5]],
-"x9570ebe91a223dd6":[[3688,3502],[4,2]],
-"x751ae95e74fa0484":[[3749,3104],[4,3]],
-"x79f6dce7abdb8953":[[2932],[3]],
-"x4b8ea0e92c549ab5":[[3947],[5]],
-"x50833c84aec3a8e":[[1959,3559],[6,1]],
-"x8741579121177928":[[3566],[5]],
-"x7ab0b1b040fc402f":[[3169],[8]],
-"x82e930a0867a5025":[[594],[3]],
-"x31c4c542a4185bdf":[[1618],[4]],
-"x96e25f3194726aa8":[[1758],[6]],
-"x648a80b9d721cb21":[[2723],[1]],
-"x3bfbab4c70c390ef":[[1382],[8]],
-"x6ba0fa8eb2d43a01":[[4013,3898],[14,5]],
-"x9318268c576e02c7":[[3699],[4]],
-"x5c47e825ec4aaa2":[[3169],[15]],
-"x3ce0c361801611c6":[[3902],[5]],
-"xb67ef6293245d09c":[[732],[2]],
-"x33de985cd9c31ea2":[[643],[3]],
-"xd9e474a655d120bb":[[2723],[1]],
-"x85f0396dbcf7d81c":[[1516],[3]],
-"x6e1e07142474a455":[[3956,3742],[120,6]],
-"x5b7edd60e04e903f":[[3699],[3]],
-"x7681eb76bc1a2baa":[[2154],[6]],
-"x97a2f76e1e80a946":[[1618],[11]],
-"xcc4ab61feea5ae8c":[[166],[4]],
-"x21d433141a53fa75":[[3882],[4]],
-"x2d013503ead23081":[[3808],[2]],
-"xba0e977223a89f71":[[405],[6]],
-"x37e81b1804b32028":[[2414],[142]],
-"x18d6df69ae6133d6":[[3299],[2]],
-"xbcc2c3f1cd4f5c4e":[[3902],[4]],
-"x47e8cc6400d2113b":[[316],[3]],
-"xcb06db19090f9609":[[3763],[6]],
-"x4185534ee83437fd":[[926],[8]],
-"xcb5e65c13f566d72":[[1219],[6]],
-"xece3bde507d7e637":[[3177,3763],[5,3]],
-"x6986c4fb0bffd5b5":[[2918],[6]],
-"xa1786554139f67a9":[[2203],[4]],
-"x2ed5c856e7917fb3":[[3300],[3]],
-"x39a691df7150ed3e":[[3502,3752],[38,1]],
-"x10ae9ed71728b2b8":[[1371],[3]],
-"x791b98862f609fb":[[3761],[5]],
-"x45061114e66febf5":[[2265],[2]],
-"xd13fac19ff4eadc7":[[3690],[47]],
-"xf13b64bf5cc619c5":[[4013,3690,3372],[42,8,2]],
-"xcb0ec79be5d425b1":[[3947],[3]],
-"x7980fefedde2d956":[[1366],[6]],
-"x594f7443527e8c6a":[[334],[10]],
-"x1d01a13c7bdde1dc":[[323],[12]],
-"x76df6bcdcbc5bef7":[[1681],[4]],
-"xb93efe2205509f34":[[339],[29]],
-"x24bd2d949a767d6a":[[334],[55]],
-"xe452912a8c48dea7":[[3437],[2]],
-"x95cb0ad9afed8eb6":[[2203],[15]],
-"xe0d9a0601d8a3ba8":[[3902],[2]],
-"xd3891c8cb9b113ea":[[324],[3]],
-"x5e96a13bf082a417":[[3697],[3]],
-"xf4d65965498499fb":[[3364],[5]],
-"x1998d822715ff661":[[1176],[4]],
-"x28079763b6a3c9d8":[[2334],[4]],
-"x14ef86781e8ec0cb":[[2453],[14]],
-"xd32354c3ff69bdc2":[[262],[5]],
-"x9f10b9491bc5ae1c":[[3688],[4]],
-"xd7f12b09be2d9b72":[[2602],[4]],
-"x50d6c2bfaeadb7cd":[[324],[3]],
-"x9f9b750d7ea42309":[[3902],[4]],
-"x33d6f5dff77ac9c4":[[788],[5]],
-"x8357117ffecd14c3":[[3104,3429],[22,3]],
-"xc4a2fc23eac3def7":[[3902],[3]],
-"x20883031eb35ccb3":[[3567],[2]],
-"xd6bf6c34bc3f96a8":[[1242],[4]],
-"x70e7e57e0480574c":[[262,148,166,926],[81,17,5,3]],
-"x2a8f4042270fa6d5":[[3177],[4]],
-"xbe333b6834871480":[[3690],[5]],
-"xd3b43e4cc4313578":[[3307],[3]],
-"x88b3e84948d5afb3":[[3892],[3]],
-"x6fe82fd06436f5e4":[[3641],[6]],
-"xe9e0c12fca9e014":[[795],[4]],
-"xbbba51d57fb9c209":[[3938],[2]],
-"x125169f5481120ee":[[204],[4]],
-"xd3b8dfb4eb511f05":[[2908],[42]],
-"xec335f803cd05d47":[[3299,3902],[30,5]],
-"x7f50f7b3ca91a998":[[82],[2]],
-"x5a95801dbb6966bc":[[262],[206]],
-"x9824ca1d8e4cd56b":[[323],[8]],
-"x867d12e8cbc6748b":[[2915],[1]],
-"xbd4af23f9dc05e51":[[258],[4]],
-"x45b1bc055b1fcc7b":[[82],[4]],
-"x293743474a7a6bc1":[[4013],[5]],
-"xf8cb2cf41e84e29e":[[3902],[5]],
-"x6765de4076ca4dc0":[[2137],[5]],
-"x20b968c21961ced2":[[2908,3688,3299],[141,4,2]],
-"xa6211deb9667f225":[[1371],[3]],
-"x7bb3d2fbaacb45a2":[[3307,3299,3242],[16,6,3]],
-"x66034d4aac0744b7":[[3307],[25]],
-"x2179ed4842a28771":[[3735],[3]],
-"x94b3e4faf4573a76":[[3],[9]],
-"x62dce214f94ee0dc":[[3902,3742],[362,1]],
-"x5cb08200538139eb":[[258],[7]],
-"xee4de99ed9997894":[[658],[5]],
-"xf8a467d3e8407c":[[2098],[3]],
-"x3cffd46ade243ee6":[[3169],[3]],
-"x4142801f60696264":[[2219],[3]],
-"x101759d45194011f":[[211],[4]],
-"x4cf7f379d5189c7":[[983],[6]],
-"x823f8c8bfcccfaa2":[[1180],[4]],
-"x4a471cbcb3990bb5":[[1699],[3]],
-"xf796509ef6b051d0":[[3761],[4]],
-"xe1d907ddb554ef79":[[787],[3]],
-"xfafac33779d0a6da":[[4013],[4]],
-"xb57a9396f6bd2af3":[[2136,2124],[25,4]],
-"xf7486357d05384c6":[[75],[3]],
-"x1e7e602c11714c6c":[[262],[3]],
-"x9c36632a66e4902d":[[3690],[4]],
-"xa49f9203ce2c3be3":[[2272],[3]],
-"x7b4af3d7f5bf015d":[[3300],[3]],
-"x5ee5b026c294348e":[[3699,3567],[18,2]],
-"xd13b881d095a27c8":[[3502],[4]],
-"x9a5adb54be386f98":[[1799],[4]],
-"x65fd626603e6ddc5":[[3756],[6]],
-"x9fab5dfc674ade19":[[276],[1]],
-"x9d81466f8a1b441":[[2915],[31]],
-"x98b090c0d81a159b":[[1827],[7]],
-"xf1ef3b61180048a6":[[3177],[2]],
-"xf95a962a4684a965":[[3178],[2]],
-"x9bfd26346424283f":[[204],[6]],
-"x45c65b144307903f":[[3690,3817,3763],[62,24,6]],
-"x247787524979f41e":[[258],[4]],
-"x5f5771df1aebed9e":[[82],[4]],
-"xb3da067d7c877a6f":[[3502,3761],[17,9]],
-"x9ae35b968cd04486":[[1827],[6]],
-"xa73a463d2a460795":[[796],[2]],
-"xe882a01118609648":[[796],[3]],
-"x95cb9a0112871ea2":[[334],[41]],
-"xf525ce0eeb57cf0a":[[1115],[3]],
-"x85b9650c25131cb3":[[267],[4]],
-"xc6adf93ab72065b8":[[3947],[4]],
-"xb5f49cc0e6e0a415":[[3756],[5]],
-"x4936710e3db236e8":[[771],[6]],
-"x9a1c8701c8110792":[[528],[6]],
-"x3f3c1163dbd2a156":[[2664],[6]],
-"x69e096e746ee8d3b":[[2260],[3]],
-"x5aa788751c533150":[[1746],[11]],
-"xbe94769de3a4a480":[[2907],[3]],
-"x2cacd56294609fe5":[[4013,3502],[10,5]],
-"x91083a197f12864c":[[3811],[5]],
-"x1174545d70980265":[[666,796],[8,5]],
-"xb6e25b280bc70995":[[3372,3817,3763,3112],[386,8,6,6]],
-"xf672e232749199e9":[[1770,262],[7,7]],
-"xed1d3f63ed853f6":[[346],[8]],
-"x3d13591ed3bbaecb":[[334],[3]],
-"x35048b561105c13d":[[2217],[8]],
-"x4e9af84f784400b":[[3559],[5]],
-"x54fe20b8a6ccc96":[[3234],[23]],
-"x73ae52f9146fe569":[[2748],[3]],
-"xa3df001fa78f152":[[3413],[6]],
-"x1a052cdc10e75428":[[3574],[3]],
-"x1928bd69988d1100":[[137],[2]],
-"xb6ea42f86ac90610":[[641],[6]],
-"x5716a1af3a683a10":[[1178],[7]],
-"x813ebc4acdd9b394":[[334,666],[28,6]],
-"xf49bdb64ae42314d":[[334],[6]],
-"xd8e33b2b7ffa6af8":[[1420],[6]],
-"xfaa20b04e35accf8":[[731],[9]],
-"xd87e5e06e4531472":[[3763],[3]],
-"x358a3da798b1ac12":[[2715],[1]],
-"x9787e34afacd5136":[[140],[1]],
-"xff6deeb9bfb8627b":[[729,918],[43,4]],
-"xe6a218cf8b6ec8aa":[[3112],[133]],
-"x4444b0b0663a93da":[[659],[3]],
-"x44cd9f3a7cdc2489":[[3752],[8]],
-"xec16a9685cf4d7c7":[[2778],[3]],
-"x54b16e39ee271402":[[2787],[5]],
-"xbeebb41b796a3aeb":[[3502],[2]],
-"xf56c7f02aee252b8":[[4013,3372,3364,3234],[49,17,7,4]],
-"x84eb6387669f2620":[[3169],[3]],
-"x6675aec6111982c1":[[2281],[7]],
-"xf9ed00796740d6af":[[2740],[4]],
-"x95ec655a83967c41":[[1876],[4]],
-"x5c4e8249f86d3816":[[594],[3]],
-"x11f7955364214ad0":[[262],[5]],
-"x5adc3621e6899cd9":[[211],[12]],
-"xb8edf451a927f0a1":[[1681],[4]],
-"x33c1774650f9ebd7":[[926],[12]],
-"xc4be0d8e9947d142":[[3771],[3]],
-"xf16d3ad78bc100c":[[332,137],[5,4]],
-"x113534cdc2383472":[[853],[3]],
-"x22076ff428eeba7b":[[1611],[3]],
-"x2ea7bb98aa66c0ba":[[2610],[8]],
-"xac55bc9b596fe4dd":[[3761,3964],[23,3]],
-"x7cba2eb005bd8406":[[82,918,166,788,1699],[1157,216,56,27,11]],
-"x64861f7810d6b2e0":[[139],[8]],
-"x92c7c03fa56814c0":[[1632],[7]],
-"x535107cae0df5604":[[3742],[4]],
-"xa951e4af5a4ec559":[[723,983],[63,4]],
-"x886a5e61e213ccfb":[[3769],[3]],
-"x5a665bd079ad5a2e":[[666],[13]],
-"x7ac278e8366b08d2":[[593],[6]],
-"x46e5a6f14db842d3":[[2982],[6]],
-"xbfb1cc49b4e4b1ba":[[2721],[3]],
-"xc2e2f5a88284201b":[[3359],[3]],
-"xaba14136f7f505f6":[[2926],[8]],
-"x8ca1644c24b41085":[[1676],[3]],
-"xda03a072b1ab96e5":[[3642],[1]],
-"x6f211183911419a4":[[3325],[7]],
-"x3f958ebf7813e824":[[82],[3]],
-"xd9f4bf3b5eac5582":[[528,139],[53,2]],
-"x223794aaf7864c06":[[660],[3]],
-"x8f5b54eecb6a16fa":[[528],[3]],
-"xb9e38eabc4657e9c":[[3112],[2]],
-"xc29f0ce86a4d8485":[[1763],[2]],
-"xeeeda5dc16434bf4":[[3902],[4]],
-"xcc0533ddd1369d3d":[[4013],[28]],
-"x6035bb0eeb27a2eb":[[991],[3]],
-"xb2914194761b538d":[[1291],[4]],
-"x25c9a3cf6ea0f91":[[3234,2268],[10,9]],
-"x223878823ac6618":[[1553],[4]],
-"x8a27dceb874191ed":[[2227],[4]],
-"x156d620046b8cd03":[[3502],[5]],
-"xb93eb6207ccff13a":[[3958],[7]],
-"x3231275e6fbbcb7":[[3242],[2]],
-"x14697443b3731101":[[731],[3]],
-"xe11f188506333a29":[[536],[4]],
-"x9bef5e154d97b86e":[[3832],[3]],
-"x57a6ff9e4312b089":[[3307],[8]],
-"xe6a814090d576589":[[166],[5]],
-"xc2baeab652ab648c":[[1699,262],[2,1]],
-"x72c8883289461093":[[262],[3]],
-"xcbabc4bdcd8bdefc":[[1371],[48]],
-"x2cebfad88650129b":[[3807],[3]],
-"x25e2f2498dfb52ec":[[3436],[8]],
-"x492f00f6ff15216b":[[657],[9]],
-"x3a2cb021a894dbd7":[[339],[8]],
-"x82d2543a155b193c":[[2419],[6]],
-"xe538e8fe024fc993":[[593],[5]],
-"x85ff73b1211a27d2":[[3929,3956,3690],[53,29,5]],
-"x439bb5312c3d31b6":[[4013,2203],[21,2]],
-"x556cb4d61a39c159":[[2090],[2]],
-"x37461cf17dfecb1":[[2709],[1]],
-"x6de2a80b714b83f2":[[3501],[3]],
-"x33d2aa469022f21a":[[203,991,454],[76,9,2]],
-"xeb128939cfb6d35e":[[918],[3]],
-"xf6b02b2c6d52c0ae":[[4023],[3]],
-"xde71b32ecabaf511":[[863],[3]],
-"x9523058a82cb004e":[[594],[6]],
-"x95e39476464576bd":[[3112,2715],[4,4]],
-"xbe8baa76c179b66":[[3104,2333],[6,4]],
-"x6bd674c3e3aa643a":[[3761],[12]],
-"x4077f168778678c5":[[2228],[3]],
-"xfde9cc451691cc10":[[3929,2609,3299,2657],[252,71,16,14]],
-"x2b206d5662f57059":[[2722,2739],[6,6]],
-"xe5798c4d1c762f1a":[[2266],[6]],
-"x9e04191f202c685":[[3828],[1]],
-"xff2c91be91736ed1":[[3690],[6]],
-"xd4e16a9200215996":[[1237],[3]],
-"xa836e79eb744f76a":[[324],[7]],
-"xae670726484c4c49":[[2260],[6]],
-"x5f54c4316f2bc738":[[2720],[3]],
-"x9ab82d070ea5379c":[[3299,3374],[6,2]],
-"xdc06aa9d03535d4e":[[219],[11]],
-"x34a1e771a4a620ec":[[3828],[8]],
-"xbd6f49ac19d904b":[[4014],[6]],
-"xd976d26a0556a2b7":[[3749],[17]],
-"xff508b7acbc68059":[[2],[4]],
-"x77efc991b09aea17":[[584],[3]],
-"x57f5f1f9513e850b":[[262,666],[40,4]],
-"x91e28737c9b2cf32":[[3821],[2]],
-"xcd73cd2cc7a85a4f":[[2266,3929],[4,2]],
-"x7732c8112c107e39":[[3756],[11]],
-"x3e47c90193d48f33":[[405,788],[4,4]],
-"x6509102668f7eee0":[[4013],[10]],
-"xa23d039e0f32baeb":[[452],[3]],
-"x238bc5b72cdba7a4":[[3898],[3]],
-"x11a6c9f8c82a3a6":[[2452],[6]],
-"x8d13992cfefdda1a":[[3558],[3]],
-"x32db68d6b9c18db":[[2208],[3]],
-"xdbced1fe13731f1c":[[2211],[3]],
-"xa46835ea01278182":[[139],[5]],
-"x60605c9153083592":[[2257],[3]],
-"x6e93747dd6052f78":[[2931],[4]],
-"x28ff2f62a10ff31c":[[902],[3]],
-"x92db3c7b2d3dff2e":[[3436],[1]],
-"xcd60a7d2df264e0f":[[323],[8]],
-"xf867d2d98b8ee89c":[[2916],[6]],
-"x9f0745461e5a9042":[[4094],[3]],
-"x9c2a81119be2d0b5":[[262],[3]],
-"x77044ac1c2ba1fff":[[3169],[15]],
-"xc3325896cebc4e0b":[[2833],[2]],
-"x62155f93f56ed434":[[1307,1828],[20,15]],
-"xaa8601abeedd3601":[[2414],[6]],
-"x51cc0ed1cd794266":[[3956],[4]],
-"xf0cda7326afbb6e0":[[2090],[8]],
-"xc6187ba42b5bd357":[[3169],[6]],
-"x600e08465f60cb87":[[166,918],[15,5]],
-"xfc814727d49b42be":[[1122],[3]],
-"x5e48668c7784bfff":[[3771],[2]],
-"xd257dfc1eaba514d":[[3169],[6]],
-"x4ed024237b209e3d":[[324],[9]],
-"xe690154ea5203cd6":[[1699],[2]],
-"x410a6cea68201cfa":[[3808],[4]],
-"x1baf5fbcb552109d":[[334],[5]],
-"xc425a4ba23c5d70b":[[3306],[1]],
-"x2fe7fb4c60f469c5":[[2463],[4]],
-"x37791860de82056f":[[2889],[3]],
-"x55f2261a29a02c1c":[[3699,3902],[19,5]],
-"x2651b4847c26e314":[[1827],[3]],
-"xa03adbacb9b0d357":[[1098],[6]],
-"x48e403bc16913267":[[528],[11]],
-"x16950329d00c5f39":[[3429],[5]],
-"xc42addb98cfebb58":[[3169],[7]],
-"x945a714bccbef20":[[334],[8]],
-"x8a77b0dc0a1b7bc8":[[2224,2228,2217],[17,17,3]],
-"x6c96908cb8d5e671":[[3429],[5]],
-"x6a2b655ccfd3bd40":[[2940],[2]],
-"x243e1c2cdaf20764":[[3298],[5]],
-"xacc0a56d58f9a1bd":[[3112],[3]],
-"x44557459ad660c7a":[[1699],[3]],
-"x5bc5eae17ecc5178":[[731],[2]],
-"xe8bb9140d6d24330":[[991,139],[8,4]],
-"x99cc4d17cfc68dd7":[[3938],[1]],
-"x51b59896f9d07c03":[[2998],[3]],
-"x6c0218aad18dc30b":[[3826],[3]],
-"x762ca3824ca6c7c2":[[3242],[2]],
-"xbd9b5249cc7549b7":[[1876],[3]],
-"x7ecaa7a076161104":[[1049],[6]],
-"x6997a0556a0a38cd":[[2973],[3]],
-"xb08d52ffbaff7891":[[258],[32]],
-"x6c95cbd607315126":[[1380],[96]],
-"xe5f411c3863f21df":[[2851,1941],[6,5]],
-"x64ef8e98d0000ebc":[[2277],[3]],
-"x544546aad9f61ae2":[[2203],[10]],
-"x507a47af4661ff06":[[3242],[11]],
-"x107607371c8dce6e":[[66],[3]],
-"x9fb311082ca84d62":[[333],[3]],
-"xaf2f1574cadf8ded":[[3642],[5]],
-"xdeebfd23e6683202":[[2163],[11]],
-"xc90aa5f6ffac93e9":[[1611],[29]],
-"x1d0a8fae00eacab7":[[788],[3]],
-"x3b0cd532ea752850":[[82],[4]],
-"x35a6e0f3e7f3bf4c":[[658],[31]],
-"x8062e3aaa2783e62":[[3902],[30]],
-"xb1efebee3b34fb1":[[2674],[10]],
-"xe54fb759c004a738":[[3353],[3]],
-"xa4112035bf3180f8":[[4020],[3]],
-"x9dbb69df694945cb":[[166,324],[32,7]],
-"xddd81016fb977c5a":[[3828],[2]],
-"x5ed39494eec60acc":[[262,723],[4,3]],
-"x8efec415b7b36ca8":[[1699],[9]],
-"xf3f02229c93f94a4":[[3826],[2]],
-"xb87cc73107537217":[[2851],[3]],
-"x7eda14bd50651844":[[2332],[3]],
-"xd426698a66ae3ba5":[[454],[3]],
-"x39e5a32c37f07b00":[[1894],[1]],
-"x56973309bcb3d01":[[2867],[6]],
-"x93b04bdf66978e30":[[790],[8]],
-"xf57b0df2b832d77d":[[4013],[4]],
-"x3c34c61ecc9ad09a":[[593],[3]],
-"x96080055f6d323bf":[[339],[4]],
-"xa22ce7e53a438be4":[[2],[4]],
-"xff0093efd6e4ec45":[[391],[7]],
-"x360f31c7f239e292":[[2332],[1]],
-"x9bbc3819bcb69630":[[1321],[4]],
-"x1320a553470c69ff":[[324,148],[29,22]],
-"xd444ce27f62dce18":[[1763],[25]],
-"x241852b4054aaa25":[[3112],[6]],
-"xeffdfda328874763":[[82],[6]],
-"xb64a758cb16b1467":[[3699],[9]],
-"xfa46ac044903ac7e":[[853],[20]],
-"xb145e66bb751ad2f":[[3699],[4]],
-"xb8beb8ffde7a3920":[[3307,3567],[8,3]],
-"xabe9676bd9c1a387":[[3307],[5]],
-"x7ee69477b738cc90":[[204],[8]],
-"xdaea5c4095a3a605":[[258],[4]],
-"xe0e0edb4f2c6b704":[[2420],[5]],
-"x840a0dbf3653ea92":[[3305],[3]],
-"x6dc367ffebc3d345":[[32],[3]],
-"xebaa2e35fc767afd":[[262],[1]],
-"x86c505e82375c8ea":[[2331],[3]],
-"xc7aaeae41fbbd495":[[1098],[11]],
-"xca660c79f1e3998c":[[2940],[5]],
-"x2575246665eb123":[[3567,3763,2715,3956,3817],[219,54,7,3,2]],
-"x91c7b21db342a563":[[3171,2851],[2,1]],
-"xfddd909f79c4ac59":[[1770],[6]],
-"x9d6260e50bd815d6":[[2723],[3]],
-"x90cb416abe308cc7":[[3964],[1]],
-"x48fe9fc6fdd2bf8e":[[3938],[3]],
-"x9a868b4fae80d352":[[1684],[6]],
-"x7cc6e29f5a3bc5a0":[[722],[4]],
-"x2e24a528af32e06":[[2657],[14]],
-"xbf4a196df6edb27d":[[918],[1]],
-"xe879c3ade45901ab":[[3956],[3]],
-"x552e1c0dc8741aa7":[[3956],[2]],
-"xc305a1f7cf53e1cc":[[1810],[2]],
-"x8ba809e8fcca66f":[[3169,3372,3502,3364,3307],[119,18,10,8,7]],
-"xafb4579f4b753992":[[651],[3]],
-"xa474d9a8704472ae":[[1244],[2]],
-"x2857ba610ccf294c":[[2209],[3]],
-"x5699a3a8e06d8d67":[[3902],[1]],
-"xdffce4c3ce5eca14":[[2851],[4]],
-"xc69a34285f49f1e1":[[3699],[7]],
-"x6c430ec25b05eb30":[[3754],[3]],
-"x34d17d421e50a6e1":[[2915],[9]],
-"x842785b1957dd34d":[[82],[3]],
-"x37098891baa9c20a":[[2267],[5]],
-"xbd1a324f435407ee":[[1682],[2]],
-"xd167679ae7f2018d":[[1826,3956],[33,3]],
-"x83b412cc15b1eb27":[[3763],[3]],
-"xa3268264eb0de57b":[[82,918,731,593,601],[203,103,17,7,7]],
-"x2b30b6eb8d1a5d5":[[1699],[6]],
-"x2ffc32b8250968f1":[[216],[4]],
-"x970f2d1cfb6e010":[[396],[7]],
-"x3636148bcc3e8717":[[1763],[4]],
-"x875e5b890a62efb5":[[1697],[3]],
-"x5de12b6561c59295":[[3632],[4]],
-"x70bb37e0585d7fc0":[[1307],[2]],
-"xe3757db94ef66139":[[2350],[1]],
-"x99a2cd3d5f35620c":[[852],[1]],
-"xdcc71b0926d04ac8":[[1699],[2]],
-"xbf4afc69d3d7f959":[[721],[4]],
-"xa2ad57db98ce7af3":[[1762],[5]],
-"x2a3c5df2fc61db55":[[3761],[3]],
-"x523522fcc96d63cd":[[213],[3]],
-"x69dc287595c381d3":[[3642],[2]],
-"xdb505d3e8506668d":[[1681],[3]],
-"xe16e0dbe22b1e74a":[[3902],[1]],
-"xe1994ec6a6eaee23":[[2526],[3]],
-"x680964e4706c27c7":[[3170],[3]],
-"xceaba04536024e0a":[[3902],[7]],
-"xc3df78210ad3a190":[[202],[2]],
-"x144bc0842e0835a":[[798],[5]],
-"x62cedbd2545aaf68":[[1748],[5]],
-"x88ad60926d73dd5e":[[3947],[5]],
-"x285511d304873045":[[3307],[6]],
-"x722fa034b8fe280f":[[3325],[8]],
-"x483e5515c577565a":[[3763],[4]],
-"x4be4c06744078347":[[148,1745],[68,7]],
-"xe3b7b2e34ef352bb":[[3104],[2]],
-"x5aa4daaea36577ec":[[2740],[11]],
-"x629bc032b86284f3":[[983],[10]],
-"x162c3652c4d1be00":[[3429],[1]],
-"x36083a84245f9acc":[[3902],[3]],
-"x7fd57038fd3dde60":[[593,723],[3,1]],
-"x6ce5911928b0cce":[[2851],[4]],
-"x1c5a7d2971d2141b":[[666,723],[9,3]],
-"xc254892dbd81bbe3":[[3365],[3]],
-"xb8a3f5079667bdff":[[1120],[4]],
-"x65d0f5ba24ea842":[[2072],[6]],
-"x2bef7ea0871c9a8f":[[2],[3]],
-"xc240e558de5ea39b":[[722],[3]],
-"x452421c86b8b0fbc":[[1757],[4]],
-"xe701c83a07fe70a0":[[334],[6]],
-"x5fef99a5a15bf378":[[2461],[10]],
-"xe22c42517fd53e61":[[3169],[3]],
-"x57fe87c7bea47c8":[[3902],[7]],
-"x6b2a74564174e95c":[[1355],[3]],
-"x56fc10112917b5ba":[[2477],[6]],
-"xf603526526e31e96":[[3902],[12]],
-"x6d252b45f5070ce4":[[967],[3]],
-"x49e3fd0a4cb255ff":[[788,203,209],[76,8,5]],
-"x41e30441780768cf":[[3958],[3]],
-"x29dbdb2798f59c22":[[3964],[3]],
-"x51e25f0edbb0a280":[[1382],[3]],
-"x503708fbe6f61de0":[[3559],[5]],
-"x3ead879a332c0934":[[1292],[2]],
-"x7293fa0e07e51378":[[262,658,666],[8,5,2]],
-"x14cf53b0d2b4eb50":[[3964],[3]],
-"x6ef3a0a3b7ab8964":[[1699],[12]],
-"x6cf0edb1f59885e":[[3112],[3]],
-"xd21895ac3ced73df":[[75],[4]],
-"xb6831a52f9e546c6":[[82,339,1699],[73,38,19]],
-"x887778aa7f20749c":[[2412],[6]],
-"xab4cd0d0575379e9":[[3828],[3]],
-"x371140681cf374a1":[[3817],[9]],
-"xa4010ec40839c213":[[3169],[3]],
-"x1d8175aa2a5c172b":[[3826,3169,3307,3690],[37,21,14,11]],
-"xb47944f7b7d3c13a":[[1179],[2]],
-"xe236dc8dafc5d42b":[[2006],[68]],
-"x5c02e808769137ef":[[861],[6]],
-"xe24d6d4b56f17704":[[3742],[4]],
-"x1120acb17007aa38":[[3372,3364],[23,4]],
-"xeff9483b194cb105":[[3902],[4]],
-"xbc9b45b8a8507a62":[[1098],[5]],
-"x2a4d27f6e852584b":[[3699,3234,3964],[28,7,2]],
-"xcc1033c028ae55f8":[[3429],[4]],
-"x796da967e4510fa7":[[342],[35]],
-"x67c6d9b3681d67b5":[[3169],[4]],
-"x36310bf7af6c352e":[[3958],[3]],
-"xd194074c7f65e539":[[3763],[3]],
-"xe38ebbf0c06584b5":[[2387,3372],[33,4]],
-"x6d3f102a6d9c2ece":[[1699],[17]],
-"x7f8ee7e6872255b9":[[3494],[8]],
-"xb39fa58dab5ba75":[[334],[9]],
-"xcb5cfd4c1b7a701":[[1371],[2]],
-"x3be3d1dc660a781":[[2186],[4]],
-"x3e9dfa0c2b2d9313":[[2228,3763],[37,6]],
-"x978ba2b892eb7f5f":[[323],[4]],
-"x46e0599a50c02bdd":[[3958,3299],[616,476]],
-"x3a23c52260f8734":[[3364],[3]],
-"x63944b75aaae9e62":[[2348],[4]],
-"x789c53581d8cec5":[[204],[3]],
-"xe5aed7f3419c2643":[[1485],[16]],
-"xd1ee6d2534d45cec":[[3964],[9]],
-"x3c9bf305bcd6f2c":[[259],[6]],
-"x42bf9f8dd9926ab1":[[601],[4]],
-"xbc68220b72d9226e":[[2918],[6]],
-"xa2d7ac1f2759d01e":[[3371],[6]],
-"xba370eb8279647da":[[3902],[2]],
-"x418f13eea9848444":[[3299],[3]],
-"xc4b3d14676b1373e":[[3242],[3]],
-"xdd8392c589701b36":[[1762,528],[9,4]],
-"x3c370f1a3b7c190b":[[2137],[38]],
-"x43785b7cd512a4f":[[4013,2266],[12,8]],
-"x739bb9507f3b71f6":[[2],[3]],
-"xb1f0c610331e014a":[[3641],[3]],
-"xb6608e45bfa491ed":[[3372],[6]],
-"x62251c3e8a145072":[[3958],[5]],
-"x690e66a5cfd4ec29":[[2852,2254],[3,2]],
-"x388b56d544175193":[[1164],[4]],
-"xd8277ffdc4676608":[[3699,3502,3763],[9,9,7]],
-"x4406eaade689d197":[[3763,2720],[29,3]],
-"xc0a307325c2b93cd":[[3690],[8]],
-"x6e0dc563d6f909e7":[[2915],[4]],
-"x9640f29c7fabb600":[[137,788],[10,3]],
-"x25f3f33b450987e8":[[82,262,1380],[34,12,9]],
-"x606924acdd4d1ea0":[[3234],[12]],
-"x118e0cb9a7aeca11":[[3826],[8]],
-"x65ff4cd160f5e43c":[[2404],[3]],
-"x71ef5c00287cce3d":[[3316],[3]],
-"x7207324811a6754f":[[1923],[7]],
-"xce45c5cff5f8af44":[[723,593,1699],[3,3,2]],
-"xab7eb78f6960d88f":[[148],[12]],
-"x8bbea838b6929aa6":[[3234],[3]],
-"x7494d9511d4811ed":[[3947],[3]],
-"xe50f85945656706b":[[1185],[4]],
-"xd2969123edcc01a5":[[2331],[3]],
-"x15b63c56b0db9268":[[731],[8]],
-"x60c9c7824a000bd2":[[3947],[3]],
-"xec320e5bc0959b08":[[3256],[6]],
-"x6eda5869c3ab8160":[[202,2,332,1699,601],[43,19,10,10,8]],
-"xc80617d9c6e83c":[[3827],[1]],
-"x28efbbb8e2f372d5":[[3232],[3]],
-"x132244ed4b7ea282":[[2268],[15]],
-"x690a84bf545ce0ce":[[1834],[4]],
-"xee1ccede5fcfadc2":[[1763],[11]],
-"xd4f62b938dbfa18f":[[3699],[3]],
-"xd8e7c1161fba4636":[[789],[3]],
-"x1eb062a56c067d2d":[[2723],[4]],
-"xa0d9d2afe36ab410":[[4020],[4]],
-"xa12a3362f0b7d308":[[3902],[3]],
-"x2648a736e12670b9":[[2851],[11]],
-"x81f8d8646be25f1a":[[3902],[2]],
-"x6c5d66a0c33bc5dc":[[3592],[6]],
-"xe558bab6f55165dc":[[166],[2]],
-"xe9850370a6e17acd":[[3567,3234],[22,11]],
-"x2f1826407a645614":[[4020],[39]],
-"x165da06ca3007926":[[452],[3]],
-"xdeca0ecc51b8e6f6":[[3502,3364,3242,3699],[140,34,11,2]],
-"xa65a47753059d6e7":[[202],[4]],
-"xab597cff4b6028fd":[[3234],[4]],
-"x62532b91d07e6a87":[[3690,3242],[7,2]],
-"xf308443aea47ec38":[[405],[4]],
-"xbf981bc85a66e378":[[3749],[4]],
-"x6c06b5a3b1ff82b4":[[3902],[6]],
-"xb28e84c4ce0b2b5e":[[391],[4]],
-"x3b1864c441d879a1":[[3299],[4]],
-"x2e3c81e0b0bcad87":[[2851],[7]],
-"xcded22fae818af95":[[2915],[4]],
-"xf42792c0c937117b":[[339],[5]],
-"x6ef7a19e9930c12":[[1618],[6]],
-"xa009a2a148912b86":[[2851],[9]],
-"xf0b0d41dc00c1d97":[[2736],[9]],
-"x6b209573a38a7bd3":[[2131],[8]],
-"x49ef1c05b7ee4709":[[268],[4]],
-"xda1544060297667f":[[2],[6]],
-"xf31a8d69fb52869":[[2609],[4]],
-"x44a353f6f196d99b":[[4013],[12]],
-"xec75247a6d8637fd":[[3169],[3]],
-"x50cc89a9de675c00":[[991],[4]],
-"xd7087dfbc70e43fe":[[1176],[3]],
-"xd5ca4e2bf3c2d44b":[[3938],[3]],
-"x7981a00983ba60f0":[[1745],[6]],
-"xfbe601710d071997":[[2852],[2]],
-"x1b53a7203aee7f86":[[991,332],[6,3]],
-"xea8d6bc7a2c6c5b9":[[1485],[8]],
-"xc51cbe385dca36fc":[[1179,1828],[6,3]],
-"x6bda3efad9406b12":[[528],[6]],
-"xbe03311fc5019fde":[[4013,3690],[13,5]],
-"x7c48de6b0c35c916":[[3364],[4]],
-"xe90b199ecfd26e1":[[3699],[6]],
-"xd213604db19373f5":[[918],[3]],
-"x27b93825f76d5fd9":[[3958],[46]],
-"x963da899781db582":[[1676],[9]],
-"x271984eb141d8909":[[1355],[6]],
-"x3832edd0e5cbdb0c":[[3811],[5]],
-"x4d68a119763145af":[[1681],[8]],
-"x941676936c4910ea":[[3763,2715],[14,3]],
-"xfa4fc4d7a6905e7c":[[216],[5]],
-"xdf3d80e2c8dc7525":[[1828,658],[7,4]],
-"x6342b63d79edec85":[[1050],[21]],
-"x329b49e9738f390a":[[2852],[3]],
-"xd43cf0d97ae6fba9":[[1180],[6]],
-"xe4d8f2d6ca1f8d59":[[3],[7]],
-"xd54b90dc4170e29":[[324,723,658],[14,12,6]],
-"x8eecef27f9736cb5":[[3309],[33]],
-"xe3b31b02f4915e63":[[1244],[7]],
-"xe5b5f10708577f91":[[334],[4]],
-"x45913bb3ed99d05e":[[137],[2]],
-"xa728e60eaf647899":[[3502],[3]],
-"x73a2dba7e3791563":[[2852],[11]],
-"x3a01510fc7c1ad3b":[[3502],[4]],
-"xa74e2d522c003542":[[2585],[3]],
-"x9a63df420b391a8c":[[1185],[4]],
-"xf437b38bccd1ebc7":[[157],[6]],
-"xaf28f33afe989363":[[3428],[6]],
-"xac0b1f98d1cd192a":[[1123],[4]],
-"x74c8ddbfa1a50ce4":[[334],[8]],
-"x9fabe092e33807c4":[[1160],[9]],
-"xd536c37320f2f3fa":[[3964],[5]],
-"xe1f3dafe883f302f":[[324],[3]],
-"x8325b76e2eed8911":[[3763],[5]],
-"xa531f5b3f681b5e2":[[405],[8]],
-"xd3e1a32f817c728c":[[258],[4]],
-"xa8768e02719ec890":[[3962],[3]],
-"x5c85da956b2a74be":[[2331],[4]],
-"x7ef1ab37568f52e9":[[4013],[3]],
-"xc5f9a79762c1d995":[[3699],[2]],
-"x68eee3e694b7af53":[[196],[6]],
-"x4f1a0950f0b0946":[[2715],[6]],
-"x300d8b0cdc0ec57f":[[528],[11]],
-"xf7af3e875688e2ab":[[1568],[12]],
-"x5be4cbe046cd83af":[[3298],[20]],
-"xcbf67a2b3db63e76":[[2465,2072],[5,5]],
-"x5a8775a5a41d2f9":[[2594],[4]],
-"xf6433606a3a3b830":[[323,536,1676,139],[56,14,4,2]],
-"x403d636e84409394":[[3493],[3]],
-"x3d5c6696f36c7c6d":[[1371],[5]],
-"xcea5425bda596352":[[3690],[3]],
-"x4841f44d32416ddf":[[3756],[2]],
-"xa7c5c715c244a762":[[1178],[3]],
-"x92f6ae8c9e04ef35":[[2851],[9]],
-"x3f85ff1187eef83f":[[594],[3]],
-"x2b68c20d18095b14":[[452],[6]],
-"x600cafc7e8679ecf":[[2443],[4]],
-"x6e3e2a18dc5b7fa2":[[3379],[4]],
-"x8d6a618294c9df8b":[[3742,3826],[11,6]],
-"x8e1ef8b122e2ffa0":[[1569],[3]],
-"xbaebb7fdb92e1a1f":[[2258],[3]],
-"xc1a0ca0a6a5cbd68":[[731],[12]],
-"xd5d69eb79f1a60a0":[[2],[10]],
-"x4ee22fc037937d26":[[911],[3]],
-"x762ebdbabbd96b8d":[[2721],[3]],
-"x13fa517a916b9eb4":[[593],[9]],
-"xafacf29b85c2a74":[[2915],[3]],
-"x2b7033529e98c4e":[[3834],[4]],
-"x9439643f3c8e03b7":[[3323],[3]],
-"x36f69d55897bc18":[[2281],[5]],
-"xc7766f54d733583":[[262],[14]],
-"xc7705686383c561e":[[3429],[2]],
-"xf778d43cb8872a8b":[[3899],[8]],
-"xd192f84e77f90dd6":[[2,202,1699],[40,13,6]],
-"xf29fa014eb7047e6":[[216],[44]],
-"xb56fea4465b46c7e":[[731],[5]],
-"xf01997d187a74142":[[3699],[3]],
-"x67c20e64dcab1f2a":[[24],[30]],
-"xe7604031f130dba5":[[2258],[8]],
-"x74cff48af566f6d7":[[713],[3]],
-"x340442039c2564d0":[[3169],[3]],
-"xe1d63fbffd042d09":[[1699],[45]],
-"x7410ca7ee073b659":[[2658],[3]],
-"x50aa9da3c9aca501":[[353],[6]],
-"xb027cd1c24b54213":[[3690],[3]],
-"x6c71a14c4b015db3":[[709],[6]],
-"xa4a972b62ae51bc6":[[1813],[3]],
-"x3a30302562a6eb1d":[[262],[31]],
-"x160c9d3ea0689c0e":[[2333],[3]],
-"x94ee9a16756d0b55":[[1308],[5]],
-"xf11e04a763aac701":[[723],[3]],
-"x7d391fa1a3caa006":[[262],[4]],
-"x9b93e4e1d9b4f3e5":[[405],[6]],
-"x6635c4f7fe0c68e1":[[2023],[2]],
-"x1d1f821687d5db05":[[1739],[3]],
-"x68402208f495d93a":[[166],[3]],
-"x17c9224721ea4778":[[83],[7]],
-"x404218cbb3831007":[[1228],[4]],
-"x3c5047e1c5eaaa99":[[148],[37]],
-"xc26346e29998a1a1":[[3956,2258,2281],[4,2,1]],
-"xeb5d6828c97467c":[[139],[4]],
-"x475e79a8bc88ab85":[[3567],[7]],
-"xeb412489d22bb7eb":[[3242],[5]],
-"xdde493f7d9103f3c":[[1740],[3]],
-"x6d4bbffd7d524507":[[709],[4]],
-"x81cd3091c6371615":[[203,1763],[15,6]],
-"xd0db5015de4f9732":[[209],[2]],
-"x7f5084ce66fcdc16":[[1042],[3]],
-"x6232581b52962c44":[[2618],[3]],
-"xacddcb7d7592bd0a":[[1380],[11]],
-"x3454e08f0d74405f":[[405],[8]],
-"xc43fd42605d07e00":[[262,721],[5,4]],
-"x23a6dd0d2dfe4bff":[[1],[10]],
-"xb6166ec6c722c4f":[[324],[3]],
-"xd71f39e3c7737451":[[2346],[3]],
-"xe592c34272baafaf":[[1634],[4]],
-"x57cae2a00bed0733":[[324,1375],[3,2]],
-"xfc3f6db2b35e4d95":[[983],[3]],
-"x1af5395cdc3ee9a0":[[1185],[38]],
-"xf9d0b844e23f785d":[[601],[3]],
-"xfa84f387793ce643":[[3902],[8]],
-"x8f2bf6218ccb458c":[[1828],[1]],
-"xb6a377314fde669f":[[82],[5]],
-"x485b668c00504386":[[2919],[4]],
-"xf371bf2ce4e0a5c2":[[643],[3]],
-"x12e790fd6ea5c539":[[346],[5]],
-"xebb7598e0276e3bf":[[334],[2]],
-"xae0df220b4e3326":[[1828],[3]],
-"xfcf4512c99531a2d":[[1262],[6]],
-"x85c3147402d4ee3d":[[82],[3]],
-"xbe0eb06b2161a8aa":[[346],[28]],
-"xdadfe0cb39d19ee7":[[82],[7]],
-"x7a73d8a9d79feb8a":[[1176,139],[15,7]],
-"xfbb4e11ac43205c3":[[788],[5]],
-"x4b6eadd3267a3e0f":[[658,339,918],[27,15,3]],
-"xceb638440471fc91":[[3902],[3]],
-"x4b57bf5ae6b46d54":[[2268],[2]],
-"x2ed775614689854b":[[1576],[8]],
-"x3f1ef0a025632d03":[[3307],[4]],
-"xc929b9f0e5186ba2":[[1122],[3]],
-"xc1ddc693acd0fd05":[[2,202,339],[64,28,3]],
-"x8c3d0aa43a56ea2a":[[1382],[3]],
-"xc973965c36418bc1":[[796],[38]],
-"xb74d75a0ba23dc01":[[658],[3]],
-"x5f3076759743e4":[[2266,3242],[11,3]],
-"x4e478bda1bdf980":[[3761],[10]],
-"x25b4bd1477446774":[[1250],[3]],
-"x823b77b41b82c336":[[1618],[7]],
-"xb5bf3d4b6fc67423":[[2593],[3]],
-"x186636ab5c12daa2":[[1318],[4]],
-"xfc4c8386520c1a43":[[3761],[11]],
-"x6a35f22cabb13ef5":[[4013],[13]],
-"xd0e88cd13f6365eb":[[666],[3]],
-"x55cd85d5c2007594":[[3814],[9]],
-"x33324a11036a0ace":[[4020],[25]],
-"xfc287611ab6445bb":[[2349],[16]],
-"xb56c110e87d97599":[[405],[6]],
-"x11f4b71ded73a85a":[[2908],[4]],
-"x1e630c711ffafc7c":[[2740],[13]],
-"x8d8ee0c8ac9156f5":[[3242,3902,2609,3299],[161,17,15,11]],
-"x99e60011800f8aa6":[[3503],[2]],
-"x196c1e698825ca2c":[[3567],[2]],
-"xf020250228585f23":[[3962],[3]],
-"xbbfa80d19019a244":[[3689],[6]],
-"xe09747e4e289f6c7":[[1371],[3]],
-"xce26a1de901aeabc":[[3879],[3]],
-"x2f71cf72c1a026e3":[[1371],[12]],
-"x6ca4a32ee9d2a1ad":[[397],[6]],
-"x38a74efb92e3db04":[[3958],[5]],
-"x47932f08cbada8a9":[[3177],[4]],
-"x2235c48e42e01150":[[528],[8]],
-"x3eca0e4e55908206":[[853],[3]],
-"x6f6b4dbbb4810ad1":[[2915],[4]],
-"x7b69410c40440601":[[2592],[26]],
-"xb56f6d9c0bb64643":[[3690],[5]],
-"xc83f20a3c881ff4e":[[3962],[4]],
-"x1f0c78cdaf026c06":[[3902],[2]],
-"xf0432397fc9ce4ff":[[3299],[7]],
-"x51e9d91f983d3bf3":[[339,332],[10,5]],
-"xcd72389ef4888043":[[292],[4]],
-"x5812d679e784811e":[[2479],[3]],
-"xacdc78e7fd157c6e":[[1244],[3]],
-"x27df93937b3a88e":[[3901],[4]],
-"x4cad555a0c0a6aae":[[1293,203],[11,5]],
-"x253358ef2eac6269":[[3642],[2]],
-"xdd307d2702ec759b":[[4013],[5]],
-"xd0b843a432b1540f":[[334],[10]],
-"x5d4274d3dd685ce3":[[594],[5]],
-"x5fc013fb53cd5465":[[1317],[7]],
-"x9b2f12f3015f98a4":[[82],[34]],
-"xa516171f6acf534f":[[2592],[2]],
-"xe35ddbde1e6115c3":[[3306],[90]],
-"xc4148ee64bd240a9":[[1829],[3]],
-"xe724504e0f59429a":[[3958],[10]],
-"x7db5a81df3981820":[[2268],[2]],
-"x66f8c7179e091bef":[[3958],[1]],
-"x5d4253b2a8c6e8ac":[[2658],[1]],
-"x1a9ee31d88f12a74":[[262],[4]],
-"x5ef80947b34f7063":[[148,853],[7,5]],
-"xe7ccb04fffc4fb64":[[342],[5]],
-"xb31abba6023b1978":[[3567],[3]],
-"xdedce5c2fe9e2be7":[[1372],[3]],
-"x1a870bc48d58ff58":[[3234,3956,3299],[20,11,5]],
-"xfa8b80f841780255":[[148],[3]],
-"xe71e5ee521a4744f":[[1355],[3]],
-"x1ac1cc2f51540116":[[536],[3]],
-"xd88978873d370a35":[[334],[11]],
-"xef1dd8e2a149d303":[[2724,3474],[6,1]],
-"xa9555ae6d12c86b5":[[3902],[4]],
-"xcb000b20e093c07c":[[4022],[5]],
-"x85031f8e406a96e7":[[3169],[6]],
-"x2aeb05e8fd87e1d5":[[3309],[11]],
-"xe4e862a837f53df4":[[3902],[5]],
-"x702016ff519fef97":[[1827],[4]],
-"x98af5427706cd930":[[32],[6]],
-"x60cef64abbb7aecf":[[3699],[3]],
-"x56e71841def76ac9":[[2915],[7]],
-"x6eb76d12d0a56fce":[[1371],[4]],
-"x29b6f299f78a28c8":[[1090],[6]],
-"x6f8aa56e17a5bda9":[[3902],[11]],
-"x7a1189c474a63c5d":[[3929,3938],[21,3]],
-"x17f140dd694d2613":[[3902],[3]],
-"xf2a25322c441b2fa":[[2724],[1]],
-"xdca19d85df9f7bf3":[[1762],[8]],
-"x6e2c19a540b9e8d7":[[2543],[4]],
-"x5df364d899fe7aa2":[[3373],[3]],
-"x7d95abdfc62b639d":[[3761],[2]],
-"xa58c7d385ef8c690":[[3305],[3]],
-"xe28c8ede1ff0cd23":[[4013],[3]],
-"x4694d3cd7567283":[[3876],[6]],
-"xa6389b00d1bc90f7":[[2333],[11]],
-"xbc98b5c2ff54ddf9":[[513],[6]],
-"x75ed4176c7520abd":[[2268],[12]],
-"x72eab22aa51cc37c":[[262],[5]],
-"x5bd1a8ecd157bb0c":[[262],[11]],
-"x49b94b78a38f59b4":[[4013],[14]],
-"x42b369b1d1c40b07":[[2283],[4]],
-"x608abe9b4a764f0e":[[262],[4]],
-"xdfba6450cb268853":[[1959,1941],[8,5]],
-"xfe797a9041b9e878":[[389],[4]],
-"x48d404d448a3d4ff":[[323],[4]],
-"xd9d2afa550eb0000":[[1828,82],[105,10]],
-"x2913cc2b570abbf4":[[3567],[3]],
-"x23972a5acd759235":[[2755],[5]],
-"x93f7c79bce707d13":[[339],[6]],
-"xc200678fa9c433d8":[[722],[3]],
-"x3317e9f55b9ce135":[[339],[3]],
-"x145f1b5298313344":[[528,3],[19,7]],
-"x9a3c02da38acfc05":[[405,788],[4,4]],
-"x4cb628bb77526067":[[3742],[6]],
-"xfcd5d16913e1b5de":[[861],[10]],
-"x1c808a9513e5af05":[[146],[11]],
-"x5f95b83928a0cda0":[[1050],[3]],
-"x3ae6b314b7f1e838":[[536],[3]],
-"x73dfbb7cd52de896":[[204],[4]],
-"x1d5b5b221ee793af":[[3373],[6]],
-"xcda08686aa809d7f":[[209],[6]],
-"x47c120745f40e8de":[[353,1762],[21,5]],
-"x66c26623dec46b13":[[148,1770],[25,6]],
-"xfd18cbf2eaa23b20":[[1366,528],[3,2]],
-"x6db003d38ad2230b":[[1242],[4]],
-"x87606544cc0dd0ef":[[788],[47]],
-"x96b00396003c7c55":[[3956,3826],[30,3]],
-"x2532dc53f82f6312":[[3372],[6]],
-"x265943fba2dc8535":[[3902],[7]],
-"xc9e8a0bfa5b611e8":[[861,853],[77,25]],
-"xbc0dee035458229c":[[788,528,405,723],[29,29,9,4]],
-"x25dcff1858adebae":[[3761],[3]],
-"xe4cebfb868eddd5b":[[3902],[68]],
-"x333c7ee83949282c":[[3373,3429,3307,3299],[7,7,3,3]],
-"xbf973c8aa88045c2":[[3112],[4]],
-"xa852aace5fb5cf6c":[[209,1699,166,157,216,788],[144,55,44,43,7,3]],
-"x3bde4b0aa6685f94":[[3567],[101]],
-"x8b54b3d394f012b0":[[137],[4]],
-"xc1fdc8cb93427f73":[[2940,3817],[6,4]],
-"x1674f1eb0a168f27":[[3956,3112],[24,8]],
-"x727fd390edc17f06":[[3763],[3]],
-"x661a4857621c2346":[[3567],[3]],
-"xaf1579b6894d4a6e":[[3957],[3]],
-"x764084f21ad51d78":[[75],[5]],
-"x86b6ba1c0a8f45b1":[[709,1098],[10,3]],
-"xa9f63869d6301827":[[3902],[3]],
-"xc6fa6639f7f0bf60":[[3902],[4]],
-"xbcb8a46c426b78c6":[[1699],[103]],
-"x225d3de09206d9c5":[[2139],[3]],
-"xf1cb11dfcd7539d7":[[3169],[5]],
-"x931e21cb780b50ba":[[861],[4]],
-"x8ab4283969520ce1":[[3373],[3]],
-"x5f4b278242e047c5":[[3437],[2]],
-"x848ce83d22d89f45":[[1242],[4]],
-"xe4846ae9abe99f59":[[3819],[10]],
-"x9652949235f7408b":[[3502],[4]],
-"x21c492292770929f":[[3644],[2]],
-"xf8a8a9fd8469c0bc":[[1934],[6]],
-"x7006d2fbc9f31ab3":[[2332],[2]],
-"xf33f7b89effc58b9":[[2147,166],[5,3]],
-"x722db250d8d59cd2":[[3503],[6]],
-"x2c6a65dc0941b8f6":[[3958],[53]],
-"x2004c90af3ff3c79":[[262],[3]],
-"x4771c793384dba29":[[204],[6]],
-"x8818481050dbf04f":[[75],[18]],
-"xc949748244b3680":[[353,731],[8,2]],
-"x27258db1a9a68254":[[3372],[10]],
-"x2882d79842bee874":[[3941],[6]],
-"xf7efaa22ccfd6b77":[[3305],[10]],
-"xc9cb51403f24bf23":[[82],[4]],
-"x5530b2ee135ee10d":[[3309],[3]],
-"xa265d7e578a64f86":[[3307,3234],[2,2]],
-"xabb5df230f89d8c5":[[4020],[11]],
-"xfd51dee851accf36":[[1739],[22]],
-"x3080512072fd54dc":[[1762],[4]],
-"x7bc887c06a95ae83":[[262],[4]],
-"x7974f96a60c23edb":[[3690],[6]],
-"x5855167c8b8271cc":[[407],[5]],
-"x2c9fc961ca58ebd9":[[2203],[3]],
-"x781f9f59d7d9763f":[[861],[5]],
-"x67035720e72f17ed":[[1726],[6]],
-"x4b807ac7530bb72":[[1837],[6]],
-"xee55883f8acd55b9":[[1371],[7]],
-"xc3f2ce602681fd30":[[3314],[3]],
-"x1fdec940960c0b62":[[262,666],[99,1]],
-"x7d00af84221351b9":[[2268],[6]],
-"xd03329902a0fb43":[[2931],[3]],
-"xd82a4debdee5fda":[[1697],[4]],
-"xa2e589535861c1d9":[[2201],[4]],
-"x4795fdaaeb6aca0b":[[3112],[4]],
-"xe793ab7db8970f29":[[405],[2]],
-"x4085de3f49f7c278":[[587],[8]],
-"xe996086b100166af":[[3373],[5]],
-"x72a9e0c0a06fa770":[[262,731],[7,4]],
-"xe7ba29b001bcbc5":[[593],[1]],
-"xc512bbe1237b25c4":[[3364],[11]],
-"x84eeb0c0aa9cf8db":[[3902,2274],[6,3]],
-"xe2b500b4979340a4":[[2131],[3]],
-"x124cfc5401415b90":[[2201],[3]],
-"x37b4be4ac8e77945":[[3112,2917,3177,3699],[13,6,5,2]],
-"x2ca44fcdfcdcb7e3":[[258],[8]],
-"x1b199efbbea3eb62":[[1828],[7]],
-"xd12e03bf0825b620":[[1228],[1]],
-"x145dc05348584713":[[1098],[4]],
-"xdd2f35550d6f30f6":[[3821],[5]],
-"xec4407c22f29a1ab":[[2331],[7]],
-"x8660386ce782e391":[[3763],[2]],
-"x73018e98fb2089b3":[[795],[3]],
-"xc76450e8ede9599f":[[1829],[3]],
-"x50bc78e616b2e029":[[262],[4]],
-"x87a2831560e1f5fe":[[139],[25]],
-"x4123df2cf03562e6":[[3688],[4]],
-"x6c873587aa32fd9a":[[725],[4]],
-"x66a7d284f2a75241":[[2203],[6]],
-"x5682e71220636b74":[[3234],[3]],
-"x12db47153a039f45":[[343],[6]],
-"x87daad26f3219c39":[[202],[4]],
-"x9a59dc6af5bbe78d":[[594],[8]],
-"xf9dd115874688c8":[[2920],[3]],
-"x963526766587f105":[[202,209,788],[89,9,4]],
-"x5184168589aaaa2f":[[262],[6]],
-"x8787336f515dc31f":[[1099],[3]],
-"xd2e8ab40da77a3ba":[[1748],[6]],
-"x2cbe3c6f83d3365f":[[2721],[4]],
-"x546be31442ac2fc6":[[706],[4]],
-"x4df3cd0a16f41cd0":[[82],[10]],
-"xd21e3a2731f3b0b2":[[1699],[88]],
-"x21064aaba409296f":[[4020],[8]],
-"x896719d5b6c7d3d9":[[3344],[5]],
-"x42368210a2d2b385":[[593],[4]],
-"xa9ae6e6e8c03d1f8":[[3690],[5]],
-"x27d3ed40d276001b":[[2462],[2]],
-"x2a37f9c88630b682":[[1355],[6]],
-"xd8e726e54f08b456":[[3297],[3]],
-"xdf86e803c78fb3a5":[[4013],[4]],
-"x46856ca5541e9ad2":[[2284,1226],[10,5]],
-"xd5356013d770d0ba":[[3567],[4]],
-"x829f2612293857f7":[[1121],[5]],
-"x5c02a680d3daba0c":[[731],[6]],
-"x95eb284438beffe2":[[2203],[3]],
-"xb036d0ce8f134db5":[[3949],[2]],
-"x3d059e3bbc957790":[[405],[3]],
-"x82fa557455f88b9f":[[1348],[3]],
-"x77c6714cdda3b34f":[[2723],[111]],
-"xa3685e6aa453a4ec":[[166],[13]],
-"xa4da11736e1ee2ce":[[1122],[3]],
-"x1bfaf0905a523c48":[[1892],[6]],
-"x33aa7326cb279032":[[339],[10]],
-"xb06784b78c5a92b9":[[137],[3]],
-"xf35f2e64c0c3955d":[[3938,3956,3642],[7,3,1]],
-"x44123d48fe682f0f":[[1611],[3]],
-"x91a94f3db4e9f4bd":[[261],[3]],
-"x4a9c09a7ce0ada57":[[166],[1]],
-"xf868b7c02f3ac7d8":[[2268],[4]],
-"x49b0650e86496441":[[3],[5]],
-"xb8f97204a69d45ed":[[332],[10]],
-"xfb3cf68c682e033a":[[1164],[8]],
-"x740beb099d89eb1c":[[339],[2]],
-"x1d9ce1c8787b25f9":[[454],[6]],
-"x5100be34db48d9cc":[[2137],[24]],
-"x85d00facadbed03b":[[2722],[3]],
-"xb432c439f950f3a6":[[1113],[3]],
-"x51c02d1c2721a10e":[[3902],[1]],
-"x2416e0ce84d3cc9d":[[3507],[6]],
-"xc948cb53b66a675e":[[991],[6]],
-"x640a7ecaf12ee4b9":[[324],[3]],
-"x9d9ae6d042877ac6":[[2915],[4]],
-"xa11f9643abffb61d":[[75],[3]],
-"x118233183cb48be4":[[2266],[4]],
-"x1c9694ea6ad208cd":[[405],[6]],
-"x51da0eb69e0348c5":[[2268],[19]],
-"x5709168d3e5e7e24":[[594],[4]],
-"xa53cae91b4ce2906":[[1770],[6]],
-"x7adbfad3bb90513f":[[80],[12]],
-"x5e1292088b57999c":[[3938],[5]],
-"xa1e301cfe1878d6d":[[1770],[6]],
-"xf7705e6811162009":[[3372],[3]],
-"xf435a1612ee16251":[[3641],[3]],
-"x765af1df1b214bfd":[[262],[7]],
-"xe701b3c1276e02d8":[[2852],[3]],
-"x93d0f3b912530d8c":[[405],[3]],
-"x17e80e7861fc3c8e":[[2804],[10]],
-"x7a444a8f69b5d80a":[[324],[8]],
-"x18d131ff31f2b509":[[3502],[45]],
-"x4eae857b00eff0c4":[[2139],[3]],
-"x2a2b3e588eaa920c":[[3112],[5]],
-"x85cfca0540377925":[[2203],[6]],
-"x4d30a9829a1ee46c":[[2747],[3]],
-"x20297240d4817e6":[[3429],[3]],
-"xed288c276a6cee83":[[139],[6]],
-"x6fff9c2f032fd587":[[3699],[26]],
-"x1b7e13263fc0ab38":[[3938,4013],[77,58]],
-"xd74d51ebf799dcc0":[[2087],[2]],
-"xdbeb3204de8fa6fd":[[843],[3]],
-"x975a94e402c3a5bb":[[794],[11]],
-"xf7b0d689ab79015f":[[1699],[16]],
-"x347eb8005138205d":[[925],[3]],
-"x6f015c76d6c7c619":[[211],[7]],
-"x3eb1ffa7ec23f53":[[2266],[7]],
-"x2847889d8803be46":[[4020],[1]],
-"xc1f9878bb5129403":[[3372],[2]],
-"x1d4bce72a0610301":[[2910,3828],[4,1]],
-"xa384acf911020b97":[[262],[6]],
-"x6522e5284724c8e6":[[405],[3]],
-"x5e5a5f650b089e47":[[3826],[3]],
-"x2589d620a68e4c7c":[[1187],[7]],
-"x8cb82ad20b80744d":[[1382],[8]],
-"xb34d9035fc7942e2":[[2794],[3]],
-"x13d4cb1eebff0d7b":[[3964],[2]],
-"x4d35be111f838001":[[2477],[5]],
-"x4b88a33343f45c75":[[666],[4]],
-"x1d3628ea41407398":[[262],[4]],
-"x575f04e3b10b397c":[[3956],[3]],
-"xccfe988d42dbb23f":[[147],[3]],
-"x225fe13c7d266bae":[[3641],[3]],
-"xe828115c5c90413e":[[2527],[3]],
-"xb4d51948fb5f54e3":[[1762,1763],[12,7]],
-"xcacfaa37979ede7f":[[2851],[1]],
-"x558a6027f5ef03dd":[[262],[4]],
-"xf8d57d4bf3fa2937":[[1700],[3]],
-"xd105a3f0e1e26cb0":[[2131],[4]],
-"x88a344cd5f094d9a":[[2648],[4]],
-"xef79ea1f7e374420":[[262],[12]],
-"x9df83ba57d3f78d0":[[216],[3]],
-"xcda0e0436eda71e6":[[2915],[235]],
-"xb2ea245713f4128a":[[3938],[2]],
-"xcf0fa1bb740106b7":[[595],[3]],
-"xd9335064ddcd4133":[[1828],[3]],
-"xec58359d0c6f96f2":[[3364],[6]],
-"xcb727d876769c492":[[3306],[5]],
-"xe26806c800179037":[[3642],[1]],
-"x96ab5900105a19e2":[[339,346],[77,4]],
-"xd046f213c3558541":[[1810],[3]],
-"xb366db2f15d04b6b":[[3958],[5]],
-"x8e01d2ba6c1f9c19":[[162],[3]],
-"x4b97bc059ce3e1b5":[[202],[10]],
-"xeedcf3ff3734b1e0":[[1765],[3]],
-"x3f80c91e4a60676f":[[2266],[4]],
-"x61724f64e992df1b":[[918],[3]],
-"x5fa07387b49821b":[[2090],[2]],
-"x2b2d50f00246c14c":[[197],[4]],
-"xa43e230dea5e038d":[[3749,3958],[4,3]],
-"xde9767b94dd062c7":[[2284],[3]],
-"x18cafc82171362d9":[[3150],[4]],
-"x7f85b0e0976cc7ac":[[1747],[6]],
-"xb70c6acdfb843105":[[983],[26]],
-"xe258c88fa5742128":[[2919,3104],[49,22]],
-"xfe99296eb9550384":[[82],[8]],
-"x65f099cfbb4d5a36":[[262,202],[18,11]],
-"xafeb48e41dc60ccf":[[2137],[5]],
-"x9a990243cc1a4600":[[3817],[2]],
-"xc6edd36cb33954c5":[[2266],[3]],
-"xb14511574b6fe4b8":[[1163],[1]],
-"x6cacecd5b7ef6d75":[[1309,1286],[6,6]],
-"x476e9621daf72752":[[3902],[5]],
-"x6f22b1164f5ccc6c":[[3234,2908],[15,4]],
-"xa03011b6a72112f3":[[139],[8]],
-"x869bb477f16a0a1a":[[3309],[12]],
-"x98ca210b42c0b633":[[2281,3956],[12,2]],
-"x72d9861a5f7d3369":[[3902],[3]],
-"x83a9b29d8dc9da67":[[262],[4]],
-"xc3a6f8a229dadb91":[[3372,3826],[63,2]],
-"xc494c16ee4e9891b":[[3808],[2]],
-"x698d5f9a8058896a":[[3046],[7]],
-"x4592d7a35c854c03":[[262],[2]],
-"xc5be33e8352c9301":[[3169],[2]],
-"xa6918971a9ca390b":[[1763],[3]],
-"x7ae35c545d0d7a3c":[[2268],[3]],
-"x1c02851d7a26c092":[[3808],[6]],
-"x6a8d68bc73e0a51c":[[593,202],[8,3]],
-"xabacd3028a047287":[[796],[6]],
-"xd906a454280346c4":[[3234],[1]],
-"x2522bc1cb498be70":[[2203],[2]],
-"x6b2bf63b6c5e7d2d":[[346],[4]],
-"xca8e0fca006ba782":[[2657],[6]],
-"x17053672b032a277":[[1296],[10]],
-"x693fc808117ff73a":[[324,528,166],[22,6,6]],
-"xff5a6a24385ce4f9":[[801],[10]],
-"x1839ce02b8cd9afd":[[3901],[4]],
-"x1a53bbd1ddd06203":[[2331],[4]],
-"xf3fb1da6e51af3e4":[[3963],[14]],
-"x86180b0d8ffe7eb3":[[658],[3]],
-"x564c14fde5b5a52d":[[231],[5]],
-"xb1b97663487e292":[[334],[7]],
-"xdac7a4e2612044fe":[[3817],[5]],
-"x145684c8241ff837":[[2333],[3]],
-"xd6839039cda00d36":[[666],[6]],
-"x39dbe6a005ed5389":[[3298],[4]],
-"xf9d00ca49969ca20":[[3177,3299,3929,3234],[1306,788,245,90]],
-"x5b67d71ba3037272":[[262,666],[21,7]],
-"xeec3536964663ec9":[[3828],[7]],
-"x5e1748dce19205dd":[[3947],[2]],
-"xdf0c79c4e5791408":[[3817,2203],[4,3]],
-"x6a71e672009e44a6":[[204],[5]],
-"x1aea8dee941d28e8":[[536],[4]],
-"xc12e66bb5335067d":[[601],[5]],
-"x93cd0c40f18beb91":[[75],[3]],
-"xbf33ddcea577e2fb":[[1618],[2]],
-"x3fd86027ced733c9":[[2461,2463],[7,5]],
-"xc9edfb52a8a19292":[[3756],[5]],
-"xce6a359fff27151b":[[918,332,723],[7,5,4]],
-"x30efde6b7fe7b2fb":[[346],[9]],
-"x34ce9f3780346bed":[[3761],[32]],
-"x416bf819e3afe934":[[3372,3234],[4,3]],
-"x4435203e3fefba30":[[262],[4]],
-"x4a7a8ea4b39d068c":[[3902],[3]],
-"x9c6e1a40cc53aebc":[[1371],[11]],
-"x27cf0fb4902d7031":[[3641],[3]],
-"xb89d4079efedbf8":[[1371],[4]],
-"x1849aca881d8cace":[[1683],[4]],
-"x7abf051a1f7aaf85":[[1569],[9]],
-"xca0f628921294e04":[[1837,2477,2463],[35,4,3]],
-"x9ea7ec75c7f4f16b":[[148],[5]],
-"x32a7d5983b225e34":[[3567],[4]],
-"x51681bb76e93dc47":[[1974],[6]],
-"xa41db8c6135424ab":[[2031],[6]],
-"x9d822d3b1bd760c5":[[2161],[6]],
-"xdde6a5e54cf121f1":[[2203],[5]],
-"xeb9109a58604bbb":[[1049],[4]],
-"x6899cd82cb6bc3d9":[[861],[3]],
-"xa159ce7e3638a836":[[3690],[2]],
-"x203bb97c5f6ac6db":[[3902,3242],[52,9]],
-"x9b330c671978834":[[3309],[2]],
-"x64163096e51b3bda":[[2073],[2]],
-"xb355a655408a73bd":[[222],[6]],
-"xd38c44f9016c21a1":[[3690],[12]],
-"x890d56da2fa51814":[[528],[6]],
-"xbeef6569c097c703":[[1763],[5]],
-"x2ca21482574db4c2":[[75],[4]],
-"xf999c6214afc8839":[[1763],[5]],
-"x4431b3c3f0fe7d5e":[[536],[3]],
-"xfad83eedd09a5d03":[[3742,3502],[4,3]],
-"x850dd0b5a9421410":[[2915],[5]],
-"xb6ff17e1f89952e5":[[3699],[2]],
-"x9c7d3e41edf84bc0":[[659],[1]],
-"xc3ee381029f2dfd8":[[2414],[2]],
-"xcfcd267a5eaf380":[[3964],[2]],
-"xad4120093dde2475":[[3742],[29]],
-"xe3797eba08227d89":[[202],[3]],
-"xfed9f0ef361f0b84":[[1699],[8]],
-"x154f3d0e2dcb833e":[[332,983],[3,3]],
-"x752fbbc92a0a3f3":[[723],[4]],
-"x1214a9c184d3fb01":[[3642],[1]],
-"x20987bafcbb92e8f":[[405],[5]],
-"x53ace85d35bfbebf":[[2851],[3]],
-"xbab42fd3d52098b3":[[796,405,666,918,166],[95,90,53,11,6]],
-"x8df43453c80d0bc2":[[219],[15]],
-"xf8649a522dfcff27":[[796],[15]],
-"x81b250ab25b1ddfb":[[3742,2203,4013],[5,3,2]],
-"x226abcc126dbceab":[[3690],[13]],
-"x29c640572b094854":[[334],[5]],
-"x43f68d687ff0150":[[1180],[6]],
-"xd7bd09962763ff07":[[1108],[3]],
-"x18b4d11a3aca83a3":[[788],[22]],
-"xb9a3a224de79ea42":[[3763],[4]],
-"xce43f186e7269ddb":[[334],[9]],
-"x535d2b8dcab70872":[[3902],[9]],
-"x9bdefa2abf06ec2e":[[2224],[3]],
-"xc7bba23b840c8259":[[642,643],[12,5]],
-"xd1f151406ae8a397":[[2203],[562]],
-"x3bb530343e227ea7":[[732],[5]],
-"x72df7a85eb7f6ac9":[[3389],[1]],
-"x7b330a798c95843":[[2935],[9]],
-"xe01392ebe1d16ddd":[[3892],[3]],
-"xb81d8a9a8d84000b":[[2326],[4]],
-"x797e3f4884d97a32":[[3756],[2]],
-"x9285aca332ed07e6":[[3314],[3]],
-"xf4dc9478fb3ecd6b":[[405],[13]],
-"x84edf59729bd739f":[[1438],[3]],
-"xfe1b9a55bd977351":[[82],[5]],
-"xfa1b989c58b1b199":[[1699],[5]],
-"x15d9ebfc0844883e":[[3902],[3]],
-"xd4335787c2a076d9":[[788,796],[18,14]],
-"xbd970adbe21b32d":[[3901],[4]],
-"xae5f7cc1f8bfc8e4":[[3958],[6]],
-"x5fbac772273a7cd5":[[4013,3364,3177],[25,3,3]],
-"x581b86e5672d02cc":[[4],[6]],
-"x9ada7df786c34a23":[[137],[8]],
-"x79846ae1d987a62c":[[3234],[3]],
-"x2925603da4c97a68":[[2203],[49]],
-"x13a2463c203fe12c":[[2852],[3]],
-"x115f3ca9959b689a":[[788],[8]],
-"x788d96fad1336020":[[773],[6]],
-"x1087b67bbb760c21":[[2787],[8]],
-"x282effba7212f9bf":[[203],[4]],
-"x8920cd893420f6b6":[[3567],[3]],
-"xc4bb03815dd743b1":[[795],[4]],
-"x954757d91360d5ba":[[262],[7]],
-"x77e6e729281f0f7":[[788],[6]],
-"xfb0945045182b97d":[[2334],[6]],
-"xc2f469bc8f57c786":[[334,593,82],[17,3,2]],
-"xc929eb6c27584118":[[528],[12]],
-"xfbaa5e2e037cb1f3":[[1828],[4]],
-"xa47c6e8fd1ff30cf":[[2852],[3]],
-"x915cf791da021ebd":[[1438],[6]],
-"xe4eeb764410570d5":[[3234,3929,3567],[6,3,2]],
-"x7883ee518a458236":[[334,1699],[29,11]],
-"x9da77e45b7d46ae0":[[2203,3374],[8,5]],
-"xa2b8f1b18cbe126b":[[3019],[6]],
-"x97e711b559f30bc0":[[990],[3]],
-"x52c56892ae7e7ea":[[2915],[6]],
-"x1fd20f13927179ba":[[1828],[6]],
-"x3537e472e5dd1efb":[[3902],[3]],
-"x5ffbd202002a805d":[[1698],[3]],
-"x2e0d1a290ba1b9b6":[[1176],[2]],
-"xd213e05d39f5487e":[[1161],[3]],
-"x50c0fc2ab9a23039":[[75],[3]],
-"x16b0ca74495f0fa9":[[1178,193,1],[4,2,2]],
-"x721d5b892ef19b72":[[3567],[2]],
-"xbb5568c4c9a1d7af":[[3902],[2]],
-"x7672e2398b6f7564":[[3828],[3]],
-"x57fa72088649bd58":[[3763],[3]],
-"x350ce623343446bb":[[139],[8]],
-"x2172a9fca47abc3b":[[3699],[3]],
-"xacd5b529dbf2a81":[[2658],[3]],
-"xb66a085426474636":[[259],[3]],
-"xbb2deb150f00c115":[[3299,4013],[24,7]],
-"x52df81b02d7966cb":[[3742],[4]],
-"xa5aecd4cfe1c2124":[[1106],[4]],
-"x91ba337561f396d7":[[262,723],[10,2]],
-"x76f3045adf06d2aa":[[452,1367],[9,6]],
-"xe03a0f11df7382a2":[[918],[6]],
-"x5c7488666fe282d8":[[262],[14]],
-"x143d4c36c4024f80":[[203],[2]],
-"x37b47ac9261ec5e9":[[2593],[4]],
-"x63fe80045ce95165":[[3234],[40]],
-"xe2b99d4c3000dcda":[[3902,2228],[27,6]],
-"x6629e209c0d45c24":[[1314],[5]],
-"xf7c2b3167b91355f":[[2851],[1]],
-"x911ebb74745a9ba3":[[724],[3]],
-"xf0d296a95f236c3a":[[1745,1749],[185,40]],
-"xcd84f29ea9d7089d":[[1121],[3]],
-"xdad8b9b6a13adff2":[[594],[292]],
-"x63f00d08d766e758":[[2915],[4]],
-"x935141d8f341432f":[[3372],[3]],
-"x88aba50dbd137b1f":[[82],[12]],
-"x69c825ad9deddf02":[[3300],[2]],
-"x4a29c47ceba5f139":[[3821],[1]],
-"xdbfea0d031d66fa6":[[1618],[7]],
-"x9758f830e3a3c6ed":[[1810],[4]],
-"xab52ed97097ea62d":[[3690],[4]],
-"xbe3e935818aa6d21":[[324],[4]],
-"x7669bb05f0e81d2f":[[528],[18]],
-"x6bb9876ac87d87a1":[[82],[2]],
-"x5e69b728fb9bd831":[[796],[72]],
-"x9c2f0c7ed3a2360e":[[262],[4]],
-"xd2f9ece927f4d8b3":[[2915],[4]],
-"xca7e7ceeeb2059e7":[[213],[3]],
-"x67881692c6ade637":[[2917],[5]],
-"xeabbc5df6c3cc85":[[2154],[10]],
-"x340e5cbc971eb689":[[219],[4]],
-"x50e91426e7eef636":[[2657],[4]],
-"x4751cddb9bc1a17d":[[3699,3947],[102,3]],
-"x6ae2fafff9ac7a4d":[[324],[3]],
-"x78d6cac29a6d9b30":[[1611],[2]],
-"x1be6093ebece7e80":[[3761],[4]],
-"xba0a17fe4598bdd":[[148],[4]],
-"xbe85af895c833f1":[[2722],[20]],
-"xb766ceed81941311":[[2787],[3]],
-"xb0d7517233d59a7e":[[918],[6]],
-"xa12371d40a222b7a":[[3958],[4]],
-"x60a3cfac88444437":[[594],[15]],
-"xd98d54442712ddb9":[[1502],[3]],
-"x3534552289cf8e3":[[251],[3]],
-"x18c4e4269047848b":[[262],[4]],
-"x7d222b7106de9c3a":[[3583],[5]],
-"xb738efa8ddb787cd":[[3826],[4]],
-"xc38f0f2c87c5791a":[[2154],[2]],
-"xf2afe09c85fc38f4":[[166],[7]],
-"x24da82bc7187acca":[[353],[3]],
-"xafa61d76604c05b3":[[3047,2787],[13,6]],
-"xfe5f4c3530fe645e":[[339],[4]],
-"x68ea00eea129b5b6":[[788],[7]],
-"xba4c7a39b3b4df17":[[2203],[4]],
-"xbc2e4b6abaf1216b":[[3298],[7]],
-"x2ed00a8ff4e404ca":[[3312],[3]],
-"x26d8afe697d2eaea":[[2715],[2]],
-"xeb5371b4fbbe2a68":[[1],[6]],
-"x335853298d162759":[[2659],[2]],
-"x47e6cf3060034a8f":[[3502,3699,3688],[15,5,4]],
-"xd1c74abd670a8343":[[3690,3821],[9,4]],
-"xbe1c7c3852a82c32":[[3938],[3]],
-"x72b670d24f6ee556":[[1187,202,918],[34,5,2]],
-"xca30a88e9a543827":[[137],[7]],
-"xa56d40a598f55b61":[[861],[2]],
-"xa2959a0094a1ab91":[[339],[34]],
-"xd7aad61b225dbfd3":[[3808],[6]],
-"x34378abed1256d31":[[918,405,396,861,353],[51,44,34,6,5]],
-"xae2c0a697f9cf35f":[[82,788],[22,8]],
-"xbf611702c7584912":[[3811],[4]],
-"xbcd258c037093d76":[[2331],[6]],
-"x847bccbff8ea041b":[[332],[7]],
-"x852f5e32a3d63f03":[[1997],[3]],
-"xa1530da0f69c0d56":[[2203],[5]],
-"x8a467bb20188624d":[[4031],[3]],
-"xf9c37052b07b1352":[[2],[7]],
-"xed587e74b88117ef":[[3902],[108]],
-"xcdfc600678cdae2b":[[2786],[3]],
-"x25344c9febe2f631":[[2290],[3]],
-"x50ed2dcdd6752011":[[528],[12]],
-"x64e04057ca04d53f":[[731,405],[22,8]],
-"xce660a9d9447ebf0":[[3242,4013],[8,4]],
-"x78112cc99fde8a98":[[324],[5]],
-"x886fc8c450515b7b":[[204],[3]],
-"x5a2a2aaaffb88d43":[[1830],[9]],
-"x59d49dbd55869bdd":[[262,723],[4,3]],
-"x437f83aaaba4ba75":[[3690],[5]],
-"x50f205760f9dcbe2":[[1180],[2]],
-"x51e8cb18d5964fad":[[82],[6]],
-"x45060629d597f2d8":[[593,666,324],[6,4,4]],
-"xf7983ba2ad2169e2":[[3234],[24]],
-"x5feefa278e7291b3":[[1179],[6]],
-"x8ec0089cc883d616":[[3821],[4]],
-"x748d72438a4345e8":[[1958],[4]],
-"x953255cd63ac4c07":[[148,332],[10,6]],
-"xdbdca513fc9c32fc":[[262],[3]],
-"xe09839d3820a36d7":[[983],[6]],
-"xbb6bc9a17ca114a7":[[3902],[3]],
-"x817ddffde123a164":[[4094],[4]],
-"x98f1c1a4414d6c58":[[339],[3]],
-"xe64c4e53f645996d":[[3756],[3]],
-"xb11a8acdba21bcfe":[[332],[12]],
-"xcbbc92264b9b7352":[[3902],[13]],
-"x9971d202573b97b3":[[3307,2224],[4,3]],
-"x3c11aa6272469b2e":[[2323],[3]],
-"x2c08834725f597":[[3963],[2]],
-"x4cb6b63ba05ad356":[[166],[3]],
-"x49ee1cd076d55c79":[[3372,3112,3817,3559],[46,5,4,2]],
-"xca6eba4cc8b5df4b":[[852],[3]],
-"x4d94f42509450723":[[2722],[3]],
-"x14db707a31a776ff":[[1389],[4]],
-"xbae13d68c9896ea9":[[790],[3]],
-"x44ecd85989e26cad":[[3242],[2]],
-"x921b206024813d3d":[[258],[2]],
-"x4f9ae9258ba96fc1":[[2203,3299,3177],[38,9,6]],
-"x1a7c816c9bc86e9d":[[1380],[6]],
-"x11d9ced20fbce691":[[3297],[4]],
-"xca18093c559e579b":[[4013,3364,3372,3234,3242,3502,3429,3177,3690],[475,474,321,275,142,106,20,11,2]],
-"xdb55d4fcaadc775e":[[3112,3690,3502,3372],[1194,327,110,95]],
-"x7e8aed78661a1a64":[[1699],[4]],
-"x614bd80cd96b53f":[[2201],[4]],
-"x532909680a6f6af9":[[3],[3]],
-"xb6569be7f0b72d44":[[2786],[6]],
-"xbddfc23c00554c8d":[[1164],[4]],
-"x16c0a315448ffb04":[[3763],[6]],
-"x3e8bdac6274ecc1c":[[339],[6]],
-"x1187961f93769b62":[[3307],[2]],
-"x23b5e1d71d298687":[[2657],[3]],
-"x470280432b357e8a":[[353],[6]],
-"x1a0515b0d156a8cc":[[405],[4]],
-"x143db01855ea7960":[[2715],[8]],
-"x2c1e6d85cd75bc2":[[2740],[14]],
-"x1e337c2556c64509":[[3104],[11]],
-"x3208e136c9f19a8c":[[2916],[3]],
-"x3c71292d9ea373c0":[[262,166],[20,4]],
-"xeb3bbb81a8cc1464":[[3754],[6]],
-"xafae2524790dbac9":[[3690],[23]],
-"xf73123b9f30504fd":[[2713],[9]],
-"xbd60704a4cd6c78c":[[332],[5]],
-"x735eeb4f2d9537e1":[[2740],[4]],
-"x120c22b503fae434":[[1050],[3]],
-"x4eea82cae6cef2b8":[[3377],[3]],
-"x438f3596f78705ca":[[3699],[5]],
-"x412371b0dfd3bd77":[[1306],[3]],
-"x362a52b8941c8713":[[3761],[6]],
-"x1fa9d0bb9823c8e8":[[4031],[3]],
-"xa0093c0f9d0ffe5a":[[1380],[13]],
-"xd10a2f72bc42c8c1":[[2673],[7]],
-"x1c16d75a22a40486":[[405,796,731],[93,27,16]],
-"x825fe79a3d22d049":[[148],[3]],
-"x9a9e2213dd5cf72e":[[788],[3]],
-"xd04aeef222e6f470":[[1],[6]],
-"xb3cc38fd390bbaeb":[[1568],[5]],
-"x39942b4cc2267016":[[593],[32]],
-"x3be5bd62eda900c2":[[3494],[4]],
-"xcf2c9122ff972913":[[399],[3]],
-"xd51fc3f09902e1b1":[[731],[10]],
-"x6928392dab83fc4":[[2479,2023],[6,6]],
-"x66f151472a89932":[[1674],[8]],
-"x6241dad271e792b7":[[3821],[3]],
-"xeefb23719f9176f9":[[2579],[6]],
-"x6c8a0dd77edda695":[[1371],[6]],
-"xea9ae98dd46a91f0":[[731,346],[24,3]],
-"xdf36c7882430bd7c":[[3502,3242,3699],[11,3,2]],
-"x2a3b5a32545687b9":[[3811,2851],[46,15]],
-"xd5bce0ab3279f9eb":[[3299],[3]],
-"x43c144ed02f75c70":[[1764],[5]],
-"x836ee28e90d63":[[1098],[31]],
-"x354f6f003a705401":[[3763,3817,4015,4020],[41,15,8,1]],
-"x41e9c697dd3d2170":[[2267],[4]],
-"x5d8fa8d9f983c750":[[3738],[6]],
-"x5592422b8015e6e3":[[918],[2]],
-"x63d4737896bfe4f4":[[2154],[7]],
-"x5807fdd56e891ed3":[[3112],[3]],
-"x69597d94a0041361":[[1827],[24]],
-"x7b067867532d7875":[[2674],[6]],
-"xef24aadfddf10a7b":[[3902],[37]],
-"x78fd310533544352":[[1293],[5]],
-"xe3eee5cd4e9c00ee":[[3958],[4]],
-"xed99460e48222d11":[[3386],[3]],
-"x1b76a3f2829fb6f0":[[3956],[10]],
-"x6c77811ecc2a1309":[[2852],[1]],
-"xdfffa20927bd289a":[[3299,3177],[78,9]],
-"x3ef65bbaeb00046a":[[991],[2]],
-"xa5d34ad685b580f4":[[1699],[10]],
-"xe21f6bce8b067028":[[262],[4]],
-"xcc2e1c1e00c25c02":[[3234,3177],[13,10]],
-"xdfa4d7813cb03b56":[[3756],[4]],
-"xe41b5c7639699c4":[[3104],[2]],
-"x39640052a1c8d7cc":[[1179],[4]],
-"x4f17e277e9155fd3":[[1632,1633,528],[7,6,2]],
-"xddc2b8e010e18c4e":[[1380],[12]],
-"xce7c2b6696f9e99c":[[3371],[6]],
-"xc090dd50ba08ffef":[[3690],[6]],
-"xd72338be2306c0d8":[[709],[5]],
-"x5840ab0d1067132c":[[1371],[3]],
-"x63e14d94348f11ed":[[3502],[3]],
-"xc3ad4b48124842d5":[[1421],[3]],
-"xecbf573e1f935413":[[3307],[8]],
-"x2c423c5c15a21688":[[593],[16]],
-"x49398364b1d3df75":[[2192],[6]],
-"xdef35a2e780107cc":[[262,593],[15,3]],
-"x914d0ee9d79ba513":[[3234],[62]],
-"x690f55dc27e4dc2d":[[731],[16]],
-"x51ea2c1564db73ed":[[983],[15]],
-"xe848fc6580015919":[[3956],[3]],
-"x10f03514afbe53f5":[[2787],[3]],
-"x293a968882055925":[[396],[4]],
-"x8af203ab1e3deae9":[[339,332],[15,10]],
-"xcbb531363cb1ac89":[[332,983,339],[24,10,6]],
-"xf522fe1c8d8b8a0f":[[204],[15]],
-"x7ebe6801c3219b18":[[222],[5]],
-"xac3e6087cf80ec49":[[82],[6]],
-"x575d776c77dc0754":[[3641],[3]],
-"xb99c461a85da1860":[[1652],[5]],
-"x69d3cf9dd6d3d6fb":[[1836],[1]],
-"xc0b02e880b2317aa":[[709],[9]],
-"x8ce1bfd1e8787c5a":[[2722],[4]],
-"x56f6e52c3362f19d":[[2059],[4]],
-"xab416883f233239f":[[4013],[31]],
-"x3d14712103bf0bee":[[2852],[8]],
-"xe00e4e3d8e9fb520":[[2477],[5]],
-"xc85f04d46784048b":[[1698],[4]],
-"x4b256718f2bf8bae":[[918],[2]],
-"x8fadf537ca76a91c":[[3306,3178,2922],[31,4,3]],
-"x91343c5425109fb3":[[1114],[6]],
-"xa7620b8a91733aa":[[3176],[2]],
-"x17f31e5ba4b8e7a1":[[1762],[3]],
-"x53b253a34b5427a7":[[262],[6]],
-"x936f1f3b61b3ecc0":[[1307],[5]],
-"x5045a68d1b36cc8a":[[3832],[6]],
-"xf9ddcc04ea02e638":[[1634],[35]],
-"x55b17d5ae9c837db":[[3300],[2]],
-"x6eb5940452d38c76":[[3370],[4]],
-"x343e30d0777612d0":[[788],[6]],
-"x647092441ff32e42":[[4013,3242],[12,5]],
-"x9dbcfd7d32b57df0":[[1827],[4]],
-"x4b2a45e88d3a91dc":[[157],[4]],
-"x1fe33a1ad4b2a008":[[3371],[6]],
-"x916d26ddb8d8ef7e":[[3738],[2]],
-"x9bfa2111fb321f7b":[[3902,3826],[69,16]],
-"xef4465b8aa3c4200":[[2851],[9]],
-"xee2d6bddd856373b":[[262],[37]],
-"xda3dc4c20bf01325":[[2266,4013],[6,4]],
-"x8a326ef53da1e9c3":[[1828],[4]],
-"xc72100960abe8d43":[[2323],[1]],
-"x7d4fb6e585097082":[[731,593],[17,3]],
-"xcfb9446480cb7d45":[[322],[4]],
-"x8802bb89493f9e4d":[[577],[4]],
-"x6339af69cf92777a":[[861],[26]],
-"x763e2a7b4ba8c255":[[3242,3112],[8,4]],
-"x2aea860fb6b6f113":[[1828],[3]],
-"x8af5559c35184833":[[1959],[2]],
-"x2f4938a609acaf05":[[528],[4]],
-"x78abddec899d6326":[[332],[6]],
-"x35fb04126f24f684":[[2266],[6]],
-"x3ee429855b3296da":[[2796],[3]],
-"xdfba8bcfa9d6c52f":[[3763],[1]],
-"xe200765383222572":[[137],[8]],
-"x534a80df7a3461e0":[[1176],[25]],
-"xda00f73a481a876b":[[1810],[3]],
-"x4926d82ec7ad42ce":[[154],[6]],
-"x37337d7a801f76fb":[[3956],[4]],
-"xbaf05e6d038590dc":[[3242],[5]],
-"x580a92cf61720be4":[[3169],[9]],
-"x488ea981bb2c57b0":[[2908],[6]],
-"x2c228426cfb441b8":[[3642],[4]],
-"x850f9b9e6f2fc926":[[3834],[6]],
-"xa57ee8de4656b2cc":[[339],[4]],
-"xd52f0a750cf279c5":[[2889],[3]],
-"x39cf9dd13e8e3b31":[[405],[4]],
-"x59f7e533633a7910":[[1745],[9]],
-"x9e0a4a99d3c0a1b5":[[991],[3]],
-"xef9e4da2a911c4b0":[[262],[4]],
-"x1e80827268f8a467":[[3307,3958],[7,5]],
-"xc282719b8a6dd327":[[3752,2908,3234,3761],[13,10,5,4]],
-"x2c4aa1d7ec0cd6a0":[[332],[3]],
-"x3dfb1e75236fc3ca":[[722],[3]],
-"x1932f90879a6ba3a":[[3641],[3]],
-"x1e74240ed48b1571":[[332],[10]],
-"xedbefbcfaf5f0bce":[[1553],[16]],
-"xc5ec2e18d1b9c58c":[[396],[9]],
-"x8d1f0cf8c82f3f6":[[405],[3]],
-"xfad8149a6d4eef17":[[721],[3]],
-"xc89b0a1245396a94":[[3371],[9]],
-"xca939de48d5bf059":[[2486],[2]],
-"x7fa76e32fc9f7b0b":[[3307],[15]],
-"x25898c8d9bafae6d":[[3690],[8]],
-"xf073497c7fd670bf":[[3234],[6]],
-"xe02bc73a71c255aa":[[75,203],[6,5]],
-"x546d1967e34ef40c":[[2258],[3]],
-"x2a3823f860ef5ca9":[[203],[6]],
-"xb67e3f4b4595c799":[[3958],[2]],
-"xe6e76c7cd82dc95f":[[3742],[1]],
-"x3ecf958145a4756c":[[405],[4]],
-"x567e57d109ee9e44":[[3178],[52]],
-"x1ee0cbf693066a8d":[[1828],[4]],
-"x39f1250235299363":[[1355],[3]],
-"xf33a0a6ec5cd8d79":[[788],[4]],
-"x50ffad8dd946034d":[[3150],[3]],
-"xb935a9830c8a9ba0":[[75],[5]],
-"x44746a50ba05d737":[[724],[3]],
-"x9f6b57e296dc9bbc":[[3761],[4]],
-"xe98c6f4d056cd868":[[2720],[3]],
-"xc1f4406943bf9826":[[4013],[3]],
-"xd171b3edb9ad65b4":[[3372],[5]],
-"x86ce767132555e8d":[[2086],[3]],
-"x2b179132cc0efdb0":[[1698],[6]],
-"xb1d64ad2b826720e":[[983,323],[30,6]],
-"x1ce4a54a59c97437":[[3372],[5]],
-"xd564e2ff7696e8ed":[[258],[7]],
-"x110d22fa3b217c0d":[[593],[4]],
-"x2a5ce2c667971a6d":[[926],[3]],
-"xa58634cb149c5798":[[3956],[7]],
-"xdc4ca16399e8f32b":[[2674],[5]],
-"xc8e064a009337733":[[262],[5]],
-"xe8ba8e8307ee28cb":[[3811],[4]],
-"xfb8c53966a7388ac":[[139],[5]],
-"x302564f50dc8cef1":[[1618,1652],[121,15]],
-"x6af7b4038767fbcc":[[2740],[3]],
-"xc27839d9293028ab":[[1830,1837],[55,8]],
-"xfc3c56564b72b7b1":[[3104],[3]],
-"xce325d7589c5b4dc":[[137],[6]],
-"xe25b8d7c89e58689":[[2],[9]],
-"x873582ed31812d1f":[[2412],[3]],
-"x5a769791092ca59c":[[3099],[5]],
-"x5ac639163f411ff":[[1309],[3]],
-"x96f8cb92c4dcf383":[[2788],[5]],
-"xc6bfed4502191991":[[1765],[3]],
-"xb59993a81e950b07":[[3947],[15]],
-"x2d6aedd7ba32610a":[[601,593,332],[5,5,4]],
-"x24214a51f1689e91":[[1776],[3]],
-"xea0a5bd3f2c82213":[[261],[4]],
-"x5da77aa1cb2e538f":[[3387],[6]],
-"x4b2062f288cabf8d":[[918],[4]],
-"x9c3d98e58dde2473":[[796],[4]],
-"x8840958e18de86ad":[[1114],[6]],
-"xbd5d6982db873589":[[666],[78]],
-"x293a9234d73179f1":[[3902,2715,2203],[15,9,8]],
-"x69e74b81a898c284":[[2347],[4]],
-"x9895c822ebfc8efa":[[262,216,1187,723],[6,4,4,3]],
-"x8dcff772f7120087":[[3958],[2]],
-"xcb30309e9adb5c4a":[[2274],[5]],
-"x85456dcd51584bce":[[2910,3964],[6,5]],
-"x4da8580d751053d1":[[262],[4]],
-"xe8d15594a1f91b4f":[[2217],[2]],
-"x77175a744db938e3":[[3828],[3]],
-"x5484e99057b933c2":[[664],[6]],
-"xb7c0645fc0296ad1":[[2908],[4]],
-"x8f477395705f9e0a":[[938],[10]],
-"x9cc8e25b4c963c86":[[3690],[14]],
-"xe6f8a09c4aac7ed1":[[1180],[16]],
-"x2ea3af87bc5183c1":[[3929],[4]],
-"x7f84d2fc62f2db03":[[2284],[3]],
-"x8757dfbca58af374":[[2786],[4]],
-"x37688ec28b563603":[[334,82],[63,3]],
-"xfbf7f1d9c694a07a":[[3308],[4]],
-"x53996b3efd1a4b45":[[2852],[4]],
-"x4fd3eed2659c4ffb":[[3902],[3]],
-"x976b657d6cad9d84":[[2089],[3]],
-"xe0fb9efa85eda2a7":[[3502],[8]],
-"x68b05ad293a422d6":[[1763],[5]],
-"x975e2e62c9fa2ff":[[721],[11]],
-"xb40f12918814232f":[[82],[3]],
-"xc81c341e3ad5bd4a":[[2203,3297],[5,1]],
-"xb5bd3c6a876337a2":[[2723],[2]],
-"x67aa4a85072d1ecb":[[267],[4]],
-"x7f28fab5a6fa05c":[[1699],[37]],
-"x69225559f29429db":[[2724],[4]],
-"xb52af6562f1155ef":[[918],[5]],
-"x1e15ab1c6f93ee5c":[[3169],[2]],
-"xc0abae2bedea8d73":[[3811],[5]],
-"xeb05c4b030c13e48":[[3567],[3]],
-"xe498c5c904f0234d":[[861],[5]],
-"xe3aaf1cf6da1659d":[[4013,3372,3364,2266],[490,16,15,8]],
-"x85e5dbebb9f4544a":[[1371],[7]],
-"x3e10bd3f39e53b46":[[1380],[5]],
-"x24604d977644741c":[[139],[3]],
-"x6d9de883e30ce98e":[[1299],[3]],
-"x70bb4cb1fa8c2920":[[82,139],[13,6]],
-"x98f6c4151757b0ad":[[396],[21]],
-"x75b78a8d27d772e6":[[3251],[3]],
-"x6246bb252e14f219":[[166,157],[63,11]],
-"xfb2de157c006c56c":[[3307],[3]],
-"xa589d5a7ea892446":[[3755],[3]],
-"xbc727e1bb1c4e03e":[[3169,3756],[5,2]],
-"x447c923dc6a10a2b":[[3502],[4]],
-"xb5f63f58bc6d60d4":[[339],[15]],
-"x41829fa669add5af":[[2477,2463],[15,13]],
-"xbd006fb082f00015":[[2714],[4]],
-"xa2317e22584a3c13":[[405],[4]],
-"x99348badb8fecd76":[[1355],[3]],
-"xa44f66a9c4326c83":[[405],[5]],
-"xf3005c9f17660814":[[593],[5]],
-"x791e1535e6fffe7d":[[3756,3234],[7,5]],
-"x446d877111571fa8":[[2851],[7]],
-"x8147739787fc9a03":[[2740],[3]],
-"x143afe38bd0d8fea":[[3373],[4]],
-"xcdb36f2e638b8fa6":[[3902],[4]],
-"x9bb6283b79e70056":[[3567,3902,2722],[2,2,1]],
-"xcd484fb2d003e4ac":[[405],[4]],
-"x78974fbbf36b12d8":[[3902],[4]],
-"xa6717248291a3d08":[[593],[6]],
-"xc6125cd721e14c31":[[2283],[3]],
-"xdb4e9480225bdfc7":[[3242],[3]],
-"xe7965c01a0764e6":[[2963],[6]],
-"x30db77d8f5e3598":[[339],[3]],
-"xc750554022eaf1a":[[3567],[1]],
-"x405b8a02ad6a99c3":[[3501],[2]],
-"x161a7b2a9aea82f4":[[723],[5]],
-"x54da4be9d511853":[[528,723],[7,5]],
-"x7290b57da773901b":[[2851],[11]],
-"x1a42900a235dc44":[[4013,3828],[5,2]],
-"x538dbfade1f63599":[[258],[38]],
-"x4b936ab6750c3fa9":[[3964],[3]],
-"x864bb9be05141f7a":[[1762],[6]],
-"xec6bd0fcd36c26a8":[[203],[5]],
-"x8c9f3f93b9b0b780":[[438],[4]],
-"x427d3df65650a7d1":[[731],[1]],
-"xbb77cd32c23915f3":[[157],[7]],
-"xe35a39d34dc6db7b":[[577],[3]],
-"x8967ad9f5917c6dd":[[67],[3]],
-"xc7f062b9034e2c09":[[1033],[6]],
-"xdb9fd71b05ee4fbb":[[1958],[6]],
-"x5d51ba4be4c2db94":[[2283],[3]],
-"x7e6403873ad9e8b2":[[137],[4]],
-"xd5dc1d136bc87da5":[[3902],[3]],
-"xc5b0c0a296d0283f":[[966],[4]],
-"x52e73ab72679947c":[[3761],[2]],
-"x25a6ea6e949ffbdd":[[709],[4]],
-"xc39a9760efb6a8d5":[[3902,3299],[73,27]],
-"xb72762b1c689f997":[[82],[5]],
-"x30545617625edbff":[[853,396,405],[28,8,5]],
-"xf8d688666ee460b0":[[166],[4]],
-"x51cc8669c3fc08f7":[[2266],[3]],
-"xa1d28b5fb63fa4ea":[[202],[6]],
-"x6b530286a736c730":[[75,82,139,658],[26,9,5,4]],
-"x368957a1530f4053":[[3963],[7]],
-"x8fc039250bda3d43":[[3958],[104]],
-"x5bd63cc34c393500":[[219],[5]],
-"x2342d2abb98109ec":[[157,323],[7,5]],
-"xe11b8b13b5891a0":[[1308],[7]],
-"xa092199a49350bd8":[[323,322],[5,4]],
-"xee463252d79ee3f2":[[1180],[4]],
-"x6f8cadd8f27f635b":[[82],[9]],
-"x5b112c6c437b8259":[[658],[3]],
-"xb1097b5b1d56091e":[[1941,2266],[6,4]],
-"x50477fc337b38624":[[148],[4]],
-"x62dbb937cc00af46":[[3373],[3]],
-"xea7c8f69bf9e29d9":[[788,209,918,202],[108,9,9,3]],
-"x9dc1f9d13aecf53b":[[267],[51]],
-"x7ea9b151ff9560f":[[339],[6]],
-"xbf5a384cdae3ab1c":[[3242],[5]],
-"x36e0ad5eb5ba54e9":[[334],[8]],
-"x15dbf3ba53eae4c3":[[795],[3]],
-"x5cac97bc780133d4":[[853],[6]],
-"x612a59ad6bf83003":[[3902],[6]],
-"x53ec6d73ab7f54b0":[[3837],[2]],
-"x6a74cb5f39ea3196":[[2202],[3]],
-"x6a90d3fb4d00e532":[[773],[5]],
-"xaf496fcd0aebaa3c":[[1169],[3]],
-"xdd06b56e6b7c6c67":[[2724],[5]],
-"xde3c9b88d758c5b3":[[1187,332],[9,9]],
-"x3c132cb41f9be161":[[3112],[3]],
-"x5811b4cbe01a7600":[[836],[4]],
-"x93aca22c163a6a45":[[2137],[7]],
-"xf6ee1830983c5dbd":[[3234],[2]],
-"x751c9eb4dfc297bd":[[2737],[2]],
-"x9f22a1d4dddc9251":[[1699],[1]],
-"xc0e4a4ebad8589f4":[[202],[8]],
-"xaf50da2a9611abff":[[1308],[8]],
-"x7a9f7db534072c6b":[[2477],[5]],
-"x29385ae6bb9ada91":[[203],[9]],
-"xbb69d156c7a64161":[[2723],[4]],
-"x5151442a8a542b44":[[536],[9]],
-"x8d7fce76267e936e":[[3517],[3]],
-"xd6e159d79cbbebc2":[[3234],[22]],
-"xd9ca0945ae2a8e21":[[3749],[3]],
-"xeae23eb34e3113af":[[3699,2398],[13,2]],
-"xc0e705b49871d42b":[[983],[7]],
-"x9934cf5dd092796a":[[3819],[3]],
-"x508c02819ccab71b":[[3811],[4]],
-"xceb9048e43551996":[[1308,668],[3,2]],
-"xa67e2f303d60867d":[[3178],[30]],
-"x80dcfa28767f4543":[[918],[4]],
-"x42552964b78cf039":[[2163,204],[28,8]],
-"xd33294de152da417":[[2073],[3]],
-"x4ae414b967439d96":[[4013],[3]],
-"xa3f07ad88087b5fd":[[3938,3956,3947],[7,6,3]],
-"xfef5db0c5144abcd":[[3958],[3]],
-"x96117a20d55d1193":[[3956],[3]],
-"x83ecf875a53b29b1":[[339,601],[11,9]],
-"xfc7562c47125c63e":[[3826,2203],[5,4]],
-"xdc5672aad8dccea4":[[1828],[8]],
-"xa4000ba668a01737":[[1739],[4]],
-"x7402ceb19146e9c6":[[1307],[5]],
-"xc2ec0e65da48d44f":[[3742],[13]],
-"x30148db5bc37bfb":[[3567,3902],[5,2]],
-"x1e8fe81a24280336":[[262],[3]],
-"x271d1eb0275aa040":[[991],[3]],
-"x6600faf0fd34ab30":[[2203],[5]],
-"xb1be007a819e3aea":[[396],[3]],
-"xec12438a25e90cb8":[[4094],[4]],
-"x438eb63eea6d2e2a":[[323],[3]],
-"xfe7ba24cd67e13b2":[[209],[5]],
-"x19a6195c1d0c081":[[3234],[11]],
-"x5f0d31d944e9566c":[[209],[6]],
-"x43b124b41ab5e830":[[262,721],[31,19]],
-"xe3e3bfa7cefcc3a9":[[3742],[8]],
-"xf04d46d723881e4":[[528],[5]],
-"xc75af9bec9a441e7":[[82],[4]],
-"x631835c8cb8a4607":[[926],[16]],
-"x3c2d20b9c29f2f9c":[[405,666,658,407,593],[29,10,10,7,4]],
-"xb45be39b7766e37f":[[796],[11]],
-"x10590654ba76ff36":[[3688,3699],[7,3]],
-"x78c82d59c23673c4":[[2859],[1]],
-"x86f589edeb94a7ad":[[723],[3]],
-"xf21199abbfcc2a44":[[3938],[6]],
-"x2887afddb71f2474":[[3177],[3]],
-"x6c9abe60d86fad30":[[2908],[7]],
-"x5a9ee75f11b798e6":[[861],[9]],
-"xfb8feb139a167d87":[[3],[6]],
-"x113d91827ae0662d":[[3690],[1]],
-"xb630828b70912d6b":[[4013],[9]],
-"x7a80127bcf2878ff":[[2931],[3]],
-"x7f5def2bd5c14efd":[[3826,3956],[22,11]],
-"xe5887d17c74fcf1c":[[3964],[14]],
-"x1c5ac2711a5bfb86":[[3559,2330],[9,2]],
-"x35cf3b5140847f4e":[[536,853],[7,3]],
-"xa17be3eb6a4cdd82":[[3902,3299,3234,3690,3307,3177],[239,85,78,5,4,3]],
-"x4f8013e31972a56f":[[2006,262],[7,7]],
-"x3a5f80719d3a9a46":[[3929],[4]],
-"xbe6a1154b135e493":[[3902],[1]],
-"xe834befc20706dfe":[[2723],[8]],
-"xce250ad3cb592c72":[[3699],[3]],
-"x51d0d1c738ceb694":[[733],[3]],
-"xb80b755d983226b":[[2851],[3]],
-"x649dc72300a33673":[[2715,2931],[20,2]],
-"x30ff2480b08f16f6":[[926],[4]],
-"x2d5119bc1f7dd793":[[2293],[5]],
-"x886c901a4f6869":[[3362],[6]],
-"x2cbf1a120ac23b85":[[3169],[3]],
-"x32c671d7eea80848":[[3],[6]],
-"xcaf579fe53b4bf8c":[[1618],[2]],
-"xf054ac78f2ca1fdb":[[2931],[20]],
-"x6ac8e93dd3e62100":[[3763],[9]],
-"x89ec9b0bd6cb388":[[2269],[6]],
-"x5078b9e205d463df":[[1098],[19]],
-"xe39fcaf9e0a9bfbb":[[788],[4]],
-"x2a03532febbb248c":[[3699],[5]],
-"xfc4ab2d8e96c968d":[[2593],[2]],
-"x43a1eab4178e7ee":[[1380],[20]],
-"x1fc57e3da9a53954":[[593],[3]],
-"x8211baecbad49dec":[[3828],[3]],
-"xf658ce5207d873b8":[[602],[3]],
-"xde82c3ea4e075d7c":[[1763],[5]],
-"x6d9ff8f90523e6a2":[[917],[3]],
-"x1b8de3ab6ba14407":[[3763],[7]],
-"x39072d87de5308e0":[[991],[3]],
-"xebf94a2201e86d00":[[2266],[3]],
-"xe2614d6428704e69":[[2658],[3]],
-"x3ac77a362546c8fa":[[3699],[4]],
-"x16552ef06b132cec":[[3714],[3]],
-"xb7aeb1dc0867a223":[[3501],[3]],
-"x846186012626ad1a":[[3821],[9]],
-"x773a6a8834b877d2":[[262],[3]],
-"x6874bf005ec3b6d1":[[3234],[4]],
-"x490dd4d375ba7da8":[[1179],[3]],
-"x42f0113a416aff68":[[262],[11]],
-"xa1916e195dde612":[[1681],[44]],
-"x844931a6ef4b9a0":[[405,346,861,82,731,593],[3097,58,58,41,8,4]],
-"x80689514ad2b926d":[[1318],[2]],
-"xa2f0bd0ccf394415":[[148],[3]],
-"xf25b768d640f3dbe":[[209],[13]],
-"xe6ec7729a97bd6e6":[[1900],[6]],
-"x896a793603aa87b1":[[3948],[2]],
-"xc9579b8fdeaed9e1":[[139],[3]],
-"xbe94e164adbf63a0":[[2267],[6]],
-"xc0bfcf65ce2a10e6":[[1643],[10]],
-"x2110275269564374":[[3836],[10]],
-"xf3b0962977e7da4d":[[3688],[15]],
-"xa7298ff9989c30ee":[[1643],[3]],
-"xc8f5c6c75442db76":[[75],[7]],
-"xddb98aab35c2f895":[[2414],[3]],
-"xfa74f79c0f00a64c":[[2279],[6]],
-"x199a16239898fbf9":[[3307],[6]],
-"xf8ee9b88c3bef899":[[2908],[2]],
-"xef4866d69955d7e7":[[2414],[18]],
-"x7321326184882243":[[1828],[3]],
-"x69a051827aec614d":[[3902],[3]],
-"xb3a08a3acb163829":[[801],[4]],
-"xd76b081c0e203982":[[82,262],[43,28]],
-"xc2905de19caa779c":[[3177,3826,3104],[4,4,2]],
-"xca3d86ace3ebb5a3":[[262],[5]],
-"x43830d3850c844ef":[[82],[3]],
-"x4a044a989eab2486":[[1153],[3]],
-"x6563c53cbdaf95a6":[[733],[8]],
-"x4800a8b3fbacefbf":[[334],[21]],
-"x4ec3a77f6ac3884a":[[788,918],[3,3]],
-"x6606d6eee62fc0f7":[[204],[9]],
-"x2198e64408be358f":[[1618],[5]],
-"xb15d016f3ce1b329":[[3742],[3]],
-"x4603fc225d97725e":[[528],[4]],
-"x22c93d5bfc680127":[[2282],[3]],
-"x7cbaeb5fd5aaa79a":[[3307],[11]],
-"x7a7411c1eef6b683":[[1734],[6]],
-"x2275ad78e501ea61":[[3752],[7]],
-"x5c4bbdea11d3dd8d":[[3169],[9]],
-"xd3e9adf3a598036f":[[1770],[5]],
-"x7fc53957e79c5517":[[1437],[6]],
-"xb278fb68644c33f8":[[3699],[5]],
-"x9bcced0492a75052":[[1371],[42]],
-"xd939fe196b7213bf":[[262],[2]],
-"x77ec2f5ad9326457":[[405,346,861],[15,5,4]],
-"xff6c1fca8b64f26b":[[334],[7]],
-"x75133eadf1a2db7d":[[3112],[4]],
-"x4911dd3f5ec9ca08":[[4013],[2]],
-"xc790371bcbd748cb":[[3690],[3]],
-"x4501488bb21f252":[[593],[4]],
-"x3ac4cc134e23eaf":[[3808],[4]],
-"xe8432d94c3c944b5":[[2915],[4]],
-"x9a18e2b02b51a68":[[3963],[3]],
-"x8f7cf8e09534146f":[[1674],[4]],
-"x77fa86ff34b5d9b6":[[3234],[4]],
-"xb3d41b1b1830dbf3":[[1032],[6]],
-"xda11e2182f794473":[[334],[4]],
-"xa3a9e21457702ac5":[[323],[5]],
-"xea7ec9e5221c3752":[[2378],[6]],
-"xb9b7462d0933ef25":[[725],[4]],
-"x719c5a4acdf068f5":[[3308],[2]],
-"x5e9304bd71f71ca7":[[3169],[3]],
-"xde9c309a52c051bd":[[2348],[4]],
-"x1f641d873cd53ca1":[[1762],[5]],
-"xfacfb08bd1a62f83":[[258],[3]],
-"xd3ef182153c60e8d":[[1619],[6]],
-"xa84bb9ccad03b7c6":[[723,1187],[6,4]],
-"x1a01dea209990438":[[3501],[6]],
-"x48e3b6f7a182490e":[[262],[6]],
-"x7f7a068a9adcc538":[[3],[4]],
-"xf77c2b3674603705":[[262,983,1380],[12,6,4]],
-"x562aff37da099778":[[659],[4]],
-"xe5232c619dcda81a":[[983,82],[13,7]],
-"xe55d7e4d1d999278":[[262,1380],[41,4]],
-"x747e090618238783":[[2609],[1]],
-"x66c2a31d66cab3b":[[731,788,1699],[44,41,4]],
-"xd6e9f0296bbb4561":[[731],[27]],
-"x4a7abf1de27432dc":[[853],[4]],
-"xcec976b0202cbd3a":[[262],[3]],
-"xfbcc16b5450eb89c":[[730],[3]],
-"xf6c76db48a01774c":[[3947],[2]],
-"x8024c0306e23eec7":[[3827],[4]],
-"xb0ec24fdee78b2e0":[[3958,3307],[16,3]],
-"x9913726253299a74":[[3902],[6]],
-"x173877e64045391d":[[601],[10]],
-"x244578a3d2cc3ee1":[[594],[8]],
-"x573aeb5e3c9e7e8a":[[2],[3]],
-"x6569e89c8ff6357e":[[3828],[3]],
-"x58a07c6e74dcef47":[[332],[9]],
-"xb336b18f6f0867fd":[[262],[4]],
-"xf97b90f148d81674":[[1371],[1]],
-"xbdac8ebad4737e45":[[3299],[2]],
-"x4c9c4e7d163cb183":[[3177,3112],[7,5]],
-"x7710befeaecdce88":[[2788],[3]],
-"x704f79cf7890eb7a":[[2813],[4]],
-"xa67c22b7a640c6cc":[[3938],[3]],
-"x64283804a3ff1a98":[[1683],[4]],
-"x1864c1b3203b6d3b":[[82,353,216],[24,8,4]],
-"x1e8654fdfb677dda":[[1699],[3]],
-"x7fbd286fa02a15f7":[[918],[22]],
-"xf212ccb688e5dea9":[[324],[7]],
-"x63970249f5868505":[[1180],[8]],
-"x9f1d7b655234eb4d":[[339],[1]],
-"x43b718516afdcab0":[[2910],[2]],
-"x2fcea2d5a59c4fc8":[[3177],[3]],
-"xc69dd8f7dc6761b6":[[2681],[3]],
-"xb6838e8ef6f8d61a":[[2747],[2]],
-"x22dd691c3fe3698e":[[3826,3902],[4,2]],
-"x724dec9a595a77bc":[[3699,4013,3372],[66,21,9]],
-"x6823a3d3cac6fefb":[[3249],[7]],
-"x95e838c8f88b2fe9":[[3372],[2]],
-"x1f2b9ee6e0ed3a96":[[339],[7]],
-"xc68a297325408bf3":[[3690],[3]],
-"x417afac92ab26e70":[[3947],[2]],
-"x3adfb3bc92992a3":[[3567],[3]],
-"x66fbb526373b2f42":[[3958],[3]],
-"xc38f9bfa92ce1a92":[[861],[5]],
-"xdbcc91d79be32bdc":[[733],[6]],
-"xc8a09b7f5b372e23":[[1611],[2]],
-"x8d9630d8f74bda6f":[[1114],[4]],
-"xca10dac76bb4293e":[[3234],[7]],
-"xf94c1df9b1fb9436":[[323],[1]],
-"x4744283eabd05b6":[[4],[5]],
-"xf3d918ab4baab624":[[2163],[4]],
-"x9682f13767256d83":[[852],[3]],
-"x9d31637eaf4a65d2":[[3169],[4]],
-"x195c7ef2fb83b072":[[1048,1375],[15,8]],
-"xd749b14ddc136cb":[[3494],[28]],
-"xf5db51d392e95beb":[[731],[6]],
-"xf5bb548aa5369471":[[3827],[3]],
-"xc10d3e5fa2754793":[[852],[5]],
-"xf71eb5647f45f304":[[2852],[1]],
-"xf68ce0a9d8446c52":[[148,275],[14,5]],
-"xa06619f11814a45a":[[1740],[4]],
-"xde3ed5371f218a0c":[[658],[2]],
-"x1460dca95f34933b":[[1048],[6]],
-"x972e9b6ff3fa0824":[[3372],[2]],
-"x1190906a77e64bc1":[[1187],[5]],
-"x96d0db4d384e03fb":[[3298],[1]],
-"x4a263f44d96df8e5":[[3902,3234],[9,5]],
-"x273b83493651a14f":[[3234,3688],[6,3]],
-"x982ddcacfea733fd":[[262],[3]],
-"xcb0ba606f3a0a630":[[3178],[4]],
-"xde75a14e4da2994c":[[3964],[3]],
-"x77f6547ccc0f7c3c":[[2723],[3]],
-"x4bda0f4cf49b92d1":[[334],[2]],
-"x3f7647743994021":[[1633],[1]],
-"x6496db1cb4f5bac2":[[339],[3]],
-"xf30d11b6cae79f05":[[1681],[5]],
-"xd0b9e30ca64e3153":[[1355],[21]],
-"xf67d642b6631ea44":[[262],[5]],
-"x8eb51ec403b72dc1":[[67],[3]],
-"xeaf0fe52da42d694":[[3600],[3]],
-"x92922352937e7178":[[536],[3]],
-"x11fca820c9717827":[[3242],[4]],
-"x8cd3bea517728421":[[3929],[6]],
-"x7893a407450efbe7":[[2715],[6]],
-"x30354601c8e90fd8":[[346],[10]],
-"x2b6901874663562e":[[3325],[9]],
-"xfafd2116e40f40f6":[[3307],[2]],
-"x5a0ea10f87ff1d3f":[[3779],[6]],
-"xa06149a23c183de1":[[918],[41]],
-"x411accf6c73e63c2":[[902],[3]],
-"x2a70af792e3a89b2":[[3699,3761],[24,1]],
-"xc8809147308daad":[[1382],[2]],
-"x3b6bc44d26518836":[[2357],[6]],
-"x84f4f78de4f082c4":[[3177],[2]],
-"x500c4b826afc6821":[[723],[2]],
-"xa43f2e23f16eccce":[[323],[14]],
-"xf443841c02e3116e":[[3566],[6]],
-"x99e32768f10068da":[[4015],[3]],
-"xd4a72bfd7079dee7":[[137],[3]],
-"x608ca3dc01addf75":[[3389],[4]],
-"xd579eb65259aa6fb":[[1318],[5]],
-"xad0a4a175fecbdf":[[1964],[5]],
-"x780fa3688be22ce8":[[3298],[5]],
-"x391d47012929284e":[[4020],[2]],
-"x8258afcf13330fe4":[[3826],[7]],
-"x634f0dd740a5305b":[[353],[5]],
-"x98ae620b08650fa":[[4013],[4]],
-"xfff45b25f73155d7":[[203],[8]],
-"x1a5dba713166b296":[[3688],[5]],
-"x8f42bdc43875af8":[[1234],[3]],
-"xa50559c4dcc12a41":[[135],[3]],
-"xdc32303ee26ec8c8":[[2412],[15]],
-"x655708e43d691152":[[1810,3234],[4,3]],
-"xc261b4a8bb570110":[[601],[5]],
-"xfa44cda10e869442":[[2268],[2]],
-"x9354de5085ef3848":[[3372],[7]],
-"x810bd9076c42a757":[[3699,3372],[14,10]],
-"x5841df3100c9c130":[[2720],[9]],
-"x4d694800f6e4c5eb":[[595],[3]],
-"x2a62b9cb7049fc28":[[1634],[8]],
-"x26a2478fec71f8e9":[[731],[7]],
-"xf80bf4df971f53e9":[[332],[2]],
-"xc629331fbfe7fe88":[[1179],[6]],
-"x5a680622aa17b53f":[[3169],[3]],
-"xf29f2dbe24baca31":[[1830],[6]],
-"xf049c8f168b86d3d":[[4013],[32]],
-"x5f723a60e66724c5":[[4094],[3]],
-"xba98a4dc1f3b61a":[[262],[6]],
-"x92e0f2d1548e27f1":[[322],[3]],
-"xea92d70a9af103f5":[[2919],[6]],
-"x16ea94572204879a":[[2931,3756],[17,3]],
-"x2570bfb4828483b1":[[1835],[4]],
-"x9bc7003fb4007ca9":[[836],[3]],
-"xdf46e060afdf6a84":[[722],[27]],
-"xa94eb6f42a71c62c":[[4013,3502],[12,6]],
-"x4ee3ea132b163ddc":[[3929,2931],[21,3]],
-"xcf5a1ddbc9b2721e":[[3567],[3]],
-"x45a28fe040dafb05":[[1681],[11]],
-"x24929594a5d4a602":[[1828,1763],[40,31]],
-"x83619a996234d311":[[332],[3]],
-"x1903f0535c6bef8b":[[2347],[3]],
-"x4e8677d97a6b5167":[[2723,3828],[20,10]],
-"xc0537c0737759ad9":[[2],[3]],
-"xe68ca82474808a23":[[399],[6]],
-"xaf92ea3b7a5b2a9f":[[1763,148,536],[24,15,3]],
-"xde6ef04907c62863":[[3309,3956],[2,1]],
-"x192fc8224c6f1b09":[[1242],[8]],
-"x70c6b5bce18d5307":[[1769,1739],[12,3]],
-"x1833dbb6a8ca4296":[[1180],[3]],
-"xc37f82a8e0eefa68":[[846],[3]],
-"xe117334d1d53887f":[[593],[6]],
-"x1b1fe29c4adc4cfc":[[2715],[3]],
-"x71a7f6cb8a8f22ea":[[3242,3956],[9,4]],
-"xc23255e08fa1c7b":[[902],[6]],
-"xa6150666b9746874":[[788,731],[22,19]],
-"x88b125f39cd2dd6d":[[796],[6]],
-"xa094d7366dd62008":[[3763],[26]],
-"x722b219cecbf702b":[[2347],[5]],
-"xa8f1b065c9b11509":[[2593],[6]],
-"xf62307e6cd606d7f":[[3947],[4]],
-"xc07f26750602e562":[[853],[3]],
-"x8c633d97202e57f3":[[1217],[3]],
-"xaf0ddb10ce1548b9":[[3242],[5]],
-"x7f4f828cb582ec07":[[1291],[8]],
-"xbcaacb6995dbd09d":[[2137],[5]],
-"x776c0ec8537851b8":[[3964],[3]],
-"x598890792a205cb4":[[391],[5]],
-"x9336b945c62e5c68":[[262,723,528,216],[12,11,8,4]],
-"xa5bfa0196758b6f3":[[3169,3902],[6,3]],
-"x4aa938e919f02331":[[3325],[3]],
-"x7c00676229d4d3f8":[[1546],[3]],
-"x1aef979a433268fb":[[1971],[4]],
-"x8809176f09bcf131":[[262],[2]],
-"xe1219cb2049cceef":[[2915],[11]],
-"x114457e1daa1f7af":[[262,723],[8,2]],
-"xa83dbf4d01ec7aef":[[918,405,346,861],[14,13,6,5]],
-"x645ae749b516304a":[[3112],[4]],
-"x41403c4d28db12b2":[[2484],[6]],
-"x73f7d41106030257":[[3178],[19]],
-"x52bf37dcdf653b27":[[148],[9]],
-"x7a3d53fd451bd97":[[2],[5]],
-"xe2fec1e79d38f4b9":[[82],[4]],
-"x34e7b01c11d907bb":[[3642],[1]],
-"xfe51b16d14da1c6b":[[3307,3242,3299,3234],[31,17,12,10]],
-"xfa1d746621eac342":[[1180],[3]],
-"x23613b73f7e2d8e6":[[1616],[3]],
-"x8cf2815a2e28591b":[[2285,2713],[17,3]],
-"x56f6a573ff52d78b":[[723,2154],[28,3]],
-"x3a59dc357d96d49f":[[203],[4]],
-"x15c587a79b172331":[[1892],[2]],
-"x5d73f523521d777":[[3956],[5]],
-"xcb6f42596a9b1ec4":[[3761],[1]],
-"x807076db78d00269":[[1941],[1]],
-"x6550193432b5fb61":[[3902,3242],[171,1]],
-"x510ce173cd6b4573":[[2203],[4]],
-"xc55b1d13bc359eb7":[[2851],[5]],
-"x747e1da0e6f0113d":[[731],[7]],
-"x5f00ef95fbf6c545":[[1380],[6]],
-"x49b11f040ca60949":[[3826],[3]],
-"x862560c93b63a53c":[[666],[3]],
-"xf1c9fc18ae75bb24":[[3325],[6]],
-"xe92a1b07971dcd37":[[918,731],[5,3]],
-"xfdbac3be3191646a":[[1098],[14]],
-"xad41edb1c328755e":[[3763],[9]],
-"x2f7656a895dcf461":[[3374],[4]],
-"x23235d06e4d9ff90":[[796],[6]],
-"x43c712da63cccfd5":[[3373],[5]],
-"xa03e8c0ed8f2775a":[[2],[7]],
-"xce50c5dda9a60430":[[334],[4]],
-"xa69faa2675aa3d82":[[1681],[4]],
-"xd17120c95006668b":[[2720],[1]],
-"xdc0e8e2a98668296":[[3429,3234],[9,7]],
-"xcbc5fb32ff46e79a":[[148],[5]],
-"xe2e49bff15645a84":[[193],[5]],
-"xa94caa80599bcc7f":[[75],[5]],
-"xe81ed6fe8e74f84b":[[2266],[7]],
-"xb350e0c23f51f47f":[[209,262],[12,2]],
-"x850594ecc962f9ec":[[2722],[3]],
-"x77dd148cb131eca5":[[3951],[5]],
-"x7a3f578660e5736":[[148,536],[4,3]],
-"xe0e83d07d4fb0adf":[[339],[4]],
-"xc12483c80f33b674":[[1762,262],[7,6]],
-"xc8b3982dcaeca000":[[202],[8]],
-"x4986ed187819568d":[[157,1226],[6,4]],
-"x6128f08085fcf105":[[2594],[5]],
-"xcf094ff77eb26e1a":[[262],[3]],
-"xa646f7d131d6798b":[[789],[3]],
-"x6833511bd1842451":[[3902],[6]],
-"xec0f177a7e9a9665":[[148],[4]],
-"x9d5322bb195ce3f":[[334],[3]],
-"x8a05581806fe12e3":[[4013],[14]],
-"xdd73bc2c23123dc0":[[797],[2]],
-"xa02cc77821d20246":[[2],[6]],
-"xe2ed194e77ac02a9":[[3902],[4]],
-"x89d3fe02c5421962":[[2074],[2]],
-"x6a93577b41ebe465":[[1762],[4]],
-"xfb73e240dc52b440":[[3178],[5]],
-"x47a10d0838742dfb":[[3104],[4]],
-"xbfebc5b4bda4deac":[[3503],[2]],
-"xb28aee548c543bd4":[[3567],[3]],
-"x551a85ef3ef255dc":[[983],[5]],
-"xfa529dd6369708e3":[[4012],[6]],
-"xb5e59ca5ed7bc8ac":[[3964],[4]],
-"x6458c3a88df20887":[[3699],[4]],
-"x36bde2e53d635113":[[668],[3]],
-"x141833a5f49efaf7":[[1132],[5]],
-"xcaa575a53e6f3c9":[[1162],[17]],
-"x6c79a2ee582d3cc":[[1763],[13]],
-"x8431a9118c61d0f0":[[258],[6]],
-"x5a30a08bc56138bd":[[3902],[7]],
-"x80cec1893582394a":[[2219],[6]],
-"xade92619f8df7401":[[353],[2]],
-"x511e05d41f63d5de":[[2090,3234],[5,3]],
-"x3285175a8104cd55":[[1652],[4]],
-"x43e8510ba6cbd9ed":[[657],[4]],
-"x56c137554178e40b":[[82],[5]],
-"x649c401df10a8430":[[56],[6]],
-"x4c6856d91c1dec0a":[[2463],[3]],
-"xaa938d1a4d960912":[[334],[3]],
-"x74ef3d3998141b8f":[[3164],[2]],
-"x66bf247d32a833aa":[[1438],[8]],
-"x62f83ac113ed7f95":[[3808],[4]],
-"x2dc600f6facd4012":[[1762,658],[3,2]],
-"xb9014f283d645cd7":[[1821],[1]],
-"x1117f0cfec4ebc5e":[[2455],[5]],
-"x2cb142b8b816e0ce":[[2463],[6]],
-"x805579149e46cac9":[[1748],[3]],
-"x5e426a3f0af17fde":[[209],[7]],
-"x6bc19f38e2609597":[[855],[3]],
-"x35c474974a398a42":[[3761],[1]],
-"x1cf80a5cd0988e79":[[991],[2]],
-"x720ba8354b6219a1":[[3169],[6]],
-"x7ba05f74e99e3d33":[[203],[3]],
-"x982617e8185d9504":[[1763,262],[16,8]],
-"x9e7c98b55c5d62fb":[[861,148],[7,6]],
-"x602235ebd358a20a":[[3642],[3]],
-"xd00dacff47457fa":[[2203],[2]],
-"xa48a91a1fc91927e":[[3761],[5]],
-"xb786899a10c976ab":[[3963],[6]],
-"x854df85fddef1d2b":[[3372],[2]],
-"x9f70b91de6be7738":[[3436],[6]],
-"x2354873f37e6c9bb":[[334],[12]],
-"xf62989e5f366e266":[[3641],[3]],
-"xf9cb62ea7be422f4":[[709],[3]],
-"x9976ee180e5e9555":[[3752],[2]],
-"x87681ef51df6b2dc":[[2],[4]],
-"x27025a17b36648c3":[[2675],[2]],
-"x772c87e69049c86f":[[3958],[2]],
-"xb4a8bf91112e6e25":[[3957],[8]],
-"x32aa882e7e97f52a":[[1380],[8]],
-"x87669a18199ed752":[[3690],[4]],
-"xbc2f683c8f982d90":[[3902],[4]],
-"xf7d21ce6d9ee3ebe":[[1828],[4]],
-"x576df67ee0025df7":[[707],[4]],
-"x4a1715ca82f1b3e2":[[3826],[6]],
-"xc254f875a6bfed21":[[262],[3]],
-"x7e77a09d2dd5f537":[[3307],[7]],
-"x889acc83f4501e8d":[[1959],[5]],
-"x73c464b28cb81199":[[1,528],[4,1]],
-"x6dff3b5fceae5518":[[593],[4]],
-"x7b41ad9db7c3ccb1":[[2851],[3]],
-"x5bed700323e767d4":[[3234],[69]],
-"xb00d3bd81f9dfbc":[[80],[5]],
-"xba9c7c44892094f5":[[3836],[1]],
-"xd822b12e9d95eaa3":[[75],[5]],
-"x50ec129b22822281":[[405],[4]],
-"xd0f2359ff721a519":[[3364],[5]],
-"xd3d208207fc02e27":[[258],[5]],
-"xecf82c0530ec9ea":[[2915],[5]],
-"xf0ed332773c9ce4e":[[3379],[3]],
-"x8b3dd9853ce47594":[[258],[4]],
-"x585b353a026fb151":[[917],[13]],
-"xe6f98be995434106":[[1307,528],[10,3]],
-"x5259f0a6b2497820":[[926],[6]],
-"xdd742672de087d6b":[[788],[4]],
-"xfab42a391c979396":[[3892],[1]],
-"xb663577df5f241bb":[[658,601,723,82,262],[71,11,10,5,4]],
-"xce5d4236eae3ef1e":[[3947],[3]],
-"xc7bc387f2e4ce2c0":[[3494,3299,3956,3307],[12,9,4,2]],
-"xc97ab689e00bafd1":[[262],[5]],
-"xbdd92aa304e5c80":[[3373],[3]],
-"x6fabde4a6184cf8d":[[3169],[10]],
-"xd3a9842e8921b83a":[[3494],[12]],
-"xe3a409f602d231db":[[2059],[2]],
-"xe79b4ab1d94e334b":[[709],[8]],
-"x4acc027cee7eebda":[[1626],[3]],
-"x54812314fc1e8baf":[[917],[5]],
-"x8223c3e494636af6":[[4013],[1]],
-"x9a485a4f94a7ce2f":[[3958],[2]],
-"x3126e435f99a533b":[[259],[6]],
-"x58803531291313cd":[[2098],[12]],
-"x6e637357b4ddd067":[[1747],[5]],
-"x6d7984023bd57222":[[82,405],[25,10]],
-"xcbccc61eeed998f1":[[219],[59]],
-"x29833ed5c671a23b":[[1681,3],[13,11]],
-"x64a74a930aba74b0":[[3307],[18]],
-"x53520269ea90c109":[[3690],[10]],
-"xb272e138b837c5f8":[[2154,1764],[120,5]],
-"x2ca8a413987575ed":[[536],[6]],
-"x973be3d8de92a816":[[4013],[4]],
-"x9a8aceff50f7cf46":[[3112,3567],[4,2]],
-"x522bc9ee7739ee05":[[2851],[29]],
-"xde414f027d583505":[[3902],[3]],
-"x793f2bd1f7bf057c":[[1676],[5]],
-"x25fa4d9cf9d4a5cb":[[3372],[5]],
-"xceda893747775679":[[137,323],[7,5]],
-"x4dfb64b3ba21b449":[[2908,2331],[66,7]],
-"xce6b7ec2186463f4":[[332],[6]],
-"xbb361b61b960a921":[[3763],[3]],
-"x49f5afa139758f5a":[[853],[5]],
-"x2ad86e4beac4177a":[[166,148],[4,2]],
-"xad03bd3abedc8e41":[[1762,1681,204,1683,536,593,1308],[90,80,46,44,35,10,9]],
-"xf28e40aebcf5fb9d":[[2934],[3]],
-"x89296ddf5dd2fceb":[[3956],[3]],
-"x27c9ccbd30527e16":[[2348],[2]],
-"xf30fd6534165731f":[[1739],[3]],
-"xcfe45942bb567ee":[[3956,2715,3307,3938],[10,7,7,4]],
-"x6463bd837b572072":[[658],[3]],
-"x8f750ee37c9ee8d2":[[324],[1]],
-"xc697c36637c5e3ea":[[2217],[3]],
-"xf400362aa10bc7ba":[[204],[4]],
-"xf7f059d7505dbff":[[3763],[8]],
-"x40578eafeff28da7":[[3690],[1]],
-"x5dc52cbecdd4c830":[[258,262,1180],[11,5,3]],
-"xa06bf4929726ae3b":[[3779,2919],[4,2]],
-"xfc47f4317f293b9d":[[3502],[3]],
-"x5f9c97d001dde5b8":[[3763,3690,3234],[69,4,3]],
-"x83995a8471dc10a6":[[1699],[12]],
-"xf68d9d69c3f19148":[[204],[3]],
-"xa861ffb051ca344a":[[3749],[9]],
-"x5c0fb8494c1b937f":[[75],[5]],
-"x45c5277f8bae2f52":[[1822,262],[31,7]],
-"x3f93510a26ccca17":[[405],[3]],
-"x4cd5d8f47e3c754":[[1681],[18]],
-"xc2c7685e64156a11":[[2747],[3]],
-"xceb48bdfa26c4fee":[[658],[20]],
-"x67ca235f5ac8c57":[[3956],[7]],
-"x74a815fe5691a90a":[[3902],[2]],
-"xdac8f3bad5dd2956":[[1958],[13]],
-"xb72fb0f42918986d":[[1810],[11]],
-"x9b9ff9aafc32b1b":[[202],[6]],
-"x9377e86e70eb8db9":[[3699],[6]],
-"x87d52ab8057b70ba":[[3437],[6]],
-"x39da80d5882ecc05":[[262],[7]],
-"x8c6a05e1a44443dd":[[2477],[10]],
-"x3d5e02d78a7036b4":[[203],[7]],
-"xcebc07b1fa04d227":[[1164],[5]],
-"x1c0b524cdedc2371":[[3169],[6]],
-"x8994a6123a9139bc":[[397],[1]],
-"x904b726c985753a0":[[262],[3]],
-"x36e9193b5143a3cf":[[3171],[3]],
-"xc37f830d02cb3c41":[[2851],[6]],
-"x47e5a11a8e155f43":[[2220],[3]],
-"x4bdb1d0c0c469f7f":[[3104],[5]],
-"x19cfda0f2e2e1a11":[[3956,3234],[8,4]],
-"xdf468d99e1ccbb63":[[721],[18]],
-"x52f17a96f576997e":[[3177],[5]],
-"x38666858629fafbe":[[3104],[5]],
-"x1e1fd5bf731e2c0d":[[536],[5]],
-"x2e1da775779c20b1":[[4013,3234,3429,3299,3177],[18,13,4,4,2]],
-"x8caa7cca4df698e3":[[82],[7]],
-"xdd1937963dacaffa":[[324],[2]],
-"x556a1ab3f7f51252":[[3177],[6]],
-"xfed8b9c107f73645":[[139],[2]],
-"x636b8e1a00381f9d":[[3699,2203],[12,12]],
-"x3a421384eb6a41b8":[[194],[3]],
-"x8efd97829464d343":[[666,82,324,75],[29,10,9,6]],
-"xb031faa5a4019b6f":[[3771],[3]],
-"x30e571a6266dc5d5":[[2266],[5]],
-"xc153049913198bc1":[[209],[4]],
-"x69ecb8410b80bd4f":[[262],[6]],
-"x95dd03fe7583f5cf":[[788,405,796,1699],[77,44,21,8]],
-"x98e859bddae2d9ce":[[3690],[6]],
-"xfaf0e21e4531735d":[[3177],[2]],
-"x751108b42ac04650":[[2915],[9]],
-"x2c8c940cef9a6419":[[1698],[4]],
-"xbb4cee2023a7d3cd":[[3817],[6]],
-"x1b0df7659a13f734":[[3234],[3]],
-"xfb371f78f3a3a937":[[2],[3]],
-"x3fa3bc32e51a614b":[[3761],[6]],
-"xef7f6bea9a28c385":[[918,660],[8,4]],
-"x6a61256b3a8694d4":[[3364,3372,3234,3502,3299,3242],[121,76,56,52,11,2]],
-"x33a5bdfdfc58e342":[[2715,3763],[1,1]],
-"x489019c69deceec4":[[82],[1]],
-"x71d7b3d83645d734":[[262],[13]],
-"x7b2cf8abc5c4b411":[[4013,3690,3364],[1687,15,5]],
-"xda11ee22e5ed4d7c":[[3501],[3]],
-"x3c2bc1079a4fc338":[[3690],[1]],
-"xf528192f722fd161":[[139],[3]],
-"x5b8b5f950661f9ec":[[1371],[12]],
-"x3a03d9ddd7a58080":[[788],[4]],
-"xa462e9f6440a17df":[[1243],[7]],
-"xb862c64c7774f6bb":[[2940],[5]],
-"xa8b507cfad38c92e":[[2107],[2]],
-"x3f8d2d4e15f3e24c":[[405],[21]],
-"xc6e5471a6173930c":[[796,202],[19,3]],
-"x29c0cdae4b1ca2be":[[334],[11]],
-"xa4e494e6db30a10d":[[258],[3]],
-"xf165f4c0165bbe0e":[[3902],[7]],
-"x82e3e06781c3c76c":[[918,82,788],[62,9,4]],
-"xd78e9152e02a8430":[[332,528],[51,2]],
-"xf024bd8652061806":[[3902],[18]],
-"xacc953089eb61de0":[[1089],[6]],
-"x3f99eee16ef7cc2b":[[926],[76]],
-"x3097fb73fdb8054f":[[2443],[9]],
-"x8207600db650906f":[[3169],[2]],
-"x2f5098eb02e0505a":[[2724,2720],[13,5]],
-"xad2226cdb2fee70c":[[926,332,148,861,918,346],[75,47,29,15,11,11]],
-"x34d1094c05f46754":[[82],[5]],
-"xbc6ffb0d4dbcc7c9":[[82,405,918,731,796],[176,68,54,41,4]],
-"x9cb35e9b9654158a":[[2842],[2]],
-"x97f8f83a1071ca1d":[[3429],[3]],
-"x52d0a414305829a5":[[3998],[6]],
-"x68383ad3a4b96828":[[2593],[3]],
-"x17323d91a61c6e3d":[[1697,1761,2477],[24,16,12]],
-"xd897822a7ae5896f":[[1380],[3]],
-"x309467f11d0f449c":[[3437],[4]],
-"x7aa0e87d0b7db600":[[219],[22]],
-"x747809019a2bff9":[[32],[4]],
-"xfcc161b827e453e3":[[2463],[2]],
-"x3b4f4f4174c37af3":[[194],[3]],
-"x6976cd1f51d77757":[[137],[3]],
-"xcc680fd3699c161a":[[3429,3169],[1,1]],
-"x7ea319efefee90c1":[[3964],[5]],
-"x9c952928b7512511":[[334],[51]],
-"xd3086479d701fe31":[[3884],[6]],
-"x10b1b6ecdf0d765b":[[721],[5]],
-"x2ceb8a92e58b5887":[[3353],[3]],
-"x6e1bb9b550d323f1":[[3811],[4]],
-"x803d345e3d1f73ee":[[2330],[3]],
-"x53e9f405def9c618":[[2584],[3]],
-"x46e5410c5da71939":[[2940],[5]],
-"x9a250e2750d2be47":[[3742],[9]],
-"xd378289e81d0d515":[[1249],[2]],
-"x9a4dff27c6780e05":[[1359],[8]],
-"x8aaa3541e8b0b54e":[[3826],[1]],
-"x33c27b4c1495a9e7":[[1371],[5]],
-"x2908cd79ba5eea1f":[[262],[4]],
-"xde074ec4493788b7":[[2],[11]],
-"x9513c20ca777024b":[[1098],[6]],
-"x47fa0f7b51c97cad":[[3699],[3]],
-"x13116f36f0ae7e42":[[2908],[1]],
-"x3d7b759d738c151e":[[332],[5]],
-"x8ccfe907bfd4305f":[[1568],[3]],
-"xe306affdc4bc793a":[[3690,3958],[13,4]],
-"xb00cb4348e079ed1":[[2407],[5]],
-"xb26ecb54159fad9f":[[3234],[9]],
-"xdd4fae21a50f8c3c":[[1769],[3]],
-"xd0ff64e8ba25e195":[[917],[22]],
-"x7e00203847610fa0":[[203],[6]],
-"x85138ea90b06d3f0":[[2915],[13]],
-"xef2f08d346e99234":[[1699],[3]],
-"x149aaa333fbc430e":[[3947],[3]],
-"x3fbc53b5f587505":[[721],[3]],
-"x27256fe407b717d0":[[1308],[5]],
-"x8f03eb06705df894":[[82,731],[22,5]],
-"x8842f43368bb3293":[[2477],[7]],
-"xedff39b7d90540a4":[[722],[23]],
-"x551c63eda9b6ec66":[[2747],[3]],
-"xfaf1cd53078ae726":[[2931],[7]],
-"x440a44ef97fd7677":[[3964],[5]],
-"xc00aefbb4c6e69f2":[[3771],[6]],
-"x8301b594404f73be":[[405,166],[21,20]],
-"x70604575dbab38b7":[[601],[5]],
-"x79559076decbdc80":[[3307],[8]],
-"xa80515e23a0d7e01":[[796],[4]],
-"x70ee24cc4f7cbe34":[[3567],[4]],
-"x58033c361f628d06":[[203,202],[7,5]],
-"x9238a6869b29573a":[[231],[3]],
-"x3faa848b5c212cba":[[3699],[8]],
-"x3351f51b0a5889c8":[[594],[53]],
-"x30822b0d5361d049":[[1179],[6]],
-"x54dadfe36dacaa39":[[89],[6]],
-"x77156a6e204878d4":[[1049],[5]],
-"x1297b266d226456d":[[4013,3299,3372,3307],[103,60,16,14]],
-"xb3844d49d2be0d0":[[3372,3502,3112,3742],[14,9,8,3]],
-"xe14b7bd4b7d18406":[[3502],[3]],
-"x2047d14c017c315":[[323],[4]],
-"xaafc21bf8c685224":[[2463],[3]],
-"x86eb30c2a78a8c06":[[4013,3234],[25,5]],
-"xbd17aed675c435ea":[[3964,2331],[4,3]],
-"xfac2c4b6aad2ed21":[[3761],[4]],
-"x999a7b184e51b99c":[[3539],[9]],
-"x6b5316c2ea7c011":[[1308],[5]],
-"x8ad1438908aeaaae":[[2347],[3]],
-"xd902180950a3155e":[[3699],[4]],
-"x23f5b6aacaa70293":[[3807],[3]],
-"x8517b48c7cbb00ab":[[1458],[3]],
-"xe28642f9bc83f7c8":[[3616],[3]],
-"x80e00e1f086fa786":[[731],[6]],
-"xdf79f07a8767ab70":[[593],[3]],
-"xcaf3854ab9ba9d2d":[[2325],[3]],
-"xdc5b6eb0c603ba5c":[[137],[5]],
-"x713e126b599bf79d":[[2059],[8]],
-"x2748155160dc1a91":[[2592],[3]],
-"xa75f9ebe9bc2d495":[[332],[5]],
-"xf372983dd8e7550":[[2325],[457]],
-"xa39bc5da16fdc2bf":[[2331],[6]],
-"x3ce2f481328b04f1":[[3821],[4]],
-"x2d1039af9457abc7":[[82],[7]],
-"x74be2e73dc8b703a":[[3007],[3]],
-"xc2c826a1da9b7f30":[[1934],[6]],
-"xf5db73f38d3b1eb4":[[593],[5]],
-"xa45fc963607a18f1":[[983],[3]],
-"xd423b97199d0a432":[[139,203],[91,6]],
-"x2803dc1c9cdc2dfe":[[3826],[8]],
-"x37047749fe144cba":[[3567],[5]],
-"xe2aa8ed3f968df18":[[3643],[3]],
-"x888f7357c906f8d8":[[1699],[18]],
-"xfd7c7502e9aabb55":[[3958],[9]],
-"xa52e1c51a05dc1da":[[2909],[5]],
-"x3423af8a775fbb1f":[[3374],[5]],
-"xd06d33db649284eb":[[2851],[10]],
-"xcc97daba77d17bef":[[339],[7]],
-"xdd2a27d6e0824704":[[2787],[5]],
-"x9259b6a2e6bd571f":[[19902],[3]],
-"x34df27866c0e1869":[[82],[14]],
-"x199bd71b94b57353":[[3177],[9]],
-"xd0fbcbcf5911e655":[[3551],[4]],
-"x24dd3cf546f39481":[[1618],[12]],
-"x9dafd93138b8375b":[[148],[3]],
-"xfb9a50b67e21afc":[[1380],[4]],
-"xe13a8bee01563893":[[528],[3]],
-"x52dc9a73f8ba7f38":[[651],[6]],
-"xaac26f2d8a349114":[[3567],[2]],
-"xddf20750d01357ea":[[1941],[6]],
-"x3c8c61f9ab18a473":[[3826,2138],[4,2]],
-"x52a148f5cc5ac05":[[3761],[4]],
-"xccf9cadca8e67493":[[332],[4]],
-"xf6ddab391b1186ba":[[2484],[6]],
-"x50a5285587858425":[[853],[5]],
-"xe886696f0bba442b":[[926],[5]],
-"xf102d5bec3daad7d":[[1372],[5]],
-"x17c2d5929e5a36e2":[[3371],[5]],
-"x27df463d92359d9e":[[324],[2]],
-"xea88299666447840":[[339],[8]],
-"x379fe3b6ff046d8b":[[3429],[6]],
-"xe9becd1bc91cd1ff":[[1761],[8]],
-"x13eaa3fd4380dcc0":[[601,1763],[6,4]],
-"xc9752383b59bfc53":[[991],[2]],
-"xb3acf3161125b486":[[2851],[4]],
-"xc4b3798a42e628ba":[[593],[4]],
-"xfea91dedad7feb08":[[3827],[4]],
-"x2d91b4a8886c2703":[[2788],[7]],
-"xe434a64e9fa8c7b5":[[219],[5]],
-"xbb265d53abd5ca04":[[1810],[3]],
-"x19f8c67cd8aad608":[[1826],[2]],
-"xa7c0f6f5eb00ab9c":[[148],[20]],
-"x4db03c5958364c78":[[399],[3]],
-"x34a5ff390aee592c":[[4029],[3]],
-"x2d7c317bdc511e28":[[3699],[4]],
-"x56571e4629db1cb8":[[1371],[22]],
-"xbf8588345fc4ba33":[[3958],[4]],
-"x62924214c684aff8":[[339],[4]],
-"x49eda335fe8a97d8":[[3761],[9]],
-"xc344d8a24a7c755d":[[528],[9]],
-"xd3d747a1db211d56":[[3112],[5]],
-"x91cc50ffe8652bb2":[[3309],[4]],
-"xfccd00ce8a796f34":[[405],[6]],
-"x99c0ed7ba4209881":[[148],[7]],
-"xf1b63a9fdd6eb0f0":[[1765],[3]],
-"x63bb7ce40783fd17":[[593],[5]],
-"xc588e23eae536571":[[3742,2526],[18,11]],
-"xab0f6d2d54a8148d":[[262],[3]],
-"xe1e38c6fad06c8fe":[[4013],[8]],
-"xf4015d479ed52b35":[[262],[4]],
-"xf6ed670df97574f5":[[166,82],[41,9]],
-"xef7c7bd2c63f27b7":[[2355],[3]],
-"x136b9dfec8e88ae5":[[405,1699,157],[165,44,12]],
-"x6e51a20f67645bb2":[[3442],[3]],
-"xb24e4a4742b5ba1a":[[2407],[4]],
-"xf428865efa96aaa1":[[2477],[1]],
-"x6897939d3416418d":[[3958],[11]],
-"x7be89f5133df18ac":[[2722,3902],[7,6]],
-"xb24f5ff1869562c3":[[166],[2]],
-"xb53b8c5a5c136d69":[[405],[11]],
-"x28d12e0bf313a458":[[1049,729],[11,10]],
-"x1b6f2d8f0ce97e66":[[1271],[3]],
-"x336acb2fa7217afa":[[3690],[19]],
-"x985712a313cfd27b":[[3902],[7]],
-"x42800861b9b3552a":[[3958],[3]],
-"x2c9bc1dc74dbc514":[[2722],[3]],
-"x36a7b1d17e56d9a3":[[3233],[6]],
-"x9989bcc04ec05371":[[68],[6]],
-"xe7f2f6411e41852":[[1187],[6]],
-"xb38ecb5d7b64bdc3":[[983],[3]],
-"x39b3e62fe28c4b6a":[[1308,536],[71,3]],
-"xa8043e965575a801":[[1242],[5]],
-"x580d92f4e52fd7d2":[[3958],[5]],
-"x3f786a10c16b21f9":[[3956],[2]],
-"x9374564b83e07092":[[1611],[33]],
-"x48a041461768a5fa":[[3699],[4]],
-"x1ed64027b8822593":[[1372],[6]],
-"x6ec3232b22e813f1":[[3749,3112,3372,2908],[66,58,17,3]],
-"x4f1af8300cf925b6":[[1894],[4]],
-"x9ad5e45e09dfbb5d":[[538],[3]],
-"x4b40178f83d30220":[[2658],[5]],
-"x4ff24e6e581a24df":[[2007],[4]],
-"x68d50b75969b294b":[[339],[10]],
-"xa801b8eb5a7f3fbe":[[796,788,918],[8,4,3]],
-"x9bde8834aba5a8b7":[[1942],[4]],
-"xd9f0e6e251a980af":[[3699],[3]],
-"x30c31c4876ac4dcc":[[3112],[4]],
-"xe7f0e653da48a6f0":[[3234,3112],[196,43]],
-"xfe819f398e8d66ac":[[216],[1]],
-"xb360f0bd64ebbcdb":[[346],[4]],
-"x2671654bd7372fc2":[[1371],[5]],
-"xd80d8b8587727bea":[[3192],[12]],
-"x4465778fbb1c5969":[[389],[6]],
-"x5883e0b98b914ccd":[[2788],[1]],
-"x6e120953762b268f":[[1307],[3]],
-"x6ec7c97bb05969f5":[[204],[15]],
-"x679e308a6a0f8beb":[[2203],[9]],
-"x57c653b17ec492db":[[1307],[6]],
-"xe2de7f666a60a301":[[1611],[1]],
-"xdac30a5e598eb3bf":[[3901],[4]],
-"x177a6e9b847fd0d9":[[2658],[4]],
-"xb5072c45ee83d16b":[[461],[3]],
-"x178da9c380339759":[[339],[4]],
-"x67d71b18162e4d89":[[666],[3]],
-"x819761ca4f276792":[[3958],[2]],
-"xb67450a8cc8ca58d":[[405],[8]],
-"x3dd8aad7af1beb38":[[3364],[10]],
-"x769e331294594084":[[3192],[3]],
-"x3713658e939b5280":[[1048],[5]],
-"x3b2eb049bb8a71c7":[[2331],[10]],
-"xb9d97ce6a197c236":[[3817],[12]],
-"x5630d2cbdf02c2a7":[[966],[4]],
-"x32f05411242e2141":[[332],[4]],
-"x46fcc21ddec31758":[[2269],[4]],
-"x81c1a3503b8fbb7":[[2931],[9]],
-"x86d60d412ffd9156":[[3902],[4]],
-"xa0ec3d69277db629":[[926,1745],[11,9]],
-"xb1a663cdd3fc6ca7":[[3964],[2]],
-"x44d463ee8f21e768":[[1770],[5]],
-"x17f4ccb4111f9141":[[1681],[8]],
-"xd33983f230ba211f":[[3234],[2]],
-"x6ecf5687b1072223":[[213],[7]],
-"xff9adfec881a8ae8":[[2593],[12]],
-"x29e954137580ddf9":[[866],[3]],
-"xc8df0c62078fd989":[[3567],[3]],
-"x328c10408b85fe7a":[[1823],[4]],
-"x9c6ab63c8a2a1ad7":[[1745],[4]],
-"x3d711aff29c60f16":[[3938],[3]],
-"xc6c46180f89ab896":[[2915,2851],[7,4]],
-"xe7ed95a3c8bdbc96":[[2852],[4]],
-"x371c0a28fb8d7966":[[666,262],[25,20]],
-"xf9892428171a7565":[[3642],[3]],
-"x8d7332cf38d874e4":[[3645],[3]],
-"xb81dc7aee7058549":[[3372,4013],[14,6]],
-"x9ba2f7b6d5ff65c0":[[2137],[5]],
-"x8c7b4f3474c0b2f0":[[721],[7]],
-"xcdb817e9296d0197":[[3502],[4]],
-"xf309c0027ad298f3":[[983,528,593],[11,4,3]],
-"x705964c0fa57f5cf":[[3242,3756],[2,1]],
-"xd6e4bb49b670e379":[[139],[10]],
-"x5b2c798106261e1b":[[4020,2203,3756,2932],[10,10,7,4]],
-"xf5f0418d45f93f0a":[[1745],[5]],
-"xab62bb315b9f21dd":[[334],[6]],
-"xf49ebc4f22512144":[[3112],[7]],
-"x66f200c653541154":[[788],[6]],
-"x268e96198c875a3c":[[3808],[8]],
-"xaa6d95da27acca9":[[3437],[3]],
-"xc6f3df149891dbd6":[[1355],[3]],
-"x5dad3e31882b95a9":[[3307,3169],[17,3]],
-"xc77f48b70641449d":[[3309],[28]],
-"xd03f247ab49a4acd":[[723],[5]],
-"xd745b6d168a9a492":[[3964],[18]],
-"xc2696ad30d42fa63":[[2786],[7]],
-"x4980400c6908a746":[[262],[8]],
-"xb8e2915c9b4a00e1":[[3699],[5]],
-"xfa28bf86393f5e6a":[[658],[10]],
-"xf356cb8b3d4d2e90":[[2859],[3]],
-"x66f9d3b3007cdbf0":[[3567],[4]],
-"x926055f66744b2ea":[[786],[3]],
-"x84260f1661cae7ad":[[2331],[5]],
-"x7c1857eaca56bdef":[[3364],[3]],
-"xac040459fc106225":[[1176],[10]],
-"xe40353e63f298217":[[2908],[3]],
-"xfd64c7906aea9c19":[[1380],[3]],
-"x54e91abfa55c85be":[[2657],[3]],
-"xa5bd6c71ef47809":[[2203],[2]],
-"x4edc33231d1ea9ad":[[1104],[6]],
-"x3c173617a34b6df3":[[2136,1371,2138],[39,13,4]],
-"x86793004b0245ce0":[[3699,3958],[10,4]],
-"xe0a5251365a3dc92":[[666,334],[7,6]],
-"xeb0d803d471c9775":[[262],[10]],
-"xdb05db03738f0a5d":[[2851],[5]],
-"x228e5ea5fb0a13ae":[[148],[4]],
-"xe7e7cf278c68a9b9":[[2745],[7]],
-"x903cd73d83ec008c":[[323],[9]],
-"x99c0c1ecd7545d4f":[[918],[3]],
-"xa4b3cdabf4182771":[[2477,1837],[117,2]],
-"xb3230a8a1536f16b":[[209],[4]],
-"xa43cc447276d8a47":[[2722],[3]],
-"xb7921eac93581216":[[3373],[8]],
-"xf0034f4b77a5d9da":[[796],[5]],
-"x8a8779e864fb0b43":[[731],[6]],
-"x4e98f124b7333e1d":[[3642],[4]],
-"x48cc2f4a3a76f01c":[[3902],[3]],
-"xd9342af7f47be023":[[192],[3]],
-"xd373a17f24c126f9":[[1180],[2]],
-"xcbf4f6ab49e168dc":[[3808],[6]],
-"x85ba140b92ac6d8f":[[528],[6]],
-"xc11c596b4c89cdf":[[4090],[2]],
-"xf95debd2752d011d":[[1763],[2]],
-"x6eb31617886514d9":[[4013],[8]],
-"xa33dd611db6aad9b":[[2461],[2]],
-"x5ed7f453a6ec003e":[[1611],[6]],
-"xc768649db3170112":[[796],[3]],
-"xe20c086a18b39837":[[262],[11]],
-"x5ba627d3db15bd62":[[2084],[4]],
-"x18596b41a5071374":[[82],[6]],
-"x7b9cbb463953e535":[[3956,3242],[4,3]],
-"xd7d24efca67882de":[[202],[3]],
-"x3c1594ec4976785":[[339],[11]],
-"x94b0207f6d904a4b":[[1355,1699],[24,18]],
-"xdf00a5a8b16a0ef4":[[262],[7]],
-"xcb7c51d5ef793815":[[1179],[4]],
-"x9d55a64e42d801dd":[[2908],[5]],
-"xa827dc3747ab5ee0":[[3808],[3]],
-"x2a037a5777c0128a":[[3372],[14]],
-"xe774a4663785cf75":[[1827],[5]],
-"x8499325a4dac1254":[[3112],[5]],
-"xe43e6e8970bdc3aa":[[2788],[11]],
-"x11647827b89c76fd":[[3307],[1]],
-"x90f8e252086eb70":[[332,346],[7,4]],
-"x52d6cccbeae4fbbb":[[666,82],[4,3]],
-"x86d6f165b8f506a7":[[788],[5]],
-"xc4ada2bbd4220b5c":[[1699],[6]],
-"xb4c97e370abb1bc":[[723],[7]],
-"x9601e587af029ba":[[97],[6]],
-"xacdb394c4fa5bd6c":[[324],[6]],
-"x7275afcf242036cf":[[2720],[2]],
-"x1e4a9020dbd7a60a":[[528],[4]],
-"x1736d95bbb27cf84":[[1810],[2]],
-"x56ccf8ecfd17a5f6":[[3177],[4]],
-"x7dd21d79f9343631":[[3306],[4]],
-"x9a5a9093c3790e4":[[2477],[17]],
-"xc2c0f8f2cdc36fe0":[[3902],[3]],
-"xe526b3e9eb63d37d":[[262],[5]],
-"x9844a13b133528f1":[[396],[7]],
-"x2cbd3792930d5eb1":[[2074],[3]],
-"xa43f4553158fcc98":[[3112,2203],[4,2]],
-"x9772060b45a8523":[[861],[6]],
-"x926236275d0c75a4":[[1827],[4]],
-"xde27df38fd660752":[[593],[4]],
-"xe7079edc3982b12d":[[3307],[29]],
-"xc234cf86dff4dac1":[[2267,3742,3821],[7,7,4]],
-"x57e4d645d5523369":[[204],[3]],
-"x9f05d802b6fe73a7":[[3112],[4]],
-"x1ef9a5831ac50647":[[2203],[9]],
-"xffc3eb254822bf9a":[[3902,2931],[13,10]],
-"x24f44022c731044d":[[213],[2]],
-"xee9e68a0c8ced003":[[1652,3234,3828,3104,1611],[17,9,8,4,3]],
-"x68db228fbc603ab3":[[3307],[8]],
-"x89b4e012bd20ebb":[[3559,3567],[11,5]],
-"xeb10d91e0c44e547":[[3690],[4]],
-"xb12610fefa83abd5":[[536,788,1380],[373,6,6]],
-"x38f0414c51dc7d6b":[[4013,3429,3947],[44,10,4]],
-"xa015db9ac39082e9":[[3902,2203],[33,6]],
-"xd1163d99d260ddb8":[[2201],[3]],
-"xbbf33e881f66ec05":[[3364],[5]],
-"xe18b53c2dbbc8bc9":[[3819],[6]],
-"xebe38f5b6773a665":[[601],[6]],
-"xde0469c919f7465c":[[1652],[11]],
-"x5b625c7604233a73":[[1164],[2]],
-"xda41f377de2dfe68":[[3309],[29]],
-"xc6d3d787d1ed7059":[[2217],[13]],
-"x4b01f2aee710e4a4":[[1764],[7]],
-"x205581114389fdad":[[786],[9]],
-"xc03fc4579dcddaa5":[[1],[21]],
-"xd80d2b71d344cf39":[[3150],[3]],
-"xfa34f836b876698e":[[2868],[9]],
-"xa98a68564021b5b0":[[1308],[2]],
-"xec80d7c915f45ff7":[[3699],[6]],
-"x3c6c3bac3d0006e":[[1355],[6]],
-"x88bb122ed03dfde":[[2682],[35]],
-"xb85f14bb80e07cd5":[[3690],[1]],
-"x21cf65edcb2623ab":[[731],[5]],
-"x2eb4183655839802":[[3761],[67]],
-"x403c70dae576398":[[536,204],[15,4]],
-"x91e670feb1a96a12":[[4013],[3]],
-"x333e93f6f35a9e24":[[2724],[5]],
-"xef75670c4fcc6769":[[1113],[3]],
-"xe355750f580e3281":[[2347],[11]],
-"xb280e36f030897ad":[[3429],[4]],
-"xeefe9f2a26e62e76":[[82,339,405],[31,8,6]],
-"x578b79b22261789c":[[1835],[6]],
-"x2b947ea49046ba1e":[[3112],[28]],
-"xc018a78cd574a8c8":[[3808],[5]],
-"x4af1017af3488388":[[1683],[7]],
-"x116e9d796ef913e2":[[3298],[14]],
-"x712dd53bc46cef1f":[[2788],[13]],
-"x76e26a6c96a8f87a":[[82],[2]],
-"xd8989f94747b40eb":[[3234],[4]],
-"xdd6afe333f53912a":[[3834],[3]],
-"xee59288ed0af2903":[[3756],[2]],
-"xff4cf3756b5a2586":[[664],[3]],
-"x6d13c195323ad58":[[2463],[6]],
-"xad9f7251ec1f7f6a":[[3299],[4]],
-"x9833ebe0bceeb337":[[213],[3]],
-"xaba7281ba38f2b17":[[2023],[6]],
-"x94b80a86a7f15748":[[1380],[3]],
-"xfb0650ae6b85b27e":[[3964,3364],[24,5]],
-"x6d6b2cbc1f5c3307":[[3967],[4]],
-"x2e2a7c2cc0219077":[[2266],[10]],
-"x50dbf548f9411950":[[3502],[3]],
-"xb98e0839b173f2fc":[[1652],[4]],
-"x6d0ef39e7bb04327":[[1242],[89]],
-"xf4d776d1673ed165":[[334],[11]],
-"x41f59356cc9bb709":[[82],[6]],
-"x8da91d10dd291202":[[1964],[5]],
-"x4cc265b6078601e5":[[1371],[27]],
-"xb800f6219a17f572":[[82],[3]],
-"xe366578c6a0d6cf3":[[918],[3]],
-"xf9c4bc7287e25303":[[194],[6]],
-"x99d81f2750270b7c":[[1438],[3]],
-"xe09ea779117479ee":[[196],[2]],
-"xdd8b8e90577a1080":[[861],[4]],
-"xd28b7149967f885e":[[4013],[3]],
-"x7ed6019401d93311":[[157],[2]],
-"xa4983489a736e563":[[2786],[8]],
-"x26e37f4a4bdc1a50":[[724],[8]],
-"x419e34bc7cbfdaaf":[[3958,2851],[5,2]],
-"xf93041a92dc43a17":[[707],[4]],
-"xde94433767b75bdc":[[1307],[6]],
-"x1ad41be392f27a01":[[405],[5]],
-"xc1fd5c6a54c8e929":[[732],[215]],
-"x1ad38faf76148280":[[222],[5]],
-"x52b232897ce649b2":[[861],[9]],
-"x566b51f01aa28adb":[[3502],[3]],
-"x6fade3b36039293d":[[4020],[5]],
-"x7b2a7f1d930fefa":[[1618],[16]],
-"xcc103d261cfcbda6":[[1899],[5]],
-"xb11b3fd2977afec3":[[2866],[6]],
-"x59779f7f792ec396":[[1227],[3]],
-"xfbf1481edbdda3ce":[[3958],[8]],
-"xb88a534797322f18":[[3308],[3]],
-"x42e447f3e98444":[[157],[13]],
-"x8dff8bb58161cfd6":[[536],[7]],
-"xd0fa7cf9c9d05b6a":[[262],[5]],
-"x6d9e28abef4d563a":[[2463],[7]],
-"xa7a433a961576d1":[[203],[13]],
-"xa60573f98924af04":[[3567],[3]],
-"xc36523d4959e091c":[[3756,3749,3177],[40,20,3]],
-"x71852b9f33d5b0f4":[[2203],[4]],
-"x2d2ff88a628c661b":[[3742],[3]],
-"xf8bb56278498c6b9":[[3756],[3]],
-"x6182dd5af2112c57":[[3964],[3]],
-"x2f83e488f186cc7e":[[926],[6]],
-"xa360345d86a7e144":[[262],[9]],
-"x38f2878d8e7032ac":[[2989],[5]],
-"x8042742bf1722230":[[731],[4]],
-"xb341d452a01cc273":[[3938],[6]],
-"x485ab00328d03797":[[2910],[7]],
-"x747b9a700d09e77c":[[528],[3]],
-"x86433e4dfb9d99e4":[[3299],[26]],
-"x41dd152c8c0b8c3d":[[1805],[5]],
-"x6be3b90b60ee933b":[[2585],[3]],
-"xfedfbf2c363445a":[[204],[4]],
-"xd96878a4e4369f20":[[261],[12]],
-"x9337cec02e05a697":[[2851],[7]],
-"x8bc737fdcc5fe121":[[2908],[3]],
-"x60bef5d5be370151":[[3963],[2]],
-"x9bce6942eab15380":[[3362,3699],[3,3]],
-"xc76deb7fc685fda6":[[2285],[3]],
-"x41d52f321d46f664":[[3242],[6]],
-"x45c8adeca02baa84":[[1763,203],[10,4]],
-"x2730c67d96ecfd1":[[2217],[4]],
-"x2fbed66fc5924554":[[3967],[8]],
-"x51527f80b1841206":[[790],[14]],
-"x9a0043e62da3b362":[[1828],[2]],
-"x5e34895f33c4885c":[[664],[3]],
-"xd35e9cffce9aca24":[[3803],[13]],
-"x9c8a8a751906cb35":[[1371],[4]],
-"x52e89759af6351e7":[[1184],[5]],
-"xf2c37d71618c16d":[[1959],[1]],
-"x79c967624ab8c7c7":[[139],[6]],
-"x527c1983045686dc":[[3902],[3]],
-"xc207ca8992523cad":[[1770],[10]],
-"xe36bf5da9ac2834f":[[708],[4]],
-"xeee7e8ad60ab9ccc":[[334],[18]],
-"x4a4943532749a26b":[[4022],[3]],
-"xf15ef7ef5658048d":[[1372],[3]],
-"x41df1792707b6ef5":[[3964],[4]],
-"xd7c7257db973d5c8":[[82],[9]],
-"xf695e1ccad9e693":[[324],[15]],
-"xd2a0438faa773f03":[[1307],[3]],
-"x501613338fd6f127":[[262],[14]],
-"xc54f7eb37eabbbae":[[2137],[12]],
-"xdb24d63257a3ab28":[[3964],[3]],
-"x11d23579750e37f3":[[593],[5]],
-"xede102da200a38e8":[[2787],[9]],
-"xe3aefccb18a775fc":[[203],[3]],
-"xf0afc05e89d437d1":[[332],[14]],
-"x5b25d5702d4abd7c":[[3902],[2]],
-"x7b745e20a62f1bb2":[[3902],[3]],
-"x1f9b94255f3cb7c6":[[2225],[3]],
-"x111be4d5736b1cc6":[[139],[6]],
-"x64a1c63e3dd833a0":[[2124],[9]],
-"xf3ab862cfeed621":[[1652],[4]],
-"x4d797eb4e0590065":[[3898,3956],[13,1]],
-"xb5d10a9331f84bc3":[[405],[82]],
-"xd2e002d947e7f56e":[[1180],[4]],
-"xc399d0ab7aff1bbd":[[3902],[8]],
-"xef25d0a4801fcbe4":[[262],[3]],
-"xa11aa7187aa50d9c":[[861],[9]],
-"x608dfb76a855c182":[[2525],[6]],
-"x3690ff3ebbc401e4":[[536],[4]],
-"x95bb26aa560141ad":[[405,82],[6,6]],
-"xbeb8ba2500347c2e":[[346],[3]],
-"xd225203eab498de4":[[1956],[4]],
-"x1cfa9a8d6bc2354e":[[3169],[64]],
-"x4470f5a8546c0c2":[[3958],[25]],
-"x506ff32d9dd9a098":[[2283],[8]],
-"x432d3900156cc195":[[262],[6]],
-"xf567593976361863":[[1764],[3]],
-"x2fe087482a596db8":[[2788],[6]],
-"xa01341257c5289ae":[[4013,2266,3242],[41,5,4]],
-"xa75d004d7ee6c683":[[2285],[3]],
-"xc756bbcdf203cba":[[2074],[8]],
-"xe160b35d0e492ea2":[[3],[3]],
-"x9cdd117596379087":[[3808],[23]],
-"x73e8c171ddc104de":[[1829],[10]],
-"x8a391e08712e4639":[[1421],[4]],
-"x9a34e179a9dfd523":[[3699],[11]],
-"xaea3fb7791b61dee":[[202],[4]],
-"x11f2f2344eb7d63c":[[1290],[6]],
-"x9089404cad6b1ff1":[[3299,4013],[60,8]],
-"xed0e339fd1300ef7":[[82],[7]],
-"xf98236941777c995":[[1610],[8]],
-"x81c49d8c52293f34":[[3690],[5]],
-"xb6fba1ffd970c448":[[736],[8]],
-"xd5284de7d4bf5380":[[3177],[6]],
-"xcb2c1a557a151e54":[[593],[3]],
-"x4861921ee35824a4":[[284],[6]],
-"xac57fe322f23a68b":[[3052],[3]],
-"x67b771acdca53ef7":[[1123],[5]],
-"xae055b2661141f54":[[3690,3902,3177],[44,10,3]],
-"xb664330f2c9c351c":[[2348],[2]],
-"x4ed65bb284d10612":[[2274],[5]],
-"xbcefb8bd05cacb82":[[405,1763,1764],[35,2,2]],
-"xcff67b3cfcc8b640":[[3690],[59]],
-"x9f83658feaf2ec78":[[1698],[1]],
-"x594a8f980ae730e3":[[137],[3]],
-"x6780bd452cc80cfc":[[405,528,1699,396],[155,26,16,4]],
-"xaa61c6dd6039d4a7":[[324],[4]],
-"x7df6d79ccc7726d9":[[1698],[4]],
-"xb84482c17a65731b":[[1959],[6]],
-"x6cdefd73ece5f983":[[3902],[2]],
-"x9080885b1c8084fc":[[2715],[11]],
-"xb78e75baad300451":[[405],[4]],
-"x21804c8c1764c95f":[[82],[4]],
-"x86a07e6aaf8f31e0":[[2281,3690],[54,6]],
-"x9a5e9c8804b80b45":[[788],[3]],
-"xc22799dc0bf2749a":[[3047],[3]],
-"x31b9b8f316da4e20":[[2460],[3]],
-"xe1331a13d19ba616":[[75],[3]],
-"xc783da0befd932be":[[1420],[3]],
-"xcf3ed5cb4367fcaa":[[2853],[3]],
-"x1239b9b3e1f12622":[[1746],[3]],
-"xd06154dc89e1cacc":[[2349],[13]],
-"x2f4d1b62b6099476":[[2908],[6]],
-"x152f83f64ef34772":[[166,405],[30,2]],
-"xcfc2fe3468392b7a":[[3901],[3]],
-"x49034c1b43fda205":[[593],[5]],
-"xfe37a9182dc2b05b":[[2227],[3]],
-"xa6a6b06f6ac273af":[[1307],[5]],
-"xa87a0ae5be08ea05":[[1371],[5]],
-"xf9b219aa808d2f75":[[2203],[5]],
-"x1a9d60dc1bfde72b":[[396],[2]],
-"xe252a2267d70ec11":[[1941],[2]],
-"xf094962d35baf6d6":[[1958],[4]],
-"x6bbfac8fc4ae8427":[[592],[26]],
-"x36075916dbc84d0a":[[3947],[4]],
-"xf0b489501bf0581b":[[967],[3]],
-"xa3229499e3239357":[[983],[3]],
-"x5f114b59c366c494":[[731],[9]],
-"x518d21680021ad4e":[[2426],[4]],
-"x470d3d59f95be357":[[3699],[7]],
-"x7fa48897c2c9ae2b":[[1762],[3]],
-"x33f9d12a1f146d2b":[[3963],[5]],
-"x265174bd1014acfb":[[3956,3234,2266],[15,8,5]],
-"xce6d540f1d69be5a":[[730],[3]],
-"xf31ee977d6cd5264":[[139],[9]],
-"xe57e33cb6e063f5a":[[1770,148],[6,2]],
-"x6ea6c3ce29d0255b":[[334],[3]],
-"x1daf7db8c0d65bc7":[[262],[7]],
-"x2228a2ab63e29e18":[[3234],[3]],
-"x3ae986ce1d6ba3d8":[[3902,3299],[5,2]],
-"x189ec638af30f369":[[1380],[3]],
-"xd95d72a7aa3f8ee1":[[1642],[3]],
-"x24ef9f45b60afece":[[2477],[11]],
-"x8a1c521cb9a1a1cb":[[2137],[4]],
-"x96c2b88a5892713a":[[398],[3]],
-"x5bd45f5877fe1c2d":[[262,528,1308],[76,39,34]],
-"x6439c3ed45bb86bc":[[2269],[3]],
-"x3283547dd4ddcb75":[[332],[5]],
-"x3a2c0ab611b56119":[[2479],[3]],
-"x8fb9abb0d34cd161":[[2463,2124],[8,1]],
-"xdad385bc3209be40":[[1699],[6]],
-"x292fe1fc690d9616":[[2722,3964],[3,1]],
-"xca4cde7bc4a9fdba":[[3826,3929],[10,3]],
-"xa4ad64f351e0cfa7":[[3305],[4]],
-"xc942c6325dd9ddf9":[[3699],[5]],
-"xc2d691e054cf8401":[[3178],[5]],
-"x14ef34f5e9a30c22":[[3047],[7]],
-"x44da9d5452598d54":[[3902],[4]],
-"x4c7d3ab2e84ec1b2":[[334],[27]],
-"xd5a3d1ad8889fccb":[[3298],[3]],
-"xa5e85436343b0a68":[[3964],[3]],
-"x7e3b53efeea11b1c":[[1762],[8]],
-"x8177d7a6d7271c6f":[[3699],[11]],
-"x98de62acfdfb184b":[[3958],[13]],
-"xd7e7d8010a7e3d63":[[3104],[4]],
-"x639b64b51fd83d8a":[[1114],[7]],
-"xdbf7d38ad73385f8":[[2455],[2]],
-"x4dc978895258fd23":[[1393],[3]],
-"x90975ece34d778b7":[[794],[6]],
-"x705ceed39ce65e75":[[3112],[7]],
-"x8d701d6fae545c90":[[202],[3]],
-"xdcad3a3685e1f676":[[1611],[4]],
-"x7c1aa924acbd314":[[788],[2]],
-"xc104ae1fc4dbe6bb":[[1178],[4]],
-"x2d2a1ee643a34e72":[[397],[1]],
-"x587a6b2b7a88f630":[[2724],[2]],
-"x5284af7f1d73d1d1":[[3902],[5]],
-"x472e370c37475628":[[3177],[10]],
-"x2c8004766c15676f":[[3242,2919],[20,10]],
-"xc744c0eba9654673":[[1115],[3]],
-"xcfbe0a954afb4721":[[3956,3938],[10,3]],
-"x368030f5289c6d3":[[204],[6]],
-"xb493c67df6896c90":[[3688,3699,3234,3567],[28,6,6,6]],
-"x651924e583da5709":[[3374],[4]],
-"x3e720f612b10ffb8":[[2720],[2]],
-"x3afd02a49173a373":[[262],[3]],
-"x59dbf1ee4e7209ad":[[2319],[4]],
-"xaf89b8abc83764c4":[[3837],[6]],
-"xd569d04c15b9f1a9":[[1114],[6]],
-"x9c164fd2cd5e4fda":[[72],[6]],
-"xd3fc6ed83d9ce658":[[3963],[3]],
-"x544794a450052084":[[3762],[6]],
-"x83f75db331867fd3":[[1307],[4]],
-"x9c296bb6aaf269d6":[[148],[6]],
-"x6da9e98e35d1ce5":[[794],[11]],
-"xf1f975346fd1967b":[[339,1699],[4,2]],
-"x827b79d9ad4b9759":[[1699],[5]],
-"xd6ed49acda2f7513":[[3112],[16]],
-"x22f837e01f22962a":[[3902,3234],[14,6]],
-"xdd4a2fb7e6b0a8d8":[[528,593],[7,2]],
-"xae4152f0b452a9d8":[[2323],[2]],
-"x45474c8e23e31db1":[[3756],[4]],
-"xc879425a394338f8":[[4013],[1]],
-"x2e54e5a2cef0444f":[[2915],[1]],
-"x54123ce450944145":[[3234],[4]],
-"x8d85015b68642279":[[3642],[6]],
-"xe7576d190529f405":[[339,332],[6,6]],
-"x22ddc97754f11a61":[[1226],[6]],
-"xd9c26e0de9f62e76":[[262],[11]],
-"x7e054a81936f4c62":[[82],[7]],
-"xce218278a7e4fb84":[[2266],[6]],
-"xc5ef7dab6530d17f":[[1906],[6]],
-"xc094886ecd377cfb":[[2355],[7]],
-"xee2f3d99ecb4c464":[[3177],[10]],
-"x2762853a891c94c5":[[926],[4]],
-"x2a92187bd38745df":[[3],[4]],
-"x5f0cddf075fec0c7":[[262],[2]],
-"x3e0dcb370de80efb":[[3242],[11]],
-"xd2f1ca566437bcb6":[[2915],[20]],
-"xbe40be5d280816be":[[2107],[8]],
-"x2383f8e9c043ee09":[[3827],[3]],
-"xdaf39cbeea8def1e":[[2006],[3]],
-"x1d99089ee81dad97":[[3956,3307,3112,3690],[102,11,11,4]],
-"xf64a65877485ee25":[[1179],[8]],
-"x60007aa728675fbd":[[3502],[3]],
-"xdbd0128db5017462":[[1308],[4]],
-"xece5915f3afeea01":[[1958],[6]],
-"xfcd5ab9804ff629d":[[2508],[4]],
-"xfe162d41e3c9f7e0":[[1619],[3]],
-"xe0b9596d14ff4fcc":[[2931],[5]],
-"xfa4efbd38a4b8503":[[157],[4]],
-"xdda0856a45d216df":[[3761],[3]],
-"x1e779c3c4e796be5":[[346],[11]],
-"xb25accbb3ca93676":[[3234],[3]],
-"xcee06d6bb6d28f97":[[3234],[5]],
-"x5626c7d5e7a6260":[[166],[7]],
-"xc89ec4ec6dcfc27d":[[787],[3]],
-"x8cdb33a9c9016cc9":[[733],[2]],
-"xcefea1cdba78a3ad":[[2072],[3]],
-"x6314f52fb8cdfce7":[[918],[2]],
-"x1919712e6d84fd1a":[[2592],[7]],
-"xb8eb2746217b08a":[[926],[4]],
-"xcc23b6a73a47e107":[[3817],[5]],
-"xd2cb6e1d6c1f9cc7":[[1302],[8]],
-"xc0a4591407f04d32":[[4022],[3]],
-"x139ed15121bcf9c1":[[918],[4]],
-"xe1991d8ea406918c":[[3956],[10]],
-"xeccf04ec184aa328":[[3742],[7]],
-"x74eb29b505f80fea":[[731,666,796,918],[36,21,18,3]],
-"x7cbe2e140f1082ea":[[1],[3]],
-"xfb14375f760d811b":[[1243],[7]],
-"x1bce5b786b226c01":[[2851],[2]],
-"x39c98d5bcfb9b5b2":[[2919],[3]],
-"x8ab6d6808e048318":[[3566],[1]],
-"xb32bcc5ddc537eb7":[[3112],[3]],
-"xdf772b4f61394cfe":[[3364],[4]],
-"x923f1c06a5e629e4":[[2029,262,2,1699],[126,6,5,3]],
-"x414d2c11f7603562":[[1699],[4]],
-"x7c700a43cf7c16a2":[[405],[5]],
-"x96dde41bc43a7a58":[[262],[6]],
-"x6f8c52b03f881a88":[[731],[4]],
-"xa7f06d360641a38":[[2940],[3]],
-"x87403e115b8b42fe":[[211],[4]],
-"x643f37815fb77f53":[[3756],[3]],
-"x5d1387654ce11d25":[[3902],[2]],
-"x48ab8f043c60c7f3":[[593],[6]],
-"x251c1b9d8167f43b":[[4020],[2]],
-"x9e998df23058116b":[[3169],[5]],
-"x3ff9fbe3691f3683":[[137],[11]],
-"x4ac6b6a698675fa4":[[3956],[54]],
-"xf4cf56a30ea715b9":[[1762,262],[51,9]],
-"x762f6444af37db64":[[3763],[12]],
-"xfff711c29a5fa511":[[3241],[5]],
-"x41149b168eb4a3c5":[[324],[5]],
-"x79fa296e4693f1d7":[[3300],[4]],
-"xb3fd8bb7df3564bc":[[796],[2]],
-"x77488c6c536ad6ce":[[788],[5]],
-"x5fef0545b5590091":[[2641],[3]],
-"x2a8f91a6807f3b84":[[3690],[3]],
-"x5d989cedd06783b5":[[707],[3]],
-"x11579afdc1eddda9":[[658,324,593,82],[35,9,8,5]],
-"xe672a0300e81576b":[[796],[5]],
-"x59296343be070524":[[3429],[7]],
-"x4294817ac823fbed":[[2915],[27]],
-"x1214929200d12402":[[3641],[6]],
-"x8aa223580bc3258c":[[3177,3372],[3,2]],
-"x53452e62e00df340":[[262],[2]],
-"x801e8089c1e7edf8":[[2349],[3]],
-"xd26f3d7fa488c705":[[3964],[6]],
-"xc99a750a5c59495a":[[1187],[10]],
-"xb057358918eaab7":[[1761,528],[6,5]],
-"x2c82e91530ec5c7e":[[3365],[2]],
-"x6ee95b2294d39019":[[3429],[5]],
-"x94179a853eab69ef":[[131],[6]],
-"x6e6cb2de028271d3":[[139],[62]],
-"x2a923603ea465ac5":[[396],[2]],
-"xa1ed83edf4e7690e":[[3112],[3]],
-"xe964be8b3d3c5c20":[[3690],[4]],
-"xe9af2b6baa77331a":[[1764],[3]],
-"xedc11a564b72c8c9":[[346],[3]],
-"x4d69b293a5756751":[[3699,3964,3242],[10,5,2]],
-"xf3bdd31a5d310580":[[1553],[6]],
-"x7e5b7e0a429b53ba":[[1763],[4]],
-"x4bd1a6c246ff9c30":[[983],[5]],
-"x94ab78440eede312":[[334,82],[20,6]],
-"x453da18176fe49f8":[[1764],[5]],
-"x295ed7b9af41bbd2":[[3893],[2]],
-"xc1f5f41d939afaeb":[[1123],[4]],
-"xdcb14d2c35bad2b5":[[3756],[116]],
-"x167a5da2928b2080":[[2542],[6]],
-"xdd9d1b6b731846f3":[[1371],[2]],
-"x773ffd2887219c42":[[3,258],[8,2]],
-"x4f1aa3dc6d76e647":[[2722],[4]],
-"xddeb9b5fe7047158":[[2348],[6]],
-"xf4ebdf6b08e89a87":[[1763],[2]],
-"xf309fde4ccbb2e7d":[[262,723,204,731,82],[1378,18,17,5,3]],
-"x913774ae93c1804c":[[1707],[3]],
-"x908c64be9c9667cf":[[3902,3898,3169],[13,11,5]],
-"xa9dce7a7896ed6ce":[[2203],[2]],
-"xa6c8fa129ea1523f":[[148],[14]],
-"xdf931f1e321c84c0":[[3242],[5]],
-"xe7e2c681f7a64be3":[[1763],[2]],
-"x15c9ab43fd1a1a00":[[1090],[7]],
-"x949338ae382eb8ea":[[3234,3742,4013],[9,9,7]],
-"xe2322c6897db14b7":[[3641],[4]],
-"x4951556195d456dd":[[1900],[4]],
-"xb5267aad37838577":[[1895],[3]],
-"xecad034677d40cd7":[[2852],[3]],
-"xeda1f35bd6150af6":[[1618],[6]],
-"x42f771edfe1a4d49":[[1858],[4]],
-"x50b70d8c0ea82bef":[[2724],[5]],
-"x9c1308382d701e6d":[[82],[18]],
-"x7e9be7aff00af119":[[4013],[2]],
-"x7e259c554e7ef735":[[3104],[3]],
-"x4786561d4914e51f":[[324],[5]],
-"x186413319cf5a522":[[339],[27]],
-"x467e65de30ed3b36":[[1699],[5]],
-"x5eb8b6837f3c981e":[[3690],[6]],
-"xc1a459161aa304f2":[[3808],[4]],
-"x927b5cf5463b0571":[[2479],[3]],
-"xca642aa8fc883529":[[3104],[3]],
-"x63acdda9967d887e":[[251],[6]],
-"x77b62794fccb762c":[[3],[3]],
-"x9883cabc77d44fcf":[[731],[6]],
-"xc17cce228579c79d":[[3641],[5]],
-"xac0b5ff24bd3b322":[[722],[3]],
-"x2059a5e813cbf026":[[1308],[9]],
-"xb313958c5d4af2d2":[[1618],[3]],
-"x31ac2a1798179029":[[2919],[2]],
-"xa9ad7dbd2ee5d665":[[3364,3234,3688,3104,3742,3699],[437,10,9,9,4,3]],
-"x3cb7e8175d6678bd":[[3902],[5]],
-"xc101c84cf90a8ae4":[[3437],[4]],
-"x4e65e28930d76e8d":[[148],[5]],
-"xcfea75fa246b7ba6":[[82,204],[21,8]],
-"x70b7bbd47c73b68":[[3234],[1]],
-"x29174d9784e871f2":[[2720],[5]],
-"xd35a160c4093f316":[[2609],[8]],
-"xe23eac7dc5c82b28":[[3372],[1]],
-"x2d66dc8a1b76f084":[[1745],[3]],
-"x40e15b95ce0d6590":[[594],[6]],
-"xe04060627762ab40":[[3902],[1]],
-"x527601dbf4e3f86c":[[3956],[2]],
-"x1c4eb33af9207ff0":[[3559],[4]],
-"x486024810f6045ad":[[1634],[4]],
-"x61e4493cf4b75920":[[536],[3]],
-"x3c63971ac67c422d":[[3929],[15]],
-"x8c78b959934e0d0b":[[334],[3]],
-"x61fede0e8d22c9ca":[[723],[3]],
-"xf348795b6d67e5e5":[[2396],[6]],
-"xf9ae01e62dfb23b0":[[3808],[3]],
-"x5af8a2555d3c42a0":[[81],[3]],
-"x9448aa40d8ea844":[[731],[9]],
-"x3515ae70f65e3f03":[[3761],[6]],
-"x6acce7920ebb0380":[[2013],[6]],
-"x7eb3229b3ea025b9":[[4013,3502],[222,54]],
-"xee611fdef0fec4d":[[3761],[6]],
-"x4492842eef31a2d4":[[3372],[3]],
-"x6e11e28e4b26d35b":[[2774],[3]],
-"x821b9cf230dbc6cb":[[75],[5]],
-"xbfbaffeb4409a03d":[[1810],[4]],
-"x48bff77ad7578745":[[2],[1]],
-"xee3ff4569b8ab1cc":[[3828],[4]],
-"x638d3edb89380963":[[1371],[3]],
-"x562b121c4fda3ada":[[788,1763],[16,10]],
-"x1ea37492c40dfb4b":[[148],[1]],
-"x3be63abf43945318":[[529],[2]],
-"xc3840da4c6f8611":[[227],[3]],
-"x76d788c1b613c0db":[[203],[19]],
-"x1af9442386e2d174":[[528],[3]],
-"x459ac0f0f3655e7b":[[334],[13]],
-"x313319ac5bbc6532":[[334],[9]],
-"x8f7da625eeddcde2":[[3756],[2]],
-"xe806ca51c3781dab":[[129],[11]],
-"xa4b0245b04e8ff69":[[742],[6]],
-"xe6a01bcddebb7a5b":[[2136],[6]],
-"xb0f224ec04d863a2":[[2203],[3]],
-"xd5cf754f7aef2e93":[[568],[6]],
-"xe4da7fa19e8e1ad4":[[3364],[12]],
-"x6572b60788d4e780":[[2203],[5]],
-"x1328a55f47270732":[[3373],[3]],
-"xfa9bb24a43f8235e":[[3826,3690],[4,3]],
-"x1a918c58a85f36d":[[405,723],[10,4]],
-"xc5315b9277621f9c":[[166],[5]],
-"x6f5d497cdfb5edc2":[[983],[4]],
-"xd030ff75308ce37d":[[1643],[6]],
-"x7a9944396142b411":[[262],[3]],
-"xdecd38e265b7219a":[[593],[9]],
-"x41cb611b852c1abd":[[2484],[9]],
-"x1e7a1d48aa195c91":[[3690,3112],[125,2]],
-"x14c985ce3603e329":[[3169],[10]],
-"xa8bdfcfd499a76a4":[[405],[6]],
-"xa947a1b146273f62":[[3642],[5]],
-"xd1720cd31177d288":[[82],[8]],
-"x773ec3f413337141":[[3690],[6]],
-"x751cb5697ad9c6af":[[983,1180],[22,16]],
-"xbcf821b1bf9ee97a":[[2851],[27]],
-"xc3088bcada43705e":[[137],[6]],
-"xc0177c74a78601bf":[[1306],[14]],
-"xe342ab6ec2790e6f":[[2851],[10]],
-"xd56f5c4adf5633a":[[1112],[8]],
-"x86cdbcaf19552413":[[3234],[5]],
-"x68a5e396983fc1a8":[[1284],[6]],
-"x2ab57602705be436":[[3902],[4]],
-"xe69975cd3fd8e892":[[3958,4013],[41,14]],
-"x33c972c687746739":[[3902],[15]],
-"x84db040ce13ba2d7":[[3938,3299],[9,6]],
-"x4810b5e857235e18":[[3902],[2]],
-"x3d927a9082bee7bc":[[3364],[9]],
-"xc6cefbb944b11b9f":[[788],[4]],
-"xb83237feedda3f16":[[3372],[9]],
-"xa34f95cdcdf59348":[[983,731],[8,7]],
-"x530f649526aa02f1":[[861],[3]],
-"xc015244848241b50":[[2851],[20]],
-"xc78e51c874817fd6":[[528],[5]],
-"xedcfc7fd1b61ac22":[[1371],[3]],
-"xa7f89e5b8b618367":[[1546],[8]],
-"x50197b0107ccf149":[[1828,82,75,1827,853],[274,232,216,133,5]],
-"x23c2f2c2401528e3":[[1187],[3]],
-"xbfe094349e314c7b":[[3372],[4]],
-"x6e424a8cc2df8b0f":[[1618],[5]],
-"x67432f072c350c40":[[1684],[3]],
-"xddc6b4475e2d2326":[[523],[3]],
-"x50cc999e0785ec87":[[2788],[3]],
-"xcbafdf7b3ff71eaa":[[3234,2908],[8,1]],
-"x5ff2e75c39e82ffc":[[262],[7]],
-"x3be9ef391ec89768":[[594],[7]],
-"xdb51fbf95741d108":[[204,1375],[29,15]],
-"xe79fd316500f7764":[[3642],[6]],
-"x5c634c89f4d25fd4":[[1185],[6]],
-"x4109700c030486bd":[[3902,3642,3112],[6,3,3]],
-"xf85266a6bbc26c5f":[[3307,1618],[16,4]],
-"x1d1d144a6ea39c6b":[[339],[8]],
-"x7fd0ba2b1494fe86":[[353],[3]],
-"x4518c955bf853295":[[3],[2]],
-"xb28314bad7b27a0":[[788],[11]],
-"xc5cca04677ca150f":[[3690],[5]],
-"x6557a445ec71d171":[[918],[3]],
-"xf47bfe638eff3d77":[[1129],[3]],
-"x77655c3dec9f69fd":[[82,658],[14,3]],
-"x7e9a17ccba3cf27e":[[1683],[3]],
-"xf8434126fc59f25":[[3690],[2]],
-"x6414bfd1596e56eb":[[3690],[2]],
-"x6b56f397b7559569":[[2852,3177,2266,3964],[7,5,5,5]],
-"x8b9f7e9d263c38da":[[3307],[13]],
-"x70cbdef7ff517234":[[204],[3]],
-"xf658c8f6dac7bf80":[[2131],[7]],
-"x5769305d98204725":[[3761,3956],[9,2]],
-"x9ea27ed90677dcd9":[[1837,166,339],[45,20,17]],
-"x3db4890ed324510":[[213],[12]],
-"x6def61933e09fb62":[[731,1187],[24,4]],
-"x5d2848505ffcdab2":[[4013],[6]],
-"xb22592ce1c4660c3":[[278],[12]],
-"x825d64c0d7863d32":[[339],[12]],
-"x70584da157376ba2":[[324],[7]],
-"x2a77e08a1a43a737":[[3567],[4]],
-"xfa489651f5a243e0":[[3372],[4]],
-"xcf6a39a8b5208ce3":[[3372],[2]],
-"xd038794c587c3df":[[2915],[23]],
-"xcf93feb49f0f4eb":[[3690],[14]],
-"x3e632b79de0e83f0":[[454],[3]],
-"x13612e31215549b5":[[2919],[1]],
-"x934243c860f3bba6":[[2586],[2]],
-"x1a0e63646bf62d28":[[3257],[6]],
-"xcebfb0328e09a7f4":[[332],[3]],
-"x2dc2321228982ab1":[[3958,2932],[45,2]],
-"xa6c714ff3cd301a6":[[1745],[9]],
-"x4f889f8730884937":[[3819],[3]],
-"x98b0da4ed1ad162":[[2350],[4]],
-"xd1e4991d4eb431":[[1699],[5]],
-"x3ae681af1e3db639":[[202],[6]],
-"x3acc52c0145ec34f":[[983],[7]],
-"x2d7bd3dcea8f8f60":[[2940],[3]],
-"xdb3bec710356f278":[[853,861],[5,1]],
-"x6da1768985a62bc4":[[2281],[29]],
-"x473f6ef2a1696eb0":[[3761],[3]],
-"xefe98145aef46552":[[3938],[1]],
-"xf7d3aa4db892d476":[[1371],[3]],
-"x32fb499e30e934cf":[[3306],[7]],
-"xd19012d99d3a32a0":[[139],[6]],
-"x535b932e40fdcdcf":[[3364],[14]],
-"x80f3999d3c936c87":[[138],[3]],
-"xb0a2558e81fa1d6b":[[332],[8]],
-"xed352ad0c26271f2":[[3177],[6]],
-"x15d3148f6dda3951":[[1180],[3]],
-"x2a145a75a94eb22c":[[1371],[9]],
-"xf18de2599e17b386":[[2330],[4]],
-"x767fe5415f8662e1":[[262],[9]],
-"xeec985a10f0b92fa":[[202],[5]],
-"x14c6c8833e4ca239":[[982],[3]],
-"x733b04d27824e9":[[926],[6]],
-"x17b4b4473922698a":[[1764],[1]],
-"xd750c562ee06ff41":[[3502],[8]],
-"xdc5c045ef1774322":[[926],[2]],
-"xe20d994a0a57ada6":[[324],[2]],
-"xd083f5d602070364":[[278],[4]],
-"xf27226df1247b8c5":[[731],[7]],
-"xb060ac0bbc1f3dab":[[1186],[3]],
-"xf5b2baec6224512e":[[324,1770],[4,3]],
-"x3225e52f9080382a":[[1382],[21]],
-"xded7a0d37c95c789":[[3177],[2]],
-"xb1d7d83f4f9dbdea":[[536,1698,788,1699,1380,209,166,918],[49,45,29,20,9,8,6,2]],
-"xaffb6be5ee4d6c46":[[1959],[2]],
-"xd80235272488f558":[[966],[3]],
-"x4499fd05fcc5f991":[[3817,3699,3826,3956,3690],[63,32,20,20,9]],
-"xf6a1984812e0e211":[[731],[7]],
-"x2451777ca07bcc4":[[991],[5]],
-"x396d8000eaacb41d":[[2779],[4]],
-"x7f08628c8f160540":[[788],[10]],
-"x56e471b44769e4ca":[[926],[9]],
-"x3c9e3775523c8b77":[[262],[4]],
-"xee95c7c5079c78e4":[[3699],[4]],
-"xd7df6acb8e38173":[[262],[24]],
-"x9a3e66dbf801f641":[[796],[6]],
-"xbfd480cfdbc0086":[[1699],[5]],
-"x839cc519de1b662c":[[405,1837],[60,44]],
-"x52d2047f2b2ca035":[[204],[2]],
-"xe8eb2aaad8db2186":[[3307],[4]],
-"x7b9e265023070460":[[2715,3958],[2,1]],
-"xed118d4e192986e0":[[82],[5]],
-"x7eb0b0ab3c7ef7d0":[[3643],[3]],
-"xff6d4bcc315d4ec9":[[1837],[4]],
-"x3e40f6a3664074f9":[[3112],[3]],
-"x9b405e5b59e0b0c1":[[2852,3112,3763],[11,8,4]],
-"x34993ede16c40b82":[[3112],[4]],
-"x87a0d1d1a75869c":[[1380,75],[112,50]],
-"x757f46df25b64abd":[[2137],[3]],
-"x8d4e7bf4228010aa":[[1893],[6]],
-"xa5662ed6fa345400":[[1],[5]],
-"xe05040052c4205c0":[[3373],[4]],
-"xf2b04d5243894dd2":[[2674],[3]],
-"x92ba51c51c69eaf5":[[1958],[19]],
-"xf6ec2129b229ab2e":[[1314],[3]],
-"x7f31533d6d70a702":[[3559],[12]],
-"xb20d77fb043d8c31":[[2064,3763],[6,2]],
-"x31b91ec98d958f2":[[262],[3]],
-"xb5e2a8d6e0d5e682":[[203],[6]],
-"x54a58dde16c7501f":[[1858],[6]],
-"xe071fb33ae958423":[[3902],[3]],
-"x70427f9cfd39221a":[[3234],[7]],
-"xa9dd35f622c8316a":[[166],[5]],
-"xd0b6e9fd0bf9a7f5":[[2285],[6]],
-"x8395340529f3d98e":[[3947],[5]],
-"xcb34a6520ae6b6a7":[[3938],[1]],
-"x11deef9b5d60a06f":[[1761],[6]],
-"xde2680f4d648c7":[[2082],[2]],
-"xdb5a8279c29f8286":[[82],[6]],
-"x692a273cd22588fd":[[3299],[5]],
-"x55ad698aa20de135":[[463],[5]],
-"xf0a96db0858a689c":[[794],[2]],
-"xdbf040799cdda16a":[[528],[2]],
-"x18fb2b68f4a15f6e":[[139],[5]],
-"xd4b1f1e8cebdcfab":[[1738],[4]],
-"x3f4ec4798d904ece":[[3104],[3]],
-"xe0d59e3ea96fcda2":[[2278],[3]],
-"x772b38faade648c5":[[3169],[14]],
-"x3773de3a20e783e1":[[3749],[3]],
-"x86d4a9376d2768a7":[[3242],[4]],
-"x1b377ce32dbef14e":[[3902],[3]],
-"xdaacc1afef3fe16d":[[1763],[3]],
-"x2f01bd958d88f2da":[[3699],[20]],
-"x8c87f2e3dccfe5d9":[[4013],[37]],
-"x57335827791e45c8":[[4013],[4]],
-"x4a2091fd0f16de84":[[3902],[56]],
-"x414b975adf455ff3":[[3305],[10]],
-"x8dc918074df250b2":[[2272],[5]],
-"x10345acf2920cbd3":[[3742,3234],[9,4]],
-"x5f773ec3e2ded66c":[[3688],[3]],
-"x2dafde620af2b8f7":[[82],[3]],
-"x7ecd72af97ee363d":[[82],[14]],
-"xde6d52db0fde8b92":[[3642],[6]],
-"x9b36ef4b678b30da":[[82],[3]],
-"x16fb44439c1c950c":[[3756,3567],[6,1]],
-"x33fda428cea5f7f8":[[4094],[3]],
-"xb087d5d9b2f03fc5":[[3902],[5]],
-"xfc4d8f257fc38e99":[[3929],[6]],
-"x6310c8b78f502228":[[2908,2268],[6,2]],
-"xaaffab471f2d866b":[[262],[3]],
-"x18c794a8b162fa6f":[[4013],[14]],
-"xad726092ceca9257":[[2325],[8]],
-"x836e26718bdcb641":[[2203],[16]],
-"xe0a6cde30e8e541e":[[1355,339],[11,4]],
-"xecade9a8fe45dbc6":[[983],[3]],
-"xd811da12c924b98c":[[3299,3234],[12,6]],
-"x19f178836e1784e9":[[3242,3699],[6,3]],
-"xf89f60b46b53d8a1":[[2852],[2]],
-"x244c162afcc6e33":[[3257],[7]],
-"xaaece8206e945bb0":[[3371],[6]],
-"x4b73072a947bfe35":[[3307],[5]],
-"xd4c9c608967ff2e2":[[2323],[6]],
-"x6bae045297eab0e1":[[4013],[2]],
-"x6768e7991c820f07":[[2],[3]],
-"xcba0784e5e6f9526":[[1705],[3]],
-"x13c8d44909ada997":[[137],[7]],
-"x7952fec7870661a":[[339,346],[14,4]],
-"xe52c9eadc9843bf":[[1697],[28]],
-"xd8e9170cf5dea472":[[1652],[6]],
-"xce437fab75a94fac":[[3964],[5]],
-"xb5dfa0ffbc013fef":[[3742],[23]],
-"xa7a9f61db5e141f":[[339],[5]],
-"x3a93fa5a28626013":[[3902],[3]],
-"x853f825e8d8d1224":[[3902,3242],[8,2]],
-"x91ac53e9c8d69475":[[3306],[12]],
-"x206e977378f590bf":[[3902],[1]],
-"x4b6d0cbfa6274845":[[3307],[2]],
-"xfd087568cedde3f":[[3288],[3]],
-"x7522d9fc04b2c784":[[3964],[3]],
-"x6ce32f76e21a704":[[157],[5]],
-"x2f83e04114be9f23":[[3104,3234,1652],[39,25,5]],
-"x2c9f57e0ca4b7ad8":[[137],[3]],
-"x2cc65ae0eff0e6e6":[[3104],[4]],
-"x8f95f70d37d721ed":[[528],[7]],
-"x52988e4e41f0a469":[[3539],[8]],
-"x796e4a1cdd11ecb2":[[454],[3]],
-"xce1664801546eb53":[[3860],[7]],
-"x8a21eb7800f56ae9":[[139],[4]],
-"x7576ad13843a5104":[[3104],[2]],
-"x1a4ac4b1d7577344":[[3964],[2]],
-"xd418cf246ee79385":[[786],[4]],
-"xc0dd427fe08ea63e":[[3178],[3]],
-"xf51e66cc80be5db6":[[3763],[6]],
-"xf5bafd0cca49b56b":[[1828],[5]],
-"x9fd86a0585aa0bc":[[1355],[3]],
-"x724269b9123e6d3":[[1494],[3]],
-"xa3cc5c71ec7ab8f7":[[3742],[3]],
-"xd147854573d14d9":[[3242,3938,1749],[17,15,5]],
-"x9e2fc3bc33245159":[[82],[6]],
-"xbbf41614d6abbee4":[[3177],[2]],
-"x58249c6bece5dc4":[[2651],[3]],
-"x95779de139922e72":[[1762],[3]],
-"xbb5f52faa383e932":[[346],[11]],
-"xb35f54ed293baa2f":[[1698],[3]],
-"x53e12d7d38d844b3":[[1371],[8]],
-"x2a9a1974157b546f":[[918],[4]],
-"xbcbe6dc5dd9a40ef":[[1681],[9]],
-"x67d5e78c65ce125e":[[2722,3951],[6,2]],
-"xcad79ac7098c2a6c":[[2029],[4]],
-"x4c7d4f49476afe2e":[[3742],[3]],
-"x808d6f42510ed30c":[[396,148],[27,5]],
-"x4b74c7110b3aab4c":[[166],[3]],
-"x16083420338a35fb":[[1185,528],[5,4]],
-"x48033232601c0f70":[[1739,262,1748],[17,3,3]],
-"xa8d861e0b13c3783":[[334],[57]],
-"x9580b7c378600324":[[3902],[4]],
-"xae468ea933e285b3":[[2266],[9]],
-"x7f4c4f17e8599a08":[[1762],[5]],
-"xbbf719d404992d74":[[4013,3690,3929,3307],[184,88,48,25]],
-"xeabd0898671b37e0":[[3104],[1]],
-"x294510bb12dc6da2":[[1587],[5]],
-"x62a6e0563adf0244":[[148],[5]],
-"xc41feb9e3c57cbb1":[[339],[5]],
-"x74121b6841f1d080":[[1763,1681],[4,3]],
-"xfc903eec7cb2954f":[[166],[4]],
-"x5edc945972df70":[[2202,2203],[9,2]],
-"x6f900cee18638c07":[[4090],[3]],
-"x7c498c6777a36e":[[213],[4]],
-"xf2c71170dada0a4d":[[3112],[4]],
-"xc2e5c624e57825eb":[[235],[3]],
-"xa6abc6218170c241":[[1237],[1]],
-"xd45004e4984b59c5":[[788],[4]],
-"x753aae568680f8cd":[[3697],[4]],
-"xd1d174b96709d765":[[2065],[3]],
-"xba42fdfb27374356":[[3699],[5]],
-"x655400e81d1cb05c":[[1763,788,796],[10,9,5]],
-"x10c28667ca67a60e":[[3938],[4]],
-"xb633d0e68846eaee":[[262],[3]],
-"x3529614ecef9c229":[[918],[4]],
-"xd7965600b53cb15f":[[1699],[3]],
-"x527e120692717035":[[658],[5]],
-"xa2f8ee6c838a4f83":[[3929],[4]],
-"xd28edb2d0944c121":[[3828],[6]],
-"xfaf8cd40206269b5":[[1415],[3]],
-"x3c2a03713c32e233":[[3763],[5]],
-"xda65cede77355e6a":[[2908],[1]],
-"xb89b6eada8385d6e":[[853],[8]],
-"x1b84d0ee598a10aa":[[3251],[3]],
-"x264dad8c023824c2":[[3902],[4]],
-"xaa8dbc39073a806":[[2715],[23]],
-"x9564e57a009f2080":[[2072],[5]],
-"x8d200b4854bfc17b":[[2518],[3]],
-"xc5def1009ffa5b3d":[[157],[4]],
-"x688330156346003a":[[3808],[3]],
-"xe8f5f85f7cc41617":[[262],[51]],
-"x423040d4e66eb2c0":[[261],[8]],
-"x2d48d66941eb5b21":[[148],[5]],
-"x4804c1226d1e7234":[[3761],[3]],
-"x3bc73e49c77c8af0":[[1187],[98]],
-"x3d5e3e701a9c9392":[[794],[7]],
-"x7138120c049828cf":[[1827],[5]],
-"xcbcd22d63ad24fe":[[528],[29]],
-"x2c7d2bca8e15b63e":[[157],[1]],
-"xa7a66b9ceb3c2c61":[[3891],[3]],
-"x67575e8068253a6a":[[396],[21]],
-"x13c18cdce131f83f":[[2851],[2]],
-"x2c0d0f8f6bf15986":[[2282],[5]],
-"xc9390064db444779":[[3756,2715],[3,2]],
-"xa508b010312c220e":[[2715],[4]],
-"xd8dc080bf95c6e11":[[1699],[10]],
-"x59be5504d29a25fa":[[3,4],[6,6]],
-"xce62d445e69b41d5":[[528],[5]],
-"xccd7d72935315a6d":[[2963],[6]],
-"x9d9344803c6cbb54":[[324],[7]],
-"x4d846cb9bdd650d0":[[82,166],[9,2]],
-"xb48de9bd758ad99":[[3112,3234],[9,1]],
-"x64ea07f3a3d02eb3":[[2851],[3]],
-"xba651be3457ed1d4":[[1],[10]],
-"x27a3787d0178b7e":[[323,1308],[11,6]],
-"xbdbb64491c26668":[[3699],[5]],
-"xae6534fe1cbaafec":[[983,324],[15,5]],
-"x59b1738f5a2de68d":[[3299],[5]],
-"x1f49f6161f80a2d2":[[262],[2]],
-"xb1befafc14bf574e":[[708],[4]],
-"xdf16293fa269d4fa":[[1827],[12]],
-"xc507e242af8fe4d9":[[3232],[2]],
-"xe6a93a20c0c3516c":[[3567],[3]],
-"x4a8abf04b6bbbddb":[[1113],[3]],
-"x21137d73ceaacdb2":[[3104],[2]],
-"xd163fe788230558f":[[3958],[5]],
-"xee8fc05b99861f1d":[[139],[3]],
-"x8de36b4727b5e1e4":[[1568],[5]],
-"x309165a2d29e0202":[[139,75,82],[214,98,15]],
-"x8bd6e8e7d4b38c68":[[323],[6]],
-"x2668c8980a9dc92a":[[2479],[3]],
-"x7d5d119708077518":[[3763],[3]],
-"x1ae0e8da8e89772":[[388],[4]],
-"x4b08d5d47522a196":[[1380],[13]],
-"x2f7218c1181790bd":[[1745],[7]],
-"x7215673d2f4046ce":[[2747],[14]],
-"xa68f9ac5d64c0eb8":[[601],[2]],
-"x5f8486bb50951cbe":[[3306],[10]],
-"x28cbbdc03d3d2f26":[[2072],[3]],
-"x8668ce8331409c12":[[1578],[6]],
-"x2b899c7a5874afa1":[[3956],[2]],
-"x84660a3cfd3ac481":[[1243],[5]],
-"x448ba09377b47895":[[2265],[3]],
-"xa0da89e0c4789797":[[594],[3]],
-"x437f278bf513a489":[[3340],[5]],
-"x7b795eb50bf2df63":[[262],[2]],
-"xd7b82e6ff65457b2":[[706],[6]],
-"xf4e147f7b490ae0a":[[2592],[1]],
-"xd5bf93a452908e3b":[[396,339],[11,2]],
-"xeb01b29033aa41ab":[[1652],[4]],
-"x6175ec9ecfeb3b16":[[204],[4]],
-"x7954b3d9b8f57c59":[[1366],[3]],
-"x33bd3bb8e2df56b4":[[2477],[5]],
-"x92517538412edc5e":[[2228],[3]],
-"x17b4fd21a98a7663":[[2787],[2]],
-"x2ddb248d00f82ab":[[3902],[3]],
-"x1e5cc7f4ea46aee1":[[2128],[18]],
-"xc0a3ed038cbfc805":[[80],[5]],
-"xf1f03d14bc6c0006":[[1746],[3]],
-"xf432a8ce08cddd0b":[[1307],[4]],
-"xe779f5ecc52816d4":[[2722],[7]],
-"x48c579b63df74efd":[[1494],[3]],
-"x316b55f877124404":[[105],[6]],
-"xde1b6e66c1f38d23":[[1892],[5]],
-"x95fa639eb4005378":[[666],[12]],
-"x9f5305e1b5e7fa11":[[2852],[2]],
-"x1270c7b639e9a9bd":[[1371],[18]],
-"xa3762abda808dac4":[[861],[3]],
-"xbf99706fc0f2c270":[[227],[3]],
-"xd5c86dfece2482c9":[[2331],[4]],
-"x5eaada61a64b3e89":[[3956,3699,3559],[66,48,17]],
-"xa298fd7f94b02f25":[[2592],[6]],
-"x11bbede3d9f944e1":[[82,796],[3,3]],
-"x648e96090d4154a3":[[2138],[2]],
-"x4092f21b25f77d4":[[601],[1]],
-"x26dd972ff3f357c":[[2266],[4]],
-"xe096ac14bc046112":[[861,853],[42,13]],
-"x7acc2e3292f2a35b":[[262,1308],[10,8]],
-"xb5ce27ef572b01f1":[[2720],[2]],
-"x3c940aa5b2aec7cd":[[405,82],[61,2]],
-"x4c47a6c3d41015b1":[[1372],[60]],
-"xc2b2c1004d34a5e3":[[261],[20]],
-"x61bc6734ac15cc4b":[[3517],[4]],
-"xa6732b07bb210791":[[323,75],[8,2]],
-"xa5811af717fcd5ee":[[722],[6]],
-"x92dc1a4d015dd568":[[1372],[3]],
-"xaeab34f43636bc21":[[3502,3429,3690],[8,4,3]],
-"x4ce6ddad3786beb0":[[3690],[6]],
-"x6d10bc5ea46ac4b0":[[3956],[3]],
-"x688d60cf084fc9bc":[[709],[9]],
-"x4282459b2d54736e":[[258],[7]],
-"xf8c14659fe1d3271":[[3690],[8]],
-"x433abcab87982a4a":[[1539],[3]],
-"x20e2e817440fa6ce":[[2484],[1]],
-"xe0424c45d7633942":[[1307],[18]],
-"x428ed12c81715e76":[[2452],[2]],
-"x87259ef7447a5f66":[[2396],[1]],
-"xdaea19df96bb314":[[166],[4]],
-"x922ac629531b1efb":[[1244],[5]],
-"x45101e10bbe2b09f":[[2228],[4]],
-"x6cdc4fa8ea5abbf1":[[2266,3827,3836],[25,11,9]],
-"x3cb63d8bae7cc228":[[733],[3]],
-"xd319260fd0c50263":[[1759],[3]],
-"xf6e6c21b95a4534f":[[1242],[75]],
-"x80636c2ee300a8b9":[[3956],[4]],
-"x94617e220cf57de2":[[2852],[4]],
-"xfe489be0c2e1ce0d":[[2720],[3]],
-"xb3d4490c2d3f23d6":[[137],[2]],
-"x572d969cda42b16":[[204],[53]],
-"x66aabccf8cd58f46":[[2722],[47]],
-"x6e5f60ac34f50c54":[[3372],[3]],
-"xbc25565236f3cc5b":[[2658],[5]],
-"x163d2b90bf15b792":[[262,983,1380],[9,4,3]],
-"x1d578c9bfb15dd46":[[787],[3]],
-"xcaf7893cfc8a969e":[[262],[3]],
-"x7f9ae90bcfc039a8":[[1178],[4]],
-"xe31dd71e60ea885d":[[209],[5]],
-"x757b21969890cb4":[[2812],[2]],
-"x481fb41654d1779c":[[1763],[5]],
-"x5a60d62ce166e60":[[594],[11]],
-"xa1018b90c2624f5e":[[3242],[7]],
-"x902d3fcff7ac5e06":[[3305],[10]],
-"xf0a3ed1c304b215":[[2720],[3]],
-"xfdb0e1ea1e5810a1":[[723],[8]],
-"xb5a7cfdd4a0e72cc":[[788,405],[45,10]],
-"xdbca33871df65c4c":[[3643],[2]],
-"xe1e0c4aad071bc20":[[1697],[15]],
-"x700086c172bc79a9":[[3297,3104],[4,3]],
-"x83697e028dc9b6ef":[[334],[9]],
-"xe4dd73b1d39992b6":[[262],[2]],
-"xb74701e3461c9a2e":[[3307,3299],[43,25]],
-"x29683a1effad60a":[[3690],[10]],
-"xc285884ef6996fa5":[[2908],[3]],
-"xdf4f4d5d26580fb9":[[166],[4]],
-"x19682b13b40caed1":[[1699,528],[26,12]],
-"xd8733627eb881be0":[[75],[4]],
-"x1e1ef034f897898a":[[1763],[1]],
-"x9a57dbb689bed7c9":[[3902],[3]],
-"x5ffdb46c41a6236f":[[2330],[2]],
-"x969288c8957a85a2":[[1699],[18]],
-"x807308d0ed2623a6":[[3104],[1]],
-"x73e8bd5e4a224676":[[1828,332,1681],[29,15,7]],
-"x136c634da531aa53":[[3494],[4]],
-"x4c9ad36965e72ee8":[[3364],[3]],
-"xef68944a61ae6db0":[[334],[14]],
-"xfe06ae1efc34abad":[[731],[6]],
-"x762fb9b05dcbc44c":[[3956],[5]],
-"x9037d84ee1b4ed0b":[[2228],[3]],
-"xd1f806e04e035f9b":[[2603],[3]],
-"xbaee1f999ab55e5e":[[2281],[6]],
-"xe0c109d398ac9d67":[[339,405],[4,3]],
-"x889b692f550a2d69":[[1178],[3]],
-"x75788e3d77474c94":[[3763],[18]],
-"xc02c016eaae78309":[[2519],[19]],
-"x64d5952de224f0d3":[[323],[4]],
-"x3794c8d75afb381b":[[202],[16]],
-"xa60889a1444313fd":[[334],[18]],
-"x5d1ddcf2d8c23ddd":[[918,405],[14,11]],
-"x3aa115f77ac236a":[[3902],[1]],
-"xd23f8f7ed6fd0abd":[[3961],[12]],
-"x54c31263e9ad3b4f":[[3372,3502,3234,3242,3307,3364,3690,3177,3299],[3480,1352,182,59,18,13,8,5,3]],
-"xcc25fb19f1a20afd":[[1243],[6]],
-"x3538e5be5e083acc":[[1746],[1]],
-"x714ff91721a5b836":[[2910],[4]],
-"x9392134848eb6c03":[[1098],[4]],
-"x2f3e65aeadbbe438":[[1114],[1]],
-"x79ffcdc208f02487":[[2006],[6]],
-"xb96fca7eb6fc42f5":[[137],[7]],
-"x7adf58dc78f1aa0d":[[139],[7]],
-"xd52dd9bf082adc98":[[593],[5]],
-"x1d70419d359afe27":[[134],[6]],
-"x3544d3f5f9cd2e83":[[324],[15]],
-"xbfc33bae5ad0e73b":[[528],[5]],
-"x4ca049f67acf53ab":[[2283],[3]],
-"x15cf2dedb28e11e2":[[4013],[17]],
-"xdc0cb7037541bfc8":[[3902],[1]],
-"x6298336d6c157ac0":[[204],[2]],
-"xc7717296bb5cecf":[[139],[15]],
-"xffd8c51ef1df3a80":[[157],[4]],
-"xb3dded75fcabb19a":[[2932],[8]],
-"x4708b65b2ceea5b4":[[983],[6]],
-"xb5cca871a12c5f14":[[3761],[2]],
-"xc01a1028030669c0":[[157],[15]],
-"x76731891ebd36251":[[262],[4]],
-"xc8ac51c0545eb3c6":[[3690,3234],[4,4]],
-"x700657c7337940e0":[[3502],[7]],
-"x2a651da62cbf034e":[[593],[5]],
-"x711649e05670dab6":[[1958],[6]],
-"x5fb11046a6f6fcc7":[[796],[9]],
-"xa19c8189ca25dc69":[[3307],[11]],
-"x274ed49b25e209ee":[[2462],[6]],
-"x46969483b06c2393":[[601],[6]],
-"xe4198069344ba5c7":[[3438],[5]],
-"xcf4342e89a080fee":[[2908],[4]],
-"x86068231235d028f":[[2565],[10]],
-"x39f8a68a1bac27d1":[[339],[4]],
-"x7b724816313533d8":[[2463,2452,2477,2443],[34,12,10,3]],
-"x1234130c1f59a816":[[203],[6]],
-"xb969d40a90dc3596":[[268],[3]],
-"x33884f61d91b6af3":[[3234],[3]],
-"xc851a4a4394effb9":[[2043],[4]],
-"xc5554c754fb5573":[[262,536,861,148],[98,26,18,13]],
-"x56eb0b86c37474a0":[[2715],[6]],
-"x9def68d7b87a0f5d":[[2331],[17]],
-"xdfaebe9908561b89":[[3761,3372],[9,6]],
-"xe35a8444e3c43a8f":[[2325],[3]],
-"x741508c7361fb90b":[[3502],[4]],
-"xead38b60c1d5126a":[[1763],[4]],
-"x2eaf3134e3aba9a":[[3956,3929],[1,1]],
-"x3f0736adccfdd1ac":[[1315],[4]],
-"x32adb0a2150ef8c9":[[3808],[5]],
-"xeda66afcc9106eda":[[2724],[10]],
-"xc33b69b0bdd97583":[[1684],[3]],
-"x590be8c36a813f02":[[148],[6]],
-"x13dff1dd28ce20c6":[[3963],[3]],
-"x7f832bd0111d19fe":[[262,166],[45,19]],
-"x5ee4637b7641150":[[773],[15]],
-"xcfd8b179acdbbfce":[[3112],[3]],
-"xf5018645ba6e7360":[[396],[4]],
-"x6cf50728222ce5a2":[[3177],[2]],
-"xbe70a2f53066747":[[3371],[6]],
-"x34e61cfb99418d9":[[3501],[3]],
-"x47cd36fcffadbc5a":[[166,332],[4,3]],
-"xf2fc2259cf6fbd33":[[2919],[4]],
-"xc97439da93a62433":[[3929],[3]],
-"xa3baf1e0d38033f5":[[804,788],[12,5]],
-"xff5c9b72dcc104f8":[[1763,593],[6,6]],
-"xe9747d4751f8e0b5":[[853],[7]],
-"x8da1ef6f4225e4b9":[[2460],[6]],
-"x2baa465f52a25749":[[3047],[6]],
-"x55289653086604ba":[[1546],[11]],
-"xd37b3c0b74d8e4f9":[[1941],[6]],
-"x4c5251c149e20bf9":[[3632],[5]],
-"x74e7ae74538a9186":[[3],[10]],
-"x64fcb05a075a3a0":[[919],[6]],
-"xd32052939c59eeea":[[2],[13]],
-"x1f31d7705d446ffb":[[2851],[4]],
-"x823f3a2ccc18ca72":[[983],[12]],
-"x3e196319b4761e5b":[[3307],[11]],
-"xe60e32fab825049e":[[658,262],[14,10]],
-"x5c05097a0394fc98":[[1112],[3]],
-"x6e7761fc87c16d2e":[[3643],[5]],
-"x5625b3f155c078a6":[[157],[3]],
-"xa613ad156ce8ff6a":[[3958],[3]],
-"xf5d0f4c03d65f93f":[[1699],[10]],
-"x84367efad40d8b07":[[2203],[12]],
-"xb2e460c74aefc488":[[346,332],[26,5]],
-"xe68e17293814cf43":[[1828],[3]],
-"x1bcd02fd95a881d7":[[723],[6]],
-"xa6bd190db6dbcd68":[[139],[2]],
-"x5e48e0b3cd9893ef":[[129],[5]],
-"x359a73dc4e004f4b":[[3749,3372,3112,3742,3502],[121,36,32,26,13]],
-"x55621064b9abf08":[[1180],[5]],
-"x7e424199a6f0275a":[[1120],[6]],
-"x5f307006e665d0e3":[[3178],[1]],
-"xb9f296e1117681e9":[[3642],[3]],
-"x2155512522cf934f":[[2477],[6]],
-"xcb06155412a440f7":[[3306],[1]],
-"x31caa083f60c8087":[[3902,2852],[18,1]],
-"xa9e79005c181baaa":[[790,343],[4,3]],
-"x9205482fe013381c":[[3761],[29]],
-"x6e2c57bdaa1546ff":[[139],[8]],
-"xfe88c240142209a8":[[2713],[10]],
-"xf1594141d2947091":[[2724],[9]],
-"x64da2e5cf4b38be0":[[3242],[3]],
-"x325bb594c1ca3471":[[918],[4]],
-"x8b47dece035978db":[[1180],[3]],
-"xe3934ca2b5000f81":[[2924],[6]],
-"xf5146fde3f7d308b":[[3169],[3]],
-"x6de0490bb52879a7":[[251],[1]],
-"xb5362d494e72d5d8":[[2851],[2]],
-"xe9c57a493294da8b":[[3699],[2]],
-"x680e2683b8245e1":[[2203],[11]],
-"xacc3b1e874d08a97":[[2036],[1]],
-"x6ca14e8b366370b1":[[2919],[3]],
-"xbc394912910ec609":[[3372],[5]],
-"xc1e259679b1668ed":[[3169],[3]],
-"x377511741cc7a913":[[594],[5]],
-"x4cf25a7fb2e12565":[[1764],[5]],
-"xb79bf3b423382ddc":[[2851],[3]],
-"x273ff3cf6921ed74":[[80],[4]],
-"xb79852bc4a6619fc":[[2285],[5]],
-"xc4ce630b2514f04c":[[3372,4013],[16,3]],
-"xe65c92642d67e51":[[3372],[2]],
-"x931b6f63c8b989d7":[[339],[2]],
-"x86eff40d3d1194b1":[[2258],[27]],
-"x670b17fb255aa6f4":[[3299,4013],[44,24]],
-"x4ffa40888519aa1b":[[991,339],[16,2]],
-"x199ad14e5f8cd490":[[926],[3]],
-"xfc844bc5996f7d02":[[3169],[2]],
-"xbb051f6e7d0a2250":[[3826],[3]],
-"xd0a6abd1a9fc3161":[[593,323],[5,4]],
-"xba14e03389868fc1":[[324],[2]],
-"x5c5a03e9f0cc5259":[[1245],[3]],
-"x9cc77a59aba1f9da":[[797],[3]],
-"x24414462880a7413":[[2932],[1]],
-"xf711516d3bb1631d":[[3234],[2]],
-"x22ab90e03ad9a8cc":[[3947],[9]],
-"xfa6f1673d82ddd53":[[148],[3]],
-"x86b8ce812de4d4cc":[[3429],[7]],
-"xe741e1c01592d871":[[796],[2]],
-"xb9010afde41e268f":[[2908],[5]],
-"x42276d9ef110eaf":[[3761,2266],[47,6]],
-"xff8da0fdffed0f16":[[3956,3641],[3,3]],
-"xf6fa9ac010cd3a2":[[3309],[2]],
-"x2c4c120423c4166e":[[157],[6]],
-"xc7eb270cc6a25506":[[731,82],[20,20]],
-"x2d0a72255cd42c2a":[[258,926],[10,2]],
-"x466079b6c68fafda":[[1373],[6]],
-"x86fe18fc77d3036e":[[3178],[1]],
-"x4cddb1261046c948":[[1762],[8]],
-"x7aaca874ef87f5c0":[[1770],[15]],
-"xe452a66050348542":[[521],[4]],
-"xd7003348e149071f":[[2334],[5]],
-"xc616cec1f1394ba4":[[3956],[4]],
-"xa65ff85f0d6eee16":[[2852],[3]],
-"xb84133b145e9bf8c":[[1236],[1]],
-"x5fda79001c4c24c1":[[1828,326],[9,2]],
-"xb41f739d5d3844c9":[[353],[6]],
-"x60e01c95149e5c69":[[2136],[6]],
-"x106a736179e14e5f":[[3690,3372],[11,9]],
-"x1a99cb6736a1b6fd":[[3958,3307],[6,4]],
-"xa7c82e6e9b92acab":[[3964],[3]],
-"xee877aa4f2a78a57":[[2117,536],[3,2]],
-"x512fd77bd691ccdc":[[332,2,339,1699,209],[142,63,53,42,18]],
-"x234fc42fb6899daa":[[2715],[2]],
-"x8888de9454875175":[[2852],[8]],
-"xe68fc79e9ed32748":[[593],[3]],
-"xe4e9c1b87d158371":[[3234],[11]],
-"x653608f68a9afad7":[[2931],[8]],
-"x944a9d557cab55aa":[[3258],[23]],
-"xdfb0e3465f9c85e0":[[3502],[4]],
-"x6e7d505ced4ec48a":[[3902,2908],[5,4]],
-"x53ce633b674d4cb8":[[75,211],[32,7]],
-"x50663993393cb159":[[853,209],[21,2]],
-"x4c3e9535381ac5c6":[[3962,3169],[6,5]],
-"xae9a4129d869ee07":[[2724],[4]],
-"x152de42b3560eea7":[[4013],[1]],
-"xfc0c0e8fb9b85338":[[3819],[5]],
-"x12fa763a60088a52":[[529],[3]],
-"x99249479a1e19c5e":[[731,353],[65,12]],
-"xa8931cee4b577d91":[[334],[5]],
-"xe18b3a4896514896":[[1764],[5]],
-"xfe5585c73ce31eaa":[[203],[10]],
-"xf227147ad93a00b6":[[918],[6]],
-"x3067eeee06da7622":[[3958],[5]],
-"xcec710527caeb29e":[[2720,3929],[10,4]],
-"xf9094b03c827bdde":[[391],[6]],
-"x72d46b5552a19c6e":[[2723],[19]],
-"x6e25649c30385e5d":[[3177],[4]],
-"x8476e50791b755e7":[[1633],[3]],
-"xc54dde8695b6adf6":[[3112,3902],[12,5]],
-"xb3a75221c8677d52":[[3828],[5]],
-"x12fb378e4f2e20c8":[[3643],[3]],
-"x96df7f846be5fe31":[[1749],[6]],
-"x6395b23fa573c7cc":[[2268],[3]],
-"xddd5b7222e37e8a7":[[1,391,1293],[6,4,3]],
-"x5865596228a91283":[[3742,3372],[8,5]],
-"xa52508c6503b033f":[[730],[3]],
-"xc6f13bfd01aca85":[[3324],[3]],
-"x893f57a6f5f2cf99":[[1618],[5]],
-"x30b7303b49ffaf3d":[[3340,3699],[27,10]],
-"xae3fb79a6fda8771":[[3177],[4]],
-"x58ccb5a526c6f153":[[1633],[3]],
-"x4696e940de19661e":[[3374,3567],[9,3]],
-"x58c874168a1de5c":[[3437],[4]],
-"x335bf94d8299880c":[[2698],[6]],
-"x3ce209d0a731cc73":[[2781],[2]],
-"x2410cdcdcdd8d877":[[1371],[6]],
-"xf24fc87b06c6818d":[[148],[3]],
-"xcf0702b5c0453d9c":[[262],[5]],
-"x3c817246ed83eaf5":[[157],[2]],
-"xa39620d1e7b24647":[[391],[2]],
-"x7ed9c220f5b85e3c":[[3902],[8]],
-"xc9d98108524ac923":[[731],[4]],
-"x8b94652787ea0f8":[[259],[3]],
-"xde4d2a9a3146eff2":[[3062],[2]],
-"x61e7719e38b662c3":[[1155],[6]],
-"xd7deb572da67e75f":[[594],[2]],
-"x7d8ee7833eb06c0e":[[3837],[7]],
-"xa0dc431683e4cee1":[[262,666],[8,5]],
-"x1fa936d0c0119d31":[[3779],[3]],
-"x1852fa65f350f464":[[666],[8]],
-"xf1ab4314c96a075c":[[2915],[4]],
-"x9da5b3af4faf833a":[[1827],[2]],
-"xf423fa4a54b8acf2":[[594],[3]],
-"xe399dadc7bb8e8a1":[[3376],[6]],
-"x5a22672048d0f6a3":[[2931],[3]],
-"x9e443a82462d5511":[[3902],[2]],
-"xac3f244a156a8635":[[974],[3]],
-"x14126b3cf60c030e":[[2234],[3]],
-"x13b39999f47a7e01":[[3300],[6]],
-"x3856ba3538da038c":[[3826],[1]],
-"x7a41fb1e5b3d96b7":[[262],[3]],
-"xbd8a4803ee5ead0f":[[1763,1762],[9,3]],
-"x768a47665b73bd09":[[3752],[4]],
-"x4ad15ac9a5a3fd59":[[3234,2266],[12,3]],
-"x9b9482aafd139a22":[[2477],[3]],
-"xb7f2e250b4fe63ca":[[3749],[7]],
-"x83d0f8da5c6d0ddd":[[3704],[4]],
-"xf7f8fbfbdfc3f248":[[1308,139,593],[9,5,4]],
-"xaa505cd22abcbe8b":[[148],[6]],
-"x90a01920f18af836":[[2452,2461],[173,22]],
-"xde660a07058c68ba":[[1699],[3]],
-"xc63e094f765b5e29":[[3958],[8]],
-"xc8a278a928c11f91":[[3902],[3]],
-"x74d729a3ccf360c6":[[2852],[12]],
-"xcdc935873d093b66":[[3761,2137,3112],[28,5,5]],
-"x52e03501a8561979":[[658],[4]],
-"xdb56c8bba3770628":[[3104],[6]],
-"x32426f9c36b8146c":[[262],[5]],
-"xb00d2ab8a10f6b11":[[1179],[7]],
-"x798d920c52fbe10a":[[262],[3]],
-"x2aab178349ae729":[[926],[6]],
-"x63e5e25beb1b85c6":[[2851],[3]],
-"x5aaf9ff1aab1c5ca":[[666],[9]],
-"x3a79e327a0f312b5":[[786],[7]],
-"x4c0ba8dd603857f":[[3699],[12]],
-"x4d7f9087ea25211e":[[137],[4]],
-"x3fe653dde327aab3":[[3641],[6]],
-"x66b0f1c4db498952":[[3364],[6]],
-"x9a2970af6ada2e84":[[2931],[2]],
-"xce2e4ba5de1c7fc0":[[3372],[2]],
-"xd5d2e8389765f13f":[[3699],[3]],
-"x464d6d7eee1aeb5b":[[3567],[6]],
-"xf64dd621d0625040":[[1763,148,1764],[257,11,2]],
-"x7ab42c7bafbb3238":[[3494],[2]],
-"xcb52c539b2196eb2":[[3641],[5]],
-"xd872db73e05f89e1":[[3902],[3]],
-"x923d137b0754e408":[[2910],[4]],
-"x6de4fbc6813d8fe4":[[1692],[3]],
-"x40380f1fe243bb4d":[[3964],[4]],
-"xb47ce326fc2ce0e2":[[137],[4]],
-"x73f8246aee5db61":[[3947],[3]],
-"x16f85e0e7d8e6501":[[3474],[5]],
-"xed1dbd9ca201978a":[[3307],[4]],
-"xfa6fc66814e63c83":[[75,593],[5,3]],
-"xecd0ad272d74cdf":[[1745],[6]],
-"xfa1d4b05bb8911dd":[[3243],[5]],
-"x854115089cc96259":[[3828],[9]],
-"x4f04972b1ee74eda":[[204],[5]],
-"x8c24cc14dccc3f6":[[2331,3437],[7,3]],
-"x3afa23f5b8bb68f8":[[1351],[3]],
-"x7d03e821c6fbe314":[[166],[2]],
-"x7b11a708c024ee92":[[2434],[4]],
-"x6730840794a54b81":[[2412],[5]],
-"xf2162b769a789be1":[[1828],[5]],
-"x40e6cef63805a35b":[[1617,1624],[6,6]],
-"xceea65c3ccabbe60":[[1421],[4]],
-"xb65e28bd2b2ef7e1":[[202],[8]],
-"x27a9ec38e29f0e09":[[2910],[4]],
-"x64820eb0536f29a8":[[262],[6]],
-"x96749db1a92c0895":[[3502],[3]],
-"x6e31416472af2fdf":[[1699],[6]],
-"x342f9a36992f6bd":[[324],[4]],
-"xd0b0124096dc403e":[[3699],[7]],
-"xc80f7108a00eebd8":[[4013],[135]],
-"xf4463cfe95fcf628":[[3092],[3]],
-"x8ae7b8fd943a4ee6":[[454],[6]],
-"xa5e09f7b2977f85f":[[3364],[6]],
-"x5de5cc651230e86a":[[1745],[3]],
-"x696eba6b8f536d7":[[405],[6]],
-"x7e4febeaaf4f545f":[[918,1837],[20,3]],
-"x67920a5018515114":[[2331],[6]],
-"x91e9bcb4e0425469":[[3699],[4]],
-"xe12dc1cac9564527":[[139],[4]],
-"xf22a5b0b1645a8ba":[[3502],[2]],
-"x9d9c9652ddb576aa":[[3963],[5]],
-"x26d99962bbac196b":[[2723],[4]],
-"x455be2a2f0c5a876":[[2266,3756,3372,3808],[11,6,6,3]],
-"x9fe39e1e6381380d":[[251],[120]],
-"xa1393331d2425d02":[[666],[3]],
-"xa722b300b45ec85c":[[3964],[10]],
-"xd61b872b2dbfbef8":[[853],[36]],
-"xb30ac23b2510d8cd":[[3826],[3]],
-"x4ee6e6d866ad07ab":[[536],[9]],
-"x215c087d59ccb891":[[258],[6]],
-"x383773ace42fa7ac":[[2154],[9]],
-"xaef96ccfcd8125fc":[[323],[3]],
-"xa3be8c529fbe1fc1":[[82],[6]],
-"xc71332155aafbb07":[[139,75],[57,4]],
-"x5161b4ee6e1873de":[[405,166],[8,5]],
-"x147e592f21ee76cc":[[594],[8]],
-"xe66c47b1ca645980":[[3690,2999],[6,5]],
-"xa5418b488576d129":[[3299,3690],[54,5]],
-"x8ab9d1ad2d59b4f4":[[407,353],[47,3]],
-"xc35747da01583ccd":[[3137],[6]],
-"x50b75f7fb8c6bae9":[[723,983],[9,2]],
-"xeee545932d916b81":[[4020],[20]],
-"x3c3ddc70cf8e38fd":[[3372],[3]],
-"xba1e8aec39f9f2fe":[[2154],[8]],
-"xfe083f87d29ef8d0":[[1958],[5]],
-"xafbbc113cba55eae":[[788],[22]],
-"xf789337c8b962d58":[[139,75],[23,6]],
-"xb8b21c967571c6ec":[[2851],[6]],
-"xfc6fa157ef1c3c9e":[[3958],[6]],
-"xdd80709909f345cf":[[594],[1]],
-"x25c35af06097c2d8":[[1180],[2]],
-"x34026e53106c5181":[[405],[5]],
-"xada495df8da18c34":[[1746,1773],[18,5]],
-"x8ee510aae2a66649":[[1634],[6]],
-"x188a8d6f6e51fa68":[[3112,3749,3742,3372],[27,8,4,4]],
-"xadddfa17117f9639":[[3690],[6]],
-"x401e6248a9c12b76":[[211,75],[6,3]],
-"xe5c13b4b2d35adbd":[[4031],[2]],
-"xb698633fd180a6d7":[[16],[5]],
-"x4bd1492721805aa5":[[1674],[3]],
-"xd6ddff34a94c2b7a":[[668],[3]],
-"xf04c2aeabcf6135a":[[339,1764],[125,3]],
-"xfb7c4720050231a9":[[3763],[3]],
-"x76bd420432fe9021":[[4013],[13]],
-"xceec6661759edccc":[[82],[4]],
-"xe6196baba12f3e85":[[211],[12]],
-"x2d4e2e9cc75f201d":[[788],[6]],
-"xdc4fe22da3a342d":[[2852],[4]],
-"x17a4a1a7a58fae7b":[[2283],[3]],
-"xd2b39e9415de58e6":[[2924],[4]],
-"xec82397d5a4eccb2":[[3761],[2]],
-"x1b7f68da67b49c59":[[796],[2]],
-"xcd80c33c58adf2bb":[[3828],[23]],
-"xf8dbe1af4107c7e4":[[4013],[3]],
-"xcae305dbb1005fda":[[262],[7]],
-"xc1ef64208d7afa5f":[[593],[5]],
-"x24328324f15c4279":[[4013],[3]],
-"xdd67fab754c289de":[[1185],[9]],
-"x32fa1a34fe73e34d":[[839],[12]],
-"x75c02b265ab61fa6":[[334],[4]],
-"xe3b13ad98f8191ad":[[203],[8]],
-"xb84b0de4f13a4c6f":[[3818],[3]],
-"x674b84cae77e4cad":[[405],[4]],
-"x417323109d33c6cc":[[568],[4]],
-"x288ad3829cc4289b":[[3242],[3]],
-"x42b6bc9a9cbaeb0":[[1180],[7]],
-"xc4f67e7bc8a88001":[[3821],[6]],
-"xb33def89b683422e":[[3307],[2]],
-"x687e181e03a5ad7e":[[148],[7]],
-"x8732f34f2ffdf14":[[2866],[3]],
-"x18e5c8c3a74d2a0a":[[2722,4020],[32,12]],
-"xd463be81d4758b4":[[3299],[11]],
-"xa8ffd492ed4a9c66":[[2203],[5]],
-"x68f889b0a7cfdf42":[[262],[3]],
-"xc20b721434f1c0e5":[[3502],[3]],
-"x6b1cb6ac91f7f4ff":[[861],[2]],
-"xcb8c7abfe8f65ae1":[[3699],[6]],
-"x54e18b29fd72d315":[[2617],[3]],
-"xfb8763dfa42804a6":[[1958],[9]],
-"x60ae79cf3b7b08e9":[[2908],[4]],
-"x66b2554ed08b1f13":[[1371],[79]],
-"xdd537a01a703680b":[[1355],[9]],
-"x95dc9a790518b36c":[[528,788],[6,2]],
-"x81aa8682d5ca35e4":[[139],[3]],
-"x5b47bdde59120e2b":[[3964,3699],[7,7]],
-"x28deee466ae43f90":[[1355],[7]],
-"x8f347110c5534986":[[4013],[3]],
-"xdf13d0dd96558dbb":[[798],[17]],
-"x3c1d512353a4490f":[[796,918,788],[13,8,2]],
-"xcf4bd2be247b995a":[[1371],[6]],
-"x9439bf7eef9c024f":[[2917],[2]],
-"xc986830131feff4f":[[332],[28]],
-"x50fe118c776a40a6":[[3699,3242],[17,7]],
-"xdebd08bdebfaf840":[[1747],[28]],
-"x384c4de22b5d3da5":[[1437],[3]],
-"xf052093f4c6af0e2":[[323],[5]],
-"xddfa4ed39b303f53":[[340],[3]],
-"x1ce72a1ec0ae448b":[[2932],[4]],
-"x693a58c1ecf2fc9":[[2771],[3]],
-"x270ff98345132086":[[3275],[3]],
-"xd2bb20bccbc90e02":[[918,528],[11,9]],
-"x71cb14d371ca65cb":[[1308],[5]],
-"xcdaca7292bba10e1":[[536,332],[34,7]],
-"x8c4a1721d6c65218":[[1382,2006],[77,1]],
-"xb2aa6636dc4e0606":[[1098],[21]],
-"x47c22b7540a499af":[[983],[4]],
-"xdf83abbad7b76174":[[3372],[5]],
-"x52bbd5e213326d6f":[[1180],[4]],
-"x2ab50a14923eeadd":[[3305],[5]],
-"xc8d1ee24177f0b33":[[332],[4]],
-"xedc3115c5ed3c768":[[2867],[3]],
-"xf08de29ec13efff8":[[2720],[3]],
-"xb2659a28282efb70":[[1178],[1]],
-"xb8c0b2ae11e4ff97":[[3567],[3]],
-"x6417a8505a53dcc4":[[658,666],[8,2]],
-"xf963d62248a938d1":[[2082],[2]],
-"x9266feb4c910f5a5":[[2268],[1]],
-"x9cca40a322e2bbe2":[[3169],[3]],
-"xff69e1fc2411887d":[[1803],[8]],
-"x3609b34bb0606023":[[1],[6]],
-"x3b053218f098d5c5":[[3169],[36]],
-"xbfbb29e1bcfd9d88":[[712],[6]],
-"x6a291fa1777c4f59":[[1179],[7]],
-"x5f52580e0e1d1d31":[[1226],[3]],
-"x1965090504a52d87":[[3956],[7]],
-"x158694d065f03ef":[[2908],[2]],
-"xc92ddb0fea100e5f":[[3828],[6]],
-"xc2cfc71f53ff53cb":[[666],[17]],
-"x1cd8d48946aa83fd":[[405,346],[29,24]],
-"x1539aec082058e23":[[346,405],[6,3]],
-"x670aa789bf923d19":[[2381],[3]],
-"xf719bbf5a880d2a8":[[1187],[5]],
-"x34b96b3f36b39693":[[528],[4]],
-"x83a31d7150a6db17":[[262],[3]],
-"x54e62ffff6c0f420":[[3242,3699],[45,3]],
-"x2a9f8cd94b9e800e":[[1373],[1]],
-"x5c1415e92ff6dd52":[[3104],[3]],
-"x8c90756aa4e27c4e":[[2387],[5]],
-"xa186d5f23e511bfd":[[2720],[4]],
-"xf487a2d86ef2e70":[[3373],[6]],
-"x3acb857ff8dd576c":[[3364],[3]],
-"x524f4ca4384337fd":[[3559],[2]],
-"x7c1bfc8fa60e893e":[[2720],[8]],
-"x81891c46138ea44b":[[3902],[3]],
-"xc0033ae22d0c9445":[[2657],[6]],
-"xb61d68f45333131f":[[3502,3699,3742],[10,10,4]],
-"xeadfb2ecbeeebddd":[[668],[5]],
-"xeb159e897a63ed92":[[262,528],[13,6]],
-"xa202949e3d78d34f":[[148,166],[5,2]],
-"xf1575c76bc18cbc7":[[3826],[3]],
-"xb1fedf5895e33cee":[[3808],[42]],
-"x66641bc618790293":[[3902],[6]],
-"xaa7d1bb3497346f5":[[1553],[4]],
-"xf0a4a72f7ac619f5":[[2915],[3]],
-"xbb5dc2b36938dfba":[[3958],[28]],
-"x9143c425973ee8c4":[[1098],[4]],
-"xa876f7c6e1968fce":[[1371],[2]],
-"xbed0eb73c48692cd":[[1179],[4]],
-"xf4c39b2f422a76cf":[[2833],[2]],
-"x489787204053ad4e":[[1546],[3]],
-"xeccec73632949e80":[[2292],[2]],
-"x3375999174afda12":[[1161],[5]],
-"x4138c28d3b8d4d8a":[[3234],[17]],
-"x3d8f04265e3c63bb":[[4013],[6]],
-"x655ac0ae1f8adbf0":[[983],[1]],
-"xde55ef7d407a49b3":[[1228],[6]],
-"x8e0a34a8d71abe7d":[[1763],[3]],
-"x5e3c105046134643":[[2074],[3]],
-"x7b74663407867dd1":[[2851],[7]],
-"x4ea879ade633a882":[[853],[7]],
-"xf5794b831f7a418c":[[666,405,796,918],[268,54,50,4]],
-"x210442cd08610172":[[262],[8]],
-"xf773775379d01f95":[[3902],[5]],
-"x62868a515e8075e8":[[4013],[4]],
-"xda9192bdf834e43d":[[82],[2]],
-"xb40f46038dea1fb5":[[137],[3]],
-"x11bf395ec9410266":[[1187],[4]],
-"xbef2cb70c56cbfa0":[[3826],[3]],
-"x67de3a435803fe06":[[732],[3]],
-"x4eb9ef081d6594f2":[[4013,2266],[32,17]],
-"xe524e1f142320f23":[[1867,1878],[5,2]],
-"x69f4c565e4124f1d":[[796],[5]],
-"x5f27872092cea45c":[[658],[67]],
-"x794b4eae9e4efe32":[[3234],[7]],
-"xa0361ef2639a0ffc":[[2915],[5]],
-"x206cbb97f7aa8db3":[[261],[5]],
-"x73051346392c5577":[[658],[8]],
-"x314c0bcec217b5c9":[[1098],[6]],
-"x75511ba50dbfb71b":[[3902],[7]],
-"xbc4ff0033611fffa":[[262],[3]],
-"xe4f7bdfc4e2aab2a":[[3828],[4]],
-"x237795e568401291":[[3299],[10]],
-"xb8b429cacaa168dc":[[148],[9]],
-"xbf37d7964210b562":[[4020],[8]],
-"xd7d70324d26fc5c1":[[1382],[5]],
-"x4161045ed076afb6":[[3958],[16]],
-"x4c609954e261bd0f":[[2266],[4]],
-"x608b124b8db5cacc":[[3902],[3]],
-"x38a696e0425c7521":[[3632],[3]],
-"xcdba4c961cf3f3d3":[[323],[4]],
-"x25a3397349fdc46":[[2137],[10]],
-"x157e58b623b32f4b":[[796],[19]],
-"xf45220d4585889bd":[[3763],[2]],
-"x98b7316e6a5fc7ef":[[82,788,1699,202,209],[786,234,81,35,26]],
-"xba0b0be421fcc3c9":[[1757],[3]],
-"xe63aee21e2965789":[[4013],[2]],
-"xf1b4caefed39b7dc":[[262],[3]],
-"x856b935922f5ee3e":[[3761],[8]],
-"x5d3ecc892bf7bcf1":[[3503],[6]],
-"x20653dad0b586b73":[[1049],[6]],
-"xd6225700c4d0c3d3":[[4023],[6]],
-"x2d86c169594e822c":[[3964],[2]],
-"x66717e5fcfb92738":[[3234],[4]],
-"xfd4ee659ae64140c":[[4013],[8]],
-"xbbe4874dc0def2e1":[[2461],[3]],
-"x21ed8a9b9be7526f":[[1958],[3]],
-"xc35012eec9114c2e":[[788,202],[6,4]],
-"x4947f65d581afd7a":[[148],[3]],
-"xde8ab3e764871205":[[1371],[6]],
-"xd655b2de071f3b64":[[4013],[14]],
-"x137c6e47274c1d75":[[2908],[5]],
-"x455509651349a4e7":[[1684],[3]],
-"x79f66b0f39f576be":[[1229],[4]],
-"xbfb2a1b1b24a698a":[[326],[3]],
-"xd64ae384ec13303c":[[2203,3956],[5,5]],
-"x9afe0c54cdb3c09":[[594],[7]],
-"x974c9eb6edfe6b29":[[2137],[1]],
-"xb302608982aaf0aa":[[335],[3]],
-"x6954a4ecc9b786c1":[[723],[8]],
-"xf9e16016e673ef6c":[[1697],[3]],
-"x15f7c1baffd85ac2":[[3690],[3]],
-"x8f86d2521e862068":[[788],[9]],
-"x66cd047cb51c2bd1":[[3929,3699],[139,6]],
-"xaf71366f3b1d8b64":[[3956,2137],[6,1]],
-"x24b5b9e8b7b715":[[1115],[3]],
-"x973e6badde2abc94":[[2266],[1]],
-"x97053a722681ce2":[[202,216],[6,4]],
-"xd21815819d0250f9":[[1837],[6]],
-"xf02dddd77fb8a973":[[219],[3]],
-"x508ca6516b04d077":[[324,204],[7,3]],
-"x422888815615296":[[536],[5]],
-"xfe5624f9031d5ad8":[[1765],[6]],
-"xf4ed0331f5c86a53":[[2463],[3]],
-"xfdc97084d93eed79":[[668],[2]],
-"x7b5c1f4ccfc71f74":[[3234,3112],[12,8]],
-"x384ce55231a22401":[[4020],[1]],
-"x3376b740060ec184":[[2347],[9]],
-"x78a81a9365639053":[[2220],[2]],
-"x8cb307d294892e68":[[3242],[17]],
-"x623c3f4ee9ab2d8a":[[82],[1]],
-"xa929006c31bc1681":[[405,2023,861],[128,5,4]],
-"x5b28d47514fce695":[[3307,1814],[2,2]],
-"xc651ac084c38bcd1":[[3177,2073],[9,6]],
-"xed4f2ca14c11b45e":[[2089],[7]],
-"xa7c61f40bc2ca02c":[[1829],[4]],
-"xfc425aedfa90da2b":[[536],[4]],
-"xba0ee55dca54eba4":[[3956],[3]],
-"xc9a7ea9012ecd02e":[[1187],[3]],
-"x9fd3120d91afaea9":[[2011],[6]],
-"xa740f2a772eaf8bf":[[2281],[3]],
-"x84fe5432f0d5e1a5":[[3699],[5]],
-"xa8b7aa4b08c0efa8":[[2203],[5]],
-"xd2e09fea5dc0d92d":[[3779,3938],[43,39]],
-"xca68209a33a64934":[[3958],[34]],
-"xf3138f2d39939f2a":[[1705],[4]],
-"xa51dbbb3fb338d9":[[262],[5]],
-"x4bd3d424fb7ad701":[[1699],[2]],
-"x7da5c307ae302dec":[[593],[19]],
-"x9ced2047ac7b375a":[[231],[7]],
-"xed985c8e64c6603d":[[1355],[1]],
-"xaa1a5fadf842734b":[[1641],[6]],
-"x6cfbae34aa4b1b72":[[204,528,339],[6,5,4]],
-"x368dbfe20ff63c3d":[[3307],[339]],
-"x991e96cebed2f350":[[1828],[6]],
-"x32c579fc33436b91":[[2203],[7]],
-"x3fb4ac7f0ceedacb":[[203,1762],[8,5]],
-"x753bfb296810b271":[[3567,3389],[4,3]],
-"x6743a45fccc1ee14":[[2030],[6]],
-"x21edf0c095ef506d":[[266],[3]],
-"x79cdb15649522d57":[[593,82,731],[27,22,13]],
-"x9af98b9cda23bb63":[[1439],[3]],
-"xd70f4d2bdc3aa755":[[3763],[3]],
-"xfdaee3c40bb1cf36":[[2056],[63]],
-"xae41d61560e958ec":[[3811],[4]],
-"xa77d7c9d438f663d":[[2477,2292],[96,3]],
-"xfc5f6fbf5eb7c072":[[405],[9]],
-"x88861684ca963d92":[[2788],[17]],
-"x9c198388bcbabc71":[[3902],[14]],
-"x1d84eb1709ae219a":[[1827],[5]],
-"x39f60f9693cbd901":[[3112],[6]],
-"xbaf57052dd71486f":[[4013],[20]],
-"xc82056631ee45547":[[353,731],[4,3]],
-"xca4cb48b03e66c25":[[202],[7]],
-"x22d5e9ebe16275a1":[[3902,3177],[24,11]],
-"x3a27eb81aeab9568":[[3964],[2]],
-"x2559216b652bc72e":[[1682],[4]],
-"x5ec5790ad4c52927":[[2484,991],[37,5]],
-"x361093d689dcf435":[[3902],[1]],
-"x114e1dfc6b6bbada":[[144],[6]],
-"xb8f38a9da9686ef9":[[3902],[6]],
-"x9cc40fc51a170ccf":[[836],[4]],
-"x858d4b45a5e989e9":[[3234],[2]],
-"xa92e1ea86a70cb6c":[[788],[4]],
-"xbb809a9499cbdffa":[[3902],[4]],
-"x67342d0f6f5af535":[[2023],[4]],
-"xa31ec0e56b4c71bd":[[2201],[11]],
-"x53b26ffe4801f421":[[166],[4]],
-"xcfb7306e0af46188":[[3699],[17]],
-"x941e1b0b1dead6c3":[[3756],[8]],
-"x63030917fa43f764":[[666,796,788],[34,17,6]],
-"x82b90142aa73ff9d":[[3817],[3]],
-"xc7f3a04b28121df3":[[2266],[2]],
-"xb2493643c25a3f85":[[658],[5]],
-"x47b598cc9150cfc1":[[796],[5]],
-"xcf4dabb5c4243ab8":[[1893],[4]],
-"xf8fff9f265dbc096":[[3307],[8]],
-"x50d7c68d78849803":[[3642],[2]],
-"x9ac301e41d030554":[[1834],[3]],
-"xd145930808aa1e9":[[1185],[2]],
-"x10b25b186826a372":[[2908,3307],[4,4]],
-"x27d25047936b31e2":[[594],[2]],
-"x1d63f58c90ff2b4b":[[262,2],[12,4]],
-"x81eb7188b6e9e54":[[3828],[6]],
-"x7a6eb56ad59f63c8":[[1763],[32]],
-"xdb272603609eb743":[[3169,3234],[7,4]],
-"x36b9a7150a5ac646":[[2355],[3]],
-"x383eaaf5e5cf221f":[[2720],[1]],
-"x44307357c68a71b4":[[2931],[3]],
-"xc6b14e1bd38ddc37":[[666,918,731,593],[1193,209,109,8]],
-"x2b8e8afc5cfb0e2":[[203],[5]],
-"x4409ee83614d3afd":[[1164],[5]],
-"x29579a2eba7db1dd":[[82],[7]],
-"x368a13835f60f388":[[202],[4]],
-"x808ae9139a18375f":[[3827],[3]],
-"xf4d3b3a3ce765571":[[3947],[5]],
-"x2069a0c30c2cf737":[[327],[3]],
-"x7e0abaa6a94bff23":[[262,731,82],[76,8,2]],
-"x5225222619d1177e":[[3298],[3]],
-"x1ef0fcee48c3f7e4":[[1731],[4]],
-"xb92154aa51cda91":[[3699],[8]],
-"x373c2ea5cf84d4e4":[[82,332,593],[18,6,5]],
-"xdf75a2d935c1beb8":[[219],[9]],
-"x2b2d2407005e0c00":[[731],[16]],
-"x4923ff9bdfe59375":[[2331,3389],[3,3]],
-"xac9622f2d97f250a":[[1618],[4]],
-"xfd0b45d9cb7ce31d":[[1318],[26]],
-"xec3e862a4b9914b1":[[2931],[3]],
-"xb325fbb582c20667":[[3956,3699],[2,2]],
-"x40ef06170cb395ed":[[796],[10]],
-"x2bcfc56ab791ba63":[[594],[4]],
-"xdbe0b24740857552":[[75],[6]],
-"x6920296e8e4665dc":[[1837],[4]],
-"xd5a932ce2b5ce290":[[2477],[9]],
-"x1ee1522bcada715d":[[3749],[4]],
-"xfb105b2a6b140ec":[[3374],[2]],
-"x53dbb30ae8feddb9":[[731],[2]],
-"xb1d96a95a9d3276a":[[716],[6]],
-"xf8c68938bb72b1a2":[[2349],[4]],
-"x157075aba2f7b309":[[3298],[4]],
-"x17a97e91e046a313":[[3298],[6]],
-"xc3ee0b3508e7891f":[[3956],[2]],
-"xee9795a62b1ba075":[[1683],[6]],
-"x18539a46e1684ddb":[[1958],[6]],
-"xc6cbae7fba907240":[[1763],[12]],
-"xcad211597e921b66":[[2715],[5]],
-"xaddaf4fc045ab98a":[[536],[11]],
-"xbf6104a5e23141a9":[[3763],[2]],
-"x6fad5ec06cc55cf9":[[3956],[4]],
-"x9f921e97a937387c":[[3112],[2]],
-"x8d2321febca27dba":[[2982],[5]],
-"x817f94cb89936243":[[1828],[1]],
-"x4192a2152d8e9880":[[2412],[4]],
-"x54e8df79765be2b3":[[2745,3502],[8,7]],
-"xf191023264ccd86d":[[1748],[3]],
-"x8109988bbacacfe2":[[1244],[7]],
-"xbec7a118ec2fe118":[[2786],[3]],
-"x71792d75350cf34e":[[1249],[3]],
-"x544c3c5c58506ac4":[[594],[21]],
-"x9498b0ac6086ae61":[[3307,3690],[87,61]],
-"x781eaec0d4a75d16":[[1633],[6]],
-"xc55f60a74e0bc34a":[[3706],[3]],
-"xe8a3fa02da00f6c1":[[2939],[3]],
-"xedaf579946ceeae5":[[3817],[5]],
-"x10de68bf55cf21d5":[[778],[2]],
-"xa56f411c5740490c":[[3641],[5]],
-"x25ad2b2654446c2f":[[8],[6]],
-"xaa58f9441dc3c8e8":[[2715],[6]],
-"x78bd3e26642247b9":[[213],[14]],
-"x82821e8064d712d5":[[4020],[3]],
-"xca6edf6f3e4b0928":[[528],[7]],
-"x27274a835dbb0a00":[[1375,918],[7,4]],
-"x9985e8f7112b2514":[[2266,3964,2852,3828,3177],[60,15,10,9,8]],
-"x978326ef07eb960d":[[3958],[1]],
-"xc67137d45208f71a":[[66],[3]],
-"xcea4a9ea18ed64f9":[[2723],[3]],
-"x735953bb690a1bd2":[[3690,3929],[39,9]],
-"xee9013ff200cb580":[[82],[23]],
-"xdfb70835a2c05698":[[1184],[1]],
-"x31c37b76cc2d1532":[[1652],[3]],
-"x2a0cceec44a29fb4":[[3690],[2]],
-"xe62baddb56b46f5":[[1812],[1]],
-"x7b57308afb34c20":[[1324],[3]],
-"x47e1e86b90e31ad7":[[3373,3429,3902,3307,3299],[20,15,5,2,1]],
-"x333d6fbd69bce06a":[[3763],[10]],
-"xf8f07faa9c0a63ba":[[3947],[2]],
-"x6ebb4c09d4e75ed2":[[405,731],[19,7]],
-"xcd782b423d8f3285":[[3902],[9]],
-"x4af24f3f62826d94":[[1236],[5]],
-"x9ee172da183415d4":[[2853],[11]],
-"x6a00c5742f4a80ee":[[2542],[2]],
-"x1e82e264acdd452f":[[1810],[3]],
-"xa839ad4129faf37c":[[75],[9]],
-"x64da613fe7dff0b8":[[2594],[6]],
-"x15d0f10b576e68ef":[[1356],[3]],
-"x4b27ca92b2417b9a":[[3298,3956],[6,1]],
-"x16dbb0d0763d1bec":[[722],[8]],
-"xf9f2e2ff97894571":[[2072],[3]],
-"x5e91b897ddadbc3":[[3808],[5]],
-"x349f0b74ceb3b9e9":[[2258],[25]],
-"xd83b42c5ecf34709":[[3958,3234],[34,4]],
-"xd34770c86bcaf7ef":[[2851],[4]],
-"x72f9055b194bfc35":[[3104,3567],[10,1]],
-"xcf3856f0ade40664":[[1438],[3]],
-"x959103e1937491d0":[[1090],[3]],
-"x70f7576a97f7b5a4":[[2463],[6]],
-"x7575f43c20e9c5e":[[1371],[9]],
-"xa5a99e59ff085700":[[3307,2851],[41,27]],
-"x4b8f43c6955d875c":[[339],[4]],
-"xfcfe076136273ca6":[[2203],[2]],
-"x8adc21510b3494d0":[[2463],[5]],
-"x915a1f339b90ea75":[[1163],[4]],
-"x8709e37463358029":[[1180],[111]],
-"xee9d5bd106c57f1c":[[2721],[6]],
-"x6986cda1b74da154":[[3373],[4]],
-"x3e9b40b448a3cd70":[[1707],[3]],
-"x92f78bff9d9b0a3e":[[2732],[6]],
-"x7f9aeb1284935008":[[129,926,991,1699],[10,8,6,1]],
-"xceb394633de5e037":[[3178],[4]],
-"xa59ac86b6c025df2":[[1098],[5]],
-"x51997d28549a76c6":[[3690],[3]],
-"x3aac6644771576ee":[[3309],[3]],
-"x8e5691bb10cb7104":[[3305],[3]],
-"xbbba47e8806c6323":[[157],[4]],
-"xa456b9d3cc0f1e4f":[[334],[4]],
-"xe5af14c062999500":[[339],[1]],
-"x5fd82c9f4d6f64a6":[[2348],[4]],
-"x2a244730f3c4b0ac":[[3307],[2]],
-"xa094693da96289c":[[332],[4]],
-"x1b7b11cb69a31feb":[[664],[3]],
-"x37e6bdacdea507df":[[82,1699],[15,3]],
-"x40111593ed8b8a22":[[3502,4013],[2,1]],
-"x68b1ce56442bd148":[[2200],[3]],
-"x515cc85312c9aae7":[[3372,3690,3364],[18,10,7]],
-"xdbf5a68e39566f01":[[1307],[3]],
-"xedec33ceb9f8282f":[[3429],[2]],
-"xc9371096996c279b":[[3257],[4]],
-"xf12464c4c32c846c":[[2030],[4]],
-"x21be91079db06be6":[[3761],[3]],
-"x9f0cb39ef25c0ef":[[262],[10]],
-"x72c18d792e657bae":[[1123],[6]],
-"x35ca6b8284081012":[[1941],[4]],
-"x9b13b966018f0aa2":[[1951],[6]],
-"x15ead1cc7bc0cb25":[[2989],[6]],
-"xf491ff07936db9f7":[[1112],[14]],
-"x5acbe2c915112c48":[[3641],[2]],
-"xef2079ba8a0daa85":[[4013],[3]],
-"xa26ce3e67edcea8d":[[332],[21]],
-"xa39c684a7e7ba6c7":[[3902],[13]],
-"x27e3d28dc2744298":[[968],[3]],
-"xf5587a87633b08f3":[[2853],[5]],
-"x6e43759e215b188f":[[148,202,324],[15,13,8]],
-"x1d786fdc095b20a5":[[3104],[5]],
-"x3c5f4d3dee9f4c8e":[[334,1112],[5,2]],
-"x62e55f50c453e2f9":[[658],[3]],
-"xfe6d6a128d6e7fa6":[[1049],[3]],
-"xd250d55aac489e6e":[[1487],[3]],
-"x26868226c23144c9":[[1371,346,658],[186,4,3]],
-"x6dd35f65567480ec":[[731],[4]],
-"x89d59fc611659e90":[[3688],[15]],
-"xbc5e8dee55a09d6b":[[4013],[4]],
-"x260b22f235d243d3":[[3437],[3]],
-"xe23c1834a611ff00":[[1308],[3]],
-"x290cd67a0b322b34":[[332],[4]],
-"xb4ec5987cd7fc7da":[[2673],[5]],
-"xec6ca2712cef295a":[[2484],[4]],
-"x5ce796795822626f":[[3828],[10]],
-"xaf9410aae807582a":[[3241],[3]],
-"x4cac14dda2d9d103":[[2767],[3]],
-"x900aa3954de8323e":[[1762],[5]],
-"xdbd15bd92bb66875":[[3502],[5]],
-"xf953764b053b640e":[[3299],[14]],
-"xdea786ee8987853b":[[1180],[2]],
-"x5fc8edc410064de7":[[157],[3]],
-"xfe139caafc56013d":[[2931],[5]],
-"x65df63c4529fc723":[[788],[7]],
-"x3ac85c7131f52167":[[593],[9]],
-"x3bbadc5be94baa8d":[[80],[23]],
-"x8773205dbfadad01":[[4031],[9]],
-"x70afb5028e870ae8":[[204],[4]],
-"xef15fc388145b17e":[[3242],[5]],
-"x99f7b6ceb089ac8":[[3690],[3]],
-"x75f258219b2bc22":[[1169],[3]],
-"xd8f51028b3fe0ee1":[[3929],[10]],
-"xe4bf17adaad1e946":[[2715],[3]],
-"xdc41cbf6b970ee47":[[3958],[10]],
-"x74995947daae7e8f":[[3104,3902],[8,6]],
-"x537bf42b2016d91a":[[1698],[6]],
-"xf538d270f26c2ff4":[[405],[6]],
-"x1d4c46f4baa599f":[[16],[3]],
-"x40e8bea7565ea475":[[3258],[5]],
-"x878af4f5f95451ac":[[82],[3]],
-"x5a0e25935c3f5c4e":[[3234],[5]],
-"x91e102f4ddfa6b28":[[658],[5]],
-"x10487f712e80db09":[[3112],[3]],
-"x61cfb17d70a5a916":[[3688],[6]],
-"xb8bfb8e2afbc809f":[[262],[6]],
-"xe317ea966e530408":[[1745],[4]],
-"x3cb79c9f78711477":[[2915,2851],[10,5]],
-"x24239eff3a65e4fa":[[593,731,324],[5,4,2]],
-"x2e6e2177b8d03355":[[2289],[2]],
-"x57881034010e2766":[[3299],[7]],
-"x3d93395490581ac4":[[389],[4]],
-"xe3febf8408771fbb":[[202],[6]],
-"x4c06de23b64c68b":[[2724],[4]],
-"x74d963a70d6331b2":[[1958],[6]],
-"x733f9dade1cd9671":[[3949],[3]],
-"xece365ef3dd3b5d4":[[4031],[4]],
-"xe99e33bfa647c9b1":[[1699],[11]],
-"x97cde4e8ba697dba":[[139],[8]],
-"xfc1fa8a2ddd0977d":[[2],[2]],
-"xf6e6e137b228f1cd":[[3902],[8]],
-"xb37ce1200d69b477":[[2740],[8]],
-"xacf99951555ebf85":[[983],[1]],
-"xee8a85a443065287":[[213],[24]],
-"x3858148d1504f5ed":[[3372],[5]],
-"x76d75a9003af6bec":[[2788],[3]],
-"x75813f744d1c0adc":[[334],[3]],
-"x3ef9e5936c56f95":[[836],[6]],
-"xcd9edaf3fe1be4b4":[[3372],[3]],
-"xdcdb85d8ba4adeff":[[925],[6]],
-"x54ea029079a5f591":[[3756],[2]],
-"x966e4f5e050c7fd7":[[2851],[11]],
-"xf5450f122d08609c":[[3761],[1]],
-"xd6b140a4fc712efc":[[1681,1676],[20,5]],
-"x1914c9a3d51979f9":[[258],[6]],
-"xca0c5e23fce70959":[[1359],[3]],
-"xeae667af080ac38d":[[3567],[5]],
-"x425d94643aff6def":[[1355],[6]],
-"x9ebdeb4f29238b58":[[324],[2]],
-"x9ea9ed95e07df645":[[2723],[18]],
-"xc859d155776fe73e":[[391],[3]],
-"x25f76affa5898fe6":[[861],[8]],
-"xfea581ea182fc4d2":[[3501],[8]],
-"x7336e5222a004fef":[[259],[10]],
-"xaea8b28e9a4c2417":[[2217],[8]],
-"x8d2e9027bbb07084":[[3898],[5]],
-"xf0c3126db862e8cb":[[2910],[10]],
-"x13f157a2fb0f565a":[[2723],[4]],
-"xfdfbd76a2468fcee":[[3819],[17]],
-"x95b8f62903513316":[[787],[3]],
-"x9c8c25b57bd29a41":[[3962],[5]],
-"x3a582eea63f27b40":[[3837],[3]],
-"xdf2d62cd18fe363c":[[1348,139],[6,3]],
-"xef4a9e4df3b16e10":[[262],[21]],
-"x379a0bc30f211274":[[3567],[8]],
-"xf0b4572c94ff3444":[[2592],[3]],
-"xfe5d9bfd2b1ed63a":[[3690],[5]],
-"x35df7607c3534b73":[[3164],[6]],
-"x5c393a5c8b8770b4":[[2203],[4]],
-"xd67198b480e3c015":[[405],[6]],
-"x4eeda6a6cb0cd9e6":[[666],[22]],
-"x6e2dbd75d04c4cbb":[[788],[2]],
-"xf86d82d405552ea0":[[3242],[11]],
-"x27c3705280cb4361":[[731],[24]],
-"xda22ee07030f5a72":[[1893],[3]],
-"xa603dd20c8b71ff4":[[73],[6]],
-"xd8d3a49fcd24101b":[[2036],[5]],
-"x73aa110147d1865":[[3300],[3]],
-"x3b71a6fe0c2df5b8":[[666,1762],[15,3]],
-"xd8c06a5c1e61e0dc":[[2787],[4]],
-"x10fbea62b3739137":[[3761],[5]],
-"x85eb6320635ea2f8":[[1892],[6]],
-"x7a684001253d7487":[[139],[4]],
-"x864d2336cee774dc":[[1762],[3]],
-"xc6a8fb8de9e14639":[[3177],[2]],
-"x1053358f813569ba":[[3502],[3]],
-"x2ef4b7ebd4669b25":[[3],[3]],
-"x41cb9d1469230d1d":[[137],[3]],
-"x6ea36db9a5263d2c":[[139],[4]],
-"xf520608317809d72":[[139],[4]],
-"x22f7869642e9547b":[[3381],[5]],
-"xd579a8a9bb57ff0d":[[204],[9]],
-"x6c2fa829e1aaa6e":[[593],[3]],
-"xea57f55a335a040f":[[3502,3299,3177,3169,3234,3372],[67,57,36,9,4,1]],
-"x15caddcf5ffe709d":[[3964,3763],[104,6]],
-"x11ee0d64cef08a34":[[334],[18]],
-"x15245941dd5b642e":[[731,723],[7,3]],
-"xca3ef69f53fd382f":[[3958],[5]],
-"x5624dec65e45ea08":[[346],[50]],
-"x54ec7adf5be21402":[[1048],[3]],
-"x9a09927b2c2b585f":[[668],[3]],
-"x112d0f4c12e768cd":[[2,202],[25,7]],
-"x877dcc0b586caa52":[[1770],[14]],
-"xa77303e525273db6":[[3964],[6]],
-"xa8645ad66b0d9e42":[[2908],[5]],
-"xa96767f02e014a59":[[2258],[3]],
-"xdacdf433e2639250":[[3242,3372,3502,3749,3234,3742],[57,15,13,7,5,5]],
-"x9e102e0e86d9de15":[[339],[5]],
-"xaba1a5923bb6117a":[[3502,3956,3699],[21,20,4]],
-"x65b03c1b999a86c1":[[3300],[4]],
-"x349ed50f7674ac3d":[[3941],[6]],
-"xf13c3067a54cae7e":[[1306],[3]],
-"x64be842a37876cf0":[[1371],[4]],
-"x7846edf67adb4da1":[[346,1828],[70,20]],
-"xc51ef1bec2ff3dac":[[157,405],[62,42]],
-"x63b3bcbe618f413c":[[1828],[4]],
-"x2d3aaaf96a046979":[[1114],[6]],
-"x80df402367e4682f":[[3688],[5]],
-"x17e0dff937de0076":[[731],[4]],
-"x980c6c5b8789b585":[[2908],[2]],
-"xc3d21ab9d385b305":[[2203],[25]],
-"x610e4d253f140691":[[3112],[3]],
-"x6f74dc8bf3210355":[[292],[6]],
-"xfcb5d39d2b5419":[[853],[6]],
-"x98d15d931d5f9f1":[[2931],[1]],
-"x82c3aa334c4f2259":[[213,339,332],[18,7,6]],
-"xc14066a08ab88a10":[[82],[4]],
-"xcb2762a562aae5c7":[[2203],[7]],
-"x778d8f09ff176622":[[2908],[5]],
-"x9f33573d6a7dfa5c":[[339],[3]],
-"xc7d9d2cae14505b8":[[2617],[3]],
-"xcb70a1c2a5a5b8d3":[[222,262,666],[6,4,2]],
-"x7e0dc545823aa1d":[[1180],[3]],
-"x39b515e781a130e2":[[731],[9]],
-"xbd5561694e9fe845":[[3690],[3]],
-"xcb1d8facbf591c66":[[3699],[1]],
-"x9304c87767862490":[[405],[2]],
-"x59ecfad86a2f2022":[[2203],[8]],
-"x3f4a2a863549d34e":[[2],[5]],
-"x81615fb63d557c21":[[1763],[4]],
-"x5f0c7cadf4b83550":[[157],[4]],
-"xda93b3c244ac3960":[[3104],[10]],
-"xc5fbfd4c37b9f459":[[75,593,1676,528],[20,15,5,5]],
-"xcfa22c4fd44ab9f3":[[2484],[16]],
-"x7f291847a087f2c6":[[3828],[4]],
-"x657c4a078b2c94a9":[[148,1681],[23,15]],
-"xcdf73f46fddc8ee4":[[405],[5]],
-"x15b0dc90532a0d9d":[[593],[2]],
-"xda5de10a50169d3b":[[148,1681],[2,1]],
-"x5b7df19554c1d478":[[3929],[4]],
-"xf9da619a7e91cd7f":[[1179],[6]],
-"x737fdd426ba42894":[[1875],[6]],
-"x88d4f1893ae56d19":[[2852],[3]],
-"xc915563f5bac7ebc":[[3307],[2]],
-"x89833b14c04219db":[[3902],[3]],
-"x1bd786efa3f4bfa3":[[2463],[3]],
-"xe5c0fc0d3eec7827":[[3],[3]],
-"xc50cb8b1b9ab5d45":[[3169],[56]],
-"x2443cd371d40321c":[[594],[5]],
-"x4585a1e1837c1ef4":[[528],[5]],
-"xd1301fb44f64f381":[[1699],[8]],
-"x19f4c0485bc4a111":[[666],[3]],
-"x69d1b9938b763e20":[[788],[3]],
-"x10c9b80f57a7d5cc":[[2931],[2]],
-"x4d5774db19058a8c":[[2414,3699],[8,7]],
-"x58085ab7f222dacd":[[3501],[3]],
-"x2df0b2ab32756bed":[[3761],[3]],
-"x8a7f1f1f408892d8":[[659],[3]],
-"x3e1d61235a524d0f":[[594],[4]],
-"x6df89ad457ec0ad":[[3902],[4]],
-"x2e7d03da2fa32ba5":[[2266,3826,3177],[22,22,4]],
-"xabb4bf1473607331":[[2852],[3]],
-"x75ea8c011283420":[[203,202,211],[15,8,6]],
-"xf82c696a978669b9":[[3752],[9]],
-"x4e565afb079bac37":[[3771],[4]],
-"x35e0f80095537894":[[3308],[3]],
-"x9d755cb708729bff":[[3902],[9]],
-"x7d38c46d9eac0342":[[83],[4]],
-"x97196d1643ce5483":[[3307],[2]],
-"xdb216a684541afb7":[[2282],[13]],
-"x2c26dd552047a901":[[723],[3]],
-"x7106382dca3ebf57":[[1097],[6]],
-"x7b623c03b909ce69":[[75],[6]],
-"xcc530f2dd4c5b00e":[[3177],[6]],
-"x1fe926aa0b7b155b":[[1893],[3]],
-"xdcc93b5a77116d65":[[853],[3]],
-"x2b8817b3afd6f740":[[1380],[5]],
-"xf939dd387b435779":[[211],[5]],
-"xd69694b52faa37b9":[[1568],[3]],
-"x5154cb33158d8239":[[3169],[12]],
-"x98858b4776f513bb":[[82],[2]],
-"xe0ea10efb925d267":[[991],[4]],
-"xbc1f1c2bd6cd238":[[3958],[3]],
-"x6bec0b9560d2405e":[[3699],[11]],
-"xca7226faf318b4b":[[4094],[6]],
-"xbd1450844fed999a":[[2203],[2]],
-"x62cdc5b55e6a686e":[[2659],[3]],
-"x287675cb28b7906":[[593],[8]],
-"x9a867271e683ff3d":[[983],[4]],
-"xd52a78e56aa5999":[[1382],[6]],
-"xe02a2ddc85d13016":[[1829],[5]],
-"x6f8762c09242eaa2":[[3742],[5]],
-"x56eae953cda3b11a":[[2932],[4]],
-"x10cb338d57117f97":[[204],[13]],
-"x39666d37d6c8b109":[[1837],[3]],
-"x84567a863f1f639":[[2908],[3]],
-"xffbc841474e938e8":[[1957],[6]],
-"x4e29d70a2fa9fd3":[[3299],[2]],
-"xe0dc7be9db4cbb05":[[2908],[3]],
-"x695fee7f46ed1c0d":[[1618],[3]],
-"x2e7cc6fc3886879e":[[2910],[3]],
-"xd3b998f5fb9a0e4":[[2284],[1]],
-"xe160cae07714363":[[2924],[4]],
-"xa3f699b89a4055a7":[[3178],[5]],
-"xaf3c96043eceaf8c":[[1740,1745],[18,5]],
-"x34d5f904c4d8bde7":[[81],[4]],
-"xd4bf567fba70d355":[[2915],[3]],
-"xa3123d6754560f48":[[262],[5]],
-"x733a2e416584aeaf":[[853],[4]],
-"x93f4e47908b25cda":[[2],[4]],
-"xf1e481d0a1e7564":[[983],[2]],
-"x66ef01f49c360f78":[[4020],[5]],
-"xc7f067398d273d15":[[3828],[5]],
-"x1bfa1dbcb8715101":[[3567],[2]],
-"x202cd1dcc52c107b":[[983],[5]],
-"x7bd476a18a44ce41":[[82],[5]],
-"xeb6a5af61d0f2d52":[[2715,3929],[55,30]],
-"xea94bf31da8e791e":[[3808],[7]],
-"x7c35c5db18882e20":[[4013],[2]],
-"x7c28b7a812ba5b19":[[1823],[6]],
-"x215851b8d7cabf2e":[[725],[9]],
-"xaf37786bb8bef472":[[3307,2203,3817],[8,5,3]],
-"x60f21ef0b9d26f11":[[3902],[2]],
-"x663babb5f2d17979":[[2139],[9]],
-"xbe982e680cab9535":[[1064],[6]],
-"xa2c2b51d01505185":[[3803],[3]],
-"x5527c987716fd509":[[1764],[8]],
-"x41d66a12ba499365":[[1232],[3]],
-"x50443dd7d8d9acc3":[[2072],[2]],
-"xaf6dc70b45cd64":[[3962],[4]],
-"xbdd78442778e01b":[[2593],[5]],
-"xfd3d3e22d5805d6d":[[323,925],[3,3]],
-"xb3003a2db34f3be8":[[3502],[5]],
-"xfad3c64a5cfba120":[[139,1810],[15,4]],
-"xc0e5451487b68bb0":[[3363],[3]],
-"xb83cb1270427345d":[[266],[3]],
-"xbe091857d87ddd1f":[[2266,3690],[7,1]],
-"xe8a10e375c699822":[[1941],[2]],
-"x63b9e0735b4276ae":[[3177],[3]],
-"x48eaba9c62a355d0":[[1114],[4]],
-"x2572494361675058":[[1501],[5]],
-"x2e5a05416c20565f":[[3047],[3]],
-"xe33d195b51005000":[[2565],[3]],
-"xb073518d3c876bf":[[770],[4]],
-"xad9970cb52c3134d":[[3763],[5]],
-"x7d958e327d8d5817":[[353],[2]],
-"x6b035fc33fa63999":[[666,324],[87,12]],
-"xf989eab193746ce9":[[1226],[5]],
-"x3f4107cbb800140c":[[1699],[3]],
-"x42f7577ff64b65b9":[[547],[5]],
-"xee6186d7b0cdcb04":[[796],[5]],
-"x3d4c53ac58b5fe8":[[396],[5]],
-"x4f58fc0d44d0b117":[[4013,3307],[11,6]],
-"xd2a33aead9b69b88":[[1770],[25]],
-"x14763b6f16d183f":[[1371],[5]],
-"x5b7d16e3b9c77431":[[1959],[3]],
-"xfdadef1c18e42891":[[3364],[3]],
-"xe6d2d986dcc41b9":[[2258,2281],[4,4]],
-"x5e4d3f8b9dcf94e3":[[3242],[2]],
-"xbbca6564cd4a0ba":[[2656],[3]],
-"xc99e86326fbf6abb":[[3690],[14]],
-"xde844662a5635f55":[[931],[3]],
-"xb335a94c71787691":[[918],[10]],
-"x332d3471a4cc7b56":[[3699,3956],[14,4]],
-"xebd6a805e3f069e7":[[148],[5]],
-"xd1178442c5228110":[[3902],[3]],
-"x5fc0a9065c172b73":[[4013],[2]],
-"xcfaeb0581546ecca":[[3305],[2]],
-"x9581fc6b6445a684":[[258],[3]],
-"x2461ee65bf18d2d2":[[391,196],[68,7]],
-"xa326165df6886d2":[[353],[4]],
-"x58f829efb6fd0711":[[3567,3956],[38,18]],
-"x735e2ee98092cc65":[[2915],[5]],
-"x970a3961ff7b4373":[[2072],[8]],
-"x3cb0172469930326":[[3364],[3]],
-"xe3352aa01b5ad99":[[202,918,209,788,731,926],[89,39,25,6,4,3]],
-"x24c5235d155ddbfe":[[3169],[11]],
-"xc4d48b5d6568fbb1":[[2942],[6]],
-"xc24bde7f09a5eaa3":[[346],[6]],
-"x5b7ca54002110e1b":[[1348],[6]],
-"xb09c05cde14d357":[[781],[3]],
-"x2e29d5097bcd3dab":[[788,405],[9,2]],
-"xf654c6ea06402aae":[[3372],[5]],
-"x4f56e0359a441200":[[1878],[3]],
-"x85d5e2b5ca894d28":[[2915],[28]],
-"x6b08a4e8ae9e00df":[[3938,3307],[3,1]],
-"x9eff31cb20103835":[[324],[3]],
-"x3ff2f1aa61239319":[[2224,2219],[6,2]],
-"xdaf9c9734f103e02":[[853,708],[18,3]],
-"xbb6ecff2320a257b":[[2908],[3]],
-"x117bbfccdb1a75ba":[[3104],[16]],
-"xec0c0fd691d7c0c8":[[1745],[27]],
-"x883dbb423ecec2f8":[[2788],[6]],
-"x149f8b6275072e21":[[2331],[2]],
-"xf037f660b368abb2":[[3364,3294],[2,2]],
-"x3608aa1f054958ee":[[796],[4]],
-"x755cca1cc99e65a0":[[262,658],[6,6]],
-"xbf6d904d2167265d":[[2851],[3]],
-"xc482205d53378a55":[[204],[4]],
-"x21f52c3dc79268a2":[[1828],[13]],
-"x9b0e2205305dd79a":[[3234],[2]],
-"x6d93c5626d9c4e13":[[2],[3]],
-"x47aa4721d5f947":[[3298],[3]],
-"xc28ce825a1cb2aaf":[[139,82],[3,3]],
-"xdf910dbd7b54967":[[1740,148],[6,3]],
-"xe032d25206a13ad6":[[3958],[4]],
-"x9e2154d673aefba1":[[3372,4013],[23,1]],
-"xa74b3cb886bcfbff":[[3808,4013,3929],[15,12,5]],
-"x4f271c97e0fe1f6f":[[3299],[3]],
-"x4bc621e95d0a687c":[[3169],[18]],
-"xfd77ac1e8f1ed86f":[[257],[5]],
-"x34b36cd24566911f":[[982],[2]],
-"xefddbc97779e6c79":[[3963],[32]],
-"x2b556b6c0bcc8550":[[2720],[2]],
-"xf289126f90ebd93d":[[3828],[3]],
-"x33621735dd058c1":[[3902],[17]],
-"x2b472e28f242411a":[[1763],[5]],
-"x89dbb171d5a222aa":[[1565],[6]],
-"x75a774aae6a6bf73":[[3902],[7]],
-"x9dc20355558c4edf":[[262],[3]],
-"xe7e113f06155a8a7":[[3902],[3]],
-"x37c1dc5a553dce3f":[[593],[3]],
-"xfb85639d7bdbc5d8":[[2745,2740],[4,2]],
-"x5794bd5eeddee2f3":[[2999],[75]],
-"x8ac3f4859f40e1fd":[[528],[33]],
-"x89d1f2d1af83544a":[[3232],[1]],
-"x22c1e60932ee39dc":[[3902],[4]],
-"xd045dfa5b3803357":[[334],[6]],
-"x64e47c9c7e41b5d1":[[1828],[4]],
-"x7ba4fd764e7990fe":[[1308],[6]],
-"xd6ffd77a02e3c0ae":[[262],[5]],
-"xe0b79e47eaa442ae":[[137],[6]],
-"xf484ae870f91e681":[[203],[8]],
-"x74b48da991e6c3c4":[[219],[4]],
-"x714f49eaa95833f4":[[1371],[4]],
-"x64e6c8dae4f2183":[[658],[4]],
-"x18503f4acaec0609":[[2282],[3]],
-"x5ff0421ce6c9f09a":[[1633],[6]],
-"xa7a214d5db715398":[[360],[3]],
-"x49b703576fae854e":[[3502],[5]],
-"x5ff3695a559ae384":[[2915],[1]],
-"x99e55fa83c690d45":[[2203],[3]],
-"x3bf92dda69a9935b":[[3177],[5]],
-"x706e63bd30a2104c":[[3902],[10]],
-"x927b5f8fa9195e4b":[[861,853],[9,6]],
-"x524c11fae006ce14":[[4013],[1]],
-"xa079cf1fb5bb4421":[[1618],[6]],
-"x410694448ee615e5":[[262],[3]],
-"xb569c128d1383a03":[[3902],[5]],
-"xb409f920c933e6f6":[[528],[9]],
-"xe33e33a5752bc7eb":[[1762],[23]],
-"xb764e55ddf75532e":[[1487],[3]],
-"xbb636036744d962e":[[339],[4]],
-"x4b268a887d6aef92":[[1317],[3]],
-"xc7130d30b97baa21":[[3956],[3]],
-"xa6585b864ae3cdf8":[[3028],[2]],
-"x29b1b1f10d281f24":[[3641,3157],[3,2]],
-"x6784805b36d37710":[[139],[6]],
-"x53a49b9aa4b66ab3":[[853],[1]],
-"xb018a0b93d68622e":[[1611],[21]],
-"x3680fa26a970028a":[[339,209,353,1380],[49,14,5,4]],
-"xa60ceabc5d61d26b":[[1552],[5]],
-"x9407357d4b79a84":[[3890],[3]],
-"xb70d0d3d328c6be":[[463],[8]],
-"xd0ae5e231b5737a6":[[3362],[3]],
-"x9fd966130e55424e":[[3763],[10]],
-"x2d79c27ca2c8b656":[[2601],[6]],
-"x7213cf923b213e35":[[2915,2851],[7,2]],
-"xa3e2b0914fb422af":[[2136],[7]],
-"xebfd7fe02f9e73c0":[[166],[5]],
-"xa2386b77f26bc068":[[536],[2]],
-"x34bfdafbccbdf812":[[2219],[32]],
-"x1596c3f47f47d07c":[[3559],[4]],
-"x1104e063b1834f56":[[3112,4013],[65,6]],
-"xd359c198ffe4e54f":[[1451],[6]],
-"x24f05fb6cf565da1":[[209],[1]],
-"x625a6082f955d915":[[3150],[6]],
-"xdd2de10a1650ccfb":[[1382],[3]],
-"xeecd2c36fa152a16":[[3761],[1]],
-"xe24ce3df42e92c3a":[[3963],[2]],
-"x900d4324032bb7c4":[[3373],[4]],
-"x69bbb78dcb626475":[[796],[4]],
-"x1ebd0ed5211dec49":[[3005],[4]],
-"xe0a147e0f2cf2626":[[2266],[4]],
-"x956e8c2d1ccd9d57":[[2203],[2]],
-"x638d5b8490f0c0f9":[[2387],[45]],
-"xa0c10af30646c585":[[723],[12]],
-"x131daeac51a559c5":[[346],[6]],
-"xe3da1a1d41674ead":[[3699],[1]],
-"x90d9a337d853b75b":[[658],[15]],
-"xa4824f6dbfb2e2ed":[[1161],[6]],
-"xbec7a95f09fdceb3":[[73],[6]],
-"x6117cd81a6a76238":[[40],[4]],
-"x191c3f1740ff6906":[[3828,1611,3104,3234],[64,38,30,26]],
-"xdcc8a9ed3f147d5d":[[2851],[5]],
-"xd89a55ab2c9142e":[[405],[3]],
-"x3b22284fe266d931":[[1745],[2]],
-"xfe894ee548871143":[[1634],[2]],
-"x90a3cee0ea796397":[[2138],[2]],
-"xe42d4b9209ad04ec":[[1762,82],[8,4]],
-"x14c7b7f06673a36a":[[332],[4]],
-"x8bcc61c57244e4c0":[[1829],[7]],
-"xd9b59b195f932c6f":[[3170],[3]],
-"x5aec6d5982863922":[[1858],[5]],
-"xafeec8e6fb4abb46":[[262],[4]],
-"xfdb986de11adbee8":[[2285],[6]],
-"x824d8fb5d6e16419":[[918,731,405],[18,9,4]],
-"xc3723a5c5a3682be":[[262],[3]],
-"xc68539bde5d7ce09":[[2720],[4]],
-"x16d18c3d42928b7":[[677],[3]],
-"xd21d19df7ee57ede":[[2851],[1]],
-"xd383846276341f5c":[[3761],[57]],
-"x65f015fcd50b952a":[[139],[3]],
-"x221f38e23580fb9f":[[3902],[6]],
-"x8b6a5ae449d670f9":[[1228],[5]],
-"x401fe12ce716c5a6":[[2709],[4]],
-"x111ef0c4249cd3f3":[[262],[6]],
-"xa9cb45f9731d880b":[[3902],[6]],
-"xd7013cc20efb53ec":[[1633],[4]],
-"x70a4eafcd774e3da":[[2721],[5]],
-"xcb456dc59616179b":[[3947],[2]],
-"x3e8dea2832f604dc":[[75],[3]],
-"x29a6a7dacc6817c5":[[1699],[4]],
-"x1ba777a3a04c64cf":[[3300],[4]],
-"xb7d198589a12b702":[[3436],[2]],
-"x31a982a17686f7e":[[658],[6]],
-"x37abe81a70acc215":[[148,405],[14,11]],
-"xfe6ccb0ce6e0ee84":[[3112,4020],[10,4]],
-"x4872d41bc6811a5b":[[3364],[5]],
-"x5d8d587bceb46f44":[[3300],[3]],
-"x2b89627e307c14df":[[3502],[3]],
-"x9f77b8b655dc4806":[[593],[1]],
-"xa714e6b5a79a779f":[[3699],[1]],
-"xf1248770bf1cb953":[[3699],[4]],
-"x41c6f33907a67b45":[[3642],[6]],
-"xbc51dd34e55530f3":[[2072],[6]],
-"x190fcb8f550a770c":[[1827,1699],[62,21]],
-"x549a04abc831ce3a":[[3826],[5]],
-"x77d28087edb8921":[[3372],[8]],
-"x4b1aab54a9cfe551":[[346],[4]],
-"xab8336d407d9394c":[[2292],[4]],
-"x5314223f5ac8ab75":[[3902],[2]],
-"xf76f276365415a1d":[[3902],[3]],
-"x235d4de23d1f7f7e":[[1764],[7]],
-"x1aa4c0d5a9ec2836":[[1763,709],[10,3]],
-"xda2c510a9bea8d35":[[1308],[11]],
-"x6c4766f671e5a716":[[3808],[2]],
-"xdb7b1659442ab20f":[[1762],[12]],
-"xd9afcf359e0ce731":[[1681],[6]],
-"x2992044449889e85":[[3502],[3]],
-"x4ff7d45850c8d9d7":[[137,405],[13,6]],
-"x8bc304ba1d719d0":[[1570],[3]],
-"x71fb67b33815e5e5":[[3958],[8]],
-"xd13feb76dd168db0":[[789],[5]],
-"x6b509d2553e461d9":[[3958],[50]],
-"xa55a0f2171fccabe":[[1307],[4]],
-"xe0d90d1afa17a3fb":[[1676],[4]],
-"x2110a15e40bf1924":[[657],[3]],
-"x9b0267bfa540712d":[[3821],[23]],
-"x45b3ec5330a7c6d8":[[594],[6]],
-"x4405b54e395b2cf4":[[1306],[6]],
-"x51ff0b68bb73e0fa":[[1763],[10]],
-"xcca151b2aef940ec":[[2851],[1]],
-"x72c9914b4603b758":[[405,166],[91,68]],
-"xd91c5b82dcf61d73":[[3307],[17]],
-"x965ce44c28727d1c":[[4013],[4]],
-"x72d79ade745f0128":[[262],[4]],
-"xdcc2d1356e1f5df3":[[1618],[4]],
-"xa670bf043f72e09a":[[1957],[1]],
-"xc3383b4beef0b9a8":[[2267],[11]],
-"x650f72c682ff75f9":[[3169,3956,3938],[14,7,3]],
-"xf373127bc04a9143":[[2723],[5]],
-"x2e3a931797658164":[[262],[3]],
-"x151c8223a88da7a2":[[261],[4]],
-"xab5fb1156fdd6c07":[[1120],[3]],
-"x641b667607aa2f2f":[[1570],[3]],
-"x5ce0ec86d3ae98d8":[[82,731,918,788],[78,47,7,6]],
-"xc6fb6c517d1706b6":[[1828],[42]],
-"xe7ec4b2c991e7830":[[3177],[8]],
-"xaa02b449816b0b1e":[[658,991],[7,3]],
-"xd8760c63e85ac301":[[2931],[4]],
-"x3389c3398ae6b4fa":[[2006],[4]],
-"xb0c3ffb8cca498f7":[[3359],[2]],
-"x880aacaec749c70c":[[3299],[4]],
-"x60ebaf486dff427":[[139],[99]],
-"x9b236c61b1ce870f":[[2724],[7]],
-"x91f603bdcc1732ee":[[2463],[3]],
-"xa45b04e90f0dafbc":[[2915],[1]],
-"x7713f1fc4db1642d":[[4013],[14]],
-"x5a1d14246e38101f":[[1098],[3]],
-"xa3acb1cd929401ed":[[3112],[3]],
-"xf0ea0c42959667f0":[[918],[5]],
-"x8a1154dd844f836e":[[852],[1]],
-"xa40cd082c0a774df":[[3308],[6]],
-"xf47f09e3cdeab0a5":[[1761],[6]],
-"x5294e226bb2c1073":[[2],[11]],
-"xb4f7ee5f7d4d1e2a":[[2720],[6]],
-"x33f18aedffd5f041":[[1],[6]],
-"x5ad360cb19cf87ac":[[148],[3]],
-"xd151bccb0aa368eb":[[137],[2]],
-"x78aaf076e4d90778":[[1699,593,1380],[7,4,3]],
-"x68f61f72bbee3699":[[3828],[13]],
-"xa87ab65442ba07ce":[[1187],[9]],
-"xd883ffed3953ddac":[[2203],[10]],
-"xc1b0f715fa141b3c":[[3690],[2]],
-"x88c3489f737ed40e":[[332],[10]],
-"x64b1df669824ed72":[[536],[4]],
-"x5c8bdc40b5f7e470":[[1307],[3]],
-"x2095a4e8b33bc2f3":[[405],[6]],
-"xd6615eb9c8ef3e0f":[[1380],[2]],
-"x946fc991282c9e":[[2723],[2]],
-"x665e8aea9cdae8e5":[[1997],[14]],
-"x49e5c2024eeb2837":[[801],[3]],
-"x49c367c2e7b5d9e5":[[1699,731],[4,4]],
-"xe45b0a1b14bf03f8":[[593],[4]],
-"x66174fe8a9827fe":[[2203],[9]],
-"xb5fb8db0afa054b4":[[2723],[4]],
-"xc0029593e857a8a0":[[1828],[4]],
-"x8ab683db52919e68":[[82,731],[15,14]],
-"xb19a24be1a24d704":[[1373],[5]],
-"xb2a3166b7bd8731b":[[1892],[32]],
-"xaf3e6a04ec453f75":[[853],[5]],
-"xf863cb932448425b":[[3902],[4]],
-"x65fdb99a1a77e932":[[3501],[8]],
-"xe103a6ff18637bf3":[[2331],[1]],
-"xf8de8cb363400fed":[[771],[3]],
-"x9fe0f04acb2da6e":[[3373],[5]],
-"x575e9cd4137226a":[[2802],[5]],
-"x921f9fbb1f73a88b":[[75],[4]],
-"x8d5c2d1602aff042":[[2722],[4]],
-"xe62b380f37aeddce":[[2851],[4]],
-"xc766bdab2952e01d":[[2268],[5]],
-"x586867969c9b423e":[[3366,4013],[13,7]],
-"x2f41ecf98450b09b":[[3642],[3]],
-"xb1b599cd2e5540f9":[[3567,2983,3964],[21,9,3]],
-"xb5a86555060d8a16":[[2885],[5]],
-"x68ce7201fe999de":[[202,788,139,216],[85,37,24,7]],
-"xbed8faaa1b211da3":[[75],[3]],
-"xc1ba80f1eefefd64":[[2072],[3]],
-"x419f2753148087d9":[[3642],[5]],
-"x2256a1c74067f3e5":[[2330],[5]],
-"xac2d3e8594ab82fb":[[3234,2136],[21,7]],
-"x75e29e0c566b61e6":[[1382],[1]],
-"x8b2c7473edbb42d5":[[2786],[48]],
-"x7c45c50457228b09":[[2593],[2]],
-"x79f28fd6a715775d":[[324],[3]],
-"xeda4d34b26f47d3a":[[3699,2266],[11,10]],
-"x1e363cceb9e7850":[[2565],[18]],
-"x7a690588c99c44f9":[[75],[3]],
-"xf81d486c0f5b59a4":[[3902],[1]],
-"xd7fbeae4d4c525a0":[[222],[6]],
-"xd45ebe856cc20f33":[[3242,3104],[5,2]],
-"x4ede804fd661661f":[[2330],[10]],
-"xe76b8e9a541b98ee":[[2852],[5]],
-"x8f891be411c231fd":[[536],[2]],
-"xbc3abb240219e664":[[1823],[5]],
-"xe0717d2dbba515cc":[[1745],[2]],
-"xb3d4a3e2b84cc8e4":[[2201],[14]],
-"x685d9e5129f46b79":[[3690],[3]],
-"x7fddaaed90b1d125":[[1683],[32]],
-"x8f49fac764eee9fd":[[262],[4]],
-"xc4fcfb21af29b684":[[3372],[3]],
-"x4f233252c23775df":[[1393],[4]],
-"x24da7de6c3b795a7":[[332],[10]],
-"x8e78e8bf6bf937ba":[[3113],[4]],
-"xa5313f9c86b05819":[[3892],[3]],
-"xcbc8b0bec03ff1a8":[[3502,3307],[8,3]],
-"x1bfefb301e14be86":[[3902],[2]],
-"x9e824e3295fae60f":[[2463],[5]],
-"x8b6756dde00aeef6":[[3234,3242],[5,2]],
-"xbae631ac9af74d6a":[[405,796],[6,6]],
-"x941635dee334943":[[2463],[6]],
-"xce900f02ff8adcf5":[[3169,3234],[6,5]],
-"x32cbf6bf37ad6f03":[[3964],[3]],
-"xb5a8a8a569a14118":[[1179],[10]],
-"x94931e33fcd204fe":[[1114],[9]],
-"xabf2cb1f61214809":[[788],[4]],
-"x17c7be0fbc46c996":[[202],[8]],
-"x96b17073059c2bb9":[[594],[10]],
-"xa9fa2a43148062a1":[[3827,3956],[2,1]],
-"xda39b0638bcc2da3":[[658],[28]],
-"x164f32bc9d3ca730":[[2804],[4]],
-"x38ec7b8bc53d98c9":[[4013],[60]],
-"xd375d4c0fe799cba":[[3567],[8]],
-"x52a950ab4f988c67":[[2908,3298],[3,3]],
-"x2eba8f079156a757":[[991],[5]],
-"xd66d70cd6d324078":[[262],[10]],
-"x10ae501dfa632790":[[3902],[6]],
-"x8059631187aaaf06":[[157],[20]],
-"xdf23e3aceda0a1ff":[[82],[7]],
-"x9bd03aa7d1921094":[[396],[8]],
-"xdb357043628677b8":[[3178,3176],[3,2]],
-"xe031fa958e38f80":[[983],[6]],
-"xda771fb9957c6374":[[3947],[4]],
-"x959f428c4ab1a50f":[[1180,1308],[17,11]],
-"x7ffabd174db1e2c0":[[2932],[3]],
-"x60281ebfc6367271":[[2910,3242],[22,5]],
-"x447b5c986b2c36ce":[[2258],[9]],
-"x896052aff9c66165":[[1810],[5]],
-"x7561b7d009f27e69":[[405],[6]],
-"xc6ee6b4ca1bddc":[[4093],[3]],
-"x2d1b9efdae8e2370":[[211],[7]],
-"x60d10e8a290660c8":[[1837],[3]],
-"x9293d7d93aa49600":[[3169],[3]],
-"x7598b7a4fdc69221":[[2204],[6]],
-"x70d3b0dbbd739f25":[[2721],[6]],
-"x372fba3d12273f78":[[3892],[4]],
-"x75e3b537d5c7627a":[[211],[7]],
-"xc1e8f0c769ba2532":[[166],[21]],
-"xf7f56ec23cf03086":[[2023],[2]],
-"xb902423a0b4ef436":[[3828],[13]],
-"x3348b119e5f81f3e":[[536],[22]],
-"x2c292a120de25f8f":[[4013],[6]],
-"xdb05bc83a98f3de3":[[2543],[2]],
-"x7ee0670ae0a5becb":[[3643],[6]],
-"xd5f7a5e1591de1f3":[[3690],[3]],
-"x6eb5e665591e2afe":[[3947],[64]],
-"xa5c5ccb7d4ce66dc":[[219],[3]],
-"xb69ae93e1291d9f6":[[3690],[3]],
-"xb225e8fcf44471b7":[[731],[32]],
-"xbeceb0b43d71f58b":[[723],[15]],
-"xc79e767b03245473":[[405,202,339,593,139],[36,33,8,4,2]],
-"x8efcf3170b9045ae":[[789,1187],[6,6]],
-"x4edfca5c3ee72090":[[3307],[11]],
-"x6d48b82d1e6fa096":[[3779],[5]],
-"x4a633447407a5581":[[397],[6]],
-"x983bf43f3a6812f":[[3642],[3]],
-"x6063d387383e094a":[[723],[5]],
-"xd91a3b2be373840a":[[346,353],[6,3]],
-"x8bf61ad5c986f349":[[1478],[3]],
-"x70699e7dbaeefee2":[[268],[3]],
-"xa31e101825ea253d":[[3902],[2]],
-"x38b7ccbe95ffd48f":[[1366],[5]],
-"x1d8713f0dbd4c70":[[2931],[5]],
-"xae994c6f77ae6361":[[3898],[3]],
-"x512e65b8eca3b513":[[1380,82],[26,24]],
-"xd7d64ec96840301c":[[1244],[9]],
-"xf4296368b613b95e":[[3178],[2]],
-"xaa40f37d6b95aba7":[[1762],[3]],
-"x2d6c8e70b1029caa":[[3929],[5]],
-"x66c989d79f0b3dce":[[1763],[2]],
-"xf54a5d46e8e559b0":[[3817],[3]],
-"xe9e9f0117daeafb2":[[339],[12]],
-"x4355920ee49d22b5":[[137],[3]],
-"x577785288dbdbd2c":[[2138],[3]],
-"xefca1293c91d2b8":[[324],[16]],
-"x455720fd85f7df3c":[[261],[8]],
-"x830497bb5f92b50f":[[4013],[1]],
-"xbf604569ad525d0e":[[1359],[7]],
-"xc993a39190ef3cbc":[[1301],[6]],
-"x7bbf391c437a3ccb":[[3242],[6]],
-"x394ac8ab235816f3":[[3817],[3]],
-"x8646ac41d73ba09f":[[2347],[8]],
-"x1e9b0b31bcdb7b80":[[3956,3169],[4,3]],
-"xd33427da3075630":[[1234],[4]],
-"x678b544b6d2caabf":[[2332,3699],[20,4]],
-"x1b65728fcc1549a0":[[3112],[4]],
-"x977a9f36b8dd15bd":[[3178,3827,3242],[17,17,7]],
-"x9aeb39cad66522f2":[[991],[3]],
-"xf2585ee40815604":[[3763],[4]],
-"x9c48bf34f304138d":[[1745,1761],[20,9]],
-"x8c9512d6b7455b23":[[3509],[3]],
-"xbce451b3442e6dc1":[[3234,3177,2266],[61,22,3]],
-"x540c2ac6d6c7db7a":[[1812],[6]],
-"x2b83140252d44496":[[2851],[4]],
-"xb9a661b4a970d6cc":[[2137],[2]],
-"x2ba6bb94796fa6d3":[[1],[6]],
-"x6cea994cc5d6656c":[[2722,3699,4020],[43,19,17]],
-"xebd163c278b8f888":[[1176],[4]],
-"x68d0dabec1adb819":[[3258],[3]],
-"x167e4bfe28691a6":[[1242],[3]],
-"x82b0462116455254":[[1262],[8]],
-"x70448ff94f1e3047":[[1371],[8]],
-"xceea983b8e3c7521":[[3699],[1]],
-"xf2d4ae53225ebb21":[[1169],[5]],
-"x60d54210b03e8f2b":[[3763,3742],[42,2]],
-"x56ada8f90c403fcc":[[82],[7]],
-"xb5278ee14ac72411":[[2747,2745],[2,2]],
-"xb28b0910b70b26d6":[[528],[3]],
-"x94ac6db0073fb6d8":[[2609],[11]],
-"x4490e61e2fc1f0af":[[334],[117]],
-"xeff2c4215a5fcc85":[[1244],[4]],
-"x9c6e217d6ea685b2":[[3742],[4]],
-"xe0f412575feeaefe":[[1830],[3]],
-"xafc3ceb94edd84ab":[[3194],[3]],
-"xfba87a412ab71568":[[666],[14]],
-"xdd00a3758b620391":[[262],[7]],
-"xe8789c2ef7c977ec":[[1236],[3]],
-"x3cf7478bd0716e14":[[2347],[6]],
-"xc17404e1a899cf9":[[2281],[5]],
-"xf81a5c6bb824f405":[[3307],[4]],
-"x6f0e3f598c80b9e":[[2217],[3]],
-"xecd052bca0011878":[[405],[32]],
-"xd1478b908b8b576d":[[3819],[3]],
-"x4c8f7083b0b6c7ab":[[1707],[3]],
-"xe4e4bec16c374ab8":[[2349],[4]],
-"x107cc6a02b000b87":[[2788],[4]],
-"x7c9bffe03f5a66ae":[[3300],[4]],
-"xa84672f8540b619c":[[3299],[2]],
-"xb78e95efba90e3a6":[[1187],[7]],
-"x6403f33ab488eb25":[[3],[2]],
-"x7313dff1adfaca47":[[3947],[3]],
-"xf70e892a61a7d9cb":[[2477],[4]],
-"x2a618421e195379b":[[1375],[3]],
-"x7e7337b03e676749":[[3363],[5]],
-"x14855f0523b50b31":[[3722],[3]],
-"x2da2618d27712507":[[148],[30]],
-"xc94136a0f6c7e5be":[[202,796],[13,11]],
-"x6ee9235590921fba":[[3234,4013],[34,2]],
-"x3d1abfd9f03dfff0":[[3808],[3]],
-"xa8b558e27cbe08ad":[[3567],[3]],
-"x8d0c428760e00e32":[[1810],[3]],
-"x2be398696f9476b4":[[1544],[6]],
-"x4317a928c05d4de5":[[3690],[6]],
-"xa210159c08245fe6":[[334],[25]],
-"xb5ab95653bb23a97":[[2915],[1]],
-"x2c48bd2e9f026fd5":[[1485],[5]],
-"x382202a4bc5cbfb2":[[3808],[7]],
-"xbf0376892499a623":[[148],[4]],
-"xc2ab247d30a7494b":[[2917],[3]],
-"x6f7534b7338e94cc":[[3616],[6]],
-"xa342bf553c832c9f":[[3234],[4]],
-"x87d8599c7238653":[[2452],[4]],
-"xede47bbc9adb8635":[[346],[3]],
-"xdf7865928c342153":[[3902],[4]],
-"x2d3d6cd53dc757c3":[[1307],[7]],
-"x40213eeec3cfd817":[[1770],[4]],
-"x44a8435b0b3fde93":[[1764],[4]],
-"xed65ae6e4172f75b":[[2202],[6]],
-"xaa0f51bf9654d383":[[1764],[5]],
-"xe66172cdd47316ad":[[3752],[3]],
-"xa526dae09940fa51":[[2347,2331],[6,4]],
-"x753c8c19a55a90a3":[[166],[1]],
-"x5e4cf2ffe9e3fcfd":[[2285],[7]],
-"x311f0c905edb2e9b":[[3234],[3]],
-"xca7bf8af9c2f5770":[[2915],[2]],
-"xa5c65bb26531770":[[1739],[10]],
-"x94beb422ce296bb7":[[1689],[4]],
-"xc876ac4ea637c959":[[3964],[5]],
-"xe478fbafac55c59c":[[642],[12]],
-"x5e406d85c0d140af":[[2203],[7]],
-"x3f6190ef262f7ba":[[983],[3]],
-"xfa85fdcdb945771b":[[3300,2593,2910],[15,9,4]],
-"x8214bc426a645f1a":[[324,658],[66,8]],
-"xba183abd22fdd3f0":[[1380],[11]],
-"x79a0602f1149b388":[[148,139],[15,6]],
-"xe405b60acdacb066":[[2434],[3]],
-"x2620aafd99f31849":[[2178],[6]],
-"xd2d7d31b333b5ff6":[[262],[3]],
-"x669d2318c52dbd40":[[3242],[3]],
-"xbe1aea291891ecbe":[[3957],[4]],
-"xe1635bd85c6bc2e5":[[2852],[2]],
-"xd3b197061098c57e":[[2723],[1]],
-"x22a171624bdabfc0":[[1762],[5]],
-"x2338a3f923c83486":[[3964],[3]],
-"x3988bbb2eac21b8":[[2203],[4]],
-"x2b48aceb096dc670":[[1252],[3]],
-"x530cb29858f0416f":[[2477],[3]],
-"xbb0221d9dfd8627c":[[4013],[6]],
-"x6d9f324219772065":[[396],[4]],
-"x48c2782bcc4b5c9b":[[2074],[4]],
-"xf525c3d450b9af2a":[[3114],[4]],
-"xa01702f408c208f":[[3749],[6]],
-"xfc4c426f76cf3804":[[3299],[2]],
-"x3b0749b443fd2ec":[[2931],[5]],
-"x9841363af04298a4":[[405],[5]],
-"x8dc03f616cf59e6d":[[2154],[6]],
-"x7b4211b450303c6f":[[3169,3372],[3,1]],
-"x4a2ba50c08d3c20a":[[2919],[2]],
-"x804413cb4d4fc045":[[2592],[7]],
-"xaf8c6d7afeebe3f3":[[262],[170]],
-"x1ce267d51130416b":[[3902],[3]],
-"xd17955fec8339241":[[2268],[12]],
-"xf2e64f8a7c26ccd7":[[2413],[6]],
-"xc7ca994c63b8d532":[[3242],[6]],
-"xd173310ce21299d5":[[334],[14]],
-"xdbc98bf18b94cee6":[[1185],[2]],
-"x5d592ca5a2355b74":[[3964],[2]],
-"x193df87db0d5f19c":[[2065],[4]],
-"x83e0bba97b9af54b":[[3567],[2]],
-"xbe4609de2fc2a9db":[[3242,3112,2266,3177,3964,3567],[22,10,6,5,3,3]],
-"x6754a258e47bd399":[[966],[4]],
-"x3c6a603d7ada530a":[[262],[4]],
-"x8867941c09e10005":[[796],[6]],
-"xce13f09356e9da0a":[[262,714],[14,8]],
-"xd0534992f88ab64b":[[2919],[3]],
-"xe3e624c9256f69d3":[[219],[10]],
-"x994c558bd30b3f41":[[144],[9]],
-"x2a25c001cffc37fa":[[3305],[3]],
-"xbbb971ea40c03a26":[[1243],[6]],
-"xf0ace7f911d8d9a5":[[1762],[5]],
-"xc78cae1461cd92da":[[3714],[6]],
-"xa5b9bc7304a0c612":[[658,593,1951,324],[6,6,4,3]],
-"xea3032eab9cb633e":[[666,918,166,157,82,658],[187,147,49,24,10,6]],
-"x9f77d07d8e70ddae":[[3902],[4]],
-"xe4772cf05b17c701":[[2350],[6]],
-"xf24895c2fe6e0f14":[[1307],[7]],
-"x9cd5347a9f081346":[[1763],[2]],
-"xc7f2781c023469f0":[[3699],[7]],
-"xda13d89c7fc95251":[[3643],[3]],
-"x961c07f02e092b5a":[[3826],[3]],
-"x38a321a7964f1464":[[2720],[3]],
-"xeba08fa981c787f1":[[353],[5]],
-"x3ccd236bfe896ce3":[[3307],[1]],
-"x7bfe411cba6ed46a":[[1307],[29]],
-"xb3f3239ff0dbf3e1":[[3834],[7]],
-"x12ce3b4750b12cdf":[[722],[5]],
-"x48b41f4f7ab56cb1":[[3699],[4]],
-"x3c655f374f8863e5":[[1350],[3]],
-"x317e46cbf4fafc86":[[3299,3234],[1080,6]],
-"x987f30dcbf43a3e3":[[3567],[4]],
-"xaed8f35c0ae5d3e7":[[2331],[7]],
-"x6d937edab4de18fd":[[3643],[3]],
-"x28c9ca7ed914238a":[[796],[4]],
-"x73b82adf7fa134b7":[[658],[4]],
-"xf3605c32601f9153":[[1827],[3]],
-"x36f8f7f286a2375f":[[3962],[6]],
-"xdf8b76cd0ce5c399":[[723],[6]],
-"xe1a17415941fb357":[[262],[6]],
-"x9a32bed0a83860ff":[[3288],[9]],
-"x509d7be867aa571a":[[278],[3]],
-"x22f6849fe6700821":[[788],[8]],
-"xf9243e34011897e8":[[204,2006,1699],[19,6,2]],
-"x4002c53e05760f02":[[3699],[3]],
-"xddbd54f4ccbe15fe":[[3242],[3]],
-"x7f5acffb82b862b0":[[796],[5]],
-"xd1c7cd465bee46af":[[2267],[3]],
-"xedd0bf432e85d067":[[1371],[6]],
-"x99206e13e93be833":[[3150],[4]],
-"xd5423acfa460426b":[[3371],[40]],
-"xf1e38eefd7fa14ec":[[2924],[3]],
-"x54c992101b254bfd":[[4013],[4]],
-"x141fb1683d705994":[[2203],[1]],
-"xbad2c1592f148a1d":[[1569],[4]],
-"x526928401d0a1889":[[2852],[2]],
-"x520cb57c65365e8b":[[1764],[4]],
-"x548124a45afd8e63":[[1827],[3]],
-"x7cf80c21785d2b89":[[3828],[4]],
-"x41c6361e682eafed":[[1828,332,1893],[7,4,3]],
-"xc09b9df0a61fcf3":[[262],[11]],
-"x2041975ba62c1dd6":[[3808],[3]],
-"x8640898cbe3f400b":[[3817],[5]],
-"xde82dca7272b1120":[[334],[9]],
-"x6c0d29be60a76fb4":[[3169],[2]],
-"x24df4353458fe7e5":[[2266,3964,3373],[8,3,2]],
-"x4c18cc0e34efddec":[[3300],[6]],
-"xde9f1dbf8bc9a51f":[[3567],[7]],
-"xefd2968574e267":[[2803],[4]],
-"x5925976c7a85bbfc":[[3104,3956,2420],[9,7,5]],
-"x58d367cf0319c0c9":[[332],[5]],
-"xbfdb7bef40e3ee13":[[3902],[7]],
-"x3939e3ca389c1bd":[[594],[13]],
-"xcd4a9b8c1f6786fd":[[3,324],[13,4]],
-"xf205302175bc4024":[[213],[2]],
-"x9c888e549b599e5":[[2702],[6]],
-"x31d9a5ed2203e976":[[3373],[7]],
-"x8cc65e917e80019f":[[1827],[5]],
-"xa173ae9fef726340":[[3382],[6]],
-"xe32ba50257ddbf9c":[[844],[6]],
-"x1523488d2488fb31":[[262,723],[5,4]],
-"xb726b70b9a61c10b":[[2006],[4]],
-"xf196ea3745a70c3a":[[2201],[23]],
-"xabecc313d8d159a9":[[3046],[7]],
-"x7592d3c3c92b257b":[[3306],[6]],
-"x6768cb3ae4d1fb59":[[3803],[1]],
-"x53d7695a639845b9":[[334],[5]],
-"x6532095c14d97f24":[[2933],[2]],
-"xdc7ebd7dc5e4dcdb":[[3690],[1]],
-"x3c6261f97efdb5be":[[262],[1]],
-"x5cf13b9ff1be450d":[[788],[5]],
-"x1062c560e123d091":[[1309],[1]],
-"x81b8f6bec2b3565c":[[148],[3]],
-"xb90ef1bc502503a9":[[1762],[6]],
-"xf2179e9e625c493f":[[796],[5]],
-"x3ef62fb41a5cce92":[[405],[10]],
-"xc0cc1cdaeb7afa4b":[[2851],[5]],
-"x5ec9b7e2abc1e4ec":[[262],[5]],
-"x5ab2092386a255ca":[[3902],[3]],
-"x303dbe337d7673b1":[[658],[9]],
-"x34fa2af3dc61a555":[[2804],[2]],
-"xe848e5b7d8daab4f":[[148],[7]],
-"xeb31b00a9faf22c5":[[3178],[8]],
-"xc157579ac49d49da":[[1699],[9]],
-"x2fc8cfe3cdb99d86":[[56],[3]],
-"xc00bc16bca49bfeb":[[3318],[3]],
-"xf016414f00880371":[[1763],[6]],
-"xa0542462ee5b185c":[[1967],[6]],
-"xb694e8485f295b06":[[1828],[65]],
-"xbf8a495ed5a444f3":[[323],[9]],
-"xc50c5241ba1d992c":[[601],[6]],
-"x6ffb63419b7cc957":[[3],[5]],
-"x3a3d6d8ffe73ff19":[[1699],[5]],
-"x966adf0c0cad7405":[[203],[10]],
-"xc000090417c8dbb0":[[2908],[5]],
-"xfe67eafb19ebcfe5":[[1616,3826],[12,4]],
-"x5ac958de85db1238":[[787],[4]],
-"xd6cb7b0239813170":[[3373,3501],[6,3]],
-"x7cbb66a19a3753d1":[[731,918,346],[94,4,3]],
-"x65b87e69a4e97e82":[[3307],[4]],
-"xd9db0a0ef75fff29":[[732],[3]],
-"x9b0d87b3cd120a24":[[3373],[4]],
-"xf7174488b7820d5b":[[3104],[4]],
-"x243be3cbf8245e46":[[926,148],[7,5]],
-"xcb719dac6c8a61ac":[[2203],[3]],
-"xcb363b981843038f":[[2786],[10]],
-"x6f4d88d8a6452d7f":[[3567],[16]],
-"x2e06fc10f69c56d5":[[2715],[5]],
-"xd5ffa31c6fd52828":[[1],[2]],
-"x1013d57821ba4345":[[918],[13]],
-"xce7a72c5b965cb7d":[[3299],[2]],
-"x1f8ff688b6c3fef7":[[1959],[1]],
-"x2cc77e7b35ef57d0":[[2673],[3]],
-"xa01b6c5e183e2657":[[983],[5]],
-"xdd0f1df5f6e61e8":[[1959],[3]],
-"xf36226d5aa4a4729":[[262],[15]],
-"x40f70817b15292d8":[[3372],[73]],
-"x8cd24a961ba669a4":[[528],[7]],
-"xac9db23a138e87f9":[[592,3699],[4,2]],
-"x81f5468a84e23968":[[2722],[3]],
-"xef300c7965922162":[[3234,3699,3177],[147,33,1]],
-"xd2592ae232735b13":[[2203],[2]],
-"x342c583cb09afab8":[[3047],[3]],
-"x760861753f6a85e":[[3112],[2]],
-"x55e8d834d20230b8":[[918],[3]],
-"x41b62e6b4d1f5e6d":[[3372],[3]],
-"x71e9e4732201a045":[[3742],[2]],
-"x3bcd6368e0bbee35":[[2908],[2]],
-"x8897051fe6a8782f":[[3690],[5]],
-"x17d5c38d2fdc8b2d":[[3761],[19]],
-"x818c006aa88aabed":[[262,2138],[8,3]],
-"xa5c7490788b506fc":[[1764],[11]],
-"x6b89077f54e0f4da":[[2107,2082],[10,3]],
-"xef499b1de780603c":[[166],[4]],
-"xfb3fc92097605f51":[[1355],[3]],
-"xf2ecf631065d5303":[[2420],[2]],
-"x9f8343e2170bb6e5":[[2202],[3]],
-"x63df9711bf13b9fe":[[3958],[5]],
-"x35652cbf5f768371":[[3437],[3]],
-"x66bebc3938620127":[[75,82],[11,7]],
-"xb7cd10124a50b721":[[3242],[2]],
-"xe3b93dfa61cf7a22":[[262],[35]],
-"xb0665e84db005664":[[853],[20]],
-"x757d4152b6b4d242":[[3722],[3]],
-"x3b5cf1fa9531dc92":[[1041],[3]],
-"xf9302af6659d940e":[[2147],[3]],
-"x13fe5d041566fb56":[[4031],[6]],
-"x587673bc66f82a25":[[3129],[5]],
-"x943245837f6b55b":[[3690],[9]],
-"x11ef87b2d6ff7928":[[1739],[4]],
-"xe8a9d2c164988142":[[454],[4]],
-"xfac69ffaea2277e0":[[1618],[5]],
-"x972afd7e92cb0838":[[209],[7]],
-"xc3bf1ca462c94f43":[[3112],[6]],
-"x74d8fedf8e563fd0":[[3502],[3]],
-"x5315bda44481cdee":[[3177],[3]],
-"xd3967440fe2e0076":[[324],[3]],
-"xf0a787cbf1525db7":[[3353],[3]],
-"x68442cc26e17a218":[[144],[2]],
-"x58a0bd4927bf84c5":[[262],[1]],
-"x6e08fdf8ef3f14a4":[[2908,2266,3234],[23,4,3]],
-"x39673bc9be38e185":[[528,82],[5,4]],
-"xe856a6e76b8c6bf3":[[405],[23]],
-"xb8c6027578504d6":[[3958],[12]],
-"xe59d0e33440b9e86":[[3817],[4]],
-"x1aee85c89c7a672b":[[3436],[6]],
-"xa71cef936bbeebd5":[[157],[2]],
-"x30cd8fea1a51808f":[[1176,1],[30,9]],
-"xb667481b30497889":[[3963],[3]],
-"x55a8674337983a1a":[[3112],[6]],
-"x9253f10a0bb9eaea":[[788,528],[4,3]],
-"x5665b36045f0919b":[[991],[3]],
-"x81042e9e0c02704d":[[166],[9]],
-"xdf68a2dcd827caa4":[[1098],[8]],
-"xff99be8a7faee5f":[[1226],[6]],
-"xdd8200b1b1fdd1a7":[[1770],[8]],
-"xbbd5e29d204e2278":[[262],[3]],
-"x9a24213546814e6c":[[339],[9]],
-"xae1a753e441f02f2":[[3761],[3]],
-"xa2c66d4611060aca":[[2396],[4]],
-"x544e5c843dcfcfe6":[[3299],[5]],
-"xbf8ddd64410424e9":[[203],[3]],
-"x8f8b9ddf96506011":[[3902],[2]],
-"x90254c99b9574290":[[3763],[4]],
-"xe8f70ac28a8c771c":[[2845],[3]],
-"x4507b3027d67ba66":[[262,853],[7,3]],
-"x888f2a70399ded17":[[262],[3]],
-"xeee173e7215728df":[[3307],[2]],
-"xf8dfc5e026a4de70":[[852],[3]],
-"x718c1c61285d17c1":[[594],[4]],
-"x6dbad8734c124e2c":[[3325],[3]],
-"xe0c6c959de6d88e7":[[262],[4]],
-"xe525b1311587325":[[3299,3929,3234],[152,45,42]],
-"x59a980a6310e2f62":[[3756],[4]],
-"xde1af1683094638f":[[3742],[4]],
-"x414e862f913fc313":[[3104],[6]],
-"x149caa1779c54789":[[1185],[6]],
-"x1c02a4d2fcbe9572":[[2006],[3]],
-"xc36ad791b277a8":[[723,1676],[3,3]],
-"xbc5040f46c2230c8":[[536],[3]],
-"x33ffa35065cbc42e":[[75],[2]],
-"xfc4d573231de3589":[[723],[56]],
-"xcf2980977f018c1f":[[3902],[2]],
-"x4b7cbd8ddc18bcf0":[[3169],[12]],
-"x310016ff5db4ef02":[[82],[5]],
-"xfc99c0d1bcb65b97":[[918,731,788],[106,79,23]],
-"x3ec85a7ac061e57a":[[3956,2266,3929],[59,34,17]],
-"xa85f6481d14fdddf":[[731],[6]],
-"xc35684d9301d0e4e":[[3779],[3]],
-"x9f9e7b80821ce387":[[3761],[10]],
-"x55194cbf9dcebfef":[[3305],[6]],
-"xc589ad4af246fb67":[[2720],[5]],
-"x4e502f89329e9254":[[4020],[2]],
-"xfe0b1323afa3ed8":[[2036,1187],[10,6]],
-"x949768fad1356cea":[[139,148],[4,2]],
-"x48cdcfd4c9941e7f":[[2217,2219],[4,3]],
-"x6d54a8f2d5c7e448":[[75],[4]],
-"x3201cbe0823e9d33":[[148,593],[9,7]],
-"x71805b6cdbe97bf7":[[3956],[4]],
-"xe58610667e6b52c6":[[346],[4]],
-"x4b8853ce664a7091":[[1681],[6]],
-"xb71986deee78e067":[[3699],[3]],
-"x9c7277843232da5e":[[202],[6]],
-"x84e80b5fe73328e7":[[3956],[8]],
-"x65d91412774d3573":[[2931],[10]],
-"x860ee0ed229c6d72":[[1348],[6]],
-"x3faa534e000bbc66":[[405],[4]],
-"x48ebef849e3dfdc6":[[3929],[3]],
-"x9fbc811ae036cd93":[[601],[6]],
-"xd26c893e310de9b0":[[1034],[5]],
-"xf1e214dd242720df":[[3688],[8]],
-"x2b78963ee62f3dc7":[[262],[8]],
-"x127f1d69fb5397ea":[[3956],[4]],
-"xa712994f90a3d59b":[[202],[1]],
-"x278a8ebb66cf705b":[[3902],[3]],
-"x46af32253de68e7c":[[3164],[4]],
-"x710ada3966f91973":[[332],[8]],
-"x4df9ea00c010961d":[[2411],[4]],
-"x6ecf0c12b9c316ba":[[2788],[3]],
-"x2814d80a5ad21dd9":[[1959],[6]],
-"x89210abc2abc1652":[[3234],[4]],
-"xaf5a5e5f4984e231":[[216],[4]],
-"xd9e3d61d383c0900":[[3763,3112],[6,3]],
-"x885b39b5d1183fec":[[334],[1]],
-"xc561e5bdb09735b2":[[3699],[2]],
-"x34440456177512f3":[[3306],[3]],
-"x8d0de86c563eb69c":[[166],[6]],
-"x4b4f99ce7bcdf5ea":[[342],[9]],
-"xa3613a1df081e736":[[332],[4]],
-"xd81e3e01a5e69cba":[[262],[3]],
-"xf4be599b09651852":[[1244],[8]],
-"x20250eb447e1af30":[[157],[2]],
-"x3139d4fb6c8947d3":[[983],[3]],
-"x3d6d5965b1ed7503":[[3372],[4]],
-"xe5d9345e9b69b312":[[3169],[6]],
-"xe5872dae8888044b":[[1932],[2]],
-"xe952b57ae93ede6e":[[2201],[2]],
-"x786f5347a8afbdb":[[1652],[6]],
-"x35c3132711a5a262":[[2579],[5]],
-"x3c468287fdc8c42e":[[385],[6]],
-"x7aaa29d114813acc":[[3309],[5]],
-"xd3235377f218dbad":[[213],[8]],
-"x4158ee2c504a9d38":[[3817],[7]],
-"x7d189841d40f927f":[[262],[11]],
-"xaa77756e2f55a10e":[[2527],[3]],
-"x6822801479c88b2e":[[1058],[6]],
-"x83b295847ad072cb":[[3742],[2]],
-"xb55297be51b4f62b":[[332],[4]],
-"x2dcbe5f2e427cea5":[[1998],[4]],
-"xa704045f11c34a6e":[[4013],[14]],
-"x712b2cda750f1203":[[1837],[2]],
-"x54f6a7cb4e35d1b7":[[1681],[3]],
-"x1072c2488e70f253":[[1681],[3]],
-"x676902f53cbe43a1":[[3372,3307,3364,4013],[14,6,5,4]],
-"x7148578065940341":[[2203],[2]],
-"x4383a3a4a6f287cd":[[3902],[18]],
-"xf4c1969c2bc9477d":[[211],[8]],
-"x236cb52d980a719e":[[2593],[2]],
-"xd5c041fe1f9b49b1":[[3902],[57]],
-"xb941f0c8e2f2314f":[[334],[15]],
-"xf8d74fc3fa6cdcba":[[3699],[3]],
-"x8d6f8f2929271d8e":[[2203,3307],[14,7]],
-"x3139c7073f8294b1":[[3756],[4]],
-"x7c078dd4a10f7c0d":[[2919],[4]],
-"xbeb03fed85be75d":[[3371],[5]],
-"x4770d2fd8012e4e9":[[2658],[5]],
-"xbaa917d46ab66cab":[[3893],[5]],
-"x3cbfd20ce5a475ca":[[3742],[3]],
-"xe347c8934cf681a4":[[3690],[1]],
-"x9a6c0567bc0647ae":[[148],[7]],
-"x65e92bfaabf6a24f":[[3956],[8]],
-"x69ed88a8e4cb97fe":[[2731,3962],[2,1]],
-"xef227c7dc331fd18":[[3738],[4]],
-"xaeae0e02f69030ae":[[3893],[5]],
-"x1a7896e57978b94e":[[991],[6]],
-"x5474b1ed040ece51":[[3242],[3]],
-"x16aa142b478a6b50":[[1683],[5]],
-"xc546907aa15b2be3":[[3299],[118]],
-"xb91ab0536040890d":[[3749],[2]],
-"xde0727a305170d65":[[1356],[3]],
-"xf7f1899c7386bbc5":[[594],[7]],
-"xf6b33354084910e5":[[2851],[3]],
-"x918f4a17cf9c9541":[[3902],[3]],
-"xe09232f5c9f993a2":[[1308],[1]],
-"xfef8435329fee05d":[[2203,3690,3177,3808],[70,7,7,5]],
-"xf1a5c3072996aa4b":[[659],[4]],
-"xece885048c859689":[[789],[3]],
-"xc723bf0f6b2d4ae9":[[3307],[2]],
-"x7f5805610f580897":[[1894],[3]],
-"xba85b2b946567cd6":[[731],[4]],
-"x877eb6a90274bbe6":[[3811],[3]],
-"x74c70de0e1df17ca":[[2851],[4]],
-"x92b32b5fa01fd42f":[[837],[1]],
-"x98c84be2d90e8fbc":[[139],[5]],
-"xc98c96e7478c9536":[[1810],[6]],
-"xab33235f965c9c51":[[2715],[3]],
-"x241d2f25dc3c6737":[[2666],[4]],
-"x2459a3a2d4b16582":[[3828],[6]],
-"x9b2ea740ac0a986f":[[3305],[2]],
-"x9b75c42b9493ee3f":[[2331],[7]],
-"x7cb0561364a0945d":[[3690],[3]],
-"xe13294cc6dfdd3ad":[[324],[2]],
-"xe45d1ed8b52ab607":[[3902],[2]],
-"xb3b9156e98c4dd59":[[2331],[5]],
-"x3b7d2330d7f5fca5":[[3567],[5]],
-"x4d9daf547e429dc1":[[3690],[6]],
-"x4b3036b424430443":[[166,2131,658],[22,5,4]],
-"x5614a071005defb5":[[148],[10]],
-"x286ca8cc82a18d05":[[3929],[2]],
-"x3b809586a200fcea":[[2292],[5]],
-"xd8c2270bf96efa8c":[[3756],[1]],
-"xf319e692b22ed12e":[[3242],[14]],
-"x22f4375a5b6b60ad":[[210],[6]],
-"x9c8638f066b6606b":[[3902],[3]],
-"xf4b45802546db20b":[[3826,3364,3372,3699],[33,30,28,9]],
-"xc02377b15d696539":[[148],[4]],
-"xb15f37460f1531ee":[[262],[4]],
-"xcb796b7e3fa91075":[[3902],[5]],
-"xe27b697bbb0c41e7":[[3242],[5]],
-"x1bd259494c6514b0":[[3234,3956],[4,3]],
-"x216ba79ee38afc64":[[334],[17]],
-"x498c682050fd62ea":[[3502],[27]],
-"x64bdf337087f8f68":[[139],[3]],
-"xdaa7f0ff5cf6ceae":[[1699],[6]],
-"x4375d8e95f644936":[[2203],[14]],
-"xe5992600f96795b3":[[3902],[6]],
-"x130bb836930e04fb":[[3372,3817,3763],[37,28,4]],
-"x6567dde9ade7fee3":[[82,405,157],[66,16,3]],
-"x5d28e68af30eed41":[[2851],[5]],
-"x672c07b8190e8a91":[[251],[7]],
-"xb7491acce599b527":[[983,262,82],[47,3,3]],
-"x650fa3fadca40508":[[262],[9]],
-"x1e9472f627e3a0f":[[3502],[9]],
-"xfa64005b9a4233f9":[[4090],[3]],
-"xb60c9e5a71725fc7":[[3373],[2]],
-"x5546946012ee09b3":[[1242],[4]],
-"x7a5449e6020026f4":[[82],[7]],
-"x80e2acb5e8bd7c88":[[3749],[3]],
-"x32e1ef86ce071bf0":[[405],[41]],
-"x77d705d09969f543":[[139],[3]],
-"xf66ce5d22b20d565":[[3178],[24]],
-"x694144b12bde95b8":[[1307,1371],[8,2]],
-"x8e0067ddc5573bf1":[[3112],[3]],
-"xffa048fe3341f3ac":[[2852],[2]],
-"xc981744266d975c9":[[536,324,983],[26,9,7]],
-"x1cad2281a62d542":[[528,139],[195,7]],
-"xacba0602fa410202":[[262],[15]],
-"xea22d3241a7d010f":[[640],[4]],
-"x5d109759e0f14265":[[3947],[4]],
-"x215b2979e80f7a8":[[1091],[3]],
-"x3002cb8be0161d25":[[1552],[6]],
-"xdeaadc81c51c0ab9":[[1291],[7]],
-"xdd4e750b7bd22d9f":[[2658],[2]],
-"x57f32366d58744e6":[[1633],[3]],
-"x6dfe0d0b6be1dde2":[[983],[1]],
-"x67aa618294ed393b":[[324],[7]],
-"xe4998adb2c011325":[[202],[1]],
-"x61f942e285f5588e":[[3494],[1]],
-"x6094f15d67d65865":[[2396],[3]],
-"x16948fc944cbc8a7":[[2419],[3]],
-"xdf25c1c4762ed44":[[3241],[3]],
-"x5c37e7ceda45abf2":[[3826,3834,3956],[11,1,1]],
-"x45f8346da81fd0e9":[[3177],[3]],
-"xa7307341830bad72":[[162],[3]],
-"xc24b725d2dfe3e10":[[1681],[7]],
-"x30f01e6cddcd8da":[[1371],[65]],
-"x7de6b9a1d0cd44c2":[[1067],[4]],
-"x64f48900362ad570":[[723],[7]],
-"x1a8b2420557c776d":[[2292],[15]],
-"xef21d05a2bc87258":[[2910,3902],[10,4]],
-"x6c74d8eb32ebdad2":[[3826],[4]],
-"x9b801ab7b55295b":[[1437],[6]],
-"x90e51229d7c73824":[[731],[3]],
-"x802334db1e62bafc":[[139],[11]],
-"x9a5bf6706309722e":[[1243],[4]],
-"x54581b9f0e715e75":[[2072],[2]],
-"x4d4bf00cd8b76400":[[1179],[17]],
-"x92255c4069ea147f":[[82],[7]],
-"x3bd16f52e8fa0c9d":[[1893],[3]],
-"xb3a06e2deb9d3bc":[[3956],[7]],
-"xa67dd50c03dd0df8":[[1307],[5]],
-"x3921120482668252":[[3372],[3]],
-"x7d73e6d09c4b8564":[[1187],[3]],
-"x7e5519459e67d4df":[[3826],[14]],
-"xb3bf6f0742790cd6":[[3104],[3]],
-"x7e99904831cbd28f":[[838],[3]],
-"xa9199cd80c59871c":[[3690],[2]],
-"xf80f901c5a080f3f":[[3956],[7]],
-"xfcddd4d39f8b3ee4":[[405],[46]],
-"x10e8db1694db29c8":[[3892],[6]],
-"xd5f45d6f841b47dc":[[405],[6]],
-"xf70b239d85a4a0ac":[[1745],[5]],
-"x790f1d992f25add7":[[2254],[2]],
-"xb7b0a3df0e531112":[[2414],[6]],
-"xdc5fbb3cd661fe89":[[1569],[4]],
-"xc16149470840266e":[[1884],[4]],
-"xe054ac2feaebf291":[[323],[10]],
-"x49e4bccdc5c4d8ed":[[3307],[5]],
-"x46eed922d9551978":[[731],[4]],
-"x8a9ecc3bc396fe59":[[658,536,528],[8,5,3]],
-"xf40e98d597a892e5":[[2349],[2]],
-"x64ada70a0a7038fe":[[3761],[6]],
-"x73d4e50dacf3927e":[[1964],[1]],
-"x98bacfe608c35cea":[[3899],[13]],
-"xcb7188bfc186c390":[[4013],[2]],
-"x6c2cb3a6bbe64021":[[339],[3]],
-"xfdbce0b0ef684acc":[[3902],[9]],
-"x30179a999ce66f5e":[[731,723],[162,1]],
-"xa212c0c141c3cb6f":[[3742],[4]],
-"x46c72f71a9b59f26":[[1828],[4]],
-"x2d077f3daa3a4f30":[[3373],[1]],
-"x3af1c2a36b66a8c2":[[82],[5]],
-"xd05869113d62ecd3":[[1371],[6]],
-"xec83dd2ded78f26a":[[917],[3]],
-"xec24db9ca409e0ee":[[4022],[3]],
-"x954f611845f72c36":[[3860],[2]],
-"x96dbded2de1c98c9":[[536],[3]],
-"x5149884ea0ef2006":[[1746],[5]],
-"x2fdf5446166ba105":[[339,658,166],[21,12,8]],
-"x870aa1a2ac4341d7":[[3690],[3]],
-"x4f00f55712d1b849":[[4020],[2]],
-"xe1b860adf30b785a":[[2997],[6]],
-"xcab18707f477cc25":[[3756],[3]],
-"x572b88bbf077bfd":[[909],[3]],
-"x65c01497c569179f":[[1683,1674],[7,4]],
-"xad01f33344443f85":[[1179],[5]],
-"x3005bc971b889558":[[786],[3]],
-"x308dc961fb60d72f":[[2398],[6]],
-"x90ba14e5f0525197":[[601],[4]],
-"xa69390b4fa8ad01a":[[157,166],[3,3]],
-"x6a9d6dc207bde5d3":[[3958],[5]],
-"x7ba1028a897ba6aa":[[3112],[7]],
-"xb41badef0583da2e":[[3902,3690],[21,11]],
-"xa7542a7672fb6d33":[[3749],[2]],
-"x5977550529187304":[[3242],[13]],
-"x4b1376a17217ee1d":[[3112,4013,3502,3938,2715,3429,3307,4020],[1235,181,20,14,11,7,4,2]],
-"x6918494a42797797":[[3370],[7]],
-"xf21d1b8601c6bcbd":[[3287],[3]],
-"xefd561eb774429a6":[[3234],[4]],
-"x8b1047c1512cee11":[[3763],[4]],
-"x9230a2c887d8c9f9":[[1],[6]],
-"x7af380011096aa96":[[3690],[2]],
-"x742fa05c348a8bc1":[[926],[1]],
-"x5a0b14f3022c83fe":[[3749],[4]],
-"x8fdbc62dc22f8085":[[3902],[7]],
-"x1ab4dba5db51fd12":[[471],[5]],
-"x7ad2f5e42feb6376":[[3234,3177],[7,2]],
-"xc4a887be963470b2":[[1765],[10]],
-"x8d6cd5e982739572":[[788],[7]],
-"x42c45a26fec00251":[[788],[4]],
-"x304fcc2dec4c813c":[[129],[7]],
-"x19d3651dd21a71dc":[[1242],[8]],
-"xf4b72a0c1f56c417":[[3023],[6]],
-"x60e3df96f3ad608d":[[452],[4]],
-"x689da63d00e67df3":[[407],[3]],
-"xae2fd9a0f2809efa":[[2915,1643],[14,7]],
-"xcba473b9754a7680":[[1098],[3]],
-"x4e7cc26b6fdccaa4":[[3234,2074],[3,2]],
-"x597f4f2124f52593":[[2722],[3]],
-"x7af0df2599c22243":[[528],[3]],
-"x49af3f9074146bda":[[2194],[3]],
-"x9f2729f0251fa07c":[[528],[9]],
-"x5fecb54a3934f5bb":[[316],[5]],
-"xc711a464b42033a":[[3299],[3]],
-"x635730779d3a43d9":[[528,788],[11,6]],
-"xcbab9a1505cd72b8":[[209],[5]],
-"xb60437e497a52fe9":[[723,731],[11,6]],
-"xc37b2985d6bce6a7":[[339,203,332],[60,37,10]],
-"xaa4d51fa1c08347e":[[3307,3808],[4,2]],
-"xc226781e92aa8f85":[[334],[5]],
-"xa8c52fb02e682776":[[2484],[3]],
-"xad8be3ad5f380416":[[2220],[4]],
-"xa326bd76cee18cad":[[192],[4]],
-"xb0c90e9f30292c8f":[[1813],[3]],
-"xfd98d6f723dc4c9b":[[3690],[5]],
-"x49908a263dc71215":[[3817],[3]],
-"xa2ede67117c2c6af":[[1114],[6]],
-"x822a48055c700328":[[3699],[1]],
-"x72b3e89e5232a662":[[3299],[3]],
-"xdb5e225cfca88dee":[[1299],[6]],
-"x421d4ecb41cda9c6":[[788],[188]],
-"x1d0a569d2aa809c7":[[3642,3826],[5,4]],
-"x52a525f17e5feed1":[[262],[13]],
-"xbdc8446364843679":[[3826],[6]],
-"x829fc4e6879aba7b":[[3947],[9]],
-"x5e4bd3c38ef83056":[[262,139],[8,3]],
-"x7fb628baf985f90c":[[2810],[3]],
-"xedda4aa5950d1a7c":[[788],[68]],
-"x3835244b1de0d801":[[2463],[4]],
-"xe4ef0992fd329b1d":[[1683],[3]],
-"xe0bee56bcf59fa22":[[3761],[5]],
-"xfed32760ad7fa63b":[[3938,3956,1826],[39,6,4]],
-"x951b8245acc278fb":[[3234],[3]],
-"x42be18611c7f45f7":[[594],[6]],
-"x8d200aa03d4016d9":[[1770],[6]],
-"x7a4b558ab95d8595":[[1762],[4]],
-"x1ab1245dab284328":[[1180,202,139],[76,43,30]],
-"x96768827ef3c24d4":[[4013,3169],[36,10]],
-"xae093703f4eb5908":[[3242,1810],[16,11]],
-"xa792bf774ef37ac6":[[796,75],[3,1]],
-"x2407e930a5d1d4c3":[[1762],[26]],
-"xa5c4dd91c96fe371":[[3826],[3]],
-"x200e7ef03f71f68":[[2836],[4]],
-"x272b3a620aeb3ab5":[[82,918],[8,4]],
-"xd60d3bd75cbbf03":[[3306],[2]],
-"xd809a223ebaff156":[[2931,3763],[32,12]],
-"xd97b220933117abc":[[3763],[16]],
-"xbbafb1b7002a810b":[[3104],[5]],
-"xf5ad05832a6440a1":[[3169],[5]],
-"x86ffae71ad298786":[[1371],[22]],
-"x62068822f7bb81c1":[[983],[4]],
-"x59c5e3cab22d855b":[[75],[6]],
-"x6adf078f9b34e6b2":[[2082],[3]],
-"x5323545c07fe5e1e":[[137],[3]],
-"xb146608b3945343e":[[1762],[3]],
-"xea8a5f69ca8d73d1":[[3949],[5]],
-"xa324bcbb94090a69":[[3956],[3]],
-"xd972672b827d1d8f":[[594],[5]],
-"xa76d3ebbe1e28edd":[[3299,3929],[4,4]],
-"x81c542639ad4a1d2":[[837],[3]],
-"x781335b8094f5078":[[1226],[4]],
-"x2a873ab243d60ac1":[[3761],[3]],
-"x7e52c96ee4e58ea4":[[1503],[1]],
-"x63936cb8a4b7bf9c":[[2931],[9]],
-"x90a2d0cddf7f1d7":[[3177],[2]],
-"xfe66d14c22215e87":[[2137],[5]],
-"xfa18ed1453bcbaaf":[[3169,3817],[3,2]],
-"xa6340eb673549dc":[[3305],[3]],
-"xe258d7fca78c546b":[[2908],[3]],
-"x6697536e44791758":[[251],[6]],
-"x32e3252befab5bec":[[3956],[6]],
-"x8ace21b873bec686":[[1291],[9]],
-"x14dc58f96f6bf3c6":[[2931],[6]],
-"x6611ff34efd761c7":[[966],[4]],
-"x2798b8e149a7c1bb":[[82],[2]],
-"x9325d3b4ae569933":[[3834],[3]],
-"x2f45fe1a82030c84":[[3902],[4]],
-"x380b6ad91bbc1b31":[[3234,3567],[10,3]],
-"x7de080fbb29b9cc1":[[1837],[3]],
-"x26d558b007148b34":[[231],[4]],
-"xce5a8ed31dd1a011":[[334],[2]],
-"x479323060ef438ac":[[3037],[3]],
-"xd630ce7dae820a08":[[3963],[4]],
-"x92209e433663a333":[[1878],[3]],
-"xbb441d630ca65ff8":[[4013],[7]],
-"x2346ec88fe12657b":[[3902],[17]],
-"xed6b431c7e7fbcc":[[3837],[3]],
-"x94d93d60caeeea59":[[3761],[2]],
-"x6e7023ebc1a93b44":[[641],[6]],
-"x434709ef12d355d6":[[657],[1]],
-"x5c872b36593fffe9":[[2203],[1]],
-"x2c2edb0a6603c309":[[3690],[4]],
-"xb919f1aba678ba1f":[[1959],[11]],
-"x76090877f11ec3c5":[[203],[3]],
-"x8049b1996fa084de":[[3374],[6]],
-"xf10e736cd114bb1f":[[213],[8]],
-"x1b51c43396222873":[[731],[6]],
-"x6d06cb7b223cd942":[[339,407],[18,8]],
-"x5cfbbe7f458983db":[[1683],[5]],
-"xad4b3667ca35416b":[[334,1699],[19,5]],
-"xf0fe56cd5ac83c41":[[3742],[3]],
-"x1cfe5b37a1f1bd4d":[[3756],[1]],
-"xa5f33c2f69c005af":[[2460],[1]],
-"x68d60bb67800a453":[[258],[33]],
-"x51b4826398e9d333":[[3372,3364],[10,6]],
-"xc8266f4b32751bc":[[2852],[9]],
-"xad8dc023ac57e99":[[82,262],[7,7]],
-"x29bb573657b1ad0":[[3178],[3]],
-"x70c5c766090908d9":[[82],[3]],
-"x53fe821c45fe808e":[[2203],[2]],
-"x4a4e28dc9c84c915":[[3690],[4]],
-"x30546e9090ca73a4":[[3963],[2]],
-"x7547034cc4c1a72c":[[2128],[3]],
-"x5d0e02e3e47c8a3f":[[82],[12]],
-"x3ed0c1c28f65350a":[[2723,4013],[47,17]],
-"xc80dd1e3eefb6f74":[[686],[5]],
-"x6b7a7133c665a7d6":[[1321],[15]],
-"xa6f58fc8f9f08cc":[[3242,3690],[8,4]],
-"xf6cee07d790b2a5d":[[3306],[3]],
-"xb6c54c2506171abd":[[2137],[4]],
-"x5c7ed0643bd66a56":[[3],[3]],
-"x668c1853ab510165":[[334],[110]],
-"x1141972440b9d5be":[[3112,2267,2266],[13,4,3]],
-"xa61c11b1b0f66e6a":[[1683],[4]],
-"x17a9908df9f3ecaf":[[203,75],[53,3]],
-"x170020d45917a2c2":[[593],[15]],
-"xd7222c5de2ff5b54":[[2085],[3]],
-"x66115d47c908c1d0":[[323],[10]],
-"xd1fc91efb3e6305b":[[342],[5]],
-"x782f74dde8057e3f":[[3502],[3]],
-"xa58e8b4b818532a1":[[4090],[4]],
-"x3f7eb3b82fe6624e":[[3429],[2]],
-"x5be13ee9d9c39e03":[[3761],[29]],
-"x31a2eebc2ece638f":[[2217],[6]],
-"xe2196faad8a8f721":[[666],[4]],
-"x6de3bc4c0c171caa":[[80],[3]],
-"x87e28b50ef32b1f3":[[4020],[2]],
-"xbead0f238464e787":[[75],[11]],
-"xf038a83090106a39":[[3364,3372],[17,2]],
-"xb082c635dc6b5278":[[3761],[3]],
-"xe902d5c5e0c91d62":[[3307],[3]],
-"x9ce2372999d72d47":[[139],[7]],
-"xc6f7a0ff1ca8f5ea":[[1114],[3]],
-"xc4bc63e2495fa548":[[3699],[2]],
-"xd555b109d6a26885":[[3371],[10]],
-"x15c48bf93c91be2b":[[1731],[2]],
-"xad1ff88e405c1c8d":[[1681],[8]],
-"x319ada0d8a492f4a":[[3756],[17]],
-"xd7d091ec9ea7a88a":[[213],[3]],
-"xd25a41e3f80a1be0":[[731],[4]],
-"x129dd435a36fd4e9":[[3690],[4]],
-"x2fcd1ef7e23d8682":[[3242,3299,3956],[24,8,5]],
-"xb5164a256d76bb7b":[[2217],[6]],
-"x31648886dc70bb91":[[138],[6]],
-"x4792886e3121bebd":[[204],[3]],
-"x9328e412a7225c2c":[[1827],[17]],
-"xdc65153241cb8be5":[[788],[6]],
-"x648801eb1f3be7d2":[[262],[6]],
-"xe97704eca57d4207":[[2556],[3]],
-"xf2799c1960db261e":[[1242],[5]],
-"xf5a5d49e688c3b55":[[3365],[2]],
-"x27388c371ef62d78":[[3298],[4]],
-"x353e2c463bef0905":[[262],[5]],
-"xd4f2be325f7d0756":[[1228],[3]],
-"xa5f183c51961bebe":[[332],[12]],
-"xfaee11174cd9bb1d":[[3178],[17]],
-"x8dac3bb322f25348":[[2963],[6]],
-"x265939fcb4d9e32a":[[3742],[3]],
-"x4b8ca503d560a070":[[4013],[5]],
-"x5946670b850e08d0":[[2137],[2]],
-"x4e2fe6bc0d2665bf":[[82],[7]],
-"xb308b07346c2451b":[[593],[10]],
-"xd17b1547da5a801e":[[202],[2]],
-"xf15b74a4395d36f0":[[3242],[5]],
-"x5dfa3ec4fa654048":[[1176,1164,1153],[61,7,4]],
-"x91b3942d2a4ed531":[[2926],[2]],
-"xae422888b552d96b":[[2349],[13]],
-"x424dcc0bd7ea590d":[[1892],[3]],
-"x36a8e07148676a7d":[[1179],[67]],
-"xd96d8a106a56a41a":[[3956],[2]],
-"xd1ced0e32e11f934":[[147],[6]],
-"x714f0a7e13fc6ebe":[[1587],[13]],
-"xf522296f14af7aad":[[75],[3]],
-"x6227ed9db801db25":[[3169],[4]],
-"xde1b048a130c26f5":[[209],[4]],
-"x9a3d8e4a2ec30a8b":[[3642],[3]],
-"xa260b0156a6c4c5a":[[3567],[3]],
-"xcbae7fb1c4ee72ce":[[3761],[3]],
-"x918c356fa9abcc0c":[[2919],[3]],
-"xefcfe5564d19cd1e":[[3],[3]],
-"xe36576aaeba9d78a":[[3307,3299],[6,2]],
-"x44fad9244396c62b":[[1371,219],[50,12]],
-"xa944edb44086527d":[[333],[3]],
-"xc00761dfc292528":[[3642],[3]],
-"xd5a2c79025d80f4a":[[262],[3]],
-"xef5f3efb50c7abc7":[[3502],[5]],
-"xe0013ea41081a86d":[[1697],[3]],
-"x302ab5141f079034":[[3298],[5]],
-"x9863dc6507fc146d":[[3690,3699],[8,2]],
-"x7cfb86266ee73340":[[3226],[6]],
-"xf36e0a501e300585":[[1642],[8]],
-"x4d7596d6bdbb70ae":[[405],[9]],
-"xca504ad572ba6ea4":[[3902],[1]],
-"x74dbfbd58bc9923":[[3298],[6]],
-"xe8a47dc97270ca34":[[1309],[5]],
-"x7e8d43b4ba71901a":[[2788],[4]],
-"xf26193f2d7233306":[[1187],[1]],
-"xcb96647c602761ec":[[3763],[7]],
-"x80e0235d579985da":[[3699,3761],[10,3]],
-"xd31d607642aa9967":[[148],[46]],
-"x507fe577325344d4":[[3826,2202],[26,23]],
-"x227b69e8bd2bca4a":[[3234],[3]],
-"x2b8294cd6e81c6da":[[235],[6]],
-"x68894aacaf147166":[[594],[5]],
-"x1e098d74774dcf14":[[771],[6]],
-"xadbcbac520e2d97f":[[2609],[3]],
-"xb7994e21e3d647a6":[[262],[11]],
-"x646bd864c1a71226":[[2919],[5]],
-"xbad75d78bc91d1b":[[1763,258],[11,8]],
-"x8ae9dae0417bc0f2":[[1587,1546],[9,5]],
-"xdfd2fbaefd022676":[[1759],[3]],
-"xff7d2071f0a1dd73":[[211],[5]],
-"x3749b9ee098541a1":[[983,82,1699,209],[15,4,3,2]],
-"xdafe8d63a936a1bc":[[405],[13]],
-"x5b5695d1f1a0b3a":[[3307],[4]],
-"x9c9f102cdcb7f9b4":[[1293],[6]],
-"x139db38c540aa6ec":[[2258],[3]],
-"x8417b1a5e325913d":[[391],[5]],
-"xc03cadc6e2f5d847":[[1763],[6]],
-"xed824eb006c58915":[[586],[3]],
-"x41114b8d5be52a4b":[[3938,3690,3307],[31,30,5]],
-"x46e90c0a1b8b149a":[[82],[7]],
-"x4e0a67bab161769":[[588],[6]],
-"x600d3da0af40205c":[[405],[4]],
-"xf9a89b6ee6084816":[[2658],[4]],
-"xd453a646f9c8abbd":[[3956],[4]],
-"xe0dfeebf473ca34b":[[3966],[6]],
-"x84be79d94c1c3627":[[3947],[5]],
-"x1c6d39debb06e41b":[[2347],[10]],
-"x8d201c723f431bc6":[[1236],[4]],
-"x9885e9e650b97f5e":[[262],[8]],
-"x21fd20d5c28b1143":[[3234,3956],[18,7]],
-"x59d43ce026483252":[[917],[6]],
-"x740a3e76e9a5bc89":[[3819],[2]],
-"x3f7d298dff81ba0b":[[3947],[2]],
-"x9eb3594cd876d48a":[[2720,3964],[5,5]],
-"x3e78d250c722c3a5":[[852],[4]],
-"xe0f9a3a142ff226c":[[3902],[19]],
-"x9828b9687883a90":[[324],[6]],
-"xfc6add921d5c4190":[[3956],[7]],
-"x1a8c5c05b2698b20":[[3372],[18]],
-"x61319d2d44096bb9":[[3836],[4]],
-"x50b8c8ff269ac949":[[339],[4]],
-"xf07eade1c193f0d2":[[2477],[5]],
-"x7223315e910a4f2f":[[3958],[6]],
-"x9003847ace584284":[[2355],[2]],
-"x4e2d96dd374ef9eb":[[157],[5]],
-"xd17e836ac768c7e7":[[262],[10]],
-"x407c4a5a227b0091":[[528],[30]],
-"x5db5448e016c8c47":[[3690],[12]],
-"x56c61cc6979bc26f":[[3104],[5]],
-"xba7ab9e295c0c13c":[[3363],[4]],
-"xe4271960537e95d5":[[1776],[8]],
-"x66c96f855904947e":[[1380],[3]],
-"x45ad394ed3224d3a":[[3690],[6]],
-"x848decdd60f226fb":[[3902],[23]],
-"x6a1cc239b04f029":[[2851],[5]],
-"xfcc7c0f6d307ee0e":[[3964],[8]],
-"x339ef07f6bc793d":[[3177],[3]],
-"x5893db09967ad4d8":[[592],[6]],
-"x5577ac2b48ab6397":[[129],[4]],
-"x23ad7754946b3183":[[1764,1763],[8,3]],
-"x6c05644e50384f86":[[262],[12]],
-"x852fe8f671b78a83":[[194],[3]],
-"xeac82d6989e95b51":[[4094],[16]],
-"x2a59c64f9a4e450e":[[1892],[4]],
-"x82c373765d2c14a0":[[339],[4]],
-"xce0a3ede4d9db39b":[[2203,2915],[5,2]],
-"x6761105c9baf362e":[[1249],[5]],
-"x2386921c09d0adab":[[664],[3]],
-"x903466a18d407f94":[[2322],[3]],
-"x766ff7b2a81d6c4a":[[1902],[3]],
-"x53f8b9db115f99b4":[[1179],[5]],
-"xfa9264143b329dea":[[3322],[25]],
-"xe1ec422317c132b5":[[1292],[3]],
-"xe749cc4faa794ea1":[[3958],[27]],
-"xabbf3d83cdbe5d5d":[[3761],[1]],
-"xd505c15fcdeb1d7e":[[723],[10]],
-"x94f9dd4155931f13":[[3834],[7]],
-"x2975755dd72a4b79":[[82,405],[7,3]],
-"xdb1f0ac7236aac7e":[[1796],[1]],
-"xe42de776faf55488":[[2],[15]],
-"xbed3f2eb29ac76db":[[3234],[6]],
-"x11d24883e20cbd48":[[3299,3307],[8,2]],
-"xe763365b3e6200d8":[[258],[1]],
-"x76edafb2e2fb5bc6":[[666,157],[6,3]],
-"xc22f7a557ee44b49":[[3307],[1]],
-"x67a6a6abb40fe677":[[216],[6]],
-"xbe7935cb535a15f2":[[2931],[6]],
-"x244f86772a7e6fce":[[2931],[5]],
-"xe7295a5860e2edd9":[[722],[3]],
-"x134823e74aa1deb9":[[323],[9]],
-"x74eba403f8fba8ed":[[3956],[2]],
-"x5a49079378e1aa95":[[212],[5]],
-"x394b49d81bef30fb":[[2724],[3]],
-"xd33adc728e1849d4":[[204],[3]],
-"x625587f81b6b817e":[[137],[4]],
-"x1fab64d9493f4678":[[1371],[16]],
-"x8e85662d978a7a7a":[[1829],[23]],
-"x9228f6ace1db13c1":[[1837],[13]],
-"x6a0c42841c1b78ea":[[203,332],[8,3]],
-"xed7f5a99eb3eda60":[[536],[4]],
-"x3db687565f6079e5":[[2484],[2]],
-"xb53f2dded4083316":[[3902],[17]],
-"x3c121ec68a85f441":[[3761],[3]],
-"x2eaafd13f6fb7497":[[339,658,861],[32,27,4]],
-"x3d1412448326699b":[[1180],[4]],
-"xdfee0a1d15482895":[[1837],[2]],
-"x17a31f0cbdf2c8db":[[2781],[6]],
-"xcf595c800dfbb28e":[[3150],[4]],
-"xf4491f6e60b850a2":[[2724],[2]],
-"x55f96b636a09338e":[[731],[4]],
-"x9dc042310af7d257":[[3699,3234],[10,1]],
-"xf00059cca86b9b73":[[2316],[6]],
-"x9fe3f303dc273cc3":[[339],[4]],
-"x4770471e0239279e":[[3567,3502,3298],[4,3,1]],
-"x977268143b96ed2c":[[2983],[4]],
-"x96d7ca1c9f5419b7":[[722],[14]],
-"x8944a426d0169828":[[1048],[3]],
-"xdce5b2f4cfe93ac9":[[1812],[6]],
-"x6829b593d4781002":[[2788],[6]],
-"x95836f08b8f652f7":[[1244],[6]],
-"x283d007e410ed20f":[[262],[6]],
-"xf5399d385bc1cf7b":[[2404],[22]],
-"x25a99e6fdada2343":[[3234],[81]],
-"xd2da38c82674549d":[[2658],[1]],
-"x3c61cac6005ec693":[[721],[5]],
-"x793234bc277fba96":[[4031],[5]],
-"x26648d1b615d2585":[[2452],[18]],
-"xedc36f8a1fce180b":[[3902],[4]],
-"x7ba75cb1cf7bb6e4":[[3234],[12]],
-"x409ec7155a996bf":[[1577,861],[6,4]],
-"xb28c9a17ede27792":[[2852],[6]],
-"x34e19cfb0f9e6d2e":[[3690,3112,4013,3817],[212,166,151,9]],
-"x7e7f0f044c7f6753":[[1371],[6]],
-"x9e72ccffc66daa32":[[2398],[3]],
-"x4acf2e06e38ff9cd":[[1371],[5]],
-"x64f93382f66d8831":[[1821],[6]],
-"x5186e5497a300820":[[3956],[3]],
-"x76a9c1e7db316883":[[2932],[3]],
-"x48ad5ec97170e7d4":[[339],[7]],
-"x5e433252f4daf841":[[2908],[2]],
-"xf5d967a42e840a5f":[[1810],[4]],
-"xd3207fec0612d89d":[[3690,4013,3307,3429],[1860,443,15,8]],
-"x4ee93fa84f1476cf":[[332],[24]],
-"x7bdea4afb6c669bd":[[1374],[5]],
-"xcaee52a1e5a7feb0":[[2387],[2]],
-"xc55b1fedeb49a033":[[593],[4]],
-"x1c3115e787133944":[[1828,1827],[6,3]],
-"xacc1f5146b02937e":[[204],[6]],
-"xe4c5ce7c4cdf1959":[[3821],[118]],
-"xe9b940639a0e64e1":[[2396],[2]],
-"xae1fb32ac13f1707":[[3964],[4]],
-"x455d192f4f348795":[[2267],[3]],
-"x1712b681577532ec":[[658],[4]],
-"x21835500ac374abf":[[3763],[8]],
-"xcec43ded9e8c0c85":[[861,1745,853],[73,20,4]],
-"x504217275411b21d":[[339],[6]],
-"xb5bc820f03c33372":[[3298],[3]],
-"xfd4f5d94b1bc7eb0":[[1959],[2]],
-"xc812369d48cd9f7a":[[1578],[3]],
-"x5bac7eb1e0f533cc":[[536],[4]],
-"xeb22dbf1b53ddd93":[[197],[1]],
-"xcf5594139b5cc2f":[[3641],[13]],
-"x7bea021326717055":[[2592],[6]],
-"x4fecafd01d79df42":[[3690],[2]],
-"x87d4897b1696f71":[[3372,3234],[41,9]],
-"xc229e7e6cf259da6":[[2851],[7]],
-"x6b88c80b869ed3dd":[[731],[128]],
-"xf56024c794b193f0":[[536],[3]],
-"x7d029e39403be8f6":[[269],[6]],
-"xd12b2a019c8645dd":[[3642],[3]],
-"x9eb701c01f34c2c1":[[3699,3902],[4,4]],
-"xd692cb1ccf030f5e":[[3690],[3]],
-"x4d0f905f4411af24":[[2203],[3]],
-"x35ddd90d60f8b46e":[[2916],[1]],
-"x403d2b49291577f3":[[4022],[3]],
-"x106932f61c35b6d":[[1827],[8]],
-"xc98e1e1132535f11":[[1293],[14]],
-"xdc207bff167f32d3":[[3373],[12]],
-"x3698aaa1ad143a30":[[175],[15]],
-"x84827cf289a29441":[[3964],[5]],
-"xf27a2de63461659d":[[1683],[3]],
-"x1e35d964a5ebe548":[[2833],[6]],
-"x255289ddcb333362":[[1293],[13]],
-"x6988a5ccebfccfb5":[[536],[3]],
-"x54fb6856d91706e":[[3833],[4]],
-"x162bcf2f959c05d0":[[790],[4]],
-"xb1c26b386df14f64":[[2715],[5]],
-"x2e43d1801f518c07":[[3362],[6]],
-"xac88c3acb1d4056a":[[3307,3299],[8,3]],
-"x109d16443eacdaec":[[1371],[10]],
-"xaacc28a5efee2ea9":[[1762],[3]],
-"xb232c6261834c6cb":[[1308],[2]],
-"xaf0afed84820f45d":[[1348],[3]],
-"x387432139b9c9335":[[1244],[2]],
-"x1c91f87b391871cd":[[2138],[5]],
-"xf31c5b1650cf32a3":[[2212],[7]],
-"xa0cb44638543dede":[[1681],[3]],
-"x4930f4dcfa2560e6":[[1187],[3]],
-"x35ceb37906607764":[[1761],[3]],
-"x2f1fc0b7d27e581c":[[3234],[4]],
-"x2d0ffc6e82a9e237":[[918,788],[12,2]],
-"xecd51204bfe6563e":[[262],[1]],
-"x14ccb00c71fd8467":[[3699],[6]],
-"x73a4a15e9365b5f9":[[1187,2477],[100,96]],
-"xd4645c40b2f405d1":[[1178],[6]],
-"x9cd6155ddcc42547":[[731,1382],[43,6]],
-"x7364e78f4f3e7c8d":[[3161],[3]],
-"xe9737273bf5fa79e":[[75,1382,536],[170,50,19]],
-"xf3919bcde2ac4668":[[3902],[3]],
-"xa34ef395810e0735":[[3567],[3]],
-"x2d6670b73dffbfd5":[[3947],[1]],
-"x3cc76b45c6828a86":[[2722],[5]],
-"x36ed033565c4d983":[[1371],[3]],
-"x61e0ef8ef4d8bdd2":[[334],[11]],
-"xe5ab79772d421451":[[3749],[3]],
-"xfc60e24e4cb5c00f":[[1899],[4]],
-"x10c0ddb3a6d2e2c":[[1123],[5]],
-"xf5d87808a3342875":[[3300,3321],[6,1]],
-"xc19e2e83f231fa6b":[[129],[5]],
-"x21f189d4a2f9cc60":[[3299],[5]],
-"x7ee13ce47177f060":[[1618],[4]],
-"x1784c766aa34a19a":[[2915],[22]],
-"xb43bb09a76f764e9":[[3299],[5]],
-"xd6063a1ab3fe033a":[[334],[3]],
-"x6da401aeaf33d60a":[[536],[2]],
-"xf90122401d563424":[[75],[4]],
-"x3983c7b3b0af2863":[[3892],[6]],
-"xc6cb7919bf93dc5c":[[1371],[47]],
-"xeac85697251a830f":[[3902],[4]],
-"x6dd67adac1eca875":[[926],[2]],
-"x6fb28e9464b60f53":[[1228],[6]],
-"x7ea4e72b8b260acf":[[2162],[4]],
-"x8b1e7da6e1888d61":[[2931],[3]],
-"x1e09ea2f1b873d2c":[[3364,3372],[5,5]],
-"xc5e46e84001ec55a":[[796,918,405],[20,13,10]],
-"xaa63dbddcbe4abd2":[[2715],[2]],
-"x37116275e402f3a7":[[3150],[6]],
-"x8c25aa22c5511c4":[[202],[3]],
-"x88bcd18e1ff332b2":[[2266],[7]],
-"x5fffb7733927f8f7":[[1941],[20]],
-"x60873f57dfc96bcd":[[3699],[5]],
-"xd4c84d196a3ab012":[[3742,3826,3763],[38,8,8]],
-"xaceaa21eb238ad4b":[[2338],[2]],
-"x311e1f254ff87ee":[[334],[10]],
-"x6a5dbc5518550767":[[2023],[4]],
-"xa438ba56cfb2adec":[[4022],[5]],
-"xd8ea891e797c11ae":[[323],[6]],
-"x717fcd900a8bd239":[[2325],[1]],
-"x9f3e19d8ced9949e":[[601,723],[31,8]],
-"x932ae3b08a9944c5":[[1683],[2]],
-"xdc568342d193f453":[[353,983,658],[6,3,3]],
-"xa4c382c494791a36":[[853,788,405,407],[72,57,8,8]],
-"xde4b5072472fb84d":[[2217],[2]],
-"xb5aa6b6022147b6a":[[3761],[7]],
-"x8bca860ae609f772":[[536],[7]],
-"xa41cec139e9e29d1":[[2723,2592],[38,16]],
-"xd3b51c39e46492cb":[[3902],[3]],
-"x9299ff96d0b312b7":[[3742],[3]],
-"x74d2f9e67a97b632":[[3242],[4]],
-"x3dba8eaef273d5a0":[[3902],[3]],
-"x3e8cdf50de6ebb78":[[3956],[4]],
-"x9abd479de5ad97cb":[[1699],[41]],
-"xcb4f3c2a8ea437f8":[[3826,3902,3901,2203],[19,14,13,2]],
-"x5cdee8f7e8c5fdd4":[[2908],[3]],
-"x5fbb8f0460416a67":[[1681,1676],[6,5]],
-"x7abc1e7d3ef2147c":[[1243],[4]],
-"xfd939282d1df5275":[[926],[1]],
-"x2bc97b465fb27dc5":[[2137],[3]],
-"x1693de868202598c":[[2163],[8]],
-"xcf4fd3f2cd283c05":[[3929],[69]],
-"x2dd9e56db02839b0":[[3957],[3]],
-"xe9fba1056f84255c":[[2130],[17]],
-"x907ecadf67e86892":[[3178],[3]],
-"xfe0f51c00304bf66":[[3429,3104,2525],[25,11,1]],
-"x7006fe6e89369817":[[2478],[6]],
-"x52e8aa8436908b31":[[789],[5]],
-"xcb4fe00af051ca50":[[528],[5]],
-"xb7c1229f50da5def":[[594],[3]],
-"x4ab0881ba420c2c1":[[1108],[5]],
-"x15b12ee4ce71acb7":[[723],[3]],
-"x9462856f82fa39de":[[2],[5]],
-"xb8f3a13801493927":[[4013],[3]],
-"xf77f0fc6dcc6002d":[[2982],[2]],
-"x9d826fb4cb6c1905":[[1762],[5]],
-"x6d60ecdbb34697ea":[[536],[6]],
-"x565cb95c81e85f9d":[[268],[5]],
-"xac1c2be2e643f12e":[[1828],[15]],
-"x57d58719c7c98f0f":[[148],[6]],
-"x104fcfca82549eea":[[1562],[3]],
-"x1c81bc96a6552dbf":[[1611],[2]],
-"xfd4210dd16cab15b":[[2593],[6]],
-"x6bab70a77198ef71":[[1064],[3]],
-"xc102ce448d06770c":[[2715],[2]],
-"xcb13621511e5ffbf":[[3956],[31]],
-"xa9d6faee42f5b893":[[3567],[6]],
-"xea2327b53219cb90":[[3690],[7]],
-"x4a4a2e41d7aca8af":[[204],[15]],
-"x30fc6d59e9212b2e":[[3699],[3]],
-"x6efd7f5e76736a3a":[[339],[3]],
-"x323848f27eaefccf":[[202],[5]],
-"x9b46e52004de59f4":[[731],[4]],
-"xe8ea548090e8f1b0":[[3169],[5]],
-"xec53a90c716f3724":[[1699],[2]],
-"x9159ff9a913b6f0c":[[339],[4]],
-"xb9fd39044c15a0c3":[[788,166,918],[14,5,3]],
-"xcc585e2a2f8e221a":[[601,788,918,731],[19,12,11,4]],
-"x74f4e073ed519fa4":[[1187],[13]],
-"x8d9c6fc92b199018":[[3752],[5]],
-"x19bdb972df58e198":[[2739],[5]],
-"x513964b1cae98c70":[[2915],[4]],
-"x1a15ea2bf7c043ec":[[1681],[3]],
-"xf539e7d8bdfbf0a3":[[1763],[4]],
-"x40f41d3f11f17457":[[2927],[3]],
-"x18a0f431d335943d":[[3690,3964],[9,6]],
-"x72d65c12cecfee29":[[1428],[4]],
-"xdb4b0f947beb89ea":[[157],[6]],
-"xe58617a9bca08d8e":[[804],[11]],
-"x550067d4706282c3":[[796],[6]],
-"x52cfb75342dee903":[[1827],[13]],
-"xe23504538c3833c5":[[3699],[7]],
-"x3795adab9642aaf8":[[2203],[6]],
-"x7f2b8a5facd40dbe":[[3177],[5]],
-"x795592d430ac5d2e":[[3902],[2]],
-"x54ea0cfd088d5833":[[251],[3]],
-"xc9cfd9a6d30bde96":[[262],[4]],
-"xd7f7912ba2a220e":[[1050],[3]],
-"x709c314bd27a70b6":[[3761],[4]],
-"x7fb7a7765488cb7a":[[3947],[5]],
-"x76e6faea9d2b8823":[[2281],[2]],
-"xb61ead5eeaff9b83":[[2919],[4]],
-"xfa7c3aeb80ccf584":[[3902],[3]],
-"xff6963cd78991f2f":[[3567],[7]],
-"x972fcd766d458a7c":[[1113],[6]],
-"x161a60277703c81d":[[4013],[4]],
-"x55d360511c0ae94c":[[3374],[3]],
-"x151882e38535fdaf":[[3299,3307],[9,2]],
-"x34f2389f1ef0e611":[[2463],[7]],
-"x9a068a640a53853a":[[729],[3]],
-"x5ab693506f2c1c69":[[1699],[14]],
-"x3a3fb4f566f47ab9":[[2910],[6]],
-"xf2f41c0ea4ad7f89":[[1048],[3]],
-"xbfdb6e914129daf3":[[3169],[11]],
-"xebd070288f6ebfeb":[[1747,3956],[5,3]],
-"x78142d2fe1e1fc50":[[2217],[3]],
-"x3b57804a3b0574d2":[[2852],[4]],
-"xec36865dec6fdffc":[[1382],[3]],
-"x830eb9b20758d1de":[[4013,3299,3372,3307,3429,3502,3234,3242,3690,3177],[6341,2667,314,206,140,76,13,4,4,2]],
-"x2cf5ab6fffb3ca53":[[3307,3902],[17,8]],
-"x84278bbd03c54a9":[[1114],[4]],
-"x629ce891651d0d3":[[1375],[2]],
-"x3780e33fc66284e2":[[324],[9]],
-"xbcd8123ea3ce28d":[[3929,3826,3299,3817],[12,8,4,4]],
-"xcf685c77fcca4ee8":[[1634],[3]],
-"x98551e2934fab9c6":[[157],[3]],
-"x31e7ebe3b61f0f70":[[334],[4]],
-"xfa8aff55163f8da4":[[658],[5]],
-"x6e0a55becd4b33dd":[[658],[7]],
-"x1f833754fc30df4f":[[3372],[1]],
-"xdcf00fbed857046c":[[3112,3699],[9,2]],
-"x75721cf4888e6ab3":[[1423],[6]],
-"x252aa43b8aef4687":[[1373],[6]],
-"xdf1da5b6c9fe5dcc":[[3444],[6]],
-"xbb5097539d2fa65f":[[324],[6]],
-"x61476933e62154e7":[[2349],[5]],
-"x8a6445e9a88294fa":[[593],[3]],
-"x3a3455b62d4d4bc":[[918],[4]],
-"x8ad8c714d5679d9a":[[796],[12]],
-"xf5d4ef4048844b45":[[3372],[3]],
-"x32243f7b69431b68":[[2200],[3]],
-"xaef33d60d308a279":[[3828],[4]],
-"x6dab07834db7a858":[[528],[2]],
-"x57848b7c985df20d":[[3366],[4]],
-"x54a4d5d3633c5c7e":[[334],[4]],
-"x9044f9f9f9576fda":[[1827],[3]],
-"x6960d09d6cc82a9e":[[2917],[2]],
-"x932cddd22dcd3769":[[2023],[3]],
-"x72246ebc6391229b":[[1957],[3]],
-"x36d50da8b62ae083":[[2389],[6]],
-"x9426777fc4f7e44d":[[3169],[6]],
-"xda48997503d0":[[3956],[5]],
-"x959a9d191cb99267":[[4013],[2]],
-"x2e0461e80962e87b":[[918],[6]],
-"x84bf5955fe29ba62":[[917],[4]],
-"xa97a969a1fa9bf1c":[[262,2],[8,3]],
-"x56b89d7a390088e2":[[3642],[3]],
-"x252d8d7c00175e69":[[3299],[3]],
-"xe850bf9a9bcc7278":[[2739],[6]],
-"xbea61c150f5d9b61":[[3372],[4]],
-"x807c51d080ac8bc4":[[796],[9]],
-"xa9f4598bcf95f126":[[2284],[7]],
-"x5b3fc249627bd994":[[2915],[24]],
-"x84a69c754fdab4c8":[[1893],[6]],
-"x98722d9cae117b5":[[1180],[3]],
-"xe2a851e0f56141d7":[[3124],[3]],
-"xacdb42c0a8709d9b":[[901],[3]],
-"xde2a9d2133c4fc82":[[3112,3956],[11,6]],
-"x5c8d0a41c722eb64":[[399],[6]],
-"x44260764e5c16565":[[2196],[3]],
-"x31af61742cbaa316":[[3699],[13]],
-"x488d69255f297549":[[1382],[24]],
-"x97a2a622ec7187c0":[[204,918],[7,3]],
-"x1b24eee406201cf5":[[3364,3958],[4,2]],
-"x2ab24c04d3ff0423":[[262],[3]],
-"xfed0b3d879cab288":[[2477],[2]],
-"x17e075d8f903e37c":[[1308],[16]],
-"x5fb1dd9ea792bcc6":[[1828],[5]],
-"xe5ae93de696484df":[[1314],[9]],
-"xeb30bae10ab8bac2":[[3699],[7]],
-"xb5c10e8342aec68d":[[3826],[23]],
-"x851fd79d598606b5":[[3112],[7]],
-"xc6d689ab591cbb06":[[3958,3299],[107,13]],
-"x222b33f056f8e570":[[262],[34]],
-"x5084b33daff8ea50":[[3963],[10]],
-"x7003a98833410125":[[4031],[3]],
-"x4657a4948f608b1e":[[3374],[7]],
-"xce5d426cf20e543c":[[148],[6]],
-"x96edd6d01d1d6da1":[[1380],[3]],
-"xca556f4d5f5c4ddf":[[1700],[3]],
-"x45007d3e07d2eef7":[[391,196,536],[11,10,7]],
-"x67890a9c580fd51a":[[3742],[7]],
-"x50b738cdcbb44480":[[1180],[6]],
-"xf64c88c288252d59":[[3958,3242],[14,3]],
-"x445ad8ce46b2d8f4":[[399],[3]],
-"x5fd1baca339e01b1":[[1113],[6]],
-"xc6d9f6440bf15be7":[[1745],[9]],
-"x52d666802424c5c8":[[3387],[3]],
-"x5215f5a0b7a45cf4":[[3306],[3]],
-"x33191c72abc404f4":[[2350],[12]],
-"x3392af4c170c6902":[[3929],[19]],
-"xa0ecd1f053824d06":[[399],[4]],
-"x68e288344012b7c9":[[3902],[6]],
-"x1d4bbde84cef8e11":[[3762],[3]],
-"x5f719205c3b74484":[[3300],[3]],
-"xc3cd69ba59ed7607":[[1762],[6]],
-"xe4e57f97500ac04a":[[789],[4]],
-"x706aaf3e506ebc76":[[2349],[3]],
-"x5d090757a840c418":[[2788],[3]],
-"xef536648b9c30c0c":[[3364,3502,3307,3372,4013],[42,30,22,17,14]],
-"xf0e1c68e340d3240":[[334],[163]],
-"x65e9e3af43a3ef54":[[259],[7]],
-"x1daf285d29e0498e":[[1672],[3]],
-"x121147c2593e63c9":[[262],[6]],
-"xdf49df58c6d6ec92":[[3177],[3]],
-"x2800906e7bc2229f":[[2915],[101]],
-"x9d2c874fa55165fa":[[3699],[9]],
-"xf8dd3131210ca5ad":[[2541],[4]],
-"x2d4514d96a94e20d":[[324],[3]],
-"x7a37e1569e7a6c6b":[[1763],[20]],
-"x1e6947e61e1500ff":[[3761],[3]],
-"x6d8b063cc84d7676":[[3429],[8]],
-"xbf4f8d6b6cc96ea4":[[1371],[3]],
-"xaa24cd49cca1ed52":[[2],[3]],
-"x2e12ab53308b82d1":[[1698,1699],[4,2]],
-"xc07bc7e7e534a41f":[[262,1699],[20,14]],
-"x673bbf0b33dd7776":[[3761],[9]],
-"x8a8c27eebd702e90":[[3902,3242,3234,3307],[80,16,8,5]],
-"xc0e85cd4a76920e3":[[3503],[5]],
-"xbf84aca1a2e2b402":[[3299,4013],[26,15]],
-"xe1438e0091a16e1a":[[901],[3]],
-"x8956b29c3c00fb8d":[[731],[5]],
-"x3a5be15ad3c1639c":[[2723],[5]],
-"x981935ffa0b03d7a":[[2915],[4]],
-"x7393017ec5635c77":[[1988],[4]],
-"x7b4a875b9312b605":[[3307],[5]],
-"x8b02a716686d3a42":[[2915],[4]],
-"x87eec676287a9ea6":[[3],[7]],
-"xc73049593282c7a6":[[2786],[6]],
-"x6604fbdd43edbc02":[[3956],[3]],
-"xd2faba4017bbd7a0":[[3641],[2]],
-"xc7723bac4a4265bb":[[3929,3299,3234,3177],[122,119,22,19]],
-"x782f2951fbf293c5":[[918],[6]],
-"x9133005eebb18b43":[[1699],[47]],
-"x11001d0ffe40e75b":[[991],[6]],
-"x238ce676de7e65bd":[[983],[4]],
-"x661d815061c3de0d":[[1681,262],[7,2]],
-"xf3afc56b9141c3b5":[[3704],[4]],
-"x3ccb146e2e6c6a61":[[3827],[5]],
-"xa9c7117747be15b2":[[262],[3]],
-"xe051574a5a5b94ab":[[3436],[2]],
-"x48f87c0105a4e5b1":[[231],[4]],
-"xb4e4edb8f30ffde":[[2268],[5]],
-"xd58df98987438fbc":[[1764],[120]],
-"x169705c81f269074":[[2268],[10]],
-"x6090991726a0af07":[[3112,2266],[4,2]],
-"x79c0d1bb4378c930":[[731],[58]],
-"xca348538b60425b7":[[725],[6]],
-"xf098063c253304e3":[[796,788,918],[37,16,5]],
-"x8b29cda65e9b672c":[[203],[7]],
-"x202080424ae0b294":[[1371],[2]],
-"x2506da8cedf52c4f":[[203],[4]],
-"xe56c9d52d09b1985":[[3372],[7]],
-"x1759056ed67611e9":[[2163],[5]],
-"xd1be2e72f20c0a5d":[[1763],[5]],
-"x59d0d5a76bfe0cf4":[[3761],[4]],
-"x9c2b561defd462ed":[[2471],[3]],
-"x8a681d8c7ac14d01":[[1971],[6]],
-"x9eaa59fe025ecc03":[[2072],[2]],
-"x9d1c94ff7a8b318e":[[1227],[6]],
-"xb4cea2c614b61df5":[[82],[4]],
-"xdcba71c8aeff86ab":[[1697],[7]],
-"x241859958744dc4a":[[2491],[5]],
-"x9adc7d8a7a5de1fd":[[262,983],[34,23]],
-"x28f1f2c33b9f923a":[[2852],[62]],
-"xbb878b58601840e5":[[3902],[4]],
-"xcae37ae9fb90fa5f":[[405],[4]],
-"x70e9a1312a7d4715":[[3307,4013],[3,2]],
-"xc161f946b9b0c9f1":[[3902],[2]],
-"xc1a99ed76315c9bd":[[2720],[3]],
-"xd98b85c479fab02f":[[2609],[3]],
-"xcf5ce2a290b02520":[[794],[8]],
-"x4574b073c6048284":[[3104],[5]],
-"x37dbbbc87775352e":[[723],[1]],
-"xd0aaf54993098cb3":[[332],[7]],
-"x4bd85d7cb529da37":[[601],[3]],
-"x6324713ec3cfd18b":[[3307],[15]],
-"x70e11997a0d7a685":[[3372],[6]],
-"x332c1093e8e73824":[[405],[4]],
-"x9e51330d11fe86ee":[[3958],[13]],
-"x1497cdc64871845d":[[1828],[2]],
-"x8de175faa51eaa12":[[2908,3307,3299],[9,7,6]],
-"x373d7ada1ec4df38":[[2915],[4]],
-"xc10eb1b50020b7e2":[[3958],[4]],
-"xf9013976e9e3b450":[[3242,4013],[17,13]],
-"x98affbbb9c76ec54":[[1091],[3]],
-"xb3b8a0335ecb2b76":[[3901],[6]],
-"x307e08b2a33e4dda":[[1745],[15]],
-"x4715f66eccc146f4":[[166],[3]],
-"x4bd42859524f56e0":[[4013],[2]],
-"x5cca307c5dd48b46":[[732],[6]],
-"xaaa1a7568377a577":[[1699],[4]],
-"xfb934825e1b86b0a":[[231,82],[20,3]],
-"x27fcf4dad2c192b8":[[853],[5]],
-"x91280c834fa854f1":[[2138],[6]],
-"x114776368c87dbd3":[[3372],[1]],
-"x6f0d1b4f06ab046":[[2592],[3]],
-"x8aece10d10d0089e":[[3964],[3]],
-"x9a92f15adc16e773":[[2915],[7]],
-"x72028b3c2682e334":[[222],[24]],
-"xee2b83f65296353c":[[405],[91]],
-"x378b7a0875698d3f":[[3902],[12]],
-"x27e58a103ac8b300":[[3389],[3]],
-"x49b4eff4f5b49a7":[[405,396,1763,528],[77,19,4,4]],
-"xab97d102d55c1d0f":[[2292],[2]],
-"x4ed2f49a5bf6bd":[[2036],[61]],
-"x21241038232ef41c":[[1445],[3]],
-"x26aa747e1cc4a1b7":[[797,861],[24,8]],
-"xb44b695e94d6db14":[[1],[2]],
-"xb7e790f85c874c7":[[2720],[6]],
-"x7ea73baf206baa87":[[2852],[1]],
-"x4140c6942e4a9efc":[[601],[4]],
-"x5264954dff43b403":[[3742],[11]],
-"xb859b994c63eef92":[[666],[4]],
-"xfcfb794d2bf99f13":[[2745],[3]],
-"x84b4dd22843c37cf":[[166],[2]],
-"xc3e195b90da516f0":[[3902],[5]],
-"xfd07ff9e6a67bcc4":[[3947],[4]],
-"x925c33d89e0f3d3":[[64],[3]],
-"x56bb3a13aa0a1068":[[3169],[35]],
-"xfc6561a8b43b8f7d":[[3699,3177],[11,2]],
-"x103342ba8b223a00":[[3566],[3]],
-"xa37410d47e22b4fb":[[3808,1618],[5,2]],
-"x34b9c515659dff6f":[[2723],[4]],
-"x8dcb4a665be344f2":[[1371],[9]],
-"xd0eaf9d7bd971088":[[3769],[4]],
-"xa944fb95ebcb003c":[[3177],[3]],
-"x74ab4e94e7344cb8":[[3902],[13]],
-"x92f91262eb4adecb":[[262],[5]],
-"x1a59475d29d4f482":[[853],[3]],
-"x8022bedca6f66a93":[[4013],[6]],
-"xf1d912680a0ccf1f":[[321],[2]],
-"x3c9de18cfa3e5829":[[2851],[5]],
-"x2f5857c8cfd267d0":[[2131],[3]],
-"xb8cd40de7e7cfc14":[[3742],[8]],
-"x3efba9c770c7ca1e":[[3299],[10]],
-"x18de9d0f55748f98":[[3958],[31]],
-"xf18b8332683cff2d":[[3690],[7]],
-"xd44f7239c5006603":[[796],[3]],
-"x923c98931f361c5a":[[268],[10]],
-"x4ac18eaaf564b397":[[2723],[1]],
-"xa919174b2c45d7ff":[[3307],[4]],
-"x21ae948fae0fd399":[[4013],[1]],
-"xd2210a06ac86d9c4":[[1828],[2]],
-"x286181401786874c":[[1828],[2]],
-"x473b381bc68abc9e":[[1699,601],[5,2]],
-"xd0aaf92e9618e03c":[[346,918],[33,5]],
-"x259c6d90b9c209b7":[[1699],[15]],
-"xbfbec564f9de5c91":[[3234],[5]],
-"x4f7600c4fab60918":[[262],[2]],
-"xf29e4ed8822e2791":[[405],[4]],
-"x49fbcf977f751965":[[332],[4]],
-"x7ef8253213fdbc00":[[203],[20]],
-"x733b6d998bf621a":[[1242],[10]],
-"xe592095f7a0666ce":[[1699],[2]],
-"x43e5ce5c7a93907f":[[1570],[1]],
-"xea79bb52e678122f":[[528],[5]],
-"x2b41f03c24ff055":[[3502],[6]],
-"xd904bcbf88f64a6e":[[129],[5]],
-"x3f7af60fb8a52ba4":[[216,2,209],[13,10,10]],
-"x9b0b6d1cbf0b93d":[[577],[3]],
-"xbf0160cf1c248719":[[1098],[1]],
-"xbee8cdd669134329":[[262],[10]],
-"xc22efe9ce53dc5cc":[[3879],[6]],
-"x74e996fefbb2376":[[788],[6]],
-"x1483eaab4c9ae15c":[[3177],[5]],
-"xa73cc115cdf02507":[[2203],[4]],
-"xc7d1972429f4ebbe":[[1155],[4]],
-"xe31394f88ad1b2f9":[[2851],[1]],
-"xcc7414b9520d6c8f":[[323],[4]],
-"xad873851e2b8d85":[[323],[3]],
-"x21b78c305e5f20a9":[[3902],[7]],
-"x642b9691ce2bfbdd":[[3956],[87]],
-"x4f7a9abf84aa2d7e":[[666,157],[84,4]],
-"x7b6b9f80795dc96b":[[917],[3]],
-"x7f5adbed473cb573":[[2397,4031],[12,2]],
-"x10e24050b17b3dc1":[[731],[15]],
-"xda070689f80989e3":[[203],[3]],
-"xc813ef0ece068a53":[[1894],[11]],
-"x9eec076b0269292":[[3307,3234],[33,2]],
-"x61d6637e48628f34":[[137],[3]],
-"xfa2001013dcee1b8":[[262,666],[14,2]],
-"x67d042f54855b86a":[[2202,3819],[3,3]],
-"xe3dc702925b1bd96":[[82],[4]],
-"xbc459f8f44027c64":[[2720],[4]],
-"x68103c8b47a4b0cd":[[2898],[3]],
-"x3806ed9d741ea779":[[203],[2]],
-"xb18b7ed41d405b12":[[3511],[26]],
-"xcb70b44dc4aa2542":[[1763],[4]],
-"x692011f4de572f14":[[2484],[6]],
-"x11b4792ef809c6c3":[[528],[16]],
-"xdf64a8d9e78a5634":[[3963],[5]],
-"x55eb8a36993799e5":[[3567],[4]],
-"x6df76d22b6e85be":[[3644],[3]],
-"xbd1ad9d006a35043":[[3307],[5]],
-"xaf09505c82e7ecfc":[[1217],[5]],
-"xd3f824632a64dc51":[[3112],[2]],
-"x52e994e7754e8e5d":[[3307,3964],[26,5]],
-"x9a5e536c8ba968b":[[2],[18]],
-"xd07f7b905c6183af":[[3299,3502,3177,3372],[38,21,5,4]],
-"x6ecfea8052a26918":[[3832],[5]],
-"xa76362b5e27106d8":[[82],[7]],
-"x10bb5f9522be04f":[[796,536],[82,3]],
-"xe4c7fe57c35e7358":[[2732],[2]],
-"x62131822016e1266":[[3169,3956],[17,10]],
-"xa51875fc96763382":[[3827],[3]],
-"xca8aaed60d33a5f":[[3372],[7]],
-"x4d0716562184fefe":[[82],[11]],
-"xcf35656f355e3476":[[2266],[7]],
-"xe0ae0796e0cbead4":[[3642],[4]],
-"x9231ace89cd2c35a":[[3299],[2]],
-"x22b4e052f18fab1d":[[405,82,918,166,202],[2448,1585,278,9,4]],
-"x8cc671a898349c30":[[1380],[19]],
-"x1828929d2cd79c06":[[262],[8]],
-"x61d0c325bdc6f98e":[[3742,3502,4013,3429],[44,40,13,4]],
-"xfbfc9759a35f4fb2":[[2203],[26]],
-"x40896c08f20cc454":[[2266],[6]],
-"x6c90696287cd352b":[[3958,3242,4013],[36,12,3]],
-"xc2b2f6808bc44ab":[[3177],[4]],
-"x7ad274fbeedf08c4":[[666,324],[178,64]],
-"x27585cea292380e9":[[3234],[4]],
-"x6f2102132433866c":[[1307],[4]],
-"x592755e966d255e9":[[594],[3]],
-"xb52c93cb7d9661ca":[[75],[7]],
-"x604ad9a1a73727c0":[[3372,1941],[18,5]],
-"x5ad6bc5d4d57bcc6":[[405],[11]],
-"xbe94f5fec7f2c398":[[3817],[5]],
-"xe47db7c09966eee4":[[1546],[21]],
-"x9dd12febcd7ea38a":[[788],[3]],
-"xded1722e4251f18":[[1641],[3]],
-"x2fb8788e93d8ac56":[[3826],[1]],
-"x5936160468ed4224":[[2089],[2]],
-"xbc4611a14568a2dc":[[3763],[1]],
-"xb880abec8d97ee22":[[2477],[4]],
-"x191624d6370c0498":[[1568],[6]],
-"x3c4289710bc3ade5":[[3299,3950],[3,1]],
-"xfb5f558a378ca7e6":[[405],[46]],
-"xeccb77dc1f02de29":[[1372],[4]],
-"x4ae3f894aa8c579f":[[3372],[49]],
-"x807949893bc2e696":[[216],[5]],
-"xbe080b605658a07e":[[219],[4]],
-"xc2977736127e8c01":[[2285],[5]],
-"xcbc554e3e6b531b9":[[334],[27]],
-"x15dee38a2516b183":[[788],[3]],
-"x4c9ad53b904c6a78":[[1681],[16]],
-"xdc9a51d7fb613111":[[2331,1959],[5,2]],
-"x34f5b7aa3576e33c":[[3372],[5]],
-"x38cbd2da97b4e63a":[[3749],[4]],
-"x9577c3e54dd7bedd":[[2414],[6]],
-"xa6b3926b7618c2e6":[[2787],[3]],
-"x12ace1cfbc738bed":[[1169],[3]],
-"x751c195217a7ec0d":[[2283],[4]],
-"x9fb5bfe43fd3d3b0":[[204],[4]],
-"xf6159110bc89ff34":[[1749],[5]],
-"x2200576fc51e730e":[[1252],[6]],
-"x21bcd21bb87c3c3e":[[405,666],[5,2]],
-"xddbc5e080e44a548":[[75,166,1178],[74,5,3]],
-"x3d4ef8f64fe53cd7":[[1372],[4]],
-"x909e87bf5f7a596d":[[1112],[5]],
-"x46771eadd73dc7d1":[[262],[6]],
-"x8e914c495bbc2f7e":[[323],[6]],
-"x81d8e9dddbec42f7":[[788,75],[18,4]],
-"xd927dfa8977a66a1":[[3243],[3]],
-"x8aa0f62f12dda375":[[983,262],[11,4]],
-"x690b05daa94196e8":[[983],[10]],
-"xd2010923f812e3a8":[[2137],[1]],
-"x4621413e03310203":[[216,1371],[11,5]],
-"xd4c67466d047577a":[[1179],[3]],
-"x559019abd004c66a":[[3313],[3]],
-"x16e0204f6fa21d6a":[[3699,2266],[12,4]],
-"x1945f8a1fa0f7fb9":[[732],[4]],
-"xad8fce31a01695":[[3902],[2]],
-"x78123b175af4ee03":[[75],[6]],
-"x6b63d76d9b7d90b9":[[1307],[11]],
-"xc32bef09f883c733":[[2277],[2]],
-"xb2b9913a3d36601e":[[396],[16]],
-"x69bd6da99a6a14f2":[[3817],[3]],
-"x8fe96dee50fa39c3":[[3964],[5]],
-"xf788cb145bbdfdb1":[[4013,3299,3307],[5,5,1]],
-"xaf659f3ea1f52cf2":[[3902],[2]],
-"xc05ab66e020fc711":[[2266],[2]],
-"xed70ba42c2e562ab":[[3828],[4]],
-"x4f1846e1a867bb61":[[788],[5]],
-"x95fa8d363cfbc201":[[1553],[191]],
-"x39aae254f364959b":[[796],[5]],
-"xa8026594e7e8d867":[[2202],[2]],
-"x2bb9ad86d7e3eb62":[[113],[8]],
-"x14d07bb6684a2867":[[3307],[21]],
-"x61751c980bd1aabe":[[3761],[4]],
-"xd43cfbcc67385945":[[3956],[4]],
-"x3cf56e39c16d9b7d":[[3502,3947,4013],[6,4,3]],
-"x1b452bd011428a78":[[1244],[2]],
-"x9448810d5f68d78e":[[2916],[10]],
-"x5244217f5cc6978b":[[788,405],[10,4]],
-"x52221e7068e27570":[[3125],[4]],
-"x13a64dbd0c541168":[[786],[4]],
-"x43ed81ed5622df19":[[339,82,75],[22,16,15]],
-"xef1eb74b4e28325":[[2908],[3]],
-"x6273507cf1b46673":[[3373],[87]],
-"x7ff840ef60c1349e":[[3807],[4]],
-"x44c8c30e6ce85967":[[1763],[3]],
-"xa460a3c588416aee":[[3699],[3]],
-"x505ddde07ae08be9":[[3307],[6]],
-"x2b6e94b4a5dbae55":[[1179],[2]],
-"xd1869dd70edaa5e0":[[3902],[155]],
-"x9f4d9e1093f89ac":[[3372,3690],[46,2]],
-"x7c468867af7cd1cf":[[2593],[2]],
-"xb8a62bb07e86ad02":[[1763],[18]],
-"xac0bc3634f463dc1":[[334],[4]],
-"xeb1abe2ac8d4a560":[[3325],[4]],
-"x494940baa054b057":[[3834],[8]],
-"x273a1413ba80ed0a":[[796],[5]],
-"xd764b35979a05655":[[1619],[3]],
-"x9586176fb53be12a":[[1828],[9]],
-"x2fd2bc41ff94e9cf":[[3112],[6]],
-"xafffa3551ee5f074":[[1179],[3]],
-"x461df8532ee73266":[[1355],[16]],
-"x1320891702a0fbc2":[[139],[6]],
-"xd68fd7dfa171b31f":[[2332],[7]],
-"x277efaac6ac7fc6a":[[4022],[6]],
-"x30bfa3bdebc7d13e":[[148,139],[7,6]],
-"x123429fd9237f494":[[1284],[3]],
-"x6b360ebdd1d1ca0b":[[1779],[3]],
-"x884425dd5eda2ec3":[[1957],[3]],
-"x23e8558a8116abf5":[[1878],[5]],
-"x6b307523533e4978":[[796,1763],[7,6]],
-"xa6cd259666eef679":[[3178],[4]],
-"x7e459a6d9eab2f0c":[[2088],[3]],
-"xac1dcc254f4dd6fb":[[332],[2]],
-"xc615e0b364acea5c":[[1745],[7]],
-"x6449fb043aeb51a0":[[1185],[6]],
-"x9c8223c608e52bb2":[[788],[24]],
-"xa8311956a14feb0d":[[2,262],[9,4]],
-"x3b287aa5687412a9":[[918],[4]],
-"x85845b45597e77dc":[[3429],[14]],
-"x3288d5aef496c4df":[[1],[3]],
-"x4abbe4746e46dfaa":[[771],[3]],
-"xcd56cb4091442c1e":[[736],[11]],
-"x974063fc52214bad":[[3956],[6]],
-"x7ec069fa27e6f754":[[2],[6]],
-"x9d7ccadcae33d8da":[[731],[10]],
-"xb5f9154ba699848f":[[983],[5]],
-"x6112901aaabb4515":[[262],[5]],
-"x86b41102615dad6b":[[202],[5]],
-"xc57eaaea1a078b5a":[[1902],[5]],
-"x253fa0a7e5aa74a4":[[3249],[3]],
-"x7a22a6f64cd9c521":[[3372,3364,3502,3699],[150,90,5,4]],
-"x185d95708f834bf4":[[2908],[2]],
-"x46d68e712d69a6a8":[[3365],[1]],
-"x19f9ff2172acaa8b":[[2721],[3]],
-"xef6489096a66177e":[[82,1761],[40,6]],
-"x9bd9a5022deb58df":[[2794],[3]],
-"x3c33b5a98638662b":[[2931],[3]],
-"xed09c01b6440be15":[[1187],[5]],
-"x93085b9395c8c6f5":[[2155],[8]],
-"xa6964ce5b27e3d45":[[3902],[2]],
-"x24d961e3431772c2":[[3826],[4]],
-"xbbfe271e45ce3409":[[3236],[6]],
-"x97b9706fad1d9ca5":[[1770],[22]],
-"x6a570bb5bba9bbd5":[[1959],[3]],
-"xd73ac24cfe414b63":[[2203],[2]],
-"xf1d5e2ee3f40d619":[[322],[4]],
-"xb23290dbbe5d02f1":[[3761],[4]],
-"x378d1f4941ae0a05":[[2023],[6]],
-"x34d3e3bb02740bbf":[[3242,4013,3742,3502,3234],[55,43,40,15,7]],
-"xdaef6e1297107e1b":[[3749,3742,3688],[270,9,7]],
-"x6afcc809deb1ede9":[[731],[18]],
-"xc49ee22b4ffbdffc":[[2266],[3]],
-"xb8039e45d2e5724a":[[1827,1828],[5,4]],
-"xc57188fdd7aa388d":[[323],[6]],
-"x4342453d81d30c0b":[[3104],[3]],
-"xbb4f76f265b2f27f":[[3234],[2]],
-"x6c1a15e43bdb20c8":[[3372],[5]],
-"x9668ac83142bf3d":[[262],[25]],
-"xb0ddb79046382cd6":[[4020],[12]],
-"x5265c98d45ffb71f":[[1747],[6]],
-"x7f787a91356f41b4":[[731],[3]],
-"xf3f4ef1c691a75d3":[[3690],[6]],
-"x39b2d91be9b29a48":[[601],[2]],
-"xca2e1ea08acda38":[[3699],[2]],
-"x70ba6cca1752a206":[[3699],[4]],
-"x5848cf6610369405":[[3958],[5]],
-"x1b9e00279774a49d":[[666],[4]],
-"xc2d6933f317e129e":[[918],[5]],
-"x84925c2f12591fe1":[[3699],[2]],
-"x65c89339aeb111c4":[[972],[4]],
-"x5802486d49537e36":[[2932],[4]],
-"xc4884d6e7864b5f1":[[3956,2915],[19,5]],
-"x504fe823eb965a74":[[2617],[5]],
-"x6fcab9e1c3c4b656":[[2137],[15]],
-"x7847a08f9792dc88":[[148],[18]],
-"x69c805f9d78c0bcf":[[1115],[3]],
-"x8497b64ae3a4732e":[[1618],[4]],
-"x68b700154e35e396":[[3756],[2]],
-"x95c9062971252400":[[2],[9]],
-"xf72da47194dae8c5":[[3222],[6]],
-"xc9577141ca103c2d":[[3761],[1]],
-"x6e63a67fe558c724":[[1676],[3]],
-"x1fba05d690df7815":[[3305],[3]],
-"x1118f83257deb644":[[709],[7]],
-"x8b0db681ac5abcfc":[[677,643,657],[17,8,7]],
-"x93d14f8afc722110":[[788],[12]],
-"xdd5c2cbb61456b74":[[3305],[2]],
-"xa44990c6090611ff":[[157],[7]],
-"x8e16ccbc1dfae0a8":[[3902],[3]],
-"x7fafa056a05ff39e":[[3177],[3]],
-"x5ec7f6f6e6092ebd":[[789],[4]],
-"x3f0e0d4432aa56a7":[[3902,3307],[20,8]],
-"x8aca0e1d7721d789":[[324],[35]],
-"x8bafd67ea905ab6a":[[1699],[10]],
-"xde954dcdd0fc64bc":[[3306],[4]],
-"xdd09bf9ebf99514a":[[75],[6]],
-"xabd1d960b8e77d06":[[536],[1]],
-"x3609df1c6c2f47e":[[75],[3]],
-"xbe88446f78096e1d":[[716],[3]],
-"xc4e8be238e992400":[[3307],[5]],
-"xf570fe3be7f378f1":[[3242],[7]],
-"x451aae6d1707b9b3":[[723],[6]],
-"x31d5cf61b4e0bcc5":[[1689],[3]],
-"xb96555962f555bfe":[[731,82],[4,3]],
-"x4ad7281a2203a710":[[3645],[3]],
-"x3e4a034c2e7c97f2":[[3902],[5]],
-"xfac7dbd62c6e3dac":[[594],[5]],
-"xbcfc23533ed19b3f":[[219],[12]],
-"x97d477db7bc9268d":[[1373],[6]],
-"xc9aa39a05a4e8d73":[[3307],[2]],
-"xa8f4294f1d3c4b07":[[1875],[6]],
-"xb1a3001abb5d3b92":[[2931,3763],[13,1]],
-"x36c2b44e009b4eec":[[334],[3]],
-"xf726cb176dfd6bef":[[82],[7]],
-"xc6dbccf73918f77":[[1676],[9]],
-"xc0715b6fb2d49ddf":[[3690,2852,3169],[10,10,8]],
-"x2b6a0affff2565c6":[[731,723],[83,9]],
-"xd13f0540b09eadd9":[[3436],[2]],
-"xaeac2977ac73c7d5":[[1829],[4]],
-"x555686b68b24ebc2":[[601,593],[5,3]],
-"xf65f89410a246b0d":[[4013],[4]],
-"x6f6b8bf0586f08e3":[[4020],[15]],
-"x9ff970d419977c9":[[2915],[4]],
-"x2d6c5d819b2eb9a0":[[1689],[6]],
-"xd8d65b74f4f23c0c":[[346],[1]],
-"xf61a7996b78dfaf1":[[2200],[2]],
-"xd502c2a30a285bd":[[3808],[71]],
-"x18f61448c0aff282":[[1770],[9]],
-"x41faf687066d15b7":[[3964],[5]],
-"xfc7561aed089382c":[[3771],[3]],
-"x7e2997e6e5fef363":[[2593],[2]],
-"x6561aa6e80f7cee1":[[731],[9]],
-"xf45db1b50224a9d":[[157],[3]],
-"xcb8083ba63b63164":[[723,82],[13,6]],
-"x107f7b76ebfc9165":[[731],[7]],
-"x6fbfc49f2a70314b":[[3964],[4]],
-"xfe9ad80e6e5d2f46":[[3642],[8]],
-"x665869965dd69c4a":[[788],[30]],
-"xc3926faada7e7330":[[3756],[3]],
-"x84a8fec56c5f9325":[[3956],[3]],
-"xff786a3144a0619":[[166],[5]],
-"x1b3c2ca8eb6ce40a":[[16896],[6]],
-"xd1f8b089505f8f66":[[3902],[4]],
-"xeb02bd228130bac6":[[983],[4]],
-"xf06b895ab86cb00e":[[536],[9]],
-"x95adc672e6992903":[[2265],[4]],
-"xc4034df2e35ba7e1":[[2422],[7]],
-"x4c145b113f49f415":[[3307],[3]],
-"x9dccf6a5749ad68a":[[1763],[8]],
-"x6fb2ac61b1f7dc62":[[3429],[6]],
-"x5472a9dfb231057a":[[853],[4]],
-"x60bf3442a56f9299":[[1772],[3]],
-"x589dcf4b1c348a26":[[3902],[3]],
-"x913ada1ad3efc328":[[909],[3]],
-"xa49a95123a83d7b5":[[339],[100]],
-"x8222ed67146a92b1":[[1964],[3]],
-"x51932e15810f930a":[[1],[6]],
-"x78cfa3446cbbdd8f":[[3964],[4]],
-"x48a65a530b68dd39":[[3819],[2]],
-"xfae4bc97bcd300cd":[[166],[5]],
-"xdbd4eee8e256ee99":[[3761],[2]],
-"x91074781bba43016":[[3234],[2]],
-"x1f1907dcd3eb510a":[[1162],[6]],
-"xe3da6292ee9fe804":[[2266],[1]],
-"x30cbc889b69f527e":[[731],[191]],
-"x4925c295a59157f3":[[3828],[5]],
-"x8f127f056bfb0327":[[3234],[9]],
-"x55b5457e05394bd2":[[405,991],[17,5]],
-"x75e6e52aeba96308":[[2202],[3]],
-"x7684240c8902d0f6":[[658],[25]],
-"x980f6d3f5a0b5125":[[861],[5]],
-"xf19734b0030315c6":[[3539],[78]],
-"x56f6b96d75c46628":[[1366],[6]],
-"xf1571523b3075b4c":[[2331],[5]],
-"x85b4daa9127ad722":[[721],[2]],
-"xb9667604c5887131":[[262],[6]],
-"xd49dc0f5caf0b695":[[861,405],[10,4]],
-"x5fc7fde5c8e1ab10":[[3761,3752],[4,4]],
-"x5147892a63ae5fb5":[[2713],[1]],
-"x98ebb7d1bda534f7":[[3821],[13]],
-"xa4fa36c00fef596":[[852],[3]],
-"xa870dfd9f5c8282e":[[3242],[5]],
-"x3ca0d733f1067327":[[788],[10]],
-"x5a28deae8e2157d8":[[2202],[3]],
-"xe1bdc7d9239df137":[[666],[3]],
-"x1fe88536795c2072":[[796],[3]],
-"x3a515f8e30d715dd":[[3112],[25]],
-"xaf3a150ad24f846a":[[666],[25]],
-"x9e0aa6c8b8cfb0f1":[[730],[8]],
-"xc57e412f2fe626fb":[[861,1228],[6,2]],
-"xd72f33a29994d367":[[334],[13]],
-"xa7817f2e3420189a":[[3891],[5]],
-"x141ecc624430aa23":[[742],[3]],
-"x24a4ea9e42017fb3":[[3690],[4]],
-"xc6418db08bcc520b":[[3104],[5]],
-"x527a98c38f1f9ea4":[[2137],[8]],
-"x4d4828d9b7c8e6b6":[[3929],[3]],
-"x9b854193993b7621":[[3502],[2]],
-"x6efb02a6a3ecd8f3":[[3902],[4]],
-"xe0950ad00a624791":[[2674],[1]],
-"xd391c83fb949b228":[[788],[3]],
-"x6f381b8af6c780af":[[3106],[3]],
-"xb2105b3eed55ab18":[[3501],[11]],
-"x4515412f9bce67f":[[3690],[2]],
-"x22fa4a7a71e74c4a":[[3938],[3]],
-"xc3fed139933db3f6":[[3104,3827],[12,5]],
-"x5fe32e9dccac78aa":[[3299],[4]],
-"x22448a235ad188b8":[[3808],[4]],
-"xa4e7f03428d56be3":[[3833],[14]],
-"xe092a2cedf390fff":[[4013],[3]],
-"xfd705cbaeb3ae23":[[139],[3]],
-"xfb79942f17a11ec1":[[1375],[6]],
-"x4b0e03bb66c983ef":[[1764],[19]],
-"x26d3dba11c6a2391":[[2908,3299,3964,3307],[4,3,2,2]],
-"xa88aac4e7e101bbe":[[4020],[3]],
-"xfcabbfd2f3baf77d":[[861],[18]],
-"xf1dbdb9e49301bde":[[3832],[2]],
-"x2d12d82b1a103046":[[1321],[6]],
-"xf1254bf79532b595":[[1176],[6]],
-"x71c69294044ae8a1":[[262],[6]],
-"xe179c31acd07c31":[[1810],[3]],
-"xb6de4ebd10c59c3b":[[3947],[5]],
-"xf51751823e6315b3":[[3754],[3]],
-"xb598ab7233e285e2":[[82],[4]],
-"xe4f5ea44ccf7e0b3":[[202],[12]],
-"x7cb31077e9ec0517":[[536],[4]],
-"x7d435a47212383d1":[[262,666],[19,5]],
-"xce88e031a0bbb452":[[339],[8]],
-"xe3b77861297f95cf":[[3690],[13]],
-"x96972bdfcd79780c":[[1049],[3]],
-"xe551a58ccc1558ee":[[666],[3]],
-"xf3f3c0192e5643ae":[[1380],[6]],
-"x4faba34b1b427944":[[3754],[2]],
-"xd5e8cbe886d1c77f":[[3828],[6]],
-"x3b71d0199fe6fec1":[[2658],[3]],
-"x1be33825684a3bf3":[[668],[3]],
-"x60e8a77ec96e6913":[[3826],[4]],
-"x64788c2f7ec73a6c":[[731],[1]],
-"xd00437e738fad1d7":[[1,723,788,405,796],[27,26,18,6,4]],
-"x7a0b2654a9a82f2e":[[137],[4]],
-"xcc439fd1ddf26b08":[[1],[12]],
-"xb5c133f44f2cf18a":[[2193],[3]],
-"xce41a8ca0f6e4fb2":[[3808],[30]],
-"x478972498c73cfae":[[2915],[5]],
-"x7c841ef460a4014c":[[3690],[9]],
-"x5777733c2798a493":[[2332],[9]],
-"x21737527d3cd994":[[1155],[4]],
-"xb09fe30ff2cfae31":[[262],[10]],
-"x9a30a1ea3bb81efd":[[690],[4]],
-"xae4d47b7a84ad56d":[[1776],[15]],
-"x1ea03924cccd543b":[[262,2154],[78,15]],
-"xf54f06c7f6712adb":[[2267],[10]],
-"x4f39f58f9f89d969":[[3309],[4]],
-"x27858f2ace7f36d4":[[3690],[3]],
-"xf089e06307927b20":[[1699],[5]],
-"xeb862f7306a6ce14":[[731],[9]],
-"x1f5cd1c0a1b9804c":[[2268],[9]],
-"x446c15b2ca149e7e":[[1180],[20]],
-"xbca6f25024a54ef0":[[3836],[8]],
-"x4ec9685e22f839c7":[[1837],[14]],
-"x7cadd046e8538b22":[[2124],[5]],
-"xef36525ee12bdd76":[[1837],[4]],
-"xa44d73cb1fa2cc1d":[[82,209],[19,4]],
-"x19117ef0fec539e":[[2203,3690,3902,3177,2908],[15,12,7,3,3]],
-"xc8a4326ca5b8f21d":[[3690,4013,3112,2202],[35,23,4,3]],
-"x9aa4ad8f661a9783":[[2748],[6]],
-"x7c0bab7ef3c9e32c":[[536],[1]],
-"x39de3c1ad8866d80":[[3436],[5]],
-"xe38a0de0f8530973":[[918,788],[4,3]],
-"xad30a83dc30486f9":[[1,2477,2479],[8,6,5]],
-"xfb1bcc7d7e9fc367":[[2333],[9]],
-"x85bba2597c7bcd1":[[1763],[5]],
-"xf0bdeb7e20f1f3c0":[[666],[5]],
-"x791af3596fc45e0f":[[3756],[28]],
-"xcbeec8439b748caa":[[2786],[6]],
-"x9be8e3b1e069232":[[1438],[6]],
-"x3700db2086e4691e":[[3761,2919],[14,9]],
-"x16836e738a5fd52a":[[593],[23]],
-"x756b3931e7638873":[[3704],[6]],
-"x5f3ee1990a17ad83":[[3234],[9]],
-"xbafc4adc2b18dcc4":[[1355],[3]],
-"x13456c65a9c93d9e":[[3826],[5]],
-"xa1d65a38bc393164":[[3902],[5]],
-"xdab556e16aa221e1":[[3808],[8]],
-"x61c9d716b3b95e13":[[2355],[3]],
-"x2c4efeb96f638cfe":[[668],[6]],
-"xa7db3e9ec4551337":[[2931],[3]],
-"x805ee95351f66e80":[[3363,2715],[7,7]],
-"x4a6b115fbf971018":[[3808,2724],[3,2]],
-"x37927564c8cdaf48":[[3],[4]],
-"xc392e9d3513b0560":[[3811],[3]],
-"x7cb1b9922a2df736":[[1902],[1]],
-"x8c35785c8273f4ee":[[405],[7]],
-"xc29bfea71a4ec6ec":[[203,346],[12,4]],
-"xf8cc5be07ae97960":[[1681],[20]],
-"x14b12e92bb06f587":[[528],[10]],
-"x730d19cea62b2466":[[2601],[5]],
-"x870cad7c0b07dbef":[[3567],[3]],
-"x6e4efe45ce22de6c":[[918,82,788],[11,7,4]],
-"x196b32d77c068947":[[2443],[1]],
-"xaae340450e462e94":[[2851],[3]],
-"x895360e4793b569e":[[1109],[4]],
-"xacf2aac2e5003f0c":[[3902],[2]],
-"x128763f0e0934953":[[1371],[4]],
-"xe93650b2024015d4":[[166],[4]],
-"xde301e62f9b2ef1d":[[4020],[3]],
-"x6b0af6ea95c9c372":[[2],[6]],
-"xe4f6557f1282f4c9":[[3642],[4]],
-"xb0efd65adea76e":[[789],[4]],
-"xcacf18fbb84137ab":[[2023],[4]],
-"x2c8280b71b7b26da":[[346],[83]],
-"x8b5035d3bebbb6f1":[[788],[10]],
-"xf8cb0bdfe56f40fd":[[2477,1763],[5,3]],
-"xb08c54249741a0d":[[1180],[40]],
-"xd80330198e28782":[[3161],[4]],
-"xf15501fdab2e3531":[[853,332],[98,6]],
-"x9ccaab80f311b7e9":[[3828],[8]],
-"x4e0e0cbecbc749d3":[[1372],[3]],
-"x4b7a794993ffef1b":[[157],[9]],
-"xdd0a89cffd929588":[[3104],[7]],
-"x4dc3b524c4e26bc4":[[3808],[31]],
-"x2c91aabf71ddf28b":[[405],[3]],
-"x5934cd9112467052":[[528],[8]],
-"xab82ded525ee3ae3":[[262],[3]],
-"x3c749e6087d33496":[[405,148],[9,4]],
-"x820df88ac269bc92":[[3242,3761],[75,3]],
-"x33a2a0d514130135":[[259],[3]],
-"x667222ed0d37a7af":[[2787],[3]],
-"xfc58b0598396c27c":[[3567],[30]],
-"x1e5d658bbac5a961":[[262],[11]],
-"xc0737610a8dad473":[[4020,3502,4013],[8,7,3]],
-"xbdbd771724728ae2":[[1762],[13]],
-"xddd6769d3bc13b37":[[1764],[6]],
-"x19c36bda4c8aec08":[[3761],[2]],
-"x7154496ceed97f6f":[[1],[3]],
-"x15019e42811e159f":[[2713],[3]],
-"xa95006443f6dcd75":[[773],[6]],
-"xb9a4e7f7443b98cc":[[2910],[1]],
-"x3fbc28e1e2a624e0":[[2006],[3]],
-"xda46e4ec04d117f5":[[2258],[10]],
-"xdf1c4597357b20da":[[593],[6]],
-"xd55c90f6b8f9b6c1":[[209],[17]],
-"xa402648de98fb864":[[262],[4]],
-"xc9c56b24a7109507":[[3104],[3]],
-"xd1dbf7c4d488b731":[[1308],[11]],
-"xa8ef741f7e31010f":[[3356],[6]],
-"xa75761b2962502f0":[[3301],[4]],
-"x1df052466ca10a91":[[3353],[3]],
-"x66ae581464a66b5f":[[332],[3]],
-"xa8180bf911c19b68":[[3690],[4]],
-"xa206bfa0ab6dc21b":[[1762],[4]],
-"xb7425fdf9ac00e74":[[3690],[3]],
-"x8f5a8b053c17dc45":[[3112],[5]],
-"xd78f51776873b9b1":[[528,262],[12,11]],
-"x8476ee60ed974876":[[1187],[6]],
-"xccc99773855bc866":[[3763],[9]],
-"x5939449b5669903f":[[396],[3]],
-"x8f711925c321b5ee":[[3242,3756],[15,6]],
-"xef1d1cb0dd0e967a":[[3242,3902],[9,4]],
-"x47d650284d14d9a7":[[1827],[3]],
-"xa95a2a90a917ea99":[[3307],[3]],
-"x757be4c357031a76":[[324],[5]],
-"xbba64dbf791dff48":[[843],[2]],
-"x422cce42f92086f0":[[2804],[6]],
-"xfffd034225f57bb3":[[261],[6]],
-"xb5487f7c47de7a67":[[1810],[2]],
-"x7589337b967aa032":[[1380],[6]],
-"x9c95452ead445c69":[[3902,3699,3177],[7,5,3]],
-"xf324fdb637be7ac3":[[3248],[6]],
-"x14b3914e94dca116":[[3242],[18]],
-"xd25df5191b9e8760":[[1179],[3]],
-"x325fdc7e596777a8":[[3958],[7]],
-"xcb2a48b1b1de3f1":[[3],[8]],
-"x87ba24fe6449b7dd":[[3738],[3]],
-"x481519de986b43d7":[[3902],[2]],
-"xa1380524dfc8f167":[[3502],[10]],
-"x75ad65aaa3698c42":[[3242],[3]],
-"x7af089c6f4c67cc4":[[3902],[2]],
-"xf8d124d7f934227b":[[3811],[2]],
-"x30d1c6888accae35":[[324],[3]],
-"xfd458605f64c375c":[[658,1569],[31,12]],
-"x6a509fd1bc44d0e4":[[3808],[4]],
-"x6fccb5c203a907fa":[[1327],[5]],
-"x87dc69cf1b1c24f3":[[807],[6]],
-"x9f98f9850f4a711d":[[2794],[3]],
-"xdd8c5a8aef72d458":[[2487],[3]],
-"x7a87ff52ebf8ee2b":[[2931],[6]],
-"xd42deadec1fbeead":[[3803],[6]],
-"xcf0f5026f5cedaf0":[[2851],[26]],
-"x7425e6b464f3b266":[[1699],[3]],
-"x219eac0c58d5e877":[[3112],[6]],
-"x8a36a340b7dbcbfa":[[3437],[6]],
-"xf54bdbeda3f83358":[[396],[4]],
-"xb427cd04cccabdb3":[[991],[5]],
-"xee79f15f1672b804":[[4013],[14]],
-"x220c846123f46659":[[2852],[2]],
-"xe9969d534019da49":[[2915],[3]],
-"x28aa0bc35870e742":[[788],[5]],
-"xbb794158aecda898":[[1539],[3]],
-"x78d0c9f59aa25117":[[82,323],[109,9]],
-"x857e34b2947402a0":[[2851],[3]],
-"x5ad9f2bb5197b788":[[3947],[5]],
-"x953db74f4e38183e":[[593,323,75],[6,5,2]],
-"x781451cec00f73b7":[[731],[9]],
-"x5f7c1cdce605c3fc":[[3501],[2]],
-"xf38a7fac206e8017":[[2136],[5]],
-"xbd5cf35c814434e5":[[731],[5]],
-"x44bfe7ddb5ca2439":[[334],[4]],
-"xbd56306cebaef842":[[3258],[3]],
-"x47738db85adc6a80":[[1379],[6]],
-"x341ce423c38cdbfa":[[3827],[6]],
-"xb1a69e2e3fe908c4":[[3808],[10]],
-"x7e2682b16bdc14ec":[[203],[16]],
-"x6713c33eed3660f3":[[3372,3364,3817],[32,28,12]],
-"x9f6f1696c0ca27fa":[[2919],[2]],
-"x354dda202c21cdcb":[[658],[6]],
-"x797d13a757b675d9":[[3699],[5]],
-"x327238b58c39d46c":[[216],[7]],
-"x1675b2cdcd93ebac":[[837],[1]],
-"x246e1d09a3cb6664":[[2788],[3]],
-"xdf2e30f84064fb69":[[3178],[1]],
-"x7ccdf272f9fbb753":[[1179],[4]],
-"x5f0c9d7ccf8fa8ae":[[722],[3]],
-"xba36572951fdb997":[[3171],[3]],
-"xde9c0532dd862237":[[1683],[5]],
-"x95ae46544f57cd7b":[[991],[3]],
-"x71d88fc2915f8879":[[1676],[7]],
-"xd8dcc0ac97fda7a8":[[1763],[11]],
-"xe5f5b01f3d03fa08":[[1763,666,658],[23,5,4]],
-"x2531dad235df73f2":[[166],[9]],
-"xdf2e76a3d2b76da":[[3299],[4]],
-"xe2d17abcffb0ea67":[[3962],[3]],
-"x825aacc3b754b2dd":[[334,216],[96,28]],
-"x130393d4184ff083":[[2658],[3]],
-"xfec22a2e0ab504d":[[1180],[3]],
-"xade802fcd98d254f":[[3956],[4]],
-"xf810b868f387d764":[[3307],[3]],
-"x67e3524aa80bacec":[[2740],[3]],
-"x3f7a02f1851a425c":[[4013],[3]],
-"x4bdaf7e68895fe5f":[[3956],[3]],
-"x3efc0d38d82da9b4":[[3902],[8]],
-"x19ecd4086fc6bf33":[[2267],[2]],
-"x703c665f42f92717":[[2667],[5]],
-"x6a7925ff2ae40c23":[[1699],[4]],
-"xcffb010fe6274aa1":[[1373],[3]],
-"xee677e0322bfd524":[[1421],[6]],
-"x9e78182ca9c64c30":[[1763],[3]],
-"x9c632ef801055007":[[797],[6]],
-"x55f060b573124c6a":[[3178],[4]],
-"x3455e93c6c4e3076":[[536,666],[92,68]],
-"x18dd4e526e278397":[[268],[5]],
-"x70962f666dfd063d":[[1837],[21]],
-"x1baa9301899f86d5":[[732],[6]],
-"x500d0913e22d449f":[[3258],[3]],
-"x34eef819a0d0209d":[[3306],[5]],
-"xa2bcb2e7f711bcfb":[[1380],[3]],
-"x82d851e5e8d088e9":[[2021],[3]],
-"xf27ccb57444ce5e7":[[918],[2]],
-"xb991e238d4be748c":[[139],[5]],
-"x1149fe940a601f5":[[3938],[8]],
-"x5dc1b83eeb7b20b7":[[148],[4]],
-"x8f6bf9c3d78d07d6":[[3902],[3]],
-"xfed65c27a730b221":[[3690],[2]],
-"x6415aadbece7f149":[[203],[10]],
-"x913fe5798f42b500":[[1810],[7]],
-"xae4d40833a1f8706":[[3761],[5]],
-"xdba94c61653201da":[[771],[6]],
-"x986e9b87c899d574":[[3902],[5]],
-"x75d6ab531e8df9c3":[[3742],[3]],
-"xad1d19caca071517":[[339],[3]],
-"x50c49d97fcb0c07c":[[2203],[3]],
-"xf85c4e5d80160e92":[[2477],[3]],
-"x80435ac38dda3d0":[[2484],[2]],
-"xe03428fba316a71":[[3161],[4]],
-"x92ab4268d1f1a749":[[3242],[8]],
-"x9ecad36c7342e2de":[[3502],[3]],
-"x4f46b8aac5d15759":[[1634],[3]],
-"xcfe5737da2ca34":[[666,82],[85,36]],
-"xdbfc38ae5b7e0bb0":[[1633],[6]],
-"xf02c1e30ac650fa8":[[1747,1748],[8,4]],
-"x1d9302f9ad52bf56":[[2722,3688],[4,3]],
-"x76dc76baa91e6294":[[2787],[4]],
-"xe79ec61463037705":[[2868],[3]],
-"x808c2bf143a7a568":[[3761],[4]],
-"x94931c9b74f9189d":[[262],[5]],
-"xd96c636b06eefad7":[[3164],[6]],
-"x3445dc40f984cf43":[[861],[4]],
-"xdd97debb0c6888eb":[[1568],[3]],
-"x7ac746203d28d1d5":[[3690],[1]],
-"x2bed00f97aa5d251":[[3761],[5]],
-"xab377ca133bc56f0":[[1242],[25]],
-"x45bdb9dd66dedec6":[[80,1569,1763],[14,7,6]],
-"x8b58b813ca40d643":[[139],[4]],
-"xb3211bf39c899492":[[788],[3]],
-"xe490b8c7db2d59ce":[[3171],[1]],
-"x24855454c31314cd":[[82],[5]],
-"x6e7f672344ae4de":[[137],[7]],
-"xb7394beb2bc685dd":[[3817],[17]],
-"x335c8cb3e425d876":[[342,1359],[16,11]],
-"xb3bc856395b91368":[[1179],[3]],
-"xdfcb56def00312ef":[[2217],[3]],
-"x892b844c5b175247":[[323,536,1380],[7,4,2]],
-"x680cd8836069410a":[[853],[4]],
-"xcb752b24798914ee":[[3902,3567],[24,1]],
-"xa08ecd794c15fa44":[[166],[5]],
-"x29c92e7b96b4da64":[[1380],[6]],
-"x2f70cede954b63f":[[2396],[2]],
-"xbe45fe668ed8a971":[[2201],[3]],
-"x5f327a81a0dab2a5":[[2272,2299,2283],[21,4,2]],
-"x27e221b9c3faab1e":[[275],[3]],
-"xf753d8a81ea795b0":[[919],[6]],
-"xc41ed5f3d128157a":[[166,391],[5,5]],
-"x4d808369c2202092":[[2266],[6]],
-"x2b68f7c0a62b825d":[[3502],[2]],
-"x18c330a5db7552ba":[[82],[2]],
-"xd9c31756aeb3142":[[3899],[3]],
-"xec772e43872b0546":[[82,788],[27,3]],
-"xb124188c8a272603":[[139],[10]],
-"xcabe1aa718bf6e71":[[148,396],[21,7]],
-"xc6cac3d6d34f5b8f":[[3690],[42]],
-"xaec2273a65da59f":[[262,709],[9,1]],
-"x6819f4619e4e2032":[[3178],[3]],
-"xec6614ddc3e20907":[[2648],[4]],
-"xcc8991dff651b4b0":[[3112],[3]],
-"x4846c9e3e944c645":[[991],[5]],
-"xbad7d098b7f9398d":[[2541],[3]],
-"x678d6265119dd22f":[[3112,3299],[21,4]],
-"x25d6a73620286847":[[4013],[13]],
-"x87260d7f79c8bf1e":[[262],[16]],
-"x6ee4a5623dfdea7e":[[668],[6]],
-"xb616236a569484":[[2644],[4]],
-"xa5eb6eeeb6f37aad":[[3690],[4]],
-"x985fbe48674c3b34":[[2720],[2]],
-"xa3fdb75104756f5e":[[1681],[2]],
-"x5595959f646c5476":[[1827],[3]],
-"x160a5893b400feca":[[1835,3956,3112],[96,9,1]],
-"xcd5a4325af512e90":[[731],[4]],
-"x5e0d0a7b27aa5f8c":[[139,536],[7,5]],
-"x399b2aeac757f9a1":[[1237],[3]],
-"xf20af92b7b26e739":[[251],[11]],
-"x7b0dff0f7157c3b0":[[1371],[4]],
-"xebbd552a707c41e":[[528],[3]],
-"xfcbe3ebf32b8e068":[[1699],[12]],
-"x32a3f40984dbce31":[[2915],[8]],
-"xe6d9b7719cad4145":[[405,528],[5,2]],
-"xe9995ca22fa7ff68":[[2715],[56]],
-"xa90427dd523b71ce":[[323],[3]],
-"x2d574f9ebf87c70f":[[983],[4]],
-"x505191b28d9f70cc":[[3236,3242],[9,4]],
-"x9569ba5bf4a3717c":[[334,731,593],[71,39,10]],
-"x1f8e8b7803b042cc":[[3699],[4]],
-"x918d9581d559fb83":[[3699],[10]],
-"xdde9137e02887dd7":[[262],[15]],
-"xf15c9cfbeb6dd406":[[2463],[6]],
-"xe4d50aec5c11699a":[[2853,3429],[16,4]],
-"x6c1d895a8fcf49d6":[[3958],[2]],
-"x7785b00d93d61bff":[[3177,3699],[25,7]],
-"xf298afb0a5772b7a":[[1697],[4]],
-"x76e91473243c1b7d":[[1828],[6]],
-"xe872b45ff0befbec":[[2414,2398],[14,2]],
-"x8a76721fa0f9933e":[[3592],[6]],
-"x71cb276625ad10b2":[[3242],[11]],
-"x13194d23cb6963f2":[[3063],[3]],
-"xc3ded8f9aca49eed":[[2491],[3]],
-"x652248d9c2fc5442":[[601,148],[17,3]],
-"x68ed28a13cc746ee":[[918,166,666],[7,4,3]],
-"x62c1cd09061b7551":[[346],[78]],
-"x2339c263e1288672":[[2786],[6]],
-"xc6c44716f6bc8d86":[[2787],[4]],
-"x69162557c011b48":[[1307],[21]],
-"x8c8d76ad85f51a9f":[[2],[5]],
-"xf3108e32ba7ee322":[[1242],[4]],
-"x900dc23e05841f42":[[2072],[5]],
-"x51468d2a9f7fd70f":[[3817],[2]],
-"xc83dc1df50bf6140":[[723,405],[9,5]],
-"x1d59ad6abc14cff8":[[721],[3]],
-"x2dd19f006ae8c50d":[[139],[3]],
-"xee408f1fe2acd41f":[[2],[7]],
-"x50bfcfc36e51a4da":[[2722],[1]],
-"x7aec12a1eddd1a71":[[258],[4]],
-"x63e39965de5dfce8":[[3104,3364],[4,4]],
-"x11b2206cf9499d63":[[3902],[1]],
-"x85ef7b94075f2af9":[[2644],[1]],
-"x6c6a8b940b9d82f8":[[3902],[3]],
-"x6aad3bec772b176a":[[1796],[4]],
-"xe42a122142faec65":[[2152],[3]],
-"x2b9755440c10fc59":[[148],[1]],
-"xe5ba8709788b2f88":[[1738],[4]],
-"x7d9edd370805f909":[[2137],[4]],
-"x4c337e56cd1bac5e":[[658,324],[9,3]],
-"x2cf1ae4c77856cde":[[137,666],[3,2]],
-"xb9288cf64cf5dffc":[[3690],[5]],
-"x4d4a10063f48e404":[[56],[12]],
-"x1d78c1854fd5be40":[[3956,3305],[4,2]],
-"xfeaafa785b8ad439":[[82],[4]],
-"x111c1ff310709cfb":[[594],[123]],
-"xdc6418f3229ec4ad":[[262],[3]],
-"x8d6ef6ace6f0a3":[[3178],[4]],
-"x21a5dd6e6451e52c":[[2203],[5]],
-"x24eb089a0e7d411a":[[2396],[2]],
-"xc6cd932327093a18":[[1371],[4]],
-"x47146585a1658e61":[[2154],[4]],
-"xbedb705ceb869fe8":[[3828],[3]],
-"x7d2975551ca55973":[[3307],[10]],
-"x94cd085ce7fdafc1":[[157],[13]],
-"xccfa847f93d05a59":[[1828],[10]],
-"xf888132a8ed82fa1":[[2292],[7]],
-"x5aa0ef252f5c797d":[[2876],[3]],
-"x339f991e97002b9d":[[796],[12]],
-"xe4c8330067353891":[[1878],[6]],
-"x4dbfe07cfb66875b":[[788],[7]],
-"xa97c16a0dde36edb":[[788],[4]],
-"x619e4b24b0571364":[[3957],[6]],
-"xa1e7b0aedcef0a34":[[3690],[1]],
-"xad320bfc17392cff":[[262],[2]],
-"x15fb44e2d894eaa9":[[1827],[5]],
-"x17e5df7c6aa64555":[[3307],[10]],
-"x5214c986b0e74c59":[[1756],[4]],
-"x1f8514056bdd90eb":[[3641],[8]],
-"xce7f78c150547d74":[[166],[7]],
-"x7fe49d376073a1ad":[[1892],[6]],
-"x4f837c7daacc3079":[[4013,3929,2268,3956,3690],[326,180,67,9,6]],
-"xf82cf914008a85":[[1379],[3]],
-"xf1a3faa026b7a365":[[721],[9]],
-"x33ddaa03394713ca":[[1746],[3]],
-"xc326b9cc4e569dbe":[[3305],[5]],
-"xc8e30531de946a4e":[[3808],[1]],
-"xcc528b8e22a9568b":[[262],[4]],
-"x59fc2bebccc2e2a7":[[3828],[5]],
-"xe522974bf5a8bf54":[[786],[6]],
-"x34073f34664657e5":[[1610],[6]],
-"xa35ed5de0369f1cc":[[262],[6]],
-"xe80da770d2a8ac08":[[796,918,731],[118,8,4]],
-"xee66520fbdb434b0":[[2,203,209,202,1699],[70,14,11,10,3]],
-"x6b147f5823458640":[[148],[4]],
-"xfb016414fc35b233":[[3956,3938],[15,4]],
-"xa7da6d425d5545fb":[[2851],[4]],
-"x157ddfdcd26ddbcf":[[262,861],[13,7]],
-"x3388fe7ba6898fe":[[3364,3502],[29,15]],
-"x658155d37737efb9":[[1314],[3]],
-"xa926df2b5bb4935c":[[148],[10]],
-"x3cdc49566cb81ba1":[[1616],[4]],
-"xf7f9335f84f526dd":[[3902],[16]],
-"x2ffe08326a83b0c7":[[3808],[3]],
-"xc363bcf7ea7d56c8":[[3902],[4]],
-"x11e1edbd1f050dc5":[[1045],[7]],
-"xfaf34d8956a9a6c4":[[405],[5]],
-"x474253be3e9e4046":[[917],[4]],
-"x1090aa566c31c6f1":[[3763],[2]],
-"xa8dc052c6caa325":[[2330],[3]],
-"x7f3c70ab9219cab2":[[730],[6]],
-"xbe6cc4de3d425f69":[[3169,3964],[4,3]],
-"xfc40fcd05adb21aa":[[3242],[2]],
-"x7cabbb9e88980db":[[3437],[1]],
-"xfa162f5fe7ed2f54":[[3112],[15]],
-"xed19e91b24b8730d":[[2452],[2]],
-"x2f6a61eee29a0653":[[139],[7]],
-"x478c00e815fe3b0a":[[2673],[6]],
-"xaf62ff76b9d15a00":[[262],[3]],
-"x64534b53efb678a8":[[3371],[2]],
-"xbe7b6d3d4cf4c558":[[1503],[3]],
-"x15c86ae0d87672e3":[[796],[5]],
-"x3af6d21f9522f333":[[1242],[11]],
-"xbc816264401c2f88":[[332],[1]],
-"x630716c8153188c8":[[1810],[3]],
-"xa136bc6fd085050f":[[323],[5]],
-"x4965ce608578bd85":[[82],[4]],
-"x1c56f9fbeb9ef569":[[3832],[4]],
-"x8105e0e80b2af89b":[[1355],[5]],
-"xd762eb60e880476c":[[1308],[1]],
-"xcae9892b46c6f13f":[[3690],[14]],
-"x2ae558a53d65bd49":[[3956],[11]],
-"x8e465d777fc51130":[[405],[12]],
-"x3fd4f65001568102":[[4013],[3]],
-"x9b4411b5801a6044":[[1699],[8]],
-"x69a6aa4657291a22":[[772],[3]],
-"xf00d19193ed9447d":[[2281,3372],[16,4]],
-"xb6243e836ef45d8c":[[1380],[10]],
-"x3fe3f8ab98004597":[[334],[4]],
-"xaea7750143068b44":[[3234,3177],[3,2]],
-"x1dcc9b4727b1adbe":[[262],[4]],
-"x53f13366f66719b5":[[2089],[2]],
-"x7809d47fd65466a2":[[3929],[2]],
-"xa1e041b79923c8e7":[[3047],[3]],
-"x86602320217faaf8":[[82],[2]],
-"x8c7ab5dfb1db8184":[[1098],[5]],
-"x99085a275766d430":[[812],[4]],
-"x36cdc6a91f3b7757":[[2908],[6]],
-"xf5f03ae90a062182":[[3442],[6]],
-"x89517a6cd2892106":[[3761],[6]],
-"xf5db314831075462":[[3372,3112,3567],[12,6,3]],
-"x40dba928a862bcbe":[[2260],[6]],
-"x7ce74606248394db":[[528,166],[15,5]],
-"x456bdb8936fa22e4":[[3642],[2]],
-"xe59f23732ffa403f":[[1],[24]],
-"xc1a4a8589ab2848c":[[1023],[4]],
-"x8d724091267875d2":[[3902],[2]],
-"xa19d4215066785":[[658],[12]],
-"xf5ed9ca500715245":[[157,652,332],[23,4,1]],
-"x3a005869284424e5":[[219],[2]],
-"xfb2103744138222f":[[3121],[4]],
-"x267d77619ae43e55":[[3964],[2]],
-"xdaaebc9b85aad51d":[[1250],[3]],
-"x444fe9ffcbd480cb":[[2203],[3]],
-"x5b68c0abf27848e5":[[1698],[14]],
-"xc3e026e463338eb5":[[3902],[5]],
-"xc45b94d717c8ff51":[[1941],[3]],
-"x10a744b86cdb492d":[[3372],[3]],
-"x2cf5ee81cd954626":[[3956],[4]],
-"x9b418f9ab4b5784c":[[3828],[4]],
-"xc6ff90d7d23edb3f":[[324],[5]],
-"x41d83f486980220b":[[2334],[3]],
-"xb547c2b173f3d4b0":[[3834],[4]],
-"xe027287cb0bf4e57":[[3699],[2]],
-"x10d2b68d4bd78c5d":[[4022],[4]],
-"xc2765a3379cac8b":[[3963],[2]],
-"x86491df8ccaec06e":[[1238],[3]],
-"xd3073862c577aea":[[3178],[5]],
-"x7c4ce65efaa044e":[[3364],[1]],
-"x528466c5ad9f79b7":[[2931],[9]],
-"xc4fac69e7bf839e7":[[1245],[4]],
-"x714f6e87e51f8d8e":[[3763],[5]],
-"xdd67465328a5d458":[[3947],[5]],
-"x73919d0ec72e7840":[[3299],[2]],
-"xe4afd908282c7339":[[82,1763],[13,3]],
-"xaf92e35c39d13600":[[1698],[6]],
-"xea04e4a941f85b98":[[853],[6]],
-"x61306fd462b1cbf9":[[3699],[12]],
-"xa7583ed7338be0c2":[[2021],[4]],
-"x180373dfc7380e58":[[3699,3956],[15,2]],
-"x1bfd452d4e3b2fb3":[[2154],[7]],
-"xda1e725118f301e2":[[3177],[2]],
-"xfb606e018cb9c2d4":[[1611],[3]],
-"xe0eef796e0bde360":[[788,1699],[42,32]],
-"xcf61728eb941a4b8":[[323,593],[16,7]],
-"x636b8023c63519d":[[2388],[3]],
-"xb13ee9ea3ffaded5":[[3501],[4]],
-"xea479985a854697f":[[3827],[3]],
-"xa98be38f121f1c24":[[334],[3]],
-"xbb8baf9aba9f5e1a":[[853],[4]],
-"xac94bf6179e11c1f":[[1180],[10]],
-"x701ed55bda21e54":[[787],[6]],
-"x1f33c3318f018cd9":[[1682],[4]],
-"x7dce1f534cefe258":[[2146],[3]],
-"x24ebdef7ba95285b":[[1371],[10]],
-"x59fcc2e1070f23bf":[[2333],[2]],
-"xcb7127d9858e00bb":[[1838],[2]],
-"x49a52bc4d88cfa5f":[[3811,2851],[3,3]],
-"x7628f4a569837b65":[[3307],[4]],
-"xa016a817bb187647":[[259],[2]],
-"x89cd48911b5b25b9":[[1164],[14]],
-"x4af73f13d73ccb0a":[[3177],[5]],
-"x8bdf08b85be0c807":[[332],[6]],
-"xf95b5dbefeeda4b6":[[2163],[3]],
-"x47fa6b5f0817595b":[[1828],[4]],
-"x496d5ca083511bac":[[918],[5]],
-"xbe78f2e72a64498a":[[216,202,1699],[46,5,5]],
-"xd8da37fde81b19f6":[[1444],[6]],
-"xee1f1aa23b7fc5f9":[[601],[3]],
-"xcdc0fec1031c3ab0":[[3171,2851],[5,4]],
-"x6088745bacd7ad17":[[2268],[6]],
-"x5e5e6c9878886a82":[[339],[6]],
-"x8df17d909c51430":[[3956],[3]],
-"x249bdf19db611182":[[3938],[6]],
-"x760511898a8a5819":[[3956,2203],[5,2]],
-"x8ef28ed2b961585f":[[262],[6]],
-"x2f80f3211fd3d06a":[[3178],[1]],
-"x56c0baddd18ae739":[[3567],[5]],
-"x395ded74777d8d98":[[166],[7]],
-"x8ba31b98aecccb1d":[[3836],[3]],
-"xb0047bdb6b1f015f":[[323],[5]],
-"x110a6f63b7c8968f":[[2833],[7]],
-"xbf304d5fad1103":[[334],[6]],
-"xfa41e4ad0d2319cb":[[2931],[4]],
-"xbae4d6828539ff0e":[[2851],[55]],
-"x185643137eff047a":[[334],[4]],
-"xf0c770b7f8c66db9":[[1098],[4]],
-"xe2ff1cc3e21b1d15":[[1804],[3]],
-"x141cc7c52465166":[[2325,2534],[3,1]],
-"x9173c2b961e6d667":[[137],[3]],
-"x65c9a3b2e5b58172":[[3956],[4]],
-"x73c9f2e7e47f89ea":[[3763],[6]],
-"xd7d924c09399df6":[[1827],[15]],
-"xb505daf6d95663c3":[[3307],[8]],
-"x6b0bce958e873045":[[334],[22]],
-"xfcec00d2dc2a4501":[[166],[6]],
-"x88e223bac627dff4":[[3964],[1]],
-"x5161a0b56012d5dd":[[1234],[1]],
-"x254c51cfab26dabc":[[1421],[10]],
-"x6db15319c7dee312":[[2722],[3]],
-"x93dd616e3bd67606":[[3234],[5]],
-"x9e0915d3bcc2b72d":[[75],[3]],
-"xce46558575f7b35d":[[664],[3]],
-"xeb8d5ca4b564203b":[[2715],[2]],
-"x1fe72dfa42138514":[[262],[3]],
-"x3b7169958a4644c":[[1672],[6]],
-"x77df5d5cf12648dd":[[1187],[6]],
-"xf5dc0411a44a817e":[[1380],[3]],
-"xdd8bfb293d08b4a0":[[3379],[3]],
-"xede7a698c1a741b2":[[2674],[5]],
-"xbcc189a1bbede570":[[1371],[44]],
-"x13a9c07c3b02091d":[[2852],[6]],
-"xebdc35e1e5fa77ec":[[1545],[3]],
-"xe7b642c881dcb593":[[3735],[3]],
-"x57a87ce44a92eb83":[[2476],[5]],
-"x30c40210dc354301":[[339],[4]],
-"x657cee4ad0296750":[[3947],[9]],
-"x5040299a7df9b5ca":[[3763],[2]],
-"xebcc02f84e0ced86":[[1106],[6]],
-"x3d8697afbbf60167":[[2715],[3]],
-"x2e69c8daaadacea9":[[3436],[3]],
-"x89015f2a5890338c":[[3902],[2]],
-"x93bc464389b7d7e3":[[219],[8]],
-"x4ff2fc056ad8fea2":[[2859],[5]],
-"x4dc67b960faeceb9":[[209],[7]],
-"xb1e508a6fec34bb":[[3299,2715],[14,5]],
-"xbe4ca764dfe2e9c3":[[3688],[4]],
-"xbea61279de9a41aa":[[2788],[10]],
-"x745f0e61f25809b5":[[2479],[3]],
-"x1d31bf80389aa602":[[3956],[5]],
-"xd4830b853bb58601":[[1,148,353,332],[131,24,12,3]],
-"x294285a36525316a":[[3436],[2]],
-"x27cd5987f6e908aa":[[666],[3]],
-"x792335f96b0c2131":[[137],[7]],
-"x60d90bc5d5c7ad4d":[[3902],[3]],
-"x6c614bc2e1374e4f":[[1307],[4]],
-"x7a1eba6c1e13d061":[[1098],[4]],
-"x9a1de0e59fd8eb35":[[4085],[3]],
-"x1cc5f41f2b3d4b46":[[323,139],[21,5]],
-"xbde221af47e3fddd":[[4031],[45]],
-"x9411578abf98c120":[[1699],[3]],
-"x73e9e0b1464d0508":[[794],[2]],
-"x1e01da176c103535":[[82,405,666,658],[68,46,15,11]],
-"xc23a8b374ae224ea":[[3502],[3]],
-"x3f9724aef293e1ba":[[2203],[9]],
-"x67f0ce40b55a5557":[[332],[7]],
-"xfdfbc25236b00b81":[[1699],[12]],
-"xfb8241e77b2cec85":[[3699],[7]],
-"xd60c0b94dccdbc88":[[203,983,853],[12,8,6]],
-"x62752c503b712ba1":[[3494],[50]],
-"x7e61712400576120":[[593],[5]],
-"xbfabee3202dfbd68":[[3834],[3]],
-"x5749004a4696c4b7":[[1699],[3]],
-"x9e2c723973c3fd79":[[1632],[2]],
-"x1c21f59146ad527e":[[3961],[3]],
-"x7a7ee77e048b47ea":[[1745],[5]],
-"x346d92088a70b10e":[[3364],[6]],
-"xd61c26bf04be2588":[[3242],[4]],
-"x7f7597666611139b":[[2739],[3]],
-"x9526bc57ba848163":[[3756],[2]],
-"x98e034e1486d8e8":[[132],[6]],
-"xdd38747da600c66e":[[1307],[6]],
-"x9c57ca6a28b867a":[[2107],[2]],
-"xe8c4b289281227cf":[[911],[6]],
-"xd8d9eec15f9f68d8":[[1959],[16]],
-"x5f7139f97492da62":[[3699,3688],[4,3]],
-"x40d2631366c4ef67":[[796,983,788,202],[66,12,3,2]],
-"xe1d5e9b0d29b1152":[[2673],[6]],
-"x8fe181e0b17c3a34":[[1697],[4]],
-"x440b93e0dc109ed6":[[3761],[7]],
-"xe19a440a4c2db58c":[[3749],[7]],
-"x5d4e863c4036b598":[[658,983],[41,7]],
-"xb5ebc635afa95e78":[[788],[10]],
-"x923304fc194fde0":[[3690],[8]],
-"x95b22ad6166813f6":[[2349],[3]],
-"x9927bb3119efb74f":[[1114],[6]],
-"x86c006fb92abb3b9":[[75,82],[22,10]],
-"x8ffa490b2958745d":[[1763],[10]],
-"xa359e6d2c794092b":[[139,796],[13,4]],
-"x6699020a142fda94":[[3364,4013],[4,1]],
-"x616033aab3f0737d":[[339],[3]],
-"x3b0bee13485648e9":[[2203],[6]],
-"x6d0236871b02a9e3":[[2203],[2]],
-"xfb81be66a3f995d4":[[1171],[4]],
-"xed9b5bfb1dfd95e8":[[2851],[7]],
-"xda47d103c9bb46b2":[[1234],[6]],
-"x3e16d7d2ea06ff9a":[[658],[3]],
-"x2e048ca976476f74":[[3756],[3]],
-"xc7cdf5a243a7d1b9":[[405],[4]],
-"x296f3eb7dc2cb92a":[[1699],[4]],
-"x34a4ef90ed5d5f4":[[536],[5]],
-"xe3bfc79bbd2ce2c0":[[3808],[9]],
-"x337116ffd40c34d8":[[1699,405],[15,5]],
-"xe70e63c954e15682":[[1764,324,1763,148],[9,5,5,4]],
-"x9560e5bd06903682":[[3929,3956,3307],[47,11,2]],
-"x97c776200f74ad27":[[3372],[5]],
-"xe238a46e2cb3b8d1":[[3047],[4]],
-"x5a0ff37762189e3e":[[4023],[4]],
-"x74db9854dd1dd240":[[3947],[4]],
-"x2f58033eb003f335":[[1371],[4]],
-"x5aec61bd00e945f5":[[528],[5]],
-"x8310090d63fd7018":[[3811],[3]],
-"xd814960489fd1595":[[2740],[3]],
-"x28b545a8dea65cc2":[[2723],[4]],
-"x71c95888715cad47":[[2139],[4]],
-"x83660352368e2f4b":[[203,1745,528],[33,16,10]],
-"xa49def5c0628c8ef":[[577],[3]],
-"x3eb17960535a287":[[334,405,82],[23,9,4]],
-"xa0c84dcc122ff087":[[731],[5]],
-"xaa81296e15ecf2d1":[[2089],[3]],
-"x5b89df0361015808":[[1187],[1]],
-"x468d0b66ab40e47e":[[723,788],[4,3]],
-"x7005e5ba7d59291":[[219],[6]],
-"xc6e4fabf0858fa9c":[[3808],[3]],
-"x134fb90ce9fd3d79":[[323],[4]],
-"xdddd606eac16a703":[[2852],[5]],
-"xe650ae7b6d653565":[[3941],[3]],
-"x2a9354cb8a332f30":[[262],[62]],
-"xa61d7af5151d6de0":[[4013,3947],[10,6]],
-"xa9292dc271ae9702":[[2023],[4]],
-"x45de227978e3e7c6":[[216,788,2477,1699],[41,15,5,4]],
-"xa11d1f363b54ba5d":[[2851],[10]],
-"x8e1cfc386a3bfebf":[[1699],[4]],
-"x4570492c8c6b0ed5":[[1762],[33]],
-"xacff76bfbf553e6":[[1115],[7]],
-"xf8425ae01c5da1e":[[3826],[12]],
-"x7048abe40d5a81ea":[[1114],[12]],
-"x4706181a84e2fe4b":[[593],[3]],
-"xc54178e10b65cbe2":[[339],[2]],
-"x5b0bc85111335ce9":[[1941],[3]],
-"xde98ffe9195a752e":[[853],[11]],
-"xc4eb1c31327f7430":[[3902],[11]],
-"x59f5c63a1feee199":[[788,2477],[4,3]],
-"x77fe5ee493cb5919":[[666],[3]],
-"xf66fa5cb5d8baf7a":[[3178],[2]],
-"x4d20ea6c444df750":[[323],[7]],
-"x979390197845d12f":[[2333],[2]],
-"x2a90f46ca71e80e":[[405],[6]],
-"xe473727d4536859b":[[1959],[6]],
-"xc6b5c99a6d172487":[[262],[7]],
-"x995a8f04f77bd7a5":[[2931],[6]],
-"xe09240265239a484":[[1177],[3]],
-"xbdb2c8b702a32f43":[[918],[2]],
-"x6d4856f05b295ec":[[4023],[6]],
-"x8d6f7b4f4d62e568":[[251],[3]],
-"x54c07120eecd31cd":[[262],[6]],
-"x5486884ecb316f47":[[789],[8]],
-"x5644ab2a6222fc08":[[211],[2]],
-"x30b04470e26d4f62":[[1699],[3]],
-"x7c5e886a6b9cc988":[[166],[9]],
-"xde9a7016a49b3ddf":[[3958],[6]],
-"x3d390112ac158157":[[1827],[32]],
-"x9f51260c655e0948":[[3898],[4]],
-"xe8ea370a534aefed":[[722],[3]],
-"x2f2203f6475dd21":[[1632],[4]],
-"x3384003444b4ebad":[[3817],[3]],
-"xbfa799045b27adae":[[3372],[10]],
-"xc811349da354baeb":[[3902],[5]],
-"x3876307834fff3ae":[[1380],[4]],
-"x1edb02fb4788d3f9":[[1828,262],[3,2]],
-"x1f71064bdd1d61d5":[[202],[4]],
-"x2aa2a1ea2ba104c9":[[3749],[2]],
-"x85f14b6d11745ea5":[[1635],[3]],
-"x168df284db3c0452":[[3817],[6]],
-"x1bbbdc3fdc5e68b7":[[2788],[4]],
-"x5b615726e7f4c548":[[334],[9]],
-"x8504e25d3f92255f":[[137],[3]],
-"xfc700b275b6359fa":[[204],[7]],
-"xd8e3ceab578b7dc9":[[3104],[6]],
-"x817476740a88e22e":[[536,204],[6,5]],
-"xe9840151d84152a":[[3364],[4]],
-"xb5181a48c6fc5b23":[[4013],[7]],
-"xaf582631b1151e0d":[[3037],[4]],
-"x15626ffd1d396cc6":[[1895],[7]],
-"xa2ae5f0faa21b76":[[3309],[14]],
-"xb1fd85731cf83e44":[[202,1],[7,6]],
-"xcd4894bdca70993e":[[262],[6]],
-"xc2d53c715f1212f6":[[3704],[1]],
-"x3e2f1604e1237851":[[391],[2]],
-"xd4285a6fdfd76ba5":[[3699],[3]],
-"x3f9f09c53084f710":[[75],[3]],
-"x6ed0212a50472505":[[2869],[4]],
-"x78e4c8146fc5a65":[[918],[4]],
-"x86ae9a9b3df41cf4":[[731,262],[31,9]],
-"xb4967eefcdf384ca":[[3902],[13]],
-"x8664a3451936d972":[[82],[24]],
-"x9687e1c906fbdfe5":[[3902],[10]],
-"xcac1e1947c16a1a":[[1827],[8]],
-"xc8e808f0b7c1cb12":[[3699],[5]],
-"x2c9026de96c44289":[[3309],[2]],
-"x75dc43e11c1e9c04":[[788],[2]],
-"xb7db44ff5403365d":[[2129],[4]],
-"xc7e9e4cbc2e16ae":[[3297],[4]],
-"x6166338794a17e6":[[2266],[11]],
-"xa06f3410eeff3740":[[166,209,139,202,788],[52,31,7,6,2]],
-"x3b476d86bcc25ac7":[[3242],[3]],
-"xcf17b32aa67ac33c":[[3046],[6]],
-"xd0421ce9decbffae":[[346],[6]],
-"x1cfa787c7e9e33e3":[[2463],[4]],
-"xdb463c4791f8cba1":[[2029],[16]],
-"x6db86e4773f891a4":[[1826],[3]],
-"xd15c5be9a2ba3c43":[[3299],[3]],
-"xe81170fbe5593531":[[82],[19]],
-"x461eddf574080234":[[1803],[10]],
-"x2427db8ba5ea993a":[[2284],[9]],
-"x4e39b29e99ec7155":[[901],[6]],
-"xd3a881236d8c4d29":[[262],[4]],
-"x2b01ff2255745621":[[4013],[3]],
-"x9b12dec2b4aa7f3c":[[3902],[18]],
-"x2a9609e6562b9d74":[[3898,2722],[8,4]],
-"x5d5c5be9d66159d7":[[157,209],[10,1]],
-"x2c282e121f7f7f57":[[1894],[78]],
-"x383c5d222e974c1e":[[1048],[3]],
-"x1e95a181115ba66b":[[3902],[4]],
-"x3e2405a3b587deab":[[2331],[6]],
-"x656a7fbfef06d008":[[148],[8]],
-"x4d4e2287b55aa364":[[788],[5]],
-"x3ef93d5a3ee76cd1":[[1829],[10]],
-"x7dc3b100ad9adee6":[[2107],[10]],
-"x1c07aa3800caba89":[[3690],[5]],
-"x249ed3235b5a14e3":[[2137],[3]],
-"x6aecbd96eee12a99":[[3699],[3]],
-"x9301c77c0ffb07f":[[918,731,666],[19,7,3]],
-"xf4f7a182e5a78db5":[[3690,3902],[18,4]],
-"x326d6cdb8b4631e0":[[3763],[3]],
-"x5c3cf18c974b8836":[[75],[9]],
-"xb28be1960a58d4ad":[[3643],[3]],
-"xb2b20dc6285eb877":[[2355],[4]],
-"xa7670475c5e5e6fc":[[536],[3]],
-"x13137c574d88c047":[[339],[22]],
-"x8cbf8d2d4a3fbd48":[[204,528,209,1683],[15,10,4,3]],
-"x7c64e8d81f8a93c":[[332,80,148],[7,6,6]],
-"xf1b0f5452a94e8f":[[157],[4]],
-"x6fbb8b1a4f96ae35":[[3749],[6]],
-"x5f3313a683d2492a":[[1371],[9]],
-"x470f240c82633328":[[536],[6]],
-"x48e5922fd091b4cd":[[2715],[11]],
-"x35e9f122e20c54c7":[[1893],[9]],
-"x658be7e16386c394":[[3309],[5]],
-"xc9f0b90f99b2cbf5":[[3112],[174]],
-"x1b7d40301251c179":[[2851],[29]],
-"x7a7dac7ddc186fe6":[[219],[5]],
-"xf0fa8a66a6f6e75e":[[3307],[6]],
-"x27c6a22fd4649731":[[75],[6]],
-"x5a5ae8c1dac42209":[[3902],[4]],
-"x68ee3a80d2651aa4":[[788],[3]],
-"x94144a2367bdd20d":[[3567,3559],[3,3]],
-"x854f820ba032a52":[[3929,3690],[19,7]],
-"x38ec9c2d75b1ee4f":[[3502],[1]],
-"x87501a2c1c1de1b4":[[1163],[6]],
-"xe7cb47920473b0e":[[258],[11]],
-"xe7f093c36dd8fe04":[[262,593],[110,8]],
-"x1824c90a17fbfd13":[[2281],[5]],
-"x24bf4de94719b65b":[[1827,1828],[14,8]],
-"x2cb8106d1b53bb70":[[332],[2]],
-"x82bfbaa02cdfa6b0":[[2219],[3]],
-"x11b7c6a6588b2cc9":[[1699,405],[18,8]],
-"xd03ed0337c5dd90c":[[2072],[6]],
-"xb16da5df62291d92":[[2910],[2]],
-"x48ca1a2c54e1a017":[[262],[4]],
-"x4b512c320595ce09":[[2484],[3]],
-"xa3017e0a8e1b94b3":[[3234],[1]],
-"xa9b93f0b4c82d815":[[2609],[3]],
-"x6dc0cdeccc6c7097":[[1699],[2]],
-"xafd9d3090b673b4e":[[3624],[4]],
-"xacbe350e0a9a6821":[[262],[4]],
-"xd88c37702d13c0b1":[[723,339,204],[8,7,6]],
-"x4983078273337fb2":[[4013,2268],[2,1]],
-"x8479e90610451964":[[339],[6]],
-"xdd818c67229fc009":[[3876],[6]],
-"x212dc7cf89b2ba96":[[334,405],[89,3]],
-"xac828cfe68b2f4d":[[332],[3]],
-"xa83d77b741f8427a":[[3902],[24]],
-"x6a63f6c5444c169a":[[1759],[3]],
-"xe061dcdba9ba8cbe":[[3299],[3]],
-"x199b176867564832":[[3309],[3]],
-"x8e36f0a729a51a7":[[3958],[3]],
-"xa0f9ff0cce8d54df":[[3826],[47]],
-"x3f78732aff4c010d":[[137],[11]],
-"x183d063e7e875ace":[[1049],[4]],
-"xd729cb01fab543c5":[[4003],[6]],
-"xab3add528b446010":[[349],[3]],
-"x83ce4c603a3e1933":[[666],[4]],
-"xa2f99f39ce516618":[[405],[3]],
-"xab43071333795dc0":[[3938],[18]],
-"xc1147f919ec29ab9":[[262,204,861],[6,4,3]],
-"x83917a240abc78bb":[[82,788],[8,2]],
-"x8f2ab2de6794d245":[[2203],[6]],
-"xb1c32416a9f8fd4c":[[926],[3]],
-"x560baf8d20fcabe8":[[1375],[6]],
-"x6094291fb629aa4d":[[262],[4]],
-"x7fc68c1faa3887fe":[[137],[4]],
-"x8d8196d2149302c2":[[3234],[3]],
-"x1672b15ff1310624":[[2918],[3]],
-"xd17448a429c5db17":[[3699,3902],[9,3]],
-"xb1f0a54eca3421b5":[[139],[5]],
-"x3271fd5111b1ef76":[[3756],[3]],
-"x9c997b83cc779314":[[346,731],[27,23]],
-"x52cdcd176a9d56fb":[[3307],[25]],
-"xa945bea42eb42ef3":[[1383,1164],[4,2]],
-"xd07fadf7cf83f8a1":[[601],[5]],
-"x391553073dce241":[[346],[223]],
-"x526b58b6bf3a4af7":[[3826,3642],[6,1]],
-"xd06fe1e5657270d0":[[2203,3690,4013,3112],[30,27,21,3]],
-"x4d4d40a7665386d4":[[2915],[13]],
-"x9f5f3325e3b02c45":[[3169],[3]],
-"xb10cb5d10644e62":[[204],[7]],
-"x88557e4cef74b425":[[2745],[8]],
-"x11ce91499005bacb":[[3964],[3]],
-"x7fc192d5b82433":[[3956,3234],[60,12]],
-"xbda27d115ae6b3ae":[[3365],[6]],
-"x9050d9ded116e598":[[3539],[6]],
-"xf60b98a2143efd60":[[3],[5]],
-"x43a532e8e9909ffb":[[2324],[12]],
-"x1cf3eff001e189f":[[3756],[4]],
-"xf4cadbcd504aa499":[[203],[16]],
-"x8a470482d88334ff":[[3242,3372,2266,3690,4013,3749],[1263,575,448,25,9,4]],
-"x4649fcd569d980ee":[[258],[6]],
-"xda0c31574e77352b":[[3642],[2]],
-"x5dfa132d4b882cf9":[[2463],[6]],
-"xcb35f16bd270d75":[[3169],[2]],
-"xe88de696d25c4667":[[3112,3956,3817],[282,92,3]],
-"x63168eb8ec0cf05b":[[3808,3112],[4,4]],
-"x9e18404fd36ed90f":[[3299,3502],[8,4]],
-"x391142d4a11c0422":[[334,211],[24,7]],
-"xef3023588a81e22c":[[3362],[7]],
-"x9cfedc72dee4aaae":[[1762],[4]],
-"x464bd1c1993cf90f":[[262],[5]],
-"x46ef5e6fc8387228":[[3761],[6]],
-"x4c3e82389158baae":[[528,2],[10,4]],
-"x232133ee19972127":[[3362],[3]],
-"xc7a6fa008836ea20":[[1178],[6]],
-"x7950a3415239f477":[[2292],[6]],
-"x56835c72e5638a52":[[2723],[40]],
-"x103fa53067704459":[[3299,2203],[18,5]],
-"x99bd0620b7eb85cb":[[324],[3]],
-"x780c42ab44c2402a":[[3104],[2]],
-"x33a1fb3647c6f498":[[2341],[3]],
-"xa5d05a4255facfb3":[[2720],[8]],
-"x6ab7f76b2a4c71e6":[[3308],[6]],
-"x37d0f59cea4d803c":[[2201],[1]],
-"x47b74fad1cd5cbd8":[[4013],[4]],
-"x122224b49e16deb9":[[3299,3502,2908],[282,14,6]],
-"x5c49dae4afb967e2":[[1699,405,166],[132,120,90]],
-"xda1ea6d3220e6824":[[3372,3502,3749],[34,3,2]],
-"xecb054a43f77d139":[[1187],[3]],
-"x12feabf1e76faf34":[[3964],[4]],
-"xabd628b677f19f79":[[454],[22]],
-"xcfa9689ce04ac82f":[[2852],[4]],
-"x91f6d6b9d872c84a":[[339],[6]],
-"x6fb21008af0abf45":[[1553],[36]],
-"x76cf47dc061e0e6d":[[724],[1]],
-"xe58c476808a8e390":[[324,731,593],[42,16,1]],
-"xb36009b534726e2f":[[3956,3763],[4,4]],
-"xf61d68b7c24c871":[[3234,3690],[7,3]],
-"x8a762608cffd1907":[[4022],[3]],
-"x663fe1473cec0a4a":[[3690,3234],[24,3]],
-"x5e6ad2894ffd00fa":[[324],[6]],
-"xe26cf8bcc0496761":[[262],[9]],
-"x52e43f051e4b9a7e":[[723],[4]],
-"xa451414835985f46":[[789,853],[17,13]],
-"xe20c50ae29246413":[[3307],[5]],
-"xa34a0aee3e10ca56":[[795,1307],[13,3]],
-"x319ea0105a6a52fe":[[2293],[3]],
-"xecf6c7897b327ed9":[[3299,4013],[7,5]],
-"xaa0db59fdb0e488":[[3902],[29]],
-"xcc21827e1eb84aeb":[[1371],[15]],
-"x971c1bab2d479c41":[[2788],[22]],
-"x1ca1eebe01c07627":[[1307],[7]],
-"x40ac787478a5c79d":[[1893],[6]],
-"x340e4b154d0f3487":[[731,405],[65,4]],
-"xc4fb771be1f20a39":[[3948],[6]],
-"x4cb002c84fb0b081":[[262],[8]],
-"x490d74cb058b1c39":[[166],[4]],
-"x2c8f6b6f7096dbc2":[[3112],[4]],
-"x805aee1ccb640302":[[3902,3690,3299],[12,6,3]],
-"xfbf13efacac0ec0a":[[1244],[6]],
-"x172ba4ec91e975c4":[[2658],[3]],
-"x1ccded5387bf9319":[[1380],[9]],
-"x3e5a3a307b68e3e0":[[3963],[3]],
-"xb482c609e1053f7d":[[3819],[2]],
-"x2c6b48c31d5269a":[[3287],[3]],
-"x22423c18b710e476":[[4013],[4]],
-"x40cf256cc295076d":[[2851],[3]],
-"x262ad8e32b6821fe":[[3763],[2]],
-"x699a98903f6ac0d8":[[454],[6]],
-"x89c1d5629bfcc797":[[2724],[5]],
-"x8fa63ccd30a5ddf0":[[82],[3]],
-"xd21f820292662b0a":[[1745],[2]],
-"x5ab05c616789d655":[[1244],[5]],
-"x29bfbb3f33b8f2d5":[[1867],[4]],
-"x1b10735b6c49dada":[[796],[12]],
-"xfccad8d327bdd94":[[3902],[6]],
-"x2492ad35e71d2e83":[[4020],[2]],
-"x55083d36d206ad8d":[[731],[4]],
-"xdd6b4467e1a7616d":[[3501],[3]],
-"x644d4afe02564aeb":[[405,82,658,861,723,396,731,593,536,666],[4399,267,199,19,11,10,6,6,4,3]],
-"x8a5d5218bab2c410":[[1642],[3]],
-"xb701f10c10a4a660":[[339],[1]],
-"xef2caa93d4207a68":[[3947],[10]],
-"xfdae0baf297ae9b3":[[148],[4]],
-"x5a5d8294e18db01d":[[2138],[2]],
-"x8c5ff662e217ed18":[[1180],[5]],
-"xff25d36b85da8e08":[[788],[13]],
-"x3864f105546a2d3f":[[1530],[6]],
-"x2775171e2343da4e":[[1382],[3]],
-"x73ccb09d65121484":[[209],[7]],
-"x4052cfbdb1f1c81d":[[1307],[4]],
-"xffb857f3107a7ae3":[[2781],[4]],
-"x7436d131e56330d6":[[3177],[12]],
-"xecc08078fa2386f0":[[323,148],[19,10]],
-"x9482f09a13683a0":[[3373],[2]],
-"x98fb416a57431e5b":[[3837],[1]],
-"xe33f4b318c6bb4b":[[731],[16]],
-"x36c496ef170f250":[[2915],[9]],
-"xd2ec5e2fdd669a65":[[983],[3]],
-"x5d21cada0e950399":[[148,926,332,918,861],[39,17,8,4,4]],
-"x39a0d3b55fb6ddc":[[2940],[4]],
-"x61bb2ad1815a84d2":[[323],[2]],
-"x38c2c07f2932a0dd":[[3178],[3]],
-"x1cadc6a513d5c4c7":[[1634],[3]],
-"x984bbdd198ec089d":[[3372],[2]],
-"xfea6280d21b091c":[[1828],[7]],
-"x760c8ea046fefc2c":[[3827],[4]],
-"xc2f7e963b2dded60":[[3902],[10]],
-"x9f88dac8053a31fc":[[3749],[2]],
-"x73bb714a8c864f75":[[3690,3699],[9,4]],
-"x46c8d1a74efedc7b":[[1762],[3]],
-"xa83f98b090e0eb2c":[[262],[11]],
-"x213b7093dce3f2a5":[[339],[13]],
-"x11ace0e5d14b00a2":[[4015],[5]],
-"xc59d887e77d59991":[[2066],[3]],
-"xfd35c392f57dd45a":[[2266],[8]],
-"x6d0915735bbfc665":[[262],[3]],
-"x2c57d7cab5e72aa4":[[843],[3]],
-"x5ccf252ed09f5948":[[204],[3]],
-"x7fde59a9e20d1aca":[[1],[39]],
-"x27d6011ff42b5e18":[[594],[4]],
-"xee0b5187bd2638de":[[4013],[4]],
-"x2c20427fd0f04840":[[2869],[3]],
-"xa9600db0ab3abf9a":[[723],[5]],
-"xe485866a0d0fded0":[[3902],[19]],
-"xdce86eed8057fa30":[[3958],[4]],
-"x8fc1b1db91ca6ccc":[[3742],[3]],
-"x76c9c4c2f95b2b3c":[[1355,148],[7,4]],
-"x9152cca62e6bf690":[[391,148,536,789],[31,28,6,2]],
-"x14f783bbaccb96eb":[[454,148],[4,4]],
-"x74352f2ebf8a492e":[[1748],[6]],
-"x2da26a87e20e5aae":[[3827],[4]],
-"x8db1c11ab093c5ed":[[1179],[5]],
-"x8041adf1efdb217a":[[82],[6]],
-"xb257daa8bacd4a24":[[227],[5]],
-"x9dcbde30af3abe53":[[2851],[22]],
-"xe63bd92af21f04f9":[[1699],[5]],
-"xdcdb7982c71ac8fc":[[4013,3112],[6,4]],
-"x14dcc9b901d2fc9a":[[3902],[6]],
-"x5d77795b64b6cc36":[[4013],[3]],
-"xca77d118a82590e2":[[1307],[10]],
-"xb404748c27e0cc0a":[[2203],[2]],
-"x3f10e1decf4b899e":[[3699],[4]],
-"x6bc90261ad3272b2":[[742,194],[4,4]],
-"x414587e37fdf4115":[[339],[3]],
-"xabec7d22ee7031f":[[1878],[6]],
-"x4ebb6688fd8e4fe8":[[658],[6]],
-"xb9c9e31db6f52708":[[801],[32]],
-"x438f9860140c0a34":[[2203],[10]],
-"x18c684878bf6d6dc":[[3372],[8]],
-"x637ab7c78ac3b86d":[[2396],[6]],
-"x24459a3e46531a0f":[[1745],[7]],
-"x51ec4fe33c3dc3b5":[[3902],[4]],
-"x2ec0f6c48469a214":[[2585],[2]],
-"x70c485a42faa936f":[[2463],[6]],
-"x3a07170dd0b1c9c7":[[3763],[3]],
-"x25d1da0a81f5a114":[[3956],[3]],
-"xb87b045ee9a7d99":[[3567],[6]],
-"xd8e1f4f08a884be9":[[593],[10]],
-"x34b867a2dce83001":[[528],[3]],
-"x37fb76542519242f":[[3749],[6]],
-"x2faa0848d446c474":[[1371],[3]],
-"xc2ab2f76f01705df":[[2387],[3]],
-"xd866d621101b247a":[[262],[3]],
-"xd96c8b482ee400e1":[[1251],[5]],
-"x4eee0173fc62dec2":[[1652],[5]],
-"x14482641465f8366":[[3902],[4]],
-"xd979c50be7461260":[[216],[11]],
-"x664aba7f5d23f9b3":[[847],[3]],
-"xd454f562617d4b69":[[3177],[10]],
-"x987b49cec4d6df8e":[[3307],[1]],
-"x3323eecbe2c2614a":[[1569],[3]],
-"xbefe6ce3077310f0":[[3436],[6]],
-"x400bb1679e5885b7":[[82,75],[14,6]],
-"x32272af53511d0e9":[[262,231,1226],[8,5,4]],
-"x755f301821c17681":[[353],[6]],
-"x9515113d52a985fb":[[2908],[13]],
-"xfeb957dc06ca6172":[[3826],[8]],
-"x2c3fa3c797421f2b":[[75],[14]],
-"x8eb50ca59dfbd4f5":[[3956,3826],[19,12]],
-"x1f1496101dd2dc7d":[[1876],[3]],
-"xc0b9afe525824e3d":[[4013],[47]],
-"x20c594fefdeaacf1":[[729],[3]],
-"xbd99059ed4d7031a":[[75],[7]],
-"xe8f360cb5cbc6f62":[[3902,3699],[13,2]],
-"x7652f71ce08ff1df":[[2461],[3]],
-"xc14b34970a407402":[[3364],[9]],
-"xc2488917dc6a9ed8":[[3902],[3]],
-"xf714aeacaaab2d4e":[[1900],[3]],
-"x225c48b0cfba4808":[[2],[4]],
-"xb1022ef27ca2edf4":[[2333],[4]],
-"xe3391c89b47c61d2":[[1618],[3]],
-"xb487a3a9eaae510a":[[3234],[3]],
-"x771303d620cecdde":[[2915],[3]],
-"x4bfe792e68995a94":[[1959],[4]],
-"xaa0903a886f22fb1":[[601],[7]],
-"xbdf888a4064a50dc":[[2331],[145]],
-"x20239674491934ed":[[1813],[2]],
-"x1f650e46deec2ee":[[2931],[49]],
-"x45ae842e3f45b108":[[2,216],[17,6]],
-"x381436bc45bdd865":[[1699,1380],[5,2]],
-"x952b2bf9466aca29":[[2674],[4]],
-"x968b03d1887fd883":[[3559],[3]],
-"x408bac0cfd2d7b14":[[2331],[3]],
-"xfbfc74660a70d30d":[[82],[8]],
-"x5ceb04c5c840a05e":[[3567],[62]],
-"x4e6c7cf244040aa0":[[339],[5]],
-"xf49737e0cd6d4ad7":[[391],[3]],
-"x72202ff328088e63":[[3956,3690],[93,3]],
-"xeba049d48f1f6cda":[[3502],[3]],
-"x23927f830268901a":[[258],[14]],
-"x27db46ded336699c":[[3372,3699],[6,2]],
-"x68b5dcbb920fc4e3":[[1619],[7]],
-"x8b4bbebec3bd79e0":[[3642],[4]],
-"x1a833d6b331bbf2e":[[3690],[5]],
-"x7a1528f73b6d8505":[[1371],[33]],
-"x7ea0f4327c6a6a03":[[3307],[11]],
-"xf9b0ce25994c13f2":[[202],[5]],
-"xe92113363f43d141":[[129],[5]],
-"x5b1cf86e2abd4f94":[[3177],[4]],
-"x1970da2a333c8346":[[3898],[3]],
-"x20ba6c32c73c06df":[[536],[7]],
-"xee30287ed1a9caa6":[[3902],[1]],
-"xe96bd71b6a880590":[[139],[5]],
-"xacf70ea45e25c4fd":[[89],[6]],
-"x2b83302350de1364":[[2072],[3]],
-"xa3f5fc71e0bc06f9":[[3299],[11]],
-"x94f3005ec6177139":[[1366],[4]],
-"x8654bfbf387f9679":[[1635],[11]],
-"x47bc7cacc735eb46":[[1371,1382],[20,14]],
-"xbea7ff265d4dcac4":[[3902],[3]],
-"x40e5fe065ff96fc7":[[137],[19]],
-"x610aeab5f21fa03d":[[3364],[1]],
-"x7a0f6045f8554461":[[3567],[16]],
-"xf487ab0c7945cc8a":[[324],[6]],
-"x25c9a2d922d1ed97":[[5],[3]],
-"xda4b5b9e41f31871":[[3697],[4]],
-"xad7e537ce9c04084":[[3567],[5]],
-"xae1c6e05ecd84b81":[[3366],[3]],
-"xf6e5eab7ad2eac82":[[1041],[6]],
-"x5c5887c6019c40b0":[[405],[49]],
-"x6a7747f7f23ce11b":[[82,1681],[8,3]],
-"x457b0365b0c5a610":[[983],[3]],
-"x183558fae2a3d387":[[731,918,666,593,788],[486,152,134,29,6]],
-"x6c4ed53d4c38f75b":[[795],[6]],
-"x8dc4af6b5e74bc76":[[2723],[4]],
-"xe9682929e67d21a8":[[339],[5]],
-"x9e7d8a77c0521337":[[3234],[3]],
-"x6832b22eb30984f7":[[1178],[3]],
-"x9f2c5e13d0d270b5":[[3046],[4]],
-"xaca85f736e35cff5":[[1291],[6]],
-"xc5ec2eb13ae8f88b":[[3826,3307],[16,3]],
-"x6a11912765bf5924":[[3372],[75]],
-"xd4d1037c050f0948":[[918],[3]],
-"xa0fbc177638791b8":[[332],[6]],
-"x723fa20c2632fb33":[[407],[2]],
-"x43d82838d74845a8":[[2633],[2]],
-"x2b0703eea0edda8b":[[194,2],[7,6]],
-"xaee78b1e116b8568":[[3902],[3]],
-"x84fad35e363a545a":[[2228],[3]],
-"x99d1588ea875f851":[[3566],[5]],
-"x8f46703da5dfd0cc":[[3826],[4]],
-"x40a07c849247a82c":[[732],[4]],
-"xb40cd986ecaddabe":[[2740],[8]],
-"x95e349db19f813cd":[[2258],[1]],
-"x80f565f0775604a6":[[2851],[3]],
-"x2b40d9bd2b14bf75":[[2006],[4]],
-"x3778b426785ae875":[[196,203],[3,3]],
-"xa0baf239e3cae648":[[4020,3826,3808],[69,7,2]],
-"xedfdb5df84c42369":[[82],[7]],
-"x9aa80885af6a49a6":[[3902],[4]],
-"xc9327ad73aef413e":[[262,666],[72,16]],
-"x6600d720f22d10e4":[[2656],[5]],
-"xfaf7ceb040b4a46":[[1283],[3]],
-"x8a611af9fbc1be81":[[796],[7]],
-"xc7c1ff24cabea23d":[[788],[4]],
-"x425c05ca569082ff":[[837],[6]],
-"xc82ff9c4ca68a9b0":[[2788],[13]],
-"x3d8b91653340dde1":[[258],[7]],
-"xdf74f0a4be91944e":[[262],[3]],
-"x3c2a2e487b1be41a":[[3112],[3]],
-"xa3020cb2063a913c":[[2154],[7]],
-"xe063603591052bc0":[[3699],[1]],
-"x9df1faa91b60b6c4":[[3112],[1]],
-"x177bff2686671e09":[[788],[3]],
-"x930e82ad5a5aacf3":[[861],[4]],
-"xa429845bf1644038":[[2853],[2]],
-"x684850a4c3e66c82":[[3947],[7]],
-"xdc5dffe80169489e":[[2917],[5]],
-"xfc898b82e9fa9005":[[3756,3112],[9,3]],
-"x1242939a1b38d1fc":[[324,528,1699],[6,5,4]],
-"x6ecfd0e1b9c443a5":[[2396],[3]],
-"xc9fd14cc5989b6a7":[[3372],[3]],
-"x85cec92abbb5de12":[[3699],[1]],
-"x182ea18764d5d6b5":[[2],[9]],
-"x7c7b0fd5c0d00ee9":[[1618],[1]],
-"x7f467bfdebf21c25":[[1893],[3]],
-"x161de1d15a3bc11c":[[405],[6]],
-"x8fc210f680633945":[[334],[6]],
-"xfcdfa080d68e1d65":[[332,82,658,346,666],[26,26,12,7,4]],
-"x3bfdc4b94229442c":[[2477],[6]],
-"xe064da6a44cd6fd6":[[665],[3]],
-"xd4276a2caa0bfe4":[[3761],[7]],
-"x6d3e2f4769172669":[[2124],[5]],
-"x98df3ce8d1db2cad":[[157],[4]],
-"x77356d332c7b7cf9":[[346],[21]],
-"xa7a46add82fe8ae8":[[1187],[3]],
-"xcbbda8a8407ebcb3":[[2592],[2]],
-"xc0006d0299acb99e":[[1893],[6]],
-"x828ef9355dae015c":[[3364],[8]],
-"xc28a214e33b5dfa4":[[3699],[3]],
-"x6524406f27268ab0":[[3902,3307],[12,3]],
-"xcfecf2cd45e09251":[[2715],[5]],
-"xd9a25d527293ab7d":[[332],[2]],
-"x8eb4a59d9e43aa17":[[2593],[4]],
-"x7d9834cf155fa009":[[1698],[6]],
-"x731c4f7f72235f4a":[[3438],[6]],
-"x4b95506ee01784b":[[3902,2266],[13,2]],
-"x311bfc14f59d8219":[[2916],[2]],
-"x9cf0b56e600974d4":[[339],[7]],
-"x350b9b6f1f5e22d":[[2723],[2]],
-"xe6d096270fb4f998":[[3833],[1]],
-"xe955d2400392f60d":[[731],[7]],
-"x324c460ccd94fc7":[[1178],[4]],
-"x1b4c34732b712470":[[326],[6]],
-"x1eb9673fb9b0af90":[[731,918,796],[32,9,7]],
-"x7cfdc607ed25ed1c":[[2477],[6]],
-"x3f8e5c9b1fe599bf":[[1749],[6]],
-"xf1e5a49962b0608e":[[129],[2]],
-"x3f6352639dd10a02":[[3298,3242],[4,1]],
-"x1f67a5369259f5bc":[[787],[3]],
-"xe130e7f161f61fb9":[[2720],[1]],
-"x4918d43827246e48":[[68],[6]],
-"x4d4c9e698de5041a":[[405,788,202],[15,5,3]],
-"x4722b9ce6cfa94e3":[[267],[22]],
-"x15aace1acfde8717":[[3234],[4]],
-"x6e5ac0f496e69046":[[3169,2203],[14,8]],
-"x1929f7102b7629a2":[[731],[8]],
-"xe35399bc595dead4":[[1155],[6]],
-"xe33799256fed56e5":[[405],[5]],
-"x2e95df07bf32fd04":[[262],[3]],
-"xd6a5dbf8929cba23":[[353],[6]],
-"x6c30e3087fed27b0":[[3121],[3]],
-"x104d47f945183b45":[[75],[16]],
-"x602793ad9d7d3a27":[[1681],[1]],
-"x51bb7fa744497c86":[[3690],[16]],
-"xb847ae636dbed895":[[3763],[11]],
-"xa5b32521adace0ac":[[3761],[2]],
-"x2cb1b6118a929616":[[3643],[1]],
-"xd7626b2828529795":[[157,166],[15,4]],
-"xcd5ad4449a3efe1d":[[2331,3929],[45,22]],
-"x199f65e468b9a065":[[2268],[5]],
-"x49265b893f34c7c1":[[3902],[3]],
-"xd20734ba89dba24":[[1762],[1]],
-"x583e535abd879e7a":[[918,405],[2,2]],
-"xe0f1fe57d46a8951":[[3121],[6]],
-"x9b42400ffadf5707":[[4013],[19]],
-"x40a76fb8f65e4564":[[339],[2]],
-"x2d121753dde29eb8":[[1699],[4]],
-"xe24759ff15a7830b":[[2089],[4]],
-"x6fc00b39dbdaf7b1":[[2268],[3]],
-"x664692744387f79f":[[1672],[8]],
-"x8221c9412c8af9d9":[[148,157],[10,5]],
-"xaae9d4f394c15bcc":[[3243],[2]],
-"xe2967ede950290a3":[[1465],[3]],
-"x8ddebe653f1f295f":[[405,796],[27,12]],
-"xf9a3ce6f8f020aa0":[[3307,2908],[3,2]],
-"x18d7cc4db3d1257d":[[82],[10]],
-"x4b6de057dc9bef5":[[666,339],[104,26]],
-"x3049176e37573153":[[1763],[10]],
-"x17226ca93a4e003c":[[1180],[14]],
-"x20c7f25afc0a3dc1":[[657],[3]],
-"xffc08ea8f3fc78e5":[[2331],[2]],
-"xdcd7eac46ce6bd15":[[2266],[12]],
-"x388dce4f38f353b1":[[1180],[3]],
-"xabd30e5cbf153469":[[528,405,796,166],[251,29,14,3]],
-"x234a31719fecf414":[[2863],[6]],
-"x5ac83bcbe25dee43":[[3234],[3]],
-"x8d53a50d7ec79b61":[[1699],[5]],
-"xb4e197bc439ca1e2":[[3641],[11]],
-"x70dd0199a95b6ce":[[2722],[3]],
-"x6825d1dbf168b8b":[[1179],[70]],
-"xe32ad17d7cfece3b":[[3242],[12]],
-"x6a2c615ac76b7662":[[259],[4]],
-"x91b1dac35ede5f53":[[3307],[2]],
-"x50973b21d1bdc49d":[[3947,3828],[58,5]],
-"x55478544ed534bdb":[[1226],[12]],
-"x34ab6d6071649619":[[2281],[3]],
-"xf72728ebb8b9ceda":[[3567],[5]],
-"x36107858fb405950":[[3307],[120]],
-"x86933069b8c862bb":[[731,353,658,82,346],[1975,211,45,28,19]],
-"xeacf00bcd8c61a4f":[[528],[8]],
-"xcffedc8c21e2b03e":[[1185],[3]],
-"x5d5981d2d657d42a":[[3390],[2]],
-"xa9bb0a4fe2edb188":[[2023],[5]],
-"xe3aeed2e01f5b5c0":[[3306],[2]],
-"xb536c77fad64266":[[2276],[4]],
-"x7362768ede5f3784":[[332,75],[14,4]],
-"x4c3714a84a4bcf7c":[[3429],[5]],
-"xefec51a3ddecc006":[[2908,3104,2722],[16,6,3]],
-"x678cfab84bb46473":[[1761],[7]],
-"x594d5ae3961a22b9":[[3690],[11]],
-"x7f8e9382e083a1a":[[3112],[3]],
-"xf1fd9f95c44c00ed":[[536],[2]],
-"xafd6dff6bd0d61ae":[[3947],[2]],
-"xa1bf13a86b202616":[[991,267],[5,3]],
-"xd3c4811f1299dc0":[[66],[1]],
-"x263ddb8e3eee5d58":[[3370],[5]],
-"xe3ddde675c842a6e":[[5],[3]],
-"xcb8f9cb5fc8f5d56":[[3299],[8]],
-"xbdc48f0f00c37dd":[[1299],[1]],
-"x97eaf75b18a46f11":[[4020],[3]],
-"xedb95fa4a71e0728":[[3112],[9]],
-"xb5a67e21adc8067":[[166,148],[20,2]],
-"xf35b3523dca4676b":[[258],[3]],
-"xc94dc4a2c73f6df3":[[926],[6]],
-"x2daf7876557bebfe":[[3298],[1]],
-"x36c3e6a2f638f4c9":[[75],[3]],
-"x84212890250bf372":[[3761],[3]],
-"x3717ec0622914bd7":[[2124],[4]],
-"xd42a9a198696de7e":[[3559,2724],[7,2]],
-"x4dd6b3fc685b8f29":[[3826],[7]],
-"xb2822b7ad74f31":[[82,407,405],[8,4,4]],
-"x5ba690e722ab3eb7":[[2059],[5]],
-"x434802a27ce4da7":[[3890],[3]],
-"x2e056cb1945450f2":[[4013,4020],[3,3]],
-"xdea93822ff1715f1":[[4020],[2]],
-"xf8c242faedbaf6cf":[[721],[68]],
-"x4ade3e71047e5e6d":[[1570],[3]],
-"x53314b47c1ed1d61":[[166],[16]],
-"x807a5f0dafe7e1fe":[[3437],[22]],
-"x996643f416d6792":[[3699],[3]],
-"x4c2f5944950cf681":[[2463,2434],[15,1]],
-"x2a59ef653d0a9081":[[1699],[4]],
-"x8858e20132ed50f8":[[2477],[2]],
-"xfff1aa1d4c19e1b4":[[2851],[2]],
-"x35d6b2ff90965dde":[[3929],[3]],
-"x2d77acaeef3b8ba6":[[918,788],[49,14]],
-"x1649256ab33a9afc":[[451],[3]],
-"x88986b18bee3fe28":[[3583],[3]],
-"x3dd99a9d482633d0":[[3688],[1]],
-"xc641c75bee3541b7":[[1256],[6]],
-"xf8f39b3ab156d455":[[3902],[17]],
-"xe636f559ecf21a18":[[2006],[5]],
-"xdc8a5aa223936a98":[[2162],[6]],
-"xa5d75db44286eaa1":[[339],[6]],
-"xb1727981bcb6e68c":[[3309],[2]],
-"x82c77957129403a":[[1643],[3]],
-"xb1fb5640840ff9":[[3902,3808,3307],[39,9,3]],
-"x6b219289d086352f":[[2908],[5]],
-"xed9d9c7e849207ff":[[3164],[3]],
-"xc5a52c4f9970c968":[[3028],[2]],
-"xb9ccb18d95d2027d":[[203],[6]],
-"x9e87d8be9f94589c":[[796],[11]],
-"xbdde036d69d784b8":[[3756],[3]],
-"x5062a5b58073d974":[[918],[3]],
-"xd22a93d994c40ca8":[[2348],[3]],
-"x67332b06817a3731":[[706],[6]],
-"xd496f13059e6df59":[[202],[2]],
-"x42a845042ef50654":[[3699],[5]],
-"x1cc5a32777cc72ff":[[82],[3]],
-"x99629d6da00c8482":[[2915,2851],[139,32]],
-"xbf879a328f6d5755":[[2898],[3]],
-"x9874b8a949b13efb":[[2851],[4]],
-"x5d307d2e797101f5":[[3642],[5]],
-"xddc3e5abdb79d069":[[3299,3902],[49,7]],
-"x848312966fd40f23":[[1892],[6]],
-"x9b7f1ce9596a1e62":[[2203],[17]],
-"x53c246e1cc786116":[[3868],[3]],
-"x781b067b685cce3":[[1306],[5]],
-"x9a421c93c5e14be2":[[1293],[3]],
-"x93a50a0f300ff855":[[2787],[2]],
-"x29a86ea94f97603b":[[334,723],[11,7]],
-"x2a2654972e109d68":[[1090],[5]],
-"x4e1295da7a29ad32":[[262],[3]],
-"xf0aab1bd5217098e":[[3104],[5]],
-"xbc413b12dcc6a068":[[1762],[7]],
-"x1558f996ed748334":[[2915],[9]],
-"x385d17133e6c87c2":[[2332],[6]],
-"xe80a1b969aa21532":[[1700],[6]],
-"xcf6cb6a11884d14b":[[3177],[4]],
-"x5de34897ec4abde8":[[1217],[5]],
-"x5339a53439146e1f":[[853],[10]],
-"x14a17468a7d18c1d":[[1561],[6]],
-"xc8e3a304faecd2d6":[[1553],[6]],
-"x1f75f41e9596b4ac":[[1380],[17]],
-"x2238b23e08320e67":[[3641],[4]],
-"x15cab82f21db78c9":[[3567,2715],[8,3]],
-"xa7db1ec3d500cdaa":[[612],[3]],
-"x204297174793b800":[[3699],[6]],
-"x41ea5041b73266d8":[[2715],[1]],
-"x88bcbef7370ced2":[[73],[3]],
-"x5fc2936ff6009220":[[2396],[6]],
-"xdd3d67ef64325b3":[[216],[4]],
-"xd39113aebe2bfa54":[[3902],[4]],
-"x34489de8c9056f97":[[3259],[1]],
-"xbb60a76ce803b587":[[2258,1618],[5,4]],
-"x620eb97c5d5c7189":[[1308],[3]],
-"x1df45333dbc157d8":[[211],[4]],
-"x240a7afedd3ae7cb":[[2713],[4]],
-"x853e54d20ee280c1":[[1356],[3]],
-"xf8a4b917bcf3e02b":[[3699],[10]],
-"xed592e5423a970a8":[[666],[2]],
-"xe108a00a3461fc7f":[[405],[5]],
-"x6b4e6b8f31202eaf":[[3502],[8]],
-"x760acb823955ba47":[[2203],[2]],
-"x4f7b0081a28b4a17":[[3699],[7]],
-"x93bb9fd58670739f":[[339],[6]],
-"xfdf38304596e1d21":[[4013,3749],[10,4]],
-"x520891d9a18506ac":[[3902],[5]],
-"xc7dad49ff79bfa97":[[3963],[2]],
-"xf1d95666c5a85d8a":[[258],[4]],
-"x612aa74c0f9bd3f7":[[788],[3]],
-"x61c98b1aef2300bb":[[137],[3]],
-"x19e69c0ade50b5a0":[[723],[3]],
-"xd720be98cf9a8ff":[[1756],[7]],
-"x3e22fac5ff30b1d2":[[3388],[3]],
-"xc3f3bd58332c92c6":[[334],[6]],
-"xdb5f23ab1ec87fed":[[3242],[2]],
-"x7e6041ef1feb1e2c":[[1828],[3]],
-"xa8e42dafcf51858a":[[3761],[4]],
-"x378c976d2235ab03":[[2396],[6]],
-"x24e36a03784aadcb":[[3956],[2]],
-"x9047f710a9a34658":[[2724],[3]],
-"x602369c5909a9a9":[[203],[2]],
-"x3343302cb31928e5":[[324,729],[3,2]],
-"xbf64f96fc5f6b262":[[334],[21]],
-"xa35688e9a358e264":[[3811],[6]],
-"x287584abeaba8065":[[157],[6]],
-"x2bfa3d85ae8b9eee":[[1577],[35]],
-"x35e56fdce6f9faf5":[[1699],[5]],
-"xd8cbe5b34fa1fab7":[[788,82,216],[198,49,11]],
-"x33495c352769d035":[[2720],[4]],
-"x621ea50ec246bfd4":[[3817],[3]],
-"x40b41493ee1a649b":[[2908],[5]],
-"x9a8ab3540a9f867":[[1050],[7]],
-"x26ea1c3ed7d0a1f4":[[731,1828],[10,7]],
-"x9669540f94589a1f":[[3307],[38]],
-"xde76fa9656b91698":[[396],[7]],
-"x8ffef80614cf243d":[[262],[4]],
-"x4bb7b0c5dbd99381":[[641],[5]],
-"x4e9a78885e5f288b":[[3756],[3]],
-"x4411a8eb5e0d7599":[[3429],[2]],
-"xbcea950e8fa2a":[[1307],[17]],
-"xdf3ed5293d61de81":[[3956],[3]],
-"x5b57bbebf416f986":[[2787],[5]],
-"x1444b8c98d27cc34":[[1828],[6]],
-"xf93476b4f902e1f6":[[3690,4013,3364],[32,11,3]],
-"x65b690d73fab168c":[[2593],[2]],
-"x408ed2f30c34110e":[[262],[10]],
-"x817a97683d865dd7":[[3827],[5]],
-"x3d4d206402c4a89":[[2355],[6]],
-"x9672fd5311f5f477":[[3169],[5]],
-"x89db92d6b43f639d":[[3761],[9]],
-"x3ed7e9dfa8587ad3":[[148],[3]],
-"xc6f001a502d40b35":[[796,202],[8,3]],
-"xac6a8f86287c8ee0":[[219],[4]],
-"xd8ab73dcfc0ad29b":[[853],[6]],
-"x48ba944c9c729bab":[[2724],[3]],
-"x42fc0368f6494ffb":[[594],[4]],
-"x1e85c8e719f5c85e":[[137],[4]],
-"xec8c695697b905db":[[3947],[3]],
-"x7e995212b1fe5080":[[3690],[6]],
-"xedcaf343fe4ec5d":[[3902],[7]],
-"x917136818a90dcb8":[[2740],[4]],
-"x4bcdc9df293a846d":[[1762],[3]],
-"xf41a30d42e050019":[[4013],[12]],
-"x14416501e7370d2":[[2722],[5]],
-"x4e126727be6d1837":[[1113],[4]],
-"x36047a49d76f45d":[[2851],[7]],
-"xf4af3d1cae1005b":[[3641],[5]],
-"xfb4de3a1c822570f":[[1634],[5]],
-"xae80d7e18ef3b62c":[[3567],[5]],
-"xbd94ee8d7156cde0":[[262],[2]],
-"xd20b2262b1cf2f8c":[[3364,3234],[9,2]],
-"xbec04b68d6a86cdf":[[796,731],[9,8]],
-"xed35b23ee2fdc755":[[918,82,405],[36,12,6]],
-"x796e8a2b59ed0b28":[[1373],[7]],
-"xc5f1cd867a0e02da":[[3644,2747],[6,5]],
-"x35e3f63463af0d94":[[3242],[4]],
-"x7c88e47e349776ca":[[723],[3]],
-"xdfe615ca5e77351a":[[1226],[2]],
-"x7136cb02e876cca7":[[1380,211],[8,7]],
-"x82ddc2cfda96a0a8":[[3761],[5]],
-"x4debe8d3099ecfe4":[[1242],[4]],
-"xcb339dfe31e7a166":[[593],[6]],
-"x7928dd32ce52c5df":[[2720],[2]],
-"x464b4936b75b0c9e":[[2161],[3]],
-"x6331ddc25b0acca":[[454,129],[5,4]],
-"x75e6ce5d31d9dac8":[[3826],[2]],
-"x4ae6e7184b644107":[[3690],[2]],
-"x44d59ca2bc663250":[[1568],[3]],
-"x8a90ffe85a7e9c71":[[3956,3947],[13,2]],
-"x95f7998114e3ee5f":[[339],[5]],
-"x10763ab84aba0986":[[3891],[3]],
-"x35a1536d2ebc8df0":[[262],[10]],
-"x4ad27fcbe86dff88":[[3306],[7]],
-"x89ef517c40ebcd62":[[601],[6]],
-"xe04e49baa2655248":[[3371],[13]],
-"xb0f161320f1ac15c":[[1683],[14]],
-"x3b3b6c5895c79448":[[3372,3502],[4,3]],
-"xf877893f45a820c0":[[3501],[10]],
-"x67ff19acca8c38a2":[[162],[3]],
-"x892a76f8b9d90d87":[[3958],[3]],
-"xf37a8eae20ab59d5":[[2715],[3]],
-"xce264af685e85de0":[[2740],[4]],
-"xf397012ecb2fda5b":[[1810,3964],[14,5]],
-"xe02448396d0d5dfe":[[82],[3]],
-"x9da036bdf1c1da1c":[[788],[1]],
-"xae584fdf27c242f9":[[137],[7]],
-"xde6f84959dd1fb29":[[2349],[8]],
-"x2da792325007ea10":[[82],[4]],
-"x677f337a244cf17":[[3826],[6]],
-"x6a924aeabc3cc4d2":[[1827,708,129],[25,7,5]],
-"x6a7c7045b7e44177":[[3756],[7]],
-"xc227a7d3dc9b74e2":[[843],[3]],
-"xf494ccc6ac53486":[[1941],[4]],
-"xc0fa38232d632c2c":[[3242],[3]],
-"xddecc490135f3c71":[[75],[3]],
-"xe4a906be06ae3aed":[[3325],[35]],
-"x689a8f5395f41199":[[1553],[3]],
-"x52dbaaf5e36d827a":[[2931],[14]],
-"x66239670f2269222":[[3929],[3]],
-"x90a4e549a0ababff":[[82,593],[11,9]],
-"xe62b08e8a96dce71":[[3929],[5]],
-"x4af7d82112ef201a":[[3958],[2]],
-"x1e9d617f84b41736":[[3307],[4]],
-"x2c0aaa3839281102":[[3307,3902],[85,5]],
-"x99d6f0e5cd4ec002":[[1810],[7]],
-"x40150daaf67f2787":[[1762],[10]],
-"x9c986c7dcd5f4304":[[991,334,983,454,1958,148],[36,12,11,6,5,3]],
-"x10167fa14aa5ff1":[[3902],[5]],
-"x935234e08a31d1a2":[[1746],[3]],
-"x49d5eb9e3d9b339e":[[3502,3364],[9,2]],
-"xa42ecb4b8d276d4f":[[1906],[3]],
-"x2d3500d81a4e9a02":[[3756],[4]],
-"x91d22f3fedad940":[[1892],[2]],
-"x69116cd1953a30be":[[1242],[3]],
-"xdd61a6a17d4a604d":[[528],[3]],
-"x17cf446683e0b8ea":[[724],[16]],
-"x449541d90790ff3b":[[3958],[45]],
-"xbee2b6aac1bedb6f":[[324],[1]],
-"xf79894567c809697":[[2585],[10]],
-"x17e24830a668d100":[[2220],[6]],
-"xf50452ba37c97135":[[1429],[3]],
-"xc4ef27094308e474":[[3761],[26]],
-"x802e5bb0dcdc9ef5":[[3883],[2]],
-"x7d2a5a9aec18126c":[[2657],[3]],
-"x268bdcf7c488acf0":[[594],[20]],
-"x8abf753e83f236e6":[[982],[3]],
-"x6fe6e9899a2fc042":[[3242],[4]],
-"xce0f62365eec8f23":[[3234],[6]],
-"xba6aed768ed1c26b":[[219],[3]],
-"x2820a03ba570d74c":[[1308],[3]],
-"x5a865031b7e408a4":[[1749,1164],[4,1]],
-"x38fa4493c8cf093a":[[2463],[68]],
-"x4e996037c734703f":[[732],[3]],
-"x84219f474ecc7aa5":[[137],[8]],
-"x419638698099b4d":[[3938],[3]],
-"x2bcbbaa0021d5b2d":[[1371],[6]],
-"x8f5e033c69aaaa68":[[4013],[2]],
-"x4b64456ef927e286":[[323],[16]],
-"xb2474427622f4460":[[1787],[3]],
-"x7b58fb1ee3b65194":[[148],[4]],
-"x957b4e575e2c683e":[[3429],[4]],
-"xe5de9926c8e42f83":[[3964],[6]],
-"x34db7f2e9d4044a9":[[3045],[6]],
-"x7cdf9a83b21eadd4":[[3827],[2]],
-"x33b34a1b28a42bed":[[3807,3749],[24,4]],
-"x8c6cd3814550b351":[[339,332],[10,3]],
-"x46152fb17d18458":[[3938],[2]],
-"x45b91a9b9e1a8232":[[2658],[1]],
-"x1a4e089e5e657258":[[3112],[2]],
-"x26128f0f23e81868":[[1652],[3]],
-"xf4fd694529cebaee":[[3828],[5]],
-"x29051c795e4bf4e9":[[2467],[3]],
-"x32f13d3b8d2fa6bc":[[2721],[3]],
-"x1d04fbb4fd4bf2e8":[[3169,3307],[674,17]],
-"xbe0ebcd399c77f0f":[[2266,3242,3690],[24,16,5]],
-"xbee2b56ace4129f9":[[3299,3364],[18,8]],
-"x19e4ccbcb546491c":[[536],[12]],
-"x9babbb5b1fa8906":[[262],[6]],
-"x3c1f55a0929f90ef":[[3688],[4]],
-"xb1c5dd0120ff0d1e":[[2720,1941],[7,4]],
-"x59cfbba68afd9bcc":[[3242],[1]],
-"x28069746f3121b70":[[3690],[2]],
-"xaf174daeb2015f18":[[926],[4]],
-"x44b0cad460458894":[[3309],[6]],
-"xb31cc0ac49dfa74a":[[1122],[3]],
-"x6a9ba759898430f3":[[1226,166],[5,4]],
-"xe9c9aa28eec6a261":[[3372],[3]],
-"x237816d0c9e173f0":[[666,75],[63,3]],
-"x36935d86aa31ee39":[[1681],[3]],
-"x819c24c914a3ebaa":[[1699],[4]],
-"x61ebcfccc9342503":[[1163],[3]],
-"xa2dcfeec932f94f6":[[2],[2]],
-"x119acb7106feb75a":[[3763,3112],[5,2]],
-"xf01b89e2ef6b1a3b":[[918,82,166],[16,5,5]],
-"x898cd0b91e0e9503":[[2722],[5]],
-"x3295483ed445eb19":[[3309],[4]],
-"xe26280395dd89cb2":[[1309],[2]],
-"x2c715ffa81c7a563":[[787,157],[4,1]],
-"xd96172237cd07122":[[4013],[11]],
-"xe5f64900b584441b":[[594],[3]],
-"xf6e06c1e67475007":[[334],[5]],
-"xbfa3498210b082fc":[[3688],[7]],
-"x9e685da7bdbc3a39":[[3699,3947],[38,15]],
-"x2eda985b1f08a7de":[[3559,3567],[10,2]],
-"x6ff8f483e7ec128a":[[148,166,396],[132,55,21]],
-"x1c43505ee8ad56e6":[[3898],[18]],
-"x48f82d56a284d471":[[3947],[3]],
-"x261f029dea289f48":[[991,2477,203],[29,6,3]],
-"xa4a544ecfcd1a356":[[1034],[3]],
-"xfd80cf9983859757":[[2633],[3]],
-"x6183e215966ff288":[[1187],[4]],
-"xba617e9340b45043":[[1635],[3]],
-"x5c5e48c42a0b3e60":[[3902],[25]],
-"x8c1f88acbf209377":[[1756],[13]],
-"x629bbcac04ddcdba":[[148],[7]],
-"x5aac1ad73fe4a9d2":[[262],[12]],
-"x457463fcc5666cbd":[[528],[8]],
-"x28041007c26277a4":[[666],[6]],
-"x35ab2af4fd8baecf":[[2721],[3]],
-"xc305f297e881b895":[[1683],[10]],
-"x2f46915e33f2f8b2":[[3242],[3]],
-"x45be6426db2d8289":[[3300],[14]],
-"x91f331e9934f32cc":[[3233],[3]],
-"x8cbacaae96df76cb":[[193],[2]],
-"x52895e162e470d9f":[[1611],[7]],
-"x5d66fc14065190da":[[80],[4]],
-"x5b1fc532119c8a48":[[2059],[5]],
-"x53ba0abdc8fb3c95":[[3298],[3]],
-"x51acb4efcb14f9ce":[[918],[4]],
-"xe93518c82ed290bd":[[262],[1]],
-"x714c54d403d4237a":[[4029],[3]],
-"x88a9393b733fbc9d":[[3028],[6]],
-"xe4ce4e3e51aee916":[[1297],[3]],
-"xa0efac3e3ac29561":[[1438],[6]],
-"xb181c7e08476a20c":[[601],[3]],
-"x1f67eb2ed6489e05":[[3112],[5]],
-"x549ab01bcf39637e":[[258],[4]],
-"xbe4f4ddc4a65810c":[[3956],[3]],
-"xdefdb7a62e0a5aee":[[918],[12]],
-"xfc92aaf457216cd4":[[3836],[2]],
-"x5ddf0a4ce3ec8621":[[3956],[3]],
-"x1d81a4f369529393":[[2331],[31]],
-"xc16d16852a1f0e71":[[3902],[7]],
-"x13edd63a5987d113":[[222],[5]],
-"x67f71cf02257d098":[[3690],[6]],
-"x8003ba43406ef46e":[[1397],[6]],
-"x4198371761fa64df":[[203,861],[13,5]],
-"xbd95ecb1d45aee5e":[[3761],[5]],
-"x512fcdf8da623df6":[[3559],[3]],
-"x49cd88b407d634f6":[[1633],[6]],
-"x37252323be740440":[[3828],[5]],
-"xa8135937bac8fa01":[[731],[4]],
-"x447188b954bf77d0":[[1],[4]],
-"x1d89fa1e7746c8b6":[[2720],[4]],
-"x6defa561b665f3cc":[[396],[3]],
-"x5523fe63fcec2415":[[204],[6]],
-"x900ecb7f851f2384":[[2915],[16]],
-"x7347b3872c88e746":[[2341],[32]],
-"x766ce17ee5f0366b":[[262],[3]],
-"xf0acce9a7b657aeb":[[1674],[75]],
-"x4862bd41f36017bb":[[2931],[2]],
-"xc30c886a6c97d09f":[[2073],[3]],
-"xb99bdea663181339":[[3567],[4]],
-"x8d127be9d64f6226":[[166],[3]],
-"xc5711046d354e11d":[[137],[3]],
-"x8de6f92e2151033e":[[4013],[3]],
-"x50984d3c1038d156":[[666,1380],[3,2]],
-"xaff3e6e372297ef0":[[262,82],[134,82]],
-"x4d53eedb46b307cb":[[3756],[6]],
-"x373c3b8edca76b47":[[262],[11]],
-"xb7ae7b3de880ff8d":[[918],[4]],
-"x4994430cff950c0b":[[536],[5]],
-"x7a1ec2ba0b81fc9c":[[3763],[7]],
-"x61524e74cc336863":[[4063],[7]],
-"xa99f2fd09cb34144":[[1683],[7]],
-"x59d8562c2a6164f0":[[258],[3]],
-"xf9c9f87737bced47":[[1610],[6]],
-"xe672d592c9b8758":[[853],[9]],
-"xa6195bb433c4728d":[[1180],[5]],
-"x385e9f8881a2079e":[[324],[7]],
-"x4ddf4896dd9ce8bd":[[2851],[2]],
-"x86c2157be13bf85b":[[1828,1827,396,139,339],[285,20,6,5,3]],
-"x1add11885c94a53e":[[139],[4]],
-"xb8472a679d065aa4":[[3690,2915],[11,3]],
-"xd6dc1b756652949":[[3761],[4]],
-"x4644d51b910ce010":[[2720,2740],[5,5]],
-"x9d5c342635cbc879":[[1699],[8]],
-"xd1cf67a833f6cfe9":[[2268],[3]],
-"x7108b2c33cc7d4d8":[[3902],[3]],
-"xf4a9d87c0c90c29c":[[332],[5]],
-"x8cacfcf709012fd9":[[334],[12]],
-"xea0f3863dd72cb0e":[[3956],[8]],
-"xb27a66d08d719704":[[3305],[5]],
-"xac6e72914eda15e4":[[2324],[4]],
-"xe7b9cbf54b90e870":[[3501],[2]],
-"x650110e73994644a":[[2788],[5]],
-"xd72423c405569d6d":[[658],[8]],
-"x922aee8a40f2a0d8":[[722],[7]],
-"xc8a00d1605ddb079":[[1770],[10]],
-"xd7dccbc50b519480":[[3902],[2]],
-"xb9b4f54b03e6e1d0":[[166],[3]],
-"x9bed8e1eed044231":[[666],[1]],
-"xa147cb348e1c866c":[[1176],[8]],
-"x566748bb85a1c7b9":[[2724],[2]],
-"xc176189c842fbf0a":[[594],[5]],
-"x9bd196f0aaa6bba0":[[82],[16]],
-"xeb5cab588e60bcbc":[[2005,788],[7,7]],
-"x754c6696c3496529":[[1114],[6]],
-"x7bd4f676b3774f9b":[[2720],[3]],
-"xdd67b9c86a8c9b0d":[[666],[4]],
-"x68a0e4ab219b6eb0":[[3763,3641],[5,3]],
-"x81953432e9bd9c7f":[[3902],[2]],
-"xfc59f2961fd9ac28":[[2189],[3]],
-"x5832ccafc273ea62":[[2915],[2]],
-"x9a269a047fa856fa":[[139],[6]],
-"x77a62925135ff449":[[3892],[4]],
-"x6097bb64ed021506":[[2786],[2]],
-"x53548d3f9e07849e":[[1371],[2]],
-"x360bcef2d794721c":[[1958],[2]],
-"xd3cfb4d9d8bb3a28":[[2268],[4]],
-"xe2e68c444f632565":[[3956],[3]],
-"xcc98885dcbad58fc":[[594],[6]],
-"x7ca96534e2c2fb6b":[[66],[5]],
-"xb687858b5ac1c47b":[[262],[4]],
-"x6eb176b693d4468e":[[1355,332],[5,4]],
-"xd5169f904f50c06e":[[148],[3]],
-"xf548dee3402c3500":[[2852],[3]],
-"x75e49aeb28d83b93":[[2722],[12]],
-"x75f4bf91e5f68159":[[2804],[4]],
-"x69eedbaf8c699c47":[[3307],[5]],
-"xd1f67bf75fed37e":[[1057],[4]],
-"xc76b62d5373dd296":[[334,82],[38,6]],
-"xf9a7510af4933209":[[1380,528],[4,3]],
-"x9313f26338ed7e29":[[3567],[6]],
-"xc8fc15c273e604ca":[[3902],[3]],
-"xae266d4b6d1768b3":[[3761],[3]],
-"xa57e7ac5159529bb":[[2333],[6]],
-"x3d93594d1b222b6":[[2209],[9]],
-"x67b8d373a5a66172":[[2484],[5]],
-"x69bce8b2b1455252":[[3325],[3]],
-"x727568e2f0f232e5":[[3299,3826],[12,2]],
-"xfe4e902d7c196cc3":[[148],[7]],
-"xae23506375b4e3d4":[[1805],[6]],
-"xd4e9a2b5a801dcee":[[258],[3]],
-"x364d0ec8d6944442":[[2723],[3]],
-"x89869b421153fb01":[[405],[4]],
-"x150e7cf825d2a398":[[594],[15]],
-"xc40eb254380c21d9":[[852],[6]],
-"x6f78c027a3429800":[[339,717,1761,1745],[12,8,2,2]],
-"x5d3abb2d3c04cb55":[[2453],[14]],
-"xd8c6e95f0aeb19f6":[[262],[3]],
-"x8f0d23cbd60b18af":[[528],[91]],
-"x14bbdd60c10765e9":[[3299],[2]],
-"xef883ef994aa13a":[[1957],[6]],
-"x514a79ee45090893":[[97],[10]],
-"xc04359524fafb5da":[[2216],[3]],
-"xfa17a29da9ac93d1":[[1553],[6]],
-"x3de794700fa1fe59":[[138],[1]],
-"x5868af82accd8b6d":[[660],[3]],
-"xc41230c8f6627f4":[[396],[76]],
-"xd762a18adcff66dc":[[3259],[5]],
-"x3539e4bca7d80dc4":[[3958],[4]],
-"xdc65fefb05e35d36":[[3956],[3]],
-"xd1de0796ab7a403b":[[3769],[5]],
-"x94e2fe02c7c282":[[134],[3]],
-"x565ea31e3fe631d0":[[2330],[3]],
-"x7e923f18b47fd882":[[2013],[6]],
-"x7850f420e02c51c3":[[1891],[4]],
-"x3dc972790bb3fe":[[3826],[2]],
-"x2778c940c972f096":[[339],[11]],
-"x2502c16d81ba5be8":[[3242,3234,3819],[37,25,7]],
-"xaaff23af7851ee58":[[75,593],[7,5]],
-"xb01dca1125a20fae":[[3389],[110]],
-"x5ca68cd7b996de2a":[[332,148],[92,7]],
-"x610c0d179e458e5b":[[3372],[3]],
-"x3a7561859ac25a73":[[3761,3300],[6,2]],
-"x459faec5ebc8b697":[[3956],[3]],
-"xf63e54df78d08e3d":[[262],[2]],
-"xeb4383082a917dc":[[203],[2]],
-"xef93c56903ef5eb2":[[346],[7]],
-"x1456866b5391d938":[[3307],[31]],
-"xc9e4442a0f194041":[[2476],[7]],
-"xee8c5bac66e7b60c":[[3963],[3]],
-"xefcdc6f01889022e":[[1221],[4]],
-"x201a6c71778048f7":[[3892],[4]],
-"x5e63473222b69b87":[[2203],[6]],
-"x665de9a950244716":[[2713],[1]],
-"xc4c39375cd3d8a1f":[[3902],[3]],
-"xa06f9a2287ab9c14":[[3429],[4]],
-"x542b6d684251fdc":[[3761],[5]],
-"xea4c009946082eab":[[2916],[3]],
-"xf1f87b28423427c9":[[227],[4]],
-"xc5f06553a676c006":[[2851],[5]],
-"x163b5f6307335e5a":[[3370],[2]],
-"x6fee023056e6074":[[137],[6]],
-"x1cfcfdf99fe21732":[[2723],[4]],
-"xa23c22013c9eb388":[[405],[3]],
-"xb6f4273bd454bea3":[[3761],[3]],
-"x9c9a11760a03c8eb":[[1007],[3]],
-"xb28d7fd2fc5754b6":[[723],[8]],
-"xbb86a4c24916da46":[[3690,3947,3956],[126,68,51]],
-"xadd6eaf38c1c7e68":[[2331,2745],[31,3]],
-"x1c6663167d9dc976":[[1681,262],[41,17]],
-"xf553a8d3106483de":[[3899],[90]],
-"x5b9ed6cf383a1373":[[1437],[6]],
-"x50c1d964c771b6f":[[3834],[3]],
-"xc36fa2e47a508b53":[[262],[10]],
-"xfbd98322bafe7f86":[[1749],[5]],
-"xa298e99157f8076f":[[1251],[3]],
-"x4f6cebbe03ffe67c":[[3821],[5]],
-"x8ac3b9d2c61cedbd":[[2007],[33]],
-"xfcd0e48e3ddd706e":[[2202],[10]],
-"xd71c5a58caedf088":[[2283],[4]],
-"x7dd689c0cd323b2e":[[2908],[2]],
-"x819b0417f5b8e94":[[3828],[8]],
-"x780e25845536b7ab":[[594],[35]],
-"x431f0e81279aeee9":[[148],[1]],
-"xb7fbbfc84b6e7eef":[[3241],[3]],
-"x995f7bbbbb37b78e":[[2022],[6]],
-"x634455f6ded954a4":[[3902],[2]],
-"x79ead2e33c1776af":[[3754],[2]],
-"x7d84bb0c3e38e1a6":[[2477,1770],[10,6]],
-"x5d5fd4bdc0d3c1a1":[[2720],[12]],
-"xe6d0976e62c5a0a2":[[2616],[6]],
-"xe858fe680a5b8cc2":[[2065],[5]],
-"xb360ea19a99b8eec":[[2460],[5]],
-"xee8b056070961835":[[339],[361]],
-"x5a4a9e20edb815ae":[[3364,3483,2258],[6,5,2]],
-"x7c03e9db9eebf514":[[1307],[10]],
-"x84557a35413d3aa8":[[3902],[8]],
-"x9c9cf16259418376":[[1554],[3]],
-"xc2543799ef96fb87":[[1827],[6]],
-"x417d161768a9d330":[[1763],[4]],
-"x2b7314549dae281c":[[2723],[2]],
-"xaa118c740655a2dd":[[211],[6]],
-"xc09db6e215e09839":[[3763],[5]],
-"x306d81792644a583":[[334],[15]],
-"xca16e4b403950ab9":[[3958],[3]],
-"xced4c8eb11019064":[[528],[1]],
-"x9b0a257aec920347":[[528],[1]],
-"x7757beeb8360e62":[[3299],[5]],
-"xb93fd655c50ca325":[[1681],[4]],
-"xfefc57d8516ca42e":[[731],[6]],
-"xf0eebe3fd6b8a27b":[[194,593],[9,2]],
-"x9d8a48eace306dfe":[[2722],[14]],
-"x3428d9f378f69952":[[82],[29]],
-"xaf752c1aa00b5a1d":[[593],[2]],
-"xe29d9c9d23ae9838":[[2915],[3]],
-"xfd0db25fc3d5c6a3":[[2,1],[14,5]],
-"x92a06930c3158d2e":[[3902],[5]],
-"xed9ad64e46623681":[[323],[2]],
-"x143e1689ddd97857":[[334],[18]],
-"x8a635737d3dfb88f":[[3699],[4]],
-"x64a5e7c6bf7d3fb3":[[1757],[14]],
-"xaf236282bd5a12a":[[1104],[7]],
-"xff80f498a776388a":[[3902],[3]],
-"x41884514d70d6c2b":[[3753],[3]],
-"x91fe8c5eb58422ce":[[666],[6]],
-"x5201f33cd7ae00d0":[[3429],[4]],
-"x28439071e8e9248e":[[1164,1763],[5,3]],
-"xad59f2c2aec69464":[[3756],[3]],
-"x955989eeff71071a":[[2],[4]],
-"xe0fd13dd46667cc":[[2217],[6]],
-"xaa525b5a99dc3bab":[[794],[2]],
-"xac6954e23a2cf876":[[918,166,1568],[20,15,2]],
-"x54b3f79a3f5267d6":[[82],[3]],
-"x4f8f03c26a9b8400":[[3178],[5]],
-"x5b4f3255f1186d2e":[[3902],[6]],
-"x75e6a7016bfe7213":[[3372,3742,3234,3112],[135,9,3,3]],
-"xfa19bab284263c01":[[1958],[3]],
-"x612d642cc57cb1a4":[[192],[4]],
-"x51a1f7e7ee28be1e":[[926],[9]],
-"x298fa1f53a2a0eb5":[[75],[6]],
-"x29746dca11631dba":[[1355],[10]],
-"x24c2adfe81e82d7d":[[2788],[3]],
-"x9283a9b72a224ecf":[[1225],[3]],
-"x694b37aa40fc0b0d":[[2],[3]],
-"x7b02af6ef6d3c645":[[2724],[4]],
-"x6798a22dddfad5e3":[[723],[4]],
-"xc7c8e2b06f6c48ee":[[2788],[6]],
-"xb6516b760a687f39":[[3299],[8]],
-"x894033a234b74057":[[1307],[3]],
-"x635a582d70b5c4f5":[[3826],[4]],
-"x507f0a7a6c585fc8":[[3994],[6]],
-"xd1d337b5da7e9261":[[3307,3567,3964],[52,7,6]],
-"x76f52a2aae62954":[[157],[9]],
-"xfbcd1977c30257e5":[[983,730],[8,4]],
-"xb9725cde8f8aee1f":[[3756],[3]],
-"x1b97d86414f44a51":[[2361],[2]],
-"xfa8c5031875ff1ed":[[3,258],[7,5]],
-"xfc30f6b3c0a1a4ad":[[82,405],[522,237]],
-"xc24833fb36c091d3":[[341],[6]],
-"xc855b293e4ce4c52":[[3756],[3]],
-"xcaba1f81f1525e0e":[[3242],[3]],
-"x37bfe4b3cd83873f":[[983],[2]],
-"x78c02ced34f27ba9":[[75],[5]],
-"x76a10050d18dca2d":[[2219],[3]],
-"x42e3a59b2f75c429":[[3699],[3]],
-"x2cf50d10b2690c7a":[[1380],[1]],
-"xd48e6d08d673f64a":[[3372],[3]],
-"xde110cc8aa36915e":[[1967],[2]],
-"x426f6a716b2cfa29":[[405],[1]],
-"xe942eaeb8881ba67":[[3876],[1]],
-"xc959fe28bf25404a":[[3306],[4]],
-"x1bd866055c380131":[[3307],[6]],
-"x7dfee31089ba104a":[[3688],[2]],
-"x99a75fd0c4fd59c8":[[706],[6]],
-"xaf660484bc3caa25":[[3177],[3]],
-"x399f06b1f95ed493":[[2021],[1]],
-"x61e2923882db2c18":[[3288,2202],[2,2]],
-"x9ef54e8458436df5":[[222,405,991,1048],[98,57,15,6]],
-"x68b2463190505166":[[3752],[3]],
-"xe0cc0f2bb939e681":[[3502],[2]],
-"x8ea7268f0a9388c":[[722],[9]],
-"x98ceb48647f08530":[[788],[4]],
-"xbf488ab5b5359923":[[2788],[35]],
-"x51b1501ecc460763":[[3372],[2]],
-"x34821e71e3352c78":[[3690],[15]],
-"xdb931874aacbdceb":[[2811],[1]],
-"x396cf0f38d605e28":[[3642,1635],[6,2]],
-"x9d581331dd4e8e21":[[1829,339],[46,5]],
-"x4bcdf8f6106558d9":[[1308],[3]],
-"xa2adf855ef5497ea":[[3902],[4]],
-"x55f8652d5d4f6d38":[[262],[3]],
-"x2433f715614c7a35":[[3104],[9]],
-"x780b46483865ab5c":[[3372],[8]],
-"x56487b4a3dfd091f":[[2910,3836],[4,2]],
-"xec160c14d7fe4dc4":[[3298],[2]],
-"x9be07dbe1bff488":[[4094],[1]],
-"x35ab7e143fdfe69f":[[3742],[7]],
-"x701dc16be31464c8":[[666],[2]],
-"x801f5053e02de38b":[[346],[7]],
-"xcb4a56eaa8fbe806":[[262],[19]],
-"xe321c5658af45c7e":[[3517],[2]],
-"x85ab06b1a504117f":[[3902],[28]],
-"x9e8943231f1695c1":[[2217],[6]],
-"xd80b511316cc88a":[[919],[1]],
-"xd2840537bd2fe645":[[204],[2]],
-"x610fb232e064c902":[[3112,3690,3763],[9,8,3]],
-"x779e1183cd51eee7":[[3177,3307],[10,7]],
-"x26311d3d007bf727":[[1098],[3]],
-"x4fac92bc3346cc89":[[1764],[5]],
-"xf8c7805fce8c6b58":[[3749],[3]],
-"xdcc7e03c1626d5d0":[[2724],[4]],
-"xd9e516cf2f59bc18":[[3502],[3]],
-"x2a4bed67dc14b1f4":[[3749],[5]],
-"xc0a689df555fadcb":[[262],[12]],
-"x14033aafd37a6cdd":[[3307],[5]],
-"xe683ffb5f1110d48":[[3437],[2]],
-"x2ad6f9fccbfa1a37":[[528],[4]],
-"x3cba98cfc8905354":[[1876],[3]],
-"x7bc3c0bb435e07be":[[3958],[8]],
-"xf637616944bfea36":[[1941],[4]],
-"x49db6758d84a5043":[[3756],[15]],
-"x681ec97247321289":[[3169,4013],[9,3]],
-"x8bd417afea418263":[[3898],[2]],
-"x9f5c312e4be6f5d9":[[3234],[5]],
-"x73b7cc271f2f1ab":[[1307],[14]],
-"x35a6f9dece9ec7f2":[[346],[11]],
-"x12701f7a2ccb9496":[[4020],[8]],
-"xd2eb79b1217a0292":[[3956],[6]],
-"x670c27bb42dc688e":[[3501],[2]],
-"x47dc7f6b8a725617":[[2284],[6]],
-"xe6c34f02f8e41f91":[[3956],[4]],
-"xfaf897e91c01fdeb":[[262],[17]],
-"x97ebef1c9b5db5e0":[[80,1569,983],[16,9,4]],
-"xd0a110a6332ae4ed":[[2137],[3]],
-"x2b5638eb16b793cb":[[4013,3372],[36,5]],
-"xbfbf112f983df6f2":[[202],[3]],
-"x4b3bfdcca32e607c":[[1681],[3]],
-"x29bf535e801afb17":[[3958],[1]],
-"x90b8a2f32815908f":[[1764],[2]],
-"x58bd393bdf81f5ee":[[3300],[5]],
-"xaf0bf85ebb9b1cf7":[[3307],[32]],
-"xee3c4fe080ce98cf":[[2330],[4]],
-"x4f7b318adf67d905":[[594],[3]],
-"x1bcae5c9519b2dba":[[3699,3761,2137],[44,6,6]],
-"x2b2121380953767f":[[324],[3]],
-"x578535ffb1496599":[[3104],[3]],
-"x561beabfa6b169f4":[[349],[2]],
-"xdbef887e92dc9d78":[[2722],[3]],
-"x1cd1cccfda8147d5":[[3761,3104],[2,1]],
-"xfcb76c766587869a":[[2934],[6]],
-"xbe9a9256e244ad4":[[1179],[9]],
-"x9078c05bbe33b955":[[3690],[3]],
-"x5f58db1b3cd6e000":[[3690],[7]],
-"x1106b4a2f09c505e":[[3938],[3]],
-"xd37b75d4933c5464":[[82],[133]],
-"xe1d76310eaac0bca":[[1371],[9]],
-"x74eda54028533d30":[[3353],[6]],
-"xe6f092d22c4aa44e":[[3761],[7]],
-"x55e7277f1e26d441":[[82,722],[7,5]],
-"x4b15724d807bbe2d":[[796],[3]],
-"x85f00f469f9c3fc5":[[166,157,202],[40,28,8]],
-"xc33cbd64f512c28c":[[3699],[6]],
-"xddf1b03dc6150099":[[2097],[5]],
-"x752ea6006de95521":[[917],[3]],
-"xc4ef36fa6ff8f58f":[[3761],[5]],
-"xc538d59c4149636a":[[3299],[1]],
-"xfb1ed7280837591b":[[3902],[5]],
-"x44b1f1d32efa8099":[[2787],[5]],
-"x34be09340adbd690":[[3305],[4]],
-"x4f8e310f5ae2f10e":[[991],[3]],
-"xa3e4a1044f513295":[[3517],[6]],
-"xc9ec35159f259cb6":[[3902],[7]],
-"xf665ed795f2086df":[[2910,3902],[6,4]],
-"x8fe70e21bbd5a6c9":[[389],[3]],
-"x823b104fd8082739":[[3929,3299],[9,8]],
-"xa8024e90d6d2ebf0":[[2219],[6]],
-"xbec9f6c89f67e31a":[[1699],[126]],
-"x300d0319ea40bee3":[[3779],[3]],
-"x8de50500f1772bcd":[[1164],[2]],
-"x2e0a9e434ea09fc4":[[262],[6]],
-"xc473057b8493136a":[[3742],[3]],
-"x4ab3dd6b87f4bcc1":[[1243],[2]],
-"x16c79a04bd788fa3":[[3902],[6]],
-"xd435bf605414e71f":[[528],[8]],
-"xd96b1da0a67a3e55":[[594],[6]],
-"xa6f7bb964c3a384f":[[1380],[5]],
-"xba7ef496f4623670":[[2915,2713],[27,5]],
-"x853ae237b6edfe3":[[3306],[4]],
-"x5508e11ff0bf8c70":[[3828],[4]],
-"xaf79ce9807a9c2b9":[[2325,2452],[6,4]],
-"xf1f7c2a41b4bb993":[[3828],[31]],
-"x2f80e23031808e16":[[3958],[7]],
-"xb90ccb17e25489e6":[[82,1699],[3,3]],
-"xc471c4592618c61c":[[3567],[54]],
-"x9d769a7119cf32cb":[[1810],[4]],
-"x7e074407291832ab":[[601],[3]],
-"xc0e9a50df979b611":[[3306],[4]],
-"x16a7293e532660c":[[3503],[3]],
-"x6ac72eae0fa30b1d":[[709,658],[3,3]],
-"xbf113fc2ced506e8":[[203],[6]],
-"xcec85af84c904272":[[396],[5]],
-"xd8b67e41557d8857":[[3249],[3]],
-"x190fefc58baca846":[[729],[3]],
-"x659bd65b5b90334d":[[75,204],[5,5]],
-"x78714e52159d7b65":[[1382],[2]],
-"x92ffff14c6963b90":[[166,528],[5,2]],
-"xdb75f04284825d3f":[[2804],[4]],
-"xa0904af9f0279afd":[[2200],[6]],
-"xe07eac6962ec8f6f":[[788],[1]],
-"x2b120b51387bf7f4":[[82],[3]],
-"x1a83398fccdf7729":[[3699,2722],[11,8]],
-"x74defd77d253785c":[[3372],[4]],
-"x85a1b7724bf1bf66":[[2228],[5]],
-"xf26a282321234ab5":[[1098],[3]],
-"x97bc4420a1f84d09":[[3299],[4]],
-"x14aa73087e475e4":[[3306],[30]],
-"xaba64320538a2173":[[3112],[15]],
-"x55cfa46b1f532d47":[[1098],[5]],
-"x8c7ee0f6faa478bd":[[262],[2]],
-"x40b7347360ac0099":[[1049],[6]],
-"x8c35c237862c5459":[[2851],[5]],
-"x16a0318766b2d41a":[[3690],[8]],
-"xccd80629b78719b9":[[3169,3307],[16,4]],
-"xe1b0841117563d75":[[396],[5]],
-"x9d33c0d9f9c6cd58":[[3929],[4]],
-"x82c5d0303b76203f":[[3833],[6]],
-"xc7670f91bd416330":[[3364],[4]],
-"xe74fe6edcb04bc0f":[[1184],[3]],
-"x700ef572e8138dab":[[983],[10]],
-"x10b8ae03f00566fa":[[788],[2]],
-"x7fc9208f08cfda37":[[1228],[3]],
-"x8b6ea40d9504bd39":[[3324],[4]],
-"xc47bc8697fb9e36f":[[3964],[51]],
-"x3edad0ae7380c645":[[2072],[10]],
-"x6a38b6775b6fd91a":[[203],[3]],
-"xc00c3d9285300abb":[[4013],[4]],
-"xd213069de90efafc":[[323],[5]],
-"x4850ff0c1ea1a8a9":[[3235],[3]],
-"x6d5f2c721d4551ed":[[1180],[4]],
-"xd0ac9289511ce1d1":[[204],[3]],
-"xb092a64a1617bbf7":[[3234],[3]],
-"x43e33d7eb7f671c0":[[3608],[3]],
-"x13824ebb334e83f":[[3958],[3]],
-"x86d371e4ba7cb6ac":[[2485],[6]],
-"x97bd687efa3d4288":[[3104],[1]],
-"x4671e9eaaa3f3418":[[3364],[7]],
-"xba0946366229d4dd":[[3150],[4]],
-"xe336e857c450831e":[[129],[6]],
-"x327c61d1c4320e84":[[334],[41]],
-"x791b76622e3029e5":[[3260],[6]],
-"xce2edb9ec8dce39d":[[666,75],[3,2]],
-"xfb6d0b987eed5d38":[[137],[6]],
-"x89e911a9c6bcc684":[[2066],[2]],
-"x8f76ead305600dcc":[[2850],[3]],
-"xf0359371ac1f6f7f":[[2723],[6]],
-"xfe0914aad52f329d":[[391],[3]],
-"x1fb83613b7940e98":[[75],[7]],
-"xcc826feef917e382":[[3502],[2]],
-"xa6c7a06ef8fb353b":[[3104],[5]],
-"x141e5d784b37a456":[[3817],[4]],
-"x7c613c2682905f5c":[[209],[7]],
-"x840941dffc3f2e94":[[262],[5]],
-"xb65aede0b8c98d7c":[[1876],[9]],
-"xe0e6849f449e9e4c":[[666],[7]],
-"xe3d4661afd5fafcb":[[269],[6]],
-"xaeae88b3b0fb15ab":[[1420],[3]],
-"x83834a27ba28916d":[[733],[3]],
-"x2ad5e4c7fdbbf92a":[[528],[2]],
-"x714520deb77563f7":[[3234],[90]],
-"xb7baa292aff80586":[[3761],[4]],
-"xdd5e2d816b846dbe":[[2089],[4]],
-"xe658c996e744b0cd":[[396,202,405],[11,6,5]],
-"x2f8160d85933ab75":[[3251],[2]],
-"x3064d6e1e7f6ff01":[[1180],[4]],
-"xc0ec5567c9d0ea7f":[[2196],[3]],
-"xcbab24a90574c56b":[[667],[3]],
-"x7bc8adbb4cc0edf1":[[397],[6]],
-"x79e2e7f62a9a63a9":[[861],[5]],
-"xdb5bdc884a393d46":[[796],[9]],
-"xe5e0305b93bbb3b1":[[3309],[4]],
-"xce6bb8bc80b3b0e7":[[2908],[3]],
-"x3ad8267a4836c55":[[1355],[14]],
-"x48cae76c5aeb1ea4":[[1553],[7]],
-"x81b40ec49ff5fc93":[[2586],[3]],
-"x748d61fff84b4032":[[788],[6]],
-"xe261b8050344d2c6":[[3037],[3]],
-"xa286248e298e037b":[[1739],[3]],
-"xb72da30e9bd0ff2c":[[2330],[43]],
-"x553120fb77fcf991":[[3242],[9]],
-"xc789c8acf484964c":[[1568],[6]],
-"x2b574df9c2a8bf70":[[3956],[2]],
-"xa9a54be6a32de4ac":[[262],[5]],
-"xe8a4e5ddcdea71dc":[[3902],[11]],
-"xb56619216d1624af":[[262],[22]],
-"x6e1d039b7beb543c":[[798],[6]],
-"x234ec00943681f7a":[[1371],[2]],
-"xcfa2270035c990d2":[[1764],[3]],
-"xde0c8e1005750892":[[3178],[8]],
-"xfa135510b5842021":[[1699],[3]],
-"x69eed1c7e96202bb":[[788],[7]],
-"xea77f5d91a1303bb":[[3826],[19]],
-"xec7bc9d5c0a38c07":[[1359],[5]],
-"xa9953ba60e334470":[[3902],[6]],
-"x71b1bcbc99da396e":[[3742,3372,3690],[21,16,6]],
-"xae5a2683243afe7":[[3761],[9]],
-"x1a285bb03946e930":[[339],[7]],
-"x104ad00c2fdddb4f":[[666],[3]],
-"xad035d7d47475f73":[[2098],[33]],
-"x86a83bab5cfc2cfc":[[1618],[10]],
-"x372b55fd918d3a2a":[[2915],[5]],
-"x698da2a0265229c":[[3956,3307],[22,20]],
-"x8c5102457067bc18":[[1876],[14]],
-"x98d65f8912954893":[[2268],[3]],
-"xfd76637f2545e624":[[2592],[6]],
-"xe25642a45232fcf4":[[4094],[6]],
-"xe68108691613745e":[[861],[9]],
-"xdb9bd891edae2bf3":[[658],[16]],
-"x942c9a7ea7c99fa4":[[2137],[2]],
-"x52cb719b33607197":[[787],[1]],
-"x3eb9e36bf19b342b":[[3690],[3]],
-"xc491aa00951adaf6":[[788],[5]],
-"xbda9447ff46ab3af":[[339,353],[12,9]],
-"x9a70d7f4e3e0a9e":[[3178],[10]],
-"xc8681545189a860b":[[1308],[3]],
-"x70d2d00f6647499b":[[3956],[11]],
-"xcc98a4e5a21a99d4":[[2931],[6]],
-"x5152338ff91033b3":[[3958],[6]],
-"x8a5278a42a2e6f97":[[2443],[3]],
-"x26abc5e8537bd28e":[[405],[4]],
-"xff4a3ff1ecca8a65":[[1371],[9]],
-"x63322c278994cb2c":[[334],[4]],
-"x6631f87a1750d1f1":[[2224],[8]],
-"x6e8a2205a558550c":[[593],[5]],
-"x43cff59a8e800eb0":[[262],[3]],
-"x7ca51c5d42b8b172":[[2862],[6]],
-"x562cf4583b09ce9d":[[262],[6]],
-"x512222f5fad5205c":[[1293],[6]],
-"xcba1d5a5a1c9cfd":[[203],[12]],
-"x47f0eb40aa97ea5d":[[3821],[5]],
-"x20d6ddbc2490e53b":[[3956],[8]],
-"x2865d65f0319e191":[[772],[3]],
-"xaabd362d16c96b02":[[262,2],[35,6]],
-"x5ae5c6a006add6c3":[[2136],[6]],
-"x10fe19a4230a2cc2":[[1828],[4]],
-"xf373106c27b0b50d":[[3502],[8]],
-"x440af3ef3e51b1a4":[[717],[5]],
-"xd0ccb4d3c252c0c9":[[1308],[3]],
-"x5383612e0fb12763":[[2779],[6]],
-"xa7a47e04985a1e5":[[918],[4]],
-"x62ac91c927a91e":[[3803],[8]],
-"xbe487a2e453d0c1b":[[2203],[6]],
-"x5f215d87c6e73f51":[[334],[3]],
-"x766b66147ebacc03":[[3902],[7]],
-"xa1b9736c4cd5df6e":[[3177],[4]],
-"x4f9eedd7aaafa899":[[3826],[4]],
-"x84d2e66a94b90d78":[[3761,3964],[55,2]],
-"xbc5fd26d3f03975b":[[3699],[3]],
-"xe553ef0e59520530":[[1179],[3]],
-"x1a6d203fd130beda":[[2152],[6]],
-"xf56b06929d7b5671":[[148,262],[11,4]],
-"xc3d72cbeff24595":[[4029],[5]],
-"xdc6636e5d4455aa6":[[3957],[2]],
-"xc46807d149d6473f":[[529],[8]],
-"x8c849536f9628d53":[[601,1164],[7,3]],
-"x59f6d514eafb1b94":[[2656],[3]],
-"x50280eec7633f77":[[3194],[3]],
-"x146ecf23917fa0b2":[[3306],[22]],
-"xec422ba9e76bc9fa":[[1705],[3]],
-"xc3aae77b281d20a3":[[2851],[6]],
-"xbac20c40c000ee17":[[3177],[8]],
-"xb7a8eea151341265":[[2203],[3]],
-"xc9d06b3543053dfc":[[82],[10]],
-"x7d3d9a2965021319":[[2203],[2]],
-"x14738efd9255cdd1":[[2908],[5]],
-"xd675de20cf7804aa":[[723],[5]],
-"xe9415e2d192f16ad":[[3436],[13]],
-"x53130b83410c64c5":[[262],[5]],
-"xa933d044c6fadd47":[[82,1763],[56,4]],
-"x5da0f0bb63fbba8a":[[3112],[5]],
-"x6b392d5c6ec1953f":[[148],[7]],
-"x93631e6973285239":[[3169],[3]],
-"xb5586a6b342119f1":[[909],[3]],
-"xfe7f9b66b267388e":[[1618,3902],[15,5]],
-"xd680afba81be8226":[[3374],[3]],
-"x6b2d59ccf8886ab0":[[2267],[3]],
-"x1c56f5c2379eecd7":[[3891],[3]],
-"x174f4602cc7642ee":[[3234],[4]],
-"x3c17539ad6cc941d":[[4013],[1]],
-"xd3d25fb939832e06":[[2285],[4]],
-"x66d0b68974f9d97f":[[82],[3]],
-"xf1c9e6dbe86b9ca6":[[4031],[6]],
-"x486fb356c657186":[[262],[5]],
-"xcedb27c11f2de717":[[788],[5]],
-"xa327e7db9890e5e4":[[3826],[3]],
-"x9485fc71c30ff078":[[3690],[11]],
-"xca6ed6db7970013e":[[262],[27]],
-"xd9e5116d21f3a652":[[3372],[10]],
-"xd81fd73c88ba0cca":[[2203],[4]],
-"xedde748202c03995":[[4020],[3]],
-"x4d05a5294b4e7596":[[132],[4]],
-"xe436c5a8a4cc4384":[[2203,3299],[15,7]],
-"xfc97dbf9db6195fc":[[139],[3]],
-"xf80a0630a39871c7":[[2722],[1]],
-"x343d4433ff786e99":[[3584],[3]],
-"x559e81f60cd232f":[[861],[7]],
-"x7814be17d2618d62":[[2853],[2]],
-"xec43fadb1c6a4986":[[658],[4]],
-"x212d614084e36254":[[3299,3307],[5,4]],
-"xd47801df733c94da":[[2919],[4]],
-"xdd55c2dbde64143f":[[2163],[3]],
-"xcd46f203f0042f1f":[[3363],[4]],
-"x83acc3792925c430":[[203],[15]],
-"x96c510f3c5999003":[[1828],[4]],
-"xa0a6f72ea70fd2e4":[[2073],[6]],
-"xa15cbafcea9c57d3":[[353],[4]],
-"xcbb582270153c360":[[1242],[19]],
-"xe89e27565b8d37d9":[[405],[11]],
-"x554be3379e9ee2c3":[[202],[4]],
-"xb08b40ed181244f1":[[3958],[2]],
-"x135d6496a199bbfb":[[4020],[2]],
-"xbb84697a2123ecfc":[[2154],[6]],
-"xd80619bc5d8cff3f":[[3177,2932],[11,5]],
-"x6069509ff4fd65ae":[[334],[113]],
-"x554bf3903427003a":[[1050],[4]],
-"xb504f38bbd751880":[[262],[6]],
-"x4854997ac85ed27":[[1291],[6]],
-"x8f74d168f9b91d6a":[[2074],[6]],
-"x82c7ea41cb1522c6":[[3307],[3]],
-"x7ed377c7d8500e97":[[3299,3234,3902],[136,29,5]],
-"x8166e0f15fefd972":[[1761],[4]],
-"xc816f559604f742a":[[4094],[6]],
-"x43818317e87dac6":[[1762],[10]],
-"xaeb3599d39151f25":[[983],[3]],
-"x55960ebaab667011":[[2137],[4]],
-"xb281d7c8a7a365fb":[[2154],[4]],
-"x9c97a5a5e2f760d0":[[3299],[6]],
-"xcb2f3285edff40a3":[[3501],[3]],
-"xf686239ec7318188":[[2919],[9]],
-"xa9c8d9ea53fe08af":[[3808,2203,3902],[8,6,4]],
-"xc16a01f32eac72d8":[[3234,3299],[27,7]],
-"xbc9e7b1a5ee4616d":[[405,918],[16,7]],
-"x1703807427325060":[[1699],[10]],
-"x503690b1db013c99":[[3958],[2]],
-"xb6228507e298dc09":[[3690],[5]],
-"x67b86ac7398c694f":[[3963],[8]],
-"x91b9926306f3c39d":[[3690],[7]],
-"x13e79cd0766d8651":[[1618],[3]],
-"x867aeb2826fbd42f":[[262],[8]],
-"x5d92a4caf9644ab0":[[3828],[4]],
-"x17244216cd510fe3":[[2072],[19]],
-"x52558e72f2679f2":[[3583],[3]],
-"xdd5ee657b19c79f4":[[1624],[6]],
-"xb2520ef795826cda":[[991,709],[12,2]],
-"x5a6f030888f5ec1b":[[3112,4013],[23,4]],
-"xf5b5130d8230da92":[[2713],[2]],
-"xe29d66504e8353da":[[788],[5]],
-"x31c3431b38ea8e96":[[3150],[13]],
-"x246999f408f401b2":[[166,202],[32,7]],
-"x91080cb53e2559db":[[2155],[6]],
-"x754f7dd6a24a08ac":[[262],[16]],
-"x57fae344c8c0da6f":[[2851],[3]],
-"xb419fdd6945ebd82":[[3309],[7]],
-"x6793d459a08b577d":[[3177],[10]],
-"x75992a563fdd93d3":[[926],[12]],
-"x6c78f1a77e3eb4e8":[[4029],[3]],
-"x1bace7400a24e589":[[1357],[3]],
-"x3058d6458dbbc6a3":[[1382],[4]],
-"xd6dabe2a7cfc163a":[[2281],[3]],
-"x58d4f434d10f6f37":[[231],[3]],
-"x11719746938c902d":[[3690],[2]],
-"x12b99ebe9a49c76":[[1178],[3]],
-"xd6de8e9145c07dba":[[2915],[3]],
-"x94ca2f66f3ef00a":[[1749],[8]],
-"xe5312d48e96c1483":[[148],[6]],
-"x69c5445af0d29cde":[[3104],[4]],
-"x78b2609fc33c1c52":[[82],[12]],
-"x80ddb75fb6ce67bb":[[202],[11]],
-"xa959230df139a252":[[536],[11]],
-"x21903606dbe98bb5":[[2721],[10]],
-"x74851d720bc7a8bf":[[2219],[15]],
-"x8d823676846a6ca9":[[3749],[5]],
-"xa9c778e149c60618":[[3112],[4]],
-"x74033b4185ef43dc":[[1652],[3]],
-"x3c1f02c817506bc2":[[3761],[4]],
-"xab8b885e08ae8414":[[3958],[7]],
-"x5124374de3e6835e":[[788,723],[7,3]],
-"x9d6cc500566f00d":[[1770],[3]],
-"x9cbde764240e08f9":[[2323],[1]],
-"x50e8e12d1ee51f86":[[3437],[5]],
-"x808fefa3dafb204e":[[2266],[7]],
-"x41bbd42d1c9363f":[[82,139],[22,18]],
-"x694d9ed3eb16bcb7":[[1763],[23]],
-"xccde0428713c061d":[[202,983,788],[14,8,5]],
-"x4689f47db62ebc56":[[796],[2]],
-"xc9313d1cafa6f256":[[334],[8]],
-"xd2cf7d3686b2d912":[[3956],[8]],
-"x13d3a06748960911":[[1894],[3]],
-"x71dcb3977376f259":[[1893],[3]],
-"x1d8d8d4db7517aa4":[[2915],[2]],
-"xb7953aa34bb4d062":[[1380],[4]],
-"xbe1628fac85bed4c":[[148],[5]],
-"x5196fe9df0a94f88":[[536],[2]],
-"x25c923fc29221c57":[[3699],[4]],
-"xe7e80031c98babaf":[[853],[7]],
-"xc857e20933ab1970":[[2139],[3]],
-"x1b7ad8cea057de18":[[3902],[3]],
-"x5e0645bd2d17aa80":[[2137],[1]],
-"x1d8c011290cf68fe":[[3964],[2]],
-"x6ba2a13e38fe208d":[[3177,3299],[8,5]],
-"x1cb8a5f6d4f5263f":[[1371,219],[1901,28]],
-"xde6dfe29ceff7026":[[801],[4]],
-"x3d00a3dd23979226":[[262],[4]],
-"xa4adb691b44df6bf":[[334],[12]],
-"xbecdb6f469c05a27":[[1553,1546],[9,4]],
-"xabcd22257237b727":[[2],[5]],
-"xc93c61f8996a6e37":[[4013],[3]],
-"x18d0e7cca54b86a5":[[1635],[3]],
-"x88f674dc61ac993f":[[3958],[2]],
-"x54c6d026fcc10c42":[[3690],[7]],
-"x7f77f4609eee29b5":[[723],[83]],
-"x9b2a6ab58de62c1":[[525],[3]],
-"x1a7d7982f196cad1":[[1700],[1]],
-"x11c1fe2ac18fda23":[[1899,1878],[14,4]],
-"xb21830f7dac70a97":[[323],[6]],
-"x3eaf009c017ee2fe":[[339],[10]],
-"x9e4f28b4e638d626":[[267],[10]],
-"x3d8b6bfaad5346cf":[[4013],[4]],
-"x1a8af6de904d88f":[[2290],[13]],
-"xde54db20db293531":[[991],[6]],
-"x6a764a5c5380f78c":[[3763],[1]],
-"x4e6617b11041038b":[[3364],[3]],
-"x4206b7c953de1a58":[[926],[6]],
-"xaf2944fbc931ba9":[[332],[14]],
-"xf2515404b66b16c0":[[2162],[6]],
-"xc13a4040c05a0a56":[[1155],[15]],
-"x7d2b805de93fbc75":[[3690],[3]],
-"xadb250d9067da1e1":[[4013,3307,3234],[7,5,4]],
-"x8302628f474b6d26":[[795],[8]],
-"xdfeae29560aff7cf":[[1903],[6]],
-"xe8c5b5cf7203e9ee":[[3688],[3]],
-"x51e44493f278aec7":[[1762,796],[14,5]],
-"x1721c0e90744d71e":[[3707],[1]],
-"xb9752572eb6294cf":[[601],[3]],
-"xff43c262c9384087":[[259],[3]],
-"x9dec0b7a1700bda3":[[3699],[3]],
-"x3600298945f10555":[[334],[27]],
-"xd83ca420d09570f1":[[1380],[17]],
-"xa343cb25f75fb7cd":[[166],[2]],
-"x28299ea960aafad0":[[3372],[4]],
-"x3a983ac6e7c7fe8a":[[3242],[7]],
-"x8492f2a0d58deb14":[[1371],[19]],
-"xc948cf9bc8586d40":[[666],[7]],
-"x667610c439bc1068":[[324],[4]],
-"x214fb3b5cda8a44d":[[308],[6]],
-"x8d376bc94975c941":[[2006],[36]],
-"x7fdbfca8d830c7a6":[[1380],[7]],
-"xe905e7b28030b075":[[1114],[4]],
-"x3235abf4446d12bf":[[203],[19]],
-"xf93cbb7f9461ff82":[[3763],[7]],
-"x39572234d098bb47":[[788,202],[46,25]],
-"xb0b4e51ad7135f44":[[3834,3242],[8,6]],
-"xbd1c1aa3349d9003":[[1893],[3]],
-"x1838e9b098b078bd":[[1957],[6]],
-"x1c9fbb4378cbe403":[[3808],[4]],
-"x938e90d53f455dbf":[[203],[4]],
-"x5be7b569ce09c70d":[[983],[3]],
-"x97bc1c281cb613f0":[[1762],[3]],
-"xe4526bf713d406a2":[[1699],[37]],
-"x52ddf4c6fbfc14ed":[[3690],[5]],
-"x84e2f34eb479d2cd":[[4013],[6]],
-"xa50de7fd199f1d37":[[796,405],[7,3]],
-"x3825f150c0112764":[[528],[4]],
-"x8e920b2dfdb1a76b":[[528,82],[9,4]],
-"xef843d6bbb5eae6e":[[796],[3]],
-"x7cb8123466f75de9":[[82],[13]],
-"xca7edafda6949af3":[[594],[35]],
-"x3df6d890da015cdd":[[262],[14]],
-"x3690cf8de793b1a5":[[1676],[3]],
-"x84b14a853a82cd81":[[2227],[6]],
-"xabb53aca636892a1":[[262],[24]],
-"xebe8e0c54c442f07":[[2786],[3]],
-"x9e09c6f221f17a96":[[339],[17]],
-"xc481846bd948da15":[[3307],[4]],
-"x74273f60ea572705":[[3761],[15]],
-"x3170907a0cc19a34":[[1355],[9]],
-"x6a911b32ff366c1e":[[3947],[4]],
-"x2990b471cfcbb90a":[[3104],[2]],
-"x4e7270e3870064bf":[[82],[15]],
-"xf9df3f4f6e216b9":[[790],[6]],
-"x1b3a53840b4f64a8":[[3374],[4]],
-"x137ef46007785e24":[[861],[23]],
-"x31d613a9c01183e8":[[725],[4]],
-"xc3089c6a7d4ae39e":[[1197],[4]],
-"x820e4a8ca5c6917e":[[2341],[1]],
-"x7be43f848742a751":[[2258,2281],[3,3]],
-"xb237482a0ddce239":[[3956,2203],[6,5]],
-"x222477ed724fd9f0":[[3164],[3]],
-"x558e93e9058b0494":[[3429],[11]],
-"x30dff7124ffaf27f":[[2463],[6]],
-"x929fb85853e3de81":[[1114],[3]],
-"xabc68705705965f":[[528],[5]],
-"xeeeaac6255ca6eb2":[[3306],[3]],
-"xdd990fe9bb3ea602":[[1762],[4]],
-"xf868a98ae8114ab0":[[1552],[7]],
-"x30416b79c8324a33":[[1243],[5]],
-"xb4975a16ae966991":[[211],[44]],
-"x7d4560737d9ab585":[[528],[4]],
-"xe4eb54073b761078":[[202,1380,722],[16,9,4]],
-"xd96eb7111b9d08c8":[[3454],[3]],
-"xf0c1ad2a6077ba04":[[97],[8]],
-"xced71efc750c912c":[[2484],[2]],
-"xdadfd99a9d901f20":[[2355],[4]],
-"x343a10904f3a4c78":[[3699],[3]],
-"xa1cc8d8360bf0a67":[[3699],[11]],
-"xcdbbfbb451e0284b":[[3690],[3]],
-"xa01b730113cca80e":[[82],[2]],
-"xd28f823f07585523":[[157],[5]],
-"x5f24100888da2ac3":[[1764],[3]],
-"xcb0467501871b8e5":[[3690,3242,4020],[4,3,2]],
-"x582c42c8c82a383a":[[262],[3]],
-"x75deab8626b426da":[[2915],[3]],
-"x4c3a9e6f0a5aef46":[[4013],[2]],
-"x455ac68566ef7278":[[1618],[3]],
-"x79250160a78c7ce5":[[2349],[13]],
-"x9d0002081ef6bad7":[[2308,2316],[35,3]],
-"x5ff77bb23d8212ba":[[2452],[19]],
-"x9fdc9408088a304c":[[2851],[7]],
-"x29d143b2ec80e495":[[405],[21]],
-"x10564105aad82f77":[[203],[22]],
-"x9dab42aee1ac1760":[[3958],[8]],
-"xa5481aefaadf2a18":[[213],[3]],
-"xa7934863591f080c":[[983],[3]],
-"x6fd4031454958963":[[3299,3307],[3,1]],
-"x3826921f0854f87b":[[3956],[5]],
-"xee20de325b6ec5cf":[[2910],[3]],
-"xc72732f3604f50e":[[3902],[3]],
-"xf77c2081e9cf1854":[[346],[3]],
-"x4112e347133f8a48":[[3112],[3]],
-"xedff80aed0701dee":[[3902],[8]],
-"x2850da57ca7b7fc1":[[166,1699],[12,12]],
-"x49d9b32dd49f9455":[[3502],[12]],
-"x65bd7c2f2a7014b5":[[267],[6]],
-"xfc4b87fb548982f1":[[1307],[7]],
-"x7f1ecb1b14f6de0c":[[2266],[3]],
-"xd0d89d488fcbb334":[[186],[3]],
-"xd44369a7ede02666":[[528],[2]],
-"xa1e60e898e7ba4bf":[[528],[5]],
-"xa78a3c60a4e6819c":[[3494],[9]],
-"xef8df0d9bfd41de4":[[1618,1652],[20,1]],
-"x5fd34291b3b23475":[[709],[6]],
-"xcb16b3fa2ac11278":[[2786],[5]],
-"xe39b2731c3db1c32":[[3690],[3]],
-"x6c58b7efac440af8":[[1813],[4]],
-"xcdec2d5c7c3caf98":[[3902],[5]],
-"x47e45b553f1a2504":[[1179],[9]],
-"x3a317ea19221fb16":[[139,405],[6,4]],
-"xd4ba4f5424417e54":[[3305],[3]],
-"xa9c2b3b9b5f1a303":[[3938],[1]],
-"xdad4a8a7c5e1e23a":[[918],[3]],
-"x9091000ec17771d9":[[1762],[6]],
-"xf0e616645f126ce8":[[3902],[2]],
-"x7395b82c0d86a212":[[3761],[3]],
-"x58ef19f318283fed":[[733],[6]],
-"xde38639e83c225c0":[[202],[5]],
-"xa6b7f23d72767cee":[[3169],[2]],
-"xc8fe7a0263ccaf68":[[346],[3]],
-"x97b31a779223f3ad":[[2260],[11]],
-"xa965d8e54e48475f":[[3690],[5]],
-"xc4d1b804dd9ec4c8":[[334,1187],[43,4]],
-"x39afca9c6a69dd93":[[861],[6]],
-"x3ab3cc4c2cf4d841":[[2787],[3]],
-"xd7fec030683bde3f":[[3690,3502,4013],[21,21,12]],
-"x77531d75b483c1af":[[204],[12]],
-"x8e14a88815b8929a":[[3169,4013],[6,1]],
-"x32f232e4c8944f3d":[[1762],[6]],
-"x53ea74f31d9547b0":[[213,204],[9,4]],
-"x5ccd4f1abe50ed4b":[[203],[8]],
-"x94e02801e6f2e1dd":[[2908,3956,2722,3761],[8,7,6,4]],
-"xd7e17c6f886d980d":[[2934],[2]],
-"x74ada7364636a589":[[3902],[11]],
-"xedde4b40789bd9df":[[3763,2720],[3,2]],
-"x47ffc8a2baf81d4a":[[991],[5]],
-"xc9dd2c31ec671d1":[[2154],[3]],
-"xf802f0546895b273":[[859],[3]],
-"xdabe6a775230129a":[[3958],[7]],
-"x78d11df58be8bf7e":[[3567],[3]],
-"x3db4554bf60a3189":[[2917],[20]],
-"xfe3ccaad13535fce":[[1553],[3]],
-"x7b18d3c58526d962":[[1308,528],[11,5]],
-"xdb45f9cd0f1bbcad":[[3372],[4]],
-"x6e2323ff1b93c50":[[2203],[3]],
-"x57bb6ad299b8f4ce":[[202,1380,216,82],[164,10,7,1]],
-"x24b296eea861c67a":[[2461,2463],[50,3]],
-"x7bfc0365e56eff44":[[3373],[4]],
-"xaaf5f8fe0d39febd":[[139],[2]],
-"x3463eba00ec6d71":[[2397],[3]],
-"x886abd2b15d1bcc6":[[2043],[32]],
-"xfa7976e7b81e3fcf":[[1763],[4]],
-"x4439a217c1912731":[[3364],[3]],
-"x86b32b3f63e2a977":[[2128],[27]],
-"x83301ceae81ee7f4":[[2477],[3]],
-"x5bc724c8c55b2ae4":[[1619],[8]],
-"x31156895a4050a25":[[2163],[5]],
-"x214155f2c46fdea6":[[4013],[69]],
-"x7cc522442f72cfdb":[[258],[6]],
-"xa0d1b3b08f2fe632":[[1382],[18]],
-"x3a4f6cde89f87d85":[[3690],[17]],
-"xc9d680351a72eb70":[[1958],[3]],
-"x4aaa58b1725ed169":[[1681],[9]],
-"xe7159d8eec15bfd":[[3817],[6]],
-"x1af540b35312b164":[[2908,2609],[10,8]],
-"xe43f4423601d6753":[[1164],[4]],
-"xea09b4416f683fa5":[[1098],[10]],
-"x7ad6b3a3f065485d":[[3756],[8]],
-"x94b7be11be0b1050":[[861],[16]],
-"x8b870d053ee842fb":[[211],[1]],
-"x6ea8fe47c1a0b16f":[[666,723],[4,3]],
-"x52904431108e99":[[2],[6]],
-"xbe3ad4261942f3a5":[[2939],[5]],
-"x517b2343228c6753":[[2138],[5]],
-"x96863747b206c857":[[3429],[4]],
-"x48748b27bdb06f47":[[731,82,918,796],[9,5,4,2]],
-"x22d243a4509ed73c":[[4013],[5]],
-"x39723df431dd81e3":[[2593],[2]],
-"xe03ebd685750c181":[[731,918],[33,25]],
-"x5dad11583daedb51":[[204],[6]],
-"x1dddcd99f7d7bcae":[[2090],[8]],
-"x9a24890949cf8e24":[[804,789],[8,5]],
-"x3fd0045ba29fa917":[[2090,3194],[6,5]],
-"x15cf6166fa05c57c":[[2982],[6]],
-"xeea3a870d0ad1f11":[[75],[4]],
-"x5505fb557bbb3389":[[2348],[4]],
-"xbad78598fb32d212":[[3947],[4]],
-"x96a2f776e12044f8":[[2299],[3]],
-"x3ee9d44c223b15e8":[[2658],[3]],
-"x6390c742d6706149":[[1959],[4]],
-"x2d86b771fa00fc7c":[[1810],[8]],
-"xbf74d902898e42d4":[[3436],[3]],
-"xe22b49fdb7697bea":[[1619],[5]],
-"x3e41db203dede270":[[2281],[9]],
-"x9df3e8a98ba4deae":[[4013],[2]],
-"x7d97109f527875a9":[[3902],[6]],
-"x30295b8b987f38d8":[[2592],[6]],
-"x331527fa93fc48ad":[[2266],[3]],
-"xf3b7f5124862896e":[[82,148],[8,1]],
-"xf22d3654a06c4107":[[1161],[4]],
-"xda5a5aebff2d2c1a":[[2931],[27]],
-"xbd5445f41f04ec0b":[[3690],[39]],
-"x1ad9eef44d7435c":[[3902],[4]],
-"x7be3f1629a9fb21f":[[1959],[2]],
-"x299793e9e9ec9db9":[[3429],[3]],
-"xa5ca7c1ba0b790ee":[[3298],[6]],
-"xea7efa866b12f699":[[789],[3]],
-"x5a80d5f67414e596":[[3699,3690],[4,2]],
-"x203ea8f7f20beb46":[[1661,1643],[4,2]],
-"x56b2205fea2e2a8e":[[3673],[3]],
-"xb2342458e69e5d7c":[[216],[12]],
-"xb5fbb47b4c7864ea":[[3826],[4]],
-"x23f945ee234ec289":[[8],[6]],
-"x61749733e10a8e5e":[[1568],[4]],
-"x74d86c989f20cb38":[[3929],[2]],
-"x8cf9dc7f05f488b9":[[82],[13]],
-"x637f2da9565bd2d7":[[262],[4]],
-"x8785e10c0e2cb713":[[2452,2463],[41,7]],
-"x2cd05ec502ac35c1":[[2722,2414],[9,3]],
-"xb99a15821052bff7":[[323],[2]],
-"xe34aecb10be78ad7":[[3761],[2]],
-"xa9e25a0b6577a5aa":[[861],[3]],
-"x9bdaca46ecb9a9ec":[[324],[6]],
-"x51a831834c7fbf41":[[1185],[2]],
-"xb6e09b79dd42bc87":[[3169],[3]],
-"x31f0545e9cd0e529":[[2824],[3]],
-"x902005e0240df13b":[[2203],[3]],
-"x4cd68869e5b4d2dd":[[3902],[1]],
-"x12ccfe8649ac4cc9":[[3902,3242,3699],[19,7,6]],
-"x6e92cbc5fa9f813":[[219],[6]],
-"xe5f3ba99b110c537":[[1941],[6]],
-"xb5819dd7b87b80f0":[[731],[3]],
-"xe330ee408d66138":[[3643,3898],[7,5]],
-"xaf5013411bc9c63b":[[2397],[11]],
-"xe3b2524b70fb7583":[[1371],[3]],
-"x355908913b08c1f8":[[1698],[4]],
-"xa6fc2d1135b27445":[[3962],[9]],
-"x92595c8bedfb2eb2":[[3819],[11]],
-"xa85ade756a1b2c5e":[[139],[12]],
-"xf286389ca6e548b6":[[786],[3]],
-"x42171acd020e6eae":[[3902],[5]],
-"x7f6aecec5c7b5cf8":[[3647],[3]],
-"xe4d2f7f48dc3af14":[[1318],[9]],
-"x88b37145e5822f20":[[3902],[1]],
-"x7295c1b6d591dd2f":[[1681],[24]],
-"x7bd3825f7cece2c2":[[853],[6]],
-"xa7c8621ccfea7a5f":[[202],[3]],
-"x6b5633b9587b2021":[[3902],[3]],
-"xd38543f1d2a2f84f":[[1242],[6]],
-"xb5324b1818ab1b7b":[[3828],[28]],
-"x7846bdafa396f57d":[[3171],[3]],
-"x30312f511ba88fe1":[[1048],[3]],
-"xd06606d06b73a3f":[[3690],[4]],
-"x2e56b6257b80e482":[[1180],[4]],
-"x595bf119ec249a80":[[528],[15]],
-"xf558417197c6402a":[[1293],[8]],
-"x991afc74121f1721":[[657],[6]],
-"xac38eb80534102fd":[[397],[9]],
-"x2f455332f3214a11":[[1185],[9]],
-"x3e7803b6845be215":[[202,536,853],[9,6,5]],
-"x76d04c9248f8d0fe":[[919],[6]],
-"x62456730d536f8aa":[[24],[7]],
-"xeae88dd5a23b42ab":[[262],[5]],
-"xd4b120ecaa77c5ab":[[2],[5]],
-"x33fde843fa5c69a2":[[157],[22]],
-"x67c99208f676186e":[[3567],[1]],
-"x727cc2eb769227e3":[[4020],[4]],
-"x7031a98eb41b5dfa":[[3902],[3]],
-"x856d8a5a047bd7aa":[[251],[37]],
-"xb4402911f19225d4":[[3690],[4]],
-"x5e447f35b4bc68b":[[594],[6]],
-"xaf52d835c21d9c09":[[529,209],[8,5]],
-"x70d9293d54434c33":[[1867],[2]],
-"x2e0869215f011857":[[1371],[10]],
-"x4f6c2a4ebce389b1":[[3364,4013,3742],[17,8,6]],
-"xcd58fd6b301042e6":[[3826],[23]],
-"xf4d4cac60b94cd57":[[3690],[5]],
-"xbd04c9220f556654":[[2281],[2]],
-"x57c8b1763f3fa2f":[[1187],[8]],
-"xf20f6ea6324ebccf":[[3387],[3]],
-"x7ecd8a845ecf1ca6":[[2224],[3]],
-"x43fc1dd5f6f11c8":[[4094],[3]],
-"xd1dd98421ced61dd":[[2908],[2]],
-"xe309a05944db7059":[[339],[3]],
-"xfc19282f612898fc":[[262],[3]],
-"x716c1412d6a10656":[[334],[2]],
-"x88028eaf28db83e4":[[2804],[2]],
-"xcd034f6d79a15576":[[2203],[3]],
-"x63f665733b726fb3":[[3902],[4]],
-"x140b9925115412a0":[[3902],[5]],
-"x9d55fdf0d488d0e5":[[3811],[6]],
-"xeda33a18a06c5228":[[405],[5]],
-"x313d73fb37c39588":[[82,202],[57,6]],
-"xabd3f43818d3f69d":[[3642],[5]],
-"xdcfd32a30fbcc203":[[4013,3690],[8,8]],
-"x19f3caf701ca2211":[[1372],[18]],
-"xc8b42fc33222b428":[[166],[4]],
-"xe310987340e8f02c":[[1828],[1]],
-"xfa8437ee06644e54":[[82],[1]],
-"x8851e5b075f76b89":[[3961],[1]],
-"x80da42077a5a9093":[[166,853,405],[15,4,3]],
-"x104676bf8ad1922d":[[731,666,82,723,405,396],[860,43,30,22,12,4]],
-"x98f6489bfe8aec65":[[2915],[6]],
-"x9fd40f21e8ec6847":[[2908],[16]],
-"x675eeb9a2c14b421":[[2258],[4]],
-"x3a96d3a2eb552d35":[[3938],[1]],
-"x9d1789ce6c349039":[[723],[20]],
-"xa9e7787a18ac7aa3":[[3902],[11]],
-"xb97fbf0f8feb1adf":[[3436],[4]],
-"x3c02eefb51eed1ce":[[2267,2908],[8,4]],
-"x84459c51b8b62b7b":[[1032],[3]],
-"xfa303b854f6b5a75":[[2908],[4]],
-"x9c0f3e76e415c930":[[2934],[4]],
-"x56cbc31b61aca3f3":[[137],[3]],
-"x201d9bb5a5020ddd":[[1763],[4]],
-"x7b8e4195146701af":[[2908],[10]],
-"x5180b627815d89d2":[[2203],[4]],
-"x3437c15f02a364b7":[[1661],[3]],
-"x42b8585f827ab7f3":[[262],[8]],
-"x88fcd512310c97e9":[[251],[4]],
-"x39619f71522d8ed2":[[731],[15]],
-"x84d56e5b8d44526d":[[3242,2331,3112],[28,12,10]],
-"x11904b91b1aefc49":[[991],[8]],
-"x9a9535d6150c611a":[[1878],[3]],
-"xf139e1be201bcf45":[[2720],[4]],
-"xce9b7b0c29994568":[[3761],[7]],
-"xd811a7432d772c4c":[[450],[5]],
-"x2781dbd16b552d66":[[3112],[3]],
-"x34fe5df50a4c5456":[[3828],[8]],
-"xc9a0667d0f1a99b5":[[3902],[2]],
-"x9f05585f830c9563":[[3902],[2]],
-"x3855b5b6d62c5e27":[[1676],[5]],
-"x7e8fabd6e72a3c91":[[148,861,262],[8,3,1]],
-"x622c9a2feecbe4a3":[[3958],[13]],
-"x988a71114d94c98":[[251],[3]],
-"x883608223c221535":[[3567,3699,2266],[30,30,4]],
-"xd1474601dd57310f":[[853],[5]],
-"xc202ad4b6a144488":[[3502],[6]],
-"x1ee7ad1130a663f4":[[657],[3]],
-"xa3aecf7e561bd7e8":[[3307],[4]],
-"xcad5b0ecd219e770":[[1371,1307],[15,2]],
-"x6f0e262a30debece":[[853],[1]],
-"x421f1b090629881a":[[3112,3826],[4,4]],
-"x121b27dea90b8634":[[3502],[3]],
-"x7231e494709774d7":[[3178],[2]],
-"xb0668ba72a1a011a":[[3242],[7]],
-"xa4e5d84aca374086":[[204],[8]],
-"xf1e859c6d9c6dd33":[[2715],[3]],
-"xfdede25fde220667":[[292],[6]],
-"xd23a81fa07805c4f":[[3372],[11]],
-"x4fb024e26adcdb7e":[[3902,2203],[4,3]],
-"xab8249aa22e9bb76":[[334],[2]],
-"xaf2d0b66c86d0e63":[[794],[6]],
-"xcf0ede88e61eddde":[[204],[5]],
-"x9cf764939a975b34":[[82,204],[6,2]],
-"xfe66df616e6b0e6f":[[658],[4]],
-"x555a0aebecb1c617":[[3902],[7]],
-"xa93b5824f0c15879":[[592,262],[9,3]],
-"xa37452027314f5f":[[789],[4]],
-"xd1f9164e821838e3":[[3699,3902],[97,37]],
-"x62971ce16dc39a7b":[[262],[3]],
-"x4ba19dbbd65d6f56":[[1759],[4]],
-"xe3f3d49186d5341":[[3699],[3]],
-"xbadc0a0f259a0b53":[[3,323],[4,2]],
-"xb9bfe2781f4b0e22":[[202,262],[10,10]],
-"xf4c22840c9a1a59d":[[2463],[10]],
-"xde1c79ce2ec43cb4":[[2851],[7]],
-"x88d10fcd6da3f805":[[2659],[5]],
-"xffabc33a20b4ae00":[[1226],[4]],
-"xca9865628ded7f0f":[[67,73],[3,3]],
-"x8f58030762724280":[[3964],[9]],
-"xcf5e2177c28fd12a":[[3643,2396],[3,2]],
-"x6b2ee1ca04ad790":[[346,1179],[21,19]],
-"xa0ad18215cbd8037":[[3761],[4]],
-"x928cfdc34bdd8f13":[[787],[6]],
-"x560f92c8b7317cc9":[[2],[6]],
-"xe0b0b42c4f215d70":[[3762],[3]],
-"x46e51c58ff4f4fed":[[3],[11]],
-"x274bde85ab9dd75d":[[3836],[3]],
-"xce0a704d661ebe7f":[[601],[3]],
-"xda62a6848cf55b8f":[[3371,3502],[4,3]],
-"x8378329a5fddbc27":[[3429],[45]],
-"xaca2a82f4fc884e6":[[3429],[5]],
-"x7afa675af31f6e65":[[219],[1]],
-"xc3e27750da808dd1":[[601],[5]],
-"xe6acd823b211fde8":[[2637],[2]],
-"x6853fd8a8c739284":[[3956],[5]],
-"x651d25c9ca91d00":[[82],[17]],
-"xaf3e421105f82cf5":[[3112],[7]],
-"x2cd29d2f66d85eaa":[[3763],[4]],
-"x108ab216e1468842":[[3502],[2]],
-"x5e9cd1bd3c7ccb97":[[3761],[90]],
-"x61f3469a55638eb9":[[2919,3956],[4,3]],
-"xd5c7af469758984f":[[405,731],[5,3]],
-"xc5566bc98d0979e2":[[2787],[2]],
-"x4ac6b7cd10d1827a":[[2939],[9]],
-"x2c05d174ec34ea1f":[[2355],[73]],
-"xdcf90db2b15d26ec":[[227],[4]],
-"xc1159126f1f4e270":[[139],[35]],
-"x4a66f8032ad77ff3":[[2901],[3]],
-"xba591bb16afe73bc":[[1049],[5]],
-"x3be61720f6b15dc8":[[2462],[4]],
-"xfc0975ffc7b90bfa":[[3902],[7]],
-"x57dec28f55aa83a":[[193],[3]],
-"x4b6d67a4b3a8467f":[[1253],[3]],
-"xd012c2840adf7f75":[[82],[43]],
-"x1164310ff514f0a1":[[148],[36]],
-"x4af7f2716645c839":[[3756],[5]],
-"xcecac7b7cfff7816":[[1486],[3]],
-"x5abef3016a95bbcd":[[723],[3]],
-"x276cb8cd7de893c0":[[202],[6]],
-"x2e66b60c28599b":[[3958,3690,3112],[5,2,1]],
-"x28d566af7aff71ca":[[3307],[6]],
-"xa67644a9baa94449":[[918,157,166,216],[21,15,4,4]],
-"xe59f874c884c3df7":[[3234],[1]],
-"x8952d3d68eb49f0b":[[258],[3]],
-"xd22c27ab7007cd1e":[[2325],[3]],
-"x9ffb8e39223c911d":[[983],[4]],
-"xebe44a2a26e7e2f2":[[2852],[3]],
-"x4fc02ac8ba86e63e":[[587],[1]],
-"x379561c22e913ab5":[[3947],[5]],
-"xbd2d6a96fcaad624":[[2283],[1]],
-"x86d5689c7957cd69":[[1782],[5]],
-"x504e1201ce0d5d1b":[[660],[4]],
-"xc383029088ee208":[[166],[4]],
-"xffed7b3f1400a6fb":[[1112],[2]],
-"x53269dbb7fe2b0c":[[3962],[6]],
-"xa103bdf54be19100":[[1837],[4]],
-"x8f91dba0cd593bbf":[[1695],[5]],
-"x52f831e41198171c":[[3958],[8]],
-"xd5f01f2cf962637d":[[82],[5]],
-"x14ba48d7688d7f1a":[[1958],[4]],
-"xc1d3097f022a1f6d":[[4013],[18]],
-"xda6acb07a24c8ce9":[[3502],[3]],
-"xa0e45c08cf2f7de5":[[4031],[10]],
-"x52553a7aa28c6ca1":[[3958],[3]],
-"xd99f3426d002dd34":[[3178],[2]],
-"x665e76c08a55723f":[[1318],[7]],
-"xe5a36c1e8f873fd7":[[258],[5]],
-"x7f74fb21f552026":[[1187],[4]],
-"x7c8c12aca047a5e7":[[2721],[5]],
-"x81bae1479a9edcf5":[[2462],[6]],
-"x14ecdd5bd788271e":[[1187],[4]],
-"x119f9154f8e718a5":[[853],[4]],
-"x8a1a48fe21e7fe67":[[258],[8]],
-"x12688e1d17e0dbc2":[[1618],[33]],
-"x5302b7d5e63d503b":[[593],[6]],
-"x706fdd6b849f0661":[[853,332],[11,3]],
-"x44c765c8822698ba":[[3104],[3]],
-"x40887c4ada4f376f":[[731,593,202],[21,16,4]],
-"x26492cadec0c13c3":[[2213],[3]],
-"xa1f8a346705129e3":[[3372],[16]],
-"xc0e573d956bc217f":[[1827],[6]],
-"x58cb30ec753eee87":[[204],[1]],
-"xbee9eb881f672081":[[202,339],[6,3]],
-"x35cb67b91e90655a":[[166],[5]],
-"xf27f148899e3a2a8":[[1187],[2]],
-"x5789c3e20b0403e6":[[323],[3]],
-"xb1b2f9f15c946ca7":[[788],[12]],
-"xe21b5a4912555ea2":[[262],[3]],
-"x3ce91e730e0f34aa":[[2802],[2]],
-"xb21a26c76211d49a":[[2455],[4]],
-"xa375d841f791d881":[[3902],[9]],
-"xe2b650f58713e89f":[[1611],[7]],
-"x284b238484a9270b":[[212],[3]],
-"x2a365ab4e659fd65":[[2292],[5]],
-"x2f7f595a84c04467":[[853],[3]],
-"xcd5b7a8fc82f1b75":[[332],[8]],
-"x1d385ab5ab6b9224":[[1745],[1]],
-"x6ed606b3454057c":[[3826,3761,2931,2203],[53,15,8,2]],
-"xbeb2e06c4b07f9cc":[[3947],[2]],
-"x947a6086f4c733e3":[[3956,3749],[15,11]],
-"x7cc4b8b261adaf9d":[[166],[4]],
-"xbf4a4561358c0f69":[[3690,3902],[3,2]],
-"xccc642b1c4bd12ae":[[1618],[15]],
-"xc2f3500facd650c1":[[3826,3956,3169],[8,6,4]],
-"x5e61014856bda0f":[[659],[6]],
-"x57e3fa368aba5046":[[3958,3307],[6,1]],
-"x6f767c719ad619bf":[[2915,2203],[35,7]],
-"xead916847bcc6dc8":[[262],[3]],
-"x18f387932f32c2d2":[[1762],[3]],
-"x7cef5c9fd269fcb2":[[203,405,2],[40,7,3]],
-"x75322fdfcf33acb9":[[3828,3699],[5,3]],
-"x2fb0d9692382cc49":[[203],[6]],
-"x3cbe0370adfbd51b":[[3761],[3]],
-"x978a3aeed6bde85f":[[82],[4]],
-"x9ae4f7ff704ecd2c":[[2477],[2]],
-"x8cc87810157dced3":[[157],[3]],
-"x17ef4023f00527ac":[[861],[2]],
-"x4c5c505c7479597":[[2723],[4]],
-"x36de375a8fc496f":[[3956],[9]],
-"x7ed2186ab3e3f0aa":[[1763],[3]],
-"xde8c333275cf19c3":[[75,148],[4,3]],
-"x65c7fb4d92360098":[[3443],[3]],
-"x65e4348f94bb743":[[391,204],[16,3]],
-"x6d8ae9240e2958fe":[[24],[7]],
-"x1c850f0451c95870":[[219],[6]],
-"xf485a2a6b58ce785":[[2908],[5]],
-"x4490296d7951cfe":[[2917],[3]],
-"x55ce66f48c76edb":[[3752],[6]],
-"xbce56df620c7d930":[[2852],[3]],
-"x37c398bf9c72106":[[3763],[5]],
-"xa95610520aedc209":[[75,196,983,666],[21,9,4,3]],
-"x4089dd9200b79424":[[3372],[4]],
-"x94b57e88b07fb73a":[[2203,3112,3817,3956],[40,24,11,3]],
-"x77d75fba490a7ec5":[[74],[4]],
-"x5a3ef21c235f52ca":[[2919],[3]],
-"xf42afcad5e0d4125":[[3113],[6]],
-"xe37def8a498159c8":[[3169],[2]],
-"x9f0720cc980827ea":[[3821],[21]],
-"x59df65c2d34770f7":[[926,1293],[7,2]],
-"x86a6ae42cdfdc308":[[1350],[4]],
-"x6d062ff15172eb41":[[3828],[3]],
-"x4bf881176ee6b255":[[3298],[1]],
-"xba2f386e67a9d62e":[[324],[1]],
-"xd0c2da8e5c01ac08":[[3787],[3]],
-"xa0a872143269d01b":[[3811,1829],[6,5]],
-"x6ce6f8ad7959a064":[[332],[3]],
-"x250018de29db45c6":[[1699],[4]],
-"x9feb25d5194d67d0":[[1762,148],[14,8]],
-"xefce23455ef7ed44":[[2803],[3]],
-"x5f084ce87de3b09b":[[3826],[3]],
-"xf63aadfda0de8e8a":[[3808],[7]],
-"x805fe9a7b23265c6":[[3761],[2]],
-"xdcafb001ec07c6df":[[536],[3]],
-"xbb149e89cc64eea2":[[262],[6]],
-"x848fe486def63ab":[[1371],[12]],
-"x198c8bdb9e890be":[[991],[3]],
-"x5533ed152076033":[[3298],[6]],
-"x550ded0a9adce6d7":[[3372],[8]],
-"x8f976fe958d4fbcf":[[262],[4]],
-"x293da8878b3ad306":[[3307],[6]],
-"xc5188639efef0dae":[[731],[9]],
-"xaa480129ada5e312":[[3827],[6]],
-"x4ebc3ffd56b1fc7a":[[3306],[2]],
-"xd263ec870acd8c2e":[[3381],[3]],
-"x78127b5d77d5e1f7":[[2778],[6]],
-"x16cfa175e31afa7":[[1618],[7]],
-"x6cf9823c8c01902f":[[196],[3]],
-"xfb14923662c97704":[[175],[7]],
-"xa625029326cb3585":[[918],[35]],
-"x6836a3bad17c30d2":[[219],[11]],
-"x5a6e55260708e824":[[1697],[12]],
-"x93da9349093630e2":[[268],[7]],
-"x1ff06a0ebe4a8bd1":[[405],[3]],
-"x9f285a74ad39eacf":[[3],[7]],
-"x15d4f7f87402d1bd":[[231],[4]],
-"x42abdf85b545e69b":[[3902],[19]],
-"x8a2582f584573ae7":[[3234,3902,3177],[51,30,1]],
-"x1c29bc07b8c7ef62":[[1841],[4]],
-"xbde2c5f4e12e9838":[[2155],[6]],
-"x66520f5a8b686e33":[[2462],[2]],
-"xc3533628b43ea2bb":[[75],[7]],
-"xf2221bee196cbed0":[[1762],[17]],
-"x60db9d0dec76d277":[[3171],[1]],
-"x2764ece26d236667":[[3826],[3]],
-"x9b13bd6a53df224f":[[202],[3]],
-"x36e8fadde61e24f":[[789],[3]],
-"xd4b1178c7a511650":[[82],[22]],
-"x2f6a6b676f731d8e":[[405,334],[9,3]],
-"xa8fd8947b28e702e":[[3826],[3]],
-"xab1358b8a38050aa":[[2713],[2]],
-"x8ab7397256ef9368":[[262],[2]],
-"x79abbc638a67a5d4":[[1764],[1]],
-"xd28dc8302e269350":[[1828],[2]],
-"x6c3a7affaa78ff70":[[796,788],[30,2]],
-"xa7eca2a54ebb8f87":[[2460],[4]],
-"x3b72c83601946176":[[3307],[2]],
-"xa2df07f4b59f7e98":[[166],[20]],
-"x1b4e2ac5de924635":[[3298],[4]],
-"x692e5d16a508ff62":[[3761,3929],[110,72]],
-"x25e1553235d83f34":[[1829],[18]],
-"xc52fd57f00f2c01":[[3582],[3]],
-"xd92f00eee8bac432":[[2851],[3]],
-"xd81bc3ba06b3a9d2":[[3300],[3]],
-"x9eb3b26da29e53f7":[[2908],[6]],
-"xf2b09157f03b82db":[[528,332],[30,10]],
-"xdef8e9534d12b02e":[[3902],[3]],
-"x40d2c21cf42f954a":[[788],[12]],
-"xed06e067362cf448":[[1827],[5]],
-"x6cc5792cd647c79a":[[1380],[8]],
-"x32047fc33186f764":[[2853],[5]],
-"xa8071d8ba28d9d85":[[3964],[3]],
-"x986c03bd02a0e6b8":[[4013],[3]],
-"xacaae8aeb7a2449c":[[3641],[5]],
-"xf638d35ba9eb7ca4":[[3902],[4]],
-"x90f88a02d4dd1e6":[[3372],[7]],
-"x3efa4311654d2bff":[[1228],[10]],
-"xab51f1dd53dee013":[[202],[1]],
-"x64919274e181e74f":[[3177,3299],[4,3]],
-"x73928b32ce98c7b":[[1553],[3]],
-"xc5a099a95cbdf968":[[3902],[3]],
-"x2d1d94e0c10e29d1":[[1187],[4]],
-"x5d18aa6c9122fe83":[[3811],[4]],
-"x6dca053997ecf0ca":[[3234],[3]],
-"x6a33fc841dd1808f":[[2572],[5]],
-"xf21b0ce7cedd82d6":[[3502,3307],[6,3]],
-"x7166dac4fe47780b":[[1764],[6]],
-"xfefc0715d40ed2f6":[[3699],[5]],
-"x6143f9ab6f4cd15":[[3902,3299],[23,13]],
-"x26d5c67d5b4c5fd5":[[3902],[5]],
-"x7d4a0fae2bc321f6":[[3699],[5]],
-"x26d4332e603fe217":[[2455,2453],[7,6]],
-"x28b07da38dafcc5c":[[1185],[6]],
-"xff06759d9d5ad47e":[[2347],[4]],
-"x32fd0a008a4ff0dd":[[3567],[3]],
-"xe1154eae22971f0d":[[2648],[6]],
-"x2ff8cd2f9d6da890":[[2722],[3]],
-"x9dcc46ce1d3ca132":[[3947],[27]],
-"x55315e15de547d20":[[3567],[1]],
-"x1353ffee3c30421a":[[1096],[1]],
-"x379aa7596386dd70":[[3429,2202],[12,8]],
-"x2ce5403bd761cd29":[[1187],[2]],
-"xbac7058dd16526ec":[[2478],[3]],
-"xf403beba5193e675":[[2788],[3]],
-"x147824b22e3305f3":[[346],[5]],
-"x38ced9f4b1e97118":[[1764],[4]],
-"x8e11e287bc9e8aa3":[[405],[10]],
-"x9b48c07c085727b5":[[2722],[3]],
-"xe0e964a3261cf407":[[3298],[3]],
-"x77e02bd78db27a41":[[405],[9]],
-"x6390085b305ca487":[[1178],[4]],
-"xd0fcb44c2df3fc64":[[138],[3]],
-"x24d65f9a1de172bc":[[2346],[2]],
-"xfff97b5ed47970fd":[[3242],[2]],
-"x462e9bd06ee7a6f3":[[166],[3]],
-"x9c97d1e6eb7979ba":[[2072],[3]],
-"xe914e0a5e5ceaf95":[[788],[4]],
-"xfedc65d91b4f4007":[[931],[6]],
-"x5270dad370092ae6":[[3177],[6]],
-"xccfd124e8d59df0f":[[202],[4]],
-"x859ab0f910053f9a":[[2072],[3]],
-"x873d74b1e10734e6":[[3177,3690,3826],[29,4,2]],
-"x767fc406c11b027d":[[3178],[3]],
-"x8f5e761f347fa238":[[75],[4]],
-"xd0c9c6e692350d4c":[[3657],[3]],
-"x9e5bd43e769ee52b":[[3902],[3]],
-"x4b7f3a470baf4339":[[2347],[4]],
-"xdf177e1387c967d0":[[3902],[11]],
-"xed943408b2f9e5c":[[853],[6]],
-"xa3c2c1f87abe3050":[[3371],[2]],
-"x8d175de1d6b99c39":[[3756,3690],[10,5]],
-"xcdb7850250134269":[[75,593],[4,4]],
-"x7c356741e7dfbfe9":[[3112],[3]],
-"xad0aedf1d3dd3b44":[[3958],[7]],
-"x37f570e219ad150c":[[3307],[14]],
-"x7123f302f98efd26":[[3902],[2]],
-"x8732a70114605b8":[[2332],[7]],
-"xcb0f3925561eccc5":[[731],[6]],
-"x7ca60bae61b99cd5":[[73],[3]],
-"xd2a1c40ceb37b422":[[147],[3]],
-"x850a2d8509f5eb07":[[536],[6]],
-"x3d3fcd292e18472f":[[926],[3]],
-"xbfe1bc346df3c46d":[[788],[46]],
-"xe6ba3980393a9c6b":[[3761],[18]],
-"xd7024ea2935720a5":[[82],[80]],
-"x44fa5be0d2d84e70":[[861],[6]],
-"xa838ca3d5b1724a7":[[2],[6]],
-"x8c0d2d581e058074":[[1763],[3]],
-"xd495339bff4b645c":[[529],[4]],
-"x942fa0b7423635ec":[[1810],[11]],
-"xbe52a85607992162":[[2915,3742],[13,6]],
-"x5c218cbb4d67fea0":[[1176,1770],[65,5]],
-"x92fd36c8a6745405":[[3761],[1]],
-"x1e0f50da334bf239":[[3956],[5]],
-"x437c186b3783b0ca":[[3299,3307],[18,6]],
-"xfcd9315b3d375f48":[[1380],[3]],
-"x18909f732793fb01":[[2477],[2]],
-"x77c1e62c83815280":[[267],[7]],
-"xb5021be47431140c":[[3761],[2]],
-"x5612da4f2002709a":[[1294],[3]],
-"xb3b7982200ba5e18":[[339],[12]],
-"x418254ffe83f4dd7":[[3808],[3]],
-"x8755fff05566b40":[[137],[3]],
-"xaca2cdc85f159032":[[323],[4]],
-"xaf6d63c557809e5c":[[1764],[3]],
-"x4173cc162990410f":[[4020],[2]],
-"x20bcccd6d7323ffc":[[2228],[5]],
-"xbcd6d44c93275857":[[2324],[3]],
-"x652885e61c876f15":[[1314],[3]],
-"xa1d5a770234b654c":[[3037],[6]],
-"xf9645c897546c7de":[[1114],[4]],
-"xd3c827c2ee061d6b":[[3699,2932,3177],[13,7,7]],
-"xc6f09d54d5603ff6":[[2266],[15]],
-"x5ce3062ac011298f":[[2331],[5]],
-"xf536b48a35c734a7":[[1243],[2]],
-"x9ae4448235f9809":[[3642],[3]],
-"x7f3ab9e1430df84a":[[1112],[28]],
-"xec2834de306e728e":[[2137],[5]],
-"x59f6079c20f57796":[[788,1380,1375],[181,128,37]],
-"xd3dd1be93e435d7":[[1811],[3]],
-"x1f5f2299170beb13":[[262],[2]],
-"x906376621ba73401":[[1179],[9]],
-"x9d938e4578752072":[[1830],[1]],
-"xbff6dc903581d642":[[334],[6]],
-"xb878ed8ebf99e677":[[332],[3]],
-"x256ea43a596fa254":[[1837],[2]],
-"x1c03e367d5a7020d":[[405],[6]],
-"x4ea2774d73a01c6c":[[601],[4]],
-"xa2b85873a0b407b4":[[3164],[6]],
-"xedd308b5698f095e":[[601],[3]],
-"x5bd6832e2abf06fe":[[324],[5]],
-"x46d6f8693ae2c4a4":[[209],[7]],
-"x4fee21c9095ce98f":[[1762,1763],[5,4]],
-"x6ee5967213800732":[[1762],[4]],
-"x28b969592a4f68e6":[[2585],[5]],
-"xf39d597915d468c9":[[4020],[3]],
-"xb1848cc5e43efeea":[[3389],[8]],
-"xda246423fbf01149":[[3309],[1]],
-"xf1fed1b02e6b346b":[[1187],[8]],
-"x8e653bc4e24fc42f":[[3502],[3]],
-"x9dca8c659715c0a9":[[452],[15]],
-"x25869d6be6e16c53":[[1682],[3]],
-"xfea219d70d204289":[[1829],[9]],
-"x5f2f1d21e24e18b4":[[1371],[7]],
-"x1fda9b13038a4cad":[[258],[5]],
-"x812be4da3903b7a9":[[3372],[5]],
-"x92bce5e72dfbec88":[[852],[6]],
-"xa343cbaa864ed370":[[1437],[3]],
-"xdf087d82bc823c7c":[[3761],[3]],
-"xdc1d768c848f0aa0":[[3388],[3]],
-"x7a07d417908274f9":[[1176],[2]],
-"xcceb942f22f0adca":[[601],[3]],
-"xc8a3cfeffa1640dd":[[3234],[21]],
-"x9db8a2de1786aed9":[[339],[3]],
-"xad9e25ba0ccbdba6":[[1044],[12]],
-"xb40fc5f005db32f6":[[2331],[12]],
-"xe657841fc95e7099":[[1699],[18]],
-"xf312a4349d58b076":[[3169],[2]],
-"x67cbdfcc6f667dd8":[[1611],[3]],
-"xb16c2178f233bdae":[[1176],[3]],
-"x4f5c86eabd018aab":[[2272],[3]],
-"x902fce8a2f5ca81":[[287],[7]],
-"xccf6822e7d067fe8":[[3690],[3]],
-"x3d3c25608fa2d1f0":[[3902,2908],[9,5]],
-"x44d7931a2004c22":[[3958],[5]],
-"x35028f47dea98b8a":[[80,723],[17,2]],
-"x9d4a4e6fcfef8e95":[[346],[5]],
-"x88e4af689b8a1f6a":[[3164],[2]],
-"x8bfb20d6306ccfdb":[[148],[16]],
-"xba24623d32dacb4b":[[235],[3]],
-"xc1640711636f95cd":[[3761],[4]],
-"x622622f0b629e23c":[[794],[3]],
-"x4238b6e8c3f81891":[[1293],[4]],
-"x90ff36015ce73e22":[[1226],[3]],
-"x7af52616fc30add":[[594],[6]],
-"xbd8e49ca78ba009":[[3299],[17]],
-"xc0ace482e9300454":[[3947],[1]],
-"x651c1ab66bee9747":[[3307],[3]],
-"x238970b61859fbe4":[[1375],[3]],
-"x28315e3d89b6fdc":[[1114],[3]],
-"xb22a0bbcfa9b16fa":[[2348],[6]],
-"xbb67cd1fd588c8d1":[[166],[8]],
-"x683184c2b6221383":[[202,339],[30,17]],
-"xf1cf741cd254a29":[[326],[3]],
-"xca04f4887508dde3":[[3901],[5]],
-"x40c81f20b400073e":[[3949],[4]],
-"xbfa193a616935f3a":[[3901],[38]],
-"xc292c1bb138a0b36":[[731],[129]],
-"x8365cd691b776125":[[144],[6]],
-"x8ce04af43b1e250f":[[2713],[4]],
-"x95fbdf0e2bca44c3":[[2326],[6]],
-"xa02046b0a8483e40":[[3690],[11]],
-"x46aa1dab1f58ba55":[[3828],[3]],
-"xd61f44779fe47abb":[[2484],[6]],
-"x9fd2b7f4c799e698":[[1699],[6]],
-"x2dec100a81e99055":[[262,1308],[9,8]],
-"x95afafa04fb28b49":[[536],[9]],
-"xa9cec3b3a9ac840c":[[3234],[3]],
-"x7693dfdfe21199c3":[[1764],[4]],
-"x6eaffb3f14428b69":[[2452],[38]],
-"x3d059bba47c03502":[[666],[3]],
-"xe6e0b316970f55ea":[[3958],[6]],
-"x947ff23ce3b12166":[[3169],[2]],
-"x6324c83ff216b3cc":[[3704],[7]],
-"xf7a71974e4908d08":[[2910],[15]],
-"xf37bb19bb8d44c7a":[[2915],[80]],
-"xfcae0e9d0cf2f1d":[[3465],[5]],
-"x54a5a822761ce058":[[1652],[3]],
-"x2e9143881b523f8f":[[343],[6]],
-"x33dd233909e388c1":[[2202],[2]],
-"xfbfd0aea4f628cbc":[[3494],[4]],
-"x73ffa50a63214907":[[1810],[1]],
-"x30406a883a1f2f34":[[3665],[3]],
-"x787b86d756b0c077":[[1681],[5]],
-"x33504b3dcef5ce3a":[[3902],[2]],
-"x6081f8eb5b655be0":[[1187],[4]],
-"x38b66301cbe0d3d6":[[262],[3]],
-"x1e5f88f0f6e58ded":[[3429,4013],[14,4]],
-"xfdcf291e3b9db3b3":[[4013],[2]],
-"xc4af781f4bce6ada":[[2484],[6]],
-"xedd942dc4017fbff":[[731,1699],[8,2]],
-"xa2269815d7350a87":[[2908],[2]],
-"x8aaa1daefde5d5a8":[[2281],[1]],
-"x3faed0279c4f2e76":[[2910],[2]],
-"x19b731fff0a4e17c":[[1932],[7]],
-"x5468998cf25cce7c":[[148],[3]],
-"xfb59578e86861443":[[3956],[9]],
-"x6e58fe5e36e168a3":[[2797],[8]],
-"xf5206621898470fb":[[2722],[3]],
-"xd5888cf2f8619ad5":[[3964],[6]],
-"xc172539eda31e315":[[339],[4]],
-"xb6951f9475c0ac23":[[3234],[3]],
-"xaad5504af13c5853":[[405],[45]],
-"x50544dce5e11d52a":[[82],[1]],
-"x9963d13d89929a93":[[2203],[3]],
-"x426857d95b63d2f2":[[601],[6]],
-"xf854cfee1a3654d8":[[202],[6]],
-"x1b8909a961e74498":[[528],[2]],
-"x8e1b2c7b2da48ec6":[[2919],[4]],
-"x9eb1e44826241ca6":[[148],[9]],
-"x6291de7e253aaf27":[[262],[5]],
-"x4555bb5423dfabf2":[[1371],[4]],
-"xaa609d2930895ddd":[[1699],[4]],
-"xd4f446615945d221":[[1745,1761,1770,1740],[20,11,7,4]],
-"xd1b8018160f77132":[[1568],[3]],
-"x75dee353a2f047b6":[[2740],[14]],
-"x304ece7b1f2e7b97":[[1436,196],[40,2]],
-"xc71688480c089b23":[[3890],[2]],
-"x6b6f177abb6e64f2":[[2674],[8]],
-"x3b624d342355696c":[[332],[12]],
-"x517c09cc40b3c512":[[202],[5]],
-"x7b0404a3bc26669b":[[75,139],[19,9]],
-"x1611380fc869c860":[[3761],[13]],
-"xc3f2eda3b5b45aa":[[334],[2]],
-"xcf0a23d5f999c18f":[[405],[32]],
-"x35d84ca7f1375c3a":[[1371],[5]],
-"xc80b447f39661c89":[[262],[9]],
-"x3d0b09583be92629":[[3389],[3]],
-"xe18b3d82abb5e8bf":[[1699],[6]],
-"xa19dc01247845ead":[[219],[5]],
-"x4acd15be75d5c260":[[3699],[3]],
-"x8176d9efcbf1ea4b":[[209],[6]],
-"x2d5598c33bddd0c8":[[2724],[2]],
-"x82967d1240c7927d":[[2203],[8]],
-"x8ef935bebe048ec2":[[512],[2]],
-"x66af439882e8a1b2":[[2715,3958],[41,1]],
-"x4f7ba62d3950f9ee":[[3494],[3]],
-"x9ba64080839ac9af":[[3234,3761],[9,4]],
-"x9b602b0ac54ca97a":[[3501],[5]],
-"xfcf8449bd3f7db52":[[983],[1]],
-"x15fbe61a9cd392fa":[[334],[5]],
-"x5ec4fbe098db2b18":[[3234],[4]],
-"xa2cc512db064d34":[[137],[4]],
-"xbec3228955afdba8":[[80],[5]],
-"x8f6a97788612dddb":[[1764],[12]],
-"x91d266171dd9317d":[[1562],[6]],
-"xbd6f818381d63bc7":[[1122],[5]],
-"xa5653e025f19e65d":[[3567],[6]],
-"xf12972adadb0e257":[[2585],[4]],
-"x91a9cf5668b0b36c":[[3307],[4]],
-"x278bd608808cc1d2":[[262],[5]],
-"x8088ac9855011f2d":[[2196],[4]],
-"xb03647d7ab608ba8":[[3690],[3]],
-"xaf2da74342296d5c":[[3323],[4]],
-"x372d7b52ed7e20f2":[[166],[4]],
-"xe9a646be4407d528":[[1770],[4]],
-"x2f04cb0065f310d8":[[2412],[4]],
-"x6b665e98761c605d":[[82,262],[7,6]],
-"x25ceed80d9bf92ab":[[2674],[7]],
-"x1af2efaa8a317784":[[323],[3]],
-"x20fdda3e832d5271":[[1569],[6]],
-"xeb2e16b4ebce7ff2":[[3963],[3]],
-"x932c3726afd279dd":[[1763],[4]],
-"xa21d4523fc5bb216":[[202],[12]],
-"x1c629b60f336dfa2":[[203],[8]],
-"xd2bad0124ddac308":[[1762],[5]],
-"x4243935a61ccc46f":[[2908],[6]],
-"x5932338fb1083e5d":[[3690],[8]],
-"x27a29f92898dc5c1":[[3902],[13]],
-"xae824bf70318132e":[[346],[59]],
-"x162b45852a5726b3":[[97],[6]],
-"x24be6dd52f33bb85":[[658,1578],[14,9]],
-"x32e935496acf6a93":[[1681,262,723],[11,6,3]],
-"xaa837feaa6133d9b":[[3592],[6]],
-"x88b21680f6f2ac5c":[[262],[6]],
-"xaa755349682699bd":[[2720],[1]],
-"x302ef1b47deb1a72":[[262],[4]],
-"x980c3c8c55f7d07d":[[2852],[3]],
-"x3f986835ec8d366":[[1770],[7]],
-"xcd43cabb13fbbced":[[3902],[4]],
-"x8bdd0706ba17b342":[[1764,658],[10,9]],
-"x2061c28b7a7a1fee":[[658,723,1380,1578],[41,5,4,4]],
-"xeaf8c3edcc961722":[[2931],[6]],
-"xd526f96095db3fdc":[[2203],[8]],
-"x890950020893ec15":[[3699],[6]],
-"x773a0d40eb52b5be":[[1371],[3]],
-"x9b280579616a4968":[[3690],[27]],
-"x1826d13173db8310":[[3451],[4]],
-"x4e2f9da91bbc203b":[[787],[4]],
-"xb0bc0d845cdf662a":[[3902],[5]],
-"x36fdbad7a2a38d02":[[3242,2908],[5,3]],
-"x27541a45a847c590":[[4013,2266,3242,3234,3956,3699],[182,51,39,22,6,4]],
-"x693fe41599e87ccb":[[82],[11]],
-"x486695795b554e07":[[139],[7]],
-"xe3a6647c6771c287":[[137],[5]],
-"x498933874c3b818c":[[2137],[1]],
-"x3abaa3307f1e1016":[[2348,1176],[8,4]],
-"xc235036f80bb38c3":[[3169],[1]],
-"xad6f33c308eb3a99":[[3234],[6]],
-"xe4c450a5fcb4839f":[[3353],[3]],
-"x64d5bdeb38172d61":[[339],[2]],
-"x7742e197399ade73":[[82],[6]],
-"x66fd983df032b7c2":[[1553],[3]],
-"x1e9de4be6ca297eb":[[3749],[3]],
-"x7eb55e93cd7f5a03":[[1802],[5]],
-"xd53853f215fceb2c":[[3817],[6]],
-"xbf2f86721a56a809":[[536],[5]],
-"x83e9ca95d7ae8dad":[[3763],[3]],
-"x49934f192af262b9":[[3761],[2]],
-"xf03e13307b7d221a":[[2824],[10]],
-"x23efbcbc0d3aecd":[[1762],[5]],
-"xaac42ef19766097c":[[4021],[3]],
-"xb2d276b130edeb0e":[[1867],[3]],
-"x7a9bdf85d02f43b1":[[1569],[8]],
-"x5600f541b0b28bf7":[[731],[5]],
-"xdad088bf6023f202":[[3761],[6]],
-"x6da4cb25d2123352":[[3808],[5]],
-"x7986f91971c21142":[[235],[7]],
-"x8011bf561a4c5dde":[[3763],[6]],
-"xb66e5ef762953016":[[2723],[44]],
-"x1a7054a378a3225a":[[3299],[2]],
-"x43aa58702f16e40d":[[3956,3242,3929],[16,4,1]],
-"x15b03c59eb50586f":[[731],[113]],
-"x2727f71e56cc5e5b":[[983],[6]],
-"x17d52ab6061fba5d":[[528,262],[6,3]],
-"x4a6b849fa95b8497":[[3502],[5]],
-"xa91e732872d3e292":[[3299,3307],[34,6]],
-"xffbc2fdc23b0589e":[[2527],[3]],
-"xb448fd989f186eb3":[[3756],[1]],
-"x71d69fbe6469f823":[[1371],[6]],
-"x1946dee4be70bced":[[723],[8]],
-"x30bf74109215b908":[[789],[5]],
-"xbaf623ee13519961":[[2672],[4]],
-"x44828a15f36bbdc1":[[3956],[4]],
-"x993e46b25a56544f":[[2931,3819],[13,5]],
-"x67ef6d17e46b20e9":[[1828,262],[7,3]],
-"x1cf1ba098ed4a83d":[[213],[3]],
-"xcabd5ef812f2d141":[[3294],[16]],
-"x542589225858cf80":[[202,1],[20,7]],
-"x7d2fd7b8d5e8b656":[[723],[14]],
-"xe3261723fdc5baf8":[[1380],[7]],
-"xd3ed7acc85b0804e":[[3178],[5]],
-"x5f655c6615a59864":[[1355,262],[9,7]],
-"xf5e1aba066d0c6e7":[[1153],[4]],
-"x9d91d6351f8695a3":[[1309],[4]],
-"xc5eb0fa2e0c30c5e":[[3699],[3]],
-"x4660475cbe826535":[[454],[1]],
-"x8b6849d3a0bd8dc4":[[3962],[2]],
-"x1ed9faad762f3562":[[2745],[16]],
-"x9241aec1059040f0":[[3298],[3]],
-"x7af617819f8b3d17":[[3763],[7]],
-"xe157b2d7ae052b97":[[2722],[7]],
-"x5dad3709541c703d":[[3958],[10]],
-"x2a00cacaa24c2a58":[[3046],[6]],
-"x633643da33736208":[[2853],[6]],
-"x1856adb34dcc9bf9":[[1578],[5]],
-"xd1c8647527863c7f":[[2940],[6]],
-"x990b868703ca9b14":[[3690],[5]],
-"x6a304647b478c99":[[788],[4]],
-"x3c856a0e3d992478":[[3964,3699],[4,1]],
-"x2b5f4d732a40360f":[[722],[5]],
-"x74712f9720e1b7d7":[[593],[8]],
-"x4f425e3321516de3":[[1347],[6]],
-"x6da870ec445ff441":[[227],[6]],
-"x413932922a577e07":[[1187],[6]],
-"xda612f9db78a5479":[[2257],[3]],
-"x89682c4e984c8dac":[[1699],[4]],
-"xb416a6fc0610e37f":[[3902],[3]],
-"x9de65beca70f2c39":[[1098,1569],[4,4]],
-"xa114f7c2d42ae74c":[[1318],[4]],
-"x4591a27230a50cc8":[[3177,3763,3808,3826],[13,10,5,4]],
-"xd63490ff4976e01a":[[3761],[13]],
-"x682b165ccc56655d":[[3171],[5]],
-"xf675e67d90b5c73f":[[593],[6]],
-"x63646559f13c59d6":[[2869],[4]],
-"x6a3303d48aa623be":[[3699,3929],[13,2]],
-"xd95bb5e93d3d00e3":[[666],[6]],
-"x76f8bf6bbbfd4084":[[3112],[3]],
-"x411ebcb82c212c56":[[594],[20]],
-"xc20a951efd98f67a":[[148],[8]],
-"xcaf76ed3b68962be":[[3961],[3]],
-"x6645c377b823e0f8":[[2919,3836,2266],[5,4,2]],
-"xe3ca583c452bf447":[[1643],[9]],
-"x720fd32d3650de7":[[2355],[3]],
-"x4e4d6824e86186c4":[[2851],[16]],
-"x44b7d6b86bba6db5":[[931],[6]],
-"x425206836ab1fc92":[[332],[3]],
-"x4ee3bbdc21d3ea0a":[[2453],[6]],
-"xb46cc932b5f7f78b":[[796],[6]],
-"x6dc8a2bfbed732ca":[[2932],[3]],
-"xe9243ab24ddc1e97":[[3104],[3]],
-"x53bdb4e3dacce709":[[3808],[5]],
-"x94ecd7359374bcfa":[[262],[4]],
-"x57bca56ed4810f8f":[[3370],[4]],
-"xdb6a725743ebc39c":[[3502],[6]],
-"xe63b0d96dd308ebe":[[593],[1]],
-"x44bf70cd2a218d8d":[[2722],[7]],
-"x2bc301177acf37f7":[[3372,3502],[4,3]],
-"x66303d6312f9a567":[[1740,1745],[5,4]],
-"xe50668e7f80e9a86":[[3641,3364],[8,1]],
-"xb57f2e2f2a776cd8":[[211,528],[7,3]],
-"x56e49340e12cf09d":[[731,918],[4,3]],
-"x2672ab3fd4c195ed":[[2915],[1]],
-"x9791e74c15d172dc":[[731,723,1],[8,5,4]],
-"x519fa7d6bb0c4d52":[[3242],[6]],
-"xd29067c31d4fa090":[[4023],[6]],
-"xc1bc50cfcc4c49d":[[4013],[2]],
-"x131fd704e0e92b51":[[1033],[3]],
-"xfd3266a978c597fc":[[1699],[13]],
-"x3de7134399f76c75":[[405],[8]],
-"x308abdf36e9ec0a6":[[1185],[3]],
-"xf77e71026d319719":[[3362],[6]],
-"xf1e3bf2e691c14bb":[[1249],[2]],
-"x5d7eb19cff1b19cf":[[2355],[3]],
-"xa1c555f23f88d5a9":[[918],[5]],
-"xd2da36c43506600a":[[666],[3]],
-"xeabb1ad9b76aa23":[[528,1699,202,332],[89,27,26,8]],
-"x3ee724d3c50daf76":[[346],[2]],
-"x42acfd4adb8a6b01":[[709],[5]],
-"xa2480aae0b4aa007":[[3104,3699],[13,9]],
-"x141d0453827fa37d":[[3307],[2]],
-"xb4022f49f115c591":[[2592],[1]],
-"x5dd16d09a3709650":[[1307],[15]],
-"x43e1a711c2b658ea":[[2258],[3]],
-"x338317e07c17609a":[[148],[3]],
-"x5862e286aa3ab2fa":[[203],[35]],
-"x9ea1414bccb1f56":[[3902],[2]],
-"x5308b30c13085301":[[3956],[5]],
-"x3dc45f8066463320":[[4020],[31]],
-"xace4ffba661e71a4":[[1439],[6]],
-"xbe093f1272089c7f":[[861],[11]],
-"xc56d8fe287b46208":[[3947],[3]],
-"x91d3f8477456ab88":[[3641],[6]],
-"x41a5cdecc84e0bfb":[[1959],[3]],
-"xbed6dc0bafb58805":[[4013],[3]],
-"x187581c481c77020":[[82,262],[17,7]],
-"x32e6944270f76424":[[731],[28]],
-"x8877ddb40c2347c8":[[2136],[4]],
-"x57ab63100f86016":[[1618],[7]],
-"x439bbfa907a49b5b":[[3956],[4]],
-"xb67c671a26ed75bf":[[1307],[11]],
-"xafd3c26e4620d372":[[666,82,346],[33,27,4]],
-"x7cfd07ce1ae3cfb":[[3177],[2]],
-"x30123d5492d1b10a":[[3307],[7]],
-"x57eac229c7a6b146":[[3828],[4]],
-"x90ff479a24be97b1":[[2227],[5]],
-"x805decb5399631c":[[323],[9]],
-"xd041e05484a90940":[[1892],[3]],
-"x991d55d23dcbc5e8":[[731],[3]],
-"x60512ae2a889172":[[339],[5]],
-"x28d8303082b2f96a":[[1617],[3]],
-"xc717c8f1001c655b":[[3641],[10]],
-"xb356f76a3218a065":[[3929],[8]],
-"xd940f1d71d1cbbb9":[[3373],[3]],
-"xab045832d84433e8":[[772],[3]],
-"x8e6f7471f78cc4cf":[[346],[3]],
-"x843c37ed5430813d":[[405],[6]],
-"xbf2e87a03225c2f1":[[3502,2939],[13,5]],
-"xe3344972ec5d51fb":[[1176],[2]],
-"x9ebdd012afdd9544":[[3242,3690,3938],[20,14,7]],
-"x371cf4d440606ef5":[[3387],[5]],
-"xc2911df468d03f7a":[[1561],[4]],
-"xabae536564811aa":[[2593],[12]],
-"xe0ee520220fe01b8":[[1837],[2]],
-"xe1359d9496bcb889":[[1048],[6]],
-"x8ad743ed94c51c51":[[1683,204],[13,9]],
-"x8a4d9e82a2ec3fb":[[2723],[3]],
-"xc95e54397292bb84":[[731,82,658,723,666,593,918],[723,87,43,42,26,14,6]],
-"x5497147d3b9415d6":[[3929],[6]],
-"x2e38677df225212c":[[1114],[2]],
-"x97eb07287cccdcab":[[918,166,666],[14,6,4]],
-"x520358b757fdb2c9":[[1380],[2]],
-"x26c7a96458806b5f":[[139],[3]],
-"x371ff7c20947bfe4":[[4029],[3]],
-"xaf018285cb70fa3c":[[1633],[7]],
-"x540ca0b0d0a62f12":[[3690],[4]],
-"xf4fc3281bfbce85a":[[202,1187],[18,9]],
-"x1b721aa6da56773f":[[1314],[6]],
-"x2e2971368faf1817":[[4013],[24]],
-"xcc2f94c7287e3a16":[[3305],[3]],
-"xdfb3ddf09e0ca683":[[593],[4]],
-"x68723f5cfe06d62c":[[2396],[5]],
-"x66b19f12ecb45f9b":[[4013],[2]],
-"xa89b18bb23f69b52":[[2056],[3]],
-"xc01aaf6d78430334":[[3828],[3]],
-"xb0efa75130f9d11c":[[2724],[1]],
-"xf93202000f5e3c59":[[1307],[7]],
-"x9fc83b947b199d7e":[[3699],[12]],
-"x96ad7cbf20f16f00":[[2919,2940],[9,3]],
-"xd1d435533ba17198":[[262],[4]],
-"x2071cded606aa47d":[[3958],[5]],
-"xe25a774aaf51ed1e":[[3826,3690],[11,8]],
-"xf4db452e04aaff32":[[3372],[148]],
-"x13cfbc4051b072d1":[[1699],[4]],
-"x4da3cc2ef70fff00":[[981],[3]],
-"x96aae08d544486c3":[[2477],[7]],
-"x67ff38572df18d65":[[3690],[2]],
-"x195e82baf4db5653":[[3298],[6]],
-"xb0a894c8b1767ff4":[[1763],[4]],
-"xbe38412da58c6dc9":[[3501],[13]],
-"xbd8e25881bead9df":[[204],[4]],
-"x3a5a384b7d06d55e":[[1762],[7]],
-"xb049aacbc862102d":[[3964],[10]],
-"x2fae784585a47d82":[[2266,3956,3699],[14,11,4]],
-"x9ccce6784cf307ca":[[262],[25]],
-"x5343b36ea8bc43cc":[[1676],[4]],
-"xefcf48411d004dc7":[[3307],[9]],
-"xb9401e7c7db6a336":[[204],[5]],
-"x46c90713ec0e4067":[[3762],[4]],
-"xc55f3782dd46a296":[[3567],[3]],
-"x18b145896a91f2d4":[[399],[3]],
-"x2201f352131159c8":[[3956],[10]],
-"xb31468d70caa0eff":[[1959],[3]],
-"x5d8da51c5f00e5cc":[[2211],[3]],
-"xc909620c61127795":[[334],[5]],
-"x14664c2d572dbb2e":[[1699],[6]],
-"xb5eae4042015982e":[[1740,334],[9,7]],
-"x62506407729636a9":[[3902],[4]],
-"x18482b3604fb0e6f":[[82,1762],[38,4]],
-"x323dbae43dcb6f00":[[2931,3964,2720],[6,2,2]],
-"xec62ffe51f6d6f0e":[[2786],[3]],
-"x409cdaec622c1c76":[[82],[4]],
-"x45284ee920e59f57":[[3169],[268]],
-"xe2be5961c9c612da":[[3],[4]],
-"x5e4b03b8cabb8e4d":[[2851],[17]],
-"xd9cf8c7107c4a45e":[[2852],[3]],
-"x484fc1ca648d29ac":[[209],[4]],
-"xc52013f0b5520cbf":[[262],[17]],
-"x2368f8dda022c4e3":[[139],[9]],
-"x2ecd9468d997b511":[[137,1380,536],[15,14,4]],
-"x5b30057c3d49c57e":[[1180],[6]],
-"x3f224c4bd01d6bf1":[[723],[22]],
-"xd23337312288b673":[[334],[4]],
-"x242dd996b39fcfef":[[3956],[3]],
-"xc061c799cbe59c3d":[[204],[4]],
-"x3fac5520da5357b5":[[251],[3]],
-"x4a6f7c11fd9448e9":[[3756],[3]],
-"x85008a36c59af82b":[[3892],[8]],
-"xf94eb554e936513":[[1176],[12]],
-"xc9bf2d32e4647d0b":[[1375],[3]],
-"x24e1f614b2e28ec7":[[332],[7]],
-"xfc76f9c4787b417c":[[1187],[6]],
-"xcba363e513af52db":[[2],[3]],
-"x3ff62f7a156370eb":[[4013],[10]],
-"x60aefc4d054c8a4b":[[324,1371],[8,5]],
-"x828597e291233e7e":[[983],[8]],
-"x958f26c4c17f7386":[[3104,3234,3242],[59,12,3]],
-"xc5abc49b69bf70d5":[[3502],[3]],
-"xc7044a9efee3f90a":[[3902,3641],[5,3]],
-"x78e77864f95afd2e":[[1371],[11]],
-"x3284cae91460ae9b":[[148],[3]],
-"xce46f55073c15d72":[[2203],[7]],
-"xe2214ef03fd6629e":[[3307],[13]],
-"xfab0646595021c39":[[853],[10]],
-"xb1c90432160adf2f":[[3437],[3]],
-"xc437f1bb465eae2c":[[2452],[1]],
-"x67521168b0ded8bb":[[3690],[6]],
-"x592a0b6b575327eb":[[3958,3234],[211,5]],
-"xb5d82d054e25fb12":[[3828],[17]],
-"xeb322ced6f930eaa":[[3699],[2]],
-"x3464d27f4159f1bb":[[789],[5]],
-"xf01e65e58486593":[[3372,3690],[5,5]],
-"x203b1d5b2b4eb59d":[[3699,3242],[37,11]],
-"xcf1d215a9034e954":[[730],[2]],
-"x299aab345a1f1d38":[[723,1],[5,4]],
-"x7f9190c9dbd273d2":[[3697],[6]],
-"x78a1a807fc18313b":[[137],[8]],
-"xf90d933bb9b3ebb9":[[3699],[7]],
-"x7680a7a8ad2fdd52":[[346,1380],[12,10]],
-"xfdfbaa3373a70ff9":[[722],[4]],
-"x57c8100161e74ee4":[[3502,3690,3177],[15,12,6]],
-"x1dbb0f6ae70edcff":[[1179],[3]],
-"x18d0ad261d3b3c5b":[[1652],[5]],
-"x5320ca8927f0fd1c":[[3298],[5]],
-"x8d1883510e7d18d4":[[917],[5]],
-"x79c64b93e43a8353":[[262],[6]],
-"xa7634d83d1b531c5":[[2972],[3]],
-"x6bb53d30d2193f78":[[2330],[1]],
-"x6f911cc6e16df627":[[82],[4]],
-"x588c964eb7d26803":[[2675],[6]],
-"xebfd388851ca8caa":[[528],[49]],
-"x3b0f0658d85752cb":[[706],[3]],
-"xdf40bce69cc6083f":[[3947],[3]],
-"x3d630bc7557ae1c4":[[2650],[1]],
-"xaab50c1d62996833":[[1348,1,148],[5,3,2]],
-"xd2b2f5a3573d72ca":[[3763],[4]],
-"xde2c5053ff578fd3":[[3177],[2]],
-"x8cbd0381d403e854":[[1194],[6]],
-"x4b18666cb4c96334":[[2023],[3]],
-"x9362562fb73bb902":[[1683],[2]],
-"xd6c0e76a8b4e3940":[[3436],[4]],
-"xea2a016a8cbec49c":[[2664],[3]],
-"xe9745b8248efd7cf":[[2842],[4]],
-"x53439f4e0715ef3a":[[1155],[3]],
-"x64ee0a0b294d47c8":[[3234],[3]],
-"x487f96580259fcf9":[[2499],[10]],
-"xf3c769b55ba51e69":[[339],[5]],
-"x35e5638b78f02988":[[1753],[3]],
-"x8c9ef067ec59ce7d":[[1380],[4]],
-"x34598ac60540aa4f":[[1893],[3]],
-"xe2f70ac72c5920c7":[[3827],[6]],
-"x52e277b479b59a3c":[[2910],[6]],
-"x8b21f1f1c6d74da0":[[339],[6]],
-"x3c77cdb5daee5fa6":[[2720],[10]],
-"x6cccf671cd20eb78":[[332],[6]],
-"x4b482cdf66c5b9ee":[[1941],[3]],
-"x750e22366a2585c3":[[1633],[6]],
-"xa86c236aa986e0d0":[[3047],[31]],
-"x3b84b339b50cfd83":[[2029],[4]],
-"x166c50e4b40253e6":[[1180],[4]],
-"xdfaf5eec8f0abbaa":[[97],[14]],
-"x60c3021ed33f0e70":[[4013],[2]],
-"x9bde1f8a30f66b8e":[[3938],[11]],
-"x896d1c941cee5db3":[[2869],[4]],
-"xa6cac8176225dc1a":[[3690],[1]],
-"x8716febb2d9b8b66":[[3242],[2]],
-"xaffdda2ae30a654d":[[3112],[2]],
-"x9163717f7e1777bd":[[983],[3]],
-"x8003bd3260209cf9":[[166],[1]],
-"x857061120dadbe2f":[[204,334],[4,2]],
-"x7e8d8fec83516d10":[[1355],[4]],
-"xf3df58e50edcfdd6":[[3178],[3]],
-"x8cf2cd3a2f831c81":[[137],[7]],
-"x37b12847fe510d49":[[197],[3]],
-"x2f074e7573a8d52f":[[2331],[5]],
-"xbea7abb458b3f65e":[[3642,3902],[8,3]],
-"x6c811f46a19a698":[[3234],[3]],
-"x2c556f556df810c6":[[339,166],[13,7]],
-"x6471507d28ae311e":[[2908],[5]],
-"xe56c7589fb1ee762":[[334],[3]],
-"x2bacaf7add38e899":[[3902],[9]],
-"x340ff590cf6edd9c":[[262],[5]],
-"x654d714a0282a7c5":[[1373],[4]],
-"xfa86064fab21d5ea":[[4094],[3]],
-"xfddb9ae4ac89f67e":[[332],[3]],
-"x750a293e26d69fae":[[3763],[35]],
-"xe256e49f1d0f714a":[[788],[3]],
-"x29b356de1afd8160":[[3483],[1]],
-"x6553db54db50062d":[[3372],[4]],
-"xe9c2cce601fae32a":[[1371],[3]],
-"x1129f14006b4205":[[709],[3]],
-"xb45c365d2cae5c4e":[[2082],[6]],
-"x9a26ae1440739ba6":[[3641,3947],[4,2]],
-"x84aec1712b3e0063":[[1762],[5]],
-"xae06d24173800464":[[731],[7]],
-"x6fc578e62c399a8c":[[3699],[5]],
-"x342eeb0fca26d301":[[3362],[3]],
-"xc146a6fad98439eb":[[262],[8]],
-"xf025562fb9336997":[[1941],[3]],
-"x36c8950e03f838c9":[[1371],[41]],
-"x7064bd2329952ad5":[[353],[8]],
-"x6e559e4b86b58f41":[[157],[8]],
-"x820dc8bdba43afa6":[[3177,2720],[7,1]],
-"x6966bff37700422a":[[2098],[10]],
-"x5549a5558867a5e1":[[796,2330,166],[60,6,4]],
-"x7958cef75478d2b5":[[3947,3956],[8,7]],
-"x2512ac2fdff0a962":[[4013],[15]],
-"x4112df7bd300d6e7":[[3938,4013,3929],[70,61,3]],
-"xef98682687b5ab4c":[[1034],[6]],
-"x808878ecd17f05f7":[[2722],[8]],
-"xa17902f0998acf18":[[262],[6]],
-"xf562904865ff50d4":[[334],[4]],
-"x208951001e0c7ebc":[[2656],[2]],
-"xc5c82808fc3507d5":[[80],[1]],
-"xe4692a82594fde7f":[[528],[3]],
-"x57c7bbb0bd924ff":[[724],[6]],
-"x313bc18d160258c":[[211],[9]],
-"x4595a0067f540e79":[[3567],[5]],
-"x371e689656bfe758":[[513],[4]],
-"xba3efa252b8d9e58":[[983],[6]],
-"xd8e83cd0e742a48b":[[82,731,593],[41,27,6]],
-"x6a23fffc58ec2327":[[262],[3]],
-"x57e3b574edd26ba0":[[796],[28]],
-"xe15197ff152e9e3d":[[339],[4]],
-"xa66e7ddbb95280e5":[[601],[11]],
-"x28196d6187900461":[[3699],[20]],
-"xf7595d2db87d410d":[[2154],[10]],
-"x55079f64d38828d9":[[1893],[3]],
-"x7feea27db36c3a18":[[3567],[4]],
-"x4308de6f18262e3b":[[353],[5]],
-"x7d5a7bdcce8c8fd8":[[82],[3]],
-"x7ff9f612d8e65ef0":[[721],[13]],
-"x751691157e196ec7":[[796],[8]],
-"x54dc29d7fb750600":[[3938],[3]],
-"x8150f9166c82fba0":[[1827],[4]],
-"xaa8c7bda01e3fbd5":[[3947],[3]],
-"x919b7ea5cebf7346":[[3929],[5]],
-"x93102cdc583c7bed":[[983],[4]],
-"xfd588ff7e5379a8a":[[1959],[3]],
-"x86a7107b9a014be2":[[593],[4]],
-"xfe2c6076e096ec88":[[2974],[6]],
-"x891c8ee3b926ceed":[[528],[4]],
-"x49e89ba129b715b0":[[1371],[3]],
-"x6c5db11ecc5e9d2c":[[3307,3567,3234,3164],[9,4,3,2]],
-"x3f2c8dad9a38abb8":[[2330],[7]],
-"x48ce5f26c2d235cf":[[1827],[9]],
-"xe58f5a2587c1c46b":[[262,148],[12,5]],
-"x9b80e7a32f2d2535":[[3902],[5]],
-"x905810e9a4a5ec2b":[[3742,2266,3756,3372,3177],[8,5,3,2,1]],
-"xfc006f6b229d048e":[[593],[4]],
-"xaa780a3f85371ff9":[[3641,2908],[46,4]],
-"x4016970111591c4c":[[918],[5]],
-"xd00672773b30cc5":[[983,323],[8,5]],
-"x561be73e8c5bad26":[[3359],[6]],
-"x27ffdcf2dac1731":[[2331],[2]],
-"x808c61f76cfd0b1b":[[1652],[3]],
-"x48891c10145babb1":[[3502],[2]],
-"x74cef56100c2b2b2":[[2203],[5]],
-"x2a12834d89268385":[[2269],[3]],
-"x2dc7289737a7fcb7":[[3958],[2]],
-"x269d9733c24d208e":[[2484],[21]],
-"xd95d6d99124fad74":[[1034],[6]],
-"x48bd7a92795bf1f":[[1439],[6]],
-"x9b34902ed48c70fd":[[1226],[3]],
-"x25a65f0c140f1131":[[2266],[8]],
-"x90b131859c08ba30":[[1180,1380],[7,3]],
-"xd1988aedfeb57232":[[324],[9]],
-"x9bd0f86586fc05a6":[[2477,788],[9,9]],
-"x1662c4536e3ccb86":[[3104],[3]],
-"x38c6813f58c9a195":[[2908],[2]],
-"x968b5aefcfad1112":[[2787,3169],[4,3]],
-"xd9ea6776ca20d31b":[[1503],[6]],
-"x25dad98d582e76f0":[[3241],[6]],
-"xd80cdaceb9d16a9b":[[324],[15]],
-"xf6f9f081904e452b":[[148],[3]],
-"xca0fb83ab5ca66c":[[3699],[6]],
-"x73e4c08031422124":[[1123],[4]],
-"xffe7c49f71e8f8e1":[[2131],[14]],
-"x5870058b268b7b11":[[3234],[11]],
-"xab8e46d65f18043d":[[3902],[2]],
-"x57b6cc81dcb3ef8":[[2203],[7]],
-"xb9b5cdc9315f0d84":[[1697],[5]],
-"xc68b22f90fca590e":[[1308],[6]],
-"x66d33eebe05c8a11":[[3902],[3]],
-"x47db15e773efe725":[[528],[3]],
-"xe92c71e4c7e1508":[[3690],[1]],
-"xacc1f06f390eeb3b":[[3761],[4]],
-"x26f20bb744687fba":[[3964],[6]],
-"x2db9acce010225b0":[[396,723],[6,2]],
-"x9e1328b70113f7e2":[[2479],[3]],
-"x524e9a0ed13f6cba":[[796,139,918,405],[292,10,6,5]],
-"x1a203928a6f50b8b":[[193],[3]],
-"x39d962d68cfe06cd":[[1371],[4]],
-"xd7c36dfb674c8f43":[[2715,3956],[16,11]],
-"xec14e7bee0b5d7a7":[[209],[3]],
-"x4e2487e21f29a78a":[[346],[3]],
-"x68ede68999fea301":[[3566],[2]],
-"xef726b5adda63a97":[[137],[3]],
-"xd55d8de3a2804f15":[[3808],[8]],
-"x257331947b16b24f":[[1057],[4]],
-"xa086211a04f2dcdc":[[3958],[9]],
-"x1f4218d8b7759d59":[[1828],[2]],
-"x5e62b4ba99b122e9":[[2331],[6]],
-"x2e6dcae2ce23e4ae":[[1244],[8]],
-"xfa43f6c6002b46e3":[[1371],[3]],
-"x52c9f31f2c2f69e4":[[1681],[10]],
-"x27f86b46850ed8ec":[[3763],[6]],
-"x4dc1f84be693d9b7":[[1179],[3]],
-"xd03f8cb23ae74337":[[3112],[3]],
-"xeecdf0af0e0f02d3":[[1162],[3]],
-"x32caf2bd4920ec2e":[[3234],[8]],
-"xe81307bd6bf4b05a":[[1371],[3]],
-"x144dd544a20d3313":[[3833],[3]],
-"x4813a2890cca2a72":[[1762],[3]],
-"x2cd4075ed7fb53eb":[[2851,3811],[90,55]],
-"x9c6a10faf7f5ab38":[[3502],[4]],
-"xb25b672a7c318712":[[262],[8]],
-"x667e32ec3f3ed8ff":[[723],[4]],
-"xb0acbd0aea5492bf":[[1892],[3]],
-"xd80094fb2ff40b26":[[3642],[3]],
-"x9151d1eba102d16b":[[262,731],[8,6]],
-"xd9fe4bb76fc82fb9":[[1318],[3]],
-"x58739c1b9dbcdd59":[[2851],[12]],
-"x36515ec88a1ba668":[[4013],[4]],
-"x4b3861a79762d611":[[3157],[2]],
-"xa9a2a3b55766c942":[[3234,3112,3690],[20,17,1]],
-"x287d045c343b9c4a":[[334],[25]],
-"x27ca3ebe32700232":[[129],[5]],
-"x96b16e3f69e3559a":[[82,1763],[64,3]],
-"xa73c71932957cadd":[[3826],[19]],
-"xa3fb23fb73abea8c":[[3366],[4]],
-"xd7979c6d97baf8ad":[[795],[5]],
-"x61c84e1987053d6a":[[3956],[4]],
-"x9ec6387b9069da01":[[1307],[5]],
-"x663a71314bac69c2":[[202],[4]],
-"x18e70535e5020a15":[[528,209],[12,8]],
-"x622cef6d35be654d":[[3288],[3]],
-"xf6f782088bee2999":[[3902],[9]],
-"x34f9717016a8640c":[[3300],[6]],
-"xd1b5a641de7b8d87":[[3769],[8]],
-"x703fb9bbfb3d132e":[[3178],[3]],
-"xb5ffe8b27e44ece4":[[2851],[31]],
-"xe33745346333350a":[[528,139],[13,3]],
-"xd0ceefa95752352":[[2852],[3]],
-"x5ad6727c3348fb55":[[536],[5]],
-"x10837b6e4dd85ea9":[[3688],[30]],
-"x59826042ee5d5dfb":[[2463],[5]],
-"x77bdbb0a072196a5":[[334],[4]],
-"x96a7fa8f9823f2fe":[[1763,209],[32,5]],
-"x86ee43a55e90bf53":[[666,157,918,788,166],[783,30,18,15,7]],
-"x781a6e200e5b4222":[[3169],[3]],
-"x70a443137e8ba898":[[2724],[9]],
-"x833cf3779ad3ff11":[[1901],[8]],
-"xbd7fc5b9f88e821b":[[593],[7]],
-"x225ecaf14cc9b8a9":[[2723],[32]],
-"xe6685e5187aa2d0c":[[148,391],[83,34]],
-"xa041dc1ae57aa031":[[3309],[1]],
-"x915dd3229dfdf194":[[2355],[3]],
-"xc7fbd017af5160ab":[[324,1828],[6,3]],
-"x42045219e250a8d0":[[3234,3956],[17,3]],
-"x3d2ee72e5c8f6a2d":[[3299],[40]],
-"x745aa36ee05e744":[[2740],[8]],
-"xb12877234c923611":[[75],[4]],
-"x9130ed7a46b97861":[[2915],[2]],
-"xd1db5e1005fe61d9":[[262],[29]],
-"x4d5451f96681903e":[[2915],[13]],
-"xa9e13ef9d19c43ba":[[983],[3]],
-"xb2fa9224fd92d555":[[2292],[24]],
-"x9406d825d5db4d0c":[[4013],[4]],
-"x6c1527caf386e756":[[773],[8]],
-"x2262f0648e40485c":[[1,203],[4,3]],
-"xb2c010ce94345414":[[2715],[9]],
-"xbd8277119e537a3a":[[262],[4]],
-"xe943107d533352a2":[[322],[3]],
-"x5bb8ca6335a50e60":[[2203],[4]],
-"xc59b56a1459f26c0":[[139],[4]],
-"x51861cfdaa04c058":[[157,139],[19,10]],
-"x7b6ad15f96f488c1":[[334],[34]],
-"xecfb671f56f0a18":[[334],[216]],
-"x1f5acfd965cb85b8":[[2852],[22]],
-"x2f7f9cb5d6d1f2d2":[[2715],[3]],
-"x27f33b11d5a6a8e2":[[2852],[3]],
-"x40fee3bf3d1d17be":[[917],[13]],
-"xe272df4b0dcb9914":[[1179],[3]],
-"x9b666592cf256be0":[[983],[7]],
-"xf1208d6ece7af787":[[3826],[18]],
-"xdfcf3286a1f90f4c":[[3176],[2]],
-"x145a2d9332fec7fa":[[3898],[5]],
-"x25874f83624201d4":[[733],[6]],
-"x8e19fa8b15c405be":[[1373],[3]],
-"xa126f20f12bf6808":[[796],[3]],
-"x865e5f56d898a68f":[[1292],[6]],
-"x5cc3aadaf6b944e5":[[528],[6]],
-"xe704a9362bc84ca3":[[262,1681,75],[13,13,10]],
-"x2d8480e80fa1313a":[[3234,4013],[5,3]],
-"x216e6dffd3a434bb":[[938,2346],[8,2]],
-"xf66486301b83bc7e":[[3826],[1]],
-"xd07b2fea5af105ca":[[2216],[3]],
-"x1d1e8181de98a765":[[4013],[4]],
-"xa51ddf84cd584dc2":[[2723],[4]],
-"xa5a9de27806fe9ec":[[3699],[3]],
-"x13d1b02954fdb6c3":[[148,593],[5,4]],
-"x7f4ff02befddd3c5":[[528],[3]],
-"xb01371a9e8b430e0":[[262,666,731],[10,8,5]],
-"x511d14bb84440790":[[3309],[6]],
-"x291fdc27de2dad7f":[[2852],[7]],
-"x4f6095dd9bbcc1fe":[[3567],[3]],
-"x156edd7e211eef78":[[1155],[3]],
-"xaa66f2d96122f74d":[[3964],[3]],
-"xdf05be0d7f37e565":[[157,405],[11,4]],
-"xcddc8f4e07d6e571":[[2723],[2]],
-"x606c54b2d0aab1e8":[[1681],[15]],
-"xef5e3ae9ea6c855b":[[75],[11]],
-"x30b7de24fa9b98fa":[[2594],[3]],
-"x3cbdb196066680a3":[[2851],[3]],
-"xc2a723f44bfae666":[[1763,262,203],[7,2,2]],
-"xf0196ca675feba6d":[[723],[4]],
-"xc70756555886bd2":[[2258],[6]],
-"xe582a1c8e94604ed":[[2203],[3]],
-"x8786f0c65ca6603c":[[731],[2]],
-"xe869a1d40806db0c":[[528,658],[57,3]],
-"x5f73fdf4ff074132":[[166],[3]],
-"xa6226c1437176878":[[2331],[5]],
-"x1c9823365b6d084c":[[3372],[6]],
-"xc4c2627e33767106":[[1552],[6]],
-"x9f2813938966bd3b":[[3902],[2]],
-"x5b6bd1c65c8715a7":[[2722],[6]],
-"x4f6e962de5593dde":[[3028],[6]],
-"xb85190f46a03b21":[[3690],[3]],
-"x7549033057ebcc99":[[202],[5]],
-"x6f6682e6bea232fc":[[75],[3]],
-"x4a8ad755cdd5db30":[[732],[4]],
-"x93b2255658fafbeb":[[2137,3699],[6,6]],
-"x15349b49cf7f72fb":[[2974],[6]],
-"x6710a543cc2e95be":[[3938],[5]],
-"x5beb94a8409d1768":[[1187],[8]],
-"xc7d0c6f5e8d6db6e":[[926],[13]],
-"x91a8bb7e4b0c70a6":[[3128],[3]],
-"xd71ae248177f0dac":[[1120],[5]],
-"xc11b786b7abb83c5":[[3964],[5]],
-"xf8c353c46bb5c028":[[3340],[5]],
-"x7a07858fd7509574":[[1745],[3]],
-"xc9a4bd954050b2c7":[[3374],[1]],
-"x4d4905dc45baf33c":[[1763],[5]],
-"xab24db6031a7672f":[[334],[19]],
-"xdbf30ab2e0b18486":[[3366],[3]],
-"x2e94d8355db74690":[[2787,2715],[23,4]],
-"x595f921cb57d6de0":[[148],[5]],
-"x9dd8f5a942fa0c5c":[[148],[6]],
-"xe8c578a27ccfa745":[[262],[27]],
-"x5fd41a826b39cba4":[[788],[4]],
-"x23a2884da86830c3":[[3742],[2]],
-"x6c1057dab785fade":[[449],[4]],
-"xa78bb069ba8f9d8f":[[3808,3742],[14,6]],
-"xadc33109d8324f20":[[2460],[3]],
-"x83564b5e4fc6db23":[[1221],[4]],
-"xca166a679c9a2f5c":[[788],[6]],
-"x8074cce6de6d7d3b":[[3902],[3]],
-"x632e2016621448bf":[[202],[3]],
-"x192c4f4161c77cfd":[[3761],[16]],
-"x6c89286f025cfe24":[[2203],[6]],
-"xc61f0efc48f1ecd6":[[853],[7]],
-"x7dc2e3a3a79a1c3f":[[203],[3]],
-"xe21624862a258f52":[[353],[4]],
-"x174f72c083105cfc":[[2594],[3]],
-"x8c3b0bb66a03c99d":[[3958,3307],[15,4]],
-"x3f52f3a6deac2f4":[[3929],[3]],
-"xcd5f3209dfede88b":[[536],[3]],
-"xce5bd265d97a46d2":[[2931,3761],[4,1]],
-"xc97b7426b125f45":[[2650],[6]],
-"x1effc5af3685941e":[[3902],[5]],
-"xc055341e23ffab1a":[[3169,3826],[16,13]],
-"x6435e1d44a7c80a2":[[3364],[5]],
-"x62832d84fbc8bc01":[[204],[3]],
-"x36f2afbb184c57f5":[[2919],[34]],
-"x9f0f0ae71d0e0a71":[[658],[8]],
-"x5dc242b4a51ba235":[[146],[4]],
-"x9058cc6ab70fecc7":[[3307],[3]],
-"xf1ab0ce26a6380b2":[[796],[19]],
-"x358268e3a7c2904":[[3177,3902],[4,2]],
-"x899291d3c6f42bd4":[[2518],[4]],
-"xdcc3ed6e59e4b1af":[[918,82,209,796],[7,7,4,2]],
-"xc9fc91ed9ef186c":[[3752],[1]],
-"x1f512934159d7bc4":[[1828],[5]],
-"x25a4d3d8ada4601c":[[3958],[7]],
-"x449c4f7ae1ea8a7c":[[1185],[6]],
-"x8f260295eb577665":[[2089],[3]],
-"xfc1e77456883fa04":[[209],[2]],
-"x9da37c79c5469908":[[1382,1837],[5,3]],
-"x1ef555eff6749146":[[2155],[3]],
-"xee642a50de4c6177":[[1307],[21]],
-"x73f3b54f400e3794":[[4020],[23]],
-"x7f1477483d07aa8e":[[346],[17]],
-"x8be88f868c45d5cf":[[1828],[67]],
-"x4308ef4b6a468785":[[405],[3]],
-"xcd5cede924d8667c":[[186],[3]],
-"x71e3fd03077278b7":[[2787],[5]],
-"xc41c616b89fc9963":[[203],[5]],
-"xe08da7e24ce43007":[[3242],[2]],
-"x4824c4822cbad7c":[[3242],[2]],
-"x10b8576f0816e4f":[[2266],[2]],
-"xa1ab240fcfc177":[[3902],[2]],
-"x6960e74077d2fdac":[[1763,1098],[4,2]],
-"xc49486f8d6aceaec":[[2266,3749],[4,3]],
-"x64446f86bad4cd42":[[3372],[3]],
-"xcd0d415d1f10ec71":[[2333],[7]],
-"xf2494ddd95cedeb":[[2852],[5]],
-"xd55d369a2d32d11c":[[2797],[3]],
-"xeddb775e5b307c7e":[[1828],[3]],
-"xc254af15b1e8fb7d":[[2203],[3]],
-"x394d6a2700326628":[[2934],[6]],
-"xecec3d26ee4fc553":[[1893],[6]],
-"x20d73e047e9a6d99":[[3366],[6]],
-"x188dbc23e2fac0ff":[[75],[3]],
-"xf40e879107957cb3":[[3299],[7]],
-"x64eb9829f402f164":[[3902],[8]],
-"xa761fceb56a8af02":[[3690],[2]],
-"x86bafeb0302dc9b9":[[742],[4]],
-"xb332a29e727cb659":[[82],[7]],
-"x67138da3db39b084":[[137],[4]],
-"x9f99828a7d005dac":[[1745],[2]],
-"xce51fcc216540ac":[[3956],[1]],
-"xd5c45830fe908dc2":[[2724],[4]],
-"xa93485fdab224f2c":[[742,733],[6,5]],
-"x3fdbdce5444b9ad9":[[3690],[3]],
-"xbd67de7f0eabbaed":[[202,2],[11,4]],
-"x16c5c01dfa4dcfa4":[[3892],[3]],
-"x40ad304438b08969":[[1114],[141]],
-"xa28d8b419105bf1a":[[1187],[6]],
-"xc9776ac80bd7c45":[[788,918],[2,1]],
-"x83dd20532f4ddd04":[[1244],[4]],
-"xcf0d584bdc5c65ec":[[3567],[4]],
-"xb3dfc7efccb1d272":[[1380],[7]],
-"x9b49ef4308a382c3":[[3902],[3]],
-"x6a6227d27b871be1":[[2592],[3]],
-"x3b3adec6fee2cadf":[[612],[6]],
-"x7e31b4f00ff79764":[[796],[6]],
-"x672a901190f7cd0a":[[1096],[8]],
-"x8b9f673152b567d6":[[2852],[8]],
-"x7d238f0b3cec119d":[[82],[5]],
-"x66077deb6d2365f9":[[731],[3]],
-"xac84c721e5541b7c":[[2203,3958],[5,3]],
-"xdb08dbbfeb4fbb64":[[3438],[4]],
-"x9429848d7925def2":[[3234,3690],[19,7]],
-"x84b861f10a4487e4":[[1618],[10]],
-"x3087a5551702045b":[[781],[3]],
-"xab746a5be9419ade":[[405],[3]],
-"x43284caac276328c":[[3112],[3]],
-"x63987958dd1ba066":[[82],[11]],
-"x39ed5d816e6991f1":[[202],[4]],
-"xdf4c390d0f204ecd":[[2859],[4]],
-"x6d6e441eb72a4df8":[[1700],[16]],
-"x297fe011a63be3eb":[[334],[8]],
-"x19352ecbd19b686e":[[1553],[8]],
-"x5dff40d817306ea1":[[2154],[2]],
-"x50cfb24b458ceaa3":[[2396],[3]],
-"xaf6477bf6d85fd01":[[203],[15]],
-"xe3e8b22a9a635bdd":[[3699],[47]],
-"xf682dcd2336ee135":[[3763,4091],[7,4]],
-"x7bd5a12df874fe58":[[16],[6]],
-"xfc4e0c8067711826":[[262],[10]],
-"x6917761057d4b275":[[1380],[3]],
-"x6a844212e9da1c64":[[2348,2163],[11,5]],
-"xc2e0c93c53c0bf79":[[4013],[8]],
-"x60b11e1ff70fd14f":[[3958],[6]],
-"x71d8de88b08d4581":[[666],[3]],
-"x755a2d080b694125":[[202,1699,324,82],[33,21,20,8]],
-"x846829be4242cbcb":[[1958],[3]],
-"x932f9390318555d9":[[148],[4]],
-"x51b47bb738a51521":[[731],[3]],
-"xae098c16405bbac0":[[3307],[11]],
-"x87d48bf40164b499":[[3947],[3]],
-"xb0c3437078822781":[[262],[13]],
-"x72735effe97970cf":[[1171],[3]],
-"x76266d362c3bd17f":[[339],[8]],
-"xf86931b44e7c29c6":[[1700],[6]],
-"x24790ce309aca306":[[213],[3]],
-"x882b26f55c5be68d":[[853],[3]],
-"x83be5bdedefefe20":[[2918],[5]],
-"xd5c2927126e4c2af":[[1812],[10]],
-"xd5b559dabe823b48":[[3947],[2]],
-"x61dc06b79faa2856":[[2],[6]],
-"x8d72e7c2811bc584":[[3566],[3]],
-"x6f8f2f4693b57804":[[1699],[9]],
-"xde4532676184505a":[[3699,3749,3742,3502],[35,13,5,4]],
-"x86598e53a7abde8f":[[3307,4013],[7,4]],
-"x84f188b305cf3d53":[[148,166,262],[25,23,14]],
-"xd728d675b680de20":[[82,1761],[7,4]],
-"x700dbaf5a55f0a78":[[1652],[7]],
-"xf594a18cd72135e1":[[3808],[3]],
-"xdfba380a9048e45b":[[1380],[5]],
-"x91868f9e948dd025":[[3956],[16]],
-"xe0f1a9993a30f791":[[2722],[2]],
-"x8809dff87d0fa9bd":[[75,658,148,204],[77,59,37,9]],
-"xbaa414f888c6fc1":[[3690],[6]],
-"x7e996c4ffc2c4cb3":[[1252],[6]],
-"xda2e64c7da8e88d2":[[1765],[4]],
-"x6e30145f0699b18":[[2484],[7]],
-"x7b2eab40813096dc":[[666,918,796,593],[217,33,27,11]],
-"x133ec4c901a19e17":[[3756],[5]],
-"xe4a422f7b39190d0":[[1178],[3]],
-"x1c81b79c0b67de09":[[216],[4]],
-"x232bcc9415bb130c":[[2267],[2]],
-"x5c59984789e155db":[[405],[43]],
-"x41d55776efdb538d":[[139],[2]],
-"xd5eb287a59643381":[[918],[7]],
-"x71c569b85e392bc2":[[2852,2722],[35,3]],
-"xdbd761c02b1c050e":[[3963],[4]],
-"xed761836b07ea83c":[[1308],[3]],
-"xba4aaf127923a510":[[2203],[3]],
-"x92d77125d547c0d7":[[2285],[2]],
-"xfce5da574d39bcbd":[[3688],[3]],
-"xc76e6af4b897d3a":[[3085],[3]],
-"x766e0107bb3b5a79":[[405],[1]],
-"xc4fce4ebb728e2fd":[[3567],[9]],
-"xa353fa58dc4a7e22":[[1564],[3]],
-"x2304fc34a449f4e4":[[324],[3]],
-"x5b57cc9163ca34df":[[2908],[14]],
-"x99a1e560c1b4e163":[[3307],[4]],
-"x159b819b8ccce6d5":[[3502,3372],[7,7]],
-"x1260813c1ba8d3d":[[3372,3502,3817],[72,6,5]],
-"x566e957586edc00e":[[528],[5]],
-"x16e6bf8455094700":[[2908],[5]],
-"x2d2d2f238f81e1f":[[3299],[3]],
-"x2f69f6cfe0a254e3":[[2723],[3]],
-"x679c7dec0dd62005":[[1699,528],[28,26]],
-"x39d6748fc1345d19":[[2940],[8]],
-"x550cdb334baaaf98":[[2268],[6]],
-"x3214e6904723769b":[[243],[3]],
-"x34c6495df397b16":[[4013],[2]],
-"xb893e6a56ad54960":[[3372],[8]],
-"x6ac2cb153fb83581":[[3929],[7]],
-"xb672c311759e9e3c":[[1876],[5]],
-"xb936c4f5c4426ce4":[[1091],[3]],
-"x78f932bd16367819":[[4],[4]],
-"x9c7bdc3d8c748d95":[[3429,3807],[8,3]],
-"x648550c20515a550":[[3242],[19]],
-"x873e68e11e8fa6ec":[[3389],[1]],
-"x44454b111e55300d":[[3902,3690],[12,1]],
-"x753e5857f5bc47bd":[[3761],[4]],
-"x8821b86490947a2":[[3242],[5]],
-"xbfcb620bf10bee6c":[[3690],[7]],
-"x1b409821bd4b40bf":[[1618],[5]],
-"xa168626c6e3845c7":[[66],[5]],
-"xa6e4cd2b22fb7ec8":[[2724],[4]],
-"x9bf9f2d398ce7f05":[[926],[4]],
-"x8618f40330013bea":[[1577],[3]],
-"x624dce0275a33c44":[[722],[13]],
-"x7fc3c609c6460640":[[2715],[3]],
-"x55d8151895abb192":[[788,658],[39,2]],
-"x1a4c41cf2cb91d4":[[139,1380,339],[8,8,4]],
-"xe6bf5a3f3e336d23":[[262],[24]],
-"xfddcc9a9f13a0177":[[3112],[8]],
-"xbae1ba5a981a520b":[[262],[4]],
-"x3be7ac9720769713":[[2915],[5]],
-"x5905acdec61bae83":[[3956,3234],[5,3]],
-"x9408c6b8d405e88c":[[796,405],[12,8]],
-"xbfae818b24b0c3af":[[1746],[13]],
-"xbc35912d4a139231":[[346],[19]],
-"x8e0d331ae94a7af6":[[3567],[2]],
-"xaa08f8e4be47676b":[[3372,3234,3242],[4,2,2]],
-"x7ac8a17888280db1":[[3234],[5]],
-"x1b85e2fbc7be8126":[[3902],[10]],
-"xadee2c305d9ca59":[[528],[6]],
-"x3e61762f0b231abb":[[1762],[5]],
-"x36c7d6eec88a3315":[[3567],[2]],
-"x11b5a9a475a41494":[[203],[3]],
-"x2a4670a551238b41":[[129],[3]],
-"xf7ee247e3d5357a5":[[2226],[3]],
-"x5d8fba24708985d1":[[339],[8]],
-"xbc42b27c8cd8b003":[[2852],[10]],
-"xd4fba450c837863d":[[2722],[2]],
-"x181cc4b4a27f9dce":[[2593],[2]],
-"xdccdbeb50722479f":[[2658],[3]],
-"x922d4ea9709c4de2":[[666,262],[3,2]],
-"xcaf52216293f7469":[[3184],[3]],
-"x22b0e578ed8770e3":[[2281,3307],[3,1]],
-"xdc05d4daddbc837c":[[2852],[8]],
-"xd16bf018cf81deb6":[[463,2657],[5,5]],
-"xd88ac4641a0ed968":[[2739],[3]],
-"x5b88b749e7c0656b":[[4031],[11]],
-"xc77641a90272946":[[82],[4]],
-"x2d96e7f743a85d3b":[[1611],[12]],
-"xacdafc537f48aa2a":[[324],[4]],
-"x97ddb100dd2b7214":[[1380,148],[34,28]],
-"xbad6459a10cd7e2f":[[166],[7]],
-"x634353de3db3a888":[[3699],[2]],
-"x995091bf57faf895":[[1180],[19]],
-"x590851aaa85a865a":[[2423],[3]],
-"x6e896ba55f8ad940":[[3699],[6]],
-"x5123410f53e07068":[[1355],[11]],
-"xa15fa7d886eae33":[[2413],[3]],
-"xddf1d7cd6df1d087":[[3690],[4]],
-"x9b8ad9309107177c":[[202],[4]],
-"xd9acc9b54db502cc":[[3],[6]],
-"xca62671fb80439c0":[[3826],[3]],
-"xfaf7dca63b0fcdb2":[[2006],[4]],
-"x95e6d0c6f663d72":[[82],[3]],
-"xf1a048eee96f1f22":[[1858],[6]],
-"x7d9e64ce0231e443":[[1699,262],[18,3]],
-"x1623ba9ef76e902":[[796,666,918],[9,8,7]],
-"x62fa20a189c76fab":[[346],[4]],
-"x7ba02af30f754cc3":[[137],[7]],
-"x98ad03bb1e774a59":[[334],[4]],
-"x118ae71b7fdc0e97":[[262,666,593,723],[32,14,10,4]],
-"xa1848ed83b5f06e3":[[1698],[1]],
-"x7ce699bcaebff753":[[2915],[10]],
-"x602c139f0a239f81":[[3956],[4]],
-"xd419942b486dd39e":[[204],[18]],
-"x32e3576884731b02":[[3956,2592],[4,1]],
-"xc3fc2859b9f4cf48":[[3963],[3]],
-"x8f84b18effd4c0e3":[[3756],[3]],
-"xe05ceff3d01b8ccd":[[794],[3]],
-"xab2408601c6826a1":[[1699],[5]],
-"xcb229a49e237f310":[[3299],[16]],
-"x5bbeaef112bcf1ae":[[3177],[4]],
-"x5925f6f653f33b34":[[1943],[3]],
-"xfd3eab37e0d1ea09":[[82],[10]],
-"xba9eef84d1277455":[[3956],[2]],
-"xfc4434a313e6f1df":[[2722],[5]],
-"x423025047ee49881":[[19771],[4]],
-"x82f8aeb67d290ed":[[3902],[3]],
-"x6bee55b226abbe22":[[1682,3690,3688],[9,7,6]],
-"xd855ae06cba91997":[[2203],[3]],
-"x3fc8748532023e59":[[1242],[2]],
-"x4a0b526209ec31e0":[[2722,4013],[3,1]],
-"x5907cf5d95eb61a9":[[209],[6]],
-"xa1006802ae4b19f7":[[593],[6]],
-"xef3217908c33f96a":[[3761],[9]],
-"xf391308fae1abe92":[[3902],[1]],
-"xd63d6302fb6ae1a5":[[137],[10]],
-"xae4293fe5021c228":[[1738],[3]],
-"x5ebdaf73316e01b9":[[3699],[2]],
-"x34fb778d0d88ada8":[[3324],[7]],
-"xaad6a9aab1871748":[[1640],[4]],
-"x6943137b012f4146":[[2219],[3]],
-"xe2315f58dc68888":[[3600],[1]],
-"xea343b0ffbef972":[[2852],[3]],
-"x2f75c500a7bb02dc":[[262],[28]],
-"x93fc13e87d1933dd":[[339],[10]],
-"x3600ec51647c0a79":[[3963],[4]],
-"x9e53ac09d2658b60":[[3947],[2]],
-"xd8c3a07b14b85d0a":[[837],[1]],
-"x95595bbe2261d096":[[3373],[106]],
-"x1164d9232efc0cff":[[138],[4]],
-"xceef63a7d0921e15":[[2796],[6]],
-"x192e0c28772e20f3":[[991],[6]],
-"x3deace2cf4330bc5":[[3742],[2]],
-"x87cbd15428a05317":[[1828],[5]],
-"xc1ce716a8ff5b111":[[2201],[6]],
-"x3039ff8761deafd3":[[3112],[6]],
-"xe044bf1b6fd99347":[[1762],[3]],
-"xb3323d4386ef9abd":[[1375],[4]],
-"x66ac59577ed72e84":[[2273],[3]],
-"xbc535e906f34aec":[[2715],[3]],
-"x6d08a1d19c151b36":[[658,1828],[15,2]],
-"xbfc07d49f4839d42":[[3307],[3]],
-"x39fdf9b0123f6ec2":[[213],[8]],
-"x2eacf0cf43a30d20":[[2137,3761],[9,3]],
-"x2e89d83e9403c848":[[1828],[3]],
-"xdd783741de35edba":[[3902],[3]],
-"x4514cd16b795b89f":[[1619],[6]],
-"xabc36444f16d8238":[[129,991],[9,6]],
-"x35af20718f1446b0":[[658],[23]],
-"x93a8daf900f694df":[[2203,3958],[13,4]],
-"x95a6bb737c014084":[[3828],[2]],
-"xffb442c132e4441b":[[1308],[11]],
-"x4e1e8eec32ea3c79":[[139],[14]],
-"x1ffcbc69622f213d":[[2908],[4]],
-"xa1dff970f7b15a35":[[2724],[4]],
-"x59b85acba5046d58":[[2282],[9]],
-"x8c7c6749e17d68e8":[[3688,2203],[5,3]],
-"x75e3f2bd27af7171":[[2446],[6]],
-"x3de30ddd70b1bdbf":[[1307],[7]],
-"xc6f1b24a4499f1ae":[[2266,3699],[18,5]],
-"x8b6fb5216572ed5a":[[1382],[3]],
-"xe91e247c6c98269b":[[2724],[2]],
-"x1da64afc031540b7":[[3963],[3]],
-"x1d93a0296ddd01f9":[[389],[8]],
-"x64b6fe5910c87a54":[[258],[27]],
-"x55a9362b1bc614d1":[[731],[8]],
-"xe118deb01953307f":[[594],[4]],
-"x7ba1516d7a23cf53":[[332,724,339,129],[32,5,4,4]],
-"xad999cda2c2ae4f5":[[3956],[3]],
-"x676719f580a6a3e2":[[2833],[1]],
-"x2ff16db1f559713f":[[3690],[2]],
-"xaa8d97bf911d9a77":[[2787],[247]],
-"xfc46bc654fb335cc":[[861],[4]],
-"x5ec8944b3f73889f":[[339],[7]],
-"x80f09f5ed4b28ef9":[[2915],[2]],
-"x8dc1393efa70e9bc":[[2658],[17]],
-"xe1734eb187967ec0":[[788],[10]],
-"xb9b6a14b998575ff":[[2713,3756],[11,8]],
-"x6a5af3476c8b86fa":[[332],[4]],
-"x1cd64848bb3085ca":[[2715],[3]],
-"xfa420c1d139d87b9":[[1113],[3]],
-"x195bc5b28246b3d4":[[262],[6]],
-"x25272e9cf5a47957":[[2],[4]],
-"xf60aa9acc0e131b2":[[3699,3929],[13,1]],
-"x21000af9bb6afdba":[[3305],[2]],
-"xec514038ff0259c7":[[2931],[2]],
-"xa8062ca0e84a9d93":[[594],[3]],
-"x486e6e40aca005ae":[[3898],[4]],
-"x38ab6e0542daeb2b":[[918],[3]],
-"x81c4fd30a327bd5":[[755],[3]],
-"x8e70534c7bc020a2":[[3169],[2]],
-"xb4a7b926d674c65a":[[3827],[5]],
-"x2ec903d26a413b39":[[3902],[15]],
-"x9f2911dcb11c4f6f":[[3902],[3]],
-"x6ad43ea3b44d1424":[[1307],[3]],
-"xdbbf69f5107b68fb":[[1187],[3]],
-"xe0080705fa5130bc":[[3362],[17]],
-"x80fd2e73672f82f5":[[1823],[5]],
-"x89abad864aa622a3":[[552],[3]],
-"x80c557e26f72efb3":[[3294],[6]],
-"xa66a234f89eb407":[[1244],[4]],
-"x22634178ee3bcf54":[[1180],[6]],
-"x831d6f1b45929e64":[[3429],[4]],
-"x1c91b346b2df3871":[[204],[4]],
-"x47e39e0dced06e6c":[[666],[1]],
-"x7ea8214f31e8b482":[[3958],[4]],
-"xcdc9bf4dc9c7c60":[[3763],[1]],
-"xbde326e0aa769018":[[275],[3]],
-"xd687bf9952c8a320":[[1308],[7]],
-"xc6390fcc12b0a6bc":[[731],[6]],
-"x61abb274eaffd072":[[3902],[61]],
-"xcfc048cbb030868b":[[658,788],[4,3]],
-"xec216fe7c9435627":[[64],[6]],
-"x46801531cad04b5b":[[3699],[3]],
-"x37493d2517ba86c":[[3808],[3]],
-"x58bdd2c123d93bb8":[[2218],[3]],
-"xeee78f582a86fe0":[[2396],[6]],
-"x8989ce3584e86650":[[1364],[4]],
-"x49e067ddb1220afd":[[3429],[1]],
-"xbe65a6191b78061d":[[2917],[3]],
-"xd51a814c4900fef8":[[1618],[3]],
-"x2d6286a960a10e2f":[[2089],[3]],
-"x1897f721569b2b39":[[2325],[3]],
-"x234fe3384e574446":[[2666],[6]],
-"xcc4af02914748d50":[[209],[4]],
-"x7eae512fda6161cd":[[145],[3]],
-"xc8daf1397bae632b":[[3690],[2]],
-"x5bdfcf416667593":[[3834],[4]],
-"x98fd28cc2ab04459":[[2809,2802],[10,3]],
-"x43cb7d702192b46c":[[3177],[3]],
-"xb97493f7f8553ee2":[[2674],[2]],
-"x74561b081bc5ae3":[[3763,3567],[6,5]],
-"x8c41dd4c125de8ed":[[1242],[3]],
-"xf3725c429884da4":[[1697],[5]],
-"x4a31756d2bc27c81":[[3958],[3]],
-"x5e71b23e8f0ce769":[[2332],[3]],
-"x49421cdf5e99d5da":[[334],[5]],
-"xf14c8ef3b58ac9c2":[[3756],[3]],
-"x86bbb3d0080396a2":[[2203],[7]],
-"x4e6c5f148ca8cefd":[[166,1699,788,216],[68,34,16,16]],
-"xdb15c82e6fc9fc9c":[[926],[6]],
-"x218e8fd068df4a4d":[[3063],[3]],
-"x1e3230e721a72563":[[2021],[18]],
-"xcb0d7ce0329af7e4":[[1746],[4]],
-"xe85f3ef8ffaa449c":[[2786],[3]],
-"x282a9a2af7efdd8a":[[1770],[28]],
-"xafbc35550baa2fcb":[[2940],[2]],
-"x197dbd01cfcd859":[[1099],[3]],
-"x53d7764b0152fc0f":[[219],[3]],
-"x99eccc48889b12a":[[666,593],[18,4]],
-"x7f0f991d33ff5698":[[796,157],[4,3]],
-"x976aeee280d5a734":[[3690],[3]],
-"x80d89d182a61c889":[[1553],[3]],
-"xfa0ee3f616d8b422":[[1374],[4]],
-"x673b28d5b8c5a7f8":[[3902],[3]],
-"x90ae786f4824230e":[[2098],[9]],
-"x4243d697d4a9ee04":[[1034],[6]],
-"x7b61ad7818bb4ec1":[[82],[3]],
-"x763f35b041210596":[[3958],[4]],
-"x284d818a2fc801c6":[[323],[3]],
-"xf2f958304f664300":[[3964],[2]],
-"xb5496822dccc64f0":[[396],[3]],
-"xda48e772c9807fc2":[[3242],[20]],
-"xe4e36f018e92ffd4":[[202],[4]],
-"x7e52ddc6f8fc36ee":[[211],[3]],
-"x873df349b60f31dc":[[2463],[10]],
-"x940bc215af58786b":[[1762],[3]],
-"x69ee154615101eff":[[2203],[15]],
-"x58955cf6b1d193c":[[2788],[4]],
-"xed624db1c05fbcd5":[[1745],[7]],
-"xfed5a70bfd437142":[[262],[4]],
-"x92e610d54a245e25":[[3112],[2]],
-"x90f7de855a85cfed":[[2331],[2]],
-"xdfffa7318ee81011":[[4013],[24]],
-"xf2b5af44846685a8":[[3364,3307],[10,7]],
-"xf26973c5da6d3c75":[[3808],[4]],
-"x26a61d21a538c3e1":[[722],[15]],
-"x966aa217219c59db":[[1763],[5]],
-"xe4fe683cbd55c61":[[861],[15]],
-"xa99bfae5c4c688f4":[[706],[6]],
-"x35426328c302c76f":[[698],[8]],
-"x585dccfca80874ae":[[1782],[3]],
-"x985c8df334fc284":[[3690],[3]],
-"x7ac68e0ae5fbf9a7":[[323,731],[7,5]],
-"x993ea3ec205447fb":[[3104],[4]],
-"x2e0766431164f9ab":[[3938],[4]],
-"xc37a9235fad06306":[[1761],[144]],
-"x81a24c2079a6c90b":[[3827],[3]],
-"xf28824de1ff2f9b4":[[339],[3]],
-"xce6813a7b16c868":[[3902],[6]],
-"x88033d5db29ff3d9":[[1371],[6]],
-"x36d74bad22790250":[[2202],[2]],
-"xce1a4f292dbba60":[[853],[5]],
-"x54a63a50848bd60a":[[2740],[2]],
-"x722eb1082b04246c":[[3956],[7]],
-"xb3056873b2a7b719":[[3492],[6]],
-"x394d4bc4d772df7":[[2332],[3]],
-"xe1559257fac79a2b":[[3826,3902],[6,2]],
-"xf31e62acc5d5bbf4":[[82,1745],[4,4]],
-"x1f8c83e450142fa8":[[593],[4]],
-"xcba19a861ca5cbbb":[[731],[5]],
-"x8a88903639065b0b":[[346],[38]],
-"x5ee67ae6f5b67787":[[1892],[6]],
-"x179be8785531d756":[[3699],[5]],
-"x816cc45635dfdda5":[[261],[8]],
-"xbfae79b8dcb50c38":[[3371],[3]],
-"xd6937eb248c31585":[[82],[2]],
-"x3e1a1ebd71993c82":[[536],[10]],
-"xd7ed595cb2d60a73":[[2341],[6]],
-"x746bb1c30ffc8af6":[[3690,3112],[9,2]],
-"x7dd31ecb1a901dd3":[[203,861,536,405],[11,9,6,4]],
-"xb379ee910ae7a65d":[[346],[1]],
-"x57f7d0700f170f1":[[787,1355],[5,4]],
-"x4bae79f35bbffc0e":[[3902],[5]],
-"x674226f15c5d969":[[3307],[3]],
-"xbfc12c9f0461d3e8":[[148],[13]],
-"xa487ea9be949a23f":[[3956],[3]],
-"x28d78f889bf4cd7d":[[1763],[3]],
-"xbea114971c6a0f1d":[[3902],[1]],
-"x4ff69e10b9eb536b":[[3819],[4]],
-"x1aafa967a53919ed":[[3567,3690],[5,1]],
-"x72ccf13613e9330c":[[4013],[9]],
-"x318cb342eaa2da18":[[204],[3]],
-"xb329bf5b0eb0ceaa":[[3559],[6]],
-"xd237ad756030f533":[[2268],[3]],
-"x3fcb7463ec0ef3c3":[[1155],[5]],
-"xc6fdcc97c421398d":[[1699],[3]],
-"x3ce337e47a917601":[[528],[6]],
-"x5faa36bfdb6ac432":[[601],[6]],
-"x1d9750ef8866d6df":[[3632],[3]],
-"xbaecb9e3297d94f8":[[2412],[3]],
-"x5b60e39c2d5655c9":[[3761],[3]],
-"x6b0795d28fa29fc":[[396],[5]],
-"x8e5d88a5562c9e2c":[[1697],[6]],
-"x8d0d18b7f2b6f16a":[[1616],[3]],
-"xdc26fd5c884a5ff3":[[2330],[4]],
-"xebacb53525eacd6e":[[1221],[9]],
-"xc09e7fc4272ad92":[[3494],[54]],
-"x7e1efc268f76f656":[[1618],[43]],
-"xa81e1e22943f059":[[797],[6]],
-"x68f50cdda1267165":[[145],[6]],
-"xa363a84ea64461e0":[[82],[8]],
-"xfcb90b9f144b17c5":[[1618],[7]],
-"x5beffb72773d3944":[[1773],[6]],
-"xcfc12cd274ff0b50":[[731],[4]],
-"x65d0638d2f6d87cf":[[342],[4]],
-"x565fb3a51c92bfc3":[[1366],[6]],
-"xb390e5aa434fea82":[[1738],[6]],
-"xdef66fbb2f97ef0e":[[3964],[9]],
-"x143b92313c312e93":[[3929],[4]],
-"x920b4873bcf53883":[[3962],[3]],
-"xd06c7d09a2f5ef2":[[3756,2919],[6,2]],
-"x11f5dcccabeabea9":[[3761],[4]],
-"xdb4747c312e7e77f":[[1894],[4]],
-"xef1ce4818740d4b4":[[1176],[3]],
-"xb78d3a14e35d20f4":[[2],[2]],
-"xdd200863ef7dd1b3":[[3306],[11]],
-"xf9b6af523878b601":[[339,405,1828],[17,11,6]],
-"x6708cf2e84ea4095":[[3309],[6]],
-"x481105115f9f3b57":[[730],[11]],
-"x93963f41b2f7752a":[[3372],[6]],
-"x4d4461a61292a1fd":[[262],[3]],
-"xaf2818a695097de8":[[4013],[6]],
-"xacab2e004ca2ffe9":[[3752],[9]],
-"xf8ea91d0cc9322a7":[[1699],[5]],
-"x755eebae0b5a9f58":[[3299],[3]],
-"xf7f4651347f8b1d3":[[137],[6]],
-"x59bccf888f91429e":[[75],[10]],
-"xfdc7cad4b018b3f6":[[75],[5]],
-"x36941dabf2f4e828":[[346],[4]],
-"x7bdb3ae19d9b8daa":[[3690],[10]],
-"x21153b67fddd90":[[405],[2]],
-"xbc5e6eda0cc7ce62":[[1371],[10]],
-"x5b12c435edf374e1":[[1830],[2]],
-"x75145e750328578b":[[2931],[110]],
-"xf0118fd7c4eb01c8":[[2802],[5]],
-"x78fd2f35a12a0cdf":[[3963],[3]],
-"x2c9a5a5bc52fa2c5":[[3836],[6]],
-"x95df55018085a1ed":[[3902],[13]],
-"xf775b3e6df73db2a":[[139],[5]],
-"xa1ba341ea4e2f4e1":[[3958],[4]],
-"x12643dc4e26ecb69":[[3829],[2]],
-"x936675a39eecb508":[[326,1763],[8,3]],
-"xcaac5c1bc5018342":[[148],[5]],
-"x31e5d693fcf89cad":[[1048],[6]],
-"xdd3f6559270891d6":[[2592],[3]],
-"xba2cfe90d21330a4":[[75],[5]],
-"x345b3f646a7f2952":[[1176],[2]],
-"xacbb0ef001f87472":[[3234],[11]],
-"x7537cb727b34b8c6":[[334,1187],[37,32]],
-"xfa25b904ac89bf9b":[[1830,405,346,339],[95,73,68,10]],
-"x4b1da023e42d27ba":[[1699],[8]],
-"xdaf05cffc0ffa939":[[1699],[7]],
-"xb410652398b8f164":[[332],[1]],
-"x8c1d3a78f73de98":[[66],[3]],
-"x6c225bd720fff97":[[1684],[3]],
-"x20e6145b9306e703":[[204],[9]],
-"x78617cfc935a5eb3":[[3902],[143]],
-"x46e746abad067c37":[[3699],[3]],
-"xa4932d9334ed139f":[[3389],[3]],
-"x8b0e76c6c4c10c6d":[[262],[10]],
-"x570e15a9ab115f48":[[536],[2]],
-"x9d0d7fc099bec19b":[[1308],[4]],
-"xafbc806ef7c6aa05":[[405],[8]],
-"x82ba0c9fd2cc7250":[[3567],[7]],
-"xfa7858c469cc6d52":[[324],[6]],
-"x5579e215c6d29e5":[[339],[4]],
-"xf3a243f404f97802":[[2098],[2]],
-"xe010396f9dd1a7d0":[[918],[3]],
-"xa864ab0118bd86d5":[[1546],[8]],
-"x88fcaa76bb0cead7":[[1793],[6]],
-"xfe17989ede8be572":[[262],[32]],
-"x1e27b4ee36a3f2d8":[[3803],[2]],
-"xee0a8d617af1a409":[[3567,3699],[4,3]],
-"x82ae08e81e1ca7cf":[[3307],[2]],
-"x6fe00b245e8d8788":[[3708],[3]],
-"x7e712f758721593f":[[1,1234,786],[12,9,5]],
-"x296745847f29a6f4":[[2203],[2]],
-"x6923e1609992d7e2":[[2346],[9]],
-"x73692b6b96e28438":[[3902],[3]],
-"x4697045fe342bf93":[[405],[4]],
-"x8e18c2e6b5347045":[[323],[5]],
-"xe003f8e68b9a22bc":[[3964],[4]],
-"x5148807a44d84f9c":[[3306],[2]],
-"x505a3f8365edeb96":[[2387],[4]],
-"x140086664f9b4c03":[[251],[3]],
-"xaf70563e5365a29c":[[2331,4013],[14,5]],
-"x56973adef0c7e606":[[1569],[2]],
-"x53013a2d12ffd6a9":[[3964],[3]],
-"x10873ee659429a6b":[[82],[4]],
-"x45a5b47e69fdc09b":[[1957],[3]],
-"x7c3539128be0e9d":[[3817,3833,3947,3826],[7,6,4,3]],
-"x1004dbb7e211cfee":[[3761],[52]],
-"x2b74cce183f4562b":[[788,666],[7,2]],
-"x3f52295ecc2a22b9":[[1763],[27]],
-"x2425d13c70ea0a8c":[[536],[7]],
-"x79e1c7b084e37aaa":[[2657],[6]],
-"xd37a0972eaf389f7":[[3437],[4]],
-"x3288bf7dfb290fc3":[[24,324],[5,3]],
-"x5e84b8aebd68c63c":[[137],[3]],
-"x3065005d8d66e602":[[2137],[8]],
-"xad508b4911148996":[[2722,3429],[5,4]],
-"x116ff0cea88738a7":[[788],[4]],
-"xcee4dc2494e944e6":[[1568],[1]],
-"x3efbda3d1f089e29":[[137],[5]],
-"xa974f4713a54a515":[[2],[5]],
-"xb7568088853092f6":[[779],[6]],
-"x4b4d7122882b9d9c":[[3436],[3]],
-"x437176525ff670ab":[[1249],[6]],
-"x72021dc13180ee93":[[3902],[12]],
-"x7c3b7868f5a05b32":[[2724],[4]],
-"xcffd3e72929451b1":[[1307],[5]],
-"x7ebb2cde5d73805c":[[1308],[3]],
-"x9ea95a2bf922463e":[[3690],[3]],
-"x8f044f8231e75a84":[[339,82],[61,14]],
-"xa2274fa4d637771":[[2908],[4]],
-"xca785dd544d05e5a":[[2268],[6]],
-"x33facba0336b56e4":[[3947],[15]],
-"x6fcb9bd41db310d4":[[2220],[3]],
-"x27ac5242f3722963":[[1371],[2]],
-"xf8712e2131021e2d":[[3827],[3]],
-"xf87037cd59809d":[[1699],[5]],
-"x393524995141c908":[[3364],[3]],
-"x8a89bde55b1adc36":[[2788],[3]],
-"xf8f557aab1f43936":[[3956,3299,3567],[19,5,3]],
-"xf6aa0538f37d2fd4":[[1745],[7]],
-"x410af69cc1274284":[[1762],[3]],
-"xfc0f2092c3a0ecfe":[[202],[4]],
-"x2629f7283d63c371":[[528,1699],[39,3]],
-"xe398b1333d6ead5":[[2203],[4]],
-"x241db20866f1a7b":[[3958],[3]],
-"x15f55f80229fc9fc":[[1562],[16]],
-"xf2cb2624f111abb0":[[391],[4]],
-"xe61ff113404f2e78":[[3242],[2]],
-"x6e596c5758c2192b":[[82],[5]],
-"x27a32683d0b89307":[[3808],[4]],
-"x116be62ffaf19a67":[[334],[12]],
-"xe54b180456dc79aa":[[139,528],[23,4]],
-"x1659d2bb25c58e9a":[[1502],[5]],
-"x2575d9361782f37b":[[3169],[2]],
-"xda09ee20086798f7":[[3299,3929,3956,3234],[30,11,10,4]],
-"x9b3f4d0b20bff659":[[3902],[4]],
-"xd457433a0aec0cd2":[[2154,2117],[12,4]],
-"xe874df975334e1ba":[[1747],[3]],
-"x31508d6b0d941797":[[3325],[3]],
-"xca5243dc6e193225":[[3501],[6]],
-"xcdb1dd7f8e0bd31e":[[3821],[6]],
-"xb56645030a4b370e":[[1114],[4]],
-"x46e1982c80f38041":[[2851],[11]],
-"x8453342312c06d0c":[[1569],[12]],
-"x3e9fd0de942a53dd":[[2908],[2]],
-"x86b6247586ad0fae":[[3112],[4]],
-"xe8f82b236f810d74":[[2443],[39]],
-"x77ad57d97c2c59e9":[[2162],[3]],
-"x3f89181a7e140991":[[454],[3]],
-"xb6da69491e879112":[[3389],[3]],
-"xd5397ee491ec2ab3":[[339],[3]],
-"x1e002e43400a8f62":[[209,75],[14,10]],
-"x65199c1347d56c05":[[3827],[4]],
-"xcc327f7420773457":[[334],[4]],
-"xd36344ebd4d0c994":[[3177],[4]],
-"x9ceaca7269bb6cb8":[[3958],[6]],
-"x940cf86e1831af3e":[[3164],[3]],
-"xcd6599c929263860":[[3811],[8]],
-"x4dee3fbc0b78f35a":[[3958],[2]],
-"x153646a22434e320":[[528],[4]],
-"xcf38e8406e307159":[[601],[3]],
-"xbb0dbc699c1b0493":[[3502,3372],[14,4]],
-"x7fc95f09b202da47":[[3808],[2]],
-"xe62dc15fc7ebbf30":[[1676],[3]],
-"x6983ae1942def68e":[[652],[7]],
-"x8ca41fc01aaff5f0":[[3834],[3]],
-"xa67d1e3a66b8b981":[[594],[6]],
-"xf8015aec58f6d28d":[[2378],[3]],
-"xe898cb9363958974":[[1611],[19]],
-"x67fa97ec36020050":[[3690,3299],[29,8]],
-"xd45914bf05f0ae50":[[2107],[5]],
-"x72ac351c3b186992":[[1763],[1]],
-"x3cdceade9a0c3d32":[[1026],[3]],
-"x3cdae8d8022f24c6":[[3699],[1]],
-"xb04edc1b4faea481":[[3902],[12]],
-"x154a5f83fd092c9":[[1380],[5]],
-"xbc774dcc71870026":[[3811],[3]],
-"x301913c7eb4d2e90":[[723],[48]],
-"x810beffee0138d26":[[405],[9]],
-"xdbefcaf48b921a5e":[[1878],[3]],
-"x7575475a45e838ce":[[3902,1618],[19,3]],
-"x3b46bc633c27a2b":[[3372],[3]],
-"x8b527c47b3e75da4":[[405],[4]],
-"x2e9b44bd928ba59a":[[3761],[8]],
-"xca166cbc925c21cd":[[1561],[3]],
-"xd621916956edf46f":[[1763,1762],[6,5]],
-"x8763831271adde19":[[3826,3502],[8,4]],
-"xb960d466a822d9fe":[[3177,3307,2908,3169],[174,15,10,6]],
-"x5f691b99aef4ad05":[[209],[12]],
-"xaf55be0bda7cf9d3":[[722],[6]],
-"xc33ea18fd41c0739":[[2331],[3]],
-"x9c4df69c2e5fd147":[[3947],[3]],
-"xf4ce44daba14509c":[[4013,3112],[5,3]],
-"x603bde6d1e1ba201":[[1893],[6]],
-"x5a7488de9032b32e":[[3372],[2]],
-"x23db2a38b0749367":[[235],[2]],
-"x4c5e0c03a3c9f664":[[3833],[3]],
-"x18d99f03767acc7d":[[1164],[3]],
-"x440879533673c628":[[1827],[6]],
-"x2cd47560b4bd931a":[[2609],[8]],
-"xffe5d75f6b44ec5b":[[3436],[1]],
-"x4d1110342b881851":[[3808],[3]],
-"xe41ac75ac94f6663":[[3756],[6]],
-"x111e6bdf3f35e0d2":[[3902],[2]],
-"x7889863cd3ef877c":[[3641],[4]],
-"x1a06bdaa2f3ace7b":[[332],[2]],
-"xa99a9ca949d97cd4":[[1764],[3]],
-"xf428057cbb1b494a":[[853,202],[32,9]],
-"x4751e930ab23bf28":[[2940],[12]],
-"xd176f072ca26587f":[[3699],[10]],
-"xbf47b0320adb1dea":[[339],[6]],
-"xf63633fe80f42a3a":[[918,796],[7,3]],
-"xc929956ffe754cc":[[3699],[2]],
-"x93ba13d9e118811e":[[853],[2]],
-"xc93c5a912b26bf65":[[3808],[3]],
-"x70ef64a86048e529":[[405],[3]],
-"x9e5c6518b0c0fad0":[[2926],[4]],
-"x9a14591f84639e85":[[991],[4]],
-"x550e9f8afd36f25e":[[332],[10]],
-"xc6f33649748851a3":[[1876],[6]],
-"x516d5d7406978d04":[[262,2154,658],[57,23,4]],
-"xbdd406a3b8876943":[[82],[3]],
-"x523b2d604fdde297":[[82],[6]],
-"xce1c4fa35f94e94b":[[2460],[74]],
-"x80533915e338a742":[[1763,324,593,983,139],[30,17,13,10,4]],
-"x563ffe5bd5ec6954":[[3769],[6]],
-"x3cfd3525bc6a539b":[[733],[4]],
-"xb4f5912ac9dd4514":[[1762],[5]],
-"xd6fda3d64f363d23":[[219],[6]],
-"x4c6f0fba612df4ba":[[2658],[3]],
-"x377759ef45ff33ef":[[3502],[6]],
-"xae1a26561bbcafd":[[262],[3]],
-"xe90db4e30014d466":[[918],[3]],
-"x2da817b728c5ef0b":[[2658],[3]],
-"xb7e21d31fae00739":[[4020],[12]],
-"x4226e56b727d7409":[[2910],[10]],
-"x81d784c0f87a475a":[[3828],[4]],
-"x379a85671ec6ef9b":[[723,196,204,82],[16,4,3,3]],
-"x756b94461c50fb0":[[1827],[103]],
-"x49fd7fb931c4cb5e":[[3902],[6]],
-"xbe15c7cf540fa263":[[2787],[3]],
-"x7e690b0b71797c0a":[[3364,3242],[9,4]],
-"xbcabf65b1bbaa640":[[398],[8]],
-"xdca186197708e36a":[[731],[4]],
-"x3db07f298f0ec2a6":[[3364],[4]],
-"x5b86880f39fa5cf8":[[3902],[14]],
-"xac4a1979160a3672":[[2251],[6]],
-"x48a9e2f1f2b3dd2c":[[1380],[2]],
-"xe3411da6a8f74659":[[3902],[8]],
-"x97d62cb7c3d0f80c":[[3365],[2]],
-"xd1505a5fc684766f":[[926],[6]],
-"x6968dfca4fcd2ee9":[[2204],[2]],
-"x95a9dfbad25eda14":[[3893],[1]],
-"xb55f300112c861c":[[3826],[3]],
-"xa9b6fdaff0b3ccd6":[[332],[6]],
-"xd38b146d91780d82":[[3958],[12]],
-"xf3d11c1ee0ed2b07":[[2657],[2]],
-"x2bd7fe18c9fb14a0":[[2842],[2]],
-"x69bf868fee5e12b7":[[1632,1633],[5,2]],
-"x78a74ec953fe5b40":[[3961],[3]],
-"x3f89b3990ead3ba3":[[3178],[4]],
-"x17d90a3ad4594e2e":[[3690],[9]],
-"x9784d7ee2abfcde3":[[2802],[2]],
-"x1f80cfcf20eda1bc":[[2220],[6]],
-"x96f4c5088bf1fc04":[[3950],[3]],
-"xb1947b5bd86b2263":[[3566],[15]],
-"xc360158e11f709ff":[[3826],[5]],
-"xa5c09acb6f051da":[[323],[6]],
-"xc3f5fed7c69e6c2f":[[3112],[3]],
-"xf5c1cae3075b35aa":[[213],[6]],
-"x9970fb23794e348c":[[2463],[6]],
-"xa528feb57ee657b3":[[1293],[3]],
-"x62ed0a79946f0e2f":[[3742],[4]],
-"x4db509b300a049b5":[[4031],[6]],
-"x60f58a150a458f9a":[[1699],[3]],
-"x43849090dce94a59":[[3763],[3]],
-"xe233cec2b87eda7a":[[3956,3567,3749],[24,6,4]],
-"xa33b1f630f044b42":[[1652],[7]],
-"xb4f1b6316a8c706":[[2919],[8]],
-"xcc6054db337f2c44":[[2203],[67]],
-"x9120dcb65e2d895f":[[1355],[5]],
-"xcd7a4e58843994c1":[[334],[11]],
-"x3455eac973e50594":[[262,731],[40,19]],
-"xde2ea89b8ceaa1be":[[1179],[5]],
-"x30305f3b87aca0c":[[1672],[10]],
-"x27fcd44c9507a536":[[3803],[5]],
-"x1a5c36b1534139c":[[1681,1683],[45,15]],
-"xfe28f581e1d1c6bb":[[1355,157],[4,3]],
-"x5522b1811723700d":[[3963,2274],[3,3]],
-"xfde04f315500029e":[[666,262],[5,3]],
-"x4ddb910d3592d3a3":[[391],[9]],
-"xbbb03ce35254651f":[[2203],[4]],
-"x32dbdd5967b447df":[[3299],[6]],
-"x7eab5db4882593d7":[[262],[4]],
-"xf9cf22db2220c00a":[[3306],[3]],
-"x2207bb5a1def9c1a":[[2477],[7]],
-"x52bca9285efa348a":[[2851],[2]],
-"x3d9c6535b26d4cb1":[[3502],[4]],
-"xf9e439a38e63fc48":[[148],[3]],
-"xc6138a1069c96c44":[[1511],[10]],
-"xdc96f85526015eb0":[[1380],[5]],
-"x714e8db1b84c5925":[[203],[9]],
-"x509fed92978dfa8f":[[2738],[3]],
-"xacaf9df7b0dc28ec":[[3242],[3]],
-"xf77c1dcff8311d74":[[2203],[3]],
-"x3b7244452829df28":[[594],[5]],
-"x18919e2cfba4d2f0":[[1355],[5]],
-"x34821d50254cd26d":[[2722],[4]],
-"x91fd9d423ea6606e":[[3242,3112,3690],[54,6,4]],
-"xdc6a98ece7b7c53d":[[2267],[7]],
-"xefe3d14cafbb1550":[[101],[6]],
-"x64447537a2f50989":[[1932],[3]],
-"xc25db1b5d2936e94":[[2542],[6]],
-"xe78753288222fa3":[[3641],[3]],
-"x1bab789f5d0ba4f1":[[3234],[4]],
-"xf56bd10293df463a":[[3958],[27]],
-"x7d6eead8e42a83e2":[[3956],[3]],
-"x4344504d71b41cfa":[[1676],[19]],
-"x4910dc0a88af22f5":[[2346],[2]],
-"xd548292c8e50c204":[[334],[47]],
-"xff07ba42c7f75650":[[2396],[2]],
-"x2e7a7dcfae528901":[[3761],[3]],
-"xc1e8b667ee98301b":[[2802],[6]],
-"xf04c7f99c8a60ed1":[[1553],[3]],
-"x70778164a37f592f":[[2228],[16]],
-"x480ee9b50e1f4b5a":[[3688],[3]],
-"x542cd2f0e2e2d900":[[2023],[3]],
-"x57105cffa5de5f15":[[1553],[8]],
-"xff125d8a31f6506b":[[3761],[2]],
-"xbcebb1662be156c":[[1244],[2]],
-"xe358a31df9ddfc05":[[788],[4]],
-"x2197a17f3e4fc7f9":[[3567],[5]],
-"xc3e9db17239e0c55":[[3902,3299,3242,2609],[20,9,4,4]],
-"xf103a35374bd4681":[[3169],[6]],
-"x85c78523ff658995":[[137],[3]],
-"x51580702ab94a266":[[1],[5]],
-"x68a2c913ec88b0c":[[2136,2138],[12,5]],
-"x1d2332e2880edb5e":[[3309,3821],[3,3]],
-"x1c53ece9c91ca04a":[[1049],[2]],
-"x24f565829411f6f1":[[2323],[6]],
-"xe8b3ed38be967467":[[209],[13]],
-"xbd1b9e5c26c996fa":[[853],[23]],
-"x72e175934b1f7b65":[[323],[5]],
-"xea5f173b4ad2d6dc":[[3690],[5]],
-"x9965ae2e9655812e":[[3251],[3]],
-"x9f2b0509a332e1f6":[[1763],[6]],
-"x3a13cbfcf085b34":[[3690],[3]],
-"x90e0bcf17b6fa3f4":[[262],[5]],
-"xad88dedb72666fe2":[[3177],[4]],
-"x73088d98c4105a63":[[3902],[26]],
-"xff9d0194c8db1a1e":[[2202],[4]],
-"xadfbb4d57ff62372":[[3234,3956],[8,3]],
-"x58d847f7459ed8e4":[[2355],[6]],
-"x7ecfe6ffbb79d3b3":[[918,405],[10,5]],
-"x32b425f140f22661":[[2291],[3]],
-"x42eb4c412ecf5067":[[1803],[4]],
-"x452c91fd0dea0cca":[[677],[3]],
-"x350e36920958beeb":[[203],[6]],
-"x3ab657e46ca09ec9":[[3956],[6]],
-"x1de2a576a851b17b":[[2419,2391],[6,4]],
-"x65fd6ac9f7330595":[[3826,3817],[15,11]],
-"x6d82e5e48338902f":[[3817],[4]],
-"xd460cea3ebc785c8":[[2347],[3]],
-"xcfcdf04babd08240":[[3567],[22]],
-"xa46d740a0acff2d5":[[812],[6]],
-"xc8dcf5bc045900e5":[[2715],[3]],
-"x76bf594a2632764f":[[3690],[2]],
-"x37842f1597e681f":[[2592],[6]],
-"x116684cd70c06668":[[790],[1]],
-"x80a9e752375b9f1":[[3242,3325],[7,2]],
-"x905632beb4f48406":[[1412],[4]],
-"x181e48fab32cb57f":[[2476],[2]],
-"x7c1c2eaa0d08c6a":[[658],[4]],
-"x394a15c6dd9ab5a0":[[262],[3]],
-"xac53b218986571d8":[[3761],[4]],
-"x299e61d0a466e39d":[[2285],[3]],
-"x53b74926546bf1a1":[[262],[42]],
-"x9a31aa04745f357f":[[1676],[4]],
-"x45f75618130af102":[[3374],[1]],
-"xb85da2714b660e26":[[2720],[5]],
-"x9995260200b4dbd0":[[203],[10]],
-"xda7b15675d63f4d1":[[721],[15]],
-"x728c44df35032ffb":[[262,82],[12,8]],
-"x688d4a033c911d61":[[346,129,353],[42,10,2]],
-"x3614a7526289eadf":[[1358],[4]],
-"xb1119c5d9599d3cd":[[3902,3690],[3,1]],
-"x27ff31e5ed92fe09":[[926,262],[8,3]],
-"x3501d6c1e2b92216":[[3761],[4]],
-"xb5bc3ad9144aafa6":[[3958],[8]],
-"xa72f95130eddccff":[[1827],[4]],
-"x5ab319ee8a047c66":[[2908],[3]],
-"xcde53f8044d0bed9":[[3641],[2]],
-"xbe78b1ba578d24":[[2421],[3]],
-"x4c917395d9d81c06":[[1762],[6]],
-"x38e5cf58d286d6aa":[[1371],[4]],
-"xc4bb1d2483b033e1":[[3242],[5]],
-"x93e4b83c0652d6aa":[[3834,3826,3833,3902],[9,7,5,3]],
-"x8ad89ec061ca6c0d":[[3761],[11]],
-"x978b240197030fe5":[[3242],[2]],
-"xa30da490aa3a9366":[[983],[2]],
-"x6cb6718b43ea6475":[[1],[3]],
-"xdbdbdcbb374b703e":[[3902,3177],[8,5]],
-"x36c35bd1fac4810d":[[75],[4]],
-"x6dfcb6fb3700c3f5":[[2915],[8]],
-"xf59f400e90e945ed":[[3234],[4]],
-"x501f3c96f4dcc33e":[[1242],[6]],
-"x21879c68451bf4ec":[[3699,3964],[5,3]],
-"xbea8c5e0984bcc1a":[[2139],[3]],
-"x164a8a62c469a880":[[983],[9]],
-"x914ea81d63e718eb":[[2396],[42]],
-"xcb2c75392e03c5b1":[[2998],[3]],
-"x7910c768aaf8dd5c":[[3902],[2]],
-"x5d4c900db86dd2de":[[3234],[15]],
-"x2323486dfaa4d892":[[75,203],[11,7]],
-"x2669a454b1bf21ff":[[1371],[7]],
-"x58da17a38548bb64":[[2579],[3]],
-"x47fc65b4fae30dd":[[3699],[3]],
-"x7c96505479995aaf":[[3372],[3]],
-"xd6af907801830393":[[918,82],[257,147]],
-"x1e4b905af39373c":[[2463],[4]],
-"x2c2522764eb394d7":[[3763],[5]],
-"xabb917e1f05cdad1":[[82],[3]],
-"x4c05c002e36c7f85":[[1698],[1]],
-"xe4f7befcd8cd2807":[[270],[4]],
-"xc313e94838649d89":[[3947],[6]],
-"xc15d85c58816c61c":[[1763],[10]],
-"x2dc2660ba9cfca75":[[2260],[4]],
-"xb7e6055f58876a81":[[262],[6]],
-"xf3b92e1610d76021":[[1242],[55]],
-"x1746fe1ad0889a80":[[3956],[5]],
-"x4dbc09f2fb87bc29":[[262,731],[15,6]],
-"x52531cdb4d8b7b44":[[2908],[9]],
-"x95df3dca5b293445":[[137],[3]],
-"xace348fb5bbc2225":[[3690,3817,2203],[8,5,2]],
-"x7f02189bfa012d5":[[660],[9]],
-"x1639b67582df6684":[[2316],[5]],
-"x4ec3f0d1db16f01":[[3763],[3]],
-"x9fd0aecef28332c7":[[3752],[5]],
-"x872728c86e8b653a":[[334],[7]],
-"x8b7a88f019ecd044":[[1698],[8]],
-"xb81b5de4e8a16f71":[[2387],[5]],
-"xec0f9b2019323c64":[[1770,148,1745,1765],[47,40,6,5]],
-"x981988ba36d17a35":[[454],[4]],
-"x6f4f8674223a128e":[[1372],[4]],
-"x81ca46c7e8341378":[[1941],[1]],
-"x224063d13f295a30":[[324],[18]],
-"x271aaf451eb51d56":[[3502,3372,3307,4013],[113,62,31,7]],
-"x27c673c440bea48b":[[3234],[17]],
-"x1b452d6f8f2c14a3":[[3643],[3]],
-"x9e8a2251170de830":[[339],[14]],
-"xb0aa23959f412260":[[213],[3]],
-"x7c70a2a7d57471ec":[[2333,2787],[5,4]],
-"xe7bdc5643145acb4":[[148,1164],[106,4]],
-"xbb9a4ef11509bf89":[[3429],[7]],
-"x9e613142cc7a7e1f":[[1308],[3]],
-"xc42e2601bbc8baac":[[3616],[9]],
-"xfc85e05a806dbee7":[[536],[5]],
-"x92d4d6208fc94bcb":[[1958],[3]],
-"xccff0200104b92e1":[[3112],[7]],
-"x44b0ade0df2efdd1":[[1676,1683],[34,8]],
-"x36ae7f5a9d0705e0":[[258],[12]],
-"xf55376888ed9952":[[137],[5]],
-"xad8488def4f5024d":[[1941],[3]],
-"x5bb5406f2c15bbca":[[262],[5]],
-"x9610731b8369e93b":[[82],[3]],
-"x1cf966997af416d7":[[1187],[4]],
-"xc39f4c4cdf798cb9":[[2202],[3]],
-"x37a5904599cd2c34":[[1770],[6]],
-"xaf7b1837005ba1e0":[[3929],[4]],
-"x4a172e4f0900b75a":[[3299,3502],[8,5]],
-"x4b60d5448aade413":[[262],[5]],
-"x6febf66478f28758":[[3808],[7]],
-"x597f84edb6c1ac52":[[3902],[1]],
-"x5091d869b47ab194":[[3306],[2]],
-"x4e630a6a5fc9439c":[[594],[3]],
-"x82d20f8cb08cfe52":[[3964],[3]],
-"x8638eb7035030e50":[[2325],[3]],
-"x3d51e2f592083845":[[3379],[3]],
-"xcb8783f32e8d2a43":[[3299,3826],[5,2]],
-"xd0dce4848b4c9e02":[[3761],[1]],
-"x2171427fefed3e29":[[1765],[7]],
-"xc0f6b670c73d55a0":[[3811],[2]],
-"xa5587a5bfd0a9365":[[203],[3]],
-"xcbc756c93189dc3f":[[3688,3502],[3,1]],
-"x7ef7bd39a3ba5699":[[1762],[10]],
-"xdea41678593b87df":[[1827],[1]],
-"x47b4dd1f5bd120ba":[[3827],[6]],
-"x2b6c95c0f4cc5a2c":[[2463],[2]],
-"x47576302cbb47e18":[[1187],[4]],
-"x2c037aef8810237c":[[262],[6]],
-"x73af115591472dec":[[324,1681,658],[16,11,7]],
-"x51ef8fe664310661":[[3436],[3]],
-"xacbbb1aa99c029e0":[[3690,3956],[6,3]],
-"xb573965895ba07f8":[[861],[3]],
-"xf492e4933b25630b":[[3642],[5]],
-"x46dbe7489581b66b":[[1763],[3]],
-"x3975f315007829a9":[[1307],[3]],
-"xece39e3998777c5e":[[2203],[7]],
-"xcc7298cef441c622":[[2919,3177],[14,1]],
-"xbb8586f84d6debc1":[[222],[6]],
-"x21b51c631200902d":[[3808],[2]],
-"x7c18a24683ccee6c":[[262],[2]],
-"xccf9a7401f992e39":[[82,983],[26,12]],
-"x2a50a9ce8c853c3f":[[528],[3]],
-"xbdca831db3f11391":[[3761],[5]],
-"x37a18ee89e298231":[[3902],[4]],
-"x2af1bc61561e9844":[[536,346],[17,16]],
-"xd61642d0d9c6ac20":[[1318],[1]],
-"x7995ded6599a959":[[82],[4]],
-"x271826d0ec4f219f":[[3752],[3]],
-"x9f0ae5c32fb9a301":[[536],[4]],
-"xa050bacb7ff165d2":[[219],[8]],
-"xda087198916e90fd":[[2453],[6]],
-"x93106bbd1db687eb":[[262],[3]],
-"x37b144ab442d4d6b":[[1307],[3]],
-"xace300916fc57c4d":[[82,918,731],[356,107,21]],
-"xcbffba2d11c4a031":[[3902],[5]],
-"x8267f664c0e271d8":[[731],[5]],
-"xe6d1e57743aeb067":[[1828],[3]],
-"x40c87687cf7ea9b0":[[1438],[1]],
-"x7ca8c97cacfc59bb":[[262],[3]],
-"xc2b7d4ce9f9f3868":[[1115],[3]],
-"x94088d921eed9919":[[3643],[4]],
-"x501ae49453fbbc21":[[528],[3]],
-"x1f694dc0ce126afc":[[202],[6]],
-"xd2b5dd617cf1f043":[[3169],[22]],
-"xe177c1073fcbea5f":[[129],[4]],
-"x6b72fc84ba1255e5":[[332],[6]],
-"x8cb48b7dd349be05":[[323],[8]],
-"x96973ca009762679":[[148],[5]],
-"xaf34d7c00a6f8860":[[731],[11]],
-"x49b21d7a485fb1bf":[[3756],[3]],
-"xbc9e21a74bde8a3c":[[203],[3]],
-"x599d0db835b3b33":[[2931],[6]],
-"x34093f2e1a757f43":[[203,346],[38,5]],
-"xbd76eed78c6ced03":[[3298],[2]],
-"xdcd84cd1511b0498":[[3699],[5]],
-"xefede7f946310999":[[323],[8]],
-"xbc2dd33d88dceecb":[[926],[4]],
-"xbd52d3a6fe1b15d9":[[396],[3]],
-"xfcff62072124cb59":[[4013,3372,3169],[24,15,6]],
-"xf9cacb627f13aec2":[[3902],[19]],
-"x817de75e0b171a92":[[3963],[5]],
-"x55fce74e248774b1":[[262],[3]],
-"xc01a1d56cffb8578":[[3112],[5]],
-"xf498cb5bc2295b31":[[2908],[3]],
-"x4b85e79b26c47d28":[[3699],[2]],
-"xe1ec93af52908180":[[1379],[3]],
-"xdac8d305643d92c9":[[203],[9]],
-"x24fb615618da7afd":[[2347],[3]],
-"x50c258177010473":[[4013],[5]],
-"xabc88ffad9870582":[[2128],[3]],
-"x964997463abfd1b0":[[2258],[216]],
-"x69934d7b590c0988":[[536],[9]],
-"x8853b67d98f71ec5":[[658],[5]],
-"x4109b7480ff7b589":[[3892],[3]],
-"x9c08cc53c3906dc3":[[3929,2722],[50,3]],
-"x9434f2208fb6c6fc":[[3902],[2]],
-"x3713c2b5efcd647b":[[3690],[8]],
-"xa5cb1482291fca":[[454],[3]],
-"xad1f1e6e2efde3c3":[[3902],[2]],
-"x860196c058a9d246":[[729],[14]],
-"xca003b57828150e0":[[398],[5]],
-"x613c8d22637379c2":[[3374],[8]],
-"x3f39041eb3b6052f":[[2124],[4]],
-"xd335c55c95dd0e7d":[[3828],[2]],
-"x498106ab61164815":[[3826],[9]],
-"x8a4cf5925d14c1ac":[[594],[6]],
-"x508bde21116c8455":[[1380],[14]],
-"xddeca6cf8fdc015f":[[3234],[2]],
-"xe6f271b5a8b0a11":[[3567,3956],[71,5]],
-"x879fd27fa1283ad8":[[1568],[6]],
-"xc7a8040dccc72680":[[1828],[79]],
-"x5f403583075bd953":[[3902,3234],[7,3]],
-"x9cd4ef3786822136":[[2414],[46]],
-"x50790f680fc0fb0b":[[2609,3902],[11,1]],
-"x7f868b66e1f0d35e":[[3112],[23]],
-"x6c1d39f478bae446":[[3966],[6]],
-"xa739040cbe6aa557":[[3962,3963],[4,2]],
-"x75c060b2c71860f8":[[2720],[2]],
-"x3986324855d0e233":[[536],[6]],
-"x6b15c6371b3eeb9c":[[3947],[2]],
-"x6845c2d63985b531":[[2426,3372],[12,12]],
-"x626c8ae3742eeb2f":[[3169,3690,3956,3699],[130,13,8,3]],
-"x6303be6295c8a049":[[1761],[72]],
-"xaa0d0ff55f1b402f":[[3567],[52]],
-"x4c685f9010304be5":[[3763],[4]],
-"xe800794fda427cfa":[[2919,2137],[13,8]],
-"x1011c7d2116f75d3":[[405],[3]],
-"x8252ff7e0dea6bc":[[3372],[3]],
-"x9680836b0037cd07":[[3307,3826],[18,17]],
-"xb0e4d63c94b0e8bd":[[9],[3]],
-"x8b430105ad804dc1":[[2594],[10]],
-"x5838d6b87ecbffd2":[[262],[2]],
-"x3b0dbda2a58a1714":[[4006],[4]],
-"x4becf05f33908b5e":[[3364,3234,2787,3502],[11,8,7,3]],
-"x9f604bc4890af52d":[[723],[5]],
-"xf010afc18836c41e":[[796],[6]],
-"xc93bd55b0a30758":[[2],[2]],
-"x25f80aa8eb69b32b":[[1420],[3]],
-"xa8dc18e90cf2e120":[[853],[12]],
-"x32281962ea945363":[[339],[1]],
-"x5fd847e26ccfa26a":[[594],[4]],
-"xc846abd2f4b531fe":[[2220],[4]],
-"x25f2b232009b3fc1":[[2541],[5]],
-"x8c3c42b71ed15da9":[[2802],[4]],
-"x4448646c44f4a50":[[3808],[3]],
-"x1ac61aed162d0d92":[[729],[4]],
-"xa764caa12240b95c":[[2931],[2]],
-"x13592d293859007d":[[3742,4013],[51,12]],
-"x91c3ca5997761b1":[[2331],[2]],
-"x310ef8be62cfbd85":[[4029],[3]],
-"xdaeb4c2a2a2a8db8":[[2228],[8]],
-"x59b3ffe3d17d21a5":[[2331],[5]],
-"xc191f5746b7088da":[[1439],[6]],
-"xbe4ee2834fab39c1":[[1913],[3]],
-"xd622d3cec15d0179":[[3454],[3]],
-"x6de8319715b51f6a":[[2347],[1]],
-"x7e9757c44d7c861e":[[3299],[11]],
-"x97db6814f93ec17a":[[3234],[15]],
-"x2c0d3f08917f3edf":[[1770],[3]],
-"x2ad9fc7a34b86f69":[[2137],[6]],
-"x19a09cb8193dc94e":[[262],[16]],
-"x15293f3c9cef693f":[[82],[11]],
-"x308ec3323481dbe5":[[536],[8]],
-"xf49b07a0af2d535c":[[2999],[13]],
-"x3dbd5b87f44b2078":[[3929,3956],[27,12]],
-"x9e3a1f80ef8ddcf2":[[2908],[2]],
-"x367649061cefd460":[[3756],[3]],
-"xb8a03f9503f561e2":[[601],[19]],
-"x81ae80dc23b9f793":[[731],[5]],
-"x4bcb68b9e3cfa936":[[2541],[1]],
-"x1939a3e905cd6486":[[1828],[6]],
-"xa665d9c54629c52f":[[2136],[26]],
-"x96b565204141ca1c":[[1699,3],[14,5]],
-"xc5816d20aa5865f4":[[262],[4]],
-"xa0bc5a08068a38ce":[[3817,3826],[4,3]],
-"x50025b572b022c00":[[2331],[2]],
-"x5abef59dfbd849d3":[[391],[4]],
-"xd87103a6610271f":[[3956,3826],[3,1]],
-"xe6035baf0823b8dd":[[1837],[11]],
-"x6521ff47f93fd502":[[2740],[3]],
-"x24482c561a2ceb2":[[3756],[4]],
-"xb4d7a0a6b5e01564":[[3502,3364],[6,2]],
-"x12e08c7a2530d5a4":[[262],[4]],
-"xc8c2da03723c7756":[[1618],[17]],
-"xab9a57be46a99278":[[1180],[4]],
-"xd2f7c12c903cf26":[[593],[7]],
-"xd24e79c90259500a":[[324],[6]],
-"x713b95c17ee0d7a6":[[3803],[3]],
-"xd3c6a70932e84675":[[3958,3299],[5,5]],
-"x9d9424d17c8bb30f":[[3762],[7]],
-"x340828823f093274":[[204],[6]],
-"x81176408e3775a51":[[1164],[2]],
-"x2d22630cb39699b0":[[1681],[3]],
-"x4bbc62bea78c8250":[[137],[2]],
-"x7557e679509e25fa":[[339,2463],[5,4]],
-"x942caf5beed864fb":[[3189],[6]],
-"xef31753590e69d09":[[3641],[3]],
-"x7b4cf53204809350":[[773],[6]],
-"x24da88799ffe2dc5":[[918],[7]],
-"x1d1ce25219fcd80f":[[322],[4]],
-"x298d1aea5963ecb6":[[3169],[3]],
-"x92140cb177d58ffa":[[196],[4]],
-"x839b4fd2a3addd1b":[[1178],[3]],
-"x991044dfddb93014":[[2390],[6]],
-"xc7d7ae52fc40c384":[[334],[3]],
-"x3c779c871927ff39":[[75],[2]],
-"x4353ab8b8f4997d3":[[2208],[3]],
-"xcad6cc9a91affc5e":[[405],[5]],
-"x3e73947b53222c16":[[322],[4]],
-"x2ec0a97e11850406":[[1643],[7]],
-"xd56d72226c3094c4":[[3234],[89]],
-"x86ea1b8017a003b1":[[262],[4]],
-"x3c1669bac1737add":[[787],[8]],
-"x184561acf97ab0ce":[[2931],[3]],
-"xd48ad07363de5d7b":[[3958],[3]],
-"x709494157e3f2e05":[[2917],[4]],
-"x143bad111da668c3":[[320],[6]],
-"xb32765cef0a499a8":[[339],[4]],
-"xfd5228425ce16d6d":[[918],[6]],
-"x31e51c93f494d60c":[[2217],[2]],
-"x5ccd625ce8b10198":[[2738],[3]],
-"x26a0f6aaf863d525":[[300],[6]],
-"x787ae4204fe5d13e":[[1698,790],[6,3]],
-"xa3a165acca682ee6":[[3828],[2]],
-"x4504f0490d24c745":[[2285],[4]],
-"x6b49b25e0d21fca":[[658],[4]],
-"xf69ffd2b407c7492":[[3177],[2]],
-"x454138a1a6d52a30":[[2413],[6]],
-"xe5e1cd70aad5e578":[[203],[4]],
-"x72a52503c5ed58d2":[[148],[12]],
-"xf114f1705a3c953d":[[3169],[8]],
-"xb3bc70d2d7bec476":[[324],[1]],
-"x21de2efd85e1e033":[[601],[2]],
-"x876714fe4a888036":[[1373],[3]],
-"xba26856371595aa5":[[657],[3]],
-"xf6667c3fd3f86f99":[[983],[2]],
-"xb5fef283fa89659d":[[81],[5]],
-"x719bdc6d00e15a8d":[[732],[3]],
-"x676745df87191d92":[[1699],[14]],
-"x8367bfd0c853d001":[[2195],[4]],
-"xd0305735b1897349":[[3891],[2]],
-"x74bc5bdebb4a4771":[[3756],[3]],
-"xc59005d6be76dcd7":[[1371],[4]],
-"x4c80967a83ec1fbe":[[3746],[15]],
-"xf1766a398dba3b88":[[1675],[2]],
-"x575194aaea9595d3":[[3641],[3]],
-"xe5ca41fe7b348f09":[[324],[6]],
-"x2b89fb760a7882d3":[[1348],[3]],
-"xe1e7edd47c465ccd":[[3242],[3]],
-"x492b4e1373ab6e26":[[166],[19]],
-"xac3ab8b9eb9482d2":[[926],[3]],
-"x2299d7ceb557ec1c":[[593],[4]],
-"xce19cc786486acad":[[334],[13]],
-"xdf68ac49cac2a05a":[[861],[37]],
-"xffac46ae8aaabc2a":[[2845],[3]],
-"xc00a94ea83d159f7":[[3169],[6]],
-"x4492f2c97cfaa9ad":[[1762],[7]],
-"x47ccc038e620cd72":[[3429],[3]],
-"xa8cd01dd1cca20a0":[[219,1371],[24,4]],
-"xd801b66d774d157f":[[323],[3]],
-"xafab17c8ab8002a5":[[204],[3]],
-"x23307fd9ffa79942":[[3298],[5]],
-"xdc58a8ad9af3ddb5":[[926],[5]],
-"x40b80221d1ec01b":[[1048],[3]],
-"xc9a8523576dd0db6":[[3762],[3]],
-"xebe3e40bb19e8f28":[[332],[3]],
-"x3291937a64a8f908":[[213],[3]],
-"xeef5f36f60735fec":[[262],[5]],
-"x18b639a1b64d9e04":[[1700],[6]],
-"xefc35921a3969eb5":[[1652],[5]],
-"xf18bd168473cbdce":[[1941],[13]],
-"x5375c1a61eafff00":[[1371],[727]],
-"x252f98340b3ed265":[[2203],[6]],
-"x4bb60fa9f9270f9b":[[3690,3242,3299],[33,5,2]],
-"x33b7a91d4e06c7e7":[[1180],[2]],
-"x9b27a7a01ac57caa":[[323],[3]],
-"x431bd37be20c9365":[[853],[2]],
-"x169d7e51760bedbb":[[788],[2]],
-"xdaf5fb19670a32a3":[[405],[3]],
-"x7a5f5374b384ae34":[[204],[7]],
-"x6c2bd49eb790d0ad":[[528],[3]],
-"x13c0de9acd5e9320":[[405,353],[67,31]],
-"xdddbb8d2b53b2984":[[1699,216,731],[53,16,6]],
-"x45b5b17e07934bc1":[[717],[4]],
-"x4aef928f1cfe26d0":[[2593],[2]],
-"xe5849fe25be68ad2":[[1180],[6]],
-"x4c0e1bc3c8a851f6":[[3957],[13]],
-"x6a29a7ca445e4c25":[[2090],[6]],
-"x5bfe4616e4bb7ce3":[[323],[3]],
-"xf83134cb533d5add":[[1763],[11]],
-"xb2c8031c7e86da9c":[[4013],[1]],
-"x7a179e6c79ef6847":[[1770],[4]],
-"xc1d186c9eaf0f99e":[[82],[1]],
-"xda0d55b893f54b63":[[3761],[2]],
-"x954027b3d1903744":[[2915],[3]],
-"xc7f65aa678f953fb":[[536],[3]],
-"x824d6bd2639ae6f1":[[594],[4]],
-"x962ed547b3ef8980":[[1770],[5]],
-"x21fb982f6e01c0ab":[[918,82,731],[113,27,18]],
-"xa2dec7ac3cdf08d2":[[2915],[4]],
-"x4198db03f11aeda8":[[3902],[20]],
-"x3d584234699f1a85":[[3958],[4]],
-"x9dd67d7b7063ddf4":[[723],[4]],
-"x4f9262c4bbfb3208":[[918],[6]],
-"xdddf8b01fe72a8d1":[[3756],[2]],
-"xd42050704ae982ab":[[854],[5]],
-"x2b475aa887a753e4":[[790],[6]],
-"x107e976a5bfdecdc":[[262],[3]],
-"x9977049bb324a5a9":[[2931],[3]],
-"x2d631e3f87e5d655":[[3963],[5]],
-"xebde25f9bc7cd946":[[3069],[1]],
-"xa7ed29d3c0aa7f02":[[3437],[9]],
-"x497caf9ae1da0115":[[129],[3]],
-"xcccf06df8d11b419":[[795],[4]],
-"x6bb82f9afa41687d":[[2349,797],[30,5]],
-"xe36b8de48555a83a":[[3956],[7]],
-"xd92237fc14cd1d9":[[790,528],[12,8]],
-"x4688dc44f86e8d34":[[677],[3]],
-"x72e1d268814b4233":[[3902],[6]],
-"x9150ab90fcec10f4":[[3902],[3]],
-"x2550ae4451b9666c":[[262],[4]],
-"xa35e50abf8cc094d":[[1706],[9]],
-"x760709d2a7bdbed2":[[202],[6]],
-"xc81ff39481170d1d":[[787],[3]],
-"xdc7f0ad5a665f739":[[334,666],[30,6]],
-"x5114b57f80882eac":[[3699,3902],[35,3]],
-"xf7f54649193b93b6":[[3761],[4]],
-"xcf6be6487e25910e":[[3112],[4]],
-"x613e92615a9cc247":[[1827],[17]],
-"xbafa1c19c139dc20":[[2074],[4]],
-"xffb22b7f764aed22":[[3365],[6]],
-"xe7107296ef3555ab":[[3690],[15]],
-"xbcfe26cf3da9cff3":[[2039],[4]],
-"x77094b192f9d48c2":[[2265],[6]],
-"xda6faac1b51d47e8":[[1964],[3]],
-"x80b37d3422fb43b8":[[658],[5]],
-"xecd44fc852d0fa37":[[389,227],[5,4]],
-"xfb08df0178e3ae76":[[213],[3]],
-"xb770cf0c9c6c1352":[[2423],[1]],
-"x2e636807f3252a37":[[3756],[16]],
-"xc31bc54c1abb6e61":[[2585],[5]],
-"x47c96a5cc5f7f2d5":[[2],[10]],
-"x754cf7194f2e6a5":[[2745],[5]],
-"x7bdee9d1796962d5":[[528],[7]],
-"x35e7241b6a21deaf":[[129],[7]],
-"xa95284e96bf1b879":[[788],[3]],
-"x164e4ed38b049084":[[2650],[4]],
-"xe62d6409da990cdd":[[203],[35]],
-"xbe8cf82435456931":[[659],[6]],
-"xe5893dedfe919bb3":[[332],[12]],
-"x2fa94a3af88a3cc1":[[157],[4]],
-"xeaff72f995255b0c":[[82],[5]],
-"xbd007cfb9257c06b":[[334],[8]],
-"xb2b87b48e2d7b4d7":[[918],[14]],
-"x2f94ba38b2b74d8":[[396],[3]],
-"x71ee935c13c2f250":[[3827],[3]],
-"x66ebc9f5b5b7f63e":[[2926],[4]],
-"x71ac39ca94dbbba5":[[2918],[2]],
-"xf7140d073a31a327":[[332],[5]],
-"x5093582d7855acdf":[[3235],[3]],
-"xcc4509c696c0589":[[1372],[8]],
-"x96e2a616da6c6b74":[[2723],[6]],
-"xd70577d24b5cafb6":[[3893],[3]],
-"xae610c4683a849dc":[[1828],[40]],
-"xddb29b8a45b11347":[[2715],[7]],
-"x268516d04ad4b865":[[1371],[63]],
-"xc797bc1d4723b2fd":[[3429],[4]],
-"x7d9db56f6b1c901":[[2434],[6]],
-"xa4a537761b6fe556":[[3884],[7]],
-"xdd154f69fa543a54":[[2203,3307],[11,3]],
-"xae8f07cdb523807a":[[3641,3429],[4,3]],
-"x21ec364af185033e":[[1675],[6]],
-"x22d8827f1c30b02c":[[601],[4]],
-"x319f4691f00b56e5":[[3956,3502],[5,4]],
-"xe93b308831811695":[[334],[25]],
-"x43328dc5886c06a7":[[3287],[6]],
-"xa1b6d5f6b109f49c":[[3761],[6]],
-"x55d4227aea2da011":[[82],[6]],
-"xc52262decbdd3c3a":[[742,918],[16,5]],
-"x9913eac18f9aa485":[[3502,3699],[3,1]],
-"x88e3e76c41d266b0":[[2723],[17]],
-"x85383301858ac7ad":[[203],[5]],
-"x76c9a63cce6b57ee":[[3234],[3]],
-"x5424783dba721ff3":[[3112],[3]],
-"x929e562a4e225a8f":[[2722,2609],[28,3]],
-"xfb74949a00b82442":[[1762],[4]],
-"x6871eea3e9373683":[[2722],[28]],
-"x61bbddc8788cfce7":[[593],[4]],
-"x25405fec7ff9fc85":[[3234],[4]],
-"x2686280584b11f1a":[[275,148,853],[27,17,5]],
-"x3acea4e9feab1703":[[3902],[4]],
-"xb99b648059ae1de4":[[3363],[12]],
-"x8b99e2127468b00c":[[202,339,332,593,139],[361,334,13,6,3]],
-"xd8d5e01ba826f47a":[[3252],[3]],
-"x15051840994de2a4":[[1674,1681],[4,3]],
-"x2bd3d66749e439ae":[[3046],[3]],
-"x31276b696204cdf1":[[796],[8]],
-"xb086ba8089d538e2":[[3699],[3]],
-"xbc7674c704017cdb":[[137],[3]],
-"x899b386df4e9e7d0":[[657],[6]],
-"xd18eab5ef23f7ec5":[[594],[5]],
-"xe07883f02ddef15":[[75,1308],[12,3]],
-"x6e06bcd5961ed6eb":[[2479],[3]],
-"x2f2a318dd763e653":[[82],[6]],
-"x622f124c87faf81f":[[1],[19]],
-"xbf6814a4a8f9f19b":[[1242],[30]],
-"x56868f3fb1cc8f09":[[2463],[78]],
-"xea4d9325b8ad8f6":[[2066],[3]],
-"x6e73b5b70fb6d57":[[3699],[1]],
-"xb296279790d89a7":[[536],[8]],
-"x299d57742d485187":[[166],[3]],
-"x351d1da97e94d939":[[405,157],[7,4]],
-"x8aeb317664e12c2f":[[788,202,2],[21,19,7]],
-"x1c09f135c100df70":[[2],[9]],
-"x96999b48e8e7c7e":[[983,204],[6,4]],
-"xd320275646c089b9":[[137],[5]],
-"x48a962ce1d84566e":[[2851,2915],[8,1]],
-"x4512a61b5547cb3":[[3169],[28]],
-"xde9443b04de8727f":[[2266,3947,3929,3956],[267,16,3,3]],
-"x630b7a1be28d27fd":[[709],[3]],
-"x783f3984580ed456":[[3964],[12]],
-"x81bd1e4d3971d6b5":[[405],[4]],
-"x486cb7912b99ebba":[[3902],[2]],
-"x395eb764e7d97ec":[[137],[6]],
-"x7b5e9baf054e9925":[[3112],[4]],
-"xa821beada4672695":[[3242],[10]],
-"x977c3639d315979":[[2268],[173]],
-"xcc2b60dedc8fcf73":[[1371],[5]],
-"x2089b309bbaa4db6":[[3811,4013],[31,24]],
-"x85732b9a1776696e":[[262],[5]],
-"x24b772aae54d5b30":[[2085],[3]],
-"x9916703d6699a6f":[[3437],[1]],
-"xa25ae5b8f5c68fb4":[[3690],[15]],
-"xbeb34058d0da33c5":[[861],[10]],
-"x9652f6c44ee40477":[[1389],[15]],
-"x2867642f953169f6":[[3763],[34]],
-"xc5c4614aec828d10":[[2463],[5]],
-"x51d220b5057b43fd":[[788,796],[52,4]],
-"x865824a012790f39":[[983],[5]],
-"x8efc0d65bbe206f1":[[166],[4]],
-"x12339db7a2f65d10":[[528,796,82,405],[19,16,15,5]],
-"x777b0776c799f80e":[[1676,983],[4,4]],
-"x8bff00dfbf9c345f":[[1161],[3]],
-"xf157adef2fc60321":[[3690,2919],[8,2]],
-"x15b754592a54d86f":[[1048],[3]],
-"xa6c37df2f6326823":[[3902],[3]],
-"xa90882667cee0d23":[[324],[9]],
-"xa2d846ef9855a3ef":[[3177],[3]],
-"x58861ed00cf21c4e":[[2915],[5]],
-"x208cb3edab21a6a9":[[332],[3]],
-"x3a1f83911fc55397":[[3503],[3]],
-"xf2ef44d20054f613":[[3958],[7]],
-"x48b5a37c9494402d":[[3902,3234,3242],[178,5,2]],
-"x17d52600ee2bf6e4":[[407],[4]],
-"xfcb967306d01bcba":[[788],[4]],
-"x6ce0b104fb53a7ef":[[1762],[3]],
-"xcf061e909c2ce8b":[[3826],[4]],
-"xaa3d5ad6ab9259b5":[[405],[6]],
-"xcb68e45110816af7":[[2124],[2]],
-"x4493e334cedd101e":[[396],[14]],
-"x9d6b018b4bc0f471":[[2859],[3]],
-"x9bcd0e23f339f260":[[1282],[3]],
-"x9c47575ceb28cfa7":[[216,262],[32,2]],
-"x69ffddc04863aa32":[[3177,3902,3299,3234],[41,20,11,3]],
-"x224665e756abe322":[[148],[4]],
-"xe5de8e92f0e68dc0":[[3234],[2]],
-"x1f8c52d5e67f453d":[[405,82],[10,2]],
-"xaff3d9389d0a18be":[[731,918],[5,1]],
-"x1195277e1b1bc17d":[[2218],[6]],
-"x89ada18c41698c84":[[196],[10]],
-"x5ac7734a99d43107":[[991],[8]],
-"x598bb9ebd2a7b7f5":[[3902],[3]],
-"x302df9e40be0813e":[[1745],[6]],
-"xefb70f4d6a926a82":[[334,405],[29,8]],
-"x6c59dc7efb0d70a3":[[1371],[20]],
-"xa1b4a823471f6b9d":[[2715,3104],[8,5]],
-"xfa3d1e081ce4139e":[[1141],[3]],
-"x2e5f491db8de0c38":[[861],[4]],
-"x329f36bb11ec4362":[[1618],[2]],
-"x8ae3bf8fa4a43330":[[2850],[3]],
-"x696ab8f55ac3c7e9":[[3956],[10]],
-"x5fc667c9af4ea5c2":[[3964],[3]],
-"x8d7c86d0b048f56d":[[3956,2908,3169,3938],[764,127,92,46]],
-"x615fda7cd01e4e86":[[788],[9]],
-"xb13526892079514f":[[332],[7]],
-"x15e575b32603663f":[[3178],[8]],
-"x27f70f20c84b0641":[[991],[5]],
-"x7b65206fc79d82ec":[[1764],[6]],
-"x5a1598bc5cec2f16":[[2915],[4]],
-"x3a1458343440e6f1":[[2,731],[5,4]],
-"x2a9b324e4da14900":[[3234],[7]],
-"x66d2f89f359b2895":[[788],[10]],
-"x81352a06a30d1fd":[[789],[4]],
-"x5b2243e2d4e085d":[[3502],[14]],
-"x32537a6d90de9d34":[[1699],[1]],
-"x3cbeeba10c59db05":[[2908],[5]],
-"x778050ceb5cb3488":[[3761],[3]],
-"x4192040a0610ae13":[[3763],[5]],
-"x2d3055569cfe2850":[[3902],[4]],
-"x87aa67aadb95c59c":[[1090],[2]],
-"x1dd4191ee79dedee":[[3169],[3]],
-"x25ed13ad575ae56f":[[334],[4]],
-"xc40774378938d411":[[1373],[5]],
-"xcd1e93164961f6c2":[[3761],[1]],
-"xc62126c4c0b3f7eb":[[1233],[6]],
-"x5e9d98b9c956fef2":[[261],[3]],
-"xcff3ffb4ff2e145c":[[3690],[5]],
-"xc3ff93e08af01617":[[3234],[3]],
-"x7ce3a09d12cb4ee3":[[3169,3112],[16,5]],
-"x77106d2054b6e1fa":[[723],[7]],
-"xd42139b32c15447":[[3177],[3]],
-"x679c2a2b396880bd":[[3690,3956],[26,5]],
-"xe73bfa6c0d8a64ae":[[3641],[1]],
-"x722427d6aa90f010":[[721],[2]],
-"x415064f8c312c3e7":[[789],[7]],
-"x34b3cd92e49484b4":[[262,528,723],[66,7,1]],
-"x467687e8d2f7e20f":[[82],[5]],
-"xb5df7375ebfa460":[[334],[1]],
-"x8aba2d977254cea9":[[4020,2203],[5,4]],
-"x2b1bd0d147ce39eb":[[2217],[3]],
-"x627ee601ad594db8":[[3902,3699,3559],[45,18,12]],
-"x2366fc513012c635":[[262],[8]],
-"x1a1b2944454dfb78":[[3299],[3]],
-"x9be0b7a24a50bc84":[[1371],[4]],
-"xb2456da5f7d1aeb9":[[3690,3929],[24,20]],
-"x47693c750121bd9d":[[2745],[2]],
-"xe96fc39a049638f5":[[405],[4]],
-"xec4a6732d915f2f4":[[3699],[6]],
-"xdb9224c8bab2a201":[[2228,2201],[4,3]],
-"xe8a89f2fb8c9a148":[[3902],[2]],
-"x9c275e95d34f0910":[[2203],[40]],
-"x2c4227e1051b0ad2":[[3958],[9]],
-"xe45152aae827ac05":[[4023],[6]],
-"x534d1dc971ffee3e":[[3699,3234],[5,3]],
-"xcf93bbd3570bb6f9":[[3964],[4]],
-"xec3fc63ae25b1dd3":[[731],[4]],
-"x15b4436adc2e2214":[[2788],[4]],
-"x269623becdf347c0":[[4020],[3]],
-"x29ee013f2b4b8c90":[[339],[13]],
-"xcac07cfce0059f40":[[3699],[6]],
-"x18461a9a554ea783":[[2918],[4]],
-"xb095165fca215487":[[262],[7]],
-"x90901935d014a8dc":[[918,788,528,731,723,796],[172,31,24,21,16,5]],
-"x642cf9fa4c6b146d":[[148],[35]],
-"xb2dee12cf0c68fbc":[[3169],[2]],
-"x7c9896fdea89f9e6":[[2983],[6]],
-"xc25e55c7c76edd8e":[[3372,3690],[5,4]],
-"xea06b4f148f548d6":[[322],[3]],
-"x3af62aa6dd6149de":[[788],[17]],
-"xd349c4d52cc5bb6a":[[1941],[3]],
-"x8ed1a9886ddf2aef":[[3763],[4]],
-"xd6856e317e5aa05c":[[1828],[15]],
-"xcee4149472f7d932":[[334],[4]],
-"x2179a6c4090d1bd7":[[3307],[4]],
-"xe3dd8c1c348b4fe8":[[2787],[3]],
-"x4078b003711bd5eb":[[262],[10]],
-"x3f6eec8c758d4fb6":[[144],[7]],
-"x80b341e70709cf34":[[1965],[10]],
-"xff92c03a216d7a8":[[3826],[4]],
-"x3494ba62fe032ddd":[[211],[33]],
-"x7751fa22d9981d6f":[[528,918,1761,157,166,788],[39,37,23,8,4,3]],
-"x63ec73aa94ee7687":[[262],[122]],
-"x28febb3fbabe29b9":[[2203],[4]],
-"x122bd9e0f610107e":[[137],[10]],
-"x8b86308fec13e57c":[[1169],[3]],
-"xdde59d7048719577":[[2786],[8]],
-"xc9f22806e358e1ed":[[2323],[4]],
-"xc1583e2d2a5144f6":[[209],[8]],
-"x5a72e4fd9b3f692":[[3690,3437],[26,5]],
-"x47a07500c8292b9a":[[593],[7]],
-"x5f15a5b28ad6984":[[3234],[6]],
-"xb0f640a7e1db36f5":[[2851],[11]],
-"xe83cc66c84f5d98c":[[2130],[2]],
-"x69d3406643bd4062":[[2202,2203],[2,2]],
-"x3356b4127425ecf2":[[3307],[20]],
-"x98a9423918464d07":[[1803],[2]],
-"xa7b715399505f566":[[3902],[9]],
-"x143fa7c81423ed7f":[[3817],[5]],
-"xdbfe8a59403ca638":[[3169],[6]],
-"xb8d7c76ca4549543":[[194],[6]],
-"x35d8ea2d1371d66c":[[3817],[5]],
-"xd53a805b1eda96b3":[[2851],[2]],
-"x963996a468560f0d":[[3112,3956],[3,3]],
-"xed65ff9cae20e89f":[[1227],[3]],
-"xa15f2444aea24e72":[[4013,3372],[29,13]],
-"xb5e2adcce3d4259a":[[4013],[5]],
-"x3e3c1ec817b4878f":[[3306],[16]],
-"x12ae71e7221bc8a1":[[204],[3]],
-"x80af8528f3d34abe":[[4022],[8]],
-"x341102579671e068":[[3305],[4]],
-"x505c7abe12414b4f":[[3299],[3]],
-"xe57e287e1763bf06":[[3242],[5]],
-"xe1770b22657ccb2e":[[3370,2852,3699],[11,8,8]],
-"x2fa70a6f947ac044":[[2851],[5]],
-"xea589730d08191ae":[[3298],[2]],
-"x647c63a23701322":[[3956],[8]],
-"xc711463a1564a60c":[[148],[7]],
-"x3e31228b98a9f80f":[[2931],[3]],
-"x305b754fbcac0129":[[3742],[10]],
-"x7e972be0c4c15414":[[3362],[7]],
-"x5333942287656759":[[1179],[3]],
-"xf2a63a792f7ed2b":[[2266],[6]],
-"xcddd819eec548ba9":[[528],[4]],
-"x73fafb26064c6f95":[[3808],[4]],
-"xc1aa2e0921ff9e09":[[262],[3]],
-"xba9d1bf84a2969a6":[[1804],[23]],
-"x90ec1ad40c34db61":[[2330],[6]],
-"x33a0944965ef7fc7":[[82,405],[5,4]],
-"x9fd375864e7cbd83":[[3234,3307],[7,2]],
-"xfa1768187622bfde":[[339,346],[7,5]],
-"x592a1bcd477fa5ca":[[139,202],[7,5]],
-"x545124778736d1e7":[[139],[3]],
-"x183196b0effb8eb1":[[3898],[2]],
-"x901cb88d46df1f88":[[1803],[5]],
-"xff3fdda029e7f4fa":[[601],[6]],
-"x43247cd34daadb74":[[82,75],[6,4]],
-"x5c8389c6af4a8f8":[[209,166],[5,4]],
-"xfebc045d7ff582d":[[2],[4]],
-"xac00d9331a48b70a":[[3437],[2]],
-"xf36a87690f79027f":[[3169],[32]],
-"x2302fc40cc5a7bcc":[[332],[10]],
-"x6055df7a20a3a075":[[148],[5]],
-"x86f3fd62e5c379e8":[[666],[1]],
-"x1192910e05265f82":[[3752],[3]],
-"xc533786bbca21392":[[1793],[7]],
-"x5df3b5bdf5228929":[[1893],[6]],
-"x40e1ad65f1dd171c":[[396,405],[40,6]],
-"xb1b4504c69d20600":[[3688],[2]],
-"xcea2769383a9fe5a":[[2219],[6]],
-"x706bc47a5e774a81":[[3112],[3]],
-"x25a1246c0b0dc73d":[[3112,2137],[47,15]],
-"x6ff51ecd7877efdb":[[1034],[12]],
-"xb5cb64abfd70d195":[[3821],[4]],
-"x6299e56b3cd87c36":[[3956],[46]],
-"x551abce0b2cd52d1":[[2898],[5]],
-"x1c00a50ebeccdd6b":[[3502],[3]],
-"xa583829c514de6da":[[854],[4]],
-"xc6b478bf1544040":[[2852],[2]],
-"xf5c3e04b2d8b100":[[1764],[4]],
-"x589090b5e649464a":[[3673],[3]],
-"x43b0daadf1da9432":[[983,861,1749],[20,4,3]],
-"x2a464f747c2ad77c":[[196],[3]],
-"x2f5e4c6ed94a10ee":[[3763],[3]],
-"x9ec1b62f5c1beb78":[[2030],[2]],
-"xaf1ac9ba4fa27dad":[[3177],[1]],
-"x1f8cec7053902ee4":[[2908],[3]],
-"x63da068cbc2580d7":[[2137],[2]],
-"x3c6db186745cb2a4":[[1941],[1]],
-"x5c5dd99f1f114508":[[262],[5]],
-"x531b22ebfffc51b9":[[1643],[4]],
-"xccf3905e80fb3da7":[[2420],[6]],
-"x776373f07c4ba0e3":[[3371],[4]],
-"x163e38b2f2d89f20":[[405],[91]],
-"x5bc9e48d90cb1898":[[2189],[7]],
-"x378962d2cabef226":[[3307],[4]],
-"x64f960893f8bf61b":[[274],[3]],
-"x9e5ec00902006cef":[[3958],[19]],
-"xd02c468c459f7e93":[[3389],[8]],
-"xd57a1619285bcf9d":[[3307,3902],[37,5]],
-"xabf16ec16ab5d5e7":[[594],[2]],
-"xc89a07218f845c0a":[[2325],[3]],
-"x8663bd7e1c414dff":[[3177],[11]],
-"x8a742673e226f025":[[4013],[4]],
-"xf5cb0fb6960bf27":[[339],[9]],
-"xd05660d47c6f4857":[[3902,3112],[11,8]],
-"xf8a8a65f66ca9b1a":[[3938],[6]],
-"xe5ad9cb5e71da3a":[[3947],[10]],
-"x835abfacd561ff47":[[4013,3938],[98,3]],
-"x16e636381ce8d6e9":[[3690],[7]],
-"x3590c22db6fddc98":[[1180],[3]],
-"xb534f3add8978699":[[658],[6]],
-"xe99f8bb5c26c7850":[[3929],[6]],
-"x73509b8794a51a6d":[[2851],[14]],
-"x6eb65218e696b689":[[3157],[3]],
-"xc0931e5556b3083d":[[3112],[2]],
-"xb5aaed8dbd56eb69":[[3104],[10]],
-"x692da773cbdf4785":[[3178],[5]],
-"x56ba529357f94862":[[3502],[79]],
-"x2294dc19166b1907":[[1772],[7]],
-"xf2d34428365aedd4":[[917],[3]],
-"x3dcbb9a490b57584":[[1228],[3]],
-"x43e70c5dc8e5b839":[[2740,3763],[7,4]],
-"xfea19b7b96725606":[[917],[2]],
-"x9dcc3a756ffc2341":[[2565],[7]],
-"xb2cef37f3bb14834":[[1958],[4]],
-"xd76624d47f089bc5":[[2420],[1]],
-"x3f99f2f6a08c4ea9":[[2999],[9]],
-"x8a750e7225862d49":[[3690],[9]],
-"x649b5cbbdced4af4":[[3826,3112,3307,4013],[151,57,54,20]],
-"x468a13861b35a7ee":[[1179],[3]],
-"x956b1c717167c6a9":[[3817],[11]],
-"xc0f8a762a7e3874f":[[82],[7]],
-"x5740b7efd9faa628":[[1355],[7]],
-"x5a102548f3c320a2":[[3902],[4]],
-"x857879dcacbadce9":[[3306],[4]],
-"xbe2f9f4f2aaab8b8":[[270],[3]],
-"xd4aa34b8944d74bf":[[2720,2740],[6,6]],
-"xf67a990d22ab145d":[[2146],[3]],
-"x72cf5f00b73da382":[[2331],[3]],
-"xb1cf8eb07d49787":[[1684],[6]],
-"x2a7704930f2ff423":[[2594],[21]],
-"xaf3b9b913185d44a":[[2982],[11]],
-"x385375d3070b37d8":[[3690],[6]],
-"x7f237bdb9b30632b":[[3947],[11]],
-"x9628729fe5036527":[[3929],[11]],
-"xea514e1697a6cb87":[[157,323],[11,4]],
-"x8358475518e8aacf":[[3826],[11]],
-"x1572aa6a99f8fe06":[[3567],[33]],
-"x5f191d41327d9495":[[2942],[6]],
-"x4c41e1bdced2fd71":[[3902],[13]],
-"x2e70e190d4f54ac3":[[1371],[1]],
-"xb29582ddabd719e9":[[82],[359]],
-"xcd2368e452654f1e":[[146],[6]],
-"xa808f1b14101a418":[[3437],[3]],
-"x72960a9f068f2e2b":[[1892],[16]],
-"x9af365bc4bcbf007":[[203],[6]],
-"xf078764f3c431435":[[1438],[3]],
-"xea7964e13334c6ea":[[2266],[36]],
-"x629b63e06a2c451a":[[2851],[6]],
-"x6376871493f4f50e":[[262],[18]],
-"x645df7f87beab367":[[2463],[5]],
-"x8f870541a4ee6368":[[3902,3177],[9,2]],
-"x36ddb352cff86615":[[405],[3]],
-"xf7705d6a816d15f3":[[736],[3]],
-"x8e25016ab5abcf10":[[324,1681],[10,5]],
-"xc5a492207d240efd":[[1959],[2]],
-"x11c7578c7fcaaee1":[[3567],[3]],
-"xe8b18bf74c3e24da":[[1090],[5]],
-"xc493cedb122a3003":[[2915],[1]],
-"xdc234635550c5314":[[2484],[4]],
-"xd390ef199151a301":[[166,157,1122],[14,7,3]],
-"xe09efcffbd72d3f9":[[1307,1371],[6,5]],
-"x7d009ce4c41fda42":[[1770],[3]],
-"x44857b6ae2171000":[[3902],[1]],
-"xc7cab5766de3de43":[[3714],[6]],
-"xdbd66edd12312e0c":[[3902,3307],[15,4]],
-"x29804c717873643":[[3956],[4]],
-"x36b2a20c6fe638a2":[[731,796],[7,4]],
-"xa0a5c0326cc787dd":[[3309],[3]],
-"x68fd6a4fce326895":[[3902],[2]],
-"x5881cff5886bcaf0":[[3956,3826],[21,8]],
-"x70b7e2aad7f35554":[[3234,3307],[19,4]],
-"x2e02b6aac985f988":[[75],[5]],
-"x8bf3d7d7b95ba5a0":[[405],[11]],
-"x9d13930e48cdeff8":[[3817],[12]],
-"xaf68f2afd7985efc":[[3242,3112],[5,3]],
-"x85731a91a418fa77":[[2915],[4]],
-"xb23838f8aaa1b89c":[[796],[2]],
-"x349b34c0d93f9d2":[[323],[3]],
-"xa8751150888038e7":[[3353],[3]],
-"x995a8af2d4736d2a":[[1867],[3]],
-"x4dfe2a0a7538c197":[[1355],[5]],
-"x22aae53abe3193b7":[[3307,3169,1618,2919],[14,8,1,1]],
-"xf7f0ac7e94a1ff6b":[[2268],[5]],
-"x8d8f4c03da14303":[[3500],[6]],
-"xe62fe2d8bc877c79":[[202],[4]],
-"x987dfffb58554ab1":[[2137],[3]],
-"x8015bfe2055886f9":[[2090],[4]],
-"x3c9fa928230df5f3":[[3244],[3]],
-"x354e4994885724dc":[[2281,3929],[4,4]],
-"x9929c8d8f24e1509":[[3372],[10]],
-"x6b775b76b8e51f96":[[796,405],[10,1]],
-"x7e9303ba1e1b4cb8":[[3749],[6]],
-"x2375b002bb4a85e2":[[1180],[3]],
-"xe18c661ca5c90fd6":[[2915],[2]],
-"x2295edc994573be4":[[3902],[5]],
-"x229d82b5b9ce9807":[[1436],[4]],
-"xe9b5ff8338f6524":[[262],[7]],
-"x9b1c252c5481523e":[[1048],[3]],
-"x6a7095db39fb154":[[405],[3]],
-"xdf5c6da9a6840ec9":[[82],[4]],
-"x3f3e8d3fe962ee2f":[[1763],[2]],
-"xcc6f06154aa3141f":[[262],[3]],
-"x8b1c45557405405e":[[137],[4]],
-"xa0ff6ede3b92e3dd":[[3699],[4]],
-"xbf97c0690151dafd":[[324,536],[11,7]],
-"xf06be94690609b63":[[2137],[2]],
-"x97232c1064d094ba":[[2284,262],[6,4]],
-"x50f30064738ac408":[[788],[2]],
-"x13488726439050d5":[[75],[9]],
-"x6aefd107434f981e":[[262],[5]],
-"x1ae370198ca5c654":[[2673],[4]],
-"xae00caff353b8365":[[1958],[24]],
-"x577db64dc6ad310f":[[3699],[3]],
-"x6b1559e2d2cb8823":[[332],[31]],
-"x42fdf2236586507d":[[536],[6]],
-"x788ad9c5be73b94a":[[1763],[2]],
-"xc1281767ae11d66b":[[2200],[3]],
-"x3ff999593f88d168":[[166,666],[10,1]],
-"x59c8f3a1cb7ee591":[[781],[6]],
-"xd835bea73bb2b048":[[3502],[3]],
-"x8725f6f093f5b14c":[[139],[4]],
-"x2384bc0defa542d0":[[731],[6]],
-"x49aa366c712196d4":[[3808,1837],[11,4]],
-"x394d309e267d04ee":[[3643],[5]],
-"x64c402d7c65d850e":[[2265],[14]],
-"xa9a19eed54bde49c":[[334],[6]],
-"x426792a0c15d3f":[[3178],[19]],
-"x706b9ae98b4b316e":[[722],[6]],
-"x3a354b63bc57e5d6":[[2266,2908],[10,3]],
-"x11383c1e98d84c5d":[[3742],[2]],
-"x4995b474d560fafc":[[1699],[12]],
-"x39ad17d7722918f7":[[284],[43]],
-"x6374d9855b2cea30":[[3956],[3]],
-"x941fec77ca6d2b2a":[[405],[4]],
-"x853e3a14aee37c96":[[1951],[4]],
-"x3c304716784dd3db":[[3902,3690],[13,2]],
-"x3a6c4cfc5c879d42":[[3749],[5]],
-"x3bb45b672389d8aa":[[3297],[5]],
-"x853a80163e24f4a2":[[2908],[3]],
-"x3ea425d3712f8b82":[[1380],[3]],
-"x78b84440ed4d9a4a":[[3372],[2]],
-"xd1d236e8ed61893":[[3761,3234,3372],[49,46,8]],
-"x3c2ebcef4a577209":[[1749],[6]],
-"xd908c18072a0a0ae":[[2658],[3]],
-"x3372beae34f36620":[[3307],[4]],
-"x7be2a263e356320a":[[4029],[3]],
-"xca8a217ade4a4551":[[3436],[6]],
-"x7e38a9e32fceda70":[[1867],[31]],
-"xa15003cc2204f24e":[[3827],[3]],
-"xa08f4a46d76f34e2":[[658,666,593,324],[12,9,4,2]],
-"xf78a18af5b738bc":[[3828],[4]],
-"x8f108ff46aa8651e":[[983],[2]],
-"x69e3739f5b794330":[[3963],[3]],
-"xc46cd05a4bd5e56e":[[3902,2715],[69,22]],
-"xe9b796e032585da":[[4013],[2]],
-"x9d57cb793397a962":[[3299],[46]],
-"x6d89596a0f9fefa1":[[3234],[3]],
-"x42ac8e62ecb4d2ae":[[1371,324,721],[12,7,7]],
-"x929b57539ae0212b":[[2419],[6]],
-"x7228883fce91bb08":[[2202],[3]],
-"x710992e0df4e8190":[[2915],[20]],
-"xbf6cb9c0eb324c9e":[[324],[3]],
-"x1e9dc756d954d2e6":[[1225],[3]],
-"x8281f8099f9f581a":[[1803],[4]],
-"x93aab57f49db9795":[[536],[6]],
-"xed519ec3aef0796":[[3763],[3]],
-"x6b08a215d90fee35":[[3642],[1]],
-"xa51aebb5a9b53714":[[3763],[3]],
-"x5fe5fe65c032e042":[[398],[1]],
-"xff5d786f85914481":[[148],[6]],
-"x1d263acdabb228d0":[[3763],[6]],
-"x57176a993ed6b370":[[731],[12]],
-"x485eeea810852a6":[[1837],[1]],
-"x4dd26b42f2baddcb":[[148],[10]],
-"xcca0cb495412314a":[[137],[5]],
-"xd645c4f43aa2f129":[[2266,3956],[9,2]],
-"xcd0030d4aa565baf":[[3567],[13]],
-"xda1fb8066c5f40dc":[[333],[3]],
-"xc43109711aa6c2a6":[[2788],[3]],
-"xfa2c8ec4ab60c24":[[3956],[19]],
-"x2eef03c1dad6f079":[[339],[3]],
-"x68e640b4e709b12d":[[216],[3]],
-"x7ad247be7dcc5537":[[2217],[15]],
-"xcc9d89e1a29257e2":[[1112],[3]],
-"xde9253d6dcaa3ddd":[[1187],[6]],
-"xa7af7c4d9442929":[[1371],[5]],
-"x3fc13572110b39b":[[730],[3]],
-"x137ab8702fe35d7f":[[751],[3]],
-"x65e72dd0b6ad5706":[[1947],[6]],
-"xc53995145f5408dd":[[262],[6]],
-"x9f7e66a39b2f28a8":[[194],[3]],
-"x1cad8f64a1d9eea0":[[2673],[3]],
-"xb411c01c3d94248d":[[1887],[3]],
-"x50ea49bc6d41fcc6":[[771],[6]],
-"x3d72f21de960cda7":[[853],[3]],
-"x5d4dbf1329941c86":[[3699],[14]],
-"x89e26ea57c9e5c44":[[3761],[9]],
-"xfeb536fce913c029":[[405],[3]],
-"xf3a9cff7c80fddcf":[[3902],[5]],
-"x2274b032ecbc25ed":[[1699],[3]],
-"xe311f485ac4374ae":[[3690,3902],[5,2]],
-"xae204a3339bcf7c4":[[788],[17]],
-"xb5f98fa431ebea5d":[[2910],[3]],
-"x5bb74163394fc557":[[3817,3938],[25,3]],
-"x61bf494d0c04850f":[[2722],[3]],
-"x3e34dae094841308":[[3299,3502,3929,3307],[9,7,3,2]],
-"x79c5c7da471fb9ac":[[3104],[5]],
-"xa404f039a572d26b":[[40],[6]],
-"xa6d8ae0660a49aca":[[3690],[6]],
-"x73574f0322d1983":[[528],[9]],
-"x334af965d04c0db":[[3761],[3]],
-"xa34698a421f2b9cb":[[1244],[9]],
-"x97dd5b2daf6f167e":[[1877],[1]],
-"x7976146f406af5c1":[[788],[7]],
-"x9bda515dcb0928b0":[[3429],[4]],
-"xada68bd791c24a3a":[[2715],[10]],
-"x23c931a697bcd011":[[2477],[3]],
-"xfaa16dceeb34abe3":[[3112],[5]],
-"xbc76a27430c370e4":[[3929,3299,2715,3938,3502],[69,44,28,23,4]],
-"xf939767a37f5af83":[[666],[4]],
-"x4610feecf3929663":[[788],[16]],
-"x24f0bdd84a75d601":[[3699],[7]],
-"x4a6701bbe1859e5":[[731],[9]],
-"x629269bb9fab090a":[[2723],[3]],
-"x38be33dddcfb89d":[[721],[35]],
-"xf1f4702bf1d0c9":[[601,853],[5,5]],
-"xf0b6895211084a27":[[203],[6]],
-"x9d556986e014e99a":[[391],[4]],
-"x60d5c54055d73501":[[284],[2]],
-"xc85eaae3d94e3ba1":[[991],[4]],
-"x5dfebdee95c5af1":[[3826],[11]],
-"x4b810d7ea7c32ad9":[[2152,2153,853,788],[55,22,16,9]],
-"xf796da905ee947ab":[[80,82],[3,3]],
-"x861395ad0c50ad0b":[[405],[5]],
-"x9596f46f1b807d75":[[3902,3756],[23,2]],
-"xdd7afb3777c6e6b1":[[139,202],[21,8]],
-"x1f44ad02cda8e0b4":[[2910],[3]],
-"xf3d50fa4592458b9":[[339],[8]],
-"x3a19f7f977df30e0":[[3956],[5]],
-"xdf45251ec122d5b6":[[3517],[3]],
-"xd34219bb56506c34":[[2658],[3]],
-"xe060bb20f0436ae4":[[1739],[8]],
-"xbc41b4b2a30701d1":[[262],[27]],
-"x58d01c831a1eb348":[[3761],[1]],
-"x8ed1cba845dbadd9":[[2258],[3]],
-"x81e51a94b055e107":[[2463],[6]],
-"x740c0a9c5e7fe324":[[3902],[2]],
-"x1d4b9a286525edb5":[[938],[5]],
-"xe92e78db33d7c972":[[262],[15]],
-"x82acb71f1c886f60":[[346,1568],[177,3]],
-"xecf7999ca24a2b45":[[3242],[4]],
-"x237ddb7679ae029c":[[3834],[2]],
-"x9667f7d1a412e606":[[3307],[4]],
-"xe720e67776e374b2":[[334],[6]],
-"x253311267864fcbe":[[1180],[3]],
-"xbd64563c11b52745":[[918,1185],[4,3]],
-"xb450209b108fe4e":[[2915],[27]],
-"xc3a219c23fdaf704":[[3362,3298],[2,2]],
-"x12cd50c88a23d342":[[3502],[4]],
-"xef9fe73d2bfd2216":[[332,157],[32,3]],
-"x677390150e51bcff":[[3373],[11]],
-"xd7932fe00e997b73":[[3699],[1]],
-"x8c522fda3f7cbd53":[[3699],[7]],
-"x5165867bb1aff1df":[[1374],[3]],
-"xcaed8be78604fbda":[[204],[74]],
-"xbb67bc0e8fb0a552":[[3699],[3]],
-"xc1e7d19d5bfdde13":[[339,405],[37,5]],
-"x1c6152aa1abec5df":[[721],[6]],
-"xf072f8522e6da0a1":[[773],[3]],
-"x40401c925defc111":[[137,1763],[3,3]],
-"xa93a6d4d2bb82f4":[[3641],[2]],
-"xe652acc58bc7d4bf":[[332],[7]],
-"x7e2f723b4a66b250":[[593],[4]],
-"xa175de9ccd99d5e4":[[3956],[5]],
-"x97cbd76cfc8c4f9f":[[258,991],[30,8]],
-"x561002bd6e63b4f":[[4013],[5]],
-"x7e7657a935f25bed":[[1974],[1]],
-"x9c79735e64404327":[[3826],[10]],
-"x33a3aa4588941041":[[801],[3]],
-"x5a638a9cb44419e0":[[1810],[3]],
-"x2dc6ad9ccc6c013a":[[75],[4]],
-"x94ea703f627d1c60":[[3690,3429],[3,3]],
-"x5548c58620aef271":[[1355],[3]],
-"x2f8047ad6bdc85e1":[[3811],[10]],
-"x1dc9f0245b5d0ff7":[[3956],[6]],
-"xf0d4d75c55951c6f":[[788],[5]],
-"xacda73dcd4e87fef":[[861],[6]],
-"x59def95eddf20a34":[[1762,991],[19,4]],
-"x43989fe8411a20bf":[[926],[3]],
-"x9476d9c7a0761ed3":[[82],[5]],
-"x9578fb093bef4c65":[[2919,3364],[6,4]],
-"xc5f6ff7900b2073c":[[3373],[24]],
-"x7ac41b3387eb6f7":[[3307,3902],[4,2]],
-"xedb9a979337fddad":[[1708],[3]],
-"xc82bce7d2227f761":[[536],[10]],
-"x7b656cd6a0bbf302":[[1676,1683,1669],[32,6,4]],
-"x180f34682a061811":[[3373],[10]],
-"x4e732a6fc8f41af6":[[3364,3690,3112],[4,4,3]],
-"x77b887a0e418caaf":[[2201],[6]],
-"x97aac0b8e9aea365":[[332],[2]],
-"xb355d4b3994c4928":[[3902],[2]],
-"xf7c918e0e124dfb8":[[1811],[6]],
-"xc6f0b39dfad7cbf1":[[3761],[4]],
-"x37f53b3815fb7c56":[[3112],[3]],
-"xa1714b7f87b577e3":[[2254],[6]],
-"xf106bf6038fd049":[[723],[21]],
-"xf02212e2c366644f":[[3902],[1]],
-"x4932b4f2369e11b4":[[2851],[2]],
-"xe16bf32cbc1815a8":[[3929],[34]],
-"xd1baf38e8971b0c2":[[3947],[3]],
-"x41c6da76e6739d1b":[[3372],[3]],
-"x4df5e50ea397a55f":[[2845],[3]],
-"x4516d155e3dc8f2a":[[211],[99]],
-"xc3456dbf3964c736":[[3437],[9]],
-"x1b616ced7c19c56":[[722],[3]],
-"x1d44758224a7944b":[[2915],[3]],
-"x77c6662e7eb85d96":[[3567],[9]],
-"xb6664bc4ba92961d":[[1355],[4]],
-"xc9f1159b9ff815a6":[[3234],[4]],
-"xd3edf59852b0adea":[[262],[3]],
-"x4969711c877ea276":[[3956,3234],[14,2]],
-"xb93bb66a5fa01d8e":[[2917],[4]],
-"x13242965c372967f":[[262],[4]],
-"x265d46d82aea23b8":[[332],[6]],
-"xe05db42134f11574":[[213],[6]],
-"x9a8cf4816fb62098":[[2217],[10]],
-"x5cabb7760edfd827":[[129],[4]],
-"xd4a4bbd662bb0e7c":[[1827,731],[98,3]],
-"x873c6b30697a218d":[[3690,3699,3242,3234],[28,17,9,3]],
-"x72c3519b4b81ed48":[[2658],[7]],
-"xcd790d2732dda021":[[3808],[3]],
-"x5482e6242c5465ce":[[2996],[3]],
-"x890ecd34fd92bda8":[[3742,2331],[15,14]],
-"xb50d5ff61e5f62de":[[3761],[4]],
-"x983fbd0bfde16407":[[658],[41]],
-"xf5a97062af1c09d7":[[3962,3699],[5,2]],
-"xa88f8f669081d5d":[[2594],[8]],
-"xd6269a54a246ded9":[[396,339],[49,19]],
-"x6e0a2d61c063888e":[[3699],[7]],
-"x3548aeaab95c2042":[[3112],[2]],
-"x13d1d8e28f51236b":[[3699],[13]],
-"xa72f022aeaf17fb2":[[659],[16]],
-"x37e8565be0c908c2":[[3298,2852],[3,3]],
-"xd8f32d0aa82acf63":[[1811],[2]],
-"x814c094c07684293":[[3964],[3]],
-"x849f8a426f5ee164":[[139],[6]],
-"x9a170e47a0043f60":[[3956],[5]],
-"x4eb6677c0a5f96dc":[[262],[4]],
-"xe24559e8ed5f8588":[[339],[4]],
-"xb9ee6fe08cb79d90":[[2201],[3]],
-"xd9b4aef510265a2e":[[3821],[5]],
-"x7f1105881902ae3f":[[3962],[6]],
-"x32313eb66b749730":[[3761],[3]],
-"xe4418151680d394b":[[2852],[5]],
-"xe580fcb04deb1f12":[[852],[1]],
-"xdf4cfb0f6c90aec6":[[3194],[3]],
-"x832b3bf69bc61caa":[[3761],[14]],
-"xf4336ab2c295a990":[[3828],[1]],
-"x67ba9ce28e9fa7":[[324,658,2154],[25,19,4]],
-"x36d78a446f875fde":[[2413],[6]],
-"x7a7d54c6060341c0":[[3958],[1]],
-"xdbffe4fcf79a25ea":[[658],[3]],
-"x4d1fb01bdbd2a1ea":[[262],[11]],
-"xaae8f54d73e6ec9a":[[3112],[2]],
-"xa99632aa5016f57d":[[1699,209],[32,4]],
-"x88720b1c7e5147fb":[[3690],[3]],
-"x55631cf67975a91":[[3429],[3]],
-"xacfe5a2c00f24bd5":[[2787],[3]],
-"xe361d2a308527ff2":[[3299],[6]],
-"xb748f84ad4df47fb":[[3373],[2]],
-"x8ad4bc6755f5622f":[[3902,3699],[11,3]],
-"x1aecd27119255afc":[[3892],[5]],
-"x161772a00d8df359":[[2723],[81]],
-"x88d138ce3bc46408":[[3956,2852],[3,3]],
-"xccf008f4bf71eba8":[[1899],[6]],
-"xf10cea57ac0989db":[[1568],[2]],
-"xb613857c05384e3d":[[3958],[44]],
-"x624a6583954b5e22":[[148],[5]],
-"xe48cf23b0e4be4c7":[[2740,3761],[12,3]],
-"x27c11b7ee0ff926e":[[2224],[3]],
-"x799d73cfa6b70725":[[3956],[3]],
-"x8e2107086806126b":[[3742],[3]],
-"xe11d07e451f01313":[[3690],[4]],
-"xf73d67fad79ca806":[[918,788],[29,4]],
-"xa4c0697dd8096f47":[[3761],[2]],
-"x47969bb1a808f8e9":[[3178],[4]],
-"x2ce360f5ddd078b2":[[668],[16]],
-"xd078d26f557b91ad":[[1034],[6]],
-"xba23a894dd51cc94":[[3112],[3]],
-"xc077ba89438a8b23":[[1114],[7]],
-"x842f84ec616979d8":[[2414],[2]],
-"xcb761bb76146dc15":[[2720],[3]],
-"xc9fe42a56c920f30":[[1307,731],[12,4]],
-"xd8d6bb911792e428":[[1749],[6]],
-"x3e07f2822b88efda":[[202],[4]],
-"x7d73a008529fd58e":[[3964],[3]],
-"x92edfdd97a62de83":[[139,209],[14,11]],
-"x4553e2fd9a434da0":[[1164],[3]],
-"x5712f0b3d086c13d":[[3112],[4]],
-"x9b765837316e4112":[[73],[3]],
-"x721a3fd23cedb81b":[[3364],[3]],
-"x8024ca596829c77b":[[262,731,82],[62,21,11]],
-"xc4a6a66ce44f7c7d":[[796],[7]],
-"x52c1d59bdd5b96cb":[[3299,3234],[5,3]],
-"xbbcb748a38b75e4d":[[788,658],[11,3]],
-"x70180fc905e4a3b5":[[3242],[3]],
-"x9456f2a16f8b7b45":[[1187,788],[10,3]],
-"xf67c6c5b754f2a21":[[3956],[8]],
-"xcad32a50306d4df4":[[2266,3902,3242],[8,4,3]],
-"xdf8588a03d772436":[[75,204],[39,14]],
-"xd4162ca024df04f":[[3502,3234],[25,2]],
-"x3d965402f9b8ce1f":[[1697],[3]],
-"x79f541e89a56408a":[[1762],[17]],
-"x6f312cd5a6522cbf":[[3372],[10]],
-"x27404ba5f687db83":[[1314],[2]],
-"x4e8ab85263579b35":[[3929],[2]],
-"x177b9aed04df0c41":[[1187],[5]],
-"x484b7c49075d3bc5":[[2282],[3]],
-"x86e8eb090df85e3e":[[3364,3112],[6,5]],
-"xa287595b230767ae":[[1180],[5]],
-"x3ea3f04e2aa75859":[[1697],[2]],
-"x7ccbc2fae3590b99":[[1179],[6]],
-"xd66471424b18a950":[[781],[3]],
-"xfbe53f44a111dff3":[[323],[4]],
-"xdec05ff7b7488548":[[3517],[3]],
-"x8f5723fdb501c7f1":[[3699],[2]],
-"x3017b56da6a0f567":[[3372],[7]],
-"x25c1d55b033a6a74":[[1828],[3]],
-"xfa492b39e154dbab":[[3902,3242,3299,3234,3307],[142,39,27,18,4]],
-"x389b1c05d4dc62e9":[[2201],[2]],
-"xdd55ae81e477de99":[[292],[4]],
-"x35ac01aa81e33db8":[[3169],[9]],
-"xa4629e16f61c4800":[[137],[4]],
-"xed43c271badd8778":[[3364],[13]],
-"x9916bcc489a766f0":[[3902],[4]],
-"xe9fbd4a8c48c07e3":[[2203],[4]],
-"x8db0c1d2df4e1f39":[[1049],[4]],
-"x495d9d18ed349f34":[[3699,3902],[8,3]],
-"x9742626ad74e489f":[[3699],[3]],
-"x5b9442367628b9c0":[[391],[3]],
-"xd12b5d8a781ab9ac":[[3501],[3]],
-"x5083076ded12ffd3":[[3047],[3]],
-"xb4237848f7ebab02":[[3567],[5]],
-"x75a2e89dea01579d":[[2282],[2]],
-"x4bad464d85c7bda5":[[3749],[6]],
-"xa00a41661d9bb9c8":[[1226],[3]],
-"x32ce52a8c77f2412":[[1180],[6]],
-"x243acd99782616ff":[[2722],[4]],
-"xad8c3023730709ae":[[658],[1]],
-"xd9614b37fd77d085":[[2715],[5]],
-"xb0e4f1d7a62b51af":[[658],[6]],
-"xec90e422dc037ada":[[1699],[4]],
-"xad2cfd8608e3cb40":[[918],[5]],
-"x872d3612c75f06df":[[3956,3242,3699,2266,3929,3234],[602,225,122,105,88,44]],
-"x945359d8fbb6efbc":[[139],[3]],
-"xc946c842f6f0bf84":[[405],[3]],
-"xd530a33a68844263":[[82],[12]],
-"xfeb4334ef80a7a1d":[[1371],[2]],
-"xaca77a8e78016250":[[334],[3]],
-"xdd2ed6a7ec2d733d":[[148],[10]],
-"xd4458fdb257a4322":[[3699],[19]],
-"x8d462bc1fd23774d":[[3902],[9]],
-"x34d7d86a0d2aef7e":[[3761],[9]],
-"xfdcfb271ce74c258":[[1770],[8]],
-"xc3dec98effc8c0c6":[[2477],[8]],
-"x5dde2859c0c23ba4":[[3964],[3]],
-"x4ebe71b3131b5c35":[[3808,2745],[14,7]],
-"x1ee49845f369cdbc":[[3892],[2]],
-"xc04b975e2ec913b4":[[3902],[2]],
-"xb12f66efb541a90e":[[262],[2]],
-"xd4fd7858793d2f4f":[[1382],[6]],
-"x32dae4654895e0d6":[[790],[2]],
-"xb0b0d130d9411ed":[[1827,405],[153,99]],
-"xdf596ef81107bced":[[3902],[2]],
-"xe721ed88d15e0407":[[918],[13]],
-"x75dcf179bd006d0a":[[3641],[4]],
-"xc1361000f9491956":[[3957],[2]],
-"x44b4f8347d7a9fda":[[1941,2915],[6,2]],
-"xf8c7e525189e8ac9":[[3177],[3]],
-"xe038c05a81a38c93":[[274],[3]],
-"xe1bab23f1141a704":[[1943],[5]],
-"x1b98387da5db7066":[[2258],[2]],
-"xef6f91133c66561a":[[1632],[11]],
-"x2fae373b38acc5a4":[[3902],[2]],
-"xa521be1b0e0e090":[[334],[3]],
-"x9d16447f5e2015e6":[[2940],[5]],
-"x8a649ad64497c103":[[3104],[3]],
-"x463143ac4532f182":[[3372],[2]],
-"xa80b4ca28ca6163e":[[75],[8]],
-"xc357b62f494bc664":[[3258],[6]],
-"xef6aa7e325e955ba":[[4013],[5]],
-"x5b3e02eaa382623f":[[339,396,405],[75,65,5]],
-"x815f71f89320fdc7":[[2137],[3]],
-"x213a29d9651bc308":[[4013,3690,3112],[21,4,1]],
-"x792a25b19a6421ec":[[2284,204],[12,4]],
-"x7e686b13e3f8a50b":[[82],[5]],
-"x3a936bfc6f7759b9":[[3938],[27]],
-"xa888e78f3bb10c84":[[333],[3]],
-"xc0409435c778aee1":[[659],[3]],
-"x612834c70df45d9c":[[391],[3]],
-"x551c7ab33a908d3e":[[262],[22]],
-"x6a3f719c96ce1b8f":[[996],[3]],
-"x88a52e5f3dc970ce":[[2203],[3]],
-"x7038cc03ebb1ca0f":[[1827],[5]],
-"xfaaee392938103d":[[166,1187],[132,9]],
-"xbf29a6086ab02bd6":[[3307,3690,3372,3502,3112],[2058,887,712,20,10]],
-"xe447f36a1291060d":[[983],[3]],
-"xc2223586b315f014":[[1810],[3]],
-"x5143927247a3941d":[[2682],[4]],
-"x39f0b28706abc0c5":[[1828],[17]],
-"xa61e247cce6adbe0":[[3963],[3]],
-"x865b85432f6c0aaa":[[139],[4]],
-"xe33a3489a02a04c":[[3690,3902,3299],[63,21,19]],
-"x132fdb3d5d00632a":[[4013],[5]],
-"x3737d41799abc861":[[1683],[5]],
-"xb1d02920f88e1a66":[[3826],[3]],
-"x9f14db78b70d60c0":[[1828],[6]],
-"xc402961dbaf16afd":[[2268],[9]],
-"x5e38970c43db14cd":[[2347],[3]],
-"x3dd8a39e12e562b1":[[3373],[3]],
-"xed4a8884e65aac2c":[[918],[3]],
-"xfdde42d657d54cac":[[3761],[4]],
-"x2b2a08045e0bc482":[[1244],[3]],
-"x3d2397bfa03064d4":[[536,2],[6,1]],
-"xe6385bbaea1698ea":[[1837],[4]],
-"x3ede0ac5b3108a62":[[601],[4]],
-"xdd22c6c1fcd6b79":[[788],[3]],
-"x29e86c4ed5cb86fb":[[3966],[3]],
-"x36db9a93096752b6":[[3826,3817],[7,4]],
-"xb86950d7b31ce036":[[334],[8]],
-"x351be9c3d96fc692":[[3567],[4]],
-"xec6649a7308eaf8e":[[3234],[12]],
-"x9ab493d3d3c8c077":[[3169],[14]],
-"xe658a7988254e8ed":[[3177],[3]],
-"x6569aa52904e9c6a":[[262,209],[42,4]],
-"x46114b7e65d16d83":[[2332],[3]],
-"x61ecf39e812a575f":[[1763,113],[28,3]],
-"xda8d0f44bd951f88":[[3307],[9]],
-"x20936171f90e60cf":[[4013,3364,3372],[8,3,2]],
-"xf9070435c7717f8":[[1828],[4]],
-"x5db4f32662eda7a5":[[339,666],[4,3]],
-"xcf27aeab12252510":[[2715],[14]],
-"x1057f8379f20bec0":[[1307],[3]],
-"x9837e9d345d1ed26":[[1553],[7]],
-"x314e3d6db252dd2e":[[1974],[14]],
-"xc6a94718feb0ee7a":[[2137],[6]],
-"x304d8fdd5fcbdfe":[[2722],[3]],
-"x7e03a323326da553":[[196,536],[13,9]],
-"xf2a0131bfc6d06d7":[[2650],[3]],
-"x330400677a73fe10":[[2331],[4]],
-"x976ada181584ec5e":[[3],[5]],
-"xdc9a8ed2d4a8fa4c":[[222],[3]],
-"x52295dbe5bae0b8b":[[3502],[8]],
-"x1415e565daef34c4":[[796],[3]],
-"xa7505c20eaffdcf9":[[1762],[8]],
-"xf15c8cda9d9d015a":[[3902,2713],[4,3]],
-"xbc09530ad1610b79":[[1699],[2]],
-"x1fce666f4edaf4e3":[[3642],[3]],
-"xa8b06c27142710b":[[323],[9]],
-"x1193074085e7d634":[[2787],[3]],
-"x5c39616c20eafb80":[[1828,251],[5,5]],
-"x4551eeb3875a0ce5":[[3169,3559,3956],[20,4,2]],
-"xc949780ed8fcff1b":[[536],[3]],
-"xd0d595bc5e2a534b":[[3177],[3]],
-"x8b952845b6d65d6":[[3234],[4]],
-"x9a138dd21f33bc2a":[[3956,3699],[91,11]],
-"x3f0f81fd5641b560":[[262],[5]],
-"x65f2c5924cbf8f1":[[2870],[6]],
-"x439fad9c3fa57f66":[[405],[7]],
-"x6e0f113cae880f00":[[3365],[7]],
-"x30aa82d6732ce43":[[3234],[3]],
-"x82c2d5c917370fc4":[[1827],[10]],
-"x7658ffffd70d1d4b":[[148],[4]],
-"xf26b58f492cda79b":[[2842],[3]],
-"xc0a2dd32bb3e5b6c":[[3761],[6]],
-"x5ca812284310b29e":[[262],[16]],
-"x7fc328bf64ac178f":[[450],[4]],
-"x97a32ddcab4d5dbf":[[203],[3]],
-"xc3711163ff737667":[[3429],[7]],
-"xba36b9b8e4772a6e":[[2852],[7]],
-"xc019580e5d7a43cd":[[2477],[3]],
-"xf836a36f5777ce7a":[[3902],[2]],
-"x300d0e15462fc735":[[1683,1674],[23,17]],
-"xb4642804ed676032":[[3307,3502],[35,2]],
-"xd8095983dab31ddc":[[262],[3]],
-"x1763090843223a6e":[[213],[15]],
-"x345b1bc8beb97977":[[3],[3]],
-"xb2244973e9dc6fb8":[[324],[3]],
-"x19931cb508be2b7d":[[3761],[4]],
-"x4e900a925a9e1ec5":[[262],[3]],
-"x1331a84bde5a7222":[[276],[6]],
-"x24661c4966564cf":[[157],[3]],
-"x1799c3757773665f":[[3690],[2]],
-"x90d4ca6268550b18":[[4013],[7]],
-"xebecde18254484c8":[[1878],[5]],
-"x830f78071c850844":[[3761],[3]],
-"xc7dbf70eb38521db":[[2916],[5]],
-"xe6ac4fcc839ca27d":[[2593],[2]],
-"xdde7ad0f4b608aef":[[3803],[10]],
-"x6f297fce3193a2c3":[[1680],[3]],
-"xcdfedeafaf199c9b":[[3309],[6]],
-"x5c38950d4229e3af":[[3690],[3]],
-"x2b1f61878b06c942":[[262],[9]],
-"xef3a6f01ac6f529c":[[3761],[3]],
-"x58403c3325ddcada":[[1226],[3]],
-"xdeb3bf0c846f833c":[[3956],[3]],
-"x845917b2bb0040b2":[[1307],[9]],
-"x96b73984bae2988b":[[1570],[4]],
-"xeba357c53b143d97":[[1253],[4]],
-"xb4402061bc4aaac2":[[3902],[8]],
-"xee3e0958e4a488b0":[[2203],[4]],
-"x15a2cf7c02ab923d":[[3699],[15]],
-"xba04df5cdb161240":[[3836],[3]],
-"x2ca6492aaaaf86d3":[[82],[5]],
-"x5808b9f4ce3327b2":[[820],[6]],
-"x16a8eea5987ee61c":[[2940],[13]],
-"x4718983c2617b11d":[[2852],[3]],
-"x36fea1532fcdc710":[[262],[3]],
-"x47affbe1f4dd1715":[[3902],[3]],
-"x9020762ed17ce0cb":[[2203,3372],[7,6]],
-"x68216b7a364825c9":[[2723],[6]],
-"x3b19172d480eb763":[[1307],[24]],
-"x196c259aab18b362":[[324],[5]],
-"x1cf04f6f66d60904":[[3364,3234,3690,3112,3699,3242],[58,32,9,7,5,2]],
-"xf3f8003b4394855":[[3436],[21]],
-"xc56536e104f65408":[[3307,3242],[54,2]],
-"x64a016a57bc6e16e":[[3963,3305],[8,3]],
-"x30d08811de37f60":[[2908,3902],[8,7]],
-"x7593b6402b5fe93b":[[3964],[3]],
-"x592574922ea6f3fb":[[3761,3752,3234,3299],[198,80,10,3]],
-"xe532a5a9bc0b3590":[[211],[3]],
-"x61f2a322ef13b74c":[[2851],[2]],
-"xc097694403708f84":[[3819],[2]],
-"x68ae5dcfe8cafe64":[[166],[5]],
-"xc1a299e12ea89fa5":[[3761],[1]],
-"xeb3dbc5ed7cd1ec7":[[4013,3372],[10,5]],
-"xa5d1787838f2300":[[129],[9]],
-"x3bb05c4bf75df442":[[3177],[1]],
-"x70c48a6384680a5c":[[2932],[3]],
-"xbee3938ec826e351":[[3429],[25]],
-"x2f9143856d606c9d":[[1252],[4]],
-"x352c42214c3685cd":[[1745],[8]],
-"x23b0578ab1271320":[[3688],[3]],
-"x6ee5545fe73630c":[[2910],[3]],
-"x94c5deefa2948106":[[1164],[3]],
-"x5b76b9300b5dbcd6":[[3502,3690],[13,11]],
-"xd45b56dd64357d65":[[3690],[4]],
-"xf0ac3487259e59d3":[[3929],[4]],
-"x6cae7550aadcb7a5":[[1834],[7]],
-"xb86ff11fe78f2cbc":[[137],[3]],
-"x256b35e011b86426":[[3],[5]],
-"x634f5f0457d63d7e":[[1242],[11]],
-"xe14d81c385ca68b1":[[339,332],[11,3]],
-"xfc2ce874011e217d":[[1179],[3]],
-"xa03f7b08140398e6":[[3373],[6]],
-"x4ba23cc02f59ba9":[[2],[4]],
-"xac34dcdaaa492710":[[3299],[3]],
-"xe4a24b941bc77545":[[3465],[5]],
-"x68c8863c72f522a8":[[1762],[5]],
-"xce063c0d994e9f3":[[1772],[4]],
-"x295fa0d3ea5dde2":[[3372],[4]],
-"x3de3656a80836cc7":[[323],[4]],
-"x6e720fecc7f5f5b":[[262],[4]],
-"xcd9cfd1a0557397f":[[2851],[8]],
-"x5cfd3b2bf1caf76a":[[2715,3567,3964],[6,5,5]],
-"x1f8ff0c75a99150d":[[334],[21]],
-"xd84e73fea21be87c":[[3437],[2]],
-"x4d6a1240cb224397":[[3234],[8]],
-"x158512076494f89b":[[3761],[6]],
-"x8ae0d0807e73d4f8":[[1681],[5]],
-"xc888c89c2b54c222":[[75],[3]],
-"x7437337d8be8de1e":[[2098,3929],[14,1]],
-"xd9cde3b0a2978933":[[3947],[4]],
-"xf75c16eb212127fb":[[262],[9]],
-"x5d7b9d7bb6813b97":[[3958],[2]],
-"x65e211a7d3e409dd":[[3307,3690],[35,5]],
-"x728b3ea05746bcfe":[[262],[35]],
-"x663563265e75ec88":[[3761,3567],[41,8]],
-"xebbd5c58edf1d109":[[1893],[3]],
-"x1d4c98f31b50bb40":[[333],[6]],
-"xa383a213744ffda3":[[796],[3]],
-"xbbabfda738317ce6":[[2915],[7]],
-"x663dbbcfc80780ce":[[660],[5]],
-"x39cdadf0275fe683":[[1699],[10]],
-"xb90249e17cabb048":[[658],[9]],
-"xa6c6ac27ee3c8e0e":[[267],[3]],
-"xe815fa09bcea55e5":[[3958],[5]],
-"xda79466aa0abacaa":[[918],[4]],
-"xfac6606055816470":[[2336],[4]],
-"x2dcbdd8723c311be":[[3699,3763],[64,23]],
-"x5b9798483a28dc40":[[3690],[5]],
-"xfcbd7ca769d016df":[[3902],[3]],
-"xd15dbc59ab70579f":[[324],[4]],
-"x1ca919542b41b084":[[3690],[6]],
-"xed6b951dd7774025":[[3307],[7]],
-"xfc56b8d0e890b1e6":[[148,262],[12,6]],
-"x344ae53947002c2a":[[68],[2]],
-"x33e72a6a73fc5891":[[1699],[2]],
-"xd1b49303bc36b555":[[3690],[3]],
-"x53b999877258c904":[[1179],[10]],
-"xa1156720f879066e":[[3632],[1]],
-"x7e9dc842b3a95d00":[[3492],[6]],
-"xd88ffb606dd3c3ba":[[3958],[8]],
-"x500fcbf03f855586":[[4013,3364,3690],[19,9,1]],
-"xcb9fee28549851a5":[[1371],[3]],
-"xab2ebc22190650bc":[[381],[3]],
-"x67e55e81feda7cfe":[[732],[4]],
-"xacb6eaa05e6bf151":[[339],[4]],
-"x8d283b31f9fd483b":[[3821],[13]],
-"xc8162c4989019aab":[[4013],[4]],
-"xb43836a4db887352":[[649],[3]],
-"xb70fcdbd9cf874c1":[[3752],[7]],
-"x5f69a089b5b60ffb":[[3372],[4]],
-"x8105e2f17ba33d65":[[3324],[3]],
-"x30fedf7ae4f101d3":[[334],[5]],
-"x8e9705c512c9ae5a":[[2811],[6]],
-"x39ee5cf4ca5e5a89":[[148],[6]],
-"xbc2eeaa132b3c383":[[3761],[13]],
-"xc53c06eb88fbd7c9":[[3699],[5]],
-"x54df3fd5dcbf5191":[[162],[6]],
-"xeab282c4523df8d5":[[3642],[4]],
-"x22d5f3df7468d649":[[991],[15]],
-"xa5cd728974acc519":[[203],[6]],
-"xe31dfea23df8fdc2":[[3963],[3]],
-"x90d30188699db540":[[1762],[6]],
-"xbc246d06f7a9efe0":[[1187],[5]],
-"x67845cadb35e7bef":[[3242],[3]],
-"x8005bbd08f12a475":[[3177,3299,3690,3502],[45,30,14,10]],
-"x93e508d576fe9f31":[[1698],[4]],
-"xd34eeb04506af449":[[3234],[3]],
-"xf6b5b94520080c43":[[2715],[3]],
-"x515a9f857833de5c":[[3169],[5]],
-"xcab4463c261d0ad6":[[139],[3]],
-"xed92258d3f85203f":[[1307],[3]],
-"x4401777c27a3f6fe":[[983],[8]],
-"x6a7684051527027e":[[3956],[2]],
-"x14fedfb934134a82":[[2542],[4]],
-"x2da687e1ae4a8575":[[1382],[11]],
-"x5fe9ce0cc7d5ce2":[[334],[6]],
-"x46393c4a070cebc5":[[3372],[5]],
-"x1638db85f442e400":[[1180],[53]],
-"xa7cdee8c499de93b":[[2786],[5]],
-"x91f1469a2ed4bc55":[[3169,2203],[9,3]],
-"x5df995ee71ca94cb":[[3567],[3]],
-"x1e588d25b7351027":[[324],[15]],
-"xa779a1c38f0b7e1e":[[1291],[3]],
-"x471a6253ae12236e":[[796,1],[12,7]],
-"x35793eeb0396ff89":[[2788],[2]],
-"x1d901a810a435e58":[[724],[10]],
-"xdaffea958062496e":[[262],[5]],
-"x1ac14344abf65c20":[[2477],[34]],
-"x663eb66890ad93f2":[[3502,3429],[6,3]],
-"xcd07a3eb166be9a":[[3306],[4]],
-"xb6fb3d4ef83efad3":[[1098],[3]],
-"x1ab9020f047be6cc":[[3177,3112],[7,2]],
-"x2c677db9c109dd7f":[[3902],[3]],
-"x37361bad0ed92adf":[[2915],[44]],
-"x3fcf980e99cdb19":[[2787],[2]],
-"xf53ed96e61a2517b":[[1348],[5]],
-"x3936623e0a543ccb":[[3964],[2]],
-"xae199c04c1c4d4ee":[[258],[6]],
-"x1062a2b5ef5be7ae":[[1123],[6]],
-"xa68ff35bb6edb9a6":[[2332],[2]],
-"x928bdadbe320e2c1":[[1699],[15]],
-"xd81f4e0611499b2":[[1187],[6]],
-"xb5746339aa9e4933":[[2915],[9]],
-"x1cea8d2add1f4f76":[[2265],[4]],
-"xbe26a4a799fd4ea2":[[3749],[5]],
-"xb762fc67f09e45c4":[[405],[6]],
-"xdb2e7060db834c0b":[[82,1763,324,593,157],[134,14,9,8,4]],
-"x22d7414407bb9fd3":[[204],[1]],
-"xf183718a10a27d1b":[[332],[2]],
-"x897641469eda0c42":[[259],[4]],
-"x5e5c51cef72f1d61":[[3373],[11]],
-"x4264ab55c1fa671c":[[690],[3]],
-"x4da06e8b2f0f38b0":[[731,1699],[35,15]],
-"x4b71fde35131775f":[[2285],[4]],
-"x3e24b4d8dad889a3":[[1763],[5]],
-"x1833f3fb23caab9f":[[3808],[4]],
-"xb17c34c30241b50a":[[3947,3956],[10,3]],
-"xec0f9f246736e447":[[1178],[3]],
-"x4678d17eb93bc227":[[3827],[8]],
-"xac3ea1526727d4ae":[[391],[6]],
-"x16462a2fad77ff41":[[262],[8]],
-"xaf12dd6fa6767f5f":[[2195],[6]],
-"xa7a5ba444d5795f9":[[918,788],[18,4]],
-"xef3e1c0f01253b91":[[3958],[1]],
-"x71778f50bd09389f":[[2531],[3]],
-"x99dd36a42426b80e":[[3104,3688,3699],[36,7,1]],
-"xd54ce1bc817a41eb":[[2608],[3]],
-"x971bf241667a150":[[2593],[3]],
-"x8ef26812021dafe3":[[594],[4]],
-"x95acd0dff40190bc":[[3819],[6]],
-"xcd259bf643a22f6f":[[3902],[4]],
-"x4ddf52332962615d":[[2610],[3]],
-"xa1c1dfaf16ae96e3":[[731],[5]],
-"x3e28412f05b59e3a":[[3112,3756],[5,3]],
-"xbf51f8fc73c06d64":[[3902],[6]],
-"x2994b7c52b3133fe":[[601],[6]],
-"xb66e3c25eb784a0a":[[3242],[8]],
-"x552e4d4caf3ad98a":[[3],[4]],
-"xe57a46bf90cfeff9":[[148],[11]],
-"xfd519946a62afbed":[[2918,3641],[34,11]],
-"xae79bc064adba503":[[3817,3826],[5,4]],
-"x99b2049c48f6d2ab":[[334,731],[7,5]],
-"x6f5857d5f5ac14ab":[[3817],[2]],
-"x43f4441aa16b9ffe":[[1187,203],[5,1]],
-"x9f710b50d999b55e":[[788],[14]],
-"x457c9e337e69a99c":[[731],[10]],
-"xde64eb9987eb0531":[[3902,2908,3690],[32,3,3]],
-"x7d296f92bd94d0ab":[[147],[3]],
-"x989ffeede38fde01":[[2915],[12]],
-"xb7a0a29d3cfe130e":[[405],[9]],
-"x7c6882a4aedea29f":[[2797],[6]],
-"x87ddd6efc75804f9":[[2265,2258],[17,4]],
-"xf44c966d1959bc0":[[3234],[3]],
-"xbe31948093e32dcf":[[603],[6]],
-"xac8ed2cd9f57347b":[[3112],[5]],
-"x98d3bbb2bbd271c3":[[709],[3]],
-"x4b50d1be5fe02328":[[262],[10]],
-"x2b7f272b8864f9a":[[262],[3]],
-"xc54c4a2cab8d9d4f":[[4013,3956],[50,4]],
-"x5c3a8f38c9117b47":[[2973],[3]],
-"x29ae43737889fb8b":[[2266,3502],[14,11]],
-"x244975e4b8bc45c2":[[796],[4]],
-"x663cabae445dbae4":[[796],[10]],
-"x2d7dfde2b3a56c73":[[3501],[3]],
-"x1bfd05860da3e633":[[3362],[3]],
-"x67230a7d0e65dc01":[[3699],[6]],
-"x29985235d1681142":[[3502],[11]],
-"x49797b6c10f867ba":[[3439],[6]],
-"xd878fca79ef5d6b6":[[1227],[3]],
-"xb4a98fa9a34daf96":[[3502],[1]],
-"x2b20ff9775f9a5e4":[[3234],[1]],
-"x7dc04504695e0310":[[3690],[3]],
-"xb93c181c585a988d":[[1568],[4]],
-"xbd7741389222a904":[[82,405,918,853],[1308,188,139,8]],
-"x8cb89fe5c2b71b61":[[209],[3]],
-"x2ba8a0569d816650":[[1355],[2]],
-"x2f46e74fd091eb80":[[2202],[2]],
-"x5826bebbef97dbf2":[[262],[2]],
-"x1d7e9b29a5115a69":[[1828],[6]],
-"x7a798f63917e7725":[[2334],[5]],
-"x901d30d01ab73d16":[[3234],[3]],
-"x9a1772363184a55a":[[262],[3]],
-"xa75f7c690a8c46f2":[[3690],[7]],
-"xba180b4c6b66069d":[[82],[5]],
-"x81c35ef5d5b418f2":[[66],[3]],
-"x16c6d37ab18562d4":[[2867],[3]],
-"xfaf580f397222e6a":[[3947],[3]],
-"xd420d006e8d33e10":[[926],[2]],
-"x6add2d59f64624a4":[[3299,3364,3502,3234,4013],[44,15,11,9,5]],
-"xc8613aba9b840149":[[258],[4]],
-"xe3b1ca89526dc309":[[2136],[7]],
-"x676ba8128d41c15f":[[3826],[2]],
-"x840f6f1096172ba0":[[1371],[3]],
-"xf75abba1c2e47af":[[2194],[3]],
-"x7e5ae9b6b58418c1":[[2915],[4]],
-"x643f3633c0f24dab":[[3958],[9]],
-"x7acb5fdf42e1dc72":[[3761],[3]],
-"xa1cc21f8937d84ae":[[391],[6]],
-"x24f4e5e8ea6ac946":[[216],[6]],
-"x7f2ee7f33ef3139c":[[2477],[5]],
-"x5a472c30277fb2fb":[[3242,4013,3364],[15,12,1]],
-"xeb8a9f2a95adf391":[[3902],[24]],
-"xbc2d8bfda1ec1245":[[3567],[3]],
-"xe60e413a195d0902":[[137],[5]],
-"xf6605fa059b345d9":[[1050],[3]],
-"x7050b7ccaadaa65c":[[3364],[3]],
-"xc574b60f2bf46fde":[[1393],[4]],
-"x69bee77e6553ee20":[[3642],[5]],
-"x9e6ed7b1c54d8302":[[3808,2787],[24,1]],
-"x70992e483446ac10":[[528],[5]],
-"x333304122ac9150a":[[1315],[4]],
-"xe41af2c682e4215f":[[3502,3112],[9,3]],
-"x4a6578c89d5b9859":[[3902],[4]],
-"x8608bd684f01b3b4":[[3699],[8]],
-"x706d81660bbe11c1":[[796],[7]],
-"x2958d0b780408278":[[137],[3]],
-"xc60a7dace5a50bca":[[2023],[4]],
-"xe8bc9751bce65010":[[3826],[3]],
-"xcf11690f946713c":[[2852],[2]],
-"x502eadefbd0b55b9":[[334],[7]],
-"x69d821090e03fb71":[[2787],[3]],
-"xc66dfed8ac380e51":[[2787,3567],[5,4]],
-"xb20d34407d0230dd":[[2066],[8]],
-"x7331184e866c02ab":[[3699],[6]],
-"xdb28c4cfa9f9e2c1":[[1179],[9]],
-"x255d166e935a642f":[[82,853,339],[270,42,13]],
-"xec95ffd4d4b7e414":[[216],[9]],
-"xb9b1a0b16b02df71":[[262],[11]],
-"xc6d648892e4c6c2f":[[148],[7]],
-"x471f67af4db92e6a":[[334,731],[5,5]],
-"x94693cb7a4dbd11":[[451],[3]],
-"x6c4030ec7dfc4738":[[346],[6]],
-"x7b3e3735b6bcdd55":[[323],[3]],
-"x6936e6a23f325cc0":[[213],[7]],
-"x41012338d821bb93":[[1561],[6]],
-"x9d8bc6fc9de24ada":[[204],[8]],
-"xd0f400d2196a5db8":[[353],[10]],
-"xa0008fcf8f258e98":[[841],[3]],
-"xaa7ccf0d1e7df69d":[[334],[6]],
-"xf6f08474c9ef4caa":[[397],[8]],
-"x6349ea8eb429571e":[[353],[54]],
-"x69e93f2e493a44a6":[[3756],[5]],
-"x90671252739b26e1":[[2931],[2]],
-"x3d337473df67862c":[[926],[4]],
-"x1242c63d4c4b9c0":[[453],[3]],
-"xab2b44649f7e0fab":[[3364],[4]],
-"xe1e5afbc6cc65050":[[3501],[4]],
-"xe7d19a7d3959ec1a":[[75],[6]],
-"x2a0f67d7d59bd2fa":[[339],[3]],
-"xe48df69d74c0565":[[332],[6]],
-"xc02676937c90526":[[3902],[3]],
-"x3a3cc502e3194ac5":[[3307],[3]],
-"x8c6857c8dfee93d7":[[166],[5]],
-"x326abaa483a2ddfd":[[2851],[6]],
-"x9ebbe41d682ed2be":[[3763],[14]],
-"xe09607b6e1770b8c":[[396],[6]],
-"x27381431434cbc3":[[742,724],[51,18]],
-"xb54de1c6dd5cf138":[[3763,3699,3690],[139,31,21]],
-"xba0e247625afc784":[[3642],[6]],
-"x897d1c1419d6b129":[[204],[2]],
-"x733d9752a2d6efa1":[[1892],[2]],
-"x618179a054eef9c0":[[2193],[4]],
-"xfb0b73ad576926de":[[796],[1]],
-"x6e085cc6619a6d33":[[2916],[2]],
-"xcdd6cd2d4e4045e":[[853,926,332,203,536,213,861],[163,64,36,13,7,4,2]],
-"x80b14e1f2c6beef2":[[323],[3]],
-"xd769c6167135a44f":[[334],[48]],
-"xdc2e2087358fdd00":[[82],[8]],
-"x355aa0e92fa4cc4a":[[211],[4]],
-"x282a682b2c5f5343":[[1180],[10]],
-"xe290ae641ed2e7e0":[[4020],[4]],
-"x8fe5ff186521a6fb":[[3902],[1]],
-"x83e354308c993ed2":[[2852],[3]],
-"xbf5cf670aa975084":[[3699,2203,3690,3112,3177],[33,18,11,4,3]],
-"xf94c62b787afc67f":[[2347],[4]],
-"x1561cb416b331125":[[3826,3761],[9,4]],
-"x27d8a0be93e251ed":[[3690],[3]],
-"x8eb98aa9c4a98d32":[[209,796],[9,5]],
-"xe833a79ce250a78":[[3642],[3]],
-"x590fc6cb0e49c755":[[339],[3]],
-"x34feddb2bc272c61":[[2715,3763,3902],[71,25,11]],
-"xbb8deeec01d3783c":[[658],[3]],
-"xb357c03cd6f007f6":[[2349],[3]],
-"x80acffbcb0cbb7e1":[[3178],[1]],
-"x7f02c675ec1b1089":[[3437],[3]],
-"x74e72ff6bb5c0b55":[[594],[2]],
-"x6986609e5a8b6d9e":[[3756],[15]],
-"xf2b92a62635a82b2":[[853],[81]],
-"x5b50339c316056c3":[[3502,2788,3742,3690],[20,16,16,5]],
-"x28837b55517e7e80":[[3242],[2]],
-"x32bd10a2c70f29af":[[2162],[6]],
-"xc37310c37efd5095":[[1634],[39]],
-"x56cf30391b3bc8a3":[[262],[7]],
-"x53a56f3f5279044":[[262],[29]],
-"x1c3ac640a708857":[[2354],[1]],
-"x128eb1ae39fde3":[[334],[3]],
-"x543c3dbf10de1c39":[[1830],[6]],
-"x8b7203c096290e0a":[[2918],[3]],
-"x6d30fe2b9b0841c7":[[1242],[6]],
-"xc22a857dabee7cc8":[[262],[8]],
-"x2ef192de3ebd15a4":[[2443],[6]],
-"xd1af87a63174f2":[[794],[8]],
-"xf6d97a6117b10906":[[794],[6]],
-"xf35e0e1fe05327d1":[[3763],[5]],
-"xe36f1c9e15d7ab76":[[405],[6]],
-"xbc443fdad234979d":[[3178],[5]],
-"x75cec3920993d808":[[1371],[4]],
-"x4746d3722f6cb8b":[[2915],[2]],
-"xe07fe4d3f77fcb0":[[209],[11]],
-"x8ad319e10a90fd2f":[[1187],[6]],
-"xd53658aa8e950569":[[1827],[3]],
-"xb89b9084877d33f6":[[3306],[4]],
-"x89b33bcbd8c9eb63":[[2594],[4]],
-"xcbe84a4d5a15331a":[[721],[6]],
-"x2e66a7a05958f2d1":[[1806],[21]],
-"x1cf7589333d2597c":[[82],[2]],
-"xeb71766dab913198":[[2,324,204],[10,10,4]],
-"xe7cb21323f7f8669":[[1187],[3]],
-"x7b1437e93f1a014b":[[3947],[8]],
-"x125dbb046cf719e7":[[1187],[10]],
-"x6c67ca5f2069b24":[[742],[5]],
-"xd055a93968cce3f0":[[3817],[2]],
-"x318b36c28c831433":[[82],[4]],
-"x3f5d31b00503e6b":[[1698],[10]],
-"x6e65b45ae6e9b4d2":[[1876],[2]],
-"x369522330efb6172":[[3178],[8]],
-"x1caf873d8b51ab77":[[405],[3]],
-"x9da15b9c4d902b40":[[788],[2]],
-"x10182fbd16812301":[[1633],[6]],
-"xdde3b238642e0a09":[[666],[7]],
-"x5a051bb1e8539556":[[3956],[14]],
-"xef3d4211c11a75b9":[[1245],[1]],
-"x349d0544366a70e3":[[3372],[7]],
-"x96e346557061101":[[138],[4]],
-"x4f4dad2b78333dd5":[[1187],[7]],
-"xf3a6233507398b43":[[1115],[4]],
-"x27be398cadabb942":[[2803],[3]],
-"xbf4b188585bfee86":[[983,528,139],[20,10,3]],
-"xee85e32940337c42":[[339],[4]],
-"xdaac6918c4fb80b5":[[3306],[3]],
-"xc10c9f8f9da14388":[[1569],[6]],
-"xdcfc0b0460a2feef":[[2,528],[18,3]],
-"xbccbdf55d2191c44":[[594],[5]],
-"x7a66d1d40151ccd4":[[1380],[2]],
-"x698f29a8eb882f40":[[3956,3234],[20,5]],
-"xdf1c6f9e9a42e438":[[3600],[3]],
-"x36c262e8e9509afb":[[3742,3749],[45,13]],
-"x745f0a88139c697b":[[1635],[1]],
-"xc5d330d1c8e8e7e3":[[1096],[6]],
-"x6c641169831bdb22":[[3902],[4]],
-"xd93e717a6c05804e":[[3795],[3]],
-"xc09bcd902897aa89":[[3742],[2]],
-"x2dfa2d1c74afd94a":[[918],[3]],
-"xd7b6cb2d7b274868":[[1762],[4]],
-"x5c7338c2b39667ea":[[3567],[8]],
-"x5dd2b4215350b58b":[[2268],[4]],
-"x83d21ed18c7a2a8":[[983],[4]],
-"x9a41ae165a86452e":[[80,262,991],[15,12,3]],
-"xab1282fdd1b8638e":[[2852],[3]],
-"x6ec755bb630383bf":[[3956,4013],[4,3]],
-"x289c9aea03fd1970":[[593,202],[6,5]],
-"xca502f17169ad1db":[[3958],[4]],
-"x591528c13ab1b91f":[[3177,3169,3234,3299],[35,35,17,15]],
-"x4f3bb09c9a900692":[[3832],[5]],
-"xeacd6c599529a2c5":[[262],[8]],
-"xbb6aff8ad32c3bb1":[[786],[8]],
-"x3a2a2f53d2e281fe":[[320],[6]],
-"xd14ad5182067656c":[[3251],[3]],
-"x9fcb788a5bd1b25f":[[1770],[3]],
-"x8f49327c5390dab0":[[262],[10]],
-"xef13908ddcfb02d7":[[2203],[3]],
-"x9a8de824ded373d4":[[4086],[3]],
-"x6a37b87b2ea46135":[[3761],[5]],
-"xadbc1871d67d8f10":[[3962,3234],[4,3]],
-"x49e53a423dfa0916":[[2787],[7]],
-"x11e5f7f6935a04d8":[[3688],[12]],
-"x61207fc5edbe39c1":[[1957],[6]],
-"x191050024c25af91":[[3104],[2]],
-"x8ef39a38b5306308":[[1314,89],[8,5]],
-"x6cb73503268ab048":[[1681],[4]],
-"x626fcd466a500675":[[1698],[4]],
-"x25ebcf6ad220b642":[[129],[6]],
-"x6487ff1421a017f3":[[332],[3]],
-"x63d62d3695ced7e8":[[1699],[8]],
-"x51cbea90c0f25989":[[528],[3]],
-"x128baee6d419d432":[[3177,3690],[8,2]],
-"x7f701817db611396":[[3690],[4]],
-"x4bef39f6a46aade6":[[528],[5]],
-"x8e160e5f56655604":[[3938],[5]],
-"x1338a5f7f4845fc7":[[3752],[2]],
-"x22588edc8cf85b67":[[674],[1]],
-"x552c8466791dd926":[[3749],[7]],
-"x84e16c9f8ce74908":[[342],[2]],
-"x9f5ae28a7642fa89":[[2658],[1]],
-"xf154f0e156214c27":[[353],[7]],
-"x5cb8d4453e79c18f":[[2593,1097],[5,4]],
-"x35c539e180bc6336":[[773],[4]],
-"x123f54644805ba06":[[324],[7]],
-"xe0192d21a9636ce2":[[405,918,788],[243,31,11]],
-"xff5b5930781d9178":[[166],[5]],
-"x18cc47a2f067991":[[3373,3501],[70,29]],
-"x15ee14b01f051582":[[4022],[6]],
-"x117e6692e2e6c4c7":[[2722],[2]],
-"xd0b162b8fbfb0a7b":[[3359],[6]],
-"x4f13371e14571bf":[[1],[2]],
-"x200ce579348c70cd":[[2698],[3]],
-"x39dd88a0e2c84171":[[1307],[2]],
-"x3abf76af740d5a56":[[723],[5]],
-"x51178f8f2188f441":[[3373],[7]],
-"xe461149daf434354":[[323],[9]],
-"xbe1957fcd8216998":[[287],[6]],
-"xc03cda1082dad4d4":[[2217],[3]],
-"x768c3ac4890df01b":[[731],[1]],
-"x1d2e8a3b0db08e9a":[[1681],[4]],
-"xa22e1834f3db2297":[[144],[21]],
-"xb0b3e9bfd7257b0e":[[75,209],[4,3]],
-"xf715622f448d8808":[[3902],[1]],
-"xcedc2dbd65f341bd":[[1699],[4]],
-"xd2f41a35fd402091":[[1643],[10]],
-"x7fb09d13579f5194":[[2281],[8]],
-"x59d207d3970aced4":[[2853],[12]],
-"x3f9ee660b896514d":[[3962],[9]],
-"x58b19ac629ef67a2":[[3958,3299],[107,39]],
-"x347af3cc4e8824f1":[[1763],[4]],
-"xbb9cb7e73bf0f7e9":[[528,332],[13,8]],
-"x92386da3f12be85e":[[521],[3]],
-"x2523465a3a1477ab":[[2851],[4]],
-"x3b9d153eec18370c":[[3234],[5]],
-"xbe45a4ecf68e8b28":[[1098],[9]],
-"xe29733f9c96d36db":[[262],[2]],
-"x4329a05d1c98bbf9":[[658,82,262],[17,5,3]],
-"x7be9ef05296b74d4":[[3307,4020,3690],[12,4,2]],
-"x8900854abe317a1b":[[3956],[4]],
-"x3bf10e6065dfcf9f":[[3242],[3]],
-"xbc0ec4cabd01fa47":[[796],[6]],
-"x53adbc90fdbc173b":[[2739],[3]],
-"xfc8f43e0365c67f4":[[3958],[6]],
-"x2853b0b5c3dfef5b":[[1366],[3]],
-"x7bd1e7130e86d161":[[3234,3177,3307],[7,5,2]],
-"xad341c1bc3db7d5d":[[3641],[3]],
-"xecbc85209327425e":[[1160],[6]],
-"xc2d599cdb28586fc":[[1699],[9]],
-"xfebbf7459f9a1151":[[4094],[4]],
-"xf1ee731066b0128a":[[722],[3]],
-"x8509e254ce484bb6":[[3429],[7]],
-"xb5d2eb3a75709496":[[630],[8]],
-"x9479900b1f7f158c":[[2585],[3]],
-"x485aa08338ee30cc":[[731,723],[27,10]],
-"x656538d3b12a1151":[[3690],[6]],
-"x58b5cae1d5f80fb7":[[1681],[5]],
-"xc9b08771fe4ecc1":[[3699],[17]],
-"x8684837cfe1e2756":[[1114],[5]],
-"x2b5b041529471d0d":[[3929],[6]],
-"xdd8bee9b8c23bc4d":[[3],[3]],
-"xf8d91712fd6249ab":[[3429],[3]],
-"x4718599f407d73cc":[[1050],[4]],
-"xcad03a7cb25668f5":[[262],[6]],
-"x40580a176c2ea2b9":[[262],[6]],
-"x188d1325eb51772":[[2098],[4]],
-"x1b0fc0cbb38a6db6":[[1643],[4]],
-"x2ae11d2a9bf419b5":[[2963],[3]],
-"x581937fe788bd0d0":[[1745],[15]],
-"x4681e1b74455e502":[[3372],[6]],
-"x2a7b28247b16a047":[[405],[4]],
-"x896551d7e849710e":[[3897],[2]],
-"xd2d63f2da32ff410":[[2724],[78]],
-"x56802b710c38ea5c":[[3242],[4]],
-"xbcb1fd4b604c37e":[[2],[1]],
-"x178adf7d0b66d491":[[2355,2154],[7,5]],
-"x7a33cf8ee5d90ef7":[[2258],[2]],
-"x7b55c69611305041":[[2851],[5]],
-"x627a6f85b25180d1":[[3176],[6]],
-"x434fde9c28f9cbbf":[[3169],[4]],
-"x2b7d9bf881c4a700":[[1698],[6]],
-"xf703c282e42eaf11":[[1301],[6]],
-"x723cb59062632602":[[3902],[6]],
-"x2a579b1f2070ca27":[[2023],[5]],
-"x72941a79977d30db":[[3956,3242,3567,3929],[16,16,14,11]],
-"xecce6348925f0b99":[[405,216],[35,13]],
-"x1d9a229c85ff7ad3":[[1162],[4]],
-"xf2e75ca9d6222c70":[[1799],[5]],
-"x2127d6ff66b0728a":[[3690],[2]],
-"xc90f072b487739b8":[[3178],[3]],
-"x9c8acc856cd9742":[[2136],[3]],
-"xd4c94b39af4f29d9":[[3046],[9]],
-"xf6e0fe549ea72816":[[2713],[6]],
-"xf0c1a2bbd092d354":[[536],[19]],
-"xef19c90b62a7f55":[[1355],[6]],
-"xa1482067d64bd56b":[[3699],[6]],
-"x5eea6e2ebb172ba9":[[3699],[8]],
-"xd1ab45503e83598c":[[75],[6]],
-"xc93c001f20b8e647":[[2787],[3]],
-"x73bbcdccae3937f1":[[788],[4]],
-"x287eb398a1ab845e":[[1762],[4]],
-"xfd914606a91e7b27":[[2258],[48]],
-"xd3aa786d8603798b":[[3690],[9]],
-"x58faf40400523638":[[2592],[4]],
-"x925e3d6292385230":[[966],[3]],
-"xbd2cf4bd2b792983":[[1226],[5]],
-"x492b50fbbf1f39ff":[[4020],[8]],
-"xd9f14e3840e5fd77":[[219],[6]],
-"x5a55d922298f41af":[[2664],[8]],
-"xef47458e3d8b30fb":[[2265],[3]],
-"x6df4a7f7d5ae5fd2":[[3242],[2]],
-"xb86921ba30be2086":[[3104],[2]],
-"x3951c2b94274db45":[[1308],[5]],
-"x810575c6bb8e8891":[[3956],[4]],
-"x2ff52868ab819257":[[144],[3]],
-"x7d5c676d1bba0cd2":[[2266],[2]],
-"x97401436f4abe8f0":[[2851],[8]],
-"xe95dc7d222946fcc":[[1829],[3]],
-"x94c13991fc090622":[[787],[3]],
-"xe22c1e6498b7880f":[[3688],[5]],
-"x26182df488b1728a":[[8],[3]],
-"x1abd80b77e451a77":[[1180],[223]],
-"xccab7f0fd9c6ffca":[[721],[3]],
-"x5ccb13f57c6cceec":[[3958],[27]],
-"x36a36ff55469d6fe":[[983],[5]],
-"xe6166d08e8be95f2":[[339,82,666],[138,76,14]],
-"x61381d8ea2085e1e":[[251],[5]],
-"x8087d21deeb4c0c5":[[3761,2720,2745,2931,3964,3567,3756],[123,81,72,42,30,18,8]],
-"x63f5d508edf40ce":[[3902],[3]],
-"xf522b5338d2f421c":[[3964],[143]],
-"x6b9c838da34538dc":[[983],[8]],
-"xad6d1bc798e34961":[[3437],[1]],
-"x6c2cb3721d90aa5e":[[731],[4]],
-"x8ec6b5fe1f3609bd":[[2651],[1]],
-"xcbbb22beb6b2c9e0":[[3298],[23]],
-"x7b0e77f8b02cb1b1":[[2203],[4]],
-"x48c63ac12e71eca2":[[2845],[3]],
-"x9765bea2d3551dd7":[[3902],[3]],
-"x12888d743ec4fefd":[[3902,3690],[9,5]],
-"xe4892e0a25108869":[[1308,1683],[41,3]],
-"xf0ca82d02e50f355":[[1828],[4]],
-"x8b36327416773034":[[2056],[2]],
-"x443af9869de3408a":[[405,723],[21,4]],
-"x11e71288feafc5b1":[[1293],[6]],
-"x9381bc94d9f354fa":[[3373],[3]],
-"xba9d3f0c16427ba":[[1179],[4]],
-"xd7ec2eb40bd148a3":[[3902],[39]],
-"xdb5c548b11c76434":[[2462],[9]],
-"xa3cc869fea87b040":[[148],[25]],
-"xb31bccaad13e5781":[[3938,4013,3690,3502,3826,3817],[38,38,7,6,4,2]],
-"x8f05f86dfba1812":[[3902],[4]],
-"x9d9c6a2b5255a44":[[353],[3]],
-"x6136af436eeeaff9":[[324],[7]],
-"xd73a2906e6bf96a0":[[3761],[4]],
-"xee963b35e77e3e4f":[[3112],[5]],
-"xac9aa0d8e729ce04":[[3501],[11]],
-"x131780c715f91f58":[[1371],[5]],
-"x311b301e7f676a2d":[[3827],[3]],
-"xc761f0e5d2c9aad3":[[2851],[3]],
-"x4d1402f03b07c41f":[[3372,3112],[58,3]],
-"xc85fd8ed856ab454":[[2267],[9]],
-"xed083accdb4f5684":[[2915],[2]],
-"xfb67a1d34a70278":[[3169],[28]],
-"x466b466e6b14751e":[[1180],[4]],
-"x841cc9231066935f":[[262],[6]],
-"xd0443e81b2cf1960":[[129,1436],[12,6]],
-"xe40e4cb797c82471":[[3362],[9]],
-"x5403cf076e9905cc":[[4013],[7]],
-"x218d91a236b4d459":[[1699],[5]],
-"xcbb798ce12b161b3":[[1355],[1]],
-"xe1ca325ba6b2b369":[[3307],[6]],
-"xe1ce5146b972fb0b":[[2203],[2]],
-"xe92997433b6a0c17":[[3582],[6]],
-"x2bd440cc0516ee88":[[1374],[6]],
-"xf359669f257943c5":[[2657,2664],[9,1]],
-"xe4719b73253493a":[[2200],[3]],
-"x6a62d2265c635e64":[[2593],[6]],
-"x2eed61b5d007dbd7":[[1104],[3]],
-"x1abb4786891493d0":[[148],[2]],
-"xb39add5c411359b7":[[3947],[4]],
-"xc8a04986e0f3bfeb":[[262,983],[19,3]],
-"xf910d15e74bbbbe3":[[1894],[2]],
-"xdb101b96bc1482ae":[[1699],[4]],
-"xc6de04410588e156":[[1371],[23]],
-"x80706346bfaa746c":[[796],[4]],
-"x48f5760301e4579c":[[709],[6]],
-"xdf628da5ad17adea":[[3364],[3]],
-"x8968c0aee231f085":[[1332],[6]],
-"x70be75192b7cf55d":[[2073],[5]],
-"x602e0613cbe389a7":[[718],[4]],
-"x9fdcc6ff2310a93":[[262],[3]],
-"xa31686bf39ed2096":[[267],[3]],
-"x29bd514d0fa56719":[[1307],[5]],
-"x10133a841c0ed747":[[2982],[4]],
-"x8e057a7ada5c8ce1":[[1553],[3]],
-"xb4c3f0e480f23978":[[339,175],[6,4]],
-"x7105d05d2f1e2de3":[[1828],[4]],
-"xdcaafb53dbe8e9e8":[[3819],[3]],
-"x325c49e2fdc63dfa":[[3828],[14]],
-"x2bbf214f4f7e52ae":[[2414],[3]],
-"xbda041da40776973":[[3298],[6]],
-"x38c3d5f0c71c4549":[[1998],[15]],
-"x14383d83339e8450":[[918],[4]],
-"x64ab8a79456bf2a2":[[2333],[4]],
-"xb207b4f7e2e805ba":[[324],[3]],
-"x428d62e7bb956e9c":[[1244],[6]],
-"x82e3e1c8a220bc02":[[334],[11]],
-"x232b314f8ad5ce26":[[3964,3742],[22,4]],
-"x276342d8d2e6622c":[[1763],[3]],
-"x80d3d29ee4dabce3":[[202],[21]],
-"xa7679f12e3079532":[[3956],[1]],
-"xb2b5e1588b82985":[[3956],[4]],
-"xa7458b095d8e24b6":[[991,262,1380],[14,8,8]],
-"xb176da75d0602616":[[603],[3]],
-"xc7ed72c7fbf4e5e0":[[3438],[3]],
-"x8a2a9840565dcac4":[[3699],[17]],
-"x880069124d2142":[[166],[4]],
-"xe523a8fdb5596d21":[[3902],[8]],
-"x860daeee09535bf4":[[1616],[3]],
-"x6e8b15d6667324de":[[1380],[6]],
-"x62c962664021f488":[[1828],[1]],
-"xd9f26c7639a3cdc":[[1762],[4]],
-"x1c136436c36eb8a1":[[1770],[6]],
-"xa4cd160a2c9b0b5b":[[3169],[2]],
-"xb98e490b8bfe7e93":[[3307,2281],[64,4]],
-"xaf8e072e2219dc9d":[[3307],[3]],
-"x1957d3aedca893ba":[[2931],[5]],
-"xa3ac308694dc7da":[[1307,731],[17,7]],
-"xebc2995b610f224c":[[1228],[4]],
-"xcf39a832fe36452":[[262],[3]],
-"x285f0a30379be8e0":[[3234,3299],[6,5]],
-"x3a0a32368208fb95":[[601],[5]],
-"x438bda6948bbc6ce":[[3642],[5]],
-"x6c898b4e6612640f":[[2268],[5]],
-"xf97280521f18a04a":[[3299],[8]],
-"x2c3cdd8e245198a9":[[1356],[3]],
-"x661f62500bb6d2c2":[[658],[6]],
-"x921da0f06655d219":[[2724],[4]],
-"x73e8ca3a7ef0687b":[[3699],[23]],
-"xb835b2cf3d94e62a":[[3902],[20]],
-"xb681b44a373b2ea8":[[3645],[3]],
-"xa08d277f6e263551":[[3821],[40]],
-"xe537d6be4cd90a0d":[[853],[3]],
-"x7b272c1aeed92501":[[3178],[6]],
-"xd9bc981315ba23c0":[[3957],[5]],
-"xe9f8ae3b64c7a33f":[[2593],[3]],
-"x9734f1704832688a":[[405],[120]],
-"xa4d65ff0a0582d86":[[202],[22]],
-"xa11495056f000a66":[[2346],[4]],
-"x7ff5e7f43bc54253":[[2426],[6]],
-"xc251c0bdf47ab501":[[1389],[6]],
-"x1f2ee4977078768":[[3177],[7]],
-"xb62db2775b1d33de":[[75],[5]],
-"xd0d3736b2c8cdaa2":[[1746],[4]],
-"x776b662815008410":[[3963],[3]],
-"x72597e004c448494":[[148],[7]],
-"x591773c911a8ff9a":[[861],[3]],
-"xfcc59cb02d7e4ec5":[[3902],[3]],
-"x5569433bc909021d":[[262],[4]],
-"xb0b95dacc3c6d2fb":[[2282],[5]],
-"x6d59e93f5f7e880":[[1661],[7]],
-"xfa5f4a5085619b72":[[528],[3]],
-"x4ac63f976b9baa58":[[2715],[5]],
-"xd3801b6871adc60c":[[339],[29]],
-"x418999f8e5a424fe":[[1877],[8]],
-"xa4d22a6b58fb01b3":[[1437],[11]],
-"xb311f535caaa136e":[[3257],[3]],
-"x5ab1121615c099bd":[[594],[7]],
-"xae018c2020f85f4d":[[3307],[6]],
-"xccf00300d93a2c9":[[853],[4]],
-"xea3572e45c9bc0c2":[[3902],[2]],
-"x2a46d368c27537ad":[[2672],[4]],
-"x2f0e815f103aa678":[[2332],[5]],
-"xb5d914de586ff721":[[3901],[2]],
-"xfd254db218b41113":[[2124],[10]],
-"x598a39298c450f73":[[924],[5]],
-"x76d6768c877351cc":[[2603],[8]],
-"xf1695a13d31d3268":[[1765],[7]],
-"xa2197fc9fd8e4f49":[[1965],[2]],
-"x77deff3301584b67":[[1185],[6]],
-"x6d343ccc3ebe28c4":[[3902],[4]],
-"x610451c95757543c":[[918],[8]],
-"x478af4ea7c226ce9":[[3902],[1]],
-"x868dbaca482d047f":[[3964],[37]],
-"xcb6c0e40ad632b0a":[[2931],[2]],
-"x56ac851dae3c0853":[[1699],[3]],
-"xe101a46fe3a237f2":[[2851],[6]],
-"x40d24dfd30963a6b":[[2593],[4]],
-"x2bcddada847d3b79":[[3688,3699],[7,1]],
-"x1636a68587d63f12":[[2258],[7]],
-"xe248524e0ce729e2":[[3112,3749],[9,5]],
-"x574c1ff70bb430a":[[203],[16]],
-"x1c0625e402dd14a8":[[3372],[8]],
-"x9ed8fd8db9a45d4c":[[339,332,593,926,139,1308],[123,121,32,32,26,6]],
-"xfbfd75d0d1a8c838":[[405,731],[36,4]],
-"x5fa93baf28bc8154":[[82,918],[17,4]],
-"x308c192e69cfa3e4":[[3749],[4]],
-"x6d6a4b2bc086f09d":[[3958],[2]],
-"x2f0e3304f04e4c1c":[[262],[6]],
-"x8d33d7b81a918537":[[3104],[6]],
-"xb608efb183c9d7d6":[[3177],[3]],
-"x50e31cc7bb7815d":[[3902],[5]],
-"x9eac2efcc84f2a1c":[[3307],[2]],
-"x13129c7be813199d":[[262],[4]],
-"xf5f3f2e7abbfd961":[[1098],[3]],
-"xcb6774b900915e67":[[334],[15]],
-"x894e9eb89d9fb1b0":[[82],[3]],
-"x8cdb26bfd7a374ef":[[396,209],[5,3]],
-"xbb329fc4a582c826":[[339],[9]],
-"x3e292b4af7ce11d8":[[1380,82],[11,8]],
-"x4cdd1fb6438c9a12":[[3761,2137],[30,18]],
-"xa172db80b620f9b2":[[262],[4]],
-"x7300c57d39f2230c":[[1835],[6]],
-"x4c9a0ef770606eb0":[[1371],[4]],
-"x670a13d49033ab4a":[[528],[5]],
-"xb62143a5362008bd":[[3690],[3]],
-"xf7fb4f46f9cf4eb8":[[3902],[2]],
-"x39acef7bad7f76d5":[[2203],[55]],
-"x2cfa4d8ba0651f17":[[148,861],[9,3]],
-"xefcd17fb369e1ea2":[[658],[29]],
-"x387d66fc5f4dd78e":[[1252],[3]],
-"xa6a90e5475b4d804":[[334],[68]],
-"x24d7783ca96d2314":[[2528],[3]],
-"xa97f6b3d660e70dd":[[170],[6]],
-"x20bf20e36c308989":[[2787],[1]],
-"xc3ab82f03d4b875a":[[2463],[4]],
-"x307ac1060a746d69":[[451],[6]],
-"xcbd55c2f80249f3f":[[3902,2266],[72,10]],
-"x25580e24ef466ff8":[[1373],[6]],
-"xbdeaacc4911f3fcd":[[3956],[4]],
-"xc29a0934bb04f65d":[[3902],[6]],
-"x41e93c4b5069fe9b":[[3958],[79]],
-"xf7e16ea790bef5a0":[[1179],[5]],
-"x72c93b50b0055afe":[[1827],[3]],
-"xe16c16764ff70c94":[[1381],[7]],
-"x4887f7492c835fa9":[[3956],[1]],
-"x4adfabd7fbc45bda":[[1814],[188]],
-"x1e5b77fff0feb2ce":[[262],[7]],
-"x5c66bdbabc9cd7a2":[[3112],[7]],
-"x56314a05dc75734e":[[2786],[8]],
-"xdbe027a378413638":[[322,2],[14,8]],
-"x466c47af65d022c9":[[262],[4]],
-"xee3f3e669c020a55":[[3956,4013],[5,3]],
-"x217bd3c301682966":[[1828],[3]],
-"x5dac3e4992fe5653":[[1738],[3]],
-"xc0f86d7a7dd89509":[[1827],[5]],
-"x1e8a3dba364dad69":[[75],[3]],
-"x82f7804d7fe646cf":[[3902],[5]],
-"x8bddcdde37fd2677":[[808],[2]],
-"xefd6b380444fdcd8":[[1262],[1]],
-"x6e482b91521cf4bc":[[3902],[12]],
-"x21940538656bc70c":[[3502],[5]],
-"x43167f9c8a0f5482":[[668],[5]],
-"xdbf000602d533e2c":[[3754],[10]],
-"xa45326b6b9dcc668":[[2788],[2]],
-"xd3a3a6a158a8e0ac":[[1380],[4]],
-"xfa0d13e5af28cb1c":[[3566],[3]],
-"x5e40ab5f4c543d2c":[[1652],[1]],
-"x4ea43cd18ded198a":[[3519],[3]],
-"x27ae1de22483670d":[[1633],[7]],
-"x5b4f0f9260679ce8":[[339],[1]],
-"x4d346f938d3ce446":[[3690,3242],[9,2]],
-"x7b09935a9683c276":[[716],[7]],
-"x1927119a82858042":[[1618,1632],[3,2]],
-"x24e9406de79abe9d":[[1371],[10]],
-"xc756089e84807709":[[3746],[4]],
-"xb50e058dc71fa0b0":[[219],[3]],
-"x18d6d8fe88f825a4":[[2722],[3]],
-"xe39cfa1c2aa2eef4":[[3761],[3]],
-"xc6ada4113f650cfa":[[731],[4]],
-"x2148f869fb331c3e":[[2852],[5]],
-"x7e540cd6c0366ce4":[[1835],[3]],
-"xe65d965b56fe8002":[[213],[14]],
-"x38e1788930cda1fc":[[1758],[18]],
-"x51c2b348318a01e5":[[3688],[8]],
-"x1b3bd74eed2a263":[[353],[3]],
-"x46edccefb154c9d":[[2593],[2]],
-"x9079e20d32ddbf1c":[[3502,3372,3690],[70,28,3]],
-"xd7edfeb55b377d62":[[2931],[29]],
-"xc36f579f9975fb5c":[[381],[3]],
-"x7475aa039f8cb85":[[3242],[12]],
-"x29faded7dd6a9051":[[3113],[3]],
-"xdf2abbb7f008c4d1":[[1892],[3]],
-"xd3fa00eab54d9fa":[[1835],[4]],
-"x4c8e273fe21f806e":[[3642],[2]],
-"x4837ce34247bf06b":[[3429],[1]],
-"xe42ae3059e75e9b":[[2268],[6]],
-"xcb1d400e0987e6d5":[[399],[4]],
-"xc7181f96caebd12d":[[1243],[16]],
-"x9996e71485e349ad":[[3104,3828,1611],[12,5,4]],
-"x6dbeb9ad27e1d5cd":[[75],[2]],
-"x17375876bf7c878c":[[3902],[4]],
-"x939776af94b9796e":[[346],[10]],
-"x4956bae44a58b3a3":[[3902],[9]],
-"x2c7f715366d4b100":[[1552],[7]],
-"x78849f2aa7046688":[[3234,3177],[25,8]],
-"xfeb0652a44eab87f":[[2917],[4]],
-"xd9a8388af897439b":[[2423],[2]],
-"xdc9ce108ce283921":[[3492],[2]],
-"x8e22f38db8d6c257":[[2991],[6]],
-"x2efb94d081152a6c":[[3902],[2]],
-"xd3a9a8597bc01788":[[2414,3902],[25,12]],
-"x4683f903bf4a4273":[[1699],[11]],
-"x12c554145d647aff":[[405],[1]],
-"x93b8aaae628adc41":[[131],[1]],
-"x6d735d5245c24cde":[[731],[4]],
-"x4b7fd23f6515a802":[[3902,3642],[59,3]],
-"x33f09c875fb5292c":[[3300],[3]],
-"xc4ec6f2ec09d1fc0":[[129,983],[4,4]],
-"xa0e4b5635574eb07":[[2723],[3]],
-"xf78f0455399711e":[[2281],[8]],
-"xf25f4a581f4a7d":[[75,1763],[87,2]],
-"xfdc4758271526d0":[[324],[4]],
-"x4970b50d849d72cd":[[1487],[6]],
-"x60b80a51c3bd1a7d":[[3958,3307],[63,3]],
-"xb0d1503d0162a83":[[2331],[4]],
-"x1eab8cd5b6b2db0a":[[3902],[2]],
-"x34869342e43c41b6":[[1106],[7]],
-"x9cbe5e4028e645bc":[[186],[6]],
-"x2c62b7c7eab525b":[[204,1764],[11,3]],
-"x165f406d1ba27c52":[[2414],[3]],
-"x23f9b806d0871a":[[3169],[5]],
-"x42397798ca1bcc80":[[1618,3307],[6,3]],
-"xe9fcc5b0ccce3988":[[723],[4]],
-"x9bf9e137610fee9b":[[3372],[5]],
-"x74c7ba87f6758a5a":[[804],[6]],
-"x1d0bf4cab4e16655":[[1176,213],[5,4]],
-"x8f4decf7e2ffd00a":[[3826],[3]],
-"xe46ea49fbb5d957a":[[405],[8]],
-"xb24068b0cb3b08a9":[[796],[13]],
-"x57e8266ebea6fe69":[[1562],[7]],
-"xfbc828d4b775c13d":[[262,202,82,75],[162,25,8,4]],
-"x788a6d25c9d44cb8":[[3299,3956],[9,1]],
-"x91e1ce8cf91dddb3":[[3169],[6]],
-"x6b9bcad6ab7e45a0":[[1762],[6]],
-"xa1c571c86418537c":[[268],[6]],
-"xb7b1ff4dfb6009f9":[[1699],[6]],
-"xe5eaae10d4b2d7b":[[1762,991,1164],[9,5,5]],
-"x727efc0af3751a43":[[139],[32]],
-"xb4de4cf015d7a899":[[853],[3]],
-"x1579f64fd66e8f34":[[1683],[1]],
-"xa88a1aa7f8ae81e3":[[1045],[6]],
-"x1c88a4adeb973397":[[137],[2]],
-"x498692122d6e2e81":[[3827],[3]],
-"x86c97ca1e31c72ad":[[1699],[23]],
-"xa0a684ccd7eaf37":[[1958],[7]],
-"x1ed4b5e5b235da26":[[2414],[11]],
-"x56765739fe794835":[[3437],[8]],
-"x59752fc0b5ea13ba":[[2585],[5]],
-"xfa3b1f0cd6a0b783":[[2089],[2]],
-"xf62c60dcfaea85b4":[[3690,3902],[6,4]],
-"x63ea9bea66a74b28":[[983],[2]],
-"xcf7d0c5b95d4f97c":[[137],[13]],
-"xe0b4cf43ef1c2378":[[3436],[12]],
-"x792de080b4a1fea4":[[1762,137],[4,3]],
-"xd3f1231f17f53d99":[[2915],[29]],
-"x9a235170c4925f4a":[[2324],[10]],
-"x3e795944e975fdd3":[[1705],[5]],
-"xcb47c24a5c5b0de7":[[258],[22]],
-"xfb5dd2dfb57ec38a":[[1569],[6]],
-"x194b92d7d42df199":[[334],[15]],
-"x2575d35a5df0b08f":[[405],[6]],
-"xc347ae1612873b5d":[[346],[3]],
-"xb8dd42023184add4":[[3307],[4]],
-"x4eeda1e7b2596465":[[1827],[5]],
-"x98dbf68412aaf798":[[213],[2]],
-"x8b336d8251bd37df":[[3642,3902],[9,7]],
-"x47267d19cf39657a":[[3242],[7]],
-"xda2fa777334cff7f":[[339],[5]],
-"xfff2b811d98f194a":[[2796],[3]],
-"x55686a890b485cf0":[[3832],[3]],
-"x13a1ec4aa73b55cc":[[593,139],[5,3]],
-"xfa4f977323257272":[[211],[3]],
-"x629825194341f6e0":[[3808],[5]],
-"xdaeb00361bbdc621":[[919],[3]],
-"xf05890cc2ae2e31e":[[3742,3749],[36,6]],
-"xd1e2106589a6c12f":[[1765],[7]],
-"xc368da9b1327df6":[[3742],[8]],
-"x37222cf1fd61262b":[[901],[3]],
-"xa2c532bef582261a":[[2283],[6]],
-"x10f02245934a9b5d":[[148],[4]],
-"xde968f7e8a66bf55":[[3307],[5]],
-"x129e3f86d18c183c":[[3300],[5]],
-"x6db5822844de9ae0":[[3958],[3]],
-"x9da3170cf774ce2d":[[396],[19]],
-"xe45702e1d5167048":[[3964],[4]],
-"x29550c307f5a1d3d":[[2066],[8]],
-"xaf1d5da2e0e00801":[[222],[37]],
-"xce9319d82634984b":[[3502],[3]],
-"x4d57308e0e6f7f0b":[[3372],[4]],
-"x9d3b549412d7e9c0":[[2137],[3]],
-"xaf3bf165b7ca5aae":[[1681,1683],[37,28]],
-"x57569b06480ac95f":[[536],[9]],
-"xeeb17e6d140b29fe":[[3902],[17]],
-"x4d97ab45892d2a05":[[853],[6]],
-"xc2dd65d802876790":[[1293],[3]],
-"xfded6048ef30f9c4":[[2349],[5]],
-"xd12a9ec22cb974d6":[[731],[5]],
-"x3f7ec4796568bd9e":[[3690],[5]],
-"x895459b191e759fa":[[1371],[1]],
-"x4e8c15a019abca27":[[3363],[5]],
-"x44e246b67b892c65":[[3323],[5]],
-"x122b859dfee1484f":[[3956],[5]],
-"xbd5c8c220dd470f8":[[1763],[1]],
-"x103f9237eb05dda6":[[3641,4013,3364,2715],[6,6,2,2]],
-"xb50e373da2c3dda2":[[3956],[3]],
-"x758c536f64d4ade1":[[3364],[9]],
-"x661ee1838446c1ee":[[2204],[3]],
-"xab223d916c336f37":[[3690,3958],[10,2]],
-"x694dde1225d7098f":[[3362,3964],[9,3]],
-"xf4cb6f6cdee1d94f":[[658],[6]],
-"xe8f4f2d0eb715faf":[[918],[11]],
-"xf69125a5e3e14599":[[1761],[3]],
-"xab7b92427a437f64":[[1242],[4]],
-"x61da126dbf9f20b2":[[262],[8]],
-"x7e9b8729ecf5d699":[[658],[3]],
-"x8f2206d50acc3d0c":[[2387],[5]],
-"xfdafa63b28f29f0c":[[3112],[5]],
-"xa8e7c91161416feb":[[4013,3307,3169],[1082,57,2]],
-"x2bf35da140138875":[[1180],[6]],
-"x9bd1cc8f7b211a32":[[1683],[5]],
-"x4ba39fa879c93687":[[2737],[8]],
-"x10771565b5a96f29":[[731,723,2308,1123],[38,22,20,12]],
-"xcff87239fd76544a":[[3372],[156]],
-"xc89d224da59918bb":[[3502],[3]],
-"x7c987bdc4223a7db":[[452,983],[16,11]],
-"x6ff30d11c0b9b079":[[3756,3690],[4,3]],
-"x552776c6846d5522":[[3112],[4]],
-"xfaf193732057174d":[[991],[4]],
-"xf44b6961e533d1c4":[[731,723,204,405],[1498,79,10,2]],
-"x207fa52b32e5c8fd":[[2266],[4]],
-"x528ad5dba983ca30":[[2917],[2]],
-"x2daa354a42c67c14":[[2610],[6]],
-"x7170698ee023aa6d":[[3494],[4]],
-"xbbc770cbc61c1f19":[[991],[3]],
-"x440024286a62c71b":[[82],[4]],
-"x7427da7995633d8e":[[2908],[6]],
-"x206da012f95f7366":[[3501],[4]],
-"xcf0e68d76ce104ab":[[3307],[5]],
-"x641b19bac7414772":[[204],[3]],
-"x345e156e19b10950":[[991],[5]],
-"xc4dd00e2bedd1489":[[666],[4]],
-"xfaf1b8ba0292e20d":[[1676],[5]],
-"x1b1f5e2fddcbc6f4":[[3964],[2]],
-"xec903db24abda203":[[3956],[6]],
-"x1cc84643f2760f41":[[3956],[4]],
-"x7d06a1a013ccdc2e":[[1601],[3]],
-"xab2a1042b12c0241":[[3177],[3]],
-"x44863cf80e861ea2":[[1764],[7]],
-"xff255a197fff18d3":[[1652],[2]],
-"x8a849211630bddc8":[[2910],[3]],
-"x7e2f7a0a03038cf0":[[1187],[9]],
-"x51313c91e64d1ccc":[[3761,3756],[18,2]],
-"x96321808d8d18c68":[[1941],[3]],
-"xdd0885d187b2663b":[[323],[5]],
-"xfbaa6345e3775a82":[[2852],[5]],
-"x15a2d8eed409397c":[[2074],[3]],
-"x16a67237819263c2":[[3756],[2]],
-"x2c757b613fd44b2":[[731],[2]],
-"x3dc3ebc71ba2bd4a":[[396],[5]],
-"x1ed8a00e6126f61f":[[262],[7]],
-"x2089afaf332f63d2":[[3956],[2]],
-"x3a751f62a1c58a5e":[[733],[3]],
-"x6f4faca6b3fc34bc":[[389],[3]],
-"xb9247113132689de":[[82],[2]],
-"x5f168409423e52ce":[[796],[3]],
-"x4eb853a7473e6bdf":[[75],[6]],
-"xb4254e1531b7496b":[[2866],[3]],
-"x2245b707920982d9":[[3364,3299],[8,4]],
-"xe06b60ca762dfae":[[396],[5]],
-"x6513a162c4a7eeb8":[[3298],[4]],
-"x1b7d2c495ac4587b":[[2801],[3]],
-"x68eb160822586cb9":[[2088],[3]],
-"xb8fb1eac55191d17":[[1098],[4]],
-"x6ddbc3c94eb70257":[[1179],[5]],
-"xa883a3534d5ae8f4":[[3305,3502],[3,3]],
-"x2979aa4ce688bb99":[[3762],[3]],
-"xf7a9107e7534866e":[[1179],[5]],
-"x1380756e8f443455":[[3902],[20]],
-"x5e03d0fecb27c215":[[2330],[42]],
-"x6d271b34c2defe8c":[[204,82],[31,5]],
-"x714b3e59ce5deb98":[[334],[7]],
-"x6153c245092ecb72":[[3690],[26]],
-"x8e0f12b6191d2fc6":[[405],[1]],
-"xa08494f1ab45780c":[[2322],[12]],
-"x970d0c14b9764703":[[75],[2]],
-"x4a002ef73531317":[[1828],[26]],
-"x8e9a1cfc284bb836":[[322],[6]],
-"x76335744bfd9a79a":[[2257],[1]],
-"x1e197824175641cd":[[3234],[5]],
-"xa0e4d81206837b6b":[[2720],[4]],
-"x3be8de474479ad7f":[[3234],[4]],
-"x171b5a02166595d8":[[268],[1]],
-"x168f4d783c5158f5":[[536],[4]],
-"x622f6531540fcff":[[322,1355,324],[7,6,6]],
-"xcdd239a52d7daf49":[[396,148],[22,7]],
-"x7eba975ce3756472":[[1618],[31]],
-"xfeebf81e2e8e6342":[[129],[6]],
-"xc4ecb83299be7fb6":[[3882],[6]],
-"x6ebe7fed4ae6e8ae":[[438],[6]],
-"x39e78428a081f2bb":[[1262],[6]],
-"x388e841377ff0267":[[157],[6]],
-"x4b59a17b283f999a":[[1187],[1]],
-"x47182f3f945005a9":[[1699],[11]],
-"x8dc637b3d8ef35b1":[[2387],[17]],
-"x497986937fdc04fb":[[1828],[79]],
-"x3bf05466603a7a":[[3690,3956],[16,10]],
-"x223a0389bd4b4f12":[[1941],[3]],
-"x1992df347216820e":[[2461],[4]],
-"x1148ed5785e9b79f":[[323],[5]],
-"x265cb47ad8964468":[[2349],[3]],
-"x8e1990c7ca3090b4":[[3171],[1]],
-"xa075317a297920e2":[[334],[2]],
-"x963dfad5c28309f":[[332],[7]],
-"x5c5cbfc2cad8dc87":[[262],[2]],
-"x295efece369d6936":[[901],[3]],
-"x55bb12cbbd7e7186":[[3567,3902,3699],[353,162,9]],
-"x4b5f821972f737cd":[[4013],[3]],
-"xde12f5312c603065":[[2452],[6]],
-"x746a57c39cb97de4":[[262],[6]],
-"x79f25ae083f78e09":[[3690],[4]],
-"x34c47403d515e8b7":[[405],[6]],
-"xa7282ef0638b411":[[131],[3]],
-"xf5a225d32666d30d":[[157],[6]],
-"x6ee57fe57df96f0c":[[339],[4]],
-"xe5bdeda75dca49f":[[334],[15]],
-"x56a23fe5b5bdf4d3":[[353,332],[14,10]],
-"x2601216ee066ee35":[[2919,3616],[6,3]],
-"xe4d3bee5f794ade9":[[3769],[3]],
-"x522cf2b9d8488043":[[346],[15]],
-"x4de2ea88b7808c04":[[3299,3502],[4,4]],
-"xa4e5ec8fac0fd4cc":[[731,918,796],[35,6,6]],
-"x33b0584cdecae7f9":[[528],[13]],
-"x3d35aba4f4d93107":[[203],[5]],
-"xe75dda2a5e211582":[[3690],[8]],
-"x67fb818b84440444":[[82,75],[6,4]],
-"x3f307e948ed3fbfa":[[1561],[3]],
-"xcba785668a846b57":[[3902],[5]],
-"x81c68efe243469a4":[[1386],[4]],
-"xadab65cbefc92549":[[1],[2]],
-"x6d1e3b30e58df0da":[[536],[5]],
-"xa108196a18c3c27e":[[651],[7]],
-"xd17d9eabb0b429dd":[[284],[1]],
-"x24d3a521167252e":[[529],[8]],
-"x566fae5846863193":[[1164],[2]],
-"x15c5d07a2cf2afcc":[[797],[11]],
-"xc70d56287c9d651":[[1618],[4]],
-"x4107b4e976953a66":[[3298],[8]],
-"xed204f5158976892":[[3834,3567],[6,2]],
-"xaa7fd3ba1774cd74":[[3902],[25]],
-"xd8cb9611e16ff7c2":[[339],[13]],
-"xd856a9a89d17ea76":[[262],[23]],
-"x45b310e27ec4c207":[[1380],[3]],
-"x43591797f7fa4fca":[[593],[3]],
-"xfa485fc1c4c9574c":[[3242],[3]],
-"x4bb3a83f88d8e3cc":[[204,666,262],[6,5,4]],
-"x14e0b263f2b9ce47":[[262,1169],[4,3]],
-"xe09352e0a2435922":[[3947],[1]],
-"x5722846aeb2bac4c":[[1894],[3]],
-"x4108ebe59045bef6":[[262],[4]],
-"xe050f283a6ae0de2":[[139],[6]],
-"xb7712772f2f1f22d":[[324],[4]],
-"x22b38ca0e43b614d":[[276],[6]],
-"xf83c4b3d30b77337":[[2387],[5]],
-"x9ef78924ffca9290":[[339],[5]],
-"xa7bca967f2d8e160":[[2723],[18]],
-"xf6cc12381f04a69a":[[4013],[5]],
-"xeb3862dc38d44a3c":[[340],[5]],
-"x3d62cc4ca9aad661":[[3567,1811],[9,6]],
-"xe67cc6a7ef57a19":[[3169],[3]],
-"xfe6a1322d21428b6":[[3364],[5]],
-"xf5b65febdb9e80ae":[[4021],[3]],
-"x7511d9216903cbe1":[[2609],[4]],
-"xe81759cfe5103576":[[3964],[3]],
-"x3a85f195d1ea52f1":[[3699],[20]],
-"x3278069f6731972":[[1371],[4]],
-"x6e492ecc2ce9cd19":[[3938],[4]],
-"x9200f9e456726a04":[[339],[4]],
-"x734f80eec86b596c":[[3958],[4]],
-"x9236f861c050e630":[[2228],[1]],
-"x871ab2472f920c0":[[396],[1]],
-"xb2790472b437dea0":[[405,82,658,991,148,75,332],[104,96,20,14,12,4,4]],
-"xd5d76ffaa0b21083":[[2331,3929],[9,2]],
-"xcbfa2886c64a50e3":[[3299],[5]],
-"x8800e7891c2c729c":[[3104,2851],[3,3]],
-"x401ca2a0df8680b0":[[3446],[3]],
-"xb59ef3429bc39b51":[[339],[7]],
-"xbabc9eb44117e636":[[3902,3567],[8,1]],
-"xd483e34a37d34440":[[3234],[4]],
-"x6d8aa83c89a57658":[[157],[3]],
-"x20c2cc5e683ef587":[[82,853],[1856,13]],
-"x6930d781659c489a":[[1253],[6]],
-"x94d1ab3dccde55ec":[[2268],[2]],
-"x6f885037e86a9082":[[339],[31]],
-"x64dc3b9ab0d28634":[[658],[11]],
-"xd2b284caa61bba23":[[3958],[4]],
-"x2f813fee41ea103a":[[1764],[3]],
-"x94dd07824a4331e3":[[3],[2]],
-"xbb0320ec09005677":[[3956],[2]],
-"xaa043b50c4e2dbb6":[[3307],[21]],
-"xc06f626c92ba24d1":[[3756],[3]],
-"x3bc9a8a0d1145025":[[3688],[5]],
-"xc70d58466ff2a877":[[2387],[4]],
-"xd4276b0e94472cdb":[[1764],[5]],
-"x214ea1854663f8a3":[[1],[30]],
-"x7a9059d47ac659eb":[[3178],[3]],
-"xd14ae5f6d39ff8ea":[[1762],[6]],
-"x927b56ab0761ddc2":[[592],[3]],
-"x8187a771786281ad":[[1876],[3]],
-"x1641890736f67d4a":[[3307],[8]],
-"x431348e191d2f06a":[[3642],[3]],
-"x58f2f1d75bf3163f":[[3956],[5]],
-"xbb2ec4554da3411a":[[3429],[6]],
-"xf9b65d2a63be23c4":[[213],[3]],
-"xa3e0bd544bd35560":[[1371],[8]],
-"x9ac35149046a3229":[[3436],[3]],
-"x2a2d85fcc0fad6a":[[1380],[2]],
-"xa51bc5c2f8957196":[[3902],[2]],
-"x9f22ea03d5f155fa":[[658],[5]],
-"xa3b920c2ab928f51":[[346],[5]],
-"xa468857bc576ecb9":[[82],[19]],
-"x143db7a0149d3d8b":[[788],[4]],
-"x57a978250d626e90":[[3902],[2]],
-"xba0db89a00fc8968":[[1933],[1]],
-"x7f1d76479066fb9c":[[2350],[3]],
-"xc4897aead815938d":[[722,594],[7,4]],
-"x5849e576bffaf598":[[2203],[4]],
-"xf68db0d75cb59dfd":[[3761],[3]],
-"xcb79f1fda7b80f4e":[[3690,2272],[4,2]],
-"xbbdcc0f6c2e9d02c":[[3234],[9]],
-"xc8626a260d81d042":[[1244],[10]],
-"x74699b15e3c424b8":[[2987],[3]],
-"x13530da9d7f20c53":[[262],[14]],
-"x4416104a7a43f3fc":[[3177],[3]],
-"x9d3b98ef4637f212":[[3902],[6]],
-"x62023f3b94c95da8":[[2331],[3]],
-"xd63859dfbfe8c74e":[[3963],[4]],
-"x14b3b27d1f1388a2":[[82,731,593],[53,19,7]],
-"x6af9a7738f533fba":[[3688],[9]],
-"x38de86c2d3495c68":[[3372],[3]],
-"xf8441e54b9739e08":[[3559],[1]],
-"xfb636935cd3bcd01":[[4020],[13]],
-"x52858f3aa3722c7f":[[3826],[3]],
-"x3cf581c5fcd90f7f":[[918],[4]],
-"xb1427eedf1cf1dc":[[148,1770],[2,2]],
-"xed6cc585aaec3115":[[788],[4]],
-"xfc41957918f7eaf6":[[258],[114]],
-"x8d2bf3a296d494b1":[[2477,213],[11,7]],
-"x2c5e2bff4e7231f0":[[2915],[3]],
-"xfdfb4f7e0ce4ceb":[[926],[3]],
-"xd4113d9ac942a0fe":[[3902],[3]],
-"x4c6a041ff1aa3381":[[641],[3]],
-"xb3989ac313face":[[1185],[6]],
-"x3b995b70bda5de64":[[211],[6]],
-"x21aadc60c91291fc":[[1699,82,405],[12,8,6]],
-"x145eec5f62487f60":[[3307],[2]],
-"xec392790f3cf8b0f":[[3834],[19]],
-"xe35de4ca91ee2664":[[1878],[6]],
-"x7b19de6ab35eb6cc":[[3762],[3]],
-"x6ea7b1078b02c814":[[3112],[5]],
-"x7ecc564fee64c646":[[2720],[1]],
-"xd53e1ec15362508c":[[789],[16]],
-"xd7d8034fe592e2b9":[[1756],[1]],
-"x9779ee4fda2b3a79":[[3699],[3]],
-"x3416680ae3356514":[[75],[4]],
-"xd7ba845e2dc63277":[[209],[5]],
-"xb00ebf9d8190849b":[[3958],[16]],
-"x23b8a6aefee51126":[[1348],[4]],
-"xc0b355b82eac4fb7":[[536],[6]],
-"x7b82390774e3d5d3":[[1827],[26]],
-"xa95703eebebffe9e":[[3902],[2]],
-"x4ff8be17f00ea629":[[3749],[3]],
-"xc388f20758c45dc2":[[3699],[5]],
-"xdb62e3086e0dfbc4":[[321],[10]],
-"xb3581cfba898ffa0":[[2788],[4]],
-"x491897bd1398a128":[[2788],[4]],
-"x3774a361dde63617":[[3690,3372],[35,6]],
-"xd1e5541c79830525":[[332,601],[8,5]],
-"x2530eb4f0709c5a8":[[2593,3372],[10,8]],
-"xf69d3a72cf4ecb37":[[3699],[5]],
-"x9ad46f1e097bb669":[[991],[5]],
-"xad73333b87108df8":[[2152],[8]],
-"x4fde92a5e96b1a7":[[2338],[5]],
-"xdd0504370a70cd90":[[405],[25]],
-"x1e4ac8f439115b6c":[[3902],[15]],
-"x38746382d1f817e1":[[3956],[4]],
-"x56f99c413c6ea53":[[1699,731],[27,6]],
-"x25e58413c02fd72a":[[1891],[3]],
-"xd7b534a695577dbd":[[324],[3]],
-"x53c3142c49aa22d6":[[3234],[3]],
-"x43ccc22c7141df24":[[1226],[4]],
-"x8f9afd4a2bb56a46":[[917],[2]],
-"xc5228accbedeb427":[[1940],[4]],
-"x61753373802e184a":[[1380],[30]],
-"x6e745075c47a725c":[[1380],[6]],
-"xafe6924fafae4007":[[2724,3642,2720,3833],[7,4,2,2]],
-"x6ea277eb0d6be2e2":[[1763],[10]],
-"x1123c2a2ce200a59":[[2724],[4]],
-"x962d350f5eea561d":[[2980],[5]],
-"xbfa2389cfd0d38e9":[[2266],[5]],
-"x25b92ce5a0a190b5":[[528],[2]],
-"xb63cb1f67c81a4d7":[[2787],[5]],
-"x1cdb973eae23ae6b":[[1180],[4]],
-"xa5e2dbb5d002f12f":[[262],[8]],
-"x29e485c296bc2282":[[796,324],[36,9]],
-"x97fafec5727cf795":[[209],[54]],
-"xf92c63a658e9da67":[[3699],[2]],
-"x571e5e8e49bd1068":[[3964],[8]],
-"x6a3408db21c2bdd7":[[853],[6]],
-"xbcf5fe1152b1e472":[[3373,3305],[32,8]],
-"x32ab911f04e8b81c":[[3891],[3]],
-"xbb7baa3f53c7a823":[[2779],[10]],
-"xf65a696403c3b06c":[[227],[4]],
-"xdacb2b1a6dcb3a2a":[[1187],[4]],
-"xf029c25ec54a9db4":[[1371],[5]],
-"xdd3c8972401c5a00":[[1828],[2]],
-"x778ad04b5f97576a":[[222],[3]],
-"x256efe22a054229e":[[1050],[6]],
-"x35c8b9dbe1c9e7a1":[[3828],[8]],
-"xaacbb32cdbf1c103":[[353],[3]],
-"x5abae8bc4dcddc51":[[1114],[7]],
-"x7f521d1d34c31a2b":[[166],[34]],
-"xedec3459f825bf1d":[[2720],[4]],
-"x8b57b7e1f3fc6d46":[[1431],[5]],
-"xa7889a520826a56f":[[2346],[13]],
-"x798d3301534ec0b0":[[175],[6]],
-"x195759f335ecba29":[[3761],[3]],
-"xe3f3f35b4affc4df":[[723],[8]],
-"x3d5d2501ca6a60bc":[[284],[4]],
-"xaaa7dd67cb8a115":[[75,983],[10,8]],
-"xffdf721b2483b53c":[[918],[4]],
-"xdc296c68b9da42c0":[[3819],[32]],
-"xb1a253b8ebb06b91":[[2853],[3]],
-"xc41249910ba68797":[[3902],[5]],
-"x8739dff05d725283":[[157],[3]],
-"xbed3d6b0f139d4fd":[[3371],[18]],
-"x271f9ffcf8def4ef":[[405],[6]],
-"xa802704a1025ae12":[[219],[4]],
-"xbfa720bba0e8697d":[[3372],[6]],
-"x77ca10f581befdf2":[[601],[3]],
-"x3be0fb8ec94a02f5":[[1562],[3]],
-"x1718576b79b94142":[[3958],[3]],
-"x32b62cd22dc4c76c":[[3177],[29]],
-"x3529fd8e1da32863":[[4013],[11]],
-"x9a9ac2eb6b80660a":[[1676],[3]],
-"xaaac2d39db53853f":[[2931],[5]],
-"xd7abf78f418fd8ed":[[788,1699],[7,4]],
-"x63b74acb68a71e6b":[[1763],[3]],
-"x5aefaab4a1a36a10":[[3299,3234],[37,11]],
-"x271bd05dd1eb79a5":[[853,1763],[25,4]],
-"x98f35dc0bf023dd8":[[2852],[3]],
-"x4c639d362dc9d6cf":[[3958,4013],[5,5]],
-"xa17d8c2cdb6eac5":[[3902,1652,2285],[9,9,4]],
-"xf79a7b67bb8b04c0":[[3749],[3]],
-"x217c9925598d53b0":[[4020,3567,3112],[8,6,3]],
-"x244b72fa0a39bf43":[[786],[4]],
-"x5e686835e7d533f3":[[316],[5]],
-"xe249c99f81c0d1bb":[[3234,2852],[10,5]],
-"xfc970e19ec1d6d65":[[3964],[8]],
-"x99a4dc305e616978":[[3309],[3]],
-"xaef90f626c47af64":[[139],[3]],
-"xc908cf8b418088c9":[[2931],[1]],
-"x7f23092d7d80958d":[[1699,334],[18,11]],
-"x98a2a669271705ea":[[1763],[38]],
-"x58bff0171bb1bd1a":[[3763],[22]],
-"xabdee44a61f2c9a2":[[2682],[3]],
-"x4232a9318fe2c0a4":[[1244],[4]],
-"x2d897ba708a77c71":[[3690],[16]],
-"x3d6a392b176a7ae6":[[203],[6]],
-"x97651c00fd46645d":[[1772,3364],[7,3]],
-"x7687046611f26817":[[3169,3372,3502],[9,6,5]],
-"x3379a76899ec001b":[[262,666,731],[7,3,3]],
-"x4215f6c940398331":[[353,1187,339],[11,5,3]],
-"x648f239f1d551281":[[2477],[4]],
-"x1fd1ee429aba8fe1":[[262],[4]],
-"x6602d6ed72ce1221":[[157],[5]],
-"xa34a6f3e29d11e4d":[[262],[3]],
-"x73b53137027befd3":[[2346],[8]],
-"x8684f579911ec571":[[2269],[1]],
-"xcec6a8d909177293":[[262],[6]],
-"xab92a4b769c76aa7":[[3834],[3]],
-"x5016af26cb854479":[[2349],[4]],
-"x7b6fab2007958cb4":[[2333],[4]],
-"xf385acf5799ed599":[[3176],[6]],
-"xdd625f51a9924676":[[3373],[5]],
-"xf17885fafae62b20":[[3902,3699],[46,19]],
-"x3e3a60148d59644":[[334,666,593],[44,21,11]],
-"x37f3cc9fb0ff3f67":[[75],[9]],
-"x5f1a7960f43628b6":[[339],[16]],
-"x323fcbdf4fb04b50":[[2346],[7]],
-"x47bf2fb977aeeee1":[[2915],[14]],
-"xb7ea72da115b1f8a":[[262,1355],[5,3]],
-"x4e6951ced758f25d":[[3177],[3]],
-"x51125196b2484b57":[[3956],[67]],
-"x2bff8d24722a78e8":[[3502],[11]],
-"x4a9e68fab71e9815":[[137],[3]],
-"x411d0f4c678061a5":[[2330],[1]],
-"xd18d0b0ec1ce6773":[[3956],[4]],
-"xa76f67a616a52c6b":[[1810],[2]],
-"x7a21511866dc623d":[[4013],[2]],
-"x3665f050c1d8028d":[[2908],[10]],
-"x9a74bb48299f857d":[[1228],[3]],
-"x6f240ed17db49e4":[[323],[8]],
-"x94f9a788bd14d1a5":[[3958],[8]],
-"x63322d0b5960f588":[[3956],[3]],
-"x22a240c50cdd4bfb":[[990],[4]],
-"x9439d8901f5e8c01":[[1371],[9]],
-"xa6decc12ae90f5f2":[[3177,3699],[6,4]],
-"x3ba3264e6c1c4634":[[133],[3]],
-"x256c5f5949e3dc02":[[2219],[8]],
-"xca08440b1c532b84":[[334],[3]],
-"x8f3c4f7d1451b7ca":[[3234],[18]],
-"x9d6d44d615f43270":[[405],[8]],
-"xb510abdf8b1c6fe0":[[4013,3749],[40,10]],
-"x8f8bc7bf34616a3d":[[3947],[2]],
-"xd504447f121c916d":[[262],[3]],
-"x8ea2cad89cc6b969":[[3437],[3]],
-"xffe6484088e4a683":[[3761],[4]],
-"x42f7cc91a62dae16":[[3704],[3]],
-"xbe986f27462b9f0a":[[3169],[3]],
-"x9682326939c10854":[[3501],[1]],
-"xecdf25402d1736d7":[[3902],[3]],
-"x9ccca08cae71dac3":[[1371],[35]],
-"xec543da11f84837d":[[157,166],[23,8]],
-"x91ca749124dc0dea":[[1813],[3]],
-"x8afa5257c0a359de":[[3299],[2]],
-"x58c82f77f75f188":[[3642],[1]],
-"x79fd7ccaae242d34":[[1827],[7]],
-"x56b44487e629c8e6":[[788],[3]],
-"xd9239b64d31835f9":[[1764],[22]],
-"xfba4a46ef899f070":[[2933],[5]],
-"x22695ae699187150":[[3761],[5]],
-"x8f9b5dce1db2f419":[[1611],[3]],
-"xadb18d0605844509":[[211,2154],[8,4]],
-"xd8ded132fe39e983":[[3177,3234],[18,14]],
-"xac3799c4e970b3e6":[[3964],[10]],
-"x5890c95ef5375c7f":[[1699],[16]],
-"x71503c920b3e1d80":[[2131],[10]],
-"xa2cee8add00558e3":[[148],[4]],
-"x81ac9652cc3b9a13":[[861],[17]],
-"xae610fb249ac071c":[[2],[10]],
-"x8536ce6c70447872":[[2740],[6]],
-"xf0621ce5d1659779":[[1699],[3]],
-"x163d7951a526a704":[[3688],[3]],
-"xc048bf1177d99735":[[3807,3826],[26,3]],
-"xe8d96ea4420809f1":[[1180],[1]],
-"x4e7379e64900c56":[[3641],[4]],
-"x631e75b9fc263cfd":[[405,593],[241,13]],
-"x809ed9b3fa2ae055":[[536],[6]],
-"x3963711e4db5455f":[[3299],[4]],
-"xda4441898202ba4a":[[2268,2266],[19,5]],
-"xaaebe9e2b16464f0":[[139,339],[6,2]],
-"xa91c193caf6d441f":[[324],[3]],
-"x6ee3b5490afebb52":[[1618],[1]],
-"xaf763e734decb1a5":[[1676],[2]],
-"xd937597083eb1730":[[2349],[3]],
-"x5ab46976c8c0a9a3":[[82],[9]],
-"xd62a5d4136c991ad":[[154],[2]],
-"x189a7a94e0ba9465":[[2715,2931],[6,3]],
-"x81ffe4183bf7bc60":[[267],[4]],
-"x5fb15173a47635ed":[[454],[5]],
-"xbce2847ef553e461":[[204],[8]],
-"x80e042156e609047":[[709,721],[7,4]],
-"xd9973aafef1384f":[[3236],[2]],
-"x8b59815c06d6ee6a":[[405,1699],[9,2]],
-"x965357c2e8a7a30b":[[1892],[3]],
-"x528e101e71e3ce13":[[3178],[3]],
-"x103105c6a0da0b40":[[139],[4]],
-"x364d4876850fb33d":[[2973],[4]],
-"xe20aeab13219f05c":[[1179],[4]],
-"xc2fcccd96782f454":[[1762],[3]],
-"x46989f9eb7abf7ba":[[3699],[4]],
-"x90a095bcac01f8ca":[[139],[12]],
-"xa78606a5be0cf452":[[391],[1]],
-"x2250122f8960b5e1":[[1763],[8]],
-"xb2bf613cc630707a":[[323],[2]],
-"xd34c7ac0bbf1faef":[[3429],[6]],
-"xb795953d0d3fa5ba":[[2258,3956,3234],[51,7,4]],
-"xc9cbc50f1242fa25":[[2268],[3]],
-"x68cc16ce0f8016":[[129],[3]],
-"x7494afca673ebb49":[[983],[9]],
-"x621367386e40fa4a":[[1867],[6]],
-"x6495ddcacb8ed1af":[[3902],[2]],
-"x2c6f7132db273c7c":[[1244],[20]],
-"x2dff81cabe5ae4d1":[[593],[7]],
-"x4bc38177f93aaa9c":[[1763],[3]],
-"x391993c38e8a9d7d":[[1634],[2]],
-"x22d0f5b705885119":[[1438],[1]],
-"x57774ba96f32e9a9":[[2268],[3]],
-"x6eb470d10a8c675d":[[2786],[5]],
-"x30d2a7546f222bf3":[[3388],[3]],
-"x47580665885e825c":[[3567,3112],[12,7]],
-"xfb0249077f2ceb2d":[[3299],[3]],
-"x355d22e2259f554f":[[262,723],[4,3]],
-"xf55f43137ddca816":[[3177,3242],[7,3]],
-"x4d7590bf90fffaa9":[[730],[6]],
-"xf4ff0192b125c74e":[[2915],[3]],
-"x733cbdaf7ff1f9c6":[[3956],[4]],
-"x3543e66c7c4d0a87":[[2802],[2]],
-"x5dfdd7a81eb75a75":[[4031],[4]],
-"xa6c4dbaf0365a4b9":[[2203],[2]],
-"x902e9fc80a9f0578":[[3902],[15]],
-"x6cb1f82dc8e25107":[[1699,1698],[8,4]],
-"xbafc844b131acf09":[[391],[5]],
-"xf552ee1777658429":[[2333,3299],[47,3]],
-"x24cdccb9028fe2ea":[[641],[8]],
-"xd4df1852a7a806ad":[[788],[4]],
-"x14c658d9e8863ac4":[[3436],[3]],
-"x5e73ca8a151774b6":[[3902],[2]],
-"x43cb3b955b74e403":[[3642],[4]],
-"xfdbfdc51563a4eec":[[2603],[3]],
-"x410da8fdacad0ba4":[[3643],[6]],
-"xf449ff4566eae7b2":[[3899],[3]],
-"xc255db1202027ff":[[3300],[4]],
-"xbff7ee048d35ba":[[3699],[13]],
-"xef558482f7813d54":[[3963],[1]],
-"x98e9b821f4809551":[[219],[5]],
-"x70f80c6b05574c10":[[983],[4]],
-"x120614deea632f7d":[[2721],[8]],
-"xa76d570edf140b56":[[203],[2]],
-"x9a9e8d312d2ef7cf":[[3234],[30]],
-"x74e570c607853405":[[3901],[28]],
-"xf60e9075fddb18eb":[[3690],[6]],
-"x2a8cf51776aece8f":[[139],[26]],
-"x79c50a2506a6bb23":[[1238],[1]],
-"x687e671c06fa6e43":[[3901],[5]],
-"x6cee1b8537a7361a":[[405],[6]],
-"x17ace3f0cd57056b":[[3690],[6]],
-"x8f9e5de5dbf1ac56":[[3307],[2]],
-"x3145f0b24b53a6cd":[[148],[3]],
-"x207908aa9be70612":[[3902],[4]],
-"x1830b83d30456a68":[[1697],[3]],
-"x958fb08fd2fafe50":[[2931],[4]],
-"x7ed8b9e2fe5cac8e":[[3963],[6]],
-"x6bd552d4e7cca87":[[786],[4]],
-"xa96dccc5e130ac29":[[2851,2915],[12,4]],
-"x8b496bfc66444132":[[991],[3]],
-"xd4d2dbf00fb08d06":[[2203],[2]],
-"x764e69570f2e8d13":[[1155],[1]],
-"xe14c0e14ae55df1d":[[258],[5]],
-"xdddf42b5bd87d9e8":[[262],[2]],
-"xe92fee59c0baef7a":[[3169],[12]],
-"x6cbaf3018ad1c83f":[[1244],[5]],
-"xcfa9d495e08e0e6":[[258],[11]],
-"x52d0c50a3b0eaccb":[[3958],[5]],
-"x799af47be60a6cad":[[3234],[29]],
-"xdce20d207a647a21":[[204,601],[6,3]],
-"xdfdde78daccb2141":[[1756],[3]],
-"x7d3d2a8056c27ef1":[[1746,2833],[10,4]],
-"xacafc61a47613c25":[[3902],[4]],
-"xec68caf876584cba":[[258],[31]],
-"xf18d773e6d6c2403":[[405,407],[5,2]],
-"x1bbd0909e4a12176":[[3372],[5]],
-"xfb3987e664b1a491":[[1941],[7]],
-"x83ed2a77b94d3339":[[1813],[1]],
-"xa2bedcfdcb950afa":[[578],[6]],
-"xb28ded11c4541fde":[[594],[3]],
-"x87b951a4d0863e10":[[2412],[3]],
-"xa3027030ae8af1d9":[[3234],[2]],
-"x66e53ebca058edba":[[576],[1]],
-"x79aea1f8138ccce4":[[2,788],[33,7]],
-"xa7d36911e6264f67":[[1635],[2]],
-"x9ba9444fc549fcaf":[[3372],[6]],
-"x956bdda3248a7a7b":[[593],[3]],
-"x1453ca40e62bb5ad":[[3761,3234,3752,3567],[109,17,15,5]],
-"xa774645fc87ca1e3":[[1837],[4]],
-"x53a23e45046d4f1":[[1835],[5]],
-"xc485455997f72030":[[3307],[2]],
-"x29d2d83a25970b51":[[658],[94]],
-"x6c54535b7b10319a":[[396],[59]],
-"x2387689c6b38edff":[[3242],[3]],
-"x19dc3006507d7430":[[3958],[1]],
-"x7e07a4e6e7796de3":[[790],[6]],
-"x898883d58df161b7":[[593,75],[5,3]],
-"x17c646b528e24b82":[[2137],[6]],
-"x952c740f06284ba8":[[1176],[5]],
-"xd48ce65449ebc750":[[2931],[2]],
-"x71227013ccee96c7":[[213],[5]],
-"xac8fa71eff91dd03":[[2224],[4]],
-"xbd7d0f93793bb189":[[212],[6]],
-"xb36f50aca30f48a4":[[346],[6]],
-"xf8b70d5856c55658":[[3902],[2]],
-"x3ccde11c0b46c33e":[[3502],[5]],
-"xb0a6eebea745961":[[405],[5]],
-"x51e93811aa9a7a08":[[261],[3]],
-"xe6b964093f3f9d23":[[1176],[3]],
-"x438af5468dc12cad":[[4013],[36]],
-"x76c8247f657754a":[[2723],[9]],
-"xebce1ef678947def":[[82],[7]],
-"xb200da6543af4a1a":[[2030],[5]],
-"xa69fd30b9d680dfc":[[3690],[7]],
-"x5493a405a53f016c":[[1309],[7]],
-"x9c9e17b4da813c86":[[1373],[26]],
-"x9ca1411641eef6dc":[[2723],[6]],
-"x4f99eedd7e9d45a2":[[3958],[11]],
-"xd528cd0a25cd7eca":[[3714],[6]],
-"x118cd876319c1e7b":[[3112],[68]],
-"xbb5ef8f408505d2e":[[1699],[5]],
-"xd22349f7461109ff":[[3307],[6]],
-"xb0e87872c02585f6":[[2204],[13]],
-"x59e33af7cd0d0805":[[3761],[22]],
-"x4981d2f6c6e4e798":[[332],[2]],
-"x265be963db0cc1e1":[[3697],[2]],
-"xdd213c56c0f19909":[[2131],[3]],
-"xf85ec8995539dff0":[[3567],[2]],
-"xf1ecc847ba46012e":[[3647],[3]],
-"xb296a025749e41e4":[[80],[4]],
-"xe4ad85e1b22e43b4":[[3047],[5]],
-"x577826312284fd70":[[2867],[4]],
-"xd32dad26f1dd8870":[[3641],[5]],
-"xdf29174f42b57b00":[[3371],[1]],
-"xda91ab405a7466c9":[[1355],[6]],
-"x391c8060ac173ec2":[[1699],[58]],
-"xbe03dcd12a78abb":[[657],[8]],
-"x29a3d86ff4a0362a":[[1380,2023],[21,7]],
-"x7ad1252ae1fd44bd":[[3769],[3]],
-"x185a960b3cc3935d":[[3808],[3]],
-"xc1c898d35fd8189f":[[1569],[3]],
-"xf1855fa0ffabcb2e":[[1180],[29]],
-"x57674ee892599157":[[1180],[3]],
-"x8278e8bb5055894":[[82],[16]],
-"x2a47fbf63d566970":[[3372],[2]],
-"x2541bccb939ba276":[[1112],[3]],
-"xc83733ba1f2013c1":[[3819],[5]],
-"xfa56a74555d8d985":[[658],[26]],
-"x3f3a24aff0c4de25":[[1828],[4]],
-"xf2424f15b1f6d65f":[[722],[4]],
-"xb85f52bc89dd9a0d":[[1764],[3]],
-"xdf5a0783338d24eb":[[3242],[7]],
-"xd56b16f5b1b69b9e":[[2387],[15]],
-"x1d5adb90c28ecbc3":[[2266],[6]],
-"x2cfc10beccc2bb5b":[[3299,3307],[22,5]],
-"x404187378eb3b9b1":[[3112],[3]],
-"xb2c42ff23ae78ca1":[[4013],[6]],
-"x6fd838ef4ddda351":[[1699],[6]],
-"xb193523a5c49a65f":[[3176],[3]],
-"xaee1b5c15ef833ec":[[594],[4]],
-"x660bf0b7948631d4":[[1699],[6]],
-"x2ddfa596bc5238b3":[[2723],[3]],
-"x49074cd3cf99a5fb":[[2585],[6]],
-"xf6262c733f10ab08":[[1180],[8]],
-"xe26bb4b9d90c40d3":[[343],[2]],
-"x8db301ee4ae1e123":[[2508],[6]],
-"x58e82228c48ad5b":[[1107],[4]],
-"xf003db573d53bd4e":[[1746],[5]],
-"xf251d0f12e25be2c":[[1829],[9]],
-"x68d324d93bcb3525":[[3902],[6]],
-"xb2945442951f188":[[258],[6]],
-"x8066b757883659ed":[[339],[19]],
-"xb066683bf17d7ef6":[[3821],[7]],
-"xb5c83ffacdec0b15":[[1187],[3]],
-"xf3d38bb8ac163b79":[[4013,3690],[44,11]],
-"xa0395293eed43ea5":[[3178],[1]],
-"xc026571f32070cce":[[2],[3]],
-"xd864e7bae0a72169":[[1155],[3]],
-"xf1ee23838cc1ea31":[[3749],[9]],
-"x2fdb06eca5eecca7":[[3902],[11]],
-"x9191fa7972f5713c":[[3958,3242,3234],[84,28,7]],
-"x78d6340346edeabc":[[1641],[3]],
-"x97ac0222eccaad5d":[[1327],[6]],
-"x704082acffe420c7":[[334],[4]],
-"x8217fd52b6db1a7c":[[2851],[10]],
-"xb910f51230c2b52f":[[4013],[4]],
-"x4f75ccecfc08b5a5":[[3828],[4]],
-"xe08ede8cacd1d925":[[642],[4]],
-"x30a6db6955f0e343":[[1698],[5]],
-"x3466bad9e7fb6cad":[[1569],[6]],
-"xe40fb17c14e4f125":[[148],[2]],
-"x8745e5f40879f43c":[[2334],[3]],
-"xa26eeedc35f1164f":[[332],[6]],
-"x2c6df025e318af00":[[194],[3]],
-"x842cf78b43fe1ffe":[[3688],[1]],
-"xcbe82ec67d9716":[[262],[4]],
-"x61a6a8d64a13cef7":[[1034],[3]],
-"xca7036186139f491":[[796],[5]],
-"x23d575f7bd002e53":[[262,148,1763,1764],[368,71,42,37]],
-"x1eb434c35f2f2ac3":[[3699],[3]],
-"x256d2adf37c148b":[[3690,3826],[3,2]],
-"x14b434b1d5d1a80b":[[3817],[2]],
-"xad2f7a68066f33de":[[3298],[6]],
-"x32cc484d2497f9f4":[[334],[8]],
-"x546b1c573cf5e9f5":[[3956],[3]],
-"xed05d5826917c008":[[333],[1]],
-"xd35f110631289cfb":[[4013],[6]],
-"x3dcdb1a7d1324c8c":[[2915],[6]],
-"xa84d95d344260f8e":[[2096],[3]],
-"xfeaa5da6fcc2eed8":[[3690,3502],[4,1]],
-"xa7200c74b9d6b49c":[[3752],[6]],
-"x96fc7fa2b97a094e":[[1437],[5]],
-"xff6a92f43f26d393":[[725],[5]],
-"xa363d39df346502f":[[129],[3]],
-"x463b96181691fc9c":[[731,796,405,666,918,593,861,82,601,658,723],[11712,11476,2824,2071,83,52,20,4,3,3,3]],
-"xbc10795ae11120f2":[[2852],[24]],
-"xd4a37929206a193c":[[339],[3]],
-"x238a5ac564a50531":[[203,1187,861],[10,3,2]],
-"x37e7363d8591f29e":[[2723],[6]],
-"x51ce99c2fe6f405a":[[3299,3307],[83,51]],
-"x94b62aa18090b14":[[3808],[10]],
-"xd5358febca818cf9":[[2266],[2]],
-"x40d72945f98efacf":[[3699],[6]],
-"x7e93d7219b0d62b1":[[3364],[6]],
-"x5264d2d51d7c116c":[[262],[7]],
-"xc00c79cfa028df2d":[[262],[11]],
-"x67748292dbcabb15":[[2592],[1]],
-"xa7b0f2bf23e15ff0":[[3112],[3]],
-"x2aa0a72004766f42":[[3429],[1]],
-"xacaa72212c7b972a":[[1959],[10]],
-"x9222d48c920bd929":[[1827],[5]],
-"x1a8ee55ccef1a68a":[[332],[7]],
-"x96d71803e470f58":[[3761],[29]],
-"xc8c296befd87e220":[[1187],[3]],
-"x6f812fbd4170d83a":[[3242],[6]],
-"x4476e67bab0d6f33":[[3242,3958],[10,6]],
-"xb3efe2b14d2cbc7":[[3763],[27]],
-"xaba7fc04c5422cab":[[332,339],[26,17]],
-"xc3b666d7a7992d62":[[601,1699],[6,4]],
-"x6272545bb4d63c76":[[3641],[5]],
-"xc77ce2dc4a9340a5":[[723],[3]],
-"x9ef852ab70f45ad3":[[1810],[3]],
-"x6126333342a5da56":[[2851],[10]],
-"x813d7f67494d83f":[[2130],[3]],
-"x4466cb50737ef633":[[733,323,593],[11,9,5]],
-"xe151f8b18f5f4670":[[3372],[3]],
-"xf2a08201878b87ba":[[262,731],[13,8]],
-"x81aed88b19eadb4f":[[1162],[3]],
-"xfe873038d29402c6":[[3902],[3]],
-"x6a19b12ae4a4a8":[[536],[4]],
-"xb3419d7cab23211e":[[3242],[14]],
-"xd590f8e8438862cf":[[1098],[131]],
-"x10e69c2078695a4d":[[3902],[1]],
-"x5b9172024a673984":[[528,204],[5,4]],
-"x7ab2e882dab29fa0":[[3362],[5]],
-"x31c84bc2f1cf2984":[[3958],[6]],
-"x945ab249dcbe3666":[[1827],[5]],
-"xbf2a20b7136391fd":[[3902,3234,3177],[44,11,4]],
-"xbfc7b1574548d5ae":[[854],[6]],
-"x398e860da7b7c946":[[2682],[6]],
-"x749556481cef2f3b":[[3902],[3]],
-"x38093a733437aea1":[[3947],[2]],
-"x227ce3e5bbb063e3":[[262],[6]],
-"xe8a042c6d7215c8f":[[3316],[3]],
-"x5cf7962e2277c32d":[[2152],[3]],
-"xe4efe21629c3bb42":[[1307],[10]],
-"xc15519d531764744":[[3232],[3]],
-"xe7fa4340869e7b8a":[[2325],[3]],
-"x2be008822790e394":[[853],[26]],
-"xd30d8ccb00150eac":[[3567,2266,3699,3956],[146,63,35,3]],
-"x757367eee5229b4e":[[2277],[26]],
-"xe6f8969c996537a2":[[3517],[5]],
-"x558ee87f7996742f":[[3502],[5]],
-"xff64a554516bd3e8":[[528],[4]],
-"x1d335c5d6760da95":[[346],[9]],
-"x6e264da05fdcf675":[[334],[3]],
-"x7f95c806807f68b6":[[1642],[1]],
-"x2156247ccab89a80":[[3112],[2]],
-"x68cd2840020adbd2":[[796,405,658,75,788],[16,8,5,3,3]],
-"xd3c453215017a39b":[[204],[4]],
-"x6d9a7cc4e0a3f24":[[2355],[13]],
-"x5b0034bf6e8e6b26":[[1184],[3]],
-"x98806b2410a5a105":[[731],[2]],
-"xd475f81453dc1eea":[[209],[3]],
-"x97b26ace8ac5faf1":[[2443],[9]],
-"x717e58e4f8604a48":[[1763],[9]],
-"xb5d41ace0526b9ab":[[721,262],[6,4]],
-"xd57fd1a808ad88a7":[[3963],[3]],
-"x3b21411febbe8261":[[794],[2]],
-"x580ae603d3bd1178":[[222],[3]],
-"x7dbb70005c46a007":[[3244],[3]],
-"xd1eb6cedab045375":[[339,202],[14,4]],
-"xba4eb3c94fa9742f":[[1699],[41]],
-"x48ddd0d4ddb5926d":[[1746],[3]],
-"x286ef2d8f8e0013e":[[3958],[4]],
-"xf5a4a549004057af":[[3821],[4]],
-"x5e795e8a9f72f860":[[2203],[3]],
-"xb1d1374ffa1e682a":[[3373],[6]],
-"xf39e764850ad6165":[[2349],[1]],
-"x15ac0747acd4826a":[[323],[2]],
-"x415fc5a3d60c6fbd":[[3964,3429,3742],[10,9,4]],
-"x3fcb70016a46761a":[[3437,3956],[5,3]],
-"x81d096946d14a02e":[[3309],[6]],
-"x11371c4126183ef6":[[1187,2],[31,9]],
-"x37888f168a642d3c":[[2072],[2]],
-"x5433a08f95c16d4a":[[1],[4]],
-"x928f553aa0322ab7":[[262],[6]],
-"xcd653d1fe25dd74a":[[2915],[11]],
-"x96072e9e1766b56a":[[2331],[6]],
-"x651841e5468203a0":[[796,157],[134,6]],
-"xee73aecd4dda2c93":[[3902],[4]],
-"x6acccd632aad9e7a":[[3298],[2]],
-"xb223c8c773af1f64":[[2851],[4]],
-"xda77f23baa747a27":[[983],[4]],
-"x3d2c697d6956e61b":[[81],[3]],
-"x84e6cd4f92849106":[[3902],[12]],
-"x475a7f6919147905":[[454],[4]],
-"xb1d40ad4bca4f140":[[332],[3]],
-"xc921f7b3c8b450b8":[[3502],[8]],
-"x81ef05bcab042c22":[[2878],[6]],
-"x7a86b53d65d05049":[[3234,3699],[7,2]],
-"xb8106d98a96044d4":[[2399],[1]],
-"x86999e44b320ddde":[[3559],[3]],
-"xba0e7bdc147d31e8":[[1568],[27]],
-"x8b7c84a26f48d2f0":[[3902],[6]],
-"x587b3da8816466e8":[[3374],[6]],
-"xea9e3a53d973fb5e":[[3956],[6]],
-"x2e657ebfe86bf770":[[2082],[3]],
-"xda5be3f7c69d1dd5":[[1171],[6]],
-"x1ad45a6acd60020d":[[3437],[4]],
-"x379f981e2759a6cd":[[64],[6]],
-"x8ecb9afe01cd53fc":[[917],[3]],
-"xfb2de36b6c5697fd":[[204,332],[5,1]],
-"xfb79671b998d442e":[[808],[7]],
-"xd7d1608b0dea0110":[[1893],[6]],
-"x58514c10705dffd1":[[982],[5]],
-"xbccd599a5035dec4":[[2851],[2]],
-"x53b6c53b5f473597":[[157,148,323],[12,9,3]],
-"x30706bd925cb2a41":[[796],[8]],
-"x8d56b7685a16432c":[[3642],[2]],
-"x7ebb341838974d8a":[[3956],[10]],
-"xb8740486b54a809b":[[4013],[4]],
-"xc4e6197d3d9cf389":[[1242],[10]],
-"xb95ec0a7739ba0d1":[[2131],[4]],
-"x9e2fd264d6034af3":[[3763,1746],[13,5]],
-"xd744483fe00cd975":[[4013],[3]],
-"x75f39380da666127":[[666,918,166,788,157,658],[343,114,62,20,9,5]],
-"x5aa00f1d8eafa631":[[3956],[2]],
-"x20fdec5d63b3292d":[[1827],[3]],
-"x99e48752953716c1":[[2136,2154],[1510,93]],
-"x66ec5c1ce2a322f2":[[861,536,211,148],[67,19,4,1]],
-"xa956f3796e5b5e76":[[262],[4]],
-"x125c8f5c503129f2":[[216],[4]],
-"x89b4c9fc27f09e92":[[2908],[3]],
-"x11c965d94780172":[[137],[3]],
-"x79433a78e3c79eed":[[3752],[2]],
-"xb1902afdec1535f5":[[3902],[4]],
-"xf58ea404c3a4c836":[[219],[3]],
-"x2c5aa18d8aab44cd":[[2852],[3]],
-"x4fad569330f70a40":[[216],[3]],
-"x5fb1cec995aeb651":[[1899,1878],[35,3]],
-"xb54f85a3b95c919e":[[3902],[15]],
-"x6554059e7f641067":[[4031],[2]],
-"xad6772d316272b82":[[405],[4]],
-"xccff966049b4b4da":[[3929,3299],[23,14]],
-"x57ba8b063236a9e5":[[3902],[1]],
-"xe25c3790d5979b8a":[[3898],[1]],
-"x9a797f4a57507864":[[346],[23]],
-"xf44562310f8fc504":[[3063],[6]],
-"xaebde7a19757fe9f":[[3958,3307],[97,19]],
-"x4ecbde6d10e378d6":[[1633],[6]],
-"x9b48b2e2e5878a29":[[788,324],[11,2]],
-"x879d45d844a7b46a":[[1371],[4]],
-"x63b37c8cc309d971":[[3169],[4]],
-"x9634d92792e6db76":[[3298],[4]],
-"x4f980a334af6a1f6":[[2290],[3]],
-"x883abff555d88266":[[731],[3]],
-"x3af18052c478cfa2":[[2461,262],[10,6]],
-"x7ca049bce591efd7":[[788],[2]],
-"x4bce5ded5616630b":[[3828],[5]],
-"xeb528e195bb22922":[[2720],[5]],
-"x31b24d4cd8cb80f9":[[2030],[6]],
-"x71f7c2dcf1e941d3":[[861],[4]],
-"x9499ac434b11c4bd":[[1371],[3]],
-"x1697aad1fe0c9203":[[3902],[7]],
-"xe3bb7ff865db86a6":[[2331],[2]],
-"xeebc59767d58a67b":[[1380],[7]],
-"xdd518243f878f907":[[405,788],[6,3]],
-"x183de96daf43e744":[[405,82,1699,788],[745,650,85,53]],
-"x8fa842dc57c2bf0c":[[3902],[10]],
-"xb647dadd03fe0844":[[3963,3962],[3,2]],
-"x8b2c5413386eabf9":[[2908],[3]],
-"xe463442b1b0ad85e":[[3429],[6]],
-"x90c41a2465d445e9":[[2720,2137],[4,3]],
-"x7e147969542ee45d":[[258],[9]],
-"xb0f7569a684d0d59":[[2972],[6]],
-"x2a32b28349559eb3":[[346],[11]],
-"x1c51bd9019503ce5":[[3761],[4]],
-"x3ec8cb63a38c9aa2":[[2915],[5]],
-"x311da9e54b5e0d85":[[262],[3]],
-"xccb30dac45725930":[[3372],[3]],
-"x533d0bfed56ea2f9":[[1827],[6]],
-"x941bb57a309de182":[[2720],[5]],
-"xf6ed89cf1326cfd7":[[4013],[45]],
-"x121b9b54948fcecc":[[4013],[1]],
-"x1ae279a7d8c3bc6":[[1959],[4]],
-"x4a9e63f9dfb48bc7":[[82,1699],[13,12]],
-"x433c5fc889eb3a45":[[3902],[4]],
-"xeab61290145528de":[[3819,2203],[7,6]],
-"x1fc7836547bab49e":[[166,983],[19,4]],
-"xb3fbc25c7c09ee63":[[788],[6]],
-"x421a1483bc88d5d4":[[3964],[12]],
-"x91ca003b59c13762":[[75],[3]],
-"x2eb97a249911b826":[[3938,2919],[18,5]],
-"x89838697a2711627":[[3884],[3]],
-"xfaf7773de9f3db19":[[730],[1]],
-"x5626726e7293e6a8":[[262],[2]],
-"x574289391d77996d":[[1959],[6]],
-"xec197e102b358679":[[324],[6]],
-"x6e132430ea933ed3":[[157],[4]],
-"xec9620f069fe46a":[[16],[3]],
-"xdeb2e8fa3050d382":[[3690,3372],[6,5]],
-"x3c52cf2466ace5a0":[[4031],[5]],
-"xd9348da77b0698de":[[2799],[3]],
-"xdbe4b0cd180cc102":[[2724,2720,1941],[6,5,4]],
-"x1ca68be6dac7294f":[[3902],[2]],
-"xb16ee589228a1a2d":[[339],[3]],
-"x571e77fa41fb5bb9":[[536],[8]],
-"x85e90a6090b837bc":[[601],[4]],
-"x10559571a155e194":[[75],[1]],
-"xe0edc6b349d81a72":[[2901],[4]],
-"xa0347d51003154a9":[[1803],[5]],
-"x57b25e7fafa69d28":[[3958],[11]],
-"xe2ba7fef7ecd6ec7":[[2723],[6]],
-"x17a7c9776e414ca4":[[983],[7]],
-"xad0358b3a5596ea":[[2414,2396,2398],[24,19,1]],
-"x85f31b25f83b6a6b":[[3902,3307],[5,5]],
-"x5ceb6f930a9d15c7":[[2932],[2]],
-"x87b30497255b091b":[[796],[6]],
-"xd9cdf71139992b60":[[148],[8]],
-"xe6fe63567c7e8b18":[[3307],[7]],
-"x3697b0f7962f33b4":[[3364,3429,3502],[36,2,2]],
-"x1717b521850817a7":[[918],[3]],
-"xccd5d72d7368e980":[[75],[4]],
-"x31c6323e7532544b":[[202,733,2],[11,5,4]],
-"x4cb07a13046b7b4e":[[3902],[2]],
-"xb573667b197a5b46":[[3234],[4]],
-"x5b81db32385e02e0":[[332],[6]],
-"xbfcec3fd271bfa7b":[[3902],[4]],
-"x42fcded64dcfbcd4":[[2155,2],[3,3]],
-"x84916758f734fa8d":[[778],[6]],
-"x76ac53ff30362cc5":[[2267],[3]],
-"x1a379f9e20b1b760":[[1699],[6]],
-"xf87e034b9b04d563":[[1676],[4]],
-"x5ecc13f6659215c2":[[202,262,1763],[9,9,3]],
-"x731eb24d376f9d09":[[3803],[3]],
-"x37087e5950166f62":[[3502],[5]],
-"xd1579c90f2d7805":[[3958],[22]],
-"xe1d1f6c1400b96fd":[[332],[3]],
-"xbeda769ab8645512":[[1562],[19]],
-"x19ebc01c4e0ae60a":[[3808],[3]],
-"x812a6039b8be3e":[[2915],[17]],
-"x24e0fb29c79abdac":[[2266,3690,2203,3699],[61,59,21,9]],
-"xf2fb0aeff7746fc5":[[2917],[2]],
-"x16f831cdf8d5705d":[[3234],[7]],
-"xe929e4a78738c5c":[[3902,3756],[47,24]],
-"xf318fd64da0b83e1":[[2915,2851],[3,2]],
-"x6168c41df09f13cb":[[3307],[2]],
-"x315aaedca36ef9a0":[[528],[3]],
-"x4f6ab3abb09eddf2":[[1327],[7]],
-"xad562ff7839a66d2":[[2203],[3]],
-"xe1ee0e390257f819":[[262],[2]],
-"x9d8d272179d64433":[[3299],[18]],
-"xbad78717963005e7":[[262],[3]],
-"x4b511bc22394f19e":[[3699],[5]],
-"x8bc088bb6a101ebf":[[3177],[4]],
-"x5bb46d0742bac18b":[[3947],[4]],
-"xbcf89efc589b0015":[[2203],[14]],
-"xaf4ad72d83bd76d7":[[262],[59]],
-"xb706adfa3a8fb28b":[[166,1187],[27,4]],
-"x7cee2c360c599ac2":[[3539],[25]],
-"x99960d2c84ca693d":[[4013,3309],[63,3]],
-"x2cb7996245092610":[[3494],[6]],
-"xb94f3037f550a6fe":[[262],[10]],
-"xd7a3d10bb0fb27c2":[[3299,3956],[12,7]],
-"x35c86a98d885d037":[[771],[3]],
-"xf5d0f30226f6476":[[405],[5]],
-"x447ce62b80b86b15":[[2748],[5]],
-"xedb6fc16dfb27a16":[[983,1355],[15,3]],
-"x5d08140a1694cfa6":[[3761],[5]],
-"xf869cdb24bf3a23":[[3756],[9]],
-"x54278710ff53fbf6":[[75],[7]],
-"xa4d1b9feef09a33f":[[536,1763,528,1098],[101,34,17,14]],
-"x68e422588e0d7e6":[[1699],[5]],
-"x50345bc0ab6fda85":[[3112,3956],[11,4]],
-"xd817db027833b9b7":[[730],[3]],
-"xb3f9bcd6d834fe4d":[[281],[3]],
-"x4415ad7348fedf20":[[1318],[5]],
-"x31348d583019c04e":[[157],[4]],
-"x5153dd2a21631a06":[[222],[7]],
-"xfd385c9cff850adb":[[2266],[5]],
-"xf54681bb47697c13":[[2381],[8]],
-"xa07a68a1e105e50d":[[82],[75]],
-"xc15625138a524d09":[[213],[3]],
-"xed77999c800bc5da":[[1359],[4]],
-"xc7472d63b40af541":[[3902],[3]],
-"x63b32119d8ddb6b":[[659],[4]],
-"x4a61b83b0f01b7ad":[[3753],[4]],
-"x1ebada711a284b80":[[2908,3372,3299,3234,3502],[37,35,34,6,4]],
-"x106b7c2058877f45":[[262],[198]],
-"x539742f863be65e1":[[3437],[4]],
-"x55caa80c8f5198de":[[2089],[2]],
-"x27f7de3050a84335":[[2931],[3]],
-"xea52fed9e9770bfa":[[2722],[5]],
-"x59710360822ff92a":[[148],[1]],
-"x9a1a749cee45d9b0":[[148],[3]],
-"xc52cd58876b246bc":[[324,166,658,983],[31,13,5,3]],
-"x103c69b2f03e6fba":[[1,528],[5,4]],
-"xba97f2b20ff8f2c8":[[1197],[4]],
-"xe878adc6d9c284ba":[[1682],[5]],
-"x6f4c50b3d7229315":[[1355,593],[27,3]],
-"x474e7bb052eae7e4":[[1661,1618],[7,4]],
-"x8132bfa85c123f8f":[[983],[4]],
-"xeef7991508873157":[[2258,3372],[5,4]],
-"x5580f8c63ed72f41":[[3828],[5]],
-"x8218715caf22828c":[[1903],[6]],
-"xff1eb9e9de808821":[[1187],[9]],
-"x7374a09c6f0dcde3":[[3956],[5]],
-"x44776e0e542ac966":[[3234],[9]],
-"xf89f7299a0714585":[[2218],[5]],
-"x23af904c181260ed":[[1374],[23]],
-"x48cd5b416345834a":[[2917],[3]],
-"x3c701173119f1b4a":[[3902],[4]],
-"x4b010b5d40843052":[[1371],[5]],
-"xb6f926a0809df94":[[262],[4]],
-"xfaf70ac55825c201":[[3429],[11]],
-"x35fbdbdd50a741a5":[[262],[3]],
-"xd995df6d070eafbe":[[2722],[3]],
-"xc8a98d14cf48f1a7":[[262],[6]],
-"xd5dbf4ad5b6d5fc4":[[771],[1]],
-"x1298e7f07ed9094d":[[1940],[3]],
-"xfd5d39eae326528e":[[4087],[5]],
-"x51cf51f43bc39582":[[649],[3]],
-"xcc1ac41233c6759b":[[528],[6]],
-"x8547fd59b7764083":[[334],[5]],
-"xb98056181865b3ab":[[334],[6]],
-"x1abfdf60c99ead1a":[[129],[6]],
-"x5694a5987c3e0c98":[[3169],[5]],
-"xa34653fff2f2e561":[[1106],[1]],
-"xa6e6c02da2c61bde":[[536,148,196],[25,7,4]],
-"x5415d7c4d4c8fbce":[[148],[3]],
-"xe910d5d98bf7feaa":[[1187],[3]],
-"xd503e3b5fa5257fb":[[2722],[9]],
-"x1b9ea8470ab0c3db":[[1683],[12]],
-"x5e227687744b6f32":[[2851],[3]],
-"xae0f7027f7a8506f":[[1348],[3]],
-"x50fe7f7ea6ae826b":[[1763],[2]],
-"xf62affab85c889f4":[[1187,339],[3,2]],
-"x265f74e615bd4ae0":[[1371],[7]],
-"xf1a78ae4f0043c62":[[1539],[8]],
-"xabceea2e2e59a5ec":[[3902],[6]],
-"xde382efa74ce46e":[[1122],[3]],
-"xe418599e9450ef15":[[3763],[11]],
-"x1045c0a1d7b5af1":[[1318],[7]],
-"x4df44fdf3710c362":[[4013],[3]],
-"x58c0f26e86928db5":[[788],[3]],
-"xdc6c7a37645df7bf":[[3749,3372],[5,3]],
-"xa854cdf2ee0e283b":[[1827,1828],[4,2]],
-"x5a4a1df50fcf9dd2":[[1243],[3]],
-"x411df056ba02b148":[[2740],[7]],
-"x9f3cdf86cac745bc":[[137],[7]],
-"xcadf5d399dccbc5f":[[666],[4]],
-"x26fe8076ab592af0":[[3436],[6]],
-"x1ef5d0a93933b656":[[1698],[13]],
-"xbac4ff9d5d50c962":[[1501],[3]],
-"xa303cec108a80c7":[[82],[3]],
-"xa479b2bbc4151ca1":[[3832],[3]],
-"x41d51fefe685a8e1":[[1681],[5]],
-"x8bc31223f798e":[[1355],[3]],
-"xec8544cc41f9c181":[[1688],[6]],
-"x683326b9696ca464":[[3113],[4]],
-"x96ee9ca0f937f0fb":[[3364,3699,3502,3749],[6,4,4,3]],
-"x2f265d1f652337fa":[[3373],[3]],
-"xc9b15adf7052479d":[[556],[4]],
-"xfec34b8c17d9679f":[[339],[4]],
-"x55b0ce23fb260632":[[308],[3]],
-"xd615361f5b978568":[[2332],[3]],
-"x2e10329ee1f66ec8":[[1177],[3]],
-"xf8678a435bb6661c":[[204],[1]],
-"xec763263fed3cc9b":[[135],[6]],
-"xee180bad11972142":[[4013],[14]],
-"x5315f48666fe2171":[[3763],[3]],
-"x38f384d3955eb496":[[405,332,148,339],[11,5,2,1]],
-"x5f44009e1d01679f":[[3690,3305],[3,2]],
-"xd231abcd6c568218":[[796],[9]],
-"xcfd628655e33fb64":[[262],[4]],
-"xf9df4ad7f5b07d85":[[4013],[3]],
-"x773d64688f141a3a":[[3372],[1]],
-"x87985402ed2b1d81":[[1373],[4]],
-"x162a58a1c98af19b":[[324],[36]],
-"xad7bb8dfdb37f85":[[2908,3372],[7,4]],
-"xe5df74507defce2d":[[3811,3742],[3,3]],
-"x13aaf2858c97ffa7":[[323],[12]],
-"x43d49685f038ca93":[[1187],[9]],
-"xdd69173e2378f4af":[[2559],[5]],
-"x909017bda06cc849":[[1114],[6]],
-"x87960fec6017459c":[[708],[10]],
-"x756a8f205686519a":[[3699,2787],[10,3]],
-"xd5f69b67b4545207":[[3756],[2]],
-"x5c86318e5358487e":[[1371],[4]],
-"x92aeefe470b8a7b3":[[339],[3]],
-"xbe35aed426ee7ae9":[[1652],[5]],
-"xce9af222db1950b8":[[3761],[31]],
-"xbb3f950cb882d261":[[3956,3929],[184,36]],
-"x8a64512dc523c0c1":[[1308,202],[4,3]],
-"x91bbd599bde1fc7c":[[2072],[3]],
-"xd0ca5ab922a470fb":[[3234],[5]],
-"xb948dc2016ed5445":[[334],[3]],
-"x952be442e5aa5c83":[[3438],[4]],
-"x6c86ba3726ac7795":[[4013,3690,3242,3307,3429,3502],[64,34,12,4,3,3]],
-"x1733756c86d2ea3d":[[2397],[3]],
-"x319294886b04f2b5":[[3169],[4]],
-"x3cc863e808c9db35":[[3947,3956,3807],[26,7,1]],
-"x7614c1eb5c2b1c49":[[1633],[6]],
-"xed6758bd388f44c8":[[794],[3]],
-"x249795c1cf374aca":[[2420],[3]],
-"xafd28841735162cf":[[209],[2]],
-"xd56847fcca46cc4c":[[3697],[2]],
-"xb184195d48732395":[[346],[3]],
-"x1dfb77b706ff44ba":[[1676],[10]],
-"x54746797d37105f6":[[137],[4]],
-"x59cfc02c42f564aa":[[3429],[2]],
-"x395070fca6f7e8c8":[[82],[3]],
-"x7b939c8b5cd4e1f2":[[2724],[3]],
-"x38461b1c244f175":[[3372,3502,3299,3234,3177,3307,3242,3169],[525,385,226,26,14,13,5,2]],
-"xca1e8d0637f9d4e4":[[1098],[4]],
-"x2b15e2358d6d9b69":[[1307],[13]],
-"x5ad0e6d0b087b0c7":[[3501],[11]],
-"xef01922bb6cee1de":[[262],[3]],
-"x44411f520b95908a":[[1699],[17]],
-"x15ed7b0bd252969":[[1371,1179],[3,2]],
-"xeec4c2a382eb1479":[[4013],[1]],
-"xb79983e97bad6fea":[[1643],[3]],
-"xc24d98774acc4edc":[[3902],[8]],
-"x863dc47910569d5a":[[1745],[3]],
-"xb844c53ac05b240b":[[788,405,1699],[304,286,50]],
-"x56e582b41a1e903":[[2908],[1]],
-"x491379a329472ab0":[[853],[3]],
-"xaec53b64fceb287b":[[2720],[3]],
-"xd127500288cf1c3c":[[3688,3362],[3,2]],
-"x1cecf91d6d55ac64":[[733,323],[9,5]],
-"x9d6cad84f5d9ad9b":[[82],[3]],
-"xd6244febbd2fe04c":[[1242],[4]],
-"xee10c29d8e152fa7":[[1187],[18]],
-"x2dbc8cedfb46a637":[[3307,3902],[380,295]],
-"xb7eee8fd88b4e0bd":[[3299],[3]],
-"xc6b39828e9dbc1d3":[[339],[6]],
-"x50b93ea44a532f33":[[203],[6]],
-"xd843d4754513f6b0":[[1941],[3]],
-"xb11e3f80238d5d22":[[2463],[2]],
-"xabcfd30ee8e84af5":[[3742],[3]],
-"x5cf3eb8c3942774d":[[203],[8]],
-"x42cfe0d7e3f2389a":[[2910],[5]],
-"xa8aa9146bdb91b23":[[2266],[7]],
-"x2b4798244ad27a5":[[1371],[1]],
-"x86c1c015f7b90007":[[2455],[3]],
-"xc0f4b95f5fe1883":[[2594],[6]],
-"xe25ffa25e7110ba5":[[2331],[3]],
-"x764765f820bbb5a3":[[3742,3364],[10,7]],
-"x5d3ea75c9af5f902":[[1762],[6]],
-"x99036ee87b5d30bd":[[137],[5]],
-"x7ab70dacd6384eaa":[[148,202],[4,3]],
-"x73ae5ed1248aa04b":[[544],[4]],
-"xb7bf6ae247fa88cd":[[3372],[5]],
-"x429300b1451c478a":[[3429,1803],[4,2]],
-"x975fb47e290170b7":[[3373],[9]],
-"xd2a23215fd3300c2":[[334],[5]],
-"x700a98c5af085aa0":[[788,918],[8,8]],
-"x67c3144c6f656e0a":[[3958],[2]],
-"x629336290938d705":[[787],[6]],
-"x3cb2d68c14406a1c":[[2541],[20]],
-"x9352f854b92dabcf":[[2851],[3]],
-"xcb7ffd0db819cc14":[[796],[8]],
-"x6dcafb38fc83b124":[[731],[5]],
-"xae8f7d121d570b6f":[[2908],[6]],
-"xe3f3d911e2d9efe2":[[2915],[32]],
-"xef3f72a685be7b70":[[1307],[3]],
-"xeddeb67edd6b6cfd":[[324],[14]],
-"x7146547a4d3c379":[[908],[3]],
-"x873bd25fdcec396d":[[1827],[4]],
-"x9ca20a27f96407a6":[[789],[5]],
-"x8b6cfc74a1ebd7d1":[[1171],[3]],
-"xd6b4ee3088617358":[[2715],[4]],
-"x29808acd2dcd5e1b":[[3902],[26]],
-"x4b275d8218f65c2b":[[262],[3]],
-"xc4cfd640f4036ffd":[[3309],[4]],
-"x77953aa58ef11d95":[[262],[9]],
-"x48e25ea3e0ea2cae":[[1804,1823],[8,4]],
-"xac955390e0cf15f1":[[1382],[6]],
-"x96a59e54cd643cf7":[[3299],[2]],
-"xa58c72642e6f7af4":[[1619],[1]],
-"x2e56edb518606a87":[[1307],[6]],
-"x78342d74759cf589":[[2],[5]],
-"x21310fc54596caf4":[[2,1350],[6,4]],
-"xc7527b31eb6ef082":[[3483],[3]],
-"x87c5f57601dc7322":[[1371],[8]],
-"xc322d67780df57c8":[[3699],[4]],
-"x5c1271f9281c6329":[[203],[4]],
-"x922ff6de8017e7ab":[[137],[3]],
-"xab49b1d51871042e":[[1765],[22]],
-"x6e3073afa42a487d":[[3834],[6]],
-"x1ac7796df84057":[[2715],[8]],
-"x7cf941712cffafec":[[2258],[7]],
-"xe97b310c1b1eb562":[[2824],[6]],
-"x1419ed147e9ac20a":[[1959],[5]],
-"xc5e3d5110f6ebc8a":[[3837],[3]],
-"x2b3c2f310716edd6":[[2202],[6]],
-"x17b5aa64e12f6f76":[[861],[4]],
-"x3c7d169cf75cf5f9":[[3964,2787],[7,4]],
-"x326e32951f0fc0c8":[[658],[65]],
-"xbd3f33cb8f2ced57":[[3761],[3]],
-"x29d384aa3fe16b99":[[262],[16]],
-"x48f3387fe873b26":[[3429],[3]],
-"x1bd144f35a2ce55c":[[3325],[3]],
-"x968654b2e2dca4aa":[[3902],[4]],
-"xe9ff0079ce881bf6":[[1828,211],[33,5]],
-"x582bd0a2ec146c0c":[[3112],[2]],
-"xc5ce3c11bd853cdf":[[788],[4]],
-"x6ab80265cca82b62":[[3169],[1]],
-"x5679ac2d133ad23c":[[2852],[2]],
-"xc74bcd14003c2a2a":[[262],[11]],
-"x5e5313c925a95d89":[[3644],[5]],
-"x9b07f46240d4c34d":[[1429],[4]],
-"x39b2c29648e862b2":[[3902],[2]],
-"x54d97e453cd48b16":[[3956,3828],[10,8]],
-"x79173836fe47a896":[[3642],[3]],
-"x5dfd6f7d5033168a":[[1697],[6]],
-"x35858545ac2d9f3a":[[2346],[6]],
-"x547792ede9ebc543":[[1309],[3]],
-"xdc23044f66083723":[[2915],[5]],
-"x37665ef18dfdc08":[[861],[1]],
-"x110a204ccab9dc00":[[148],[3]],
-"xa5c5f0fafaa769a9":[[1380],[3]],
-"x78103c84d6716e16":[[2477],[4]],
-"x8d4790d74f8732d5":[[1828],[5]],
-"xe304d4296326fb17":[[523],[3]],
-"x82b5bc776dc95300":[[75],[5]],
-"x820064cef686e7b9":[[251],[4]],
-"xaa1d023a352338ae":[[166],[5]],
-"xcade50b8ccd01db2":[[3642],[8]],
-"xd6e4f16c46ef01ba":[[1308],[10]],
-"x6f82ee6718d291c0":[[3947],[2]],
-"x7422247990846376":[[3902],[5]],
-"x8b2b5b5123578c17":[[2089],[4]],
-"x55a0cd1520beed3c":[[1034],[57]],
-"x8a30ee69486da033":[[82,918],[15,4]],
-"x4be400d12163be2":[[332],[2]],
-"x23a1bb4150d95a66":[[642],[42]],
-"x9cfef7cccb71ebbd":[[1758],[3]],
-"x4092b335281288ad":[[4013],[4]],
-"xe4c85c115fd6440e":[[3947],[3]],
-"x41e724d0481e0025":[[202],[3]],
-"x9b118941a9beefc4":[[3307],[3]],
-"x997efb3ca94ed17":[[3063],[6]],
-"x4d06d19a97df4965":[[3827],[4]],
-"x946f2799117e086a":[[1179],[5]],
-"x4992bb98af2d74c1":[[3929,2266],[19,3]],
-"x95a1d90ccd662024":[[3762],[3]],
-"x98d763fbf79d13ba":[[666],[3]],
-"x2452bf6f68d6ac97":[[983],[15]],
-"x3ab8e40e002fff99":[[262],[2]],
-"xec4672daf917527b":[[2],[4]],
-"x18d6706eb670dfca":[[332,137],[26,6]],
-"xbad5fbc00487ea41":[[2908],[7]],
-"x88079906086242f9":[[3761],[5]],
-"x12a767251e08d716":[[235],[6]],
-"xc2c3641eec168639":[[3963],[4]],
-"xa4822b3f269eb3fd":[[3958],[13]],
-"xfbedd7f2ffec5bae":[[2074],[3]],
-"x212f85dba904a105":[[339],[11]],
-"xd5748af0a06ff583":[[323,528],[6,5]],
-"xe40fca2cc415ac7c":[[3958],[3]],
-"x1f332598e204d80d":[[1375],[9]],
-"x509c56f4b6f33f1b":[[3699],[3]],
-"xb3c494d0fa7e40af":[[3234],[10]],
-"x6a41827d2f774aeb":[[75],[4]],
-"x1fd562ea40283076":[[1348,1375,157],[59,15,3]],
-"x7608d2419bb95fd8":[[3502],[4]],
-"x6963aeab94bc085a":[[157],[11]],
-"x9e5c8c0790d530e0":[[216,334],[11,6]],
-"x52d9ae56e89344f5":[[82,262],[20,10]],
-"x4ea6ca14eb2c47d0":[[3502],[6]],
-"xd8d614f4c406bff9":[[3947],[3]],
-"x7776962f44e33b6b":[[709],[8]],
-"x6f3e8f732e401207":[[2],[2]],
-"xfb3c3a150b456819":[[2917],[2]],
-"x931bf232f9b89ae0":[[4013],[9]],
-"x7328475e42fa3e5d":[[731,82],[5,2]],
-"xaba85640b9fe7f4c":[[1810],[41]],
-"x17c367ee0429e778":[[1552],[4]],
-"x99b1a8f6d8e951f":[[789,787,1286,203],[68,12,8,3]],
-"xe9c9b4558cba946":[[2462],[1]],
-"x219e760329bf7c91":[[262],[1]],
-"xf56ec9d1a575c21a":[[1634],[6]],
-"x9ec70196f05779b8":[[82],[3]],
-"x7e68ed1978f1f2f8":[[731],[30]],
-"x4021f05f0a66c9b":[[1113],[6]],
-"x2de42e872609458b":[[3958],[23]],
-"x7d233ba1aabafea1":[[3502],[9]],
-"x3080426f40406656":[[3956],[4]],
-"x5e28f2febda52ec2":[[323],[7]],
-"xabbb52ad0d4014ad":[[3899],[6]],
-"x30eb53a4efeee951":[[418],[6]],
-"x4ab5138235354af2":[[2268],[2]],
-"xf4615d6dadcbb8aa":[[3288],[2]],
-"x43db5c0a5534d3f3":[[1252],[3]],
-"x52efa504f9fb11bf":[[1233],[3]],
-"x35e6228d858b578d":[[3298],[6]],
-"xda18497a8534aec0":[[528],[4]],
-"x4af6fb43d47cf0c0":[[2851],[5]],
-"xf1ce3b3c9227f0fb":[[1172],[8]],
-"xbb22c4a51757d834":[[1382],[2]],
-"x8d02d351e6a9339f":[[1162],[3]],
-"xb4edcda6c9e07bbf":[[593],[3]],
-"x302f19ecb2e1015a":[[258],[6]],
-"xfbd7dcabb743ecc2":[[2916],[3]],
-"x733f0a03807cb3e1":[[2266,3177],[5,2]],
-"x28c07a74da435609":[[3641],[2]],
-"x473dd3cb57395244":[[82],[9]],
-"x2411ab9c446f026d":[[1803],[3]],
-"xdee4585d016d3ee4":[[2081],[8]],
-"x5c5d334aae8c97d5":[[2851],[26]],
-"x7f38786b895cae1a":[[2720],[8]],
-"xf4c9777107f5c78a":[[788,405],[14,3]],
-"x31427a626851794b":[[983],[5]],
-"xc2bf8e82c9a023d5":[[536],[3]],
-"x5c0b1d859ecee07f":[[3699],[4]],
-"x42140d0bdda2a74a":[[3817],[7]],
-"xf16db6fe857d741e":[[3309],[3]],
-"xe80ab7c0c49ddee1":[[3501],[3]],
-"x1969d9455fda7660":[[3902],[4]],
-"x44a6377841b788f6":[[2908],[3]],
-"x975ddb90a2fb4695":[[1763,346],[4,3]],
-"xe87d1fd26b906484":[[2915],[6]],
-"x70afd05c356f95e4":[[847],[1]],
-"x5047aae740809c5b":[[2915],[3]],
-"x1b80f62eb7952634":[[1226],[3]],
-"x71d26a8eae4b99a":[[1048],[5]],
-"x1a431e19831625f2":[[3958],[3]],
-"xda5c645e884b9c6d":[[332,148],[10,8]],
-"xf7d6022b2c7b29ad":[[148],[4]],
-"xec1ab16142d11580":[[3958],[60]],
-"x1ff56dd11e1566a9":[[3956],[3]],
-"x5221f26e6ee5a6d":[[3902],[3]],
-"x9876fa3e2e51db14":[[3178],[5]],
-"xfffff2fbfd5e5704":[[725],[8]],
-"xe85d147419f1a844":[[334],[11]],
-"x97da38c718f434b":[[209],[3]],
-"x74441176e9e7d26":[[3437],[3]],
-"x9e4199af4a57826a":[[3938],[8]],
-"xcecaea24383e461":[[2331],[4]],
-"xcfc688bd0cb30f5d":[[3902],[3]],
-"x9f1a76b7e4776c7c":[[1699],[4]],
-"xcef7e634c9393991":[[194],[3]],
-"xe21a6d1362b0d52f":[[204,1375,209],[74,39,10]],
-"x719421842a034174":[[3169],[7]],
-"x1cbc41e1fe10df9b":[[2349],[4]],
-"x6683b135b643263b":[[3902],[3]],
-"xe885db57abd08ab9":[[3307],[4]],
-"x3ddc4614f8c5be8d":[[536],[4]],
-"x1d5de63cb556a761":[[3642],[3]],
-"x2c205fa30444a42c":[[1],[3]],
-"x89e206addc901aea":[[2810],[6]],
-"x12554a39a5430dc6":[[2203],[7]],
-"x341aae53ee3b49aa":[[2479,16],[12,8]],
-"xa0383b7b2b72f0a1":[[788,796],[19,14]],
-"x2c74513cee07acb4":[[1699,593,209,75],[36,19,10,5]],
-"xda2dfe442fc09cc6":[[332,983,148],[479,36,8]],
-"xee91e81ba9d4dacb":[[528],[4]],
-"xc5af28ee0d164e4f":[[3742],[3]],
-"x8585d90a5c9fc66e":[[262],[4]],
-"x5c11bbd3b028b11c":[[2203],[41]],
-"xa3060f9b691f07da":[[736],[4]],
-"x95543b89e00a9128":[[82],[3]],
-"xfca97d8185557f36":[[2609],[6]],
-"xa29fa97a4572f9e4":[[1307],[12]],
-"xe9af0483866fc5c9":[[333],[8]],
-"x95deb3518c9c4216":[[1380],[7]],
-"xbbd5737fdc8af8f9":[[1699,788,216],[27,7,4]],
-"x19ceae4c5b559822":[[3752],[3]],
-"xb385b80406d17460":[[2723],[3]],
-"x2d40853b6ffae693":[[3642],[3]],
-"x8dea4c9936dc8daa":[[3427],[1]],
-"x20a5d92081ac2e2f":[[211],[4]],
-"x50695176ed297217":[[3902,3169],[6,5]],
-"x13959305a2e37f16":[[528,1],[40,18]],
-"x3989ed880f9f2a1b":[[991],[5]],
-"xfd9c0466edef13f9":[[1187],[2]],
-"x85e77aa69df35fe6":[[262],[3]],
-"xe27bdf48049a4b04":[[797,1763],[15,14]],
-"xf630d6219fd03120":[[405],[2]],
-"x9a9697a8dbc49fa6":[[3234,3828],[17,5]],
-"xba5a4dd4d2b004f7":[[3242],[3]],
-"x3e99e6f78b5f271b":[[2931],[1]],
-"x7cdd8fe7649a3147":[[3372,3502],[8,5]],
-"x641ea3e0acece50a":[[157,148],[10,3]],
-"xd9b78eb64f30fd9":[[3699,3688],[13,4]],
-"x296642c1ad959f87":[[202],[2]],
-"x7aaad902f8d2c113":[[405],[5]],
-"x27472adfa2f02618":[[917],[3]],
-"x150eecf0758ce01":[[3690],[7]],
-"xfaff34a910d104ba":[[2299],[3]],
-"xc7453d5061ede7cb":[[2331],[3]],
-"xa23ba6e6afdd07ee":[[2931],[6]],
-"xa524fae13313dc1d":[[3306],[6]],
-"xc9d0d28ab8caf92f":[[1187,204],[6,4]],
-"xb4b23e5d9d43a134":[[262,2029],[30,13]],
-"x4f2d807ee7948a0d":[[1164],[1]],
-"xf21f490639b05643":[[2203],[3]],
-"x2de08a6d76b7844":[[3699,3690,3242,3234],[64,38,18,8]],
-"xe5511ff16a4a291b":[[323],[3]],
-"xa8cb0151d476cd99":[[1652,1611],[8,7]],
-"x7f14b9ac28075d17":[[659],[3]],
-"x54b20686c25d1ec0":[[405,1764],[25,11]],
-"x14c6e9465edc4405":[[1308],[3]],
-"x362f0f4beb8f834e":[[82],[4]],
-"x3169016aa645b982":[[3902],[6]],
-"x43dadba72cd8b9f3":[[731,918,796,788],[43,18,17,9]],
-"x1291aba34e3c6012":[[3169,2931],[22,1]],
-"xa0bb6123c4c49cc2":[[82],[31]],
-"x7df76772e6f77be":[[2136],[2]],
-"x7d22a22823c9ae2a":[[3947,3956],[6,3]],
-"x61968f29b12d5d9f":[[3366,2426],[3,3]],
-"x50f5a393997da304":[[3502],[13]],
-"x4b8e9b12e47aab99":[[3902],[3]],
-"x93795b0214fe121d":[[983],[3]],
-"xd18cb65b58e708cd":[[2852],[4]],
-"x4e2b4944cf6ce5b1":[[1,788],[8,2]],
-"xb6462e957f0415ae":[[3112],[6]],
-"x9d30f4e16b14a849":[[853],[4]],
-"x1254a9c5c8ce8e0d":[[723],[30]],
-"xeb38446ad97a2131":[[2722],[4]],
-"xc5ba3d242dee7b5f":[[3305],[10]],
-"xcec3a7a7690ef920":[[3243],[2]],
-"x7fb62263bd2eb0d8":[[3305],[9]],
-"x591a0066c1f0a61a":[[3641],[4]],
-"xa941d46928067962":[[4013],[5]],
-"x245ddec417a9adc7":[[1684,1700],[7,6]],
-"xf294ba792def1c5c":[[3956,3947],[4,2]],
-"x46a5e59bad3004aa":[[3306],[5]],
-"xf3c319c0f209eb5a":[[3373],[6]],
-"x94d7eee0040cbea6":[[3234],[3]],
-"xa2f73a1a377bedfc":[[339],[8]],
-"x2e0dd8e2c5b1f429":[[3164],[4]],
-"x5c53991d4fedfd84":[[1502],[3]],
-"x922ffe7a63e93612":[[3902,1643],[18,3]],
-"x86b06886bc4d001d":[[2325,798],[22,2]],
-"xa2a725fa09987c56":[[658,731],[20,6]],
-"x4ae56ecf86a61762":[[3437,3234],[18,4]],
-"xa1e6f966540a899b":[[1179],[96]],
-"x6059ad552fccb89e":[[3826,3808],[6,4]],
-"x2910a3204606afc5":[[3234,3429],[24,9]],
-"x5728a48c2cdf2a72":[[1941],[14]],
-"x2782bbf6a037b093":[[1226],[12]],
-"x24bc4119ea214c4d":[[2355],[3]],
-"x9dc2c00477e75ca6":[[1681],[8]],
-"xbe03673023f9b24a":[[2659],[3]],
-"xd28cc680abc39dbe":[[3299],[2]],
-"x146ab90f58397310":[[3818],[3]],
-"x7fa7c0f9e4fb514d":[[3688],[4]],
-"xf7fa9bb80efb2f8f":[[3956],[2]],
-"x2cafb9dc010564a3":[[3104,3688],[11,9]],
-"xe8a90ec2633c83c1":[[2931],[14]],
-"x631b05c1bc6396aa":[[3902],[5]],
-"x79f28b8851697002":[[982],[7]],
-"xad92211af03ddd1c":[[3902],[3]],
-"xa7991bdb146fde2f":[[339],[6]],
-"x796fde53b4e1f53d":[[202],[10]],
-"xcdf7636b5c05eeb4":[[731],[12]],
-"x8d0a90d5ffcfcd4d":[[3699],[5]],
-"xd34591f810e93a89":[[4013,3502],[4,2]],
-"xae3a54159e16298a":[[1828],[3]],
-"xe3ce73e367e591ad":[[3112],[1]],
-"xf1240aa19abdaf75":[[3958,3567],[12,4]],
-"xd271351c54d37448":[[1371],[22]],
-"x1423f62adec83946":[[75],[6]],
-"x7c389edb972e428c":[[3807],[6]],
-"xbd4de96577237119":[[1763],[14]],
-"xb9f933a3c14f13ab":[[2674,3699],[9,4]],
-"x6b190b63106259fa":[[1314],[3]],
-"x2b1abb6aaf337f36":[[262],[3]],
-"xf4abee29c8b269da":[[2851],[7]],
-"x552bc240187d4766":[[3299],[5]],
-"xfc64a0e6a0b663d0":[[3699],[2]],
-"xf7271da1eb55d807":[[3567,3956],[22,2]],
-"x4103d784d5f881d6":[[3956],[1]],
-"x4857a12786f8ef68":[[3288],[3]],
-"xf17912fb5fae40d4":[[3818],[3]],
-"x75acb0c0c4917d7b":[[1762],[1]],
-"x459f8a4241858ef5":[[202],[6]],
-"x365ffe84562afc7e":[[2203],[8]],
-"x677a910c1bdcd2c9":[[3567],[6]],
-"x9cbfd63a4f5b7a11":[[536,166,788],[10,3,2]],
-"xb55053a38835f8ac":[[2715],[2]],
-"xff94dfaf6cb5e141":[[3761],[3]],
-"x785844bde411d9da":[[3299],[5]],
-"xa6f46d5ab881f124":[[3902],[6]],
-"xc52c13247fd4f84":[[3902],[10]],
-"x231fa590e6372a59":[[1959],[4]],
-"x78af60a7d2dc703b":[[3688,2910],[4,3]],
-"x1949ff07f74d76b3":[[3699,3956],[3,2]],
-"xce8dee3907c56a7f":[[1187],[2]],
-"x15698788e404acaf":[[3372,3112,3502,3749],[169,74,28,4]],
-"x30412b34cd77c300":[[3949],[3]],
-"xe0c3dfe0a2fa8083":[[405],[5]],
-"xcd1b018ccae5ba7c":[[2720],[3]],
-"xc16655e6e1bcb096":[[3],[4]],
-"xfa06eb2bc305a10a":[[528],[10]],
-"x1f4514caba5419ee":[[3902],[5]],
-"xdc9c1bd3a946f4a2":[[3372],[10]],
-"x7eec7bea8487e9d":[[2347],[5]],
-"xba7cf9223543c476":[[2065],[6]],
-"x32f2da2bc4f28d7c":[[3234,3902],[111,6]],
-"x3f0c7ee5bce99bd4":[[2137],[7]],
-"xe98ebba9fa6bdc39":[[2348],[4]],
-"x454f3878ac03d43":[[82],[30]],
-"x7d597d034f5b94fd":[[262,528],[29,3]],
-"x1c6b62dc229020f0":[[1179],[15]],
-"x40f5c90d61c8864a":[[2525],[6]],
-"x4d242cf8ea4383bf":[[1292],[3]],
-"x2a6d073fb97b2526":[[157,324],[8,5]],
-"x3656005362787747":[[2364],[4]],
-"x92bd91f31a9952e8":[[2036],[4]],
-"xd20237c58221c7bf":[[658],[12]],
-"x87f701d43c0ae927":[[2919],[5]],
-"x5dbe170282c876f7":[[3429],[3]],
-"xf71b1fde16ef86f8":[[2802,3763],[15,2]],
-"x9df82f84158e644a":[[262],[6]],
-"x3d453fde959467e9":[[398],[2]],
-"x42c95ea961d7423d":[[3690],[3]],
-"x74e201b30f01e0ff":[[3947],[1]],
-"x9e66a066b05f53ec":[[2330],[4]],
-"x7974f8c5432145b5":[[3902],[3]],
-"x8bdf6dd678a0602a":[[262],[15]],
-"x8eb2c6883b5fee2f":[[1827],[14]],
-"xaaf35ab4695cc79d":[[3502],[5]],
-"xe1e45e3859966c0c":[[3756],[3]],
-"x2ef4800b1e517dfa":[[262],[6]],
-"x7ee03095796092f5":[[2],[6]],
-"xcf4611eec716e58d":[[3690],[1]],
-"x673d42a6b7443146":[[3169],[6]],
-"xc3f3119056a3b78a":[[262,148],[118,9]],
-"x282e7c5cbc5812d":[[3307],[8]],
-"x47f8e3af8f5e4510":[[3299,3929,4013,3429,3177,3234],[108,13,12,5,4,2]],
-"x3df79784fe580a8c":[[1371],[7]],
-"xa33182299f22b88c":[[3964],[3]],
-"x3ea36ffd185202a5":[[2787],[3]],
-"xa6a5cd188f81a949":[[222,405],[17,4]],
-"xd07b273e9d53bb75":[[2059],[2]],
-"xf847fa37472d0307":[[1439],[6]],
-"x4d07880255b1c711":[[796],[8]],
-"xaedf7ea8a0a8d540":[[269],[3]],
-"x7809c9825681474d":[[3234],[4]],
-"x89594f1cc9949fcd":[[262],[3]],
-"xc8ae4f072d396bc5":[[3947],[5]],
-"x135ccd538b5c1556":[[3234],[3]],
-"x55ce0f5d37ef08f":[[405],[4]],
-"xcae26ad0f1f56c01":[[353],[8]],
-"xca56e30e532e5b02":[[1618,1632],[78,15]],
-"x636ae5b845cc5f72":[[3169],[3]],
-"xf22e8ea02234035b":[[2219],[6]],
-"x2d6b059920e4e63a":[[3828],[2]],
-"x91f63dc9f864160d":[[82,405,731,918],[388,110,52,34]],
-"xcf0c6db4069fe1eb":[[162],[8]],
-"x90359a98be403329":[[2098],[6]],
-"xfa4be597e9a8ebb0":[[209],[8]],
-"x7549f0c519a08c8":[[148,75],[5,4]],
-"x8bbab56eeedde15d":[[2908],[4]],
-"xb30701645f0e6c1d":[[2124],[5]],
-"x65bd913b7a787303":[[3761],[3]],
-"xda721227e7d40a5d":[[1438],[6]],
-"xdd27da778b57d204":[[1749],[12]],
-"xf4297c6ffcd73491":[[723],[51]],
-"xbd983c28f15acd45":[[1810],[3]],
-"x6fbceb2847900713":[[2715],[10]],
-"xf063b22dabac27d":[[3948,3104],[6,2]],
-"x8fe2f410d7418f61":[[1669],[4]],
-"xae8eb8b08ac52611":[[3761],[5]],
-"x4538529f8c145277":[[1828],[5]],
-"xc2a494067632e9c7":[[1892],[3]],
-"xce03829380ae948":[[1307],[4]],
-"x71c1609f01bb928e":[[982],[6]],
-"x3b3381b4edfd86ef":[[3494],[2]],
-"x9724d9890de0e875":[[3834],[5]],
-"x41a3438dab7ea447":[[3826],[3]],
-"xd95580a073c21c8c":[[1765],[3]],
-"x3525e484fd950bdd":[[1250],[6]],
-"x6d9d8b3bd2ea96e9":[[3298,2333],[9,7]],
-"xb7782c82f67a8853":[[262,209],[39,6]],
-"xc6270a5eebd1ae03":[[262],[6]],
-"x3885ce400f913de3":[[3902,3242],[30,8]],
-"xd2a586c62b73eeef":[[2637],[5]],
-"x619ca2a822452d83":[[3169],[3]],
-"x7494f3a4b2bf7a4d":[[3688,3299,3307],[9,8,4]],
-"x465c51a89c009bad":[[3958],[1]],
-"x6af85efff16fe405":[[334],[3]],
-"xf20f3ced324fb300":[[262],[4]],
-"xee34e406d6aa517a":[[3956,3938,3567],[24,16,8]],
-"xc79fb48d8b83dfb":[[2908],[3]],
-"x44d00e3395dab062":[[731],[5]],
-"x72722e4957d5b76c":[[666,731,723],[16,8,4]],
-"x9ab56b0fea452fc5":[[3699,3372],[22,3]],
-"x99491465432e58c":[[853],[3]],
-"xa9f86397c65e014a":[[3761],[21]],
-"x8dd5aa0caf753a43":[[3299],[6]],
-"xabef281647fefef6":[[2851],[6]],
-"x68e37ea399dab47b":[[3761],[2]],
-"x3428ca9946716bb8":[[1828],[6]],
-"x7eecbf34638e4a04":[[861],[6]],
-"xa2b21e69add7a07b":[[209],[4]],
-"x20b3880a2c38374c":[[1827],[5]],
-"xa0194fe3b574db73":[[3164],[3]],
-"x6ee71820973cb704":[[3811,3437],[5,2]],
-"x3b9518b9afa21c56":[[334],[7]],
-"xf4b503f92d474503":[[918],[9]],
-"x6455ff0b57ae6eab":[[1827],[21]],
-"x832f43a788f17d72":[[3902,2931],[2,2]],
-"xc614a2ed0ed5b6a0":[[2915],[2]],
-"x4001459beea3a38a":[[2774],[4]],
-"x5051d2ed00453d7e":[[3956],[3]],
-"xbaafa3f4d32ad2aa":[[902],[3]],
-"x8cc7696d6cfc879c":[[3503],[3]],
-"x38efaaacd4df29d1":[[1892],[4]],
-"xb626a7adad32b0bd":[[203],[3]],
-"x7eeb20557f368b46":[[2713],[3]],
-"xb31ad91eaa9fd64a":[[723],[3]],
-"x11df6a736696b81a":[[56],[3]],
-"x765ecd14abc498ab":[[3306],[5]],
-"xdf95f84a5510458d":[[4013],[3]],
-"x70fb084546e22cb3":[[731],[4]],
-"x9dd0ed6407dee7b3":[[788],[4]],
-"x9958ad19d4e991c9":[[3364],[3]],
-"xe6b1589b125d3b91":[[2931],[2]],
-"xff23a2a4768225a7":[[721],[35]],
-"xabf645605f4303a5":[[2463],[6]],
-"x16e36383c973a80a":[[3761],[12]],
-"x95883e6839bdaa66":[[723],[5]],
-"xa06ffed786c0e3b":[[3234,4013],[7,3]],
-"xb42fa9df0c59d703":[[2724],[3]],
-"xcb75ac4f7f88b68b":[[1699],[5]],
-"x49308721f0423ab":[[147],[3]],
-"xd687210d56b5291e":[[3305],[1]],
-"x3a6e6032103e9152":[[1676],[3]],
-"x438c0f9191896157":[[1380],[6]],
-"x81d3f037a60a52b3":[[405],[2]],
-"x10c851d4117da86a":[[3104],[1]],
-"x5ab1d4b23b844970":[[3437],[3]],
-"x4ddde294aaa09a35":[[2851],[5]],
-"x83d4debc086ba927":[[1804],[4]],
-"x96e4d2fb016f5e0f":[[1438],[3]],
-"x1ac3dc2695534c17":[[2460],[8]],
-"xa2288e41933d0f01":[[1176],[2]],
-"x9401825435c8f348":[[3642],[6]],
-"xa00bc567d13e4a83":[[3307],[1]],
-"x83ae4893f978818d":[[3690],[6]],
-"x5219f6e12a98c82b":[[1959],[8]],
-"xff34fbdcef2d9abc":[[528],[2]],
-"x229d239ea5e74e62":[[593],[3]],
-"xcf483f24aeec9ab0":[[3690],[6]],
-"xebd4f9d3ca674e6c":[[3964],[3]],
-"x60aa264e3a75c34":[[405],[3]],
-"xb16cee03d08eac03":[[2592],[3]],
-"x715b403e75b4f931":[[593],[5]],
-"x54bb18d66c532e3c":[[1618],[3]],
-"x56e06abdd24463a0":[[3690,3742],[13,4]],
-"x15f599797a2cf310":[[1763],[6]],
-"xfaef579c2c0cd07b":[[3372],[3]],
-"x73103753089b8781":[[3362],[3]],
-"xdf86250562504497":[[3956],[19]],
-"x67f150d09c0026a4":[[1826],[6]],
-"xf0af5c765fc96209":[[82,202,731,593],[20,12,6,6]],
-"x9887e772823f7b1d":[[1699],[26]],
-"xec8e559077e2a3a7":[[966],[4]],
-"x4f7b3adc29dcda53":[[3178],[3]],
-"x9f41b695bfbd7dfe":[[3699],[3]],
-"x2228f2db97a9c455":[[1112,1098],[8,7]],
-"x922ac9d3197cf675":[[2332],[5]],
-"x3337b9cf052ad087":[[2349],[9]],
-"xe688f4b69a3e96f2":[[2218],[6]],
-"xff62bf863fc1c7f8":[[3437],[8]],
-"x18d0433693205846":[[339],[4]],
-"xa27b97664a2120a4":[[2852],[6]],
-"x229500ab92419787":[[323,536,82],[19,14,5]],
-"x79d8edc61845a6b5":[[1562],[5]],
-"xd8a43809edf174cd":[[3742],[2]],
-"x4ddbfc2cdd6f8456":[[3],[5]],
-"x2e9a31ff05dd8a81":[[202],[3]],
-"x41035150c5c4a645":[[731,346],[10,10]],
-"xc9799272246c1969":[[1568],[3]],
-"x5347197e1f2b55fa":[[796],[6]],
-"x6f681630a7a903a2":[[593],[3]],
-"xae26db354aae2cf6":[[3502],[3]],
-"x162aafe96a8476d0":[[2763],[6]],
-"x3f9ea6b1b2096fd4":[[405,346],[23,8]],
-"xb9cf0da776b69dd3":[[3948],[4]],
-"xbf1314061c64daed":[[2284],[3]],
-"x9f87ef5a6e5233e8":[[339],[6]],
-"x63ab75cfd1b92d8f":[[2090],[4]],
-"xce61fed9db2c2db7":[[137],[4]],
-"x59e435c323aa4f2e":[[3307,3690],[11,3]],
-"x9b58a4fbe3e2520e":[[396],[4]],
-"x39964b4e429ec62d":[[796,139],[56,3]],
-"x2c9b3aff01c01658":[[148],[11]],
-"x8fd9c216f25ce031":[[1569],[3]],
-"x87e317e049055d32":[[658,262],[13,5]],
-"xf7fc0c3e53c7ebf2":[[1676],[6]],
-"x4b410183e3d95d42":[[3902],[18]],
-"xaccb565917d99e90":[[1293],[8]],
-"x1e0688f11b0cbd02":[[1745,658],[33,5]],
-"x6367a1ef193db460":[[243],[3]],
-"x399910324cb962f":[[1371],[5]],
-"xf07bf6d165b6bd22":[[1426],[3]],
-"x2d7c45ec5f407187":[[1762,211],[87,11]],
-"x729b9a6527dcbf48":[[3517],[3]],
-"xab181c6d755e0a48":[[339,148,332],[14,10,9]],
-"x398336987ccdac9":[[1561],[6]],
-"x82398be14150f8e0":[[2266],[3]],
-"x5fcf405288b4646e":[[211],[5]],
-"x4ea974f3cb6bcc3a":[[334],[8]],
-"x905b05c3914bed1f":[[3112],[3]],
-"xe789c585c18c0560":[[1318,1282],[70,20]],
-"xced2258542cf4a05":[[731],[12]],
-"x68356501c5148f32":[[196],[6]],
-"xde1ff1a8ed3a35c9":[[332],[4]],
-"x919b2786938aec74":[[405],[3]],
-"x9bb575a018f0dc03":[[3176],[3]],
-"xb916441fa277e54d":[[3566],[1]],
-"xebd782acf30ee655":[[196],[5]],
-"xd7a7faf3b97f62c":[[3340],[6]],
-"x4b83d1c54315cbf7":[[794],[60]],
-"x1b075a4a6f3d6436":[[3436],[3]],
-"xb56eff5a5676533b":[[732],[3]],
-"x20e4aa1cb25d35c3":[[3956],[27]],
-"xfff9000ae24d38b1":[[1618],[15]],
-"xa0529b0a9d2ad63b":[[1226],[6]],
-"x8d1134738d8f36fd":[[3963],[4]],
-"xbd3c7cb144322b09":[[262],[5]],
-"x1ec44f435291edfb":[[3902,3307],[6,4]],
-"x88aa3384f1b09bf4":[[536],[13]],
-"x9bcd7ddde4d6a6cd":[[2664],[6]],
-"x488906302da9a700":[[258],[9]],
-"x6f3ef61d7a04b412":[[593],[7]],
-"xb06f6985016e4dd":[[2723],[5]],
-"x17d74c04ab44effe":[[3902],[5]],
-"xf8a668fd6a812e73":[[324],[2]],
-"x936f3d8b9e66bd85":[[2942],[1]],
-"x3d1c8f81c01f5f68":[[3699],[2]],
-"x6d6cfffc07bd5d24":[[203],[7]],
-"x5061987568759a50":[[1699],[9]],
-"xc60c35d464f57a2":[[3963],[5]],
-"xfe15bdcf4cdec83b":[[3688,3690],[5,3]],
-"x9861d61703cda502":[[139],[7]],
-"xc5d604d833d56491":[[3706],[18]],
-"x9f6fc693f2a4897b":[[1745,1770],[2,1]],
-"x6e031aebf2a69dbd":[[3444],[2]],
-"x3e8a7fa75184c5e0":[[157,1828],[5,5]],
-"x5beff6602437cf8":[[334,405],[12,2]],
-"xb51da6e24e36c78b":[[1626],[3]],
-"x908c7690b88c06ca":[[2398],[8]],
-"x4570afa4715c9fce":[[730],[5]],
-"x95bf4ab106bd0ad7":[[3243],[5]],
-"xe105af924961c829":[[2715],[2]],
-"xc675a9da4bd5738b":[[3756],[4]],
-"x6a00cfb27d870802":[[790],[8]],
-"x7345b358fd24cf8c":[[1829],[7]],
-"x59d6a617a5f93b5":[[2908],[2]],
-"xe290b5f8aad64e76":[[75],[8]],
-"xff1db97dcc4abc40":[[779],[3]],
-"x1579858ce6551d44":[[730],[3]],
-"x223b4893a74760b9":[[2193],[2]],
-"x15d194339e7b900b":[[2203],[3]],
-"x1da57f5c67fb298d":[[3298],[3]],
-"xd0f50b2794b77c61":[[3690,3169,3826],[13,7,4]],
-"x891f6bc496397128":[[2731],[3]],
-"x86de49d2af16340d":[[788],[7]],
-"x6bf0477cebd409bf":[[262],[4]],
-"xc46dce1fdaede044":[[3559,3902],[4,2]],
-"x6c985102f270bc91":[[594],[8]],
-"x79c25c096d9aec2e":[[3938],[4]],
-"x217989092e757962":[[593],[10]],
-"x451b5fcca15cc362":[[262],[5]],
-"x7e50504a9499d624":[[2258],[3]],
-"xc54526a5d031146c":[[3690],[9]],
-"xbd7770f16b467841":[[157],[3]],
-"x9adeecc612b01116":[[3755],[3]],
-"x4ebee1eb1389a342":[[262],[28]],
-"xe77b86fd82c925ff":[[3956],[11]],
-"x1b04af635de0dc8c":[[3372],[2]],
-"xd3d12cb91d4410":[[1640],[1]],
-"x408c3ac0c38c4ec6":[[1746],[13]],
-"x948869aa4756132d":[[2771],[1]],
-"xe944adbf3ad0e49c":[[1828],[2]],
-"x31dbc6d9064b7f63":[[82],[13]],
-"xae1919983f3b3f78":[[2333],[3]],
-"xc1d2e069337e60e0":[[3963],[5]],
-"x91a2b43c9869d886":[[1770,148],[13,6]],
-"x17ba2f757296552a":[[75,262,983],[11,5,4]],
-"x4046c4d92e66dae0":[[2851],[26]],
-"x85925223518dcebb":[[3299,3688],[9,5]],
-"x7d9f75be2d207710":[[75],[13]],
-"x16b99d160e954908":[[258,346,926],[45,38,6]],
-"x585a2df059f32c6d":[[3902],[6]],
-"xa49bc552b71c421e":[[3307,3902],[13,7]],
-"x10d5d6b8e430300c":[[796],[9]],
-"xdacb6d14bc547f3d":[[2257],[5]],
-"xe60e103c2aff2f4e":[[82,593],[42,7]],
-"x807bcdfe74a0bcc1":[[3956],[7]],
-"x2941338543772490":[[2702],[2]],
-"xa343d53ca1b78d57":[[3299],[38]],
-"x4f83ac714358b32a":[[2203],[6]],
-"xa04b7153b1c529":[[3742,3699,3104,3177],[45,7,5,4]],
-"xed4d43c4e2242709":[[4013],[7]],
-"x4c8a7e7b3dd2f29e":[[202],[6]],
-"xf725b97b18a74f00":[[3309],[5]],
-"xf67697468a58494a":[[258],[13]],
-"xa1359fd3f2888b61":[[2202],[5]],
-"xf878713d70dda482":[[258],[22]],
-"xa96d5a2414612c0b":[[2284],[5]],
-"x1fae22809e1790ee":[[3761],[2]],
-"x233c359f9421d379":[[3624],[5]],
-"x2436895509aa56b1":[[731],[5]],
-"x78dcf475a691ed7":[[861,148],[5,3]],
-"x5f63cc3494b3d6d1":[[262,593],[23,10]],
-"xbe729083cd14aba5":[[3169],[6]],
-"xaf311a3eec25d909":[[1762],[5]],
-"x4adc187a4c31a858":[[2780],[3]],
-"xdd3acd981486e84a":[[1635],[5]],
-"x1db6d047289af0ee":[[731],[1]],
-"x3e44492eea78a635":[[528],[21]],
-"x12112a6a39e5c6e2":[[1179],[3]],
-"xbf3dbc729ffefcf2":[[262],[7]],
-"x8e7795d091fe202c":[[3763,3699],[5,4]],
-"xe23bc35595601ab6":[[722],[4]],
-"xd936f61545b44e4c":[[2910],[1]],
-"x8cf64868f67cf4a7":[[2331],[4]],
-"xeef4f977aab68ed9":[[1380],[1]],
-"x5983f9ae76e55829":[[332],[14]],
-"x4acb8b711837111c":[[2],[3]],
-"xd49ff1b7888f9c56":[[3242],[12]],
-"x28458ab747903bc2":[[3761],[4]],
-"x2d66b3baf95d2592":[[3699],[4]],
-"x7ddacd655fe6acf6":[[1698],[17]],
-"x19d9fcbaf70ff87f":[[3690],[8]],
-"x7a8f0ddc21a3a1d3":[[3234,3962],[4,4]],
-"xd793fcf96efc349f":[[2788],[16]],
-"xf16d0d1465854095":[[137],[4]],
-"x9ffbe16f62255fb2":[[2203],[3]],
-"x9f95e19255bfb4d6":[[262],[4]],
-"x8859412632a780f5":[[1746],[2]],
-"x8f391a4048502752":[[2219],[3]],
-"x54eefb758169c536":[[3559],[5]],
-"x52c9b39c97c176e1":[[2282],[10]],
-"x45fed18572245ae8":[[1568],[10]],
-"xb151ae045a85dd7d":[[593,82,723],[7,6,5]],
-"x823fedee28083098":[[3938],[3]],
-"x2cbf42290b0ebd2a":[[3902],[3]],
-"x1f8c3635c5159e6":[[3234,3834],[3,2]],
-"x221c66485ddad2a1":[[322,714],[8,7]],
-"x804e30e9c3ab0137":[[1762],[3]],
-"x1086c3d33be130c9":[[2006],[2]],
-"xe91007258363c30c":[[1762],[13]],
-"x803cf69790735dfe":[[3502],[3]],
-"xeac0825f030f5f70":[[3112,2715],[7,4]],
-"xc8cbbdb43361c6fa":[[3306],[91]],
-"xb0f29ecc998df6ac":[[391],[6]],
-"x9145730a12f7e69":[[3902],[4]],
-"x9c11172b818dff77":[[3112,2908],[7,1]],
-"x802c5bee2c594d4c":[[1837,262],[6,3]],
-"xe59fa8019691c1bc":[[3690,3299],[9,3]],
-"x8a892602c4b5eaf5":[[1180],[23]],
-"x34b6ff4dd56dcd84":[[2220],[3]],
-"x6128b2cdcc969cc0":[[1438],[3]],
-"x3528150dbb82401a":[[918],[10]],
-"x12577f8d0e751822":[[853],[4]],
-"xc3af1d9546dabff3":[[3749,2908],[9,8]],
-"x823c9b50fd114196":[[3234,3364,3372,3242,3307,4013,3502,3299,3690,3177],[4157,2504,1102,782,201,93,88,56,19,2]],
-"x848e051ca1fd79fd":[[2787],[4]],
-"xa681a9a1da44182f":[[3178],[8]],
-"x83e868cf2742efc":[[1307],[3]],
-"x69d7ed63cfe2d68d":[[3234],[3]],
-"x64a8267580fbd4bf":[[3178],[32]],
-"x8c9bcd1c5d55b5ff":[[2200],[6]],
-"x1eece42a067eae71":[[3177],[2]],
-"x4229e75f01939902":[[3372],[4]],
-"xa7c3bfc03f14b78b":[[1185],[3]],
-"x875064ddc38ffe96":[[346],[9]],
-"xad8b26fa5d14d7f5":[[2355],[62]],
-"x16af83b4fa8481d6":[[983,593,1],[30,5,2]],
-"xe6399fd0de965306":[[1380],[6]],
-"x60e9bfb209e01de6":[[528],[10]],
-"xf321622a73da6a06":[[2781],[2]],
-"xf2d5f36af866dee9":[[1,851],[12,4]],
-"xb12b418513e13b0e":[[1553],[3]],
-"x6656235640718d48":[[861],[14]],
-"x23c15c5bdd7d3e61":[[213],[3]],
-"x142f32ed1571abbe":[[3177],[3]],
-"x7d0091a166e64fd5":[[1553],[914]],
-"xf97c9b524ebd0ea4":[[2908],[62]],
-"x27a743032facbbca":[[3178],[3]],
-"xd2794c32200a8a93":[[723],[26]],
-"x84823d6f1e879501":[[3374],[4]],
-"x3b20c2bf164def59":[[528,332],[4,2]],
-"x7710c756e58d5cf5":[[2217],[18]],
-"x6784109aef929cb4":[[2851],[38]],
-"xbd4962cbaa8d1c5b":[[3902],[4]],
-"x66486006f3274df4":[[203],[9]],
-"x234cff240174d3d1":[[3964,3690],[2,2]],
-"xb76f7898a0c53f60":[[1178],[4]],
-"x35d505d27b04cde2":[[1682],[5]],
-"xb962ba2bb20a8cb5":[[334],[7]],
-"xa7827aac790920d2":[[2931],[24]],
-"xce603ee6cabf072":[[2203],[1]],
-"x8562bc117a8d5515":[[2786],[13]],
-"x17720982fb1ab3ba":[[396],[2]],
-"xa50e93adbea632bc":[[3938],[5]],
-"xb98f8008e554c418":[[861,213],[145,3]],
-"x91082e4d195c09c2":[[3307],[4]],
-"x3075b17ed43ef80f":[[324],[2]],
-"x2ceae1f0c2ff54ea":[[723],[3]],
-"xf49d70a9f48beceb":[[861],[4]],
-"xe4bd9677b2b38b4f":[[3821],[5]],
-"x911484eb3069da5d":[[664],[3]],
-"xa18f679b66b5c1aa":[[2715],[2]],
-"x4d89ee4ac785df46":[[1810],[3]],
-"x7c1318d279aa7b3c":[[918,405],[17,9]],
-"x4170d7e8250b6be2":[[4013],[4]],
-"xb8171190d33b8a95":[[3305],[3]],
-"x77724686119c434":[[773],[8]],
-"x73b4ff03a0fff05e":[[2915],[26]],
-"x7b33228ec5e02221":[[4020],[3]],
-"xe8ba1dd68037eb20":[[2852],[2]],
-"x6f3c60e6cc0f61cb":[[3690,3502],[15,3]],
-"x28800075fd9e25c":[[166,1762],[55,8]],
-"xfb2914184d6dc643":[[339],[6]],
-"x665ccdc07b4edf4c":[[204],[7]],
-"x15331380856c0bf4":[[3749],[6]],
-"x936d2f9851f0ee06":[[853],[11]],
-"xbcf06a108c5e35d9":[[3307,4013],[19,3]],
-"xb105f7e96613d10a":[[2463,2477],[22,4]],
-"x89ee5460e59aca4":[[3169],[5]],
-"x666d047edfdc99c6":[[2268],[5]],
-"x1f3ec474da29c3ba":[[262],[5]],
-"x9dea4aade91a78d":[[3387],[4]],
-"x262d917c1ac7cff1":[[3763],[9]],
-"xe4d19eefb60c5048":[[1892],[9]],
-"x4397ee8358f577ab":[[3299],[3]],
-"x3470a5c713ecd814":[[3742,3641],[7,7]],
-"x50a57feab043fcb0":[[2216],[5]],
-"x4f2bc68604a26b9c":[[3956],[4]],
-"x369047f86e74c4ac":[[3752],[3]],
-"xde3e5d031b193cab":[[1959],[4]],
-"x7b70b6c5a9a75538":[[2723],[17]],
-"x7cc1117f0d056045":[[67],[6]],
-"x36bc5f3a7c858f85":[[657],[6]],
-"x93973bf53f26e7d1":[[166],[5]],
-"x5039de5ada3f5284":[[1164],[6]],
-"x8353cb0a9f8410c1":[[75,1796],[7,6]],
-"x6e5bc48c2f2cdb1f":[[2331],[3]],
-"x7260862440dfca5d":[[3234],[5]],
-"x3163b18cdce0767e":[[3902],[6]],
-"xa94610f0f424a1c1":[[148],[4]],
-"x3d845604cc336a94":[[3494,3699],[8,7]],
-"x19c94335a33973de":[[918],[6]],
-"x831aba6510d87d93":[[536],[4]],
-"x5e5d64b28847858d":[[1893],[5]],
-"x1495d5b731d390a6":[[1176],[4]],
-"xd77667d80d9e8009":[[3104],[3]],
-"xcdc214c998eada5":[[3372],[3]],
-"x42fb7f9c27623510":[[2048],[6]],
-"xbf794925a9c33e30":[[3956],[23]],
-"x9dd82b112cb01876":[[1618],[3]],
-"xa057c458da0457f5":[[332],[3]],
-"x8d7572ce544a7aa3":[[4015],[4]],
-"xa11f4cadad02beaa":[[3112,3688,3742,3690,3242],[59,31,9,7,3]],
-"xadc5cae6b6c9bf8":[[1762],[3]],
-"x5df61db7ea423c61":[[1],[4]],
-"x320acf6a25415b2b":[[1245],[3]],
-"x91480ca96730a7":[[82],[4]],
-"x8be07b7c6b378ed1":[[1810],[18]],
-"x942b7f6915a6e646":[[2073],[4]],
-"x688b179eebb6c33e":[[1371],[8]],
-"x5b762026f3f92bb6":[[3947],[8]],
-"xff2b08c4ed50a941":[[262],[7]],
-"x8468dcf66a75f233":[[204],[1]],
-"x1fe1cf4435da55f8":[[2203],[3]],
-"xc1a084b563455afe":[[262],[3]],
-"xf741468fdc9c6561":[[1810],[5]],
-"xfe845f65a8dd9627":[[1049],[4]],
-"xe69ac0c4fc9109fc":[[3962],[3]],
-"xbb737440862e2dde":[[853],[10]],
-"xdb5250c6567c72fd":[[1634],[3]],
-"x93bf02d433b7f8cf":[[75],[6]],
-"x36639ba2f5f38ea6":[[974],[4]],
-"xbac40c816019d153":[[665],[5]],
-"xd368a413eef46bf1":[[2065],[4]],
-"x6f1d116f2b3402c5":[[262],[12]],
-"xc08b4d35ff1e29c4":[[3902],[2]],
-"x500b01457229b3c9":[[3756],[3]],
-"xbdf80ead9e465375":[[3234],[5]],
-"xdfa07464ef19728b":[[3501],[3]],
-"xfc7b3ae87d9dc546":[[1242],[44]],
-"x75f4bad92cd5f39f":[[3298],[3]],
-"x9f3208c5761f3322":[[2658],[3]],
-"xd4df1d479ae79e36":[[2414],[3]],
-"xbc7d9f88156d4ebf":[[4013],[6]],
-"x5d8a7b764e7e233a":[[396],[8]],
-"x69b6e621af183418":[[2851,2915],[16,4]],
-"xacca2508e98a66d8":[[3567],[23]],
-"x2884512d67f5c4cd":[[3742],[1]],
-"x24cc4e7dc32fe2ee":[[666],[4]],
-"xd129c7d9d9ed58a8":[[1634],[3]],
-"x6fcc1b6367b61b9f":[[1763],[6]],
-"x6d8396b1a3b9a346":[[2138],[4]],
-"xe75fc78071fd9bec":[[1501],[2]],
-"x66f7985fa5252612":[[1684],[2]],
-"x57a8851c98566975":[[2517],[10]],
-"xe854a62f04cb861b":[[2998],[3]],
-"x7764ec460496b242":[[1632],[14]],
-"xbd309f2c90c27b8e":[[1611],[6]],
-"x90a8a48fe0c8c7d6":[[3169],[57]],
-"x2c503ddf7b915711":[[3307],[1]],
-"xb3d7bd1b7e7bf9b2":[[3300],[6]],
-"xabcfb9dcb087d8b8":[[2983],[6]],
-"xa4adb9fdbf8af2f8":[[1618,3808,3763],[30,5,4]],
-"x47a105c0af4520a2":[[2787],[1]],
-"x773fd82e3a95665f":[[2720],[14]],
-"xaa2472a3f76a5193":[[2378],[3]],
-"x828ed0545b839b19":[[1187],[5]],
-"x55e9b2d22cd8fc8b":[[3371],[2]],
-"x58e22872f937a2":[[3690],[7]],
-"xd96d52f8d23d9aa3":[[2331],[1]],
-"x4b60af50b999dcb1":[[3642],[4]],
-"xffdb30b531b6d2d3":[[3808],[2]],
-"x87c83deca7f12147":[[3436],[3]],
-"x6667a871b3bdfc18":[[3047],[3]],
-"xfea1ef55551150c8":[[779],[3]],
-"x61a5b48b317b6c19":[[2915],[5]],
-"x38f23b76577c8bc5":[[82,528],[88,14]],
-"xf21e9c57f2dce9cf":[[2585],[2]],
-"x1ea87230efdfbb5":[[666],[5]],
-"x78c8152e11212a0":[[1894],[4]],
-"xc6030ed94c197583":[[731,723],[6,4]],
-"x58f72cff4445639d":[[3690],[6]],
-"xb0925b00f76f9231":[[796],[5]],
-"xf9302c24ea6db1ee":[[788],[8]],
-"x8f1f19d0228f80de":[[1307],[8]],
-"x57197a6381e714d9":[[3891],[2]],
-"x5c69c85fd0335ecf":[[202],[2]],
-"x321dd5269c01a02a":[[3226],[3]],
-"xe2e907cc59cba70b":[[137],[3]],
-"x87f81151f4b4d097":[[1634],[4]],
-"x2d5e7a0332130479":[[453],[3]],
-"xa3019882732c05a8":[[3234,3169],[13,4]],
-"xe2440c52eadfdcb6":[[262],[5]],
-"x3eefcf9d5194c036":[[1941],[6]],
-"xf3f54ba7821ad067":[[3902],[5]],
-"x5e6057b0b199e74d":[[2323],[3]],
-"xe6fa8799bbb9625d":[[3902],[5]],
-"x21797c02f3046e0d":[[3169],[6]],
-"xfa0a663bf4c35fbb":[[1373],[6]],
-"x16c2a48572af530f":[[2],[14]],
-"x2afbfe7d03eff27e":[[3902],[3]],
-"x4b6a9f3560e42643":[[2463,2452],[16,3]],
-"x3f682493d29e557b":[[258],[11]],
-"xbe4d970786daa407":[[2932],[3]],
-"x43b409dfcedbb411":[[2292],[8]],
-"x4efbf66472a95fbd":[[3642],[1]],
-"x77371f8c407f9bb7":[[1488],[3]],
-"xf4d0203681d841f2":[[1355],[5]],
-"x1d80d119a5955c9b":[[3169,3956,3567],[23,17,4]],
-"x16992b3d13d28c2e":[[3827],[7]],
-"xd3aae4a8ecf5ba51":[[3567],[3]],
-"xb260238d90a075e4":[[3742],[9]],
-"x99d5c32cc267b59a":[[2203],[43]],
-"xafe34ce4a73c5c44":[[1878],[5]],
-"xf834d5972bd9fcda":[[1113],[3]],
-"xab4eca6815057b53":[[262],[3]],
-"x529c22a24ba94d0a":[[1],[5]],
-"x47842d30a284563a":[[1314],[6]],
-"x7e9633f113fa47ae":[[1314],[3]],
-"xcbf8d268eed4e36e":[[3243],[5]],
-"xf10e0fb9feeaa787":[[666],[6]],
-"x6c0f21658a4333fc":[[1114],[3]],
-"xb7949b55b2fa25e8":[[1959,1942],[5,4]],
-"x9aec83ae309dbb33":[[2266,2268,2138],[8,4,1]],
-"x6b6d851f6bcd1c5c":[[2722],[6]],
-"x9e5d219708aec1fa":[[2192],[3]],
-"xabb87867f6a2b824":[[3756],[2]],
-"x69d2f985fe449dab":[[1764,788],[14,5]],
-"x5adb7f1354afec45":[[137],[5]],
-"xaa348851dbbe87ad":[[2090,3963,3761],[21,7,7]],
-"xa821fa7353fb6b72":[[146],[8]],
-"xd742921a8fd18101":[[1242],[6]],
-"xcd456df5bda05874":[[4013,3372,3309],[65,9,3]],
-"x4ffbef446972ff87":[[137],[11]],
-"x991b3b00397a8069":[[1358],[6]],
-"xbd10868818b3ce35":[[3242,3372,3234,3502],[9,4,3,2]],
-"x6e2c3e0894e3c374":[[3307,3929],[10,6]],
-"x275e202ba57978c3":[[1437],[3]],
-"x5a8dbfbab8478f45":[[3307,3372],[36,5]],
-"x5ec0dca6033adf87":[[1242],[1]],
-"xe2c852980041dae0":[[3364],[1]],
-"xe76d822fa920b797":[[339,593,82,75,202],[11,9,8,4,2]],
-"xa1213a54da7d59e7":[[397],[6]],
-"x2c37b585f8cf9075":[[3436],[5]],
-"x33bceda753f8971a":[[2202],[5]],
-"x409027d3923aeaae":[[723,1382,731],[35,20,3]],
-"x3411a8daaed59411":[[723,593,666,731],[23,8,7,4]],
-"x414b89df33f48c47":[[3902],[2]],
-"xf034c9ba978ed17e":[[137],[3]],
-"x61df2293b23a9353":[[1763,353],[10,6]],
-"x1dcf5de5f309790a":[[1137],[3]],
-"x34672d86fa0a062":[[3309],[8]],
-"x2d9733ca376a712c":[[2281,3690],[3,3]],
-"x3a544a811762669e":[[2192,1187],[4,2]],
-"x1d2f408a4bfb4712":[[1243],[7]],
-"xd290a799158c2f09":[[796],[7]],
-"xd853b8b8cd909d3b":[[3502],[4]],
-"xf00b41b6aa8c1d0d":[[1746],[2]],
-"x7933d9aeebf329e4":[[1633],[2]],
-"xc0c7e80f36d960bf":[[3902],[41]],
-"xcd86dd1e722dbfda":[[2228],[3]],
-"x3dcb25b265db0b5f":[[820],[6]],
-"x215e8fd0fd38f3fa":[[2477,2463],[13,12]],
-"xb11e01d8a59e8cf4":[[1826],[3]],
-"xb68f3af3cf573da2":[[398],[21]],
-"xd22b2157968451d1":[[3958],[3]],
-"x615e3ca54296e277":[[3177],[4]],
-"x5c9bbb7a43ea75cc":[[3699],[33]],
-"x1fda36f0be3fd952":[[1683,3436],[6,4]],
-"x6abaeae97cd74395":[[796,666,405,918],[61,33,7,5]],
-"xdd424d414918481f":[[3305,3437],[14,5]],
-"x93ad924fe3599779":[[3234],[4]],
-"x192d4fdae848f222":[[258],[7]],
-"x11624a1a42c807ff":[[2414],[3]],
-"x5f9a7eeb5c2be71f":[[3299],[3]],
-"x11174b0873f35f60":[[2325,2323],[10,9]],
-"x7ff55eb3a46a39ae":[[3898,3956],[11,1]],
-"xee13df3a9cd1f5eb":[[3964],[3]],
-"x4778a01fc728495b":[[2331],[5]],
-"x59f48d74974fa2f5":[[919],[3]],
-"xa405ffb1e60766d0":[[334],[4]],
-"xf2e952e754fa476f":[[3811],[3]],
-"x6313cce60466b0c7":[[139,157,166],[46,21,8]],
-"x23ab677af899898d":[[1827],[4]],
-"x90a8ef86bdde4e5b":[[3371],[5]],
-"x9d18b2b81c54bcb5":[[3742],[3]],
-"xbe85a6dc2ee9ec15":[[593],[2]],
-"x814baa432fca04b":[[258],[4]],
-"x13f9172c9728a53b":[[991,2],[5,4]],
-"xa40e12abe10fce93":[[4020,3437,3817,3642,4015],[24,6,4,2,1]],
-"xc5dd2f82987863f1":[[3699,2919],[4,3]],
-"x3b2cfdbd7d2d11b2":[[3242],[3]],
-"xba9c4fa4821d352e":[[324,166],[13,6]],
-"xc83ec74cbfa94c1a":[[4013],[3]],
-"xda17542ed5864b86":[[3567,3956],[2,2]],
-"x37bf6b8948118ec3":[[262],[8]],
-"x83a43e7f532352a5":[[332],[12]],
-"x685b14e2dbe4d9ec":[[262],[10]],
-"x4f11307da03298ad":[[2452],[4]],
-"x311f57ab0b0f357a":[[129],[3]],
-"xdea2a534b3dbadaf":[[3956,3112,3690],[34,13,8]],
-"x864709451e65bc82":[[2013],[6]],
-"x8bf56cc6e27cc433":[[3365],[2]],
-"xcd1375b648a8a2e7":[[1355],[7]],
-"x2e4c8469829c81f3":[[1675],[3]],
-"x416727ff47acb806":[[3436],[3]],
-"x3e5469875494f7ff":[[3251],[6]],
-"xbb99e92ea9e24929":[[1242],[3]],
-"x4536bfc3cf8bf272":[[262],[3]],
-"x2348929ce464784f":[[1176],[3]],
-"x88a12f5c957088db":[[2,1697],[9,3]],
-"x6a5d8b4e04a0f071":[[1098],[6]],
-"xdd3405228dbb66e7":[[3699],[10]],
-"x4e48b85d7ee3bd36":[[82],[11]],
-"x1f24162d43c84b6b":[[148],[2]],
-"x2e4e2a7480bc6887":[[3299],[5]],
-"x8d371103690adfaf":[[334],[2]],
-"xaa37325da67d1185":[[1242],[3]],
-"xac32335f9e05ea8":[[323],[7]],
-"x7ea89afc4f6f90fd":[[82],[4]],
-"xa1284c33a4aae2d4":[[1764],[6]],
-"x636e7309c7162771":[[709],[4]],
-"xcad4967154bb20c":[[82],[6]],
-"x3800af083eb52d66":[[3559],[6]],
-"x1a57e7429568d335":[[2282],[4]],
-"x7100dec6cfdd29e5":[[137],[5]],
-"x5eea19e1348ca4e9":[[1819],[3]],
-"xace38528ff1961c4":[[938],[7]],
-"xfcf5c732eb9d26a8":[[3902],[3]],
-"xf3db1fb430998c6a":[[262],[2]],
-"x3767b980c08d8adc":[[2395],[3]],
-"x286852c3904e889f":[[2331],[7]],
-"xfc419259eb554fd5":[[593],[8]],
-"x2a0ce928cda8b7de":[[339],[20]],
-"x4746318265ef20e4":[[1161],[1]],
-"x10d54825750fbc44":[[668],[4]],
-"xe03dabefdcf3fa20":[[2722],[3]],
-"xf8c8b69146f7a4ed":[[3958,4013],[16,3]],
-"xf2725e10534069d0":[[4031],[3]],
-"x855a6a0d550cb4e4":[[2851],[37]],
-"xd638c6c0c8103a2e":[[3234,3567],[16,8]],
-"x60a1f7e9a569b203":[[3567],[3]],
-"x5bd07c6f2001d7b1":[[983],[14]],
-"x9d60fa2f4027c476":[[853],[6]],
-"xbd502c34139fcc1a":[[2268],[4]],
-"x2d5d20c6539a9220":[[4020],[4]],
-"x879e68aad579786f":[[1681],[6]],
-"x8f3b87780c70d7bf":[[3690],[4]],
-"xa8e2d72990072d31":[[1569],[8]],
-"x2bf30b608b49bca9":[[3234],[3]],
-"xcbc8d3cb8f8452be":[[3642],[4]],
-"x91da3aaa71fe1c70":[[3902],[3]],
-"xfbd2119151d78a71":[[1307],[3]],
-"xf8f446da9ee5aa65":[[3299],[31]],
-"xd1e5bfeb474d5b1f":[[2461],[4]],
-"xf54b212fd13c04a0":[[3763],[12]],
-"xab2dcfdba75868fc":[[3242,3956],[44,30]],
-"x22ce08f5a0d38cff":[[983],[12]],
-"x7f01488af42875ad":[[3539],[8]],
-"x31d4ef48091d879d":[[2476],[10]],
-"xda284808b1454883":[[1632],[10]],
-"xfc803a4d90681da0":[[3902],[5]],
-"xdb498491e4a95131":[[211],[6]],
-"x4156187d2f64076d":[[3429],[4]],
-"x4e8982b2a78c61d1":[[2720],[2]],
-"x9924ea33cef5a5c1":[[3761],[2]],
-"x602267e2b454bf4b":[[3827],[6]],
-"x257c9e1f3ca82646":[[3],[5]],
-"x345e18dd88efd015":[[2212],[1]],
-"x8a6f48dafe82a2bc":[[3429],[14]],
-"x8f747412c951e5f":[[2292],[2]],
-"x171549f874a1e43b":[[405],[4]],
-"x60e2e1c7478f69c6":[[4013],[3]],
-"xa910fe132036404":[[3307],[6]],
-"xadc1ccfb7c7d7fa6":[[332],[3]],
-"xe8156a862df4e243":[[2013],[5]],
-"x6de208f29fa1ae80":[[2415],[6]],
-"x26fa8503c728393a":[[324],[7]],
-"xb9802c6a33775543":[[204],[2]],
-"x6e73513c24c9e47":[[731,353],[35,4]],
-"x5f9e4fc8611c671d":[[3828],[3]],
-"x80d9592d4f711b5":[[2452],[6]],
-"xef77404a423abebf":[[1745,1749,148],[6,6,5]],
-"x6ebe02276f8419b5":[[262],[5]],
-"x6c71494ad4160d04":[[1611],[3]],
-"xa9abeebf28e7e7a8":[[148],[6]],
-"xfd0bf5e841d26e6f":[[1838],[4]],
-"x2cd0ac53f09691e5":[[166],[8]],
-"xae95390715c896eb":[[1371],[13]],
-"xbcb9ea651d1ae53e":[[1765],[3]],
-"xb371ecedfd29a29a":[[3902],[2]],
-"x108b5b447eeda699":[[334],[4]],
-"xe124d0f7363c885":[[731],[9]],
-"x32a77ed2a0f1c8c5":[[794],[10]],
-"x6a91821a622d6b72":[[789],[4]],
-"x9a99e34d1bd1a63b":[[3390,2397],[22,5]],
-"xda1b9eb7b5872d07":[[1714],[3]],
-"x49a0fb2d58eb09ea":[[1049],[3]],
-"x63c9e0649e6ee0e":[[3902],[3]],
-"x65b8db1ef1c6d380":[[3308],[2]],
-"xc6dae9d6e7174f35":[[2651],[5]],
-"x5ea4e9c706fcd5a6":[[3242],[21]],
-"xd2d5f05326172d34":[[2203],[5]],
-"x71ff81b3857ff759":[[658],[4]],
-"x258ee2996dea7d62":[[262],[109]],
-"x3e1809647e8d3f5":[[3104],[6]],
-"xeb63660a17053907":[[4013,3169],[18,3]],
-"xbdebfd3b19412957":[[3234],[1]],
-"xf9d5812ac82ceb8":[[3242],[3]],
-"x6f306b58fa3710e4":[[3309],[2]],
-"xd01176ebcc92496c":[[3902],[6]],
-"x40600176c67bafad":[[82,918,788,723],[340,134,9,7]],
-"x8fbe547cff377974":[[1587],[6]],
-"xf0dfc63915ba2f40":[[82],[9]],
-"xb613741b7f34d209":[[3242],[9]],
-"x78f6091060d353e1":[[3956,3699,3234],[26,9,5]],
-"x17ae4c6d07b14d88":[[1828],[5]],
-"x7953cd97f79844c1":[[3902],[3]],
-"x71eed0d22464bd43":[[3104],[2]],
-"xfdc79d43498412a7":[[1371],[2]],
-"xeb004c58b9c0621e":[[405],[3]],
-"xe57e97d85b0ee83f":[[56],[9]],
-"xdb652bdabe050d1e":[[1259],[6]],
-"xfcb23fa213740da3":[[3958],[3]],
-"x935174049e644fcd":[[3242],[3]],
-"x980557bf9fddc8be":[[3756],[9]],
-"xdc3bb4233386c337":[[3429],[5]],
-"xc4ce4b6d3f082b0e":[[732],[1]],
-"x6822cb28ca0684d0":[[391],[3]],
-"xf1d5e2e1e7192db":[[1717],[5]],
-"x3b95595dd7094b8f":[[3502],[4]],
-"xc6c18ec2344d4d89":[[2266],[2]],
-"x28036ce59fadd76c":[[2851],[3]],
-"x2d177f181aebdcca":[[137],[3]],
-"x3a5b7a467a1e311f":[[2720],[12]],
-"xed2ebfa6f979480":[[2851],[8]],
-"xcb067d00107c80db":[[3234,3177,3902,3299],[53,22,10,7]],
-"x2af4e6da40d2d756":[[82],[3]],
-"x28299e94b133c076":[[258,536],[90,8]],
-"x3b63f0c12325544d":[[1375,339],[56,11]],
-"x3b23cee286f971e9":[[3242],[9]],
-"x7e358f70bc05c391":[[3517],[3]],
-"x4f948ae035ea9fdd":[[3362],[3]],
-"x104ab1709159f64e":[[3819],[11]],
-"xad56efce0ce5c21b":[[262],[3]],
-"xe71cfeb247f19fb7":[[3956],[3]],
-"x92e40ada49dadb2":[[1048],[6]],
-"x430d8b995d6a1ad7":[[2443],[4]],
-"x6c29d23acfcb6232":[[2851],[4]],
-"x6c444194f8410d8c":[[3112],[6]],
-"xaa0481dc8d47bced":[[2204],[3]],
-"xc945140886ae133c":[[1244],[4]],
-"xb9238262401dba45":[[666],[5]],
-"x47167a9e6b62eba9":[[1355],[3]],
-"x8fb085c2f0cb9fa9":[[262],[91]],
-"x68e57bca9c69d890":[[790],[3]],
-"x3e3df556baf82ede":[[3763],[14]],
-"xda8179d30aa2113d":[[1894],[6]],
-"x4d65ef644e17c0a0":[[1770],[4]],
-"x6b7e712a7e21ad6f":[[1356],[5]],
-"xe554c820ed136dfc":[[3641],[9]],
-"x6932abaa68362663":[[2851],[5]],
-"x6d96f5560511b975":[[861],[1]],
-"xfc9eb7e0a3d29532":[[3178],[2]],
-"x6e6e51631aa5963e":[[2414,2387],[8,6]],
-"x1869bfa761c73c8c":[[334],[3]],
-"x2234475c96210cd7":[[790],[3]],
-"x45975f64a4686384":[[788],[4]],
-"x9e9cb7bd7f0db23f":[[3826],[3]],
-"xa474a2f67a56391d":[[1569],[8]],
-"xac2bff7a5a50e5e6":[[1249],[4]],
-"x9233823eeef9d612":[[773],[3]],
-"x70e89d17d756175e":[[1112],[4]],
-"x3e261f9ce7576ff1":[[3298],[4]],
-"x9b4031d90745fd85":[[3300],[4]],
-"x577fa0f9cfef5898":[[3],[4]],
-"x78131b1a2a13b053":[[3234],[3]],
-"x45a83deb3d094fee":[[73],[4]],
-"x243b44cd50c79ff6":[[4013],[4]],
-"x6a0257c1a977d930":[[731],[7]],
-"xb558bbf5fb5c8e4a":[[2269],[4]],
-"xe2055e6e166a0b8f":[[148,1373],[3,3]],
-"x47b449dcdc28558d":[[4013],[4]],
-"x9723488e3cefcc04":[[203],[6]],
-"xc61880e96b1c79ba":[[3902],[7]],
-"xab399d37de1e5dd0":[[2333],[5]],
-"x81aa367dc9fafb4":[[262],[7]],
-"xb111319da02b3978":[[730],[3]],
-"x3bd8b74b6c9ae78a":[[2325],[3]],
-"x17a1909a6257e5fe":[[536],[3]],
-"xa927bf1fb90bee8f":[[2412],[6]],
-"x30f613865c777550":[[729],[9]],
-"xff974da42117bedd":[[3234],[3]],
-"xd4774310f53bffe2":[[991],[6]],
-"x49ee62809b024e5d":[[2722],[3]],
-"xe58c3bc1df96e157":[[1318],[5]],
-"xc9a8d86ce0904017":[[3112],[6]],
-"x642be00083925b72":[[918],[3]],
-"x595d49b5e1aa27d8":[[3763,3690],[13,9]],
-"x5c0cda1563343015":[[3307],[4]],
-"xec23e5836b68f4ba":[[405,82],[11,6]],
-"x44bb38b6bd0fb60d":[[3309],[6]],
-"x629277b0ef0681e8":[[788],[3]],
-"xca2671706cf1a8f2":[[3827],[3]],
-"x74702e81d82fc793":[[2203],[4]],
-"xa8e670cf47bdadae":[[4013],[2]],
-"x64a3ae844e34aaf0":[[3756,3956],[137,17]],
-"x4e10d07324442cd8":[[2731],[1]],
-"xd4dac7326231bd24":[[2851],[3]],
-"x45373bee46e333a7":[[3902],[6]],
-"xcd1b1c409f09b1cd":[[594],[4]],
-"x384a496a9aeb5295":[[137],[4]],
-"x21071456d43bc9cb":[[3956],[1]],
-"xd83fd251473a2d83":[[2072],[3]],
-"xa6d65528a8ba780b":[[3956],[2]],
-"x7164a5859b413295":[[593,334],[6,5]],
-"x68f4032435cbdf95":[[1828],[6]],
-"x1f4d67035c6c980d":[[82],[12]],
-"x3cc29d2e8b8121fb":[[139],[3]],
-"xad5f36feb1db7293":[[3690,3372,3307],[25,6,3]],
-"xdeb6ada257da6040":[[2349],[6]],
-"xc9fef3a86f10c49f":[[3241],[2]],
-"xe19852e46d7f6a6e":[[3956],[3]],
-"x4b7b20b0ed0e91db":[[2673],[3]],
-"x80b613693e6c9f72":[[339,202],[30,4]],
-"xd63f23e0667dfc50":[[332,129,983],[13,11,7]],
-"xfc36c87e8152332a":[[983],[1]],
-"x2b7ed8fa31be3d7f":[[259],[3]],
-"xe5ed05ea68fbde48":[[82],[92]],
-"xd8a881179a16a45e":[[2893],[6]],
-"x2b43971578e1476b":[[3690],[2]],
-"x2caaa4365916758":[[2788],[2]],
-"x2a2f529e24600c10":[[454],[8]],
-"x347d6d58e689f97f":[[2203,3169],[9,3]],
-"x4d699680e1d6bc97":[[731],[3]],
-"xc662a78b9d0db5d4":[[3828],[4]],
-"x9d9ea039441f339a":[[2720],[2]],
-"x3502b8acd033b051":[[3112],[6]],
-"xec9899bfd0844ac8":[[3808],[2]],
-"x8316fdbe1b1eb575":[[292],[3]],
-"x912ed983efe2c47d":[[926],[9]],
-"xd18ecb64a2892ef6":[[2919],[6]],
-"x82c3df31df580120":[[2594],[4]],
-"x5c674bf83423b449":[[3307],[3]],
-"x193ffb0b7ec56bc5":[[2203,3567],[14,4]],
-"x8bd8ce53adb33ebc":[[2203],[3]],
-"xe53f231e509b05f7":[[1375],[6]],
-"x578c1f9407062109":[[2163,536,666,204],[128,6,4,3]],
-"x53572ffdadc39451":[[861],[4]],
-"x7c7a1a4fb274028f":[[1567],[22]],
-"x8864907ec6496bc5":[[666,918,796],[28,18,3]],
-"xd5bbb2cb07ec5d01":[[3699,3902,3742],[13,3,2]],
-"x2b2bb48288d837e1":[[2916],[3]],
-"x2df6b2151f4ca568":[[594],[6]],
-"x85d42fb7235bc096":[[323],[15]],
-"x442de74986eb22e4":[[82],[4]],
-"x2033715cbabf5d8f":[[131],[4]],
-"x2c62e144b8bacf86":[[4023],[1]],
-"x37e1b408efb09161":[[1308],[6]],
-"x5d5490fbed4e79d0":[[2915],[8]],
-"xe05f5f08e696e32e":[[2089],[5]],
-"x548813c802c1fd5a":[[2861],[6]],
-"xe4e1b909193878d6":[[2022],[6]],
-"x8824787983b522a5":[[1179],[4]],
-"x39cb28cb27ee11e4":[[334,731],[27,8]],
-"x5be45f8ca3202a43":[[3964],[2]],
-"x9ebf4380cc5a77ba":[[4031],[5]],
-"xc957fc85cc87d826":[[2260],[3]],
-"x52f6720715e95a77":[[788],[4]],
-"x296042d22c779ae5":[[339],[9]],
-"x91101b9ebe795d2f":[[3429],[5]],
-"x14d5ee7e8f9a62d2":[[528],[3]],
-"xfd2b21a5ac38afbe":[[3699],[1]],
-"x8cf2449f2e7deb24":[[3502,3494,3699],[3,3,2]],
-"x96791501fb956ce2":[[339],[10]],
-"x961633534810a172":[[146],[4]],
-"x9f70dd3eb0f1c0c7":[[3742],[17]],
-"x52a663033778b9d":[[3756],[3]],
-"x29922fc77f58fc66":[[3902],[4]],
-"xabc3be541db9fc98":[[731],[4]],
-"xc72ab67d91359c2c":[[3236],[3]],
-"xacdc6c3c2c2aa484":[[334],[20]],
-"x541d6e96ce32394a":[[3902],[8]],
-"x4e5808a31d21d3fe":[[4013],[4]],
-"xf28b5afe6d67edf4":[[332,983],[38,7]],
-"x80b77f2948613986":[[846],[3]],
-"xbfc3dd72b63fabdb":[[3892],[8]],
-"x3fa2ea7974ca93d9":[[794],[10]],
-"xee5479bf6b7731c":[[209],[11]],
-"x2ae51471d3955051":[[3749],[9]],
-"x92b55b2684c9c710":[[2650],[3]],
-"xe48935fb17aa4a98":[[926],[4]],
-"x2422840a6552e620":[[2339],[3]],
-"x14a79d83241daa6a":[[203],[3]],
-"x119ff04d3a09f7e0":[[81],[7]],
-"x2bff014d139d88f6":[[2463,2477],[8,6]],
-"x7c6de37015f75896":[[3947],[10]],
-"x63b721e13ae5b183":[[853],[22]],
-"x82e48c22453ffd36":[[729],[15]],
-"xf39069aa8e38c3b3":[[1072],[3]],
-"xe564374a9d07e5b0":[[3963],[3]],
-"xf83dd1297fb5738f":[[1164],[3]],
-"xea0ca0f222767cda":[[3902,3299],[4,3]],
-"x1ed4f81d7c4abf56":[[3902],[14]],
-"x17fc17ffb565f171":[[991],[6]],
-"x7baf4052d52f991":[[2154],[6]],
-"x142b5c3da2715860":[[405],[3]],
-"xf0e11960631199b2":[[2203],[3]],
-"x288758a1a0283518":[[2331],[3]],
-"xede3888a7d3c9f88":[[2657,2722],[14,12]],
-"x83ad27391bee4ff1":[[342],[6]],
-"xca7d7c9c897102b4":[[339,405,332],[22,5,3]],
-"x49b7f02b85c0ab5c":[[3811],[2]],
-"xe4d25ee89ac32267":[[3437],[3]],
-"xab8e63a3c52e7390":[[2268],[200]],
-"xa826800795b86dcd":[[339],[7]],
-"xa1250b8610c97819":[[2463,991],[18,3]],
-"xc374b4a3c215ae91":[[3902],[12]],
-"x7f578b469337ae70":[[2787],[6]],
-"x86fdc0791862ba02":[[3373],[10]],
-"x5fd9b14260ab6bd9":[[166,918],[14,8]],
-"x7c9f8e6546d83e15":[[339],[5]],
-"x879cdc659632b0fb":[[1164,1187],[15,5]],
-"x92dfccdb02d25b20":[[3502],[3]],
-"x9396f5ad3756576a":[[262,926],[7,6]],
-"x6565f1e93808a482":[[1699],[6]],
-"x5cec23844fdf8298":[[1749],[3]],
-"x453147ec5581ebc0":[[3373],[1]],
-"xa06ba2e6c1213eac":[[334],[10]],
-"xc4ffbb37da1b150f":[[2331],[2]],
-"xaf9234feca64517d":[[3429],[2]],
-"x8fbca930dfab7a97":[[144,796],[5,4]],
-"x6ebb80ee5bf233ad":[[1249,262],[13,6]],
-"xc1f569de2fcb31ef":[[770,2],[5,5]],
-"x19e6772c2af2cdc1":[[2919],[1]],
-"x2f4d50df802e3976":[[67],[3]],
-"x9e64ff6fa63434be":[[3761],[3]],
-"xe8211d3b48013ce2":[[787],[3]],
-"x3f331066f03846c5":[[2349],[4]],
-"x296e36f007ca2355":[[2074],[3]],
-"x482af5494edeeaad":[[2851],[6]],
-"xd296db4a786a28c1":[[846],[6]],
-"xe92511d4cba80945":[[3688],[20]],
-"x42eaf7752e48e0b1":[[926],[6]],
-"x5f8a71c62a0cee50":[[4029],[1]],
-"x377d5be3558f5b":[[137],[4]],
-"xe2f65ff891026e23":[[3299],[16]],
-"xd75d9d34a2d924b2":[[1355],[7]],
-"x5e32eaf758001a9d":[[1375,1371],[12,2]],
-"x1f5f98211be0874d":[[601],[12]],
-"xe737695f95b80d93":[[786],[7]],
-"x69a4bfbaced666d3":[[2852],[3]],
-"x9eb4d0732a9964fb":[[3690],[2]],
-"xf0f48c71b8865922":[[129],[8]],
-"x21e58a74af349c6f":[[1634],[1]],
-"x251f9fc2fb75137f":[[853],[3]],
-"x777fef5e6c17cd55":[[3795],[5]],
-"x51993be9c0c6354a":[[1672],[6]],
-"x20ca7fb76b65fb6f":[[227],[4]],
-"xa7bd6061a43379ad":[[3763],[1]],
-"x301612d68862433b":[[3828],[10]],
-"x4d320dbb2a4efe6f":[[3807],[6]],
-"x9a6076d3a7735592":[[3112],[3]],
-"xe2927347a9c6ba90":[[3453],[3]],
-"x803eb5a81cb95512":[[1958],[7]],
-"xe51a5d4df2e1a1f1":[[529],[7]],
-"xb60d86c25252a673":[[2931,3742],[4,3]],
-"x5f3912241a056854":[[1172],[3]],
-"x8e13e42c6ea9188b":[[2452],[5]],
-"x2e6f1a48c3281134":[[1436],[4]],
-"x86fbcd7691a9f40f":[[3938],[5]],
-"x96366e2b4744a91d":[[405,82],[24,13]],
-"xd5c2cf38b4df84e3":[[148],[9]],
-"x4246e26554420ff4":[[3437],[1]],
-"x6b9d9d248b850955":[[731],[12]],
-"x1fadf1f3e00380d7":[[405],[8]],
-"x92358e59cf068781":[[3902],[4]],
-"x26762cc19cdb70ea":[[342],[4]],
-"x7c445229f4e4df36":[[2282],[3]],
-"xf01ba7a7e4464fd4":[[2453],[8]],
-"x31d706296b3e67ae":[[324],[5]],
-"xbd3b72013560b2fd":[[594],[8]],
-"xe4acf448ce976b4c":[[1828],[34]],
-"x1c9606fceb45d8a1":[[139],[8]],
-"x4a4cb5311e900ee1":[[213],[9]],
-"xc3c5b576412620be":[[3112],[4]],
-"xd5413d62bae20936":[[334],[6]],
-"x625042c332115511":[[2203],[2]],
-"x1e434cc169820740":[[796],[28]],
-"x597e8abf6fb16b5e":[[396],[3]],
-"x15edf3199a2111e1":[[593],[5]],
-"x18b61f5b39a5ee1b":[[2463],[1]],
-"x277188f6576c49c":[[577],[3]],
-"xbad4b69ec55c7b2d":[[594],[4]],
-"x38015d8189f48723":[[723,202],[4,3]],
-"x59de8b441d3f801e":[[219],[3]],
-"x20cd9adb007d005f":[[3902],[2]],
-"xce033171b747cd14":[[983],[6]],
-"x703bc6774e2af3c1":[[2208],[9]],
-"xe116b1552bacc9b8":[[2203],[6]],
-"x9c8fc36cebd63b92":[[3502],[4]],
-"xe9bacf0c85853409":[[166,148],[17,1]],
-"x92bd3f9e10c70a24":[[137],[6]],
-"x186fb88c4b8205a3":[[1164],[3]],
-"x28136d25b0be35d9":[[1830],[3]],
-"x454cb1238822535f":[[991],[4]],
-"x55a3aeecf5501c7e":[[2137],[3]],
-"xc8d7575a66ef2d90":[[2915],[3]],
-"x822caceadd18fccc":[[3242],[26]],
-"xcf077fd90617c7e7":[[1618],[4]],
-"x5516311d6a6a18f8":[[3964],[3]],
-"x5233d69f22a243bc":[[1164],[6]],
-"xbd032496ac7edab7":[[1699],[14]],
-"x19c3a4406e48dc4b":[[2722],[3]],
-"x263a8a5fa01fb077":[[3742],[8]],
-"x7710ea411e2d6700":[[334],[6]],
-"x84ced8537b7812e0":[[3372,3699],[55,35]],
-"x5a56982f09c60a6d":[[2453],[39]],
-"x97c98a01e19cb6aa":[[1747],[3]],
-"xcc080db4c7514b8b":[[1114],[6]],
-"x69933682238d982":[[3307],[9]],
-"x3c3c9130bb956747":[[3566],[2]],
-"x18aa5194da0e78c7":[[137],[4]],
-"x84d3b417652634b3":[[4013,3364],[16,13]],
-"x303fb82659c7efaa":[[2203],[2]],
-"xf0800a8dba6e585":[[3690],[7]],
-"xc6c769a958baf790":[[1827],[6]],
-"x52174c95dc30d06d":[[1049],[4]],
-"xe1f617d23789673e":[[148,157],[4,3]],
-"xccaa54c6fac1b78a":[[731],[4]],
-"xb917dc7ed2f35c89":[[1683],[17]],
-"xd151575e764bdd84":[[2650],[6]],
-"x6a3c67052872a3b0":[[783],[4]],
-"x7aaa9ee3ccc6940c":[[3372,3364,2910,3690],[211,187,68,4]],
-"x6ee2688116108322":[[1242],[7]],
-"xefa5334e8dc21e27":[[3104,3819],[17,4]],
-"xf1ea381b964e015":[[3171],[8]],
-"xa4e22d6cdeab2674":[[1179],[40]],
-"xd5627334f6bb9992":[[3169,3699,3690],[22,14,9]],
-"xcf6ef96d0f3d554b":[[593,731,324],[8,4,3]],
-"x146e2d3c294e6239":[[3643],[7]],
-"xc002f49b2abefe56":[[1380],[8]],
-"xcc822efdcf7b9af2":[[1749],[8]],
-"x65015a3488090136":[[2281,3372],[20,3]],
-"xd85abcb007936723":[[3297],[13]],
-"x47d27b78aa89bb95":[[3307],[25]],
-"xa77d97f7222f30d5":[[3307],[3]],
-"xfe24ddfe7f1e69fa":[[211],[3]],
-"xef81dfaac020b98e":[[3298],[2]],
-"x4a92d13f90827730":[[3372,3502,3234,3177,3242,3307],[407,268,193,147,67,13]],
-"xbb2aa12aa0227488":[[1681],[3]],
-"xe6ff420f3ba1ebd2":[[1827],[8]],
-"xf8bb2acccf142c6a":[[3379],[5]],
-"x74e96b91c739b4c5":[[3909],[3]],
-"x1511613cb635004b":[[789],[4]],
-"x1270997b796089d0":[[731],[12]],
-"x320428b7a1b14791":[[2935],[3]],
-"xd30f845bdd8f83ba":[[2265],[6]],
-"xe10ed3c5f4433424":[[82],[10]],
-"xa0460fdc900ce552":[[1618],[1]],
-"x17c8c3fd344a16e8":[[2931],[5]],
-"x439e29fe9215b933":[[56],[4]],
-"x4bd03f6f6b1db6f4":[[666],[6]],
-"x5ec14f3b7df0c297":[[1176],[1]],
-"x6815910fd3b3bf9":[[1587],[3]],
-"xef209633b94c5c63":[[3699,1941,3242,3502],[14,5,3,2]],
-"x7efa1e3721335526":[[1380],[4]],
-"xfcbcac13f66d5632":[[1355],[6]],
-"xca8b6aeba412a94c":[[1746],[8]],
-"x1f6a1ab5c4f32fcf":[[332,528,658],[94,5,4]],
-"x47c4c0e3d9a3ff90":[[204],[4]],
-"x14d20c148223d0d":[[139],[4]],
-"xaac54cfdb8a330ee":[[3956],[3]],
-"x871e24e1d4f3a588":[[3298],[4]],
-"xf855f7022971c870":[[3567],[6]],
-"x5ef83cf0870d36e6":[[202],[4]],
-"x38679505745a505f":[[1699],[5]],
-"x960acba18866c976":[[3437],[4]],
-"xc22392b3c5cfa50":[[209],[18]],
-"x5a5fcde8b28dde09":[[405],[2]],
-"x41ab85f3d0f8dcf":[[1562,82],[10,8]],
-"x5f9009eaa575348c":[[2266],[2]],
-"x3c7c3fae0440d7df":[[3364,3690,3242],[24,9,4]],
-"xd82d7a02501a14d":[[1171],[3]],
-"x7dc121eee767c874":[[4020],[4]],
-"xfca872fb63056612":[[3902],[3]],
-"x5757cc46cd0f37ca":[[1187,262],[11,6]],
-"x1921ebd65ef08941":[[658],[41]],
-"x878c42ac89dfd6fd":[[3761],[33]],
-"x1cdbf73bba93d92f":[[3372],[7]],
-"xc5e5a3113e8503c":[[3827],[2]],
-"x21e1ee9466ba3a3e":[[3958],[5]],
-"xb4bd52bd14394d9a":[[353],[16]],
-"xe063511f00a979ce":[[2463],[22]],
-"xb931e42df81cd22e":[[918],[4]],
-"xc775117265d34eaa":[[82],[6]],
-"xfe1b9fe3aa435c85":[[262,731,82],[79,8,6]],
-"xa0515e0bb8521627":[[1958],[25]],
-"xf2559418fb649d9c":[[1355],[5]],
-"x1c0eb25a926107de":[[3429],[3]],
-"x18d7464634a49034":[[861],[4]],
-"xde913959448d03ab":[[837],[3]],
-"xe2337f339ad7e13b":[[2266,3242],[10,3]],
-"x3b9d7761709b0a22":[[1763],[4]],
-"x854eda82375adce5":[[82,593],[7,5]],
-"x63a8bff1ebed92da":[[2908],[4]],
-"x22c5c9f9cb818bb2":[[731,262],[5,3]],
-"x893a71dc34a61747":[[2908],[3]],
-"xf765812b0bfdf3e3":[[1618],[3]],
-"x15e4e7f06399397c":[[3902],[4]],
-"xa2ab1f207bc6a6a9":[[731],[11]],
-"x54435c8d75ca0410":[[2919],[4]],
-"x156c13545a5b58dd":[[593],[3]],
-"x491d1ee669db3ac1":[[3956],[22]],
-"xff852e92931760dc":[[1382],[5]],
-"xe46a98540f18f594":[[1828],[15]],
-"xda7159e2fb0a40e":[[983],[7]],
-"x23bad86b3bf3a3ac":[[1180],[8]],
-"x1b1f88e29b9fffb0":[[3306],[3]],
-"x71e1e665be5681":[[3763],[11]],
-"x8af60611c95b1874":[[2461],[5]],
-"xf5fc75a1a859011a":[[3699],[1]],
-"x355008f0be4c3047":[[405,82],[9,5]],
-"x3bf904eb728729dd":[[2021],[6]],
-"x9a13be9885ae1902":[[742],[5]],
-"xfebc49543f450547":[[3699],[5]],
-"xd859a048d8a31196":[[1382],[2]],
-"x946fc58211efe2a7":[[796],[8]],
-"xe0f1f44fc7447d6b":[[4020,3299,3502],[10,8,4]],
-"xd5c73f56a982bca5":[[75],[4]],
-"x65d09c35a5da1526":[[3388],[4]],
-"x161fa3e3c03c9576":[[1618],[4]],
-"xfc4c9648082a764d":[[1763],[10]],
-"xff33b9b1d93cf302":[[1308],[3]],
-"xbb073b4003c89637":[[384],[6]],
-"x12d666343d2c032f":[[1699],[4]],
-"x5416572fec28097a":[[3370],[4]],
-"x384a64a4a7fded97":[[1552],[3]],
-"xfcfa3de2add9eba4":[[3947],[9]],
-"x25f4f0f6d066acc7":[[1681],[2]],
-"xb98205b70a805b30":[[3502],[4]],
-"x9d7b1521cce0371d":[[1745],[4]],
-"x7a40a07a03f5920f":[[796],[21]],
-"x7dd31a1ac061c9d5":[[262],[5]],
-"xacee981cb4cbfd62":[[1307],[4]],
-"x3a51dd612e338c5b":[[1299],[3]],
-"xeda6493a812cbd96":[[157,983],[21,4]],
-"xf8a29caa7eea97e8":[[3234],[14]],
-"xe5c2454b0a2d8538":[[3690],[3]],
-"x3c0d4ff851715f0":[[405],[4]],
-"x126f778bb1ec2008":[[3956],[2]],
-"x30c5dd9b70fbec6b":[[788,82],[29,7]],
-"x51d91bbb0b9556e1":[[796],[2]],
-"xb241f0b45c8e6626":[[1562],[7]],
-"x4cc3cbedeb7c6d94":[[148],[11]],
-"x94739b7f1f9267a":[[204],[3]],
-"xa8145e614f597665":[[3817,3808,3690],[6,5,3]],
-"x2110faa5b808bdca":[[4029],[4]],
-"xe4fa4a47daef0ee9":[[3242],[10]],
-"x103a243d5cc10fb6":[[342],[3]],
-"xb5bfc9fa4027324":[[1179],[38]],
-"x9e2450b227d13799":[[2029,1699,332,339,528],[21,16,16,8,2]],
-"xdf57488e45e5cf2e":[[2154],[4]],
-"xad9d21f1ccd78023":[[1763],[2]],
-"x20be7ed7de7d2e19":[[3817],[7]],
-"x35bb9ced07a872e9":[[1894],[6]],
-"x89c4a3111bff277b":[[407],[3]],
-"xafb8f10601882ea3":[[1819],[3]],
-"x5ab71cc1ceec338e":[[2266],[4]],
-"x5e8daaf468ad5416":[[3306],[3]],
-"x57662b9fe5bd489c":[[788],[22]],
-"x7ba2a069a6012ff0":[[3884,3429],[11,2]],
-"x138c068ba9e86995":[[926],[9]],
-"xb94693472edb63b0":[[2396],[3]],
-"xead17efa8b0ae728":[[3756],[3]],
-"x96b90e62c246fb08":[[405],[3]],
-"x70c4b48ebe06c161":[[3234,3567,3242],[19,4,3]],
-"x504ef9fa39c01150":[[593],[2]],
-"xfb91ba2a95424b3f":[[3761],[4]],
-"x95943bb0bfde62e4":[[3299],[4]],
-"x575afe1fc292df04":[[3902,3242],[3,3]],
-"x9a5cec4646a65635":[[323],[9]],
-"x60d6cb688c516829":[[3828],[4]],
-"x57a96c9359bb6740":[[4029],[6]],
-"x31d052e98e9cb362":[[2138],[4]],
-"xdbcc8a290b0c2b05":[[731],[4]],
-"x5d8ed0d2420b8b77":[[144],[12]],
-"xb9a1c6527be8d672":[[2268,3902],[4,4]],
-"xcb29f1101e51f5ea":[[2266],[2]],
-"xdec2893b54c61b7e":[[3171],[5]],
-"x71aab9ba0679ca07":[[346],[17]],
-"x297effba0a0675fe":[[1608],[3]],
-"x2b5417b0337bcc80":[[2347],[5]],
-"x8d84864bbaa2029d":[[1,405],[13,6]],
-"xa7b5bab80bcf76bc":[[203],[44]],
-"xb1fda6e38dcaa2ec":[[2675],[12]],
-"x52630a755c13e0c":[[852],[7]],
-"xb1ceb511de6f9ae8":[[1245],[6]],
-"x577429e169eca2d0":[[795],[6]],
-"x6c8d7fba2b42cd8b":[[642],[4]],
-"xe75797ee59f557fc":[[1763,324],[12,4]],
-"xfb43cb66725b9ead":[[3902],[2]],
-"x9a664c7f080b0c26":[[1,204],[5,2]],
-"x10d9b5d27c774b31":[[536,658,723,1380],[64,5,2,2]],
-"xd6c20f5ac4791355":[[3958],[2]],
-"xf635084e3c039114":[[3641],[3]],
-"x18d06c32f719801c":[[1827],[4]],
-"xce8473a424422eff":[[2463],[12]],
-"xf90446ca50d17591":[[1867,601],[8,8]],
-"xaa760e3c17f86cea":[[3164],[4]],
-"xba4972fe9fe9a6ed":[[407],[6]],
-"x14061a8c293eef5a":[[658,983,536],[491,3,2]],
-"x9897110609e97712":[[3699],[3]],
-"xc01981539e44bc9b":[[3763,2594,3234],[3,3,2]],
-"x71ef23f98ec07490":[[339],[17]],
-"x4f4fbb5fc3231ad6":[[2650],[3]],
-"xb7874adb970a4f4e":[[3902],[21]],
-"xfb755544f18f456d":[[2915],[4]],
-"x6e2622ec5aa6b20c":[[24],[6]],
-"x793144de4a36d553":[[3902,3169],[14,2]],
-"xafae3cc2b91fde89":[[3964],[4]],
-"x485a272b1059266f":[[2797],[3]],
-"x4ce8a2558c720167":[[861,1828],[8,1]],
-"xbf9f1a5782a3a3b4":[[1253],[6]],
-"xd33986606455a171":[[137],[1]],
-"x582994f05d5c9d18":[[3902],[4]],
-"x8b44c1bc3ef3cd25":[[4013],[3]],
-"x7ff826003f50565b":[[1763],[5]],
-"xca3dd54b6270450d":[[1978,1941],[3,3]],
-"xcfbf401533796f68":[[2915],[7]],
-"x2aa8ec2bee89cfb4":[[1106],[4]],
-"x794d930f66552447":[[2931],[18]],
-"x24e2825bb740b6e3":[[2722,3956],[11,2]],
-"x6f90ed2cc338a16f":[[3761],[3]],
-"xb1a980c35c983494":[[3363],[2]],
-"xd5f8f2bcc1ff3715":[[3494],[2]],
-"xb78ae086c97e3cd5":[[3642],[2]],
-"x9376afeb9705dc64":[[2723],[10]],
-"x119b0b8ccaaea597":[[1356],[3]],
-"xba919477116e7fbc":[[918],[13]],
-"xd00bc9777acbb611":[[918,2349],[41,34]],
-"xa2ef0d834419f5c6":[[788],[16]],
-"x4fb2564275322601":[[2065],[2]],
-"x32e65e65125b3e17":[[82],[1]],
-"x331ca38c93779fb9":[[658],[127]],
-"x8cdb7c957c354dfb":[[1748],[5]],
-"x6ea1ea9ae887d84c":[[262],[5]],
-"x61dc3dae3b73866b":[[861,1958,1745],[10,3,1]],
-"x103a1cacffb51776":[[666,601],[23,2]],
-"x339869aa62ec6901":[[82],[8]],
-"x5077dc164a42badf":[[2637],[3]],
-"x3bd7b27be7640e2c":[[231],[3]],
-"xb534224f67be9061":[[709],[29]],
-"xb890995ce09c7976":[[3019],[6]],
-"xc08897c34076fbbf":[[1380],[2]],
-"x4affcb70fb6c8d49":[[3958],[3]],
-"x4d9540b24dfdfec5":[[3511],[14]],
-"xe8343774195c77c3":[[3956],[5]],
-"xaaab269dc5e077ab":[[334],[4]],
-"xb5db0b665eb59376":[[723,593],[11,7]],
-"xba77cc516434b3c1":[[3373],[4]],
-"x3d348c1955cb8ce3":[[1380],[4]],
-"x3a7971f4ecea2e0":[[1828],[6]],
-"xd4e9ebd2a99b6652":[[1803],[7]],
-"x22a8ee02e97bf8a1":[[3761],[3]],
-"x662b5a8bcc42e3dc":[[1958],[3]],
-"x4eec583b10f0f8cc":[[3898],[1]],
-"xe157a0b4f9bbc854":[[788],[5]],
-"x7d24d7069dac56e0":[[4013],[3]],
-"x67bc8f5d54ebb385":[[1282],[4]],
-"x125ec74aba8fab91":[[2082],[2]],
-"x1e431f4d678e5e31":[[576],[5]],
-"x741ce2312cf48eab":[[2414,2398,3902],[31,12,11]],
-"x50ddce1b3c3a35dd":[[2910,3242,3688,2331,3567,3828],[22,21,10,10,4,2]],
-"x528db9d6b486656e":[[262],[3]],
-"x3a18efccdc4a16a8":[[1242],[3]],
-"xc57d657776cd734a":[[2203],[4]],
-"x4a36c4ac6194d5d6":[[2203],[3]],
-"x451ba4bddc9866b0":[[262],[3]],
-"xdb941aa161369978":[[2722],[4]],
-"x9b84bd146d488f3c":[[2901],[3]],
-"xdfea3f6594a10a01":[[262,75],[4,3]],
-"x3a3ef7d0103cb818":[[666,918,166,82],[23,8,4,3]],
-"x6d5ed42ed1c6ec75":[[75],[4]],
-"x61f5130f79436b68":[[3763],[3]],
-"x56d0279cfa236bae":[[3938,3929],[5,3]],
-"x6d351b71dbf0132":[[2218],[5]],
-"x45c03f66e2f43f7e":[[796],[3]],
-"xfeebe6b8b14ea286":[[139],[3]],
-"x356bbc689b398dbc":[[2331,3768],[10,8]],
-"x377e5d972a3774bd":[[405,148,861,166,918,853],[79,45,44,26,18,5]],
-"x553c2c56f4d43ef8":[[334],[11]],
-"x5444b3107ea63f88":[[396],[16]],
-"x3c5c0c0804198543":[[2203],[11]],
-"x615f800ed183b925":[[2,202],[20,6]],
-"xeab06095974c1747":[[2852],[11]],
-"x9ceda003d8040d0f":[[1179],[10]],
-"xf5feea6a8d48fe51":[[203],[9]],
-"x29c77ab7f1428ab8":[[1058],[7]],
-"x13274e936f7b6782":[[262],[5]],
-"xd9b6ccd1a37793f":[[148],[2]],
-"xcfd73d75644a3866":[[3437,2715,3104],[21,7,2]],
-"xfddaa931a24caf8c":[[1762],[3]],
-"x9b1c43e2ad768db2":[[1382,1348],[12,4]],
-"xf3accfdf8fa40438":[[2290],[6]],
-"x79fcb85061732e9d":[[2981],[6]],
-"x529f673cbc5c26eb":[[3808,3429],[61,8]],
-"xff85416ee3cd6b7f":[[3690],[3]],
-"x3823b3c5ea12f19":[[1,137],[6,1]],
-"xd635ede8cef8d0ab":[[316],[8]],
-"xfa8ece188e35ddd1":[[1835,3828],[2,2]],
-"x6be7e0d4cebb93ae":[[3964],[3]],
-"x7eb5b8cd79ca2c30":[[3761],[1]],
-"x29694d0b6e01da9":[[528,788,918],[47,9,5]],
-"xef9524614c2db8d2":[[262],[12]],
-"x1609a6d803e73872":[[787],[6]],
-"x8fd6ea70aabb7ffd":[[3699],[22]],
-"x883dfe104944b866":[[3644],[2]],
-"x3f13cb6effbc51f0":[[3902],[5]],
-"xae085b0b0dc75691":[[721],[3]],
-"x74b85d84933834a6":[[1301],[4]],
-"x30bac769a67b5eb7":[[3820],[5]],
-"xba8837a85160cd3f":[[723],[5]],
-"xeeb95fd0b45cd4f3":[[3902],[2]],
-"x51e8e6a3b08a0a91":[[3938],[42]],
-"x333b496296bc311f":[[82],[16]],
-"x543f7d61282d2b08":[[3372],[2]],
-"x780c54e0462fd94":[[1828],[2]],
-"x8edefc190aab767d":[[3641],[23]],
-"xe1908f9fcdfebfb5":[[3446],[3]],
-"x674734096756e9c9":[[2659],[2]],
-"x31932ca6bfe8f443":[[262],[11]],
-"x2abe3b81572c75f9":[[132],[7]],
-"x4b8a657b80b1280f":[[1187,796],[3,3]],
-"xcbd64db4c44bbcb1":[[1168],[6]],
-"x795ad4a75c75ea8b":[[4013,3299,3177,3929,3429,3234],[96,48,46,40,33,4]],
-"xcf3f3c10a2c42019":[[3902],[6]],
-"xc110990e2d74cfea":[[405],[7]],
-"xbd75b9aed4e3e98e":[[3902],[6]],
-"x46f67550c25f8d91":[[1032],[5]],
-"x637a1bb094b36666":[[3177],[3]],
-"xf2dfeb6da0999b5e":[[203],[1]],
-"x7bfbb4c4c2075b14":[[211],[4]],
-"x8fb6bf04b66dffb7":[[2851],[3]],
-"x684166841cc5f16f":[[594],[4]],
-"xfb6ec9fc5b23518":[[528,262],[11,6]],
-"xb8b34941a1274160":[[137],[2]],
-"xd331e97f6fee252b":[[148],[5]],
-"x5fd65da8f68ea2ab":[[3929],[4]],
-"x424b9e5c5596702b":[[3690],[7]],
-"x1bdb9f35baf12eab":[[148],[3]],
-"xa1ce35f49034a02e":[[3699,4013,3429],[9,6,1]],
-"xcde84c1a6fa8b8c2":[[2023],[4]],
-"x78c039df538d0a03":[[2412],[6]],
-"x8f33f4b69748ced0":[[262],[8]],
-"xc37ddb9699fbae8a":[[1624],[3]],
-"x7ecc5048c7884a3d":[[1749],[22]],
-"xd8d7730db2ed89b4":[[3827],[7]],
-"xd0630bf08165c64b":[[3956],[4]],
-"x8362aee42428b442":[[2723],[5]],
-"xf3f2d02c3da4c12e":[[2258],[3]],
-"x2edac09b36385b50":[[2463],[3]],
-"x75636e6c2a78a697":[[788],[10]],
-"x4052f788dd9d2d4c":[[1827],[5]],
-"x3b72f8cf15ad97d0":[[594],[3]],
-"xf97debb18cd83843":[[788],[9]],
-"xf03b5bcc3b2ea3fd":[[3690,3699,3234],[9,4,3]],
-"x1a788740afc42406":[[1941],[11]],
-"x722b8cd5996cfc5":[[56],[10]],
-"xa656459013386637":[[796],[6]],
-"x13ee91a06fae4e90":[[1672],[10]],
-"x4c23cf5aff085e1e":[[1177],[8]],
-"x7cfdf72d7c89bf12":[[3956],[22]],
-"x6ef3970e2ffcc26b":[[324],[3]],
-"x751325b44dc691f":[[157],[10]],
-"xb87fe937d485f797":[[405],[5]],
-"x47e19a03dfbe3bde":[[1355],[3]],
-"xd024ee0491dc2264":[[2846],[3]],
-"x717a7dc18c9a6cbc":[[733],[5]],
-"x9dcce8cb5d6bebda":[[3902],[3]],
-"x2db7a6cfdeeafdcb":[[2792],[3]],
-"x8547787474a3e5ce":[[1828],[5]],
-"xdb2eedc4c9a851c7":[[2617],[3]],
-"xdd80d803d630e938":[[1819],[2]],
-"x36c3df3be1f7a05d":[[3964],[3]],
-"xfca6bb1024167090":[[3756],[3]],
-"xce68239a18c1a0bc":[[4013],[5]],
-"x549ab5be3bec4744":[[2463],[2]],
-"xc47380aab121ca36":[[991],[5]],
-"x5d1bc13c69703d7e":[[2908],[2]],
-"x15fd4bc683fe704e":[[918,139],[5,2]],
-"x8c6b19528e6dbf24":[[324,1770,536],[7,4,2]],
-"x61f73ac5b6b913a4":[[2268],[9]],
-"xa8425f1d61f6da93":[[658],[3]],
-"x272c546b7751cd61":[[2609,3234],[69,1]],
-"x7d0886b5aa66e92c":[[3242],[7]],
-"x3c2503b905bb9020":[[3833],[4]],
-"x432df495ea727322":[[1034],[11]],
-"xffed03991f1fd508":[[339],[6]],
-"x1a5c80560537e8b9":[[3947],[4]],
-"x3bcff4114437eee8":[[3171],[5]],
-"x90cdf05b9b2d6fd7":[[334],[1]],
-"xcf1c8f448fb4fd9e":[[204],[6]],
-"x54fd36ca727142df":[[3567],[2]],
-"x4cad605121180231":[[3502],[3]],
-"x71bbff33745cf945":[[1228],[6]],
-"x6284639ab0a605f5":[[332,148,918,861],[117,94,50,9]],
-"x53ab75e1bc43cec7":[[2203,2908],[6,2]],
-"xac6fa657ed2caaf1":[[3305],[5]],
-"xfe36e949e3e00b1d":[[137],[5]],
-"xcf02f2139118398a":[[1683],[4]],
-"xbb3d41a3472ad9a3":[[405,1683],[14,3]],
-"x6f2e910c4f96acd6":[[3176],[5]],
-"xcd533ffd5615061e":[[528],[3]],
-"x3eccfe5ea4de35a2":[[3169],[5]],
-"xeadf4b54f75e7e0d":[[2713],[3]],
-"x975dc3bad9789e4c":[[1596],[8]],
-"x7c120f845df74b70":[[3742],[5]],
-"x14c515c043f1fad8":[[18],[5]],
-"xa548ff2a2e95527b":[[1745],[4]],
-"x652aa48b3e2543c7":[[2422],[6]],
-"x3dbbfc1d056a13df":[[267],[4]],
-"x1ba53b78e18e726e":[[3169],[71]],
-"xac9427f01ffd1daf":[[1635],[3]],
-"xe99636ddac14ec41":[[405,346,148,353,144,216],[106,94,50,29,4,4]],
-"xae380815ca797a6":[[3947],[4]],
-"x5e9ef0d4e42085f1":[[339],[2]],
-"xcaf7d17fb3a66ee1":[[658],[4]],
-"x98554ea438e57b12":[[235],[6]],
-"x671b5acc6c97daeb":[[334],[8]],
-"x357e26bc5b7d7394":[[262],[5]],
-"xd3b50254bc4e3f70":[[807],[2]],
-"x1803b518fbd89e8f":[[3429,4013,3947],[16,10,4]],
-"x24230113a19db2cf":[[4022],[2]],
-"xaee65244566387bb":[[1554],[6]],
-"xb4d4302ed45a4ac5":[[3902],[4]],
-"xc1b7a26abff9aff6":[[339,353],[21,2]],
-"x60963a437f0bd85e":[[3902],[5]],
-"xa64b130d718bc0bb":[[1763],[12]],
-"x4846f40d0ed52efd":[[3808],[1]],
-"x58d2527c22e75aa6":[[75],[6]],
-"x53336c7fb509c7e8":[[334],[3]],
-"x8724261931a26e4e":[[1244],[10]],
-"x59ee79cb5ef47845":[[4093],[5]],
-"xce6a775faa208477":[[3436],[2]],
-"x16ac1332ffca856":[[3242],[2]],
-"x68e0dfb41c339ea9":[[2036],[1]],
-"xecc4e796fb23d376":[[3437],[3]],
-"x45d521b519a68ac4":[[4013],[2]],
-"xbceee3e081f12b9b":[[1539],[3]],
-"x2091e1dfc1c8c409":[[2323],[3]],
-"x258dffcc503f768e":[[3501],[2]],
-"x2f4ce481e3cd0b7f":[[262],[6]],
-"x7a69e1709894f642":[[722],[3]],
-"xc5e9d2f12049dc7e":[[262],[12]],
-"x9becc498cd42ae88":[[209],[5]],
-"x36b035b3ab261f":[[1681],[4]],
-"xb9b99376064befea":[[796],[3]],
-"xe2e3489474532b36":[[1242],[3]],
-"x1d8497c857b7c359":[[4015],[3]],
-"x2c58a4cdd88b7575":[[869],[3]],
-"x9e24bfd5eb0ca3dd":[[788],[3]],
-"xd4043034a84e51ed":[[3828],[12]],
-"x4a7012e617ad1575":[[262],[5]],
-"xe94b4dfdd2aebbec":[[2227],[3]],
-"xbcd9e52b9d99b43":[[1763],[15]],
-"x38e1d100603274e2":[[3817,3699],[24,5]],
-"xb935176dda04782":[[3956],[6]],
-"x3ba73316ca1ce1be":[[3502],[5]],
-"x424d4b5eca69bd43":[[2266],[3]],
-"x94ba03c886796d85":[[3808,2202],[14,2]],
-"xfe9351a9e3d0c71f":[[2463],[6]],
-"xb684b4557b336e1":[[3642,3559],[8,5]],
-"xda85f164edd92116":[[2931],[7]],
-"xb5dc3760d7fcd101":[[3299],[5]],
-"x4a528c32d88042ba":[[853],[8]],
-"x50070d182fe84d04":[[3828],[5]],
-"xf512c917a4311c62":[[262],[8]],
-"x7841aea368600596":[[2812],[3]],
-"xac66ffe1f647bc27":[[137],[3]],
-"x68b2f9aaefc74538":[[3761,3964,2267],[7,7,3]],
-"x3af5f3c0fa186bd":[[601],[4]],
-"x82789c40743e1e0f":[[782],[3]],
-"x2030e0833dfaf291":[[1176],[5]],
-"x8f8e0c6eb724a14f":[[528],[5]],
-"xc46190b8a020c977":[[144],[5]],
-"xbe5981819b7d145f":[[3307,3938],[14,5]],
-"xd93eaa5bb68c960e":[[3699,3690],[4,3]],
-"x605ea3a2f1d20643":[[339],[5]],
-"xe323f972b7b67c79":[[471,1893],[16,8]],
-"xd68c00d5e9be6ecd":[[3958],[3]],
-"x729b41a87ad00aef":[[3502,4013],[26,4]],
-"xaec472d26bd34b50":[[1762],[7]],
-"x2a1b97576b05f512":[[967],[5]],
-"xa927c640bf594579":[[262],[3]],
-"x24789325b5993a9a":[[1683],[3]],
-"x54cbfdf9871a46a":[[2851],[4]],
-"x303ae44e2ce0c519":[[755],[3]],
-"x88bb6dc82e6eab9f":[[3177],[3]],
-"x31a9d727ad510608":[[2203],[10]],
-"xc6e197cb8ce5d879":[[1763],[2]],
-"x1c361738c56adcc0":[[3820],[4]],
-"x81fd69a08f3de7eb":[[2722],[8]],
-"x80a32931cadc23e8":[[3234],[7]],
-"xdf58100605dfe066":[[601],[3]],
-"xba3b52279be2a0e1":[[3826],[1]],
-"x277ed92280e9a496":[[1763],[8]],
-"x3901ce3033432e37":[[1699],[3]],
-"x5e35ab03f0af8103":[[1847],[4]],
-"xf439cedd174a343c":[[2915],[3]],
-"x35530200c852c430":[[3699],[9]],
-"xcceae3e0b2e6427d":[[1762],[6]],
-"x395cdf8a44ecf7a0":[[3502,3690],[5,3]],
-"xb8ccdccedacfc93":[[3372],[6]],
-"x455c7b58f2b142f5":[[503],[6]],
-"xf633bb4983ee1f8f":[[3501],[3]],
-"x76f20b7ad8f1810b":[[1355],[6]],
-"xe7e0096f0897c9d":[[3373,2285,2713],[15,8,6]],
-"xb1ec8ca291acce06":[[2931],[4]],
-"xe5b0d5b31963834b":[[3300],[1]],
-"x52235cd62319023b":[[3177],[3]],
-"x510f28bcac7a4a88":[[3502],[3]],
-"x85543c13386b25d9":[[1802],[5]],
-"xdad158a63a0b57ad":[[1509],[6]],
-"xb73e879f5aab34e3":[[731],[4]],
-"x67b8664dc9c5f620":[[2527],[3]],
-"x1dda726f5582677e":[[1098],[2]],
-"x9c0c49f5af52f829":[[262],[17]],
-"x141ad9258ec33de5":[[528],[2]],
-"x71dc3c69e561a52":[[3956],[9]],
-"xdaeb99280c5880f5":[[3297],[2]],
-"x40f9aa3c5e1d3c77":[[2851],[3]],
-"xa96792f6450d3061":[[3372],[8]],
-"xcd36dc561deb9c8e":[[3699],[2]],
-"x5313a9692bad23ea":[[1632],[7]],
-"x3dbdeebebd4b1fd1":[[1371],[4]],
-"x2a81b5d3c604352c":[[213],[5]],
-"x3fe525af69479ca1":[[3],[9]],
-"xef3e2a3fa06ed796":[[721],[11]],
-"xd61542ee86673d60":[[1642],[3]],
-"xfd00a9cf7efabcab":[[594],[16]],
-"xa22942d402d076a5":[[918,853],[7,4]],
-"x3a056f6a0c7bc8c2":[[3306],[3]],
-"x4b020e6394293469":[[2720],[4]],
-"x258e424e75b71d6a":[[528],[3]],
-"x8bd0caf2bd35eb01":[[1773],[3]],
-"xea10a0050b7dab46":[[3826],[3]],
-"x6a2e22016df68763":[[3964],[5]],
-"x836898f91a6b5404":[[1162],[10]],
-"x8a83b51dc23591b8":[[3690],[6]],
-"x2f6ec076e7fc7ea6":[[722],[4]],
-"xc2a11512d47dfe75":[[2940],[5]],
-"xbaa9537dd345532a":[[983],[4]],
-"xc59ea3723cd04942":[[194],[6]],
-"xc2dff1677290d092":[[204],[16]],
-"xdf0d85a0cd0f7a3a":[[1745],[19]],
-"x523180fbbab9872b":[[3373],[4]],
-"xfa55e3332d70abc9":[[1932],[2]],
-"x169ba22310413138":[[4013],[6]],
-"xeeaecc3301e63e0e":[[3177],[7]],
-"xcdd8b88b2019e9a8":[[1749,1745],[8,4]],
-"x63314b48fa4c9dc9":[[1837],[5]],
-"xb53ccc678eb8e543":[[1763],[5]],
-"x823764cce6cdfd55":[[1113],[3]],
-"x17851c35603f2a0d":[[586],[6]],
-"x240a37b8b5e120c0":[[3742],[2]],
-"xfe5c5e0a38274824":[[3817,3964,3808],[17,5,1]],
-"x86a98267ce1c9380":[[2138],[8]],
-"xd1c65341513f436d":[[3763],[11]],
-"x12015697a230531":[[3902],[1]],
-"xa6d9b5e31e8d9a90":[[2154],[4]],
-"xddea12d785b56c5b":[[3643],[7]],
-"x2974ef1a2fbc794f":[[2788],[4]],
-"xadf95f488345c985":[[471],[3]],
-"xd337a3f865facc3a":[[3956],[5]],
-"xf37b8393588b8c0a":[[129],[6]],
-"x825aa9f48bb0af8e":[[3958],[32]],
-"xdc1188b0ea0fe43a":[[3947],[3]],
-"x16d6130fd954fe86":[[4094],[4]],
-"xff732ef5823c0697":[[1906],[5]],
-"xd2c0828c789f3304":[[3898],[5]],
-"x2d1240a3dfbcd8cb":[[917],[9]],
-"x4fe5e38d59e75d80":[[3381],[1]],
-"xce80e2945a5420f1":[[3177],[3]],
-"x7fe6c7c94e78d2c0":[[334],[5]],
-"x859da2046ba97dfa":[[3956,3234],[10,3]],
-"xbd304c63c85c9752":[[3437],[3]],
-"xfa4b692dc1e2c038":[[3902,3242],[12,4]],
-"xf872f8167e075593":[[17351],[6]],
-"x71654a2af2b7802d":[[2349],[3]],
-"x4ed09bd68a42e47d":[[1681,204],[4,3]],
-"x128584efdeb8d426":[[1049],[4]],
-"xccab36070d66563d":[[3112],[8]],
-"x4979c412663de27":[[2484],[4]],
-"x539fc2cd5731d433":[[722],[3]],
-"xb67967faea61ac7f":[[3112],[4]],
-"x8bddb4aaf84864c2":[[854],[1]],
-"x75043df64dae91fb":[[339],[7]],
-"xeb2888df66550df3":[[918,666,731],[8,8,7]],
-"x45eb8369a1ca8066":[[2203],[30]],
-"x821f59fa24e24044":[[1699],[3]],
-"x9de89f2954a464cf":[[3763],[20]],
-"xb886835539a94e2c":[[3177],[2]],
-"xc860c11483103be8":[[3169,2202],[6,3]],
-"x50ee038117cbc840":[[1217],[3]],
-"x47e59ac807e174bb":[[2657],[3]],
-"x554b0921851b8716":[[1],[6]],
-"x9d7dfcd7e46cc867":[[1371],[8]],
-"xc30f1e14ade723d2":[[861],[9]],
-"xe23d9b47c62c2554":[[251],[10]],
-"x5ba4a0d34a54a8ea":[[1413],[3]],
-"x4176447cebe1e823":[[658],[251]],
-"xddc0b69fc07699fd":[[75],[6]],
-"x61513bc0bb02206f":[[796],[7]],
-"xe3808bf5d7ea62f9":[[853],[3]],
-"x2d009bb25dc90164":[[262],[5]],
-"x770734d7852570eb":[[262],[3]],
-"x352cfd5a35c98b0f":[[708],[3]],
-"xb72650da409a9dfb":[[2517],[3]],
-"x20099c54742e5388":[[3177],[11]],
-"x6f0fa80ea2642cb8":[[82],[184]],
-"x3b3871a419bdc840":[[2334],[2]],
-"xf9c21de4a5af61f1":[[1827],[3]],
-"xdaaf8a4efdf4372f":[[216],[5]],
-"x3fbcfc8e2717fcf":[[2228],[3]],
-"xf1181be16543b48":[[594],[3]],
-"x39d38bc860fb750e":[[2931],[3]],
-"xd2b8060c040a0dd0":[[796],[2]],
-"xb0b295abc9c8c7a5":[[334],[15]],
-"xd9bf2f6830785545":[[2],[8]],
-"x79a2a428b13bb6fe":[[1763,1180],[12,4]],
-"xb39570a0de2aaa69":[[339],[2]],
-"xed110abfaf5bbb97":[[262,723],[10,4]],
-"x7e4ac1b33525f9e2":[[3761],[5]],
-"xeb85639c5666095a":[[651],[7]],
-"xcba360f0d8aa2330":[[2649],[6]],
-"x648cf4310f214bc6":[[2908],[3]],
-"x2e462710d5d58dc5":[[1830],[6]],
-"xd5d58fe9b169f085":[[651],[11]],
-"x15070b5de2ee3759":[[4013,2852],[10,3]],
-"x88ce4b19abe8990b":[[1380,731,82],[468,145,37]],
-"xa5052989cce928db":[[1965],[1]],
-"x9a24583053701865":[[1375],[9]],
-"x133b93175fdc4b1a":[[2720],[2]],
-"x19fe5acbb9334639":[[1358],[7]],
-"xcedb3c1d05a6918b":[[1371],[21]],
-"xfc24f3160467d62":[[3749,3902],[10,1]],
-"x5f7d75e5856ee36d":[[731],[6]],
-"xc9c6c2594c215257":[[3699,3749,4013],[218,144,9]],
-"x84003ee8b8b26903":[[4013],[5]],
-"xf71f4af66c267cc3":[[262],[6]],
-"xf3f58ee4a7bf4deb":[[1763],[6]],
-"xd19f803ed2d56909":[[262],[4]],
-"xd5c09c0e58a976ad":[[2526],[8]],
-"x920bd7e0e54bbecc":[[148],[6]],
-"x4523257b036ae155":[[982],[6]],
-"xe698d102e7aa681a":[[2387],[4]],
-"x2cffdc32c0eb65e6":[[2266],[2]],
-"xe175f96c7f37218":[[4013],[4]],
-"x94716541b05f5f63":[[2267],[4]],
-"x9acb790eb91d4b45":[[322],[5]],
-"x24f7b5746f76c41":[[396],[5]],
-"xc762075114958e32":[[3899],[3]],
-"x72987dd7e842ad98":[[4015],[3]],
-"x91d1ff745dd32bcf":[[405],[4]],
-"xf14329ca4d6a68fa":[[3956,3826],[27,1]],
-"x9ee48fb5791fa493":[[536,148],[39,4]],
-"x70ed98d86f1382b1":[[2851],[3]],
-"x38ec8a1702994133":[[1,1745],[22,11]],
-"x6b39c90d9014fc05":[[3641],[3]],
-"x7a0207a4074b46e2":[[2266],[2]],
-"xa2e3236783bda2d0":[[3234],[3]],
-"x6d94bd189ed37e24":[[262],[7]],
-"xa3cee5ba96c18bb3":[[2915],[3]],
-"x93fe81ffe4247e61":[[2],[3]],
-"xe0d7e4dbb9e2fde2":[[3642],[3]],
-"x1f512827b091009d":[[3964],[2]],
-"xf7f21f174bb9b0b8":[[4013,3821],[11,2]],
-"x357b7ec3b77c5e15":[[3364],[4]],
-"xd332f901f2a0290d":[[129],[4]],
-"x338590e621f4b0a7":[[3902,3567],[6,3]],
-"xcc73dfdd81d46ff":[[405],[23]],
-"x3e5451df7a3037f0":[[3307],[3]],
-"xa8a79a74debec549":[[901],[13]],
-"x7b0b97e91bf9d4de":[[2147],[6]],
-"x9ae0e7fd5c682629":[[926],[7]],
-"x30c4a5b2652c1db7":[[139],[11]],
-"xbe766ff6df57af37":[[3826],[4]],
-"x608b8a53652f31b2":[[1810],[13]],
-"x5f7352dc864d765a":[[2915],[3]],
-"x387490e0ed18fc42":[[353,346],[9,4]],
-"xd94946722571948":[[204,262],[4,1]],
-"x122ddbb1688a651":[[203],[38]],
-"xc66e95a569262d0e":[[1829],[6]],
-"x5047bef8b181587":[[1959],[9]],
-"xb7a055b60b5129ad":[[3112],[3]],
-"xfcd16028271176ed":[[262],[2]],
-"x4c7ae206dde440f0":[[1748],[5]],
-"xf482c1866c2fa343":[[262],[4]],
-"x4306b1f070a6103d":[[3305],[7]],
-"xdad170303dc310e3":[[1371],[8]],
-"x565c8ea06c489e40":[[1187],[3]],
-"x3c842ab7984d39de":[[3234],[5]],
-"xb45b8f75af196f5b":[[3092],[5]],
-"x76a77c88ff181921":[[1827],[5]],
-"x7f351a90f62f6eed":[[3826],[18]],
-"x717fb995bbd7fe2a":[[1762],[7]],
-"x3a4eaeb510c56605":[[262],[4]],
-"xc8647f3c2868bed7":[[2851],[20]],
-"xd2710f573b47919":[[396],[5]],
-"x4a75951968aa3fc7":[[1090],[4]],
-"xf81dfaa4e671fe2b":[[1699,82],[8,3]],
-"xf399385e287c90a":[[75],[9]],
-"xcb80ad6f14f7ef41":[[211],[20]],
-"x924bd32271cfb2d3":[[2715],[3]],
-"x7a111b56f860b9f7":[[1187],[5]],
-"x1e8ea36d04f3d7f5":[[3123],[6]],
-"xa7ef625409293094":[[2325],[5]],
-"x643b7ce32be75fa8":[[2412],[3]],
-"x6be7cc20a4fea543":[[194],[6]],
-"x43fba1df38666a7c":[[3956],[3]],
-"x374d78e46aea2c95":[[332],[5]],
-"xd504c4b58236441a":[[787],[2]],
-"xe31d95cdacb378b1":[[82],[3]],
-"x1664a4b0ecb1fa08":[[2220],[14]],
-"x6426c10bad587a49":[[2014],[2]],
-"x9f1382f83ccca85b":[[405],[2]],
-"x30ee7e79832076a9":[[2203],[4]],
-"x7a3c0629c96cd7b6":[[1371],[6]],
-"x177cea20b05fb4c3":[[1444],[4]],
-"xba40e7f509899637":[[2010],[5]],
-"x22fbc987c546067f":[[723],[6]],
-"xfddcbe5615d0ffe3":[[157],[3]],
-"xb0e36d053da9f707":[[2851],[105]],
-"xd6137e2e79af6a18":[[148],[5]],
-"x31060753492ce893":[[3306],[10]],
-"xc3e54a39cccc9ee9":[[2269],[4]],
-"xf30bdc54f4f771ff":[[3642,3828],[5,2]],
-"x15184e3a68ba619f":[[2131],[2]],
-"x329fcb888f88084":[[2543],[6]],
-"x6fb6943d5710ef8e":[[1828],[5]],
-"x72f446175aa8719c":[[1179],[6]],
-"x66d420d4ed164abd":[[1271],[6]],
-"x9b108d8471ac8189":[[219],[6]],
-"xcc8decbb4d39a44d":[[157,166],[13,11]],
-"x60dea0f7d27e8172":[[2202],[6]],
-"x7cc5ff4119f99b06":[[3501],[1]],
-"x6b803e61ed2f88b3":[[2740],[3]],
-"x1e40e565ac7a51a0":[[3234],[5]],
-"xbd8f97b81bfc779e":[[3234],[3]],
-"xa15de638c2678817":[[219],[3]],
-"xe67492469ce94933":[[2852],[4]],
-"xa71bd1de0ac271b9":[[339],[3]],
-"x7d1ee7f81b59f683":[[3808],[5]],
-"x96ab0a1bddf018da":[[2915],[6]],
-"xa8d9d44cc103d98d":[[3902],[3]],
-"x781c9c025e26ea52":[[3826,3763],[7,3]],
-"x398ef7bfd7275b6":[[2593],[6]],
-"xcedebbea8e7a18e2":[[789],[3]],
-"x94bcbc0acec2b563":[[1057],[8]],
-"x11a7ddbf99a14e18":[[1632],[7]],
-"xe8e5068d09b78b38":[[3690],[3]],
-"xc385be64bae02d52":[[157],[6]],
-"x19f11c9f0e692434":[[148],[1]],
-"xf0ab03de25b4b2a6":[[3756],[5]],
-"xafbbd66292bf950d":[[3761],[7]],
-"xd83a539a8c325e6":[[2745],[18]],
-"x513646b4188ca47d":[[2531],[20]],
-"x88a58cb701914cbb":[[3240],[6]],
-"x812d4beacd446a96":[[3902],[7]],
-"x3ba33c1154f3e7e4":[[262],[2]],
-"x207759f505b12bb5":[[3364],[1]],
-"x20dd15af9b6739ab":[[528],[1]],
-"x97872fa7e6c369ea":[[3964],[5]],
-"xa7f6d134da6914b":[[3699],[3]],
-"xbe76f7913a799ca":[[2659],[6]],
-"x467a3656e42c8fac":[[211],[4]],
-"x936f9112652d5d9b":[[3817],[4]],
-"x5d9d78fb5c311bbe":[[724],[8]],
-"xa640f5c6b61e52a2":[[3902],[10]],
-"x3297c404d19f7971":[[601],[6]],
-"xa94da12881b6a1b":[[3690,2203],[8,6]],
-"x2c1f34ad86d4e075":[[2203],[3]],
-"x9c1b3fbdb8988e8e":[[2809],[8]],
-"x433c64627224114a":[[983,1676,2030,209],[6,5,4,3]],
-"xa9b37323a5408e9f":[[334],[19]],
-"x10bbd801f3856b25":[[2274],[6]],
-"x11ae4e82fce5aa6c":[[219],[10]],
-"xd7d83ef84a86d809":[[2220],[3]],
-"x423d67adb742386f":[[2851],[6]],
-"x5ac8e641b81c3815":[[2],[6]],
-"x3827973edf25d5f9":[[2218],[6]],
-"x7bff0add18c9b15f":[[983],[6]],
-"x7989c56adbb3623f":[[3177],[2]],
-"x9df30364da9b804a":[[82],[4]],
-"x5eaac088c6849e2a":[[3112],[2]],
-"x7341f9429d07ea93":[[1380],[4]],
-"xac51ded9f277a0c2":[[3171],[3]],
-"xb14b320af7393c7f":[[2203],[5]],
-"x43104f632aaa887e":[[3234],[1]],
-"x45fe96b0a68fd50":[[4013,3821],[5,3]],
-"xf0cc0cf4591d757f":[[796],[4]],
-"x9347acb74f04f66c":[[3242],[6]],
-"x3162bffd09324fb2":[[1228],[5]],
-"x6e4e38200e23b027":[[2284],[6]],
-"x9df6b43bbeffc309":[[334],[4]],
-"xf4ae126cec61de8":[[3958,3242],[8,3]],
-"xd1d0b59f58d637b6":[[788],[39]],
-"xdf14d4f8d624c9d1":[[1649],[4]],
-"xdfc32a74d17dbd04":[[3808],[64]],
-"x44fc935caed1a6ce":[[3690],[3]],
-"x73817354b7ac821f":[[1371],[3]],
-"x5a8c55830a176197":[[3177],[8]],
-"xf8ae6b8cb92de6cf":[[3828,3690],[11,3]],
-"x18e89c23567f8ee8":[[1941],[6]],
-"xd84e2cde0e272e33":[[3964],[1]],
-"x8d3b6babfada5df2":[[3817],[4]],
-"xec2ecb4316a80f23":[[3567],[4]],
-"x5450a903a887b0e7":[[3956,3929],[5,2]],
-"x3b88977e529567df":[[75],[16]],
-"x83faa051bff98bad":[[3803],[5]],
-"x3684fad4a3eeb560":[[3298],[6]],
-"xb0c42d785ec19f8":[[261],[17]],
-"xd1ec601f7ff9a02e":[[3956,3112],[4,3]],
-"x7eca4e41641cd83e":[[1652],[9]],
-"xb465c8030d640521":[[807],[3]],
-"x715cfacc8a056943":[[3836,3242,3837],[10,5,4]],
-"x30e1aa797934637e":[[788],[5]],
-"x7791df251d14acdc":[[3307,3177,3372,3112],[12,6,4,3]],
-"xb1402e6825b3d19e":[[1380],[3]],
-"xce74a9ecb143d3f1":[[853],[4]],
-"x87011e46c0c27ec5":[[901],[3]],
-"xb0095d2189cdda3c":[[1569],[3]],
-"xc69b1c77f9d67831":[[3902],[5]],
-"xc171bf9e350dc52e":[[3372,3817],[6,2]],
-"x49b7afa8bec0481d":[[536,196,391],[15,12,10]],
-"x4f606dd8877a58c":[[3299],[5]],
-"xecb7075081608c25":[[1699],[3]],
-"x5ed10874c766e6d0":[[2915],[2]],
-"x10bb880ecd545890":[[593],[5]],
-"xa41694485ee933e9":[[528],[1]],
-"xc91b42e2ce98e741":[[339],[7]],
-"x37682bec6389d74":[[3902],[9]],
-"x389dde41e075278c":[[3642],[6]],
-"x8422b14972c9b94c":[[3779],[6]],
-"xac0d8d70d828424d":[[3371],[3]],
-"xd8e08d47aaa29048":[[666,405,166,82,853,157,658,918],[6150,1179,118,18,17,5,4,3]],
-"x6d294a99d90f684b":[[3325],[4]],
-"x17986a2186eb696":[[332],[9]],
-"x4c6dae2ac6061082":[[1763],[18]],
-"x97d22677aa0b05bb":[[1810],[2]],
-"x79ca9b0f27ea8f9f":[[157],[6]],
-"x3b620baa4f0fd113":[[166],[3]],
-"xc3318e4280bef7f8":[[82],[4]],
-"x6e16c2ca329a6c95":[[334],[3]],
-"x6d6a17694f651ab8":[[2361],[3]],
-"x90b87792312c5c93":[[137],[3]],
-"xbeda8249ac47b4c7":[[3749],[5]],
-"x3e21afe872b97cc6":[[262],[6]],
-"x2a9ef1833274f68b":[[3833],[6]],
-"x7d30ca725edd32e9":[[2258],[6]],
-"x7bff414b1301575a":[[334],[4]],
-"x36cd80bdd9baf559":[[666,983],[8,6]],
-"xd9a96acdd3f33255":[[396],[6]],
-"x632029cca8bd4536":[[3372,2266,3112],[429,279,172]],
-"xfc25c8e37076ebe7":[[334],[12]],
-"xe3976825fdb8d5ab":[[3307,3242],[71,7]],
-"xc44e21d01351b188":[[926],[2]],
-"xcaf59271454a9624":[[1307],[3]],
-"x9c16e340f7182532":[[3834],[3]],
-"xe4f43fb75620bb71":[[2036],[10]],
-"x8550ccc7077c0624":[[2284],[6]],
-"xf16562a44a7d2742":[[334],[51]],
-"xd212b8eb47d9aa2e":[[536],[2]],
-"xd13f4d3679a8c3d4":[[723,788],[8,4]],
-"xb37908722f33912e":[[529],[3]],
-"x676fcf0268c43483":[[216],[4]],
-"x7c707f3a72a7a8a3":[[1089],[4]],
-"xa4ec3ebc49d9c090":[[788],[1]],
-"x5bd50f1f72ef88bf":[[3902,3699],[9,6]],
-"xccbfc98aa14f7db8":[[731],[5]],
-"x601e2eaa376b5b16":[[722],[12]],
-"x724dfcdfbc8f8fe7":[[268],[4]],
-"x21068a1f3ad666e4":[[2299],[4]],
-"xdaa97302fba64ea6":[[3436],[1]],
-"x4df454d2daf9898b":[[983],[3]],
-"xa4875738d5635eb9":[[339],[1]],
-"xe2958b2f2a8eb5b3":[[709],[16]],
-"x822d3938e4a012ae":[[332],[4]],
-"xcaa1410ce8a298a9":[[137],[7]],
-"xb52ef7aadf87162b":[[202,788,82,75,166],[44,34,15,12,5]],
-"x3f71e20b1f4fb900":[[731],[6]],
-"xd1c8f5294fb11cd1":[[3752],[6]],
-"xe675cfa2d4fad83e":[[3964],[6]],
-"xd964be73338f64c3":[[1697],[8]],
-"xb4f1448759478788":[[334],[8]],
-"x29684f0080b29b7d":[[3690,3112],[8,2]],
-"xfc2c451e921f7e94":[[1226],[14]],
-"x9e42f8939e85e3b3":[[3690],[17]],
-"xb6479fb712aec4a6":[[3177],[4]],
-"xc1e1f570bb03294a":[[853],[17]],
-"xc7ce339e8682d5cb":[[3177],[3]],
-"xbf08caac298eadc4":[[2266,3567,2852,3828,3112],[55,9,4,2,2]],
-"xc5b8e00868fbdb6c":[[3902,3299,3234],[22,11,5]],
-"x3ad77e02485a08c9":[[2723],[4]],
-"x63b885b0329a4887":[[454],[6]],
-"x4e51d0a7b211949a":[[2023],[6]],
-"x462cb9e2f2e0e910":[[1355],[4]],
-"xe0e1a4c92f6c7a0":[[1282],[3]],
-"xaf80fba50f37bc18":[[3808],[2]],
-"x5264d89e75bb2c96":[[2228],[2]],
-"x51e80179a3f09346":[[258,926],[3,3]],
-"x5b65fd74ad4815bd":[[2266],[3]],
-"xaf3db120d1eb04c3":[[262],[32]],
-"xa6a365296ac177cf":[[2030],[3]],
-"x8d0a5ea90d4ddd05":[[202],[6]],
-"x71fdd6f6bf53b590":[[1812],[2]],
-"xc2b9c470ca200326":[[1179],[14]],
-"x4a9e96539607dbc3":[[3164,3690],[39,6]],
-"x9a9a481a229ec5f7":[[3299],[3]],
-"xffeedaabdbab8ba9":[[594],[5]],
-"x41c53d4c044b389d":[[262,1762],[20,9]],
-"xc5384a3c5726de0f":[[3811],[2]],
-"x540aa32228d79bbe":[[3046],[12]],
-"x93aeac35e61d3d52":[[536],[3]],
-"x841cb553e4c8d43c":[[166],[5]],
-"x45da81dc6ea1b7bf":[[2443],[32]],
-"xd83d6caddc51c44":[[657],[4]],
-"xe102a435fc94c05e":[[1682],[6]],
-"x5bd2ff9f568afe4f":[[3749],[17]],
-"x1fceb0e484bdb80d":[[1891],[6]],
-"x63917be7768d2936":[[1179],[22]],
-"x5555899fcbd14811":[[1187],[3]],
-"xd5af4d031f8acb49":[[528],[8]],
-"x2c9e214d839ca4f0":[[1307],[4]],
-"x42e392fd22755826":[[1187],[3]],
-"x763bda08d93d13ae":[[405,1179,219],[22,5,4]],
-"x10cbf942a4e9988e":[[2940],[2]],
-"x1ef757e337091694":[[2658],[3]],
-"xf91e670f51bab602":[[2720],[4]],
-"x8326d9c550657c43":[[3307],[2]],
-"xce7f27b6ffeb812b":[[334],[1]],
-"xfe803347deeb96d6":[[722],[5]],
-"x63f899a9127080d3":[[2737],[4]],
-"xbfdb7932ee7ce380":[[983],[17]],
-"xa046a62aa39c69f2":[[1741],[4]],
-"x630a513e3b405f7e":[[3902],[3]],
-"x6332d8e16903e9d1":[[332],[13]],
-"x43b5c96aebcb0043":[[4020],[3]],
-"x25f4cb8105092f8e":[[323],[49]],
-"xee493a130034ee11":[[166],[4]],
-"xf92a22157a6bfb35":[[2323],[3]],
-"xea39fe7bf2b5e60":[[129],[2]],
-"x9fa3c6ceafd941cb":[[2202,3947,3898],[8,4,2]],
-"x2fe0983a350fefc1":[[3688,3699],[8,4]],
-"x6f6d2282b08863c2":[[3956],[10]],
-"x6c1ea52227300e37":[[926,203],[20,16]],
-"xefdff19b934e904e":[[3062],[2]],
-"xb955ef35e6814864":[[2460],[3]],
-"xe79e98f21ccf9c60":[[332,2],[14,13]],
-"x1119906ae1976389":[[3742,3749],[44,4]],
-"xf63ddb3bb2e055f8":[[3370],[8]],
-"x1f2548557aa94f48":[[1096],[4]],
-"xcf4fb0cbca97395d":[[2331],[3]],
-"x5231976916000ed3":[[2833],[5]],
-"xb9fb3075737187a":[[2916],[3]],
-"xe02b5c9f0eaef0a7":[[258],[24]],
-"xeab46a972af6feff":[[659],[3]],
-"x7ce217aa3c014eba":[[396],[3]],
-"x649963f2a27db35e":[[578],[3]],
-"xeb0e65f35fed9209":[[3828],[4]],
-"xd5e5296447656493":[[2915],[5]],
-"x684e883e5eeb66f":[[148],[10]],
-"xb030fea8cc34eb7c":[[2852],[6]],
-"xa9f4aa1b0b56b102":[[396],[5]],
-"x908c76545f926868":[[3177],[4]],
-"x31606dfc03d2d72d":[[3749,2722],[183,11]],
-"x7b7088ab47016216":[[1893],[3]],
-"x68f9e2494ccb22d8":[[1034],[48]],
-"xbcd78041948ee660":[[2072],[2]],
-"xec01d23015a76ff7":[[1228,1699,324],[123,9,5]],
-"x633729db6a3fc628":[[861,148,396,407],[28,26,4,2]],
-"x951d8879a716d401":[[1770,666],[10,4]],
-"x5796a869469b8a19":[[203],[4]],
-"x1a5a32ef631bdbf":[[2767],[9]],
-"x2a2700f015ac8442":[[333],[3]],
-"x6c1dbbaf8c4f28c0":[[3958],[6]],
-"x731ce3b0f9eef2c0":[[137,148],[14,5]],
-"xd5340516c51fd71":[[2267],[13]],
-"x66e24415ca901926":[[82],[15]],
-"xf472a05843a0110e":[[2443],[4]],
-"x9b711ceb9f39ae51":[[3112],[2]],
-"xb8386851dc782eac":[[1509,1523,2285,3763],[11,7,4,2]],
-"x792e6ee3957d2fac":[[322],[3]],
-"x10fd4254dfedaf8b":[[262,723,82,204,731],[193,27,8,5,4]],
-"xbbbcdcaca0a9e4d0":[[75],[3]],
-"xa5d6d87a836dba02":[[2851],[11]],
-"xcce8244c943ed4d1":[[3964,3112],[13,3]],
-"xb2fde6967d28d1d1":[[659],[3]],
-"xe4d5098040e02145":[[3962],[5]],
-"x71bd40f5de47bc3f":[[3642],[7]],
-"xdf0332213f05424a":[[3826],[2]],
-"x6d9214df7bb4acc0":[[407],[5]],
-"xc6163a7fab57feec":[[723],[18]],
-"xae529c6b1b8cd8c4":[[788,796],[19,5]],
-"x6dd95d647acacfd3":[[2658],[2]],
-"x24b2aa8f4ad02deb":[[129],[6]],
-"x15eaabbea9e91e7c":[[796],[5]],
-"x9b998244e71c8d71":[[861],[6]],
-"x7033a587feed679e":[[3761],[2]],
-"xf15b1993ae74f242":[[1180],[5]],
-"x370fe4396fd91487":[[723],[2]],
-"x4d5282dd2fa2c820":[[3690],[16]],
-"x3cb154d4639fac04":[[788],[7]],
-"x1426bae9e09a4b6f":[[353,528],[6,5]],
-"xc4c91d0588e5e1ea":[[4013],[4]],
-"xb65eab826369cb0b":[[2870],[3]],
-"x614dba9e963d2af0":[[262],[1]],
-"x7b8a86bcd65ddbef":[[3047],[3]],
-"x2e951de0c8ee589":[[853],[2]],
-"x8012c3f1988d7dce":[[1371],[3]],
-"x4997305a118d9129":[[3299],[5]],
-"x91fe3e7e1cf35fda":[[3699],[3]],
-"x293ca0223da4a7c8":[[1900],[1]],
-"x73ab156dfb54e2a1":[[2740],[1]],
-"xb1eac6fb657560f9":[[1949],[3]],
-"x3241fd22a34e6878":[[528,405],[43,6]],
-"x1bc3dac2defd2333":[[3690],[4]],
-"x721578172e6c674d":[[216],[3]],
-"x80137f5f817251c5":[[1634],[1]],
-"xd8fe6581385b43":[[3364],[11]],
-"xde7f6abe40b6b50":[[80],[3]],
-"xab83f0eb03c6f0ba":[[1049],[5]],
-"x7a8cd7ba6a710472":[[1697],[7]],
-"x16ba4de1770dc3eb":[[3699],[4]],
-"x262f24874ed8b793":[[983],[2]],
-"x714fac11cc1ca77d":[[593,75,216,209],[469,91,74,28]],
-"xcb7272d072071528":[[209],[15]],
-"x45c8fb193b92936c":[[722],[3]],
-"x38b02ff1070e9090":[[262],[6]],
-"xf05aaebcdf3c3d17":[[1745],[109]],
-"xcf5f64810ea00f8":[[2461],[5]],
-"x7ff44cc959fc769d":[[3112,3690],[173,8]],
-"xa69563a2acea3e0":[[3690],[9]],
-"x9605ceb6e885be1c":[[3297],[3]],
-"xc417c27c8caa4619":[[1177],[6]],
-"x18c47e933530c061":[[3902],[5]],
-"x66774243fefd1061":[[332],[3]],
-"xbdf8f5705764b067":[[1],[3]],
-"x5e956484d8e59a4b":[[1292],[3]],
-"x8eefeb75171cca51":[[1371],[714]],
-"x96f69d119c907ae8":[[3234],[4]],
-"x699e88aad8c2a2fe":[[3104],[3]],
-"x7200773ccc969620":[[528],[5]],
-"x9471d3c9b1838796":[[3828],[2]],
-"xcce1d79947ebafa4":[[1829],[3]],
-"x6549258a940cefdb":[[3429],[3]],
-"x85219b661b2cd808":[[3938],[16]],
-"xc74c9dc159124543":[[2331],[3]],
-"x761c0f2f7c607584":[[788],[14]],
-"xdeacea9e5845b43d":[[1179],[3]],
-"x3969c6ea8c3978dc":[[594],[30]],
-"xff04992f32d09de2":[[3502],[15]],
-"x8ecff995e207ae9d":[[3372],[3]],
-"xd07d17b687f107bf":[[1964],[13]],
-"x909fbc4a6c7c8206":[[204,82,666],[17,5,3]],
-"x1fc5b6d3b32a06f4":[[262],[6]],
-"xf89489a61f4cddaf":[[796],[3]],
-"x8d31ee887cd75f76":[[731],[3]],
-"x4f9e398a0d5d0714":[[211],[6]],
-"x9983e674d021b011":[[3567,3699],[2,2]],
-"xb1378c09b2c1d068":[[3169],[6]],
-"xf4574d8f422a4218":[[796],[11]],
-"x1406502221a86cd9":[[1828],[3]],
-"x931ffce3600ab806":[[3642],[6]],
-"x4dc9df310cb00212":[[339],[3]],
-"x48320a9dbe40ac79":[[2136],[22]],
-"x837e1d8e2a208333":[[1698,528],[12,3]],
-"x99ed5239087c1e98":[[3307],[5]],
-"x19b04266c6a6d756":[[1380],[4]],
-"x2c56f7c492fca712":[[166,157],[4,2]],
-"xe3ace47bc86e352d":[[3836],[2]],
-"xfd7ea3a262d7f247":[[3642],[1]],
-"xc0038d50373a1b21":[[1050],[9]],
-"xfd52020af03f38f0":[[3],[4]],
-"xf5abc5b5d41f3674":[[3169],[5]],
-"x58969e2085944442":[[3249],[6]],
-"x32de23faed635534":[[3364,3688],[7,5]],
-"xeccd309643eee16b":[[1619],[4]],
-"x2a6731da8ba763c":[[3642],[8]],
-"x267a419a68b56bdc":[[2915,2851],[5,3]],
-"x82f81fd031054837":[[1371],[9]],
-"xd678d612bd982fca":[[2682],[2]],
-"x33655ca7d206aba2":[[1708,1697],[13,7]],
-"xd445c48051a16eaa":[[262],[6]],
-"x1e726ad76f04630f":[[3947],[4]],
-"x5ff2f667215f0499":[[3307],[3]],
-"x110609a85fa53f4b":[[332],[2]],
-"xf68083c3f263d04c":[[3902],[1]],
-"xe0a8bfd1e942b7b6":[[1307],[5]],
-"xe0aa2996a15c1e6e":[[334],[3]],
-"xe7f978d9ea72e8be":[[1308],[7]],
-"x76c016c9568723f5":[[487],[6]],
-"x368294d35fbf2f37":[[346],[12]],
-"x3fc45c6f68b47bf1":[[262],[9]],
-"xa8da4e392fc0d620":[[3902],[23]],
-"x787b844316d777bb":[[1827],[2]],
-"xa7ae218b0eb56e6a":[[991],[6]],
-"xa8b2b82ccb2440af":[[82],[4]],
-"xe9ad913d12a687d6":[[2851],[4]],
-"x43ba6c8c4c01b956":[[3763],[7]],
-"x1d4de3595418d15":[[796],[3]],
-"x199d468706431512":[[3299],[3]],
-"x7d1ba0b1a855a00d":[[3808],[1]],
-"x652b6e022a26f43a":[[346],[52]],
-"x4546f624d94a85d5":[[3699],[3]],
-"xfba19d951f6aec10":[[3958],[6]],
-"xfd8ab076f54f0fc0":[[3372],[6]],
-"xd6d4fac05964128b":[[3763],[2]],
-"xe92d61559627b45a":[[3749,3234],[2,1]],
-"x1dbfa23d5689b0c2":[[3373],[4]],
-"x15e838da9db3ce99":[[3964],[5]],
-"x13ca4389257649f3":[[796],[5]],
-"xff0053dc208b294b":[[594],[3]],
-"x95fb871d6a1999ab":[[144],[9]],
-"x33fee741e3bb1aff":[[2137],[4]],
-"xaf8a01b0ac57b59a":[[528],[4]],
-"x667aba67dc3cbe0a":[[3299,2203],[9,2]],
-"x784bdfc5d3854995":[[2484],[2]],
-"x346e9f323449453d":[[1025],[5]],
-"x77517a5fb91dfe26":[[3902],[4]],
-"x2232883ce2f3238d":[[1708],[5]],
-"x429167fc66e99654":[[2266],[2]],
-"xec13e6e406b9afb1":[[796],[12]],
-"xf661153dd31c9b4":[[324],[5]],
-"xe63d158824e71051":[[2924],[3]],
-"x5ca4c299de20d3da":[[2853],[13]],
-"xd56b71ec20e3ba95":[[1380,202],[8,3]],
-"xfa9fd43b59a122e9":[[2910],[2]],
-"x5d30c344077728cf":[[529],[4]],
-"x70d60fc07db2bdb8":[[3763],[4]],
-"x8a1bed5476dab039":[[2543],[6]],
-"xcf26a135fde8257c":[[2163],[6]],
-"x6438379c1ad88fa4":[[3938],[5]],
-"xcdfe957d3170a4b1":[[1318],[16]],
-"x5d6f043022ff4436":[[593],[3]],
-"xb275606dd28ea4fb":[[2452],[6]],
-"x51559045331d2c53":[[2934],[8]],
-"x2dc264b69ad72bdd":[[3901,4093],[3,2]],
-"xcc5d926a8bff2768":[[594],[2]],
-"x9879f9b1c1523d75":[[262],[8]],
-"xbd1125f621430a9b":[[796],[3]],
-"x23ac5a672e11c5d0":[[731,82,796,918,405],[43,30,21,12,4]],
-"x854afc715e267cb4":[[262,1355],[23,22]],
-"x92bf4ce8a0b14d3a":[[3811],[4]],
-"x68b7dc1c53bf274d":[[399],[4]],
-"x32e187a7d153e515":[[148,332,346],[114,16,4]],
-"xe29fc985074ca16":[[1359,1371],[6,6]],
-"x1529b513aab5f9c2":[[2525],[4]],
-"xa04799ad991dcac2":[[731],[7]],
-"xa513e08a299068e1":[[2163],[6]],
-"x982ed48a657c877d":[[1180],[4]],
-"x14b7611848ef285c":[[82],[4]],
-"x212ee958ac8a4ef8":[[3112],[3]],
-"xcd98bcd242c66542":[[262],[48]],
-"x10a330e43a73f795":[[3178],[3]],
-"xdceaf1fcf6f6672a":[[1941],[3]],
-"x33297523db5e7d41":[[3177],[3]],
-"xbaea2b5fe83b01d9":[[983],[16]],
-"xf0fe0ed24d1c78c9":[[796],[6]],
-"xb242090cf9278082":[[983],[3]],
-"xbb516ddd165a4190":[[3699],[2]],
-"x151c5eccd7e9f1a":[[3364],[3]],
-"x187a2f1ecc66b7dc":[[1301],[4]],
-"x1886edc729d3df25":[[219],[31]],
-"xf40636064a754870":[[3299],[4]],
-"x25ff5f9095010e2e":[[1380],[4]],
-"xea78f03ab11a12bf":[[2851,2915],[9,4]],
-"x45780858f20eb9b0":[[3956],[3]],
-"xff86a7a091a79bda":[[1309],[3]],
-"x688b535945a92247":[[1444],[4]],
-"x313d523abae4bac8":[[1748],[6]],
-"x748312e90c6e0d4d":[[1178],[3]],
-"xbe6ea693acd96531":[[3763],[2]],
-"xa40f309fb2298b10":[[3956],[4]],
-"x6dc1ef1e9e4f2e80":[[3501],[7]],
-"xf6fcdbe87942c17a":[[196],[6]],
-"xefa893f30fc4950e":[[2346],[5]],
-"x7f9b8ee33d387800":[[2915,3567],[3,3]],
-"x9bcde33da7093900":[[3947,3104],[10,2]],
-"x8585e6f4840c9098":[[1380],[3]],
-"xa8263d9a89c51aa2":[[262],[3]],
-"xcc71a50e1c478506":[[3690,2203],[22,5]],
-"x3f319b245fcf001e":[[2281],[1]],
-"x79b44da9fb09b2fa":[[222],[3]],
-"xa231697a1b1685fe":[[1684],[5]],
-"xa86a0201aa6e8b7c":[[1048],[2]],
-"x50d9155b09de43d9":[[1822],[7]],
-"xa2a3f92e5833797a":[[3902],[5]],
-"xbb860d312f6908fb":[[731,82],[311,11]],
-"xc33d40803d67bb2f":[[2787],[4]],
-"x8959e600694144de":[[3763],[4]],
-"xbe7659799d5d43d6":[[262],[4]],
-"xf669ca09cb98cb3":[[1722],[6]],
-"x682a9a7e8449bd49":[[1374],[6]],
-"x9b19ea2e9bbd0d8c":[[3958],[1]],
-"x56e1e6af3c42b4c5":[[75],[1]],
-"xff4e9bb19604b19b":[[601],[5]],
-"x96c6330428b45e29":[[1762],[20]],
-"x746862d535819784":[[3153],[3]],
-"x4740908e214526e3":[[2924],[5]],
-"x94c3ebf1ce57930f":[[3963],[3]],
-"x8f2a42c3ffb37875":[[3902],[1]],
-"x7178781b49d4b0cd":[[1],[3]],
-"xb2cd35802decf69e":[[323],[3]],
-"xe651edbb572be9b8":[[2137,2919],[14,2]],
-"x9d21533365640b73":[[723,262],[5,4]],
-"xaf95872a3e7e9f74":[[1244],[1]],
-"x1969f57524b3efda":[[1355],[5]],
-"xb80cf946e9d31042":[[1893,332],[14,8]],
-"xa6292016fd82cdb8":[[323,593],[6,2]],
-"x73469ff3deb5c0a":[[2484,2461],[4,3]],
-"xd636d5ae46705432":[[3902],[1]],
-"xe97aedccb2ba6610":[[601,222],[30,6]],
-"x469e82308878f7cb":[[2868],[5]],
-"x703e031f3b0088d9":[[3902],[10]],
-"x18296c23ebceec3d":[[75],[6]],
-"xf1cdd2dfe9e4690c":[[2508],[5]],
-"x3609c2513cf9666d":[[82,209],[3,2]],
-"xc877713a7f75657c":[[2487],[3]],
-"x71d04b1ffaf85157":[[528],[2]],
-"xba0600f830dbb5ec":[[3364,3372,3502],[12,8,4]],
-"xe88bd74cea9c49d3":[[1894],[11]],
-"x4554fc1fc61dbee8":[[2852],[6]],
-"x6d7798ed17d2b334":[[166],[124]],
-"x4361bb49f73ba983":[[339],[4]],
-"xd345dd8072302aea":[[2202],[18]],
-"xee40c164f325732a":[[3742],[4]],
-"xbe2c24d02a9f5a42":[[2740,3641],[7,2]],
-"x3064a0aed1260323":[[3958],[3]],
-"x711da57fc18cdf4f":[[1745],[5]],
-"xbdf58a23b9a4936f":[[3808,1618],[6,6]],
-"x3fa244bcccbf9af9":[[3642,3309,3641,3429,2657],[34,23,5,4,4]],
-"x506dd3fa4329d4ad":[[2966],[5]],
-"xfe4db7958b686490":[[219],[7]],
-"x3b046027a79a1fe2":[[1769],[2]],
-"x6a4ba7960a9ed6f0":[[3436],[2]],
-"x509a3d3865b62d5b":[[3299],[3]],
-"xa96bc3f880c25648":[[1049],[28]],
-"x61fbb2858d0b8a5f":[[2266,3690],[4,4]],
-"xb6ad16ba5236c896":[[536],[4]],
-"x5dde70073b18777f":[[3958],[1]],
-"x6a761a561f18e9f1":[[3641],[1]],
-"x106291f6789ae1e6":[[788,202,853,405,166,209,918,528],[583,532,189,101,19,9,6,5]],
-"x4328a0406d5e0246":[[3690],[27]],
-"x284bd5d2d6c3af23":[[2477],[9]],
-"xb9a05331f5adf87c":[[1681],[7]],
-"xccbfcfd3fb959597":[[601],[3]],
-"x7d4997410db24034":[[1619],[4]],
-"x4beab089859fdbb6":[[3642],[1]],
-"xea8afb65401c4a2d":[[2715],[3]],
-"x3b6cef5aa46eed3":[[148],[9]],
-"x3394b7e20329cf53":[[2203],[7]],
-"xd3cf3b08f8bc96b9":[[1616],[3]],
-"x38f07ce6fd1d1427":[[3164],[3]],
-"x878fb26f555f1a47":[[3242,3699],[8,2]],
-"xf1e9ee431d301bb6":[[3699],[3]],
-"xfc760420444395":[[2227],[1]],
-"xf6da5769e08e23c3":[[3956],[4]],
-"x8239a543894c46e5":[[405],[30]],
-"xeb6cf2c0719113ee":[[334],[94]],
-"x62f594b8683ab49c":[[742],[2]],
-"x8a551ecf4f0083a6":[[725],[3]],
-"x52a8ce691ae69d2d":[[3372],[5]],
-"x37470975038e9587":[[3502],[12]],
-"xd925630c4ff7e51d":[[1179],[8]],
-"x70e3ee8bfb9a49a0":[[1187],[13]],
-"xfdf7105a102ef5a3":[[721],[8]],
-"x59d078896a0ece72":[[788,1699],[4,3]],
-"x91ab71f3ebe24dcb":[[1568],[4]],
-"x9436040755da3fda":[[1739],[6]],
-"xa9b45be5df0b2d2e":[[396],[4]],
-"x653ef537229f749c":[[82],[10]],
-"x7fd70437cf432187":[[137],[7]],
-"xc359b9d80237ac12":[[3559],[3]],
-"x554ac0ca55529fc0":[[2915],[4]],
-"xc8c240947390a01":[[788],[4]],
-"xd6e556363413e4b7":[[529],[3]],
-"x19291bb985fc447d":[[2851],[6]],
-"x4ce5be57bbb47970":[[3567],[6]],
-"x9812ccd594194540":[[2851],[3]],
-"x2e00b914a0ee1c47":[[3307],[7]],
-"xb95fdffca690bdde":[[3169],[1]],
-"x2b5da4a6e14cf58":[[3761],[6]],
-"x10845310f65d0607":[[1307],[44]],
-"xa37a3d072f9e0641":[[1672],[6]],
-"x3aae18fd443a0570":[[3779],[2]],
-"xdae8a4f49559868d":[[128],[6]],
-"x63e255e89b784a94":[[1366],[21]],
-"x34d21b07d1ec0ab":[[92],[3]],
-"x8624e484b399cc11":[[3808],[2]],
-"xc74c59ad2aaa3893":[[2463,2477],[291,93]],
-"xb701b49d395f7c7f":[[538],[3]],
-"xd853b4b64f0fd8d6":[[1187],[6]],
-"x71219b7990731cb1":[[2290,3502,3372],[34,15,3]],
-"x7d6b22d7bcc5b530":[[3362],[12]],
-"x25d2e44d5eb75d30":[[725,262],[21,9]],
-"x351b5c497924b3a5":[[1611],[2]],
-"xa41c0b560e9fc19a":[[3502],[2]],
-"x2d7a20019b6d5f64":[[3768],[3]],
-"x6d30cdee3780b944":[[262],[3]],
-"x16e6209226925174":[[1868],[3]],
-"xbbe5e4f4a061e1a4":[[3493],[3]],
-"x16948d81af831cc":[[528],[6]],
-"x838026ba4e8d0a72":[[3644,3429],[15,6]],
-"x501e15098e1462f9":[[3756],[7]],
-"xc3af02cf5db8d932":[[4013],[1]],
-"x1a788775580ca8f4":[[1185,1228],[9,2]],
-"xf6ffbd2d72d576eb":[[202,788],[32,14]],
-"xe7232b34438eb5c5":[[157,528,166],[6,6,5]],
-"x9471e2658862c51a":[[1745],[11]],
-"x498182396ee68783":[[725],[2]],
-"xcaeee866591b0675":[[334],[3]],
-"x322a87739b727618":[[666],[7]],
-"x678296c2394bc165":[[3756],[4]],
-"x3f23a509f04090ef":[[666],[13]],
-"x13d86606cbe65851":[[1562,262],[36,3]],
-"xa951d6672268fb5f":[[3902],[1]],
-"xc4da5b392ac566f7":[[2851],[3]],
-"xc498e54b3b740fa4":[[1611],[3]],
-"x537022b5ff586bb3":[[2203],[3]],
-"x7fbfc6de43b56dbe":[[2720],[2]],
-"x11916b56a7b23dde":[[1502],[12]],
-"x4554700f7272f938":[[3242],[3]],
-"x97028e2b4721d48c":[[1179],[1]],
-"xf8b971a140aeee46":[[3502],[12]],
-"xbf54a53cd1e1f886":[[1763],[8]],
-"xffc4a9df0db88fa":[[1803],[6]],
-"x6068a5712be5712d":[[3962],[4]],
-"x2314e74ffbb15f75":[[82],[3]],
-"xd8d157b08f3be366":[[202],[6]],
-"xfa819ec199910279":[[396,1762,1763],[13,11,2]],
-"xd0c43d736bbdabce":[[2931],[8]],
-"x252c24fcbb48226a":[[1683,1676,1681],[253,49,8]],
-"x9e61322ce5d98a9":[[157],[4]],
-"xb52213b6461f8c5f":[[2292],[5]],
-"x97a12052d0e17670":[[2542],[5]],
-"x85d0b0822528d20":[[1810],[4]],
-"xa146699647b4d068":[[1763],[4]],
-"x7959a6e298fdab95":[[4093],[3]],
-"x42e46ee55122403c":[[1796],[14]],
-"xd3e336221f188074":[[339,666],[9,8]],
-"xe234edbb918cb510":[[2136],[2]],
-"xc950bc7b968ea160":[[1380],[6]],
-"xefb9880d2493a76":[[3366],[2]],
-"x350717a03d685e2c":[[262,204],[62,19]],
-"xac2b40c99bb170b2":[[2],[9]],
-"xbe7d760738e7f0e5":[[3307],[3]],
-"xcf50786fa8794ac7":[[262],[3]],
-"xe720c0e77ca9929e":[[3242,3756],[57,2]],
-"x1e54baa57f07be7c":[[2308],[6]],
-"xec50a6ad7ea44b4f":[[3699],[4]],
-"xc71932a911bf5fa5":[[2378],[3]],
-"xed0af46ee2c2fa64":[[203],[11]],
-"xeabe2100c841c745":[[1828],[7]],
-"xffad123920b7565b":[[3779],[3]],
-"xeb4417dc05acb3b6":[[3761,3112,2137,3947],[123,67,25,6]],
-"xb4bc727a7aee21a7":[[601],[2]],
-"xaf5432eb80c6086f":[[2658],[4]],
-"x789261b2d1f26dc1":[[3752],[8]],
-"x1befa1c397f848f9":[[1350],[6]],
-"xb950caa5e56b7b8a":[[1114],[5]],
-"xe3b193d20f7d1d4b":[[3113],[4]],
-"x3c67a3e99974b27c":[[3902],[8]],
-"x86ee978026984207":[[4020],[5]],
-"x6eb8c5170bad6660":[[3374],[2]],
-"x26658e8b5f51aae6":[[4020],[5]],
-"x1c4d0318650c904e":[[166],[4]],
-"x7cc618923297eee6":[[3756],[4]],
-"xa44ad073611b060c":[[1180],[10]],
-"xfced72369a1c6e29":[[3761,4094,3808],[13,6,2]],
-"x187a2f8a0b8e42bc":[[3963],[3]],
-"x19612df2f11785":[[2089],[4]],
-"x96772f36f1b9a784":[[3902],[7]],
-"x43c3d8ce17e72b02":[[1245],[8]],
-"x1cdce08092ea7c75":[[3642],[2]],
-"xe8bd62bb98d86b92":[[3],[3]],
-"xd40980334a248085":[[1171],[3]],
-"x52270b4559fd4038":[[3307],[9]],
-"x78dff1ea9e6337dd":[[3177],[6]],
-"x58be7d9e9cefbbc6":[[2289],[6]],
-"x61817613a7a25e5e":[[3299],[31]],
-"xbc34d2d8c5c8eb2d":[[788,2,1380],[47,22,4]],
-"xa5499bd0b4ec6b0f":[[3699],[3]],
-"x5541a4301a8dae32":[[3373],[1]],
-"x96f325f5607f9460":[[3779,3826],[4,2]],
-"xce141cf9caaf7f28":[[334],[7]],
-"x5fc9afb73ff1dd54":[[3242],[6]],
-"x5c2603bbcc917740":[[2],[5]],
-"x33b0a510ad026e1c":[[721],[3]],
-"x2ddf0836b4118f4e":[[3902],[5]],
-"x284acf0c8a69ca94":[[601,795],[3,3]],
-"x223771810633bb1f":[[1763],[6]],
-"x75fd44770125a664":[[3832],[3]],
-"x69c162169eb1f67d":[[2850],[3]],
-"x17a0207eb471e0c":[[536,732],[12,10]],
-"xb2370ddd72c5f1ff":[[2674],[6]],
-"x354482c9e8b3e33d":[[1568],[3]],
-"x62f2deafdd9e7543":[[211],[4]],
-"xa3f5c1c0dd0ef0ae":[[1359,1829,1044],[12,5,3]],
-"x353f3aaaaf2dff34":[[1762],[3]],
-"x39e94d479635991d":[[2281],[3]],
-"xc857f25c5db52715":[[2586],[6]],
-"x638dcaab367ba873":[[471],[5]],
-"x23c5b8e2a6026663":[[593],[6]],
-"x55cd6cc38fac3c19":[[3177],[3]],
-"x76a2d02696dabe3d":[[3234],[9]],
-"x6f25809cecebb57c":[[213],[5]],
-"xbb911175f1f59c0d":[[2673],[9]],
-"xf9638f57776642c2":[[2117,2136,2154],[32,12,2]],
-"xefa59980044a1545":[[3899],[3]],
-"x2b2a83138b1551db":[[2723],[3]],
-"x39361cdddfef4f73":[[3177],[5]],
-"xf888d2fc71642763":[[1307],[6]],
-"x2d3e3deda52dd961":[[788],[7]],
-"xfd5606c48a17748a":[[2915],[4]],
-"x2f7c458ef5b80497":[[3193],[3]],
-"xfb97868f5f14adf4":[[1699],[4]],
-"x47533ee6e6aa13d4":[[3307],[4]],
-"xb17f96f5dd969093":[[3902],[7]],
-"x24b4fb0e2f422326":[[3958],[1]],
-"x96420c2670774891":[[1106],[3]],
-"x363cd24edd72033f":[[2331],[2]],
-"x37fded93fd35060":[[3749],[15]],
-"xea04d76241f2bbcf":[[528],[13]],
-"x6400ce290d7a866c":[[3699],[22]],
-"xd8e117f2bc18b26f":[[3898],[4]],
-"x8d9fcd0414dbfc1e":[[3307],[2]],
-"xff8afa87c31cafb4":[[1371],[5]],
-"x4df229f151de8b7b":[[396],[4]],
-"x249f8ec5af1e577f":[[1810],[4]],
-"xa2161aa6d42c3d83":[[601],[3]],
-"xf27a6e5b6df0a6b":[[334],[4]],
-"x982baccb6fe3cd55":[[334],[1]],
-"xd24a4e808baddc81":[[3827],[11]],
-"x919c166647c024a0":[[3307],[1]],
-"xe43723d625aae5f8":[[4023],[6]],
-"xd69ba88f487beb19":[[3501],[81]],
-"x72f74a0d3b24e3bc":[[209,202,82],[10,8,7]],
-"x92a74b5fdd60cb3":[[2],[2]],
-"xaef5ec86589818a":[[1699],[2]],
-"xdd8e293ddca5304f":[[3688],[3]],
-"x9fe06a69f0edd352":[[1049],[1]],
-"x36056e0b87231629":[[3305],[3]],
-"x109d218f1ff56068":[[2226],[3]],
-"x9f7f0f83f8425365":[[1810],[4]],
-"xc2ddd009e1ba942a":[[82],[3]],
-"x52bb02f8bdea5147":[[346],[8]],
-"xbd45f2251f1e8720":[[3559],[3]],
-"xec3924457b5f95a7":[[75,1762,339],[6,3,2]],
-"x99d2f2922e6e7f8f":[[3761],[4]],
-"x566ec3a9aa8cea88":[[536],[5]],
-"x2edd7a529740427a":[[262],[3]],
-"xa19fa4d4d10f13a1":[[3808],[8]],
-"x915ce6ae95c5e4c3":[[405],[4]],
-"x7a8ad85b69359485":[[2787],[3]],
-"x6bfeede2521d5f77":[[2927],[3]],
-"x9724cfe844329e1f":[[2867],[3]],
-"xd75e6eb117ce7f7f":[[666],[14]],
-"xadc8c166bd2e9860":[[790],[4]],
-"x154fc79b19e04aff":[[3325],[3]],
-"x95d75f6c18cb0a16":[[3307],[3]],
-"x5c72679b01c51beb":[[3699],[4]],
-"xd0e33af4aca0de8e":[[1228],[3]],
-"xe16c49f2e07ebedd":[[332],[4]],
-"xad3ab05bcea2bd15":[[3956],[1]],
-"xcec59dcfc2cc3466":[[262],[5]],
-"xf3663c3a2c96043f":[[3169],[4]],
-"x54521a81d11b3e4":[[3567,3437],[9,2]],
-"x2cecda0ea802c6f":[[139],[4]],
-"x22af5482d7b4867f":[[3761,2266],[124,4]],
-"x8da092f34bb5b420":[[3808],[4]],
-"xc91027e127faa49b":[[2443],[4]],
-"x60b917b97eb6e644":[[1156],[3]],
-"xaab97d1a2e4137ca":[[2908,3690,3372],[15,9,6]],
-"xb46daab4d3e2bda5":[[3113],[8]],
-"xd011d28d22edca47":[[528],[1]],
-"xea3cc6ca7f9dabc8":[[2787],[5]],
-"xb843d6e180003aef":[[1371],[4]],
-"xcc174f0e2793a553":[[918,658],[43,4]],
-"x2a37a9d2d5a332b8":[[3956],[1]],
-"x348f142d8395bdbb":[[853],[3]],
-"x5ef9ffc4c6ec6399":[[148],[6]],
-"xa91382d73a14ab5d":[[3494],[3]],
-"x2d311574eee9217c":[[2154],[10]],
-"x382672efc1a3b9b7":[[1837],[5]],
-"x737f9bb18022ce9f":[[209],[1]],
-"x94fcda1fe6230ec":[[405],[3]],
-"x820f2e5833e27ea5":[[528],[6]],
-"xdb314d9d583ffd20":[[3938,3956],[3,1]],
-"x3477265e497bbed5":[[1568],[3]],
-"xc9d205bd74f7882a":[[139],[5]],
-"x2d586e13d8e1d418":[[3389],[4]],
-"xb1de061f143122a8":[[3958,4013],[32,11]],
-"xd0b5437a956bedae":[[1176],[6]],
-"x4682cc763f471a0a":[[649],[3]],
-"x41fac7ad97c147b9":[[2477,2463],[122,42]],
-"xed43fd8c31566a1e":[[2788],[2]],
-"xe139a80c6c766518":[[658],[6]],
-"x2729f3efaa0a2196":[[1804],[4]],
-"x4bde5ba6aa2408bc":[[2908],[2]],
-"x5ab505c08f9bca4f":[[3817,3112,3104],[14,3,3]],
-"xf4749c8b8ea51668":[[3811],[5]],
-"x64b51ad5cdb3b50e":[[2787],[10]],
-"x7c2dc90576102ae9":[[3307],[2]],
-"x41cebf6b240aab16":[[3761],[3]],
-"xeec36cc8c45017df":[[2851],[4]],
-"xb6f6b4bdabf69785":[[2715],[4]],
-"x51bf2667f81fad5e":[[262],[20]],
-"xbfd64ad32da08b90":[[339],[3]],
-"x835a39a54d6dfcee":[[3699],[3]],
-"x4cab5a3844978ac7":[[3902],[5]],
-"xe3c727e8080e84d0":[[82],[3]],
-"xc164e33e4bca8e2b":[[3958],[7]],
-"x3f4380de4bf44ba0":[[1187],[2]],
-"x7f2e7765582df7d4":[[1959],[2]],
-"xf270a2dcf4b7dfc0":[[2412],[6]],
-"xd00d23a90c481ae5":[[262],[3]],
-"x1ede3b5a2455e910":[[3756],[7]],
-"x8ad2fa7c33642a3b":[[3372,3808],[12,6]],
-"x406071bcf62a6506":[[789],[3]],
-"x45775b81e0bb0f72":[[3169],[2]],
-"xdeda13906aa51dc5":[[3690],[4]],
-"x1c38fa971e13d0d6":[[334,1763,82],[26,5,4]],
-"xc39ba241e2710a96":[[2722],[3]],
-"xd6bb405d9664ae53":[[3958],[5]],
-"xfbb955d3448440b1":[[528],[144]],
-"x987651d55509b17c":[[731],[10]],
-"x4e62d8db5071ddcd":[[3112],[36]],
-"x604bdb10c1cfda09":[[593,75,796,918],[16,8,6,5]],
-"xd93ad8c25ac2e1dd":[[2193],[5]],
-"x353dbc4650720d4c":[[2006],[6]],
-"x46f38405daf327e5":[[251,204],[35,4]],
-"x2c4ec078e61cd158":[[2083],[3]],
-"xb7a4e9b586da3429":[[1562],[5]],
-"xb824645aae21a885":[[1828],[3]],
-"xefad97f18fc88e6f":[[157,2323,2325,2355],[6,4,4,3]],
-"xd59973e2b910bdd7":[[3502,3372,3307,3242],[36,23,11,5]],
-"x391bf0876329a876":[[3902,2908],[19,7]],
-"xeb30b364fd0afb32":[[1763],[4]],
-"xd9b1a7dcaaf2b0b9":[[3169],[1]],
-"xeadbeb71142049e3":[[3956,3929],[5,3]],
-"x440023e7b2783cfe":[[788,75],[14,2]],
-"x65b64c74b14c7978":[[405],[8]],
-"x5dbaa524c7f05530":[[3234,3242,3502],[14,5,2]],
-"xb4b00435221c9db6":[[788],[5]],
-"xd036e2038c0a28a9":[[1699,788],[5,5]],
-"x9a45f9b033b19028":[[209,2030,332],[11,11,4]],
-"xcb1ae5158766b027":[[658],[3]],
-"x532c2249a9eb71f2":[[3902],[8]],
-"xcbc2b724d2c4bee3":[[3242],[5]],
-"xcca162d1aa756565":[[3688],[11]],
-"x675a7c7f3482c989":[[3756],[5]],
-"x615ce7bc38180da2":[[1699,788],[67,10]],
-"x55fa407ccf1a4071":[[3690,3902],[25,2]],
-"x3b029c0ddd702fca":[[2201],[6]],
-"x7c40b79b61dc6b50":[[1114],[9]],
-"xa447435418372c72":[[723],[6]],
-"x451588ce6570f06":[[3929,3690],[3,2]],
-"xf4cfe3b1d32167ff":[[3314],[4]],
-"xd2155fa3fd001670":[[262],[3]],
-"xe48399e25435d9aa":[[1553],[5]],
-"xd3254a38c48a66c0":[[3164],[16]],
-"x93c1c146baed0670":[[3779],[2]],
-"x184d02bf8385cc74":[[82],[6]],
-"x646761537073bd14":[[82],[2]],
-"x69596bc8f1bd07d1":[[2266],[9]],
-"xea40f701f1591c99":[[3834],[7]],
-"xed0a9e49bc97d934":[[339],[6]],
-"x55460925d818f4ee":[[203],[8]],
-"xd526eb112c9bdebb":[[1321],[4]],
-"x186fe070ad9e066":[[3242],[10]],
-"x95a04826451ba350":[[3808],[12]],
-"xbe19d2f4d04a249a":[[2136],[3]],
-"x809914039265f328":[[3690,3307],[23,6]],
-"xb75239da4f225ebf":[[3372,2266],[5,4]],
-"x29a835507adb6319":[[157],[4]],
-"x9c34c5fc3c14d6ba":[[2203],[4]],
-"x939ce6781ab2b3a3":[[3641],[5]],
-"x4c8f98b1be6c4112":[[1705],[5]],
-"x5f75ef8af7c22e32":[[3817],[5]],
-"x6dc1855c42064c00":[[846],[3]],
-"x6fd256481a205f4d":[[1643],[8]],
-"xe55d27753eb6d24d":[[2594],[3]],
-"xa9d57f1e078ec9b5":[[3364],[11]],
-"x7fff29a4dffa2323":[[528],[2]],
-"x86171651d122e7d4":[[4],[11]],
-"xf7e1def69a8202":[[339,346],[31,13]],
-"x1d0908ab30432edf":[[3104],[3]],
-"xc4d25731ef533994":[[2203,2202,3756],[30,7,4]],
-"x9a15d8e63c249b80":[[2720],[2]],
-"xed7adcbdf2d31a90":[[3234,4013,3956,2268,3112,3177,3690],[226,33,23,21,10,3,2]],
-"x766ec5ceb6415bf3":[[2331,3742],[3,2]],
-"xc2ce3982880372e1":[[2788,3690],[8,1]],
-"xd0afacb5e8a23c1a":[[3749,3964],[16,2]],
-"x344db505fe88f6f9":[[3958],[44]],
-"x3c713f9058bf8525":[[3772],[6]],
-"xd6e74089a8a2edb1":[[3763],[7]],
-"x258ccf4102ccf7b7":[[2347],[5]],
-"x22377c4b0c70ad34":[[2355],[8]],
-"x66227cc4746ef67f":[[334],[2]],
-"x1b78f4b5936c6ad5":[[723],[1]],
-"x332b9980e07b2d69":[[536,658],[5,5]],
-"x17175403e15591f9":[[601],[41]],
-"x9a2464f3d2afe9d6":[[2332],[9]],
-"xef58074248a27d71":[[2266],[3]],
-"x964aa57a60c70420":[[324],[5]],
-"xad3ecf6a92aa8e0c":[[219],[5]],
-"x6adb279902d2a080":[[1503],[3]],
-"xce989536626613b9":[[2477],[2]],
-"x81f6d3863d849b3f":[[219],[9]],
-"x8229bdcf5b35f03a":[[204],[3]],
-"xcc40846b24734855":[[918],[6]],
-"x1b7fc8b31a2528a2":[[3372,3567],[6,6]],
-"x38cdceb6f140a938":[[202],[1]],
-"x613849e38f004884":[[3299,2908],[13,4]],
-"x99ee6c511027821d":[[3371],[8]],
-"x66f4d8224c067a67":[[2331],[4]],
-"x1bfc01b901451bf":[[3817],[5]],
-"x7e7f576c497ee2c5":[[2796],[4]],
-"x90cbf90f61ab2c6f":[[1684],[3]],
-"xc2ea67dba2e05576":[[1880],[3]],
-"x86a4812671fffcb8":[[2463],[9]],
-"xbd4fd3445cc56942":[[3902,3234,3177,3299],[256,161,50,4]],
-"xdadedc02c855abee":[[3641],[2]],
-"x391e40c580c0c2f6":[[219],[7]],
-"xfcea30aabc390bf8":[[82,983],[10,7]],
-"x3c87360091440237":[[262,731],[25,5]],
-"x683ea74b070cd5":[[3169],[23]],
-"x120b6523c01e58a":[[262],[3]],
-"xee6229c224365387":[[3902],[5]],
-"xbff6a0307d9dde7e":[[3372],[1]],
-"xa36bd8f10cd1aff8":[[1307],[2]],
-"xbb54930963747f3f":[[3567],[1]],
-"xb5def365af7677a1":[[3808],[3]],
-"xd713d8ab6b75ff3f":[[3642],[3]],
-"x1fba5330cb4f8635":[[2282],[4]],
-"xa179809cfc9a4f3":[[204,1762],[15,3]],
-"xaf47cf337b907afa":[[3363],[2]],
-"xb090457084e03ba7":[[1307],[6]],
-"x28aca875670dad94":[[3242],[6]],
-"xfc7aca5f157781a4":[[3902],[3]],
-"x7b5abd8bfc3c1c96":[[3583],[5]],
-"xcb1471915ad94110":[[75],[13]],
-"x847c963049db494b":[[495],[6]],
-"xced19598d41d9613":[[3429,4013],[7,4]],
-"x6aa983ffc2ed96e5":[[1309],[4]],
-"xaca11722e82a5a90":[[3760],[3]],
-"x6173fea020da83b2":[[1,723],[19,8]],
-"xc664ef6332eb4879":[[3567],[5]],
-"x298a017dbc07fc07":[[82],[7]],
-"xdc62d52849f1f915":[[708],[5]],
-"x1b98e6d6cae0ac85":[[3958],[12]],
-"x83f00af4081cdd2c":[[3699,3242],[33,5]],
-"xa268103d22de6787":[[1770],[3]],
-"x34f0f036da4cb529":[[4013],[7]],
-"xc99be6d47714a92b":[[2934],[3]],
-"x5befba09a2d4ec68":[[3501],[4]],
-"x7b1b971c622fdc96":[[788],[5]],
-"x8ada6bc4ad281901":[[2527],[3]],
-"x16d84c91f0eb6020":[[3502],[7]],
-"xa1a166bb636682a5":[[2917],[2]],
-"x21b8a9dfbcd15b98":[[262],[3]],
-"xb1427185b4a8bcee":[[75],[5]],
-"x54f976ee4de3897c":[[204],[5]],
-"x142cf47d15f076eb":[[3690],[5]],
-"x41ee314f5de2d7ff":[[2330],[7]],
-"x50d53cea9c09b64d":[[1828],[6]],
-"xdf8669211e6d2ff5":[[148],[4]],
-"x302525bdad24849d":[[2852],[1]],
-"x27d2c6e62216bf78":[[3501],[3]],
-"xb4588c10a4e900f6":[[334],[15]],
-"x540919b408a6cc8e":[[3373],[3]],
-"x8d4bd1a22fd46f07":[[3365],[1]],
-"xa777f424114c1a01":[[4013,2715,3364,3502],[39,20,16,10]],
-"x1191e911c4892884":[[1539],[6]],
-"xabe086090972ffb1":[[1705],[3]],
-"x40279e94b4700796":[[2722],[13]],
-"x115d95ecf9a02ec6":[[1611],[8]],
-"x2e702f915637c591":[[3761,3752],[5,2]],
-"x3c0f44ab0fe193b7":[[323],[5]],
-"x416c3ed50ff9026a":[[1997],[26]],
-"x2ed3022681a85b2":[[3642],[5]],
-"xb70d9f44e65c888b":[[2747],[4]],
-"xf05a42e2350a84c8":[[3437],[7]],
-"x66e2c2e7e1af88fd":[[262],[5]],
-"x30b009cb87b03f42":[[983,2],[7,5]],
-"x322ea9dda963311f":[[3763],[2]],
-"x62c01e7f6e093006":[[796],[10]],
-"x9af8f6693ec99419":[[262],[7]],
-"x6e178459139d7cd9":[[148],[5]],
-"x9be3b6a39b589631":[[1187],[5]],
-"x112ff7ef89fae0f":[[3819],[3]],
-"xd06be040ad01db9f":[[794],[2]],
-"x9518ee6e56e3abb6":[[324],[8]],
-"xd9cfb5277a0b180c":[[731],[6]],
-"xf4fd3a3b4e5146d6":[[3808],[6]],
-"x3872150bc987b4d0":[[334],[4]],
-"x626567a04aac2d94":[[3372],[9]],
-"x2d5bfb326add412a":[[1098],[3]],
-"x5c410c69aa572b8b":[[262],[11]],
-"xadf7a48de18c8925":[[790],[6]],
-"x7359310dced9af6c":[[275],[5]],
-"x65d074988d2557da":[[2355],[6]],
-"x181e043595f6ff1f":[[1674],[3]],
-"xb2d40853cca2f4db":[[454],[5]],
-"xa53b9c495bac2039":[[2348],[2]],
-"x47436daaaa130f60":[[2593],[4]],
-"x95ba574f0f52ce08":[[1176],[8]],
-"x9d1351d8e3fb7419":[[3807],[4]],
-"x7cc11e61e24b2a2f":[[2592,3641],[7,1]],
-"xeec8832aa42a6eab":[[593,658],[4,2]],
-"xab0db597d5e58e76":[[917],[7]],
-"x810f1abe1483ea7b":[[3902],[5]],
-"x2697809c540161b9":[[2136],[4]],
-"xb253f9760ee12a8c":[[3305],[8]],
-"xc125cbeb5700ceed":[[1699],[26]],
-"xc1cf5087f967ced2":[[4023],[4]],
-"x5caf84ad747c4df1":[[3502],[5]],
-"x4aead4961c790ec0":[[262],[7]],
-"xb0a266c0acc83f7c":[[1731],[3]],
-"xdf9d4fdc4e689c58":[[3112],[4]],
-"x4826ed37a5da0b2f":[[3820],[3]],
-"xa4574fd85c685b08":[[3299],[3]],
-"x42ae8f2f259c2e8a":[[796],[2]],
-"x4801b1cd5ea17378":[[3177,3826],[11,10]],
-"x559802855c3d7dfb":[[3193],[5]],
-"x2d65bacfdc0fcf46":[[1652],[3]],
-"x3a5b5342d3a7f52e":[[796],[8]],
-"xc24d2bd1ce1bd1da":[[3929],[3]],
-"xf6fbbf1a5bfa3666":[[1699],[4]],
-"x4729c79d092bb71c":[[3938],[4]],
-"xee52e0dc88d563e8":[[4021],[5]],
-"xc0eb36fbcbbac59d":[[2036],[41]],
-"xd498e4e7958861ee":[[3234,3112],[22,12]],
-"x3787e07b4c5dc85b":[[2919],[9]],
-"xeff7d6a5afcbd15c":[[4022],[6]],
-"xd43c7eb9ba36b232":[[3902],[5]],
-"x5095fc49735c18c2":[[3699],[12]],
-"xcb50ad51a93d1338":[[4029],[3]],
-"x3ca159119f64f97f":[[334],[6]],
-"x9a2250f4dfc8f82":[[148,332,166,861,853,346,536,918,339,454,983],[591,273,153,88,88,61,49,27,7,6,3]],
-"x9c74d386a61ce839":[[2138],[2]],
-"x315171713c453090":[[1308],[6]],
-"x2d102e688295c351":[[723,658,731],[27,3,3]],
-"xc558f0fce24f009b":[[1217],[3]],
-"x92feac3eb6b37cb0":[[3836],[4]],
-"xcb8cd85cf655ed2d":[[1568],[3]],
-"x9937892ac213974e":[[2203],[2]],
-"x19e30ffd03a863b7":[[3956],[4]],
-"x9e16e0915ba091d9":[[258],[8]],
-"xf32c207732455689":[[3616],[5]],
-"xccc48dd6b1e6bdd5":[[601],[2]],
-"x1f3e2f5ccab297ab":[[251],[5]],
-"xc56b9f0b8ac12927":[[1683],[6]],
-"x82564920b7e1c58e":[[213],[4]],
-"x3dc652550822450b":[[983,324],[11,3]],
-"x6be4da963066e007":[[2266],[3]],
-"xebdca0c66ce665f3":[[3817,2713],[5,2]],
-"x5fa48e0eccb835bd":[[3811],[4]],
-"x6e3af08e9ba75c26":[[3372],[4]],
-"x964413f846c42f66":[[2908],[8]],
-"x11991a1271f6a299":[[3567],[2]],
-"x9d29a49bfa8083fe":[[2090],[8]],
-"x3f0a4869d3bbf447":[[4013],[6]],
-"x6ac29a292056eb23":[[2443],[8]],
-"x297128683ee08ce9":[[731,528],[3,3]],
-"x8a13dbd6d5ed9dee":[[3958],[2]],
-"x8da22abfa3a8aec1":[[739],[4]],
-"x94c0a45e30ef09df":[[1835],[5]],
-"x562f9f430f964db4":[[2593],[3]],
-"x8d9c3c26d548f2a8":[[3436],[6]],
-"x45bcdde426560260":[[1892],[4]],
-"xe125b46b09f2cb5":[[1828],[4]],
-"xa3ee81d3a1322d85":[[666,405],[24,7]],
-"x194b63d5acbb8b8e":[[861],[7]],
-"xc2f0236b7cda635c":[[2917],[8]],
-"x773ac38a06192096":[[3902],[3]],
-"x33ce0947c82d5fcd":[[1373],[4]],
-"xaf3bc38a4434900d":[[931],[3]],
-"x8bac382b43a159bc":[[3389],[3]],
-"x9f4347209de9692f":[[1934],[3]],
-"xd8e5b145e32763a":[[2852],[3]],
-"xa74076c2aed74af3":[[66],[6]],
-"xa2a5dbea2839ea7e":[[2293],[6]],
-"xf2d3104a69f7d641":[[2658],[2]],
-"xa6ca74d435e59f6d":[[3828],[1]],
-"xff52e653f1b10e3e":[[2934],[4]],
-"xae1fda4896add999":[[1569],[3]],
-"x9f6c14a8fecdcbc3":[[4013],[6]],
-"xef6461d92bbf0c63":[[3298],[6]],
-"x97fbb158d0e2dfde":[[3690],[4]],
-"xe52c534f2405a8bd":[[323],[6]],
-"x353fea53e63dc86e":[[2908],[3]],
-"x183d32eac152bc12":[[1837],[3]],
-"xc9a1b8e235821bc2":[[3742],[8]],
-"xd0ef578f7339e12e":[[262],[4]],
-"xfca5084d2b46ba69":[[258],[22]],
-"x7a0f7d79c63da67b":[[2851],[3]],
-"x8e915f3526119dc3":[[1568],[3]],
-"xc5cf6023de54ba37":[[405],[5]],
-"xe96481ad44c0183d":[[926],[7]],
-"x1b0df433d7169d4e":[[3177],[6]],
-"xb9fd285aea378695":[[1221],[4]],
-"xbf585a4ad099a52":[[1179],[6]],
-"xa4c9db88ac883a89":[[1699],[5]],
-"xd6aea34b3c3c0d49":[[1618],[4]],
-"x447c7aa03d3214f1":[[983],[7]],
-"x76a0f90cbe8547be":[[203],[6]],
-"x14948cb18ea8e039":[[203],[6]],
-"x8e74729ef3387a9d":[[1699],[14]],
-"xeebd2764aac86752":[[2724],[3]],
-"x163e5364c5059e22":[[3298],[3]],
-"xbd08b300a9f9ed6a":[[3742],[15]],
-"xae11387f399462af":[[1867,788],[10,10]],
-"xb10dda2683a6d0d9":[[2915],[3]],
-"xca970e5d9f566ddb":[[3502],[7]],
-"x5cfe0ca8e5f47b9f":[[2861],[4]],
-"x765f58691e73d966":[[1187],[18]],
-"x5b4c8ac8ef90e1dd":[[3763],[3]],
-"xd4f231ab8fae5e8f":[[3242],[3]],
-"x1f3b5db9ca2d7144":[[2908],[3]],
-"x14129591528ebdc6":[[139,157],[5,3]],
-"x2cfdc509e04b25bb":[[1814,1803],[14,4]],
-"x555de9cc80b7541":[[1],[3]],
-"xf51c52781c0ce26e":[[2550],[2]],
-"x4ddb43ddbc4d942":[[3242],[6]],
-"x7e31dd987b844050":[[3742],[4]],
-"x3105a8970ec621e4":[[3817,3307],[6,3]],
-"x8839f027b272cb7":[[3688],[3]],
-"x30f787a06402ddae":[[3112],[2]],
-"x13ca5a58a6126d63":[[332,339,983],[24,14,9]],
-"xf123e212964f1e40":[[157,148],[6,3]],
-"x727c041780866bb0":[[3298],[2]],
-"x4b4344a9da8f78f5":[[658],[5]],
-"xc469d9712399926":[[1546],[4]],
-"xecf089f8d3b744e6":[[3288],[2]],
-"x3ee62387b914fa2c":[[658],[2]],
-"xeae777e241a52703":[[3567],[6]],
-"x9cc673805a507539":[[668],[6]],
-"x42537964fb133db9":[[723,796,788],[8,4,3]],
-"x3e4030d340a5cd5b":[[3958],[4]],
-"x10ad1527979a1602":[[983],[8]],
-"xfe113fac3516d1b2":[[3947],[3]],
-"xa65082f230047d91":[[391],[8]],
-"x1372749b4261d7f6":[[2355],[3]],
-"x4fa2eb8718a761fb":[[202],[3]],
-"x97555b02a29993a9":[[2526],[7]],
-"xa874849291ed7d03":[[3902],[3]],
-"x9fe4e7cc0be4da40":[[3902,3690],[42,33]],
-"xf79737bf1a082e86":[[3642],[3]],
-"xfea37baea55c6f3d":[[2851],[7]],
-"x3d5f2d57f62f5249":[[594],[2]],
-"x786c4446d7c429a8":[[1770],[3]],
-"x46c7fbfa9f92af10":[[3372],[13]],
-"xe228ea81f8cd3b1c":[[3641],[4]],
-"x41c8fd2cebc6e44c":[[204],[5]],
-"xdefbede8c36ae83c":[[1749],[24]],
-"x2e84487fcc668ea5":[[1745],[17]],
-"xa049ce22a9737a59":[[3902],[3]],
-"x729ffe3014600c53":[[789],[2]],
-"xc856bac6efb4f4a7":[[2478],[3]],
-"x76c4d0cf1f854dda":[[1412],[4]],
-"xa2ba6cd7ca7afa2c":[[203],[14]],
-"xc9a5f4f8cf1059a1":[[3169],[4]],
-"x50dfa431ec87df2":[[2087],[3]],
-"x9ddac485ad6f3f86":[[991],[4]],
-"xd004fcdb89b87000":[[3902],[1]],
-"x51d2d966d5a21e34":[[1156],[3]],
-"xb522655e6175c793":[[1634,2332,2915],[18,7,5]],
-"xb54f13301240c97a":[[3902],[3]],
-"xaf952fb38efbdd6b":[[3819],[3]],
-"xfb2194168c9aa508":[[2203,3826,3956],[22,11,4]],
-"x10010edf3ca8d05a":[[3305,2722],[14,3]],
-"xecf7d9311902271c":[[594],[10]],
-"x4167e9cadbf9ed17":[[399],[6]],
-"x1a0a558e6afa345f":[[1616],[5]],
-"xa556368850829d65":[[2412],[4]],
-"x7f45f7ecbeef3073":[[227],[4]],
-"x62d483ff0edb31f5":[[2740],[9]],
-"x931c1583db3a0e11":[[332],[4]],
-"xada6606e3312dc03":[[3761],[2]],
-"xfb87aae284c9a475":[[452],[31]],
-"x701c1fb72336729c":[[2715],[4]],
-"x23e974e6b4591437":[[3567],[4]],
-"xb545194301d43848":[[262],[6]],
-"x5ffdf34ca4256c55":[[3169,3502,3372],[12,3,1]],
-"x3426bedb72f83d80":[[1562],[2]],
-"xce04a0eaae963e58":[[3169,3305,3567,3956],[18,7,3,3]],
-"x6e5246cc1e1e9ea1":[[1314],[5]],
-"x913afde5f06162e":[[16],[56]],
-"xd9cce2468ee7dc20":[[157],[3]],
-"x9cfe1a57fe5cc178":[[82,262],[11,10]],
-"x723c84e2c07a1a66":[[2852],[8]],
-"x7cae6129e976255":[[211],[3]],
-"x2431512f6886c85":[[2261],[3]],
-"xa9e993a12411541c":[[3699],[65]],
-"x8c4099808314962":[[2852,3902],[6,3]],
-"x83c711dd62e4710a":[[1545],[3]],
-"xcf35422d50b8993":[[2396],[3]],
-"x405b3871e8505e9b":[[324],[1]],
-"xe8a5adf7431351a8":[[1642],[1]],
-"xa00d442e250c680e":[[666],[2]],
-"xc92d617d775f16f3":[[2787],[14]],
-"x2f2f85978dd5b0f9":[[3299],[4]],
-"xf3a8c149888462a2":[[1355],[12]],
-"x40fae5af51fe5467":[[731],[12]],
-"xaed9b8dfd5e53859":[[2406],[3]],
-"x94558d94f9a071df":[[3054],[3]],
-"x624de643ab778a40":[[3234],[8]],
-"xf8d075bf2c892532":[[262,148,1178],[4,4,3]],
-"xa8867d9ae799fce":[[3164],[3]],
-"xbbe1ca81a5f86fca":[[3958],[5]],
-"xbd3f9e3d2a63e9c4":[[3828],[5]],
-"xf21d969889051cf6":[[3389],[3]],
-"x870689379933be91":[[658],[2]],
-"x9865ef8d51b6cbf9":[[262],[3]],
-"x5bcca60f0fb706f8":[[3624],[4]],
-"x6864ba936657f52a":[[3956],[3]],
-"x64267b08e6f099b":[[3763],[1]],
-"xb88df16e5e06fb4":[[719],[6]],
-"xc981520165bf4e2c":[[203,926],[8,4]],
-"x649ecd102605dcc3":[[601],[3]],
-"x3b12d0f3b6b007ac":[[3299,3307],[63,2]],
-"xb8abb95854f52664":[[2915],[79]],
-"x436d2d4665397407":[[3902],[8]],
-"xa82d45ddcb52eca8":[[3902],[3]],
-"xbfb15487dfd4509f":[[983],[10]],
-"xc02ecda943bd8f7a":[[3688],[3]],
-"x70e46b54d8b40d96":[[3305],[3]],
-"x6590b8219bcf05e3":[[3104,3828],[7,3]],
-"x910de58297501001":[[3808],[3]],
-"x92d720c72ad190fa":[[790],[4]],
-"xd631bc859f6fc4ac":[[666],[16]],
-"xe47054bdee3196bf":[[796],[5]],
-"x7a608806babdcd06":[[2788],[3]],
-"xf49d7b11177ebdb5":[[81],[4]],
-"x648491625ed9922a":[[2],[6]],
-"x8e07c72bbab3665":[[3690],[4]],
-"xe2e740718d499c09":[[1827],[6]],
-"x539b10ed011fd289":[[3956],[3]],
-"xf7345edb85197d6c":[[3688],[8]],
-"x95df5d534fc22f4d":[[2863],[4]],
-"x69a0e382718487c2":[[339],[5]],
-"xb877c245536b8571":[[262],[5]],
-"x1afc44bf840876ce":[[1243],[5]],
-"x63024f7e68c7d95f":[[346,1770,1745],[59,5,3]],
-"x7aa9927d0a5e8950":[[3836],[2]],
-"xb4743039d3ef561b":[[262],[9]],
-"x70e90194a2d8726":[[861,405],[15,3]],
-"x2ed21e4105514ba0":[[1762],[15]],
-"x5d9068e2a76743de":[[3902],[4]],
-"x242754c989138dd":[[3373],[64]],
-"xbf07febced237276":[[3902],[7]],
-"x4370e591254ace7e":[[3372],[26]],
-"xb5539118c9906353":[[852],[3]],
-"x92fdb7c41b6a19f7":[[3779],[9]],
-"x4cdccb02205eb5d8":[[262],[7]],
-"x32342b80e3189fe3":[[789],[3]],
-"x74d71cdb84382c08":[[1759],[5]],
-"xcae3902da5cd4411":[[3761],[7]],
-"x22620cb557aca971":[[3956],[5]],
-"x1758fdbcac9ef84c":[[3688],[3]],
-"xff5414c9ace28556":[[3817],[1]],
-"x73a367cfbd472cdd":[[3699],[2]],
-"x96c6423017de8582":[[3112],[3]],
-"xdc9891c696d3a5c9":[[1169],[9]],
-"xac3f99e0dcba4cd2":[[3938,3817],[36,4]],
-"x381e310da67c424a":[[722],[7]],
-"x3cad4220480445b1":[[3761],[3]],
-"xae3766ab20f549cb":[[1314],[4]],
-"x445d75428350e64a":[[3372,3502],[8,4]],
-"xb6ade1abcd83672f":[[1375],[4]],
-"x36a424d3dba0b86a":[[3956],[4]],
-"xea8f2b8a16b25ba2":[[1233],[4]],
-"x1713c685aadd3bcd":[[1171],[6]],
-"x7af8e7e2f7687050":[[3437],[5]],
-"x4ec40a0769639532":[[3811],[3]],
-"x3c75342f7dcc765b":[[1307],[20]],
-"xd619bed7f9d09823":[[3501],[3]],
-"x25d85154eea93ebd":[[1244],[5]],
-"x4c501d8620d409b7":[[3690,3112,3817],[80,5,5]],
-"x4fdfdee5c48c9997":[[1503],[3]],
-"x7704c59160a36cbd":[[601],[1]],
-"x38a8df51a233611":[[991],[3]],
-"xf23a23299d0a2695":[[1827],[3]],
-"x3865363316103a8":[[709],[10]],
-"xfcf6654ad3ceb083":[[1187],[3]],
-"xc23fcf7ef946d664":[[3],[2]],
-"x6eaec44ec93cf14a":[[262],[22]],
-"x9dc3316ed9141a08":[[3902,3699],[262,1]],
-"xec930b56b4a07dc0":[[853],[6]],
-"x43e4c0a2f555841c":[[2852,2715],[4,3]],
-"xfb31bb44c67fdefd":[[2162],[6]],
-"xc0f6f4d655d78f12":[[3307],[8]],
-"xc674d0f04d5cd2f8":[[3517],[3]],
-"x7b48e79c1851ef7d":[[213],[7]],
-"xecd9158717d6563f":[[2915],[3]],
-"x756694888518ce3":[[262],[28]],
-"x3d07fc0e1e682c":[[1699],[5]],
-"xa84921f609de2bf4":[[8],[1]],
-"x6cec25057bda9c8":[[2658],[2]],
-"xa45f13d38d42bfc1":[[1511],[2]],
-"x5b103c0e9e0e9918":[[113],[3]],
-"x3bd1c252f38c0f1b":[[2227],[4]],
-"x73a27af3c3681b2e":[[1763],[8]],
-"xd560cc55dc1be536":[[714,722],[46,4]],
-"x62c7f5cf8da29170":[[332],[5]],
-"x3ac34fee12fbea0b":[[3429],[2]],
-"x7ae4070ac92a1ac9":[[593],[5]],
-"xdce1e9c83953f228":[[2090,2931,3964],[17,10,10]],
-"x6d5217ccba07a074":[[1318],[16]],
-"xbfb53eeeb945426e":[[4013],[2]],
-"xdaa35553a9ddfc26":[[3690],[6]],
-"x9c7ffba6c300a531":[[3938],[5]],
-"xe3523bc84081d1ac":[[3373],[3]],
-"x70963b1ff042bc70":[[3821],[5]],
-"x4e20f03ffc35f7c0":[[3902],[2]],
-"xa217bbf16b51e939":[[3958],[3]],
-"x8054637b97fe0cd8":[[3688],[5]],
-"x94cc79770a59927e":[[3699],[6]],
-"x9771e0ed4da6a873":[[2396],[5]],
-"x85854db30bcbbf77":[[2851],[6]],
-"xdcce8f2b3663a798":[[1380],[8]],
-"x1cd6881c60be98fd":[[2932],[4]],
-"xc64a0b3f4fb4e41b":[[129,1958],[7,2]],
-"x1945b8a6e3c14fce":[[3803],[2]],
-"x71bd8831ee577a17":[[3938],[7]],
-"x5de9563c20cb6542":[[396,405],[16,8]],
-"x2e747b934ce1bebd":[[1769],[2]],
-"xb7a922206bbf9c6a":[[2267],[12]],
-"x2032a3bf6ff9cea7":[[137],[1]],
-"xa46453ebcc14aa3b":[[1941],[2]],
-"xeb4fca79fa88c9e8":[[1763],[5]],
-"xc6d0cc766887b2e3":[[2720,3567,3761],[39,3,1]],
-"x5e55a4e4c36df613":[[789],[5]],
-"x2790656d163868a1":[[796,166,918,788],[74,13,4,2]],
-"xfd3e4059de4a0d10":[[3437],[5]],
-"x9e6bb7e423fc6ea2":[[1122],[3]],
-"xb937c73ab55d8fe3":[[796],[6]],
-"x25afd89fcd745275":[[630],[4]],
-"x109bbf85300d27a4":[[1373],[8]],
-"x76defbb170666a7":[[3373],[3]],
-"x27c4b5f6edbc40d7":[[2713,2851],[2,2]],
-"xdc51e360b9254d1":[[75],[22]],
-"xe1e26bc8865a7f2a":[[1188],[3]],
-"x3a7932692acec9b8":[[1764],[2]],
-"x954cb79c2aff4435":[[1828],[3]],
-"x58aa88638f62d228":[[3372,3502],[3,3]],
-"x50e4ce3a8a87a75e":[[324],[3]],
-"x11a855a729c40106":[[1745,1738],[3,1]],
-"xe52ce9731e30bd13":[[3699],[4]],
-"xe2fd04e8993e87f6":[[3690],[4]],
-"x15f3a76a04a6a9d6":[[2508],[3]],
-"x12313880203b6de3":[[2787],[3]],
-"x2e7a240ba60b3258":[[2484],[6]],
-"x12bc043ae4c37ec5":[[261],[5]],
-"x1e8af277f4deb1b6":[[209],[4]],
-"xba2a61383251c94c":[[1624],[3]],
-"x5600150486ee13c6":[[2658],[3]],
-"x6d617e61f8834fc":[[2658],[25]],
-"x32842f8568d7b3d5":[[1959],[2]],
-"x6ea948984ad5eda3":[[3157],[3]],
-"x11a72a487b29e1e7":[[3299],[13]],
-"x396f3a7e8ffe39a0":[[1682],[6]],
-"xbe29b9a7f89199ab":[[2346],[5]],
-"xb9e731dce8b728c0":[[2203],[9]],
-"xdd5281a837a3d34c":[[262],[6]],
-"x77c71ee7a0181e19":[[324],[4]],
-"xd75223946bdf7744":[[346,353],[17,13]],
-"x45bce4686e376c6":[[3902],[7]],
-"xc4684370df233ce2":[[2851],[5]],
-"x6c2cadc1c2f250e5":[[2674],[4]],
-"x24f98dfb75312784":[[3902],[7]],
-"xa84ce45dde99fe37":[[1745],[11]],
-"xe5208441908bb41d":[[4013],[22]],
-"xc6d2575fa2c7fa8a":[[3828],[6]],
-"x41b2cfd95b4373df":[[1770],[9]],
-"x4d855166a7a3dc4c":[[1828],[5]],
-"xdef922e2d46954b1":[[3828],[4]],
-"x34cb01bcb29dc875":[[3234],[7]],
-"x755de688509572a0":[[3699,3234],[4,2]],
-"x20999926b94ea905":[[3956,2266,2267],[69,50,3]],
-"x1b6106c33b164e3f":[[3169,3828,2722],[26,3,3]],
-"xb4df106d89d2cc41":[[262],[21]],
-"xd7ff438310f5a8c6":[[593],[3]],
-"x64141540204ef07e":[[2036,1187],[4,4]],
-"x71bb4a9cf5704f22":[[1878],[9]],
-"x41d1459d9b9f157":[[1179],[4]],
-"xb84a4699d9d36757":[[2910],[3]],
-"xdacf4e93e3549396":[[788],[6]],
-"x8de47f8292d8d12f":[[324],[2]],
-"x36b6f80198cf32a1":[[3688],[2]],
-"x1003984f68773f5a":[[3299,3112,3177],[89,23,22]],
-"x84f8a2b22976c11c":[[391],[3]],
-"x48ceded984873d8a":[[3234],[3]],
-"x6234b6037148c20":[[209],[12]],
-"xe7200acbbf1af64c":[[3641],[3]],
-"xb8b52a4e679c2065":[[1762],[4]],
-"x5541fd0cad3f7487":[[2292],[4]],
-"x7dd7912e7cddc2d2":[[262,82],[9,1]],
-"xcbb6b344d91eaa5c":[[2787],[3]],
-"x10fdbe44b9a009d5":[[594],[10]],
-"xb4ce4d4f27f7eb13":[[1699,166,788,202,157],[77,61,11,6,4]],
-"xe7a6f486c5d2aeee":[[926,332,339],[11,8,5]],
-"xae4af6adc8225391":[[148,788],[35,3]],
-"xa3d04ba69bc2022f":[[1618],[3]],
-"xd1735e6f37c9eb0d":[[3902],[3]],
-"x181710a8edb42fb9":[[1185],[9]],
-"xf6b4feb6be994dc6":[[175],[2]],
-"xdcbc22c0c809b86c":[[3929,3690],[12,11]],
-"xdd0efacf1797d898":[[911],[2]],
-"x76559684f673d0a7":[[262],[48]],
-"xb7f73ea734b183f1":[[3305],[3]],
-"x393a90bbe3986868":[[1617],[6]],
-"x7b361eb5d4c8b29c":[[731],[4]],
-"x5068c8cafa6f5fad":[[3742],[4]],
-"x254fd45786404b9a":[[783],[3]],
-"xe7b0b91bf85adcfd":[[853],[4]],
-"x86546cb949a101e6":[[983],[4]],
-"x7c0e2f8ada149c56":[[528],[6]],
-"x7ebf3b95b5f4890c":[[787],[4]],
-"x87fbe609d181704d":[[3453],[3]],
-"x3b7dc1d7c1850ddf":[[3690],[256]],
-"x7abee6450d9c72f8":[[137],[8]],
-"xa4a1193737e6a553":[[211],[11]],
-"x188ad1b8a9c0aefb":[[2388],[3]],
-"x337e48800f458cf6":[[1761],[4]],
-"x7ad9b37ab1d78d2":[[3827],[5]],
-"x901b9da9209bc93a":[[1],[6]],
-"x95e55014bbf76ba8":[[2484],[4]],
-"xb052692a88aa5d97":[[3811],[4]],
-"x3c914c0150483775":[[3176],[3]],
-"xb2ab5524fc526c9d":[[3567],[2]],
-"x39b160bc50480d5c":[[3699,2266],[5,4]],
-"x817cbc331de69118":[[262],[11]],
-"xc994f44803272ea0":[[3756],[5]],
-"x8ff7b4c1270c37cc":[[601,262,209],[91,32,3]],
-"xb6178c11b32650ec":[[137],[3]],
-"xcc9dd96ef019918b":[[3372],[9]],
-"xcafa3abc85f2e02e":[[3803],[2]],
-"xb69b8c680338fb4c":[[594,722],[8,5]],
-"x993e0290793d3161":[[3307],[2]],
-"xfc4b74ce2ebedb1c":[[1164],[4]],
-"x6e4c9bab474fe020":[[1765],[5]],
-"x1fe83a7640acab6f":[[203],[10]],
-"x3389fe46a54864f":[[3305],[4]],
-"xb5273a1cbcd9b24":[[1828],[8]],
-"xae627327f38d210f":[[3234],[3]],
-"xc57f2aaf7dbc46fe":[[789],[3]],
-"xd4bb2313b667e753":[[731],[4]],
-"x3917fd766d67f58a":[[3902],[8]],
-"xf770a6f832cd7e1c":[[1827],[30]],
-"x8167d463e3fce4b9":[[787],[4]],
-"x936663e8ac17a4d3":[[2658],[4]],
-"xb00405e91d12d218":[[657,2452],[3,3]],
-"x55a86bbf1a4e8085":[[1828],[19]],
-"x704756d6032c843a":[[1307,731],[16,3]],
-"xa9a59b10887a1222":[[708],[6]],
-"x949a473542f757e":[[2203,3956],[14,2]],
-"x5cc3c3fb01fe112c":[[1049],[12]],
-"xd08313fca112bf2a":[[2332],[3]],
-"x82f5e54ba2fda39c":[[2138],[3]],
-"xc402925ccaac34a9":[[3372],[3]],
-"xee82aef63dd2002d":[[262],[2]],
-"xe906ef4d544d435a":[[901],[3]],
-"x5ea79a5bb10ae564":[[3169],[4]],
-"x1b75af6e647f6522":[[2266],[28]],
-"xb8a16ed21085aaf0":[[1837,258],[5,2]],
-"xbe01d425d9cc706c":[[339,861],[19,8]],
-"x6dc5025895f28a58":[[3826],[6]],
-"xeb24dc5152f6904a":[[3902,3299],[17,16]],
-"x128bb5d5e9dbbfb3":[[203,262],[7,4]],
-"xd259094427a9ad07":[[1380],[16]],
-"x62b463db0ae7ee5c":[[1371],[4]],
-"x4dd6baad3f858594":[[3502],[6]],
-"x574bdfa62bca809a":[[1179],[2]],
-"x1730e2fce51c4464":[[204,333],[3,2]],
-"x5e5ffea7c689caf9":[[405,2],[7,2]],
-"x6eec0d679a728032":[[3307,3299],[10,4]],
-"xbcb458a055a92a3d":[[788],[4]],
-"x5f1c9eee0c3dc5e":[[82],[4]],
-"x83cf674df179c402":[[3828],[3]],
-"xd53a49ab1a55b16b":[[3962],[5]],
-"x4fd3721ba821c23f":[[1763],[32]],
-"xbaf7525e469ec68e":[[2073],[6]],
-"xdc0fa0438b454362":[[3688],[4]],
-"x83d576304109069f":[[796,918,731],[31,23,5]],
-"x637a9abfc9af8ddf":[[796],[5]],
-"x91423e823f3bf347":[[3902],[5]],
-"xc1f5329cdc32f66f":[[3756],[7]],
-"xeb0c7587e04cb21f":[[3690,3177],[17,4]],
-"x915d5f70b3392686":[[658,262,1578],[34,26,12]],
-"x472111483e8d9ff4":[[3307],[3]],
-"x8881fb7b3d1d084e":[[2721],[3]],
-"x57e8ad70ac2aaa33":[[2669],[6]],
-"x8bfd4247ed6d9f92":[[2283,324],[6,2]],
-"x3b06444535f95ee8":[[601],[3]],
-"x5f9f3eb8f04e3479":[[1186],[5]],
-"x9a70739a54b56a4a":[[202],[3]],
-"x37aa8fbefab96aa4":[[3112,3690,3234,3763,3929],[35,33,26,7,3]],
-"xa47583b71d17a3ad":[[166,658,80],[8,7,3]],
-"xc54436db4b4b5cfb":[[452],[3]],
-"xb8a12b3d9d11c9ba":[[262],[7]],
-"x27f69e383a47d908":[[3699],[6]],
-"x9a296ff4031cbc22":[[166,324],[14,6]],
-"xba28273933098981":[[157],[4]],
-"x182a3236e4d8215b":[[593],[5]],
-"x7cc3af60417e186f":[[262],[7]],
-"x59029c3011c55310":[[1],[5]],
-"x9e6bbf8ef11c495f":[[1681],[2]],
-"xecc8f98e48ac7164":[[1763],[2]],
-"xbc38fee2ffba53e7":[[3690],[8]],
-"x8898c57ea1ff38fc":[[1827],[4]],
-"x5aba750d3e57a622":[[788],[3]],
-"x9217f192a7e86d89":[[1770],[6]],
-"x148e397948feb0a9":[[1217],[2]],
-"x846a58f4f9d1cdaf":[[3821],[10]],
-"x1b74b24c22c0ce28":[[3958],[3]],
-"x3a56b8214616707b":[[3429],[5]],
-"xcc251aa31cf8b10":[[139],[4]],
-"x27f6a29775892af7":[[723],[6]],
-"x39010e06c8974ab0":[[3567],[2]],
-"xb2824dbd8c233daf":[[332],[4]],
-"xf14fc4a0f827fc40":[[3902,3299],[7,5]],
-"x79023113a2ebf82c":[[2023],[3]],
-"x33c7acd1dcbea0b":[[3502],[7]],
-"x12fc4fe1647e84e2":[[213],[3]],
-"x8b52dfc4cbeb8a00":[[2915],[3]],
-"xf4f0aabd758ecb19":[[148],[6]],
-"xa6991a41269e08e6":[[3742],[8]],
-"x255584a61cf7b1d8":[[536,258,926],[15,10,3]],
-"xd04653d11eb670e5":[[3307],[4]],
-"x7b83e1f9186385ed":[[788],[7]],
-"x495e5a07b95902a":[[2203],[4]],
-"x34150492833ec2ba":[[262],[4]],
-"xf11fc4d213f0c17a":[[4020],[4]],
-"xdda16ef425c8bbfd":[[3947],[6]],
-"x4c4de623d50283":[[2659],[2]],
-"x735059c4f3c32c2c":[[148,262],[8,3]],
-"xa9f0f68fff9b51e6":[[788,1699],[7,2]],
-"x9914aa8d6328ae4c":[[1764],[6]],
-"xa7e4cf5e168223a1":[[2],[3]],
-"x5bf3a6bf61147147":[[3828,1652,1611,3104,3234],[11,8,8,6,3]],
-"xa17b92de965b6967":[[2131],[6]],
-"x6e1c223a5a1ac595":[[1187],[12]],
-"x894e343121efa62e":[[1041],[3]],
-"x9f5e1570f50521b7":[[3690],[23]],
-"x38770ad4966b3d5":[[339],[58]],
-"xa6e8655d9af3e631":[[203],[1]],
-"x83d7233e833608b7":[[3828],[3]],
-"xeec46c5b4273f77d":[[2851],[20]],
-"x7de79175bb6c7706":[[3950],[3]],
-"xcc71f2c928f925be":[[148,262],[11,3]],
-"xa66d26663887c291":[[2787],[4]],
-"x5cc5a293eecb2dd6":[[770],[6]],
-"x6f9c91382e95b98f":[[3834,3826,2203,3699],[12,8,2,2]],
-"x6b981852b31b94ef":[[1048],[5]],
-"xe63a4ed66cdf1949":[[3641],[2]],
-"xfab0f9c648657d4a":[[1684],[8]],
-"x7da6cb1a90686b78":[[796],[11]],
-"xde4d41c7ea2b6d38":[[3821],[12]],
-"x1e8e426052048711":[[1307],[5]],
-"xbfb63ae1d8eccde8":[[2266],[3]],
-"x641e2756eebfb15f":[[1762],[8]],
-"x99b0f53f7ae359fc":[[324,204,1578,723,731,82],[941,35,26,8,4,4]],
-"xd2e3badf3341c52c":[[1958],[6]],
-"x519336f8545edfee":[[796],[8]],
-"x1f40c5a96ea6f963":[[1380],[16]],
-"xff173270ed1d4597":[[3307],[3]],
-"x7d419e0fc55bdeba":[[796],[3]],
-"xd16aa2ce9a81cfb0":[[1568],[5]],
-"xa36c5b70631be958":[[210,212],[3,3]],
-"x42c15782beff15e9":[[3898],[4]],
-"x1f99566df50c8584":[[2908],[3]],
-"x6c67b3939c6d188c":[[3169],[4]],
-"xcb90137539113d76":[[262],[15]],
-"x4c51c770e778f559":[[2414],[3]],
-"x5474a817b7bbfbb7":[[3178,3306],[5,2]],
-"xd48a139c3d341bcf":[[2356],[3]],
-"xa9746eb10e9e2cab":[[3749],[6]],
-"x2ff4e690bae989a":[[332],[13]],
-"x98a7771d8bf70055":[[1619],[1]],
-"x568ad10f70e671a6":[[3699,2266],[48,2]],
-"xbdc4f189b645a1b2":[[3938,3761,3956],[49,38,5]],
-"x47d21ed8f3cab8d0":[[3763,3690],[6,2]],
-"x2f989731ba920069":[[1764],[2]],
-"x4bff935a9ea4f1ba":[[3892],[2]],
-"x7d29be69ade7f8a4":[[788,601],[8,6]],
-"x8c12bc6a5d7ca47d":[[2022],[75]],
-"x95de16f3e015ebeb":[[2268],[4]],
-"xe28c178fe6a4729b":[[731],[8]],
-"x149c948ef82680b4":[[1616],[3]],
-"xec84e49710b0189e":[[918],[4]],
-"x3905441eafaaf29a":[[2036],[6]],
-"x19a8b547e6400bba":[[262],[22]],
-"x3cd5a32e7f0f3827":[[3811],[5]],
-"x17fa2ff0774bc69b":[[1827],[5]],
-"xa5646ec33efa7e22":[[3964],[1]],
-"xbe47ad32e8752f05":[[2268,3947],[13,1]],
-"xa64d4537b379d57a":[[668],[4]],
-"x944d85980033a6ce":[[2722],[8]],
-"x6298256d8b44c04f":[[2059],[2]],
-"xb5b8fe1ecfc4e766":[[3699],[5]],
-"xaa94dbeff5bb2d01":[[1827],[5]],
-"x3ed57018c71cfb57":[[324],[5]],
-"xb01bbda1178222a9":[[139,75,82],[29,12,11]],
-"x16eda41983c66568":[[3690],[2]],
-"x20ae47d91f7647bc":[[1318],[1]],
-"x9c677274a59d72bb":[[1941],[9]],
-"xfbcd63c73011812d":[[258],[5]],
-"xb755a7382bc53648":[[3902],[13]],
-"x24cf5eec5531dae3":[[1253],[12]],
-"xfb21ff66687ba55e":[[262],[4]],
-"x1e63070e3ed7faf8":[[3187],[6]],
-"xca58305f8743deee":[[262],[5]],
-"x6613adcefac4c839":[[3958,3234],[324,3]],
-"xa41ea2e19db266c1":[[2541],[14]],
-"x16ab75ac182d0f04":[[3828],[7]],
-"xce41d9272bb707d5":[[262],[3]],
-"xacb91793856343a6":[[593],[1]],
-"xba8f39b498bbec56":[[908],[4]],
-"x4b250778faeb3e01":[[4013],[5]],
-"xdf10ef7ca54bca22":[[3902],[4]],
-"xa28bacce5c20b94d":[[2722],[2]],
-"xf78a86839fbd8e8f":[[148],[4]],
-"x928a6eb57a330c24":[[1892],[4]],
-"x6ab6ca53f66a02c1":[[4020],[6]],
-"x2ef8eb62ce26bb53":[[353,1048],[14,7]],
-"x2cb2c205af095a2c":[[2859],[4]],
-"x274d6a6d7c28ecf6":[[3902],[3]],
-"x8f8d68336b319505":[[2258],[5]],
-"x6a3f06593c42eb4f":[[729],[18]],
-"x81715337aae007fe":[[3836],[3]],
-"xeae4ba95e5de69c5":[[3169],[7]],
-"x3d7e81c321634f67":[[3826],[2]],
-"x96551aa8a4afaa8f":[[2908],[6]],
-"x6cc44e6b54187233":[[3742],[6]],
-"xb41a7e8c9f735244":[[2332,3964,1618,3307],[16,10,10,4]],
-"x24705b7f30e0da6d":[[3169],[3]],
-"x3405761388e5e63":[[137],[7]],
-"xdcf53262ec6d4f28":[[2999],[2]],
-"x8247432a6fcb4b33":[[391],[4]],
-"x500076fef0d640c":[[405,788],[5,4]],
-"xdc2be9e58241de23":[[3234],[1]],
-"x968a1f970fadca61":[[139],[6]],
-"xb8a08d87bd15177f":[[3325],[2]],
-"xc38674767afdff6c":[[2931],[4]],
-"xe65d40a4c4699505":[[2856],[3]],
-"xf294a5729076f475":[[1803],[6]],
-"x6b7c5362f5ce7fb":[[3047],[4]],
-"x394f583ea2d4147c":[[1253],[6]],
-"x1e28a6dac36bfc72":[[405,339,918],[86,13,7]],
-"x240c44b252e293dc":[[3],[4]],
-"x885a7fe0c9cb71e":[[3803],[3]],
-"x2641b421e2037ff1":[[262],[10]],
-"xe04cc9c21f7a20ad":[[2851],[3]],
-"x5cba9cf8ddd7e8c4":[[2217],[20]],
-"xa465a8c559d41098":[[3299],[3]],
-"x7322c946732bba8d":[[82],[4]],
-"x840bc47b1e65668":[[2802],[5]],
-"x3a295c152b151778":[[2072],[6]],
-"x81c35144c0e2a42d":[[2290],[7]],
-"x93ac8ca73770f25c":[[1373,1770,203],[6,5,5]],
-"x29f60c7935ac3695":[[2857],[6]],
-"x9580f6d897864400":[[3],[12]],
-"x7752ce688e00c019":[[1546],[15]],
-"xe11bee8f5c0e1c72":[[3808],[6]],
-"x1dc6cb044f5419c":[[1308],[3]],
-"x5f339b4f55b5a123":[[2931],[2]],
-"x5ecfc74e77aa1f7b":[[3642,2715],[8,7]],
-"x97bb1a41f2801620":[[732],[10]],
-"x1008c562a4c599d3":[[346],[28]],
-"x81c7322e09748274":[[3699],[3]],
-"x2553357e3aa0fa74":[[24],[7]],
-"x579d914842b7d332":[[2658],[6]],
-"x86f1fe5ffa935576":[[1393],[4]],
-"xfd97df29179002e2":[[2853],[4]],
-"x75d0f44133ff832a":[[3243],[3]],
-"x5f8bd0028b78772d":[[3234],[3]],
-"x8319c86ae4d13164":[[592],[2]],
-"xf42a070db1b618fd":[[3454],[4]],
-"x8b8c8a420727c170":[[3699],[3]],
-"xffb5fa8efff8489b":[[2740],[2]],
-"x3d69bc514e313c6c":[[3299,3177,3112],[9,3,2]],
-"x65d056c77c819112":[[262],[16]],
-"x9b73d5ae4572ab7":[[339],[32]],
-"x4ca2233f31023bee":[[3169],[3]],
-"xbde5394705a56a63":[[3964],[2]],
-"xff0b61afbe64eb2f":[[1179],[8]],
-"xdebb1a297a48c379":[[1764],[16]],
-"x7a96e142e3a668":[[3299],[3]],
-"x5711ddac5ff340cd":[[262,148],[20,4]],
-"xf6b35391214f25b6":[[3169],[2]],
-"xbf5bdac5a8142c96":[[346],[2]],
-"x2f133432867ee4c8":[[203,407],[7,7]],
-"x41e71fb667316f81":[[1307],[3]],
-"x476cd1f61c570b1e":[[2074],[3]],
-"x9ef0c54b6f057c3a":[[4013,3690],[48,13]],
-"xbc0ca69746c041c5":[[528],[3]],
-"x8ad0388124fb7e60":[[771],[3]],
-"x6ca6996c1f2d8b60":[[148],[6]],
-"x829fdba5d60a4cb5":[[658],[3]],
-"x70ba6c75e2994444":[[528],[8]],
-"xf7a7fe0b4ffe04ab":[[346],[10]],
-"x45d7ecb468988d90":[[137],[27]],
-"xc3840a2a6e8a6507":[[788],[4]],
-"xbaf70d0ea9f8c5":[[918],[11]],
-"x319cddab9b12cafd":[[3956],[2]],
-"xeee4dd47f8bb19bd":[[601],[6]],
-"x7dbe9e3eedcb52e0":[[3112],[3]],
-"x9dfae759216c3922":[[3699],[2]],
-"x8d8e9840330fb1d":[[2203],[2]],
-"x38808abf17fbe22d":[[1371],[11]],
-"x3f007ba1773edda7":[[1380],[14]],
-"x96999ad14375ee4d":[[1753],[3]],
-"x9634914ff06195f0":[[137],[5]],
-"x11a15abee3154ca9":[[652],[6]],
-"xd948fde1d47cfdd1":[[3690],[6]],
-"x8034df6a598637fe":[[405,666],[87,5]],
-"x263b83fcc6bcf70e":[[3811],[5]],
-"x7d7e925974f001c0":[[3826],[5]],
-"xfbed91e179a181fa":[[1652],[6]],
-"xe1be0afd6a46abca":[[3177,2852],[10,4]],
-"x54bc484de234e7a6":[[3112],[4]],
-"xe05bd74be8b6aa98":[[75],[17]],
-"x14b6c8f8e92af081":[[82],[33]],
-"xda890c895078368c":[[1827],[4]],
-"xc12ba04e6c601d83":[[324],[3]],
-"xf8b80ba4fa253ecf":[[334],[5]],
-"xb8d49ded3a6115e":[[2323],[6]],
-"x8c164644f670c0d4":[[2975],[3]],
-"x46dc799233654831":[[2452],[2]],
-"x8abd27df3267e005":[[3234],[4]],
-"xaa3e4df9c48e55c2":[[166],[6]],
-"x579180be75acdf3b":[[3761],[7]],
-"xd91287450f058eac":[[2909],[3]],
-"x455cadd650fd4b58":[[2266],[11]],
-"x6bd3eb2c0a3ae7b":[[1837],[4]],
-"xbe44961fccc25341":[[2915],[9]],
-"x55370b836b8123f7":[[593],[1]],
-"x69b244e2ab0896a6":[[3372],[3]],
-"x24f5ab1021ad3489":[[861],[5]],
-"x8359392168be3619":[[788],[4]],
-"x84195972f8b3ee33":[[1164],[14]],
-"xef7be8bcbe205827":[[2658],[3]],
-"x2317a3cd3ffa8c62":[[2339],[3]],
-"xab979d7a4a00dac2":[[3902,3307],[3,2]],
-"x42e9df3f1ed6ae5":[[82],[4]],
-"x47f3c35c872db66e":[[2802],[3]],
-"x9f417075ab0e93bc":[[724],[3]],
-"xacd41bf5ccbfe8ed":[[3807],[14]],
-"xd1ed26c82cfcd1b0":[[1242],[3]],
-"x58a08799cdfabca3":[[3956],[6]],
-"x77e20c21c70b1b32":[[3699],[2]],
-"x4a8b75ee4a1ef87b":[[3323],[6]],
-"x27dbf12eb5726fb6":[[853],[4]],
-"x86afb4167a179675":[[2117],[3]],
-"xc7cb6bcbe3b7ca4a":[[3299],[3]],
-"x3d88e536a4284029":[[3963],[4]],
-"x7a77dccb1166c98d":[[166],[3]],
-"xff2acfabe43445b2":[[2281],[25]],
-"xc60f60359af33743":[[3454],[4]],
-"x62df10dfd4790b1e":[[3164,3234],[7,4]],
-"xc1be4e879e5319a2":[[1894],[6]],
-"x8b240a1e785d4e19":[[391],[6]],
-"xb523c738dda1fc3a":[[1867],[6]],
-"x55456cf2630011cf":[[219],[4]],
-"x3eab8b7b260dc4c2":[[3309],[3]],
-"x37938c6386e99519":[[3826,3502],[9,4]],
-"xd870a43a74cafa04":[[788],[14]],
-"xed86f02c185e898c":[[1242],[4]],
-"xc7236ea3bdbfb6e8":[[852],[3]],
-"x5af996030622fe9d":[[75],[4]],
-"xb57d1236caef6805":[[148],[6]],
-"x415a893c204809fe":[[2931],[6]],
-"x223f63bdf4714f4d":[[2788],[1]],
-"xb9caf5276dd23d01":[[3299,3307],[7,7]],
-"x451b18dcc297ddeb":[[594],[6]],
-"x31da4270459ec1f":[[3699,3234],[7,3]],
-"x2ddea71e6c41cccf":[[2722],[8]],
-"xe5e39c6ba0d8b52e":[[788],[5]],
-"x6d8e5ab942b2c637":[[1569],[3]],
-"xa8aae28848c80ad3":[[3298],[3]],
-"x9b9bbab3bc90ba05":[[788],[4]],
-"xe0b9c05a955eade5":[[1762],[7]],
-"xf1f52c8fb5790168":[[1762,666],[7,2]],
-"xf6df7db668533a05":[[853],[3]],
-"xc166da01a9842a1b":[[3958],[1]],
-"x4cfdaa74fea4f0a8":[[353,332],[18,4]],
-"x315ef590e39e6361":[[528],[9]],
-"xa855e9fd983b1f04":[[3808],[2]],
-"x3940919dc914641f":[[781],[3]],
-"xe2aa0fd01953c308":[[3956],[6]],
-"x3baef3d3c028360c":[[203],[8]],
-"x54e281e32cce1456":[[2406],[6]],
-"x27b8f3586a8ad1c5":[[2354],[3]],
-"xb62c673599561c49":[[2090],[2]],
-"xe74aad76968cd52a":[[262],[6]],
-"x79aaea30d83a9c64":[[2266],[10]],
-"xff1167a05615f60e":[[2729],[1]],
-"x7d77f94fe5d56a1c":[[1618],[5]],
-"xe259a068be1b68e7":[[1959],[4]],
-"xb3ec70808f2de97c":[[2722],[3]],
-"x308079ac8ff47268":[[3502],[3]],
-"xd031829d972acd61":[[202],[1]],
-"x63fe6ce5a0d0c94f":[[3632],[2]],
-"x9de3f5da072e6ceb":[[2534],[3]],
-"x4ae0f2a012045ead":[[1834],[3]],
-"x14ebea5ee107ba26":[[346],[4]],
-"x16f8bbbf0c7cbb9c":[[129],[3]],
-"x94817e6940b61eee":[[1965],[15]],
-"xf74b84303208428e":[[1568],[3]],
-"x70896504236a0fb8":[[82],[4]],
-"x8e4bb2d31e5fa989":[[723],[3]],
-"x4f7cda55b6824092":[[262],[4]],
-"xd810a781f46411c6":[[3177,3234],[8,3]],
-"xe59ef28dd965bff5":[[666],[3]],
-"xd671003c1844f41d":[[2722],[4]],
-"x4ee5bea1605b1370":[[1699,1380],[7,1]],
-"x39bc5f7332bb6044":[[3817],[2]],
-"x9cb970d6776f06cc":[[796],[4]],
-"x2399cfb0e7b6066e":[[1884],[6]],
-"xb9e5c16417fdd8d5":[[3902],[2]],
-"x785293f0111ce62c":[[3958],[3]],
-"x4c79294a41006c16":[[334],[4]],
-"xae178b188dc4fa73":[[405,788],[33,29]],
-"x8b950669af6fca85":[[3873],[6]],
-"x28e4dbdeffc7e408":[[2658],[3]],
-"xb92dcf093e6093ce":[[3112,2266],[2,2]],
-"x1484d968700eb5c7":[[3947],[6]],
-"xbf747d70395ca5fe":[[1380],[6]],
-"xdc7913b309cb3410":[[1756],[3]],
-"x2994fc16bad079b0":[[4094],[9]],
-"x7f99dd0b97184ce9":[[2788],[4]],
-"x70e771ddcf5489a8":[[3899],[4]],
-"xb3a9c4b66aecbaef":[[3234,3567,3299],[37,27,5]],
-"x9edf1bb9083647ba":[[3962],[6]],
-"x358a1c67aa8579a0":[[528],[3]],
-"xb64e984e6a50b588":[[2128],[6]],
-"x89e94f0e0c40ed2":[[262],[5]],
-"xb06137a32aabd8a9":[[717],[10]],
-"x841c67794d326d5b":[[2007],[3]],
-"x5f93811380fa0dd6":[[4020],[9]],
-"x8398719e213d547":[[2724,3299],[17,3]],
-"xb313529fdf2ae67f":[[2724],[3]],
-"x2cd1b3d278eb848e":[[262],[54]],
-"xd09d07419c3e02dc":[[649],[1]],
-"x8952614231199123":[[3958],[2]],
-"xc8ee1f7925f54be7":[[2282],[5]],
-"x826b6c074db38c13":[[788],[7]],
-"x48e01f4842520293":[[2463],[4]],
-"x48274b1259c1169f":[[3643],[6]],
-"x3a654412269d183b":[[3947],[2]],
-"x3b0830f339ea037f":[[1],[2]],
-"xb3e371c5205ad323":[[3389,3234],[9,3]],
-"x16d61e91affc2698":[[1652],[4]],
-"x4d94d104f2307346":[[81],[3]],
-"x8edb7da86aaf93f1":[[262,528],[3,2]],
-"xcd97fd2004236200":[[2285],[7]],
-"xf885af7fd6bf46c2":[[601],[4]],
-"xd56c29feabbfd274":[[731],[17]],
-"xda68456e24c60140":[[343],[7]],
-"x53b810fb2827e293":[[3642],[10]],
-"x6d6012c86acc0ea5":[[3444],[5]],
-"x2b0a23012b2a9333":[[713],[6]],
-"x6d2b6c492212cc79":[[3828],[2]],
-"x13f7683a8e276aab":[[2940],[8]],
-"x9107c946ef10fbbc":[[137,1],[14,4]],
-"xbfdf02ab612d1890":[[75],[3]],
-"x371436ea3e73e228":[[3169],[4]],
-"x8f779a7f3241158e":[[2463],[10]],
-"x415dafce7b21f344":[[861],[3]],
-"x2d5376f19f04d1b7":[[324],[11]],
-"x6bbe9b21899ef71f":[[1569],[6]],
-"xf52dfc5171da4387":[[334],[4]],
-"xd99dd453f7306f56":[[3567],[15]],
-"x5da502f34dd50ee7":[[666],[16]],
-"xa6aca39ffd7946b3":[[1371],[5]],
-"xa335d55aecfd8672":[[324],[7]],
-"xbd089d91b8b6a47a":[[3299],[3]],
-"x8087f8cfe5df040d":[[1253],[6]],
-"xa72f906d0ea7d26d":[[139],[3]],
-"xaeef841f1211066f":[[399],[4]],
-"x7a365ffb300fafd8":[[3817],[2]],
-"x9b6e929708959b53":[[202],[5]],
-"xdc0b1730ba6a3527":[[75],[15]],
-"x2280d614f4637c8c":[[730],[4]],
-"xb96fa61382ce8b1b":[[2541],[3]],
-"xbca15f44e46d2266":[[1316],[6]],
-"xcc3797c094ee9692":[[3567],[5]],
-"x8156c4a82fab4193":[[3046],[3]],
-"x65a869eb82ffc4e5":[[594],[78]],
-"xf781dd6fc0c2d5e7":[[1828,268],[11,1]],
-"x2bdabcb014c23770":[[3763],[3]],
-"x940b1b67d7fc0c64":[[3307],[8]],
-"x8bfff3b20ceb8a5d":[[3306],[2]],
-"xe74294bd370ef1bd":[[3397],[13]],
-"x325d3d1f76522278":[[1763],[4]],
-"xcae0a7799552b037":[[4031],[2]],
-"xcb7c81d7461def9e":[[1749],[7]],
-"x4aeaa2773f2d86bb":[[983],[4]],
-"xdce7bd92e88c5bf0":[[3956],[12]],
-"x6f96a706b01cdd5c":[[4020,3234],[4,3]],
-"x34e99cada5fd970f":[[2332],[2]],
-"xf93980000f78665c":[[1745,1740],[9,9]],
-"x90486e7e3eb2926d":[[2137,3947,3112],[25,4,2]],
-"x8366b35723050ff4":[[3956,3947],[4,3]],
-"x15e6da30f1abda66":[[594],[4]],
-"x2b680ccaa1c764a1":[[3752],[5]],
-"x548c6f7d97446d80":[[3389],[7]],
-"x86c09b8400810248":[[162],[3]],
-"xb5b9ad7307327975":[[528],[3]],
-"x76039e257ec14abf":[[3902],[14]],
-"x16fee386ee719367":[[3808],[11]],
-"xbcc0478287d320ff":[[2824],[3]],
-"xb11d8dee5832b1de":[[3251],[2]],
-"xf444313faf6cf2b6":[[2330],[9]],
-"x3e72e7986fe8cf11":[[2349],[22]],
-"x3de66c44852bff64":[[852],[3]],
-"xd3576e471353fc9":[[262],[7]],
-"x10e6fab00da46473":[[2348],[6]],
-"x5ef97b6a34177159":[[1160],[5]],
-"x263dc27d9f5984b6":[[528],[6]],
-"x132107f16d719f6":[[1371],[8]],
-"x6356eb5909e983a":[[2266,3234],[26,3]],
-"x74004500aab2d306":[[3177],[4]],
-"x239a82775fd781c1":[[139],[5]],
-"x88a75bfbeb392940":[[262],[17]],
-"x395df54e7aaae3aa":[[3957],[6]],
-"xdebe48f27ccdf6d6":[[334],[12]],
-"x3e3d6e6e7e5e2fcd":[[2477],[15]],
-"x48fc2c67bdd2d1ad":[[2346],[7]],
-"x27825233aaaf641b":[[3697],[2]],
-"xbdd4dad44f6c161f":[[203],[5]],
-"x13dcdf837a726823":[[2203],[25]],
-"xb930b953761de708":[[3826],[1]],
-"xc359059bc7a58679":[[4013,3372,2266],[700,46,9]],
-"xa9986ed3b6c6275c":[[1439],[5]],
-"x877455d7fe26c460":[[2137],[3]],
-"x760b776be9fb12c1":[[1153],[4]],
-"x24b4c7f5448340ec":[[3112,3169,3828],[54,34,28]],
-"x688158184d17714":[[3366],[7]],
-"x266b0986d198b5d1":[[139],[3]],
-"xac77b148be92e8f8":[[1380],[5]],
-"x666130d3f3c6222d":[[334],[4]],
-"x9c818a4f1bc003da":[[3169],[1]],
-"x42799e566263d0f7":[[730],[5]],
-"x128427a6eafddd3d":[[3902],[3]],
-"xef45b55aad83c569":[[204,1244],[4,3]],
-"xc099427ed8c224f7":[[1618],[1]],
-"x15464d584bc9e914":[[3169],[6]],
-"x40b6741bf13fb67e":[[788],[10]],
-"x63ea56216ea2648a":[[3763],[4]],
-"x678dfdc507f26f4a":[[2723],[1]],
-"x88b9f46a6a976b95":[[1806,3299],[50,3]],
-"xef556a35f80dc979":[[3763],[7]],
-"xf693b4a62fc5ddc5":[[3761],[2]],
-"x7eea09cdabc3a961":[[3242],[6]],
-"x1f9d5d6bfa4538d4":[[2915],[28]],
-"xa9563d841354ea5b":[[528],[5]],
-"x1557dbfdb09fd564":[[788,166,1699,209,918],[467,313,32,12,6]],
-"xce17c98ac0090fc1":[[1307],[5]],
-"xc6039805b3cb5c6e":[[1123],[1]],
-"x6d9fc32b8cd7cd5a":[[917],[3]],
-"x9c584dd4027ab842":[[3307,3902],[11,4]],
-"xda083d53d00c26f7":[[2258,3963],[10,4]],
-"x698070bf1cfc959a":[[3902],[3]],
-"x66a5fd9f29c57961":[[2260],[3]],
-"x526341290d7773ff":[[2851,2915],[78,6]],
-"x58a9c7bf47ad9e4f":[[1699,75,209,262],[48,5,5,4]],
-"x9add6250847c3a63":[[536],[4]],
-"xda3191a6709de87e":[[3242],[3]],
-"xa15f052025eb036a":[[938],[3]],
-"xb0fbaa7cd799ac04":[[4013],[17]],
-"xd775675330a2c32d":[[322],[7]],
-"x1e62d1405363c8e":[[601],[4]],
-"x438e9d535cee43c9":[[1048],[9]],
-"x2ed58416bd749c71":[[339],[9]],
-"xf3b911a72ea72dfc":[[1503],[3]],
-"x14bd5c544b81b04f":[[2715],[6]],
-"x762c09c6920d17a3":[[1307],[5]],
-"x6833c6d696940810":[[334,82],[55,4]],
-"x62911ca496861f62":[[2387],[3]],
-"x916efca20a8fe9d0":[[166],[4]],
-"xb7064daf2d2f557c":[[75],[6]],
-"x8e18550e22f90638":[[332],[7]],
-"xc3b17ae5f6da8dd8":[[3761],[3]],
-"xf6f1ebdfadd0a3c3":[[2713,1837],[99,23]],
-"xcd71bcb07f3d94e2":[[2331],[12]],
-"xb0cad451f2fd57cc":[[3811,3372],[9,4]],
-"x467c26e087189e14":[[1893],[6]],
-"xa041df659c862253":[[2846],[9]],
-"xbaec39dcf3175b55":[[3956,2266],[12,2]],
-"x3f07a8dd73ecb963":[[1959],[16]],
-"xaf33cd71a1dedea7":[[3958,3299],[18,2]],
-"xfcbc94e6effff914":[[2658],[4]],
-"x9eafc68d44a6d0ab":[[3803],[2]],
-"xce9087c47060d6cb":[[148],[3]],
-"xf5ee7518f33d71d5":[[3112],[4]],
-"xad9f4d3ffb739739":[[2281],[4]],
-"x7bd825b484f45e02":[[3309],[5]],
-"xcd10318aada0c724":[[75],[3]],
-"xe2983e9324f31700":[[2413],[3]],
-"x1041eb897ee1deb9":[[2722],[3]],
-"x962a7a0e32890279":[[139],[12]],
-"x7cea48ec7c7003d":[[262],[6]],
-"x379cbd06af06dd11":[[339],[3]],
-"x32332a0afe8916d2":[[512],[4]],
-"xedc7a0cd4dc6f03d":[[353],[4]],
-"xac5e5937ad185a18":[[3242],[1]],
-"x28a5005a7e00df0a":[[3306],[3]],
-"xdacfe6b314d2c79":[[3307],[6]],
-"xbd7e14a8d9699643":[[3299],[13]],
-"x43b75ee22b09d936":[[1307,1187],[19,6]],
-"xb80a0dfb2a537e0f":[[324],[4]],
-"xa8bacf24d674d2a3":[[3298],[2]],
-"x7ec1c5b61a72459a":[[983],[3]],
-"x4ae48202342021a5":[[3956],[4]],
-"x2dcf4c612fc54af":[[2006],[12]],
-"x2de47a3eb030360d":[[731],[6]],
-"x7f29617b8efeb4fe":[[204,82],[14,14]],
-"xefed90774bab7787":[[3046],[49]],
-"xe15dd7dc85265df":[[3642],[3]],
-"x596b495c9bc4eac8":[[2802],[1]],
-"xa3e202e5dbea908a":[[3559],[6]],
-"x2c5c4c4cee7e20fd":[[3964],[5]],
-"xfb1de45cf301672f":[[405],[2]],
-"x691702fc7c36e1f5":[[2355],[1]],
-"x268e0f6ef835612":[[926,203],[136,36]],
-"x81f786214b2c013d":[[1676],[4]],
-"x1b6ebb03801da0b5":[[82],[15]],
-"x76c138c6fc0426cd":[[3876],[3]],
-"xe11b44a7708b09f9":[[82],[16]],
-"xaf504bd2d6d720ac":[[1372],[5]],
-"xe016e8f388e9f19d":[[292],[3]],
-"x35f20a58b07ee200":[[2874],[4]],
-"xcbe0f89b391ed0fe":[[1241],[3]],
-"x3e9b36e5e0017d3a":[[3963],[5]],
-"x2414d1ca9cb899b1":[[137],[2]],
-"x64ff05e1c0a8d25b":[[2073],[7]],
-"xbd2f6457dcc2e8c0":[[2908],[10]],
-"x824737d94622cfbd":[[24],[5]],
-"x89b429fc53e8cdf6":[[82],[3]],
-"xe33b4dc0346abe43":[[1],[6]],
-"x77b8aa6a918746a1":[[334],[5]],
-"x22cff591a03a0ed9":[[1185],[3]],
-"x1624cfd5004b632c":[[3826,3306],[3,1]],
-"x7455a858c58679cb":[[3494],[3]],
-"x4e3c71b8d0863483":[[594],[3]],
-"xdf1060c75d2fa033":[[139,157],[7,6]],
-"x23f2bc8ff1c7981f":[[3902,3567,3699],[36,30,4]],
-"xe602fe73e5ec0bdf":[[2412],[4]],
-"xbf8120d6b6c1c90b":[[3808],[2]],
-"xbfe7ab564445693c":[[1618],[5]],
-"xfea654b399fbd5a2":[[1858],[7]],
-"x3e9adfbd40a35b7f":[[3363],[3]],
-"xfa1ea8b41de59dcf":[[3037],[2]],
-"xccdea14ccb67c378":[[3372],[2]],
-"x518ff1be948606e3":[[926],[7]],
-"xcbd92ed6fb415f61":[[209],[18]],
-"xe77ed0c5def34d94":[[1756],[33]],
-"x7e64b9f63afb8f76":[[3826,3902],[5,5]],
-"x2662dce167410345":[[2740],[6]],
-"x81dee63d3ac2f363":[[148],[2]],
-"xcfd90b56720b09ce":[[1137],[12]],
-"xe4d8fdef1ddb4285":[[2739],[3]],
-"xef851d3b0b6a77fd":[[276,1371,1569],[14,10,8]],
-"xd06e821d8292385c":[[3898],[4]],
-"x2ffb1f66e48e3427":[[918,788],[8,6]],
-"xeccb17b246eeee6f":[[3746],[2]],
-"xa0f310e0fd1e6a27":[[3699],[3]],
-"x3c22844766b6ede4":[[3187],[2]],
-"x9a6d25ce00fdd898":[[1371],[10]],
-"xb6292a4c6fe91e1":[[3690,4013,3372],[36,20,3]],
-"x7dfb3ffdf58e6cc1":[[405],[4]],
-"xd2e26dff15c8c9a0":[[3502,3938],[5,4]],
-"xcf6d3639b542bb2c":[[202],[6]],
-"x404588e90bf3838f":[[1787],[7]],
-"x5b1e363f9dee9a99":[[3567],[6]],
-"x3748cfe2250eee41":[[3956],[5]],
-"x347a26b085314495":[[3699],[2]],
-"xfe16f76a275e4cba":[[528],[4]],
-"xd1d36e7e3036eaf4":[[907],[6]],
-"x16e734777d8e5cc3":[[778],[4]],
-"x5a48b55514dc8e84":[[3052],[3]],
-"x97dd9ff469dc76d8":[[1770],[6]],
-"xd6f2bca6575838e5":[[1290],[3]],
-"x7988d5724073cad7":[[625],[3]],
-"x8b194654a40482da":[[2715],[4]],
-"x4f11d2df3f63968a":[[1229],[6]],
-"x46c8fe2c6b93fd1a":[[2104],[3]],
-"x57bed6bc5cf5b2db":[[789],[3]],
-"x5d06209acdc7c0df":[[2740],[3]],
-"x2ae99bc8058a453e":[[3307],[4]],
-"xf6c25d92f49abf08":[[1179],[6]],
-"x946ba66280806e29":[[3808],[3]],
-"x8283a15e0eec2f35":[[2203],[4]],
-"xb2b1b774e75c4d7e":[[1683,1681],[15,3]],
-"x685b5044ffc2f6be":[[1162],[1]],
-"x3d1cbe01990d8eca":[[2908],[3]],
-"xa6a0d2ac039e559a":[[853],[4]],
-"xf5feb142c49ea854":[[339],[3]],
-"x8cf4e2e3d38aa629":[[2163],[6]],
-"x78669cc6c66c90e4":[[405],[4]],
-"x3651f15a73653496":[[3956,3826],[10,5]],
-"xcb901e466c2fa258":[[3956],[4]],
-"xb9d0385fb622fafc":[[3756],[2]],
-"x8dbb862baae57af2":[[731,204,324],[4,3,3]],
-"xef3b378cb1b3e954":[[213],[5]],
-"xde3a89ddc718b54":[[1828],[3]],
-"x4130dd83a2aa706e":[[2137],[3]],
-"x3f19402132af6310":[[1372],[6]],
-"xcf7940c61493b3a4":[[1883],[6]],
-"x7212391ff83f7cbc":[[528],[6]],
-"xc967043312821678":[[2006],[7]],
-"xc742fed655419d07":[[203],[4]],
-"x662efdcf12008350":[[1570],[3]],
-"x16547728dd2c9ad2":[[82],[2]],
-"xa84cb5b1d13092f9":[[3306],[4]],
-"x8261e84d7346dce6":[[3844],[6]],
-"x6ecb45968356707b":[[2029],[3]],
-"x2ba0e1d725e0790d":[[3808],[3]],
-"xeb170e722014a69a":[[175],[5]],
-"x4c4dbc1a42c06661":[[339,346],[14,5]],
-"x6eacd30ca50a6a28":[[3761],[9]],
-"xd3c4ed75a021cadd":[[1899],[3]],
-"xf00bb1e89ce5d992":[[1837],[13]],
-"x9d809f77aae5b8c6":[[835],[6]],
-"x62dd4e7a9bdbaf82":[[1764],[8]],
-"x725855238662d58f":[[262,148],[23,2]],
-"x49a3ac29226300cd":[[1099,3795],[3,3]],
-"x2c1fb290023ed632":[[3169],[2]],
-"xb72a1cccfaf53623":[[82],[3]],
-"x46b49d24b036c836":[[3699],[6]],
-"x310f1542e721d70":[[213],[7]],
-"xb522599de0aa3620":[[1382],[5]],
-"xfb1886cfaf703a28":[[3171],[3]],
-"x1258249c80960427":[[2940],[3]],
-"x3963e6a7dd170b8c":[[3150],[3]],
-"xbd0beeda0d7973ea":[[658],[5]],
-"x3ecc074f29ab22ea":[[3902],[5]],
-"x4f1507d3963829cb":[[594],[6]],
-"x1c7be388872cf3ee":[[1244],[3]],
-"xf83699bb3befa937":[[732,730],[8,4]],
-"xc7e0521840b4a5ab":[[3958],[6]],
-"x122e58c158ece638":[[82],[4]],
-"x89b863942d0e657b":[[262],[9]],
-"x54135b83009a3731":[[2915],[4]],
-"x196e985e7210ab17":[[166],[7]],
-"xa6c7133785898d0c":[[3808],[10]],
-"x3a0b1f586311bd50":[[918],[4]],
-"xe467aa25fce0bc20":[[713],[6]],
-"x7e97cefb39ca6a9e":[[1757],[6]],
-"xb02919d8b9909a5f":[[2202],[3]],
-"xb2fa9cdd427b9cf8":[[324],[3]],
-"x32ce1d9b23bc244a":[[4013],[3]],
-"x19401db87b40a412":[[3902],[16]],
-"xe2777233542b3be7":[[262],[29]],
-"xac1c8c63658482bc":[[1618,1652],[16,4]],
-"x1740f844b2220432":[[3779],[10]],
-"xf3d1599f947e1f9c":[[2915],[6]],
-"x6afb8cafe7f8597":[[262,666],[32,12]],
-"xc4120986b2fab915":[[262,723,593],[12,9,2]],
-"xe7df6c79f15224c3":[[1327],[3]],
-"x59639b87e458d0aa":[[2851],[3]],
-"x22d0c9919c95a8b5":[[3902],[10]],
-"xf247e5ebff57e38d":[[262],[2]],
-"x546778eaf24cb235":[[3300],[3]],
-"xa28e62e8320e1d91":[[2593],[5]],
-"xfd8f67831f0d60b4":[[733],[6]],
-"x93bead31169a92db":[[346,82],[18,4]],
-"xb76c72aa59d57dcb":[[339],[6]],
-"xbbb87ac3afb8dd47":[[2348],[3]],
-"x5070e7beeda949f9":[[3362],[3]],
-"xf7f2d524215b4f89":[[2931],[2]],
-"x82f1db2420c947c1":[[593],[4]],
-"x2499c5de6ab63f40":[[202],[8]],
-"xd438ff28f8797082":[[601],[3]],
-"x2e48c8ab63b491e5":[[1244],[3]],
-"x3a4ec557d23fb7fa":[[346],[3]],
-"x1669a803aad3e8ec":[[332,1828],[9,5]],
-"xd6ed4406d58e7f41":[[3690],[3]],
-"x787d37fb80c00602":[[3690],[27]],
-"x8e8aa2801116dabf":[[339],[15]],
-"x105c2ee26632fca1":[[1892],[3]],
-"xe95a56b823451994":[[1229],[6]],
-"x3ead3045d5be9f7a":[[3373],[2]],
-"x25691dffd499f63b":[[1393],[2]],
-"x28f27b365791fef2":[[3307],[2]],
-"x9b3f63b4ec5a0cec":[[3699],[13]],
-"x5cdebf4419089ea3":[[3501],[4]],
-"xc60f2f68fda0f313":[[3645],[6]],
-"xa954dfb2097187e3":[[2203],[2]],
-"xd2099d7656a16e65":[[166,405],[192,17]],
-"x3307ad138b65935c":[[203,2],[13,2]],
-"x4bf4b9b4da2df3db":[[2915],[4]],
-"xdad004f3eaa570f3":[[3492],[6]],
-"x803667f5c8f5eaa2":[[2915],[2]],
-"xcdbfaa6506a4b96e":[[262],[2]],
-"xd07dde00b43627f9":[[1741],[3]],
-"x11c47157c6dbfcea":[[853],[3]],
-"x48b8816742baf2b4":[[3947],[2]],
-"x7194277e9fc9a7e6":[[3749],[38]],
-"x10e54cb7c9ee4e91":[[1828],[4]],
-"xced73f0777b26836":[[1933],[2]],
-"x269fde657c6848df":[[731,1699],[7,2]],
-"xb8bdeda57c0753f9":[[3699],[2]],
-"xd6588cf39a32847b":[[2898],[4]],
-"x551ca5239aec8cc":[[1762],[1]],
-"x8d3a92c0c1336405":[[1699],[3]],
-"xdb870322289618cc":[[3112],[3]],
-"x2d877521291a2c4c":[[1902],[6]],
-"xa4671fa71434d7ae":[[211],[2]],
-"xd7ec14aa36888a77":[[3567,3828],[4,4]],
-"xa92545a8aefa8748":[[3364],[2]],
-"x83bfdf059cefdc6":[[405],[4]],
-"x201e0f35a8ca00a3":[[3763,3690],[19,6]],
-"xb71cf29958799fa1":[[2],[2]],
-"x221ea68dd039a2f3":[[3690,3234],[6,2]],
-"x8d78c0aa28dbaafe":[[332],[130]],
-"x3f0f667f2d76c21a":[[2713],[2]],
-"x2745a57a7ee2ad37":[[2915],[2]],
-"xe3b1c036bf3381f5":[[1699],[9]],
-"x3d5b8d3276c220c5":[[2723],[11]],
-"x9d5f7aee7e779da1":[[4013,3299,3234,3502,3307,3429,3372,3177,3690],[1304,626,266,66,37,28,17,12,7]],
-"x407e8169457b7b6e":[[787],[15]],
-"xc008b61aca5f3409":[[3902,2412,2740],[20,17,1]],
-"x4591773c70a09530":[[1227],[6]],
-"x2a0e6a97af0e58b5":[[3761],[4]],
-"x1b72625b4fba9729":[[1699],[11]],
-"x9f150e9c0a0aece8":[[2908],[4]],
-"x28a59c067dc53d0":[[3956],[6]],
-"x6eaae70054376f15":[[3763,4013],[11,2]],
-"x5ce296bc0e995b03":[[3501],[3]],
-"x102aec5a88cbccf3":[[2720],[2]],
-"x69b7cbeae2fa5383":[[3902],[4]],
-"xc35a3abe6361b470":[[3169],[10]],
-"x4e2119181f745074":[[787,1185],[11,8]],
-"x143d1e63ec3263d3":[[2265],[4]],
-"x2f462eb569ec04b7":[[3964],[4]],
-"xe8267bac17f36ea4":[[2332],[3]],
-"x64d1ea4210f9f841":[[3243],[7]],
-"xb2a2d263bf743c91":[[3104],[5]],
-"x2fafc627c5a3bcb2":[[2331],[7]],
-"xd9fae939fcdb3a56":[[918],[8]],
-"x375ed194e58c4978":[[3501],[6]],
-"xc809b5fac8caf7af":[[2722],[3]],
-"x7c57b03d64f79eb4":[[1185],[5]],
-"x517876c525775b27":[[2331],[3]],
-"x2be863329e830176":[[334],[13]],
-"x4c4c12928a14374":[[1837],[4]],
-"x8ce161a9ecf1dc5b":[[3761],[27]],
-"x1bbf3aa0514a9f82":[[3112],[12]],
-"x5cf47a1720938401":[[2420],[4]],
-"x95558724fba40a7f":[[1699],[11]],
-"xf73fb24fa231b886":[[139,82],[11,7]],
-"x86ba1a3ce64e2888":[[262],[3]],
-"x6a056c1fe1453364":[[3362],[3]],
-"xb6900ef4e3667c27":[[2609],[10]],
-"x489e1d358d6db250":[[3779],[7]],
-"x8a41543dae71a70e":[[3307,3567],[8,7]],
-"x965e2364eb7f2ae6":[[593,1699],[4,2]],
-"xd923f8f0336d29c4":[[3929,3299,3234],[1175,87,25]],
-"xf0315069b1bb4cef":[[2853,1805,3429],[20,8,3]],
-"x32cfaf1e4f707fd2":[[3194],[4]],
-"x974806a002c2909f":[[1699,166,202,788,216],[197,69,45,8,6]],
-"x8b740f11cea33a62":[[2396],[6]],
-"x3c783f8ef720938a":[[262,82],[5,4]],
-"x33ac9aaa99b72d7":[[3234],[17]],
-"x57b8c53b471c2774":[[2852,3112],[6,3]],
-"x7ab76acf845cf80b":[[3688],[5]],
-"xb5d94f7519959018":[[2130],[6]],
-"x2584a0efe1d9a31e":[[139],[3]],
-"xf4fdacbb61ead6a2":[[3706],[2]],
-"xc59d9b5a6df9da89":[[836],[6]],
-"xe4e036f3467dbc92":[[4020],[1]],
-"x62f7ce226020c360":[[262,202],[38,3]],
-"xecf7bab1bf83866d":[[3429,3690],[7,3]],
-"xaf13a2f5cd07737e":[[3373],[3]],
-"x370900065992f868":[[1187],[4]],
-"x22488f50300fbb5a":[[405],[4]],
-"xcca8e5e2809f836d":[[203],[4]],
-"x8e98131d9114df66":[[324],[6]],
-"xd8078642fa9ed0a4":[[1169],[4]],
-"x184b688be7533f4f":[[3688],[3]],
-"xc8a1d3499e124378":[[3567,3104],[29,4]],
-"xdf44f537ae06c275":[[139,528],[5,4]],
-"xbf13075b2582ef81":[[3690],[2]],
-"xe830ecbc367b14ac":[[786],[6]],
-"x5518f3e073767c77":[[262,1180],[13,8]],
-"x247374a89fc4849c":[[2915],[2]],
-"xdd9405067ac6bbbb":[[1618],[2]],
-"xbc498d442a432306":[[137],[3]],
-"x5c2908f25aea2a5d":[[3963],[4]],
-"xb0db872a19c9540d":[[3958],[52]],
-"x96018db16d1dd6d9":[[454],[4]],
-"x9e1c863af4d3dc0d":[[270],[52]],
-"x6cc163cc8e516604":[[3902],[6]],
-"xf3fcba5e36f32182":[[1828],[3]],
-"x650bfecf356ec298":[[339],[3]],
-"x3d88430599de816e":[[1971],[18]],
-"x95620c590c4a32d7":[[1176],[10]],
-"xa8b1ecb4cdf7c544":[[3763],[3]],
-"x2a1c690c92004a1d":[[405,658],[77,2]],
-"x191e1a35c11aee00":[[1957],[3]],
-"x59772586fcc8bf94":[[2163],[6]],
-"x9a356ab1d50cceec":[[323],[3]],
-"xa65ed51fb3a25137":[[3372,3364],[4,3]],
-"xd66b52f01050d088":[[3817],[6]],
-"x79f770640b8be042":[[262],[5]],
-"xc41d3ac7f811ea73":[[3761],[2]],
-"xa7c4c490046d77a3":[[3756],[3]],
-"x62302172a374da69":[[1307],[10]],
-"x805f0b8f371629ba":[[3699],[5]],
-"x8c494ee33e074590":[[3902],[4]],
-"xe5434fb92fc78199":[[918,666],[7,6]],
-"x4409c62b7e9bafad":[[1642],[5]],
-"x8175bd209828a46c":[[983],[13]],
-"x30065f6d0cee00eb":[[3242],[3]],
-"x6a872b2b8382ea6a":[[3902],[4]],
-"xa3708781d4d65f4a":[[2720],[3]],
-"x2b3a9a74f863b768":[[1812],[5]],
-"x9172002c161786b5":[[3169],[8]],
-"x677a3e501f54865b":[[3234,4013],[8,7]],
-"xa1d56ffddbcdf87d":[[3299],[14]],
-"x970771c0452fb7f2":[[82,405,666,658,148,918],[70,16,16,10,3,1]],
-"xa00efeff187ce4ca":[[1676],[3]],
-"x863890d38809f48a":[[3898],[3]],
-"x145890bfb3ccc136":[[2788],[6]],
-"x94dde4b2c45f62ef":[[3902,3299,3234,3307],[46,28,5,2]],
-"xebc7b0b5acf5391c":[[3437],[6]],
-"xd1d7b50cdef5d714":[[209],[6]],
-"xfefb9d58134190fc":[[262],[3]],
-"x90de69aa451ca2aa":[[2656],[11]],
-"xa9a396923cfa9390":[[2,3,339],[6,5,3]],
-"xecc15beeb45eb943":[[3387,3902],[6,4]],
-"x2792b6fc961e2e63":[[2349],[1]],
-"x91109b65c1912800":[[339],[6]],
-"x99265bc0daf4516e":[[2266],[4]],
-"xbf27125b9535618c":[[797],[6]],
-"xdf137cad87f39717":[[3742],[7]],
-"x24ac4214c1760583":[[1293],[1]],
-"xed9b36a9d5603eda":[[3372,3642],[5,3]],
-"xceb535856a00003b":[[3389],[2]],
-"x31acc8fd3f9f8b7e":[[796,788],[13,6]],
-"x3d121f40a0588d47":[[405],[6]],
-"x8334ed5da319bb59":[[129],[3]],
-"x23388c9e7f2c8aa5":[[2713],[2]],
-"x3a6c0c32f5208e46":[[528],[7]],
-"x8365c1dd697dd52e":[[601],[4]],
-"xdd8e12b5d587eac5":[[798],[4]],
-"x748b01d47641e98c":[[846],[3]],
-"xec9f1e5624b10124":[[2462],[6]],
-"xf7d54def53b846ac":[[262],[3]],
-"xc4d6c96d9c4c750c":[[3164],[3]],
-"x331b713238e34a68":[[3642],[1]],
-"x82a33dd90666c443":[[2664],[6]],
-"x3a49148b7ae713c3":[[399],[3]],
-"x305040c7a9aaff12":[[3234],[5]],
-"x7c2f5bd10fd96c42":[[3176],[5]],
-"x2564f8153094a981":[[1048],[3]],
-"xb87a994f94c05dc0":[[3699,3112,3947,3956],[588,11,2,2]],
-"xbc741b9766e2c35c":[[324],[8]],
-"x3c9384eef4cc60a5":[[2203],[3]],
-"x9f2057fe88eeb1da":[[396],[3]],
-"x933e837fedc69601":[[529],[6]],
-"xa7aabe1b8dfb7496":[[855],[3]],
-"x645540742ef9c18e":[[332],[36]],
-"x7eab19ee966f5fde":[[2267],[6]],
-"x9ad348d307629797":[[2931],[2]],
-"x6c0a0fcad0e87f5c":[[4013],[6]],
-"x7501725502e05f99":[[3169],[11]],
-"x62029ba04b83c78e":[[3242],[3]],
-"xd01bed232247aa88":[[3452],[3]],
-"x3f2520306c2946c":[[3112],[2]],
-"x83b4edbdc6057885":[[3307],[9]],
-"xb66a2e461816b5a5":[[334],[2]],
-"x7fb68e3f75a4d866":[[353],[2]],
-"xf09b61d21acc19d5":[[405],[11]],
-"xba097c3268e2457":[[3956],[1]],
-"x3076902baed57a20":[[3372],[4]],
-"xdd9f2502a093ac14":[[1830,2777],[6,3]],
-"x7b0e029e67e678be":[[3502],[16]],
-"x5a6d4466062d279":[[4013],[5]],
-"xe4eeb7b01295a5a":[[396],[23]],
-"xa145bdee0e3a0300":[[731,405],[39,10]],
-"x7707ca1eff303519":[[334],[6]],
-"x33d240e0871d310c":[[2715,3567],[32,12]],
-"xa2f1de17fd29b9f4":[[139,323],[6,3]],
-"xe0c35c0ba6686475":[[3699],[4]],
-"xd46754f1491db8c":[[1160],[3]],
-"x4609a8207d12534d":[[3817],[12]],
-"x2d5ba825a4934607":[[148],[7]],
-"xb71d978d7747ac07":[[396,203],[9,8]],
-"x350440069053809b":[[339],[5]],
-"x1a7e2c29cde0bc4b":[[3699],[5]],
-"x64b9b23c8dbb0bcb":[[129],[7]],
-"x21a474d057423028":[[3761],[10]],
-"x25449e4ead2b57ba":[[3364,3372],[11,5]],
-"x36482ed6554ff82d":[[262],[6]],
-"xb9084a2b8449c1e3":[[3699,3567],[12,10]],
-"x70326641649e476":[[1187],[4]],
-"x9691e2ab053b5364":[[1371],[4]],
-"xd921f13b6ce8fa01":[[3902],[4]],
-"xbaab01771a617d08":[[2802],[7]],
-"x37a29f86879f68d0":[[2137],[4]],
-"xce0fc945c275acde":[[405],[6]],
-"x90ebd5845ad5c90c":[[3178],[5]],
-"x3ee4963995896d0a":[[1762],[10]],
-"x14f391aba88495a7":[[3372],[34]],
-"xa1234eb2451c85dc":[[536,391,926],[6,5,3]],
-"x997f48123d7b03bb":[[334],[6]],
-"x3b6fee55a4e90d7b":[[2412],[7]],
-"xb6c81f6efa76fb10":[[723],[3]],
-"xb81d250e7db84f00":[[2982],[5]],
-"x8d903d12fa0d2c23":[[796],[5]],
-"xf263c143cbdd0b75":[[82],[9]],
-"x480e757d9615222e":[[1314],[7]],
-"x6b6a73ebe1056ff":[[1180],[5]],
-"xe69bb237e989b4ac":[[262],[5]],
-"x32eac5aa53c5ed20":[[324],[6]],
-"xd3bc801eef6a491e":[[3234],[4]],
-"x503d6daa6e308f57":[[3902],[11]],
-"xd1eda6f64269a376":[[2565],[1]],
-"xfbe213122e14f085":[[1763],[7]],
-"x771dc991cc30ad77":[[2721],[4]],
-"xb54ec5da02af3056":[[137],[9]],
-"xdf970e7788259cd6":[[399],[3]],
-"x283cdf3dd11e328b":[[1747],[22]],
-"x8bc8b06de91122d0":[[2349],[2]],
-"x7a594be1ada71056":[[334],[6]],
-"x5fee563afd7cf95":[[1652],[3]],
-"x81a3244893a6ba56":[[4013],[2]],
-"xf07a40aa2bb97943":[[731],[2]],
-"x2ae40b5cbb17bfe5":[[2833],[8]],
-"x83793ec0dc098f7c":[[2915],[3]],
-"x630f42694f68e7fd":[[1242],[6]],
-"xc720e30b2ae1aabe":[[1652],[23]],
-"x699ce59de7e630ff":[[157,166],[9,4]],
-"x64198e9d23283332":[[3742,3364],[4,1]],
-"x2c71ef3d97faacde":[[594],[3]],
-"x701b73b9dedb52a6":[[3234],[1]],
-"xb1f75138173f689f":[[3559],[6]],
-"x3d26e4c731656c65":[[1242],[3]],
-"xb76de2cf6efb099":[[3299],[2]],
-"x14c47eea7b218ed5":[[731,353,82,658],[714,301,121,26]],
-"x8edffe3dd59810bb":[[788,405,1699],[56,19,4]],
-"xa27c53b2838e5141":[[2412],[6]],
-"x11575201e9903031":[[1762,323],[10,5]],
-"xb845cacd0a61b648":[[2411],[3]],
-"x3246b5e7690be54e":[[3826],[4]],
-"xc92573c7d0ea6527":[[262],[3]],
-"xde50b24b96ca1f0c":[[1941],[3]],
-"x68740fa32c170937":[[983,731,723,536],[508,29,20,6]],
-"x56186fb786d8d000":[[3902],[7]],
-"x836f5e3361e6f12e":[[3826,3956],[6,3]],
-"x8ad7f13b748a660b":[[148],[7]],
-"xb2ca2926eaa52956":[[105],[3]],
-"xf5bc7cd1fabe5af2":[[1244],[11]],
-"x44877f013478f0b9":[[731],[5]],
-"x2eda2be7c584cb8c":[[4020],[4]],
-"xdd590d3b3cb36c49":[[262,204],[69,5]],
-"x4bfb3f3f1464af18":[[3307],[4]],
-"xac051ca340f8f70c":[[3299],[2]],
-"x5a8be569874cf376":[[262,231],[9,5]],
-"xb61b34eb48d87afe":[[3299],[16]],
-"x1ce7ca888966f3de":[[1249,1185],[6,4]],
-"x10ce687a39c49245":[[844],[3]],
-"xbc58d8392fd5553c":[[1380],[6]],
-"xdeba62165358378b":[[3157],[6]],
-"xed2b8842bed05f97":[[2852],[5]],
-"x7dd0730b7c3050d3":[[262],[4]],
-"xdfa91c6f39bd1f38":[[2],[6]],
-"xa5de7baa8b93054f":[[396,405,528],[22,21,4]],
-"xd34359d8edfed506":[[1307],[9]],
-"x2b53e436023c8a6a":[[3104],[1]],
-"x54b23bc8d3a31be0":[[3372],[10]],
-"x9375909682f03510":[[82],[8]],
-"xb9f036f6074794bc":[[262],[6]],
-"x505c4fd48c553e4c":[[3819],[3]],
-"x519d9d5c4df1a074":[[926],[42]],
-"xbd1fee09849ea338":[[2594],[3]],
-"x30d7e7e1ec3f4635":[[166],[5]],
-"xbaded5f226e78963":[[3567,3305],[17,2]],
-"x691de884dcd1bf9d":[[3372],[86]],
-"xbfe0b7b5d1c815bd":[[203],[3]],
-"x69f6e462be70cc96":[[262],[1]],
-"x791628becac3b791":[[2266],[5]],
-"xe7ab572fc59178da":[[3958,3364],[14,4]],
-"xfbce82fd3060a63c":[[1827],[3]],
-"x231688c9b29c5c3f":[[3958],[6]],
-"x3ad3c134db5d27ba":[[3808],[1]],
-"x29f9cc66e1e1df18":[[262],[4]],
-"x2c5dc69c3aa71ab0":[[322],[6]],
-"x93c7e683c5bb10e9":[[1098],[33]],
-"xa6484c6c8b99fd37":[[3429],[15]],
-"xc2fd438e27d09eb0":[[2137],[2]],
-"x2814ebaced3912bb":[[3364],[2]],
-"x6aac050aa2b1497d":[[339],[8]],
-"x4f59ba64d6549f2c":[[1941],[2]],
-"xed78ecc52be54850":[[1553],[116]],
-"x3ff4d6efbfafb5d1":[[2266],[5]],
-"xe43b7dd4b2bee0b9":[[3364],[3]],
-"x62a6b66119a2c4f0":[[2268],[6]],
-"xc01c971abf4c4730":[[2291],[3]],
-"xca012b7c90bbf25c":[[3690,3177],[19,6]],
-"x845ed7b3f266c476":[[262],[26]],
-"xbe58e08c57b46be2":[[2090],[1]],
-"x154686df1ebaf236":[[262],[20]],
-"x9a0d1cee5da4bf2":[[1867],[4]],
-"xebe8615aae5f9dc1":[[594],[6]],
-"x1376a805902b9164":[[1179],[5]],
-"x22d87f01441e6caa":[[601],[5]],
-"xc5d3d37d7ec1301f":[[1959,2268],[3,3]],
-"xcd5d531bb800e4da":[[3372],[5]],
-"x7766d2bb7f44c2c2":[[3956],[4]],
-"x82d65dd4c0d1bc83":[[3699],[1]],
-"xcc816c7be5cc625a":[[1363],[6]],
-"x3ce5230e88a0e762":[[82,918,731,593],[297,147,70,3]],
-"x72d7afab2e7979f3":[[794],[3]],
-"xa9fc7dff647059dc":[[983,1380],[4,3]],
-"x1c680857b9f6c5e1":[[1810],[2]],
-"x509e4eb065f1f2b4":[[1438],[3]],
-"xf345edceb2193f44":[[339],[21]],
-"xd1fac0ffcabe53c2":[[3567],[4]],
-"xddb5271dc69cb848":[[3690,3307],[6,4]],
-"x955c63193d1c2a84":[[3242],[6]],
-"x767b820245de65d4":[[3752,3826],[5,2]],
-"xe872757e2e34da65":[[3690],[1]],
-"x80aff4e77f5ffae6":[[2350],[6]],
-"xf850c5ed98fe8f9":[[536],[4]],
-"x36c56ef0ca1d8e33":[[991],[3]],
-"xdb24c019812c52d1":[[1761],[5]],
-"xcacad7a69fb611a5":[[196],[6]],
-"x3fa1a4a89b318b0e":[[3947,3567],[6,3]],
-"x330ba690f075a458":[[3242],[5]],
-"x4b037ba4128bd15a":[[3690],[2]],
-"x9ecf3b9810dcac5b":[[2476],[3]],
-"x33b3ba68f8a65fb3":[[2006],[13]],
-"xcf7dc6e2fedd5ff9":[[1503],[3]],
-"x1273b1c2a31557f5":[[3298],[13]],
-"xc4830018ed3677fb":[[204],[5]],
-"x87f230318744c665":[[324],[3]],
-"xe445486bc31aa21f":[[926,536],[15,4]],
-"x64f2af62d750a0f3":[[1371,219],[16,4]],
-"xab7641bacc9cd11b":[[75],[4]],
-"x4af0df064061b610":[[204],[5]],
-"xa38e2c0a85e286fd":[[3742],[3]],
-"x39ff731053d683e3":[[346],[5]],
-"x498a4233e5b23a2c":[[332],[4]],
-"x936eed7c94d4bf42":[[339],[15]],
-"x106c715fd5912f2a":[[2610],[4]],
-"xa2dc51c11b1c1395":[[2659],[3]],
-"xfd3fd338458f695d":[[723],[4]],
-"xeb99df9694694092":[[788],[14]],
-"x714cceb6d870aa89":[[3902],[4]],
-"x4e927045e9d3db9c":[[853],[4]],
-"x7e8d7473d58af8fe":[[601],[4]],
-"x40a6903092d89155":[[2787],[10]],
-"xdaa1504b60d05cf3":[[1698],[3]],
-"x4acadf5efebf7f0f":[[1762],[15]],
-"x798d1c896e2e4c2":[[3372,2722],[13,5]],
-"x2e43d0af15214ac3":[[3763],[16]],
-"x2ee2fdbff947a745":[[334],[13]],
-"x55c4484ea780b68d":[[1164,1180],[6,4]],
-"x9f662a9b1bc6450d":[[334],[6]],
-"x3d02a9c8365da720":[[267],[5]],
-"x28a23460df1103f7":[[75],[6]],
-"xc6634cdead547d31":[[3761],[23]],
-"xdc709c44f628df87":[[396],[26]],
-"x8f5a446b7ad5e25a":[[788],[4]],
-"x56c2a337f158030f":[[3299],[7]],
-"x93e145fd0df4aa4e":[[166,157,202,1699,918,788],[582,203,35,24,12,2]],
-"x4b2c085ffd69eda4":[[3947],[4]],
-"xe81142e750d110e4":[[3112],[3]],
-"x621c6511579edcf4":[[1813,1793],[3,1]],
-"x26743923af0dab96":[[721],[3]],
-"x7f0d7aa76fd1ebfa":[[1683],[6]],
-"xa1284a8f320d104a":[[3112],[6]],
-"x881a3f7f03b01e0b":[[3868],[3]],
-"x89f6c33d946f5022":[[709],[15]],
-"x96b7291eac303f1c":[[3834],[3]],
-"x45087235ae9d3":[[1810],[5]],
-"x4f31349f3338f07c":[[2283,2299],[66,9]],
-"x55a034066899cd09":[[1632,1652],[5,2]],
-"x72aa1bf2b9b6759c":[[3169],[3]],
-"xe2b01fb4bfe486b0":[[730],[11]],
-"x6de61f2a3b061721":[[1242],[3]],
-"xe0cefc53da646b5a":[[3372],[4]],
-"x661e8c16296acad":[[3177,3690],[12,7]],
-"x57329295b57cc0b7":[[1827],[3]],
-"xd5563bffdea69a31":[[2036],[3]],
-"x918a09faa14d3207":[[1187],[4]],
-"xfc3bf6fe58697b92":[[2059],[10]],
-"x5675a9d9836b136a":[[1577],[6]],
-"xb04d438b7987c115":[[137],[3]],
-"xd4751a6652d5552a":[[3164],[3]],
-"x5f4066a12486b6b6":[[601],[8]],
-"x4b9390f2b2a8d777":[[2908],[3]],
-"x97c0177fdc1b1503":[[3],[6]],
-"xf92307a100ad728c":[[82],[4]],
-"x363ead71e773cc78":[[2851],[9]],
-"x3c696f72bc8260f4":[[3567],[3]],
-"xeb4b780839bfcfa7":[[4020],[4]],
-"xface3096a1f4f0c1":[[3742],[7]],
-"xb5da66647eb90144":[[3299],[3]],
-"x92c931b371aaf233":[[594],[16]],
-"x9c1d4b21f16fc899":[[213],[5]],
-"xe426732e38b0c954":[[3963],[3]],
-"x5f5acbadfcf9c5f7":[[323],[4]],
-"x301afa2e4cfa58b":[[3309,4031],[16,6]],
-"xb624cb840989e53b":[[721],[8]],
-"x4c1d02b9b2cd5b44":[[405],[5]],
-"x74c64c5beee386a2":[[1371],[6]],
-"x962db9b4001983e9":[[396],[4]],
-"x4e8bd2d1cfc5dcca":[[3761],[1]],
-"xd4b82b728f0f2426":[[2414],[4]],
-"x44cf8da65fc4733b":[[2463],[12]],
-"x5587c40aa40e48fd":[[1178],[14]],
-"x6b439b9540357c38":[[3104],[6]],
-"xec104f97b500572a":[[405,731,918],[43,29,7]],
-"xf256bc8f32bdfb16":[[2463],[3]]};
-}-*/;
-
-}
@@ -19,10 +19,12 @@ package org.vectomatic.svg.chess;
 
 import org.vectomatic.dom.svg.OMSVGSVGElement;
 import org.vectomatic.dom.svg.utils.OMSVGParser;
+import org.vectomatic.svg.chess.book.CompactBook;
 
 import com.alonsoruibal.chess.Board;
 import com.alonsoruibal.chess.Config;
 import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
 import com.alonsoruibal.chess.search.SearchEngine;
 import com.alonsoruibal.chess.search.SearchObserver;
 import com.alonsoruibal.chess.search.SearchParameters;
@@ -34,6 +36,9 @@ import com.google.gwt.core.client.Scheduler.ScheduledCommand;
 import com.google.gwt.dom.client.StyleInjector;
 import com.google.gwt.event.dom.client.ChangeEvent;
 import com.google.gwt.event.dom.client.ClickEvent;
+import com.google.gwt.resources.client.ResourceCallback;
+import com.google.gwt.resources.client.ResourceException;
+import com.google.gwt.resources.client.TextResource;
 import com.google.gwt.uibinder.client.UiBinder;
 import com.google.gwt.uibinder.client.UiFactory;
 import com.google.gwt.uibinder.client.UiField;
@@ -118,6 +123,10 @@ public class Main implements EntryPoint, SearchObserver {
 	 * The Carballo board
 	 */
 	Board board;
+	/**
+	 * The opening book of the engine
+	 */
+	CompactBook book;
 	/**
 	 * The SVG chess board
 	 */
@@ -205,10 +214,22 @@ public class Main implements EntryPoint, SearchObserver {
 				// Inject CSS in the document headers
 				StyleInjector.inject(Resources.INSTANCE.getCss().getText());
 				
+				// Build the attack tables before the engine needs them, so
+				// that their cost shows in the startup timeline
+				StartupTimeline.mark(StartupTimeline.ATTACKS_START);
+				if ("generate".equals(Window.Location.getParameter("attacks"))) {
+					BitboardAttacks.generateAttacks();
+				}
+				BitboardAttacks.init();
+				StartupTimeline.mark(StartupTimeline.ATTACKS_READY);
+
 				// Create a Carballo chess engine
 				Config config = new Config();
 				config.setTranspositionTableSize(2);
-				config.setBook(new JSONBook());
+				// The book stays empty (no book move) until loadBook fills it
+				book = new CompactBook();
+				book.setTrustVerified(true);
+				config.setBook(book);
 				engine = new SearchEngine(config);
 				engine.setObserver(Main.this);
 				board = engine.getBoard();
@@ -244,10 +265,40 @@ public class Main implements EntryPoint, SearchObserver {
 				moveTimeIndex = 0;
 				restart();
 				initBox.hide();
+				StartupTimeline.mark(StartupTimeline.BOARD_READY);
+				loadBook();
 			}
 		});
 	}
 
+	/**
+	 * Fetches and decodes the opening book once the board is interactive.
+	 * Loading the page with ?book=off skips it
+	 */
+	private void loadBook() {
+		if ("off".equals(Window.Location.getParameter("book"))) {
+			return;
+		}
+		try {
+			Resources.INSTANCE.getBook().getText(new ResourceCallback<TextResource>() {
+				@Override
+				public void onSuccess(TextResource resource) {
+					StartupTimeline.mark(StartupTimeline.BOOK_FETCHED);
+					book.load(resource.getText());
+					StartupTimeline.mark(StartupTimeline.BOOK_READY);
+					GWT.log("Main.loadBook(" + book.size() + " entries)", null);
+				}
+
+				@Override
+				public void onError(ResourceException e) {
+					GWT.log("Main.loadBook()", e);
+				}
+			});
+		} catch (ResourceException e) {
+			GWT.log("Main.loadBook()", e);
+		}
+	}
+
 	/**
 	 * Refresh the non SVG elements of the UI (list of moves, current player, FEN) 
 	 */
@@ -380,6 +431,7 @@ public class Main implements EntryPoint, SearchObserver {
 		chessboard.update(true);
 		lastMoveNumber = 0;
 		historyManager.setMove(0);
+		book.resetOutOfBook();
 		board.startPosition();
 		firstMoveNumber = board.getMoveNumber();
 		chessboard.update(true);
@@ -390,6 +442,7 @@ public class Main implements EntryPoint, SearchObserver {
 	public void updateFen(ClickEvent event) {
 		GWT.log("Main.updateFen(" + fenArea.getText() + ")", null);
 		historyManager.setMove(0);
+		book.resetOutOfBook();
 		board.setFen(fenArea.getText());
 		lastMoveNumber = firstMoveNumber = board.getMoveNumber();
 		chessboard.update(true);
@@ -455,6 +508,7 @@ public class Main implements EntryPoint, SearchObserver {
 
 	private void setMove(int moveNumber) {
 		historyManager.setMove(moveNumber);
+		book.resetOutOfBook();
 		board.undoMove(moveNumber);
 		chessboard.update(true);
 	}
@@ -19,6 +19,7 @@ package org.vectomatic.svg.chess;
 
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.resources.client.ClientBundle;
+import com.google.gwt.resources.client.ExternalTextResource;
 import com.google.gwt.resources.client.ImageResource;
 import com.google.gwt.resources.client.TextResource;
 
@@ -30,5 +31,11 @@ public interface Resources extends ClientBundle {
 	public ChessCss getCss();
 	@Source("macthrob-small.png")
 	public ImageResource getWaitImage();
+	/**
+	 * Opening book, written by BookGen. Kept out of the compiled script and
+	 * fetched once the board is shown
+	 */
+	@Source("book.txt")
+	public ExternalTextResource getBook();
 
 }
@@ -0,0 +1,74 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess;
+
+import com.google.gwt.core.client.Duration;
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Milestones of the application startup, recorded as user timing marks
+ * (performance.mark) so that they show in the timeline of the browser
+ * developer tools, or with performance.getEntriesByType("mark") in the
+ * console. Times are in ms since the start of the page load. Loading
+ * the page with ?book=off skips the opening book, to compare both
+ * timelines. Loading it with ?attacks=generate also runs the runtime
+ * generation of the attack tables which AttackTables replaced, between
+ * the two attack marks.
+ */
+public class StartupTimeline {
+	public static final String ATTACKS_START = "chess-attacks-start";
+	public static final String ATTACKS_READY = "chess-attacks-ready";
+	public static final String BOARD_READY = "chess-board-ready";
+	public static final String BOOK_FETCHED = "chess-book-fetched";
+	public static final String BOOK_READY = "chess-book-ready";
+	private static double start = Duration.currentTimeMillis();
+
+	/**
+	 * Records a milestone
+	 * @return
+	 * the time of the milestone
+	 */
+	public static double mark(String name) {
+		double time = now();
+		addMark(name);
+		GWT.log("StartupTimeline." + name + ": " + Math.round(time) + "ms", null);
+		return time;
+	}
+
+	/**
+	 * Current time since the start of the page load in ms
+	 */
+	public static native double now() /*-{
+		var performance = $wnd.performance;
+		if (performance && performance.now) {
+			return performance.now();
+		}
+		if (performance && performance.timing) {
+			return new Date().getTime() - performance.timing.navigationStart;
+		}
+		// Old browsers: since the module start instead
+		return new Date().getTime() - @org.vectomatic.svg.chess.StartupTimeline::start;
+	}-*/;
+
+	private static native void addMark(String name) /*-{
+		var performance = $wnd.performance;
+		if (performance && performance.mark) {
+			performance.mark(name);
+		}
+	}-*/;
+}
@@ -0,0 +1,139 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.bitboard;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+
+/**
+ * Static exchange evaluation: the material balance of the sequence of
+ * captures on one square, each side recapturing with its least valuable
+ * piece and free to stop when it is behind. Attackers come from
+ * BitboardAttacks.getIndexAttacks and the sliders uncovered by each
+ * capture from getXrayAttacks. Pins and checks are ignored.
+ * <p>
+ * Not thread safe: the swap list is kept in the instance so that
+ * evaluating a capture does not allocate.
+ */
+public class StaticExchange {
+	/**
+	 * Indexed by the piece constants of Move
+	 */
+	public static final int[] PIECE_VALUES = {0, 100, 325, 325, 500, 975, 10000};
+
+	/**
+	 * One entry for the first capture and one per recapture: at most
+	 * 31 pieces can recapture on a square
+	 */
+	private final int[] gain = new int[32];
+
+	/**
+	 * Evaluates a capture (or a quiet move to a possibly attacked square)
+	 */
+	public int see(Board board, int move) {
+		int from = Move.getFromIndex(move);
+		int to = Move.getToIndex(move);
+		if (Move.getMoveType(move) == Move.TYPE_PASSANT) {
+			long captured = board.getTurn() ? (1L << to) >>> 8 : (1L << to) << 8;
+			return see(board, from, to, PIECE_VALUES[Move.PAWN], board.getAll() & ~captured);
+		}
+		return see(board, from, to);
+	}
+
+	/**
+	 * Evaluates the capture of the piece on index to (if any) by the piece on from
+	 */
+	public int see(Board board, int from, int to) {
+		return see(board, from, to, PIECE_VALUES[getPiece(board, 1L << to)], board.getAll());
+	}
+
+	private int see(Board board, int from, int to, int capturedValue, long all) {
+		long fromSquare = 1L << from;
+		boolean white = (board.whites & fromSquare) != 0;
+		int attackerValue = PIECE_VALUES[getPiece(board, fromSquare)];
+
+		all &= ~fromSquare;
+		long attackers = (BitboardAttacks.getIndexAttacks(board, to) | BitboardAttacks.getXrayAttacks(board, to, all)) & all;
+		int depth = 0;
+		gain[0] = capturedValue;
+		while (true) {
+			white = !white;
+			depth++;
+			long sideAttackers = attackers & (white ? board.whites : board.blacks);
+			if (sideAttackers == 0) {
+				break;
+			}
+			// Value if the piece which has just captured is taken back
+			gain[depth] = attackerValue - gain[depth - 1];
+			long attacker = getLeastValuable(board, sideAttackers);
+			attackerValue = PIECE_VALUES[getPiece(board, attacker)];
+			all &= ~attacker;
+			attackers = (attackers | BitboardAttacks.getXrayAttacks(board, to, all)) & all;
+		}
+		// Each side chooses between stopping and recapturing
+		while (--depth > 0) {
+			gain[depth - 1] = -Math.max(-gain[depth - 1], gain[depth]);
+		}
+		return gain[0];
+	}
+
+	/**
+	 * A piece is hanging if the opponent wins material by capturing it
+	 * with its least valuable attacker
+	 */
+	public boolean isHanging(Board board, int index) {
+		long square = 1L << index;
+		long others;
+		if ((board.whites & square) != 0) {
+			others = board.blacks;
+		} else if ((board.blacks & square) != 0) {
+			others = board.whites;
+		} else {
+			return false;
+		}
+		long attackers = BitboardAttacks.getIndexAttacks(board, index) & others;
+		if (attackers == 0) {
+			return false;
+		}
+		return see(board, Long.numberOfTrailingZeros(getLeastValuable(board, attackers)), index) > 0;
+	}
+
+	private static long getLeastValuable(Board board, long attackers) {
+		long pieces;
+		if ((pieces = attackers & board.pawns) != 0
+				|| (pieces = attackers & board.knights) != 0
+				|| (pieces = attackers & board.bishops) != 0
+				|| (pieces = attackers & board.rooks) != 0
+				|| (pieces = attackers & board.queens) != 0) {
+			return pieces & -pieces;
+		}
+		pieces = attackers & board.kings;
+		return pieces & -pieces;
+	}
+
+	private static int getPiece(Board board, long square) {
+		if ((board.pawns & square) != 0) return Move.PAWN;
+		if ((board.knights & square) != 0) return Move.KNIGHT;
+		if ((board.bishops & square) != 0) return Move.BISHOP;
+		if ((board.rooks & square) != 0) return Move.ROOK;
+		if ((board.queens & square) != 0) return Move.QUEEN;
+		if ((board.kings & square) != 0) return Move.KING;
+		return 0;
+	}
+}
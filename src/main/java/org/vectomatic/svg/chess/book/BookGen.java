@@ -0,0 +1,344 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.book;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.vectomatic.svg.chess.util.LongIntMap;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Build time converter for the data of CompactBook. JVM only:
+ * excluded from the GWT module.
+ * <p>
+ * Usage:
+ * <pre>
+ * BookGen &lt;source&gt; &lt;book.txt&gt;           converts a book
+ * BookGen -verify &lt;source&gt; &lt;book.txt&gt;   checks that book.txt matches the source
+ * </pre>
+ * The source is either a polyglot .bin file or a java file holding
+ * the JSNI object literal of the former JSONBook
+ * ("x&lt;hex key&gt;":[[moves],[weights]]).
+ * <p>
+ * The book is walked from the start position with the Carballo board:
+ * the entries found legal get the PolyglotMoves.VERIFIED bit, which
+ * CompactBook can trust instead of checking the move. The entries of
+ * positions which the walk does not reach stay unverified.
+ */
+public class BookGen {
+	private static final Pattern JSON_ENTRY = Pattern.compile("\"x([0-9a-f]+)\":\\[\\[([0-9,]*)\\],\\[([0-9,]*)\\]\\]");
+	private static final int LINE_LENGTH = 76;
+
+	static class Entry {
+		final long key;
+		final int move;
+		final int weight;
+		boolean verified;
+
+		Entry(long key, int move, int weight) {
+			if (move < 0 || move >= PolyglotMoves.VERIFIED || weight < 0 || weight > 0xffff) {
+				throw new IllegalArgumentException("Move or weight out of range: " + move + " " + weight);
+			}
+			this.key = key;
+			this.move = move;
+			this.weight = weight;
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		// No System.exit: the generator may run inside the maven JVM
+		boolean verify = args.length == 3 && "-verify".equals(args[0]);
+		if (args.length != 2 && !verify) {
+			throw new IllegalArgumentException("Usage: BookGen [-verify] <source> <book.txt>");
+		}
+		File source = new File(args[args.length - 2]);
+		File target = new File(args[args.length - 1]);
+		List<Entry> entries = read(source);
+		int verified = verify(entries);
+		String text = encode(entries);
+		if (verify) {
+			if (!text.equals(new String(readFully(new FileInputStream(target)), "UTF-8"))) {
+				throw new IllegalStateException(target + " does not match " + source);
+			}
+			System.out.println(target + " is up to date");
+			return;
+		}
+		Writer writer = new OutputStreamWriter(new FileOutputStream(target), "UTF-8");
+		try {
+			writer.write(text);
+		} finally {
+			writer.close();
+		}
+		System.out.println("Wrote " + entries.size() + " entries (" + (8 + 12 * entries.size()) + " bytes, " + verified + " verified) to " + target);
+	}
+
+	static List<Entry> read(File source) throws IOException {
+		byte[] data = readFully(new FileInputStream(source));
+		return source.getName().endsWith(".bin") ? readPolyglot(data) : readJson(new String(data, "UTF-8"));
+	}
+
+	/**
+	 * Polyglot entries: big-endian key (64 bits), move (16), weight (16), learn (32)
+	 */
+	static List<Entry> readPolyglot(byte[] data) throws IOException {
+		List<Entry> entries = new ArrayList<Entry>();
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(data));
+		try {
+			while (true) {
+				long key = input.readLong();
+				int move = input.readUnsignedShort();
+				int weight = input.readUnsignedShort();
+				input.readInt();
+				entries.add(new Entry(key, move, weight));
+			}
+		} catch (EOFException e) {
+			// End of the book
+		}
+		return entries;
+	}
+
+	static List<Entry> readJson(String text) {
+		List<Entry> entries = new ArrayList<Entry>();
+		Matcher matcher = JSON_ENTRY.matcher(text);
+		while (matcher.find()) {
+			long key = parseHex(matcher.group(1));
+			String[] moves = matcher.group(2).split(",");
+			String[] weights = matcher.group(3).split(",");
+			if (moves.length != weights.length) {
+				throw new IllegalArgumentException("Moves and weights differ in length for x" + matcher.group(1));
+			}
+			for (int i = 0; i < moves.length; i++) {
+				entries.add(new Entry(key, Integer.parseInt(moves[i]), Integer.parseInt(weights[i])));
+			}
+		}
+		if (entries.isEmpty()) {
+			throw new IllegalArgumentException("No book entries found");
+		}
+		return entries;
+	}
+
+	/**
+	 * Unsigned hexadecimal, as written by Long.toHexString
+	 */
+	private static long parseHex(String hex) {
+		long value = 0;
+		for (int i = 0; i < hex.length(); i++) {
+			value = (value << 4) | Character.digit(hex.charAt(i), 16);
+		}
+		return value;
+	}
+
+	/**
+	 * Walks the book from the start position and sets the verified flag
+	 * of the entries which are legal moves
+	 * @return
+	 * the number of verified entries
+	 */
+	static int verify(List<Entry> entries) {
+		Map<Long, List<Entry>> positions = new HashMap<Long, List<Entry>>();
+		for (Entry entry : entries) {
+			List<Entry> moves = positions.get(entry.key);
+			if (moves == null) {
+				moves = new ArrayList<Entry>();
+				positions.put(entry.key, moves);
+			}
+			moves.add(entry);
+		}
+		Board board = new Board();
+		board.startPosition();
+		walk(board, positions, new LongIntMap(Math.max(1, positions.size())));
+		int count = 0;
+		for (Entry entry : entries) {
+			if (entry.verified) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	private static void walk(Board board, Map<Long, List<Entry>> positions, LongIntMap visited) {
+		long key = board.getKey();
+		List<Entry> moves = positions.get(key);
+		if (moves == null || visited.containsKey(key)) {
+			return;
+		}
+		visited.put(key, 1);
+		for (Entry entry : moves) {
+			int move = PolyglotMoves.toMove(board, entry.move);
+			if (move != 0 && board.isMoveLegal(move)) {
+				entry.verified = true;
+				board.doMove(move);
+				walk(board, positions, visited);
+				board.undoMove();
+			}
+		}
+	}
+
+	/**
+	 * Sorts the entries by unsigned key (stable: the moves of a position
+	 * keep their order) and returns the base64 text read by CompactBook
+	 */
+	static String encode(List<Entry> entries) {
+		List<Entry> sorted = sort(entries);
+		int size = sorted.size();
+		byte[] data = new byte[8 + 12 * size];
+		putInt(data, 0, CompactBook.MAGIC);
+		putInt(data, 4, size);
+		for (int i = 0; i < size; i++) {
+			Entry entry = sorted.get(i);
+			putInt(data, 8 + 4 * i, (int) (entry.key >>> 32));
+			putInt(data, 8 + 4 * (size + i), (int) entry.key);
+			putShort(data, 8 + 8 * size + 2 * i, entry.verified ? entry.move | PolyglotMoves.VERIFIED : entry.move);
+			putShort(data, 8 + 10 * size + 2 * i, entry.weight);
+		}
+		return toBase64(data);
+	}
+
+	/**
+	 * Sorts the entries by unsigned key, keeping the order of the moves
+	 * of a position
+	 */
+	static List<Entry> sort(List<Entry> entries) {
+		List<Entry> sorted = new ArrayList<Entry>(entries);
+		Collections.sort(sorted, new Comparator<Entry>() {
+			@Override
+			public int compare(Entry entry1, Entry entry2) {
+				long key1 = entry1.key ^ Long.MIN_VALUE;
+				long key2 = entry2.key ^ Long.MIN_VALUE;
+				return key1 < key2 ? -1 : key1 == key2 ? 0 : 1;
+			}
+		});
+		return sorted;
+	}
+
+	/**
+	 * Returns the entries as a polyglot .bin file (big-endian, learn 0)
+	 */
+	static byte[] toPolyglot(List<Entry> entries) {
+		List<Entry> sorted = sort(entries);
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(16 * sorted.size());
+		DataOutputStream output = new DataOutputStream(bytes);
+		try {
+			for (Entry entry : sorted) {
+				output.writeLong(entry.key);
+				output.writeShort(entry.move);
+				output.writeShort(entry.weight);
+				output.writeInt(0);
+			}
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Returns the entries as the object literal of the former JSONBook,
+	 * which readJson reads back
+	 */
+	static String toJson(List<Entry> entries) {
+		List<Entry> sorted = sort(entries);
+		StringBuilder text = new StringBuilder("{\n");
+		for (int i = 0; i < sorted.size();) {
+			long key = sorted.get(i).key;
+			int end = i;
+			while (end < sorted.size() && sorted.get(end).key == key) {
+				end++;
+			}
+			text.append("\"x").append(Long.toHexString(key)).append("\":[[");
+			for (int j = i; j < end; j++) {
+				text.append(j > i ? "," : "").append(sorted.get(j).move);
+			}
+			text.append("],[");
+			for (int j = i; j < end; j++) {
+				text.append(j > i ? "," : "").append(sorted.get(j).weight);
+			}
+			text.append("]]").append(end < sorted.size() ? ",\n" : "\n");
+			i = end;
+		}
+		return text.append("}\n").toString();
+	}
+
+	private static void putInt(byte[] data, int offset, int value) {
+		putShort(data, offset, value);
+		putShort(data, offset + 2, value >>> 16);
+	}
+
+	/**
+	 * Little-endian, as read by the typed arrays of CompactBook
+	 */
+	private static void putShort(byte[] data, int offset, int value) {
+		data[offset] = (byte) value;
+		data[offset + 1] = (byte) (value >>> 8);
+	}
+
+	private static String toBase64(byte[] data) {
+		StringBuilder text = new StringBuilder();
+		int line = 0;
+		for (int i = 0; i < data.length; i += 3) {
+			int bits = (data[i] & 0xff) << 16;
+			if (i + 1 < data.length) bits |= (data[i + 1] & 0xff) << 8;
+			if (i + 2 < data.length) bits |= data[i + 2] & 0xff;
+			for (int j = 0; j < 4; j++) {
+				text.append(i + j - 1 < data.length ? CompactBook.BASE64.charAt((bits >> (18 - 6 * j)) & 0x3f) : '=');
+			}
+			line += 4;
+			if (line == LINE_LENGTH) {
+				text.append('\n');
+				line = 0;
+			}
+		}
+		if (line != 0) {
+			text.append('\n');
+		}
+		return text.toString();
+	}
+
+	private static byte[] readFully(InputStream input) throws IOException {
+		try {
+			ByteArrayOutputStream output = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int count;
+			while ((count = input.read(buffer)) != -1) {
+				output.write(buffer, 0, count);
+			}
+			return output.toByteArray();
+		} finally {
+			input.close();
+		}
+	}
+}
@@ -0,0 +1,330 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.vectomatic.svg.chess.util.LongIntMap;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.book.Book;
+import com.google.gwt.typedarrays.shared.ArrayBuffer;
+import com.google.gwt.typedarrays.shared.Int32Array;
+import com.google.gwt.typedarrays.shared.TypedArrays;
+import com.google.gwt.typedarrays.shared.Uint16Array;
+import com.google.gwt.typedarrays.shared.Uint8Array;
+
+/**
+ * Polyglot opening book held in typed arrays: one entry per book move,
+ * grouped by position key. The data is the base64 text written by
+ * BookGen:
+ * <pre>
+ * int32    MAGIC
+ * int32    number of entries n
+ * int32[n] high 32 bits of the keys
+ * int32[n] low 32 bits of the keys
+ * uint16[n] polyglot moves, with the PolyglotMoves.VERIFIED bit
+ * uint16[n] weights
+ * </pre>
+ * Little-endian, the byte order of the typed arrays of all the
+ * browsers. Keys are sorted as unsigned 64 bits numbers; the entries
+ * of a key keep the order of the source book.
+ * <p>
+ * Probes go through a LongIntMap built on load, which maps the key, as
+ * a pair of ints, to its first entry: no string formatting and no long
+ * arithmetic beyond splitting the key.
+ * <p>
+ * The moves found by a probe are kept in int arrays reused from one
+ * probe to the next, so that probing does not box or allocate. Not
+ * thread safe.
+ */
+public class CompactBook implements Book {
+	public static final int MAGIC = 0x314b4243;
+	static final String BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+	private static final int[] BASE64_VALUES = new int[128];
+
+	static {
+		for (int i = 0; i < BASE64_VALUES.length; i++) {
+			BASE64_VALUES[i] = -1;
+		}
+		for (int i = 0; i < BASE64.length(); i++) {
+			BASE64_VALUES[BASE64.charAt(i)] = i;
+		}
+	}
+
+	private int size;
+	private Int32Array keyHigh;
+	private Int32Array keyLow;
+	private Uint16Array bookMoves;
+	private Uint16Array bookWeights;
+	private LongIntMap index;
+	private final Random random = new Random();
+
+	/**
+	 * Moves and weights found by the last probe, grown as needed
+	 */
+	private int[] probeMoves = new int[16];
+	private int[] probeWeights = new int[16];
+	private int probeCount;
+	int totalWeight;
+	private boolean trustVerified;
+	/**
+	 * Set by getMove when it finds no move: the game has left the book,
+	 * so the next probes return at once until resetOutOfBook
+	 */
+	private boolean outOfBook;
+
+	/**
+	 * An empty book, to be filled later with load: it returns no move
+	 * until then
+	 */
+	public CompactBook() {
+	}
+
+	/**
+	 * @param data
+	 * the base64 text written by BookGen
+	 */
+	public CompactBook(String data) {
+		load(data);
+	}
+
+	public CompactBook(ArrayBuffer buffer) {
+		load(buffer);
+	}
+
+	/**
+	 * Fills the book with the base64 text written by BookGen. The book
+	 * stays empty on browsers without typed arrays
+	 */
+	public void load(String data) {
+		if (TypedArrays.isSupported()) {
+			load(decode(data));
+		}
+	}
+
+	public void load(ArrayBuffer buffer) {
+		Int32Array header = TypedArrays.createInt32Array(buffer, 0, 2);
+		if (header.get(0) != MAGIC) {
+			throw new IllegalArgumentException("Not a compact book");
+		}
+		size = header.get(1);
+		keyHigh = TypedArrays.createInt32Array(buffer, 8, size);
+		keyLow = TypedArrays.createInt32Array(buffer, 8 + 4 * size, size);
+		bookMoves = TypedArrays.createUint16Array(buffer, 8 + 8 * size, size);
+		bookWeights = TypedArrays.createUint16Array(buffer, 8 + 10 * size, size);
+		buildIndex();
+	}
+
+	public boolean isReady() {
+		return index != null;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Number of moves found by the last call to generateMoves
+	 */
+	public int getMoveCount() {
+		return probeCount;
+	}
+
+	public int getMoveAt(int index) {
+		return probeMoves[index];
+	}
+
+	public int getWeightAt(int index) {
+		return probeWeights[index];
+	}
+
+	/**
+	 * Moves found by the last call to generateMoves, copied in a new list
+	 */
+	public List<Integer> getMoves() {
+		return toList(probeMoves, probeCount);
+	}
+
+	/**
+	 * Weights found by the last call to generateMoves, copied in a new list
+	 */
+	public List<Integer> getWeights() {
+		return toList(probeWeights, probeCount);
+	}
+
+	private static List<Integer> toList(int[] values, int count) {
+		List<Integer> list = new ArrayList<Integer>(count);
+		for (int i = 0; i < count; i++) {
+			list.add(values[i]);
+		}
+		return list;
+	}
+
+	/**
+	 * When set, the entries which BookGen verified are played without
+	 * checking their legality on the board
+	 */
+	public void setTrustVerified(boolean trustVerified) {
+		this.trustVerified = trustVerified;
+	}
+
+	public boolean isTrustVerified() {
+		return trustVerified;
+	}
+
+	public boolean isOutOfBook() {
+		return outOfBook;
+	}
+
+	/**
+	 * Probes the book again: to be called when the game line changes
+	 * (undo, new game, new position)
+	 */
+	public void resetOutOfBook() {
+		outOfBook = false;
+	}
+
+	public void generateMoves(Board board) {
+		totalWeight = 0;
+		probeCount = 0;
+		if (!isReady()) {
+			return;
+		}
+		long key = board.getKey();
+		int high = (int) (key >>> 32);
+		int low = (int) key;
+		for (int i = find(high, low); i < size && keyHigh.get(i) == high && keyLow.get(i) == low; i++) {
+			int weight = bookWeights.get(i);
+			int polyglotMove = bookMoves.get(i);
+			int move = PolyglotMoves.toMove(board, polyglotMove);
+			// Add only if it is legal
+			if (move != 0 && ((trustVerified && (polyglotMove & PolyglotMoves.VERIFIED) != 0) || board.isMoveLegal(move))) {
+				if (probeCount == probeMoves.length) {
+					probeMoves = grow(probeMoves);
+					probeWeights = grow(probeWeights);
+				}
+				probeMoves[probeCount] = move;
+				probeWeights[probeCount++] = weight;
+				totalWeight += weight;
+			}
+		}
+	}
+
+	/**
+	 * Gets a random move from the book taking care of weights
+	 */
+	public int getMove(Board board) {
+		if (!isReady() || outOfBook) {
+			return 0;
+		}
+		generateMoves(board);
+		if (probeCount == 0) {
+			outOfBook = true;
+			return 0;
+		}
+		// int rather than long: GWT emulates long arithmetic with objects
+		int randomWeight = (int) (random.nextDouble() * totalWeight);
+		for (int i = 0; i < probeCount; i++) {
+			randomWeight -= probeWeights[i];
+			if (randomWeight<=0) return probeMoves[i];
+		}
+		return 0;
+	}
+
+	private static int[] grow(int[] values) {
+		int[] grown = new int[values.length * 2];
+		System.arraycopy(values, 0, grown, 0, values.length);
+		return grown;
+	}
+
+	/**
+	 * Maps each key to its first entry. The capacity covers all the
+	 * keys, so nothing is evicted
+	 */
+	private void buildIndex() {
+		index = new LongIntMap(Math.max(1, size));
+		for (int i = 0; i < size; i++) {
+			int high = keyHigh.get(i);
+			int low = keyLow.get(i);
+			if (i == 0 || keyHigh.get(i - 1) != high || keyLow.get(i - 1) != low) {
+				index.put(high, low, i);
+			}
+		}
+	}
+
+	/**
+	 * Index of the first entry of the key high:low, size if there is none
+	 */
+	private int find(int high, int low) {
+		return index.get(high, low, size);
+	}
+
+	/**
+	 * True if the book has moves for the position key (legal or not)
+	 */
+	public boolean contains(long key) {
+		return isReady() && find((int) (key >>> 32), (int) key) < size;
+	}
+
+	/**
+	 * Decodes base64 text, ignoring line breaks
+	 */
+	static ArrayBuffer decode(String data) {
+		int length = 0;
+		int padding = 0;
+		for (int i = 0, n = data.length(); i < n; i++) {
+			char c = data.charAt(i);
+			if (c == '=') {
+				padding++;
+			} else if (c != '\n' && c != '\r') {
+				length++;
+			}
+		}
+		int byteLength = (length + padding) / 4 * 3 - padding;
+		ArrayBuffer buffer = TypedArrays.createArrayBuffer(byteLength);
+		Uint8Array bytes = TypedArrays.createUint8Array(buffer);
+		int bits = 0;
+		int count = 0;
+		int index = 0;
+		for (int i = 0, n = data.length(); i < n && index < byteLength; i++) {
+			char c = data.charAt(i);
+			int value = c < 128 ? BASE64_VALUES[c] : -1;
+			if (value < 0) {
+				continue;
+			}
+			bits = (bits << 6) | value;
+			if (++count == 4) {
+				bytes.set(index++, bits >> 16);
+				if (index < byteLength) bytes.set(index++, (bits >> 8) & 0xff);
+				if (index < byteLength) bytes.set(index++, bits & 0xff);
+				bits = 0;
+				count = 0;
+			}
+		}
+		if (count > 0) {
+			// Last group, completed by the padding
+			bits <<= 6 * (4 - count);
+			bytes.set(index++, bits >> 16);
+			if (index < byteLength) bytes.set(index, (bits >> 8) & 0xff);
+		}
+		return buffer;
+	}
+}
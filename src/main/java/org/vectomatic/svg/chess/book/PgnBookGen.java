@@ -0,0 +1,398 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.book;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import com.alonsoruibal.chess.Board;
+
+/**
+ * Build time opening book compiler: replays the games of a PGN file on
+ * Carballo boards and counts how often each move is played in each
+ * position. JVM only: excluded from the GWT module.
+ * <p>
+ * Usage:
+ * <pre>
+ * PgnBookGen [options] &lt;games.pgn&gt; &lt;output&gt;
+ *   -depth n     plies counted per game (default 30)
+ *   -min n       moves played less than n times are dropped (default 2)
+ *   -threads n   replay threads (default: one per core)
+ *   -format f    compact: book.txt, read by CompactBook (default)
+ *                polyglot: a polyglot .bin file
+ *                json: the object literal of the former JSONBook
+ * </pre>
+ * The file is streamed by the main thread, which hands batches of
+ * games to the replay threads. Each thread counts in its own table,
+ * the tables are merged at the end. Weights are the counts, scaled
+ * down if needed to fit in 16 bits; the moves of a position are
+ * written most played first.
+ */
+public class PgnBookGen {
+	private static final int BATCH_SIZE = 256;
+	/**
+	 * Tells a replay thread that there are no more games
+	 */
+	private static final List<String> END = new ArrayList<String>();
+
+	private int depth = 30;
+	private int minCount = 2;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private String format = "compact";
+
+	public static void main(String[] args) throws IOException, InterruptedException {
+		// No System.exit: the generator may run inside the maven JVM
+		PgnBookGen generator = new PgnBookGen();
+		int i = 0;
+		for (; i < args.length - 2 && args[i].startsWith("-"); i += 2) {
+			String value = args[i + 1];
+			if ("-depth".equals(args[i])) {
+				generator.depth = Integer.parseInt(value);
+			} else if ("-min".equals(args[i])) {
+				generator.minCount = Integer.parseInt(value);
+			} else if ("-threads".equals(args[i])) {
+				generator.threads = Integer.parseInt(value);
+			} else if ("-format".equals(args[i])) {
+				generator.format = value;
+			} else {
+				throw new IllegalArgumentException("Unknown option " + args[i]);
+			}
+		}
+		if (args.length - i != 2 || !("compact".equals(generator.format) || "polyglot".equals(generator.format) || "json".equals(generator.format))) {
+			throw new IllegalArgumentException("Usage: PgnBookGen [-depth n] [-min n] [-threads n] [-format compact|polyglot|json] <games.pgn> <output>");
+		}
+		generator.run(new File(args[i]), new File(args[i + 1]));
+	}
+
+	private void run(File source, File target) throws IOException, InterruptedException {
+		long start = System.nanoTime();
+		BlockingQueue<List<String>> queue = new ArrayBlockingQueue<List<String>>(4 * threads);
+		Replay[] replays = new Replay[threads];
+		for (int i = 0; i < threads; i++) {
+			replays[i] = new Replay(queue, depth);
+			replays[i].start();
+		}
+		try {
+			readGames(source, queue);
+		} finally {
+			for (int i = 0; i < threads; i++) {
+				queue.put(END);
+			}
+		}
+		int games = 0;
+		int skipped = 0;
+		MoveCounts counts = new MoveCounts();
+		for (Replay replay : replays) {
+			replay.join();
+			if (replay.error != null) {
+				throw new IllegalStateException("Replay failed", replay.error);
+			}
+			games += replay.games;
+			skipped += replay.skipped;
+			counts.addAll(replay.counts);
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.println("Replayed " + games + " games (" + skipped + " with an unreadable move) in "
+			+ Math.round(seconds * 10) / 10.0 + " s: " + Math.round(games / seconds) + " games/s on " + threads + " threads");
+
+		List<BookGen.Entry> entries = counts.toEntries(minCount);
+		byte[] data;
+		if ("polyglot".equals(format)) {
+			data = BookGen.toPolyglot(entries);
+		} else if ("json".equals(format)) {
+			data = BookGen.toJson(entries).getBytes("UTF-8");
+		} else {
+			int verified = BookGen.verify(entries);
+			System.out.println(verified + " entries verified from the start position");
+			data = BookGen.encode(entries).getBytes("UTF-8");
+		}
+		OutputStream output = new FileOutputStream(target);
+		try {
+			output.write(data);
+		} finally {
+			output.close();
+		}
+		System.out.println("Wrote " + entries.size() + " entries (" + counts.size() + " before pruning) to " + target);
+	}
+
+	/**
+	 * Splits the file into games: a game ends where the tags of the
+	 * next one start
+	 */
+	private static void readGames(File source, BlockingQueue<List<String>> queue) throws IOException, InterruptedException {
+		// Moves are ASCII, this never fails on the other characters
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(source), "ISO-8859-1"));
+		try {
+			List<String> batch = new ArrayList<String>(BATCH_SIZE);
+			StringBuilder game = new StringBuilder();
+			boolean inMoves = false;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				boolean tag = line.startsWith("[");
+				if (tag && inMoves) {
+					batch.add(game.toString());
+					game.setLength(0);
+					inMoves = false;
+					if (batch.size() == BATCH_SIZE) {
+						queue.put(batch);
+						batch = new ArrayList<String>(BATCH_SIZE);
+					}
+				}
+				inMoves |= !tag && line.trim().length() > 0;
+				game.append(line).append('\n');
+			}
+			if (inMoves) {
+				batch.add(game.toString());
+			}
+			if (!batch.isEmpty()) {
+				queue.put(batch);
+			}
+		} finally {
+			reader.close();
+		}
+	}
+
+	/**
+	 * Replays games taken from the queue until END
+	 */
+	private static class Replay extends Thread {
+		private final BlockingQueue<List<String>> queue;
+		private final int depth;
+		private final Board board = new Board();
+		private final SanMoves sanMoves = new SanMoves();
+		private final List<String> tokens = new ArrayList<String>();
+		final MoveCounts counts = new MoveCounts();
+		int games;
+		int skipped;
+		Throwable error;
+
+		Replay(BlockingQueue<List<String>> queue, int depth) {
+			this.queue = queue;
+			this.depth = depth;
+		}
+
+		@Override
+		public void run() {
+			try {
+				List<String> batch;
+				while ((batch = queue.take()) != END) {
+					for (String game : batch) {
+						replay(game);
+					}
+				}
+			} catch (Throwable e) {
+				error = e;
+				// Keep draining, the reader must not block on a full queue
+				try {
+					while (queue.take() != END) {
+					}
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void replay(String game) {
+			String fen = parse(game);
+			if (fen != null) {
+				board.setFen(fen);
+			} else {
+				board.startPosition();
+			}
+			games++;
+			for (int ply = 0; ply < depth && ply < tokens.size(); ply++) {
+				int move = sanMoves.getMove(board, tokens.get(ply));
+				if (move == 0) {
+					skipped++;
+					return;
+				}
+				counts.add(board.getKey(), PolyglotMoves.fromMove(move), 1);
+				board.doMove(move);
+			}
+		}
+
+		/**
+		 * Fills tokens with the moves of the main line, without the
+		 * comments, variations, annotations, move numbers and result
+		 * @return
+		 * the FEN tag, null if there is none
+		 */
+		private String parse(String game) {
+			tokens.clear();
+			String fen = null;
+			int comment = 0;
+			int variation = 0;
+			int length = game.length();
+			int i = 0;
+			while (i < length) {
+				char c = game.charAt(i);
+				if (comment == 0 && variation == 0 && c == '[' && (i == 0 || game.charAt(i - 1) == '\n')) {
+					int end = game.indexOf('\n', i);
+					end = end < 0 ? length : end;
+					String tag = game.substring(i, end);
+					if (tag.startsWith("[FEN ")) {
+						fen = tag.substring(tag.indexOf('"') + 1, tag.lastIndexOf('"'));
+					}
+					i = end;
+				} else if (c == '{') {
+					comment++;
+					i++;
+				} else if (c == '}') {
+					comment--;
+					i++;
+				} else if (comment > 0) {
+					i++;
+				} else if (c == ';') {
+					int end = game.indexOf('\n', i);
+					i = end < 0 ? length : end;
+				} else if (c == '(') {
+					variation++;
+					i++;
+				} else if (c == ')') {
+					variation--;
+					i++;
+				} else if (Character.isWhitespace(c)) {
+					i++;
+				} else {
+					int end = i;
+					while (end < length && " \t\r\n{}();".indexOf(game.charAt(end)) < 0) {
+						end++;
+					}
+					if (variation == 0) {
+						addToken(game.substring(i, end));
+					}
+					i = end;
+				}
+			}
+			return fen;
+		}
+
+		private void addToken(String token) {
+			// Move numbers, possibly glued to the move (12.e4, 12...Nf6)
+			int start = 0;
+			while (start < token.length() && Character.isDigit(token.charAt(start))) {
+				start++;
+			}
+			if (start < token.length() && token.charAt(start) == '.') {
+				while (start < token.length() && token.charAt(start) == '.') {
+					start++;
+				}
+				token = token.substring(start);
+			}
+			if (token.length() == 0 || token.charAt(0) == '$'
+					|| "1-0".equals(token) || "0-1".equals(token) || "1/2-1/2".equals(token) || "*".equals(token)) {
+				return;
+			}
+			tokens.add(token);
+		}
+	}
+
+	/**
+	 * Open addressing table counting (position key, polyglot move)
+	 * pairs, with primitive arrays and linear probing
+	 */
+	static class MoveCounts {
+		private long[] keys = new long[1024];
+		private int[] moves = new int[1024];
+		private int[] counts = new int[1024];
+		private int size;
+
+		void add(long key, int move, int count) {
+			int mask = keys.length - 1;
+			// Zobrist keys are random: their low bits are a good hash
+			int slot = ((int) key ^ move * 0x9e3779b1) & mask;
+			while (counts[slot] != 0) {
+				if (keys[slot] == key && moves[slot] == move) {
+					counts[slot] += count;
+					return;
+				}
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = key;
+			moves[slot] = move;
+			counts[slot] = count;
+			if (++size * 2 > keys.length) {
+				grow();
+			}
+		}
+
+		void addAll(MoveCounts other) {
+			for (int i = 0; i < other.keys.length; i++) {
+				if (other.counts[i] != 0) {
+					add(other.keys[i], other.moves[i], other.counts[i]);
+				}
+			}
+		}
+
+		int size() {
+			return size;
+		}
+
+		private void grow() {
+			long[] oldKeys = keys;
+			int[] oldMoves = moves;
+			int[] oldCounts = counts;
+			keys = new long[2 * oldKeys.length];
+			moves = new int[keys.length];
+			counts = new int[keys.length];
+			size = 0;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldCounts[i] != 0) {
+					add(oldKeys[i], oldMoves[i], oldCounts[i]);
+				}
+			}
+		}
+
+		/**
+		 * The pairs counted at least minCount times, the counts scaled
+		 * to 16 bits weights
+		 */
+		List<BookGen.Entry> toEntries(int minCount) {
+			int maxCount = 0;
+			for (int i = 0; i < counts.length; i++) {
+				maxCount = Math.max(maxCount, counts[i]);
+			}
+			double scale = maxCount > 0xffff ? (double) 0xffff / maxCount : 1;
+			List<BookGen.Entry> entries = new ArrayList<BookGen.Entry>();
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] != 0 && counts[i] >= minCount) {
+					entries.add(new BookGen.Entry(keys[i], moves[i], Math.max(1, (int) (counts[i] * scale))));
+				}
+			}
+			// Most played first, as in the usual polyglot books
+			Collections.sort(entries, new Comparator<BookGen.Entry>() {
+				@Override
+				public int compare(BookGen.Entry entry1, BookGen.Entry entry2) {
+					return entry1.weight != entry2.weight ? entry2.weight - entry1.weight : entry1.move - entry2.move;
+				}
+			});
+			return entries;
+		}
+	}
+}
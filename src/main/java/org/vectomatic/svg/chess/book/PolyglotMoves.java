@@ -0,0 +1,132 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.book;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+
+/**
+ * Converts polyglot book moves to Carballo moves with the bitboards of
+ * the position: no move generation and no strings. Polyglot squares
+ * count the files from a and the ranks from 1, Carballo indexes go from
+ * h1 (0) to a8 (63). Polyglot writes castling as the king taking its
+ * own rook.
+ */
+public class PolyglotMoves {
+	/**
+	 * Set by BookGen on the entries it found legal when walking the book
+	 * from the start position. Polyglot moves only use 15 bits
+	 */
+	public static final int VERIFIED = 0x8000;
+
+	/**
+	 * Indexed by the polyglot promotion piece (none, knight, bishop, rook, queen)
+	 */
+	private static final int[] PROMOTIONS = {
+		0, Move.TYPE_PROMOTION_KNIGHT, Move.TYPE_PROMOTION_BISHOP, Move.TYPE_PROMOTION_ROOK, Move.TYPE_PROMOTION_QUEEN
+	};
+
+	public static int getFromIndex(int move) {
+		return toIndex(move >> 6);
+	}
+
+	public static int getToIndex(int move) {
+		return toIndex(move);
+	}
+
+	private static int toIndex(int square) {
+		return ((square >> 3) & 0x7) * 8 + 7 - (square & 0x7);
+	}
+
+	/**
+	 * Returns the Carballo move, or 0 if the from square does not hold a
+	 * piece of the side to move or the to square does. This is not a
+	 * legality check.
+	 */
+	public static int toMove(Board board, int move) {
+		int fromIndex = getFromIndex(move);
+		int toIndex = getToIndex(move);
+		long from = 1L << fromIndex;
+		long to = 1L << toIndex;
+		long mines = board.getMines();
+		if ((from & mines) == 0) {
+			return 0;
+		}
+		int piece = getPiece(board, from);
+		if (piece == Move.KING) {
+			if ((to & board.rooks & mines) != 0 || toIndex - fromIndex == 2 || fromIndex - toIndex == 2) {
+				// Both the polyglot (e1h1) and the UCI (e1g1) castling
+				return toIndex < fromIndex
+					? Move.genMove(fromIndex, fromIndex - 2, Move.KING, false, Move.TYPE_KINGSIDE_CASTLING)
+					: Move.genMove(fromIndex, fromIndex + 2, Move.KING, false, Move.TYPE_QUEENSIDE_CASTLING);
+			}
+		}
+		if ((to & mines) != 0) {
+			return 0;
+		}
+		boolean capture = (to & board.getOthers()) != 0;
+		int moveType = 0;
+		if (piece == Move.PAWN) {
+			int promotion = (move >> 12) & 0x7;
+			if (promotion >= PROMOTIONS.length) {
+				return 0;
+			}
+			moveType = PROMOTIONS[promotion];
+			if (to == board.getPassantSquare()) {
+				capture = true;
+				moveType = Move.TYPE_PASSANT;
+			}
+		}
+		return Move.genMove(fromIndex, toIndex, piece, capture, moveType);
+	}
+
+	/**
+	 * Converts a Carballo move to a polyglot move, castling as the king
+	 * taking its own rook
+	 */
+	public static int fromMove(int move) {
+		int fromIndex = Move.getFromIndex(move);
+		int toIndex = Move.getToIndex(move);
+		int moveType = Move.getMoveType(move);
+		if (moveType == Move.TYPE_KINGSIDE_CASTLING) {
+			toIndex = fromIndex - 3;
+		} else if (moveType == Move.TYPE_QUEENSIDE_CASTLING) {
+			toIndex = fromIndex + 4;
+		}
+		int promotion = 0;
+		for (int i = 1; i < PROMOTIONS.length; i++) {
+			if (PROMOTIONS[i] == moveType) {
+				promotion = i;
+			}
+		}
+		return toSquare(toIndex) | toSquare(fromIndex) << 6 | promotion << 12;
+	}
+
+	private static int toSquare(int index) {
+		return (index >> 3) << 3 | (7 - (index & 0x7));
+	}
+
+	private static int getPiece(Board board, long square) {
+		if ((board.pawns & square) != 0) return Move.PAWN;
+		if ((board.knights & square) != 0) return Move.KNIGHT;
+		if ((board.bishops & square) != 0) return Move.BISHOP;
+		if ((board.rooks & square) != 0) return Move.ROOK;
+		if ((board.queens & square) != 0) return Move.QUEEN;
+		return Move.KING;
+	}
+}
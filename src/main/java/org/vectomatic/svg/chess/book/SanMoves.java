@@ -0,0 +1,134 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.book;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.movegen.LegalMoveGenerator;
+import com.alonsoruibal.chess.movegen.MoveGenerator;
+
+/**
+ * Resolves moves in standard algebraic notation (Nbd7, exd6, e8=Q+,
+ * O-O...) against the legal moves of a position. Check and annotation
+ * suffixes are ignored; promotions may omit the '='.
+ * <p>
+ * Not thread safe: the move list is kept in the instance.
+ */
+public class SanMoves {
+	private static final String PIECES = " PNBRQK";
+
+	private final MoveGenerator generator = new LegalMoveGenerator();
+	private final int[] moves = new int[256];
+
+	/**
+	 * Returns the Carballo move, or 0 if the text is not a legal move of
+	 * the position or matches several of them
+	 */
+	public int getMove(Board board, String san) {
+		int end = san.length();
+		while (end > 0 && "+#!?".indexOf(san.charAt(end - 1)) >= 0) {
+			end--;
+		}
+		String text = san.substring(0, end);
+		if ("O-O".equals(text) || "0-0".equals(text)) {
+			return findCastling(board, Move.TYPE_KINGSIDE_CASTLING);
+		}
+		if ("O-O-O".equals(text) || "0-0-0".equals(text)) {
+			return findCastling(board, Move.TYPE_QUEENSIDE_CASTLING);
+		}
+
+		int promotion = 0;
+		if (end > 0 && "NBRQ".indexOf(text.charAt(end - 1)) >= 0) {
+			promotion = getPromotion(text.charAt(end - 1));
+			end--;
+			if (end > 0 && text.charAt(end - 1) == '=') {
+				end--;
+			}
+		}
+		if (end < 2) {
+			return 0;
+		}
+		int toFile = text.charAt(end - 2) - 'a';
+		int toRank = text.charAt(end - 1) - '1';
+		if (toFile < 0 || toFile > 7 || toRank < 0 || toRank > 7) {
+			return 0;
+		}
+		int piece = Move.PAWN;
+		int start = 0;
+		if (text.length() > 0 && PIECES.indexOf(text.charAt(0)) > 1) {
+			piece = PIECES.indexOf(text.charAt(0));
+			start = 1;
+		}
+		// Disambiguation: from file and/or rank, 'x' for captures
+		int fromFile = -1;
+		int fromRank = -1;
+		for (int i = start; i < end - 2; i++) {
+			char c = text.charAt(i);
+			if (c >= 'a' && c <= 'h') {
+				fromFile = c - 'a';
+			} else if (c >= '1' && c <= '8') {
+				fromRank = c - '1';
+			} else if (c != 'x' && c != '-') {
+				return 0;
+			}
+		}
+
+		int toIndex = toRank * 8 + 7 - toFile;
+		int found = 0;
+		int count = generator.generateMoves(board, moves, 0);
+		for (int i = 0; i < count; i++) {
+			int move = moves[i];
+			int fromIndex = Move.getFromIndex(move);
+			if (Move.getToIndex(move) == toIndex
+					&& Move.getPieceMoved(move) == piece
+					&& getPromotion(move) == promotion
+					&& (fromFile < 0 || 7 - (fromIndex & 0x7) == fromFile)
+					&& (fromRank < 0 || fromIndex >> 3 == fromRank)) {
+				if (found != 0) {
+					return 0;
+				}
+				found = move;
+			}
+		}
+		return found;
+	}
+
+	private int findCastling(Board board, int moveType) {
+		int count = generator.generateMoves(board, moves, 0);
+		for (int i = 0; i < count; i++) {
+			if (Move.getMoveType(moves[i]) == moveType) {
+				return moves[i];
+			}
+		}
+		return 0;
+	}
+
+	private static int getPromotion(char piece) {
+		switch (piece) {
+			case 'N': return Move.TYPE_PROMOTION_KNIGHT;
+			case 'B': return Move.TYPE_PROMOTION_BISHOP;
+			case 'R': return Move.TYPE_PROMOTION_ROOK;
+			default: return Move.TYPE_PROMOTION_QUEEN;
+		}
+	}
+
+	private static int getPromotion(int move) {
+		int moveType = Move.getMoveType(move);
+		return moveType >= Move.TYPE_PROMOTION_QUEEN ? moveType : 0;
+	}
+}
@@ -0,0 +1,215 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.movegen;
+
+import com.alonsoruibal.chess.Board;
+import com.alonsoruibal.chess.Move;
+import com.alonsoruibal.chess.bitboard.BitboardAttacks;
+import com.alonsoruibal.chess.movegen.MoveGenerator;
+
+/**
+ * Legal move generator which never plays the moves: the checkers,
+ * the pinned pieces and the squares attacked by the opponent are
+ * computed once per position, then each piece is restricted to its
+ * evasion mask and pin ray. Generates the same moves as
+ * LegalMoveGenerator, including on edited positions where the side
+ * to move has no king: then there is no check or pin to respect.
+ * <p>
+ * Not used by ChessBoard and SanMoves yet: they keep LegalMoveGenerator
+ * until the bench Perft -compare has run against the Carballo one.
+ */
+public class PinLegalMoveGenerator implements MoveGenerator {
+	private static final long WHITE_KINGSIDE_EMPTY = 0x06L;
+	private static final long WHITE_QUEENSIDE_EMPTY = 0x70L;
+	private static final int[] PROMOTIONS = {
+		Move.TYPE_PROMOTION_QUEEN, Move.TYPE_PROMOTION_KNIGHT, Move.TYPE_PROMOTION_BISHOP, Move.TYPE_PROMOTION_ROOK
+	};
+
+	public int generateMoves(Board board, int[] moves, int index) {
+		boolean white = board.getTurn();
+		long mines = white ? board.whites : board.blacks;
+		long others = white ? board.blacks : board.whites;
+		long all = mines | others;
+		long kingSquare = board.kings & mines;
+		// -1 on edited positions without king: no checkers and no pins then
+		int kingIndex = kingSquare != 0 ? Long.numberOfTrailingZeros(kingSquare) : -1;
+
+		long checkers = BitboardAttacks.getCheckers(board, white);
+
+		if (kingIndex >= 0) {
+			// The king must not be part of the occupancy, or it would hide
+			// the squares behind it from the sliders which attack it
+			long danger = getAttacked(board, others, all & ~kingSquare, !white);
+			index = addMoves(moves, index, kingIndex, BitboardAttacks.getKingAttacks(kingIndex) & ~mines & ~danger, Move.KING, others);
+		}
+		if (checkers != 0 && (checkers & (checkers - 1)) != 0) {
+			// Double check: only the king can move
+			return index;
+		}
+
+		long target = BitboardAttacks.getEvasionMask(kingIndex, checkers) & ~mines;
+		long pinned = BitboardAttacks.getPinned(board, white);
+
+		long pieces = board.knights & mines & ~pinned;
+		while (pieces != 0) {
+			int from = Long.numberOfTrailingZeros(pieces);
+			index = addMoves(moves, index, from, BitboardAttacks.getKnightAttacks(from) & target, Move.KNIGHT, others);
+			pieces &= pieces - 1;
+		}
+		pieces = (board.bishops | board.rooks | board.queens) & mines;
+		while (pieces != 0) {
+			int from = Long.numberOfTrailingZeros(pieces);
+			long square = pieces & -pieces;
+			long attacks = 0;
+			int pieceMoved;
+			if ((square & board.bishops) != 0) {
+				attacks = BitboardAttacks.getBishopAttacks(from, all);
+				pieceMoved = Move.BISHOP;
+			} else if ((square & board.rooks) != 0) {
+				attacks = BitboardAttacks.getRookAttacks(from, all);
+				pieceMoved = Move.ROOK;
+			} else {
+				attacks = BitboardAttacks.getRookAttacks(from, all) | BitboardAttacks.getBishopAttacks(from, all);
+				pieceMoved = Move.QUEEN;
+			}
+			attacks &= target;
+			if ((square & pinned) != 0) {
+				attacks &= BitboardAttacks.getPinRay(kingIndex, from);
+			}
+			index = addMoves(moves, index, from, attacks, pieceMoved, others);
+			pieces &= pieces - 1;
+		}
+
+		index = addPawnMoves(board, moves, index, white, kingIndex, target, pinned, checkers);
+
+		if (checkers == 0 && kingIndex >= 0) {
+			index = addCastling(board, moves, index, white, kingIndex, all);
+		}
+		return index;
+	}
+
+	private int addMoves(int[] moves, int index, int from, long destinations, int pieceMoved, long others) {
+		while (destinations != 0) {
+			long to = destinations & -destinations;
+			moves[index++] = Move.genMove(from, Long.numberOfTrailingZeros(to), pieceMoved, (to & others) != 0, 0);
+			destinations &= destinations - 1;
+		}
+		return index;
+	}
+
+	private int addPawnMoves(Board board, int[] moves, int index, boolean white, int kingIndex, long target, long pinned, long checkers) {
+		long mines = white ? board.whites : board.blacks;
+		long others = white ? board.blacks : board.whites;
+		long all = mines | others;
+		long passant = board.getPassantSquare();
+		long pieces = board.pawns & mines;
+		while (pieces != 0) {
+			int from = Long.numberOfTrailingZeros(pieces);
+			long square = pieces & -pieces;
+			long pushes;
+			long captures;
+			if (white) {
+				pushes = (square << 8) & ~all;
+				if ((square & 0xff00L) != 0) {
+					pushes |= (pushes << 8) & ~all;
+				}
+				captures = BitboardAttacks.getPawnAttacks(from, true);
+			} else {
+				pushes = (square >>> 8) & ~all;
+				if ((square & 0x00ff000000000000L) != 0) {
+					pushes |= (pushes >>> 8) & ~all;
+				}
+				captures = BitboardAttacks.getPawnAttacks(from, false);
+			}
+			long pinRay = (square & pinned) != 0 ? BitboardAttacks.getPinRay(kingIndex, from) : -1L;
+			long destinations = (pushes | (captures & others)) & target & pinRay;
+			while (destinations != 0) {
+				long toSquare = destinations & -destinations;
+				int to = Long.numberOfTrailingZeros(toSquare);
+				boolean capture = (toSquare & others) != 0;
+				if (to >= 56 || to <= 7) {
+					for (int i = 0; i < PROMOTIONS.length; i++) {
+						moves[index++] = Move.genMove(from, to, Move.PAWN, capture, PROMOTIONS[i]);
+					}
+				} else {
+					moves[index++] = Move.genMove(from, to, Move.PAWN, capture, 0);
+				}
+				destinations &= destinations - 1;
+			}
+			if ((captures & passant) != 0 && isPassantLegal(board, white, kingIndex, square, passant, checkers)) {
+				moves[index++] = Move.genMove(from, Long.numberOfTrailingZeros(passant), Move.PAWN, true, Move.TYPE_PASSANT);
+			}
+			pieces &= pieces - 1;
+		}
+		return index;
+	}
+
+	/**
+	 * En passant removes two pieces from the same rank, which the pin
+	 * masks do not cover: replay the capture on the occupancy and look
+	 * for sliders hitting the king
+	 */
+	private boolean isPassantLegal(Board board, boolean white, int kingIndex, long from, long passant, long checkers) {
+		if (kingIndex < 0) {
+			return true;
+		}
+		long captured = white ? passant >>> 8 : passant << 8;
+		long others = (white ? board.blacks : board.whites) & ~captured;
+		// A checking knight or pawn other than the captured one stays there
+		if ((checkers & ~captured & (board.knights | board.pawns)) != 0) {
+			return false;
+		}
+		long all = (board.getAll() & ~from & ~captured) | passant;
+		if ((BitboardAttacks.getRookAttacks(kingIndex, all) & (board.rooks | board.queens) & others) != 0) {
+			return false;
+		}
+		return (BitboardAttacks.getBishopAttacks(kingIndex, all) & (board.bishops | board.queens) & others) == 0;
+	}
+
+	private int addCastling(Board board, int[] moves, int index, boolean white, int kingIndex, long all) {
+		int shift = white ? 0 : 56;
+		boolean kingside = white ? board.getWhiteKingsideCastling() : board.getBlackKingsideCastling();
+		boolean queenside = white ? board.getWhiteQueensideCastling() : board.getBlackQueensideCastling();
+		kingside &= (all & (WHITE_KINGSIDE_EMPTY << shift)) == 0;
+		queenside &= (all & (WHITE_QUEENSIDE_EMPTY << shift)) == 0;
+		if (!kingside && !queenside) {
+			return index;
+		}
+		// Here the king stays on the board: it blocks the rays along its rank
+		long others = white ? board.blacks : board.whites;
+		long attacked = getAttacked(board, others, all, !white);
+		if (kingside && (attacked & (WHITE_KINGSIDE_EMPTY << shift)) == 0) {
+			moves[index++] = Move.genMove(kingIndex, kingIndex - 2, Move.KING, false, Move.TYPE_KINGSIDE_CASTLING);
+		}
+		if (queenside && (attacked & (0x30L << shift)) == 0) {
+			moves[index++] = Move.genMove(kingIndex, kingIndex + 2, Move.KING, false, Move.TYPE_QUEENSIDE_CASTLING);
+		}
+		return index;
+	}
+
+	/**
+	 * Squares attacked by the given pieces on an arbitrary occupancy
+	 */
+	private static long getAttacked(Board board, long pieces, long all, boolean white) {
+		return BitboardAttacks.getPawnSetAttacks(board.pawns & pieces, white)
+			| BitboardAttacks.getKnightSetAttacks(board.knights & pieces)
+			| BitboardAttacks.getKingSetAttacks(board.kings & pieces)
+			| BitboardAttacks.getRookSetAttacks((board.rooks | board.queens) & pieces, all)
+			| BitboardAttacks.getBishopSetAttacks((board.bishops | board.queens) & pieces, all);
+	}
+}
@@ -0,0 +1,72 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.util;
+
+/**
+ * Map from long keys (typically zobrist keys) to int values, without
+ * boxing and with a bounded capacity: see LongKeyTable.
+ */
+public class LongIntMap extends LongKeyTable {
+	private final int[] values;
+
+	/**
+	 * @param capacity
+	 * number of keys kept: beyond, the keys not used recently are evicted
+	 */
+	public LongIntMap(int capacity) {
+		super(capacity);
+		values = new int[capacity];
+	}
+
+	/**
+	 * Returns the value of the key, or defaultValue if it is not in the map
+	 */
+	public int get(long key, int defaultValue) {
+		return get((int) (key >>> 32), (int) key, defaultValue);
+	}
+
+	public int get(int high, int low, int defaultValue) {
+		int entry = find(high, low);
+		return entry < 0 ? defaultValue : values[entry];
+	}
+
+	public boolean containsKey(long key) {
+		return find((int) (key >>> 32), (int) key) >= 0;
+	}
+
+	public void put(long key, int value) {
+		put((int) (key >>> 32), (int) key, value);
+	}
+
+	public void put(int high, int low, int value) {
+		values[insert(high, low)] = value;
+	}
+
+	/**
+	 * @return
+	 * true if the key was in the map
+	 */
+	public boolean remove(long key) {
+		return remove((int) (key >>> 32), (int) key);
+	}
+
+	@Override
+	void moveValue(int from, int to) {
+		values[to] = values[from];
+	}
+}
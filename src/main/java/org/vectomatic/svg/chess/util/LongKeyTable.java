@@ -0,0 +1,213 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.util;
+
+/**
+ * Open addressing table of 64 bits keys, the base of LongIntMap and
+ * LongLongMap. Keys are stored as high and low int halves, so that GWT
+ * keeps plain numbers in the arrays instead of emulated longs; the
+ * int overloads of the subclasses let JavaScript callers which already
+ * hold the halves skip the long arithmetic.
+ * <p>
+ * The keys and values live in dense arrays of capacity entries. The
+ * hash table holds entry numbers and is probed linearly; it is four
+ * times as large, as the probes (and their mispredicted branches) are
+ * what an insertion which evicts costs.
+ * When the table is full, inserting a key evicts another one chosen by
+ * the clock algorithm: each lookup marks its entry as referenced, and
+ * the clock hand skips (and unmarks) the referenced entries. Removal
+ * shifts the following slots back, so there are no tombstones and the
+ * table never needs rehashing.
+ * <p>
+ * Not thread safe.
+ */
+public abstract class LongKeyTable {
+	private final int[] keyHigh;
+	private final int[] keyLow;
+	private final boolean[] referenced;
+	/**
+	 * Entry number + 1, 0 for an empty slot
+	 */
+	private final int[] slots;
+	private final int mask;
+	private final int shift;
+	private int size;
+	private int hand;
+	private int evictions;
+
+	/**
+	 * Largest capacity: the hash table of 4 * capacity slots must fit an int
+	 */
+	static final int MAX_CAPACITY = 1 << 28;
+
+	LongKeyTable(int capacity) {
+		if (capacity < 1 || capacity > MAX_CAPACITY) {
+			throw new IllegalArgumentException("Capacity out of range: " + capacity);
+		}
+		keyHigh = new int[capacity];
+		keyLow = new int[capacity];
+		referenced = new boolean[capacity];
+		int length = 2;
+		while (length < 4 * capacity) {
+			length <<= 1;
+		}
+		slots = new int[length];
+		mask = length - 1;
+		shift = 32 - Integer.numberOfTrailingZeros(length);
+	}
+
+	/**
+	 * Fibonacci hashing: the slot is taken from the high bits of the
+	 * product by 0x9e3779b9. The multiplier is split in 16 bits halves so
+	 * that the partial products stay below 2^53 and GWT computes the same
+	 * bits as the JVM
+	 */
+	private int hash(int high, int low) {
+		int key = high ^ low;
+		return (((key * 0x9e37) << 16) + key * 0x79b9) >>> shift;
+	}
+
+	/**
+	 * Returns the entry of the key and marks it as referenced, -1 if the
+	 * key is not in the table
+	 */
+	final int find(int high, int low) {
+		for (int slot = hash(high, low); slots[slot] != 0; slot = (slot + 1) & mask) {
+			int entry = slots[slot] - 1;
+			if (keyLow[entry] == low && keyHigh[entry] == high) {
+				referenced[entry] = true;
+				return entry;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the entry of the key, added (and its value left to the
+	 * caller) if it is not in the table
+	 */
+	final int insert(int high, int low) {
+		int entry = find(high, low);
+		if (entry >= 0) {
+			return entry;
+		}
+		if (size == keyHigh.length) {
+			entry = evict();
+		} else {
+			entry = size++;
+		}
+		keyHigh[entry] = high;
+		keyLow[entry] = low;
+		referenced[entry] = true;
+		int slot = hash(high, low);
+		while (slots[slot] != 0) {
+			slot = (slot + 1) & mask;
+		}
+		slots[slot] = entry + 1;
+		return entry;
+	}
+
+	final boolean remove(int high, int low) {
+		int entry = find(high, low);
+		if (entry < 0) {
+			return false;
+		}
+		removeSlot(getSlot(entry));
+		// Keeps the entries dense: the last one takes the free place
+		int last = --size;
+		if (entry != last) {
+			slots[getSlot(last)] = entry + 1;
+			keyHigh[entry] = keyHigh[last];
+			keyLow[entry] = keyLow[last];
+			referenced[entry] = referenced[last];
+			moveValue(last, entry);
+		}
+		return true;
+	}
+
+	/**
+	 * Frees the first entry which is not referenced, unmarking the
+	 * referenced ones on the way
+	 */
+	private int evict() {
+		while (true) {
+			hand = hand + 1 == size ? 0 : hand + 1;
+			if (referenced[hand]) {
+				referenced[hand] = false;
+			} else {
+				removeSlot(getSlot(hand));
+				evictions++;
+				return hand;
+			}
+		}
+	}
+
+	private int getSlot(int entry) {
+		int slot = hash(keyHigh[entry], keyLow[entry]);
+		while (slots[slot] != entry + 1) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Backward shift deletion: moves back the slots of the probe
+	 * sequence which the removed slot separates from their home slot
+	 */
+	private void removeSlot(int slot) {
+		int free = slot;
+		for (int next = (free + 1) & mask; slots[next] != 0; next = (next + 1) & mask) {
+			int entry = slots[next] - 1;
+			int home = hash(keyHigh[entry], keyLow[entry]);
+			// Moves back unless home lies cyclically in (free, next]
+			if (((next - home) & mask) >= ((next - free) & mask)) {
+				slots[free] = slots[next];
+				free = next;
+			}
+		}
+		slots[free] = 0;
+	}
+
+	/**
+	 * Copies the value of entry from to entry to
+	 */
+	abstract void moveValue(int from, int to);
+
+	public int size() {
+		return size;
+	}
+
+	public int capacity() {
+		return keyHigh.length;
+	}
+
+	/**
+	 * Number of keys evicted to make room for new ones
+	 */
+	public int getEvictions() {
+		return evictions;
+	}
+
+	public void clear() {
+		for (int i = 0; i < slots.length; i++) {
+			slots[i] = 0;
+		}
+		size = 0;
+		hand = 0;
+	}
+}
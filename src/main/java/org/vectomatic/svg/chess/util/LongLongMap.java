@@ -0,0 +1,70 @@
+/**********************************************
+ * Copyright (C) 2009 Lukas Laag
+ * This file is part of lib-gwt-svg-chess.
+ * 
+ * libgwtsvg-chess is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ * 
+ * libgwtsvg-chess is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ * 
+ * You should have received a copy of the GNU General Public License
+ * along with libgwtsvg-chess.  If not, see http://www.gnu.org/licenses/
+ **********************************************/
+package org.vectomatic.svg.chess.util;
+
+/**
+ * Map from long keys (typically zobrist keys) to long values, without
+ * boxing and with a bounded capacity: see LongKeyTable. Values are
+ * stored as int halves too.
+ */
+public class LongLongMap extends LongKeyTable {
+	private final int[] valueHigh;
+	private final int[] valueLow;
+
+	/**
+	 * @param capacity
+	 * number of keys kept: beyond, the keys not used recently are evicted
+	 */
+	public LongLongMap(int capacity) {
+		super(capacity);
+		valueHigh = new int[capacity];
+		valueLow = new int[capacity];
+	}
+
+	/**
+	 * Returns the value of the key, or defaultValue if it is not in the map
+	 */
+	public long get(long key, long defaultValue) {
+		int entry = find((int) (key >>> 32), (int) key);
+		return entry < 0 ? defaultValue : (long) valueHigh[entry] << 32 | valueLow[entry] & 0xffffffffL;
+	}
+
+	public boolean containsKey(long key) {
+		return find((int) (key >>> 32), (int) key) >= 0;
+	}
+
+	public void put(long key, long value) {
+		int entry = insert((int) (key >>> 32), (int) key);
+		valueHigh[entry] = (int) (value >>> 32);
+		valueLow[entry] = (int) value;
+	}
+
+	/**
+	 * @return
+	 * true if the key was in the map
+	 */
+	public boolean remove(long key) {
+		return remove((int) (key >>> 32), (int) key);
+	}
+
+	@Override
+	void moveValue(int from, int to) {
+		valueHigh[to] = valueHigh[from];
+		valueLow[to] = valueLow[from];
+	}
+}
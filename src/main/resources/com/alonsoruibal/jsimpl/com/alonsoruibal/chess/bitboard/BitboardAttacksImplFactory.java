@@ -0,0 +1,17 @@
+package com.alonsoruibal.chess.bitboard;
+
+import com.google.gwt.core.client.GWT;
+
+/**
+ * Javascript version of BitboardAttacksImplFactory (super-source, see
+ * carballo.gwt.xml): the implementation is chosen by deferred binding
+ * on the carballo.attacks property.
+ */
+final class BitboardAttacksImplFactory {
+	private BitboardAttacksImplFactory() {
+	}
+
+	static BitboardAttacksImpl create() {
+		return GWT.create(BitboardAttacksImpl.class);
+	}
+}